@@ -29,6 +29,7 @@ public class AdWordsLibConfiguration extends AdsLibConfiguration {
   private static final String KEY_PREFIX = "api.adwords";
   private static final String REPORT_DOWNLOAD_TIMEOUT_KEY = "reportDownloadTimeout";
   private static final int DEFAULT_REPORT_DOWNLOAD_TIMEOUT = 3 * 60 * 1000;
+  private static final String USE_REPORT_CONNECTION_POOL_KEY = "useReportConnectionPool";
 
   /**
    * Constructor.
@@ -54,10 +55,24 @@ public class AdWordsLibConfiguration extends AdsLibConfiguration {
         KEY_PREFIX + "." + REPORT_DOWNLOAD_TIMEOUT_KEY, DEFAULT_REPORT_DOWNLOAD_TIMEOUT);
   }
   
+  /**
+   * Returns if report downloads should be sent over a shared pool of keep-alive connections,
+   * sized using the connection pool settings. Default is {@code false}.
+   */
+  public boolean isReportConnectionPoolEnabled() {
+    return config.getBoolean(KEY_PREFIX + "." + USE_REPORT_CONNECTION_POOL_KEY, false);
+  }
+
   @Override
   public boolean isCompressionEnabled() {
     return config.getBoolean(KEY_PREFIX + "." + USE_COMPRESSION_POSTFIX, false);
   }
+
+  @Override
+  public int getCompressionThreshold() {
+    return config.getInt(
+        KEY_PREFIX + "." + COMPRESSION_THRESHOLD_POSTFIX, DEFAULT_COMPRESSION_THRESHOLD);
+  }
   
   @Override
   public int getSoapRequestTimeout() {
@@ -71,5 +86,48 @@ public class AdWordsLibConfiguration extends AdsLibConfiguration {
         KEY_PREFIX + "." + INCLUDE_UTILITIES_IN_USER_AGENT_POSTFIX, null);
     return isInclude != null ? isInclude : super.isIncludeAdsUtilitiesInUserAgent();
   }
-  
+
+  @Override
+  public boolean isConnectionPoolEnabled() {
+    return config.getBoolean(KEY_PREFIX + "." + USE_CONNECTION_POOL_POSTFIX, false);
+  }
+
+  @Override
+  public int getMaxConnectionsPerHost() {
+    return config.getInt(
+        KEY_PREFIX + "." + MAX_CONNECTIONS_PER_HOST_POSTFIX, DEFAULT_MAX_CONNECTIONS_PER_HOST);
+  }
+
+  @Override
+  public int getMaxTotalConnections() {
+    return config.getInt(
+        KEY_PREFIX + "." + MAX_TOTAL_CONNECTIONS_POSTFIX, DEFAULT_MAX_TOTAL_CONNECTIONS);
+  }
+
+  @Override
+  public int getConnectionIdleTimeout() {
+    return config.getInt(
+        KEY_PREFIX + "." + CONNECTION_IDLE_TIMEOUT_POSTFIX, DEFAULT_CONNECTION_IDLE_TIMEOUT);
+  }
+
+  @Override
+  public int getConnectTimeout() {
+    return config.getInt(KEY_PREFIX + "." + CONNECT_TIMEOUT_POSTFIX, DEFAULT_CONNECT_TIMEOUT);
+  }
+
+  @Override
+  public boolean isCompiledSerializersEnabled() {
+    return config.getBoolean(KEY_PREFIX + "." + USE_COMPILED_SERIALIZERS_POSTFIX, false);
+  }
+
+  @Override
+  public String[] getInternedFields() {
+    return config.getStringArray(KEY_PREFIX + "." + INTERNED_FIELDS_POSTFIX);
+  }
+
+  @Override
+  public int getInternedStringsMaxSize() {
+    return config.getInt(KEY_PREFIX + "." + INTERNED_STRINGS_MAX_SIZE_POSTFIX,
+        DEFAULT_INTERNED_STRINGS_MAX_SIZE);
+  }
 }
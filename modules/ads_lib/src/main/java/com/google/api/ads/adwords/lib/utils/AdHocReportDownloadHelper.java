@@ -21,6 +21,8 @@ import com.google.common.reflect.Reflection;
 
 import java.lang.reflect.InvocationHandler;
 
+import javax.annotation.Nullable;
+
 /**
  * Helper class that handles AdHoc report downloads. Requests will be logged (header and payload) to
  * INFO. Successful reports will be logged (headers and response code) to INFO. Failed reports will
@@ -35,9 +37,19 @@ public class AdHocReportDownloadHelper implements AdHocReportDownloadHelperInter
    * determine the report endpoint.
    */
   public AdHocReportDownloadHelper(AdWordsSession session, String version) {
+    this(session, version, null);
+  }
+
+  /**
+   * Constructor that stores the session for authentication and uses the provided version to
+   * determine the report endpoint. Successful downloads are served from and stored in the report
+   * cache, if not {@code null}.
+   */
+  public AdHocReportDownloadHelper(
+      AdWordsSession session, String version, @Nullable ReportCache reportCache) {
     InvocationHandler invocationHandler =
         new AdsUtilityInvocationHandler(
-            new AdHocReportDownloadHelperImpl(session, version),
+            new AdHocReportDownloadHelperImpl(session, version, reportCache),
             AdWordsInternals.getInstance().getAdsUtilityRegistry());
     this.impl = Reflection.newProxy(AdHocReportDownloadHelperInterface.class, invocationHandler);
   }
@@ -32,6 +32,8 @@ import java.net.MalformedURLException;
 import java.nio.charset.Charset;
 import java.util.Map;
 
+import javax.annotation.Nullable;
+
 /**
  * Actual implementation of download functionality.
  */
@@ -40,10 +42,17 @@ class AdHocReportDownloadHelperImpl implements AdHocReportDownloadHelperInterfac
   private final ReportRequestFactoryHelper reportRequestFactoryHelper;
   private final ReportBodyProviderFactory reportBodyProviderFactory;
   private final String version;
+  @Nullable private final ReportCache reportCache;
 
   AdHocReportDownloadHelperImpl(AdWordsSession session, String version) {
+    this(session, version, null);
+  }
+
+  AdHocReportDownloadHelperImpl(
+      AdWordsSession session, String version, @Nullable ReportCache reportCache) {
     this.session = session;
     this.version = version;
+    this.reportCache = reportCache;
     this.reportRequestFactoryHelper = new ReportRequestFactoryHelper(session);
     this.reportBodyProviderFactory = new ReportBodyProviderFactory();
   }
@@ -58,6 +67,27 @@ class AdHocReportDownloadHelperImpl implements AdHocReportDownloadHelperInterfac
   @Override
   public RawReportDownloadResponse downloadReport(ReportRequest reportRequest)
       throws ReportException {
+    if (reportCache == null) {
+      return downloadUncachedReport(reportRequest);
+    }
+    String cacheKey = ReportCache.createKey(version, session.getClientCustomerId(),
+        session.getReportingConfiguration(), reportRequest);
+    RawReportDownloadResponse cachedResponse = reportCache.get(cacheKey);
+    if (cachedResponse != null) {
+      return cachedResponse;
+    }
+    RawReportDownloadResponse response = downloadUncachedReport(reportRequest);
+    if (response.getHttpStatus() != HttpURLConnection.HTTP_OK) {
+      return response;
+    }
+    return reportCache.put(cacheKey, reportRequest, response);
+  }
+
+  /**
+   * Downloads a report from the report download server.
+   */
+  private RawReportDownloadResponse downloadUncachedReport(ReportRequest reportRequest)
+      throws ReportException {
     try {
       String downloadUrl = generateReportUrl(version);
       HttpRequestFactory requestFactory =
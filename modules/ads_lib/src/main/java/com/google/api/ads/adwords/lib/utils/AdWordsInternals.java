@@ -37,6 +37,7 @@ public class AdWordsInternals extends Internals {
       new AdWordsModule()).getInstance(AdWordsInternals.class);
 
   private final AdWordsLibConfiguration adWordsLibConfiguration;
+  private final HttpTransport reportHttpTransport;
 
   @Inject
   public AdWordsInternals(AuthorizationHeaderProvider authorizationHeaderProvider,
@@ -48,6 +49,8 @@ public class AdWordsInternals extends Internals {
     super(authorizationHeaderProvider, userAgentCombiner, httpTransport, adWordsServiceLoggers,
         oAuth2Helper, adsUtilityRegistry, xmlFieldExtractor);
     this.adWordsLibConfiguration = adWordsLibConfiguration;
+    this.reportHttpTransport = ReportHttpTransportFactory.createReportHttpTransport(
+        adWordsLibConfiguration, httpTransport);
   }
 
   /**
@@ -64,6 +67,14 @@ public class AdWordsInternals extends Internals {
     return adWordsLibConfiguration;
   }
   
+  /**
+   * Returns the HttpTransport used for report downloads, which is pooled if the report
+   * connection pool is enabled.
+   */
+  public HttpTransport getReportHttpTransport() {
+    return reportHttpTransport;
+  }
+
   /**
    * Returns the utility that provides access to additional AdWords-specific loggers.
    */
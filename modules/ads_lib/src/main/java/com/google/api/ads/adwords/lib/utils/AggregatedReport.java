@@ -0,0 +1,125 @@
+// Copyright 2016 Google Inc. All Rights Reserved.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.api.ads.adwords.lib.utils;
+
+import com.google.common.collect.Iterables;
+
+import au.com.bytecode.opencsv.CSVWriter;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+
+/**
+ * Result of a {@link ReportAggregator}, with one row per group of dimension values. Rows are in
+ * no particular order.
+ */
+public class AggregatedReport {
+
+  private final List<String> dimensionColumns;
+  private final List<String> longMetricColumns;
+  private final List<String> doubleMetricColumns;
+  private final List<String[]> dimensionValues;
+  private final AggregationTable table;
+
+  AggregatedReport(List<String> dimensionColumns, List<String> longMetricColumns,
+      List<String> doubleMetricColumns, List<String[]> dimensionValues, AggregationTable table) {
+    this.dimensionColumns = dimensionColumns;
+    this.longMetricColumns = longMetricColumns;
+    this.doubleMetricColumns = doubleMetricColumns;
+    this.dimensionValues = dimensionValues;
+    this.table = table;
+  }
+
+  public List<String> getDimensionColumns() {
+    return dimensionColumns;
+  }
+
+  public List<String> getLongMetricColumns() {
+    return longMetricColumns;
+  }
+
+  public List<String> getDoubleMetricColumns() {
+    return doubleMetricColumns;
+  }
+
+  public int getRowCount() {
+    return table.size();
+  }
+
+  /**
+   * Returns the value of a dimension column of a row.
+   *
+   * @param row the row index
+   * @param dimension the index of the column in {@link #getDimensionColumns()}
+   */
+  public String getDimension(int row, int dimension) {
+    return dimensionValues.get(dimension)[table.getDimensionCode(checkRow(row), dimension)];
+  }
+
+  /**
+   * Returns the sum of an integer metric column of a row.
+   *
+   * @param row the row index
+   * @param metric the index of the column in {@link #getLongMetricColumns()}
+   */
+  public long getLongMetric(int row, int metric) {
+    return table.getLongSum(metric, checkRow(row));
+  }
+
+  /**
+   * Returns the sum of a decimal metric column of a row.
+   *
+   * @param row the row index
+   * @param metric the index of the column in {@link #getDoubleMetricColumns()}
+   */
+  public double getDoubleMetric(int row, int metric) {
+    return table.getDoubleSum(metric, checkRow(row));
+  }
+
+  /**
+   * Writes the aggregated report as CSV, with a column header, to the specified writer. The
+   * writer is flushed but not closed.
+   *
+   * @throws IOException if unable to write to {@code writer}
+   */
+  public void writeCsv(Writer writer) throws IOException {
+    CSVWriter csvWriter = new CSVWriter(writer);
+    String[] line = Iterables.toArray(
+        Iterables.concat(dimensionColumns, longMetricColumns, doubleMetricColumns), String.class);
+    csvWriter.writeNext(line);
+    for (int row = 0; row < getRowCount(); row++) {
+      int column = 0;
+      for (int i = 0; i < dimensionColumns.size(); i++) {
+        line[column++] = getDimension(row, i);
+      }
+      for (int i = 0; i < longMetricColumns.size(); i++) {
+        line[column++] = String.valueOf(getLongMetric(row, i));
+      }
+      for (int i = 0; i < doubleMetricColumns.size(); i++) {
+        line[column++] = String.valueOf(getDoubleMetric(row, i));
+      }
+      csvWriter.writeNext(line);
+    }
+    csvWriter.flush();
+  }
+
+  private int checkRow(int row) {
+    if (row < 0 || row >= table.size()) {
+      throw new IndexOutOfBoundsException("Invalid row: " + row);
+    }
+    return row;
+  }
+}
@@ -0,0 +1,163 @@
+// Copyright 2016 Google Inc. All Rights Reserved.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.api.ads.adwords.lib.utils;
+
+import java.util.Arrays;
+
+/**
+ * Table of metric sums grouped by dictionary-encoded dimension values.
+ *
+ * <p>Groups are stored column-wise in primitive arrays: the dimension codes of group {@code g}
+ * are {@code keys[g * dimensionCount]} to {@code keys[(g + 1) * dimensionCount - 1]}, and the sum
+ * of metric {@code m} is {@code longSums[m][g]} or {@code doubleSums[m][g]}. Groups are found
+ * with an open addressing hash table of group indexes, so aggregating a row allocates nothing.
+ *
+ * <p>Instances are not thread-safe.
+ */
+final class AggregationTable {
+
+  private static final int EMPTY_SLOT = -1;
+  private static final int INITIAL_CAPACITY = 16;
+
+  private final int dimensionCount;
+  private int[] keys;
+  private final long[][] longSums;
+  private final double[][] doubleSums;
+  private int[] slots;
+  private int capacity;
+  private int size;
+
+  AggregationTable(int dimensionCount, int longMetricCount, int doubleMetricCount) {
+    this.dimensionCount = dimensionCount;
+    this.capacity = INITIAL_CAPACITY;
+    this.keys = new int[INITIAL_CAPACITY * dimensionCount];
+    this.longSums = new long[longMetricCount][INITIAL_CAPACITY];
+    this.doubleSums = new double[doubleMetricCount][INITIAL_CAPACITY];
+    this.slots = new int[INITIAL_CAPACITY * 2];
+    Arrays.fill(slots, EMPTY_SLOT);
+  }
+
+  /**
+   * Returns the number of groups.
+   */
+  int size() {
+    return size;
+  }
+
+  /**
+   * Returns the index of the group of the specified dimension codes, adding the group if needed.
+   */
+  int getGroup(int[] key) {
+    int mask = slots.length - 1;
+    int slot = hash(key, 0) & mask;
+    while (slots[slot] != EMPTY_SLOT) {
+      if (keyEquals(slots[slot], key)) {
+        return slots[slot];
+      }
+      slot = (slot + 1) & mask;
+    }
+    int group = size++;
+    if (size > capacity) {
+      grow();
+    }
+    System.arraycopy(key, 0, keys, group * dimensionCount, dimensionCount);
+    slots[slot] = group;
+    if (size * 2 > slots.length) {
+      rehash();
+    }
+    return group;
+  }
+
+  void addLong(int metric, int group, long value) {
+    longSums[metric][group] += value;
+  }
+
+  void addDouble(int metric, int group, double value) {
+    doubleSums[metric][group] += value;
+  }
+
+  int getDimensionCode(int group, int dimension) {
+    return keys[group * dimensionCount + dimension];
+  }
+
+  long getLongSum(int metric, int group) {
+    return longSums[metric][group];
+  }
+
+  double getDoubleSum(int metric, int group) {
+    return doubleSums[metric][group];
+  }
+
+  /**
+   * Adds the sums of another table, encoded with the same dictionaries, to this table.
+   */
+  void merge(AggregationTable other) {
+    int[] key = new int[dimensionCount];
+    for (int otherGroup = 0; otherGroup < other.size; otherGroup++) {
+      System.arraycopy(other.keys, otherGroup * dimensionCount, key, 0, dimensionCount);
+      int group = getGroup(key);
+      for (int metric = 0; metric < longSums.length; metric++) {
+        longSums[metric][group] += other.longSums[metric][otherGroup];
+      }
+      for (int metric = 0; metric < doubleSums.length; metric++) {
+        doubleSums[metric][group] += other.doubleSums[metric][otherGroup];
+      }
+    }
+  }
+
+  private void grow() {
+    capacity *= 2;
+    keys = Arrays.copyOf(keys, capacity * dimensionCount);
+    for (int metric = 0; metric < longSums.length; metric++) {
+      longSums[metric] = Arrays.copyOf(longSums[metric], capacity);
+    }
+    for (int metric = 0; metric < doubleSums.length; metric++) {
+      doubleSums[metric] = Arrays.copyOf(doubleSums[metric], capacity);
+    }
+  }
+
+  private void rehash() {
+    slots = new int[slots.length * 2];
+    Arrays.fill(slots, EMPTY_SLOT);
+    int mask = slots.length - 1;
+    for (int group = 0; group < size; group++) {
+      int slot = hash(keys, group * dimensionCount) & mask;
+      while (slots[slot] != EMPTY_SLOT) {
+        slot = (slot + 1) & mask;
+      }
+      slots[slot] = group;
+    }
+  }
+
+  private boolean keyEquals(int group, int[] key) {
+    int offset = group * dimensionCount;
+    for (int i = 0; i < dimensionCount; i++) {
+      if (keys[offset + i] != key[i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private int hash(int[] array, int offset) {
+    int hash = 1;
+    for (int i = 0; i < dimensionCount; i++) {
+      hash = 31 * hash + array[offset + i];
+    }
+    // Spreads the bits, since consecutive codes would otherwise fill consecutive slots.
+    hash *= 0x9E3779B9;
+    return hash ^ (hash >>> 16);
+  }
+}
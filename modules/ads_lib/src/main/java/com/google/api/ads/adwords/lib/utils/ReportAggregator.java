@@ -0,0 +1,344 @@
+// Copyright 2016 Google Inc. All Rights Reserved.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.api.ads.adwords.lib.utils;
+
+import com.google.api.ads.adwords.lib.client.reporting.ReportingConfiguration;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+
+import au.com.bytecode.opencsv.CSVReader;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import javax.annotation.Nullable;
+
+/**
+ * Aggregates report downloads as they are read, grouping rows on dimension columns and summing
+ * metric columns, so that reports of many accounts can be rolled up without being saved:
+ *
+ * <pre>
+ * ReportAggregator aggregator = new ReportAggregator.Builder()
+ *     .groupBy("Day", "Labels")
+ *     .sumLong("Cost")
+ *     .build();
+ * // From any number of threads:
+ * aggregator.aggregate(reportDownloader.downloadReport(reportDefinition));
+ * // Once all reports are aggregated:
+ * AggregatedReport report = aggregator.getAggregatedReport();
+ * </pre>
+ *
+ * <p>Each call to {@code aggregate} sums its report into a table of its own, without any
+ * synchronization. Dimension values are encoded to ints by dictionaries shared by all calls, so
+ * that the tables can be merged by comparing codes. Tables are merged without locks as the
+ * calls complete: a completed table is either published for the next call to merge, or merged
+ * with the table published by another call.
+ *
+ * <p>Only {@code CSV} and {@code TSV} reports with a column header can be aggregated. Metric
+ * values of {@code --} are ignored, and a trailing {@code %} is removed from double values.
+ */
+public class ReportAggregator {
+
+  private final List<String> dimensionColumns;
+  private final List<String> longMetricColumns;
+  private final List<String> doubleMetricColumns;
+  private final char separator;
+  private final int reportHeaderLines;
+  private final boolean hasSummaryRow;
+  private final List<Dictionary> dictionaries;
+  private final AtomicReference<AggregationTable> mergedTable =
+      new AtomicReference<AggregationTable>();
+
+  private ReportAggregator(Builder builder) {
+    this.dimensionColumns = ImmutableList.copyOf(builder.dimensionColumns);
+    this.longMetricColumns = ImmutableList.copyOf(builder.longMetricColumns);
+    this.doubleMetricColumns = ImmutableList.copyOf(builder.doubleMetricColumns);
+    this.separator = builder.separator;
+    ReportingConfiguration reportingConfiguration = builder.reportingConfiguration;
+    if (reportingConfiguration != null) {
+      Preconditions.checkArgument(
+          !Boolean.TRUE.equals(reportingConfiguration.isSkipColumnHeader()),
+          "Reports must have a column header to be aggregated");
+      this.reportHeaderLines =
+          Boolean.TRUE.equals(reportingConfiguration.isSkipReportHeader()) ? 0 : 1;
+      this.hasSummaryRow = !Boolean.TRUE.equals(reportingConfiguration.isSkipReportSummary());
+    } else {
+      this.reportHeaderLines = 1;
+      this.hasSummaryRow = true;
+    }
+    List<Dictionary> dictionaries = new ArrayList<Dictionary>(dimensionColumns.size());
+    for (int i = 0; i < dimensionColumns.size(); i++) {
+      dictionaries.add(new Dictionary());
+    }
+    this.dictionaries = dictionaries;
+  }
+
+  /**
+   * Aggregates a downloaded report, in the {@link AdHocReportDownloadHelper#REPORT_CHARSET}.
+   * Closes the response's input stream.
+   *
+   * @throws IOException if unable to read the report, or the report is missing a column
+   */
+  public void aggregate(ReportDownloadResponse response) throws IOException {
+    aggregate(response.getInputStream(), AdHocReportDownloadHelper.REPORT_CHARSET);
+  }
+
+  /**
+   * Aggregates a report read from an input stream, and closes the stream. May be called from
+   * multiple threads at the same time.
+   *
+   * @param inputStream the report contents
+   * @param charset the charset of the report contents
+   * @throws IOException if unable to read the report, or the report is missing a column
+   */
+  public void aggregate(InputStream inputStream, Charset charset) throws IOException {
+    AggregationTable table = new AggregationTable(
+        dimensionColumns.size(), longMetricColumns.size(), doubleMetricColumns.size());
+    CSVReader reader = new CSVReader(
+        new BufferedReader(new InputStreamReader(inputStream, charset)), separator);
+    try {
+      for (int i = 0; i < reportHeaderLines; i++) {
+        reader.readNext();
+      }
+      String[] columnHeader = reader.readNext();
+      if (columnHeader == null) {
+        return;
+      }
+      int[] dimensionIndexes = getColumnIndexes(columnHeader, dimensionColumns);
+      int[] longMetricIndexes = getColumnIndexes(columnHeader, longMetricColumns);
+      int[] doubleMetricIndexes = getColumnIndexes(columnHeader, doubleMetricColumns);
+      int[] key = new int[dimensionIndexes.length];
+
+      // Holds back the last row read, in case it is the summary row.
+      String[] heldRow = null;
+      String[] row;
+      while ((row = reader.readNext()) != null) {
+        if (hasSummaryRow) {
+          String[] previousRow = heldRow;
+          heldRow = row;
+          if (previousRow == null) {
+            continue;
+          }
+          row = previousRow;
+        }
+        if (row.length < columnHeader.length) {
+          throw new IOException("Report row has fewer columns than its header: "
+              + Arrays.toString(row));
+        }
+        for (int i = 0; i < dimensionIndexes.length; i++) {
+          key[i] = dictionaries.get(i).encode(row[dimensionIndexes[i]]);
+        }
+        int group = table.getGroup(key);
+        for (int i = 0; i < longMetricIndexes.length; i++) {
+          String value = row[longMetricIndexes[i]].trim();
+          if (!isNullValue(value)) {
+            table.addLong(i, group, parseLong(value));
+          }
+        }
+        for (int i = 0; i < doubleMetricIndexes.length; i++) {
+          String value = row[doubleMetricIndexes[i]].trim();
+          if (!isNullValue(value)) {
+            table.addDouble(i, group, parseDouble(value));
+          }
+        }
+      }
+    } finally {
+      reader.close();
+    }
+    merge(table);
+  }
+
+  /**
+   * Returns the aggregate of all the reports aggregated so far. Must only be called once the
+   * calls to {@code aggregate} have returned.
+   */
+  public AggregatedReport getAggregatedReport() {
+    AggregationTable table = mergedTable.get();
+    if (table == null) {
+      table = new AggregationTable(
+          dimensionColumns.size(), longMetricColumns.size(), doubleMetricColumns.size());
+    }
+    List<String[]> dimensionValues = new ArrayList<String[]>(dictionaries.size());
+    for (Dictionary dictionary : dictionaries) {
+      dimensionValues.add(dictionary.getValues());
+    }
+    return new AggregatedReport(dimensionColumns, longMetricColumns, doubleMetricColumns,
+        dimensionValues, table);
+  }
+
+  /**
+   * Merges a completed table with the tables completed by other calls, without locking.
+   */
+  private void merge(AggregationTable table) {
+    while (true) {
+      AggregationTable other = mergedTable.getAndSet(null);
+      if (other != null) {
+        // Merges the smaller table into the larger one.
+        if (other.size() > table.size()) {
+          other.merge(table);
+          table = other;
+        } else {
+          table.merge(other);
+        }
+      } else if (mergedTable.compareAndSet(null, table)) {
+        return;
+      }
+    }
+  }
+
+  private static int[] getColumnIndexes(String[] columnHeader, List<String> columns)
+      throws IOException {
+    List<String> headerColumns = Arrays.asList(columnHeader);
+    int[] indexes = new int[columns.size()];
+    for (int i = 0; i < indexes.length; i++) {
+      indexes[i] = headerColumns.indexOf(columns.get(i));
+      if (indexes[i] < 0) {
+        throw new IOException(String.format(
+            "Column %s not found in report columns %s.", columns.get(i), headerColumns));
+      }
+    }
+    return indexes;
+  }
+
+  private static boolean isNullValue(String value) {
+    return value.isEmpty() || "--".equals(value);
+  }
+
+  private static long parseLong(String value) throws IOException {
+    try {
+      return Long.parseLong(value);
+    } catch (NumberFormatException e) {
+      throw new IOException("Invalid long metric value: " + value, e);
+    }
+  }
+
+  private static double parseDouble(String value) throws IOException {
+    try {
+      return Double.parseDouble(
+          value.endsWith("%") ? value.substring(0, value.length() - 1) : value);
+    } catch (NumberFormatException e) {
+      throw new IOException("Invalid double metric value: " + value, e);
+    }
+  }
+
+  /**
+   * Encodes the values of a dimension to consecutive ints, shared by all threads.
+   */
+  private static final class Dictionary {
+    private final ConcurrentMap<String, Integer> codes = new ConcurrentHashMap<String, Integer>();
+    private final AtomicInteger nextCode = new AtomicInteger();
+
+    int encode(String value) {
+      Integer code = codes.get(value);
+      if (code == null) {
+        // Codes lost to a race are never used, and are left as gaps.
+        Integer newCode = nextCode.getAndIncrement();
+        code = codes.putIfAbsent(value, newCode);
+        if (code == null) {
+          code = newCode;
+        }
+      }
+      return code;
+    }
+
+    String[] getValues() {
+      String[] values = new String[nextCode.get()];
+      for (Map.Entry<String, Integer> entry : codes.entrySet()) {
+        values[entry.getValue()] = entry.getKey();
+      }
+      return values;
+    }
+  }
+
+  /**
+   * Builder for {@link ReportAggregator} objects.
+   */
+  public static class Builder {
+
+    private final List<String> dimensionColumns = new ArrayList<String>();
+    private final List<String> longMetricColumns = new ArrayList<String>();
+    private final List<String> doubleMetricColumns = new ArrayList<String>();
+    private char separator = ',';
+    @Nullable private ReportingConfiguration reportingConfiguration;
+
+    /**
+     * Adds the columns, as named in the report's column header, whose values define the groups.
+     */
+    public Builder groupBy(String... columns) {
+      dimensionColumns.addAll(Arrays.asList(columns));
+      return this;
+    }
+
+    /**
+     * Adds integer metric columns to sum, such as clicks, impressions or costs in micros.
+     */
+    public Builder sumLong(String... columns) {
+      longMetricColumns.addAll(Arrays.asList(columns));
+      return this;
+    }
+
+    /**
+     * Adds decimal metric columns to sum, such as conversions.
+     */
+    public Builder sumDouble(String... columns) {
+      doubleMetricColumns.addAll(Arrays.asList(columns));
+      return this;
+    }
+
+    /**
+     * Sets the column separator of the reports, which is {@code ','} by default. Use
+     * {@code '\t'} for {@code TSV} reports.
+     */
+    public Builder withSeparator(char separator) {
+      this.separator = separator;
+      return this;
+    }
+
+    /**
+     * Sets the reporting configuration the reports are downloaded with, which determines their
+     * header and summary rows. By default, reports are expected to have all of them.
+     */
+    public Builder withReportingConfiguration(
+        @Nullable ReportingConfiguration reportingConfiguration) {
+      this.reportingConfiguration = reportingConfiguration;
+      return this;
+    }
+
+    /**
+     * Returns a new instance of {@link ReportAggregator} based on the attributes of this
+     * builder.
+     *
+     * @throws IllegalArgumentException if no metric column was added, or the reporting
+     *     configuration skips the column header
+     */
+    public ReportAggregator build() {
+      Preconditions.checkArgument(
+          !longMetricColumns.isEmpty() || !doubleMetricColumns.isEmpty(),
+          "At least one metric column is required");
+      return new ReportAggregator(this);
+    }
+  }
+}
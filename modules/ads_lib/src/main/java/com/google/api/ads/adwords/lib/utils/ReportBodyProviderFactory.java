@@ -14,6 +14,7 @@
 
 package com.google.api.ads.adwords.lib.utils;
 
+import com.google.api.client.http.HttpContent;
 import com.google.common.base.Preconditions;
 
 /**
@@ -30,6 +31,15 @@ class ReportBodyProviderFactory {
    */
   ReportBodyProvider getReportBodyProvider(ReportRequest request) {
     Preconditions.checkNotNull(request, "Null request");
+    if (request instanceof ReportRequestTemplate) {
+      final ReportRequestTemplate template = (ReportRequestTemplate) request;
+      return new ReportBodyProvider() {
+        @Override
+        public HttpContent getHttpContent() {
+          return template.getHttpContent();
+        }
+      };
+    }
     Preconditions.checkNotNull(request.getRequestType(), "Null request type");
     switch (request.getRequestType()) {
       case AWQL:
@@ -0,0 +1,546 @@
+// Copyright 2016 Google Inc. All Rights Reserved.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.api.ads.adwords.lib.utils;
+
+import com.google.api.ads.adwords.lib.client.reporting.ReportingConfiguration;
+import com.google.api.ads.adwords.lib.utils.ReportRequest.RequestType;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Charsets;
+import com.google.common.base.Preconditions;
+import com.google.common.hash.Hashing;
+import com.google.common.io.Closeables;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.FilenameFilter;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.nio.charset.Charset;
+import java.text.SimpleDateFormat;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * On-disk cache of successful report downloads, which can be shared by the report downloaders of
+ * several sessions:
+ *
+ * <pre>
+ * ReportCache reportCache =
+ *     new ReportCache(new File("/tmp/reports"), 1024L * 1024 * 1024, TimeUnit.HOURS.toMillis(1));
+ * ReportDownloader reportDownloader = new ReportDownloader(session, reportCache);
+ * </pre>
+ *
+ * <p>Reports are keyed on the API version, client customer ID, reporting configuration and
+ * report definition or normalized AWQL query, and stored compressed. Reports of custom date
+ * ranges that ended before yesterday never expire, since their data is final. Reports of any other
+ * date range expire after the configured time to live. The least recently used reports are
+ * evicted when the total size of the cached files exceeds the maximum size.
+ *
+ * <p>Only the report data and its format are cached. Failed downloads are never cached. Caching is
+ * best effort: a report is written to the cache as it is read from the server, and is only cached
+ * once it is read to the end. If the cache cannot be written, for example because the disk is
+ * full, the error is logged and the report is still served from the server.
+ */
+public class ReportCache {
+
+  private static final Logger logger = LoggerFactory.getLogger(ReportCache.class);
+
+  private static final String ENTRY_SUFFIX = ".report";
+  private static final String TEMP_SUFFIX = ".tmp";
+  private static final int ENTRY_FORMAT_VERSION = 1;
+  private static final long NEVER_EXPIRES = Long.MAX_VALUE;
+
+  private static final Pattern AWQL_DATE_RANGE =
+      Pattern.compile("\\bDURING\\s+(\\d{8})\\s*,\\s*(\\d{8})\\b", Pattern.CASE_INSENSITIVE);
+  private static final Pattern XML_CUSTOM_DATE_RANGE_TYPE =
+      Pattern.compile("<(?:\\w+:)?dateRangeType>\\s*CUSTOM_DATE\\s*</");
+  private static final Pattern XML_MAX_DATE = Pattern.compile("<(?:\\w+:)?max>\\s*(\\d{8})\\s*</");
+
+  private final File directory;
+  private final long maxSize;
+  private final long timeToLive;
+
+  /** Sizes of the cached files by file name, in access order. Guarded by {@code this}. */
+  private final LinkedHashMap<String, Long> entrySizes =
+      new LinkedHashMap<String, Long>(16, 0.75f, true);
+  private long size;
+
+  private final AtomicLong hitCount = new AtomicLong();
+  private final AtomicLong missCount = new AtomicLong();
+  private final AtomicLong evictionCount = new AtomicLong();
+
+  /**
+   * Constructor. Reports already cached in the directory, for example by a previous run, are
+   * reused.
+   *
+   * @param directory the directory to store the cached reports in, which is created if needed
+   * @param maxSize the maximum total size in bytes of the cached reports
+   * @param timeToLive the time in milliseconds after which a report whose data may still change
+   *     expires
+   * @throws IllegalArgumentException if the directory cannot be created or a limit is not positive
+   */
+  public ReportCache(File directory, long maxSize, long timeToLive) {
+    Preconditions.checkArgument(maxSize > 0, "Max size must be positive: %s", maxSize);
+    Preconditions.checkArgument(timeToLive > 0, "Time to live must be positive: %s", timeToLive);
+    Preconditions.checkArgument(directory.isDirectory() || directory.mkdirs(),
+        "Could not create report cache directory %s", directory);
+    this.directory = directory;
+    this.maxSize = maxSize;
+    this.timeToLive = timeToLive;
+    loadEntries();
+  }
+
+  /**
+   * Indexes the reports already in the directory, least recently used first.
+   */
+  private synchronized void loadEntries() {
+    File[] files = directory.listFiles(new FilenameFilter() {
+      @Override
+      public boolean accept(File dir, String name) {
+        return name.endsWith(ENTRY_SUFFIX) || name.endsWith(TEMP_SUFFIX);
+      }
+    });
+    if (files == null) {
+      return;
+    }
+    Arrays.sort(files, new Comparator<File>() {
+      @Override
+      public int compare(File file, File otherFile) {
+        long lastModified = file.lastModified();
+        long otherLastModified = otherFile.lastModified();
+        return lastModified < otherLastModified ? -1 : (lastModified > otherLastModified ? 1 : 0);
+      }
+    });
+    for (File file : files) {
+      if (file.getName().endsWith(TEMP_SUFFIX)) {
+        // Left over by a download that did not complete.
+        file.delete();
+      } else {
+        entrySizes.put(file.getName(), file.length());
+        size += file.length();
+      }
+    }
+    evictEntries();
+  }
+
+  /**
+   * Gets the number of downloads served from the cache.
+   */
+  public long getHitCount() {
+    return hitCount.get();
+  }
+
+  /**
+   * Gets the number of downloads that were not in the cache, or had expired.
+   */
+  public long getMissCount() {
+    return missCount.get();
+  }
+
+  /**
+   * Gets the number of reports evicted to keep the cache under its maximum size.
+   */
+  public long getEvictionCount() {
+    return evictionCount.get();
+  }
+
+  /**
+   * Gets the total size in bytes of the cached reports.
+   */
+  public synchronized long getSize() {
+    return size;
+  }
+
+  /**
+   * Creates the cache key of a report request.
+   *
+   * @param version the API version of the request
+   * @param clientCustomerId the client customer ID of the session
+   * @param reportingConfiguration the reporting configuration of the session, which may be
+   *     {@code null}
+   * @param reportRequest the report request
+   */
+  static String createKey(String version, String clientCustomerId,
+      ReportingConfiguration reportingConfiguration, ReportRequest reportRequest) {
+    String request = reportRequest.getReportRequestString();
+    if (reportRequest.getRequestType() == RequestType.AWQL) {
+      request = normalizeAwql(request);
+    }
+    StringBuilder key = new StringBuilder()
+        .append(version).append('\n')
+        .append(clientCustomerId).append('\n');
+    if (reportingConfiguration != null) {
+      key.append(reportingConfiguration.isSkipReportHeader()).append(',')
+          .append(reportingConfiguration.isSkipColumnHeader()).append(',')
+          .append(reportingConfiguration.isSkipReportSummary()).append(',')
+          .append(reportingConfiguration.isIncludeZeroImpressions()).append(',')
+          .append(reportingConfiguration.isUseRawEnumValues());
+    }
+    return key.append('\n')
+        .append(reportRequest.getRequestType()).append('\n')
+        .append(reportRequest.getDownloadFormat()).append('\n')
+        .append(request)
+        .toString();
+  }
+
+  /**
+   * Trims an AWQL query and collapses each run of whitespace outside of string literals into a
+   * single space, so that queries that only differ in formatting share a cache entry.
+   */
+  @VisibleForTesting
+  static String normalizeAwql(String query) {
+    StringBuilder normalized = new StringBuilder(query.length());
+    char quote = 0;
+    boolean pendingSpace = false;
+    for (int i = 0; i < query.length(); i++) {
+      char c = query.charAt(i);
+      if (quote == 0 && Character.isWhitespace(c)) {
+        pendingSpace = normalized.length() > 0;
+        continue;
+      }
+      if (pendingSpace) {
+        normalized.append(' ');
+        pendingSpace = false;
+      }
+      if (quote == 0 && (c == '\'' || c == '"')) {
+        quote = c;
+      } else if (c == quote) {
+        quote = 0;
+      }
+      normalized.append(c);
+    }
+    return normalized.toString();
+  }
+
+  /**
+   * Returns if the data of a report can no longer change, which is the case if it is for a custom
+   * date range that ended before yesterday. Yesterday is excluded since the account's time zone
+   * may be behind the local one.
+   *
+   * @param reportRequest the report request
+   * @param now the current time in milliseconds
+   */
+  @VisibleForTesting
+  static boolean isClosedDateRange(ReportRequest reportRequest, long now) {
+    String request = reportRequest.getReportRequestString();
+    String endDate = null;
+    if (reportRequest.getRequestType() == RequestType.AWQL) {
+      Matcher matcher = AWQL_DATE_RANGE.matcher(request);
+      if (matcher.find()) {
+        endDate = matcher.group(2);
+      }
+    } else if (XML_CUSTOM_DATE_RANGE_TYPE.matcher(request).find()) {
+      Matcher matcher = XML_MAX_DATE.matcher(request);
+      if (matcher.find()) {
+        endDate = matcher.group(1);
+      }
+    }
+    if (endDate == null) {
+      return false;
+    }
+    String yesterday =
+        new SimpleDateFormat("yyyyMMdd").format(new Date(now - TimeUnit.DAYS.toMillis(1)));
+    // Dates in yyyyMMdd format sort chronologically.
+    return endDate.compareTo(yesterday) < 0;
+  }
+
+  /**
+   * Gets a cached report.
+   *
+   * @param key the key of the report request
+   * @return the cached report, or {@code null} if it is not cached or has expired
+   */
+  RawReportDownloadResponse get(String key) {
+    String entryName = getEntryName(key);
+    synchronized (this) {
+      // Also marks the entry as the most recently used.
+      if (entrySizes.get(entryName) == null) {
+        missCount.incrementAndGet();
+        return null;
+      }
+    }
+    File entryFile = new File(directory, entryName);
+    RawReportDownloadResponse response = openEntry(entryFile);
+    if (response == null) {
+      removeEntry(entryName);
+      missCount.incrementAndGet();
+      return null;
+    }
+    entryFile.setLastModified(currentTimeMillis());
+    hitCount.incrementAndGet();
+    return response;
+  }
+
+  /**
+   * Caches a successful report download as it is read. The report is copied to a temporary file
+   * while the returned response is read, and added to the cache once the response is read to the
+   * end. If the cache cannot be written, the error is logged and the report is still read from the
+   * download.
+   *
+   * @param key the key of the report request
+   * @param reportRequest the report request, used to determine when the report expires
+   * @param response the response of the report download
+   * @return a response that reads the report from the download and caches it
+   */
+  RawReportDownloadResponse put(String key, ReportRequest reportRequest,
+      RawReportDownloadResponse response) {
+    Preconditions.checkArgument(response.getHttpStatus() == HttpURLConnection.HTTP_OK,
+        "Only successful downloads can be cached");
+    if (response.getInputStream() == null) {
+      return response;
+    }
+    long now = currentTimeMillis();
+    long expirationTime = isClosedDateRange(reportRequest, now) ? NEVER_EXPIRES : now + timeToLive;
+    String entryName = getEntryName(key);
+    File tempFile = null;
+    DataOutputStream entryOutputStream = null;
+    try {
+      tempFile = File.createTempFile(entryName, TEMP_SUFFIX, directory);
+      entryOutputStream =
+          new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tempFile)));
+      entryOutputStream.writeInt(ENTRY_FORMAT_VERSION);
+      entryOutputStream.writeLong(expirationTime);
+      entryOutputStream.writeUTF(response.getCharset().name());
+      entryOutputStream.writeUTF(response.getDownloadFormat());
+      return new RawReportDownloadResponse(response.getHttpStatus(),
+          new CachingInputStream(response.getInputStream(), entryName, tempFile,
+              new GZIPOutputStream(entryOutputStream)),
+          response.getCharset(), response.getDownloadFormat());
+    } catch (IOException e) {
+      logger.warn("Could not cache report in {}, serving it uncached.", directory, e);
+      if (entryOutputStream != null) {
+        closeQuietly(entryOutputStream);
+      }
+      if (tempFile != null) {
+        tempFile.delete();
+      }
+      return response;
+    }
+  }
+
+  /**
+   * Adds a report written to a temporary file to the cache.
+   */
+  private synchronized void addEntry(String entryName, File tempFile) throws IOException {
+    File entryFile = new File(directory, entryName);
+    removeEntry(entryName);
+    if (!tempFile.renameTo(entryFile)) {
+      throw new IOException("Could not move cached report to " + entryFile);
+    }
+    entrySizes.put(entryName, entryFile.length());
+    size += entryFile.length();
+    evictEntries();
+  }
+
+  /**
+   * Opens a cached report.
+   *
+   * @return the cached report, or {@code null} if it could not be read or has expired
+   */
+  private RawReportDownloadResponse openEntry(File file) {
+    DataInputStream inputStream = null;
+    try {
+      inputStream = new DataInputStream(new BufferedInputStream(new FileInputStream(file)));
+      if (inputStream.readInt() != ENTRY_FORMAT_VERSION
+          || inputStream.readLong() <= currentTimeMillis()) {
+        inputStream.close();
+        return null;
+      }
+      Charset charset = Charset.forName(inputStream.readUTF());
+      String downloadFormat = inputStream.readUTF();
+      return new RawReportDownloadResponse(HttpURLConnection.HTTP_OK,
+          new GZIPInputStream(inputStream), charset, downloadFormat);
+    } catch (IOException e) {
+      Closeables.closeQuietly(inputStream);
+      return null;
+    } catch (IllegalArgumentException e) {
+      // Unsupported charset.
+      Closeables.closeQuietly(inputStream);
+      return null;
+    }
+  }
+
+  private synchronized void removeEntry(String entryName) {
+    Long entrySize = entrySizes.remove(entryName);
+    if (entrySize != null) {
+      size -= entrySize;
+      new File(directory, entryName).delete();
+    }
+  }
+
+  /**
+   * Evicts the least recently used reports until the cache is under its maximum size.
+   */
+  private synchronized void evictEntries() {
+    Iterator<Map.Entry<String, Long>> iterator = entrySizes.entrySet().iterator();
+    while (size > maxSize && iterator.hasNext()) {
+      Map.Entry<String, Long> entry = iterator.next();
+      iterator.remove();
+      size -= entry.getValue();
+      // Readers that already opened the file can still read it on most file systems.
+      new File(directory, entry.getKey()).delete();
+      evictionCount.incrementAndGet();
+    }
+  }
+
+  /**
+   * Input stream of a downloaded report that copies the report to a temporary file as it is read,
+   * and adds the file to the cache at the end of the report. Errors writing the file only stop the
+   * copy; errors reading the report are thrown to the reader, and the copy is discarded.
+   */
+  private final class CachingInputStream extends FilterInputStream {
+
+    private final String entryName;
+    private final File tempFile;
+    private OutputStream entryOutputStream;
+
+    CachingInputStream(InputStream inputStream, String entryName, File tempFile,
+        OutputStream entryOutputStream) {
+      super(inputStream);
+      this.entryName = entryName;
+      this.tempFile = tempFile;
+      this.entryOutputStream = entryOutputStream;
+    }
+
+    @Override
+    public int read() throws IOException {
+      byte[] b = new byte[1];
+      int count;
+      do {
+        count = readFromDownload(b, 0, 1);
+      } while (count == 0);
+      return count < 0 ? -1 : b[0] & 0xff;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+      return readFromDownload(b, off, len);
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+      // Reads the skipped bytes so that they are cached.
+      byte[] buffer = new byte[(int) Math.min(n, 8192)];
+      long skipped = 0;
+      while (skipped < n) {
+        int count = read(buffer, 0, (int) Math.min(n - skipped, buffer.length));
+        if (count < 0) {
+          break;
+        }
+        skipped += count;
+      }
+      return skipped;
+    }
+
+    @Override
+    public boolean markSupported() {
+      return false;
+    }
+
+    @Override
+    public void mark(int readlimit) {}
+
+    @Override
+    public void reset() throws IOException {
+      throw new IOException("Mark is not supported");
+    }
+
+    @Override
+    public void close() throws IOException {
+      try {
+        super.close();
+      } finally {
+        // The report was not read to the end, so it is not cached.
+        discardEntry();
+      }
+    }
+
+    private int readFromDownload(byte[] b, int off, int len) throws IOException {
+      int count;
+      try {
+        count = in.read(b, off, len);
+      } catch (IOException e) {
+        discardEntry();
+        throw e;
+      }
+      if (entryOutputStream == null) {
+        return count;
+      }
+      try {
+        if (count < 0) {
+          OutputStream outputStream = entryOutputStream;
+          entryOutputStream = null;
+          outputStream.close();
+          addEntry(entryName, tempFile);
+        } else {
+          entryOutputStream.write(b, off, count);
+        }
+      } catch (IOException e) {
+        logger.warn("Could not cache report in {}, serving it uncached.", directory, e);
+        discardEntry();
+      }
+      return count;
+    }
+
+    private void discardEntry() {
+      if (entryOutputStream != null) {
+        closeQuietly(entryOutputStream);
+        entryOutputStream = null;
+      }
+      tempFile.delete();
+    }
+  }
+
+  private static void closeQuietly(OutputStream outputStream) {
+    try {
+      Closeables.close(outputStream, true);
+    } catch (IOException e) {
+      // Not thrown when swallowing.
+    }
+  }
+
+  private static String getEntryName(String key) {
+    return Hashing.sha256().hashString(key, Charsets.UTF_8).toString() + ENTRY_SUFFIX;
+  }
+
+  /**
+   * Gets the current time in milliseconds.
+   */
+  @VisibleForTesting
+  long currentTimeMillis() {
+    return System.currentTimeMillis();
+  }
+}
@@ -0,0 +1,89 @@
+// Copyright 2016 Google Inc. All Rights Reserved.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.api.ads.adwords.lib.utils;
+
+import com.google.api.ads.adwords.lib.conf.AdWordsLibConfiguration;
+import com.google.api.client.http.HttpTransport;
+import com.google.api.client.http.apache.ApacheHttpTransport;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import org.apache.http.conn.ClientConnectionManager;
+import org.apache.http.conn.params.ConnManagerParams;
+import org.apache.http.conn.params.ConnPerRouteBean;
+import org.apache.http.params.HttpConnectionParams;
+import org.apache.http.params.HttpParams;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Creates the {@link HttpTransport} used for report downloads.
+ *
+ * <p>If the report connection pool is enabled, downloads are sent over a bounded pool of
+ * keep-alive connections shared by all sessions, so that consecutive downloads from the same
+ * host reuse the TCP connection. Since pooled connections keep their TLS session, only the first
+ * download over each connection pays for the handshake.
+ */
+class ReportHttpTransportFactory {
+
+  private ReportHttpTransportFactory() {}
+
+  /**
+   * Gets the transport to use for report downloads.
+   *
+   * @param configuration the lib configuration used to size the connection pool
+   * @param defaultTransport the transport to use if the report connection pool is disabled
+   */
+  static HttpTransport createReportHttpTransport(
+      AdWordsLibConfiguration configuration, HttpTransport defaultTransport) {
+    if (!configuration.isReportConnectionPoolEnabled()) {
+      return defaultTransport;
+    }
+    ApacheHttpTransport.Builder builder = new ApacheHttpTransport.Builder();
+    HttpParams params = builder.getHttpParams();
+    ConnManagerParams.setMaxTotalConnections(params, configuration.getMaxTotalConnections());
+    ConnManagerParams.setMaxConnectionsPerRoute(
+        params, new ConnPerRouteBean(configuration.getMaxConnectionsPerHost()));
+    HttpConnectionParams.setConnectionTimeout(params, configuration.getConnectTimeout());
+    HttpConnectionParams.setStaleCheckingEnabled(params, true);
+    ApacheHttpTransport transport = builder.build();
+    scheduleIdleConnectionEviction(transport.getHttpClient().getConnectionManager(),
+        configuration.getConnectionIdleTimeout());
+    return transport;
+  }
+
+  /**
+   * Periodically closes the pooled connections that have been idle for longer than the idle
+   * timeout, since the Apache client only evicts them when asked to.
+   */
+  private static void scheduleIdleConnectionEviction(
+      final ClientConnectionManager connectionManager, final int idleTimeout) {
+    ScheduledExecutorService evictor = Executors.newSingleThreadScheduledExecutor(
+        new ThreadFactoryBuilder()
+            .setDaemon(true)
+            .setNameFormat("ads-report-idle-connection-evictor")
+            .build());
+    // Checks at least once a second so short idle timeouts are honored.
+    long interval = Math.max(1, Math.min(idleTimeout, 1000));
+    evictor.scheduleWithFixedDelay(new Runnable() {
+      @Override
+      public void run() {
+        connectionManager.closeExpiredConnections();
+        connectionManager.closeIdleConnections(idleTimeout, TimeUnit.MILLISECONDS);
+      }
+    }, interval, interval, TimeUnit.MILLISECONDS);
+  }
+}
@@ -28,6 +28,8 @@ import com.google.api.client.http.HttpTransport;
 import com.google.common.annotations.VisibleForTesting;
 
 import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
 
 /**
  * Helper class that generates a configured HttpURLConnection for report downloads.
@@ -43,6 +45,7 @@ public class ReportRequestFactoryHelper {
   private final HttpTransport httpTransport;
   private int reportDownloadTimeout;
   private final HttpResponseInterceptor responseInterceptor;
+  private volatile SessionHeaders sessionHeaders;
 
   /**
    * Constructor that gets an Internals instance from AdWordsInternals.
@@ -63,7 +66,7 @@ public class ReportRequestFactoryHelper {
     this(session,
         internals.getAuthorizationHeaderProvider(),
         internals.getUserAgentCombiner(),
-        internals.getHttpTransport(),
+        internals.getReportHttpTransport(),
         internals.getAdWordsLibConfiguration().getReportDownloadTimeout(),
         new ReportResponseInterceptor(
             internals.getAdWordsServiceLoggers().getReportServiceLogger()));
@@ -124,12 +127,29 @@ public class ReportRequestFactoryHelper {
    */
   private HttpHeaders createHeaders(String reportUrl, String version)
       throws AuthenticationException {
-    HttpHeaders httpHeaders = new HttpHeaders();
+    HttpHeaders httpHeaders = getSessionHeaders(version).clone();
+    httpHeaders.set("clientCustomerId", session.getClientCustomerId());
     httpHeaders.setAuthorization(
         authorizationHeaderProvider.getAuthorizationHeader(session, reportUrl));
+    // The user agent includes the utilities used since the last request, so it is not cached.
     httpHeaders.setUserAgent(userAgentCombiner.getUserAgent(session.getUserAgent()));
+    return httpHeaders;
+  }
+
+  /**
+   * Gets the headers that only depend on the session's developer token and reporting
+   * configuration, creating them if the session changed since the last request. The same headers
+   * are used for every client customer ID of the session.
+   */
+  private HttpHeaders getSessionHeaders(String version) {
+    List<Object> key = Arrays.<Object>asList(
+        version, session.getDeveloperToken(), session.getReportingConfiguration());
+    SessionHeaders cachedHeaders = sessionHeaders;
+    if (cachedHeaders != null && cachedHeaders.key.equals(key)) {
+      return cachedHeaders.headers;
+    }
+    HttpHeaders httpHeaders = new HttpHeaders();
     httpHeaders.set("developerToken", session.getDeveloperToken());
-    httpHeaders.set("clientCustomerId", session.getClientCustomerId());
     ReportingConfiguration reportingConfiguration = session.getReportingConfiguration();
     if (reportingConfiguration != null) {
       reportingConfiguration.validate(version);
@@ -156,6 +176,7 @@ public class ReportRequestFactoryHelper {
             Boolean.toString(reportingConfiguration.isUseRawEnumValues()));
       }
     }
+    sessionHeaders = new SessionHeaders(key, httpHeaders);
     return httpHeaders;
   }
 
@@ -172,4 +193,17 @@ public class ReportRequestFactoryHelper {
   public void setReportDownloadTimeout(int reportDownloadTimeout) {
     this.reportDownloadTimeout = reportDownloadTimeout;
   }
+
+  /**
+   * Headers created for a snapshot of the session's settings.
+   */
+  private static final class SessionHeaders {
+    private final List<Object> key;
+    private final HttpHeaders headers;
+
+    SessionHeaders(List<Object> key, HttpHeaders headers) {
+      this.key = key;
+      this.headers = headers;
+    }
+  }
 }
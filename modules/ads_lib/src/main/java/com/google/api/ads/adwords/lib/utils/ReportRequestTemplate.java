@@ -0,0 +1,125 @@
+// Copyright 2016 Google Inc. All Rights Reserved.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.api.ads.adwords.lib.utils;
+
+import com.google.api.client.http.ByteArrayContent;
+import com.google.api.client.http.HttpContent;
+import com.google.common.base.Preconditions;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+/**
+ * Report request that is serialized and encoded once, so that it can be downloaded for many
+ * accounts without repeating that work:
+ *
+ * <pre>
+ * ReportRequestTemplate template = ReportDownloader.createReportRequestTemplate(definition);
+ * for (AdWordsSession session : sessions) {
+ *   ReportDownloadResponse response = new ReportDownloader(session).downloadReport(template);
+ *   ...
+ * }
+ * </pre>
+ *
+ * <p>Instances are immutable and can be shared by threads.
+ */
+public final class ReportRequestTemplate implements ReportRequest {
+
+  private final String reportRequestString;
+  private final Enum<?> downloadFormat;
+  private final RequestType requestType;
+  private final String contentType;
+  private final byte[] encodedBody;
+
+  /**
+   * Constructor.
+   *
+   * @param reportRequest the report request to serialize and encode
+   * @throws ReportException if the report request could not be encoded
+   * @throws NullPointerException if the request or its type is {@code null}
+   */
+  public ReportRequestTemplate(ReportRequest reportRequest) throws ReportException {
+    Preconditions.checkNotNull(reportRequest, "Null report request");
+    this.reportRequestString = reportRequest.getReportRequestString();
+    this.downloadFormat = reportRequest.getDownloadFormat();
+    this.requestType = reportRequest.getRequestType();
+    // Encodes the copied fields so that the request is only serialized once.
+    HttpContent httpContent = new ReportBodyProviderFactory().getReportBodyProvider(
+        new SerializedReportRequest(reportRequestString, downloadFormat, requestType))
+        .getHttpContent();
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    try {
+      httpContent.writeTo(outputStream);
+    } catch (IOException e) {
+      throw new ReportException("Could not encode report request.", e);
+    }
+    this.contentType = httpContent.getType();
+    this.encodedBody = outputStream.toByteArray();
+  }
+
+  @Override
+  public String getReportRequestString() {
+    return reportRequestString;
+  }
+
+  @Override
+  public Enum<?> getDownloadFormat() {
+    return downloadFormat;
+  }
+
+  @Override
+  public RequestType getRequestType() {
+    return requestType;
+  }
+
+  /**
+   * Gets the encoded body of the report download request, which shares the encoded bytes with
+   * every other request made from this template.
+   */
+  HttpContent getHttpContent() {
+    return new ByteArrayContent(contentType, encodedBody);
+  }
+
+  /**
+   * Report request whose fields have already been computed.
+   */
+  private static final class SerializedReportRequest implements ReportRequest {
+    private final String reportRequestString;
+    private final Enum<?> downloadFormat;
+    private final RequestType requestType;
+
+    SerializedReportRequest(
+        String reportRequestString, Enum<?> downloadFormat, RequestType requestType) {
+      this.reportRequestString = reportRequestString;
+      this.downloadFormat = downloadFormat;
+      this.requestType = requestType;
+    }
+
+    @Override
+    public String getReportRequestString() {
+      return reportRequestString;
+    }
+
+    @Override
+    public Enum<?> getDownloadFormat() {
+      return downloadFormat;
+    }
+
+    @Override
+    public RequestType getRequestType() {
+      return requestType;
+    }
+  }
+}
@@ -0,0 +1,83 @@
+// Copyright 2016 Google Inc. All Rights Reserved.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.api.ads.adwords.lib.utils;
+
+import com.google.common.collect.ImmutableSet;
+
+import org.joda.time.LocalDate;
+
+import java.util.Collection;
+
+/**
+ * Size of the date range of each shard of a sharded report download. Week and month shards are
+ * aligned to calendar weeks (Monday to Sunday) and months, so the first and last shards of a date
+ * range may be shorter.
+ *
+ * <p>A report can only be sharded if each of its rows covers days of a single shard, so it must be
+ * segmented by a date field whose periods fit in the shards, as returned by
+ * {@link #getSegmentFields()}. Otherwise the rows of an entity would be split into one partial row
+ * per shard.
+ */
+public enum ReportShardSize {
+  DAY("Date") {
+    @Override
+    LocalDate getShardEnd(LocalDate shardStart) {
+      return shardStart;
+    }
+  },
+  WEEK("Date", "Week") {
+    @Override
+    LocalDate getShardEnd(LocalDate shardStart) {
+      return shardStart.dayOfWeek().withMaximumValue();
+    }
+  },
+  MONTH("Date", "Month") {
+    @Override
+    LocalDate getShardEnd(LocalDate shardStart) {
+      return shardStart.dayOfMonth().withMaximumValue();
+    }
+  };
+
+  private final ImmutableSet<String> segmentFields;
+
+  private ReportShardSize(String... segmentFields) {
+    this.segmentFields = ImmutableSet.copyOf(segmentFields);
+  }
+
+  /**
+   * Gets the date segment fields whose periods each fit in a single shard of this size.
+   */
+  public ImmutableSet<String> getSegmentFields() {
+    return segmentFields;
+  }
+
+  /**
+   * Returns {@code true} if a report with the specified fields can be sharded with this size,
+   * because it is segmented by one of the {@link #getSegmentFields() segment fields}.
+   */
+  public boolean canShard(Collection<String> reportFields) {
+    for (String field : reportFields) {
+      if (segmentFields.contains(field)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Gets the last day of the shard that starts on the specified day.
+   */
+  abstract LocalDate getShardEnd(LocalDate shardStart);
+}
@@ -0,0 +1,298 @@
+// Copyright 2016 Google Inc. All Rights Reserved.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.api.ads.adwords.lib.utils;
+
+import com.google.api.ads.adwords.lib.client.reporting.ReportingConfiguration;
+import com.google.api.ads.adwords.lib.utils.DetailedReportDownloadResponseException.Builder;
+import com.google.api.client.http.HttpResponseException;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Range;
+import com.google.common.io.ByteStreams;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import org.joda.time.LocalDate;
+import org.joda.time.format.DateTimeFormat;
+import org.joda.time.format.DateTimeFormatter;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.MalformedURLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.annotation.Nullable;
+
+/**
+ * Downloads a report as a set of shards, each covering part of the report's date range, and
+ * merges the shards back into a single report.
+ *
+ * <p>Shards are downloaded in parallel, by at most {@code maxConcurrentShards} threads, and
+ * spooled to temporary files so that no connection is held open while earlier shards are being
+ * read. A shard that fails with a transient error, such as an I/O error or a server error, is
+ * retried on its own, up to {@code maxAttempts} times, without downloading the other shards
+ * again. Authorization errors and other client errors are not retried.
+ *
+ * <p>Shards are merged by dropping their header and summary lines and concatenating their rows,
+ * so only delimited formats such as {@code CSV} and {@code TSV} can be sharded.
+ */
+public class ShardedReportDownloadHelper {
+
+  /** The default number of shards downloaded at the same time. */
+  public static final int DEFAULT_MAX_CONCURRENT_SHARDS = 4;
+
+  /** The default number of times a shard is attempted before the download fails. */
+  public static final int DEFAULT_MAX_ATTEMPTS = 3;
+
+  private static final long DEFAULT_RETRY_DELAY_MILLIS = 1000;
+
+  private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormat.forPattern("yyyyMMdd");
+
+  /**
+   * Creates the report request of a shard.
+   */
+  public interface ShardRequestFactory {
+
+    /**
+     * Creates the report request of the shard covering the specified date range.
+     *
+     * @param minDate the first day of the shard, formatted as {@code yyyyMMdd}
+     * @param maxDate the last day of the shard, formatted as {@code yyyyMMdd}
+     */
+    ReportRequest createShardRequest(String minDate, String maxDate);
+  }
+
+  private final AdHocReportDownloadHelper adHocReportDownloadHelper;
+  private final int maxConcurrentShards;
+  private final int maxAttempts;
+  private final long retryDelayMillis;
+
+  /**
+   * Constructor.
+   *
+   * @param adHocReportDownloadHelper the helper used to download each shard
+   * @param maxConcurrentShards the maximum number of shards downloaded at the same time
+   * @param maxAttempts the number of times a shard is attempted before the download fails
+   */
+  public ShardedReportDownloadHelper(AdHocReportDownloadHelper adHocReportDownloadHelper,
+      int maxConcurrentShards, int maxAttempts) {
+    this(adHocReportDownloadHelper, maxConcurrentShards, maxAttempts, DEFAULT_RETRY_DELAY_MILLIS);
+  }
+
+  @VisibleForTesting
+  ShardedReportDownloadHelper(AdHocReportDownloadHelper adHocReportDownloadHelper,
+      int maxConcurrentShards, int maxAttempts, long retryDelayMillis) {
+    Preconditions.checkArgument(maxConcurrentShards > 0, "Max concurrent shards must be positive");
+    Preconditions.checkArgument(maxAttempts > 0, "Max attempts must be positive");
+    this.adHocReportDownloadHelper =
+        Preconditions.checkNotNull(adHocReportDownloadHelper, "Null report download helper");
+    this.maxConcurrentShards = maxConcurrentShards;
+    this.maxAttempts = maxAttempts;
+    this.retryDelayMillis = retryDelayMillis;
+  }
+
+  /**
+   * Starts downloading the shards of a report, and returns a response that merges them as they
+   * complete.
+   *
+   * @param minDate the first day of the report, formatted as {@code yyyyMMdd}
+   * @param maxDate the last day of the report, formatted as {@code yyyyMMdd}
+   * @param shardSize the size of the date range of each shard
+   * @param reportingConfiguration the reporting configuration of the session, which determines
+   *     the header and summary lines of each shard
+   * @param shardRequestFactory creates the report request of each shard
+   * @param exceptionBuilder the version-specific exception builder
+   * @return the response that merges the shards
+   * @throws IllegalArgumentException if the dates are invalid or {@code maxDate} is before
+   *     {@code minDate}
+   */
+  public ShardedReportDownloadResponse downloadReport(String minDate, String maxDate,
+      ReportShardSize shardSize, @Nullable ReportingConfiguration reportingConfiguration,
+      ShardRequestFactory shardRequestFactory, Builder exceptionBuilder) {
+    Preconditions.checkNotNull(shardSize, "Null shard size");
+    Preconditions.checkNotNull(shardRequestFactory, "Null shard request factory");
+    Preconditions.checkNotNull(exceptionBuilder, "Null exception builder");
+    List<Range<LocalDate>> shards =
+        splitDateRange(parseDate(minDate), parseDate(maxDate), shardSize);
+
+    int headerLines = 0;
+    boolean hasReportHeader = true;
+    boolean hasSummary = true;
+    if (reportingConfiguration != null) {
+      hasReportHeader = !Boolean.TRUE.equals(reportingConfiguration.isSkipReportHeader());
+      headerLines += hasReportHeader ? 1 : 0;
+      headerLines += Boolean.TRUE.equals(reportingConfiguration.isSkipColumnHeader()) ? 0 : 1;
+      hasSummary = !Boolean.TRUE.equals(reportingConfiguration.isSkipReportSummary());
+    } else {
+      headerLines = 2;
+    }
+
+    AtomicBoolean closed = new AtomicBoolean();
+    Set<File> shardFiles =
+        Collections.newSetFromMap(new ConcurrentHashMap<File, Boolean>());
+    ExecutorService executorService = Executors.newFixedThreadPool(
+        Math.min(maxConcurrentShards, shards.size()),
+        new ThreadFactoryBuilder()
+            .setDaemon(true)
+            .setNameFormat("ads-report-shard-%d")
+            .build());
+    List<Future<File>> shardFutures = new ArrayList<Future<File>>(shards.size());
+    try {
+      for (Range<LocalDate> shard : shards) {
+        ReportRequest shardRequest = shardRequestFactory.createShardRequest(
+            formatDate(shard.lowerEndpoint()), formatDate(shard.upperEndpoint()));
+        shardFutures.add(executorService.submit(
+            new ShardDownload(shardRequest, exceptionBuilder, closed, shardFiles)));
+      }
+    } finally {
+      executorService.shutdown();
+    }
+    return new ShardedReportDownloadResponse(
+        shards, shardFutures, headerLines, hasReportHeader, hasSummary, closed, shardFiles);
+  }
+
+  /**
+   * Splits a date range into shards of the specified size.
+   */
+  @VisibleForTesting
+  static List<Range<LocalDate>> splitDateRange(
+      LocalDate minDate, LocalDate maxDate, ReportShardSize shardSize) {
+    Preconditions.checkArgument(!maxDate.isBefore(minDate),
+        "Max date %s is before min date %s", maxDate, minDate);
+    List<Range<LocalDate>> shards = new ArrayList<Range<LocalDate>>();
+    LocalDate shardStart = minDate;
+    while (!shardStart.isAfter(maxDate)) {
+      LocalDate shardEnd = shardSize.getShardEnd(shardStart);
+      if (shardEnd.isAfter(maxDate)) {
+        shardEnd = maxDate;
+      }
+      shards.add(Range.closed(shardStart, shardEnd));
+      shardStart = shardEnd.plusDays(1);
+    }
+    return shards;
+  }
+
+  private static LocalDate parseDate(String date) {
+    Preconditions.checkNotNull(date, "Null date");
+    try {
+      return DATE_FORMATTER.parseLocalDate(date);
+    } catch (IllegalArgumentException e) {
+      throw new IllegalArgumentException("Invalid report date: " + date, e);
+    }
+  }
+
+  private static String formatDate(LocalDate date) {
+    return DATE_FORMATTER.print(date);
+  }
+
+  /**
+   * Returns true if a failed shard download may succeed when attempted again: an I/O error while
+   * sending the request or reading the response, or a server error. Invalid URLs, authorization
+   * errors and client errors are permanent.
+   */
+  private static boolean isRetryable(Exception e) {
+    if (e instanceof ReportDownloadResponseException) {
+      return isServerError(((ReportDownloadResponseException) e).getHttpStatus());
+    }
+    if (e instanceof ReportException) {
+      Throwable cause = e.getCause();
+      if (cause instanceof HttpResponseException) {
+        return isServerError(((HttpResponseException) cause).getStatusCode());
+      }
+      return cause instanceof IOException && !(cause instanceof MalformedURLException);
+    }
+    return e instanceof IOException;
+  }
+
+  private static boolean isServerError(int httpStatus) {
+    return httpStatus >= HttpURLConnection.HTTP_INTERNAL_ERROR;
+  }
+
+  /**
+   * Downloads a shard to a temporary file, retrying failed attempts with exponential backoff.
+   */
+  private final class ShardDownload implements Callable<File> {
+
+    private final ReportRequest shardRequest;
+    private final Builder exceptionBuilder;
+    private final AtomicBoolean closed;
+    private final Set<File> shardFiles;
+
+    ShardDownload(ReportRequest shardRequest, Builder exceptionBuilder, AtomicBoolean closed,
+        Set<File> shardFiles) {
+      this.shardRequest = shardRequest;
+      this.exceptionBuilder = exceptionBuilder;
+      this.closed = closed;
+      this.shardFiles = shardFiles;
+    }
+
+    @Override
+    public File call() throws Exception {
+      for (int attempt = 1; ; attempt++) {
+        try {
+          return downloadToFile();
+        } catch (Exception e) {
+          if (attempt >= maxAttempts || !isRetryable(e) || closed.get()) {
+            throw e;
+          }
+        }
+        Thread.sleep(retryDelayMillis << (attempt - 1));
+      }
+    }
+
+    private File downloadToFile()
+        throws ReportException, ReportDownloadResponseException, IOException {
+      ReportDownloadResponse response =
+          adHocReportDownloadHelper.downloadReport(shardRequest, exceptionBuilder);
+      File shardFile = File.createTempFile("ads-report-shard", ".tmp");
+      shardFiles.add(shardFile);
+      boolean saved = false;
+      InputStream inputStream = response.getInputStream();
+      try {
+        OutputStream outputStream = new BufferedOutputStream(new FileOutputStream(shardFile));
+        try {
+          ByteStreams.copy(inputStream, outputStream);
+        } finally {
+          outputStream.close();
+        }
+        saved = true;
+      } finally {
+        inputStream.close();
+        // Deletes the shard if the download failed or the response was closed meanwhile.
+        if (!saved || closed.get()) {
+          shardFiles.remove(shardFile);
+          shardFile.delete();
+        }
+      }
+      if (closed.get()) {
+        throw new IOException("Report download closed.");
+      }
+      return shardFile;
+    }
+  }
+}
@@ -0,0 +1,337 @@
+// Copyright 2016 Google Inc. All Rights Reserved.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.api.ads.adwords.lib.utils;
+
+import com.google.common.base.Charsets;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Range;
+import com.google.common.io.ByteStreams;
+
+import org.joda.time.LocalDate;
+import org.joda.time.format.DateTimeFormat;
+import org.joda.time.format.DateTimeFormatter;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Response of a sharded report download, which merges the shards into a single report as they
+ * complete.
+ *
+ * <p>The merged report keeps the header lines of the first shard, and drops the header lines of
+ * the other shards. The date range named by the report header line, such as
+ * {@code "CRITERIA_PERFORMANCE_REPORT (Aug 1, 2016-Aug 31, 2016)"}, is rewritten to the date
+ * range of the whole report. The summary line of each shard is dropped, since the summary of a
+ * whole report cannot be computed from the summaries of its shards for all columns. Only the
+ * header lines at the start of a shard and its summary line at the end are looked at: the rows
+ * in between are copied as is, so quoted fields spanning several lines are kept intact.
+ *
+ * <p>If a shard fails, reading the merged report throws an {@link IOException} whose cause is the
+ * {@link ReportException} or {@link ReportDownloadResponseException} of the shard's last attempt.
+ * Closing the response cancels the shards that are not downloaded yet and deletes the temporary
+ * files of the others.
+ */
+public class ShardedReportDownloadResponse implements Closeable {
+
+  /** The format of the dates of the report header line. */
+  private static final DateTimeFormatter HEADER_DATE_FORMATTER =
+      DateTimeFormat.forPattern("MMM d, yyyy").withLocale(Locale.US);
+
+  private final List<Range<LocalDate>> shards;
+  private final List<Future<File>> shardFutures;
+  private final int headerLines;
+  private final boolean hasReportHeader;
+  private final boolean hasSummary;
+  private final AtomicBoolean closed;
+  private final Set<File> shardFiles;
+  private boolean inputStreamCreated;
+
+  ShardedReportDownloadResponse(List<Range<LocalDate>> shards, List<Future<File>> shardFutures,
+      int headerLines, boolean hasReportHeader, boolean hasSummary, AtomicBoolean closed,
+      Set<File> shardFiles) {
+    this.shards = shards;
+    this.shardFutures = shardFutures;
+    this.headerLines = headerLines;
+    this.hasReportHeader = hasReportHeader;
+    this.hasSummary = hasSummary;
+    this.closed = closed;
+    this.shardFiles = shardFiles;
+  }
+
+  /**
+   * Returns the number of shards the report was split into.
+   */
+  public int getShardCount() {
+    return shards.size();
+  }
+
+  /**
+   * Returns the merged report. Reading blocks until the shard being read is downloaded. The
+   * merged report can only be read once.
+   *
+   * @throws IllegalStateException if the merged report was already read
+   */
+  public synchronized InputStream getInputStream() {
+    Preconditions.checkState(!inputStreamCreated, "The merged report can only be read once");
+    inputStreamCreated = true;
+    return new MergedInputStream();
+  }
+
+  /**
+   * Writes the merged report to the specified file, and closes the response.
+   *
+   * @param outputFile the output file to write to
+   * @throws FileNotFoundException if unable to write to {@code outputFile}
+   * @throws IOException if a shard failed or unable to write the merged report
+   */
+  public void saveToFile(String outputFile) throws FileNotFoundException, IOException {
+    InputStream inputStream = getInputStream();
+    try {
+      OutputStream outputStream = new BufferedOutputStream(new FileOutputStream(outputFile));
+      try {
+        ByteStreams.copy(inputStream, outputStream);
+      } finally {
+        outputStream.close();
+      }
+    } finally {
+      inputStream.close();
+    }
+  }
+
+  /**
+   * Cancels the shards that are not downloaded yet, and deletes the downloaded shards.
+   */
+  @Override
+  public void close() {
+    closed.set(true);
+    for (Future<File> shardFuture : shardFutures) {
+      shardFuture.cancel(true);
+    }
+    for (File shardFile : shardFiles) {
+      shardFiles.remove(shardFile);
+      shardFile.delete();
+    }
+  }
+
+  /**
+   * Rewrites the date range of the first shard named by a report header line to the date range of
+   * the whole report. The line is returned as is if it does not name the range of the first shard.
+   */
+  private byte[] rewriteReportHeader(byte[] headerLine) {
+    String firstShardRange = formatHeaderRange(
+        shards.get(0).lowerEndpoint(), shards.get(0).upperEndpoint());
+    String header = new String(headerLine, Charsets.UTF_8);
+    int rangeIndex = header.lastIndexOf("(" + firstShardRange + ")");
+    if (shards.size() == 1 || rangeIndex < 0) {
+      return headerLine;
+    }
+    String reportRange = formatHeaderRange(
+        shards.get(0).lowerEndpoint(), shards.get(shards.size() - 1).upperEndpoint());
+    return (header.substring(0, rangeIndex + 1) + reportRange
+        + header.substring(rangeIndex + 1 + firstShardRange.length())).getBytes(Charsets.UTF_8);
+  }
+
+  private static String formatHeaderRange(LocalDate minDate, LocalDate maxDate) {
+    return HEADER_DATE_FORMATTER.print(minDate) + "-" + HEADER_DATE_FORMATTER.print(maxDate);
+  }
+
+  /**
+   * Waits for a shard to be downloaded and returns its file.
+   */
+  private File getShardFile(int shardIndex) throws IOException {
+    try {
+      return shardFutures.get(shardIndex).get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Interrupted while waiting for report shard.");
+    } catch (ExecutionException e) {
+      Range<LocalDate> shard = shards.get(shardIndex);
+      throw new IOException(String.format("Download of report shard %s to %s failed.",
+          shard.lowerEndpoint(), shard.upperEndpoint()), e.getCause());
+    }
+  }
+
+  /**
+   * Input stream that reads the shards in order, skipping the header lines of all shards but the
+   * first and the summary line of every shard, and copying the rows of each shard as is.
+   */
+  private final class MergedInputStream extends InputStream {
+
+    private final byte[] singleByte = new byte[1];
+
+    private int shardIndex = -1;
+    private File shardFile;
+    private InputStream shardInputStream;
+    private boolean reportHeaderRead;
+
+    /** Bytes to read before the rows of the current shard, or after them. */
+    private byte[] pending;
+    private int pendingPosition;
+    private int lastByte = '\n';
+
+    @Override
+    public int read() throws IOException {
+      return read(singleByte, 0, 1) == -1 ? -1 : singleByte[0] & 0xff;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+      if (len == 0) {
+        return 0;
+      }
+      while (true) {
+        if (pending != null && pendingPosition < pending.length) {
+          int count = Math.min(len, pending.length - pendingPosition);
+          System.arraycopy(pending, pendingPosition, b, off, count);
+          pendingPosition += count;
+          lastByte = b[off + count - 1];
+          return count;
+        }
+        if (shardInputStream != null) {
+          int count = shardInputStream.read(b, off, len);
+          if (count > 0) {
+            lastByte = b[off + count - 1];
+            return count;
+          }
+          closeShard();
+          // Terminates the last row of the shard so that it is not joined with the next shard.
+          setPending(lastByte == '\n' ? null : new byte[] {'\n'});
+          continue;
+        }
+        if (!openNextShard()) {
+          return -1;
+        }
+      }
+    }
+
+    @Override
+    public void close() throws IOException {
+      closeShard();
+      ShardedReportDownloadResponse.this.close();
+    }
+
+    private void setPending(byte[] bytes) {
+      pending = bytes;
+      pendingPosition = 0;
+    }
+
+    /**
+     * Opens the next shard, reads its header lines, and limits the stream of the shard to its
+     * rows. Returns false if all shards were read.
+     */
+    private boolean openNextShard() throws IOException {
+      if (shardIndex + 1 >= shardFutures.size()) {
+        return false;
+      }
+      shardIndex++;
+      shardFile = getShardFile(shardIndex);
+      long rowsEnd = hasSummary ? getLastLineStart(shardFile) : shardFile.length();
+      InputStream inputStream = new BufferedInputStream(new FileInputStream(shardFile));
+      shardInputStream = inputStream;
+      ByteArrayOutputStream headers = new ByteArrayOutputStream();
+      long headersEnd = 0;
+      for (int i = 0; i < headerLines; i++) {
+        byte[] headerLine = readLine(inputStream);
+        if (headerLine == null) {
+          break;
+        }
+        headersEnd += headerLine.length;
+        if (hasReportHeader && !reportHeaderRead) {
+          reportHeaderRead = true;
+          headerLine = rewriteReportHeader(headerLine);
+        }
+        headers.write(headerLine);
+      }
+      shardInputStream = ByteStreams.limit(inputStream, Math.max(0, rowsEnd - headersEnd));
+      setPending(shardIndex == 0 ? headers.toByteArray() : null);
+      return true;
+    }
+
+    private void closeShard() throws IOException {
+      if (shardInputStream != null) {
+        shardInputStream.close();
+        shardInputStream = null;
+        shardFiles.remove(shardFile);
+        shardFile.delete();
+        shardFile = null;
+      }
+    }
+  }
+
+  /**
+   * Reads a line, including its line terminator. Returns null at the end of the stream.
+   */
+  private static byte[] readLine(InputStream inputStream) throws IOException {
+    ByteArrayOutputStream line = new ByteArrayOutputStream();
+    int b;
+    while ((b = inputStream.read()) != -1) {
+      line.write(b);
+      if (b == '\n') {
+        break;
+      }
+    }
+    return line.size() == 0 ? null : line.toByteArray();
+  }
+
+  /**
+   * Returns the offset of the start of the last line of a file, ignoring the terminator of the
+   * last line, or 0 if the file has a single line.
+   */
+  private static long getLastLineStart(File file) throws IOException {
+    RandomAccessFile randomAccessFile = new RandomAccessFile(file, "r");
+    try {
+      byte[] buffer = new byte[8192];
+      long end = randomAccessFile.length();
+      if (end > 0) {
+        randomAccessFile.seek(end - 1);
+        if (randomAccessFile.read() == '\n') {
+          end--;
+        }
+      }
+      while (end > 0) {
+        int count = (int) Math.min(buffer.length, end);
+        long start = end - count;
+        randomAccessFile.seek(start);
+        randomAccessFile.readFully(buffer, 0, count);
+        for (int i = count - 1; i >= 0; i--) {
+          if (buffer[i] == '\n') {
+            return start + i + 1;
+          }
+        }
+        end = start;
+      }
+      return 0;
+    } finally {
+      randomAccessFile.close();
+    }
+  }
+}
@@ -15,13 +15,26 @@
 package com.google.api.ads.adwords.lib.utils.v201609;
 
 import com.google.api.ads.adwords.lib.client.AdWordsSession;
+import com.google.api.ads.adwords.lib.jaxb.v201609.DateRange;
 import com.google.api.ads.adwords.lib.jaxb.v201609.DownloadFormat;
 import com.google.api.ads.adwords.lib.jaxb.v201609.ReportDefinition;
+import com.google.api.ads.adwords.lib.jaxb.v201609.ReportDefinitionDateRangeType;
+import com.google.api.ads.adwords.lib.jaxb.v201609.Selector;
 import com.google.api.ads.adwords.lib.utils.AdHocReportDownloadHelper;
+import com.google.api.ads.adwords.lib.utils.ReportCache;
 import com.google.api.ads.adwords.lib.utils.ReportDownloadResponse;
 import com.google.api.ads.adwords.lib.utils.ReportDownloadResponseException;
 import com.google.api.ads.adwords.lib.utils.ReportException;
+import com.google.api.ads.adwords.lib.utils.ReportRequest;
+import com.google.api.ads.adwords.lib.utils.ReportRequestTemplate;
+import com.google.api.ads.adwords.lib.utils.ReportShardSize;
+import com.google.api.ads.adwords.lib.utils.ShardedReportDownloadHelper;
+import com.google.api.ads.adwords.lib.utils.ShardedReportDownloadHelper.ShardRequestFactory;
+import com.google.api.ads.adwords.lib.utils.ShardedReportDownloadResponse;
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+
+import javax.annotation.Nullable;
 
 /**
  * Reports are fetched synchronously like in the following code:
@@ -43,6 +56,7 @@ public class ReportDownloader {
   /** The version to append to url for Ad Hoc report downloads. */
   private static final String VERSION = "v201609";
 
+  @Nullable private final AdWordsSession session;
   private final AdHocReportDownloadHelper adHocReportDownloadHelper;
 
   /**
@@ -51,11 +65,29 @@ public class ReportDownloader {
    * @param session AdWordsSession to use to make report download requests.
    */
   public ReportDownloader(AdWordsSession session) {
-    this(new AdHocReportDownloadHelper(session, VERSION));
+    this(session, new AdHocReportDownloadHelper(session, VERSION));
+  }
+
+  /**
+   * Constructs a {@link ReportDownloader} that serves reports from the report cache when
+   * possible, and caches successfully downloaded reports.
+   *
+   * @param session AdWordsSession to use to make report download requests.
+   * @param reportCache the cache of downloaded reports.
+   */
+  public ReportDownloader(AdWordsSession session, ReportCache reportCache) {
+    this(session, new AdHocReportDownloadHelper(
+        session, VERSION, Preconditions.checkNotNull(reportCache, "Null report cache")));
   }
 
   @VisibleForTesting
   ReportDownloader(AdHocReportDownloadHelper adHocReportDownloadHelper) {
+    this(null, adHocReportDownloadHelper);
+  }
+
+  private ReportDownloader(
+      @Nullable AdWordsSession session, AdHocReportDownloadHelper adHocReportDownloadHelper) {
+    this.session = session;
     this.adHocReportDownloadHelper = adHocReportDownloadHelper;
   }
   
@@ -90,6 +122,141 @@ public class ReportDownloader {
         new DetailedReportDownloadResponseException.Builder());
   }
 
+  /**
+   * Downloads a report from a report request template, and returns a ReportDownloadResponse with
+   * the results.
+   *
+   * @param reportRequestTemplate the template of the report to download.
+   * @return {@link ReportDownloadResponse} If the HTTP request completes successfully.
+   * @throws ReportException If there is any issue making HTTP request with server.
+   * @throws ReportDownloadResponseException If the server indicates a problem with the request.
+   */
+  public ReportDownloadResponse downloadReport(ReportRequestTemplate reportRequestTemplate)
+      throws ReportException, ReportDownloadResponseException {
+    return adHocReportDownloadHelper.downloadReport(
+        Preconditions.checkNotNull(reportRequestTemplate, "Null report request template"),
+        new DetailedReportDownloadResponseException.Builder());
+  }
+
+  /**
+   * Downloads a report in shards, each covering part of the report's date range, and returns a
+   * response that merges the shards into a single report. Up to
+   * {@link ShardedReportDownloadHelper#DEFAULT_MAX_CONCURRENT_SHARDS} shards are downloaded at
+   * the same time.
+   *
+   * @param reportDefinition the report definition, with a {@code CUSTOM_DATE} date range and
+   *     the {@code CSV} or {@code TSV} download format, segmented by one of the
+   *     {@link ReportShardSize#getSegmentFields() segment fields} of the shard size.
+   * @param shardSize the size of the date range of each shard.
+   * @return the {@link ShardedReportDownloadResponse} that merges the shards.
+   * @throws IllegalArgumentException If the report definition can not be sharded.
+   * @see ShardedReportDownloadResponse
+   */
+  public ShardedReportDownloadResponse downloadShardedReport(
+      ReportDefinition reportDefinition, ReportShardSize shardSize) {
+    return downloadShardedReport(
+        reportDefinition, shardSize, ShardedReportDownloadHelper.DEFAULT_MAX_CONCURRENT_SHARDS);
+  }
+
+  /**
+   * Downloads a report in shards, each covering part of the report's date range, and returns a
+   * response that merges the shards into a single report.
+   *
+   * @param reportDefinition the report definition, with a {@code CUSTOM_DATE} date range and
+   *     the {@code CSV} or {@code TSV} download format, segmented by one of the
+   *     {@link ReportShardSize#getSegmentFields() segment fields} of the shard size.
+   * @param shardSize the size of the date range of each shard.
+   * @param maxConcurrentShards the maximum number of shards downloaded at the same time.
+   * @return the {@link ShardedReportDownloadResponse} that merges the shards.
+   * @throws IllegalArgumentException If the report definition can not be sharded.
+   * @see ShardedReportDownloadResponse
+   */
+  public ShardedReportDownloadResponse downloadShardedReport(
+      final ReportDefinition reportDefinition, ReportShardSize shardSize,
+      int maxConcurrentShards) {
+    Preconditions.checkNotNull(reportDefinition, "Null report definition");
+    Preconditions.checkArgument(
+        reportDefinition.getDateRangeType() == ReportDefinitionDateRangeType.CUSTOM_DATE
+            && reportDefinition.getSelector() != null
+            && reportDefinition.getSelector().getDateRange() != null,
+        "Only reports with a CUSTOM_DATE date range can be sharded");
+    Preconditions.checkArgument(reportDefinition.getDownloadFormat() == DownloadFormat.CSV
+        || reportDefinition.getDownloadFormat() == DownloadFormat.TSV,
+        "Only CSV and TSV reports can be sharded");
+    Preconditions.checkNotNull(shardSize, "Null shard size");
+    Preconditions.checkArgument(shardSize.canShard(reportDefinition.getSelector().getFields()),
+        "Reports sharded by %s must be segmented by one of %s, so that each row covers a single "
+            + "shard", shardSize, shardSize.getSegmentFields());
+    DateRange dateRange = reportDefinition.getSelector().getDateRange();
+    return new ShardedReportDownloadHelper(adHocReportDownloadHelper, maxConcurrentShards,
+        ShardedReportDownloadHelper.DEFAULT_MAX_ATTEMPTS).downloadReport(
+            dateRange.getMin(),
+            dateRange.getMax(),
+            shardSize,
+            session == null ? null : session.getReportingConfiguration(),
+            new ShardRequestFactory() {
+              @Override
+              public ReportRequest createShardRequest(String minDate, String maxDate) {
+                return new XmlReportDefinitionRequest(
+                    createShardDefinition(reportDefinition, minDate, maxDate));
+              }
+            },
+            new DetailedReportDownloadResponseException.Builder());
+  }
+
+  /**
+   * Copies a report definition, replacing its date range with the date range of a shard.
+   */
+  private static ReportDefinition createShardDefinition(
+      ReportDefinition reportDefinition, String minDate, String maxDate) {
+    Selector selector = reportDefinition.getSelector();
+    Selector shardSelector = new Selector();
+    shardSelector.getFields().addAll(selector.getFields());
+    shardSelector.getPredicates().addAll(selector.getPredicates());
+    shardSelector.getOrdering().addAll(selector.getOrdering());
+    shardSelector.setPaging(selector.getPaging());
+    DateRange shardDateRange = new DateRange();
+    shardDateRange.setMin(minDate);
+    shardDateRange.setMax(maxDate);
+    shardSelector.setDateRange(shardDateRange);
+
+    ReportDefinition shardDefinition = new ReportDefinition();
+    shardDefinition.setId(reportDefinition.getId());
+    shardDefinition.setReportName(reportDefinition.getReportName());
+    shardDefinition.setReportType(reportDefinition.getReportType());
+    shardDefinition.setDateRangeType(reportDefinition.getDateRangeType());
+    shardDefinition.setDownloadFormat(reportDefinition.getDownloadFormat());
+    shardDefinition.setSelector(shardSelector);
+    return shardDefinition;
+  }
+
+  /**
+   * Creates a template of a report definition, which can be downloaded for many accounts without
+   * serializing the definition again.
+   *
+   * @param reportDefinition the report definition.
+   * @return the report request template.
+   * @throws ReportException If the report definition could not be encoded.
+   */
+  public static ReportRequestTemplate createReportRequestTemplate(
+      ReportDefinition reportDefinition) throws ReportException {
+    return new ReportRequestTemplate(new XmlReportDefinitionRequest(reportDefinition));
+  }
+
+  /**
+   * Creates a template of a report query (AWQL), which can be downloaded for many accounts
+   * without encoding the query again.
+   *
+   * @param reportQuery the report query.
+   * @param format Format to download the report as.
+   * @return the report request template.
+   * @throws ReportException If the report query could not be encoded.
+   */
+  public static ReportRequestTemplate createReportRequestTemplate(
+      String reportQuery, DownloadFormat format) throws ReportException {
+    return new ReportRequestTemplate(new AwqlReportRequest(reportQuery, format));
+  }
+
   /**
    * Returns the reportDownloadTimeout in milliseconds.
    */
@@ -30,11 +30,26 @@ public abstract class AdsLibConfiguration extends BaseConfiguration {
   public static final String VERSION_KEY = "com.google.api.ads.version";
   public static final String AUTO_REFRESH_OAUTH2_TOKEN_POSTFIX = "refreshOAuth2Token";
   public static final String USE_COMPRESSION_POSTFIX = "useCompression";
+  public static final String COMPRESSION_THRESHOLD_POSTFIX = "compressionThreshold";
   public static final String SOAP_REQUEST_TIMEOUT_POSTFIX = "soapRequestTimeout";
   public static final String INCLUDE_UTILITIES_IN_USER_AGENT_POSTFIX =
       "includeUtilitiesInUserAgent";
+  public static final String USE_CONNECTION_POOL_POSTFIX = "useConnectionPool";
+  public static final String MAX_CONNECTIONS_PER_HOST_POSTFIX = "maxConnectionsPerHost";
+  public static final String MAX_TOTAL_CONNECTIONS_POSTFIX = "maxTotalConnections";
+  public static final String CONNECTION_IDLE_TIMEOUT_POSTFIX = "connectionIdleTimeout";
+  public static final String CONNECT_TIMEOUT_POSTFIX = "connectTimeout";
+  public static final String USE_COMPILED_SERIALIZERS_POSTFIX = "useCompiledSerializers";
+  public static final String INTERNED_FIELDS_POSTFIX = "internedFields";
+  public static final String INTERNED_STRINGS_MAX_SIZE_POSTFIX = "internedStringsMaxSize";
   
+  public static final int DEFAULT_COMPRESSION_THRESHOLD = 0;
   public static final int DEFAULT_SOAP_REQUEST_TIMEOUT = 20 * 60 * 1000;
+  public static final int DEFAULT_MAX_CONNECTIONS_PER_HOST = 20;
+  public static final int DEFAULT_MAX_TOTAL_CONNECTIONS = 100;
+  public static final int DEFAULT_CONNECTION_IDLE_TIMEOUT = 60 * 1000;
+  public static final int DEFAULT_CONNECT_TIMEOUT = 30 * 1000;
+  public static final int DEFAULT_INTERNED_STRINGS_MAX_SIZE = 10000;
 
   /**
    * Constructor.
@@ -73,6 +88,14 @@ public abstract class AdsLibConfiguration extends BaseConfiguration {
   public boolean isCompressionEnabled() {
     return false;
   }
+
+  /**
+   * Gets the minimum size in bytes of a serialized SOAP request for it to be compressed, if
+   * compression is enabled. Smaller requests are sent uncompressed.
+   */
+  public int getCompressionThreshold() {
+    return DEFAULT_COMPRESSION_THRESHOLD;
+  }
   
   /**
    * Gets the request timeout in milliseconds.
@@ -87,4 +110,62 @@ public abstract class AdsLibConfiguration extends BaseConfiguration {
   public boolean isIncludeAdsUtilitiesInUserAgent() {
     return true;
   }
+
+  /**
+   * Returns if SOAP requests should be sent over a shared pool of keep-alive connections.
+   */
+  public boolean isConnectionPoolEnabled() {
+    return false;
+  }
+
+  /**
+   * Gets the maximum number of pooled connections to a single host.
+   */
+  public int getMaxConnectionsPerHost() {
+    return DEFAULT_MAX_CONNECTIONS_PER_HOST;
+  }
+
+  /**
+   * Gets the maximum number of pooled connections across all hosts.
+   */
+  public int getMaxTotalConnections() {
+    return DEFAULT_MAX_TOTAL_CONNECTIONS;
+  }
+
+  /**
+   * Gets the time in milliseconds after which an idle pooled connection is closed.
+   */
+  public int getConnectionIdleTimeout() {
+    return DEFAULT_CONNECTION_IDLE_TIMEOUT;
+  }
+
+  /**
+   * Gets the timeout in milliseconds for establishing a pooled connection.
+   */
+  public int getConnectTimeout() {
+    return DEFAULT_CONNECT_TIMEOUT;
+  }
+
+  /**
+   * Returns if generated beans should be serialized from precomputed serialization plans instead
+   * of the reflective bean serializer of the SOAP framework.
+   */
+  public boolean isCompiledSerializersEnabled() {
+    return false;
+  }
+
+  /**
+   * Gets the names of the response fields whose string values are interned when deserialized,
+   * optionally qualified by a simple class name. Default is none.
+   */
+  public String[] getInternedFields() {
+    return new String[0];
+  }
+
+  /**
+   * Gets the maximum number of canonical strings held for interning response fields.
+   */
+  public int getInternedStringsMaxSize() {
+    return DEFAULT_INTERNED_STRINGS_MAX_SIZE;
+  }
 }
@@ -19,10 +19,21 @@ import com.google.api.ads.common.lib.client.AdsServiceDescriptor;
 import com.google.api.ads.common.lib.client.AdsSession;
 import com.google.api.ads.common.lib.exception.ServiceException;
 import com.google.api.ads.common.lib.factory.helper.AdsServiceClientFactoryHelper;
+import com.google.common.base.Stopwatch;
+import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 
 import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import javax.inject.Inject;
 
@@ -77,6 +88,69 @@ public class AdsServiceClientFactory<C extends AdsServiceClient<S, D>,
     return createProxy(interfaceClass, adsServiceClient);
   }
 
+  /**
+   * Warms up the given service interfaces in parallel so that the first call
+   * made through a client of each service does not pay for class loading,
+   * SOAP client creation, and SOAP framework configuration. Failures are
+   * recorded in the returned report rather than thrown, since warming up is
+   * only an optimization.
+   *
+   * @param interfaceClasses the class types of the clients to warm up
+   * @return the time spent per service and any failures
+   * @throws ServiceException if the calling thread was interrupted while
+   *     waiting for the warm-up to complete
+   */
+  public WarmUpReport warmUp(Class<?>... interfaceClasses) throws ServiceException {
+    Stopwatch totalStopwatch = Stopwatch.createStarted();
+    Map<Class<?>, Long> serviceTimesMillis = Maps.newLinkedHashMap();
+    Map<Class<?>, Throwable> failures = Maps.newLinkedHashMap();
+    if (interfaceClasses.length > 0) {
+      int threadCount =
+          Math.min(interfaceClasses.length, Runtime.getRuntime().availableProcessors());
+      ExecutorService executorService = Executors.newFixedThreadPool(threadCount,
+          new ThreadFactoryBuilder().setDaemon(true).setNameFormat("ads-warm-up-%d").build());
+      try {
+        Map<Class<?>, Future<Long>> futures = Maps.newLinkedHashMap();
+        for (final Class<?> interfaceClass : interfaceClasses) {
+          futures.put(interfaceClass, executorService.submit(new Callable<Long>() {
+            @Override
+            public Long call() {
+              return warmUpServiceClient(interfaceClass);
+            }
+          }));
+        }
+        for (Entry<Class<?>, Future<Long>> future : futures.entrySet()) {
+          try {
+            serviceTimesMillis.put(future.getKey(), future.getValue().get());
+          } catch (ExecutionException e) {
+            failures.put(future.getKey(), e.getCause());
+          }
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new ServiceException("Interrupted while warming up services.", e);
+      } finally {
+        executorService.shutdownNow();
+      }
+    }
+    return new WarmUpReport(
+        totalStopwatch.elapsed(TimeUnit.MILLISECONDS), serviceTimesMillis, failures);
+  }
+
+  /**
+   * Warms up a single service interface.
+   *
+   * @return the time spent in milliseconds
+   */
+  private long warmUpServiceClient(Class<?> interfaceClass) {
+    Stopwatch stopwatch = Stopwatch.createStarted();
+    String version = adsServiceFactoryHelper.determineVersion(interfaceClass);
+    D adsServiceDescriptor =
+        adsServiceFactoryHelper.createServiceDescriptor(interfaceClass, version);
+    adsServiceFactoryHelper.warmUpServiceClient(adsServiceDescriptor);
+    return stopwatch.elapsed(TimeUnit.MILLISECONDS);
+  }
+
   /**
    * Creates the proxy for the {@link AdsServiceClient}.
    *
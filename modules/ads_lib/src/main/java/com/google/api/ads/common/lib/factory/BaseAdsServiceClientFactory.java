@@ -80,4 +80,15 @@ public abstract class BaseAdsServiceClientFactory<C extends AdsServiceClient<S,
       throws ServiceException {
     return adsServiceClientFactory.getServiceClient(adsSession, interfaceClass);
   }
+
+  /**
+   * Warms up the given service interfaces in parallel.
+   *
+   * @param interfaceClasses the class types of the clients to warm up
+   * @return the time spent per service and any failures
+   * @see AdsServiceClientFactory#warmUp(Class...)
+   */
+  public WarmUpReport warmUp(Class<?>... interfaceClasses) throws ServiceException {
+    return adsServiceClientFactory.warmUp(interfaceClasses);
+  }
 }
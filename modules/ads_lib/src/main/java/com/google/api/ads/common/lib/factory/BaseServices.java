@@ -57,4 +57,22 @@ public abstract class BaseServices<C extends AdsServiceClient<S, D>,
   public <T> T get(S session, Class<T> interfaceClass) {
     return factory.getServiceClientAsInterface(session, interfaceClass);
   }
+
+  /**
+   * Loads the classes, SOAP clients, and SOAP framework configuration of the
+   * given services in parallel, so that the first call made through each
+   * service does not pay for them. Intended for short-lived processes that
+   * know up front which services they will use.
+   *
+   * <p>
+   * Warming up is best effort: services that fail to warm up are reported in
+   * {@link WarmUpReport#getFailures()} and can still be used.
+   * </p>
+   *
+   * @param serviceInterfaces the service interface classes to warm up
+   * @return the time spent per service and any failures
+   */
+  public WarmUpReport warmUp(Class<?>... serviceInterfaces) {
+    return factory.warmUp(serviceInterfaces);
+  }
 }
@@ -0,0 +1,77 @@
+// Copyright 2016 Google Inc. All Rights Reserved.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.api.ads.common.lib.factory;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableMap;
+
+import java.util.Map;
+
+/**
+ * Report of a call to {@link BaseServices#warmUp(Class...)}.
+ */
+public final class WarmUpReport {
+
+  private final long totalTimeMillis;
+  private final ImmutableMap<Class<?>, Long> serviceTimesMillis;
+  private final ImmutableMap<Class<?>, Throwable> failures;
+
+  WarmUpReport(long totalTimeMillis, Map<Class<?>, Long> serviceTimesMillis,
+      Map<Class<?>, Throwable> failures) {
+    this.totalTimeMillis = totalTimeMillis;
+    this.serviceTimesMillis = ImmutableMap.copyOf(serviceTimesMillis);
+    this.failures = ImmutableMap.copyOf(failures);
+  }
+
+  /**
+   * Gets the elapsed wall clock time of the warm-up in milliseconds.
+   */
+  public long getTotalTimeMillis() {
+    return totalTimeMillis;
+  }
+
+  /**
+   * Gets the time in milliseconds spent warming up each service interface that
+   * was warmed up successfully, in the order the interfaces were requested.
+   */
+  public Map<Class<?>, Long> getServiceTimesMillis() {
+    return serviceTimesMillis;
+  }
+
+  /**
+   * Gets the cause of the failure for each service interface that could not be
+   * warmed up. Such services are still usable, but their first call pays the
+   * full initialization cost.
+   */
+  public Map<Class<?>, Throwable> getFailures() {
+    return failures;
+  }
+
+  /**
+   * Returns {@code true} if every requested service interface was warmed up.
+   */
+  public boolean isSuccessful() {
+    return failures.isEmpty();
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(this)
+        .add("totalTimeMillis", totalTimeMillis)
+        .add("serviceTimesMillis", serviceTimesMillis)
+        .add("failures", failures)
+        .toString();
+  }
+}
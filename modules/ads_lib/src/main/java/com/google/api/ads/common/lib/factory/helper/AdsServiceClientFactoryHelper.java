@@ -52,6 +52,15 @@ public interface AdsServiceClientFactoryHelper<C extends AdsServiceClient<S, D>,
    C createAdsServiceClient(D adsServiceDescriptor, S adsSession)
       throws ServiceException;
 
+   /**
+    * Creates a SOAP client for the descriptor and performs the one-time
+    * framework work for its service ahead of the first call.
+    *
+    * @param adsServiceDescriptor the ads service descriptor
+    * @throws ServiceException if there was a problem warming up the client
+    */
+   void warmUpServiceClient(D adsServiceDescriptor) throws ServiceException;
+
    /**
     * Determines what API version an ads service belongs to.
     *
@@ -78,6 +78,29 @@ public abstract class BaseAdsServiceClientFactoryHelper<C extends AdsServiceClie
     return adsServiceClient;
   }
 
+  /**
+   * Creates a SOAP client for the descriptor and warms it up through the SOAP
+   * client handler. The SOAP client is discarded afterwards.
+   *
+   * @param adsServiceDescriptor descriptor with information on ads service
+   * @throws ServiceException if the SOAP client could not be created or warmed
+   *     up
+   */
+  @Override
+  public void warmUpServiceClient(D adsServiceDescriptor) throws ServiceException {
+    warmUpSoapClient(soapClientHandler, createSoapClient(adsServiceDescriptor));
+  }
+
+  /**
+   * Captures the SOAP client type of the handler so the SOAP client created by
+   * the same handler can be passed back to it.
+   */
+  @SuppressWarnings("unchecked")
+  private static <T> void warmUpSoapClient(SoapClientHandlerInterface<T> soapClientHandler,
+      Object soapClient) {
+    soapClientHandler.warmUpSoapClient((T) soapClient);
+  }
+
   /**
    * Creates the service client from the factory, descriptor, and SOAP client.
    */
@@ -18,7 +18,7 @@ import com.google.api.ads.common.lib.auth.AuthorizationHeaderProvider;
 import com.google.api.ads.common.lib.client.AdsSession;
 import com.google.api.ads.common.lib.exception.AuthenticationException;
 
-import java.util.HashMap;
+import java.util.Collections;
 
 import javax.inject.Inject;
 
@@ -28,6 +28,8 @@ import javax.inject.Inject;
  */
 public class AuthorizationHeaderHandler {
 
+  private static final String AUTHORIZATION_HEADER = "Authorization";
+
   @SuppressWarnings("rawtypes") /* See constructor comments. */
   private final SoapClientHandlerInterface soapClientHandler;
   private final AuthorizationHeaderProvider authorizationHeaderProvider;
@@ -61,13 +63,10 @@ public class AuthorizationHeaderHandler {
   @SuppressWarnings("unchecked") /* See constructor comments. */
   public void setAuthorization(Object soapClient, AdsSession adsSession)
       throws AuthenticationException {
-    final String authorizationHeader =
+    String authorizationHeader =
         authorizationHeaderProvider.getAuthorizationHeader(adsSession,
             soapClientHandler.getEndpointAddress(soapClient));
-    soapClientHandler.putAllHttpHeaders(soapClient, new HashMap<String, String>() {
-      {
-        put("Authorization", authorizationHeader);
-      }
-    });
+    soapClientHandler.putAllHttpHeaders(soapClient,
+        Collections.singletonMap(AUTHORIZATION_HEADER, authorizationHeader));
   }
 }
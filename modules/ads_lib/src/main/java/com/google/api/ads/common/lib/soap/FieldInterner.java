@@ -0,0 +1,212 @@
+// Copyright 2016 Google Inc. All Rights Reserved.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.api.ads.common.lib.soap;
+
+import com.google.api.ads.common.lib.conf.AdsLibConfiguration;
+import com.google.api.ads.common.lib.utils.StringInterner;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSetMultimap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import javax.inject.Inject;
+
+/**
+ * Interns the configured string fields of deserialized response objects in a
+ * {@link StringInterner} shared by all calls, so that values repeated throughout large pages, such
+ * as criterion types, currency codes or label names, are kept once on the heap.
+ *
+ * <p>A configured field is either a field name, such as {@code currencyCode}, which is interned in
+ * objects of any class, or a field name qualified by the simple name of the class declaring it or
+ * of one of its subclasses, such as {@code Label.name}. Fields of type {@code String},
+ * {@code String[]} and {@code List<String>} are interned. Enum values need no interning, since
+ * the SOAP frameworks deserialize them to shared constants.
+ */
+public class FieldInterner {
+
+  /**
+   * Name of the SOAP client property under which the field interner used by the SOAP framework's
+   * deserializers is set.
+   */
+  public static final String PROPERTY = FieldInterner.class.getName();
+
+  private static final Logger logger = LoggerFactory.getLogger(FieldInterner.class);
+
+  private final ImmutableSet<String> unqualifiedFieldNames;
+  private final ImmutableSetMultimap<String, String> qualifiedFieldNames;
+  private final StringInterner stringInterner;
+  private final ConcurrentMap<Class<?>, List<Field>> internedFieldsByClass =
+      new ConcurrentHashMap<Class<?>, List<Field>>();
+
+  /**
+   * Constructor.
+   *
+   * @param adsLibConfiguration the configuration with the interned fields and the maximum size of
+   *     the interning table
+   */
+  @Inject
+  public FieldInterner(AdsLibConfiguration adsLibConfiguration) {
+    this(Arrays.asList(adsLibConfiguration.getInternedFields()),
+        adsLibConfiguration.getInternedStringsMaxSize());
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param fieldNames the names of the fields to intern, optionally qualified by a simple class
+   *     name
+   * @param maxSize the maximum number of canonical strings held by the interning table
+   */
+  public FieldInterner(Iterable<String> fieldNames, int maxSize) {
+    ImmutableSet.Builder<String> unqualified = ImmutableSet.builder();
+    ImmutableSetMultimap.Builder<String, String> qualified = ImmutableSetMultimap.builder();
+    for (String fieldName : fieldNames) {
+      fieldName = fieldName.trim();
+      if (fieldName.isEmpty()) {
+        continue;
+      }
+      int separator = fieldName.lastIndexOf('.');
+      if (separator < 0) {
+        unqualified.add(fieldName);
+      } else {
+        qualified.put(fieldName.substring(0, separator), fieldName.substring(separator + 1));
+      }
+    }
+    this.unqualifiedFieldNames = unqualified.build();
+    this.qualifiedFieldNames = qualified.build();
+    this.stringInterner = new StringInterner(maxSize);
+  }
+
+  /**
+   * Returns if any field is configured to be interned.
+   */
+  public boolean isEnabled() {
+    return !unqualifiedFieldNames.isEmpty() || !qualifiedFieldNames.isEmpty();
+  }
+
+  /**
+   * Interns the configured fields of an object, leaving the objects it refers to unchanged.
+   *
+   * @param object the deserialized object, which may be {@code null}
+   * @throws IllegalStateException if a field could not be accessed
+   */
+  public void internFields(Object object) {
+    if (object == null || !isEnabled()) {
+      return;
+    }
+    for (Field field : getInternedFields(object.getClass())) {
+      try {
+        internField(object, field);
+      } catch (IllegalAccessException e) {
+        throw new IllegalStateException("Could not intern field " + field, e);
+      }
+    }
+  }
+
+  private void internField(Object object, Field field) throws IllegalAccessException {
+    Object value = field.get(object);
+    if (value instanceof String) {
+      String canonical = stringInterner.intern((String) value);
+      if (canonical != value) {
+        field.set(object, canonical);
+      }
+    } else if (value instanceof String[]) {
+      String[] values = (String[]) value;
+      for (int i = 0; i < values.length; i++) {
+        values[i] = stringInterner.intern(values[i]);
+      }
+    } else if (value instanceof List<?>) {
+      @SuppressWarnings("unchecked") // Only String elements are replaced.
+      ListIterator<Object> values = ((List<Object>) value).listIterator();
+      while (values.hasNext()) {
+        Object element = values.next();
+        if (element instanceof String) {
+          values.set(stringInterner.intern((String) element));
+        }
+      }
+    }
+  }
+
+  /**
+   * Gets the accessible fields of a class, including inherited fields, that are interned.
+   */
+  List<Field> getInternedFields(Class<?> clazz) {
+    List<Field> result = internedFieldsByClass.get(clazz);
+    if (result == null) {
+      ImmutableSet.Builder<String> classNames = ImmutableSet.builder();
+      for (Class<?> c = clazz; c != null; c = c.getSuperclass()) {
+        classNames.add(c.getSimpleName());
+      }
+      Set<String> fieldNames = getFieldNames(classNames.build());
+      ImmutableList.Builder<Field> fields = ImmutableList.builder();
+      for (Class<?> c = clazz; c != null && !fieldNames.isEmpty(); c = c.getSuperclass()) {
+        for (Field field : c.getDeclaredFields()) {
+          if (!Modifier.isStatic(field.getModifiers()) && fieldNames.contains(field.getName())
+              && isInternable(field.getType())) {
+            field.setAccessible(true);
+            fields.add(field);
+          }
+        }
+      }
+      result = fields.build();
+      // Computing the fields more than once is harmless, so no lock is needed.
+      internedFieldsByClass.put(clazz, result);
+    }
+    return result;
+  }
+
+  private Set<String> getFieldNames(Set<String> classNames) {
+    ImmutableSet.Builder<String> fieldNames =
+        ImmutableSet.<String>builder().addAll(unqualifiedFieldNames);
+    for (String className : classNames) {
+      fieldNames.addAll(qualifiedFieldNames.get(className));
+    }
+    return fieldNames.build();
+  }
+
+  private static boolean isInternable(Class<?> type) {
+    return type == String.class || type == String[].class || List.class.isAssignableFrom(type);
+  }
+
+  /**
+   * Gets the interning table shared by all calls, which reports the memory saved.
+   */
+  public StringInterner getStringInterner() {
+    return stringInterner;
+  }
+
+  /**
+   * Logs the interning statistics at the {@code debug} level, if any field is interned.
+   */
+  public void logStats() {
+    if (isEnabled() && logger.isDebugEnabled()) {
+      logger.debug("Interned {} strings, replacing {} duplicates and saving about {} bytes. "
+          + "{} canonical strings are held.", stringInterner.getLookupCount(),
+          stringInterner.getReplacedCount(), stringInterner.getEstimatedBytesSaved(),
+          stringInterner.size());
+    }
+  }
+}
@@ -36,6 +36,14 @@ public abstract class SoapClientHandler<T> implements SoapClientHandlerInterface
    */
   protected SoapClientHandler() {}
 
+  /**
+   * Warms up the SOAP client. The default implementation does nothing.
+   *
+   * @see SoapClientHandlerInterface#warmUpSoapClient(Object)
+   */
+  @Override
+  public void warmUpSoapClient(T soapClient) {}
+
   /**
    * Processes the arguments such that they will be ready to be passed into the
    * supplied SOAP client method. This method can be overridden in the case that
@@ -43,6 +43,17 @@ public interface SoapClientHandlerInterface<T> {
    */
   T createSoapClient(SoapServiceDescriptor soapServiceDescriptor) throws ServiceException;
 
+  /**
+   * Performs the one-time work the SOAP framework would otherwise do on the
+   * first call made through a client of the same service, such as loading
+   * engine configuration and type metadata. This method should do nothing if
+   * the framework has no such work.
+   *
+   * @param soapClient the SOAP client to warm up
+   * @throws ServiceException if there was a problem warming up the SOAP client
+   */
+  void warmUpSoapClient(T soapClient) throws ServiceException;
+
   /**
    * Executes the {@code SoapCall}, which has a reference to a
    * {@code SoapClientHandlerInterface}.
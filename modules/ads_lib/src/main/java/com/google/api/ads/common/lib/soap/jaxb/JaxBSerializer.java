@@ -17,6 +17,8 @@ package com.google.api.ads.common.lib.soap.jaxb;
 import org.apache.commons.lang.SerializationException;
 
 import java.io.StringWriter;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBElement;
@@ -25,7 +27,8 @@ import javax.xml.bind.Marshaller;
 import javax.xml.namespace.QName;
 
 /**
- * Serializes a JAX-WS generated class to XML.
+ * Serializes a JAX-WS generated class to XML. Instances are thread-safe, and reuse the marshallers
+ * they create once a serialization completes.
  *
  *
  * @param <T> Class we are serializing.
@@ -35,6 +38,7 @@ public class JaxBSerializer<T> {
   private final Class<T> clazz;
   private final QName qname;
   private final JAXBContext jaxbContext;
+  private final Queue<Marshaller> idleMarshallers = new ConcurrentLinkedQueue<Marshaller>();
 
   /**
    * Constructs a JAX-WS serializer for the specified class.
@@ -73,12 +77,17 @@ public class JaxBSerializer<T> {
    */
   public String serialize(T object, boolean includeXmlDeclaration) {
     try {
-      Marshaller marshaller = jaxbContext.createMarshaller();
+      // Marshallers are not thread-safe, so each one is only used by one serialization at a time.
+      Marshaller marshaller = idleMarshallers.poll();
+      if (marshaller == null) {
+        marshaller = jaxbContext.createMarshaller();
+      }
       marshaller.setProperty(Marshaller.JAXB_FRAGMENT, Boolean.valueOf(!includeXmlDeclaration));
       JAXBElement<T> element =
           new JAXBElement<T>(qname, clazz, object);
       StringWriter stringWriter = new StringWriter();
       marshaller.marshal(element, stringWriter);
+      idleMarshallers.offer(marshaller);
       return stringWriter.toString();
     } catch (JAXBException e) {
       throw new SerializationException(String.format("Could not serialize object: %s.", object), e);
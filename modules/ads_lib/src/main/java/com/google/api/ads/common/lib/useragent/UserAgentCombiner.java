@@ -17,7 +17,9 @@ package com.google.api.ads.common.lib.useragent;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Function;
 import com.google.common.base.Joiner;
+import com.google.common.base.Objects;
 import com.google.common.base.Predicates;
+import com.google.common.base.Strings;
 import com.google.common.collect.Collections2;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Iterables;
@@ -33,8 +35,15 @@ import javax.annotation.Nullable;
  */
 public class UserAgentCombiner {
 
-  private ImmutableList<UserAgentProvider> userAgentProviders;
-  
+  private static final Joiner USER_AGENT_JOINER = Joiner.on(", ").skipNulls();
+
+  private final ImmutableList<UserAgentProvider> userAgentProviders;
+  @Nullable private final UserAgentProvider dynamicUserAgentProvider;
+
+  // Memoized values. Both are immutable, so a racing thread at worst recomputes them.
+  private volatile String libraryUserAgent;
+  private volatile CombinedUserAgent lastCombinedUserAgent;
+
   /**
    * Constructor that builds an instance based on a list of underlying user agent
    * providers. The {@code xyzHolder} parameters are for user agent providers that
@@ -47,6 +56,8 @@ public class UserAgentCombiner {
    * @param frameworkProviderHolder holder for the framework user agent provider
    * @param runtimeUserAgentProvider the runtime user agent provider
    * @param buildTypeUserAgentProvider the build type user agent provider
+   * @param adsUtilitiesUserAgentProvider the ads utilities user agent provider, whose value
+   *        changes between calls
    */
   @Inject
   public UserAgentCombiner(ProductUserAgentProvider productUserAgentProvider,
@@ -58,7 +69,7 @@ public class UserAgentCombiner {
       AdsUtilitiesUserAgentProvider adsUtilitiesUserAgentProvider) {
     this(Lists.newArrayList(productUserAgentProvider, productFrameworkProviderHolder.value,
         adsLibraryUserAgentProvider, frameworkProviderHolder.value, runtimeUserAgentProvider,
-        buildTypeUserAgentProvider, adsUtilitiesUserAgentProvider));
+        buildTypeUserAgentProvider), adsUtilitiesUserAgentProvider);
   }
 
   /**
@@ -70,9 +81,24 @@ public class UserAgentCombiner {
   @VisibleForTesting
   UserAgentCombiner(
       List<UserAgentProvider> userAgentProviders) {
+    this(userAgentProviders, null);
+  }
+
+  /**
+   * Constructor used for testing.
+   *
+   * @param userAgentProviders the user agent providers whose values never change, and so are
+   *        only queried once
+   * @param dynamicUserAgentProvider the provider queried on every call, whose value is appended
+   *        after the others. May be null.
+   */
+  @VisibleForTesting
+  UserAgentCombiner(List<UserAgentProvider> userAgentProviders,
+      @Nullable UserAgentProvider dynamicUserAgentProvider) {
     // Remove any nulls from the list, since ImmutableList does not support null entries.
     this.userAgentProviders = ImmutableList.<UserAgentProvider>copyOf(
         Collections2.filter(userAgentProviders, Predicates.notNull()));
+    this.dynamicUserAgentProvider = dynamicUserAgentProvider;
   }
 
   /**
@@ -80,19 +106,61 @@ public class UserAgentCombiner {
    * {@code "(UserAgent1,UserAgent2,UserAgent3,...)"}
    */
   public String getUserAgent(String nonLibraryUserAgent) {
+    String dynamicUserAgent =
+        dynamicUserAgentProvider == null ? null : dynamicUserAgentProvider.getUserAgent();
+    if (dynamicUserAgent == null) {
+      CombinedUserAgent combinedUserAgent = lastCombinedUserAgent;
+      if (combinedUserAgent == null
+          || !Objects.equal(combinedUserAgent.nonLibraryUserAgent, nonLibraryUserAgent)) {
+        combinedUserAgent = new CombinedUserAgent(nonLibraryUserAgent,
+            combine(nonLibraryUserAgent, null));
+        lastCombinedUserAgent = combinedUserAgent;
+      }
+      return combinedUserAgent.userAgent;
+    }
+    return combine(nonLibraryUserAgent, dynamicUserAgent);
+  }
+
+  private String combine(String nonLibraryUserAgent, @Nullable String dynamicUserAgent) {
     StringBuilder agentStringBuilder = new StringBuilder();
     agentStringBuilder.append(nonLibraryUserAgent);
     agentStringBuilder.append(" (");
-    agentStringBuilder.append(Joiner.on(", ").skipNulls().join(
-        Iterables.transform(userAgentProviders, new Function<UserAgentProvider, String>() {
-          @Override
-          public String apply(@Nullable UserAgentProvider input) {
-            return input == null ? null : input.getUserAgent();
-          }})));
+    agentStringBuilder.append(USER_AGENT_JOINER.join(
+        Strings.emptyToNull(getLibraryUserAgent()), dynamicUserAgent));
     agentStringBuilder.append(')');
     return agentStringBuilder.toString();
   }
-  
+
+  /**
+   * Gets the user agents of the providers whose values never change, joined once on first use.
+   */
+  private String getLibraryUserAgent() {
+    String result = libraryUserAgent;
+    if (result == null) {
+      result = USER_AGENT_JOINER.join(
+          Iterables.transform(userAgentProviders, new Function<UserAgentProvider, String>() {
+            @Override
+            public String apply(@Nullable UserAgentProvider input) {
+              return input == null ? null : input.getUserAgent();
+            }}));
+      libraryUserAgent = result;
+    }
+    return result;
+  }
+
+  /**
+   * The full user agent most recently built for a non-library user agent.
+   */
+  private static final class CombinedUserAgent {
+    private final String nonLibraryUserAgent;
+    private final String userAgent;
+
+    private CombinedUserAgent(String nonLibraryUserAgent, String userAgent) {
+      this.nonLibraryUserAgent = nonLibraryUserAgent;
+      this.userAgent = userAgent;
+    }
+  }
+
   /**
    * Holder that allows for <em>optional</em> injection of a {@link
    * ProductFrameworkUserAgentProvider}.
@@ -0,0 +1,84 @@
+// Copyright 2016 Google Inc. All Rights Reserved.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+
+package com.google.api.ads.common.lib.utils;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.ListenableFutureTask;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+
+/**
+ * Helper class to run blocking service calls on an executor.
+ *
+ * <p>This is a plain executor wrapper: each call runs through the service's normal blocking call
+ * path on an executor thread, and holds that thread until the response has been read. It is not
+ * an asynchronous transport and does not reduce the number of threads needed for concurrent
+ * calls. Calls through one service object are serialized by that service, so running calls in
+ * parallel requires one service object per concurrent call.
+ */
+public final class ExecutorServiceCalls {
+
+  /**
+   * Default constructor.
+   */
+  private ExecutorServiceCalls() {}
+
+  /**
+   * Submits a blocking call of {@code method} on {@code service} with {@code args} to the given
+   * executor.
+   *
+   * @param service the service object, as returned by the services factory
+   * @param method the service interface method to call
+   * @param args the method arguments
+   * @param executor the executor to run the call on
+   * @return a future of the method's return value, which fails with the exception thrown by
+   *     the method if the call fails
+   * @throws IllegalArgumentException if {@code method} is not a method of {@code service}
+   */
+  public static ListenableFuture<Object> submit(final Object service, final Method method,
+      final Object[] args, Executor executor) {
+    checkNotNull(service, "Null service");
+    checkNotNull(method, "Null method");
+    checkNotNull(executor, "Null executor");
+    checkArgument(method.getDeclaringClass().isInstance(service),
+        "%s is not a method of %s", method, service.getClass());
+    ListenableFutureTask<Object> task = ListenableFutureTask.create(new Callable<Object>() {
+      @Override
+      public Object call() throws Exception {
+        try {
+          return method.invoke(service, args);
+        } catch (InvocationTargetException e) {
+          Throwable cause = e.getCause();
+          if (cause instanceof Exception) {
+            throw (Exception) cause;
+          }
+          if (cause instanceof Error) {
+            throw (Error) cause;
+          }
+          throw e;
+        }
+      }
+    });
+    executor.execute(task);
+    return task;
+  }
+}
@@ -0,0 +1,101 @@
+// Copyright 2016 Google Inc. All Rights Reserved.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+
+package com.google.api.ads.common.lib.utils;
+
+import com.google.common.collect.ImmutableSet;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InvalidClassException;
+import java.io.ObjectInputStream;
+import java.io.ObjectStreamClass;
+
+/**
+ * {@link ObjectInputStream} that checks the class of each object in the stream before the object
+ * is created, and rejects every class that is not in one of the accepted packages. Besides the
+ * classes of the accepted packages, the stream only accepts boxed primitives and arrays of
+ * accepted or primitive types.
+ *
+ * <p>Use this stream to read objects written by the library itself, such as generated API beans.
+ * Generated beans do not declare a {@code serialVersionUID}, so objects can only be read by the
+ * same version of the library that wrote them.
+ */
+public class LookAheadObjectInputStream extends ObjectInputStream {
+
+  private static final ImmutableSet<String> ACCEPTED_JAVA_CLASSES = ImmutableSet.of(
+      Boolean.class.getName(),
+      Byte.class.getName(),
+      Character.class.getName(),
+      Short.class.getName(),
+      Integer.class.getName(),
+      Long.class.getName(),
+      Float.class.getName(),
+      Double.class.getName(),
+      Number.class.getName(),
+      String.class.getName());
+
+  private final ImmutableSet<String> acceptedPackages;
+
+  /**
+   * Creates a stream that reads from {@code in}.
+   *
+   * @param in the stream to read from
+   * @param acceptedPackages the names of the packages whose classes may be read, excluding their
+   *     subpackages
+   * @throws IOException if the stream header could not be read
+   */
+  public LookAheadObjectInputStream(InputStream in, String... acceptedPackages)
+      throws IOException {
+    super(in);
+    this.acceptedPackages = ImmutableSet.copyOf(acceptedPackages);
+  }
+
+  @Override
+  protected Class<?> resolveClass(ObjectStreamClass desc)
+      throws IOException, ClassNotFoundException {
+    if (!isAccepted(desc.getName())) {
+      throw new InvalidClassException(desc.getName(), "Class not accepted in this stream");
+    }
+    return super.resolveClass(desc);
+  }
+
+  @Override
+  protected Class<?> resolveProxyClass(String[] interfaces) throws IOException {
+    throw new InvalidClassException("Proxy classes are not accepted in this stream");
+  }
+
+  private boolean isAccepted(String className) {
+    String componentName = className;
+    while (componentName.startsWith("[")) {
+      componentName = componentName.substring(1);
+    }
+    if (componentName.length() != className.length()) {
+      // Array types are named [I for int[] and [Lcom.example.Bean; for Bean[].
+      if (componentName.length() == 1) {
+        return "ZBCSIJFD".contains(componentName);
+      }
+      if (!componentName.startsWith("L") || !componentName.endsWith(";")) {
+        return false;
+      }
+      componentName = componentName.substring(1, componentName.length() - 1);
+    }
+    if (ACCEPTED_JAVA_CLASSES.contains(componentName)) {
+      return true;
+    }
+    int packageEnd = componentName.lastIndexOf('.');
+    return packageEnd > 0 && acceptedPackages.contains(componentName.substring(0, packageEnd));
+  }
+}
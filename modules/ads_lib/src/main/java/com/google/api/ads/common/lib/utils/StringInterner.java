@@ -0,0 +1,128 @@
+// Copyright 2016 Google Inc. All Rights Reserved.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.api.ads.common.lib.utils;
+
+import com.google.common.base.Preconditions;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded, weak-valued table of canonical strings. Interning a string returns the canonical
+ * instance equal to it, so that equal strings received many times share a single instance on the
+ * heap.
+ *
+ * <p>Unlike {@link String#intern()}, a canonical string is dropped from the table once nothing
+ * else refers to it, and the table never holds more than its maximum number of strings, evicting
+ * the least recently used ones first. The table also counts how many duplicate instances it
+ * replaced, and estimates the memory saved by doing so.
+ *
+ * <p>Instances are safe for use by multiple threads.
+ */
+public class StringInterner {
+
+  /**
+   * Estimated size in bytes of a {@code String} object, excluding its characters.
+   */
+  private static final int STRING_OBJECT_SIZE = 24;
+  /**
+   * Estimated size in bytes of an empty {@code char[]}.
+   */
+  private static final int CHAR_ARRAY_HEADER_SIZE = 16;
+
+  private final ConcurrentMap<String, String> canonicalStrings;
+  private final AtomicLong lookupCount = new AtomicLong();
+  private final AtomicLong replacedCount = new AtomicLong();
+  private final AtomicLong estimatedBytesSaved = new AtomicLong();
+
+  /**
+   * Constructor.
+   *
+   * @param maxSize the maximum number of canonical strings held by the table
+   * @throws IllegalArgumentException if {@code maxSize} is negative
+   */
+  public StringInterner(int maxSize) {
+    Preconditions.checkArgument(maxSize >= 0, "Negative maximum size: %s", maxSize);
+    Cache<String, String> cache =
+        CacheBuilder.newBuilder().maximumSize(maxSize).weakValues().build();
+    this.canonicalStrings = cache.asMap();
+  }
+
+  /**
+   * Gets the canonical instance of the given string, making it the canonical instance if there is
+   * none.
+   *
+   * @param value the string to intern
+   * @return the canonical string equal to {@code value}, or {@code null} if {@code value} is
+   *     {@code null}
+   */
+  public String intern(String value) {
+    if (value == null) {
+      return null;
+    }
+    lookupCount.incrementAndGet();
+    // The key is a separate instance so that the table alone does not keep the canonical
+    // string, which is its weakly referenced value, from being collected.
+    String canonical = canonicalStrings.putIfAbsent(new String(value), value);
+    if (canonical == null) {
+      return value;
+    }
+    if (canonical != value) {
+      replacedCount.incrementAndGet();
+      estimatedBytesSaved.addAndGet(estimateSize(value));
+    }
+    return canonical;
+  }
+
+  /**
+   * Gets the number of non-null strings interned.
+   */
+  public long getLookupCount() {
+    return lookupCount.get();
+  }
+
+  /**
+   * Gets the number of interned strings that were replaced by an equal canonical instance.
+   */
+  public long getReplacedCount() {
+    return replacedCount.get();
+  }
+
+  /**
+   * Gets the estimated number of bytes taken by the strings that were replaced by an equal
+   * canonical instance, which can be reclaimed once nothing else refers to the replaced strings.
+   */
+  public long getEstimatedBytesSaved() {
+    return estimatedBytesSaved.get();
+  }
+
+  /**
+   * Gets the approximate number of canonical strings held by the table.
+   */
+  public int size() {
+    return canonicalStrings.size();
+  }
+
+  /**
+   * Estimates the heap size in bytes of a string and its characters, assuming 8-byte aligned
+   * objects and 2-byte characters.
+   */
+  static long estimateSize(String value) {
+    long charArraySize = CHAR_ARRAY_HEADER_SIZE + 2L * value.length();
+    return STRING_OBJECT_SIZE + ((charArraySize + 7) / 8) * 8;
+  }
+}
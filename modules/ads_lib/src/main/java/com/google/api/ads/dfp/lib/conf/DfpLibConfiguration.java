@@ -51,10 +51,60 @@ public class DfpLibConfiguration extends AdsLibConfiguration {
   public boolean isCompressionEnabled() {
     return config.getBoolean(KEY_PREFIX + "." + USE_COMPRESSION_POSTFIX, false);
   }
+
+  @Override
+  public int getCompressionThreshold() {
+    return config.getInt(
+        KEY_PREFIX + "." + COMPRESSION_THRESHOLD_POSTFIX, DEFAULT_COMPRESSION_THRESHOLD);
+  }
   
   @Override
   public int getSoapRequestTimeout() {
     return config.getInt(
         KEY_PREFIX + "." + SOAP_REQUEST_TIMEOUT_POSTFIX, DEFAULT_SOAP_REQUEST_TIMEOUT);
   }
+
+  @Override
+  public boolean isConnectionPoolEnabled() {
+    return config.getBoolean(KEY_PREFIX + "." + USE_CONNECTION_POOL_POSTFIX, false);
+  }
+
+  @Override
+  public int getMaxConnectionsPerHost() {
+    return config.getInt(
+        KEY_PREFIX + "." + MAX_CONNECTIONS_PER_HOST_POSTFIX, DEFAULT_MAX_CONNECTIONS_PER_HOST);
+  }
+
+  @Override
+  public int getMaxTotalConnections() {
+    return config.getInt(
+        KEY_PREFIX + "." + MAX_TOTAL_CONNECTIONS_POSTFIX, DEFAULT_MAX_TOTAL_CONNECTIONS);
+  }
+
+  @Override
+  public int getConnectionIdleTimeout() {
+    return config.getInt(
+        KEY_PREFIX + "." + CONNECTION_IDLE_TIMEOUT_POSTFIX, DEFAULT_CONNECTION_IDLE_TIMEOUT);
+  }
+
+  @Override
+  public int getConnectTimeout() {
+    return config.getInt(KEY_PREFIX + "." + CONNECT_TIMEOUT_POSTFIX, DEFAULT_CONNECT_TIMEOUT);
+  }
+
+  @Override
+  public boolean isCompiledSerializersEnabled() {
+    return config.getBoolean(KEY_PREFIX + "." + USE_COMPILED_SERIALIZERS_POSTFIX, false);
+  }
+
+  @Override
+  public String[] getInternedFields() {
+    return config.getStringArray(KEY_PREFIX + "." + INTERNED_FIELDS_POSTFIX);
+  }
+
+  @Override
+  public int getInternedStringsMaxSize() {
+    return config.getInt(KEY_PREFIX + "." + INTERNED_STRINGS_MAX_SIZE_POSTFIX,
+        DEFAULT_INTERNED_STRINGS_MAX_SIZE);
+  }
 }
@@ -18,6 +18,7 @@ import static org.hamcrest.Matchers.containsString;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.when;
 
 import com.google.api.ads.adwords.lib.client.AdWordsSession;
@@ -39,6 +40,7 @@ import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
 import org.junit.runner.RunWith;
 import org.junit.runners.Parameterized;
 import org.junit.runners.Parameterized.Parameters;
@@ -46,9 +48,11 @@ import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
 
+import java.io.File;
 import java.io.InputStream;
 import java.net.ConnectException;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Tests for {@link AdHocReportDownloadHelper}.
@@ -78,6 +82,9 @@ public class AdHocReportDownloadHelperTest extends MockHttpIntegrationTest {
   @Rule
   public ExpectedException thrown = ExpectedException.none();
 
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
   /** Enum of download format that's not version-specific */
   enum TestDownloadFormat {
     CSV
@@ -366,6 +373,67 @@ public class AdHocReportDownloadHelperTest extends MockHttpIntegrationTest {
     assertThat("format parameter incorrect", lastRequestBody, containsString("__fmt=CSV"));
   }
   
+  /**
+   * Tests that a report downloaded with a report cache is served from the cache the next time it
+   * is requested.
+   */
+  @Test
+  public void testDownloadReportWithReportCache() throws Exception {
+    when(reportRequest.getRequestType()).thenReturn(RequestType.AWQL);
+    when(reportRequest.getReportRequestString()).thenReturn(
+        "SELECT CampaignId FROM CAMPAIGN_PERFORMANCE_REPORT DURING THIS_MONTH");
+    AdWordsSession session = new AdWordsSession.Builder()
+        .withUserAgent("TEST_APP")
+        .withOAuth2Credential(credential)
+        .withEndpoint(testHttpServer.getServerUrl())
+        .withDeveloperToken("TEST_DEVELOPER_TOKEN")
+        .withClientCustomerId("TEST_CLIENT_CUSTOMER_ID")
+        .build();
+    ReportCache reportCache =
+        new ReportCache(temporaryFolder.newFolder(), 1024 * 1024, TimeUnit.HOURS.toMillis(1));
+    helper = new AdHocReportDownloadHelper(session, VERSION, reportCache);
+
+    testHttpServer.setMockResponseBodies(Lists.newArrayList("test", "changed"));
+    for (int i = 0; i < 2; i++) {
+      assertEquals("test", Streams.readAll(
+          helper.downloadReport(reportRequest).getInputStream(),
+          AdHocReportDownloadHelper.REPORT_CHARSET));
+    }
+
+    assertEquals(1, reportCache.getHitCount());
+    assertEquals(1, reportCache.getMissCount());
+  }
+
+  /**
+   * Tests that a report is still downloaded if the report cache cannot be written.
+   */
+  @Test
+  public void testDownloadReportWithUnwritableReportCache() throws Exception {
+    when(reportRequest.getRequestType()).thenReturn(RequestType.AWQL);
+    when(reportRequest.getReportRequestString()).thenReturn(
+        "SELECT CampaignId FROM CAMPAIGN_PERFORMANCE_REPORT DURING THIS_MONTH");
+    AdWordsSession session = new AdWordsSession.Builder()
+        .withUserAgent("TEST_APP")
+        .withOAuth2Credential(credential)
+        .withEndpoint(testHttpServer.getServerUrl())
+        .withDeveloperToken("TEST_DEVELOPER_TOKEN")
+        .withClientCustomerId("TEST_CLIENT_CUSTOMER_ID")
+        .build();
+    File cacheDirectory = temporaryFolder.newFolder();
+    ReportCache reportCache =
+        new ReportCache(cacheDirectory, 1024 * 1024, TimeUnit.HOURS.toMillis(1));
+    // Replaces the directory with a file, so that the cache cannot be written even by root.
+    assertTrue(cacheDirectory.delete());
+    assertTrue(cacheDirectory.createNewFile());
+    helper = new AdHocReportDownloadHelper(session, VERSION, reportCache);
+
+    testHttpServer.setMockResponseBody("test");
+    assertEquals("test", Streams.readAll(
+        helper.downloadReport(reportRequest).getInputStream(),
+        AdHocReportDownloadHelper.REPORT_CHARSET));
+    assertEquals(0, reportCache.getSize());
+  }
+
   @Test
   public void testHandleSuccessfulResponse() throws Exception {
     String responseBody = "Successful,report,response";
@@ -0,0 +1,177 @@
+// Copyright 2016 Google Inc. All Rights Reserved.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.api.ads.adwords.lib.utils;
+
+import static org.junit.Assert.assertEquals;
+
+import com.google.api.ads.adwords.lib.client.reporting.ReportingConfiguration;
+import com.google.common.base.Charsets;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Tests for {@link ReportAggregator}.
+ */
+@RunWith(JUnit4.class)
+public class ReportAggregatorTest {
+
+  /**
+   * Tests that rows of several reports are grouped and summed, skipping the header and summary
+   * rows.
+   */
+  @Test
+  public void testAggregate() throws Exception {
+    ReportAggregator aggregator = new ReportAggregator.Builder()
+        .groupBy("Day", "Labels")
+        .sumLong("Cost")
+        .sumDouble("Conversions")
+        .build();
+
+    aggregator.aggregate(toStream("\"REPORT (Oct 1, 2016-Oct 2, 2016)\"\n"
+        + "Day,Campaign,Labels,Cost,Conversions\n"
+        + "2016-10-01,A,red,100,1.5\n"
+        + "2016-10-01,B,red,200,--\n"
+        + "2016-10-02,A,\"red, blue\",50,0.25\n"
+        + "Total,--,--,350,1.75\n"), Charsets.UTF_8);
+    aggregator.aggregate(toStream("\"REPORT (Oct 1, 2016-Oct 2, 2016)\"\n"
+        + "Day,Campaign,Labels,Cost,Conversions\n"
+        + "2016-10-01,C,red,1000,2\n"
+        + "Total,--,--,1000,2\n"), Charsets.UTF_8);
+
+    AggregatedReport report = aggregator.getAggregatedReport();
+    Map<String, String> rows = toMap(report);
+    assertEquals(2, report.getRowCount());
+    assertEquals("1300/3.5", rows.get("2016-10-01|red"));
+    assertEquals("50/0.25", rows.get("2016-10-02|red, blue"));
+  }
+
+  /**
+   * Tests that TSV reports without header and summary rows are aggregated.
+   */
+  @Test
+  public void testAggregate_tsvWithoutHeaderAndSummary() throws Exception {
+    ReportAggregator aggregator = new ReportAggregator.Builder()
+        .groupBy("Day")
+        .sumLong("Clicks")
+        .withSeparator('\t')
+        .withReportingConfiguration(new ReportingConfiguration.Builder()
+            .skipReportHeader(true)
+            .skipReportSummary(true)
+            .build())
+        .build();
+
+    aggregator.aggregate(
+        toStream("Day\tClicks\n2016-10-01\t3\n2016-10-01\t4\n"), Charsets.UTF_8);
+
+    AggregatedReport report = aggregator.getAggregatedReport();
+    StringWriter writer = new StringWriter();
+    report.writeCsv(writer);
+    assertEquals("\"Day\",\"Clicks\"\n\"2016-10-01\",\"7\"\n", writer.toString());
+  }
+
+  /**
+   * Tests that reports aggregated concurrently are all merged.
+   */
+  @Test
+  public void testAggregate_concurrent() throws Exception {
+    final ReportAggregator aggregator = new ReportAggregator.Builder()
+        .groupBy("Day")
+        .sumLong("Clicks")
+        .build();
+    final int reportCount = 64;
+    final int dayCount = 100;
+    ExecutorService executorService = Executors.newFixedThreadPool(8);
+    try {
+      List<Future<Void>> futures = new ArrayList<Future<Void>>();
+      for (int i = 0; i < reportCount; i++) {
+        futures.add(executorService.submit(new Callable<Void>() {
+          @Override
+          public Void call() throws IOException {
+            StringBuilder report = new StringBuilder("REPORT\nDay,Clicks\n");
+            for (int day = 0; day < dayCount; day++) {
+              report.append(day).append(",").append(day).append("\n");
+            }
+            aggregator.aggregate(toStream(report.append("Total,0\n").toString()), Charsets.UTF_8);
+            return null;
+          }
+        }));
+      }
+      for (Future<Void> future : futures) {
+        future.get();
+      }
+    } finally {
+      executorService.shutdown();
+    }
+
+    AggregatedReport report = aggregator.getAggregatedReport();
+    assertEquals(dayCount, report.getRowCount());
+    for (int row = 0; row < report.getRowCount(); row++) {
+      long day = Long.parseLong(report.getDimension(row, 0));
+      assertEquals(day * reportCount, report.getLongMetric(row, 0));
+    }
+  }
+
+  /**
+   * Tests that a report missing one of the columns fails.
+   */
+  @Test(expected = IOException.class)
+  public void testAggregate_missingColumn() throws Exception {
+    ReportAggregator aggregator = new ReportAggregator.Builder()
+        .groupBy("Day")
+        .sumLong("Cost")
+        .build();
+    aggregator.aggregate(toStream("REPORT\nDay,Clicks\n2016-10-01,1\nTotal,1\n"), Charsets.UTF_8);
+  }
+
+  /**
+   * Tests that an aggregator requires a metric column.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void testBuild_noMetric() {
+    new ReportAggregator.Builder().groupBy("Day").build();
+  }
+
+  private static InputStream toStream(String report) {
+    return new ByteArrayInputStream(report.getBytes(Charsets.UTF_8));
+  }
+
+  /**
+   * Maps the dimension values of each row, joined by {@code |}, to its metrics, joined by
+   * {@code /}.
+   */
+  private static Map<String, String> toMap(AggregatedReport report) {
+    Map<String, String> rows = new HashMap<String, String>();
+    for (int row = 0; row < report.getRowCount(); row++) {
+      rows.put(report.getDimension(row, 0) + "|" + report.getDimension(row, 1),
+          report.getLongMetric(row, 0) + "/" + report.getDoubleMetric(row, 0));
+    }
+    return rows;
+  }
+}
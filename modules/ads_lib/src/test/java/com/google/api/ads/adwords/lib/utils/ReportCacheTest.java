@@ -0,0 +1,351 @@
+// Copyright 2016 Google Inc. All Rights Reserved.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.api.ads.adwords.lib.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import com.google.api.ads.adwords.lib.client.reporting.ReportingConfiguration;
+import com.google.api.ads.adwords.lib.jaxb.v201609.DownloadFormat;
+import com.google.api.ads.adwords.lib.utils.ReportRequest.RequestType;
+import com.google.api.ads.common.lib.utils.Streams;
+import com.google.common.base.Charsets;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.io.File;
+import java.io.FilenameFilter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.net.HttpURLConnection;
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Tests for {@link ReportCache}.
+ */
+@RunWith(JUnit4.class)
+public class ReportCacheTest {
+
+  private static final long TIME_TO_LIVE = TimeUnit.HOURS.toMillis(1);
+  /** 2016-10-15 12:00 in the local time zone. */
+  private static final long NOW = parseDate("20161015").getTime() + TimeUnit.HOURS.toMillis(12);
+
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  private File directory;
+  private AtomicLong currentTime;
+
+  @Before
+  public void setUp() throws Exception {
+    directory = temporaryFolder.newFolder("reports");
+    currentTime = new AtomicLong(NOW);
+  }
+
+  /**
+   * Tests that a cached report is served with its charset and format, and that hits and misses
+   * are counted.
+   */
+  @Test
+  public void testGetAndPut() throws Exception {
+    ReportCache reportCache = createReportCache(1024 * 1024);
+    ReportRequest request = new TestReportRequest(RequestType.AWQL, "SELECT CampaignId FROM X");
+    String key = ReportCache.createKey("v201609", "123", null, request);
+    assertNull(reportCache.get(key));
+
+    RawReportDownloadResponse putResponse =
+        reportCache.put(key, request, createResponse("1,2,3"));
+    assertEquals("1,2,3", Streams.readAll(putResponse.getInputStream(), Charsets.UTF_8));
+
+    RawReportDownloadResponse cachedResponse = reportCache.get(key);
+    assertEquals(HttpURLConnection.HTTP_OK, cachedResponse.getHttpStatus());
+    assertEquals(Charsets.UTF_8, cachedResponse.getCharset());
+    assertEquals("CSV", cachedResponse.getDownloadFormat());
+    assertEquals("1,2,3", Streams.readAll(cachedResponse.getInputStream(), Charsets.UTF_8));
+    assertEquals(1, reportCache.getHitCount());
+    assertEquals(1, reportCache.getMissCount());
+    assertTrue(reportCache.getSize() > 0);
+  }
+
+  /**
+   * Tests that reports whose data may still change expire after the time to live, while reports
+   * of closed date ranges do not.
+   */
+  @Test
+  public void testGet_expiration() throws Exception {
+    ReportCache reportCache = createReportCache(1024 * 1024);
+    ReportRequest openRequest =
+        new TestReportRequest(RequestType.AWQL, "SELECT CampaignId FROM X DURING LAST_7_DAYS");
+    ReportRequest closedRequest = new TestReportRequest(
+        RequestType.AWQL, "SELECT CampaignId FROM X DURING 20160901,20160930");
+    String openKey = ReportCache.createKey("v201609", "123", null, openRequest);
+    String closedKey = ReportCache.createKey("v201609", "123", null, closedRequest);
+    readAll(reportCache.put(openKey, openRequest, createResponse("open")));
+    readAll(reportCache.put(closedKey, closedRequest, createResponse("closed")));
+
+    currentTime.addAndGet(TIME_TO_LIVE + 1);
+    assertNull(reportCache.get(openKey));
+    assertEquals("closed",
+        Streams.readAll(reportCache.get(closedKey).getInputStream(), Charsets.UTF_8));
+  }
+
+  /**
+   * Tests that a report is only cached once it is read to the end, and is served while it is
+   * read one byte at a time.
+   */
+  @Test
+  public void testPut_cachedAtEndOfReport() throws Exception {
+    ReportCache reportCache = createReportCache(1024 * 1024);
+    ReportRequest request = new TestReportRequest(RequestType.AWQL, "SELECT CampaignId FROM X");
+    String key = ReportCache.createKey("v201609", "123", null, request);
+
+    InputStream inputStream = reportCache.put(key, request, createResponse("abc")).getInputStream();
+    assertEquals('a', inputStream.read());
+    inputStream.close();
+    assertNull(reportCache.get(key));
+
+    inputStream = reportCache.put(key, request, createResponse("abc")).getInputStream();
+    assertEquals('a', inputStream.read());
+    assertEquals('b', inputStream.read());
+    assertEquals('c', inputStream.read());
+    assertEquals(-1, inputStream.read());
+    assertEquals("abc", readAll(reportCache.get(key)));
+    assertEquals(0, directory.list(new SuffixFilter(".tmp")).length);
+  }
+
+  /**
+   * Tests that an error reading the download is thrown to the reader, and that the partial report
+   * is not cached.
+   */
+  @Test
+  public void testPut_downloadReadError() throws Exception {
+    ReportCache reportCache = createReportCache(1024 * 1024);
+    ReportRequest request = new TestReportRequest(RequestType.AWQL, "SELECT CampaignId FROM X");
+    String key = ReportCache.createKey("v201609", "123", null, request);
+    InputStream failingStream = new SequenceInputStream(
+        Streams.wrapString("partial", Charsets.UTF_8), new InputStream() {
+          @Override
+          public int read() throws IOException {
+            throw new IOException("Connection reset");
+          }
+        });
+
+    try {
+      readAll(reportCache.put(key, request, new RawReportDownloadResponse(
+          HttpURLConnection.HTTP_OK, failingStream, Charsets.UTF_8, "CSV")));
+      fail("Should have thrown an exception");
+    } catch (IOException e) {
+      assertEquals("Connection reset", e.getMessage());
+    }
+    assertNull(reportCache.get(key));
+    assertEquals(0, directory.list(new SuffixFilter(".tmp")).length);
+  }
+
+  /**
+   * Tests that a report is still served if the cache cannot be written.
+   */
+  @Test
+  public void testPut_cacheNotWritable() throws Exception {
+    ReportCache reportCache = createReportCache(1024 * 1024);
+    ReportRequest request = new TestReportRequest(RequestType.AWQL, "SELECT CampaignId FROM X");
+    String key = ReportCache.createKey("v201609", "123", null, request);
+    // Replaces the cache directory with a file, so no entry can be created in it.
+    assertTrue(directory.delete());
+    assertTrue(directory.createNewFile());
+
+    assertEquals("1,2,3", readAll(reportCache.put(key, request, createResponse("1,2,3"))));
+    assertNull(reportCache.get(key));
+  }
+
+  /**
+   * Tests that the least recently used reports are evicted when the cache exceeds its size.
+   */
+  @Test
+  public void testPut_evictsLeastRecentlyUsed() throws Exception {
+    ReportCache reportCache = createReportCache(Long.MAX_VALUE);
+    String first = putReport(reportCache, "first");
+    long entrySize = reportCache.getSize();
+
+    reportCache = createReportCache(entrySize * 2 + entrySize / 2);
+    String second = putReport(reportCache, "second");
+    // Uses the first report so the second is the least recently used one.
+    reportCache.get(first).getInputStream().close();
+    String third = putReport(reportCache, "third");
+
+    assertEquals(1, reportCache.getEvictionCount());
+    assertNull(reportCache.get(second));
+    assertTrue(reportCache.get(first) != null);
+    assertTrue(reportCache.get(third) != null);
+  }
+
+  /**
+   * Tests that the reports cached by another instance are reused.
+   */
+  @Test
+  public void testConstructor_reusesCachedReports() throws Exception {
+    String key = putReport(createReportCache(1024 * 1024), "report");
+    new File(directory, "leftover.tmp").createNewFile();
+
+    ReportCache reportCache = createReportCache(1024 * 1024);
+    assertEquals("report",
+        Streams.readAll(reportCache.get(key).getInputStream(), Charsets.UTF_8));
+    assertFalse(new File(directory, "leftover.tmp").exists());
+  }
+
+  /**
+   * Tests that the key depends on every setting that changes the report contents.
+   */
+  @Test
+  public void testCreateKey() {
+    ReportRequest request = new TestReportRequest(RequestType.AWQL, "SELECT  A\nFROM X");
+    String key = ReportCache.createKey("v201609", "123", null, request);
+    assertEquals(key, ReportCache.createKey(
+        "v201609", "123", null, new TestReportRequest(RequestType.AWQL, " SELECT A FROM X ")));
+    assertNotEquals(key, ReportCache.createKey("v201607", "123", null, request));
+    assertNotEquals(key, ReportCache.createKey("v201609", "456", null, request));
+    assertNotEquals(key, ReportCache.createKey("v201609", "123",
+        new ReportingConfiguration.Builder().skipReportHeader(true).build(), request));
+  }
+
+  /**
+   * Tests that whitespace is only collapsed outside of string literals.
+   */
+  @Test
+  public void testNormalizeAwql() {
+    assertEquals("SELECT A FROM X WHERE B = 'a  b' AND C = \"c\td\"",
+        ReportCache.normalizeAwql(
+            "\n SELECT A\n  FROM X\tWHERE B = 'a  b'   AND C = \"c\td\" \n"));
+  }
+
+  /**
+   * Tests the detection of closed date ranges in AWQL queries and report definitions.
+   */
+  @Test
+  public void testIsClosedDateRange() {
+    assertTrue(ReportCache.isClosedDateRange(
+        new TestReportRequest(RequestType.AWQL, "SELECT A FROM X DURING 20161001,20161013"), NOW));
+    assertFalse(ReportCache.isClosedDateRange(
+        new TestReportRequest(RequestType.AWQL, "SELECT A FROM X DURING 20161001,20161014"), NOW));
+    assertFalse(ReportCache.isClosedDateRange(
+        new TestReportRequest(RequestType.AWQL, "SELECT A FROM X DURING LAST_MONTH"), NOW));
+    assertFalse(ReportCache.isClosedDateRange(
+        new TestReportRequest(RequestType.AWQL, "SELECT A FROM X"), NOW));
+
+    String customDateDefinition = "<reportDefinition><selector><dateRange><min>20161001</min>"
+        + "<max>20161010</max></dateRange></selector><dateRangeType>%s</dateRangeType>"
+        + "</reportDefinition>";
+    assertTrue(ReportCache.isClosedDateRange(new TestReportRequest(
+        RequestType.XML, String.format(customDateDefinition, "CUSTOM_DATE")), NOW));
+    assertFalse(ReportCache.isClosedDateRange(new TestReportRequest(
+        RequestType.XML, String.format(customDateDefinition, "LAST_7_DAYS")), NOW));
+  }
+
+  private ReportCache createReportCache(long maxSize) {
+    return new ReportCache(directory, maxSize, TIME_TO_LIVE) {
+      @Override
+      long currentTimeMillis() {
+        return currentTime.get();
+      }
+    };
+  }
+
+  private String putReport(ReportCache reportCache, String contents) throws IOException {
+    ReportRequest request =
+        new TestReportRequest(RequestType.AWQL, "SELECT A FROM " + contents);
+    String key = ReportCache.createKey("v201609", "123", null, request);
+    readAll(reportCache.put(key, request, createResponse(contents)));
+    return key;
+  }
+
+  private static String readAll(RawReportDownloadResponse response) throws IOException {
+    InputStream inputStream = response.getInputStream();
+    try {
+      return Streams.readAll(inputStream, Charsets.UTF_8);
+    } finally {
+      inputStream.close();
+    }
+  }
+
+  private static RawReportDownloadResponse createResponse(String contents) {
+    return new RawReportDownloadResponse(HttpURLConnection.HTTP_OK,
+        Streams.wrapString(contents, Charsets.UTF_8), Charsets.UTF_8, "CSV");
+  }
+
+  private static Date parseDate(String date) {
+    try {
+      return new SimpleDateFormat("yyyyMMdd").parse(date);
+    } catch (ParseException e) {
+      throw new IllegalArgumentException(e);
+    }
+  }
+
+  /**
+   * Accepts the names of files with a suffix.
+   */
+  private static class SuffixFilter implements FilenameFilter {
+    private final String suffix;
+
+    SuffixFilter(String suffix) {
+      this.suffix = suffix;
+    }
+
+    @Override
+    public boolean accept(File dir, String name) {
+      return name.endsWith(suffix);
+    }
+  }
+
+  /**
+   * Report request with a fixed request string.
+   */
+  private static class TestReportRequest implements ReportRequest {
+    private final RequestType requestType;
+    private final String requestString;
+
+    TestReportRequest(RequestType requestType, String requestString) {
+      this.requestType = requestType;
+      this.requestString = requestString;
+    }
+
+    @Override
+    public String getReportRequestString() {
+      return requestString;
+    }
+
+    @Override
+    public Enum<?> getDownloadFormat() {
+      return DownloadFormat.CSV;
+    }
+
+    @Override
+    public RequestType getRequestType() {
+      return requestType;
+    }
+  }
+}
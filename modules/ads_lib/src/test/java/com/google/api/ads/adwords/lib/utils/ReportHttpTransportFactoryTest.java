@@ -0,0 +1,88 @@
+// Copyright 2016 Google Inc. All Rights Reserved.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.api.ads.adwords.lib.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.when;
+
+import com.google.api.ads.adwords.lib.conf.AdWordsLibConfiguration;
+import com.google.api.client.http.HttpTransport;
+import com.google.api.client.http.apache.ApacheHttpTransport;
+import com.google.api.client.http.javanet.NetHttpTransport;
+
+import org.apache.http.HttpHost;
+import org.apache.http.conn.params.ConnManagerParams;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.params.HttpConnectionParams;
+import org.apache.http.params.HttpParams;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+/**
+ * Tests for {@link ReportHttpTransportFactory}.
+ */
+@RunWith(JUnit4.class)
+public class ReportHttpTransportFactoryTest {
+
+  @Mock
+  private AdWordsLibConfiguration configuration;
+
+  private HttpTransport defaultTransport;
+
+  @Before
+  public void setUp() {
+    MockitoAnnotations.initMocks(this);
+    defaultTransport = new NetHttpTransport();
+  }
+
+  /**
+   * Tests that the default transport is used if the report connection pool is disabled.
+   */
+  @Test
+  public void testCreateReportHttpTransport_poolDisabled() {
+    when(configuration.isReportConnectionPoolEnabled()).thenReturn(false);
+    assertSame(defaultTransport,
+        ReportHttpTransportFactory.createReportHttpTransport(configuration, defaultTransport));
+  }
+
+  /**
+   * Tests that the pooled transport is sized from the configuration.
+   */
+  @Test
+  public void testCreateReportHttpTransport_poolEnabled() throws Exception {
+    when(configuration.isReportConnectionPoolEnabled()).thenReturn(true);
+    when(configuration.getMaxConnectionsPerHost()).thenReturn(3);
+    when(configuration.getMaxTotalConnections()).thenReturn(7);
+    when(configuration.getConnectTimeout()).thenReturn(1234);
+    when(configuration.getConnectionIdleTimeout()).thenReturn(5000);
+
+    HttpTransport transport =
+        ReportHttpTransportFactory.createReportHttpTransport(configuration, defaultTransport);
+    assertTrue(transport instanceof ApacheHttpTransport);
+    HttpParams params = ((ApacheHttpTransport) transport).getHttpClient().getParams();
+    assertEquals(7, ConnManagerParams.getMaxTotalConnections(params));
+    assertEquals(3, ConnManagerParams.getMaxConnectionsPerRoute(params)
+        .getMaxForRoute(new HttpRoute(new HttpHost("adwords.google.com", 443, "https"))));
+    assertEquals(1234, HttpConnectionParams.getConnectionTimeout(params));
+    assertTrue(HttpConnectionParams.isStaleCheckingEnabled(params));
+    transport.shutdown();
+  }
+}
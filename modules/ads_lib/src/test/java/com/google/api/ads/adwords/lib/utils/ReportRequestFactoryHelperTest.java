@@ -164,7 +164,7 @@ public class ReportRequestFactoryHelperTest {
       throws ValidationException, AuthenticationException, IOException {
     LowLevelHttpRequest lowLevelRequest = Mockito.mock(LowLevelHttpRequest.class);
     HttpTransport transport = createTransport(lowLevelRequest);
-    when(internals.getHttpTransport()).thenReturn(transport);
+    when(internals.getReportHttpTransport()).thenReturn(transport);
     when(adWordsLibConfiguration.getReportDownloadTimeout()).thenReturn(42);
     AdWordsSession session = new AdWordsSession.Builder()
         .withDeveloperToken("foodevtoken")
@@ -223,6 +223,39 @@ public class ReportRequestFactoryHelperTest {
     }
   }
 
+  /**
+   * Tests that the headers of each request reflect changes to the session made after earlier
+   * requests, and that the authorization header is fetched for every request.
+   */
+  @Test
+  public void testGetHttpRequestFactory_sessionChanged()
+      throws ValidationException, AuthenticationException, IOException {
+    LowLevelHttpRequest lowLevelRequest = Mockito.mock(LowLevelHttpRequest.class);
+    when(internals.getReportHttpTransport()).thenReturn(createTransport(lowLevelRequest));
+    AdWordsSession session = new AdWordsSession.Builder()
+        .withDeveloperToken("foodevtoken")
+        .withClientCustomerId("fooclientcustomerid")
+        .withOAuth2Credential(credential)
+        .withUserAgent("userAgent")
+        .withReportingConfiguration(reportingConfiguration)
+        .build();
+    when(authorizationHeaderProvider.getAuthorizationHeader(session, ENDPOINT_URL.build()))
+        .thenReturn("fooauthheader", "barauthheader");
+    ReportRequestFactoryHelper helper = new ReportRequestFactoryHelper(session, internals);
+
+    HttpHeaders firstHeaders = helper.getHttpRequestFactory(ENDPOINT_URL.build(), version)
+        .buildGetRequest(ENDPOINT_URL).getHeaders();
+    session.setClientCustomerId("barclientcustomerid");
+    HttpHeaders secondHeaders = helper.getHttpRequestFactory(ENDPOINT_URL.build(), version)
+        .buildGetRequest(ENDPOINT_URL).getHeaders();
+
+    assertEquals("fooclientcustomerid", firstHeaders.get("clientCustomerId"));
+    assertEquals("fooauthheader", firstHeaders.getAuthorization());
+    assertEquals("barclientcustomerid", secondHeaders.get("clientCustomerId"));
+    assertEquals("barauthheader", secondHeaders.getAuthorization());
+    assertEquals("foodevtoken", secondHeaders.get("developerToken"));
+  }
+
   private HttpTransport createTransport(final LowLevelHttpRequest request) {
     return new HttpTransport() {
       @Override
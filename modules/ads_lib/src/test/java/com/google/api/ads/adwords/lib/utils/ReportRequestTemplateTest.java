@@ -0,0 +1,95 @@
+// Copyright 2014 Google Inc. All Rights Reserved.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.api.ads.adwords.lib.utils;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.api.ads.adwords.lib.utils.ReportRequest.RequestType;
+import com.google.api.client.http.HttpContent;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.MockitoAnnotations;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+/**
+ * Tests for {@link ReportRequestTemplate}.
+ */
+@RunWith(JUnit4.class)
+public class ReportRequestTemplateTest {
+
+  @Mock
+  private ReportRequest reportRequest;
+
+  public enum MockDownloadFormat {
+    CSV
+  }
+
+  @Before
+  public void setUp() throws Exception {
+    MockitoAnnotations.initMocks(this);
+    Mockito.<Enum<?>>when(reportRequest.getDownloadFormat()).thenReturn(MockDownloadFormat.CSV);
+    when(reportRequest.getReportRequestString()).thenReturn("<reportDefinition/>");
+    when(reportRequest.getRequestType()).thenReturn(RequestType.XML);
+  }
+
+  /**
+   * Tests that the template encodes the same body as the request it was created from.
+   */
+  @Test
+  public void testGetHttpContent_matchesRequest() throws Exception {
+    byte[] expectedBody = toByteArray(
+        new ReportBodyProviderFactory().getReportBodyProvider(reportRequest).getHttpContent());
+
+    ReportRequestTemplate template = new ReportRequestTemplate(reportRequest);
+    HttpContent httpContent =
+        new ReportBodyProviderFactory().getReportBodyProvider(template).getHttpContent();
+
+    assertArrayEquals(expectedBody, toByteArray(httpContent));
+    assertEquals("application/x-www-form-urlencoded; charset=UTF-8", httpContent.getType());
+    assertEquals(expectedBody.length, httpContent.getLength());
+    assertEquals(MockDownloadFormat.CSV, template.getDownloadFormat());
+    assertEquals(RequestType.XML, template.getRequestType());
+  }
+
+  /**
+   * Tests that the request is only serialized once, however many times the template is used.
+   */
+  @Test
+  public void testGetHttpContent_serializesOnce() throws Exception {
+    ReportRequestTemplate template = new ReportRequestTemplate(reportRequest);
+    byte[] firstBody = toByteArray(template.getHttpContent());
+    byte[] secondBody = toByteArray(template.getHttpContent());
+
+    assertArrayEquals(firstBody, secondBody);
+    verify(reportRequest, times(1)).getReportRequestString();
+  }
+
+  private static byte[] toByteArray(HttpContent httpContent) throws IOException {
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    httpContent.writeTo(outputStream);
+    return outputStream.toByteArray();
+  }
+}
@@ -0,0 +1,320 @@
+// Copyright 2016 Google Inc. All Rights Reserved.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.api.ads.adwords.lib.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.api.ads.adwords.lib.client.reporting.ReportingConfiguration;
+import com.google.api.ads.adwords.lib.utils.DetailedReportDownloadResponseException.Builder;
+import com.google.api.ads.adwords.lib.utils.ShardedReportDownloadHelper.ShardRequestFactory;
+import com.google.api.ads.common.lib.exception.OAuthException;
+import com.google.api.ads.common.lib.utils.Streams;
+import com.google.common.base.Charsets;
+import com.google.common.collect.Range;
+
+import org.joda.time.LocalDate;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.util.List;
+
+/**
+ * Tests for {@link ShardedReportDownloadHelper} and {@link ShardedReportDownloadResponse}.
+ */
+@RunWith(JUnit4.class)
+public class ShardedReportDownloadHelperTest {
+
+  @Mock
+  private AdHocReportDownloadHelper adHocReportDownloadHelper;
+
+  @Mock
+  private Builder exceptionBuilder;
+
+  private ShardedReportDownloadHelper shardedReportDownloadHelper;
+
+  @Before
+  public void setUp() {
+    MockitoAnnotations.initMocks(this);
+    shardedReportDownloadHelper =
+        new ShardedReportDownloadHelper(adHocReportDownloadHelper, 2, 2, 0);
+  }
+
+  /**
+   * Tests that week and month shards are aligned to calendar weeks and months.
+   */
+  @Test
+  public void testSplitDateRange() {
+    LocalDate min = new LocalDate(2016, 9, 28);
+    LocalDate max = new LocalDate(2016, 10, 12);
+
+    assertEquals(15, ShardedReportDownloadHelper.splitDateRange(min, max, ReportShardSize.DAY)
+        .size());
+    List<Range<LocalDate>> weeks =
+        ShardedReportDownloadHelper.splitDateRange(min, max, ReportShardSize.WEEK);
+    assertEquals(3, weeks.size());
+    assertEquals(Range.closed(min, new LocalDate(2016, 10, 2)), weeks.get(0));
+    assertEquals(
+        Range.closed(new LocalDate(2016, 10, 3), new LocalDate(2016, 10, 9)), weeks.get(1));
+    assertEquals(Range.closed(new LocalDate(2016, 10, 10), max), weeks.get(2));
+    List<Range<LocalDate>> months =
+        ShardedReportDownloadHelper.splitDateRange(min, max, ReportShardSize.MONTH);
+    assertEquals(2, months.size());
+    assertEquals(Range.closed(min, new LocalDate(2016, 9, 30)), months.get(0));
+    assertEquals(Range.closed(new LocalDate(2016, 10, 1), max), months.get(1));
+  }
+
+  /**
+   * Tests that the shards are merged in order, with the header lines of the first shard only and
+   * without summary lines.
+   */
+  @Test
+  public void testDownloadReport_mergesShards() throws Exception {
+    when(adHocReportDownloadHelper.downloadReport(any(ReportRequest.class), any(Builder.class)))
+        .thenAnswer(new Answer<ReportDownloadResponse>() {
+          @Override
+          public ReportDownloadResponse answer(InvocationOnMock invocation) {
+            String month = ((ReportRequest) invocation.getArguments()[0]).getReportRequestString();
+            return createResponse("\"REPORT (" + month + ")\"\nDay,Clicks\n"
+                + month + "-01,1\n" + month + "-02,2\nTotal,3\n");
+          }
+        });
+
+    ShardedReportDownloadResponse response = shardedReportDownloadHelper.downloadReport(
+        "20160801", "20161015", ReportShardSize.MONTH, null, new TestShardRequestFactory(),
+        exceptionBuilder);
+
+    assertEquals(3, response.getShardCount());
+    assertEquals("\"REPORT (201608)\"\nDay,Clicks\n201608-01,1\n201608-02,2\n"
+        + "201609-01,1\n201609-02,2\n201610-01,1\n201610-02,2\n",
+        Streams.readAll(response.getInputStream(), Charsets.UTF_8));
+  }
+
+  /**
+   * Tests that the date range of the report header line is rewritten to the range of the whole
+   * report.
+   */
+  @Test
+  public void testDownloadReport_rewritesReportHeader() throws Exception {
+    when(adHocReportDownloadHelper.downloadReport(any(ReportRequest.class), any(Builder.class)))
+        .thenAnswer(new Answer<ReportDownloadResponse>() {
+          @Override
+          public ReportDownloadResponse answer(InvocationOnMock invocation) {
+            String month = ((ReportRequest) invocation.getArguments()[0]).getReportRequestString();
+            String range = "201608".equals(month) ? "Aug 1, 2016-Aug 31, 2016"
+                : "201609".equals(month) ? "Sep 1, 2016-Sep 30, 2016" : "Oct 1, 2016-Oct 15, 2016";
+            return createResponse("\"REPORT (" + range + ")\"\nDay,Clicks\n"
+                + month + "-01,1\nTotal,1\n");
+          }
+        });
+
+    ShardedReportDownloadResponse response = shardedReportDownloadHelper.downloadReport(
+        "20160801", "20161015", ReportShardSize.MONTH, null, new TestShardRequestFactory(),
+        exceptionBuilder);
+
+    assertEquals("\"REPORT (Aug 1, 2016-Oct 15, 2016)\"\nDay,Clicks\n201608-01,1\n"
+        + "201609-01,1\n201610-01,1\n",
+        Streams.readAll(response.getInputStream(), Charsets.UTF_8));
+  }
+
+  /**
+   * Tests that rows with quoted fields spanning several lines are merged intact.
+   */
+  @Test
+  public void testDownloadReport_multilineFields() throws Exception {
+    when(adHocReportDownloadHelper.downloadReport(any(ReportRequest.class), any(Builder.class)))
+        .thenAnswer(new Answer<ReportDownloadResponse>() {
+          @Override
+          public ReportDownloadResponse answer(InvocationOnMock invocation) {
+            String month = ((ReportRequest) invocation.getArguments()[0]).getReportRequestString();
+            return createResponse("\"REPORT\"\nDay,Ad\n"
+                + month + ",\"Line 1\nLine 2\"\n" + month + ",\"Total\nSale\"\nTotal,--\n");
+          }
+        });
+
+    ShardedReportDownloadResponse response = shardedReportDownloadHelper.downloadReport(
+        "20160801", "20160930", ReportShardSize.MONTH, null, new TestShardRequestFactory(),
+        exceptionBuilder);
+
+    assertEquals("\"REPORT\"\nDay,Ad\n201608,\"Line 1\nLine 2\"\n201608,\"Total\nSale\"\n"
+        + "201609,\"Line 1\nLine 2\"\n201609,\"Total\nSale\"\n",
+        Streams.readAll(response.getInputStream(), Charsets.UTF_8));
+  }
+
+  /**
+   * Tests that no lines are skipped if the reporting configuration skips headers and summaries.
+   */
+  @Test
+  public void testDownloadReport_skippedHeadersAndSummary() throws Exception {
+    when(adHocReportDownloadHelper.downloadReport(any(ReportRequest.class), any(Builder.class)))
+        .thenAnswer(new Answer<ReportDownloadResponse>() {
+          @Override
+          public ReportDownloadResponse answer(InvocationOnMock invocation) {
+            String day = ((ReportRequest) invocation.getArguments()[0]).getReportRequestString();
+            return createResponse(day + ",1");
+          }
+        });
+    ReportingConfiguration reportingConfiguration = new ReportingConfiguration.Builder()
+        .skipReportHeader(true)
+        .skipColumnHeader(true)
+        .skipReportSummary(true)
+        .build();
+
+    ShardedReportDownloadResponse response = shardedReportDownloadHelper.downloadReport(
+        "20161030", "20161101", ReportShardSize.DAY, reportingConfiguration,
+        new TestShardRequestFactory(), exceptionBuilder);
+
+    assertEquals("201610,1\n201610,1\n201611,1\n",
+        Streams.readAll(response.getInputStream(), Charsets.UTF_8));
+  }
+
+  /**
+   * Tests that a shard that fails with a server error is retried on its own.
+   */
+  @Test
+  public void testDownloadReport_retriesFailedShard() throws Exception {
+    when(adHocReportDownloadHelper.downloadReport(any(ReportRequest.class), any(Builder.class)))
+        .thenAnswer(new Answer<ReportDownloadResponse>() {
+          private boolean failed;
+
+          @Override
+          public ReportDownloadResponse answer(InvocationOnMock invocation) throws Exception {
+            String month = ((ReportRequest) invocation.getArguments()[0]).getReportRequestString();
+            synchronized (this) {
+              if ("201609".equals(month) && !failed) {
+                failed = true;
+                throw new ReportDownloadResponseException(HttpURLConnection.HTTP_UNAVAILABLE);
+              }
+            }
+            return createResponse("Day\n" + month + "\nTotal\n");
+          }
+        });
+    ReportingConfiguration reportingConfiguration =
+        new ReportingConfiguration.Builder().skipReportHeader(true).build();
+
+    ShardedReportDownloadResponse response = shardedReportDownloadHelper.downloadReport(
+        "20160801", "20160930", ReportShardSize.MONTH, reportingConfiguration,
+        new TestShardRequestFactory(), exceptionBuilder);
+
+    assertEquals("Day\n201608\n201609\n",
+        Streams.readAll(response.getInputStream(), Charsets.UTF_8));
+    verify(adHocReportDownloadHelper, times(3))
+        .downloadReport(any(ReportRequest.class), any(Builder.class));
+  }
+
+  /**
+   * Tests that a shard that fails with a client error is not retried, and fails the merged
+   * report.
+   */
+  @Test
+  public void testDownloadReport_failedShard() throws Exception {
+    ReportDownloadResponseException error =
+        new ReportDownloadResponseException(HttpURLConnection.HTTP_BAD_REQUEST);
+    when(adHocReportDownloadHelper.downloadReport(any(ReportRequest.class), any(Builder.class)))
+        .thenThrow(error);
+
+    ShardedReportDownloadResponse response = shardedReportDownloadHelper.downloadReport(
+        "20160801", "20160801", ReportShardSize.DAY, null, new TestShardRequestFactory(),
+        exceptionBuilder);
+
+    try {
+      Streams.readAll(response.getInputStream(), Charsets.UTF_8);
+      fail("Expected an IOException");
+    } catch (IOException e) {
+      assertSame(error, e.getCause());
+    }
+    verify(adHocReportDownloadHelper, times(1))
+        .downloadReport(any(ReportRequest.class), any(Builder.class));
+  }
+
+  /**
+   * Tests that a shard that fails with an I/O error is retried, but not one that fails with an
+   * authorization error.
+   */
+  @Test
+  public void testDownloadReport_retriesOnlyTransientReportExceptions() throws Exception {
+    ReportException authorizationError = new ReportException(
+        "Problem with OAuth authorization.", new OAuthException("Invalid token"));
+    when(adHocReportDownloadHelper.downloadReport(any(ReportRequest.class), any(Builder.class)))
+        .thenThrow(new ReportException("Problem sending data.", new IOException()))
+        .thenThrow(authorizationError);
+
+    ShardedReportDownloadResponse response = shardedReportDownloadHelper.downloadReport(
+        "20160801", "20160801", ReportShardSize.DAY, null, new TestShardRequestFactory(),
+        exceptionBuilder);
+
+    try {
+      Streams.readAll(response.getInputStream(), Charsets.UTF_8);
+      fail("Expected an IOException");
+    } catch (IOException e) {
+      assertSame(authorizationError, e.getCause());
+    }
+    verify(adHocReportDownloadHelper, times(2))
+        .downloadReport(any(ReportRequest.class), any(Builder.class));
+  }
+
+  /**
+   * Tests that a date range ending before it starts is rejected.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void testDownloadReport_invalidDateRange() {
+    shardedReportDownloadHelper.downloadReport("20161002", "20161001", ReportShardSize.DAY, null,
+        new TestShardRequestFactory(), exceptionBuilder);
+  }
+
+  private static ReportDownloadResponse createResponse(String body) {
+    return new ReportDownloadResponse(new RawReportDownloadResponse(HttpURLConnection.HTTP_OK,
+        new ByteArrayInputStream(body.getBytes(Charsets.UTF_8)), Charsets.UTF_8, "CSV"));
+  }
+
+  /**
+   * Creates shard requests whose request string is the year and month of the shard.
+   */
+  private static class TestShardRequestFactory implements ShardRequestFactory {
+    @Override
+    public ReportRequest createShardRequest(final String minDate, String maxDate) {
+      return new ReportRequest() {
+        @Override
+        public String getReportRequestString() {
+          return minDate.substring(0, 6);
+        }
+
+        @Override
+        public Enum<?> getDownloadFormat() {
+          return null;
+        }
+
+        @Override
+        public RequestType getRequestType() {
+          return RequestType.AWQL;
+        }
+      };
+    }
+  }
+}
@@ -21,6 +21,7 @@ import static org.mockito.Matchers.isA;
 import static org.mockito.Mockito.when;
 
 import com.google.api.ads.adwords.lib.client.AdWordsSession;
+import com.google.api.ads.adwords.lib.jaxb.v201605.DateRange;
 import com.google.api.ads.adwords.lib.jaxb.v201605.DownloadFormat;
 import com.google.api.ads.adwords.lib.jaxb.v201605.ReportDefinition;
 import com.google.api.ads.adwords.lib.jaxb.v201605.ReportDefinitionDateRangeType;
@@ -32,6 +33,7 @@ import com.google.api.ads.adwords.lib.utils.ReportDownloadResponse;
 import com.google.api.ads.adwords.lib.utils.ReportDownloadResponseException;
 import com.google.api.ads.adwords.lib.utils.ReportException;
 import com.google.api.ads.adwords.lib.utils.ReportRequest;
+import com.google.api.ads.adwords.lib.utils.ReportShardSize;
 import com.google.api.ads.adwords.lib.utils.v201605.DetailedReportDownloadResponseException.Builder;
 
 import org.junit.Before;
@@ -179,4 +181,31 @@ public class ReportDownloaderTest {
     reportDownloader.setReportDownloadTimeout(42);
     assertEquals(42, reportDownloader.getReportDownloadTimeout());
   }
-}
\ No newline at end of file
+
+  /**
+   * Tests that a report is not sharded if it is not segmented by a date field whose periods fit
+   * in the shards, since each shard would return its own partial row for each entity.
+   */
+  @Test
+  public void testDownloadShardedReport_noDateSegment() throws Exception {
+    ReportDefinition reportDefinition = new ReportDefinition();
+    reportDefinition.setSelector(new Selector());
+    reportDefinition.getSelector().getFields()
+        .addAll(Arrays.asList("CampaignId", "Month", "Impressions"));
+    DateRange dateRange = new DateRange();
+    dateRange.setMin("20160801");
+    dateRange.setMax("20161015");
+    reportDefinition.getSelector().setDateRange(dateRange);
+    reportDefinition.setDateRangeType(ReportDefinitionDateRangeType.CUSTOM_DATE);
+    reportDefinition.setDownloadFormat(DownloadFormat.CSV);
+    reportDefinition.setReportType(ReportDefinitionReportType.CAMPAIGN_PERFORMANCE_REPORT);
+
+    try {
+      reportDownloader.downloadShardedReport(reportDefinition, ReportShardSize.WEEK);
+      fail("Should have thrown an exception");
+    } catch (IllegalArgumentException e) {
+      assertThat(e.getMessage(), org.hamcrest.Matchers.containsString("[Date, Week]"));
+    }
+    Mockito.verifyZeroInteractions(adHocDownloadHelper);
+  }
+}
@@ -14,8 +14,13 @@
 
 package com.google.api.ads.common.lib.factory;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.google.api.ads.common.lib.client.AdsServiceClient;
@@ -26,6 +31,8 @@ import com.google.api.ads.common.lib.factory.helper.AdsServiceClientFactoryHelpe
 import com.google.api.ads.common.lib.soap.SoapServiceClient;
 import com.google.api.ads.common.lib.soap.testing.MockSoapClientInterface;
 
+import com.google.common.collect.ImmutableList;
+
 import org.hamcrest.Matchers;
 import org.junit.Before;
 import org.junit.Rule;
@@ -128,4 +135,63 @@ public class AdsServiceClientFactoryTest {
     thrown.expect(Matchers.<Exception>is(serviceException));
     adsServiceClientFactory.getServiceClient(adsSession, MockSoapClientInterface.class);
   }
+
+  /**
+   * Test that warming up services warms up a SOAP client for each service and reports the time
+   * spent on each.
+   */
+  @Test
+  public void testWarmUp() {
+    String version = "v1.1";
+    when(adsServiceClientFactoryHelper.determineVersion(MockSoapClientInterface.class))
+        .thenReturn(version);
+    when(adsServiceClientFactoryHelper.determineVersion(Runnable.class)).thenReturn(version);
+    when(adsServiceClientFactoryHelper.createServiceDescriptor(
+        MockSoapClientInterface.class, version)).thenReturn(adsServiceDescriptor);
+    when(adsServiceClientFactoryHelper.createServiceDescriptor(Runnable.class, version))
+        .thenReturn(adsServiceDescriptor);
+
+    WarmUpReport report =
+        adsServiceClientFactory.warmUp(MockSoapClientInterface.class, Runnable.class);
+
+    assertTrue("Warm up should have succeeded", report.isSuccessful());
+    assertEquals(ImmutableList.<Class<?>>of(MockSoapClientInterface.class, Runnable.class),
+        ImmutableList.copyOf(report.getServiceTimesMillis().keySet()));
+    verify(adsServiceClientFactoryHelper, Mockito.times(2))
+        .warmUpServiceClient(adsServiceDescriptor);
+  }
+
+  /**
+   * Test that a service that fails to warm up is reported without failing the other services.
+   */
+  @Test
+  public void testWarmUp_failureReported() {
+    String version = "v1.1";
+    ServiceException serviceException = new ServiceException("A service exception");
+    when(adsServiceClientFactoryHelper.determineVersion(MockSoapClientInterface.class))
+        .thenReturn(version);
+    when(adsServiceClientFactoryHelper.determineVersion(Runnable.class))
+        .thenThrow(serviceException);
+    when(adsServiceClientFactoryHelper.createServiceDescriptor(
+        MockSoapClientInterface.class, version)).thenReturn(adsServiceDescriptor);
+
+    WarmUpReport report =
+        adsServiceClientFactory.warmUp(MockSoapClientInterface.class, Runnable.class);
+
+    assertFalse("Warm up should have failed", report.isSuccessful());
+    assertSame(serviceException, report.getFailures().get(Runnable.class));
+    assertTrue(report.getServiceTimesMillis().containsKey(MockSoapClientInterface.class));
+    assertFalse(report.getServiceTimesMillis().containsKey(Runnable.class));
+  }
+
+  /**
+   * Test that warming up no services returns an empty report.
+   */
+  @Test
+  public void testWarmUp_noServices() {
+    WarmUpReport report = adsServiceClientFactory.warmUp();
+
+    assertTrue(report.isSuccessful());
+    assertTrue(report.getServiceTimesMillis().isEmpty());
+  }
 }
@@ -15,6 +15,7 @@
 package com.google.api.ads.common.lib.factory.helper;
 
 import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.google.api.ads.common.lib.client.AdsServiceClient;
@@ -123,4 +124,13 @@ public class BaseAdsServiceClientFactoryHelperTest {
 
     assertSame(adsServiceDescriptor, testAdsServiceDescriptor);
   }
+
+  @Test
+  public void testWarmUpServiceClient() {
+    when(soapClientHandler.createSoapClient(adsServiceDescriptor)).thenReturn(soapClient);
+
+    abstractAdsServiceClientFactoryHelper.warmUpServiceClient(adsServiceDescriptor);
+
+    verify(soapClientHandler).warmUpSoapClient(soapClient);
+  }
 }
@@ -0,0 +1,120 @@
+// Copyright 2016 Google Inc. All Rights Reserved.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.api.ads.common.lib.soap;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.util.List;
+
+/**
+ * Tests for {@link FieldInterner}.
+ */
+@RunWith(JUnit4.class)
+public class FieldInternerTest {
+
+  /**
+   * Tests that unqualified fields are interned in every class, and qualified fields in the named
+   * class and its subclasses.
+   */
+  @Test
+  public void testInternFields() {
+    FieldInterner interner =
+        new FieldInterner(ImmutableList.of(" currencyCode ", "Criterion.type", ""), 100);
+    Keyword first = newKeyword();
+    Keyword second = newKeyword();
+
+    interner.internFields(first);
+    interner.internFields(second);
+
+    assertTrue(interner.isEnabled());
+    assertSame(first.currencyCode, second.currencyCode);
+    assertSame(first.type, second.type);
+    assertNotSame(first.text, second.text);
+    assertEquals(2, interner.getStringInterner().getReplacedCount());
+  }
+
+  /**
+   * Tests that the elements of string arrays and lists are interned.
+   */
+  @Test
+  public void testInternFields_arraysAndLists() {
+    FieldInterner interner = new FieldInterner(ImmutableList.of("Keyword.labels", "tags"), 100);
+    Keyword first = newKeyword();
+    Keyword second = newKeyword();
+
+    interner.internFields(first);
+    interner.internFields(second);
+
+    assertSame(first.labels[0], second.labels[0]);
+    assertSame(first.tags.get(0), second.tags.get(0));
+  }
+
+  /**
+   * Tests that fields of other classes, and fields that are not strings, are left unchanged.
+   */
+  @Test
+  public void testInternFields_notConfigured() {
+    FieldInterner interner = new FieldInterner(ImmutableList.of("AdGroup.text", "id"), 100);
+    Keyword first = newKeyword();
+    Keyword second = newKeyword();
+
+    interner.internFields(first);
+    interner.internFields(second);
+    interner.internFields(null);
+
+    assertNotSame(first.text, second.text);
+    assertNotSame(first.id, second.id);
+    assertEquals(0, interner.getStringInterner().getLookupCount());
+  }
+
+  @Test
+  public void testIsEnabled_noFields() {
+    assertFalse(new FieldInterner(ImmutableList.<String>of(), 100).isEnabled());
+  }
+
+  private static Keyword newKeyword() {
+    Keyword keyword = new Keyword();
+    keyword.id = new Long(1000L);
+    keyword.type = new String("KEYWORD");
+    keyword.currencyCode = new String("USD");
+    keyword.text = new String("shoes");
+    keyword.labels = new String[] {new String("label")};
+    keyword.tags = Lists.newArrayList(new String("tag"));
+    return keyword;
+  }
+
+  private static class Criterion {
+    Long id;
+    String type;
+  }
+
+  private static class Keyword extends Criterion {
+    String currencyCode;
+    String text;
+    String[] labels;
+    List<String> tags;
+  }
+}
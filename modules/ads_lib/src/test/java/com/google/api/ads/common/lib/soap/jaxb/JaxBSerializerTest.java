@@ -0,0 +1,98 @@
+// Copyright 2014 Google Inc. All Rights Reserved.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.api.ads.common.lib.soap.jaxb;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import com.google.api.ads.adwords.lib.jaxb.v201609.DownloadFormat;
+import com.google.api.ads.adwords.lib.jaxb.v201609.ReportDefinition;
+import com.google.api.ads.adwords.lib.jaxb.v201609.ReportDefinitionDateRangeType;
+import com.google.api.ads.adwords.lib.jaxb.v201609.ReportDefinitionReportType;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import javax.xml.namespace.QName;
+
+/**
+ * Tests for {@link JaxBSerializer}.
+ */
+@RunWith(JUnit4.class)
+public class JaxBSerializerTest {
+
+  private JaxBSerializer<ReportDefinition> serializer;
+  private ReportDefinition reportDefinition;
+
+  @Before
+  public void setUp() {
+    serializer = new JaxBSerializer<ReportDefinition>(
+        ReportDefinition.class, new QName("reportDefinition"));
+    reportDefinition = new ReportDefinition();
+    reportDefinition.setReportName("Test report");
+    reportDefinition.setReportType(ReportDefinitionReportType.CAMPAIGN_PERFORMANCE_REPORT);
+    reportDefinition.setDateRangeType(ReportDefinitionDateRangeType.YESTERDAY);
+    reportDefinition.setDownloadFormat(DownloadFormat.CSV);
+  }
+
+  /**
+   * Tests that reusing a marshaller honors the XML declaration option of each call.
+   */
+  @Test
+  public void testSerialize_reusedMarshaller() {
+    String withDeclaration = serializer.serialize(reportDefinition, true);
+    String withoutDeclaration = serializer.serialize(reportDefinition, false);
+
+    assertTrue(withDeclaration.startsWith("<?xml"));
+    assertFalse(withoutDeclaration.startsWith("<?xml"));
+    assertTrue(withoutDeclaration.contains("Test report"));
+    assertEquals(withDeclaration, serializer.serialize(reportDefinition, true));
+  }
+
+  /**
+   * Tests that concurrent serializations all produce the same output.
+   */
+  @Test
+  public void testSerialize_concurrent() throws Exception {
+    String expected = serializer.serialize(reportDefinition);
+    ExecutorService executorService = Executors.newFixedThreadPool(4);
+    try {
+      List<Future<String>> results = new ArrayList<Future<String>>();
+      for (int i = 0; i < 100; i++) {
+        results.add(executorService.submit(new Callable<String>() {
+          @Override
+          public String call() {
+            return serializer.serialize(reportDefinition);
+          }
+        }));
+      }
+      for (Future<String> result : results) {
+        assertEquals(expected, result.get());
+      }
+    } finally {
+      executorService.shutdown();
+    }
+  }
+}
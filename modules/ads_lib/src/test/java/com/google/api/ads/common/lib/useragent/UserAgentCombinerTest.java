@@ -15,6 +15,8 @@
 package com.google.api.ads.common.lib.useragent;
 
 import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.google.common.collect.Lists;
@@ -37,6 +39,7 @@ public class UserAgentCombinerTest {
 
   @Mock private UserAgentProvider userAgentProvider1;
   @Mock private UserAgentProvider userAgentProvider2;
+  @Mock private UserAgentProvider dynamicUserAgentProvider;
 
   @Before
   public void setUp() throws Exception {
@@ -61,4 +64,29 @@ public class UserAgentCombinerTest {
         "myUserAgent (userAgent/1, userAgent/2)",
         userAgentCombiner.getUserAgent(nonLibraryUserAgent));
   }
+
+  /**
+   * Tests that the static user agents are only queried once, while the dynamic user agent is
+   * queried and appended on every call.
+   */
+  @Test
+  public void testGenerateLibraryUserAgent_dynamicProvider() {
+    userAgentCombiner = new UserAgentCombiner(
+        Lists.newArrayList(userAgentProvider1, userAgentProvider2), dynamicUserAgentProvider);
+
+    when(userAgentProvider1.getUserAgent()).thenReturn("userAgent/1");
+    when(userAgentProvider2.getUserAgent()).thenReturn("userAgent/2");
+    when(dynamicUserAgentProvider.getUserAgent()).thenReturn("utility/1", null, "utility/2");
+
+    assertEquals("myUserAgent (userAgent/1, userAgent/2, utility/1)",
+        userAgentCombiner.getUserAgent("myUserAgent"));
+    assertEquals("myUserAgent (userAgent/1, userAgent/2)",
+        userAgentCombiner.getUserAgent("myUserAgent"));
+    assertEquals("otherUserAgent (userAgent/1, userAgent/2, utility/2)",
+        userAgentCombiner.getUserAgent("otherUserAgent"));
+
+    verify(userAgentProvider1, times(1)).getUserAgent();
+    verify(userAgentProvider2, times(1)).getUserAgent();
+    verify(dynamicUserAgentProvider, times(3)).getUserAgent();
+  }
 }
@@ -0,0 +1,98 @@
+// Copyright 2016 Google Inc. All Rights Reserved.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+
+package com.google.api.ads.common.lib.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+
+/**
+ * Tests for {@link ExecutorServiceCalls}.
+ */
+@RunWith(JUnit4.class)
+public class ExecutorServiceCallsTest {
+
+  /** Service interface used for the tests. */
+  public interface EchoService {
+    String echo(String value) throws IOException;
+  }
+
+  private static final IOException EXCEPTION = new IOException("Call failed");
+
+  private static final EchoService ECHO = new EchoService() {
+    @Override
+    public String echo(String value) throws IOException {
+      if (value == null) {
+        throw EXCEPTION;
+      }
+      return value;
+    }
+  };
+
+  @Test
+  public void testSubmit_runsOnExecutor() throws Exception {
+    final List<Runnable> submitted = new ArrayList<Runnable>();
+    Executor executor = new Executor() {
+      @Override
+      public void execute(Runnable command) {
+        submitted.add(command);
+      }
+    };
+
+    ListenableFuture<Object> future = ExecutorServiceCalls.submit(
+        ECHO, EchoService.class.getMethod("echo", String.class), new Object[] {"value"}, executor);
+
+    assertFalse("Call should run on the executor", future.isDone());
+    assertEquals(1, submitted.size());
+    submitted.get(0).run();
+    assertEquals("value", future.get());
+  }
+
+  @Test
+  public void testSubmit_exceptionIsUnwrapped() throws Exception {
+    ListenableFuture<Object> future = ExecutorServiceCalls.submit(ECHO,
+        EchoService.class.getMethod("echo", String.class), new Object[] {null},
+        MoreExecutors.directExecutor());
+
+    try {
+      future.get();
+      fail("Expected the future to fail");
+    } catch (ExecutionException e) {
+      assertSame(EXCEPTION, e.getCause());
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testSubmit_methodOfOtherType() throws Exception {
+    Method method = Runnable.class.getMethod("run");
+    ExecutorServiceCalls.submit(ECHO, method, new Object[0], MoreExecutors.directExecutor());
+  }
+}
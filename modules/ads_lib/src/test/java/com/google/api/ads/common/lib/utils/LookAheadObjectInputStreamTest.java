@@ -0,0 +1,107 @@
+// Copyright 2016 Google Inc. All Rights Reserved.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+
+package com.google.api.ads.common.lib.utils;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import com.google.common.collect.Lists;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InvalidClassException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+
+/**
+ * Tests for {@link LookAheadObjectInputStream}.
+ */
+@RunWith(JUnit4.class)
+public class LookAheadObjectInputStreamTest {
+
+  private static final String PACKAGE = LookAheadObjectInputStreamTest.class.getPackage().getName();
+
+  /**
+   * Tests that objects of accepted classes, with boxed primitive and array fields, are read.
+   */
+  @Test
+  public void testReadObject_accepted() throws Exception {
+    Bean child = new Bean();
+    child.id = 2L;
+    Bean bean = new Bean();
+    bean.id = 1L;
+    bean.values = new int[] {1, 2};
+    bean.children = new Bean[] {child};
+
+    Bean readBean = (Bean) read(write(bean), PACKAGE);
+
+    assertEquals(Long.valueOf(1L), readBean.id);
+    assertArrayEquals(new int[] {1, 2}, readBean.values);
+    assertEquals(Long.valueOf(2L), readBean.children[0].id);
+  }
+
+  /**
+   * Tests that classes outside of the accepted packages are rejected.
+   */
+  @Test(expected = InvalidClassException.class)
+  public void testReadObject_classNotAccepted() throws Exception {
+    read(write(Lists.newArrayList("a")), PACKAGE);
+  }
+
+  /**
+   * Tests that classes of subpackages or other packages are rejected.
+   */
+  @Test(expected = InvalidClassException.class)
+  public void testReadObject_packageNotAccepted() throws Exception {
+    read(write(new Bean()), "com.google.api.ads.common.lib");
+  }
+
+  /**
+   * Tests that arrays of classes that are not accepted are rejected.
+   */
+  @Test(expected = InvalidClassException.class)
+  public void testReadObject_arrayNotAccepted() throws Exception {
+    read(write(new Object[] {"a"}), PACKAGE);
+  }
+
+  private static byte[] write(Object object) throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    ObjectOutputStream objectOut = new ObjectOutputStream(out);
+    objectOut.writeObject(object);
+    objectOut.flush();
+    return out.toByteArray();
+  }
+
+  private static Object read(byte[] bytes, String acceptedPackage) throws Exception {
+    ObjectInputStream in =
+        new LookAheadObjectInputStream(new ByteArrayInputStream(bytes), acceptedPackage);
+    return in.readObject();
+  }
+
+  private static class Bean implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private Long id;
+    private int[] values;
+    private Bean[] children;
+  }
+}
@@ -0,0 +1,80 @@
+// Copyright 2016 Google Inc. All Rights Reserved.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.api.ads.common.lib.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/**
+ * Tests for {@link StringInterner}.
+ */
+@RunWith(JUnit4.class)
+public class StringInternerTest {
+
+  /**
+   * Tests that equal strings are replaced by the first instance interned, and that the replaced
+   * strings are counted.
+   */
+  @Test
+  public void testIntern() {
+    StringInterner interner = new StringInterner(10);
+    String first = new String("ENABLED");
+    String second = new String("ENABLED");
+
+    assertSame(first, interner.intern(first));
+    assertSame(first, interner.intern(second));
+    assertSame(first, interner.intern(first));
+    assertNull(interner.intern(null));
+
+    assertEquals(3, interner.getLookupCount());
+    assertEquals(1, interner.getReplacedCount());
+    assertEquals(StringInterner.estimateSize(second), interner.getEstimatedBytesSaved());
+    assertEquals(1, interner.size());
+  }
+
+  /**
+   * Tests that the table does not hold more than its maximum number of strings.
+   */
+  @Test
+  public void testIntern_bounded() {
+    StringInterner interner = new StringInterner(2);
+    for (int i = 0; i < 100; i++) {
+      interner.intern("value" + i);
+    }
+    assertTrue("Table holds " + interner.size() + " strings", interner.size() <= 2);
+  }
+
+  /**
+   * Tests the estimated size of strings, including the 8-byte alignment of the characters.
+   */
+  @Test
+  public void testEstimateSize() {
+    assertEquals(40, StringInterner.estimateSize(""));
+    assertEquals(48, StringInterner.estimateSize("a"));
+    assertEquals(48, StringInterner.estimateSize("abcd"));
+    assertEquals(56, StringInterner.estimateSize("abcde"));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testConstructor_negativeSize() {
+    new StringInterner(-1);
+  }
+}
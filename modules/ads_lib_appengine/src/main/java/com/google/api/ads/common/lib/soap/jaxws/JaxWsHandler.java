@@ -15,6 +15,7 @@
 package com.google.api.ads.common.lib.soap.jaxws;
 
 import com.google.api.ads.common.lib.exception.ServiceException;
+import com.google.api.ads.common.lib.soap.FieldInterner;
 import com.google.api.ads.common.lib.soap.RequestInfo;
 import com.google.api.ads.common.lib.soap.ResponseInfo;
 import com.google.api.ads.common.lib.soap.SoapCall;
@@ -56,16 +57,22 @@ public class JaxWsHandler extends SoapClientHandler<BindingProvider> {
   private static final String DEVEL_CONNECT_TIMEOUT_KEY = "com.sun.xml.internal.ws.connect.timeout";
 
   private final JaxWsSoapContextHandlerFactory contextHandlerFactory;
+  private final FieldInterner fieldInterner;
+  private final JaxWsResponseInterner responseInterner;
 
   /**
    * Constructor.
    *
    * @param contextHandlerFactory a factory which produces context handlers
+   * @param fieldInterner the interner of the configured fields of responses
    */
   @Inject
-  protected JaxWsHandler(JaxWsSoapContextHandlerFactory contextHandlerFactory) {
+  protected JaxWsHandler(JaxWsSoapContextHandlerFactory contextHandlerFactory,
+      FieldInterner fieldInterner) {
     super();
     this.contextHandlerFactory = contextHandlerFactory;
+    this.fieldInterner = fieldInterner;
+    this.responseInterner = new JaxWsResponseInterner(fieldInterner);
   }
 
   /**
@@ -276,6 +283,10 @@ public class JaxWsHandler extends SoapClientHandler<BindingProvider> {
       Object result = null;
       try {
         result = invoke(soapCall);
+        if (fieldInterner.isEnabled()) {
+          responseInterner.intern(result);
+          fieldInterner.logStats();
+        }
       } catch (InvocationTargetException e) {
         builder.withException(e.getTargetException());
       } catch (Exception e) {
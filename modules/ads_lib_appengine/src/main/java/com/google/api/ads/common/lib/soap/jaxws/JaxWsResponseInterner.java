@@ -0,0 +1,124 @@
+// Copyright 2016 Google Inc. All Rights Reserved.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.api.ads.common.lib.soap.jaxws;
+
+import com.google.api.ads.common.lib.soap.FieldInterner;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Sets;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import javax.xml.bind.JAXBElement;
+import javax.xml.bind.annotation.XmlType;
+
+/**
+ * Interns the configured fields of every JAXB object reachable from the return value of a JAX-WS
+ * call. The JAX-WS runtime does not let the library take part in unmarshalling, so the fields are
+ * interned as soon as the call returns, before the caller sees the result.
+ */
+final class JaxWsResponseInterner {
+
+  private final FieldInterner fieldInterner;
+  private final ConcurrentMap<Class<?>, List<Field>> childFieldsByClass =
+      new ConcurrentHashMap<Class<?>, List<Field>>();
+
+  JaxWsResponseInterner(FieldInterner fieldInterner) {
+    this.fieldInterner = fieldInterner;
+  }
+
+  /**
+   * Interns the configured fields of the JAXB objects reachable from a return value.
+   *
+   * @param returnValue the return value of the call, which may be {@code null}
+   * @throws IllegalStateException if a field could not be accessed
+   */
+  void intern(Object returnValue) {
+    Set<Object> visited = Sets.newIdentityHashSet();
+    Deque<Object> pending = new ArrayDeque<Object>();
+    addIfReachable(pending, returnValue);
+    while (!pending.isEmpty()) {
+      Object object = pending.pop();
+      if (!visited.add(object)) {
+        continue;
+      }
+      if (object instanceof Object[]) {
+        for (Object element : (Object[]) object) {
+          addIfReachable(pending, element);
+        }
+      } else if (object instanceof Collection<?>) {
+        for (Object element : (Collection<?>) object) {
+          addIfReachable(pending, element);
+        }
+      } else if (object instanceof JAXBElement<?>) {
+        addIfReachable(pending, ((JAXBElement<?>) object).getValue());
+      } else {
+        fieldInterner.internFields(object);
+        for (Field field : getChildFields(object.getClass())) {
+          try {
+            addIfReachable(pending, field.get(object));
+          } catch (IllegalAccessException e) {
+            throw new IllegalStateException("Could not read field " + field, e);
+          }
+        }
+      }
+    }
+  }
+
+  /**
+   * Adds a value to the pending objects if it is a JAXB object or may contain one.
+   */
+  private static void addIfReachable(Deque<Object> pending, Object value) {
+    if (value == null || value instanceof String) {
+      return;
+    }
+    if (value instanceof Object[] || value instanceof Collection<?>
+        || value instanceof JAXBElement<?> || value.getClass().isAnnotationPresent(XmlType.class)) {
+      pending.push(value);
+    }
+  }
+
+  /**
+   * Gets the accessible fields of a class, including inherited fields, that may refer to other
+   * JAXB objects.
+   */
+  private List<Field> getChildFields(Class<?> clazz) {
+    List<Field> result = childFieldsByClass.get(clazz);
+    if (result == null) {
+      ImmutableList.Builder<Field> fields = ImmutableList.builder();
+      for (Class<?> c = clazz; c != null && c != Object.class; c = c.getSuperclass()) {
+        for (Field field : c.getDeclaredFields()) {
+          Class<?> type = field.getType();
+          if (!Modifier.isStatic(field.getModifiers()) && !type.isPrimitive()
+              && type != String.class && !type.isEnum()) {
+            field.setAccessible(true);
+            fields.add(field);
+          }
+        }
+      }
+      result = fields.build();
+      // Computing the fields more than once is harmless, so no lock is needed.
+      childFieldsByClass.put(clazz, result);
+    }
+    return result;
+  }
+}
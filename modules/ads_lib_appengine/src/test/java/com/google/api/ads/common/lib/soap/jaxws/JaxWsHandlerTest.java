@@ -22,6 +22,7 @@ import static org.mockito.Mockito.when;
 
 import com.google.api.ads.common.lib.conf.AdsApiConfiguration;
 import com.google.api.ads.common.lib.exception.ServiceException;
+import com.google.api.ads.common.lib.soap.FieldInterner;
 import com.google.api.ads.common.lib.soap.SoapCall;
 import com.google.api.ads.common.lib.soap.SoapCallReturn;
 import com.google.api.ads.common.lib.soap.SoapServiceDescriptor;
@@ -29,6 +30,7 @@ import com.google.api.ads.common.lib.soap.jaxws.testing.mocks.CampaignServiceInt
 import com.google.api.ads.common.lib.soap.jaxws.testing.mocks.CampaignServiceInterfaceImpl;
 import com.google.api.ads.common.lib.soap.jaxws.testing.mocks.MockJaxWsCompatibleDescriptor;
 import com.google.api.ads.common.lib.utils.NodeExtractor;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Lists;
 
 import org.junit.Before;
@@ -88,7 +90,8 @@ public class JaxWsHandlerTest {
     when(handlerFactory.getJaxWsSoapContextHandler()).thenReturn(contextHandler);
     handlerChain = new LinkedList<Handler>();
     handlerChain.add(contextHandler);
-    jaxWsHandler = new JaxWsHandler(handlerFactory);
+    jaxWsHandler = new JaxWsHandler(
+        handlerFactory, new FieldInterner(ImmutableList.<String>of(), 100));
   }
 
   @Test
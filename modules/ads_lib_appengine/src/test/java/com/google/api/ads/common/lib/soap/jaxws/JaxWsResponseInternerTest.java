@@ -0,0 +1,117 @@
+// Copyright 2016 Google Inc. All Rights Reserved.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.api.ads.common.lib.soap.jaxws;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import com.google.api.ads.common.lib.soap.FieldInterner;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.util.List;
+
+import javax.xml.bind.JAXBElement;
+import javax.xml.bind.annotation.XmlType;
+import javax.xml.namespace.QName;
+
+/**
+ * Tests for {@link JaxWsResponseInterner}.
+ */
+@RunWith(JUnit4.class)
+public class JaxWsResponseInternerTest {
+
+  private FieldInterner fieldInterner;
+  private JaxWsResponseInterner responseInterner;
+
+  @Before
+  public void setUp() {
+    fieldInterner = new FieldInterner(ImmutableList.of("Label.name"), 100);
+    responseInterner = new JaxWsResponseInterner(fieldInterner);
+  }
+
+  /**
+   * Tests that the configured fields of JAXB objects reachable through lists, arrays and
+   * {@link JAXBElement}s are interned.
+   */
+  @Test
+  public void testIntern() {
+    Page page = new Page();
+    page.entries = Lists.newArrayList(newCampaign(), newCampaign());
+    page.labels = new Label[] {newLabel()};
+    page.defaultLabel = new JAXBElement<Label>(new QName("defaultLabel"), Label.class, newLabel());
+
+    responseInterner.intern(page);
+
+    String name = page.entries.get(0).labels.get(0).name;
+    assertSame(name, page.entries.get(1).labels.get(0).name);
+    assertSame(name, page.labels[0].name);
+    assertSame(name, page.defaultLabel.getValue().name);
+    assertNotSame(page.entries.get(0).name, page.entries.get(1).name);
+    assertEquals(4, fieldInterner.getStringInterner().getLookupCount());
+  }
+
+  /**
+   * Tests that objects referred to more than once are only interned once.
+   */
+  @Test
+  public void testIntern_sharedObjects() {
+    Campaign campaign = newCampaign();
+    Page page = new Page();
+    page.entries = Lists.newArrayList(campaign, campaign);
+
+    responseInterner.intern(page);
+    responseInterner.intern(null);
+
+    assertEquals(1, fieldInterner.getStringInterner().getLookupCount());
+  }
+
+  private static Campaign newCampaign() {
+    Campaign campaign = new Campaign();
+    campaign.name = new String("campaign");
+    campaign.labels = Lists.newArrayList(newLabel());
+    return campaign;
+  }
+
+  private static Label newLabel() {
+    Label label = new Label();
+    label.name = new String("label");
+    return label;
+  }
+
+  @XmlType
+  private static class Page {
+    List<Campaign> entries;
+    Label[] labels;
+    JAXBElement<Label> defaultLabel;
+  }
+
+  @XmlType
+  private static class Campaign {
+    String name;
+    List<Label> labels;
+  }
+
+  @XmlType
+  private static class Label {
+    String name;
+  }
+}
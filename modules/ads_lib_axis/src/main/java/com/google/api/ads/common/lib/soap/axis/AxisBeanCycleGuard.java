@@ -0,0 +1,142 @@
+// Copyright 2016 Google Inc. All Rights Reserved.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.api.ads.common.lib.soap.axis;
+
+import java.util.Arrays;
+
+/**
+ * Thread-confined cycle detection for the {@code equals} and {@code hashCode} methods of the
+ * generated Axis beans.
+ *
+ * <p>The Axis WSDL2Java emitter guards against cyclic object graphs by storing the in-progress
+ * comparison in an instance field, which forces both methods to be {@code synchronized}. This
+ * class instead keeps a per-thread stack of in-progress frames, so concurrent calls on the same
+ * bean never contend on a monitor.
+ *
+ * <p>Frames are keyed on the declaring class as well as the bean instance, since a generated
+ * subclass calls {@code super.equals} and {@code super.hashCode} on the same instance. Each call
+ * to {@code enter*} that does not detect a cycle must be paired with a call to the matching
+ * {@code exit*} method, typically in a {@code finally} block.
+ */
+public final class AxisBeanCycleGuard {
+
+  private static final int INITIAL_CAPACITY = 16;
+
+  private static final ThreadLocal<FrameStack> EQUALS_FRAMES = new ThreadLocal<FrameStack>();
+  private static final ThreadLocal<FrameStack> HASH_CODE_FRAMES = new ThreadLocal<FrameStack>();
+
+  private AxisBeanCycleGuard() {}
+
+  /**
+   * Starts an {@code equals} comparison of {@code bean} with {@code other}.
+   *
+   * @param beanClass the class declaring the {@code equals} method
+   * @param bean the bean being compared
+   * @param other the object {@code bean} is being compared with
+   * @return {@code null} if no comparison of {@code bean} was already in progress on this thread,
+   *     in which case the caller must call {@link #exitEquals()}; otherwise the object that
+   *     {@code bean} is already being compared with
+   */
+  public static Object enterEquals(Class<?> beanClass, Object bean, Object other) {
+    FrameStack frames = getFrames(EQUALS_FRAMES);
+    Object inProgress = frames.find(beanClass, bean);
+    if (inProgress != null) {
+      return inProgress;
+    }
+    frames.push(beanClass, bean, other);
+    return null;
+  }
+
+  /**
+   * Ends the {@code equals} comparison most recently started by
+   * {@link #enterEquals(Class, Object, Object)} on this thread.
+   */
+  public static void exitEquals() {
+    EQUALS_FRAMES.get().pop();
+  }
+
+  /**
+   * Starts a {@code hashCode} calculation for {@code bean}.
+   *
+   * @param beanClass the class declaring the {@code hashCode} method
+   * @param bean the bean whose hash code is being calculated
+   * @return {@code true} if no calculation for {@code bean} was already in progress on this
+   *     thread, in which case the caller must call {@link #exitHashCode()}; {@code false} if a
+   *     cycle was detected
+   */
+  public static boolean enterHashCode(Class<?> beanClass, Object bean) {
+    FrameStack frames = getFrames(HASH_CODE_FRAMES);
+    if (frames.find(beanClass, bean) != null) {
+      return false;
+    }
+    frames.push(beanClass, bean, Boolean.TRUE);
+    return true;
+  }
+
+  /**
+   * Ends the {@code hashCode} calculation most recently started by
+   * {@link #enterHashCode(Class, Object)} on this thread.
+   */
+  public static void exitHashCode() {
+    HASH_CODE_FRAMES.get().pop();
+  }
+
+  private static FrameStack getFrames(ThreadLocal<FrameStack> threadLocal) {
+    FrameStack frames = threadLocal.get();
+    if (frames == null) {
+      frames = new FrameStack();
+      threadLocal.set(frames);
+    }
+    return frames;
+  }
+
+  /**
+   * Stack of (declaring class, bean, value) frames stored in a flat array. Nesting depth follows
+   * the depth of the object graph, so a linear scan is cheaper than hashing.
+   */
+  private static final class FrameStack {
+    private static final int FRAME_SIZE = 3;
+
+    private Object[] frames = new Object[INITIAL_CAPACITY * FRAME_SIZE];
+    private int size;
+
+    Object find(Class<?> beanClass, Object bean) {
+      for (int i = size - FRAME_SIZE; i >= 0; i -= FRAME_SIZE) {
+        if (frames[i + 1] == bean && frames[i] == beanClass) {
+          return frames[i + 2];
+        }
+      }
+      return null;
+    }
+
+    void push(Class<?> beanClass, Object bean, Object value) {
+      if (size == frames.length) {
+        frames = Arrays.copyOf(frames, frames.length * 2);
+      }
+      frames[size] = beanClass;
+      frames[size + 1] = bean;
+      frames[size + 2] = value;
+      size += FRAME_SIZE;
+    }
+
+    void pop() {
+      size -= FRAME_SIZE;
+      // Clears references so beans are not retained by the thread.
+      frames[size] = null;
+      frames[size + 1] = null;
+      frames[size + 2] = null;
+    }
+  }
+}
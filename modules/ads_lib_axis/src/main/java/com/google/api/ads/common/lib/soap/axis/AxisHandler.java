@@ -16,6 +16,7 @@ package com.google.api.ads.common.lib.soap.axis;
 
 import com.google.api.ads.common.lib.conf.AdsApiConfiguration;
 import com.google.api.ads.common.lib.exception.ServiceException;
+import com.google.api.ads.common.lib.soap.FieldInterner;
 import com.google.api.ads.common.lib.soap.RequestInfo;
 import com.google.api.ads.common.lib.soap.ResponseInfo;
 import com.google.api.ads.common.lib.soap.SoapCall;
@@ -36,12 +37,16 @@ import org.apache.axis.EngineConfigurationFactory;
 import org.apache.axis.MessageContext;
 import org.apache.axis.client.Service;
 import org.apache.axis.client.Stub;
+import org.apache.axis.description.TypeDesc;
 import org.apache.axis.message.SOAPHeaderElement;
 import org.apache.axis.transport.http.HTTPConstants;
 import org.apache.commons.beanutils.BeanUtils;
 import org.w3c.dom.Node;
 
+import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Hashtable;
 import java.util.Map;
 
@@ -56,14 +61,17 @@ public class AxisHandler extends SoapClientHandler<Stub> {
 
   private final EngineConfigurationFactory engineConfigurationFactory;
   private final NodeExtractor nodeExtractor;
+  private final FieldInterner fieldInterner;
   private final ImmutableList<String> requestIdXPathComponents;
   
   @Inject
   public AxisHandler(EngineConfigurationFactory engineConfigurationFactory,
       NodeExtractor nodeExtractor,
-      AdsApiConfiguration adsApiConfiguration) {
+      AdsApiConfiguration adsApiConfiguration,
+      FieldInterner fieldInterner) {
     this.engineConfigurationFactory = engineConfigurationFactory;
     this.nodeExtractor = nodeExtractor;
+    this.fieldInterner = fieldInterner;
     String requestIdXPath = adsApiConfiguration.getRequestIdXPath();
     if (!Strings.isNullOrEmpty(requestIdXPath)) {
       requestIdXPathComponents = ImmutableList.<String>copyOf(
@@ -210,8 +218,13 @@ public class AxisHandler extends SoapClientHandler<Stub> {
         Service locator = (Service) axisCompatibleService.getLocatorClass()
             .getConstructor(new Class[] {EngineConfiguration.class})
             .newInstance(new Object[] {engineConfiguration});
-        return (Stub) locator.getClass().getMethod("getPort", Class.class)
+        Stub stub = (Stub) locator.getClass().getMethod("getPort", Class.class)
             .invoke(locator, soapServiceDescriptor.getInterfaceClass());
+        if (fieldInterner.isEnabled()) {
+          // Read by the bean deserializers through the call's message context.
+          stub._setProperty(FieldInterner.PROPERTY, fieldInterner);
+        }
+        return stub;
       }
       throw new ServiceException("Service [" + soapServiceDescriptor +
           "] not compatible with Axis", null);
@@ -232,6 +245,53 @@ public class AxisHandler extends SoapClientHandler<Stub> {
     }
   }
 
+  /**
+   * Warms up the stub by creating a call, which loads the Axis engine
+   * configuration, and by building the type metadata of every type the stub
+   * registers. Axis caches type metadata per class, so stubs created later for
+   * the same service reuse it.
+   *
+   * @param soapClient the stub to warm up
+   * @throws ServiceException if a call could not be created
+   */
+  @Override
+  public void warmUpSoapClient(Stub soapClient) throws ServiceException {
+    try {
+      soapClient._createCall();
+    } catch (javax.xml.rpc.ServiceException e) {
+      throw new ServiceException("Could not create call.", e);
+    }
+    for (Object registeredType : getRegisteredTypes(soapClient)) {
+      if (registeredType instanceof Class) {
+        TypeDesc typeDesc = TypeDesc.getTypeDescForClass((Class<?>) registeredType);
+        if (typeDesc != null) {
+          typeDesc.getPropertyDescriptors();
+        }
+      }
+    }
+  }
+
+  /**
+   * Gets the types that a generated stub registers type mappings for on its
+   * first call, or an empty collection if the stub does not follow the
+   * generated stub conventions.
+   */
+  private Collection<?> getRegisteredTypes(Stub soapClient) {
+    try {
+      Field cachedSerClassesField = soapClient.getClass().getDeclaredField("cachedSerClasses");
+      cachedSerClassesField.setAccessible(true);
+      Object cachedSerClasses = cachedSerClassesField.get(soapClient);
+      if (cachedSerClasses instanceof Collection) {
+        return (Collection<?>) cachedSerClasses;
+      }
+    } catch (NoSuchFieldException e) {
+      // Not a generated stub.
+    } catch (IllegalAccessException e) {
+      // Not accessible, so there is nothing to warm up.
+    }
+    return Collections.emptyList();
+  }
+
   /**
    * Invoke a SOAP call.
    *
@@ -284,6 +344,7 @@ public class AxisHandler extends SoapClientHandler<Stub> {
         } catch (AxisFault e) {
           builder.withException(e);
         }
+        fieldInterner.logStats();
       }
 
       return builder.withReturnValue(result).build();
@@ -15,23 +15,41 @@
 package com.google.api.ads.common.lib.soap.axis.conf;
 
 import com.google.api.ads.common.lib.conf.AdsLibConfiguration;
+import com.google.api.ads.common.lib.soap.axis.encoding.CompiledBeanSerializer;
+import com.google.api.ads.common.lib.soap.axis.transport.AdaptiveCompressionHandler;
+import com.google.api.ads.common.lib.soap.axis.transport.PooledHttpSender;
+import com.google.api.ads.common.lib.soap.axis.transport.StreamingResponseHandler;
 
+import org.apache.axis.ConfigurationException;
 import org.apache.axis.EngineConfiguration;
 import org.apache.axis.EngineConfigurationFactory;
+import org.apache.axis.Handler;
+import org.apache.axis.SimpleChain;
+import org.apache.axis.SimpleTargetedChain;
 import org.apache.axis.configuration.EngineConfigurationFactoryDefault;
 import org.apache.axis.configuration.FileProvider;
+import org.apache.axis.configuration.SimpleProvider;
+import org.apache.axis.transport.http.CommonsHTTPSender;
+
+import java.util.Hashtable;
 
 import javax.inject.Inject;
 
 /**
  * EngineConfigurationFactory implementation that configures Axis clients using a custom
  * configuration file if compression is enabled and no client customization has been specified
- * in the environment.
+ * in the environment. If the connection pool is enabled, the {@code http} transport is also
+ * replaced with a {@link PooledHttpSender} shared by all clients created by this factory. If
+ * compression is enabled, an {@link AdaptiveCompressionHandler} decides for each request whether
+ * it is large enough to be compressed. A {@link StreamingResponseHandler} is added to the global
+ * response chain so that calls can filter their responses as a stream. If compiled serializers are
+ * enabled, the {@link CompiledBeanSerializer#ENABLED_OPTION} option is set on the client engine.
  */
 public class AdsAxisEngineConfigurationFactory implements EngineConfigurationFactory {
 
   private final AdsLibConfiguration adsLibConfiguration;
   private final EngineConfigurationFactory wrappedFactory;
+  private PooledHttpSender pooledHttpSender;
   
   @Inject
   public AdsAxisEngineConfigurationFactory(AdsLibConfiguration adsLibConfiguration) {
@@ -43,14 +61,47 @@ public class AdsAxisEngineConfigurationFactory implements EngineConfigurationFac
 
   @Override
   public EngineConfiguration getClientEngineConfig() {
-    // Only return the custom configuration for compression if the client config has not
-    // been overridden.
-    if (System.getProperty(EngineConfigurationFactoryDefault.OPTION_CLIENT_CONFIG_FILE) == null
-        && adsLibConfiguration.isCompressionEnabled()) {
-      return new FileProvider(
+    // Only return the custom configurations if the client config has not been overridden.
+    if (System.getProperty(EngineConfigurationFactoryDefault.OPTION_CLIENT_CONFIG_FILE) != null) {
+      return wrappedFactory.getClientEngineConfig();
+    }
+    boolean compressionEnabled = adsLibConfiguration.isCompressionEnabled();
+    boolean connectionPoolEnabled = adsLibConfiguration.isConnectionPoolEnabled();
+    EngineConfiguration wrappedEngineConfig;
+    if (compressionEnabled) {
+      wrappedEngineConfig = new FileProvider(
           this.getClass().getResourceAsStream("wsdd/ads-axis-client-config.wsdd"));
+    } else {
+      wrappedEngineConfig = wrappedFactory.getClientEngineConfig();
+    }
+    SimpleProvider clientEngineConfig = new ClientEngineConfiguration(
+        wrappedEngineConfig, adsLibConfiguration.isCompiledSerializersEnabled());
+    if (compressionEnabled || connectionPoolEnabled) {
+      Handler httpSender = connectionPoolEnabled ? getPooledHttpSender() : new CommonsHTTPSender();
+      SimpleTargetedChain httpTransport;
+      if (compressionEnabled) {
+        AdaptiveCompressionHandler compressionHandler =
+            new AdaptiveCompressionHandler(adsLibConfiguration.getCompressionThreshold());
+        httpTransport = new SimpleTargetedChain(
+            compressionHandler, httpSender, compressionHandler.getResponseHandler());
+      } else {
+        httpTransport = new SimpleTargetedChain(httpSender);
+      }
+      // Transports deployed on the SimpleProvider take precedence over the wrapped configuration.
+      clientEngineConfig.deployTransport("http", httpTransport);
+    }
+    return clientEngineConfig;
+  }
+
+  /**
+   * Gets the HTTP sender whose connection pool is shared by all client configurations, creating
+   * it on first use.
+   */
+  private synchronized PooledHttpSender getPooledHttpSender() {
+    if (pooledHttpSender == null) {
+      pooledHttpSender = new PooledHttpSender(adsLibConfiguration);
     }
-    return wrappedFactory.getClientEngineConfig();
+    return pooledHttpSender;
   }
 
   @Override
@@ -58,4 +109,54 @@ public class AdsAxisEngineConfigurationFactory implements EngineConfigurationFac
     return wrappedFactory.getServerEngineConfig();
   }
 
+  /**
+   * Client configuration that runs a {@link StreamingResponseHandler} after the global response
+   * handlers of the wrapped configuration, and adds the library's options to the global options
+   * of the wrapped configuration.
+   */
+  private static final class ClientEngineConfiguration extends SimpleProvider {
+
+    private final Handler streamingResponseHandler = new StreamingResponseHandler();
+    private final boolean compiledSerializersEnabled;
+    private Handler globalResponse;
+    private Hashtable<Object, Object> globalOptions;
+
+    ClientEngineConfiguration(
+        EngineConfiguration wrappedEngineConfig, boolean compiledSerializersEnabled) {
+      super(wrappedEngineConfig);
+      this.compiledSerializersEnabled = compiledSerializersEnabled;
+    }
+
+    @SuppressWarnings("rawtypes") // Axis declares the options as a raw Hashtable.
+    @Override
+    public synchronized Hashtable getGlobalOptions() throws ConfigurationException {
+      if (globalOptions == null) {
+        Hashtable<Object, Object> options = new Hashtable<Object, Object>();
+        Hashtable<?, ?> wrappedOptions = super.getGlobalOptions();
+        if (wrappedOptions != null) {
+          options.putAll(wrappedOptions);
+        }
+        if (compiledSerializersEnabled) {
+          options.put(CompiledBeanSerializer.ENABLED_OPTION, Boolean.TRUE);
+        }
+        globalOptions = options;
+      }
+      return globalOptions;
+    }
+
+    @Override
+    public synchronized Handler getGlobalResponse() throws ConfigurationException {
+      if (globalResponse == null) {
+        SimpleChain globalResponseChain = new SimpleChain();
+        Handler wrappedGlobalResponse = super.getGlobalResponse();
+        if (wrappedGlobalResponse != null) {
+          globalResponseChain.addHandler(wrappedGlobalResponse);
+        }
+        globalResponseChain.addHandler(streamingResponseHandler);
+        globalResponse = globalResponseChain;
+      }
+      return globalResponse;
+    }
+  }
+
 }
\ No newline at end of file
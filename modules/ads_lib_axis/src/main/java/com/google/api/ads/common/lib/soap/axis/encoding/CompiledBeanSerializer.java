@@ -0,0 +1,265 @@
+// Copyright 2016 Google Inc. All Rights Reserved.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+
+package com.google.api.ads.common.lib.soap.axis.encoding;
+
+import com.google.common.collect.ImmutableList;
+
+import org.apache.axis.MessageContext;
+import org.apache.axis.description.ElementDesc;
+import org.apache.axis.description.FieldDesc;
+import org.apache.axis.description.TypeDesc;
+import org.apache.axis.encoding.SerializationContext;
+import org.apache.axis.encoding.ser.BeanSerializer;
+import org.apache.axis.utils.JavaUtils;
+import org.xml.sax.Attributes;
+
+import java.io.IOException;
+import java.lang.reflect.Array;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.List;
+
+import javax.xml.namespace.QName;
+
+/**
+ * Bean serializer that writes a generated bean from a serialization plan computed once per bean
+ * class, instead of looking up the type metadata and introspected property descriptors of every
+ * property each time a bean is serialized as {@link BeanSerializer} does. For generated beans,
+ * whose properties are all described by their type metadata, the output is the same as the output
+ * of {@link BeanSerializer}.
+ *
+ * <p>The plan is only used if the {@link #ENABLED_OPTION} property of the call, or option of its
+ * engine, is {@code true}. Beans whose metadata the plan does not support, such as beans with
+ * attributes or {@code any} elements, and SOAP encoded calls, are always serialized by
+ * {@link BeanSerializer}.
+ */
+public class CompiledBeanSerializer extends BeanSerializer {
+
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * Name of the engine option or call property that enables the serialization plans.
+   */
+  public static final String ENABLED_OPTION =
+      CompiledBeanSerializer.class.getName() + ".enabled";
+
+  private final Class<?> beanClass;
+  private transient volatile SerializationPlan plan;
+
+  public CompiledBeanSerializer(Class<?> javaType, QName xmlType, TypeDesc typeDesc) {
+    super(javaType, xmlType, typeDesc);
+    this.beanClass = javaType;
+  }
+
+  @Override
+  public void serialize(QName name, Attributes attributes, Object value,
+      SerializationContext context) throws IOException {
+    if (!isEnabled(context.getMessageContext())
+        || context.isEncoded() || value == null || !beanClass.isInstance(value)) {
+      super.serialize(name, attributes, value, context);
+      return;
+    }
+    SerializationPlan serializationPlan = getPlan();
+    if (!serializationPlan.isSupported()) {
+      super.serialize(name, attributes, value, context);
+      return;
+    }
+    context.startElement(name, attributes);
+    for (PropertyPlan property : serializationPlan.properties) {
+      property.serialize(value, context);
+    }
+    context.endElement();
+  }
+
+  /**
+   * Returns if the call enables the serialization plans, either by its own property or by the
+   * options of its engine, which Axis does not copy to the properties of the call.
+   */
+  private static boolean isEnabled(MessageContext messageContext) {
+    if (messageContext == null) {
+      return false;
+    }
+    Object enabled = messageContext.getProperty(ENABLED_OPTION);
+    if (enabled == null && messageContext.getAxisEngine() != null) {
+      enabled = messageContext.getAxisEngine().getOption(ENABLED_OPTION);
+    }
+    return JavaUtils.isTrue(enabled);
+  }
+
+  /**
+   * Gets the serialization plan of the bean class, computing it on first use.
+   */
+  SerializationPlan getPlan() {
+    SerializationPlan result = plan;
+    if (result == null) {
+      // Computing the plan more than once is harmless, so no lock is needed.
+      result = SerializationPlan.create(beanClass);
+      plan = result;
+    }
+    return result;
+  }
+
+  /**
+   * Properties of a bean class, in the order in which they are serialized.
+   */
+  static final class SerializationPlan {
+
+    private static final SerializationPlan UNSUPPORTED =
+        new SerializationPlan(ImmutableList.<PropertyPlan>of(), false);
+
+    final List<PropertyPlan> properties;
+    private final boolean supported;
+
+    private SerializationPlan(List<PropertyPlan> properties, boolean supported) {
+      this.properties = properties;
+      this.supported = supported;
+    }
+
+    boolean isSupported() {
+      return supported;
+    }
+
+    /**
+     * Computes the plan of a bean class from its type metadata, whose fields include the fields of
+     * its superclasses first.
+     */
+    static SerializationPlan create(Class<?> beanClass) {
+      TypeDesc typeDesc = TypeDesc.getTypeDescForClass(beanClass);
+      if (typeDesc == null || typeDesc.hasAttributes() || typeDesc.getAnyDesc() != null) {
+        return UNSUPPORTED;
+      }
+      ImmutableList.Builder<PropertyPlan> properties = ImmutableList.builder();
+      FieldDesc[] fields = typeDesc.getFields(true);
+      if (fields != null) {
+        for (FieldDesc field : fields) {
+          if (!(field instanceof ElementDesc)) {
+            return UNSUPPORTED;
+          }
+          PropertyPlan property = PropertyPlan.create(beanClass, (ElementDesc) field);
+          if (property == null) {
+            return UNSUPPORTED;
+          }
+          properties.add(property);
+        }
+      }
+      return new SerializationPlan(properties.build(), true);
+    }
+  }
+
+  /**
+   * Element of a bean property, and the getter that reads its value.
+   */
+  static final class PropertyPlan {
+
+    private final String propertyName;
+    private final Method getter;
+    private final QName elementName;
+    private final QName xmlType;
+    private final Class<?> javaType;
+    private final boolean omittable;
+    private final boolean nillable;
+    private final boolean repeated;
+
+    private PropertyPlan(String propertyName, Method getter, ElementDesc element) {
+      this.propertyName = propertyName;
+      this.getter = getter;
+      this.elementName = element.getXmlName();
+      this.xmlType = element.getXmlType();
+      this.omittable = element.isMinOccursZero();
+      this.nillable = element.isNillable();
+      Class<?> propertyType = getter.getReturnType();
+      this.repeated = element.isMaxOccursUnbounded() && propertyType.isArray();
+      this.javaType = repeated ? propertyType.getComponentType() : propertyType;
+    }
+
+    /**
+     * Creates the plan of a property, or returns {@code null} if the element has no getter in the
+     * bean class or needs the serialization options this plan does not support.
+     */
+    static PropertyPlan create(Class<?> type, ElementDesc element) {
+      if (element.getXmlName() == null || element.getXmlType() == null
+          || element.getItemQName() != null) {
+        return null;
+      }
+      String fieldName = element.getFieldName();
+      String suffix = Character.toUpperCase(fieldName.charAt(0)) + fieldName.substring(1);
+      Method getter = getPublicMethod(type, "get" + suffix);
+      if (getter == null) {
+        getter = getPublicMethod(type, "is" + suffix);
+      }
+      if (getter == null || getter.getReturnType() == void.class) {
+        return null;
+      }
+      if (element.isMaxOccursUnbounded() && !getter.getReturnType().isArray()) {
+        return null;
+      }
+      return new PropertyPlan(fieldName, getter, element);
+    }
+
+    private static Method getPublicMethod(Class<?> type, String name) {
+      try {
+        return type.getMethod(name);
+      } catch (NoSuchMethodException e) {
+        return null;
+      }
+    }
+
+    /**
+     * Serializes the property of the bean the same way as {@link BeanSerializer}.
+     */
+    void serialize(Object bean, SerializationContext context) throws IOException {
+      Object value;
+      try {
+        value = getter.invoke(bean);
+      } catch (IllegalAccessException e) {
+        throw new IOException(e.toString());
+      } catch (InvocationTargetException e) {
+        throw new IOException(e.getTargetException().toString());
+      }
+      if (repeated) {
+        if (value != null) {
+          for (int i = 0, length = Array.getLength(value); i < length; i++) {
+            context.serialize(elementName, null, Array.get(value, i), xmlType, javaType);
+          }
+        }
+        return;
+      }
+      if (value == null) {
+        if (!nillable && !omittable) {
+          value = getDefaultValue();
+        }
+        if (omittable) {
+          return;
+        }
+      }
+      context.serialize(elementName, null, value, xmlType, javaType);
+    }
+
+    /**
+     * Gets the value {@link BeanSerializer} sends for a required number that is {@code null}.
+     */
+    private Object getDefaultValue() throws IOException {
+      if (Number.class.isAssignableFrom(javaType)) {
+        try {
+          return javaType.getConstructor(String.class).newInstance("0");
+        } catch (Exception e) {
+          // Fails below like BeanSerializer.
+        }
+      }
+      throw new IOException("Null value for non-nillable element " + propertyName);
+    }
+  }
+}
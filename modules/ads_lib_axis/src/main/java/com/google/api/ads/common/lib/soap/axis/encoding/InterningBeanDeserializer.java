@@ -0,0 +1,58 @@
+// Copyright 2016 Google Inc. All Rights Reserved.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.api.ads.common.lib.soap.axis.encoding;
+
+import com.google.api.ads.common.lib.soap.FieldInterner;
+
+import org.apache.axis.MessageContext;
+import org.apache.axis.description.TypeDesc;
+import org.apache.axis.encoding.DeserializationContext;
+import org.apache.axis.encoding.ser.BeanDeserializer;
+import org.xml.sax.SAXException;
+
+import java.util.Map;
+
+import javax.xml.namespace.QName;
+
+/**
+ * Bean deserializer that interns the configured string fields of each bean once its element has
+ * been deserialized, using the {@link FieldInterner} set as the {@link FieldInterner#PROPERTY}
+ * property of the call. Beans are deserialized as by {@link BeanDeserializer} if the property is
+ * not set.
+ */
+public class InterningBeanDeserializer extends BeanDeserializer {
+
+  private static final long serialVersionUID = 1L;
+
+  @SuppressWarnings("rawtypes") // Axis declares the property map as a raw Map.
+  public InterningBeanDeserializer(
+      Class<?> javaType, QName xmlType, TypeDesc typeDesc, Map propertyMap) {
+    super(javaType, xmlType, typeDesc, propertyMap);
+  }
+
+  @Override
+  public void onEndElement(String namespace, String localName, DeserializationContext context)
+      throws SAXException {
+    super.onEndElement(namespace, localName, context);
+    MessageContext messageContext = context.getMessageContext();
+    if (messageContext != null && value != null) {
+      Object fieldInterner = messageContext.getProperty(FieldInterner.PROPERTY);
+      if (fieldInterner instanceof FieldInterner) {
+        // The properties of the bean are all set by the time its end element is reached.
+        ((FieldInterner) fieldInterner).internFields(value);
+      }
+    }
+  }
+}
@@ -0,0 +1,93 @@
+// Copyright 2016 Google Inc. All Rights Reserved.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.api.ads.common.lib.soap.axis.encoding;
+
+import org.apache.axis.Constants;
+import org.apache.axis.encoding.ser.BaseDeserializerFactory;
+import org.apache.axis.encoding.ser.BeanDeserializer;
+import org.apache.axis.encoding.ser.BeanDeserializerFactory;
+
+import javax.xml.namespace.QName;
+import javax.xml.rpc.JAXRPCException;
+import javax.xml.rpc.encoding.Deserializer;
+
+/**
+ * Deserializer factory for generated beans that defers the work done by
+ * {@link BeanDeserializerFactory}, which initializes the bean class and introspects its type
+ * metadata, until the bean is first deserialized.
+ *
+ * <p>Generated stubs register a deserializer factory for every type reachable from the service
+ * when the first call is made, so deferring this work means only the types actually received are
+ * initialized. Beans are deserialized by an {@link InterningBeanDeserializer}, which interns the
+ * configured string fields of each bean if interning is enabled for the call.
+ */
+public class LazyBeanDeserializerFactory extends BaseDeserializerFactory {
+
+  private static final long serialVersionUID = 1L;
+
+  private transient volatile BeanDeserializerFactory delegate;
+
+  public LazyBeanDeserializerFactory(Class<?> javaType, QName xmlType) {
+    super(BeanDeserializer.class, xmlType, javaType);
+  }
+
+  /**
+   * Factory method called reflectively by
+   * {@link BaseDeserializerFactory#createFactory(Class, Class, QName)}.
+   */
+  public static LazyBeanDeserializerFactory create(Class<?> javaType, QName xmlType) {
+    return new LazyBeanDeserializerFactory(javaType, xmlType);
+  }
+
+  @Override
+  public Deserializer getDeserializerAs(String mechanismType) throws JAXRPCException {
+    return getDelegate().getDeserializerAs(mechanismType);
+  }
+
+  /**
+   * Gets the {@link BeanDeserializerFactory} for this factory's type, creating it on first use.
+   */
+  BeanDeserializerFactory getDelegate() {
+    BeanDeserializerFactory result = delegate;
+    if (result == null) {
+      // Creating the delegate more than once is harmless, so no lock is needed.
+      result = new InterningBeanDeserializerFactory(javaType, xmlType);
+      delegate = result;
+    }
+    return result;
+  }
+
+  /**
+   * Bean deserializer factory whose SAX deserializers are {@link InterningBeanDeserializer}s.
+   */
+  private static final class InterningBeanDeserializerFactory extends BeanDeserializerFactory {
+
+    private static final long serialVersionUID = 1L;
+
+    InterningBeanDeserializerFactory(Class<?> javaType, QName xmlType) {
+      super(javaType, xmlType);
+    }
+
+    @Override
+    public Deserializer getDeserializerAs(String mechanismType) throws JAXRPCException {
+      // Enum types keep their EnumDeserializer. The deserializer returned by the getDeserializer
+      // method of generated beans, which takes precedence in the superclass, is replaced.
+      if (Constants.AXIS_SAX.equals(mechanismType) && deserClass == BeanDeserializer.class) {
+        return new InterningBeanDeserializer(javaType, xmlType, typeDesc, propertyMap);
+      }
+      return super.getDeserializerAs(mechanismType);
+    }
+  }
+}
@@ -0,0 +1,83 @@
+// Copyright 2016 Google Inc. All Rights Reserved.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.api.ads.common.lib.soap.axis.encoding;
+
+import org.apache.axis.Constants;
+import org.apache.axis.description.TypeDesc;
+import org.apache.axis.encoding.ser.BaseSerializerFactory;
+import org.apache.axis.encoding.ser.BeanSerializer;
+import org.apache.axis.encoding.ser.BeanSerializerFactory;
+
+import javax.xml.namespace.QName;
+import javax.xml.rpc.JAXRPCException;
+import javax.xml.rpc.encoding.Serializer;
+
+/**
+ * Serializer factory for generated beans that defers the work done by
+ * {@link BeanSerializerFactory}, which initializes the bean class and introspects its type
+ * metadata, until the bean is first serialized.
+ *
+ * <p>Generated stubs register a serializer factory for every type reachable from the service
+ * when the first call is made, so deferring this work means only the types actually sent are
+ * initialized. Beans are serialized by a {@link CompiledBeanSerializer}, shared by all the beans of
+ * this factory's type.
+ */
+public class LazyBeanSerializerFactory extends BaseSerializerFactory {
+
+  private static final long serialVersionUID = 1L;
+
+  private transient volatile BeanSerializerFactory delegate;
+  private transient volatile CompiledBeanSerializer serializer;
+
+  public LazyBeanSerializerFactory(Class<?> javaType, QName xmlType) {
+    super(BeanSerializer.class, xmlType, javaType);
+  }
+
+  /**
+   * Factory method called reflectively by
+   * {@link BaseSerializerFactory#createFactory(Class, Class, QName)}.
+   */
+  public static LazyBeanSerializerFactory create(Class<?> javaType, QName xmlType) {
+    return new LazyBeanSerializerFactory(javaType, xmlType);
+  }
+
+  @Override
+  public Serializer getSerializerAs(String mechanismType) throws JAXRPCException {
+    if (!Constants.AXIS_SAX.equals(mechanismType)) {
+      return getDelegate().getSerializerAs(mechanismType);
+    }
+    CompiledBeanSerializer result = serializer;
+    if (result == null) {
+      // Creating the serializer more than once is harmless, so no lock is needed.
+      result = new CompiledBeanSerializer(
+          javaType, xmlType, TypeDesc.getTypeDescForClass(javaType));
+      serializer = result;
+    }
+    return result;
+  }
+
+  /**
+   * Gets the {@link BeanSerializerFactory} for this factory's type, creating it on first use.
+   */
+  BeanSerializerFactory getDelegate() {
+    BeanSerializerFactory result = delegate;
+    if (result == null) {
+      // Creating the delegate more than once is harmless, so no lock is needed.
+      result = new BeanSerializerFactory(javaType, xmlType);
+      delegate = result;
+    }
+    return result;
+  }
+}
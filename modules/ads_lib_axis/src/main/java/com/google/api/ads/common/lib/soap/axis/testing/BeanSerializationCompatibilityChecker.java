@@ -0,0 +1,233 @@
+// Copyright 2016 Google Inc. All Rights Reserved.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+
+package com.google.api.ads.common.lib.soap.axis.testing;
+
+import com.google.api.ads.common.lib.soap.axis.encoding.CompiledBeanSerializer;
+import com.google.api.ads.common.lib.soap.axis.encoding.LazyBeanSerializerFactory;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+import com.google.common.reflect.ClassPath;
+import com.google.common.reflect.ClassPath.ClassInfo;
+
+import org.apache.axis.Message;
+import org.apache.axis.MessageContext;
+import org.apache.axis.client.AxisClient;
+import org.apache.axis.client.Call;
+import org.apache.axis.client.Stub;
+import org.apache.axis.description.FieldDesc;
+import org.apache.axis.description.TypeDesc;
+import org.apache.axis.encoding.DeserializationContext;
+import org.apache.axis.encoding.SerializationContext;
+import org.apache.axis.encoding.TypeMapping;
+import org.apache.axis.encoding.TypeMappingRegistry;
+import org.apache.axis.message.MessageElement;
+import org.xml.sax.InputSource;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.List;
+import java.util.Set;
+
+import javax.xml.namespace.QName;
+
+/**
+ * Checks that the generated beans of a package serialize to the same XML with and without
+ * {@link CompiledBeanSerializer}'s serialization plans, and that the XML written from the plans
+ * deserializes to an equal bean. Each bean type registered with a
+ * {@link LazyBeanSerializerFactory} by the stubs of the package is checked with a sample bean
+ * whose properties are all set.
+ */
+public final class BeanSerializationCompatibilityChecker {
+
+  private static final String SOAP_START_BODY =
+      "<soapenv:Envelope xmlns:soapenv=\"http://schemas.xmlsoap.org/soap/envelope/\">"
+      + "<soapenv:Body>";
+  private static final String SOAP_END_BODY = "</soapenv:Body></soapenv:Envelope>";
+  private static final QName ELEMENT_NAME = new QName("https://ads.google.com/test", "bean");
+  /** Depth of nested beans set on a sample bean, so that recursive types terminate. */
+  private static final int MAX_SAMPLE_DEPTH = 3;
+
+  private final AxisClient axisClient = new AxisClient();
+  private final Set<Class<?>> checkedClasses = Sets.newHashSet();
+  private final List<String> mismatches = Lists.newArrayList();
+
+  /**
+   * Checks the bean types of the stubs in the package and its subpackages.
+   *
+   * @param packageName the package of the generated stubs, such as
+   *     {@code com.google.api.ads.adwords.axis.v201609}
+   * @throws Exception if a stub could not be created, or a bean could not be serialized
+   */
+  public void checkPackage(String packageName) throws Exception {
+    ClassLoader classLoader = getClass().getClassLoader();
+    for (ClassInfo classInfo :
+        ClassPath.from(classLoader).getTopLevelClassesRecursive(packageName)) {
+      if (classInfo.getSimpleName().endsWith("SoapBindingStub")) {
+        checkStub(classInfo.load());
+      }
+    }
+  }
+
+  /**
+   * Gets the bean types checked so far.
+   */
+  public Set<Class<?>> getCheckedClasses() {
+    return checkedClasses;
+  }
+
+  /**
+   * Gets a description of each bean type whose serialized forms did not match, or whose bean
+   * did not survive the round trip.
+   */
+  public List<String> getMismatches() {
+    return mismatches;
+  }
+
+  private void checkStub(Class<?> stubClass) throws Exception {
+    Stub stub = (Stub) stubClass.newInstance();
+    Method createCallMethod = stubClass.getDeclaredMethod("createCall");
+    createCallMethod.setAccessible(true);
+    Call call = (Call) createCallMethod.invoke(stub);
+    TypeMappingRegistry typeMappingRegistry =
+        (TypeMappingRegistry) call.getService().getTypeMappingRegistry();
+    TypeMapping typeMapping = call.getTypeMapping();
+    for (Class<?> beanClass : typeMapping.getAllClasses()) {
+      QName xmlType = typeMapping.getTypeQName(beanClass);
+      if (Modifier.isAbstract(beanClass.getModifiers())
+          || !(typeMapping.getSerializer(beanClass, xmlType) instanceof LazyBeanSerializerFactory)
+          || !checkedClasses.add(beanClass)) {
+        continue;
+      }
+      Object bean = createSample(beanClass, 0);
+      String beanXml = serialize(typeMappingRegistry, bean, xmlType, false);
+      String compiledBeanXml = serialize(typeMappingRegistry, bean, xmlType, true);
+      if (!beanXml.equals(compiledBeanXml)) {
+        mismatches.add(String.format("%s serialized to %s instead of %s",
+            beanClass.getName(), compiledBeanXml, beanXml));
+        continue;
+      }
+      Object deserializedBean = deserialize(typeMappingRegistry, compiledBeanXml, xmlType);
+      if (!bean.equals(deserializedBean)) {
+        mismatches.add(String.format("%s did not deserialize from %s",
+            beanClass.getName(), compiledBeanXml));
+      }
+    }
+  }
+
+  private String serialize(TypeMappingRegistry typeMappingRegistry, Object bean, QName xmlType,
+      boolean compiled) throws IOException {
+    MessageContext messageContext = createMessageContext(typeMappingRegistry);
+    messageContext.setProperty(CompiledBeanSerializer.ENABLED_OPTION, compiled);
+    StringWriter writer = new StringWriter();
+    SerializationContext serializationContext = new SerializationContext(writer, messageContext);
+    serializationContext.setSendDecl(false);
+    serializationContext.setPretty(false);
+    serializationContext.serialize(ELEMENT_NAME, null, bean, xmlType, bean.getClass());
+    return writer.toString();
+  }
+
+  private Object deserialize(TypeMappingRegistry typeMappingRegistry, String beanXml,
+      QName xmlType) throws Exception {
+    DeserializationContext deserializationContext = new DeserializationContext(
+        new InputSource(new StringReader(SOAP_START_BODY + beanXml + SOAP_END_BODY)),
+        createMessageContext(typeMappingRegistry), Message.RESPONSE);
+    deserializationContext.parse();
+    MessageElement element = deserializationContext.getEnvelope().getFirstBody();
+    return element.getValueAsType(xmlType);
+  }
+
+  private MessageContext createMessageContext(TypeMappingRegistry typeMappingRegistry) {
+    MessageContext messageContext = new MessageContext(axisClient);
+    messageContext.setTypeMappingRegistry(typeMappingRegistry);
+    messageContext.setEncodingStyle("");
+    return messageContext;
+  }
+
+  /**
+   * Creates a sample value of a property type, or returns {@code null} if the type has no sample
+   * value, such as an abstract bean type.
+   */
+  private static Object createSample(Class<?> type, int depth) throws Exception {
+    if (type == String.class) {
+      return "text & <value>";
+    } else if (type == Long.class || type == long.class) {
+      return 1L;
+    } else if (type == Integer.class || type == int.class) {
+      return 2;
+    } else if (type == Double.class || type == double.class) {
+      return 3.5;
+    } else if (type == Float.class || type == float.class) {
+      return 4.5f;
+    } else if (type == Boolean.class || type == boolean.class) {
+      return true;
+    } else if (type == byte[].class) {
+      return new byte[] {1, 2, 3};
+    } else if (type.isArray()) {
+      Object element = createSample(type.getComponentType(), depth);
+      if (element == null) {
+        return null;
+      }
+      Object array = Array.newInstance(type.getComponentType(), 1);
+      Array.set(array, 0, element);
+      return array;
+    }
+    Object enumValue = getEnumValue(type);
+    if (enumValue != null) {
+      return enumValue;
+    }
+    TypeDesc typeDesc = TypeDesc.getTypeDescForClass(type);
+    if (typeDesc == null || depth > MAX_SAMPLE_DEPTH
+        || Modifier.isAbstract(type.getModifiers())) {
+      return null;
+    }
+    Object bean = type.newInstance();
+    FieldDesc[] fields = typeDesc.getFields(true);
+    for (FieldDesc field : fields == null ? new FieldDesc[0] : fields) {
+      String suffix = Character.toUpperCase(field.getFieldName().charAt(0))
+          + field.getFieldName().substring(1);
+      for (Method setter : type.getMethods()) {
+        if (setter.getName().equals("set" + suffix) && setter.getParameterTypes().length == 1) {
+          Object value = createSample(setter.getParameterTypes()[0], depth + 1);
+          if (value != null) {
+            setter.invoke(bean, value);
+          }
+          break;
+        }
+      }
+    }
+    return bean;
+  }
+
+  /**
+   * Gets the first constant of a generated enumeration type, or {@code null} if the type is not
+   * an enumeration.
+   */
+  private static Object getEnumValue(Class<?> type) throws IllegalAccessException {
+    for (Field field : type.getFields()) {
+      int modifiers = field.getModifiers();
+      if (field.getType() == type && Modifier.isStatic(modifiers) && Modifier.isFinal(modifiers)) {
+        return field.get(null);
+      }
+    }
+    return type.isEnum() ? ImmutableList.copyOf(type.getEnumConstants()).get(0) : null;
+  }
+}
@@ -23,9 +23,10 @@ import org.apache.axis.client.Stub;
 public class MockAxisServiceSoapBindingStub extends Stub implements MockAxisServiceInterface {
 
   /**
-   * @param service ignored - here only for consistency with WSDL2Java-generated stubs
+   * @param service the service that creates calls for this stub
    */
   public MockAxisServiceSoapBindingStub(javax.xml.rpc.Service service) {
+    super.service = service;
   }
 
   @Override
@@ -0,0 +1,266 @@
+// Copyright 2016 Google Inc. All Rights Reserved.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.api.ads.common.lib.soap.axis.transport;
+
+import com.google.common.annotations.VisibleForTesting;
+
+import org.apache.axis.AxisFault;
+import org.apache.axis.Handler;
+import org.apache.axis.Message;
+import org.apache.axis.MessageContext;
+import org.apache.axis.SOAPPart;
+import org.apache.axis.handlers.BasicHandler;
+import org.apache.axis.transport.http.HTTPConstants;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+import javax.annotation.Nullable;
+import javax.xml.soap.MimeHeaders;
+
+/**
+ * Axis transport request handler that decides, for each call, whether the SOAP request is worth
+ * compressing. Requests whose serialized size is below the configured threshold are sent
+ * uncompressed, since the CPU time spent compressing them outweighs the few bytes saved.
+ *
+ * <p>For each call with compression enabled on the stub, the handler records the
+ * {@link CompressionStats} of the call in its message context, whatever the log level, so that
+ * the threshold can be tuned: the size of the request and its compressed size, the size of the
+ * response and its compressed size when the server reports it, and the CPU time spent in the
+ * transport. They can be read with {@link #getStats} from the message context of the stub's last
+ * call. The request message is sent as is, and the size of the response is counted as Axis reads
+ * it, so the response is still read as a stream. The {@link #getResponseHandler() response
+ * handler} also logs the statistics of each call when the {@code debug} level of this class's
+ * logger is enabled.
+ */
+public class AdaptiveCompressionHandler extends BasicHandler {
+
+  /**
+   * The message context property holding the {@link CompressionStats} of a call.
+   */
+  public static final String STATS_PROPERTY =
+      AdaptiveCompressionHandler.class.getName() + ".stats";
+
+  private final int compressionThreshold;
+  private final Logger statsLogger;
+  private final Handler responseHandler = new CompressionStatsHandler();
+
+  /**
+   * Constructor.
+   *
+   * @param compressionThreshold the minimum size in bytes of a serialized request for it to be
+   *     compressed
+   */
+  public AdaptiveCompressionHandler(int compressionThreshold) {
+    this(compressionThreshold, LoggerFactory.getLogger(AdaptiveCompressionHandler.class));
+  }
+
+  @VisibleForTesting
+  AdaptiveCompressionHandler(int compressionThreshold, Logger statsLogger) {
+    this.compressionThreshold = compressionThreshold;
+    this.statsLogger = statsLogger;
+  }
+
+  /**
+   * Gets the handler to deploy as the response handler of the transport, which completes the
+   * compression statistics of each call with its response.
+   */
+  public Handler getResponseHandler() {
+    return responseHandler;
+  }
+
+  /**
+   * Gets the compression statistics of a call.
+   *
+   * @param msgContext the message context of the call, e.g. from
+   *     {@code ((Stub) service)._getCall().getMessageContext()}
+   * @return the statistics, or {@code null} if compression was not enabled for the call
+   */
+  @Nullable
+  public static CompressionStats getStats(MessageContext msgContext) {
+    return (CompressionStats) msgContext.getProperty(STATS_PROPERTY);
+  }
+
+  /**
+   * Overrides the request compression set on the stub by {@code AxisHandler.setCompression} if
+   * the serialized request is smaller than the threshold, and records the statistics of the
+   * call. Serializing the request here does not add any work, since Axis keeps the serialized
+   * form and writes it out as is.
+   */
+  @Override
+  public void invoke(MessageContext msgContext) throws AxisFault {
+    msgContext.removeProperty(STATS_PROPERTY);
+    if (!msgContext.isPropertyTrue(HTTPConstants.MC_GZIP_REQUEST)) {
+      return;
+    }
+    Message requestMessage = msgContext.getRequestMessage();
+    if (requestMessage == null) {
+      return;
+    }
+    long requestSize = requestMessage.getContentLength();
+    boolean compressRequest = requestSize >= compressionThreshold;
+    if (!compressRequest) {
+      msgContext.setProperty(HTTPConstants.MC_GZIP_REQUEST, Boolean.FALSE);
+    }
+    msgContext.setProperty(STATS_PROPERTY, new CompressionStats(
+        requestMessage, requestSize, compressRequest, getCurrentThreadCpuTime()));
+  }
+
+  /**
+   * Gets the CPU time of the current thread in nanoseconds, or -1 if it is not supported by the
+   * JVM.
+   */
+  @VisibleForTesting
+  static long getCurrentThreadCpuTime() {
+    ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+    return threadMXBean.isCurrentThreadCpuTimeSupported()
+        ? threadMXBean.getCurrentThreadCpuTime() : -1;
+  }
+
+  /**
+   * Gets the compressed size of the response from its {@code Content-Length} header.
+   *
+   * @return the compressed size, or -1 if the response was not compressed or its size was not
+   *     reported
+   */
+  private static long getCompressedResponseSize(Message responseMessage) {
+    MimeHeaders mimeHeaders = responseMessage.getMimeHeaders();
+    String[] contentEncoding = mimeHeaders.getHeader(HTTPConstants.HEADER_CONTENT_ENCODING);
+    String[] contentLength = mimeHeaders.getHeader(HTTPConstants.HEADER_CONTENT_LENGTH);
+    if (contentEncoding == null || contentLength == null
+        || !HTTPConstants.COMPRESSION_GZIP.equalsIgnoreCase(contentEncoding[0])) {
+      return -1;
+    }
+    try {
+      return Long.parseLong(contentLength[0].trim());
+    } catch (NumberFormatException e) {
+      return -1;
+    }
+  }
+
+  /**
+   * Sets the size of the response of a call, and logs its statistics if enabled.
+   */
+  private void onResponseRead(MessageContext msgContext, CompressionStats stats,
+      long responseSize) {
+    stats.setResponseSize(responseSize);
+    if (statsLogger.isDebugEnabled()) {
+      String operationName =
+          msgContext.getOperation() == null ? null : msgContext.getOperation().getName();
+      statsLogger.debug("Compression stats for {} to {}: {}", operationName,
+          msgContext.getStrProp(MessageContext.TRANS_URL), stats);
+    }
+  }
+
+  /**
+   * Response handler that completes the compression statistics recorded by the request handler.
+   * If the response has not been read yet, its size is set once Axis has read it.
+   */
+  private final class CompressionStatsHandler extends BasicHandler {
+
+    @Override
+    public void invoke(MessageContext msgContext) throws AxisFault {
+      CompressionStats stats = getStats(msgContext);
+      Message responseMessage = msgContext.getResponseMessage();
+      if (stats == null || responseMessage == null) {
+        return;
+      }
+      long startCpuTime = stats.getStartCpuTime();
+      stats.setResponseHeaderStats(getCompressedResponseSize(responseMessage),
+          startCpuTime < 0 ? -1 : getCurrentThreadCpuTime() - startCpuTime);
+
+      SOAPPart soapPart = (SOAPPart) responseMessage.getSOAPPart();
+      if (soapPart.getCurrentForm() == SOAPPart.FORM_INPUTSTREAM) {
+        soapPart.setCurrentMessage(new ResponseSizeInputStream(
+            (InputStream) soapPart.getCurrentMessage(), msgContext, stats),
+            SOAPPart.FORM_INPUTSTREAM);
+      } else {
+        // The response is already in memory, so its size can be read without consuming it.
+        onResponseRead(msgContext, stats, responseMessage.getContentLength());
+      }
+    }
+  }
+
+  /**
+   * Response stream that counts the bytes read from the decompressed response, and sets the
+   * response size of the call when the end of the response is reached or the stream is closed.
+   */
+  private final class ResponseSizeInputStream extends FilterInputStream {
+
+    private final MessageContext msgContext;
+    private final CompressionStats stats;
+    private long count;
+    private boolean done;
+
+    ResponseSizeInputStream(InputStream response, MessageContext msgContext,
+        CompressionStats stats) {
+      super(response);
+      this.msgContext = msgContext;
+      this.stats = stats;
+    }
+
+    @Override
+    public int read() throws IOException {
+      int result = in.read();
+      if (result == -1) {
+        onEnd();
+      } else {
+        count++;
+      }
+      return result;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+      int result = in.read(b, off, len);
+      if (result == -1) {
+        onEnd();
+      } else {
+        count += result;
+      }
+      return result;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+      long result = in.skip(n);
+      count += result;
+      return result;
+    }
+
+    @Override
+    public boolean markSupported() {
+      return false;
+    }
+
+    @Override
+    public void close() throws IOException {
+      onEnd();
+      super.close();
+    }
+
+    private void onEnd() {
+      if (!done) {
+        done = true;
+        onResponseRead(msgContext, stats, count);
+      }
+    }
+  }
+}
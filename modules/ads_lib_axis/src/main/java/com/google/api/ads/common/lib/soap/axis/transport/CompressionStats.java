@@ -0,0 +1,165 @@
+// Copyright 2016 Google Inc. All Rights Reserved.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.api.ads.common.lib.soap.axis.transport;
+
+import com.google.common.io.ByteStreams;
+import com.google.common.io.CountingOutputStream;
+
+import org.apache.axis.Message;
+
+import java.io.IOException;
+import java.util.zip.GZIPOutputStream;
+
+import javax.xml.soap.SOAPException;
+
+/**
+ * Compression statistics of a single call, recorded by {@link AdaptiveCompressionHandler} in the
+ * call's message context whatever the log level. They can be read after the call from the
+ * {@code MessageContext} of the stub's last call with
+ * {@link AdaptiveCompressionHandler#getStats}.
+ *
+ * <p>The response statistics are only known once the response headers have been received, and
+ * the response size once Axis has read the whole response.
+ */
+public final class CompressionStats {
+
+  private final long requestSize;
+  private final boolean requestCompressed;
+  private final long startCpuTime;
+  private Message requestMessage;
+  private long compressedRequestSize = -1;
+  private long compressedResponseSize = -1;
+  private long cpuTimeNanos = -1;
+  private long responseSize = -1;
+
+  CompressionStats(Message requestMessage, long requestSize, boolean requestCompressed,
+      long startCpuTime) {
+    this.requestMessage = requestCompressed ? requestMessage : null;
+    this.requestSize = requestSize;
+    this.requestCompressed = requestCompressed;
+    this.startCpuTime = startCpuTime;
+  }
+
+  /**
+   * Gets the size in bytes of the serialized request.
+   */
+  public long getRequestSize() {
+    return requestSize;
+  }
+
+  /**
+   * Returns {@code true} if the request was sent gzip-compressed.
+   */
+  public boolean isRequestCompressed() {
+    return requestCompressed;
+  }
+
+  /**
+   * Gets the size in bytes of the compressed request, or -1 if the request was sent uncompressed
+   * or could not be serialized again.
+   *
+   * <p>The sender compresses the request as it writes it and does not report the compressed size,
+   * so it is computed on the first call to this method by compressing the serialized request
+   * again the same way. Compression is deterministic, so this is the number of bytes the sender
+   * wrote, and callers that never ask for it do not pay for the second compression.
+   */
+  public synchronized long getCompressedRequestSize() {
+    if (requestMessage != null) {
+      try {
+        CountingOutputStream countingOut = new CountingOutputStream(ByteStreams.nullOutputStream());
+        GZIPOutputStream gzipOut = new GZIPOutputStream(countingOut);
+        requestMessage.writeTo(gzipOut);
+        gzipOut.finish();
+        compressedRequestSize = countingOut.getCount();
+      } catch (IOException e) {
+        compressedRequestSize = -1;
+      } catch (SOAPException e) {
+        compressedRequestSize = -1;
+      }
+      requestMessage = null;
+    }
+    return compressedRequestSize;
+  }
+
+  /**
+   * Gets the size in bytes of the decompressed response, or -1 if the response has not been
+   * read yet.
+   */
+  public synchronized long getResponseSize() {
+    return responseSize;
+  }
+
+  /**
+   * Gets the size in bytes of the compressed response as reported by the server, or -1 if the
+   * response was not compressed or its size was not reported.
+   */
+  public synchronized long getCompressedResponseSize() {
+    return compressedResponseSize;
+  }
+
+  /**
+   * Gets the CPU time in nanoseconds spent in the transport, from before the request is sent until
+   * the response headers are received, or -1 if it is unknown.
+   */
+  public synchronized long getCpuTimeNanos() {
+    return cpuTimeNanos;
+  }
+
+  long getStartCpuTime() {
+    return startCpuTime;
+  }
+
+  synchronized void setResponseHeaderStats(long compressedResponseSize, long cpuTimeNanos) {
+    this.compressedResponseSize = compressedResponseSize;
+    this.cpuTimeNanos = cpuTimeNanos;
+  }
+
+  synchronized void setResponseSize(long responseSize) {
+    this.responseSize = responseSize;
+  }
+
+  /**
+   * Formats the statistics, computing the compressed size of the request if needed.
+   */
+  @Override
+  public String toString() {
+    StringBuilder stats = new StringBuilder()
+        .append("request: ").append(requestSize).append(" bytes");
+    long compressedRequestSize = getCompressedRequestSize();
+    if (compressedRequestSize >= 0) {
+      appendCompressedSize(stats, requestSize, compressedRequestSize);
+    } else {
+      stats.append(" (uncompressed)");
+    }
+    synchronized (this) {
+      stats.append(", response: ").append(responseSize).append(" bytes");
+      if (compressedResponseSize >= 0) {
+        appendCompressedSize(stats, responseSize, compressedResponseSize);
+      }
+      if (cpuTimeNanos >= 0) {
+        stats.append(", transport CPU time: ").append(cpuTimeNanos / 1000).append(" us");
+      }
+    }
+    return stats.toString();
+  }
+
+  private static void appendCompressedSize(StringBuilder stats, long size, long compressedSize) {
+    stats.append(" (compressed to ").append(compressedSize).append(" bytes");
+    if (size > 0) {
+      stats.append(String.format(", ratio %.2f", (double) compressedSize / size));
+    }
+    stats.append(')');
+  }
+}
@@ -0,0 +1,146 @@
+// Copyright 2016 Google Inc. All Rights Reserved.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.api.ads.common.lib.soap.axis.transport;
+
+import com.google.api.ads.common.lib.conf.AdsLibConfiguration;
+import com.google.common.annotations.VisibleForTesting;
+
+import org.apache.axis.components.net.CommonsHTTPClientProperties;
+import org.apache.axis.transport.http.CommonsHTTPSender;
+import org.apache.commons.httpclient.MultiThreadedHttpConnectionManager;
+import org.apache.commons.httpclient.params.HttpConnectionManagerParams;
+import org.apache.commons.httpclient.util.IdleConnectionTimeoutThread;
+
+/**
+ * Axis {@code http} transport that sends SOAP requests over a bounded pool of keep-alive
+ * connections, so that consecutive calls to the same host reuse the TCP connection and TLS
+ * session.
+ *
+ * <p>{@link CommonsHTTPSender} creates a connection pool for each instance, and Axis creates a
+ * sender for each engine configuration. A single instance of this class is instead meant to be
+ * shared by every engine configuration, and is sized using the {@link AdsLibConfiguration}. The
+ * read timeout of each request remains the SOAP request timeout set on the stub.
+ */
+public class PooledHttpSender extends CommonsHTTPSender {
+
+  /** Time to wait for a free pooled connection. Zero waits until one is released. */
+  private static final int CONNECTION_POOL_TIMEOUT = 0;
+
+  private final IdleConnectionTimeoutThread idleConnectionTimeoutThread;
+
+  /**
+   * Constructor.
+   *
+   * @param adsLibConfiguration the lib configuration used to size the connection pool
+   */
+  public PooledHttpSender(AdsLibConfiguration adsLibConfiguration) {
+    MultiThreadedHttpConnectionManager pooledConnectionManager =
+        new MultiThreadedHttpConnectionManager();
+    HttpConnectionManagerParams params =
+        new FixedConnectTimeoutParams(adsLibConfiguration.getConnectTimeout());
+    params.setDefaultMaxConnectionsPerHost(adsLibConfiguration.getMaxConnectionsPerHost());
+    params.setMaxTotalConnections(adsLibConfiguration.getMaxTotalConnections());
+    params.setStaleCheckingEnabled(true);
+    pooledConnectionManager.setParams(params);
+    this.connectionManager = pooledConnectionManager;
+    this.clientProperties = new PooledClientProperties(adsLibConfiguration);
+
+    int idleTimeout = adsLibConfiguration.getConnectionIdleTimeout();
+    idleConnectionTimeoutThread = new IdleConnectionTimeoutThread();
+    idleConnectionTimeoutThread.setName("ads-axis-idle-connection-evictor");
+    idleConnectionTimeoutThread.setDaemon(true);
+    idleConnectionTimeoutThread.setConnectionTimeout(idleTimeout);
+    // Checks at least once a second so short idle timeouts are honored.
+    idleConnectionTimeoutThread.setTimeoutInterval(Math.max(1, Math.min(idleTimeout, 1000)));
+    idleConnectionTimeoutThread.addConnectionManager(pooledConnectionManager);
+    idleConnectionTimeoutThread.start();
+  }
+
+  /**
+   * Does nothing, since the connection pool is created by the constructor instead of the default
+   * per-instance pool of {@link CommonsHTTPSender}.
+   */
+  @Override
+  protected void initialize() {}
+
+  /**
+   * Closes all pooled connections and stops evicting idle connections. The sender must not be
+   * used afterwards.
+   */
+  public void shutdown() {
+    idleConnectionTimeoutThread.shutdown();
+    ((MultiThreadedHttpConnectionManager) connectionManager).shutdown();
+  }
+
+  /**
+   * Gets the connection pool shared by all requests sent with this sender.
+   */
+  @VisibleForTesting
+  MultiThreadedHttpConnectionManager getConnectionManager() {
+    return (MultiThreadedHttpConnectionManager) connectionManager;
+  }
+
+  /**
+   * Connection pool parameters whose connection timeout is fixed. {@link CommonsHTTPSender} sets
+   * both the connection and socket timeouts of its pool to the timeout of each request, which
+   * would otherwise replace the configured connect timeout with the SOAP request timeout.
+   */
+  private static final class FixedConnectTimeoutParams extends HttpConnectionManagerParams {
+
+    FixedConnectTimeoutParams(int connectTimeout) {
+      super.setConnectionTimeout(connectTimeout);
+    }
+
+    @Override
+    public void setConnectionTimeout(int timeout) {}
+  }
+
+  /**
+   * {@link CommonsHTTPClientProperties} backed by the {@link AdsLibConfiguration}.
+   */
+  private static final class PooledClientProperties implements CommonsHTTPClientProperties {
+
+    private final AdsLibConfiguration adsLibConfiguration;
+
+    PooledClientProperties(AdsLibConfiguration adsLibConfiguration) {
+      this.adsLibConfiguration = adsLibConfiguration;
+    }
+
+    @Override
+    public int getMaximumTotalConnections() {
+      return adsLibConfiguration.getMaxTotalConnections();
+    }
+
+    @Override
+    public int getMaximumConnectionsPerHost() {
+      return adsLibConfiguration.getMaxConnectionsPerHost();
+    }
+
+    @Override
+    public int getConnectionPoolTimeout() {
+      return CONNECTION_POOL_TIMEOUT;
+    }
+
+    @Override
+    public int getDefaultConnectionTimeout() {
+      return adsLibConfiguration.getConnectTimeout();
+    }
+
+    @Override
+    public int getDefaultSoTimeout() {
+      return adsLibConfiguration.getSoapRequestTimeout();
+    }
+  }
+}
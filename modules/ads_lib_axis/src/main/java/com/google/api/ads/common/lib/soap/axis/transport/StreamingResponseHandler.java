@@ -0,0 +1,99 @@
+// Copyright 2016 Google Inc. All Rights Reserved.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+
+package com.google.api.ads.common.lib.soap.axis.transport;
+
+import org.apache.axis.AxisFault;
+import org.apache.axis.Message;
+import org.apache.axis.MessageContext;
+import org.apache.axis.SOAPPart;
+import org.apache.axis.handlers.BasicHandler;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * Axis response handler that lets a call read the SOAP response as a stream before Axis parses
+ * it. If the {@link #RESPONSE_FILTER_PROPERTY} property of the call, which can be set on the
+ * stub, is a {@link ResponseFilter}, the filter reads the response and writes the part of the
+ * response that Axis should deserialize, and the written response replaces the received one.
+ * Otherwise, the response is left untouched.
+ *
+ * <p>This lets large responses be processed without Axis building a message tree and objects
+ * for all of their contents.
+ */
+public class StreamingResponseHandler extends BasicHandler {
+
+  /**
+   * Name of the call property whose value is the {@link ResponseFilter} of the call.
+   */
+  public static final String RESPONSE_FILTER_PROPERTY =
+      StreamingResponseHandler.class.getName() + ".responseFilter";
+
+  /**
+   * Filter of the SOAP response of a call.
+   */
+  public interface ResponseFilter {
+
+    /**
+     * Reads the SOAP response and writes the response that Axis should deserialize instead.
+     *
+     * @param response the SOAP response received from the server
+     * @param filteredResponse the stream to write the filtered SOAP response to
+     * @throws IOException if the response could not be read or written
+     */
+    void filter(InputStream response, OutputStream filteredResponse) throws IOException;
+  }
+
+  @Override
+  public void invoke(MessageContext msgContext) throws AxisFault {
+    Object responseFilter = msgContext.getProperty(RESPONSE_FILTER_PROPERTY);
+    Message responseMessage = msgContext.getResponseMessage();
+    if (!(responseFilter instanceof ResponseFilter) || responseMessage == null) {
+      return;
+    }
+    ByteArrayOutputStream filteredResponse = new ByteArrayOutputStream();
+    InputStream response = getResponseStream(responseMessage);
+    try {
+      ((ResponseFilter) responseFilter).filter(response, filteredResponse);
+    } catch (IOException e) {
+      throw AxisFault.makeFault(e);
+    } finally {
+      try {
+        response.close();
+      } catch (IOException e) {
+        // The response was read, so there is nothing left to release.
+      }
+    }
+    Message filteredMessage = new Message(filteredResponse.toByteArray(), false,
+        responseMessage.getMimeHeaders());
+    filteredMessage.setMessageType(Message.RESPONSE);
+    msgContext.setResponseMessage(filteredMessage);
+  }
+
+  /**
+   * Gets the response as a stream, without reading it into memory if it has not been read yet.
+   */
+  private static InputStream getResponseStream(Message responseMessage) throws AxisFault {
+    SOAPPart soapPart = (SOAPPart) responseMessage.getSOAPPart();
+    if (soapPart.getCurrentForm() == SOAPPart.FORM_INPUTSTREAM) {
+      return (InputStream) soapPart.getCurrentMessage();
+    }
+    return new ByteArrayInputStream(soapPart.getAsBytes());
+  }
+}
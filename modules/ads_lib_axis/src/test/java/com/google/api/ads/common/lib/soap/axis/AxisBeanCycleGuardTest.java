@@ -0,0 +1,219 @@
+// Copyright 2016 Google Inc. All Rights Reserved.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.api.ads.common.lib.soap.axis;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Tests for {@link AxisBeanCycleGuard}.
+ */
+@RunWith(JUnit4.class)
+public class AxisBeanCycleGuardTest {
+
+  /**
+   * Tests that a nested {@code equals} on the same bean and declaring class is detected as a cycle
+   * and that the frame is released on exit.
+   */
+  @Test
+  public void testEquals_detectsCycle() {
+    Object bean = new Object();
+    Object other = new Object();
+    assertNull(AxisBeanCycleGuard.enterEquals(Node.class, bean, other));
+    assertSame(other, AxisBeanCycleGuard.enterEquals(Node.class, bean, new Object()));
+    AxisBeanCycleGuard.exitEquals();
+    assertNull(AxisBeanCycleGuard.enterEquals(Node.class, bean, other));
+    AxisBeanCycleGuard.exitEquals();
+  }
+
+  /**
+   * Tests that a superclass {@code equals} on the same instance is not treated as a cycle.
+   */
+  @Test
+  public void testEquals_superclassFrameIsDistinct() {
+    Object bean = new Object();
+    Object other = new Object();
+    assertNull(AxisBeanCycleGuard.enterEquals(ChildNode.class, bean, other));
+    assertNull(AxisBeanCycleGuard.enterEquals(Node.class, bean, other));
+    AxisBeanCycleGuard.exitEquals();
+    AxisBeanCycleGuard.exitEquals();
+  }
+
+  /**
+   * Tests that a nested {@code hashCode} on the same bean is detected as a cycle.
+   */
+  @Test
+  public void testHashCode_detectsCycle() {
+    Object bean = new Object();
+    assertTrue(AxisBeanCycleGuard.enterHashCode(Node.class, bean));
+    assertFalse(AxisBeanCycleGuard.enterHashCode(Node.class, bean));
+    assertTrue(AxisBeanCycleGuard.enterHashCode(ChildNode.class, bean));
+    AxisBeanCycleGuard.exitHashCode();
+    AxisBeanCycleGuard.exitHashCode();
+    assertTrue(AxisBeanCycleGuard.enterHashCode(Node.class, bean));
+    AxisBeanCycleGuard.exitHashCode();
+  }
+
+  /**
+   * Tests cyclic graphs shaped like the generated beans, including graphs deeper than the initial
+   * frame capacity.
+   */
+  @Test
+  public void testGeneratedStyleBeans_cyclicAndDeepGraphs() {
+    Node first = new Node(1);
+    Node second = new Node(1);
+    first.next = first;
+    second.next = second;
+    assertTrue(first.equals(second));
+    assertEquals(first.hashCode(), second.hashCode());
+
+    Node deepFirst = chain(100, 5);
+    Node deepSecond = chain(100, 5);
+    assertTrue(deepFirst.equals(deepSecond));
+    assertEquals(deepFirst.hashCode(), deepSecond.hashCode());
+    assertFalse(deepFirst.equals(chain(100, 6)));
+
+    ChildNode child = new ChildNode(1, "a");
+    assertNotEquals(child, new ChildNode(2, "a"));
+    assertNotEquals(child, new ChildNode(1, "b"));
+    assertEquals(child, new ChildNode(1, "a"));
+  }
+
+  /**
+   * Tests that a thread comparing a bean does not see the frames of another thread comparing the
+   * same bean.
+   */
+  @Test
+  public void testEquals_framesAreThreadConfined() throws Exception {
+    final Object bean = new Object();
+    final CountDownLatch entered = new CountDownLatch(1);
+    final AtomicReference<Object> otherThreadResult = new AtomicReference<Object>(bean);
+    assertNull(AxisBeanCycleGuard.enterEquals(Node.class, bean, new Object()));
+    Thread thread = new Thread() {
+      @Override
+      public void run() {
+        otherThreadResult.set(AxisBeanCycleGuard.enterEquals(Node.class, bean, new Object()));
+        AxisBeanCycleGuard.exitEquals();
+        entered.countDown();
+      }
+    };
+    thread.start();
+    entered.await();
+    AxisBeanCycleGuard.exitEquals();
+    assertNull(otherThreadResult.get());
+  }
+
+  private static Node chain(int length, int lastValue) {
+    Node head = new Node(lastValue);
+    for (int i = 0; i < length; i++) {
+      Node node = new Node(i);
+      node.next = head;
+      head = node;
+    }
+    return head;
+  }
+
+  /**
+   * Bean whose {@code equals} and {@code hashCode} mirror the shape of the generated code.
+   */
+  private static class Node {
+    private final int value;
+    Node next;
+
+    Node(int value) {
+      this.value = value;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (!(obj instanceof Node)) return false;
+      Node other = (Node) obj;
+      if (this == obj) return true;
+      Object equalsCalc = AxisBeanCycleGuard.enterEquals(Node.class, this, obj);
+      if (equalsCalc != null) {
+        return equalsCalc == obj;
+      }
+      try {
+        return value == other.value
+            && ((next == null && other.next == null) || (next != null && next.equals(other.next)));
+      } finally {
+        AxisBeanCycleGuard.exitEquals();
+      }
+    }
+
+    @Override
+    public int hashCode() {
+      if (!AxisBeanCycleGuard.enterHashCode(Node.class, this)) {
+        return 0;
+      }
+      try {
+        return value + (next == null ? 0 : next.hashCode());
+      } finally {
+        AxisBeanCycleGuard.exitHashCode();
+      }
+    }
+  }
+
+  /**
+   * Subclass that chains to {@link Node#equals(Object)} on the same instance.
+   */
+  private static class ChildNode extends Node {
+    private final String name;
+
+    ChildNode(int value, String name) {
+      super(value);
+      this.name = name;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (!(obj instanceof ChildNode)) return false;
+      ChildNode other = (ChildNode) obj;
+      if (this == obj) return true;
+      Object equalsCalc = AxisBeanCycleGuard.enterEquals(ChildNode.class, this, obj);
+      if (equalsCalc != null) {
+        return equalsCalc == obj;
+      }
+      try {
+        return super.equals(obj) && name.equals(other.name);
+      } finally {
+        AxisBeanCycleGuard.exitEquals();
+      }
+    }
+
+    @Override
+    public int hashCode() {
+      if (!AxisBeanCycleGuard.enterHashCode(ChildNode.class, this)) {
+        return 0;
+      }
+      try {
+        return super.hashCode() + name.hashCode();
+      } finally {
+        AxisBeanCycleGuard.exitHashCode();
+      }
+    }
+  }
+}
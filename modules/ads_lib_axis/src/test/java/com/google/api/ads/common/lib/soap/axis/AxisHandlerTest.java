@@ -18,14 +18,17 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 import com.google.api.ads.common.lib.conf.AdsApiConfiguration;
 import com.google.api.ads.common.lib.exception.ServiceException;
+import com.google.api.ads.common.lib.soap.FieldInterner;
 import com.google.api.ads.common.lib.soap.SoapServiceDescriptor;
 import com.google.api.ads.common.lib.soap.axis.testing.mocks.v201611.MockAxisCompatibleServiceDescriptor;
 import com.google.api.ads.common.lib.soap.axis.testing.mocks.v201611.MockAxisServiceInterface;
 import com.google.api.ads.common.lib.utils.NodeExtractor;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
 
@@ -53,6 +56,7 @@ public class AxisHandlerTest {
 
   private AxisHandler axisHandler;
   private Stub stub;
+  private FieldInterner fieldInterner;
   
   @Mock
   private EngineConfigurationFactory engineConfigurationFactory;
@@ -67,7 +71,9 @@ public class AxisHandlerTest {
   @Before
   public void setUp() throws Exception {
     MockitoAnnotations.initMocks(this);
-    axisHandler = new AxisHandler(engineConfigurationFactory, nodeExtractor, adsApiConfiguration);
+    fieldInterner = new FieldInterner(ImmutableList.of("Label.name"), 100);
+    axisHandler = new AxisHandler(
+        engineConfigurationFactory, nodeExtractor, adsApiConfiguration, fieldInterner);
     stub = axisHandler.createSoapClient(new MockAxisCompatibleServiceDescriptor());
   }
 
@@ -90,6 +96,25 @@ public class AxisHandlerTest {
         expectedPrefixedMessage, mockAxisServiceInterface.getTestMessageWithPrefix("myPrefix."));
   }
   
+  @Test
+  public void testCreateSoapClient_setsFieldInterner() {
+    assertSame(fieldInterner, stub._getProperty(FieldInterner.PROPERTY));
+  }
+
+  @Test
+  public void testCreateSoapClient_fieldInterningDisabled() {
+    axisHandler = new AxisHandler(engineConfigurationFactory, nodeExtractor, adsApiConfiguration,
+        new FieldInterner(ImmutableList.<String>of(), 100));
+    stub = axisHandler.createSoapClient(new MockAxisCompatibleServiceDescriptor());
+    assertNull(stub._getProperty(FieldInterner.PROPERTY));
+  }
+
+  @Test
+  public void testWarmUpSoapClient() {
+    axisHandler.warmUpSoapClient(stub);
+    assertNotNull("warmUpSoapClient did not create a call", stub._getCall());
+  }
+
   @Test
   public void testSetAndGetHeader_valid() {
     axisHandler.setHeader(stub, "namespace", "header", "foo");
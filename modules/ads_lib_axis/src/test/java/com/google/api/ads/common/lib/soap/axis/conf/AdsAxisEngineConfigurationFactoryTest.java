@@ -15,12 +15,18 @@
 package com.google.api.ads.common.lib.soap.axis.conf;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.when;
 
 import com.google.api.ads.common.lib.conf.AdsLibConfiguration;
+import com.google.api.ads.common.lib.soap.axis.encoding.CompiledBeanSerializer;
+import com.google.api.ads.common.lib.soap.axis.transport.AdaptiveCompressionHandler;
+import com.google.api.ads.common.lib.soap.axis.transport.PooledHttpSender;
+import com.google.api.ads.common.lib.soap.axis.transport.StreamingResponseHandler;
 import com.google.common.collect.Lists;
 
 import org.apache.axis.AxisEngine;
@@ -28,11 +34,13 @@ import org.apache.axis.AxisFault;
 import org.apache.axis.EngineConfiguration;
 import org.apache.axis.EngineConfigurationFactory;
 import org.apache.axis.Handler;
+import org.apache.axis.SimpleChain;
 import org.apache.axis.TargetedChain;
 import org.apache.axis.client.AxisClient;
 import org.apache.axis.configuration.EngineConfigurationFactoryDefault;
 import org.apache.axis.configuration.EngineConfigurationFactoryFinder;
 import org.apache.axis.server.AxisServer;
+import org.apache.axis.utils.JavaUtils;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -48,6 +56,8 @@ import java.util.List;
  * <li>The AdsAxisEngineConfigurationFactory should only override the default client configuration
  * if compression is enabled in the AdsLibConfiguration <em>and</em> there is no custom WSDD client
  * config set.</li>
+ * <li>The AdsAxisEngineConfigurationFactory should replace the http transport with a shared
+ * {@link PooledHttpSender} if the connection pool is enabled.</li>
  * <li>The AdsAxisEngineConfigurationFactory should never override the default server configuration.
  * </li>
  * </ol>
@@ -117,6 +127,8 @@ public class AdsAxisEngineConfigurationFactoryTest {
 
     assertEquals(org.apache.axis.transport.http.CommonsHTTPSender.class,
         getTransport(axisClient, "http").getPivotHandler().getClass());
+    assertEquals(AdaptiveCompressionHandler.class,
+        getTransport(axisClient, "http").getRequestHandler().getClass());
 
     assertEquals(org.apache.axis.transport.local.LocalSender.class,
         getTransport(axisClient, "local").getPivotHandler().getClass());
@@ -128,6 +140,60 @@ public class AdsAxisEngineConfigurationFactoryTest {
         defaultAxisServer);
   }
 
+  /**
+   * Tests that the client engine configs returned by the factory when the connection pool is
+   * enabled share a single pooled http transport and otherwise match the default client config.
+   */
+  @Test
+  public void testGetClientEngineConfig_connectionPoolEnabled() throws Exception {
+    when(adsLibConfiguration.isConnectionPoolEnabled()).thenReturn(true);
+    when(adsLibConfiguration.getMaxConnectionsPerHost()).thenReturn(2);
+    when(adsLibConfiguration.getMaxTotalConnections()).thenReturn(4);
+    when(adsLibConfiguration.getConnectionIdleTimeout()).thenReturn(1000);
+
+    AxisClient axisClient = new AxisClient(adsAxisConfigFactory.getClientEngineConfig());
+    AxisClient otherAxisClient = new AxisClient(adsAxisConfigFactory.getClientEngineConfig());
+
+    Handler pivotHandler = getTransport(axisClient, "http").getPivotHandler();
+    assertEquals(PooledHttpSender.class, pivotHandler.getClass());
+    assertSame("Clients should share the connection pool", pivotHandler,
+        getTransport(otherAxisClient, "http").getPivotHandler());
+
+    for (String transportName : new String[] {"local", "java"}) {
+      assertEquals("Pivot handler is not of the expected type",
+          getTransport(defaultAxisClient, transportName).getPivotHandler().getClass(),
+          getTransport(axisClient, transportName).getPivotHandler().getClass());
+    }
+    ((PooledHttpSender) pivotHandler).shutdown();
+  }
+
+  /**
+   * Tests that the client engine config runs a {@link StreamingResponseHandler} as part of the
+   * global response chain.
+   */
+  @Test
+  public void testGetClientEngineConfig_streamingResponseHandler() throws Exception {
+    AxisClient axisClient = new AxisClient(adsAxisConfigFactory.getClientEngineConfig());
+
+    Handler globalResponse = axisClient.getGlobalResponse();
+    assertTrue("Global response handler is not a chain", globalResponse instanceof SimpleChain);
+    Handler[] handlers = ((SimpleChain) globalResponse).getHandlers();
+    assertEquals(StreamingResponseHandler.class, handlers[handlers.length - 1].getClass());
+  }
+
+  /**
+   * Tests that enabling compiled serializers sets the option on the client engine.
+   */
+  @Test
+  public void testGetClientEngineConfig_compiledSerializers() throws Exception {
+    AxisClient axisClient = new AxisClient(adsAxisConfigFactory.getClientEngineConfig());
+    assertFalse(JavaUtils.isTrue(axisClient.getOption(CompiledBeanSerializer.ENABLED_OPTION)));
+
+    when(adsLibConfiguration.isCompiledSerializersEnabled()).thenReturn(true);
+    axisClient = new AxisClient(adsAxisConfigFactory.getClientEngineConfig());
+    assertTrue(JavaUtils.isTrue(axisClient.getOption(CompiledBeanSerializer.ENABLED_OPTION)));
+  }
+
   @Test
   public void testGetClientEngineConfig_factoryOverrideSet() throws Exception {
     List<Boolean> compressionEnabledSettings = Lists.newArrayList(Boolean.TRUE, Boolean.FALSE);
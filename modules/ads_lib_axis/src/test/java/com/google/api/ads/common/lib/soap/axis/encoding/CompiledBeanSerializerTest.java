@@ -0,0 +1,206 @@
+// Copyright 2016 Google Inc. All Rights Reserved.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+
+package com.google.api.ads.common.lib.soap.axis.encoding;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.apache.axis.Constants;
+import org.apache.axis.MessageContext;
+import org.apache.axis.client.AxisClient;
+import org.apache.axis.description.ElementDesc;
+import org.apache.axis.description.TypeDesc;
+import org.apache.axis.encoding.SerializationContext;
+import org.apache.axis.encoding.TypeMapping;
+import org.apache.axis.encoding.TypeMappingRegistryImpl;
+import org.apache.axis.encoding.ser.BaseDeserializerFactory;
+import org.apache.axis.encoding.ser.BaseSerializerFactory;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.io.StringWriter;
+
+import javax.xml.namespace.QName;
+
+/**
+ * Tests for {@link CompiledBeanSerializer}.
+ */
+@RunWith(JUnit4.class)
+public class CompiledBeanSerializerTest {
+
+  private static final String NAMESPACE = "https://ads.google.com/test";
+  private static final QName XML_TYPE = new QName(NAMESPACE, "TestBean");
+  private static final QName ELEMENT_NAME = new QName(NAMESPACE, "bean");
+
+  private TypeMappingRegistryImpl typeMappingRegistry;
+  private TestBean bean;
+
+  @Before
+  public void setUp() {
+    typeMappingRegistry = new TypeMappingRegistryImpl(true);
+    TypeMapping typeMapping = typeMappingRegistry.getOrMakeTypeMapping("");
+    typeMapping.register(TestBean.class, XML_TYPE,
+        BaseSerializerFactory.createFactory(
+            LazyBeanSerializerFactory.class, TestBean.class, XML_TYPE),
+        BaseDeserializerFactory.createFactory(
+            LazyBeanDeserializerFactory.class, TestBean.class, XML_TYPE));
+    bean = new TestBean();
+    bean.setName("name");
+    bean.setIds(new Long[] {1L, 2L});
+    bean.setUndescribed("undescribed");
+  }
+
+  /**
+   * Tests that the plan contains the described properties of the bean, in order.
+   */
+  @Test
+  public void testGetPlan() {
+    CompiledBeanSerializer serializer =
+        new CompiledBeanSerializer(TestBean.class, XML_TYPE, TestBean.getTypeDesc());
+    CompiledBeanSerializer.SerializationPlan plan = serializer.getPlan();
+    assertTrue(plan.isSupported());
+    assertEquals(2, plan.properties.size());
+    assertSame(plan, serializer.getPlan());
+  }
+
+  /**
+   * Tests that the bean is serialized from the plan when enabled. Unlike the Axis bean
+   * serializer, the plan only sends the properties described by the type metadata.
+   */
+  @Test
+  public void testSerialize_enabled() throws Exception {
+    String beanXml = serialize(true);
+    assertTrue(beanXml, beanXml.contains(">name</ns1:name>"));
+    assertTrue(beanXml, beanXml.contains(">1</ns1:ids>"));
+    assertTrue(beanXml, beanXml.contains(">2</ns1:ids>"));
+    assertFalse(beanXml, beanXml.contains("undescribed"));
+    assertTrue(beanXml, beanXml.indexOf("ns1:name") < beanXml.indexOf("ns1:ids"));
+  }
+
+  /**
+   * Tests that the Axis bean serializer is used when the plans are not enabled.
+   */
+  @Test
+  public void testSerialize_disabled() throws Exception {
+    String beanXml = serialize(false);
+    assertTrue(beanXml, beanXml.contains(">name</ns1:name>"));
+    assertTrue(beanXml, beanXml.contains("undescribed"));
+  }
+
+  /**
+   * Tests that the factory returns the same serializer for every bean of its type.
+   */
+  @Test
+  public void testFactory_sharesSerializer() {
+    LazyBeanSerializerFactory factory = LazyBeanSerializerFactory.create(TestBean.class, XML_TYPE);
+    assertTrue(factory.getSerializerAs(Constants.AXIS_SAX) instanceof CompiledBeanSerializer);
+    assertSame(factory.getSerializerAs(Constants.AXIS_SAX),
+        factory.getSerializerAs(Constants.AXIS_SAX));
+  }
+
+  /**
+   * Tests that the plans are used when enabled by the option of the engine.
+   */
+  @Test
+  public void testSerialize_enabledByEngine() throws Exception {
+    AxisClient axisClient = new AxisClient();
+    axisClient.setOption(CompiledBeanSerializer.ENABLED_OPTION, Boolean.TRUE);
+    MessageContext messageContext = new MessageContext(axisClient);
+    messageContext.setTypeMappingRegistry(typeMappingRegistry);
+    messageContext.setEncodingStyle("");
+    StringWriter writer = new StringWriter();
+    SerializationContext context = new SerializationContext(writer, messageContext);
+    context.serialize(ELEMENT_NAME, null, bean, XML_TYPE, TestBean.class);
+    assertFalse(writer.toString(), writer.toString().contains("undescribed"));
+  }
+
+  private String serialize(boolean enabled) throws Exception {
+    MessageContext messageContext = new MessageContext(new AxisClient());
+    messageContext.setTypeMappingRegistry(typeMappingRegistry);
+    messageContext.setEncodingStyle("");
+    messageContext.setProperty(CompiledBeanSerializer.ENABLED_OPTION, enabled);
+    StringWriter writer = new StringWriter();
+    SerializationContext context = new SerializationContext(writer, messageContext);
+    context.setSendDecl(false);
+    context.serialize(ELEMENT_NAME, null, bean, XML_TYPE, TestBean.class);
+    return writer.toString();
+  }
+
+  /**
+   * Bean exposing type metadata the same way as the generated beans, with a property that is not
+   * described by the metadata.
+   */
+  public static class TestBean {
+    private String name;
+    private Long[] ids;
+    private String undescribed;
+
+    public String getName() {
+      return name;
+    }
+
+    public void setName(String name) {
+      this.name = name;
+    }
+
+    public Long[] getIds() {
+      return ids;
+    }
+
+    public void setIds(Long[] ids) {
+      this.ids = ids;
+    }
+
+    public Long getIds(int i) {
+      return ids[i];
+    }
+
+    public void setIds(int i, Long id) {
+      this.ids[i] = id;
+    }
+
+    public String getUndescribed() {
+      return undescribed;
+    }
+
+    public void setUndescribed(String undescribed) {
+      this.undescribed = undescribed;
+    }
+
+    public static TypeDesc getTypeDesc() {
+      TypeDesc typeDesc = new TypeDesc(TestBean.class, true);
+      typeDesc.setXmlType(XML_TYPE);
+      typeDesc.addFieldDesc(createElement("name", "string", false));
+      typeDesc.addFieldDesc(createElement("ids", "long", true));
+      return typeDesc;
+    }
+
+    private static ElementDesc createElement(String name, String xmlType, boolean repeated) {
+      ElementDesc element = new ElementDesc();
+      element.setFieldName(name);
+      element.setXmlName(new QName(NAMESPACE, name));
+      element.setXmlType(new QName("http://www.w3.org/2001/XMLSchema", xmlType));
+      element.setMinOccurs(0);
+      element.setNillable(false);
+      element.setMaxOccursUnbounded(repeated);
+      return element;
+    }
+  }
+}
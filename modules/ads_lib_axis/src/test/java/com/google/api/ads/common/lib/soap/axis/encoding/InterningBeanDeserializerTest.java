@@ -0,0 +1,161 @@
+// Copyright 2016 Google Inc. All Rights Reserved.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.api.ads.common.lib.soap.axis.encoding;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import com.google.api.ads.common.lib.soap.FieldInterner;
+import com.google.common.collect.ImmutableList;
+
+import org.apache.axis.Constants;
+import org.apache.axis.Message;
+import org.apache.axis.MessageContext;
+import org.apache.axis.client.AxisClient;
+import org.apache.axis.description.ElementDesc;
+import org.apache.axis.description.TypeDesc;
+import org.apache.axis.encoding.DeserializationContext;
+import org.apache.axis.encoding.TypeMapping;
+import org.apache.axis.encoding.TypeMappingRegistryImpl;
+import org.apache.axis.encoding.ser.BaseDeserializerFactory;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+import org.xml.sax.InputSource;
+
+import java.io.StringReader;
+
+import javax.xml.namespace.QName;
+
+/**
+ * Tests for {@link InterningBeanDeserializer}.
+ */
+@RunWith(JUnit4.class)
+public class InterningBeanDeserializerTest {
+
+  private static final String NAMESPACE = "https://ads.google.com/test";
+  private static final QName XML_TYPE = new QName(NAMESPACE, "TestBean");
+  private static final String RESPONSE_XML =
+      "<soapenv:Envelope xmlns:soapenv=\"http://schemas.xmlsoap.org/soap/envelope/\">"
+      + "<soapenv:Body><ns:bean xmlns:ns=\"" + NAMESPACE + "\">"
+      + "<ns:name>label</ns:name><ns:description>description</ns:description>"
+      + "</ns:bean></soapenv:Body></soapenv:Envelope>";
+
+  private TypeMappingRegistryImpl typeMappingRegistry;
+  private FieldInterner fieldInterner;
+
+  @Before
+  public void setUp() {
+    typeMappingRegistry = new TypeMappingRegistryImpl(true);
+    TypeMapping typeMapping = typeMappingRegistry.getOrMakeTypeMapping("");
+    typeMapping.register(TestBean.class, XML_TYPE, null,
+        BaseDeserializerFactory.createFactory(
+            LazyBeanDeserializerFactory.class, TestBean.class, XML_TYPE));
+    fieldInterner = new FieldInterner(ImmutableList.of("TestBean.name"), 100);
+  }
+
+  /**
+   * Tests that the configured fields of beans deserialized with the interner are interned.
+   */
+  @Test
+  public void testDeserialize_interned() throws Exception {
+    TestBean first = deserialize(fieldInterner);
+    TestBean second = deserialize(fieldInterner);
+    assertEquals("label", first.getName());
+    assertSame(first.getName(), second.getName());
+    assertNotSame(first.getDescription(), second.getDescription());
+    assertEquals(1, fieldInterner.getStringInterner().getReplacedCount());
+    assertTrue(fieldInterner.getStringInterner().getEstimatedBytesSaved() > 0);
+  }
+
+  /**
+   * Tests that no field is interned if the interner is not set on the call.
+   */
+  @Test
+  public void testDeserialize_notInterned() throws Exception {
+    TestBean first = deserialize(null);
+    TestBean second = deserialize(null);
+    assertEquals(first.getName(), second.getName());
+    assertNotSame(first.getName(), second.getName());
+  }
+
+  /**
+   * Tests that the factory returns interning deserializers.
+   */
+  @Test
+  public void testFactory_returnsInterningDeserializer() {
+    LazyBeanDeserializerFactory factory =
+        LazyBeanDeserializerFactory.create(TestBean.class, XML_TYPE);
+    assertTrue(factory.getDeserializerAs(Constants.AXIS_SAX) instanceof InterningBeanDeserializer);
+  }
+
+  private TestBean deserialize(FieldInterner interner) throws Exception {
+    MessageContext messageContext = new MessageContext(new AxisClient());
+    messageContext.setTypeMappingRegistry(typeMappingRegistry);
+    messageContext.setEncodingStyle("");
+    if (interner != null) {
+      messageContext.setProperty(FieldInterner.PROPERTY, interner);
+    }
+    DeserializationContext context = new DeserializationContext(
+        new InputSource(new StringReader(RESPONSE_XML)), messageContext, Message.RESPONSE);
+    context.parse();
+    return (TestBean) context.getEnvelope().getFirstBody().getValueAsType(XML_TYPE);
+  }
+
+  /**
+   * Bean exposing type metadata the same way as the generated beans.
+   */
+  public static class TestBean {
+    private String name;
+    private String description;
+
+    public String getName() {
+      return name;
+    }
+
+    public void setName(String name) {
+      this.name = name;
+    }
+
+    public String getDescription() {
+      return description;
+    }
+
+    public void setDescription(String description) {
+      this.description = description;
+    }
+
+    public static TypeDesc getTypeDesc() {
+      TypeDesc typeDesc = new TypeDesc(TestBean.class, true);
+      typeDesc.setXmlType(XML_TYPE);
+      typeDesc.addFieldDesc(createElement("name"));
+      typeDesc.addFieldDesc(createElement("description"));
+      return typeDesc;
+    }
+
+    private static ElementDesc createElement(String name) {
+      ElementDesc element = new ElementDesc();
+      element.setFieldName(name);
+      element.setXmlName(new QName(NAMESPACE, name));
+      element.setXmlType(new QName("http://www.w3.org/2001/XMLSchema", "string"));
+      element.setMinOccurs(0);
+      element.setNillable(false);
+      return element;
+    }
+  }
+}
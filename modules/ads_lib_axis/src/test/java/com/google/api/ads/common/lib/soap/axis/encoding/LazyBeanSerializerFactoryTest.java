@@ -0,0 +1,138 @@
+// Copyright 2016 Google Inc. All Rights Reserved.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.api.ads.common.lib.soap.axis.encoding;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.apache.axis.Constants;
+import org.apache.axis.description.TypeDesc;
+import org.apache.axis.encoding.DeserializerFactory;
+import org.apache.axis.encoding.SerializerFactory;
+import org.apache.axis.encoding.ser.BaseDeserializerFactory;
+import org.apache.axis.encoding.ser.BaseSerializerFactory;
+import org.apache.axis.encoding.ser.BeanDeserializer;
+import org.apache.axis.encoding.ser.BeanSerializer;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.xml.namespace.QName;
+
+/**
+ * Tests for {@link LazyBeanSerializerFactory} and {@link LazyBeanDeserializerFactory}.
+ */
+@RunWith(JUnit4.class)
+public class LazyBeanSerializerFactoryTest {
+
+  private static final QName XML_TYPE = new QName("https://ads.google.com/test", "TestBean");
+
+  /**
+   * Tests that the serializer factory created the way generated stubs register type mappings
+   * does not request type metadata until a serializer is requested.
+   */
+  @Test
+  public void testSerializerFactory_defersTypeDesc() {
+    SerializerFactory factory = BaseSerializerFactory.createFactory(
+        LazyBeanSerializerFactory.class, SerializedBean.class, XML_TYPE);
+    assertTrue(factory instanceof LazyBeanSerializerFactory);
+    assertEquals(XML_TYPE, ((BaseSerializerFactory) factory).getXMLType());
+    assertSame(SerializedBean.class, ((BaseSerializerFactory) factory).getJavaType());
+    assertEquals(0, SerializedBean.typeDescRequests.get());
+
+    assertTrue(factory.getSerializerAs(Constants.AXIS_SAX) instanceof BeanSerializer);
+    assertTrue(SerializedBean.typeDescRequests.get() > 0);
+  }
+
+  /**
+   * Tests that the deserializer factory created the way generated stubs register type mappings
+   * does not request type metadata until a deserializer is requested.
+   */
+  @Test
+  public void testDeserializerFactory_defersTypeDesc() {
+    DeserializerFactory factory = BaseDeserializerFactory.createFactory(
+        LazyBeanDeserializerFactory.class, DeserializedBean.class, XML_TYPE);
+    assertTrue(factory instanceof LazyBeanDeserializerFactory);
+    assertEquals(0, DeserializedBean.typeDescRequests.get());
+
+    assertTrue(factory.getDeserializerAs(Constants.AXIS_SAX) instanceof BeanDeserializer);
+    assertTrue(DeserializedBean.typeDescRequests.get() > 0);
+  }
+
+  /**
+   * Tests that the underlying bean factory is only created once.
+   */
+  @Test
+  public void testDelegate_reused() {
+    LazyBeanSerializerFactory serializerFactory =
+        LazyBeanSerializerFactory.create(SerializedBean.class, XML_TYPE);
+    assertSame(serializerFactory.getDelegate(), serializerFactory.getDelegate());
+    LazyBeanDeserializerFactory deserializerFactory =
+        LazyBeanDeserializerFactory.create(DeserializedBean.class, XML_TYPE);
+    assertSame(deserializerFactory.getDelegate(), deserializerFactory.getDelegate());
+  }
+
+  /**
+   * Bean exposing type metadata the same way as the generated beans. Axis caches type
+   * metadata per class, so each test that counts requests uses its own bean class.
+   */
+  public static class SerializedBean {
+    static final AtomicInteger typeDescRequests = new AtomicInteger();
+
+    private String name;
+
+    public String getName() {
+      return name;
+    }
+
+    public void setName(String name) {
+      this.name = name;
+    }
+
+    public static TypeDesc getTypeDesc() {
+      typeDescRequests.incrementAndGet();
+      TypeDesc typeDesc = new TypeDesc(SerializedBean.class, true);
+      typeDesc.setXmlType(XML_TYPE);
+      return typeDesc;
+    }
+  }
+
+  /**
+   * Bean used by the deserializer test.
+   */
+  public static class DeserializedBean {
+    static final AtomicInteger typeDescRequests = new AtomicInteger();
+
+    private String name;
+
+    public String getName() {
+      return name;
+    }
+
+    public void setName(String name) {
+      this.name = name;
+    }
+
+    public static TypeDesc getTypeDesc() {
+      typeDescRequests.incrementAndGet();
+      TypeDesc typeDesc = new TypeDesc(DeserializedBean.class, true);
+      typeDesc.setXmlType(XML_TYPE);
+      return typeDesc;
+    }
+  }
+}
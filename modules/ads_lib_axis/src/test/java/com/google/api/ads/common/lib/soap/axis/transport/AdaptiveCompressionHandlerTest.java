@@ -0,0 +1,232 @@
+// Copyright 2016 Google Inc. All Rights Reserved.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.api.ads.common.lib.soap.axis.transport;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Matchers.isNull;
+import static org.mockito.Matchers.same;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.common.base.Charsets;
+import com.google.common.io.ByteStreams;
+
+import org.apache.axis.Message;
+import org.apache.axis.MessageContext;
+import org.apache.axis.SOAPPart;
+import org.apache.axis.client.AxisClient;
+import org.apache.axis.transport.http.HTTPConstants;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+import org.slf4j.Logger;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Tests for {@link AdaptiveCompressionHandler}.
+ */
+@RunWith(JUnit4.class)
+public class AdaptiveCompressionHandlerTest {
+
+  private static final String SOAP_REQUEST =
+      "<soapenv:Envelope xmlns:soapenv=\"http://schemas.xmlsoap.org/soap/envelope/\">"
+      + "<soapenv:Body><get/></soapenv:Body></soapenv:Envelope>";
+
+  private static final String SOAP_RESPONSE =
+      "<soapenv:Envelope xmlns:soapenv=\"http://schemas.xmlsoap.org/soap/envelope/\">"
+      + "<soapenv:Body><getResponse/></soapenv:Body></soapenv:Envelope>";
+
+  private static final String STATS_FORMAT = "Compression stats for {} to {}: {}";
+
+  private MessageContext messageContext;
+  private Message requestMessage;
+  private Logger statsLogger;
+
+  @Before
+  public void setUp() throws Exception {
+    messageContext = new MessageContext(new AxisClient());
+    requestMessage = new Message(SOAP_REQUEST);
+    messageContext.setRequestMessage(requestMessage);
+    statsLogger = mock(Logger.class);
+    when(statsLogger.isDebugEnabled()).thenReturn(true);
+  }
+
+  /**
+   * Tests that a request smaller than the threshold is sent uncompressed.
+   */
+  @Test
+  public void testInvoke_belowThreshold() throws Exception {
+    messageContext.setProperty(HTTPConstants.MC_GZIP_REQUEST, Boolean.TRUE);
+    new AdaptiveCompressionHandler(SOAP_REQUEST.length() + 1).invoke(messageContext);
+    assertFalse(messageContext.isPropertyTrue(HTTPConstants.MC_GZIP_REQUEST));
+  }
+
+  /**
+   * Tests that a request at least as large as the threshold is still compressed.
+   */
+  @Test
+  public void testInvoke_atThreshold() throws Exception {
+    messageContext.setProperty(HTTPConstants.MC_GZIP_REQUEST, Boolean.TRUE);
+    new AdaptiveCompressionHandler(SOAP_REQUEST.length()).invoke(messageContext);
+    assertTrue(messageContext.isPropertyTrue(HTTPConstants.MC_GZIP_REQUEST));
+  }
+
+  /**
+   * Tests that the handler does not enable compression for a stub with compression disabled.
+   */
+  @Test
+  public void testInvoke_compressionDisabled() throws Exception {
+    new AdaptiveCompressionHandler(0).invoke(messageContext);
+    assertNull(messageContext.getProperty(HTTPConstants.MC_GZIP_REQUEST));
+  }
+
+  /**
+   * Tests that the statistics of a call are recorded whatever the log level, without replacing
+   * the request message or the compression of the sender, and that the compressed size of the
+   * request is the size of the gzip-compressed request.
+   */
+  @Test
+  public void testInvoke_statsCompressedRequest() throws Exception {
+    when(statsLogger.isDebugEnabled()).thenReturn(false);
+    messageContext.setProperty(HTTPConstants.MC_GZIP_REQUEST, Boolean.TRUE);
+    new AdaptiveCompressionHandler(0, statsLogger).invoke(messageContext);
+
+    assertTrue(messageContext.isPropertyTrue(HTTPConstants.MC_GZIP_REQUEST));
+    assertSame(requestMessage, messageContext.getRequestMessage());
+    assertNull(requestMessage.getMimeHeaders().getHeader(HTTPConstants.HEADER_CONTENT_ENCODING));
+    CompressionStats stats = AdaptiveCompressionHandler.getStats(messageContext);
+    assertEquals(SOAP_REQUEST.length(), stats.getRequestSize());
+    assertTrue(stats.isRequestCompressed());
+    ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+    GZIPOutputStream gzipOut = new GZIPOutputStream(compressed);
+    requestMessage.writeTo(gzipOut);
+    gzipOut.close();
+    assertEquals(compressed.size(), stats.getCompressedRequestSize());
+    assertEquals(-1, stats.getResponseSize());
+  }
+
+  /**
+   * Tests that the statistics of an uncompressed request have no compressed size.
+   */
+  @Test
+  public void testInvoke_statsUncompressedRequest() throws Exception {
+    messageContext.setProperty(HTTPConstants.MC_GZIP_REQUEST, Boolean.TRUE);
+    new AdaptiveCompressionHandler(SOAP_REQUEST.length() + 1).invoke(messageContext);
+
+    CompressionStats stats = AdaptiveCompressionHandler.getStats(messageContext);
+    assertFalse(stats.isRequestCompressed());
+    assertEquals(-1, stats.getCompressedRequestSize());
+  }
+
+  /**
+   * Tests that no statistics are recorded for a call without compression, and that the
+   * statistics of a previous call on the same message context are cleared.
+   */
+  @Test
+  public void testInvoke_noStatsWhenCompressionDisabled() throws Exception {
+    messageContext.setProperty(HTTPConstants.MC_GZIP_REQUEST, Boolean.TRUE);
+    AdaptiveCompressionHandler handler = new AdaptiveCompressionHandler(0);
+    handler.invoke(messageContext);
+    messageContext.setProperty(HTTPConstants.MC_GZIP_REQUEST, Boolean.FALSE);
+    handler.invoke(messageContext);
+
+    assertNull(AdaptiveCompressionHandler.getStats(messageContext));
+  }
+
+  /**
+   * Tests that the response handler does not read the response, and that the response size is
+   * set and the statistics are logged once Axis has read the response.
+   */
+  @Test
+  public void testResponseHandler_logsStatsWhenResponseIsRead() throws Exception {
+    messageContext.setProperty(HTTPConstants.MC_GZIP_REQUEST, Boolean.TRUE);
+    AdaptiveCompressionHandler handler = new AdaptiveCompressionHandler(0, statsLogger);
+    handler.invoke(messageContext);
+    Message responseMessage = new Message(
+        new ByteArrayInputStream(SOAP_RESPONSE.getBytes(Charsets.UTF_8)), false);
+    responseMessage.getMimeHeaders().addHeader(
+        HTTPConstants.HEADER_CONTENT_ENCODING, HTTPConstants.COMPRESSION_GZIP);
+    responseMessage.getMimeHeaders().addHeader(HTTPConstants.HEADER_CONTENT_LENGTH, "42");
+    messageContext.setResponseMessage(responseMessage);
+
+    handler.getResponseHandler().invoke(messageContext);
+
+    CompressionStats stats = AdaptiveCompressionHandler.getStats(messageContext);
+    assertEquals(42, stats.getCompressedResponseSize());
+    assertEquals(-1, stats.getResponseSize());
+    SOAPPart soapPart = (SOAPPart) responseMessage.getSOAPPart();
+    assertEquals("The response should still be a stream",
+        SOAPPart.FORM_INPUTSTREAM, soapPart.getCurrentForm());
+    verify(statsLogger, never()).debug(anyString(), any(), any(), any());
+
+    ByteStreams.toByteArray((InputStream) soapPart.getCurrentMessage());
+
+    assertEquals(SOAP_RESPONSE.length(), stats.getResponseSize());
+    verify(statsLogger).debug(eq(STATS_FORMAT), isNull(), isNull(), same(stats));
+  }
+
+  /**
+   * Tests that the response size is set, but the statistics are not logged, when debug logging
+   * is disabled.
+   */
+  @Test
+  public void testResponseHandler_debugDisabled() throws Exception {
+    when(statsLogger.isDebugEnabled()).thenReturn(false);
+    messageContext.setProperty(HTTPConstants.MC_GZIP_REQUEST, Boolean.TRUE);
+    AdaptiveCompressionHandler handler = new AdaptiveCompressionHandler(0, statsLogger);
+    handler.invoke(messageContext);
+    messageContext.setResponseMessage(new Message(SOAP_RESPONSE));
+
+    handler.getResponseHandler().invoke(messageContext);
+
+    CompressionStats stats = AdaptiveCompressionHandler.getStats(messageContext);
+    assertEquals(SOAP_RESPONSE.length(), stats.getResponseSize());
+    assertEquals(-1, stats.getCompressedResponseSize());
+    verify(statsLogger, never()).debug(anyString(), any(), any(), any());
+  }
+
+  /**
+   * Tests the formatting of the compression statistics of a call.
+   */
+  @Test
+  public void testStatsToString() throws Exception {
+    CompressionStats stats = new CompressionStats(requestMessage, SOAP_REQUEST.length(), true, 0);
+    stats.setResponseHeaderStats(2500, 1500000);
+    stats.setResponseSize(10000);
+    assertEquals("request: " + SOAP_REQUEST.length() + " bytes (compressed to "
+        + stats.getCompressedRequestSize() + " bytes, ratio "
+        + String.format("%.2f", (double) stats.getCompressedRequestSize() / SOAP_REQUEST.length())
+        + "), response: 10000 bytes (compressed to 2500 bytes, ratio 0.25), transport CPU time: "
+        + "1500 us", stats.toString());
+
+    stats = new CompressionStats(requestMessage, 100, false, -1);
+    stats.setResponseSize(300);
+    assertEquals("request: 100 bytes (uncompressed), response: 300 bytes", stats.toString());
+  }
+}
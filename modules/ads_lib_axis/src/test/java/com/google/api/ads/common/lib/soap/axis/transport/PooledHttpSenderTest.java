@@ -0,0 +1,84 @@
+// Copyright 2016 Google Inc. All Rights Reserved.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.api.ads.common.lib.soap.axis.transport;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.when;
+
+import com.google.api.ads.common.lib.conf.AdsLibConfiguration;
+
+import org.apache.commons.httpclient.params.HttpConnectionManagerParams;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+/**
+ * Tests for {@link PooledHttpSender}.
+ */
+@RunWith(JUnit4.class)
+public class PooledHttpSenderTest {
+
+  private PooledHttpSender pooledHttpSender;
+
+  @Mock
+  private AdsLibConfiguration adsLibConfiguration;
+
+  @Before
+  public void setUp() throws Exception {
+    MockitoAnnotations.initMocks(this);
+
+    when(adsLibConfiguration.getMaxConnectionsPerHost()).thenReturn(3);
+    when(adsLibConfiguration.getMaxTotalConnections()).thenReturn(7);
+    when(adsLibConfiguration.getConnectionIdleTimeout()).thenReturn(5000);
+    when(adsLibConfiguration.getConnectTimeout()).thenReturn(1234);
+
+    pooledHttpSender = new PooledHttpSender(adsLibConfiguration);
+  }
+
+  @After
+  public void tearDown() {
+    pooledHttpSender.shutdown();
+  }
+
+  /**
+   * Tests that the connection pool is sized from the configuration.
+   */
+  @Test
+  public void testConnectionPool_sizedFromConfiguration() {
+    HttpConnectionManagerParams params = pooledHttpSender.getConnectionManager().getParams();
+    assertEquals(3, params.getDefaultMaxConnectionsPerHost());
+    assertEquals(7, params.getMaxTotalConnections());
+    assertTrue(params.isStaleCheckingEnabled());
+  }
+
+  /**
+   * Tests that setting the per-request timeouts on the pool, as {@code CommonsHTTPSender} does,
+   * only changes the socket timeout and keeps the configured connect timeout.
+   */
+  @Test
+  public void testConnectionPool_connectTimeoutIsFixed() {
+    HttpConnectionManagerParams params = pooledHttpSender.getConnectionManager().getParams();
+    params.setSoTimeout(60000);
+    params.setConnectionTimeout(60000);
+
+    assertEquals(60000, params.getSoTimeout());
+    assertEquals(1234, params.getConnectionTimeout());
+  }
+}
@@ -0,0 +1,109 @@
+// Copyright 2016 Google Inc. All Rights Reserved.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+
+package com.google.api.ads.common.lib.soap.axis.transport;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import com.google.api.ads.common.lib.soap.axis.transport.StreamingResponseHandler.ResponseFilter;
+import com.google.common.base.Charsets;
+import com.google.common.io.ByteStreams;
+
+import org.apache.axis.AxisFault;
+import org.apache.axis.Message;
+import org.apache.axis.MessageContext;
+import org.apache.axis.client.AxisClient;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * Tests for {@link StreamingResponseHandler}.
+ */
+@RunWith(JUnit4.class)
+public class StreamingResponseHandlerTest {
+
+  private static final String SOAP_RESPONSE =
+      "<soapenv:Envelope xmlns:soapenv=\"http://schemas.xmlsoap.org/soap/envelope/\">"
+      + "<soapenv:Body><getResponse><rval>%s</rval></getResponse></soapenv:Body>"
+      + "</soapenv:Envelope>";
+
+  private MessageContext messageContext;
+  private Message responseMessage;
+
+  @Before
+  public void setUp() throws Exception {
+    messageContext = new MessageContext(new AxisClient());
+    responseMessage = new Message(new ByteArrayInputStream(
+        String.format(SOAP_RESPONSE, "entries").getBytes(Charsets.UTF_8)), false);
+    messageContext.setResponseMessage(responseMessage);
+  }
+
+  /**
+   * Tests that the response is left untouched if the call has no filter.
+   */
+  @Test
+  public void testInvoke_noFilter() throws Exception {
+    new StreamingResponseHandler().invoke(messageContext);
+    assertSame(responseMessage, messageContext.getResponseMessage());
+  }
+
+  /**
+   * Tests that the filter reads the received response and that its output replaces the response.
+   */
+  @Test
+  public void testInvoke_filter() throws Exception {
+    messageContext.setProperty(StreamingResponseHandler.RESPONSE_FILTER_PROPERTY,
+        new ResponseFilter() {
+          @Override
+          public void filter(InputStream response, OutputStream filteredResponse)
+              throws IOException {
+            String responseString =
+                new String(ByteStreams.toByteArray(response), Charsets.UTF_8);
+            assertEquals(String.format(SOAP_RESPONSE, "entries"), responseString);
+            filteredResponse.write(responseString.replace("entries", "filtered")
+                .getBytes(Charsets.UTF_8));
+          }
+        });
+    new StreamingResponseHandler().invoke(messageContext);
+
+    Message filteredMessage = messageContext.getResponseMessage();
+    assertEquals(String.format(SOAP_RESPONSE, "filtered"), filteredMessage.getSOAPPartAsString());
+    assertEquals(Message.RESPONSE, filteredMessage.getMessageType());
+  }
+
+  /**
+   * Tests that an exception thrown by the filter fails the call.
+   */
+  @Test(expected = AxisFault.class)
+  public void testInvoke_filterFails() throws Exception {
+    messageContext.setProperty(StreamingResponseHandler.RESPONSE_FILTER_PROPERTY,
+        new ResponseFilter() {
+          @Override
+          public void filter(InputStream response, OutputStream filteredResponse)
+              throws IOException {
+            throw new IOException("Malformed response");
+          }
+        });
+    new StreamingResponseHandler().invoke(messageContext);
+  }
+}
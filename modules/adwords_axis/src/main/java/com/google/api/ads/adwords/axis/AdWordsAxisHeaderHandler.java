@@ -27,17 +27,27 @@ import com.google.api.ads.common.lib.soap.axis.AxisHandler;
 import com.google.api.ads.common.lib.soap.axis.AxisSoapHeaderFactory;
 import com.google.api.ads.common.lib.useragent.UserAgentCombiner;
 import com.google.common.base.Preconditions;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 
 import org.apache.axis.client.Stub;
 
 import java.lang.reflect.InvocationTargetException;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
 
 import javax.inject.Inject;
+import javax.inject.Singleton;
 
 /**
  * AdWords implementation of {@link HeaderHandler} for Axis.
+ *
+ * <p>The {@code RequestHeader} built for a snapshot of the session's header values is cached and
+ * shared by all stubs, so only the {@code Authorization} HTTP header is recomputed on each call.
+ * Cached headers must therefore not be modified once set on a stub.
  */
+@Singleton
 public class AdWordsAxisHeaderHandler implements
     HeaderHandler<AdWordsSession, AdWordsServiceDescriptor> {
 
@@ -51,7 +61,13 @@ public class AdWordsAxisHeaderHandler implements
   private final AxisSoapHeaderFactory<AdWordsServiceDescriptor> soapHeaderFactory;
   
   static final String REQUEST_HEADER_LOCAL_PART = "RequestHeader";
-  
+
+  /** Maximum number of distinct session snapshots whose headers are cached. */
+  private static final int MAX_CACHED_SOAP_HEADERS = 100;
+
+  private final Cache<List<Object>, Object> soapHeaderCache =
+      CacheBuilder.newBuilder().maximumSize(MAX_CACHED_SOAP_HEADERS).build();
+
   /**
    * Constructor.
    *
@@ -94,33 +110,52 @@ public class AdWordsAxisHeaderHandler implements
       Preconditions.checkArgument(soapClient instanceof Stub,
           "soapClient must be Stub but was: %s", soapClient);
       Stub stub = (Stub) soapClient;
-      Object soapHeader = soapHeaderFactory.createSoapHeader(adWordsServiceDescriptor);
 
       String namespace =
           adWordsApiConfiguration.getNamespacePrefix() + "/"
               + adWordsServiceDescriptor.getPackageGroup() + "/"
               + adWordsServiceDescriptor.getVersion();
-
-      soapClientHandler.setHeader(stub, namespace, REQUEST_HEADER_LOCAL_PART, soapHeader);
-
-      soapClientHandler.setHeaderChild(stub, REQUEST_HEADER_LOCAL_PART, "developerToken",
-          adWordsSession.getDeveloperToken());
-      soapClientHandler.setHeaderChild(stub, REQUEST_HEADER_LOCAL_PART, "clientCustomerId",
-          adWordsSession.getClientCustomerId());
-      soapClientHandler.setHeaderChild(stub, REQUEST_HEADER_LOCAL_PART, "userAgent",
-          userAgentCombiner.getUserAgent(adWordsSession.getUserAgent()));
-      soapClientHandler.setHeaderChild(stub, REQUEST_HEADER_LOCAL_PART, "validateOnly",
-          adWordsSession.isValidateOnly());
-      soapClientHandler.setHeaderChild(stub, REQUEST_HEADER_LOCAL_PART, "partialFailure",
-          adWordsSession.isPartialFailure());
+      // Always combine the user agent, since doing so drains the registered ads utilities.
+      String userAgent = userAgentCombiner.getUserAgent(adWordsSession.getUserAgent());
+
+      List<Object> soapHeaderKey = Arrays.<Object>asList(
+          namespace,
+          adWordsServiceDescriptor.getSubProduct(),
+          adWordsSession.getDeveloperToken(),
+          adWordsSession.getClientCustomerId(),
+          userAgent,
+          adWordsSession.isValidateOnly(),
+          adWordsSession.isPartialFailure(),
+          adWordsSession.getExpressBusinessId(),
+          adWordsSession.getExpressPlusPageId());
+      Object soapHeader = soapHeaderCache.getIfPresent(soapHeaderKey);
+      if (soapHeader != null) {
+        soapClientHandler.setHeader(stub, namespace, REQUEST_HEADER_LOCAL_PART, soapHeader);
+      } else {
+        soapHeader = soapHeaderFactory.createSoapHeader(adWordsServiceDescriptor);
+        soapClientHandler.setHeader(stub, namespace, REQUEST_HEADER_LOCAL_PART, soapHeader);
+
+        soapClientHandler.setHeaderChild(stub, REQUEST_HEADER_LOCAL_PART, "developerToken",
+            adWordsSession.getDeveloperToken());
+        soapClientHandler.setHeaderChild(stub, REQUEST_HEADER_LOCAL_PART, "clientCustomerId",
+            adWordsSession.getClientCustomerId());
+        soapClientHandler.setHeaderChild(stub, REQUEST_HEADER_LOCAL_PART, "userAgent",
+            userAgent);
+        soapClientHandler.setHeaderChild(stub, REQUEST_HEADER_LOCAL_PART, "validateOnly",
+            adWordsSession.isValidateOnly());
+        soapClientHandler.setHeaderChild(stub, REQUEST_HEADER_LOCAL_PART, "partialFailure",
+            adWordsSession.isPartialFailure());
+
+        HeaderHandler<AdWordsSession, AdWordsServiceDescriptor> subProductHandler =
+            subProductHeaderHandlerMap.get(adWordsServiceDescriptor.getSubProduct());
+
+        subProductHandler.setHeaders(soapClient, adWordsSession, adWordsServiceDescriptor);
+
+        soapHeaderCache.put(soapHeaderKey, soapHeader);
+      }
 
       soapClientHandler.setCompression(stub, adsLibConfiguration.isCompressionEnabled());
       soapClientHandler.setRequestTimeout(stub, adsLibConfiguration.getSoapRequestTimeout());
-      
-      HeaderHandler<AdWordsSession, AdWordsServiceDescriptor> subProductHandler =
-          subProductHeaderHandlerMap.get(adWordsServiceDescriptor.getSubProduct());
-
-      subProductHandler.setHeaders(soapClient, adWordsSession, adWordsServiceDescriptor);
 
       setAuthenticationHeaders(soapClient, adWordsSession);
 
@@ -50,13 +50,13 @@ import javax.xml.transform.stream.StreamSource;
  * Utility for deserializing XML to Axis objects.
  */
 public class AxisDeserializer {
-  private static final String SOAP_START_BODY =
+  static final String SOAP_START_BODY =
       "<soapenv:Envelope xmlns:soapenv=\"http://schemas.xmlsoap.org/soap/envelope/\" "
       + "xmlns:xsd=\"http://www.w3.org/2001/XMLSchema\" "
       + "xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\">"
       + "<soapenv:Body>";
 
-  private static final String SOAP_END_BODY = "</soapenv:Body></soapenv:Envelope>";
+  static final String SOAP_END_BODY = "</soapenv:Body></soapenv:Envelope>";
 
   private static final String INDENT_AMOUNT = "4";
 
@@ -132,7 +132,7 @@ public class AxisDeserializer {
   /**
    * Adds the type mappings in the list to {@code registryTypeMapping}.
    */
-  private void registerTypeMappings(
+  static void registerTypeMappings(
       TypeMapping registryTypeMapping, List<TypeMapping> typeMappings) {
     Preconditions.checkNotNull(registryTypeMapping, "Null registry type mapping");
     Preconditions.checkNotNull(typeMappings, "Null type mappings");
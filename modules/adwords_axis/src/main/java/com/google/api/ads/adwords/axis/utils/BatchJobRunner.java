@@ -0,0 +1,42 @@
+// Copyright 2016 Google Inc. All Rights Reserved.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.api.ads.adwords.axis.utils;
+
+import com.google.api.ads.adwords.lib.utils.BatchJobException;
+
+import java.rmi.RemoteException;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Runs operations as batch jobs. Used by {@link MutateExecutionPlanner} for operations that are
+ * too many to send with {@code mutate} requests. Implementations that run a single batch job for
+ * each API version are in the version's {@code batchjob} package, and
+ * {@link ShardedBatchJobRunner} spreads operations over several of them.
+ */
+public interface BatchJobRunner {
+
+  /**
+   * Uploads the operations to new batch jobs, waits for the jobs to finish and downloads their
+   * results.
+   *
+   * @param operations the operations, which are read as they are uploaded
+   * @return the result of each operation, in the order of the operations
+   * @throws BatchJobException if the operations could not be uploaded, or a job did not finish
+   * @throws RemoteException if the batch job service could not create or get a job
+   */
+  List<OperationResult<Object>> run(Iterator<?> operations)
+      throws BatchJobException, RemoteException;
+}
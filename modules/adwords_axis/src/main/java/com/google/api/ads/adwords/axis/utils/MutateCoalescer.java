@@ -0,0 +1,229 @@
+// Copyright 2016 Google Inc. All Rights Reserved.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.api.ads.adwords.axis.utils;
+
+import com.google.api.ads.adwords.lib.client.AdWordsSession;
+import com.google.api.ads.adwords.lib.factory.BaseAdWordsServices;
+import com.google.api.ads.common.lib.exception.ValidationException;
+import com.google.common.base.Preconditions;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.SettableFuture;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Coalesces the operations submitted by many threads into mutate calls of up to
+ * {@code maxOperations} operations, so that small changes made concurrently do not each cost a
+ * round trip:
+ *
+ * <pre>
+ * MutateCoalescer&lt;AdGroupCriterionOperation, AdGroupCriterion&gt; coalescer =
+ *     MutateCoalescer.create(adWordsServices, session, AdGroupCriterionServiceInterface.class,
+ *         AdGroupCriterionOperation.class, 2000, 100);
+ * ListenableFuture&lt;AdGroupCriterion&gt; criterion = coalescer.submit(operation);
+ * </pre>
+ *
+ * <p>An operation waits at most {@code maxDelayMillis} for others to join its call. Calls are
+ * made with partial failure enabled, one at a time, by a thread of the coalescer. The future of
+ * each operation completes with the operation's value, or fails with a
+ * {@link PartialFailureException} holding the operation's {@code ApiError}s. If the whole call
+ * fails, the futures of all its operations fail with the call's exception. Likewise, an
+ * {@code ApiError} whose field path names no operation index cannot be attributed to an
+ * operation, so it fails every operation of its call, including operations submitted by other
+ * threads. Operations in other calls are not affected.
+ *
+ * <p>The service object, and so its session, determine the customer of all operations. Use one
+ * coalescer per service and customer.
+ *
+ * @param <OperationT> the operation type
+ * @param <ValueT> the type of the values returned by the mutate method
+ */
+public class MutateCoalescer<OperationT, ValueT> implements Closeable {
+
+  private final MutateInvoker<OperationT> mutateInvoker;
+  private final int maxOperations;
+  private final long maxDelayMillis;
+  private final ScheduledExecutorService executorService;
+
+  private final Object lock = new Object();
+  private List<PendingOperation<OperationT, ValueT>> pendingOperations =
+      new ArrayList<PendingOperation<OperationT, ValueT>>();
+  private ScheduledFuture<?> scheduledFlush;
+  private boolean closed;
+
+  /**
+   * Constructor. Partial failure must be enabled on the session of the service object, or else a
+   * single failed operation fails the whole call.
+   *
+   * @param service the service object the operations are sent with
+   * @param operationClass the operation type, which determines the mutate method to invoke, such
+   *     as {@code mutate} or {@code mutateLabel}
+   * @param maxOperations the maximum number of operations per call
+   * @param maxDelayMillis the maximum time an operation waits for others to join its call
+   * @throws IllegalArgumentException if the service has no mutate method for the operation type
+   */
+  public MutateCoalescer(Object service, Class<OperationT> operationClass, int maxOperations,
+      long maxDelayMillis) {
+    Preconditions.checkArgument(maxOperations > 0, "Max operations must be positive");
+    Preconditions.checkArgument(maxDelayMillis >= 0, "Max delay must not be negative");
+    this.mutateInvoker = new MutateInvoker<OperationT>(service, operationClass);
+    this.maxOperations = maxOperations;
+    this.maxDelayMillis = maxDelayMillis;
+    this.executorService = Executors.newSingleThreadScheduledExecutor(
+        new ThreadFactoryBuilder()
+            .setDaemon(true)
+            .setNameFormat("ads-mutate-coalescer-%d")
+            .build());
+  }
+
+  /**
+   * Creates a coalescer that sends operations with a service object of its own, created from a
+   * copy of the session with partial failure enabled.
+   *
+   * @param adWordsServices the services factory
+   * @param session the session, whose client customer ID is the customer of all operations
+   * @param serviceInterface the interface of the service, such as
+   *     {@code AdGroupCriterionServiceInterface}
+   * @param operationClass the operation type
+   * @param maxOperations the maximum number of operations per call
+   * @param maxDelayMillis the maximum time an operation waits for others to join its call
+   * @throws ValidationException if the session copy is invalid
+   */
+  public static <OperationT, ValueT> MutateCoalescer<OperationT, ValueT> create(
+      BaseAdWordsServices adWordsServices, AdWordsSession session, Class<?> serviceInterface,
+      Class<OperationT> operationClass, int maxOperations, long maxDelayMillis)
+      throws ValidationException {
+    AdWordsSession partialFailureSession = session.newBuilder().enablePartialFailure().build();
+    return new MutateCoalescer<OperationT, ValueT>(
+        adWordsServices.get(partialFailureSession, serviceInterface), operationClass,
+        maxOperations, maxDelayMillis);
+  }
+
+  /**
+   * Submits an operation, to be sent with the next call.
+   *
+   * @return the future of the operation's value
+   * @throws IllegalStateException if the coalescer is closed
+   */
+  public ListenableFuture<ValueT> submit(OperationT operation) {
+    Preconditions.checkNotNull(operation, "Null operation");
+    SettableFuture<ValueT> future = SettableFuture.create();
+    synchronized (lock) {
+      Preconditions.checkState(!closed, "Mutate coalescer is closed");
+      pendingOperations.add(new PendingOperation<OperationT, ValueT>(operation, future));
+      if (pendingOperations.size() >= maxOperations) {
+        sendPendingOperations();
+      } else if (pendingOperations.size() == 1) {
+        scheduledFlush = executorService.schedule(new Runnable() {
+          @Override
+          public void run() {
+            flush();
+          }
+        }, maxDelayMillis, TimeUnit.MILLISECONDS);
+      }
+    }
+    return future;
+  }
+
+  /**
+   * Sends the pending operations without waiting for the delay to expire.
+   */
+  public void flush() {
+    synchronized (lock) {
+      if (!pendingOperations.isEmpty()) {
+        sendPendingOperations();
+      }
+    }
+  }
+
+  /**
+   * Sends the pending operations, and stops accepting new ones. Calls already scheduled are
+   * still made.
+   */
+  @Override
+  public void close() {
+    synchronized (lock) {
+      if (closed) {
+        return;
+      }
+      flush();
+      closed = true;
+    }
+    executorService.shutdown();
+  }
+
+  /**
+   * Hands the pending operations over to the coalescer's thread. Must hold the lock.
+   */
+  private void sendPendingOperations() {
+    final List<PendingOperation<OperationT, ValueT>> operations = pendingOperations;
+    pendingOperations = new ArrayList<PendingOperation<OperationT, ValueT>>();
+    if (scheduledFlush != null) {
+      scheduledFlush.cancel(false);
+      scheduledFlush = null;
+    }
+    executorService.execute(new Runnable() {
+      @Override
+      public void run() {
+        send(operations);
+      }
+    });
+  }
+
+  @SuppressWarnings("unchecked")
+  private void send(List<PendingOperation<OperationT, ValueT>> operations) {
+    List<OperationT> operationList = new ArrayList<OperationT>(operations.size());
+    for (PendingOperation<OperationT, ValueT> operation : operations) {
+      operationList.add(operation.operation);
+    }
+    MutateInvoker.Result result;
+    try {
+      result = mutateInvoker.invoke(operationList);
+    } catch (Exception e) {
+      for (PendingOperation<OperationT, ValueT> operation : operations) {
+        operation.future.setException(e);
+      }
+      return;
+    }
+    for (int i = 0; i < operations.size(); i++) {
+      List<Object> errors = result.getErrors(i);
+      if (errors.isEmpty()) {
+        operations.get(i).future.set((ValueT) result.getValue(i));
+      } else {
+        operations.get(i).future.setException(new PartialFailureException(i, errors));
+      }
+    }
+  }
+
+  /**
+   * An operation waiting to be sent, and its future.
+   */
+  private static final class PendingOperation<OperationT, ValueT> {
+    private final OperationT operation;
+    private final SettableFuture<ValueT> future;
+
+    PendingOperation(OperationT operation, SettableFuture<ValueT> future) {
+      this.operation = operation;
+      this.future = future;
+    }
+  }
+}
@@ -0,0 +1,60 @@
+// Copyright 2016 Google Inc. All Rights Reserved.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.api.ads.adwords.axis.utils;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Iterators;
+
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * The results of the operations sent by {@link MutateExecutionPlanner}, which are iterated in the
+ * order of the operations whichever way they were sent.
+ *
+ * @param <ValueT> the type of the values returned for the operations
+ */
+public final class MutateExecution<ValueT> implements Iterable<OperationResult<ValueT>> {
+
+  private final MutateExecutionPlan plan;
+  private final List<OperationResult<ValueT>> results;
+
+  MutateExecution(MutateExecutionPlan plan, List<OperationResult<ValueT>> results) {
+    this.plan = plan;
+    this.results = ImmutableList.copyOf(results);
+  }
+
+  /**
+   * Gets the way the operations were sent.
+   */
+  public MutateExecutionPlan getPlan() {
+    return plan;
+  }
+
+  /**
+   * Gets the number of operations.
+   */
+  public int getOperationCount() {
+    return results.size();
+  }
+
+  /**
+   * Gets the results of the operations, in the order of the operations.
+   */
+  @Override
+  public Iterator<OperationResult<ValueT>> iterator() {
+    return Iterators.unmodifiableIterator(results.iterator());
+  }
+}
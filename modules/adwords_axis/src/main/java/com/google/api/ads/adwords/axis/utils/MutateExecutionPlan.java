@@ -0,0 +1,29 @@
+// Copyright 2016 Google Inc. All Rights Reserved.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.api.ads.adwords.axis.utils;
+
+/**
+ * The ways {@link MutateExecutionPlanner} can send operations.
+ */
+public enum MutateExecutionPlan {
+  /** The operations are sent with one {@code mutate} request after another. */
+  CHUNKED_MUTATES,
+
+  /** The operations are sent with {@code mutate} requests made by several threads at once. */
+  PARALLEL_MUTATES,
+
+  /** The operations are uploaded to a batch job. */
+  BATCH_JOB
+}
@@ -0,0 +1,384 @@
+// Copyright 2016 Google Inc. All Rights Reserved.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.api.ads.adwords.axis.utils;
+
+import com.google.api.ads.adwords.lib.client.AdWordsSession;
+import com.google.api.ads.adwords.lib.factory.BaseAdWordsServices;
+import com.google.api.ads.adwords.lib.utils.BatchJobException;
+import com.google.api.ads.common.lib.exception.ValidationException;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+import com.google.common.base.Throwables;
+import com.google.common.collect.Iterators;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import org.apache.axis.encoding.SerializationContext;
+
+import java.io.Serializable;
+import java.io.StringWriter;
+import java.rmi.RemoteException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.annotation.Nullable;
+
+/**
+ * Sends operations of any service the way that suits their number and size: with {@code mutate}
+ * requests one after another, with {@code mutate} requests made by several threads at once, or
+ * by uploading them to a batch job:
+ *
+ * <pre>
+ * MutateExecutionPlanner&lt;AdGroupCriterionOperation, AdGroupCriterion&gt; planner =
+ *     new MutateExecutionPlanner.Builder&lt;AdGroupCriterionOperation, AdGroupCriterion&gt;(
+ *         adWordsServices, session, AdGroupCriterionServiceInterface.class,
+ *         AdGroupCriterionOperation.class)
+ *         .withParallelism(4)
+ *         .withBatchJobRunner(new IncrementalBatchJobRunner(adWordsServices, session))
+ *         .build();
+ * for (OperationResult&lt;AdGroupCriterion&gt; result : planner.execute(operations)) {
+ *   ...
+ * }
+ * </pre>
+ *
+ * <p>If there is a batch job runner, the operations are read until there are enough of them, or
+ * their estimated payload is large enough, for a batch job, so at most
+ * {@code batchJobMinOperations} operations are held in memory. The payload is estimated from the
+ * serialized size of the first operations. If the operations are sent with {@code mutate}
+ * requests, each request has at most {@code maxOperationsPerMutate} operations and partial
+ * failure enabled, and the operations that failed transiently are resent as by
+ * {@link PartialFailureRetryHelper}. Otherwise, the operations read so far and the remaining
+ * ones are uploaded to a batch job incrementally.
+ *
+ * <p>Without a batch job runner, each chunk of {@code maxOperationsPerMutate} operations is sent
+ * as soon as it is read, and the next chunk is only read once a service object is free to send
+ * it, so the operations are not all held in memory.
+ *
+ * <p>Instances are not thread-safe, since the service objects are not.
+ *
+ * @param <OperationT> the operation type
+ * @param <ValueT> the type of the values returned for the operations
+ */
+public class MutateExecutionPlanner<OperationT, ValueT> {
+
+  /** The default maximum number of operations sent with each {@code mutate} request. */
+  public static final int DEFAULT_MAX_OPERATIONS_PER_MUTATE = 5000;
+
+  /** The default number of operations from which a batch job is used. */
+  public static final int DEFAULT_BATCH_JOB_MIN_OPERATIONS = 50000;
+
+  /** The default estimated payload size in bytes from which a batch job is used. */
+  public static final long DEFAULT_BATCH_JOB_MIN_PAYLOAD_BYTES = 32L * 1024 * 1024;
+
+  /** The number of operations whose serialized size is used to estimate the payload size. */
+  private static final int PAYLOAD_SAMPLE_SIZE = 10;
+
+  private final List<PartialFailureRetryHelper<OperationT, ValueT>> retryHelpers;
+  @Nullable private final BatchJobRunner batchJobRunner;
+  private final int maxOperationsPerMutate;
+  private final int batchJobMinOperations;
+  private final long batchJobMinPayloadBytes;
+
+  /**
+   * Constructor.
+   *
+   * @param services the service objects the {@code mutate} requests are sent with, one for each
+   *     request sent at once
+   * @param operationClass the operation type
+   * @param batchJobRunner the runner of batch jobs, or {@code null} to only send {@code mutate}
+   *     requests
+   * @param maxOperationsPerMutate the maximum number of operations of a {@code mutate} request
+   * @param batchJobMinOperations the number of operations from which a batch job is used
+   * @param batchJobMinPayloadBytes the estimated payload size from which a batch job is used
+   */
+  @VisibleForTesting
+  MutateExecutionPlanner(List<?> services, Class<OperationT> operationClass,
+      @Nullable BatchJobRunner batchJobRunner, int maxOperationsPerMutate,
+      int batchJobMinOperations, long batchJobMinPayloadBytes) {
+    Preconditions.checkArgument(!services.isEmpty(), "No service objects");
+    Preconditions.checkArgument(maxOperationsPerMutate > 0,
+        "Max operations per mutate must be positive");
+    this.retryHelpers = new ArrayList<PartialFailureRetryHelper<OperationT, ValueT>>();
+    for (Object service : services) {
+      retryHelpers.add(new PartialFailureRetryHelper<OperationT, ValueT>(service, operationClass,
+          PartialFailureRetryHelper.DEFAULT_MAX_ATTEMPTS,
+          PartialFailureRetryHelper.DEFAULT_INITIAL_BACKOFF_MILLIS));
+    }
+    this.batchJobRunner = batchJobRunner;
+    this.maxOperationsPerMutate = maxOperationsPerMutate;
+    this.batchJobMinOperations = batchJobMinOperations;
+    this.batchJobMinPayloadBytes = batchJobMinPayloadBytes;
+  }
+
+  /**
+   * Sends the operations.
+   *
+   * <p>If {@code mutate} requests are made at once and one of them fails as a whole, the requests
+   * not yet finished are interrupted, so the operations of other requests may have been applied.
+   *
+   * @param operations the operations to send, which are read once
+   * @return the results of the operations and the way they were sent
+   * @throws RemoteException if a {@code mutate} request fails as a whole, or the batch job
+   *     service could not create or get the job
+   * @throws BatchJobException if the operations could not be uploaded to the batch job, or the
+   *     job did not finish
+   */
+  @SuppressWarnings("unchecked")
+  public MutateExecution<ValueT> execute(Iterable<? extends OperationT> operations)
+      throws RemoteException, BatchJobException {
+    Iterator<? extends OperationT> iterator = operations.iterator();
+    List<OperationT> bufferedOperations = new ArrayList<OperationT>();
+    long sampledPayloadBytes = 0;
+    MutateExecutionPlan plan = MutateExecutionPlan.CHUNKED_MUTATES;
+    // Without a batch job runner, the plan does not depend on the total number of operations.
+    while (batchJobRunner != null && iterator.hasNext()) {
+      OperationT operation = iterator.next();
+      bufferedOperations.add(operation);
+      int operationCount = bufferedOperations.size();
+      if (operationCount <= PAYLOAD_SAMPLE_SIZE) {
+        sampledPayloadBytes += estimatePayloadSize(operation);
+      }
+      long payloadBytes = sampledPayloadBytes * operationCount
+          / Math.min(operationCount, PAYLOAD_SAMPLE_SIZE);
+      plan = plan(operationCount, payloadBytes);
+      if (plan == MutateExecutionPlan.BATCH_JOB) {
+        break;
+      }
+    }
+
+    Iterator<OperationT> remainingOperations =
+        Iterators.<OperationT>concat(bufferedOperations.iterator(), iterator);
+    if (plan == MutateExecutionPlan.BATCH_JOB) {
+      List<?> batchJobResults = batchJobRunner.run(remainingOperations);
+      return new MutateExecution<ValueT>(plan, (List<OperationResult<ValueT>>) batchJobResults);
+    }
+    return mutateInChunks(remainingOperations);
+  }
+
+  /**
+   * Chooses the way to send operations.
+   *
+   * @param operationCount the number of operations
+   * @param payloadBytes the estimated size of the serialized operations
+   */
+  @VisibleForTesting
+  MutateExecutionPlan plan(int operationCount, long payloadBytes) {
+    if (batchJobRunner != null && (operationCount >= batchJobMinOperations
+        || payloadBytes >= batchJobMinPayloadBytes)) {
+      return MutateExecutionPlan.BATCH_JOB;
+    } else if (operationCount > maxOperationsPerMutate && retryHelpers.size() > 1) {
+      return MutateExecutionPlan.PARALLEL_MUTATES;
+    }
+    return MutateExecutionPlan.CHUNKED_MUTATES;
+  }
+
+  /**
+   * Estimates the size in bytes of an operation in a request, or returns 0 if it cannot be
+   * serialized.
+   */
+  @VisibleForTesting
+  static long estimatePayloadSize(Object operation) {
+    if (!(operation instanceof Serializable)) {
+      return 0;
+    }
+    StringWriter writer = new StringWriter();
+    try {
+      new AxisSerializer().serialize((Serializable) operation, new SerializationContext(writer));
+    } catch (RuntimeException e) {
+      return 0;
+    }
+    return writer.getBuffer().length();
+  }
+
+  /**
+   * Sends the operations with {@code mutate} requests of at most {@code maxOperationsPerMutate}
+   * operations each, reading each chunk of operations when it is sent. The requests are made at
+   * once if there are several service objects and more than one chunk.
+   */
+  private MutateExecution<ValueT> mutateInChunks(Iterator<OperationT> operations)
+      throws RemoteException {
+    Iterator<List<OperationT>> chunks = Iterators.partition(operations, maxOperationsPerMutate);
+    List<OperationResult<ValueT>> results = new ArrayList<OperationResult<ValueT>>();
+    if (!chunks.hasNext()) {
+      return new MutateExecution<ValueT>(MutateExecutionPlan.CHUNKED_MUTATES, results);
+    }
+    Iterator<List<OperationT>> allChunks =
+        Iterators.concat(Iterators.singletonIterator(chunks.next()), chunks);
+    if (retryHelpers.size() > 1 && chunks.hasNext()) {
+      mutateInParallel(allChunks, results);
+      return new MutateExecution<ValueT>(MutateExecutionPlan.PARALLEL_MUTATES, results);
+    }
+    while (allChunks.hasNext()) {
+      addResults(results, retryHelpers.get(0).mutate(allChunks.next()));
+    }
+    return new MutateExecution<ValueT>(MutateExecutionPlan.CHUNKED_MUTATES, results);
+  }
+
+  private void mutateInParallel(Iterator<List<OperationT>> chunks,
+      List<OperationResult<ValueT>> results) throws RemoteException {
+    final BlockingQueue<PartialFailureRetryHelper<OperationT, ValueT>> idleRetryHelpers =
+        new LinkedBlockingQueue<PartialFailureRetryHelper<OperationT, ValueT>>(retryHelpers);
+    final AtomicBoolean failed = new AtomicBoolean();
+    ExecutorService executorService = Executors.newFixedThreadPool(retryHelpers.size(),
+        new ThreadFactoryBuilder().setDaemon(true).setNameFormat("mutate-planner-%d").build());
+    try {
+      List<Future<List<OperationResult<ValueT>>>> futures =
+          new ArrayList<Future<List<OperationResult<ValueT>>>>();
+      while (chunks.hasNext()) {
+        // Reads the next chunk only once a service object is free to send it.
+        final PartialFailureRetryHelper<OperationT, ValueT> retryHelper = idleRetryHelpers.take();
+        if (failed.get()) {
+          break;
+        }
+        final List<OperationT> chunk = chunks.next();
+        futures.add(executorService.submit(new Callable<List<OperationResult<ValueT>>>() {
+          @Override
+          public List<OperationResult<ValueT>> call() throws Exception {
+            try {
+              return retryHelper.mutate(chunk);
+            } catch (Exception e) {
+              failed.set(true);
+              throw e;
+            } finally {
+              idleRetryHelpers.add(retryHelper);
+            }
+          }
+        }));
+      }
+      for (Future<List<OperationResult<ValueT>>> future : futures) {
+        addResults(results, future.get());
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new RemoteException("Interrupted while waiting for mutate requests", e);
+    } catch (ExecutionException e) {
+      Throwables.propagateIfPossible(e.getCause(), RemoteException.class);
+      throw new RemoteException("Mutate request failed", e.getCause());
+    } finally {
+      executorService.shutdownNow();
+    }
+  }
+
+  /**
+   * Adds the results of a chunk of operations, whose indexes are relative to the chunk.
+   */
+  private static <ValueT> void addResults(List<OperationResult<ValueT>> results,
+      List<OperationResult<ValueT>> chunkResults) {
+    int firstIndex = results.size();
+    for (OperationResult<ValueT> result : chunkResults) {
+      results.add(new OperationResult<ValueT>(firstIndex + result.getOperationIndex(),
+          result.getValue(), result.getErrors(), result.getAttemptCount()));
+    }
+  }
+
+  /**
+   * Builder of {@link MutateExecutionPlanner}s.
+   *
+   * @param <OperationT> the operation type
+   * @param <ValueT> the type of the values returned for the operations
+   */
+  public static class Builder<OperationT, ValueT> {
+    private final BaseAdWordsServices adWordsServices;
+    private final AdWordsSession session;
+    private final Class<?> serviceInterface;
+    private final Class<OperationT> operationClass;
+    private int parallelism = 1;
+    private BatchJobRunner batchJobRunner;
+    private int maxOperationsPerMutate = DEFAULT_MAX_OPERATIONS_PER_MUTATE;
+    private int batchJobMinOperations = DEFAULT_BATCH_JOB_MIN_OPERATIONS;
+    private long batchJobMinPayloadBytes = DEFAULT_BATCH_JOB_MIN_PAYLOAD_BYTES;
+
+    /**
+     * Constructor.
+     *
+     * @param adWordsServices the services factory
+     * @param session the session, which is copied with partial failure enabled
+     * @param serviceInterface the interface of the service, such as
+     *     {@code AdGroupCriterionServiceInterface}
+     * @param operationClass the operation type, which determines the mutate method to invoke
+     */
+    public Builder(BaseAdWordsServices adWordsServices, AdWordsSession session,
+        Class<?> serviceInterface, Class<OperationT> operationClass) {
+      this.adWordsServices = Preconditions.checkNotNull(adWordsServices, "Null services");
+      this.session = Preconditions.checkNotNull(session, "Null session");
+      this.serviceInterface = Preconditions.checkNotNull(serviceInterface, "Null service");
+      this.operationClass = Preconditions.checkNotNull(operationClass, "Null operation class");
+    }
+
+    /**
+     * Sets the maximum number of {@code mutate} requests made at once. Defaults to 1.
+     */
+    public Builder<OperationT, ValueT> withParallelism(int parallelism) {
+      Preconditions.checkArgument(parallelism > 0, "Parallelism must be positive");
+      this.parallelism = parallelism;
+      return this;
+    }
+
+    /**
+     * Sets the runner of batch jobs. If not set, operations are only sent with {@code mutate}
+     * requests.
+     */
+    public Builder<OperationT, ValueT> withBatchJobRunner(BatchJobRunner batchJobRunner) {
+      this.batchJobRunner = batchJobRunner;
+      return this;
+    }
+
+    /**
+     * Sets the maximum number of operations sent with each {@code mutate} request. Defaults to
+     * {@link MutateExecutionPlanner#DEFAULT_MAX_OPERATIONS_PER_MUTATE}.
+     */
+    public Builder<OperationT, ValueT> withMaxOperationsPerMutate(int maxOperationsPerMutate) {
+      this.maxOperationsPerMutate = maxOperationsPerMutate;
+      return this;
+    }
+
+    /**
+     * Sets the number of operations, and the estimated payload size in bytes, from either of
+     * which a batch job is used. Default to
+     * {@link MutateExecutionPlanner#DEFAULT_BATCH_JOB_MIN_OPERATIONS} and
+     * {@link MutateExecutionPlanner#DEFAULT_BATCH_JOB_MIN_PAYLOAD_BYTES}.
+     */
+    public Builder<OperationT, ValueT> withBatchJobThresholds(int minOperations,
+        long minPayloadBytes) {
+      this.batchJobMinOperations = minOperations;
+      this.batchJobMinPayloadBytes = minPayloadBytes;
+      return this;
+    }
+
+    /**
+     * Builds the planner, with a service object for each {@code mutate} request made at once.
+     *
+     * @throws ValidationException if the session copy is invalid
+     */
+    public MutateExecutionPlanner<OperationT, ValueT> build() throws ValidationException {
+      List<Object> services = new ArrayList<Object>(parallelism);
+      for (int i = 0; i < parallelism; i++) {
+        AdWordsSession partialFailureSession =
+            session.newBuilder().enablePartialFailure().build();
+        services.add(adWordsServices.get(partialFailureSession, serviceInterface));
+      }
+      return new MutateExecutionPlanner<OperationT, ValueT>(services, operationClass,
+          batchJobRunner, maxOperationsPerMutate, batchJobMinOperations, batchJobMinPayloadBytes);
+    }
+  }
+}
@@ -0,0 +1,196 @@
+// Copyright 2016 Google Inc. All Rights Reserved.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.api.ads.adwords.axis.utils;
+
+import com.google.common.base.Preconditions;
+import com.google.common.base.Throwables;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.rmi.RemoteException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import javax.annotation.Nullable;
+
+/**
+ * Invokes the mutate method of a service for a given operation type, and maps the values and
+ * partial failure errors of the returned value to the operations. Uses reflection, so that it
+ * works with the services of every API version.
+ *
+ * @param <OperationT> the operation type of the mutate method
+ */
+final class MutateInvoker<OperationT> {
+
+  private static final Pattern OPERATION_INDEX_PATTERN =
+      Pattern.compile("^operations\\[(\\d+)\\]");
+
+  private final Object service;
+  private final Class<OperationT> operationClass;
+  private final Method mutateMethod;
+
+  /**
+   * Constructor.
+   *
+   * @param service the service object
+   * @param operationClass the operation type, which determines the mutate method to invoke, such
+   *     as {@code mutate} or {@code mutateLabel}
+   * @throws IllegalArgumentException if the service has no mutate method for the operation type
+   */
+  MutateInvoker(Object service, Class<OperationT> operationClass) {
+    this.service = Preconditions.checkNotNull(service, "Null service");
+    this.operationClass = Preconditions.checkNotNull(operationClass, "Null operation class");
+    Class<?> operationsClass = Array.newInstance(operationClass, 0).getClass();
+    Method mutateMethod = null;
+    for (Method method : service.getClass().getMethods()) {
+      if (method.getName().startsWith("mutate")
+          && Arrays.<Class<?>>asList(operationsClass).equals(
+              Arrays.asList(method.getParameterTypes()))) {
+        mutateMethod = method;
+        break;
+      }
+    }
+    Preconditions.checkArgument(mutateMethod != null, "%s has no mutate method for %s",
+        service.getClass().getName(), operationClass.getName());
+    this.mutateMethod = mutateMethod;
+  }
+
+  /**
+   * Invokes the mutate method.
+   *
+   * @param operations the operations to send
+   * @return the values and errors of the operations
+   * @throws RemoteException if the mutate call failed, such as an {@code ApiException}
+   */
+  Result invoke(List<? extends OperationT> operations) throws RemoteException {
+    Object[] operationArray = (Object[]) Array.newInstance(operationClass, operations.size());
+    operations.toArray(operationArray);
+    Object returnValue;
+    try {
+      returnValue = mutateMethod.invoke(service, new Object[] {operationArray});
+    } catch (IllegalAccessException e) {
+      throw new IllegalStateException("Could not invoke " + mutateMethod, e);
+    } catch (InvocationTargetException e) {
+      Throwables.propagateIfPossible(e.getCause(), RemoteException.class);
+      throw new IllegalStateException("Mutate method threw an undeclared exception", e.getCause());
+    }
+    return new Result(operations.size(), (Object[]) invokeGetter(returnValue, "getValue"),
+        (Object[]) invokeGetter(returnValue, "getPartialFailureErrors"));
+  }
+
+  /**
+   * Gets the index of the operation an {@code ApiError} refers to, from the
+   * {@code operations[i]} prefix of its field path.
+   *
+   * @return the operation index, or {@code null} if the field path does not start with an
+   *     operation index
+   */
+  @Nullable
+  static Integer getOperationIndex(Object apiError) {
+    Object fieldPath = invokeGetter(apiError, "getFieldPath");
+    if (fieldPath == null) {
+      return null;
+    }
+    Matcher matcher = OPERATION_INDEX_PATTERN.matcher(fieldPath.toString());
+    return matcher.find() ? Integer.valueOf(matcher.group(1)) : null;
+  }
+
+  /**
+   * Invokes a getter of a generated object, such as an {@code ApiError}.
+   *
+   * @return the property value, or {@code null} if the object has no such property
+   */
+  @Nullable
+  static Object invokeGetter(@Nullable Object object, String getterName) {
+    if (object == null) {
+      return null;
+    }
+    try {
+      return object.getClass().getMethod(getterName).invoke(object);
+    } catch (NoSuchMethodException e) {
+      return null;
+    } catch (IllegalAccessException e) {
+      throw new IllegalStateException("Could not invoke " + getterName, e);
+    } catch (InvocationTargetException e) {
+      Throwables.throwIfUnchecked(e.getCause());
+      throw new RuntimeException(e.getCause());
+    }
+  }
+
+  /**
+   * Values and errors of the operations of a mutate call.
+   */
+  static final class Result {
+    private final Object[] values;
+    private final Map<Integer, List<Object>> operationErrors;
+    private final List<Object> otherErrors;
+
+    Result(int operationCount, @Nullable Object[] values, @Nullable Object[] errors) {
+      this.values = values == null ? new Object[operationCount] : values;
+      Map<Integer, List<Object>> operationErrors = new HashMap<Integer, List<Object>>();
+      List<Object> otherErrors = new ArrayList<Object>();
+      if (errors != null) {
+        for (Object error : errors) {
+          Integer operationIndex = getOperationIndex(error);
+          if (operationIndex == null || operationIndex >= operationCount) {
+            otherErrors.add(error);
+            continue;
+          }
+          List<Object> errorsOfOperation = operationErrors.get(operationIndex);
+          if (errorsOfOperation == null) {
+            errorsOfOperation = new ArrayList<Object>();
+            operationErrors.put(operationIndex, errorsOfOperation);
+          }
+          errorsOfOperation.add(error);
+        }
+      }
+      this.operationErrors = operationErrors;
+      this.otherErrors = otherErrors;
+    }
+
+    /**
+     * Returns the value of an operation, or {@code null} if the operation failed or returns no
+     * value.
+     */
+    @Nullable
+    Object getValue(int operationIndex) {
+      return operationIndex < values.length ? values[operationIndex] : null;
+    }
+
+    /**
+     * Returns the errors of an operation. Errors whose field path does not start with an
+     * operation index cannot be attributed to an operation, so they are returned for every
+     * operation of the call, and each of them fails.
+     */
+    List<Object> getErrors(int operationIndex) {
+      List<Object> errors = operationErrors.get(operationIndex);
+      if (errors == null) {
+        return otherErrors.isEmpty() ? Collections.emptyList() : otherErrors;
+      }
+      if (!otherErrors.isEmpty()) {
+        errors = new ArrayList<Object>(errors);
+        errors.addAll(otherErrors);
+      }
+      return errors;
+    }
+  }
+}
@@ -0,0 +1,100 @@
+// Copyright 2016 Google Inc. All Rights Reserved.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.api.ads.adwords.axis.utils;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+
+import java.util.List;
+
+import javax.annotation.Nullable;
+
+/**
+ * Outcome of one operation of a mutate request: either the value returned for the operation, or
+ * the {@code ApiError}s it failed with.
+ *
+ * @param <ValueT> the type of the values returned by the mutate method
+ */
+public final class OperationResult<ValueT> {
+
+  private final int operationIndex;
+  @Nullable private final ValueT value;
+  private final List<Object> errors;
+  private final int attemptCount;
+
+  /**
+   * Constructor.
+   *
+   * @param operationIndex the index of the operation in the request
+   * @param value the value returned for the operation, if it succeeded
+   * @param errors the {@code ApiError}s of the operation, empty if it succeeded
+   * @param attemptCount the number of times the operation was sent
+   */
+  public OperationResult(int operationIndex, @Nullable ValueT value, List<?> errors,
+      int attemptCount) {
+    this.operationIndex = operationIndex;
+    this.value = value;
+    this.errors = ImmutableList.copyOf(errors);
+    this.attemptCount = attemptCount;
+  }
+
+  /**
+   * Returns the index of the operation in the request.
+   */
+  public int getOperationIndex() {
+    return operationIndex;
+  }
+
+  /**
+   * Returns true if the operation succeeded.
+   */
+  public boolean isSuccess() {
+    return errors.isEmpty();
+  }
+
+  /**
+   * Returns the value returned for the operation, or {@code null} if it failed or the mutate
+   * method returns no value for it.
+   */
+  @Nullable
+  public ValueT getValue() {
+    return value;
+  }
+
+  /**
+   * Returns the {@code ApiError}s of the operation, of the API version of the service, or an
+   * empty list if it succeeded.
+   */
+  public List<Object> getErrors() {
+    return errors;
+  }
+
+  /**
+   * Returns the number of times the operation was sent.
+   */
+  public int getAttemptCount() {
+    return attemptCount;
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(this)
+        .add("operationIndex", operationIndex)
+        .add("value", value)
+        .add("errors", errors)
+        .add("attemptCount", attemptCount)
+        .toString();
+  }
+}
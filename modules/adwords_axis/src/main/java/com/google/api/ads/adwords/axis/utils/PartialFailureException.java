@@ -0,0 +1,55 @@
+// Copyright 2016 Google Inc. All Rights Reserved.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.api.ads.adwords.axis.utils;
+
+import com.google.common.collect.ImmutableList;
+
+import java.util.List;
+
+/**
+ * Exception thrown for an operation that failed in a mutate call made with partial failure
+ * enabled, while the other operations of the call succeeded.
+ */
+public class PartialFailureException extends Exception {
+
+  private final int operationIndex;
+  private final List<Object> errors;
+
+  /**
+   * Constructor.
+   *
+   * @param operationIndex the index of the failed operation in the mutate call
+   * @param errors the {@code ApiError}s of the operation
+   */
+  public PartialFailureException(int operationIndex, List<?> errors) {
+    super(String.format("Operation %d failed: %s", operationIndex, errors));
+    this.operationIndex = operationIndex;
+    this.errors = ImmutableList.copyOf(errors);
+  }
+
+  /**
+   * Returns the index of the failed operation in the mutate call.
+   */
+  public int getOperationIndex() {
+    return operationIndex;
+  }
+
+  /**
+   * Returns the {@code ApiError}s of the operation, of the API version of the service.
+   */
+  public List<Object> getErrors() {
+    return errors;
+  }
+}
@@ -0,0 +1,226 @@
+// Copyright 2016 Google Inc. All Rights Reserved.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.api.ads.adwords.axis.utils;
+
+import com.google.api.ads.adwords.lib.client.AdWordsSession;
+import com.google.api.ads.adwords.lib.factory.BaseAdWordsServices;
+import com.google.api.ads.common.lib.exception.ValidationException;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+
+import java.rmi.RemoteException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sends mutate requests with partial failure enabled, and resends only the operations that failed
+ * with transient errors, such as rate exceeded, concurrent modification or transient internal
+ * errors:
+ *
+ * <pre>
+ * PartialFailureRetryHelper&lt;AdGroupCriterionOperation, AdGroupCriterion&gt; helper =
+ *     PartialFailureRetryHelper.create(adWordsServices, session,
+ *         AdGroupCriterionServiceInterface.class, AdGroupCriterionOperation.class);
+ * for (OperationResult&lt;AdGroupCriterion&gt; result : helper.mutate(operations)) {
+ *   ...
+ * }
+ * </pre>
+ *
+ * <p>The operations that failed transiently are resent together, with exponential backoff, up to
+ * {@code maxAttempts} times in all. A {@code RateExceededError}'s {@code retryAfterSeconds} is
+ * honored if longer than the backoff. Operations that failed with a permanent error are not
+ * resent.
+ *
+ * <p>Instances are not thread-safe, since the service object is not.
+ *
+ * @param <OperationT> the operation type
+ * @param <ValueT> the type of the values returned by the mutate method
+ */
+public class PartialFailureRetryHelper<OperationT, ValueT> {
+
+  /** The default number of times an operation is sent. */
+  public static final int DEFAULT_MAX_ATTEMPTS = 3;
+
+  /** The default delay before the operations are resent the first time. */
+  public static final long DEFAULT_INITIAL_BACKOFF_MILLIS = 1000;
+
+  private final MutateInvoker<OperationT> mutateInvoker;
+  private final int maxAttempts;
+  private final long initialBackoffMillis;
+
+  /**
+   * Constructor. Partial failure must be enabled on the session of the service object, or else a
+   * single failed operation fails the whole request.
+   *
+   * @param service the service object the operations are sent with
+   * @param operationClass the operation type, which determines the mutate method to invoke, such
+   *     as {@code mutate} or {@code mutateLabel}
+   * @param maxAttempts the maximum number of times an operation is sent
+   * @param initialBackoffMillis the delay before the operations are resent the first time, which
+   *     doubles with each attempt
+   * @throws IllegalArgumentException if the service has no mutate method for the operation type
+   */
+  public PartialFailureRetryHelper(Object service, Class<OperationT> operationClass,
+      int maxAttempts, long initialBackoffMillis) {
+    Preconditions.checkArgument(maxAttempts > 0, "Max attempts must be positive");
+    Preconditions.checkArgument(initialBackoffMillis >= 0, "Backoff must not be negative");
+    this.mutateInvoker = new MutateInvoker<OperationT>(service, operationClass);
+    this.maxAttempts = maxAttempts;
+    this.initialBackoffMillis = initialBackoffMillis;
+  }
+
+  /**
+   * Creates a helper that sends operations with a service object of its own, created from a copy
+   * of the session with partial failure enabled, and the default attempts and backoff.
+   *
+   * @param adWordsServices the services factory
+   * @param session the session
+   * @param serviceInterface the interface of the service, such as
+   *     {@code AdGroupCriterionServiceInterface}
+   * @param operationClass the operation type
+   * @throws ValidationException if the session copy is invalid
+   */
+  public static <OperationT, ValueT> PartialFailureRetryHelper<OperationT, ValueT> create(
+      BaseAdWordsServices adWordsServices, AdWordsSession session, Class<?> serviceInterface,
+      Class<OperationT> operationClass) throws ValidationException {
+    AdWordsSession partialFailureSession = session.newBuilder().enablePartialFailure().build();
+    return new PartialFailureRetryHelper<OperationT, ValueT>(
+        adWordsServices.get(partialFailureSession, serviceInterface), operationClass,
+        DEFAULT_MAX_ATTEMPTS, DEFAULT_INITIAL_BACKOFF_MILLIS);
+  }
+
+  /**
+   * Sends the operations, resending those that failed transiently.
+   *
+   * <p>If a request that resends operations fails as a whole, the operations keep the errors of
+   * their previous attempt and are not resent again. If the thread is interrupted while waiting
+   * to resend operations, they keep the errors of their previous attempt and the interrupt
+   * status is restored.
+   *
+   * @param operations the operations to send
+   * @return the result of each operation, in the order of the operations
+   * @throws RemoteException if the first request fails as a whole, such as an
+   *     {@code ApiException}, in which case no operation was applied
+   */
+  @SuppressWarnings("unchecked")
+  public List<OperationResult<ValueT>> mutate(List<? extends OperationT> operations)
+      throws RemoteException {
+    int operationCount = operations.size();
+    Object[] values = new Object[operationCount];
+    List<List<Object>> errors =
+        new ArrayList<List<Object>>(Collections.nCopies(operationCount, (List<Object>) null));
+    int[] attemptCounts = new int[operationCount];
+
+    List<Integer> pendingIndexes = new ArrayList<Integer>(operationCount);
+    for (int i = 0; i < operationCount; i++) {
+      pendingIndexes.add(i);
+    }
+    for (int attempt = 1; !pendingIndexes.isEmpty(); attempt++) {
+      List<OperationT> pendingOperations = new ArrayList<OperationT>(pendingIndexes.size());
+      for (int index : pendingIndexes) {
+        pendingOperations.add(operations.get(index));
+      }
+      MutateInvoker.Result result;
+      try {
+        result = mutateInvoker.invoke(pendingOperations);
+      } catch (RemoteException e) {
+        if (attempt == 1) {
+          throw e;
+        }
+        break;
+      }
+
+      List<Integer> retryIndexes = new ArrayList<Integer>();
+      long retryDelayMillis = initialBackoffMillis << (attempt - 1);
+      for (int i = 0; i < pendingIndexes.size(); i++) {
+        int index = pendingIndexes.get(i);
+        List<Object> operationErrors = result.getErrors(i);
+        values[index] = result.getValue(i);
+        errors.set(index, operationErrors);
+        attemptCounts[index] = attempt;
+        if (attempt < maxAttempts && !operationErrors.isEmpty()
+            && areTransient(operationErrors)) {
+          retryIndexes.add(index);
+          retryDelayMillis = Math.max(retryDelayMillis, getRetryAfterMillis(operationErrors));
+        }
+      }
+      pendingIndexes = retryIndexes;
+      if (!pendingIndexes.isEmpty() && !sleep(retryDelayMillis)) {
+        break;
+      }
+    }
+
+    List<OperationResult<ValueT>> results = new ArrayList<OperationResult<ValueT>>(operationCount);
+    for (int i = 0; i < operationCount; i++) {
+      results.add(new OperationResult<ValueT>(
+          i, (ValueT) values[i], errors.get(i), attemptCounts[i]));
+    }
+    return results;
+  }
+
+  /**
+   * Returns true if an {@code ApiError} is transient, so that the operation may succeed if sent
+   * again. Subclasses may override this to retry other errors.
+   */
+  protected boolean isTransient(Object apiError) {
+    String errorType = apiError.getClass().getSimpleName();
+    Object reason = MutateInvoker.invokeGetter(apiError, "getReason");
+    if ("RateExceededError".equals(errorType)) {
+      return true;
+    } else if ("InternalApiError".equals(errorType)) {
+      return reason == null || !"UNKNOWN".equals(reason.toString());
+    } else if ("DatabaseError".equals(errorType)) {
+      return reason != null && "CONCURRENT_MODIFICATION".equals(reason.toString());
+    }
+    return false;
+  }
+
+  /**
+   * Waits before resending operations. Returns false if interrupted.
+   */
+  @VisibleForTesting
+  boolean sleep(long millis) {
+    try {
+      Thread.sleep(millis);
+      return true;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+
+  private boolean areTransient(List<Object> operationErrors) {
+    for (Object error : operationErrors) {
+      if (!isTransient(error)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static long getRetryAfterMillis(List<Object> operationErrors) {
+    long retryAfterMillis = 0;
+    for (Object error : operationErrors) {
+      Object retryAfterSeconds = MutateInvoker.invokeGetter(error, "getRetryAfterSeconds");
+      if (retryAfterSeconds instanceof Number) {
+        retryAfterMillis = Math.max(retryAfterMillis,
+            TimeUnit.SECONDS.toMillis(((Number) retryAfterSeconds).longValue()));
+      }
+    }
+    return retryAfterMillis;
+  }
+}
@@ -0,0 +1,348 @@
+// Copyright 2016 Google Inc. All Rights Reserved.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.api.ads.adwords.axis.utils;
+
+import com.google.api.ads.adwords.lib.utils.BatchJobException;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+import com.google.common.base.Throwables;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.rmi.RemoteException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * Spreads operations over several batch jobs that run at once, without breaking temporary ID
+ * references:
+ *
+ * <pre>
+ * List&lt;BatchJobRunner&gt; runners = new ArrayList&lt;BatchJobRunner&gt;();
+ * for (int i = 0; i &lt; 4; i++) {
+ *   runners.add(new IncrementalBatchJobRunner(adWordsServices, session));
+ * }
+ * List&lt;OperationResult&lt;Object&gt;&gt; results =
+ *     new ShardedBatchJobRunner(runners, 4).run(operations.iterator());
+ * </pre>
+ *
+ * <p>Temporary IDs are only valid within a batch job, so operations that share a temporary ID,
+ * directly or through other operations, are uploaded to the same job. For example, a new
+ * campaign's budget, ad groups, ads and keywords all stay with the campaign. A temporary ID is a
+ * negative value of an operation property whose name ends in {@code Id}, including properties of
+ * nested objects such as a campaign's budget.
+ *
+ * <p>The operations are read as they are uploaded, so each one is assigned to a job when it is
+ * read: to the job of the earlier operations it shares temporary IDs with, or else to the job
+ * with the fewest operations so far. The order of the operations is kept within each job. Since
+ * earlier operations may already be uploaded, an operation cannot link temporary IDs that were
+ * assigned to different jobs, such as a new campaign using a new budget and a new bidding
+ * strategy that were each added on their own: add such operations next to each other, e.g. the
+ * bidding strategy right after the budget, or use a single job.
+ *
+ * <p>Each job is run by one of the given runners, at most one job per runner at a time, and the
+ * results of the jobs are merged back to the order of the operations.
+ */
+public class ShardedBatchJobRunner implements BatchJobRunner {
+
+  /** The maximum depth of nested objects searched for temporary IDs. */
+  private static final int MAX_PROPERTY_DEPTH = 6;
+
+  private static final String AXIS_PACKAGE_PREFIX = "com.google.api.ads.adwords.axis.";
+
+  private static final Map<Class<?>, List<Method>> GETTERS =
+      new ConcurrentHashMap<Class<?>, List<Method>>();
+
+  private final List<BatchJobRunner> runners;
+  private final int maxJobs;
+
+  /**
+   * Constructor.
+   *
+   * @param runners the runners of the jobs, one for each job running at a time. Runners of a
+   *     single job, such as {@code IncrementalBatchJobRunner}, are not thread-safe, so each
+   *     must be a separate instance.
+   * @param maxJobs the maximum number of jobs the operations are spread over
+   */
+  public ShardedBatchJobRunner(List<? extends BatchJobRunner> runners, int maxJobs) {
+    Preconditions.checkArgument(!runners.isEmpty(), "No batch job runners");
+    Preconditions.checkArgument(maxJobs > 0, "Max jobs must be positive");
+    this.runners = new ArrayList<BatchJobRunner>(runners);
+    this.maxJobs = maxJobs;
+  }
+
+  /**
+   * Spreads the operations over batch jobs as they are read, runs the jobs and merges their
+   * results.
+   *
+   * <p>If a job fails, the jobs not yet finished are interrupted and the exception of the job is
+   * thrown, but the operations of other jobs may have been applied. If reading the operations
+   * fails, or an operation links temporary IDs of different jobs, the jobs are interrupted before
+   * their last upload, so none of them is run.
+   *
+   * @throws BatchJobException if an operation links temporary IDs of different jobs, or a job
+   *     failed
+   */
+  @Override
+  public List<OperationResult<Object>> run(Iterator<?> operations)
+      throws BatchJobException, RemoteException {
+    final BlockingQueue<BatchJobRunner> idleRunners =
+        new LinkedBlockingQueue<BatchJobRunner>(runners);
+    ExecutorService executorService = Executors.newFixedThreadPool(
+        Math.min(runners.size(), maxJobs),
+        new ThreadFactoryBuilder().setDaemon(true).setNameFormat("batch-job-shard-%d").build());
+    try {
+      ShardAssigner shardAssigner = new ShardAssigner(maxJobs);
+      List<Shard> shards = new ArrayList<Shard>();
+      int operationCount = 0;
+      while (operations.hasNext()) {
+        Object operation = operations.next();
+        int shardIndex = shardAssigner.assign(operationCount, operation);
+        if (shardIndex == shards.size()) {
+          final Shard shard = new Shard();
+          shard.future = executorService.submit(new Callable<List<OperationResult<Object>>>() {
+            @Override
+            public List<OperationResult<Object>> call() throws Exception {
+              BatchJobRunner runner = idleRunners.take();
+              try {
+                return runner.run(shard);
+              } finally {
+                idleRunners.add(runner);
+              }
+            }
+          });
+          shards.add(shard);
+        }
+        shards.get(shardIndex).add(operationCount++, operation);
+      }
+      for (Shard shard : shards) {
+        shard.finish();
+      }
+
+      List<OperationResult<Object>> results = new ArrayList<OperationResult<Object>>(
+          Collections.nCopies(operationCount, (OperationResult<Object>) null));
+      for (Shard shard : shards) {
+        for (OperationResult<Object> result : shard.future.get()) {
+          int index = shard.operationIndexes.get(result.getOperationIndex());
+          results.set(index, new OperationResult<Object>(
+              index, result.getValue(), result.getErrors(), result.getAttemptCount()));
+        }
+      }
+      return results;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new BatchJobException("Interrupted while waiting for batch jobs", e);
+    } catch (ExecutionException e) {
+      Throwables.propagateIfPossible(e.getCause(), BatchJobException.class, RemoteException.class);
+      throw new BatchJobException("Batch job failed", e.getCause());
+    } finally {
+      executorService.shutdownNow();
+    }
+  }
+
+  /**
+   * Adds the temporary IDs an object and its nested objects hold.
+   *
+   * @param value the object
+   * @param isIdProperty if the object is the value of a property whose name ends in {@code Id}
+   * @param temporaryIds the set the temporary IDs are added to
+   * @param depth the depth of the object below the operation
+   */
+  private static void collectTemporaryIds(Object value, boolean isIdProperty,
+      Set<Long> temporaryIds, int depth) {
+    if (value == null || depth > MAX_PROPERTY_DEPTH) {
+      return;
+    }
+    if (value instanceof Long) {
+      if (isIdProperty && (Long) value < 0) {
+        temporaryIds.add((Long) value);
+      }
+    } else if (value instanceof Object[]) {
+      for (Object element : (Object[]) value) {
+        collectTemporaryIds(element, isIdProperty, temporaryIds, depth + 1);
+      }
+    } else if (value.getClass().getName().startsWith(AXIS_PACKAGE_PREFIX)) {
+      for (Method getter : getGetters(value.getClass())) {
+        Object propertyValue;
+        try {
+          propertyValue = getter.invoke(value);
+        } catch (IllegalAccessException e) {
+          throw new IllegalStateException("Could not get property " + getter.getName(), e);
+        } catch (InvocationTargetException e) {
+          throw new IllegalStateException(
+              "Could not get property " + getter.getName(), e.getCause());
+        }
+        collectTemporaryIds(propertyValue, getter.getName().endsWith("Id"), temporaryIds,
+            depth + 1);
+      }
+    }
+  }
+
+  private static List<Method> getGetters(Class<?> clazz) {
+    List<Method> getters = GETTERS.get(clazz);
+    if (getters == null) {
+      getters = new ArrayList<Method>();
+      for (Method method : clazz.getMethods()) {
+        if (method.getName().startsWith("get") && method.getParameterTypes().length == 0
+            && !Modifier.isStatic(method.getModifiers())
+            && method.getDeclaringClass() != Object.class) {
+          getters.add(method);
+        }
+      }
+      GETTERS.put(clazz, getters);
+    }
+    return getters;
+  }
+
+  /**
+   * Assigns operations to shards as they are read, keeping operations that share temporary IDs in
+   * the same shard, and adding other operations to the shard with the fewest operations.
+   */
+  @VisibleForTesting
+  static final class ShardAssigner {
+
+    private final int maxShards;
+    private final List<Integer> shardSizes = new ArrayList<Integer>();
+    private final Map<Long, Integer> temporaryIdShards = new HashMap<Long, Integer>();
+
+    ShardAssigner(int maxShards) {
+      this.maxShards = maxShards;
+    }
+
+    /**
+     * Assigns the next operation to a shard.
+     *
+     * @param operationIndex the index of the operation, for error messages
+     * @param operation the operation
+     * @return the index of the operation's shard, which is the number of shards assigned so far
+     *     if the operation starts a new shard
+     * @throws BatchJobException if the operation links temporary IDs of different shards
+     */
+    int assign(int operationIndex, Object operation) throws BatchJobException {
+      Set<Long> temporaryIds = new TreeSet<Long>();
+      collectTemporaryIds(operation, false, temporaryIds, 0);
+      Integer shardIndex = null;
+      for (Long temporaryId : temporaryIds) {
+        Integer temporaryIdShard = temporaryIdShards.get(temporaryId);
+        if (temporaryIdShard == null) {
+          continue;
+        }
+        if (shardIndex != null && !shardIndex.equals(temporaryIdShard)) {
+          throw new BatchJobException(String.format(
+              "Operation %d links temporary IDs already uploaded to different batch jobs",
+              operationIndex));
+        }
+        shardIndex = temporaryIdShard;
+      }
+      if (shardIndex == null) {
+        shardIndex = getSmallestShard();
+      }
+      for (Long temporaryId : temporaryIds) {
+        temporaryIdShards.put(temporaryId, shardIndex);
+      }
+      if (shardIndex == shardSizes.size()) {
+        shardSizes.add(0);
+      }
+      shardSizes.set(shardIndex, shardSizes.get(shardIndex) + 1);
+      return shardIndex;
+    }
+
+    /**
+     * Returns the index of a new shard if there can be more shards, or else of the shard with the
+     * fewest operations.
+     */
+    private int getSmallestShard() {
+      if (shardSizes.size() < maxShards) {
+        return shardSizes.size();
+      }
+      int smallestShard = 0;
+      for (int i = 1; i < shardSizes.size(); i++) {
+        if (shardSizes.get(i) < shardSizes.get(smallestShard)) {
+          smallestShard = i;
+        }
+      }
+      return smallestShard;
+    }
+  }
+
+  /**
+   * Operations of a job, which its runner reads as they are assigned to the job. Reading blocks
+   * until the next operation is assigned or all operations were read.
+   */
+  private static final class Shard implements Iterator<Object> {
+
+    private static final Object END = new Object();
+
+    private final BlockingQueue<Object> queue = new LinkedBlockingQueue<Object>();
+    /** The indexes of the operations of the shard, only accessed by the reading thread. */
+    private final List<Integer> operationIndexes = new ArrayList<Integer>();
+    private Future<List<OperationResult<Object>>> future;
+    private Object next;
+
+    void add(int operationIndex, Object operation) {
+      operationIndexes.add(operationIndex);
+      queue.add(operation);
+    }
+
+    void finish() {
+      queue.add(END);
+    }
+
+    @Override
+    public boolean hasNext() {
+      if (next == null) {
+        try {
+          next = queue.take();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          throw new IllegalStateException("Interrupted while waiting for operations", e);
+        }
+      }
+      return next != END;
+    }
+
+    @Override
+    public Object next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      Object operation = next;
+      next = null;
+      return operation;
+    }
+
+    @Override
+    public void remove() {
+      throw new UnsupportedOperationException();
+    }
+  }
+}
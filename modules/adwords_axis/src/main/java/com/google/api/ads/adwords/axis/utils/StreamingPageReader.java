@@ -0,0 +1,502 @@
+// Copyright 2016 Google Inc. All Rights Reserved.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.api.ads.adwords.axis.utils;
+
+import com.google.api.ads.adwords.lib.selectorfields.EntityField;
+import com.google.api.ads.common.lib.soap.FieldInterner;
+import com.google.api.ads.common.lib.soap.SoapServiceClient;
+import com.google.api.ads.common.lib.soap.axis.transport.StreamingResponseHandler;
+import com.google.api.ads.common.lib.soap.axis.transport.StreamingResponseHandler.ResponseFilter;
+import com.google.common.base.Preconditions;
+import com.google.common.base.Throwables;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+
+import org.apache.axis.Message;
+import org.apache.axis.MessageContext;
+import org.apache.axis.client.AxisClient;
+import org.apache.axis.client.Call;
+import org.apache.axis.client.Stub;
+import org.apache.axis.encoding.DeserializationContext;
+import org.apache.axis.encoding.TypeMapping;
+import org.apache.axis.encoding.TypeMappingRegistryImpl;
+import org.apache.axis.message.MessageElement;
+import org.xml.sax.InputSource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.rmi.RemoteException;
+import java.util.Deque;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.Nullable;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.stream.XMLStreamWriter;
+
+/**
+ * Reads the page returned by the {@code get} method of a service one entry at a time. The
+ * response is parsed as a stream, and each entry is deserialized and passed to a callback as
+ * soon as it is read, so that the entries of a large page do not all have to be held in memory:
+ *
+ * <pre>
+ * StreamingPageReader&lt;Campaign&gt; reader =
+ *     new StreamingPageReader&lt;Campaign&gt;(campaignService, Campaign.class)
+ *         .withFields(CampaignField.Id, CampaignField.Name);
+ * int totalNumEntries = reader.get(selector, new EntryCallback&lt;Campaign&gt;() {
+ *   public void onEntry(Campaign campaign) {
+ *     ...
+ *   }
+ * });
+ * </pre>
+ *
+ * <p>The projection set by {@link #withFields} and {@link #withElements} drops every other
+ * child element of each entry before it is deserialized. Fields whose value is nested in another
+ * element, such as the {@code BudgetId} of a campaign's {@code budget}, are only kept if the
+ * enclosing element is added with {@link #withElements}.
+ *
+ * <p>Entries are only streamed if the service uses the client engine configuration of the
+ * library. Otherwise, the page is deserialized as usual and its entries are passed to the
+ * callback once the call returns. Uses reflection, so that it works with the services of every
+ * API version. Instances are not thread-safe.
+ *
+ * @param <EntryT> the entry type of the page
+ */
+public class StreamingPageReader<EntryT> {
+
+  private static final String ENTRIES_ELEMENT = "entries";
+  private static final String BODY_ELEMENT = "Body";
+  /** Depth of the entries elements: Envelope, Body, getResponse, rval, entries. */
+  private static final int ENTRY_DEPTH = 5;
+
+  private static final XMLInputFactory xmlInputFactory = createXmlInputFactory();
+  private static final XMLOutputFactory xmlOutputFactory = XMLOutputFactory.newInstance();
+
+  private final Object service;
+  private final Class<EntryT> entryClass;
+  private final Set<String> projectedElements = Sets.newHashSet();
+
+  private AxisClient axisClient;
+  private TypeMappingRegistryImpl typeMappingRegistry;
+  private TypeMapping typeMapping;
+
+  /**
+   * Constructor.
+   *
+   * @param service the service object, as returned by the services factory
+   * @param entryClass the entry type of the pages returned by the service
+   */
+  public StreamingPageReader(Object service, Class<EntryT> entryClass) {
+    this.service = Preconditions.checkNotNull(service, "Null service");
+    this.entryClass = Preconditions.checkNotNull(entryClass, "Null entry class");
+  }
+
+  /**
+   * Creates an input factory that neither processes DTDs nor resolves external entities, since
+   * a SOAP response never contains them.
+   */
+  private static XMLInputFactory createXmlInputFactory() {
+    XMLInputFactory factory = XMLInputFactory.newInstance();
+    factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+    factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+    return factory;
+  }
+
+  /**
+   * Callback that receives the entries of a page.
+   *
+   * @param <EntryT> the entry type of the page
+   */
+  public interface EntryCallback<EntryT> {
+
+    /**
+     * Called for each entry of the page, in order.
+     */
+    void onEntry(EntryT entry);
+  }
+
+  /**
+   * Keeps the elements of the given fields in each entry. The element of a field is the field
+   * name with its first letter in lower case, such as {@code name} for {@code Name}.
+   *
+   * @return this reader
+   */
+  public StreamingPageReader<EntryT> withFields(EntityField... fields) {
+    for (EntityField field : fields) {
+      String name = field.name();
+      projectedElements.add(Character.toLowerCase(name.charAt(0)) + name.substring(1));
+    }
+    return this;
+  }
+
+  /**
+   * Keeps the child elements with the given local names in each entry.
+   *
+   * @return this reader
+   */
+  public StreamingPageReader<EntryT> withElements(String... elementNames) {
+    projectedElements.addAll(ImmutableList.copyOf(elementNames));
+    return this;
+  }
+
+  /**
+   * Invokes the {@code get} method of the service and passes the entries of the returned page to
+   * the callback.
+   *
+   * @param selector the selector of the {@code get} method
+   * @param callback the callback that receives the entries
+   * @return the total number of entries of the page's selector, or 0 if the page does not report
+   *     it
+   * @throws RemoteException if the call failed, such as an {@code ApiException}
+   * @throws IllegalArgumentException if the service has no {@code get} method for the selector
+   */
+  public int get(Object selector, EntryCallback<? super EntryT> callback)
+      throws RemoteException {
+    Preconditions.checkNotNull(selector, "Null selector");
+    Preconditions.checkNotNull(callback, "Null callback");
+    Method getMethod = getGetMethod(selector);
+    Object serviceClient = Proxy.isProxyClass(service.getClass())
+        ? Proxy.getInvocationHandler(service) : null;
+    Object soapClient = serviceClient instanceof SoapServiceClient
+        ? ((SoapServiceClient<?>) serviceClient).getSoapClient() : null;
+
+    Object page;
+    EntryFilter entryFilter = null;
+    if (soapClient instanceof Stub) {
+      Stub stub = (Stub) soapClient;
+      entryFilter = new EntryFilter(getMethod.getReturnType(), callback,
+          stub._getProperty(FieldInterner.PROPERTY));
+      // The filter is only set on the stub while its lock is held. Every call sent through the
+      // stub takes that lock, so no other call can pick up the filter. The service client's
+      // lock is taken first, in the same order as calls made through the service.
+      synchronized (serviceClient) {
+        synchronized (stub) {
+          initTypeMappingRegistry(stub);
+          stub._setProperty(StreamingResponseHandler.RESPONSE_FILTER_PROPERTY, entryFilter);
+          try {
+            page = invoke(getMethod, selector, entryFilter);
+          } finally {
+            stub.removeProperty(StreamingResponseHandler.RESPONSE_FILTER_PROPERTY);
+          }
+        }
+      }
+    } else {
+      page = invoke(getMethod, selector, null);
+    }
+
+    if (entryFilter == null || !entryFilter.filtered) {
+      Object[] entries = (Object[]) MutateInvoker.invokeGetter(page, "getEntries");
+      if (entries != null) {
+        for (Object entry : entries) {
+          callback.onEntry(entryClass.cast(entry));
+        }
+      }
+    }
+    Integer totalNumEntries = (Integer) MutateInvoker.invokeGetter(page, "getTotalNumEntries");
+    return totalNumEntries == null ? 0 : totalNumEntries;
+  }
+
+  /**
+   * Gets the {@code get} method of the service that accepts the selector.
+   */
+  private Method getGetMethod(Object selector) {
+    for (Method method : service.getClass().getMethods()) {
+      if ("get".equals(method.getName()) && method.getParameterTypes().length == 1
+          && method.getParameterTypes()[0].isInstance(selector)) {
+        return method;
+      }
+    }
+    throw new IllegalArgumentException(String.format("%s has no get method for %s",
+        service.getClass().getName(), selector.getClass().getName()));
+  }
+
+  /**
+   * Invokes the {@code get} method, rethrowing any exception thrown by the callback.
+   */
+  private Object invoke(Method getMethod, Object selector, EntryFilter entryFilter)
+      throws RemoteException {
+    try {
+      return getMethod.invoke(service, selector);
+    } catch (IllegalAccessException e) {
+      throw new IllegalStateException("Could not invoke " + getMethod, e);
+    } catch (InvocationTargetException e) {
+      if (entryFilter != null && entryFilter.callbackException != null) {
+        throw entryFilter.callbackException;
+      }
+      Throwables.propagateIfPossible(e.getCause(), RemoteException.class);
+      throw new IllegalStateException("Get method threw an undeclared exception", e.getCause());
+    }
+  }
+
+  /**
+   * Registers the deserializers of the stub's types, the first time entries are streamed.
+   */
+  private void initTypeMappingRegistry(Stub stub) throws RemoteException {
+    if (typeMappingRegistry != null) {
+      return;
+    }
+    Call call;
+    try {
+      Method createCallMethod = stub.getClass().getDeclaredMethod("createCall");
+      createCallMethod.setAccessible(true);
+      call = (Call) createCallMethod.invoke(stub);
+    } catch (NoSuchMethodException e) {
+      throw new IllegalStateException("Stub has no createCall method: " + stub.getClass(), e);
+    } catch (IllegalAccessException e) {
+      throw new IllegalStateException("Could not create a call for " + stub.getClass(), e);
+    } catch (InvocationTargetException e) {
+      Throwables.propagateIfPossible(e.getCause(), RemoteException.class);
+      throw new IllegalStateException("Could not create a call for " + stub.getClass(),
+          e.getCause());
+    }
+    axisClient = new AxisClient();
+    TypeMappingRegistryImpl registry = new TypeMappingRegistryImpl(true);
+    MessageContext messageContext = new MessageContext(axisClient);
+    TypeMapping registryTypeMapping =
+        registry.getOrMakeTypeMapping(messageContext.getEncodingStyle());
+    AxisDeserializer.registerTypeMappings(
+        registryTypeMapping, ImmutableList.<TypeMapping>of(call.getTypeMapping()));
+    typeMappingRegistry = registry;
+    typeMapping = registryTypeMapping;
+  }
+
+  /**
+   * Response filter that removes the entries from the response, and deserializes and passes
+   * each of them to the callback instead.
+   */
+  private final class EntryFilter implements ResponseFilter {
+
+    private final Class<?> pageClass;
+    private final EntryCallback<? super EntryT> callback;
+    /** The stub's field interner, which interns the fields of the entries as they are read. */
+    private final Object fieldInterner;
+    /** Namespace bindings declared by each open element of the response. */
+    private final Deque<Map<String, String>> namespaceStack = Lists.newLinkedList();
+    private boolean filtered;
+    private RuntimeException callbackException;
+
+    EntryFilter(Class<?> pageClass, EntryCallback<? super EntryT> callback,
+        @Nullable Object fieldInterner) {
+      this.pageClass = pageClass;
+      this.callback = callback;
+      this.fieldInterner = fieldInterner;
+    }
+
+    @Override
+    public void filter(InputStream response, OutputStream filteredResponse) throws IOException {
+      filtered = true;
+      try {
+        XMLStreamReader reader = xmlInputFactory.createXMLStreamReader(response);
+        XMLStreamWriter writer = xmlOutputFactory.createXMLStreamWriter(filteredResponse, "UTF-8");
+        writer.writeStartDocument("UTF-8", "1.0");
+        boolean inBody = false;
+        while (reader.hasNext()) {
+          int event = reader.next();
+          if (event == XMLStreamConstants.START_ELEMENT) {
+            pushNamespaces(reader);
+            int depth = namespaceStack.size();
+            if (depth == 2) {
+              inBody = BODY_ELEMENT.equals(reader.getLocalName());
+            }
+            if (inBody && depth == ENTRY_DEPTH && ENTRIES_ELEMENT.equals(reader.getLocalName())) {
+              onEntry(readEntry(reader));
+              continue;
+            }
+            writeStartElement(reader, writer, false);
+          } else if (event == XMLStreamConstants.END_ELEMENT) {
+            namespaceStack.pop();
+            writer.writeEndElement();
+          } else {
+            writeContent(reader, writer, event);
+          }
+        }
+        writer.writeEndDocument();
+        writer.flush();
+        reader.close();
+      } catch (XMLStreamException e) {
+        throw new IOException("Could not read the response", e);
+      }
+    }
+
+    /**
+     * Reads the entry the reader is positioned on, leaving the reader on its end element.
+     *
+     * @return the entry element, declaring every namespace in scope and without the
+     *     projected-out child elements
+     */
+    private String readEntry(XMLStreamReader reader) throws XMLStreamException {
+      StringWriter entryXml = new StringWriter();
+      XMLStreamWriter writer = xmlOutputFactory.createXMLStreamWriter(entryXml);
+      writeStartElement(reader, writer, true);
+      int depth = 1;
+      while (depth > 0) {
+        int event = reader.next();
+        if (event == XMLStreamConstants.START_ELEMENT) {
+          if (depth == 1 && !projectedElements.isEmpty()
+              && !projectedElements.contains(reader.getLocalName())) {
+            skipElement(reader);
+            continue;
+          }
+          depth++;
+          writeStartElement(reader, writer, false);
+        } else if (event == XMLStreamConstants.END_ELEMENT) {
+          depth--;
+          writer.writeEndElement();
+        } else {
+          writeContent(reader, writer, event);
+        }
+      }
+      namespaceStack.pop();
+      writer.flush();
+      return entryXml.toString();
+    }
+
+    /**
+     * Deserializes an entry and passes it to the callback.
+     */
+    private void onEntry(String entryXml) throws IOException {
+      EntryT entry;
+      try {
+        // Deserializes the entry as the only entry of a page, so that its xsi:type is honored.
+        String pageXml = AxisDeserializer.SOAP_START_BODY + "<rval>" + entryXml + "</rval>"
+            + AxisDeserializer.SOAP_END_BODY;
+        MessageContext messageContext = new MessageContext(axisClient);
+        messageContext.setTypeMappingRegistry(typeMappingRegistry);
+        if (fieldInterner != null) {
+          // Read by the bean deserializers, as for the responses of other calls.
+          messageContext.setProperty(FieldInterner.PROPERTY, fieldInterner);
+        }
+        DeserializationContext deserializationContext = new DeserializationContext(
+            new InputSource(new StringReader(pageXml)), messageContext, Message.RESPONSE);
+        deserializationContext.parse();
+        MessageElement rval = deserializationContext.getEnvelope().getFirstBody();
+        Object page = rval.getValueAsType(typeMapping.getTypeQName(pageClass), pageClass);
+        entry = entryClass.cast(((Object[]) MutateInvoker.invokeGetter(page, "getEntries"))[0]);
+      } catch (Exception e) {
+        throw new IOException("Could not deserialize entry: " + entryXml, e);
+      }
+      try {
+        callback.onEntry(entry);
+      } catch (RuntimeException e) {
+        callbackException = e;
+        throw new IOException("Entry callback failed", e);
+      }
+    }
+
+    /**
+     * Records the namespace bindings declared by the element the reader is positioned on.
+     */
+    private void pushNamespaces(XMLStreamReader reader) {
+      Map<String, String> namespaces = Maps.newLinkedHashMap();
+      for (int i = 0; i < reader.getNamespaceCount(); i++) {
+        String prefix = reader.getNamespacePrefix(i);
+        namespaces.put(prefix == null ? "" : prefix, reader.getNamespaceURI(i));
+      }
+      namespaceStack.push(namespaces);
+    }
+
+    /**
+     * Writes the start element the reader is positioned on, with its namespace declarations and
+     * attributes.
+     *
+     * @param allNamespaces if every namespace in scope should be declared, instead of only the
+     *     ones declared by the element
+     */
+    private void writeStartElement(XMLStreamReader reader, XMLStreamWriter writer,
+        boolean allNamespaces) throws XMLStreamException {
+      String prefix = reader.getPrefix();
+      String namespaceUri = reader.getNamespaceURI();
+      writer.writeStartElement(prefix == null ? "" : prefix, reader.getLocalName(),
+          namespaceUri == null ? "" : namespaceUri);
+      Map<String, String> namespaces = Maps.newLinkedHashMap();
+      if (allNamespaces) {
+        // Outer bindings first, so that inner declarations of a prefix take precedence.
+        for (Map<String, String> elementNamespaces : ImmutableList.copyOf(namespaceStack)
+            .reverse()) {
+          namespaces.putAll(elementNamespaces);
+        }
+      } else {
+        for (int i = 0; i < reader.getNamespaceCount(); i++) {
+          String namespacePrefix = reader.getNamespacePrefix(i);
+          namespaces.put(namespacePrefix == null ? "" : namespacePrefix,
+              reader.getNamespaceURI(i));
+        }
+      }
+      for (Map.Entry<String, String> namespace : namespaces.entrySet()) {
+        if (namespace.getKey().isEmpty()) {
+          writer.writeDefaultNamespace(namespace.getValue());
+        } else {
+          writer.writeNamespace(namespace.getKey(), namespace.getValue());
+        }
+      }
+      for (int i = 0; i < reader.getAttributeCount(); i++) {
+        String attributeNamespaceUri = reader.getAttributeNamespace(i);
+        if (attributeNamespaceUri == null || attributeNamespaceUri.isEmpty()) {
+          writer.writeAttribute(reader.getAttributeLocalName(i), reader.getAttributeValue(i));
+        } else {
+          writer.writeAttribute(reader.getAttributePrefix(i), attributeNamespaceUri,
+              reader.getAttributeLocalName(i), reader.getAttributeValue(i));
+        }
+      }
+    }
+  }
+
+  /**
+   * Writes the text content the reader is positioned on. Comments and processing instructions
+   * are dropped.
+   */
+  private static void writeContent(XMLStreamReader reader, XMLStreamWriter writer, int event)
+      throws XMLStreamException {
+    switch (event) {
+      case XMLStreamConstants.CHARACTERS:
+      case XMLStreamConstants.SPACE:
+        writer.writeCharacters(reader.getTextCharacters(), reader.getTextStart(),
+            reader.getTextLength());
+        break;
+      case XMLStreamConstants.CDATA:
+        writer.writeCData(reader.getText());
+        break;
+      default:
+        break;
+    }
+  }
+
+  /**
+   * Skips the element the reader is positioned on, leaving the reader on its end element.
+   */
+  private static void skipElement(XMLStreamReader reader) throws XMLStreamException {
+    int depth = 1;
+    while (depth > 0) {
+      int event = reader.next();
+      if (event == XMLStreamConstants.START_ELEMENT) {
+        depth++;
+      } else if (event == XMLStreamConstants.END_ELEMENT) {
+        depth--;
+      }
+    }
+  }
+}
@@ -14,11 +14,6 @@
 
 package com.google.api.ads.adwords.axis.utils.v201605.shopping;
 
-import com.google.api.ads.adwords.axis.v201605.cm.ProductDimension;
-
-import java.util.Comparator;
-
-
 /**
  * Static utility class that detects the differences between two {@link ProductPartitionNode}s.
  */
@@ -32,10 +27,9 @@ class ProductPartitionNodeDiffer {
    * Returns the {@link NodeDifference} between the original node and the new node.
    *
    * @throws IllegalArgumentException if both nodes are not null and do not have the same
-   *         {@link ProductPartitionNode#getDimension()}.
+   *         {@link ProductPartitionNode#getDimensionKey()}.
    */
-  static NodeDifference diff(ProductPartitionNode originalNode,
-      ProductPartitionNode newNode, Comparator<ProductDimension> dimensionComparator) {
+  static NodeDifference diff(ProductPartitionNode originalNode, ProductPartitionNode newNode) {
     NodeDifference nodeDifference;
     if (originalNode == null && newNode == null) {
       nodeDifference = NodeDifference.NONE;
@@ -43,8 +37,7 @@ class ProductPartitionNodeDiffer {
       nodeDifference = NodeDifference.NEW_NODE;
     } else if (newNode == null) {
       nodeDifference = NodeDifference.REMOVED_NODE;
-    } else if (dimensionComparator.compare(originalNode.getDimension(), newNode.getDimension())
-        != 0) {
+    } else if (!originalNode.getDimensionKey().equals(newNode.getDimensionKey())) {
       throw new IllegalArgumentException(
           "Original node and new node are not for the same product dimension");
     } else if (originalNode.isUnit() != newNode.isUnit()) {
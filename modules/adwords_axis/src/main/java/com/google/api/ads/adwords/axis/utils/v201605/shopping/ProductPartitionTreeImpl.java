@@ -55,7 +55,6 @@ import org.apache.commons.lang.builder.ToStringBuilder;
 import org.apache.commons.lang.builder.ToStringStyle;
 
 import java.rmi.RemoteException;
-import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
@@ -89,8 +88,6 @@ class ProductPartitionTreeImpl
    */
   private final ProductPartitionNode originalRoot;
 
-  private final Comparator<ProductDimension> dimensionComparator;
-
   /**
    * The page size to use when retrieving ad group criteria.
    */
@@ -127,7 +124,6 @@ class ProductPartitionTreeImpl
     this.root = Preconditions.checkNotNull(rootNode, "Null root node");
 
     long startingTempId;
-    this.dimensionComparator = new ProductDimensionComparator();
     if (this.root.getProductPartitionId() < 0L) {
       // The root has a temporary ID, so all changes made to this tree should result in ADD
       // operations.
@@ -136,13 +132,14 @@ class ProductPartitionTreeImpl
     } else {
       // Set originalRoot to a deep copy of the root node.
       originalRoot =
-          new ProductPartitionNode(null, root.getDimension(), root.getProductPartitionId(),
-              this.dimensionComparator);
+          new ProductPartitionNode(null, root.getDimension(), root.getProductPartitionId());
       long minimumId = cloneChildrenToNewParent(originalRoot, root.getChildren(),
           originalRoot.getProductPartitionId());
       // The starting temp ID should be -1 if all nodes are non-temporary (have positive IDs),
       // else start at one less than the lowest ID found in the tree.
       startingTempId = minimumId >= 0L ? -1L : minimumId - 1L;
+      // Only the paths modified from now on need to be compared with the original tree.
+      root.clearDirty();
     }
     this.idGenerator = new AbstractSequentialIterator<Long>(startingTempId) {
       @Override
@@ -303,7 +300,7 @@ class ProductPartitionTreeImpl
     Preconditions.checkState(biddingStrategyConfig != null,
         "Null bidding strategy config on the root node of ad group ID %s", adGroupId);
     ProductPartitionNode rootNode = new ProductPartitionNode(null, (ProductDimension) null,
-        rootCriterion.getCriterion().getId(), new ProductDimensionComparator());
+        rootCriterion.getCriterion().getId());
 
     // Set the root's bid if a bid exists on the BiddableAdGroupCriterion.
     Money rootNodeBid = getBid(biddableRootCriterion);
@@ -326,8 +323,7 @@ class ProductPartitionTreeImpl
       BiddingStrategyConfiguration biddingStrategyConfig) {
     Preconditions.checkNotNull(adGroupId, "Null ad group ID");
     Preconditions.checkNotNull(biddingStrategyConfig, "Null bidding strategy configuration");
-    ProductPartitionNode rootNode =
-        new ProductPartitionNode(null, null, -1L, new ProductDimensionComparator());
+    ProductPartitionNode rootNode = new ProductPartitionNode(null, null, -1L);
     return new ProductPartitionTreeImpl(adGroupId, biddingStrategyConfig, rootNode);
   }
 
@@ -341,6 +337,13 @@ class ProductPartitionTreeImpl
     return root;
   }
 
+  /**
+   * Returns the bidding strategy configuration of the ad group of this tree.
+   */
+  BiddingStrategyConfiguration getBiddingStrategyConfig() {
+    return biddingStrategyConfig;
+  }
+
   @Override
   public String toString() {
     return new ToStringBuilder(this, ToStringStyle.MULTI_LINE_STYLE)
@@ -375,7 +378,7 @@ class ProductPartitionTreeImpl
     }
 
     // Add the mutate operations required to apply changes to the root node.
-    Set<ProductDimension> dimensionsToProcess = addMutateOperations(originalRoot, root, ops);
+    Set<ProductDimensionKey> dimensionsToProcess = addMutateOperations(originalRoot, root, ops);
 
     // Add additional mutate operations for the remaining child dimensions to process.
     addMutateOperationsByParent(originalRoot, root, dimensionsToProcess, ops);
@@ -388,20 +391,16 @@ class ProductPartitionTreeImpl
    *
    * @param originalParentNode required - must not be null
    * @param newParentNode required - must not be null
-   * @param childDimensionsToProcess the child dimensions to process
+   * @param childDimensionsToProcess the keys of the child dimensions to process
    * @param ops the operations list to add to
    */
   private void addMutateOperationsByParent(ProductPartitionNode originalParentNode,
-      ProductPartitionNode newParentNode, Set<ProductDimension> childDimensionsToProcess,
+      ProductPartitionNode newParentNode, Set<ProductDimensionKey> childDimensionsToProcess,
       List<OperationPair> ops) {
-    for (ProductDimension dimensionToProcess : childDimensionsToProcess) {
-      ProductPartitionNode originalChild = originalParentNode.hasChild(dimensionToProcess)
-              ? originalParentNode.getChild(dimensionToProcess)
-              : null;
-      ProductPartitionNode newChild = newParentNode.hasChild(dimensionToProcess)
-              ? newParentNode.getChild(dimensionToProcess)
-              : null;
-      Set<ProductDimension> grandchildDimensionsToProcess =
+    for (ProductDimensionKey dimensionToProcess : childDimensionsToProcess) {
+      ProductPartitionNode originalChild = originalParentNode.getChild(dimensionToProcess);
+      ProductPartitionNode newChild = newParentNode.getChild(dimensionToProcess);
+      Set<ProductDimensionKey> grandchildDimensionsToProcess =
           addMutateOperations(originalChild, newChild, ops);
       if (!grandchildDimensionsToProcess.isEmpty()) {
         // Logic check - the only condition where further processing of children is required
@@ -431,15 +430,19 @@ class ProductPartitionTreeImpl
    * @param newNode may be null
    * @param ops the operations list to add to
    *
-   * @return the set of child product dimensions that require further processing
+   * @return the set of keys of child product dimensions that require further processing
    */
-  private Set<ProductDimension> addMutateOperations(@Nullable ProductPartitionNode originalNode,
-      @Nullable ProductPartitionNode newNode, List<OperationPair> ops) {
-    Set<ProductDimension> childDimensionsToProcess =
-        Sets.newTreeSet(dimensionComparator);
+  private Set<ProductDimensionKey> addMutateOperations(
+      @Nullable ProductPartitionNode originalNode, @Nullable ProductPartitionNode newNode,
+      List<OperationPair> ops) {
+    Set<ProductDimensionKey> childDimensionsToProcess = Sets.newTreeSet();
+    if (originalNode != null && newNode != null && !newNode.isDirty()) {
+      // Neither the node nor its subtree was modified, so there is nothing to compare.
+      return childDimensionsToProcess;
+    }
 
     NodeDifference nodeDifference =
-        ProductPartitionNodeDiffer.diff(originalNode, newNode, dimensionComparator);
+        ProductPartitionNodeDiffer.diff(originalNode, newNode);
     boolean isProcessChildren;
     switch (nodeDifference) {
       case NEW_NODE:
@@ -483,10 +486,8 @@ class ProductPartitionTreeImpl
     }
 
     if (isProcessChildren) {
-      for (ProductPartitionNode childNode :
-          Iterables.concat(originalNode.getChildren(), newNode.getChildren())) {
-        childDimensionsToProcess.add(childNode.getDimension());
-      }
+      Iterables.addAll(childDimensionsToProcess,
+          Iterables.concat(originalNode.getChildKeys(), newNode.getChildKeys()));
     }
 
     return childDimensionsToProcess;
@@ -0,0 +1,517 @@
+// Copyright 2016 Google Inc. All Rights Reserved.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.api.ads.adwords.axis.utils.v201605.sync;
+
+import com.google.api.ads.adwords.axis.factory.AdWordsServices;
+import com.google.api.ads.adwords.axis.utils.v201605.SelectorBuilder;
+import com.google.api.ads.adwords.axis.v201605.ch.AdGroupChangeData;
+import com.google.api.ads.adwords.axis.v201605.ch.CampaignChangeData;
+import com.google.api.ads.adwords.axis.v201605.ch.ChangeStatus;
+import com.google.api.ads.adwords.axis.v201605.ch.CustomerChangeData;
+import com.google.api.ads.adwords.axis.v201605.ch.CustomerSyncError;
+import com.google.api.ads.adwords.axis.v201605.ch.CustomerSyncErrorReason;
+import com.google.api.ads.adwords.axis.v201605.ch.CustomerSyncSelector;
+import com.google.api.ads.adwords.axis.v201605.ch.CustomerSyncServiceInterface;
+import com.google.api.ads.adwords.axis.v201605.ch.FeedChangeData;
+import com.google.api.ads.adwords.axis.v201605.cm.AdGroup;
+import com.google.api.ads.adwords.axis.v201605.cm.AdGroupCriterion;
+import com.google.api.ads.adwords.axis.v201605.cm.AdGroupCriterionPage;
+import com.google.api.ads.adwords.axis.v201605.cm.AdGroupCriterionServiceInterface;
+import com.google.api.ads.adwords.axis.v201605.cm.AdGroupPage;
+import com.google.api.ads.adwords.axis.v201605.cm.AdGroupServiceInterface;
+import com.google.api.ads.adwords.axis.v201605.cm.ApiError;
+import com.google.api.ads.adwords.axis.v201605.cm.ApiException;
+import com.google.api.ads.adwords.axis.v201605.cm.Campaign;
+import com.google.api.ads.adwords.axis.v201605.cm.CampaignPage;
+import com.google.api.ads.adwords.axis.v201605.cm.CampaignServiceInterface;
+import com.google.api.ads.adwords.axis.v201605.cm.DateTimeRange;
+import com.google.api.ads.adwords.axis.v201605.cm.Feed;
+import com.google.api.ads.adwords.axis.v201605.cm.FeedPage;
+import com.google.api.ads.adwords.axis.v201605.cm.FeedServiceInterface;
+import com.google.api.ads.adwords.axis.v201605.cm.Page;
+import com.google.api.ads.adwords.axis.v201605.cm.Selector;
+import com.google.api.ads.adwords.axis.v201605.mcm.Customer;
+import com.google.api.ads.adwords.axis.v201605.mcm.CustomerServiceInterface;
+import com.google.api.ads.adwords.lib.client.AdWordsSession;
+import com.google.api.ads.adwords.lib.selectorfields.EntityField;
+import com.google.api.ads.adwords.lib.selectorfields.v201605.cm.AdGroupCriterionField;
+import com.google.api.ads.adwords.lib.selectorfields.v201605.cm.AdGroupField;
+import com.google.api.ads.adwords.lib.selectorfields.v201605.cm.CampaignField;
+import com.google.api.ads.adwords.lib.selectorfields.v201605.cm.FeedField;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.LinkedHashMultimap;
+import com.google.common.collect.Lists;
+import com.google.common.collect.SetMultimap;
+import com.google.common.collect.Sets;
+import com.google.common.primitives.Longs;
+
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeZone;
+import org.joda.time.format.DateTimeFormat;
+import org.joda.time.format.DateTimeFormatter;
+
+import java.rmi.RemoteException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Keeps the campaigns, ad groups, ad group criteria and feeds of a customer mirrored in a
+ * {@link CustomerMirrorStore}. The first sync of a customer gets all its entities. Later syncs
+ * ask {@code CustomerSyncService} which entities changed since the last sync, and only get those,
+ * with a few requests for many IDs each:
+ *
+ * <pre>
+ * CustomerMirrorStore store = new InMemoryCustomerMirrorStore();
+ * for (AdWordsSession session : sessions) {
+ *   new CustomerSyncMirror(adWordsServices, session, store).sync();
+ * }
+ * </pre>
+ *
+ * <p>{@code CustomerSyncService} only reports changes to the campaigns and feeds in its selector,
+ * so the IDs of all campaigns and feeds are retrieved with each sync to find the new ones. If the
+ * service reports too many changes, the customer is fully loaded again.
+ *
+ * <p>Instances can be reused, but {@link #sync} must not be called by several threads at once.
+ */
+public class CustomerSyncMirror {
+
+  /** The default number of IDs in the predicate of each request. */
+  public static final int DEFAULT_IDS_PER_REQUEST = 500;
+
+  /** The default page size to use when retrieving entities. */
+  public static final int DEFAULT_PAGE_SIZE = 1000;
+
+  private static final DateTimeFormatter DATE_TIME_FORMATTER =
+      DateTimeFormat.forPattern("yyyyMMdd HHmmss");
+
+  private final String clientCustomerId;
+  private final CustomerMirrorStore store;
+  private final CustomerServiceInterface customerService;
+  private final CustomerSyncServiceInterface customerSyncService;
+  private final EntityGetter<Campaign> campaignGetter;
+  private final EntityGetter<AdGroup> adGroupGetter;
+  private final EntityGetter<AdGroupCriterion> adGroupCriterionGetter;
+  private final EntityGetter<Feed> feedGetter;
+  private final int idsPerRequest;
+  private final int pageSize;
+
+  private EntityField[] campaignFields = {CampaignField.Id, CampaignField.Name,
+      CampaignField.Status, CampaignField.ServingStatus, CampaignField.StartDate,
+      CampaignField.EndDate, CampaignField.BudgetId, CampaignField.AdvertisingChannelType,
+      CampaignField.Labels};
+  private EntityField[] adGroupFields = {AdGroupField.Id, AdGroupField.CampaignId,
+      AdGroupField.Name, AdGroupField.Status, AdGroupField.Labels};
+  private EntityField[] adGroupCriterionFields = {AdGroupCriterionField.Id,
+      AdGroupCriterionField.AdGroupId, AdGroupCriterionField.CriteriaType,
+      AdGroupCriterionField.CriterionUse, AdGroupCriterionField.Status,
+      AdGroupCriterionField.KeywordText, AdGroupCriterionField.KeywordMatchType,
+      AdGroupCriterionField.PlacementUrl, AdGroupCriterionField.Labels};
+  private EntityField[] feedFields = {FeedField.Id, FeedField.Name, FeedField.FeedStatus,
+      FeedField.Origin, FeedField.Attributes};
+  private DateTimeZone dateTimeZone;
+
+  /**
+   * Creates a mirror of the customer of the session, with the default number of IDs per request
+   * and page size.
+   *
+   * @param services the AdWordsServices
+   * @param session the session of the customer, with a client customer ID
+   * @param store the store of the mirrored entities
+   */
+  public CustomerSyncMirror(
+      AdWordsServices services, AdWordsSession session, CustomerMirrorStore store) {
+    this(session.getClientCustomerId(), store,
+        services.get(session, CustomerServiceInterface.class),
+        services.get(session, CustomerSyncServiceInterface.class),
+        services.get(session, CampaignServiceInterface.class),
+        services.get(session, AdGroupServiceInterface.class),
+        services.get(session, AdGroupCriterionServiceInterface.class),
+        services.get(session, FeedServiceInterface.class),
+        DEFAULT_IDS_PER_REQUEST, DEFAULT_PAGE_SIZE);
+  }
+
+  @VisibleForTesting
+  CustomerSyncMirror(String clientCustomerId, CustomerMirrorStore store,
+      CustomerServiceInterface customerService,
+      CustomerSyncServiceInterface customerSyncService,
+      final CampaignServiceInterface campaignService,
+      final AdGroupServiceInterface adGroupService,
+      final AdGroupCriterionServiceInterface adGroupCriterionService,
+      final FeedServiceInterface feedService, int idsPerRequest, int pageSize) {
+    this.clientCustomerId =
+        Preconditions.checkNotNull(clientCustomerId, "Null client customer ID");
+    this.store = Preconditions.checkNotNull(store, "Null store");
+    Preconditions.checkArgument(idsPerRequest > 0, "IDs per request must be positive");
+    Preconditions.checkArgument(pageSize > 0, "Page size must be positive");
+    this.customerService = customerService;
+    this.customerSyncService = customerSyncService;
+    this.campaignGetter = new EntityGetter<Campaign>() {
+      @Override
+      Page get(Selector selector, List<Campaign> entities) throws RemoteException {
+        CampaignPage page = campaignService.get(selector);
+        addAll(entities, page == null ? null : page.getEntries());
+        return page;
+      }
+
+      @Override
+      Long getId(Campaign campaign) {
+        return campaign.getId();
+      }
+    };
+    this.adGroupGetter = new EntityGetter<AdGroup>() {
+      @Override
+      Page get(Selector selector, List<AdGroup> entities) throws RemoteException {
+        AdGroupPage page = adGroupService.get(selector);
+        addAll(entities, page == null ? null : page.getEntries());
+        return page;
+      }
+
+      @Override
+      Long getId(AdGroup adGroup) {
+        return adGroup.getId();
+      }
+    };
+    this.adGroupCriterionGetter = new EntityGetter<AdGroupCriterion>() {
+      @Override
+      Page get(Selector selector, List<AdGroupCriterion> entities) throws RemoteException {
+        AdGroupCriterionPage page = adGroupCriterionService.get(selector);
+        addAll(entities, page == null ? null : page.getEntries());
+        return page;
+      }
+
+      @Override
+      Long getId(AdGroupCriterion criterion) {
+        return criterion.getCriterion().getId();
+      }
+    };
+    this.feedGetter = new EntityGetter<Feed>() {
+      @Override
+      Page get(Selector selector, List<Feed> entities) throws RemoteException {
+        FeedPage page = feedService.get(selector);
+        addAll(entities, page == null ? null : page.getEntries());
+        return page;
+      }
+
+      @Override
+      Long getId(Feed feed) {
+        return feed.getId();
+      }
+    };
+    this.idsPerRequest = idsPerRequest;
+    this.pageSize = pageSize;
+  }
+
+  /**
+   * Sets the fields retrieved for campaigns. The {@code Id} field is always retrieved.
+   */
+  public CustomerSyncMirror withCampaignFields(CampaignField... fields) {
+    campaignFields = withRequiredFields(fields, CampaignField.Id);
+    return this;
+  }
+
+  /**
+   * Sets the fields retrieved for ad groups. The {@code Id} field is always retrieved.
+   */
+  public CustomerSyncMirror withAdGroupFields(AdGroupField... fields) {
+    adGroupFields = withRequiredFields(fields, AdGroupField.Id);
+    return this;
+  }
+
+  /**
+   * Sets the fields retrieved for ad group criteria. The {@code Id} and {@code AdGroupId} fields
+   * are always retrieved.
+   */
+  public CustomerSyncMirror withAdGroupCriterionFields(AdGroupCriterionField... fields) {
+    adGroupCriterionFields =
+        withRequiredFields(fields, AdGroupCriterionField.Id, AdGroupCriterionField.AdGroupId);
+    return this;
+  }
+
+  /**
+   * Sets the fields retrieved for feeds. The {@code Id} field is always retrieved.
+   */
+  public CustomerSyncMirror withFeedFields(FeedField... fields) {
+    feedFields = withRequiredFields(fields, FeedField.Id);
+    return this;
+  }
+
+  private static EntityField[] withRequiredFields(
+      EntityField[] fields, EntityField... requiredFields) {
+    return ImmutableSet.<EntityField>builder().add(requiredFields).add(fields).build()
+        .toArray(new EntityField[0]);
+  }
+
+  /**
+   * Brings the mirrored entities of the customer up to date, and applies the changes to the store.
+   *
+   * @return the changes applied to the store
+   * @throws ApiException if a request failed
+   * @throws RemoteException if a request failed
+   */
+  public CustomerMirrorUpdate sync() throws RemoteException {
+    // The end of the range is taken before any entity is retrieved, so that changes made while
+    // the entities are retrieved are found again by the next sync.
+    String now = DATE_TIME_FORMATTER.print(new DateTime(getDateTimeZone())) + " "
+        + getDateTimeZone().getID();
+    String syncTimestamp = store.getSyncTimestamp(clientCustomerId);
+    CustomerMirrorUpdate update =
+        syncTimestamp == null ? null : getChangedEntities(syncTimestamp, now);
+    if (update == null) {
+      update = new CustomerMirrorUpdate(true, now, getAll(campaignGetter, campaignFields),
+          getAll(adGroupGetter, adGroupFields),
+          getAll(adGroupCriterionGetter, adGroupCriterionFields),
+          LinkedHashMultimap.<Long, Long>create(), getAll(feedGetter, feedFields));
+    }
+    store.apply(clientCustomerId, update);
+    return update;
+  }
+
+  /**
+   * Gets the entities that changed since the last sync.
+   *
+   * @return the changes, or {@code null} if there are too many changes and the customer must be
+   *     fully loaded
+   */
+  private CustomerMirrorUpdate getChangedEntities(String syncTimestamp, String now)
+      throws RemoteException {
+    Set<Long> campaignIds = getIds(campaignGetter, CampaignField.Id);
+    Set<Long> feedIds = getIds(feedGetter, FeedField.Id);
+    Set<Long> syncedCampaignIds =
+        Sets.intersection(store.getCampaignIds(clientCustomerId), campaignIds).immutableCopy();
+    Set<Long> syncedFeedIds =
+        Sets.intersection(store.getFeedIds(clientCustomerId), feedIds).immutableCopy();
+
+    Set<Long> newCampaignIds = Sets.difference(campaignIds, syncedCampaignIds).immutableCopy();
+    Set<Long> changedCampaignIds = new LinkedHashSet<Long>(newCampaignIds);
+    Set<Long> newAdGroupIds = new LinkedHashSet<Long>();
+    Set<Long> changedAdGroupIds = new LinkedHashSet<Long>();
+    SetMultimap<Long, Long> changedCriteria = LinkedHashMultimap.create();
+    SetMultimap<Long, Long> removedCriteria = LinkedHashMultimap.create();
+    Set<Long> changedFeedIds =
+        new LinkedHashSet<Long>(Sets.difference(feedIds, syncedFeedIds));
+    String nextSyncTimestamp = now;
+
+    if (!syncedCampaignIds.isEmpty() || !syncedFeedIds.isEmpty()) {
+      CustomerSyncSelector selector = new CustomerSyncSelector(
+          new DateTimeRange(syncTimestamp, now), Longs.toArray(syncedCampaignIds),
+          Longs.toArray(syncedFeedIds));
+      CustomerChangeData changeData;
+      try {
+        changeData = customerSyncService.get(selector);
+      } catch (ApiException e) {
+        if (isTooManyChanges(e)) {
+          return null;
+        }
+        throw e;
+      }
+      if (changeData.getLastChangeTimestamp() != null) {
+        nextSyncTimestamp = changeData.getLastChangeTimestamp();
+      }
+      for (CampaignChangeData campaignChange : nullToEmpty(changeData.getChangedCampaigns())) {
+        if (isChanged(campaignChange.getCampaignChangeStatus())) {
+          changedCampaignIds.add(campaignChange.getCampaignId());
+        }
+        for (AdGroupChangeData adGroupChange : nullToEmpty(campaignChange.getChangedAdGroups())) {
+          Long adGroupId = adGroupChange.getAdGroupId();
+          if (ChangeStatus.NEW.equals(adGroupChange.getAdGroupChangeStatus())) {
+            newAdGroupIds.add(adGroupId);
+          }
+          if (isChanged(adGroupChange.getAdGroupChangeStatus())) {
+            changedAdGroupIds.add(adGroupId);
+          }
+          putAll(changedCriteria, adGroupId, adGroupChange.getChangedCriteria());
+          putAll(removedCriteria, adGroupId, adGroupChange.getRemovedCriteria());
+        }
+      }
+      for (FeedChangeData feedChange : nullToEmpty(changeData.getChangedFeeds())) {
+        if (isChanged(feedChange.getFeedChangeStatus())) {
+          changedFeedIds.add(feedChange.getFeedId());
+        }
+      }
+    }
+
+    List<Campaign> campaigns =
+        getByIds(campaignGetter, campaignFields, CampaignField.Id, changedCampaignIds);
+    List<AdGroup> adGroups =
+        getByIds(adGroupGetter, adGroupFields, AdGroupField.Id, changedAdGroupIds);
+    // The ad groups of new campaigns are all new.
+    for (AdGroup adGroup
+        : getByIds(adGroupGetter, adGroupFields, AdGroupField.CampaignId, newCampaignIds)) {
+      if (!changedAdGroupIds.contains(adGroup.getId())) {
+        adGroups.add(adGroup);
+      }
+      newAdGroupIds.add(adGroup.getId());
+    }
+    List<AdGroupCriterion> criteria = getByIds(adGroupCriterionGetter, adGroupCriterionFields,
+        AdGroupCriterionField.AdGroupId, newAdGroupIds);
+    changedCriteria.keySet().removeAll(newAdGroupIds);
+    for (Map.Entry<Long, Long> removedCriterion : removedCriteria.entries()) {
+      changedCriteria.remove(removedCriterion.getKey(), removedCriterion.getValue());
+    }
+    criteria.addAll(getChangedCriteria(changedCriteria));
+    List<Feed> feeds = getByIds(feedGetter, feedFields, FeedField.Id, changedFeedIds);
+    return new CustomerMirrorUpdate(false, nextSyncTimestamp, campaigns, adGroups, criteria,
+        removedCriteria, feeds);
+  }
+
+  /**
+   * Gets changed criteria, given by ad group ID, with requests for both the IDs of many ad groups
+   * and the IDs of their changed criteria.
+   */
+  private List<AdGroupCriterion> getChangedCriteria(SetMultimap<Long, Long> changedCriteria)
+      throws RemoteException {
+    List<AdGroupCriterion> criteria = new ArrayList<AdGroupCriterion>();
+    for (List<Map.Entry<Long, Long>> chunk
+        : Lists.partition(new ArrayList<Map.Entry<Long, Long>>(changedCriteria.entries()),
+            idsPerRequest)) {
+      Set<Long> adGroupIds = new LinkedHashSet<Long>();
+      Set<Long> criterionIds = new LinkedHashSet<Long>();
+      for (Map.Entry<Long, Long> entry : chunk) {
+        adGroupIds.add(entry.getKey());
+        criterionIds.add(entry.getValue());
+      }
+      SelectorBuilder builder = new SelectorBuilder().fields(adGroupCriterionFields)
+          .in(AdGroupCriterionField.AdGroupId, toStrings(adGroupIds))
+          .in(AdGroupCriterionField.Id, toStrings(criterionIds));
+      // Criterion IDs are only unique within an ad group, so the request may return criteria
+      // that did not change.
+      for (AdGroupCriterion criterion : getAll(adGroupCriterionGetter, builder)) {
+        if (changedCriteria.containsEntry(
+            criterion.getAdGroupId(), adGroupCriterionGetter.getId(criterion))) {
+          criteria.add(criterion);
+        }
+      }
+    }
+    return criteria;
+  }
+
+  /**
+   * Gets the time zone of the customer's dates and times, retrieving it on first use.
+   */
+  private DateTimeZone getDateTimeZone() throws RemoteException {
+    if (dateTimeZone == null) {
+      Customer[] customers = customerService.getCustomers();
+      Preconditions.checkState(customers != null && customers.length > 0,
+          "Customer %s not found", clientCustomerId);
+      Customer customer = customers[0];
+      for (Customer candidate : customers) {
+        if (clientCustomerId.replace("-", "").equals(String.valueOf(candidate.getCustomerId()))) {
+          customer = candidate;
+        }
+      }
+      dateTimeZone = DateTimeZone.forID(customer.getDateTimeZone());
+    }
+    return dateTimeZone;
+  }
+
+  private static boolean isChanged(ChangeStatus changeStatus) {
+    return changeStatus != null && !ChangeStatus.FIELDS_UNCHANGED.equals(changeStatus);
+  }
+
+  private static boolean isTooManyChanges(ApiException e) {
+    for (ApiError error : nullToEmpty(e.getErrors())) {
+      if (error instanceof CustomerSyncError && CustomerSyncErrorReason.TOO_MANY_CHANGES.equals(
+          ((CustomerSyncError) error).getReason())) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private <EntityT> Set<Long> getIds(EntityGetter<EntityT> getter, EntityField idField)
+      throws RemoteException {
+    Set<Long> ids = new LinkedHashSet<Long>();
+    for (EntityT entity : getAll(getter, new SelectorBuilder().fields(idField))) {
+      ids.add(getter.getId(entity));
+    }
+    return ids;
+  }
+
+  private <EntityT> List<EntityT> getAll(EntityGetter<EntityT> getter, EntityField[] fields)
+      throws RemoteException {
+    return getAll(getter, new SelectorBuilder().fields(fields));
+  }
+
+  private <EntityT> List<EntityT> getByIds(EntityGetter<EntityT> getter, EntityField[] fields,
+      EntityField idField, Collection<Long> ids) throws RemoteException {
+    List<EntityT> entities = new ArrayList<EntityT>();
+    for (List<Long> idChunk : Lists.partition(new ArrayList<Long>(ids), idsPerRequest)) {
+      entities.addAll(getAll(getter,
+          new SelectorBuilder().fields(fields).in(idField, toStrings(idChunk))));
+    }
+    return entities;
+  }
+
+  /**
+   * Gets all the pages of entities matching the selector of the builder.
+   */
+  private <EntityT> List<EntityT> getAll(EntityGetter<EntityT> getter, SelectorBuilder builder)
+      throws RemoteException {
+    List<EntityT> entities = new ArrayList<EntityT>();
+    int offset = 0;
+    Page page;
+    do {
+      page = getter.get(builder.offset(offset).limit(pageSize).build(), entities);
+      offset += pageSize;
+    } while (page != null && page.getTotalNumEntries() != null
+        && offset < page.getTotalNumEntries());
+    return entities;
+  }
+
+  private static String[] toStrings(Collection<Long> ids) {
+    String[] strings = new String[ids.size()];
+    int i = 0;
+    for (Long id : ids) {
+      strings[i++] = String.valueOf(id);
+    }
+    return strings;
+  }
+
+  private static void putAll(SetMultimap<Long, Long> multimap, Long key, long[] values) {
+    if (values != null) {
+      multimap.putAll(key, Longs.asList(values));
+    }
+  }
+
+  private static <T> List<T> nullToEmpty(T[] array) {
+    return array == null ? new ArrayList<T>() : Arrays.asList(array);
+  }
+
+  /**
+   * Gets pages of one type of entity.
+   */
+  private abstract static class EntityGetter<EntityT> {
+
+    /**
+     * Gets a page of entities and adds its entries to the list.
+     */
+    abstract Page get(Selector selector, List<EntityT> entities) throws RemoteException;
+
+    abstract Long getId(EntityT entity);
+
+    static <EntityT> void addAll(List<EntityT> entities, EntityT[] entries) {
+      if (entries != null) {
+        entities.addAll(Arrays.asList(entries));
+      }
+    }
+  }
+}
@@ -0,0 +1,254 @@
+// Copyright 2016 Google Inc. All Rights Reserved.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.api.ads.adwords.axis.utils.v201607.batchjob;
+
+import com.google.api.ads.adwords.axis.utils.BatchJobRunner;
+import com.google.api.ads.adwords.axis.utils.OperationResult;
+import com.google.api.ads.adwords.axis.utils.v201607.SelectorBuilder;
+import com.google.api.ads.adwords.axis.v201607.cm.BatchJob;
+import com.google.api.ads.adwords.axis.v201607.cm.BatchJobOperation;
+import com.google.api.ads.adwords.axis.v201607.cm.BatchJobServiceInterface;
+import com.google.api.ads.adwords.axis.v201607.cm.BatchJobStatus;
+import com.google.api.ads.adwords.axis.v201607.cm.Operand;
+import com.google.api.ads.adwords.axis.v201607.cm.Operation;
+import com.google.api.ads.adwords.axis.v201607.cm.Operator;
+import com.google.api.ads.adwords.axis.v201607.cm.Selector;
+import com.google.api.ads.adwords.lib.client.AdWordsSession;
+import com.google.api.ads.adwords.lib.factory.BaseAdWordsServices;
+import com.google.api.ads.adwords.lib.selectorfields.v201607.cm.BatchJobField;
+import com.google.api.ads.adwords.lib.utils.BatchJobException;
+import com.google.api.ads.adwords.lib.utils.BatchJobUploadStatus;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.net.URI;
+import java.rmi.RemoteException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs operations as a batch job, uploading them incrementally so that they are never all in
+ * memory at once, and polling the job with exponential backoff until it is done.
+ */
+public class IncrementalBatchJobRunner implements BatchJobRunner {
+
+  /** The default number of operations sent with each incremental upload. */
+  public static final int DEFAULT_OPERATIONS_PER_UPLOAD = 10000;
+
+  /** The default delay before the job is polled the first time. */
+  public static final long DEFAULT_INITIAL_POLL_INTERVAL_MILLIS = TimeUnit.SECONDS.toMillis(10);
+
+  /** The default time to wait for the job to be done. */
+  public static final long DEFAULT_TIMEOUT_MILLIS = TimeUnit.HOURS.toMillis(1);
+
+  private static final long MAX_POLL_INTERVAL_MILLIS = TimeUnit.MINUTES.toMillis(5);
+
+  private static final List<Method> OPERAND_GETTERS = getOperandGetters();
+
+  private final BatchJobServiceInterface batchJobService;
+  private final BatchJobHelper batchJobHelper;
+  private final int operationsPerUpload;
+  private final long initialPollIntervalMillis;
+  private final long timeoutMillis;
+
+  /**
+   * Creates a runner with the default upload size, poll interval and timeout.
+   *
+   * @param adWordsServices the services factory
+   * @param session the session
+   */
+  public IncrementalBatchJobRunner(BaseAdWordsServices adWordsServices, AdWordsSession session) {
+    this(adWordsServices.get(session, BatchJobServiceInterface.class),
+        new BatchJobHelper(session), DEFAULT_OPERATIONS_PER_UPLOAD,
+        DEFAULT_INITIAL_POLL_INTERVAL_MILLIS, DEFAULT_TIMEOUT_MILLIS);
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param batchJobService the batch job service the job is created and polled with
+   * @param batchJobHelper the helper the operations are uploaded and the results downloaded with
+   * @param operationsPerUpload the number of operations sent with each incremental upload
+   * @param initialPollIntervalMillis the delay before the job is polled the first time, which
+   *     doubles with each poll up to five minutes
+   * @param timeoutMillis the time to wait for the job to be done once the operations are
+   *     uploaded
+   */
+  public IncrementalBatchJobRunner(BatchJobServiceInterface batchJobService,
+      BatchJobHelper batchJobHelper, int operationsPerUpload, long initialPollIntervalMillis,
+      long timeoutMillis) {
+    Preconditions.checkArgument(operationsPerUpload > 0,
+        "Operations per upload must be positive");
+    this.batchJobService = Preconditions.checkNotNull(batchJobService, "Null batch job service");
+    this.batchJobHelper = Preconditions.checkNotNull(batchJobHelper, "Null batch job helper");
+    this.operationsPerUpload = operationsPerUpload;
+    this.initialPollIntervalMillis = initialPollIntervalMillis;
+    this.timeoutMillis = timeoutMillis;
+  }
+
+  /**
+   * Uploads the operations to a new batch job, waits for the job to be done and downloads its
+   * results. The value of each successful operation is its operand's value, such as an
+   * {@code AdGroupCriterion}. Operations the job did not process get the job's processing
+   * errors.
+   *
+   * @throws BatchJobException if the operations could not be uploaded, or the job was canceled,
+   *     did not finish in time, or has neither a result nor processing errors for an operation
+   */
+  @Override
+  public List<OperationResult<Object>> run(Iterator<?> operations)
+      throws BatchJobException, RemoteException {
+    if (!operations.hasNext()) {
+      return Collections.emptyList();
+    }
+    BatchJobOperation addOperation = new BatchJobOperation();
+    addOperation.setOperator(Operator.ADD);
+    addOperation.setOperand(new BatchJob());
+    BatchJob batchJob =
+        batchJobService.mutate(new BatchJobOperation[] {addOperation}).getValue(0);
+
+    BatchJobUploadStatus uploadStatus =
+        new BatchJobUploadStatus(0, URI.create(batchJob.getUploadUrl().getUrl()));
+    int operationCount = 0;
+    List<Operation> upload = new ArrayList<Operation>(operationsPerUpload);
+    while (operations.hasNext()) {
+      upload.add((Operation) operations.next());
+      operationCount++;
+      boolean isLastRequest = !operations.hasNext();
+      if (upload.size() == operationsPerUpload || isLastRequest) {
+        uploadStatus = batchJobHelper.uploadIncrementalBatchJobOperations(
+            upload, isLastRequest, uploadStatus).getBatchJobUploadStatus();
+        upload = new ArrayList<Operation>(operationsPerUpload);
+      }
+    }
+
+    batchJob = awaitDone(batchJob.getId());
+    BatchJobMutateResponse response =
+        batchJobHelper.downloadBatchJobMutateResponse(batchJob.getDownloadUrl().getUrl());
+    return getOperationResults(batchJob, response, operationCount);
+  }
+
+  /**
+   * Waits before polling the job again. Returns false if interrupted.
+   */
+  @VisibleForTesting
+  boolean sleep(long millis) {
+    try {
+      Thread.sleep(millis);
+      return true;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+
+  private BatchJob awaitDone(Long batchJobId) throws BatchJobException, RemoteException {
+    Selector selector = new SelectorBuilder()
+        .fields(BatchJobField.Id, BatchJobField.Status, BatchJobField.DownloadUrl,
+            BatchJobField.ProcessingErrors)
+        .equalsId(batchJobId)
+        .build();
+    long deadline = System.currentTimeMillis() + timeoutMillis;
+    long pollIntervalMillis = initialPollIntervalMillis;
+    while (true) {
+      BatchJob batchJob = batchJobService.get(selector).getEntries(0);
+      BatchJobStatus status = batchJob.getStatus();
+      if (BatchJobStatus.DONE.equals(status)) {
+        return batchJob;
+      } else if (BatchJobStatus.CANCELING.equals(status)
+          || BatchJobStatus.CANCELED.equals(status)) {
+        throw new BatchJobException("Batch job " + batchJobId + " was canceled");
+      } else if (System.currentTimeMillis() + pollIntervalMillis > deadline) {
+        throw new BatchJobException(
+            "Batch job " + batchJobId + " is not done after " + timeoutMillis + " ms");
+      } else if (!sleep(pollIntervalMillis)) {
+        throw new BatchJobException(
+            "Interrupted while waiting for batch job " + batchJobId + " to be done");
+      }
+      pollIntervalMillis = Math.min(pollIntervalMillis * 2, MAX_POLL_INTERVAL_MILLIS);
+    }
+  }
+
+  private static List<OperationResult<Object>> getOperationResults(BatchJob batchJob,
+      BatchJobMutateResponse response, int operationCount) throws BatchJobException {
+    List<OperationResult<Object>> results = new ArrayList<OperationResult<Object>>(
+        Collections.nCopies(operationCount, (OperationResult<Object>) null));
+    MutateResult[] mutateResults = response.getMutateResults();
+    if (mutateResults != null) {
+      for (MutateResult mutateResult : mutateResults) {
+        int index = mutateResult.getIndex().intValue();
+        List<?> errors = mutateResult.getErrorList() == null
+            || mutateResult.getErrorList().getErrors() == null
+            ? Collections.emptyList() : Arrays.asList(mutateResult.getErrorList().getErrors());
+        results.set(index,
+            new OperationResult<Object>(index, getOperandValue(mutateResult.getOperand()),
+                errors, 1));
+      }
+    }
+    for (int i = 0; i < operationCount; i++) {
+      if (results.get(i) == null) {
+        if (batchJob.getProcessingErrors() == null
+            || batchJob.getProcessingErrors().length == 0) {
+          throw new BatchJobException(
+              "Batch job " + batchJob.getId() + " has no result for operation " + i);
+        }
+        results.set(i, new OperationResult<Object>(
+            i, null, Arrays.asList(batchJob.getProcessingErrors()), 1));
+      }
+    }
+    return results;
+  }
+
+  /**
+   * Gets the value an operand holds, or {@code null} if it holds none.
+   */
+  private static Object getOperandValue(Operand operand) {
+    if (operand == null) {
+      return null;
+    }
+    for (Method getter : OPERAND_GETTERS) {
+      try {
+        Object value = getter.invoke(operand);
+        if (value != null) {
+          return value;
+        }
+      } catch (IllegalAccessException e) {
+        throw new IllegalStateException("Could not get the operand value", e);
+      } catch (InvocationTargetException e) {
+        throw new IllegalStateException("Could not get the operand value", e.getCause());
+      }
+    }
+    return null;
+  }
+
+  private static List<Method> getOperandGetters() {
+    List<Method> getters = new ArrayList<Method>();
+    for (Method method : Operand.class.getDeclaredMethods()) {
+      if (method.getName().startsWith("get") && method.getParameterTypes().length == 0
+          && Modifier.isPublic(method.getModifiers())
+          && !Modifier.isStatic(method.getModifiers())) {
+        getters.add(method);
+      }
+    }
+    return getters;
+  }
+}
@@ -0,0 +1,190 @@
+// Copyright 2016 Google Inc. All Rights Reserved.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.api.ads.adwords.axis.utils.v201607.shopping;
+
+import com.google.api.ads.adwords.axis.v201607.cm.ProductBiddingCategory;
+import com.google.api.ads.adwords.axis.v201607.cm.ProductBrand;
+import com.google.api.ads.adwords.axis.v201607.cm.ProductCanonicalCondition;
+import com.google.api.ads.adwords.axis.v201607.cm.ProductChannel;
+import com.google.api.ads.adwords.axis.v201607.cm.ProductChannelExclusivity;
+import com.google.api.ads.adwords.axis.v201607.cm.ProductCustomAttribute;
+import com.google.api.ads.adwords.axis.v201607.cm.ProductDimension;
+import com.google.api.ads.adwords.axis.v201607.cm.ProductDimensionType;
+import com.google.api.ads.adwords.axis.v201607.cm.ProductOfferId;
+import com.google.api.ads.adwords.axis.v201607.cm.ProductType;
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Objects;
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+import com.google.common.collect.Ordering;
+
+import javax.annotation.Nullable;
+
+/**
+ * Canonical, immutable key of a {@link ProductDimension}, used to look up and order the children
+ * of a {@link ProductPartitionNode} without comparing the dimension beans themselves.
+ *
+ * <p>The attributes of the dimension that {@link ProductDimensionComparator} compares are copied
+ * into the key when it is created, with case-insensitive strings normalized, so that
+ * {@link #compareTo(ProductDimensionKey)} orders keys the same way as the comparator orders their
+ * dimensions, and is consistent with {@link #equals(Object)}. The hash code is computed once.
+ *
+ * <p>Keys are interned, so the keys of equal dimensions are usually the same instance and most
+ * comparisons between them are reference comparisons.
+ */
+final class ProductDimensionKey implements Comparable<ProductDimensionKey> {
+
+  private static final Interner<ProductDimensionKey> INTERNER = Interners.newWeakInterner();
+
+  /**
+   * Ordering for Comparable objects that places nulls last, then defers to the Comparable's
+   * natural ordering.
+   */
+  private static final Ordering<Comparable<?>> NULLS_LAST_NATURAL_ORDERING =
+      Ordering.natural().nullsLast();
+
+  /** Key of the {@code null} dimension, which is ordered after all other keys. */
+  private static final ProductDimensionKey NULL_DIMENSION_KEY =
+      new ProductDimensionKey(null, null, null);
+
+  @Nullable private final String dimensionClassName;
+  @Nullable private final String attributeType;
+  @Nullable private final Comparable<?> value;
+  private final int hashCode;
+
+  private ProductDimensionKey(@Nullable String dimensionClassName, @Nullable String attributeType,
+      @Nullable Comparable<?> value) {
+    this.dimensionClassName = dimensionClassName;
+    this.attributeType = attributeType;
+    this.value = value;
+    this.hashCode = Objects.hashCode(dimensionClassName, attributeType, value);
+  }
+
+  /**
+   * Returns the canonical key of the specified dimension.
+   *
+   * @param dimension the dimension, or {@code null} for the root node's dimension
+   * @throws IllegalArgumentException if the dimension's type is not supported by Shopping
+   *     campaigns
+   */
+  static ProductDimensionKey of(@Nullable ProductDimension dimension) {
+    if (dimension == null) {
+      return NULL_DIMENSION_KEY;
+    }
+    String className = dimension.getClass().getName();
+    ProductDimensionKey key;
+    if (dimension instanceof ProductBiddingCategory) {
+      ProductBiddingCategory category = (ProductBiddingCategory) dimension;
+      key = new ProductDimensionKey(className, normalize(category.getType()), category.getValue());
+    } else if (dimension instanceof ProductBrand) {
+      key = new ProductDimensionKey(
+          className, null, normalize(((ProductBrand) dimension).getValue()));
+    } else if (dimension instanceof ProductCanonicalCondition) {
+      ProductCanonicalCondition condition = (ProductCanonicalCondition) dimension;
+      key = new ProductDimensionKey(className, null,
+          condition.getCondition() == null ? null : condition.getCondition().getValue());
+    } else if (dimension instanceof ProductCustomAttribute) {
+      ProductCustomAttribute attribute = (ProductCustomAttribute) dimension;
+      key = new ProductDimensionKey(
+          className, normalize(attribute.getType()), normalize(attribute.getValue()));
+    } else if (dimension instanceof ProductOfferId) {
+      key = new ProductDimensionKey(
+          className, null, normalize(((ProductOfferId) dimension).getValue()));
+    } else if (dimension instanceof ProductType) {
+      ProductType productType = (ProductType) dimension;
+      key = new ProductDimensionKey(
+          className, normalize(productType.getType()), normalize(productType.getValue()));
+    } else if (dimension instanceof ProductChannel) {
+      ProductChannel channel = (ProductChannel) dimension;
+      key = new ProductDimensionKey(className, null,
+          channel.getChannel() == null ? null : channel.getChannel().getValue());
+    } else if (dimension instanceof ProductChannelExclusivity) {
+      ProductChannelExclusivity exclusivity = (ProductChannelExclusivity) dimension;
+      key = new ProductDimensionKey(className, null,
+          exclusivity.getChannelExclusivity() == null
+              ? null : exclusivity.getChannelExclusivity().getValue());
+    } else {
+      throw new IllegalArgumentException("Unsupported dimension type " + dimension);
+    }
+    return INTERNER.intern(key);
+  }
+
+  @Nullable
+  private static String normalize(@Nullable ProductDimensionType type) {
+    return type == null ? null : normalize(type.getValue());
+  }
+
+  /**
+   * Normalizes a string so that the natural ordering of normalized strings is the same as the
+   * {@link String#CASE_INSENSITIVE_ORDER} of the original strings.
+   */
+  @Nullable
+  private static String normalize(@Nullable String value) {
+    if (value == null) {
+      return null;
+    }
+    char[] chars = value.toCharArray();
+    for (int i = 0; i < chars.length; i++) {
+      chars[i] = Character.toLowerCase(Character.toUpperCase(chars[i]));
+    }
+    return new String(chars);
+  }
+
+  @Override
+  public int compareTo(ProductDimensionKey other) {
+    if (this == other) {
+      return 0;
+    }
+    // Orders the null dimension last, then compares by dimension class, attribute type and value.
+    int result = NULLS_LAST_NATURAL_ORDERING.compare(dimensionClassName, other.dimensionClassName);
+    if (result != 0) {
+      return result;
+    }
+    result = NULLS_LAST_NATURAL_ORDERING.compare(attributeType, other.attributeType);
+    if (result != 0) {
+      return result;
+    }
+    return NULLS_LAST_NATURAL_ORDERING.compare(value, other.value);
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (!(obj instanceof ProductDimensionKey)) {
+      return false;
+    }
+    ProductDimensionKey other = (ProductDimensionKey) obj;
+    return hashCode == other.hashCode
+        && Objects.equal(dimensionClassName, other.dimensionClassName)
+        && Objects.equal(attributeType, other.attributeType)
+        && Objects.equal(value, other.value);
+  }
+
+  @Override
+  public int hashCode() {
+    return hashCode;
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(this)
+        .add("dimensionClassName", dimensionClassName)
+        .add("attributeType", attributeType)
+        .add("value", value)
+        .toString();
+  }
+}
@@ -30,6 +30,11 @@ import com.google.common.collect.Collections2;
 import com.google.common.collect.ImmutableList;
 import com.google.common.reflect.Reflection;
 
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.lang.reflect.InvocationHandler;
 import java.rmi.RemoteException;
 import java.util.List;
@@ -42,6 +47,9 @@ public class ProductPartitionTree
     implements ProductPartitionTreeInterface<ProductPartitionNode, AdGroupCriterionOperation> {
 
   private final ProductPartitionTreeInterface<ProductPartitionNode, AdGroupCriterionOperation> impl;
+
+  /** The tree behind {@link #impl}, whose state is written to snapshots. */
+  private final ProductPartitionTreeImpl treeImpl;
   
   /**
    * Required fields for any {@link Selector} used to fetch {@link AdGroupCriterion} objects used by
@@ -62,6 +70,7 @@ public class ProductPartitionTree
 
   @SuppressWarnings("unchecked")
   private ProductPartitionTree(final ProductPartitionTreeImpl impl) {
+    this.treeImpl = impl;
     InvocationHandler invocationHandler =
         new AdsUtilityInvocationHandler(
             impl, AdWordsInternals.getInstance().getAdsUtilityRegistry()) {
@@ -108,6 +117,42 @@ public class ProductPartitionTree
             adGroupId, biddingStrategyConfig, adGroupCriteria));
   }
 
+  /**
+   * Returns a new instance of this class restored from a snapshot written by
+   * {@link #writeSnapshot(OutputStream)}, without retrieving the product partitions of the ad
+   * group. The restored tree only generates mutate operations for the changes made to it after it
+   * was restored, so it can be used as a local baseline of the ad group's product partitions.
+   *
+   * <p>This method reads exactly one snapshot from the stream, so snapshots of several trees can
+   * be written to, and restored from, the same stream. The stream is not buffered by this method.
+   *
+   * @param in the stream to read the snapshot from
+   * @throws IOException if the snapshot could not be read or is not a valid snapshot
+   */
+  public static ProductPartitionTree readSnapshot(InputStream in) throws IOException {
+    return new ProductPartitionTree(ProductPartitionTreeSnapshots.read(new DataInputStream(in)));
+  }
+
+  /**
+   * Writes a compact binary snapshot of the current state of this tree, including the IDs, bids
+   * and dimensions of its nodes and the bidding strategy configuration of its ad group, that can
+   * be restored by {@link #readSnapshot(InputStream)}.
+   *
+   * <p>Snapshots should be written when the tree matches the product partitions of the ad group,
+   * e.g., when the tree was just retrieved, since the nodes of the restored tree are treated as
+   * existing criteria.
+   *
+   * @param out the stream to write the snapshot to
+   * @throws IllegalArgumentException if a node has a temporary ID, i.e., was added to the tree
+   *     but not retrieved from the ad group
+   * @throws IOException if the snapshot could not be written
+   */
+  public void writeSnapshot(OutputStream out) throws IOException {
+    DataOutputStream dataOut = new DataOutputStream(out);
+    ProductPartitionTreeSnapshots.write(treeImpl, dataOut);
+    dataOut.flush();
+  }
+
   @Override
   public Long getAdGroupId() {
     return impl.getAdGroupId();
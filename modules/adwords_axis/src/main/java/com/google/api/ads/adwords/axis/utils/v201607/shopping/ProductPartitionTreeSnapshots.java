@@ -0,0 +1,679 @@
+// Copyright 2016 Google Inc. All Rights Reserved.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.api.ads.adwords.axis.utils.v201607.shopping;
+
+import com.google.api.ads.adwords.axis.v201607.cm.BidSource;
+import com.google.api.ads.adwords.axis.v201607.cm.BiddingScheme;
+import com.google.api.ads.adwords.axis.v201607.cm.BiddingStrategyConfiguration;
+import com.google.api.ads.adwords.axis.v201607.cm.BiddingStrategySource;
+import com.google.api.ads.adwords.axis.v201607.cm.BiddingStrategyType;
+import com.google.api.ads.adwords.axis.v201607.cm.Bids;
+import com.google.api.ads.adwords.axis.v201607.cm.BudgetOptimizerBiddingScheme;
+import com.google.api.ads.adwords.axis.v201607.cm.ConversionOptimizerBiddingScheme;
+import com.google.api.ads.adwords.axis.v201607.cm.ConversionOptimizerBiddingSchemeBidType;
+import com.google.api.ads.adwords.axis.v201607.cm.ConversionOptimizerBiddingSchemePricingMode;
+import com.google.api.ads.adwords.axis.v201607.cm.CpaBid;
+import com.google.api.ads.adwords.axis.v201607.cm.CpcBid;
+import com.google.api.ads.adwords.axis.v201607.cm.CpmBid;
+import com.google.api.ads.adwords.axis.v201607.cm.EnhancedCpcBiddingScheme;
+import com.google.api.ads.adwords.axis.v201607.cm.ManualCpcBiddingScheme;
+import com.google.api.ads.adwords.axis.v201607.cm.ManualCpmBiddingScheme;
+import com.google.api.ads.adwords.axis.v201607.cm.Money;
+import com.google.api.ads.adwords.axis.v201607.cm.PageOnePromotedBiddingScheme;
+import com.google.api.ads.adwords.axis.v201607.cm.PageOnePromotedBiddingSchemeStrategyGoal;
+import com.google.api.ads.adwords.axis.v201607.cm.ProductBiddingCategory;
+import com.google.api.ads.adwords.axis.v201607.cm.ProductBrand;
+import com.google.api.ads.adwords.axis.v201607.cm.ProductCanonicalCondition;
+import com.google.api.ads.adwords.axis.v201607.cm.ProductCanonicalConditionCondition;
+import com.google.api.ads.adwords.axis.v201607.cm.ProductChannel;
+import com.google.api.ads.adwords.axis.v201607.cm.ProductChannelExclusivity;
+import com.google.api.ads.adwords.axis.v201607.cm.ProductCustomAttribute;
+import com.google.api.ads.adwords.axis.v201607.cm.ProductDimension;
+import com.google.api.ads.adwords.axis.v201607.cm.ProductDimensionType;
+import com.google.api.ads.adwords.axis.v201607.cm.ProductOfferId;
+import com.google.api.ads.adwords.axis.v201607.cm.ProductType;
+import com.google.api.ads.adwords.axis.v201607.cm.ShoppingProductChannel;
+import com.google.api.ads.adwords.axis.v201607.cm.ShoppingProductChannelExclusivity;
+import com.google.api.ads.adwords.axis.v201607.cm.TargetCpaBiddingScheme;
+import com.google.api.ads.adwords.axis.v201607.cm.TargetOutrankShareBiddingScheme;
+import com.google.api.ads.adwords.axis.v201607.cm.TargetRoasBiddingScheme;
+import com.google.api.ads.adwords.axis.v201607.cm.TargetSpendBiddingScheme;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Iterables;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+
+import javax.annotation.Nullable;
+
+/**
+ * Static utility class that writes {@link ProductPartitionTreeImpl}s to, and restores them from,
+ * a compact binary format.
+ *
+ * <p>A snapshot consists of a header, the ad group ID, the fields of the bidding strategy
+ * configuration, and the nodes of the tree in depth-first order. Each node is written as its
+ * partition ID, its partition type, its bid, its dimension and its number of children, with
+ * dimensions written as a tag followed by their type and value.
+ */
+final class ProductPartitionTreeSnapshots {
+
+  /** Identifies a product partition tree snapshot. */
+  private static final int MAGIC = 0x50505453;
+
+  /** The version of the snapshot format, incremented on incompatible changes. */
+  private static final byte FORMAT_VERSION = 2;
+
+  private static final byte BIDDABLE_UNIT = 0;
+  private static final byte EXCLUDED_UNIT = 1;
+  private static final byte SUBDIVISION = 2;
+
+  private static final byte NULL_DIMENSION = 0;
+  private static final byte BIDDING_CATEGORY = 1;
+  private static final byte BRAND = 2;
+  private static final byte CANONICAL_CONDITION = 3;
+  private static final byte CUSTOM_ATTRIBUTE = 4;
+  private static final byte OFFER_ID = 5;
+  private static final byte TYPE = 6;
+  private static final byte CHANNEL = 7;
+  private static final byte CHANNEL_EXCLUSIVITY = 8;
+
+  private static final byte NULL_BIDDING_SCHEME = 0;
+  private static final byte BUDGET_OPTIMIZER = 1;
+  private static final byte CONVERSION_OPTIMIZER = 2;
+  private static final byte ENHANCED_CPC = 3;
+  private static final byte MANUAL_CPC = 4;
+  private static final byte MANUAL_CPM = 5;
+  private static final byte PAGE_ONE_PROMOTED = 6;
+  private static final byte TARGET_CPA = 7;
+  private static final byte TARGET_OUTRANK_SHARE = 8;
+  private static final byte TARGET_ROAS = 9;
+  private static final byte TARGET_SPEND = 10;
+
+  private static final byte CPC_BID = 0;
+  private static final byte CPM_BID = 1;
+  private static final byte CPA_BID = 2;
+
+  private ProductPartitionTreeSnapshots() {
+    // Static utility class - do not instantiate.
+  }
+
+  /**
+   * Writes a snapshot of the current state of the tree.
+   *
+   * @throws IllegalArgumentException if a node other than the root of an empty tree has a
+   *     temporary ID, since the restored tree would treat the node as an existing criterion
+   * @throws IOException if the snapshot could not be written
+   */
+  static void write(ProductPartitionTreeImpl tree, DataOutput out) throws IOException {
+    out.writeInt(MAGIC);
+    out.writeByte(FORMAT_VERSION);
+    out.writeLong(tree.getAdGroupId());
+    writeBiddingStrategyConfig(tree.getBiddingStrategyConfig(), out);
+    ProductPartitionNode root = tree.getRoot();
+    if (Iterables.isEmpty(root.getChildren())) {
+      // The root of an empty tree has a temporary ID.
+      out.writeLong(root.getProductPartitionId());
+      writeNodeState(root, out);
+    } else {
+      writeNode(root, out);
+    }
+  }
+
+  private static void writeNode(ProductPartitionNode node, DataOutput out) throws IOException {
+    Long partitionId = node.getProductPartitionId();
+    Preconditions.checkArgument(partitionId != null && partitionId >= 0L,
+        "Cannot write a snapshot of node with temporary ID: %s", node);
+    out.writeLong(partitionId);
+    writeNodeState(node, out);
+  }
+
+  /**
+   * Writes the dimension, partition type, bid and children of a node.
+   */
+  private static void writeNodeState(ProductPartitionNode node, DataOutput out)
+      throws IOException {
+    writeDimension(node.getDimension(), out);
+    if (node.isSubdivision()) {
+      out.writeByte(SUBDIVISION);
+      out.writeInt(Iterables.size(node.getChildren()));
+      for (ProductPartitionNode child : node.getChildren()) {
+        writeNode(child, out);
+      }
+    } else if (node.isExcludedUnit()) {
+      out.writeByte(EXCLUDED_UNIT);
+    } else {
+      out.writeByte(BIDDABLE_UNIT);
+      writeNullableLong(node.getBid(), out);
+    }
+  }
+
+  private static void writeDimension(@Nullable ProductDimension dimension, DataOutput out)
+      throws IOException {
+    if (dimension == null) {
+      out.writeByte(NULL_DIMENSION);
+    } else if (dimension instanceof ProductBiddingCategory) {
+      ProductBiddingCategory category = (ProductBiddingCategory) dimension;
+      out.writeByte(BIDDING_CATEGORY);
+      writeDimensionType(category.getType(), out);
+      writeNullableLong(category.getValue(), out);
+    } else if (dimension instanceof ProductBrand) {
+      out.writeByte(BRAND);
+      writeNullableString(((ProductBrand) dimension).getValue(), out);
+    } else if (dimension instanceof ProductCanonicalCondition) {
+      ProductCanonicalConditionCondition condition =
+          ((ProductCanonicalCondition) dimension).getCondition();
+      out.writeByte(CANONICAL_CONDITION);
+      writeNullableString(condition == null ? null : condition.getValue(), out);
+    } else if (dimension instanceof ProductCustomAttribute) {
+      ProductCustomAttribute attribute = (ProductCustomAttribute) dimension;
+      out.writeByte(CUSTOM_ATTRIBUTE);
+      writeDimensionType(attribute.getType(), out);
+      writeNullableString(attribute.getValue(), out);
+    } else if (dimension instanceof ProductOfferId) {
+      out.writeByte(OFFER_ID);
+      writeNullableString(((ProductOfferId) dimension).getValue(), out);
+    } else if (dimension instanceof ProductType) {
+      ProductType productType = (ProductType) dimension;
+      out.writeByte(TYPE);
+      writeDimensionType(productType.getType(), out);
+      writeNullableString(productType.getValue(), out);
+    } else if (dimension instanceof ProductChannel) {
+      ShoppingProductChannel channel = ((ProductChannel) dimension).getChannel();
+      out.writeByte(CHANNEL);
+      writeNullableString(channel == null ? null : channel.getValue(), out);
+    } else if (dimension instanceof ProductChannelExclusivity) {
+      ShoppingProductChannelExclusivity exclusivity =
+          ((ProductChannelExclusivity) dimension).getChannelExclusivity();
+      out.writeByte(CHANNEL_EXCLUSIVITY);
+      writeNullableString(exclusivity == null ? null : exclusivity.getValue(), out);
+    } else {
+      throw new IllegalArgumentException("Unsupported dimension type " + dimension);
+    }
+  }
+
+  private static void writeDimensionType(@Nullable ProductDimensionType type, DataOutput out)
+      throws IOException {
+    writeNullableString(type == null ? null : type.getValue(), out);
+  }
+
+  private static void writeBiddingStrategyConfig(BiddingStrategyConfiguration config,
+      DataOutput out) throws IOException {
+    writeNullableLong(config.getBiddingStrategyId(), out);
+    writeNullableString(config.getBiddingStrategyName(), out);
+    BiddingStrategyType type = config.getBiddingStrategyType();
+    writeNullableString(type == null ? null : type.getValue(), out);
+    BiddingStrategySource source = config.getBiddingStrategySource();
+    writeNullableString(source == null ? null : source.getValue(), out);
+    writeBiddingScheme(config.getBiddingScheme(), out);
+    Bids[] bids = config.getBids();
+    out.writeInt(bids == null ? -1 : bids.length);
+    if (bids != null) {
+      for (Bids bid : bids) {
+        writeBids(bid, out);
+      }
+    }
+  }
+
+  private static void writeBiddingScheme(@Nullable BiddingScheme scheme, DataOutput out)
+      throws IOException {
+    if (scheme == null) {
+      out.writeByte(NULL_BIDDING_SCHEME);
+      return;
+    }
+    if (scheme instanceof BudgetOptimizerBiddingScheme) {
+      BudgetOptimizerBiddingScheme budgetOptimizer = (BudgetOptimizerBiddingScheme) scheme;
+      out.writeByte(BUDGET_OPTIMIZER);
+      writeMoney(budgetOptimizer.getBidCeiling(), out);
+      writeNullableBoolean(budgetOptimizer.getEnhancedCpcEnabled(), out);
+    } else if (scheme instanceof ConversionOptimizerBiddingScheme) {
+      ConversionOptimizerBiddingScheme conversionOptimizer =
+          (ConversionOptimizerBiddingScheme) scheme;
+      ConversionOptimizerBiddingSchemePricingMode pricingMode =
+          conversionOptimizer.getPricingMode();
+      ConversionOptimizerBiddingSchemeBidType bidType = conversionOptimizer.getBidType();
+      out.writeByte(CONVERSION_OPTIMIZER);
+      writeNullableString(pricingMode == null ? null : pricingMode.getValue(), out);
+      writeNullableString(bidType == null ? null : bidType.getValue(), out);
+    } else if (scheme instanceof EnhancedCpcBiddingScheme) {
+      out.writeByte(ENHANCED_CPC);
+    } else if (scheme instanceof ManualCpcBiddingScheme) {
+      out.writeByte(MANUAL_CPC);
+      writeNullableBoolean(((ManualCpcBiddingScheme) scheme).getEnhancedCpcEnabled(), out);
+    } else if (scheme instanceof ManualCpmBiddingScheme) {
+      out.writeByte(MANUAL_CPM);
+    } else if (scheme instanceof PageOnePromotedBiddingScheme) {
+      PageOnePromotedBiddingScheme pageOnePromoted = (PageOnePromotedBiddingScheme) scheme;
+      PageOnePromotedBiddingSchemeStrategyGoal strategyGoal = pageOnePromoted.getStrategyGoal();
+      out.writeByte(PAGE_ONE_PROMOTED);
+      writeNullableString(strategyGoal == null ? null : strategyGoal.getValue(), out);
+      writeMoney(pageOnePromoted.getBidCeiling(), out);
+      writeNullableDouble(pageOnePromoted.getBidModifier(), out);
+      writeNullableBoolean(pageOnePromoted.getBidChangesForRaisesOnly(), out);
+      writeNullableBoolean(pageOnePromoted.getRaiseBidWhenBudgetConstrained(), out);
+      writeNullableBoolean(pageOnePromoted.getRaiseBidWhenLowQualityScore(), out);
+    } else if (scheme instanceof TargetCpaBiddingScheme) {
+      TargetCpaBiddingScheme targetCpa = (TargetCpaBiddingScheme) scheme;
+      out.writeByte(TARGET_CPA);
+      writeMoney(targetCpa.getTargetCpa(), out);
+      writeMoney(targetCpa.getMaxCpcBidCeiling(), out);
+      writeMoney(targetCpa.getMaxCpcBidFloor(), out);
+    } else if (scheme instanceof TargetOutrankShareBiddingScheme) {
+      TargetOutrankShareBiddingScheme outrankShare = (TargetOutrankShareBiddingScheme) scheme;
+      out.writeByte(TARGET_OUTRANK_SHARE);
+      writeNullableInteger(outrankShare.getTargetOutrankShare(), out);
+      writeNullableString(outrankShare.getCompetitorDomain(), out);
+      writeMoney(outrankShare.getMaxCpcBidCeiling(), out);
+      writeNullableBoolean(outrankShare.getBidChangesForRaisesOnly(), out);
+      writeNullableBoolean(outrankShare.getRaiseBidWhenLowQualityScore(), out);
+    } else if (scheme instanceof TargetRoasBiddingScheme) {
+      TargetRoasBiddingScheme targetRoas = (TargetRoasBiddingScheme) scheme;
+      out.writeByte(TARGET_ROAS);
+      writeNullableDouble(targetRoas.getTargetRoas(), out);
+      writeMoney(targetRoas.getBidCeiling(), out);
+      writeMoney(targetRoas.getBidFloor(), out);
+    } else if (scheme instanceof TargetSpendBiddingScheme) {
+      TargetSpendBiddingScheme targetSpend = (TargetSpendBiddingScheme) scheme;
+      out.writeByte(TARGET_SPEND);
+      writeMoney(targetSpend.getBidCeiling(), out);
+      writeMoney(targetSpend.getSpendTarget(), out);
+    } else {
+      throw new IllegalArgumentException("Unsupported bidding scheme " + scheme);
+    }
+    writeNullableString(scheme.getBiddingSchemeType(), out);
+  }
+
+  private static void writeBids(Bids bids, DataOutput out) throws IOException {
+    if (bids instanceof CpcBid) {
+      CpcBid cpcBid = (CpcBid) bids;
+      out.writeByte(CPC_BID);
+      writeMoney(cpcBid.getBid(), out);
+      writeBidSource(cpcBid.getCpcBidSource(), out);
+    } else if (bids instanceof CpmBid) {
+      CpmBid cpmBid = (CpmBid) bids;
+      out.writeByte(CPM_BID);
+      writeMoney(cpmBid.getBid(), out);
+      writeBidSource(cpmBid.getCpmBidSource(), out);
+    } else if (bids instanceof CpaBid) {
+      CpaBid cpaBid = (CpaBid) bids;
+      out.writeByte(CPA_BID);
+      writeMoney(cpaBid.getBid(), out);
+      writeBidSource(cpaBid.getBidSource(), out);
+    } else {
+      throw new IllegalArgumentException("Unsupported bids " + bids);
+    }
+    writeNullableString(bids.getBidsType(), out);
+  }
+
+  private static void writeBidSource(@Nullable BidSource source, DataOutput out)
+      throws IOException {
+    writeNullableString(source == null ? null : source.getValue(), out);
+  }
+
+  private static void writeMoney(@Nullable Money money, DataOutput out) throws IOException {
+    out.writeBoolean(money != null);
+    if (money != null) {
+      writeNullableLong(money.getMicroAmount(), out);
+      writeNullableString(money.getComparableValueType(), out);
+    }
+  }
+
+  private static void writeNullableString(@Nullable String value, DataOutput out)
+      throws IOException {
+    out.writeBoolean(value != null);
+    if (value != null) {
+      out.writeUTF(value);
+    }
+  }
+
+  private static void writeNullableLong(@Nullable Long value, DataOutput out) throws IOException {
+    out.writeBoolean(value != null);
+    if (value != null) {
+      out.writeLong(value);
+    }
+  }
+
+  private static void writeNullableInteger(@Nullable Integer value, DataOutput out)
+      throws IOException {
+    out.writeBoolean(value != null);
+    if (value != null) {
+      out.writeInt(value);
+    }
+  }
+
+  private static void writeNullableDouble(@Nullable Double value, DataOutput out)
+      throws IOException {
+    out.writeBoolean(value != null);
+    if (value != null) {
+      out.writeDouble(value);
+    }
+  }
+
+  private static void writeNullableBoolean(@Nullable Boolean value, DataOutput out)
+      throws IOException {
+    out.writeBoolean(value != null);
+    if (value != null) {
+      out.writeBoolean(value);
+    }
+  }
+
+  /**
+   * Restores a tree from a snapshot written by
+   * {@link #write(ProductPartitionTreeImpl, DataOutput)}.
+   * The nodes of the restored tree are its original nodes, so the tree only generates mutate
+   * operations for the changes made to it after it was restored.
+   *
+   * @throws IOException if the snapshot could not be read or is not a valid snapshot
+   */
+  static ProductPartitionTreeImpl read(DataInput in) throws IOException {
+    if (in.readInt() != MAGIC) {
+      throw new StreamCorruptedException("Not a product partition tree snapshot");
+    }
+    byte formatVersion = in.readByte();
+    if (formatVersion != FORMAT_VERSION) {
+      throw new StreamCorruptedException(
+          "Unsupported product partition tree snapshot version: " + formatVersion);
+    }
+    long adGroupId = in.readLong();
+    BiddingStrategyConfiguration biddingStrategyConfig = readBiddingStrategyConfig(in);
+    long rootId = in.readLong();
+    if (in.readByte() != NULL_DIMENSION) {
+      throw new StreamCorruptedException("Root node of snapshot has a dimension");
+    }
+    ProductPartitionNode root = new ProductPartitionNode(null, null, rootId);
+    readNodeState(root, in);
+    return new ProductPartitionTreeImpl(adGroupId, biddingStrategyConfig, root);
+  }
+
+  /**
+   * Reads the partition type, bid and children of a node whose ID and dimension were read.
+   */
+  private static void readNodeState(ProductPartitionNode node, DataInput in) throws IOException {
+    byte nodeType = in.readByte();
+    switch (nodeType) {
+      case SUBDIVISION:
+        node.asSubdivision();
+        int childCount = in.readInt();
+        for (int i = 0; i < childCount; i++) {
+          long childId = in.readLong();
+          ProductPartitionNode child = node.addChild(readDimension(in));
+          child.setProductPartitionId(childId);
+          readNodeState(child, in);
+        }
+        break;
+      case EXCLUDED_UNIT:
+        node.asExcludedUnit();
+        break;
+      case BIDDABLE_UNIT:
+        node.asBiddableUnit().setBid(readNullableLong(in));
+        break;
+      default:
+        throw new StreamCorruptedException("Unrecognized node type: " + nodeType);
+    }
+  }
+
+  private static ProductDimension readDimension(DataInput in) throws IOException {
+    byte tag = in.readByte();
+    try {
+      return readDimension(tag, in);
+    } catch (IllegalArgumentException e) {
+      throw invalidValue("Invalid value for dimension with tag " + tag, e);
+    }
+  }
+
+  private static ProductDimension readDimension(byte tag, DataInput in) throws IOException {
+    switch (tag) {
+      case BIDDING_CATEGORY:
+        ProductBiddingCategory category = new ProductBiddingCategory();
+        category.setType(readDimensionType(in));
+        category.setValue(readNullableLong(in));
+        return category;
+      case BRAND:
+        return ProductDimensions.createBrand(readNullableString(in));
+      case CANONICAL_CONDITION:
+        String condition = readNullableString(in);
+        return ProductDimensions.createCanonicalCondition(
+            condition == null ? null : ProductCanonicalConditionCondition.fromValue(condition));
+      case CUSTOM_ATTRIBUTE:
+        ProductCustomAttribute attribute = new ProductCustomAttribute();
+        attribute.setType(readDimensionType(in));
+        attribute.setValue(readNullableString(in));
+        return attribute;
+      case OFFER_ID:
+        return ProductDimensions.createOfferId(readNullableString(in));
+      case TYPE:
+        ProductType productType = new ProductType();
+        productType.setType(readDimensionType(in));
+        productType.setValue(readNullableString(in));
+        return productType;
+      case CHANNEL:
+        String channel = readNullableString(in);
+        return ProductDimensions.createChannel(
+            channel == null ? null : ShoppingProductChannel.fromValue(channel));
+      case CHANNEL_EXCLUSIVITY:
+        String exclusivity = readNullableString(in);
+        return ProductDimensions.createChannelExclusivity(exclusivity == null
+            ? null : ShoppingProductChannelExclusivity.fromValue(exclusivity));
+      default:
+        throw new StreamCorruptedException("Unrecognized dimension tag: " + tag);
+    }
+  }
+
+  @Nullable
+  private static ProductDimensionType readDimensionType(DataInput in) throws IOException {
+    String type = readNullableString(in);
+    try {
+      return type == null ? null : ProductDimensionType.fromValue(type);
+    } catch (IllegalArgumentException e) {
+      throw invalidValue("Invalid product dimension type", e);
+    }
+  }
+
+  private static BiddingStrategyConfiguration readBiddingStrategyConfig(DataInput in)
+      throws IOException {
+    BiddingStrategyConfiguration config = new BiddingStrategyConfiguration();
+    config.setBiddingStrategyId(readNullableLong(in));
+    config.setBiddingStrategyName(readNullableString(in));
+    try {
+      String type = readNullableString(in);
+      config.setBiddingStrategyType(type == null ? null : BiddingStrategyType.fromValue(type));
+      String source = readNullableString(in);
+      config.setBiddingStrategySource(
+          source == null ? null : BiddingStrategySource.fromValue(source));
+      config.setBiddingScheme(readBiddingScheme(in));
+      int bidCount = in.readInt();
+      if (bidCount < -1) {
+        throw new StreamCorruptedException("Invalid number of bids: " + bidCount);
+      }
+      if (bidCount >= 0) {
+        Bids[] bids = new Bids[bidCount];
+        for (int i = 0; i < bidCount; i++) {
+          bids[i] = readBids(in);
+        }
+        config.setBids(bids);
+      }
+    } catch (IllegalArgumentException e) {
+      throw invalidValue("Invalid value in bidding strategy configuration", e);
+    }
+    return config;
+  }
+
+  @Nullable
+  private static BiddingScheme readBiddingScheme(DataInput in) throws IOException {
+    byte tag = in.readByte();
+    BiddingScheme scheme;
+    switch (tag) {
+      case NULL_BIDDING_SCHEME:
+        return null;
+      case BUDGET_OPTIMIZER:
+        BudgetOptimizerBiddingScheme budgetOptimizer = new BudgetOptimizerBiddingScheme();
+        budgetOptimizer.setBidCeiling(readMoney(in));
+        budgetOptimizer.setEnhancedCpcEnabled(readNullableBoolean(in));
+        scheme = budgetOptimizer;
+        break;
+      case CONVERSION_OPTIMIZER:
+        ConversionOptimizerBiddingScheme conversionOptimizer =
+            new ConversionOptimizerBiddingScheme();
+        String pricingMode = readNullableString(in);
+        conversionOptimizer.setPricingMode(pricingMode == null
+            ? null : ConversionOptimizerBiddingSchemePricingMode.fromValue(pricingMode));
+        String bidType = readNullableString(in);
+        conversionOptimizer.setBidType(
+            bidType == null ? null : ConversionOptimizerBiddingSchemeBidType.fromValue(bidType));
+        scheme = conversionOptimizer;
+        break;
+      case ENHANCED_CPC:
+        scheme = new EnhancedCpcBiddingScheme();
+        break;
+      case MANUAL_CPC:
+        ManualCpcBiddingScheme manualCpc = new ManualCpcBiddingScheme();
+        manualCpc.setEnhancedCpcEnabled(readNullableBoolean(in));
+        scheme = manualCpc;
+        break;
+      case MANUAL_CPM:
+        scheme = new ManualCpmBiddingScheme();
+        break;
+      case PAGE_ONE_PROMOTED:
+        PageOnePromotedBiddingScheme pageOnePromoted = new PageOnePromotedBiddingScheme();
+        String strategyGoal = readNullableString(in);
+        pageOnePromoted.setStrategyGoal(strategyGoal == null
+            ? null : PageOnePromotedBiddingSchemeStrategyGoal.fromValue(strategyGoal));
+        pageOnePromoted.setBidCeiling(readMoney(in));
+        pageOnePromoted.setBidModifier(readNullableDouble(in));
+        pageOnePromoted.setBidChangesForRaisesOnly(readNullableBoolean(in));
+        pageOnePromoted.setRaiseBidWhenBudgetConstrained(readNullableBoolean(in));
+        pageOnePromoted.setRaiseBidWhenLowQualityScore(readNullableBoolean(in));
+        scheme = pageOnePromoted;
+        break;
+      case TARGET_CPA:
+        TargetCpaBiddingScheme targetCpa = new TargetCpaBiddingScheme();
+        targetCpa.setTargetCpa(readMoney(in));
+        targetCpa.setMaxCpcBidCeiling(readMoney(in));
+        targetCpa.setMaxCpcBidFloor(readMoney(in));
+        scheme = targetCpa;
+        break;
+      case TARGET_OUTRANK_SHARE:
+        TargetOutrankShareBiddingScheme outrankShare = new TargetOutrankShareBiddingScheme();
+        outrankShare.setTargetOutrankShare(readNullableInteger(in));
+        outrankShare.setCompetitorDomain(readNullableString(in));
+        outrankShare.setMaxCpcBidCeiling(readMoney(in));
+        outrankShare.setBidChangesForRaisesOnly(readNullableBoolean(in));
+        outrankShare.setRaiseBidWhenLowQualityScore(readNullableBoolean(in));
+        scheme = outrankShare;
+        break;
+      case TARGET_ROAS:
+        TargetRoasBiddingScheme targetRoas = new TargetRoasBiddingScheme();
+        targetRoas.setTargetRoas(readNullableDouble(in));
+        targetRoas.setBidCeiling(readMoney(in));
+        targetRoas.setBidFloor(readMoney(in));
+        scheme = targetRoas;
+        break;
+      case TARGET_SPEND:
+        TargetSpendBiddingScheme targetSpend = new TargetSpendBiddingScheme();
+        targetSpend.setBidCeiling(readMoney(in));
+        targetSpend.setSpendTarget(readMoney(in));
+        scheme = targetSpend;
+        break;
+      default:
+        throw new StreamCorruptedException("Unrecognized bidding scheme tag: " + tag);
+    }
+    scheme.setBiddingSchemeType(readNullableString(in));
+    return scheme;
+  }
+
+  private static Bids readBids(DataInput in) throws IOException {
+    byte tag = in.readByte();
+    Bids bids;
+    switch (tag) {
+      case CPC_BID:
+        CpcBid cpcBid = new CpcBid();
+        cpcBid.setBid(readMoney(in));
+        cpcBid.setCpcBidSource(readBidSource(in));
+        bids = cpcBid;
+        break;
+      case CPM_BID:
+        CpmBid cpmBid = new CpmBid();
+        cpmBid.setBid(readMoney(in));
+        cpmBid.setCpmBidSource(readBidSource(in));
+        bids = cpmBid;
+        break;
+      case CPA_BID:
+        CpaBid cpaBid = new CpaBid();
+        cpaBid.setBid(readMoney(in));
+        cpaBid.setBidSource(readBidSource(in));
+        bids = cpaBid;
+        break;
+      default:
+        throw new StreamCorruptedException("Unrecognized bids tag: " + tag);
+    }
+    bids.setBidsType(readNullableString(in));
+    return bids;
+  }
+
+  @Nullable
+  private static BidSource readBidSource(DataInput in) throws IOException {
+    String source = readNullableString(in);
+    return source == null ? null : BidSource.fromValue(source);
+  }
+
+  @Nullable
+  private static Money readMoney(DataInput in) throws IOException {
+    if (!in.readBoolean()) {
+      return null;
+    }
+    Money money = new Money();
+    money.setMicroAmount(readNullableLong(in));
+    money.setComparableValueType(readNullableString(in));
+    return money;
+  }
+
+  @Nullable
+  private static String readNullableString(DataInput in) throws IOException {
+    return in.readBoolean() ? in.readUTF() : null;
+  }
+
+  @Nullable
+  private static Long readNullableLong(DataInput in) throws IOException {
+    return in.readBoolean() ? in.readLong() : null;
+  }
+
+  @Nullable
+  private static Integer readNullableInteger(DataInput in) throws IOException {
+    return in.readBoolean() ? in.readInt() : null;
+  }
+
+  @Nullable
+  private static Double readNullableDouble(DataInput in) throws IOException {
+    return in.readBoolean() ? in.readDouble() : null;
+  }
+
+  @Nullable
+  private static Boolean readNullableBoolean(DataInput in) throws IOException {
+    return in.readBoolean() ? in.readBoolean() : null;
+  }
+
+  /**
+   * Returns the exception thrown for a snapshot that contains a value the API does not define,
+   * such as an unknown enum value.
+   */
+  private static StreamCorruptedException invalidValue(
+      String message, IllegalArgumentException cause) {
+    StreamCorruptedException e =
+        new StreamCorruptedException(message + ": " + cause.getMessage());
+    e.initCause(cause);
+    return e;
+  }
+}
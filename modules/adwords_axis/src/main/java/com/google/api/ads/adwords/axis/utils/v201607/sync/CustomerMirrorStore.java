@@ -0,0 +1,57 @@
+// Copyright 2016 Google Inc. All Rights Reserved.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.api.ads.adwords.axis.utils.v201607.sync;
+
+import java.util.Set;
+
+import javax.annotation.Nullable;
+
+/**
+ * Store of the entities mirrored by {@link CustomerSyncMirror}s, indexed by customer and entity
+ * ID, together with the timestamp of the last sync of each customer.
+ *
+ * <p>{@link InMemoryCustomerMirrorStore} keeps the entities in memory and can save them to disk.
+ * Implementations backed by a database should apply each update in a single transaction, so that
+ * the sync timestamp never gets ahead of the mirrored entities.
+ */
+public interface CustomerMirrorStore {
+
+  /**
+   * Gets the timestamp up to which the changes of a customer are mirrored.
+   *
+   * @param clientCustomerId the client customer ID
+   * @return the sync timestamp, or {@code null} if the customer has never been synced
+   */
+  @Nullable
+  String getSyncTimestamp(String clientCustomerId);
+
+  /**
+   * Gets the IDs of the mirrored campaigns of a customer.
+   */
+  Set<Long> getCampaignIds(String clientCustomerId);
+
+  /**
+   * Gets the IDs of the mirrored feeds of a customer.
+   */
+  Set<Long> getFeedIds(String clientCustomerId);
+
+  /**
+   * Applies an update to the mirrored entities of a customer, and records its sync timestamp.
+   *
+   * @param clientCustomerId the client customer ID
+   * @param update the changes found by a sync
+   */
+  void apply(String clientCustomerId, CustomerMirrorUpdate update);
+}
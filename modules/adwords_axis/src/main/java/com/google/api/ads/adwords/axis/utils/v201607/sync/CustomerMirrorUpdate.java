@@ -0,0 +1,123 @@
+// Copyright 2016 Google Inc. All Rights Reserved.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.api.ads.adwords.axis.utils.v201607.sync;
+
+import com.google.api.ads.adwords.axis.v201607.cm.AdGroup;
+import com.google.api.ads.adwords.axis.v201607.cm.AdGroupCriterion;
+import com.google.api.ads.adwords.axis.v201607.cm.Campaign;
+import com.google.api.ads.adwords.axis.v201607.cm.Feed;
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSetMultimap;
+import com.google.common.collect.SetMultimap;
+
+import java.util.Collection;
+
+/**
+ * Changes to the mirrored entities of a customer, found by a {@link CustomerSyncMirror} sync and
+ * applied to a {@link CustomerMirrorStore}.
+ *
+ * <p>The entities of a full load replace all the mirrored entities of the customer. Otherwise,
+ * the entities are the ones that were added or changed since the last sync, and replace the
+ * mirrored entities with the same IDs. Removed campaigns, ad groups and feeds are retrieved with
+ * their {@code REMOVED} status like changed ones, while removed ad group criteria are only listed
+ * by ID.
+ */
+public final class CustomerMirrorUpdate {
+
+  private final boolean fullLoad;
+  private final String syncTimestamp;
+  private final ImmutableList<Campaign> campaigns;
+  private final ImmutableList<AdGroup> adGroups;
+  private final ImmutableList<AdGroupCriterion> adGroupCriteria;
+  private final ImmutableSetMultimap<Long, Long> removedAdGroupCriteria;
+  private final ImmutableList<Feed> feeds;
+
+  CustomerMirrorUpdate(boolean fullLoad, String syncTimestamp, Collection<Campaign> campaigns,
+      Collection<AdGroup> adGroups, Collection<AdGroupCriterion> adGroupCriteria,
+      SetMultimap<Long, Long> removedAdGroupCriteria, Collection<Feed> feeds) {
+    this.fullLoad = fullLoad;
+    this.syncTimestamp = Preconditions.checkNotNull(syncTimestamp, "Null sync timestamp");
+    this.campaigns = ImmutableList.copyOf(campaigns);
+    this.adGroups = ImmutableList.copyOf(adGroups);
+    this.adGroupCriteria = ImmutableList.copyOf(adGroupCriteria);
+    this.removedAdGroupCriteria = ImmutableSetMultimap.copyOf(removedAdGroupCriteria);
+    this.feeds = ImmutableList.copyOf(feeds);
+  }
+
+  /**
+   * Returns if the update replaces all the mirrored entities of the customer.
+   */
+  public boolean isFullLoad() {
+    return fullLoad;
+  }
+
+  /**
+   * Gets the timestamp up to which the changes of the customer are mirrored once the update is
+   * applied, which is the start of the date time range of the next sync.
+   */
+  public String getSyncTimestamp() {
+    return syncTimestamp;
+  }
+
+  /**
+   * Gets the added or changed campaigns.
+   */
+  public ImmutableList<Campaign> getCampaigns() {
+    return campaigns;
+  }
+
+  /**
+   * Gets the added or changed ad groups.
+   */
+  public ImmutableList<AdGroup> getAdGroups() {
+    return adGroups;
+  }
+
+  /**
+   * Gets the added or changed ad group criteria.
+   */
+  public ImmutableList<AdGroupCriterion> getAdGroupCriteria() {
+    return adGroupCriteria;
+  }
+
+  /**
+   * Gets the IDs of the removed criteria, keyed by ad group ID.
+   */
+  public ImmutableSetMultimap<Long, Long> getRemovedAdGroupCriteria() {
+    return removedAdGroupCriteria;
+  }
+
+  /**
+   * Gets the added or changed feeds.
+   */
+  public ImmutableList<Feed> getFeeds() {
+    return feeds;
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(this)
+        .add("fullLoad", fullLoad)
+        .add("syncTimestamp", syncTimestamp)
+        .add("campaigns", campaigns.size())
+        .add("adGroups", adGroups.size())
+        .add("adGroupCriteria", adGroupCriteria.size())
+        .add("removedAdGroupCriteria", removedAdGroupCriteria.size())
+        .add("feeds", feeds.size())
+        .toString();
+  }
+}
@@ -0,0 +1,340 @@
+// Copyright 2016 Google Inc. All Rights Reserved.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.api.ads.adwords.axis.utils.v201607.sync;
+
+import com.google.api.ads.adwords.axis.v201607.cm.AdGroup;
+import com.google.api.ads.adwords.axis.v201607.cm.AdGroupCriterion;
+import com.google.api.ads.adwords.axis.v201607.cm.Campaign;
+import com.google.api.ads.adwords.axis.v201607.cm.Feed;
+import com.google.api.ads.common.lib.utils.LookAheadObjectInputStream;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.io.StreamCorruptedException;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import javax.annotation.Nullable;
+
+/**
+ * {@link CustomerMirrorStore} that keeps the mirrored entities of each customer in memory, indexed
+ * by ID. The store can be saved to a stream, such as a file, with {@link #writeTo} and loaded back
+ * with {@link #readFrom}, so that a process can resume syncing from where the last one stopped.
+ *
+ * <p>Instances are safe for use by multiple threads. The entities returned by the getters are the
+ * mirrored instances, which should not be modified.
+ */
+public class InMemoryCustomerMirrorStore implements CustomerMirrorStore {
+
+  /** Identifies a stream written by {@link #writeTo}. */
+  private static final int MAGIC = 0x434d5253;
+
+  /** The version of the stream format, incremented on incompatible changes. */
+  private static final byte FORMAT_VERSION = 1;
+
+  private final ConcurrentMap<String, CustomerEntities> customers;
+
+  public InMemoryCustomerMirrorStore() {
+    this(new ConcurrentHashMap<String, CustomerEntities>());
+  }
+
+  private InMemoryCustomerMirrorStore(ConcurrentMap<String, CustomerEntities> customers) {
+    this.customers = customers;
+  }
+
+  @Override
+  @Nullable
+  public String getSyncTimestamp(String clientCustomerId) {
+    CustomerEntities entities = customers.get(clientCustomerId);
+    if (entities == null) {
+      return null;
+    }
+    synchronized (entities) {
+      return entities.syncTimestamp;
+    }
+  }
+
+  @Override
+  public Set<Long> getCampaignIds(String clientCustomerId) {
+    CustomerEntities entities = getEntities(clientCustomerId);
+    synchronized (entities) {
+      return ImmutableSet.copyOf(entities.campaigns.keySet());
+    }
+  }
+
+  @Override
+  public Set<Long> getFeedIds(String clientCustomerId) {
+    CustomerEntities entities = getEntities(clientCustomerId);
+    synchronized (entities) {
+      return ImmutableSet.copyOf(entities.feeds.keySet());
+    }
+  }
+
+  @Override
+  public void apply(String clientCustomerId, CustomerMirrorUpdate update) {
+    Preconditions.checkNotNull(update, "Null update");
+    CustomerEntities entities = getEntities(clientCustomerId);
+    synchronized (entities) {
+      if (update.isFullLoad()) {
+        entities.campaigns.clear();
+        entities.adGroups.clear();
+        entities.adGroupCriteria.clear();
+        entities.feeds.clear();
+      }
+      for (Campaign campaign : update.getCampaigns()) {
+        entities.campaigns.put(campaign.getId(), campaign);
+      }
+      for (AdGroup adGroup : update.getAdGroups()) {
+        entities.adGroups.put(adGroup.getId(), adGroup);
+      }
+      for (AdGroupCriterion criterion : update.getAdGroupCriteria()) {
+        Map<Long, AdGroupCriterion> adGroupCriteria =
+            entities.adGroupCriteria.get(criterion.getAdGroupId());
+        if (adGroupCriteria == null) {
+          adGroupCriteria = new LinkedHashMap<Long, AdGroupCriterion>();
+          entities.adGroupCriteria.put(criterion.getAdGroupId(), adGroupCriteria);
+        }
+        adGroupCriteria.put(criterion.getCriterion().getId(), criterion);
+      }
+      for (Entry<Long, Long> removedCriterion : update.getRemovedAdGroupCriteria().entries()) {
+        Map<Long, AdGroupCriterion> adGroupCriteria =
+            entities.adGroupCriteria.get(removedCriterion.getKey());
+        if (adGroupCriteria != null) {
+          adGroupCriteria.remove(removedCriterion.getValue());
+        }
+      }
+      for (Feed feed : update.getFeeds()) {
+        entities.feeds.put(feed.getId(), feed);
+      }
+      entities.syncTimestamp = update.getSyncTimestamp();
+    }
+  }
+
+  /**
+   * Gets the mirrored campaign with the given ID.
+   *
+   * @return the campaign, or {@code null} if it is not mirrored
+   */
+  @Nullable
+  public Campaign getCampaign(String clientCustomerId, long campaignId) {
+    CustomerEntities entities = getEntities(clientCustomerId);
+    synchronized (entities) {
+      return entities.campaigns.get(campaignId);
+    }
+  }
+
+  /**
+   * Gets the mirrored campaigns of a customer.
+   */
+  public ImmutableList<Campaign> getCampaigns(String clientCustomerId) {
+    CustomerEntities entities = getEntities(clientCustomerId);
+    synchronized (entities) {
+      return ImmutableList.copyOf(entities.campaigns.values());
+    }
+  }
+
+  /**
+   * Gets the mirrored ad group with the given ID.
+   *
+   * @return the ad group, or {@code null} if it is not mirrored
+   */
+  @Nullable
+  public AdGroup getAdGroup(String clientCustomerId, long adGroupId) {
+    CustomerEntities entities = getEntities(clientCustomerId);
+    synchronized (entities) {
+      return entities.adGroups.get(adGroupId);
+    }
+  }
+
+  /**
+   * Gets the mirrored ad groups of a customer.
+   */
+  public ImmutableList<AdGroup> getAdGroups(String clientCustomerId) {
+    CustomerEntities entities = getEntities(clientCustomerId);
+    synchronized (entities) {
+      return ImmutableList.copyOf(entities.adGroups.values());
+    }
+  }
+
+  /**
+   * Gets the mirrored criteria of an ad group.
+   */
+  public ImmutableList<AdGroupCriterion> getAdGroupCriteria(
+      String clientCustomerId, long adGroupId) {
+    CustomerEntities entities = getEntities(clientCustomerId);
+    synchronized (entities) {
+      Map<Long, AdGroupCriterion> adGroupCriteria = entities.adGroupCriteria.get(adGroupId);
+      return adGroupCriteria == null
+          ? ImmutableList.<AdGroupCriterion>of() : ImmutableList.copyOf(adGroupCriteria.values());
+    }
+  }
+
+  /**
+   * Gets the mirrored feeds of a customer.
+   */
+  public ImmutableList<Feed> getFeeds(String clientCustomerId) {
+    CustomerEntities entities = getEntities(clientCustomerId);
+    synchronized (entities) {
+      return ImmutableList.copyOf(entities.feeds.values());
+    }
+  }
+
+  /**
+   * Writes the mirrored entities and sync timestamps of all customers to a stream. Updates applied
+   * while the store is written are either completely included for a customer or not at all.
+   *
+   * <p>The stream starts with a versioned header, followed by the sync timestamp and the mirrored
+   * entities of each customer, each entity preceded by its ID. The entities themselves are written
+   * with Java serialization. The generated API classes do not declare a {@code serialVersionUID},
+   * so a store can only be read by the same version of the library that wrote it.
+   *
+   * @param outputStream the stream to write to, which is not closed
+   * @throws IOException if the store could not be written
+   */
+  public void writeTo(OutputStream outputStream) throws IOException {
+    ObjectOutputStream out = new ObjectOutputStream(outputStream);
+    out.writeInt(MAGIC);
+    out.writeByte(FORMAT_VERSION);
+    Map<String, CustomerEntities> snapshot = ImmutableMap.copyOf(customers);
+    out.writeInt(snapshot.size());
+    for (Entry<String, CustomerEntities> customer : snapshot.entrySet()) {
+      CustomerEntities entities = customer.getValue();
+      out.writeUTF(customer.getKey());
+      synchronized (entities) {
+        out.writeBoolean(entities.syncTimestamp != null);
+        if (entities.syncTimestamp != null) {
+          out.writeUTF(entities.syncTimestamp);
+        }
+        writeEntities(entities.campaigns, out);
+        writeEntities(entities.adGroups, out);
+        out.writeInt(entities.adGroupCriteria.size());
+        for (Entry<Long, Map<Long, AdGroupCriterion>> adGroupCriteria
+            : entities.adGroupCriteria.entrySet()) {
+          out.writeLong(adGroupCriteria.getKey());
+          writeEntities(adGroupCriteria.getValue(), out);
+        }
+        writeEntities(entities.feeds, out);
+      }
+    }
+    out.flush();
+  }
+
+  /**
+   * Reads a store written by {@link #writeTo}. The entities are read with a
+   * {@link LookAheadObjectInputStream} that only accepts the classes of the API, so the stream
+   * cannot make the store create objects of any other class.
+   *
+   * @param inputStream the stream to read from, which is not closed
+   * @throws IOException if the store could not be read, or was written by a different version of
+   *     the library
+   */
+  public static InMemoryCustomerMirrorStore readFrom(InputStream inputStream) throws IOException {
+    ObjectInputStream in =
+        new LookAheadObjectInputStream(inputStream, Campaign.class.getPackage().getName());
+    if (in.readInt() != MAGIC) {
+      throw new StreamCorruptedException("Not a customer mirror store");
+    }
+    byte formatVersion = in.readByte();
+    if (formatVersion != FORMAT_VERSION) {
+      throw new StreamCorruptedException(
+          "Unsupported customer mirror store version: " + formatVersion);
+    }
+    ConcurrentMap<String, CustomerEntities> customers =
+        new ConcurrentHashMap<String, CustomerEntities>();
+    int customerCount = in.readInt();
+    try {
+      for (int i = 0; i < customerCount; i++) {
+        String clientCustomerId = in.readUTF();
+        CustomerEntities entities = new CustomerEntities();
+        entities.syncTimestamp = in.readBoolean() ? in.readUTF() : null;
+        readEntities(in, Campaign.class, entities.campaigns);
+        readEntities(in, AdGroup.class, entities.adGroups);
+        int adGroupCount = in.readInt();
+        for (int j = 0; j < adGroupCount; j++) {
+          long adGroupId = in.readLong();
+          Map<Long, AdGroupCriterion> adGroupCriteria = new LinkedHashMap<Long, AdGroupCriterion>();
+          readEntities(in, AdGroupCriterion.class, adGroupCriteria);
+          entities.adGroupCriteria.put(adGroupId, adGroupCriteria);
+        }
+        readEntities(in, Feed.class, entities.feeds);
+        customers.put(clientCustomerId, entities);
+      }
+    } catch (ClassNotFoundException e) {
+      throw new IOException("Store written with a different version of the library", e);
+    }
+    return new InMemoryCustomerMirrorStore(customers);
+  }
+
+  private static void writeEntities(Map<Long, ?> entities, ObjectOutputStream out)
+      throws IOException {
+    out.writeInt(entities.size());
+    for (Entry<Long, ?> entity : entities.entrySet()) {
+      out.writeLong(entity.getKey());
+      out.writeObject(entity.getValue());
+    }
+  }
+
+  private static <EntityT> void readEntities(ObjectInputStream in, Class<EntityT> entityClass,
+      Map<Long, EntityT> entities) throws IOException, ClassNotFoundException {
+    int entityCount = in.readInt();
+    for (int i = 0; i < entityCount; i++) {
+      long id = in.readLong();
+      Object entity = in.readObject();
+      if (!entityClass.isInstance(entity)) {
+        throw new StreamCorruptedException(
+            "Expected " + entityClass.getSimpleName() + " with ID " + id + " but found " + entity);
+      }
+      entities.put(id, entityClass.cast(entity));
+    }
+  }
+
+  private CustomerEntities getEntities(String clientCustomerId) {
+    Preconditions.checkNotNull(clientCustomerId, "Null client customer ID");
+    CustomerEntities entities = customers.get(clientCustomerId);
+    if (entities == null) {
+      CustomerEntities newEntities = new CustomerEntities();
+      entities = customers.putIfAbsent(clientCustomerId, newEntities);
+      if (entities == null) {
+        entities = newEntities;
+      }
+    }
+    return entities;
+  }
+
+  /**
+   * Mirrored entities of a customer, guarded by the instance's lock.
+   */
+  private static final class CustomerEntities {
+
+    private String syncTimestamp;
+    private final Map<Long, Campaign> campaigns = new LinkedHashMap<Long, Campaign>();
+    private final Map<Long, AdGroup> adGroups = new LinkedHashMap<Long, AdGroup>();
+    private final Map<Long, Map<Long, AdGroupCriterion>> adGroupCriteria =
+        new HashMap<Long, Map<Long, AdGroupCriterion>>();
+    private final Map<Long, Feed> feeds = new LinkedHashMap<Long, Feed>();
+  }
+}
@@ -18,12 +18,12 @@ import com.google.api.ads.adwords.axis.v201609.cm.AdGroupCriterion;
 import com.google.api.ads.adwords.axis.v201609.cm.ProductDimension;
 import com.google.api.ads.adwords.axis.v201609.cm.ProductPartition;
 import com.google.common.base.Joiner;
+import com.google.common.base.Objects;
 import com.google.common.base.Preconditions;
 import com.google.common.base.Strings;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
-import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.SortedMap;
@@ -42,16 +42,22 @@ public class ProductPartitionNode {
 
   @Nullable private final ProductPartitionNode parentNode;
   @Nullable private final ProductDimension dimension;
+  private final ProductDimensionKey dimensionKey;
   @Nullable private Long partitionId;
   private NodeState nodeState;
+
+  /**
+   * True if this node, or any node in its subtree, may differ from the node of the original tree,
+   * so that mutate operations are only generated for the paths of the tree that were modified.
+   * New nodes are dirty, and the ancestors of a dirty node are dirty too.
+   */
+  private boolean isDirty = true;
   
   /**
-   * A map from ProductDimension to child ProductPartitionNode.
-   *
-   * <p>NOTE: This map uses a custom comparator that is <em>not</em> consistent with equals.
-   * Therefore, this map does <em>not</em> obey the general contract of the {@link Map} interface.
+   * A map from the key of each child's ProductDimension to the child ProductPartitionNode. The keys
+   * are ordered the same way as {@link ProductDimensionComparator} orders their dimensions.
    */
-  private final SortedMap<ProductDimension, ProductPartitionNode> children;
+  private final SortedMap<ProductDimensionKey, ProductPartitionNode> children;
   
   /**
    * Union of relevant attributes from all subclasses of ProductDimension. Used by
@@ -66,11 +72,11 @@ public class ProductPartitionNode {
    * <em>not</em> call {@code parentNode.addChild(this)}.
    */
   ProductPartitionNode(@Nullable ProductPartitionNode parentNode,
-      @Nullable ProductDimension dimension, @Nullable Long partitionId,
-      Comparator<? super ProductDimension> comparator) {
+      @Nullable ProductDimension dimension, @Nullable Long partitionId) {
     this.parentNode = parentNode;
     this.dimension = dimension;
-    this.children = Maps.newTreeMap(comparator);
+    this.dimensionKey = ProductDimensionKey.of(dimension);
+    this.children = Maps.newTreeMap();
     this.partitionId = partitionId;
     this.nodeState = new BiddableUnitState();
   }
@@ -111,6 +117,13 @@ public class ProductPartitionNode {
     return (ProductDimension) SerializationUtils.clone(dimension);
   }
 
+  /**
+   * Returns the canonical key of this node's {@link ProductDimension}.
+   */
+  ProductDimensionKey getDimensionKey() {
+    return dimensionKey;
+  }
+
   /**
    * Returns the product partition ID of this node.
    */
@@ -151,7 +164,7 @@ public class ProductPartitionNode {
    * @return this node, updated to a subdivision node
    */
   public ProductPartitionNode asSubdivision() {
-    nodeState = nodeState.transitionTo(NodeType.SUBDIVISION);
+    transitionTo(NodeType.SUBDIVISION);
     return this;
   }
 
@@ -169,9 +182,26 @@ public class ProductPartitionNode {
    * @throws IllegalArgumentException if no such direct child node exists.
    */
   public ProductPartitionNode getChild(ProductDimension dimension) {
-    Preconditions.checkArgument(hasChild(dimension), "No child exists with dimension: %s",
+    ProductPartitionNode child = children.get(ProductDimensionKey.of(dimension));
+    Preconditions.checkArgument(child != null, "No child exists with dimension: %s",
         toString(dimension));
-    return children.get(dimension);
+    return child;
+  }
+
+  /**
+   * Returns the child node with the specified dimension key, or {@code null} if no such direct
+   * child node exists.
+   */
+  @Nullable
+  ProductPartitionNode getChild(ProductDimensionKey dimensionKey) {
+    return children.get(dimensionKey);
+  }
+
+  /**
+   * Returns the keys of the dimensions of all children of this node, in order.
+   */
+  Iterable<ProductDimensionKey> getChildKeys() {
+    return children.keySet();
   }
 
   /**
@@ -180,7 +210,7 @@ public class ProductPartitionNode {
    * @param dimension required - the child dimension
    */
   public boolean hasChild(ProductDimension dimension) {
-    return children.containsKey(dimension);
+    return children.containsKey(ProductDimensionKey.of(dimension));
   }
 
   private boolean hasChildren() {
@@ -289,15 +319,15 @@ public class ProductPartitionNode {
    * @return the newly created child node
    */
   public ProductPartitionNode addChild(ProductDimension childDimension) {
-    ProductPartitionNode newChild = new ProductPartitionNode(this, childDimension, null,
-        children.comparator());
+    ProductPartitionNode newChild = new ProductPartitionNode(this, childDimension, null);
     Preconditions.checkArgument(isSubdivision(),
         "Parent node is not a SUBDIVISION. Call asSubdivision before adding children to a node.");
-    if (children.containsKey(childDimension)) {
+    if (children.containsKey(newChild.dimensionKey)) {
       throw new IllegalArgumentException(
           String.format("A child with dimension %s already exists", toString(childDimension)));
     }
-    children.put(childDimension, newChild);
+    children.put(newChild.dimensionKey, newChild);
+    markDirty();
     return newChild;
   }
 
@@ -309,11 +339,11 @@ public class ProductPartitionNode {
    * @throws IllegalArgumentException if no such child exists
    */
   public ProductPartitionNode removeChild(ProductDimension childDimension) {
-    if (!children.containsKey(childDimension)) {
+    if (children.remove(ProductDimensionKey.of(childDimension)) == null) {
       throw new IllegalArgumentException(String.format(
           "Attempted to remove child %s but no such child exists", toString(childDimension)));
     }
-    children.remove(childDimension);
+    markDirty();
     return this;
   }
   
@@ -323,7 +353,10 @@ public class ProductPartitionNode {
    * @return this node
    */
   public ProductPartitionNode removeAllChildren() {
-    children.clear();
+    if (hasChildren()) {
+      children.clear();
+      markDirty();
+    }
     return this;
   }
 
@@ -338,7 +371,7 @@ public class ProductPartitionNode {
     if (getParent() == null) {
       throw new IllegalStateException("The root node cannot be an excluded unit");
     }
-    nodeState = nodeState.transitionTo(NodeType.EXCLUDED_UNIT);
+    transitionTo(NodeType.EXCLUDED_UNIT);
     removeAllChildren();
     return this;
   }
@@ -349,7 +382,7 @@ public class ProductPartitionNode {
    * @return this node, updated to a biddable node
    */
   public ProductPartitionNode asBiddableUnit() {
-    nodeState = nodeState.transitionTo(NodeType.BIDDABLE_UNIT);
+    transitionTo(NodeType.BIDDABLE_UNIT);
     removeAllChildren();
     return this;
   }
@@ -362,9 +395,53 @@ public class ProductPartitionNode {
    * @throws IllegalStateException if this node is not a biddable UNIT node
    */
   public ProductPartitionNode setBid(@Nullable Long bidInMicros) {
+    Long previousBidInMicros = nodeState.getBidInMicros();
     this.nodeState.setBidInMicros(bidInMicros);
+    if (!Objects.equal(previousBidInMicros, bidInMicros)) {
+      markDirty();
+    }
     return this;
   }
+
+  /**
+   * Returns true if this node, or any node in its subtree, may have been modified since the last
+   * call to {@link #clearDirty()}.
+   */
+  boolean isDirty() {
+    return isDirty;
+  }
+
+  /**
+   * Marks this node and all nodes in its subtree as unmodified.
+   */
+  void clearDirty() {
+    isDirty = false;
+    for (ProductPartitionNode child : children.values()) {
+      child.clearDirty();
+    }
+  }
+
+  /**
+   * Marks this node and its ancestors as modified. Stops at the first node already marked, since
+   * its ancestors are marked too.
+   */
+  private void markDirty() {
+    for (ProductPartitionNode node = this; node != null && !node.isDirty;
+        node = node.parentNode) {
+      node.isDirty = true;
+    }
+  }
+
+  /**
+   * Transitions this node to the node type, and marks it as modified if the type changed.
+   */
+  private void transitionTo(NodeType nodeType) {
+    NodeState newNodeState = nodeState.transitionTo(nodeType);
+    if (newNodeState != nodeState) {
+      nodeState = newNodeState;
+      markDirty();
+    }
+  }
   
   /**
    * Enumeration of valid node types.
@@ -0,0 +1,318 @@
+// Copyright 2016 Google Inc. All Rights Reserved.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.api.ads.adwords.axis.utils.v201609.shopping;
+
+import com.google.api.ads.adwords.axis.factory.AdWordsServices;
+import com.google.api.ads.adwords.axis.utils.v201609.SelectorBuilder;
+import com.google.api.ads.adwords.axis.v201609.cm.AdGroup;
+import com.google.api.ads.adwords.axis.v201609.cm.AdGroupCriterion;
+import com.google.api.ads.adwords.axis.v201609.cm.AdGroupCriterionPage;
+import com.google.api.ads.adwords.axis.v201609.cm.AdGroupCriterionServiceInterface;
+import com.google.api.ads.adwords.axis.v201609.cm.AdGroupPage;
+import com.google.api.ads.adwords.axis.v201609.cm.AdGroupServiceInterface;
+import com.google.api.ads.adwords.axis.v201609.cm.ApiException;
+import com.google.api.ads.adwords.axis.v201609.cm.BiddableAdGroupCriterion;
+import com.google.api.ads.adwords.axis.v201609.cm.BiddingStrategyConfiguration;
+import com.google.api.ads.adwords.axis.v201609.cm.ProductPartition;
+import com.google.api.ads.adwords.axis.v201609.cm.Selector;
+import com.google.api.ads.adwords.axis.v201609.cm.UserStatus;
+import com.google.api.ads.adwords.lib.client.AdWordsSession;
+import com.google.api.ads.adwords.lib.selectorfields.v201609.cm.AdGroupCriterionField;
+import com.google.api.ads.adwords.lib.selectorfields.v201609.cm.AdGroupField;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+import com.google.common.base.Throwables;
+import com.google.common.collect.ArrayListMultimap;
+import com.google.common.collect.ListMultimap;
+import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.rmi.RemoteException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * Loads the product partition trees of many ad groups at once. Instead of paging through the
+ * criteria of one ad group after another, as
+ * {@link ProductPartitionTree#createAdGroupTree(AdWordsServices, AdWordsSession, Long)} does, it
+ * gets the criteria of many ad groups with each request, gets the pages in parallel, and builds
+ * the trees in parallel:
+ *
+ * <pre>
+ * Map&lt;Long, ProductPartitionTree&gt; trees =
+ *     new ProductPartitionTreeLoader(adWordsServices, session, 4).load(adGroupIds);
+ * </pre>
+ *
+ * <p>The bidding strategy configurations of ad groups that have no product partitions are
+ * retrieved together with a single request per chunk of ad group IDs.
+ *
+ * <p>Instances can be reused, but {@link #load} must not be called by several threads at once.
+ */
+public class ProductPartitionTreeLoader {
+
+  /** The default number of ad groups whose criteria are retrieved with each request. */
+  public static final int DEFAULT_AD_GROUPS_PER_REQUEST = 200;
+
+  /** The default page size to use when retrieving ad group criteria. */
+  public static final int DEFAULT_PAGE_SIZE = 1000;
+
+  private final BlockingQueue<AdGroupCriterionServiceInterface> idleCriterionServices;
+  private final int parallelism;
+  private final AdGroupServiceInterface adGroupService;
+  private final int adGroupsPerRequest;
+  private final int pageSize;
+
+  /**
+   * Creates a loader that makes at most {@code parallelism} requests at once, with the default
+   * number of ad groups per request and page size.
+   *
+   * @param services the AdWordsServices
+   * @param session the session to use for the requests
+   * @param parallelism the maximum number of requests made at once
+   */
+  public ProductPartitionTreeLoader(AdWordsServices services, AdWordsSession session,
+      int parallelism) {
+    this(createCriterionServices(services, session, parallelism),
+        services.get(session, AdGroupServiceInterface.class), DEFAULT_AD_GROUPS_PER_REQUEST,
+        DEFAULT_PAGE_SIZE);
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param criterionServices the services the criteria are retrieved with, one for each request
+   *     made at once
+   * @param adGroupService the service the bidding strategy configurations are retrieved with
+   * @param adGroupsPerRequest the number of ad groups whose criteria are retrieved with each
+   *     request
+   * @param pageSize the page size to use when retrieving ad group criteria
+   */
+  @VisibleForTesting
+  ProductPartitionTreeLoader(List<AdGroupCriterionServiceInterface> criterionServices,
+      AdGroupServiceInterface adGroupService, int adGroupsPerRequest, int pageSize) {
+    Preconditions.checkArgument(!criterionServices.isEmpty(), "No criterion services");
+    Preconditions.checkArgument(adGroupsPerRequest > 0, "Ad groups per request must be positive");
+    Preconditions.checkArgument(pageSize > 0, "Page size must be positive");
+    this.idleCriterionServices =
+        new LinkedBlockingQueue<AdGroupCriterionServiceInterface>(criterionServices);
+    this.parallelism = criterionServices.size();
+    this.adGroupService = Preconditions.checkNotNull(adGroupService, "Null ad group service");
+    this.adGroupsPerRequest = adGroupsPerRequest;
+    this.pageSize = pageSize;
+  }
+
+  /**
+   * Loads the product partition trees of the ad groups.
+   *
+   * @param adGroupIds the IDs of the ad groups
+   * @return the tree of each ad group, in the order of the IDs
+   * @throws IllegalArgumentException if an ad group without product partitions does not exist
+   */
+  public Map<Long, ProductPartitionTree> load(Collection<Long> adGroupIds)
+      throws ApiException, RemoteException {
+    List<List<Long>> idChunks =
+        Lists.partition(new ArrayList<Long>(new LinkedHashSet<Long>(adGroupIds)),
+            adGroupsPerRequest);
+    ExecutorService executorService = Executors.newFixedThreadPool(parallelism,
+        new ThreadFactoryBuilder().setDaemon(true).setNameFormat("tree-loader-%d").build());
+    try {
+      // Gets the first page of each chunk of ad groups, which tells how many pages follow.
+      List<Future<AdGroupCriterionPage>> firstPages =
+          new ArrayList<Future<AdGroupCriterionPage>>(idChunks.size());
+      for (List<Long> idChunk : idChunks) {
+        firstPages.add(executorService.submit(new PageRequest(idChunk, 0)));
+      }
+      List<Future<AdGroupCriterionPage>> pages = new ArrayList<Future<AdGroupCriterionPage>>();
+      for (int i = 0; i < idChunks.size(); i++) {
+        pages.add(firstPages.get(i));
+        AdGroupCriterionPage firstPage = firstPages.get(i).get();
+        int totalNumEntries =
+            firstPage == null || firstPage.getTotalNumEntries() == null
+                ? 0 : firstPage.getTotalNumEntries();
+        for (int offset = pageSize; offset < totalNumEntries; offset += pageSize) {
+          pages.add(executorService.submit(new PageRequest(idChunks.get(i), offset)));
+        }
+      }
+
+      final ListMultimap<Long, AdGroupCriterion> criteriaByAdGroupId =
+          ArrayListMultimap.create();
+      for (Future<AdGroupCriterionPage> page : pages) {
+        AdGroupCriterionPage criterionPage = page.get();
+        if (criterionPage != null && criterionPage.getEntries() != null) {
+          for (AdGroupCriterion criterion : criterionPage.getEntries()) {
+            criteriaByAdGroupId.put(criterion.getAdGroupId(), criterion);
+          }
+        }
+      }
+
+      Map<Long, BiddingStrategyConfiguration> biddingStrategyConfigs =
+          getBiddingStrategyConfigurations(idChunks, criteriaByAdGroupId);
+      Map<Long, Future<ProductPartitionTree>> treeFutures =
+          new LinkedHashMap<Long, Future<ProductPartitionTree>>();
+      for (final Map.Entry<Long, BiddingStrategyConfiguration> entry
+          : biddingStrategyConfigs.entrySet()) {
+        Callable<ProductPartitionTree> treeBuilder = new Callable<ProductPartitionTree>() {
+          @Override
+          public ProductPartitionTree call() {
+            return ProductPartitionTree.createAdGroupTree(entry.getKey(), entry.getValue(),
+                criteriaByAdGroupId.get(entry.getKey()));
+          }
+        };
+        treeFutures.put(entry.getKey(), executorService.submit(treeBuilder));
+      }
+      Map<Long, ProductPartitionTree> trees = new LinkedHashMap<Long, ProductPartitionTree>();
+      for (Map.Entry<Long, Future<ProductPartitionTree>> entry : treeFutures.entrySet()) {
+        trees.put(entry.getKey(), entry.getValue().get());
+      }
+      return trees;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new RemoteException("Interrupted while loading product partition trees", e);
+    } catch (ExecutionException e) {
+      Throwables.propagateIfPossible(e.getCause(), RemoteException.class);
+      throw new RemoteException("Failed to load product partition trees", e.getCause());
+    } finally {
+      executorService.shutdownNow();
+    }
+  }
+
+  /**
+   * Gets the bidding strategy configuration of each ad group: from the root criterion of the ad
+   * groups that have product partitions, and from the ad group service for the others.
+   *
+   * @return the configurations, in the order of the ad group IDs
+   */
+  private Map<Long, BiddingStrategyConfiguration> getBiddingStrategyConfigurations(
+      List<List<Long>> idChunks, ListMultimap<Long, AdGroupCriterion> criteriaByAdGroupId)
+      throws ApiException, RemoteException {
+    Map<Long, BiddingStrategyConfiguration> biddingStrategyConfigs =
+        new LinkedHashMap<Long, BiddingStrategyConfiguration>();
+    List<String> missingIds = new ArrayList<String>();
+    for (List<Long> idChunk : idChunks) {
+      for (Long adGroupId : idChunk) {
+        BiddingStrategyConfiguration biddingStrategyConfig =
+            getRootBiddingStrategyConfiguration(criteriaByAdGroupId.get(adGroupId));
+        biddingStrategyConfigs.put(adGroupId, biddingStrategyConfig);
+        if (biddingStrategyConfig == null) {
+          missingIds.add(adGroupId.toString());
+        }
+      }
+    }
+
+    for (List<String> idChunk : Lists.partition(missingIds, adGroupsPerRequest)) {
+      Selector selector = new SelectorBuilder()
+          .fields(
+              AdGroupField.Id,
+              AdGroupField.BiddingStrategyType,
+              AdGroupField.BiddingStrategyId,
+              AdGroupField.BiddingStrategyName)
+          .in(AdGroupField.Id, idChunk.toArray(new String[idChunk.size()]))
+          .build();
+      AdGroupPage adGroupPage = adGroupService.get(selector);
+      if (adGroupPage.getEntries() != null) {
+        for (AdGroup adGroup : adGroupPage.getEntries()) {
+          Preconditions.checkState(adGroup.getBiddingStrategyConfiguration() != null,
+              "Unexpected state - ad group ID %s has a null BiddingStrategyConfiguration",
+              adGroup.getId());
+          biddingStrategyConfigs.put(adGroup.getId(), adGroup.getBiddingStrategyConfiguration());
+        }
+      }
+    }
+    for (Map.Entry<Long, BiddingStrategyConfiguration> entry : biddingStrategyConfigs.entrySet()) {
+      if (entry.getValue() == null) {
+        throw new IllegalArgumentException("No ad group found with ID " + entry.getKey());
+      }
+    }
+    return biddingStrategyConfigs;
+  }
+
+  /**
+   * Returns the bidding strategy configuration of the root criterion, or {@code null} if there
+   * is no root criterion.
+   */
+  private static BiddingStrategyConfiguration getRootBiddingStrategyConfiguration(
+      List<AdGroupCriterion> criteria) {
+    for (AdGroupCriterion criterion : criteria) {
+      if (criterion instanceof BiddableAdGroupCriterion
+          && criterion.getCriterion() instanceof ProductPartition
+          && ((ProductPartition) criterion.getCriterion()).getParentCriterionId() == null) {
+        return ((BiddableAdGroupCriterion) criterion).getBiddingStrategyConfiguration();
+      }
+    }
+    return null;
+  }
+
+  private static List<AdGroupCriterionServiceInterface> createCriterionServices(
+      AdWordsServices services, AdWordsSession session, int parallelism) {
+    Preconditions.checkArgument(parallelism > 0, "Parallelism must be positive");
+    List<AdGroupCriterionServiceInterface> criterionServices =
+        new ArrayList<AdGroupCriterionServiceInterface>(parallelism);
+    for (int i = 0; i < parallelism; i++) {
+      criterionServices.add(services.get(session, AdGroupCriterionServiceInterface.class));
+    }
+    return criterionServices;
+  }
+
+  /**
+   * Request for a page of the product partitions of a chunk of ad groups, made with one of the
+   * idle criterion services.
+   */
+  private class PageRequest implements Callable<AdGroupCriterionPage> {
+    private final List<Long> adGroupIds;
+    private final int offset;
+
+    PageRequest(List<Long> adGroupIds, int offset) {
+      this.adGroupIds = adGroupIds;
+      this.offset = offset;
+    }
+
+    @Override
+    public AdGroupCriterionPage call() throws Exception {
+      String[] ids = new String[adGroupIds.size()];
+      for (int i = 0; i < ids.length; i++) {
+        ids[i] = adGroupIds.get(i).toString();
+      }
+      Selector selector = new SelectorBuilder()
+          .fields(ProductPartitionTreeImpl.REQUIRED_SELECTOR_FIELD_ENUMS.toArray(
+              new AdGroupCriterionField[
+                  ProductPartitionTreeImpl.REQUIRED_SELECTOR_FIELD_ENUMS.size()]))
+          .in(AdGroupCriterionField.AdGroupId, ids)
+          .equals(AdGroupCriterionField.CriteriaType, "PRODUCT_PARTITION")
+          .in(
+              AdGroupCriterionField.Status,
+              UserStatus.ENABLED.getValue(),
+              UserStatus.PAUSED.getValue())
+          .offset(offset)
+          .limit(pageSize)
+          .build();
+      AdGroupCriterionServiceInterface criterionService = idleCriterionServices.take();
+      try {
+        return criterionService.get(selector);
+      } finally {
+        idleCriterionServices.add(criterionService);
+      }
+    }
+  }
+}
@@ -192,68 +192,73 @@ public class BillingAccount  implements java.io.Serializable {
         this.secondaryBillingId = secondaryBillingId;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof BillingAccount)) return false;
         BillingAccount other = (BillingAccount) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(BillingAccount.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = true && 
-            ((this.id==null && other.getId()==null) || 
-             (this.id!=null &&
-              this.id.equals(other.getId()))) &&
-            ((this.name==null && other.getName()==null) || 
-             (this.name!=null &&
-              this.name.equals(other.getName()))) &&
-            ((this.currencyCode==null && other.getCurrencyCode()==null) || 
-             (this.currencyCode!=null &&
-              this.currencyCode.equals(other.getCurrencyCode()))) &&
-            ((this.primaryBillingId==null && other.getPrimaryBillingId()==null) || 
-             (this.primaryBillingId!=null &&
-              this.primaryBillingId.equals(other.getPrimaryBillingId()))) &&
-            ((this.secondaryBillingId==null && other.getSecondaryBillingId()==null) || 
-             (this.secondaryBillingId!=null &&
-              this.secondaryBillingId.equals(other.getSecondaryBillingId())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = true && 
+                ((this.id==null && other.getId()==null) || 
+                 (this.id!=null &&
+                  this.id.equals(other.getId()))) &&
+                ((this.name==null && other.getName()==null) || 
+                 (this.name!=null &&
+                  this.name.equals(other.getName()))) &&
+                ((this.currencyCode==null && other.getCurrencyCode()==null) || 
+                 (this.currencyCode!=null &&
+                  this.currencyCode.equals(other.getCurrencyCode()))) &&
+                ((this.primaryBillingId==null && other.getPrimaryBillingId()==null) || 
+                 (this.primaryBillingId!=null &&
+                  this.primaryBillingId.equals(other.getPrimaryBillingId()))) &&
+                ((this.secondaryBillingId==null && other.getSecondaryBillingId()==null) || 
+                 (this.secondaryBillingId!=null &&
+                  this.secondaryBillingId.equals(other.getSecondaryBillingId())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(BillingAccount.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getId() != null) {
-            _hashCode += getId().hashCode();
-        }
-        if (getName() != null) {
-            _hashCode += getName().hashCode();
-        }
-        if (getCurrencyCode() != null) {
-            _hashCode += getCurrencyCode().hashCode();
-        }
-        if (getPrimaryBillingId() != null) {
-            _hashCode += getPrimaryBillingId().hashCode();
+        try {
+            int _hashCode = 1;
+            if (getId() != null) {
+                _hashCode += getId().hashCode();
+            }
+            if (getName() != null) {
+                _hashCode += getName().hashCode();
+            }
+            if (getCurrencyCode() != null) {
+                _hashCode += getCurrencyCode().hashCode();
+            }
+            if (getPrimaryBillingId() != null) {
+                _hashCode += getPrimaryBillingId().hashCode();
+            }
+            if (getSecondaryBillingId() != null) {
+                _hashCode += getSecondaryBillingId().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        if (getSecondaryBillingId() != null) {
-            _hashCode += getSecondaryBillingId().hashCode();
-        }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(BillingAccount.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(BillingAccount.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://adwords.google.com/api/adwords/billing/v201605", "BillingAccount"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("id");
@@ -290,13 +295,24 @@ public class BillingAccount  implements java.io.Serializable {
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (BillingAccount.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -308,7 +324,7 @@ public class BillingAccount  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -320,7 +336,7 @@ public class BillingAccount  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
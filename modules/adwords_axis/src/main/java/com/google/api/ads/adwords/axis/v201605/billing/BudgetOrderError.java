@@ -65,44 +65,49 @@ public class BudgetOrderError  extends com.google.api.ads.adwords.axis.v201605.c
         this.reason = reason;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof BudgetOrderError)) return false;
         BudgetOrderError other = (BudgetOrderError) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(BudgetOrderError.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = super.equals(obj) && 
-            ((this.reason==null && other.getReason()==null) || 
-             (this.reason!=null &&
-              this.reason.equals(other.getReason())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = super.equals(obj) && 
+                ((this.reason==null && other.getReason()==null) || 
+                 (this.reason!=null &&
+                  this.reason.equals(other.getReason())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(BudgetOrderError.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = super.hashCode();
-        if (getReason() != null) {
-            _hashCode += getReason().hashCode();
+        try {
+            int _hashCode = super.hashCode();
+            if (getReason() != null) {
+                _hashCode += getReason().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(BudgetOrderError.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(BudgetOrderError.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://adwords.google.com/api/adwords/billing/v201605", "BudgetOrderError"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("reason");
@@ -111,13 +116,24 @@ public class BudgetOrderError  extends com.google.api.ads.adwords.axis.v201605.c
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (BudgetOrderError.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -129,7 +145,7 @@ public class BudgetOrderError  extends com.google.api.ads.adwords.axis.v201605.c
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -141,7 +157,7 @@ public class BudgetOrderError  extends com.google.api.ads.adwords.axis.v201605.c
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
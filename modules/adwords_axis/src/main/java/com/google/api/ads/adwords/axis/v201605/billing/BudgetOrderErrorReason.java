@@ -103,18 +103,31 @@ public class BudgetOrderErrorReason implements java.io.Serializable {
           new org.apache.axis.encoding.ser.EnumDeserializer(
             _javaType, _xmlType);
     }
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(BudgetOrderErrorReason.class);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(BudgetOrderErrorReason.class);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://adwords.google.com/api/adwords/billing/v201605", "BudgetOrderError.Reason"));
+        return typeDesc;
     }
+
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (BudgetOrderErrorReason.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
 }
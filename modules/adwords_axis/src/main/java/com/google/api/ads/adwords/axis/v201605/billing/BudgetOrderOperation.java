@@ -65,44 +65,49 @@ public class BudgetOrderOperation  extends com.google.api.ads.adwords.axis.v2016
         this.operand = operand;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof BudgetOrderOperation)) return false;
         BudgetOrderOperation other = (BudgetOrderOperation) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(BudgetOrderOperation.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = super.equals(obj) && 
-            ((this.operand==null && other.getOperand()==null) || 
-             (this.operand!=null &&
-              this.operand.equals(other.getOperand())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = super.equals(obj) && 
+                ((this.operand==null && other.getOperand()==null) || 
+                 (this.operand!=null &&
+                  this.operand.equals(other.getOperand())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(BudgetOrderOperation.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = super.hashCode();
-        if (getOperand() != null) {
-            _hashCode += getOperand().hashCode();
+        try {
+            int _hashCode = super.hashCode();
+            if (getOperand() != null) {
+                _hashCode += getOperand().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(BudgetOrderOperation.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(BudgetOrderOperation.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://adwords.google.com/api/adwords/billing/v201605", "BudgetOrderOperation"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("operand");
@@ -111,13 +116,24 @@ public class BudgetOrderOperation  extends com.google.api.ads.adwords.axis.v2016
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (BudgetOrderOperation.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -129,7 +145,7 @@ public class BudgetOrderOperation  extends com.google.api.ads.adwords.axis.v2016
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -141,7 +157,7 @@ public class BudgetOrderOperation  extends com.google.api.ads.adwords.axis.v2016
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
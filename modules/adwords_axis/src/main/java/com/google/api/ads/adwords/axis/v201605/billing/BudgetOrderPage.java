@@ -71,52 +71,57 @@ public class BudgetOrderPage  extends com.google.api.ads.adwords.axis.v201605.cm
         this.entries[i] = _value;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof BudgetOrderPage)) return false;
         BudgetOrderPage other = (BudgetOrderPage) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(BudgetOrderPage.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = super.equals(obj) && 
-            ((this.entries==null && other.getEntries()==null) || 
-             (this.entries!=null &&
-              java.util.Arrays.equals(this.entries, other.getEntries())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = super.equals(obj) && 
+                ((this.entries==null && other.getEntries()==null) || 
+                 (this.entries!=null &&
+                  java.util.Arrays.equals(this.entries, other.getEntries())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(BudgetOrderPage.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = super.hashCode();
-        if (getEntries() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getEntries());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getEntries(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+        try {
+            int _hashCode = super.hashCode();
+            if (getEntries() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getEntries());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getEntries(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(BudgetOrderPage.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(BudgetOrderPage.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://adwords.google.com/api/adwords/billing/v201605", "BudgetOrderPage"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("entries");
@@ -126,13 +131,24 @@ public class BudgetOrderPage  extends com.google.api.ads.adwords.axis.v201605.cm
         elemField.setNillable(false);
         elemField.setMaxOccursUnbounded(true);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (BudgetOrderPage.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -144,7 +160,7 @@ public class BudgetOrderPage  extends com.google.api.ads.adwords.axis.v201605.cm
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -156,7 +172,7 @@ public class BudgetOrderPage  extends com.google.api.ads.adwords.axis.v201605.cm
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
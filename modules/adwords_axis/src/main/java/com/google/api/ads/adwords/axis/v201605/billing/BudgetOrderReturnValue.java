@@ -69,52 +69,57 @@ public class BudgetOrderReturnValue  extends com.google.api.ads.adwords.axis.v20
         this.value[i] = _value;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof BudgetOrderReturnValue)) return false;
         BudgetOrderReturnValue other = (BudgetOrderReturnValue) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(BudgetOrderReturnValue.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = super.equals(obj) && 
-            ((this.value==null && other.getValue()==null) || 
-             (this.value!=null &&
-              java.util.Arrays.equals(this.value, other.getValue())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = super.equals(obj) && 
+                ((this.value==null && other.getValue()==null) || 
+                 (this.value!=null &&
+                  java.util.Arrays.equals(this.value, other.getValue())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(BudgetOrderReturnValue.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = super.hashCode();
-        if (getValue() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getValue());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getValue(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+        try {
+            int _hashCode = super.hashCode();
+            if (getValue() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getValue());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getValue(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(BudgetOrderReturnValue.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(BudgetOrderReturnValue.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://adwords.google.com/api/adwords/billing/v201605", "BudgetOrderReturnValue"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("value");
@@ -124,13 +129,24 @@ public class BudgetOrderReturnValue  extends com.google.api.ads.adwords.axis.v20
         elemField.setNillable(false);
         elemField.setMaxOccursUnbounded(true);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (BudgetOrderReturnValue.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -142,7 +158,7 @@ public class BudgetOrderReturnValue  extends com.google.api.ads.adwords.axis.v20
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -154,7 +170,7 @@ public class BudgetOrderReturnValue  extends com.google.api.ads.adwords.axis.v20
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
@@ -287,120 +287,125 @@ public class CampaignChangeData  implements java.io.Serializable {
         this.removedFeeds[i] = _value;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof CampaignChangeData)) return false;
         CampaignChangeData other = (CampaignChangeData) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(CampaignChangeData.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = true && 
-            ((this.campaignId==null && other.getCampaignId()==null) || 
-             (this.campaignId!=null &&
-              this.campaignId.equals(other.getCampaignId()))) &&
-            ((this.campaignChangeStatus==null && other.getCampaignChangeStatus()==null) || 
-             (this.campaignChangeStatus!=null &&
-              this.campaignChangeStatus.equals(other.getCampaignChangeStatus()))) &&
-            ((this.changedAdGroups==null && other.getChangedAdGroups()==null) || 
-             (this.changedAdGroups!=null &&
-              java.util.Arrays.equals(this.changedAdGroups, other.getChangedAdGroups()))) &&
-            ((this.addedCampaignCriteria==null && other.getAddedCampaignCriteria()==null) || 
-             (this.addedCampaignCriteria!=null &&
-              java.util.Arrays.equals(this.addedCampaignCriteria, other.getAddedCampaignCriteria()))) &&
-            ((this.removedCampaignCriteria==null && other.getRemovedCampaignCriteria()==null) || 
-             (this.removedCampaignCriteria!=null &&
-              java.util.Arrays.equals(this.removedCampaignCriteria, other.getRemovedCampaignCriteria()))) &&
-            ((this.changedFeeds==null && other.getChangedFeeds()==null) || 
-             (this.changedFeeds!=null &&
-              java.util.Arrays.equals(this.changedFeeds, other.getChangedFeeds()))) &&
-            ((this.removedFeeds==null && other.getRemovedFeeds()==null) || 
-             (this.removedFeeds!=null &&
-              java.util.Arrays.equals(this.removedFeeds, other.getRemovedFeeds())));
-        __equalsCalc = null;
-        return _equals;
-    }
-
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
-            return 0;
-        }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getCampaignId() != null) {
-            _hashCode += getCampaignId().hashCode();
+        try {
+            boolean _equals;
+            _equals = true && 
+                ((this.campaignId==null && other.getCampaignId()==null) || 
+                 (this.campaignId!=null &&
+                  this.campaignId.equals(other.getCampaignId()))) &&
+                ((this.campaignChangeStatus==null && other.getCampaignChangeStatus()==null) || 
+                 (this.campaignChangeStatus!=null &&
+                  this.campaignChangeStatus.equals(other.getCampaignChangeStatus()))) &&
+                ((this.changedAdGroups==null && other.getChangedAdGroups()==null) || 
+                 (this.changedAdGroups!=null &&
+                  java.util.Arrays.equals(this.changedAdGroups, other.getChangedAdGroups()))) &&
+                ((this.addedCampaignCriteria==null && other.getAddedCampaignCriteria()==null) || 
+                 (this.addedCampaignCriteria!=null &&
+                  java.util.Arrays.equals(this.addedCampaignCriteria, other.getAddedCampaignCriteria()))) &&
+                ((this.removedCampaignCriteria==null && other.getRemovedCampaignCriteria()==null) || 
+                 (this.removedCampaignCriteria!=null &&
+                  java.util.Arrays.equals(this.removedCampaignCriteria, other.getRemovedCampaignCriteria()))) &&
+                ((this.changedFeeds==null && other.getChangedFeeds()==null) || 
+                 (this.changedFeeds!=null &&
+                  java.util.Arrays.equals(this.changedFeeds, other.getChangedFeeds()))) &&
+                ((this.removedFeeds==null && other.getRemovedFeeds()==null) || 
+                 (this.removedFeeds!=null &&
+                  java.util.Arrays.equals(this.removedFeeds, other.getRemovedFeeds())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
         }
-        if (getCampaignChangeStatus() != null) {
-            _hashCode += getCampaignChangeStatus().hashCode();
+    }
+
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(CampaignChangeData.class, this)) {
+            return 0;
         }
-        if (getChangedAdGroups() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getChangedAdGroups());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getChangedAdGroups(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+        try {
+            int _hashCode = 1;
+            if (getCampaignId() != null) {
+                _hashCode += getCampaignId().hashCode();
+            }
+            if (getCampaignChangeStatus() != null) {
+                _hashCode += getCampaignChangeStatus().hashCode();
+            }
+            if (getChangedAdGroups() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getChangedAdGroups());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getChangedAdGroups(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
-        }
-        if (getAddedCampaignCriteria() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getAddedCampaignCriteria());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getAddedCampaignCriteria(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+            if (getAddedCampaignCriteria() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getAddedCampaignCriteria());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getAddedCampaignCriteria(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
-        }
-        if (getRemovedCampaignCriteria() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getRemovedCampaignCriteria());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getRemovedCampaignCriteria(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+            if (getRemovedCampaignCriteria() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getRemovedCampaignCriteria());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getRemovedCampaignCriteria(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
-        }
-        if (getChangedFeeds() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getChangedFeeds());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getChangedFeeds(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+            if (getChangedFeeds() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getChangedFeeds());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getChangedFeeds(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
-        }
-        if (getRemovedFeeds() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getRemovedFeeds());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getRemovedFeeds(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+            if (getRemovedFeeds() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getRemovedFeeds());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getRemovedFeeds(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(CampaignChangeData.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(CampaignChangeData.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://adwords.google.com/api/adwords/ch/v201605", "CampaignChangeData"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("campaignId");
@@ -456,13 +461,24 @@ public class CampaignChangeData  implements java.io.Serializable {
         elemField.setNillable(false);
         elemField.setMaxOccursUnbounded(true);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (CampaignChangeData.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -474,7 +490,7 @@ public class CampaignChangeData  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -486,7 +502,7 @@ public class CampaignChangeData  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
@@ -150,72 +150,77 @@ public class CustomerChangeData  implements java.io.Serializable {
         this.lastChangeTimestamp = lastChangeTimestamp;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof CustomerChangeData)) return false;
         CustomerChangeData other = (CustomerChangeData) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(CustomerChangeData.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = true && 
-            ((this.changedCampaigns==null && other.getChangedCampaigns()==null) || 
-             (this.changedCampaigns!=null &&
-              java.util.Arrays.equals(this.changedCampaigns, other.getChangedCampaigns()))) &&
-            ((this.changedFeeds==null && other.getChangedFeeds()==null) || 
-             (this.changedFeeds!=null &&
-              java.util.Arrays.equals(this.changedFeeds, other.getChangedFeeds()))) &&
-            ((this.lastChangeTimestamp==null && other.getLastChangeTimestamp()==null) || 
-             (this.lastChangeTimestamp!=null &&
-              this.lastChangeTimestamp.equals(other.getLastChangeTimestamp())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = true && 
+                ((this.changedCampaigns==null && other.getChangedCampaigns()==null) || 
+                 (this.changedCampaigns!=null &&
+                  java.util.Arrays.equals(this.changedCampaigns, other.getChangedCampaigns()))) &&
+                ((this.changedFeeds==null && other.getChangedFeeds()==null) || 
+                 (this.changedFeeds!=null &&
+                  java.util.Arrays.equals(this.changedFeeds, other.getChangedFeeds()))) &&
+                ((this.lastChangeTimestamp==null && other.getLastChangeTimestamp()==null) || 
+                 (this.lastChangeTimestamp!=null &&
+                  this.lastChangeTimestamp.equals(other.getLastChangeTimestamp())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(CustomerChangeData.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getChangedCampaigns() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getChangedCampaigns());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getChangedCampaigns(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+        try {
+            int _hashCode = 1;
+            if (getChangedCampaigns() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getChangedCampaigns());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getChangedCampaigns(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
-        }
-        if (getChangedFeeds() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getChangedFeeds());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getChangedFeeds(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+            if (getChangedFeeds() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getChangedFeeds());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getChangedFeeds(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
+            if (getLastChangeTimestamp() != null) {
+                _hashCode += getLastChangeTimestamp().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        if (getLastChangeTimestamp() != null) {
-            _hashCode += getLastChangeTimestamp().hashCode();
-        }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(CustomerChangeData.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(CustomerChangeData.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://adwords.google.com/api/adwords/ch/v201605", "CustomerChangeData"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("changedCampaigns");
@@ -240,13 +245,24 @@ public class CustomerChangeData  implements java.io.Serializable {
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (CustomerChangeData.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -258,7 +274,7 @@ public class CustomerChangeData  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -270,7 +286,7 @@ public class CustomerChangeData  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
@@ -89,50 +89,55 @@ public class CustomerSyncError  extends com.google.api.ads.adwords.axis.v201605.
         this.campaignId = campaignId;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof CustomerSyncError)) return false;
         CustomerSyncError other = (CustomerSyncError) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(CustomerSyncError.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = super.equals(obj) && 
-            ((this.reason==null && other.getReason()==null) || 
-             (this.reason!=null &&
-              this.reason.equals(other.getReason()))) &&
-            ((this.campaignId==null && other.getCampaignId()==null) || 
-             (this.campaignId!=null &&
-              this.campaignId.equals(other.getCampaignId())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = super.equals(obj) && 
+                ((this.reason==null && other.getReason()==null) || 
+                 (this.reason!=null &&
+                  this.reason.equals(other.getReason()))) &&
+                ((this.campaignId==null && other.getCampaignId()==null) || 
+                 (this.campaignId!=null &&
+                  this.campaignId.equals(other.getCampaignId())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(CustomerSyncError.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = super.hashCode();
-        if (getReason() != null) {
-            _hashCode += getReason().hashCode();
-        }
-        if (getCampaignId() != null) {
-            _hashCode += getCampaignId().hashCode();
+        try {
+            int _hashCode = super.hashCode();
+            if (getReason() != null) {
+                _hashCode += getReason().hashCode();
+            }
+            if (getCampaignId() != null) {
+                _hashCode += getCampaignId().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(CustomerSyncError.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(CustomerSyncError.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://adwords.google.com/api/adwords/ch/v201605", "CustomerSyncError"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("reason");
@@ -148,13 +153,24 @@ public class CustomerSyncError  extends com.google.api.ads.adwords.axis.v201605.
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (CustomerSyncError.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -166,7 +182,7 @@ public class CustomerSyncError  extends com.google.api.ads.adwords.axis.v201605.
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -178,7 +194,7 @@ public class CustomerSyncError  extends com.google.api.ads.adwords.axis.v201605.
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
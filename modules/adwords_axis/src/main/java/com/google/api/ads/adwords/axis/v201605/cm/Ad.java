@@ -445,128 +445,133 @@ public class Ad  implements java.io.Serializable {
         this.adType = adType;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof Ad)) return false;
         Ad other = (Ad) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(Ad.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = true && 
-            ((this.id==null && other.getId()==null) || 
-             (this.id!=null &&
-              this.id.equals(other.getId()))) &&
-            ((this.url==null && other.getUrl()==null) || 
-             (this.url!=null &&
-              this.url.equals(other.getUrl()))) &&
-            ((this.displayUrl==null && other.getDisplayUrl()==null) || 
-             (this.displayUrl!=null &&
-              this.displayUrl.equals(other.getDisplayUrl()))) &&
-            ((this.finalUrls==null && other.getFinalUrls()==null) || 
-             (this.finalUrls!=null &&
-              java.util.Arrays.equals(this.finalUrls, other.getFinalUrls()))) &&
-            ((this.finalMobileUrls==null && other.getFinalMobileUrls()==null) || 
-             (this.finalMobileUrls!=null &&
-              java.util.Arrays.equals(this.finalMobileUrls, other.getFinalMobileUrls()))) &&
-            ((this.finalAppUrls==null && other.getFinalAppUrls()==null) || 
-             (this.finalAppUrls!=null &&
-              java.util.Arrays.equals(this.finalAppUrls, other.getFinalAppUrls()))) &&
-            ((this.trackingUrlTemplate==null && other.getTrackingUrlTemplate()==null) || 
-             (this.trackingUrlTemplate!=null &&
-              this.trackingUrlTemplate.equals(other.getTrackingUrlTemplate()))) &&
-            ((this.urlCustomParameters==null && other.getUrlCustomParameters()==null) || 
-             (this.urlCustomParameters!=null &&
-              this.urlCustomParameters.equals(other.getUrlCustomParameters()))) &&
-            ((this.type==null && other.getType()==null) || 
-             (this.type!=null &&
-              this.type.equals(other.getType()))) &&
-            ((this.devicePreference==null && other.getDevicePreference()==null) || 
-             (this.devicePreference!=null &&
-              this.devicePreference.equals(other.getDevicePreference()))) &&
-            ((this.adType==null && other.getAdType()==null) || 
-             (this.adType!=null &&
-              this.adType.equals(other.getAdType())));
-        __equalsCalc = null;
-        return _equals;
-    }
-
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
-            return 0;
-        }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getId() != null) {
-            _hashCode += getId().hashCode();
+        try {
+            boolean _equals;
+            _equals = true && 
+                ((this.id==null && other.getId()==null) || 
+                 (this.id!=null &&
+                  this.id.equals(other.getId()))) &&
+                ((this.url==null && other.getUrl()==null) || 
+                 (this.url!=null &&
+                  this.url.equals(other.getUrl()))) &&
+                ((this.displayUrl==null && other.getDisplayUrl()==null) || 
+                 (this.displayUrl!=null &&
+                  this.displayUrl.equals(other.getDisplayUrl()))) &&
+                ((this.finalUrls==null && other.getFinalUrls()==null) || 
+                 (this.finalUrls!=null &&
+                  java.util.Arrays.equals(this.finalUrls, other.getFinalUrls()))) &&
+                ((this.finalMobileUrls==null && other.getFinalMobileUrls()==null) || 
+                 (this.finalMobileUrls!=null &&
+                  java.util.Arrays.equals(this.finalMobileUrls, other.getFinalMobileUrls()))) &&
+                ((this.finalAppUrls==null && other.getFinalAppUrls()==null) || 
+                 (this.finalAppUrls!=null &&
+                  java.util.Arrays.equals(this.finalAppUrls, other.getFinalAppUrls()))) &&
+                ((this.trackingUrlTemplate==null && other.getTrackingUrlTemplate()==null) || 
+                 (this.trackingUrlTemplate!=null &&
+                  this.trackingUrlTemplate.equals(other.getTrackingUrlTemplate()))) &&
+                ((this.urlCustomParameters==null && other.getUrlCustomParameters()==null) || 
+                 (this.urlCustomParameters!=null &&
+                  this.urlCustomParameters.equals(other.getUrlCustomParameters()))) &&
+                ((this.type==null && other.getType()==null) || 
+                 (this.type!=null &&
+                  this.type.equals(other.getType()))) &&
+                ((this.devicePreference==null && other.getDevicePreference()==null) || 
+                 (this.devicePreference!=null &&
+                  this.devicePreference.equals(other.getDevicePreference()))) &&
+                ((this.adType==null && other.getAdType()==null) || 
+                 (this.adType!=null &&
+                  this.adType.equals(other.getAdType())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
         }
-        if (getUrl() != null) {
-            _hashCode += getUrl().hashCode();
-        }
-        if (getDisplayUrl() != null) {
-            _hashCode += getDisplayUrl().hashCode();
+    }
+
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(Ad.class, this)) {
+            return 0;
         }
-        if (getFinalUrls() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getFinalUrls());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getFinalUrls(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+        try {
+            int _hashCode = 1;
+            if (getId() != null) {
+                _hashCode += getId().hashCode();
+            }
+            if (getUrl() != null) {
+                _hashCode += getUrl().hashCode();
+            }
+            if (getDisplayUrl() != null) {
+                _hashCode += getDisplayUrl().hashCode();
+            }
+            if (getFinalUrls() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getFinalUrls());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getFinalUrls(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
-        }
-        if (getFinalMobileUrls() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getFinalMobileUrls());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getFinalMobileUrls(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+            if (getFinalMobileUrls() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getFinalMobileUrls());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getFinalMobileUrls(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
-        }
-        if (getFinalAppUrls() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getFinalAppUrls());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getFinalAppUrls(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+            if (getFinalAppUrls() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getFinalAppUrls());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getFinalAppUrls(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
+            if (getTrackingUrlTemplate() != null) {
+                _hashCode += getTrackingUrlTemplate().hashCode();
+            }
+            if (getUrlCustomParameters() != null) {
+                _hashCode += getUrlCustomParameters().hashCode();
+            }
+            if (getType() != null) {
+                _hashCode += getType().hashCode();
+            }
+            if (getDevicePreference() != null) {
+                _hashCode += getDevicePreference().hashCode();
+            }
+            if (getAdType() != null) {
+                _hashCode += getAdType().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        if (getTrackingUrlTemplate() != null) {
-            _hashCode += getTrackingUrlTemplate().hashCode();
-        }
-        if (getUrlCustomParameters() != null) {
-            _hashCode += getUrlCustomParameters().hashCode();
-        }
-        if (getType() != null) {
-            _hashCode += getType().hashCode();
-        }
-        if (getDevicePreference() != null) {
-            _hashCode += getDevicePreference().hashCode();
-        }
-        if (getAdType() != null) {
-            _hashCode += getAdType().hashCode();
-        }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(Ad.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(Ad.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://adwords.google.com/api/adwords/cm/v201605", "Ad"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("id");
@@ -648,13 +653,24 @@ public class Ad  implements java.io.Serializable {
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (Ad.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -666,7 +682,7 @@ public class Ad  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -678,7 +694,7 @@ public class Ad  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
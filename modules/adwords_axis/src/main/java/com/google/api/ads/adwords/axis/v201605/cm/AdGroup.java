@@ -597,152 +597,157 @@ public class AdGroup  implements java.io.Serializable {
         this.urlCustomParameters = urlCustomParameters;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof AdGroup)) return false;
         AdGroup other = (AdGroup) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(AdGroup.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = true &&
-            ((this.id==null && other.getId()==null) ||
-             (this.id!=null &&
-              this.id.equals(other.getId()))) &&
-            ((this.campaignId==null && other.getCampaignId()==null) ||
-             (this.campaignId!=null &&
-              this.campaignId.equals(other.getCampaignId()))) &&
-            ((this.campaignName==null && other.getCampaignName()==null) ||
-             (this.campaignName!=null &&
-              this.campaignName.equals(other.getCampaignName()))) &&
-            ((this.name==null && other.getName()==null) ||
-             (this.name!=null &&
-              this.name.equals(other.getName()))) &&
-            ((this.status==null && other.getStatus()==null) ||
-             (this.status!=null &&
-              this.status.equals(other.getStatus()))) &&
-            ((this.settings==null && other.getSettings()==null) ||
-             (this.settings!=null &&
-              java.util.Arrays.equals(this.settings, other.getSettings()))) &&
-            ((this.experimentData==null && other.getExperimentData()==null) ||
-             (this.experimentData!=null &&
-              this.experimentData.equals(other.getExperimentData()))) &&
-            ((this.labels==null && other.getLabels()==null) ||
-             (this.labels!=null &&
-              java.util.Arrays.equals(this.labels, other.getLabels()))) &&
-            ((this.forwardCompatibilityMap==null && other.getForwardCompatibilityMap()==null) ||
-             (this.forwardCompatibilityMap!=null &&
-              java.util.Arrays.equals(this.forwardCompatibilityMap, other.getForwardCompatibilityMap()))) &&
-            ((this.biddingStrategyConfiguration==null && other.getBiddingStrategyConfiguration()==null) ||
-             (this.biddingStrategyConfiguration!=null &&
-              this.biddingStrategyConfiguration.equals(other.getBiddingStrategyConfiguration()))) &&
-            ((this.contentBidCriterionTypeGroup==null && other.getContentBidCriterionTypeGroup()==null) ||
-             (this.contentBidCriterionTypeGroup!=null &&
-              this.contentBidCriterionTypeGroup.equals(other.getContentBidCriterionTypeGroup()))) &&
-            ((this.baseCampaignId==null && other.getBaseCampaignId()==null) ||
-             (this.baseCampaignId!=null &&
-              this.baseCampaignId.equals(other.getBaseCampaignId()))) &&
-            ((this.baseAdGroupId==null && other.getBaseAdGroupId()==null) ||
-             (this.baseAdGroupId!=null &&
-              this.baseAdGroupId.equals(other.getBaseAdGroupId()))) &&
-            ((this.trackingUrlTemplate==null && other.getTrackingUrlTemplate()==null) ||
-             (this.trackingUrlTemplate!=null &&
-              this.trackingUrlTemplate.equals(other.getTrackingUrlTemplate()))) &&
-            ((this.urlCustomParameters==null && other.getUrlCustomParameters()==null) ||
-             (this.urlCustomParameters!=null &&
-              this.urlCustomParameters.equals(other.getUrlCustomParameters())));
-        __equalsCalc = null;
-        return _equals;
-    }
-
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
-            return 0;
-        }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getId() != null) {
-            _hashCode += getId().hashCode();
-        }
-        if (getCampaignId() != null) {
-            _hashCode += getCampaignId().hashCode();
-        }
-        if (getCampaignName() != null) {
-            _hashCode += getCampaignName().hashCode();
-        }
-        if (getName() != null) {
-            _hashCode += getName().hashCode();
+        try {
+            boolean _equals;
+            _equals = true &&
+                ((this.id==null && other.getId()==null) ||
+                 (this.id!=null &&
+                  this.id.equals(other.getId()))) &&
+                ((this.campaignId==null && other.getCampaignId()==null) ||
+                 (this.campaignId!=null &&
+                  this.campaignId.equals(other.getCampaignId()))) &&
+                ((this.campaignName==null && other.getCampaignName()==null) ||
+                 (this.campaignName!=null &&
+                  this.campaignName.equals(other.getCampaignName()))) &&
+                ((this.name==null && other.getName()==null) ||
+                 (this.name!=null &&
+                  this.name.equals(other.getName()))) &&
+                ((this.status==null && other.getStatus()==null) ||
+                 (this.status!=null &&
+                  this.status.equals(other.getStatus()))) &&
+                ((this.settings==null && other.getSettings()==null) ||
+                 (this.settings!=null &&
+                  java.util.Arrays.equals(this.settings, other.getSettings()))) &&
+                ((this.experimentData==null && other.getExperimentData()==null) ||
+                 (this.experimentData!=null &&
+                  this.experimentData.equals(other.getExperimentData()))) &&
+                ((this.labels==null && other.getLabels()==null) ||
+                 (this.labels!=null &&
+                  java.util.Arrays.equals(this.labels, other.getLabels()))) &&
+                ((this.forwardCompatibilityMap==null && other.getForwardCompatibilityMap()==null) ||
+                 (this.forwardCompatibilityMap!=null &&
+                  java.util.Arrays.equals(this.forwardCompatibilityMap, other.getForwardCompatibilityMap()))) &&
+                ((this.biddingStrategyConfiguration==null && other.getBiddingStrategyConfiguration()==null) ||
+                 (this.biddingStrategyConfiguration!=null &&
+                  this.biddingStrategyConfiguration.equals(other.getBiddingStrategyConfiguration()))) &&
+                ((this.contentBidCriterionTypeGroup==null && other.getContentBidCriterionTypeGroup()==null) ||
+                 (this.contentBidCriterionTypeGroup!=null &&
+                  this.contentBidCriterionTypeGroup.equals(other.getContentBidCriterionTypeGroup()))) &&
+                ((this.baseCampaignId==null && other.getBaseCampaignId()==null) ||
+                 (this.baseCampaignId!=null &&
+                  this.baseCampaignId.equals(other.getBaseCampaignId()))) &&
+                ((this.baseAdGroupId==null && other.getBaseAdGroupId()==null) ||
+                 (this.baseAdGroupId!=null &&
+                  this.baseAdGroupId.equals(other.getBaseAdGroupId()))) &&
+                ((this.trackingUrlTemplate==null && other.getTrackingUrlTemplate()==null) ||
+                 (this.trackingUrlTemplate!=null &&
+                  this.trackingUrlTemplate.equals(other.getTrackingUrlTemplate()))) &&
+                ((this.urlCustomParameters==null && other.getUrlCustomParameters()==null) ||
+                 (this.urlCustomParameters!=null &&
+                  this.urlCustomParameters.equals(other.getUrlCustomParameters())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
         }
-        if (getStatus() != null) {
-            _hashCode += getStatus().hashCode();
+    }
+
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(AdGroup.class, this)) {
+            return 0;
         }
-        if (getSettings() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getSettings());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getSettings(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+        try {
+            int _hashCode = 1;
+            if (getId() != null) {
+                _hashCode += getId().hashCode();
+            }
+            if (getCampaignId() != null) {
+                _hashCode += getCampaignId().hashCode();
+            }
+            if (getCampaignName() != null) {
+                _hashCode += getCampaignName().hashCode();
+            }
+            if (getName() != null) {
+                _hashCode += getName().hashCode();
+            }
+            if (getStatus() != null) {
+                _hashCode += getStatus().hashCode();
+            }
+            if (getSettings() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getSettings());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getSettings(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
-        }
-        if (getExperimentData() != null) {
-            _hashCode += getExperimentData().hashCode();
-        }
-        if (getLabels() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getLabels());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getLabels(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+            if (getExperimentData() != null) {
+                _hashCode += getExperimentData().hashCode();
+            }
+            if (getLabels() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getLabels());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getLabels(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
-        }
-        if (getForwardCompatibilityMap() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getForwardCompatibilityMap());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getForwardCompatibilityMap(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+            if (getForwardCompatibilityMap() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getForwardCompatibilityMap());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getForwardCompatibilityMap(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
+            if (getBiddingStrategyConfiguration() != null) {
+                _hashCode += getBiddingStrategyConfiguration().hashCode();
+            }
+            if (getContentBidCriterionTypeGroup() != null) {
+                _hashCode += getContentBidCriterionTypeGroup().hashCode();
+            }
+            if (getBaseCampaignId() != null) {
+                _hashCode += getBaseCampaignId().hashCode();
+            }
+            if (getBaseAdGroupId() != null) {
+                _hashCode += getBaseAdGroupId().hashCode();
+            }
+            if (getTrackingUrlTemplate() != null) {
+                _hashCode += getTrackingUrlTemplate().hashCode();
+            }
+            if (getUrlCustomParameters() != null) {
+                _hashCode += getUrlCustomParameters().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        if (getBiddingStrategyConfiguration() != null) {
-            _hashCode += getBiddingStrategyConfiguration().hashCode();
-        }
-        if (getContentBidCriterionTypeGroup() != null) {
-            _hashCode += getContentBidCriterionTypeGroup().hashCode();
-        }
-        if (getBaseCampaignId() != null) {
-            _hashCode += getBaseCampaignId().hashCode();
-        }
-        if (getBaseAdGroupId() != null) {
-            _hashCode += getBaseAdGroupId().hashCode();
-        }
-        if (getTrackingUrlTemplate() != null) {
-            _hashCode += getTrackingUrlTemplate().hashCode();
-        }
-        if (getUrlCustomParameters() != null) {
-            _hashCode += getUrlCustomParameters().hashCode();
-        }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(AdGroup.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(AdGroup.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://adwords.google.com/api/adwords/cm/v201605", "AdGroup"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("id");
@@ -852,13 +857,24 @@ public class AdGroup  implements java.io.Serializable {
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (AdGroup.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -870,7 +886,7 @@ public class AdGroup  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -882,7 +898,7 @@ public class AdGroup  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
@@ -107,58 +107,63 @@ public class AdGroupAdOperation  extends com.google.api.ads.adwords.axis.v201605
         this.exemptionRequests[i] = _value;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof AdGroupAdOperation)) return false;
         AdGroupAdOperation other = (AdGroupAdOperation) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(AdGroupAdOperation.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = super.equals(obj) && 
-            ((this.operand==null && other.getOperand()==null) || 
-             (this.operand!=null &&
-              this.operand.equals(other.getOperand()))) &&
-            ((this.exemptionRequests==null && other.getExemptionRequests()==null) || 
-             (this.exemptionRequests!=null &&
-              java.util.Arrays.equals(this.exemptionRequests, other.getExemptionRequests())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = super.equals(obj) && 
+                ((this.operand==null && other.getOperand()==null) || 
+                 (this.operand!=null &&
+                  this.operand.equals(other.getOperand()))) &&
+                ((this.exemptionRequests==null && other.getExemptionRequests()==null) || 
+                 (this.exemptionRequests!=null &&
+                  java.util.Arrays.equals(this.exemptionRequests, other.getExemptionRequests())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(AdGroupAdOperation.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = super.hashCode();
-        if (getOperand() != null) {
-            _hashCode += getOperand().hashCode();
-        }
-        if (getExemptionRequests() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getExemptionRequests());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getExemptionRequests(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+        try {
+            int _hashCode = super.hashCode();
+            if (getOperand() != null) {
+                _hashCode += getOperand().hashCode();
+            }
+            if (getExemptionRequests() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getExemptionRequests());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getExemptionRequests(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(AdGroupAdOperation.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(AdGroupAdOperation.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://adwords.google.com/api/adwords/cm/v201605", "AdGroupAdOperation"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("operand");
@@ -175,13 +180,24 @@ public class AdGroupAdOperation  extends com.google.api.ads.adwords.axis.v201605
         elemField.setNillable(false);
         elemField.setMaxOccursUnbounded(true);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (AdGroupAdOperation.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -193,7 +209,7 @@ public class AdGroupAdOperation  extends com.google.api.ads.adwords.axis.v201605
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -205,7 +221,7 @@ public class AdGroupAdOperation  extends com.google.api.ads.adwords.axis.v201605
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
@@ -100,66 +100,71 @@ public class AdGroupAdReturnValue  extends com.google.api.ads.adwords.axis.v2016
         this.partialFailureErrors[i] = _value;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof AdGroupAdReturnValue)) return false;
         AdGroupAdReturnValue other = (AdGroupAdReturnValue) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(AdGroupAdReturnValue.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = super.equals(obj) && 
-            ((this.value==null && other.getValue()==null) || 
-             (this.value!=null &&
-              java.util.Arrays.equals(this.value, other.getValue()))) &&
-            ((this.partialFailureErrors==null && other.getPartialFailureErrors()==null) || 
-             (this.partialFailureErrors!=null &&
-              java.util.Arrays.equals(this.partialFailureErrors, other.getPartialFailureErrors())));
-        __equalsCalc = null;
-        return _equals;
-    }
-
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+        try {
+            boolean _equals;
+            _equals = super.equals(obj) && 
+                ((this.value==null && other.getValue()==null) || 
+                 (this.value!=null &&
+                  java.util.Arrays.equals(this.value, other.getValue()))) &&
+                ((this.partialFailureErrors==null && other.getPartialFailureErrors()==null) || 
+                 (this.partialFailureErrors!=null &&
+                  java.util.Arrays.equals(this.partialFailureErrors, other.getPartialFailureErrors())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
+    }
+
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(AdGroupAdReturnValue.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = super.hashCode();
-        if (getValue() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getValue());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getValue(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+        try {
+            int _hashCode = super.hashCode();
+            if (getValue() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getValue());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getValue(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
-        }
-        if (getPartialFailureErrors() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getPartialFailureErrors());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getPartialFailureErrors(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+            if (getPartialFailureErrors() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getPartialFailureErrors());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getPartialFailureErrors(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(AdGroupAdReturnValue.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(AdGroupAdReturnValue.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://adwords.google.com/api/adwords/cm/v201605", "AdGroupAdReturnValue"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("value");
@@ -177,13 +182,24 @@ public class AdGroupAdReturnValue  extends com.google.api.ads.adwords.axis.v2016
         elemField.setNillable(false);
         elemField.setMaxOccursUnbounded(true);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (AdGroupAdReturnValue.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -195,7 +211,7 @@ public class AdGroupAdReturnValue  extends com.google.api.ads.adwords.axis.v2016
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -207,7 +223,7 @@ public class AdGroupAdReturnValue  extends com.google.api.ads.adwords.axis.v2016
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
@@ -149,50 +149,55 @@ public class AdGroupBidLandscape  extends com.google.api.ads.adwords.axis.v20160
         this.landscapeCurrent = landscapeCurrent;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof AdGroupBidLandscape)) return false;
         AdGroupBidLandscape other = (AdGroupBidLandscape) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(AdGroupBidLandscape.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = super.equals(obj) && 
-            ((this.type==null && other.getType()==null) || 
-             (this.type!=null &&
-              this.type.equals(other.getType()))) &&
-            ((this.landscapeCurrent==null && other.getLandscapeCurrent()==null) || 
-             (this.landscapeCurrent!=null &&
-              this.landscapeCurrent.equals(other.getLandscapeCurrent())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = super.equals(obj) && 
+                ((this.type==null && other.getType()==null) || 
+                 (this.type!=null &&
+                  this.type.equals(other.getType()))) &&
+                ((this.landscapeCurrent==null && other.getLandscapeCurrent()==null) || 
+                 (this.landscapeCurrent!=null &&
+                  this.landscapeCurrent.equals(other.getLandscapeCurrent())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(AdGroupBidLandscape.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = super.hashCode();
-        if (getType() != null) {
-            _hashCode += getType().hashCode();
-        }
-        if (getLandscapeCurrent() != null) {
-            _hashCode += getLandscapeCurrent().hashCode();
+        try {
+            int _hashCode = super.hashCode();
+            if (getType() != null) {
+                _hashCode += getType().hashCode();
+            }
+            if (getLandscapeCurrent() != null) {
+                _hashCode += getLandscapeCurrent().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(AdGroupBidLandscape.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(AdGroupBidLandscape.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://adwords.google.com/api/adwords/cm/v201605", "AdGroupBidLandscape"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("type");
@@ -208,13 +213,24 @@ public class AdGroupBidLandscape  extends com.google.api.ads.adwords.axis.v20160
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (AdGroupBidLandscape.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -226,7 +242,7 @@ public class AdGroupBidLandscape  extends com.google.api.ads.adwords.axis.v20160
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -238,7 +254,7 @@ public class AdGroupBidLandscape  extends com.google.api.ads.adwords.axis.v20160
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
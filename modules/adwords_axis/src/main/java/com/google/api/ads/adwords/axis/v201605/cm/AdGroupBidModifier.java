@@ -280,74 +280,79 @@ public class AdGroupBidModifier  implements java.io.Serializable {
         this.bidModifierSource = bidModifierSource;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof AdGroupBidModifier)) return false;
         AdGroupBidModifier other = (AdGroupBidModifier) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(AdGroupBidModifier.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = true && 
-            ((this.campaignId==null && other.getCampaignId()==null) || 
-             (this.campaignId!=null &&
-              this.campaignId.equals(other.getCampaignId()))) &&
-            ((this.adGroupId==null && other.getAdGroupId()==null) || 
-             (this.adGroupId!=null &&
-              this.adGroupId.equals(other.getAdGroupId()))) &&
-            ((this.criterion==null && other.getCriterion()==null) || 
-             (this.criterion!=null &&
-              this.criterion.equals(other.getCriterion()))) &&
-            ((this.bidModifier==null && other.getBidModifier()==null) || 
-             (this.bidModifier!=null &&
-              this.bidModifier.equals(other.getBidModifier()))) &&
-            ((this.baseAdGroupId==null && other.getBaseAdGroupId()==null) || 
-             (this.baseAdGroupId!=null &&
-              this.baseAdGroupId.equals(other.getBaseAdGroupId()))) &&
-            ((this.bidModifierSource==null && other.getBidModifierSource()==null) || 
-             (this.bidModifierSource!=null &&
-              this.bidModifierSource.equals(other.getBidModifierSource())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = true && 
+                ((this.campaignId==null && other.getCampaignId()==null) || 
+                 (this.campaignId!=null &&
+                  this.campaignId.equals(other.getCampaignId()))) &&
+                ((this.adGroupId==null && other.getAdGroupId()==null) || 
+                 (this.adGroupId!=null &&
+                  this.adGroupId.equals(other.getAdGroupId()))) &&
+                ((this.criterion==null && other.getCriterion()==null) || 
+                 (this.criterion!=null &&
+                  this.criterion.equals(other.getCriterion()))) &&
+                ((this.bidModifier==null && other.getBidModifier()==null) || 
+                 (this.bidModifier!=null &&
+                  this.bidModifier.equals(other.getBidModifier()))) &&
+                ((this.baseAdGroupId==null && other.getBaseAdGroupId()==null) || 
+                 (this.baseAdGroupId!=null &&
+                  this.baseAdGroupId.equals(other.getBaseAdGroupId()))) &&
+                ((this.bidModifierSource==null && other.getBidModifierSource()==null) || 
+                 (this.bidModifierSource!=null &&
+                  this.bidModifierSource.equals(other.getBidModifierSource())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(AdGroupBidModifier.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getCampaignId() != null) {
-            _hashCode += getCampaignId().hashCode();
-        }
-        if (getAdGroupId() != null) {
-            _hashCode += getAdGroupId().hashCode();
-        }
-        if (getCriterion() != null) {
-            _hashCode += getCriterion().hashCode();
-        }
-        if (getBidModifier() != null) {
-            _hashCode += getBidModifier().hashCode();
-        }
-        if (getBaseAdGroupId() != null) {
-            _hashCode += getBaseAdGroupId().hashCode();
+        try {
+            int _hashCode = 1;
+            if (getCampaignId() != null) {
+                _hashCode += getCampaignId().hashCode();
+            }
+            if (getAdGroupId() != null) {
+                _hashCode += getAdGroupId().hashCode();
+            }
+            if (getCriterion() != null) {
+                _hashCode += getCriterion().hashCode();
+            }
+            if (getBidModifier() != null) {
+                _hashCode += getBidModifier().hashCode();
+            }
+            if (getBaseAdGroupId() != null) {
+                _hashCode += getBaseAdGroupId().hashCode();
+            }
+            if (getBidModifierSource() != null) {
+                _hashCode += getBidModifierSource().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        if (getBidModifierSource() != null) {
-            _hashCode += getBidModifierSource().hashCode();
-        }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(AdGroupBidModifier.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(AdGroupBidModifier.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://adwords.google.com/api/adwords/cm/v201605", "AdGroupBidModifier"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("campaignId");
@@ -391,13 +396,24 @@ public class AdGroupBidModifier  implements java.io.Serializable {
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (AdGroupBidModifier.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -409,7 +425,7 @@ public class AdGroupBidModifier  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -421,7 +437,7 @@ public class AdGroupBidModifier  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
@@ -339,102 +339,107 @@ public class AdGroupCriterion  implements java.io.Serializable {
         this.adGroupCriterionType = adGroupCriterionType;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof AdGroupCriterion)) return false;
         AdGroupCriterion other = (AdGroupCriterion) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(AdGroupCriterion.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = true &&
-            ((this.adGroupId==null && other.getAdGroupId()==null) ||
-             (this.adGroupId!=null &&
-              this.adGroupId.equals(other.getAdGroupId()))) &&
-            ((this.criterionUse==null && other.getCriterionUse()==null) ||
-             (this.criterionUse!=null &&
-              this.criterionUse.equals(other.getCriterionUse()))) &&
-            ((this.criterion==null && other.getCriterion()==null) ||
-             (this.criterion!=null &&
-              this.criterion.equals(other.getCriterion()))) &&
-            ((this.labels==null && other.getLabels()==null) ||
-             (this.labels!=null &&
-              java.util.Arrays.equals(this.labels, other.getLabels()))) &&
-            ((this.forwardCompatibilityMap==null && other.getForwardCompatibilityMap()==null) ||
-             (this.forwardCompatibilityMap!=null &&
-              java.util.Arrays.equals(this.forwardCompatibilityMap, other.getForwardCompatibilityMap()))) &&
-            ((this.baseCampaignId==null && other.getBaseCampaignId()==null) ||
-             (this.baseCampaignId!=null &&
-              this.baseCampaignId.equals(other.getBaseCampaignId()))) &&
-            ((this.baseAdGroupId==null && other.getBaseAdGroupId()==null) ||
-             (this.baseAdGroupId!=null &&
-              this.baseAdGroupId.equals(other.getBaseAdGroupId()))) &&
-            ((this.adGroupCriterionType==null && other.getAdGroupCriterionType()==null) ||
-             (this.adGroupCriterionType!=null &&
-              this.adGroupCriterionType.equals(other.getAdGroupCriterionType())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = true &&
+                ((this.adGroupId==null && other.getAdGroupId()==null) ||
+                 (this.adGroupId!=null &&
+                  this.adGroupId.equals(other.getAdGroupId()))) &&
+                ((this.criterionUse==null && other.getCriterionUse()==null) ||
+                 (this.criterionUse!=null &&
+                  this.criterionUse.equals(other.getCriterionUse()))) &&
+                ((this.criterion==null && other.getCriterion()==null) ||
+                 (this.criterion!=null &&
+                  this.criterion.equals(other.getCriterion()))) &&
+                ((this.labels==null && other.getLabels()==null) ||
+                 (this.labels!=null &&
+                  java.util.Arrays.equals(this.labels, other.getLabels()))) &&
+                ((this.forwardCompatibilityMap==null && other.getForwardCompatibilityMap()==null) ||
+                 (this.forwardCompatibilityMap!=null &&
+                  java.util.Arrays.equals(this.forwardCompatibilityMap, other.getForwardCompatibilityMap()))) &&
+                ((this.baseCampaignId==null && other.getBaseCampaignId()==null) ||
+                 (this.baseCampaignId!=null &&
+                  this.baseCampaignId.equals(other.getBaseCampaignId()))) &&
+                ((this.baseAdGroupId==null && other.getBaseAdGroupId()==null) ||
+                 (this.baseAdGroupId!=null &&
+                  this.baseAdGroupId.equals(other.getBaseAdGroupId()))) &&
+                ((this.adGroupCriterionType==null && other.getAdGroupCriterionType()==null) ||
+                 (this.adGroupCriterionType!=null &&
+                  this.adGroupCriterionType.equals(other.getAdGroupCriterionType())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(AdGroupCriterion.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getAdGroupId() != null) {
-            _hashCode += getAdGroupId().hashCode();
-        }
-        if (getCriterionUse() != null) {
-            _hashCode += getCriterionUse().hashCode();
-        }
-        if (getCriterion() != null) {
-            _hashCode += getCriterion().hashCode();
-        }
-        if (getLabels() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getLabels());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getLabels(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+        try {
+            int _hashCode = 1;
+            if (getAdGroupId() != null) {
+                _hashCode += getAdGroupId().hashCode();
+            }
+            if (getCriterionUse() != null) {
+                _hashCode += getCriterionUse().hashCode();
+            }
+            if (getCriterion() != null) {
+                _hashCode += getCriterion().hashCode();
+            }
+            if (getLabels() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getLabels());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getLabels(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
-        }
-        if (getForwardCompatibilityMap() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getForwardCompatibilityMap());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getForwardCompatibilityMap(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+            if (getForwardCompatibilityMap() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getForwardCompatibilityMap());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getForwardCompatibilityMap(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
+            if (getBaseCampaignId() != null) {
+                _hashCode += getBaseCampaignId().hashCode();
+            }
+            if (getBaseAdGroupId() != null) {
+                _hashCode += getBaseAdGroupId().hashCode();
+            }
+            if (getAdGroupCriterionType() != null) {
+                _hashCode += getAdGroupCriterionType().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        if (getBaseCampaignId() != null) {
-            _hashCode += getBaseCampaignId().hashCode();
-        }
-        if (getBaseAdGroupId() != null) {
-            _hashCode += getBaseAdGroupId().hashCode();
-        }
-        if (getAdGroupCriterionType() != null) {
-            _hashCode += getAdGroupCriterionType().hashCode();
-        }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(AdGroupCriterion.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(AdGroupCriterion.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://adwords.google.com/api/adwords/cm/v201605", "AdGroupCriterion"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("adGroupId");
@@ -494,13 +499,24 @@ public class AdGroupCriterion  implements java.io.Serializable {
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (AdGroupCriterion.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -512,7 +528,7 @@ public class AdGroupCriterion  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -524,7 +540,7 @@ public class AdGroupCriterion  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
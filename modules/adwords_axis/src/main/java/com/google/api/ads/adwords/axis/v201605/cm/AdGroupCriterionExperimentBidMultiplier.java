@@ -69,44 +69,49 @@ public abstract class AdGroupCriterionExperimentBidMultiplier  implements java.i
         this.adGroupCriterionExperimentBidMultiplierType = adGroupCriterionExperimentBidMultiplierType;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof AdGroupCriterionExperimentBidMultiplier)) return false;
         AdGroupCriterionExperimentBidMultiplier other = (AdGroupCriterionExperimentBidMultiplier) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(AdGroupCriterionExperimentBidMultiplier.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = true && 
-            ((this.adGroupCriterionExperimentBidMultiplierType==null && other.getAdGroupCriterionExperimentBidMultiplierType()==null) || 
-             (this.adGroupCriterionExperimentBidMultiplierType!=null &&
-              this.adGroupCriterionExperimentBidMultiplierType.equals(other.getAdGroupCriterionExperimentBidMultiplierType())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = true && 
+                ((this.adGroupCriterionExperimentBidMultiplierType==null && other.getAdGroupCriterionExperimentBidMultiplierType()==null) || 
+                 (this.adGroupCriterionExperimentBidMultiplierType!=null &&
+                  this.adGroupCriterionExperimentBidMultiplierType.equals(other.getAdGroupCriterionExperimentBidMultiplierType())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(AdGroupCriterionExperimentBidMultiplier.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getAdGroupCriterionExperimentBidMultiplierType() != null) {
-            _hashCode += getAdGroupCriterionExperimentBidMultiplierType().hashCode();
+        try {
+            int _hashCode = 1;
+            if (getAdGroupCriterionExperimentBidMultiplierType() != null) {
+                _hashCode += getAdGroupCriterionExperimentBidMultiplierType().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(AdGroupCriterionExperimentBidMultiplier.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(AdGroupCriterionExperimentBidMultiplier.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://adwords.google.com/api/adwords/cm/v201605", "AdGroupCriterionExperimentBidMultiplier"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("adGroupCriterionExperimentBidMultiplierType");
@@ -115,13 +120,24 @@ public abstract class AdGroupCriterionExperimentBidMultiplier  implements java.i
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (AdGroupCriterionExperimentBidMultiplier.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -133,7 +149,7 @@ public abstract class AdGroupCriterionExperimentBidMultiplier  implements java.i
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -145,7 +161,7 @@ public abstract class AdGroupCriterionExperimentBidMultiplier  implements java.i
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
@@ -137,56 +137,61 @@ public class AdGroupCriterionLabel  implements java.io.Serializable {
         this.labelId = labelId;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof AdGroupCriterionLabel)) return false;
         AdGroupCriterionLabel other = (AdGroupCriterionLabel) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(AdGroupCriterionLabel.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = true && 
-            ((this.adGroupId==null && other.getAdGroupId()==null) || 
-             (this.adGroupId!=null &&
-              this.adGroupId.equals(other.getAdGroupId()))) &&
-            ((this.criterionId==null && other.getCriterionId()==null) || 
-             (this.criterionId!=null &&
-              this.criterionId.equals(other.getCriterionId()))) &&
-            ((this.labelId==null && other.getLabelId()==null) || 
-             (this.labelId!=null &&
-              this.labelId.equals(other.getLabelId())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = true && 
+                ((this.adGroupId==null && other.getAdGroupId()==null) || 
+                 (this.adGroupId!=null &&
+                  this.adGroupId.equals(other.getAdGroupId()))) &&
+                ((this.criterionId==null && other.getCriterionId()==null) || 
+                 (this.criterionId!=null &&
+                  this.criterionId.equals(other.getCriterionId()))) &&
+                ((this.labelId==null && other.getLabelId()==null) || 
+                 (this.labelId!=null &&
+                  this.labelId.equals(other.getLabelId())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(AdGroupCriterionLabel.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getAdGroupId() != null) {
-            _hashCode += getAdGroupId().hashCode();
-        }
-        if (getCriterionId() != null) {
-            _hashCode += getCriterionId().hashCode();
-        }
-        if (getLabelId() != null) {
-            _hashCode += getLabelId().hashCode();
+        try {
+            int _hashCode = 1;
+            if (getAdGroupId() != null) {
+                _hashCode += getAdGroupId().hashCode();
+            }
+            if (getCriterionId() != null) {
+                _hashCode += getCriterionId().hashCode();
+            }
+            if (getLabelId() != null) {
+                _hashCode += getLabelId().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(AdGroupCriterionLabel.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(AdGroupCriterionLabel.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://adwords.google.com/api/adwords/cm/v201605", "AdGroupCriterionLabel"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("adGroupId");
@@ -209,13 +214,24 @@ public class AdGroupCriterionLabel  implements java.io.Serializable {
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (AdGroupCriterionLabel.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -227,7 +243,7 @@ public class AdGroupCriterionLabel  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -239,7 +255,7 @@ public class AdGroupCriterionLabel  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
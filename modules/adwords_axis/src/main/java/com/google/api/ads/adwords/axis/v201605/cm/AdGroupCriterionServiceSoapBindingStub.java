@@ -130,8 +130,8 @@ public class AdGroupCriterionServiceSoapBindingStub extends org.apache.axis.clie
             java.lang.Class cls;
             javax.xml.namespace.QName qName;
             javax.xml.namespace.QName qName2;
-            java.lang.Class beansf = org.apache.axis.encoding.ser.BeanSerializerFactory.class;
-            java.lang.Class beandf = org.apache.axis.encoding.ser.BeanDeserializerFactory.class;
+            java.lang.Class beansf = com.google.api.ads.common.lib.soap.axis.encoding.LazyBeanSerializerFactory.class;
+            java.lang.Class beandf = com.google.api.ads.common.lib.soap.axis.encoding.LazyBeanDeserializerFactory.class;
             java.lang.Class enumsf = org.apache.axis.encoding.ser.EnumSerializerFactory.class;
             java.lang.Class enumdf = org.apache.axis.encoding.ser.EnumDeserializerFactory.class;
             java.lang.Class arraysf = org.apache.axis.encoding.ser.ArraySerializerFactory.class;
@@ -149,8 +149,8 @@ public class AdGroupCriterionServiceSoapBindingStub extends org.apache.axis.clie
             java.lang.Class cls;
             javax.xml.namespace.QName qName;
             javax.xml.namespace.QName qName2;
-            java.lang.Class beansf = org.apache.axis.encoding.ser.BeanSerializerFactory.class;
-            java.lang.Class beandf = org.apache.axis.encoding.ser.BeanDeserializerFactory.class;
+            java.lang.Class beansf = com.google.api.ads.common.lib.soap.axis.encoding.LazyBeanSerializerFactory.class;
+            java.lang.Class beandf = com.google.api.ads.common.lib.soap.axis.encoding.LazyBeanDeserializerFactory.class;
             java.lang.Class enumsf = org.apache.axis.encoding.ser.EnumSerializerFactory.class;
             java.lang.Class enumdf = org.apache.axis.encoding.ser.EnumDeserializerFactory.class;
             java.lang.Class arraysf = org.apache.axis.encoding.ser.ArraySerializerFactory.class;
@@ -864,8 +864,8 @@ public class AdGroupCriterionServiceSoapBindingStub extends org.apache.axis.clie
             java.lang.Class cls;
             javax.xml.namespace.QName qName;
             javax.xml.namespace.QName qName2;
-            java.lang.Class beansf = org.apache.axis.encoding.ser.BeanSerializerFactory.class;
-            java.lang.Class beandf = org.apache.axis.encoding.ser.BeanDeserializerFactory.class;
+            java.lang.Class beansf = com.google.api.ads.common.lib.soap.axis.encoding.LazyBeanSerializerFactory.class;
+            java.lang.Class beandf = com.google.api.ads.common.lib.soap.axis.encoding.LazyBeanDeserializerFactory.class;
             java.lang.Class enumsf = org.apache.axis.encoding.ser.EnumSerializerFactory.class;
             java.lang.Class enumdf = org.apache.axis.encoding.ser.EnumDeserializerFactory.class;
             java.lang.Class arraysf = org.apache.axis.encoding.ser.ArraySerializerFactory.class;
@@ -1579,8 +1579,8 @@ public class AdGroupCriterionServiceSoapBindingStub extends org.apache.axis.clie
             java.lang.Class cls;
             javax.xml.namespace.QName qName;
             javax.xml.namespace.QName qName2;
-            java.lang.Class beansf = org.apache.axis.encoding.ser.BeanSerializerFactory.class;
-            java.lang.Class beandf = org.apache.axis.encoding.ser.BeanDeserializerFactory.class;
+            java.lang.Class beansf = com.google.api.ads.common.lib.soap.axis.encoding.LazyBeanSerializerFactory.class;
+            java.lang.Class beandf = com.google.api.ads.common.lib.soap.axis.encoding.LazyBeanDeserializerFactory.class;
             java.lang.Class enumsf = org.apache.axis.encoding.ser.EnumSerializerFactory.class;
             java.lang.Class enumdf = org.apache.axis.encoding.ser.EnumDeserializerFactory.class;
             java.lang.Class arraysf = org.apache.axis.encoding.ser.ArraySerializerFactory.class;
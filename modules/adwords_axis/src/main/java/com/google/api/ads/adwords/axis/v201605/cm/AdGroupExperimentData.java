@@ -169,62 +169,67 @@ public class AdGroupExperimentData  implements java.io.Serializable {
         this.experimentBidMultipliers = experimentBidMultipliers;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof AdGroupExperimentData)) return false;
         AdGroupExperimentData other = (AdGroupExperimentData) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(AdGroupExperimentData.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = true && 
-            ((this.experimentId==null && other.getExperimentId()==null) || 
-             (this.experimentId!=null &&
-              this.experimentId.equals(other.getExperimentId()))) &&
-            ((this.experimentDeltaStatus==null && other.getExperimentDeltaStatus()==null) || 
-             (this.experimentDeltaStatus!=null &&
-              this.experimentDeltaStatus.equals(other.getExperimentDeltaStatus()))) &&
-            ((this.experimentDataStatus==null && other.getExperimentDataStatus()==null) || 
-             (this.experimentDataStatus!=null &&
-              this.experimentDataStatus.equals(other.getExperimentDataStatus()))) &&
-            ((this.experimentBidMultipliers==null && other.getExperimentBidMultipliers()==null) || 
-             (this.experimentBidMultipliers!=null &&
-              this.experimentBidMultipliers.equals(other.getExperimentBidMultipliers())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = true && 
+                ((this.experimentId==null && other.getExperimentId()==null) || 
+                 (this.experimentId!=null &&
+                  this.experimentId.equals(other.getExperimentId()))) &&
+                ((this.experimentDeltaStatus==null && other.getExperimentDeltaStatus()==null) || 
+                 (this.experimentDeltaStatus!=null &&
+                  this.experimentDeltaStatus.equals(other.getExperimentDeltaStatus()))) &&
+                ((this.experimentDataStatus==null && other.getExperimentDataStatus()==null) || 
+                 (this.experimentDataStatus!=null &&
+                  this.experimentDataStatus.equals(other.getExperimentDataStatus()))) &&
+                ((this.experimentBidMultipliers==null && other.getExperimentBidMultipliers()==null) || 
+                 (this.experimentBidMultipliers!=null &&
+                  this.experimentBidMultipliers.equals(other.getExperimentBidMultipliers())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(AdGroupExperimentData.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getExperimentId() != null) {
-            _hashCode += getExperimentId().hashCode();
-        }
-        if (getExperimentDeltaStatus() != null) {
-            _hashCode += getExperimentDeltaStatus().hashCode();
-        }
-        if (getExperimentDataStatus() != null) {
-            _hashCode += getExperimentDataStatus().hashCode();
-        }
-        if (getExperimentBidMultipliers() != null) {
-            _hashCode += getExperimentBidMultipliers().hashCode();
+        try {
+            int _hashCode = 1;
+            if (getExperimentId() != null) {
+                _hashCode += getExperimentId().hashCode();
+            }
+            if (getExperimentDeltaStatus() != null) {
+                _hashCode += getExperimentDeltaStatus().hashCode();
+            }
+            if (getExperimentDataStatus() != null) {
+                _hashCode += getExperimentDataStatus().hashCode();
+            }
+            if (getExperimentBidMultipliers() != null) {
+                _hashCode += getExperimentBidMultipliers().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(AdGroupExperimentData.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(AdGroupExperimentData.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://adwords.google.com/api/adwords/cm/v201605", "AdGroupExperimentData"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("experimentId");
@@ -254,13 +259,24 @@ public class AdGroupExperimentData  implements java.io.Serializable {
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (AdGroupExperimentData.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -272,7 +288,7 @@ public class AdGroupExperimentData  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -284,7 +300,7 @@ public class AdGroupExperimentData  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
@@ -359,88 +359,93 @@ public class AdGroupFeed  implements java.io.Serializable {
         this.baseAdGroupId = baseAdGroupId;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof AdGroupFeed)) return false;
         AdGroupFeed other = (AdGroupFeed) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(AdGroupFeed.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = true && 
-            ((this.feedId==null && other.getFeedId()==null) || 
-             (this.feedId!=null &&
-              this.feedId.equals(other.getFeedId()))) &&
-            ((this.adGroupId==null && other.getAdGroupId()==null) || 
-             (this.adGroupId!=null &&
-              this.adGroupId.equals(other.getAdGroupId()))) &&
-            ((this.matchingFunction==null && other.getMatchingFunction()==null) || 
-             (this.matchingFunction!=null &&
-              this.matchingFunction.equals(other.getMatchingFunction()))) &&
-            ((this.placeholderTypes==null && other.getPlaceholderTypes()==null) || 
-             (this.placeholderTypes!=null &&
-              java.util.Arrays.equals(this.placeholderTypes, other.getPlaceholderTypes()))) &&
-            ((this.status==null && other.getStatus()==null) || 
-             (this.status!=null &&
-              this.status.equals(other.getStatus()))) &&
-            ((this.baseCampaignId==null && other.getBaseCampaignId()==null) || 
-             (this.baseCampaignId!=null &&
-              this.baseCampaignId.equals(other.getBaseCampaignId()))) &&
-            ((this.baseAdGroupId==null && other.getBaseAdGroupId()==null) || 
-             (this.baseAdGroupId!=null &&
-              this.baseAdGroupId.equals(other.getBaseAdGroupId())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = true && 
+                ((this.feedId==null && other.getFeedId()==null) || 
+                 (this.feedId!=null &&
+                  this.feedId.equals(other.getFeedId()))) &&
+                ((this.adGroupId==null && other.getAdGroupId()==null) || 
+                 (this.adGroupId!=null &&
+                  this.adGroupId.equals(other.getAdGroupId()))) &&
+                ((this.matchingFunction==null && other.getMatchingFunction()==null) || 
+                 (this.matchingFunction!=null &&
+                  this.matchingFunction.equals(other.getMatchingFunction()))) &&
+                ((this.placeholderTypes==null && other.getPlaceholderTypes()==null) || 
+                 (this.placeholderTypes!=null &&
+                  java.util.Arrays.equals(this.placeholderTypes, other.getPlaceholderTypes()))) &&
+                ((this.status==null && other.getStatus()==null) || 
+                 (this.status!=null &&
+                  this.status.equals(other.getStatus()))) &&
+                ((this.baseCampaignId==null && other.getBaseCampaignId()==null) || 
+                 (this.baseCampaignId!=null &&
+                  this.baseCampaignId.equals(other.getBaseCampaignId()))) &&
+                ((this.baseAdGroupId==null && other.getBaseAdGroupId()==null) || 
+                 (this.baseAdGroupId!=null &&
+                  this.baseAdGroupId.equals(other.getBaseAdGroupId())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(AdGroupFeed.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getFeedId() != null) {
-            _hashCode += getFeedId().hashCode();
-        }
-        if (getAdGroupId() != null) {
-            _hashCode += getAdGroupId().hashCode();
-        }
-        if (getMatchingFunction() != null) {
-            _hashCode += getMatchingFunction().hashCode();
-        }
-        if (getPlaceholderTypes() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getPlaceholderTypes());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getPlaceholderTypes(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+        try {
+            int _hashCode = 1;
+            if (getFeedId() != null) {
+                _hashCode += getFeedId().hashCode();
+            }
+            if (getAdGroupId() != null) {
+                _hashCode += getAdGroupId().hashCode();
+            }
+            if (getMatchingFunction() != null) {
+                _hashCode += getMatchingFunction().hashCode();
+            }
+            if (getPlaceholderTypes() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getPlaceholderTypes());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getPlaceholderTypes(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
+            if (getStatus() != null) {
+                _hashCode += getStatus().hashCode();
+            }
+            if (getBaseCampaignId() != null) {
+                _hashCode += getBaseCampaignId().hashCode();
+            }
+            if (getBaseAdGroupId() != null) {
+                _hashCode += getBaseAdGroupId().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        if (getStatus() != null) {
-            _hashCode += getStatus().hashCode();
-        }
-        if (getBaseCampaignId() != null) {
-            _hashCode += getBaseCampaignId().hashCode();
-        }
-        if (getBaseAdGroupId() != null) {
-            _hashCode += getBaseAdGroupId().hashCode();
-        }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(AdGroupFeed.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(AdGroupFeed.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://adwords.google.com/api/adwords/cm/v201605", "AdGroupFeed"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("feedId");
@@ -492,13 +497,24 @@ public class AdGroupFeed  implements java.io.Serializable {
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (AdGroupFeed.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -510,7 +526,7 @@ public class AdGroupFeed  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -522,7 +538,7 @@ public class AdGroupFeed  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
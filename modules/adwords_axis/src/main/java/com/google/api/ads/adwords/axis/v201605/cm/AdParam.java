@@ -337,62 +337,67 @@ public class AdParam  implements java.io.Serializable {
         this.paramIndex = paramIndex;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof AdParam)) return false;
         AdParam other = (AdParam) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(AdParam.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = true && 
-            ((this.adGroupId==null && other.getAdGroupId()==null) || 
-             (this.adGroupId!=null &&
-              this.adGroupId.equals(other.getAdGroupId()))) &&
-            ((this.criterionId==null && other.getCriterionId()==null) || 
-             (this.criterionId!=null &&
-              this.criterionId.equals(other.getCriterionId()))) &&
-            ((this.insertionText==null && other.getInsertionText()==null) || 
-             (this.insertionText!=null &&
-              this.insertionText.equals(other.getInsertionText()))) &&
-            ((this.paramIndex==null && other.getParamIndex()==null) || 
-             (this.paramIndex!=null &&
-              this.paramIndex.equals(other.getParamIndex())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = true && 
+                ((this.adGroupId==null && other.getAdGroupId()==null) || 
+                 (this.adGroupId!=null &&
+                  this.adGroupId.equals(other.getAdGroupId()))) &&
+                ((this.criterionId==null && other.getCriterionId()==null) || 
+                 (this.criterionId!=null &&
+                  this.criterionId.equals(other.getCriterionId()))) &&
+                ((this.insertionText==null && other.getInsertionText()==null) || 
+                 (this.insertionText!=null &&
+                  this.insertionText.equals(other.getInsertionText()))) &&
+                ((this.paramIndex==null && other.getParamIndex()==null) || 
+                 (this.paramIndex!=null &&
+                  this.paramIndex.equals(other.getParamIndex())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(AdParam.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getAdGroupId() != null) {
-            _hashCode += getAdGroupId().hashCode();
-        }
-        if (getCriterionId() != null) {
-            _hashCode += getCriterionId().hashCode();
-        }
-        if (getInsertionText() != null) {
-            _hashCode += getInsertionText().hashCode();
-        }
-        if (getParamIndex() != null) {
-            _hashCode += getParamIndex().hashCode();
+        try {
+            int _hashCode = 1;
+            if (getAdGroupId() != null) {
+                _hashCode += getAdGroupId().hashCode();
+            }
+            if (getCriterionId() != null) {
+                _hashCode += getCriterionId().hashCode();
+            }
+            if (getInsertionText() != null) {
+                _hashCode += getInsertionText().hashCode();
+            }
+            if (getParamIndex() != null) {
+                _hashCode += getParamIndex().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(AdParam.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(AdParam.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://adwords.google.com/api/adwords/cm/v201605", "AdParam"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("adGroupId");
@@ -422,13 +427,24 @@ public class AdParam  implements java.io.Serializable {
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (AdParam.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -440,7 +456,7 @@ public class AdParam  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -452,7 +468,7 @@ public class AdParam  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
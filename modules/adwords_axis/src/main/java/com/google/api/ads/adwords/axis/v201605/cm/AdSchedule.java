@@ -283,68 +283,73 @@ public class AdSchedule  extends com.google.api.ads.adwords.axis.v201605.cm.Crit
         this.endMinute = endMinute;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof AdSchedule)) return false;
         AdSchedule other = (AdSchedule) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(AdSchedule.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = super.equals(obj) && 
-            ((this.dayOfWeek==null && other.getDayOfWeek()==null) || 
-             (this.dayOfWeek!=null &&
-              this.dayOfWeek.equals(other.getDayOfWeek()))) &&
-            ((this.startHour==null && other.getStartHour()==null) || 
-             (this.startHour!=null &&
-              this.startHour.equals(other.getStartHour()))) &&
-            ((this.startMinute==null && other.getStartMinute()==null) || 
-             (this.startMinute!=null &&
-              this.startMinute.equals(other.getStartMinute()))) &&
-            ((this.endHour==null && other.getEndHour()==null) || 
-             (this.endHour!=null &&
-              this.endHour.equals(other.getEndHour()))) &&
-            ((this.endMinute==null && other.getEndMinute()==null) || 
-             (this.endMinute!=null &&
-              this.endMinute.equals(other.getEndMinute())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = super.equals(obj) && 
+                ((this.dayOfWeek==null && other.getDayOfWeek()==null) || 
+                 (this.dayOfWeek!=null &&
+                  this.dayOfWeek.equals(other.getDayOfWeek()))) &&
+                ((this.startHour==null && other.getStartHour()==null) || 
+                 (this.startHour!=null &&
+                  this.startHour.equals(other.getStartHour()))) &&
+                ((this.startMinute==null && other.getStartMinute()==null) || 
+                 (this.startMinute!=null &&
+                  this.startMinute.equals(other.getStartMinute()))) &&
+                ((this.endHour==null && other.getEndHour()==null) || 
+                 (this.endHour!=null &&
+                  this.endHour.equals(other.getEndHour()))) &&
+                ((this.endMinute==null && other.getEndMinute()==null) || 
+                 (this.endMinute!=null &&
+                  this.endMinute.equals(other.getEndMinute())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(AdSchedule.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = super.hashCode();
-        if (getDayOfWeek() != null) {
-            _hashCode += getDayOfWeek().hashCode();
-        }
-        if (getStartHour() != null) {
-            _hashCode += getStartHour().hashCode();
-        }
-        if (getStartMinute() != null) {
-            _hashCode += getStartMinute().hashCode();
-        }
-        if (getEndHour() != null) {
-            _hashCode += getEndHour().hashCode();
+        try {
+            int _hashCode = super.hashCode();
+            if (getDayOfWeek() != null) {
+                _hashCode += getDayOfWeek().hashCode();
+            }
+            if (getStartHour() != null) {
+                _hashCode += getStartHour().hashCode();
+            }
+            if (getStartMinute() != null) {
+                _hashCode += getStartMinute().hashCode();
+            }
+            if (getEndHour() != null) {
+                _hashCode += getEndHour().hashCode();
+            }
+            if (getEndMinute() != null) {
+                _hashCode += getEndMinute().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        if (getEndMinute() != null) {
-            _hashCode += getEndMinute().hashCode();
-        }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(AdSchedule.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(AdSchedule.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://adwords.google.com/api/adwords/cm/v201605", "AdSchedule"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("dayOfWeek");
@@ -381,13 +386,24 @@ public class AdSchedule  extends com.google.api.ads.adwords.axis.v201605.cm.Crit
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (AdSchedule.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -399,7 +415,7 @@ public class AdSchedule  extends com.google.api.ads.adwords.axis.v201605.cm.Crit
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -411,7 +427,7 @@ public class AdSchedule  extends com.google.api.ads.adwords.axis.v201605.cm.Crit
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
@@ -144,62 +144,67 @@ public class AdUrlUpgrade  implements java.io.Serializable {
         this.trackingUrlTemplate = trackingUrlTemplate;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof AdUrlUpgrade)) return false;
         AdUrlUpgrade other = (AdUrlUpgrade) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(AdUrlUpgrade.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = true && 
-            ((this.adId==null && other.getAdId()==null) || 
-             (this.adId!=null &&
-              this.adId.equals(other.getAdId()))) &&
-            ((this.finalUrl==null && other.getFinalUrl()==null) || 
-             (this.finalUrl!=null &&
-              this.finalUrl.equals(other.getFinalUrl()))) &&
-            ((this.finalMobileUrl==null && other.getFinalMobileUrl()==null) || 
-             (this.finalMobileUrl!=null &&
-              this.finalMobileUrl.equals(other.getFinalMobileUrl()))) &&
-            ((this.trackingUrlTemplate==null && other.getTrackingUrlTemplate()==null) || 
-             (this.trackingUrlTemplate!=null &&
-              this.trackingUrlTemplate.equals(other.getTrackingUrlTemplate())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = true && 
+                ((this.adId==null && other.getAdId()==null) || 
+                 (this.adId!=null &&
+                  this.adId.equals(other.getAdId()))) &&
+                ((this.finalUrl==null && other.getFinalUrl()==null) || 
+                 (this.finalUrl!=null &&
+                  this.finalUrl.equals(other.getFinalUrl()))) &&
+                ((this.finalMobileUrl==null && other.getFinalMobileUrl()==null) || 
+                 (this.finalMobileUrl!=null &&
+                  this.finalMobileUrl.equals(other.getFinalMobileUrl()))) &&
+                ((this.trackingUrlTemplate==null && other.getTrackingUrlTemplate()==null) || 
+                 (this.trackingUrlTemplate!=null &&
+                  this.trackingUrlTemplate.equals(other.getTrackingUrlTemplate())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(AdUrlUpgrade.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getAdId() != null) {
-            _hashCode += getAdId().hashCode();
-        }
-        if (getFinalUrl() != null) {
-            _hashCode += getFinalUrl().hashCode();
-        }
-        if (getFinalMobileUrl() != null) {
-            _hashCode += getFinalMobileUrl().hashCode();
-        }
-        if (getTrackingUrlTemplate() != null) {
-            _hashCode += getTrackingUrlTemplate().hashCode();
+        try {
+            int _hashCode = 1;
+            if (getAdId() != null) {
+                _hashCode += getAdId().hashCode();
+            }
+            if (getFinalUrl() != null) {
+                _hashCode += getFinalUrl().hashCode();
+            }
+            if (getFinalMobileUrl() != null) {
+                _hashCode += getFinalMobileUrl().hashCode();
+            }
+            if (getTrackingUrlTemplate() != null) {
+                _hashCode += getTrackingUrlTemplate().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(AdUrlUpgrade.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(AdUrlUpgrade.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://adwords.google.com/api/adwords/cm/v201605", "AdUrlUpgrade"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("adId");
@@ -229,13 +234,24 @@ public class AdUrlUpgrade  implements java.io.Serializable {
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (AdUrlUpgrade.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -247,7 +263,7 @@ public class AdUrlUpgrade  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -259,7 +275,7 @@ public class AdUrlUpgrade  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
@@ -91,50 +91,55 @@ public class ApplicationException  extends org.apache.axis.AxisFault  implements
         this.applicationExceptionType = applicationExceptionType;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof ApplicationException)) return false;
         ApplicationException other = (ApplicationException) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(ApplicationException.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = true && 
-            ((this.message1==null && other.getMessage1()==null) || 
-             (this.message1!=null &&
-              this.message1.equals(other.getMessage1()))) &&
-            ((this.applicationExceptionType==null && other.getApplicationExceptionType()==null) || 
-             (this.applicationExceptionType!=null &&
-              this.applicationExceptionType.equals(other.getApplicationExceptionType())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = true && 
+                ((this.message1==null && other.getMessage1()==null) || 
+                 (this.message1!=null &&
+                  this.message1.equals(other.getMessage1()))) &&
+                ((this.applicationExceptionType==null && other.getApplicationExceptionType()==null) || 
+                 (this.applicationExceptionType!=null &&
+                  this.applicationExceptionType.equals(other.getApplicationExceptionType())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(ApplicationException.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getMessage1() != null) {
-            _hashCode += getMessage1().hashCode();
-        }
-        if (getApplicationExceptionType() != null) {
-            _hashCode += getApplicationExceptionType().hashCode();
+        try {
+            int _hashCode = 1;
+            if (getMessage1() != null) {
+                _hashCode += getMessage1().hashCode();
+            }
+            if (getApplicationExceptionType() != null) {
+                _hashCode += getApplicationExceptionType().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(ApplicationException.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(ApplicationException.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://adwords.google.com/api/adwords/cm/v201605", "ApplicationException"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("message1");
@@ -150,13 +155,24 @@ public class ApplicationException  extends org.apache.axis.AxisFault  implements
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (ApplicationException.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -168,7 +184,7 @@ public class ApplicationException  extends org.apache.axis.AxisFault  implements
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -180,7 +196,7 @@ public class ApplicationException  extends org.apache.axis.AxisFault  implements
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 
@@ -100,50 +100,55 @@ public class AttributeFieldMapping  implements java.io.Serializable {
         this.fieldId = fieldId;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof AttributeFieldMapping)) return false;
         AttributeFieldMapping other = (AttributeFieldMapping) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(AttributeFieldMapping.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = true && 
-            ((this.feedAttributeId==null && other.getFeedAttributeId()==null) || 
-             (this.feedAttributeId!=null &&
-              this.feedAttributeId.equals(other.getFeedAttributeId()))) &&
-            ((this.fieldId==null && other.getFieldId()==null) || 
-             (this.fieldId!=null &&
-              this.fieldId.equals(other.getFieldId())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = true && 
+                ((this.feedAttributeId==null && other.getFeedAttributeId()==null) || 
+                 (this.feedAttributeId!=null &&
+                  this.feedAttributeId.equals(other.getFeedAttributeId()))) &&
+                ((this.fieldId==null && other.getFieldId()==null) || 
+                 (this.fieldId!=null &&
+                  this.fieldId.equals(other.getFieldId())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(AttributeFieldMapping.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getFeedAttributeId() != null) {
-            _hashCode += getFeedAttributeId().hashCode();
-        }
-        if (getFieldId() != null) {
-            _hashCode += getFieldId().hashCode();
+        try {
+            int _hashCode = 1;
+            if (getFeedAttributeId() != null) {
+                _hashCode += getFeedAttributeId().hashCode();
+            }
+            if (getFieldId() != null) {
+                _hashCode += getFieldId().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(AttributeFieldMapping.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(AttributeFieldMapping.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://adwords.google.com/api/adwords/cm/v201605", "AttributeFieldMapping"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("feedAttributeId");
@@ -159,13 +164,24 @@ public class AttributeFieldMapping  implements java.io.Serializable {
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (AttributeFieldMapping.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -177,7 +193,7 @@ public class AttributeFieldMapping  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -189,7 +205,7 @@ public class AttributeFieldMapping  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
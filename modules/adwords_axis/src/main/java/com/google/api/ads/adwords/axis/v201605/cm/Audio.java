@@ -151,56 +151,61 @@ public class Audio  extends com.google.api.ads.adwords.axis.v201605.cm.Media  im
         this.readyToPlayOnTheWeb = readyToPlayOnTheWeb;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof Audio)) return false;
         Audio other = (Audio) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(Audio.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = super.equals(obj) && 
-            ((this.durationMillis==null && other.getDurationMillis()==null) || 
-             (this.durationMillis!=null &&
-              this.durationMillis.equals(other.getDurationMillis()))) &&
-            ((this.streamingUrl==null && other.getStreamingUrl()==null) || 
-             (this.streamingUrl!=null &&
-              this.streamingUrl.equals(other.getStreamingUrl()))) &&
-            ((this.readyToPlayOnTheWeb==null && other.getReadyToPlayOnTheWeb()==null) || 
-             (this.readyToPlayOnTheWeb!=null &&
-              this.readyToPlayOnTheWeb.equals(other.getReadyToPlayOnTheWeb())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = super.equals(obj) && 
+                ((this.durationMillis==null && other.getDurationMillis()==null) || 
+                 (this.durationMillis!=null &&
+                  this.durationMillis.equals(other.getDurationMillis()))) &&
+                ((this.streamingUrl==null && other.getStreamingUrl()==null) || 
+                 (this.streamingUrl!=null &&
+                  this.streamingUrl.equals(other.getStreamingUrl()))) &&
+                ((this.readyToPlayOnTheWeb==null && other.getReadyToPlayOnTheWeb()==null) || 
+                 (this.readyToPlayOnTheWeb!=null &&
+                  this.readyToPlayOnTheWeb.equals(other.getReadyToPlayOnTheWeb())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(Audio.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = super.hashCode();
-        if (getDurationMillis() != null) {
-            _hashCode += getDurationMillis().hashCode();
-        }
-        if (getStreamingUrl() != null) {
-            _hashCode += getStreamingUrl().hashCode();
-        }
-        if (getReadyToPlayOnTheWeb() != null) {
-            _hashCode += getReadyToPlayOnTheWeb().hashCode();
+        try {
+            int _hashCode = super.hashCode();
+            if (getDurationMillis() != null) {
+                _hashCode += getDurationMillis().hashCode();
+            }
+            if (getStreamingUrl() != null) {
+                _hashCode += getStreamingUrl().hashCode();
+            }
+            if (getReadyToPlayOnTheWeb() != null) {
+                _hashCode += getReadyToPlayOnTheWeb().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(Audio.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(Audio.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://adwords.google.com/api/adwords/cm/v201605", "Audio"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("durationMillis");
@@ -223,13 +228,24 @@ public class Audio  extends com.google.api.ads.adwords.axis.v201605.cm.Media  im
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (Audio.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -241,7 +257,7 @@ public class Audio  extends com.google.api.ads.adwords.axis.v201605.cm.Media  im
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -253,7 +269,7 @@ public class Audio  extends com.google.api.ads.adwords.axis.v201605.cm.Media  im
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
@@ -398,88 +398,93 @@ public class BatchJob  implements java.io.Serializable {
         this.diskUsageQuotaBalance = diskUsageQuotaBalance;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof BatchJob)) return false;
         BatchJob other = (BatchJob) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(BatchJob.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = true && 
-            ((this.id==null && other.getId()==null) || 
-             (this.id!=null &&
-              this.id.equals(other.getId()))) &&
-            ((this.status==null && other.getStatus()==null) || 
-             (this.status!=null &&
-              this.status.equals(other.getStatus()))) &&
-            ((this.progressStats==null && other.getProgressStats()==null) || 
-             (this.progressStats!=null &&
-              this.progressStats.equals(other.getProgressStats()))) &&
-            ((this.uploadUrl==null && other.getUploadUrl()==null) || 
-             (this.uploadUrl!=null &&
-              this.uploadUrl.equals(other.getUploadUrl()))) &&
-            ((this.downloadUrl==null && other.getDownloadUrl()==null) || 
-             (this.downloadUrl!=null &&
-              this.downloadUrl.equals(other.getDownloadUrl()))) &&
-            ((this.processingErrors==null && other.getProcessingErrors()==null) || 
-             (this.processingErrors!=null &&
-              java.util.Arrays.equals(this.processingErrors, other.getProcessingErrors()))) &&
-            ((this.diskUsageQuotaBalance==null && other.getDiskUsageQuotaBalance()==null) || 
-             (this.diskUsageQuotaBalance!=null &&
-              this.diskUsageQuotaBalance.equals(other.getDiskUsageQuotaBalance())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = true && 
+                ((this.id==null && other.getId()==null) || 
+                 (this.id!=null &&
+                  this.id.equals(other.getId()))) &&
+                ((this.status==null && other.getStatus()==null) || 
+                 (this.status!=null &&
+                  this.status.equals(other.getStatus()))) &&
+                ((this.progressStats==null && other.getProgressStats()==null) || 
+                 (this.progressStats!=null &&
+                  this.progressStats.equals(other.getProgressStats()))) &&
+                ((this.uploadUrl==null && other.getUploadUrl()==null) || 
+                 (this.uploadUrl!=null &&
+                  this.uploadUrl.equals(other.getUploadUrl()))) &&
+                ((this.downloadUrl==null && other.getDownloadUrl()==null) || 
+                 (this.downloadUrl!=null &&
+                  this.downloadUrl.equals(other.getDownloadUrl()))) &&
+                ((this.processingErrors==null && other.getProcessingErrors()==null) || 
+                 (this.processingErrors!=null &&
+                  java.util.Arrays.equals(this.processingErrors, other.getProcessingErrors()))) &&
+                ((this.diskUsageQuotaBalance==null && other.getDiskUsageQuotaBalance()==null) || 
+                 (this.diskUsageQuotaBalance!=null &&
+                  this.diskUsageQuotaBalance.equals(other.getDiskUsageQuotaBalance())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(BatchJob.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getId() != null) {
-            _hashCode += getId().hashCode();
-        }
-        if (getStatus() != null) {
-            _hashCode += getStatus().hashCode();
-        }
-        if (getProgressStats() != null) {
-            _hashCode += getProgressStats().hashCode();
-        }
-        if (getUploadUrl() != null) {
-            _hashCode += getUploadUrl().hashCode();
-        }
-        if (getDownloadUrl() != null) {
-            _hashCode += getDownloadUrl().hashCode();
-        }
-        if (getProcessingErrors() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getProcessingErrors());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getProcessingErrors(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+        try {
+            int _hashCode = 1;
+            if (getId() != null) {
+                _hashCode += getId().hashCode();
+            }
+            if (getStatus() != null) {
+                _hashCode += getStatus().hashCode();
+            }
+            if (getProgressStats() != null) {
+                _hashCode += getProgressStats().hashCode();
+            }
+            if (getUploadUrl() != null) {
+                _hashCode += getUploadUrl().hashCode();
+            }
+            if (getDownloadUrl() != null) {
+                _hashCode += getDownloadUrl().hashCode();
+            }
+            if (getProcessingErrors() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getProcessingErrors());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getProcessingErrors(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
+            if (getDiskUsageQuotaBalance() != null) {
+                _hashCode += getDiskUsageQuotaBalance().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        if (getDiskUsageQuotaBalance() != null) {
-            _hashCode += getDiskUsageQuotaBalance().hashCode();
-        }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(BatchJob.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(BatchJob.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://adwords.google.com/api/adwords/cm/v201605", "BatchJob"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("id");
@@ -531,13 +536,24 @@ public class BatchJob  implements java.io.Serializable {
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (BatchJob.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -549,7 +565,7 @@ public class BatchJob  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -561,7 +577,7 @@ public class BatchJob  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
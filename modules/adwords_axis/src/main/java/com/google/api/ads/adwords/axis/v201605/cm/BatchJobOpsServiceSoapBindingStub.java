@@ -76,8 +76,8 @@ public class BatchJobOpsServiceSoapBindingStub extends org.apache.axis.client.St
             java.lang.Class cls;
             javax.xml.namespace.QName qName;
             javax.xml.namespace.QName qName2;
-            java.lang.Class beansf = org.apache.axis.encoding.ser.BeanSerializerFactory.class;
-            java.lang.Class beandf = org.apache.axis.encoding.ser.BeanDeserializerFactory.class;
+            java.lang.Class beansf = com.google.api.ads.common.lib.soap.axis.encoding.LazyBeanSerializerFactory.class;
+            java.lang.Class beandf = com.google.api.ads.common.lib.soap.axis.encoding.LazyBeanDeserializerFactory.class;
             java.lang.Class enumsf = org.apache.axis.encoding.ser.EnumSerializerFactory.class;
             java.lang.Class enumdf = org.apache.axis.encoding.ser.EnumDeserializerFactory.class;
             java.lang.Class arraysf = org.apache.axis.encoding.ser.ArraySerializerFactory.class;
@@ -96,8 +96,8 @@ public class BatchJobOpsServiceSoapBindingStub extends org.apache.axis.client.St
             java.lang.Class cls;
             javax.xml.namespace.QName qName;
             javax.xml.namespace.QName qName2;
-            java.lang.Class beansf = org.apache.axis.encoding.ser.BeanSerializerFactory.class;
-            java.lang.Class beandf = org.apache.axis.encoding.ser.BeanDeserializerFactory.class;
+            java.lang.Class beansf = com.google.api.ads.common.lib.soap.axis.encoding.LazyBeanSerializerFactory.class;
+            java.lang.Class beandf = com.google.api.ads.common.lib.soap.axis.encoding.LazyBeanDeserializerFactory.class;
             java.lang.Class enumsf = org.apache.axis.encoding.ser.EnumSerializerFactory.class;
             java.lang.Class enumdf = org.apache.axis.encoding.ser.EnumDeserializerFactory.class;
             java.lang.Class arraysf = org.apache.axis.encoding.ser.ArraySerializerFactory.class;
@@ -811,8 +811,8 @@ public class BatchJobOpsServiceSoapBindingStub extends org.apache.axis.client.St
             java.lang.Class cls;
             javax.xml.namespace.QName qName;
             javax.xml.namespace.QName qName2;
-            java.lang.Class beansf = org.apache.axis.encoding.ser.BeanSerializerFactory.class;
-            java.lang.Class beandf = org.apache.axis.encoding.ser.BeanDeserializerFactory.class;
+            java.lang.Class beansf = com.google.api.ads.common.lib.soap.axis.encoding.LazyBeanSerializerFactory.class;
+            java.lang.Class beandf = com.google.api.ads.common.lib.soap.axis.encoding.LazyBeanDeserializerFactory.class;
             java.lang.Class enumsf = org.apache.axis.encoding.ser.EnumSerializerFactory.class;
             java.lang.Class enumdf = org.apache.axis.encoding.ser.EnumDeserializerFactory.class;
             java.lang.Class arraysf = org.apache.axis.encoding.ser.ArraySerializerFactory.class;
@@ -1526,8 +1526,8 @@ public class BatchJobOpsServiceSoapBindingStub extends org.apache.axis.client.St
             java.lang.Class cls;
             javax.xml.namespace.QName qName;
             javax.xml.namespace.QName qName2;
-            java.lang.Class beansf = org.apache.axis.encoding.ser.BeanSerializerFactory.class;
-            java.lang.Class beandf = org.apache.axis.encoding.ser.BeanDeserializerFactory.class;
+            java.lang.Class beansf = com.google.api.ads.common.lib.soap.axis.encoding.LazyBeanSerializerFactory.class;
+            java.lang.Class beandf = com.google.api.ads.common.lib.soap.axis.encoding.LazyBeanDeserializerFactory.class;
             java.lang.Class enumsf = org.apache.axis.encoding.ser.EnumSerializerFactory.class;
             java.lang.Class enumdf = org.apache.axis.encoding.ser.EnumDeserializerFactory.class;
             java.lang.Class arraysf = org.apache.axis.encoding.ser.ArraySerializerFactory.class;
@@ -2241,8 +2241,8 @@ public class BatchJobOpsServiceSoapBindingStub extends org.apache.axis.client.St
             java.lang.Class cls;
             javax.xml.namespace.QName qName;
             javax.xml.namespace.QName qName2;
-            java.lang.Class beansf = org.apache.axis.encoding.ser.BeanSerializerFactory.class;
-            java.lang.Class beandf = org.apache.axis.encoding.ser.BeanDeserializerFactory.class;
+            java.lang.Class beansf = com.google.api.ads.common.lib.soap.axis.encoding.LazyBeanSerializerFactory.class;
+            java.lang.Class beandf = com.google.api.ads.common.lib.soap.axis.encoding.LazyBeanDeserializerFactory.class;
             java.lang.Class enumsf = org.apache.axis.encoding.ser.EnumSerializerFactory.class;
             java.lang.Class enumdf = org.apache.axis.encoding.ser.EnumDeserializerFactory.class;
             java.lang.Class arraysf = org.apache.axis.encoding.ser.ArraySerializerFactory.class;
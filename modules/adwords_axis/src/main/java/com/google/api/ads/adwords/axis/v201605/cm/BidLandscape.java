@@ -237,76 +237,81 @@ public abstract class BidLandscape  extends com.google.api.ads.adwords.axis.v201
         this.landscapePoints[i] = _value;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof BidLandscape)) return false;
         BidLandscape other = (BidLandscape) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(BidLandscape.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = super.equals(obj) && 
-            ((this.campaignId==null && other.getCampaignId()==null) || 
-             (this.campaignId!=null &&
-              this.campaignId.equals(other.getCampaignId()))) &&
-            ((this.adGroupId==null && other.getAdGroupId()==null) || 
-             (this.adGroupId!=null &&
-              this.adGroupId.equals(other.getAdGroupId()))) &&
-            ((this.startDate==null && other.getStartDate()==null) || 
-             (this.startDate!=null &&
-              this.startDate.equals(other.getStartDate()))) &&
-            ((this.endDate==null && other.getEndDate()==null) || 
-             (this.endDate!=null &&
-              this.endDate.equals(other.getEndDate()))) &&
-            ((this.landscapePoints==null && other.getLandscapePoints()==null) || 
-             (this.landscapePoints!=null &&
-              java.util.Arrays.equals(this.landscapePoints, other.getLandscapePoints())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = super.equals(obj) && 
+                ((this.campaignId==null && other.getCampaignId()==null) || 
+                 (this.campaignId!=null &&
+                  this.campaignId.equals(other.getCampaignId()))) &&
+                ((this.adGroupId==null && other.getAdGroupId()==null) || 
+                 (this.adGroupId!=null &&
+                  this.adGroupId.equals(other.getAdGroupId()))) &&
+                ((this.startDate==null && other.getStartDate()==null) || 
+                 (this.startDate!=null &&
+                  this.startDate.equals(other.getStartDate()))) &&
+                ((this.endDate==null && other.getEndDate()==null) || 
+                 (this.endDate!=null &&
+                  this.endDate.equals(other.getEndDate()))) &&
+                ((this.landscapePoints==null && other.getLandscapePoints()==null) || 
+                 (this.landscapePoints!=null &&
+                  java.util.Arrays.equals(this.landscapePoints, other.getLandscapePoints())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(BidLandscape.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = super.hashCode();
-        if (getCampaignId() != null) {
-            _hashCode += getCampaignId().hashCode();
-        }
-        if (getAdGroupId() != null) {
-            _hashCode += getAdGroupId().hashCode();
-        }
-        if (getStartDate() != null) {
-            _hashCode += getStartDate().hashCode();
-        }
-        if (getEndDate() != null) {
-            _hashCode += getEndDate().hashCode();
-        }
-        if (getLandscapePoints() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getLandscapePoints());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getLandscapePoints(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+        try {
+            int _hashCode = super.hashCode();
+            if (getCampaignId() != null) {
+                _hashCode += getCampaignId().hashCode();
+            }
+            if (getAdGroupId() != null) {
+                _hashCode += getAdGroupId().hashCode();
+            }
+            if (getStartDate() != null) {
+                _hashCode += getStartDate().hashCode();
+            }
+            if (getEndDate() != null) {
+                _hashCode += getEndDate().hashCode();
+            }
+            if (getLandscapePoints() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getLandscapePoints());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getLandscapePoints(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(BidLandscape.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(BidLandscape.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://adwords.google.com/api/adwords/cm/v201605", "BidLandscape"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("campaignId");
@@ -344,13 +349,24 @@ public abstract class BidLandscape  extends com.google.api.ads.adwords.axis.v201
         elemField.setNillable(false);
         elemField.setMaxOccursUnbounded(true);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (BidLandscape.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -362,7 +378,7 @@ public abstract class BidLandscape  extends com.google.api.ads.adwords.axis.v201
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -374,7 +390,7 @@ public abstract class BidLandscape  extends com.google.api.ads.adwords.axis.v201
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
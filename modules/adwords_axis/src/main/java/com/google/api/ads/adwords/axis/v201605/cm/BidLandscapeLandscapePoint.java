@@ -489,104 +489,109 @@ public class BidLandscapeLandscapePoint  implements java.io.Serializable {
         this.totalLocalPromotedImpressions = totalLocalPromotedImpressions;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof BidLandscapeLandscapePoint)) return false;
         BidLandscapeLandscapePoint other = (BidLandscapeLandscapePoint) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(BidLandscapeLandscapePoint.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = true && 
-            ((this.bid==null && other.getBid()==null) || 
-             (this.bid!=null &&
-              this.bid.equals(other.getBid()))) &&
-            ((this.clicks==null && other.getClicks()==null) || 
-             (this.clicks!=null &&
-              this.clicks.equals(other.getClicks()))) &&
-            ((this.cost==null && other.getCost()==null) || 
-             (this.cost!=null &&
-              this.cost.equals(other.getCost()))) &&
-            ((this.impressions==null && other.getImpressions()==null) || 
-             (this.impressions!=null &&
-              this.impressions.equals(other.getImpressions()))) &&
-            ((this.promotedImpressions==null && other.getPromotedImpressions()==null) || 
-             (this.promotedImpressions!=null &&
-              this.promotedImpressions.equals(other.getPromotedImpressions()))) &&
-            ((this.requiredBudget==null && other.getRequiredBudget()==null) || 
-             (this.requiredBudget!=null &&
-              this.requiredBudget.equals(other.getRequiredBudget()))) &&
-            ((this.bidModifier==null && other.getBidModifier()==null) || 
-             (this.bidModifier!=null &&
-              this.bidModifier.equals(other.getBidModifier()))) &&
-            ((this.totalLocalImpressions==null && other.getTotalLocalImpressions()==null) || 
-             (this.totalLocalImpressions!=null &&
-              this.totalLocalImpressions.equals(other.getTotalLocalImpressions()))) &&
-            ((this.totalLocalClicks==null && other.getTotalLocalClicks()==null) || 
-             (this.totalLocalClicks!=null &&
-              this.totalLocalClicks.equals(other.getTotalLocalClicks()))) &&
-            ((this.totalLocalCost==null && other.getTotalLocalCost()==null) || 
-             (this.totalLocalCost!=null &&
-              this.totalLocalCost.equals(other.getTotalLocalCost()))) &&
-            ((this.totalLocalPromotedImpressions==null && other.getTotalLocalPromotedImpressions()==null) || 
-             (this.totalLocalPromotedImpressions!=null &&
-              this.totalLocalPromotedImpressions.equals(other.getTotalLocalPromotedImpressions())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = true && 
+                ((this.bid==null && other.getBid()==null) || 
+                 (this.bid!=null &&
+                  this.bid.equals(other.getBid()))) &&
+                ((this.clicks==null && other.getClicks()==null) || 
+                 (this.clicks!=null &&
+                  this.clicks.equals(other.getClicks()))) &&
+                ((this.cost==null && other.getCost()==null) || 
+                 (this.cost!=null &&
+                  this.cost.equals(other.getCost()))) &&
+                ((this.impressions==null && other.getImpressions()==null) || 
+                 (this.impressions!=null &&
+                  this.impressions.equals(other.getImpressions()))) &&
+                ((this.promotedImpressions==null && other.getPromotedImpressions()==null) || 
+                 (this.promotedImpressions!=null &&
+                  this.promotedImpressions.equals(other.getPromotedImpressions()))) &&
+                ((this.requiredBudget==null && other.getRequiredBudget()==null) || 
+                 (this.requiredBudget!=null &&
+                  this.requiredBudget.equals(other.getRequiredBudget()))) &&
+                ((this.bidModifier==null && other.getBidModifier()==null) || 
+                 (this.bidModifier!=null &&
+                  this.bidModifier.equals(other.getBidModifier()))) &&
+                ((this.totalLocalImpressions==null && other.getTotalLocalImpressions()==null) || 
+                 (this.totalLocalImpressions!=null &&
+                  this.totalLocalImpressions.equals(other.getTotalLocalImpressions()))) &&
+                ((this.totalLocalClicks==null && other.getTotalLocalClicks()==null) || 
+                 (this.totalLocalClicks!=null &&
+                  this.totalLocalClicks.equals(other.getTotalLocalClicks()))) &&
+                ((this.totalLocalCost==null && other.getTotalLocalCost()==null) || 
+                 (this.totalLocalCost!=null &&
+                  this.totalLocalCost.equals(other.getTotalLocalCost()))) &&
+                ((this.totalLocalPromotedImpressions==null && other.getTotalLocalPromotedImpressions()==null) || 
+                 (this.totalLocalPromotedImpressions!=null &&
+                  this.totalLocalPromotedImpressions.equals(other.getTotalLocalPromotedImpressions())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(BidLandscapeLandscapePoint.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getBid() != null) {
-            _hashCode += getBid().hashCode();
-        }
-        if (getClicks() != null) {
-            _hashCode += getClicks().hashCode();
-        }
-        if (getCost() != null) {
-            _hashCode += getCost().hashCode();
-        }
-        if (getImpressions() != null) {
-            _hashCode += getImpressions().hashCode();
-        }
-        if (getPromotedImpressions() != null) {
-            _hashCode += getPromotedImpressions().hashCode();
-        }
-        if (getRequiredBudget() != null) {
-            _hashCode += getRequiredBudget().hashCode();
-        }
-        if (getBidModifier() != null) {
-            _hashCode += getBidModifier().hashCode();
+        try {
+            int _hashCode = 1;
+            if (getBid() != null) {
+                _hashCode += getBid().hashCode();
+            }
+            if (getClicks() != null) {
+                _hashCode += getClicks().hashCode();
+            }
+            if (getCost() != null) {
+                _hashCode += getCost().hashCode();
+            }
+            if (getImpressions() != null) {
+                _hashCode += getImpressions().hashCode();
+            }
+            if (getPromotedImpressions() != null) {
+                _hashCode += getPromotedImpressions().hashCode();
+            }
+            if (getRequiredBudget() != null) {
+                _hashCode += getRequiredBudget().hashCode();
+            }
+            if (getBidModifier() != null) {
+                _hashCode += getBidModifier().hashCode();
+            }
+            if (getTotalLocalImpressions() != null) {
+                _hashCode += getTotalLocalImpressions().hashCode();
+            }
+            if (getTotalLocalClicks() != null) {
+                _hashCode += getTotalLocalClicks().hashCode();
+            }
+            if (getTotalLocalCost() != null) {
+                _hashCode += getTotalLocalCost().hashCode();
+            }
+            if (getTotalLocalPromotedImpressions() != null) {
+                _hashCode += getTotalLocalPromotedImpressions().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        if (getTotalLocalImpressions() != null) {
-            _hashCode += getTotalLocalImpressions().hashCode();
-        }
-        if (getTotalLocalClicks() != null) {
-            _hashCode += getTotalLocalClicks().hashCode();
-        }
-        if (getTotalLocalCost() != null) {
-            _hashCode += getTotalLocalCost().hashCode();
-        }
-        if (getTotalLocalPromotedImpressions() != null) {
-            _hashCode += getTotalLocalPromotedImpressions().hashCode();
-        }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(BidLandscapeLandscapePoint.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(BidLandscapeLandscapePoint.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://adwords.google.com/api/adwords/cm/v201605", "BidLandscape.LandscapePoint"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("bid");
@@ -665,13 +670,24 @@ public class BidLandscapeLandscapePoint  implements java.io.Serializable {
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (BidLandscapeLandscapePoint.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -683,7 +699,7 @@ public class BidLandscapeLandscapePoint  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -695,7 +711,7 @@ public class BidLandscapeLandscapePoint  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
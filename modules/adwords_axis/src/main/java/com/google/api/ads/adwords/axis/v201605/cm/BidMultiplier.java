@@ -92,50 +92,55 @@ public class BidMultiplier  implements java.io.Serializable {
         this.multipliedBid = multipliedBid;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof BidMultiplier)) return false;
         BidMultiplier other = (BidMultiplier) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(BidMultiplier.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = true && 
-            ((this.multiplier==null && other.getMultiplier()==null) || 
-             (this.multiplier!=null &&
-              this.multiplier.equals(other.getMultiplier()))) &&
-            ((this.multipliedBid==null && other.getMultipliedBid()==null) || 
-             (this.multipliedBid!=null &&
-              this.multipliedBid.equals(other.getMultipliedBid())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = true && 
+                ((this.multiplier==null && other.getMultiplier()==null) || 
+                 (this.multiplier!=null &&
+                  this.multiplier.equals(other.getMultiplier()))) &&
+                ((this.multipliedBid==null && other.getMultipliedBid()==null) || 
+                 (this.multipliedBid!=null &&
+                  this.multipliedBid.equals(other.getMultipliedBid())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(BidMultiplier.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getMultiplier() != null) {
-            _hashCode += getMultiplier().hashCode();
-        }
-        if (getMultipliedBid() != null) {
-            _hashCode += getMultipliedBid().hashCode();
+        try {
+            int _hashCode = 1;
+            if (getMultiplier() != null) {
+                _hashCode += getMultiplier().hashCode();
+            }
+            if (getMultipliedBid() != null) {
+                _hashCode += getMultipliedBid().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(BidMultiplier.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(BidMultiplier.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://adwords.google.com/api/adwords/cm/v201605", "BidMultiplier"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("multiplier");
@@ -151,13 +156,24 @@ public class BidMultiplier  implements java.io.Serializable {
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (BidMultiplier.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -169,7 +185,7 @@ public class BidMultiplier  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -181,7 +197,7 @@ public class BidMultiplier  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
@@ -641,148 +641,153 @@ public class BiddableAdGroupCriterion  extends com.google.api.ads.adwords.axis.v
         this.urlCustomParameters = urlCustomParameters;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof BiddableAdGroupCriterion)) return false;
         BiddableAdGroupCriterion other = (BiddableAdGroupCriterion) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(BiddableAdGroupCriterion.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = super.equals(obj) && 
-            ((this.userStatus==null && other.getUserStatus()==null) || 
-             (this.userStatus!=null &&
-              this.userStatus.equals(other.getUserStatus()))) &&
-            ((this.systemServingStatus==null && other.getSystemServingStatus()==null) || 
-             (this.systemServingStatus!=null &&
-              this.systemServingStatus.equals(other.getSystemServingStatus()))) &&
-            ((this.approvalStatus==null && other.getApprovalStatus()==null) || 
-             (this.approvalStatus!=null &&
-              this.approvalStatus.equals(other.getApprovalStatus()))) &&
-            ((this.disapprovalReasons==null && other.getDisapprovalReasons()==null) || 
-             (this.disapprovalReasons!=null &&
-              java.util.Arrays.equals(this.disapprovalReasons, other.getDisapprovalReasons()))) &&
-            ((this.destinationUrl==null && other.getDestinationUrl()==null) || 
-             (this.destinationUrl!=null &&
-              this.destinationUrl.equals(other.getDestinationUrl()))) &&
-            ((this.experimentData==null && other.getExperimentData()==null) || 
-             (this.experimentData!=null &&
-              this.experimentData.equals(other.getExperimentData()))) &&
-            ((this.firstPageCpc==null && other.getFirstPageCpc()==null) || 
-             (this.firstPageCpc!=null &&
-              this.firstPageCpc.equals(other.getFirstPageCpc()))) &&
-            ((this.topOfPageCpc==null && other.getTopOfPageCpc()==null) || 
-             (this.topOfPageCpc!=null &&
-              this.topOfPageCpc.equals(other.getTopOfPageCpc()))) &&
-            ((this.firstPositionCpc==null && other.getFirstPositionCpc()==null) || 
-             (this.firstPositionCpc!=null &&
-              this.firstPositionCpc.equals(other.getFirstPositionCpc()))) &&
-            ((this.qualityInfo==null && other.getQualityInfo()==null) || 
-             (this.qualityInfo!=null &&
-              this.qualityInfo.equals(other.getQualityInfo()))) &&
-            ((this.biddingStrategyConfiguration==null && other.getBiddingStrategyConfiguration()==null) || 
-             (this.biddingStrategyConfiguration!=null &&
-              this.biddingStrategyConfiguration.equals(other.getBiddingStrategyConfiguration()))) &&
-            ((this.bidModifier==null && other.getBidModifier()==null) || 
-             (this.bidModifier!=null &&
-              this.bidModifier.equals(other.getBidModifier()))) &&
-            ((this.finalUrls==null && other.getFinalUrls()==null) || 
-             (this.finalUrls!=null &&
-              this.finalUrls.equals(other.getFinalUrls()))) &&
-            ((this.finalMobileUrls==null && other.getFinalMobileUrls()==null) || 
-             (this.finalMobileUrls!=null &&
-              this.finalMobileUrls.equals(other.getFinalMobileUrls()))) &&
-            ((this.finalAppUrls==null && other.getFinalAppUrls()==null) || 
-             (this.finalAppUrls!=null &&
-              this.finalAppUrls.equals(other.getFinalAppUrls()))) &&
-            ((this.trackingUrlTemplate==null && other.getTrackingUrlTemplate()==null) || 
-             (this.trackingUrlTemplate!=null &&
-              this.trackingUrlTemplate.equals(other.getTrackingUrlTemplate()))) &&
-            ((this.urlCustomParameters==null && other.getUrlCustomParameters()==null) || 
-             (this.urlCustomParameters!=null &&
-              this.urlCustomParameters.equals(other.getUrlCustomParameters())));
-        __equalsCalc = null;
-        return _equals;
-    }
-
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
-            return 0;
-        }
-        __hashCodeCalc = true;
-        int _hashCode = super.hashCode();
-        if (getUserStatus() != null) {
-            _hashCode += getUserStatus().hashCode();
-        }
-        if (getSystemServingStatus() != null) {
-            _hashCode += getSystemServingStatus().hashCode();
+        try {
+            boolean _equals;
+            _equals = super.equals(obj) && 
+                ((this.userStatus==null && other.getUserStatus()==null) || 
+                 (this.userStatus!=null &&
+                  this.userStatus.equals(other.getUserStatus()))) &&
+                ((this.systemServingStatus==null && other.getSystemServingStatus()==null) || 
+                 (this.systemServingStatus!=null &&
+                  this.systemServingStatus.equals(other.getSystemServingStatus()))) &&
+                ((this.approvalStatus==null && other.getApprovalStatus()==null) || 
+                 (this.approvalStatus!=null &&
+                  this.approvalStatus.equals(other.getApprovalStatus()))) &&
+                ((this.disapprovalReasons==null && other.getDisapprovalReasons()==null) || 
+                 (this.disapprovalReasons!=null &&
+                  java.util.Arrays.equals(this.disapprovalReasons, other.getDisapprovalReasons()))) &&
+                ((this.destinationUrl==null && other.getDestinationUrl()==null) || 
+                 (this.destinationUrl!=null &&
+                  this.destinationUrl.equals(other.getDestinationUrl()))) &&
+                ((this.experimentData==null && other.getExperimentData()==null) || 
+                 (this.experimentData!=null &&
+                  this.experimentData.equals(other.getExperimentData()))) &&
+                ((this.firstPageCpc==null && other.getFirstPageCpc()==null) || 
+                 (this.firstPageCpc!=null &&
+                  this.firstPageCpc.equals(other.getFirstPageCpc()))) &&
+                ((this.topOfPageCpc==null && other.getTopOfPageCpc()==null) || 
+                 (this.topOfPageCpc!=null &&
+                  this.topOfPageCpc.equals(other.getTopOfPageCpc()))) &&
+                ((this.firstPositionCpc==null && other.getFirstPositionCpc()==null) || 
+                 (this.firstPositionCpc!=null &&
+                  this.firstPositionCpc.equals(other.getFirstPositionCpc()))) &&
+                ((this.qualityInfo==null && other.getQualityInfo()==null) || 
+                 (this.qualityInfo!=null &&
+                  this.qualityInfo.equals(other.getQualityInfo()))) &&
+                ((this.biddingStrategyConfiguration==null && other.getBiddingStrategyConfiguration()==null) || 
+                 (this.biddingStrategyConfiguration!=null &&
+                  this.biddingStrategyConfiguration.equals(other.getBiddingStrategyConfiguration()))) &&
+                ((this.bidModifier==null && other.getBidModifier()==null) || 
+                 (this.bidModifier!=null &&
+                  this.bidModifier.equals(other.getBidModifier()))) &&
+                ((this.finalUrls==null && other.getFinalUrls()==null) || 
+                 (this.finalUrls!=null &&
+                  this.finalUrls.equals(other.getFinalUrls()))) &&
+                ((this.finalMobileUrls==null && other.getFinalMobileUrls()==null) || 
+                 (this.finalMobileUrls!=null &&
+                  this.finalMobileUrls.equals(other.getFinalMobileUrls()))) &&
+                ((this.finalAppUrls==null && other.getFinalAppUrls()==null) || 
+                 (this.finalAppUrls!=null &&
+                  this.finalAppUrls.equals(other.getFinalAppUrls()))) &&
+                ((this.trackingUrlTemplate==null && other.getTrackingUrlTemplate()==null) || 
+                 (this.trackingUrlTemplate!=null &&
+                  this.trackingUrlTemplate.equals(other.getTrackingUrlTemplate()))) &&
+                ((this.urlCustomParameters==null && other.getUrlCustomParameters()==null) || 
+                 (this.urlCustomParameters!=null &&
+                  this.urlCustomParameters.equals(other.getUrlCustomParameters())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
         }
-        if (getApprovalStatus() != null) {
-            _hashCode += getApprovalStatus().hashCode();
+    }
+
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(BiddableAdGroupCriterion.class, this)) {
+            return 0;
         }
-        if (getDisapprovalReasons() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getDisapprovalReasons());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getDisapprovalReasons(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+        try {
+            int _hashCode = super.hashCode();
+            if (getUserStatus() != null) {
+                _hashCode += getUserStatus().hashCode();
+            }
+            if (getSystemServingStatus() != null) {
+                _hashCode += getSystemServingStatus().hashCode();
+            }
+            if (getApprovalStatus() != null) {
+                _hashCode += getApprovalStatus().hashCode();
+            }
+            if (getDisapprovalReasons() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getDisapprovalReasons());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getDisapprovalReasons(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
+            if (getDestinationUrl() != null) {
+                _hashCode += getDestinationUrl().hashCode();
+            }
+            if (getExperimentData() != null) {
+                _hashCode += getExperimentData().hashCode();
+            }
+            if (getFirstPageCpc() != null) {
+                _hashCode += getFirstPageCpc().hashCode();
+            }
+            if (getTopOfPageCpc() != null) {
+                _hashCode += getTopOfPageCpc().hashCode();
+            }
+            if (getFirstPositionCpc() != null) {
+                _hashCode += getFirstPositionCpc().hashCode();
+            }
+            if (getQualityInfo() != null) {
+                _hashCode += getQualityInfo().hashCode();
+            }
+            if (getBiddingStrategyConfiguration() != null) {
+                _hashCode += getBiddingStrategyConfiguration().hashCode();
+            }
+            if (getBidModifier() != null) {
+                _hashCode += getBidModifier().hashCode();
+            }
+            if (getFinalUrls() != null) {
+                _hashCode += getFinalUrls().hashCode();
+            }
+            if (getFinalMobileUrls() != null) {
+                _hashCode += getFinalMobileUrls().hashCode();
+            }
+            if (getFinalAppUrls() != null) {
+                _hashCode += getFinalAppUrls().hashCode();
+            }
+            if (getTrackingUrlTemplate() != null) {
+                _hashCode += getTrackingUrlTemplate().hashCode();
+            }
+            if (getUrlCustomParameters() != null) {
+                _hashCode += getUrlCustomParameters().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        if (getDestinationUrl() != null) {
-            _hashCode += getDestinationUrl().hashCode();
-        }
-        if (getExperimentData() != null) {
-            _hashCode += getExperimentData().hashCode();
-        }
-        if (getFirstPageCpc() != null) {
-            _hashCode += getFirstPageCpc().hashCode();
-        }
-        if (getTopOfPageCpc() != null) {
-            _hashCode += getTopOfPageCpc().hashCode();
-        }
-        if (getFirstPositionCpc() != null) {
-            _hashCode += getFirstPositionCpc().hashCode();
-        }
-        if (getQualityInfo() != null) {
-            _hashCode += getQualityInfo().hashCode();
-        }
-        if (getBiddingStrategyConfiguration() != null) {
-            _hashCode += getBiddingStrategyConfiguration().hashCode();
-        }
-        if (getBidModifier() != null) {
-            _hashCode += getBidModifier().hashCode();
-        }
-        if (getFinalUrls() != null) {
-            _hashCode += getFinalUrls().hashCode();
-        }
-        if (getFinalMobileUrls() != null) {
-            _hashCode += getFinalMobileUrls().hashCode();
-        }
-        if (getFinalAppUrls() != null) {
-            _hashCode += getFinalAppUrls().hashCode();
-        }
-        if (getTrackingUrlTemplate() != null) {
-            _hashCode += getTrackingUrlTemplate().hashCode();
-        }
-        if (getUrlCustomParameters() != null) {
-            _hashCode += getUrlCustomParameters().hashCode();
-        }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(BiddableAdGroupCriterion.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(BiddableAdGroupCriterion.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://adwords.google.com/api/adwords/cm/v201605", "BiddableAdGroupCriterion"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("userStatus");
@@ -904,13 +909,24 @@ public class BiddableAdGroupCriterion  extends com.google.api.ads.adwords.axis.v
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (BiddableAdGroupCriterion.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -922,7 +938,7 @@ public class BiddableAdGroupCriterion  extends com.google.api.ads.adwords.axis.v
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -934,7 +950,7 @@ public class BiddableAdGroupCriterion  extends com.google.api.ads.adwords.axis.v
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
@@ -159,62 +159,67 @@ public class BiddableAdGroupCriterionExperimentData  implements java.io.Serializ
         this.experimentBidMultiplier = experimentBidMultiplier;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof BiddableAdGroupCriterionExperimentData)) return false;
         BiddableAdGroupCriterionExperimentData other = (BiddableAdGroupCriterionExperimentData) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(BiddableAdGroupCriterionExperimentData.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = true && 
-            ((this.experimentId==null && other.getExperimentId()==null) || 
-             (this.experimentId!=null &&
-              this.experimentId.equals(other.getExperimentId()))) &&
-            ((this.experimentDeltaStatus==null && other.getExperimentDeltaStatus()==null) || 
-             (this.experimentDeltaStatus!=null &&
-              this.experimentDeltaStatus.equals(other.getExperimentDeltaStatus()))) &&
-            ((this.experimentDataStatus==null && other.getExperimentDataStatus()==null) || 
-             (this.experimentDataStatus!=null &&
-              this.experimentDataStatus.equals(other.getExperimentDataStatus()))) &&
-            ((this.experimentBidMultiplier==null && other.getExperimentBidMultiplier()==null) || 
-             (this.experimentBidMultiplier!=null &&
-              this.experimentBidMultiplier.equals(other.getExperimentBidMultiplier())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = true && 
+                ((this.experimentId==null && other.getExperimentId()==null) || 
+                 (this.experimentId!=null &&
+                  this.experimentId.equals(other.getExperimentId()))) &&
+                ((this.experimentDeltaStatus==null && other.getExperimentDeltaStatus()==null) || 
+                 (this.experimentDeltaStatus!=null &&
+                  this.experimentDeltaStatus.equals(other.getExperimentDeltaStatus()))) &&
+                ((this.experimentDataStatus==null && other.getExperimentDataStatus()==null) || 
+                 (this.experimentDataStatus!=null &&
+                  this.experimentDataStatus.equals(other.getExperimentDataStatus()))) &&
+                ((this.experimentBidMultiplier==null && other.getExperimentBidMultiplier()==null) || 
+                 (this.experimentBidMultiplier!=null &&
+                  this.experimentBidMultiplier.equals(other.getExperimentBidMultiplier())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(BiddableAdGroupCriterionExperimentData.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getExperimentId() != null) {
-            _hashCode += getExperimentId().hashCode();
-        }
-        if (getExperimentDeltaStatus() != null) {
-            _hashCode += getExperimentDeltaStatus().hashCode();
-        }
-        if (getExperimentDataStatus() != null) {
-            _hashCode += getExperimentDataStatus().hashCode();
-        }
-        if (getExperimentBidMultiplier() != null) {
-            _hashCode += getExperimentBidMultiplier().hashCode();
+        try {
+            int _hashCode = 1;
+            if (getExperimentId() != null) {
+                _hashCode += getExperimentId().hashCode();
+            }
+            if (getExperimentDeltaStatus() != null) {
+                _hashCode += getExperimentDeltaStatus().hashCode();
+            }
+            if (getExperimentDataStatus() != null) {
+                _hashCode += getExperimentDataStatus().hashCode();
+            }
+            if (getExperimentBidMultiplier() != null) {
+                _hashCode += getExperimentBidMultiplier().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(BiddableAdGroupCriterionExperimentData.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(BiddableAdGroupCriterionExperimentData.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://adwords.google.com/api/adwords/cm/v201605", "BiddableAdGroupCriterionExperimentData"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("experimentId");
@@ -244,13 +249,24 @@ public class BiddableAdGroupCriterionExperimentData  implements java.io.Serializ
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (BiddableAdGroupCriterionExperimentData.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -262,7 +278,7 @@ public class BiddableAdGroupCriterionExperimentData  implements java.io.Serializ
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -274,7 +290,7 @@ public class BiddableAdGroupCriterionExperimentData  implements java.io.Serializ
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
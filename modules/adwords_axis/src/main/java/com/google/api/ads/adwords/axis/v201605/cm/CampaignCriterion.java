@@ -255,88 +255,93 @@ public class CampaignCriterion  implements java.io.Serializable {
         this.campaignCriterionType = campaignCriterionType;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof CampaignCriterion)) return false;
         CampaignCriterion other = (CampaignCriterion) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(CampaignCriterion.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = true &&
-            ((this.campaignId==null && other.getCampaignId()==null) ||
-             (this.campaignId!=null &&
-              this.campaignId.equals(other.getCampaignId()))) &&
-            ((this.isNegative==null && other.getIsNegative()==null) ||
-             (this.isNegative!=null &&
-              this.isNegative.equals(other.getIsNegative()))) &&
-            ((this.criterion==null && other.getCriterion()==null) ||
-             (this.criterion!=null &&
-              this.criterion.equals(other.getCriterion()))) &&
-            ((this.bidModifier==null && other.getBidModifier()==null) ||
-             (this.bidModifier!=null &&
-              this.bidModifier.equals(other.getBidModifier()))) &&
-            ((this.baseCampaignId==null && other.getBaseCampaignId()==null) ||
-             (this.baseCampaignId!=null &&
-              this.baseCampaignId.equals(other.getBaseCampaignId()))) &&
-            ((this.forwardCompatibilityMap==null && other.getForwardCompatibilityMap()==null) ||
-             (this.forwardCompatibilityMap!=null &&
-              java.util.Arrays.equals(this.forwardCompatibilityMap, other.getForwardCompatibilityMap()))) &&
-            ((this.campaignCriterionType==null && other.getCampaignCriterionType()==null) ||
-             (this.campaignCriterionType!=null &&
-              this.campaignCriterionType.equals(other.getCampaignCriterionType())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = true &&
+                ((this.campaignId==null && other.getCampaignId()==null) ||
+                 (this.campaignId!=null &&
+                  this.campaignId.equals(other.getCampaignId()))) &&
+                ((this.isNegative==null && other.getIsNegative()==null) ||
+                 (this.isNegative!=null &&
+                  this.isNegative.equals(other.getIsNegative()))) &&
+                ((this.criterion==null && other.getCriterion()==null) ||
+                 (this.criterion!=null &&
+                  this.criterion.equals(other.getCriterion()))) &&
+                ((this.bidModifier==null && other.getBidModifier()==null) ||
+                 (this.bidModifier!=null &&
+                  this.bidModifier.equals(other.getBidModifier()))) &&
+                ((this.baseCampaignId==null && other.getBaseCampaignId()==null) ||
+                 (this.baseCampaignId!=null &&
+                  this.baseCampaignId.equals(other.getBaseCampaignId()))) &&
+                ((this.forwardCompatibilityMap==null && other.getForwardCompatibilityMap()==null) ||
+                 (this.forwardCompatibilityMap!=null &&
+                  java.util.Arrays.equals(this.forwardCompatibilityMap, other.getForwardCompatibilityMap()))) &&
+                ((this.campaignCriterionType==null && other.getCampaignCriterionType()==null) ||
+                 (this.campaignCriterionType!=null &&
+                  this.campaignCriterionType.equals(other.getCampaignCriterionType())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(CampaignCriterion.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getCampaignId() != null) {
-            _hashCode += getCampaignId().hashCode();
-        }
-        if (getIsNegative() != null) {
-            _hashCode += getIsNegative().hashCode();
-        }
-        if (getCriterion() != null) {
-            _hashCode += getCriterion().hashCode();
-        }
-        if (getBidModifier() != null) {
-            _hashCode += getBidModifier().hashCode();
-        }
-        if (getBaseCampaignId() != null) {
-            _hashCode += getBaseCampaignId().hashCode();
-        }
-        if (getForwardCompatibilityMap() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getForwardCompatibilityMap());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getForwardCompatibilityMap(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+        try {
+            int _hashCode = 1;
+            if (getCampaignId() != null) {
+                _hashCode += getCampaignId().hashCode();
+            }
+            if (getIsNegative() != null) {
+                _hashCode += getIsNegative().hashCode();
+            }
+            if (getCriterion() != null) {
+                _hashCode += getCriterion().hashCode();
+            }
+            if (getBidModifier() != null) {
+                _hashCode += getBidModifier().hashCode();
+            }
+            if (getBaseCampaignId() != null) {
+                _hashCode += getBaseCampaignId().hashCode();
+            }
+            if (getForwardCompatibilityMap() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getForwardCompatibilityMap());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getForwardCompatibilityMap(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
+            if (getCampaignCriterionType() != null) {
+                _hashCode += getCampaignCriterionType().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        if (getCampaignCriterionType() != null) {
-            _hashCode += getCampaignCriterionType().hashCode();
-        }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(CampaignCriterion.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(CampaignCriterion.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://adwords.google.com/api/adwords/cm/v201605", "CampaignCriterion"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("campaignId");
@@ -388,13 +393,24 @@ public class CampaignCriterion  implements java.io.Serializable {
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (CampaignCriterion.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -406,7 +422,7 @@ public class CampaignCriterion  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -418,7 +434,7 @@ public class CampaignCriterion  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
@@ -142,56 +142,61 @@ public class CampaignExtensionSetting  implements java.io.Serializable {
         this.extensionSetting = extensionSetting;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof CampaignExtensionSetting)) return false;
         CampaignExtensionSetting other = (CampaignExtensionSetting) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(CampaignExtensionSetting.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = true && 
-            ((this.campaignId==null && other.getCampaignId()==null) || 
-             (this.campaignId!=null &&
-              this.campaignId.equals(other.getCampaignId()))) &&
-            ((this.extensionType==null && other.getExtensionType()==null) || 
-             (this.extensionType!=null &&
-              this.extensionType.equals(other.getExtensionType()))) &&
-            ((this.extensionSetting==null && other.getExtensionSetting()==null) || 
-             (this.extensionSetting!=null &&
-              this.extensionSetting.equals(other.getExtensionSetting())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = true && 
+                ((this.campaignId==null && other.getCampaignId()==null) || 
+                 (this.campaignId!=null &&
+                  this.campaignId.equals(other.getCampaignId()))) &&
+                ((this.extensionType==null && other.getExtensionType()==null) || 
+                 (this.extensionType!=null &&
+                  this.extensionType.equals(other.getExtensionType()))) &&
+                ((this.extensionSetting==null && other.getExtensionSetting()==null) || 
+                 (this.extensionSetting!=null &&
+                  this.extensionSetting.equals(other.getExtensionSetting())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(CampaignExtensionSetting.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getCampaignId() != null) {
-            _hashCode += getCampaignId().hashCode();
-        }
-        if (getExtensionType() != null) {
-            _hashCode += getExtensionType().hashCode();
-        }
-        if (getExtensionSetting() != null) {
-            _hashCode += getExtensionSetting().hashCode();
+        try {
+            int _hashCode = 1;
+            if (getCampaignId() != null) {
+                _hashCode += getCampaignId().hashCode();
+            }
+            if (getExtensionType() != null) {
+                _hashCode += getExtensionType().hashCode();
+            }
+            if (getExtensionSetting() != null) {
+                _hashCode += getExtensionSetting().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(CampaignExtensionSetting.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(CampaignExtensionSetting.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://adwords.google.com/api/adwords/cm/v201605", "CampaignExtensionSetting"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("campaignId");
@@ -214,13 +219,24 @@ public class CampaignExtensionSetting  implements java.io.Serializable {
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (CampaignExtensionSetting.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -232,7 +248,7 @@ public class CampaignExtensionSetting  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -244,7 +260,7 @@ public class CampaignExtensionSetting  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
@@ -304,82 +304,87 @@ public class CampaignFeed  implements java.io.Serializable {
         this.baseCampaignId = baseCampaignId;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof CampaignFeed)) return false;
         CampaignFeed other = (CampaignFeed) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(CampaignFeed.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = true && 
-            ((this.feedId==null && other.getFeedId()==null) || 
-             (this.feedId!=null &&
-              this.feedId.equals(other.getFeedId()))) &&
-            ((this.campaignId==null && other.getCampaignId()==null) || 
-             (this.campaignId!=null &&
-              this.campaignId.equals(other.getCampaignId()))) &&
-            ((this.matchingFunction==null && other.getMatchingFunction()==null) || 
-             (this.matchingFunction!=null &&
-              this.matchingFunction.equals(other.getMatchingFunction()))) &&
-            ((this.placeholderTypes==null && other.getPlaceholderTypes()==null) || 
-             (this.placeholderTypes!=null &&
-              java.util.Arrays.equals(this.placeholderTypes, other.getPlaceholderTypes()))) &&
-            ((this.status==null && other.getStatus()==null) || 
-             (this.status!=null &&
-              this.status.equals(other.getStatus()))) &&
-            ((this.baseCampaignId==null && other.getBaseCampaignId()==null) || 
-             (this.baseCampaignId!=null &&
-              this.baseCampaignId.equals(other.getBaseCampaignId())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = true && 
+                ((this.feedId==null && other.getFeedId()==null) || 
+                 (this.feedId!=null &&
+                  this.feedId.equals(other.getFeedId()))) &&
+                ((this.campaignId==null && other.getCampaignId()==null) || 
+                 (this.campaignId!=null &&
+                  this.campaignId.equals(other.getCampaignId()))) &&
+                ((this.matchingFunction==null && other.getMatchingFunction()==null) || 
+                 (this.matchingFunction!=null &&
+                  this.matchingFunction.equals(other.getMatchingFunction()))) &&
+                ((this.placeholderTypes==null && other.getPlaceholderTypes()==null) || 
+                 (this.placeholderTypes!=null &&
+                  java.util.Arrays.equals(this.placeholderTypes, other.getPlaceholderTypes()))) &&
+                ((this.status==null && other.getStatus()==null) || 
+                 (this.status!=null &&
+                  this.status.equals(other.getStatus()))) &&
+                ((this.baseCampaignId==null && other.getBaseCampaignId()==null) || 
+                 (this.baseCampaignId!=null &&
+                  this.baseCampaignId.equals(other.getBaseCampaignId())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(CampaignFeed.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getFeedId() != null) {
-            _hashCode += getFeedId().hashCode();
-        }
-        if (getCampaignId() != null) {
-            _hashCode += getCampaignId().hashCode();
-        }
-        if (getMatchingFunction() != null) {
-            _hashCode += getMatchingFunction().hashCode();
-        }
-        if (getPlaceholderTypes() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getPlaceholderTypes());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getPlaceholderTypes(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+        try {
+            int _hashCode = 1;
+            if (getFeedId() != null) {
+                _hashCode += getFeedId().hashCode();
+            }
+            if (getCampaignId() != null) {
+                _hashCode += getCampaignId().hashCode();
+            }
+            if (getMatchingFunction() != null) {
+                _hashCode += getMatchingFunction().hashCode();
+            }
+            if (getPlaceholderTypes() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getPlaceholderTypes());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getPlaceholderTypes(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
+            if (getStatus() != null) {
+                _hashCode += getStatus().hashCode();
+            }
+            if (getBaseCampaignId() != null) {
+                _hashCode += getBaseCampaignId().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        if (getStatus() != null) {
-            _hashCode += getStatus().hashCode();
-        }
-        if (getBaseCampaignId() != null) {
-            _hashCode += getBaseCampaignId().hashCode();
-        }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(CampaignFeed.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(CampaignFeed.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://adwords.google.com/api/adwords/cm/v201605", "CampaignFeed"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("feedId");
@@ -424,13 +429,24 @@ public class CampaignFeed  implements java.io.Serializable {
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (CampaignFeed.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -442,7 +458,7 @@ public class CampaignFeed  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -454,7 +470,7 @@ public class CampaignFeed  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
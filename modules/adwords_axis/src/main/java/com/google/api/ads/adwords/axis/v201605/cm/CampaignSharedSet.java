@@ -267,74 +267,79 @@ public class CampaignSharedSet  implements java.io.Serializable {
         this.status = status;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof CampaignSharedSet)) return false;
         CampaignSharedSet other = (CampaignSharedSet) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(CampaignSharedSet.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = true && 
-            ((this.sharedSetId==null && other.getSharedSetId()==null) || 
-             (this.sharedSetId!=null &&
-              this.sharedSetId.equals(other.getSharedSetId()))) &&
-            ((this.campaignId==null && other.getCampaignId()==null) || 
-             (this.campaignId!=null &&
-              this.campaignId.equals(other.getCampaignId()))) &&
-            ((this.sharedSetName==null && other.getSharedSetName()==null) || 
-             (this.sharedSetName!=null &&
-              this.sharedSetName.equals(other.getSharedSetName()))) &&
-            ((this.sharedSetType==null && other.getSharedSetType()==null) || 
-             (this.sharedSetType!=null &&
-              this.sharedSetType.equals(other.getSharedSetType()))) &&
-            ((this.campaignName==null && other.getCampaignName()==null) || 
-             (this.campaignName!=null &&
-              this.campaignName.equals(other.getCampaignName()))) &&
-            ((this.status==null && other.getStatus()==null) || 
-             (this.status!=null &&
-              this.status.equals(other.getStatus())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = true && 
+                ((this.sharedSetId==null && other.getSharedSetId()==null) || 
+                 (this.sharedSetId!=null &&
+                  this.sharedSetId.equals(other.getSharedSetId()))) &&
+                ((this.campaignId==null && other.getCampaignId()==null) || 
+                 (this.campaignId!=null &&
+                  this.campaignId.equals(other.getCampaignId()))) &&
+                ((this.sharedSetName==null && other.getSharedSetName()==null) || 
+                 (this.sharedSetName!=null &&
+                  this.sharedSetName.equals(other.getSharedSetName()))) &&
+                ((this.sharedSetType==null && other.getSharedSetType()==null) || 
+                 (this.sharedSetType!=null &&
+                  this.sharedSetType.equals(other.getSharedSetType()))) &&
+                ((this.campaignName==null && other.getCampaignName()==null) || 
+                 (this.campaignName!=null &&
+                  this.campaignName.equals(other.getCampaignName()))) &&
+                ((this.status==null && other.getStatus()==null) || 
+                 (this.status!=null &&
+                  this.status.equals(other.getStatus())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(CampaignSharedSet.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getSharedSetId() != null) {
-            _hashCode += getSharedSetId().hashCode();
-        }
-        if (getCampaignId() != null) {
-            _hashCode += getCampaignId().hashCode();
-        }
-        if (getSharedSetName() != null) {
-            _hashCode += getSharedSetName().hashCode();
-        }
-        if (getSharedSetType() != null) {
-            _hashCode += getSharedSetType().hashCode();
-        }
-        if (getCampaignName() != null) {
-            _hashCode += getCampaignName().hashCode();
+        try {
+            int _hashCode = 1;
+            if (getSharedSetId() != null) {
+                _hashCode += getSharedSetId().hashCode();
+            }
+            if (getCampaignId() != null) {
+                _hashCode += getCampaignId().hashCode();
+            }
+            if (getSharedSetName() != null) {
+                _hashCode += getSharedSetName().hashCode();
+            }
+            if (getSharedSetType() != null) {
+                _hashCode += getSharedSetType().hashCode();
+            }
+            if (getCampaignName() != null) {
+                _hashCode += getCampaignName().hashCode();
+            }
+            if (getStatus() != null) {
+                _hashCode += getStatus().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        if (getStatus() != null) {
-            _hashCode += getStatus().hashCode();
-        }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(CampaignSharedSet.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(CampaignSharedSet.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://adwords.google.com/api/adwords/cm/v201605", "CampaignSharedSet"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("sharedSetId");
@@ -378,13 +383,24 @@ public class CampaignSharedSet  implements java.io.Serializable {
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (CampaignSharedSet.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -396,7 +412,7 @@ public class CampaignSharedSet  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -408,7 +424,7 @@ public class CampaignSharedSet  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
@@ -135,50 +135,55 @@ public class ConversionOptimizerBiddingScheme  extends com.google.api.ads.adword
         this.bidType = bidType;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof ConversionOptimizerBiddingScheme)) return false;
         ConversionOptimizerBiddingScheme other = (ConversionOptimizerBiddingScheme) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(ConversionOptimizerBiddingScheme.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = super.equals(obj) && 
-            ((this.pricingMode==null && other.getPricingMode()==null) || 
-             (this.pricingMode!=null &&
-              this.pricingMode.equals(other.getPricingMode()))) &&
-            ((this.bidType==null && other.getBidType()==null) || 
-             (this.bidType!=null &&
-              this.bidType.equals(other.getBidType())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = super.equals(obj) && 
+                ((this.pricingMode==null && other.getPricingMode()==null) || 
+                 (this.pricingMode!=null &&
+                  this.pricingMode.equals(other.getPricingMode()))) &&
+                ((this.bidType==null && other.getBidType()==null) || 
+                 (this.bidType!=null &&
+                  this.bidType.equals(other.getBidType())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(ConversionOptimizerBiddingScheme.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = super.hashCode();
-        if (getPricingMode() != null) {
-            _hashCode += getPricingMode().hashCode();
-        }
-        if (getBidType() != null) {
-            _hashCode += getBidType().hashCode();
+        try {
+            int _hashCode = super.hashCode();
+            if (getPricingMode() != null) {
+                _hashCode += getPricingMode().hashCode();
+            }
+            if (getBidType() != null) {
+                _hashCode += getBidType().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(ConversionOptimizerBiddingScheme.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(ConversionOptimizerBiddingScheme.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://adwords.google.com/api/adwords/cm/v201605", "ConversionOptimizerBiddingScheme"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("pricingMode");
@@ -194,13 +199,24 @@ public class ConversionOptimizerBiddingScheme  extends com.google.api.ads.adword
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (ConversionOptimizerBiddingScheme.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -212,7 +228,7 @@ public class ConversionOptimizerBiddingScheme  extends com.google.api.ads.adword
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -224,7 +240,7 @@ public class ConversionOptimizerBiddingScheme  extends com.google.api.ads.adword
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
@@ -954,134 +954,139 @@ public abstract class ConversionTracker  implements java.io.Serializable {
         this.conversionTrackerType = conversionTrackerType;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof ConversionTracker)) return false;
         ConversionTracker other = (ConversionTracker) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(ConversionTracker.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = true && 
-            ((this.id==null && other.getId()==null) || 
-             (this.id!=null &&
-              this.id.equals(other.getId()))) &&
-            ((this.originalConversionTypeId==null && other.getOriginalConversionTypeId()==null) || 
-             (this.originalConversionTypeId!=null &&
-              this.originalConversionTypeId.equals(other.getOriginalConversionTypeId()))) &&
-            ((this.name==null && other.getName()==null) || 
-             (this.name!=null &&
-              this.name.equals(other.getName()))) &&
-            ((this.status==null && other.getStatus()==null) || 
-             (this.status!=null &&
-              this.status.equals(other.getStatus()))) &&
-            ((this.category==null && other.getCategory()==null) || 
-             (this.category!=null &&
-              this.category.equals(other.getCategory()))) &&
-            ((this.conversionTypeOwnerCustomerId==null && other.getConversionTypeOwnerCustomerId()==null) || 
-             (this.conversionTypeOwnerCustomerId!=null &&
-              this.conversionTypeOwnerCustomerId.equals(other.getConversionTypeOwnerCustomerId()))) &&
-            ((this.viewthroughLookbackWindow==null && other.getViewthroughLookbackWindow()==null) || 
-             (this.viewthroughLookbackWindow!=null &&
-              this.viewthroughLookbackWindow.equals(other.getViewthroughLookbackWindow()))) &&
-            ((this.ctcLookbackWindow==null && other.getCtcLookbackWindow()==null) || 
-             (this.ctcLookbackWindow!=null &&
-              this.ctcLookbackWindow.equals(other.getCtcLookbackWindow()))) &&
-            ((this.countingType==null && other.getCountingType()==null) || 
-             (this.countingType!=null &&
-              this.countingType.equals(other.getCountingType()))) &&
-            ((this.defaultRevenueValue==null && other.getDefaultRevenueValue()==null) || 
-             (this.defaultRevenueValue!=null &&
-              this.defaultRevenueValue.equals(other.getDefaultRevenueValue()))) &&
-            ((this.defaultRevenueCurrencyCode==null && other.getDefaultRevenueCurrencyCode()==null) || 
-             (this.defaultRevenueCurrencyCode!=null &&
-              this.defaultRevenueCurrencyCode.equals(other.getDefaultRevenueCurrencyCode()))) &&
-            ((this.alwaysUseDefaultRevenueValue==null && other.getAlwaysUseDefaultRevenueValue()==null) || 
-             (this.alwaysUseDefaultRevenueValue!=null &&
-              this.alwaysUseDefaultRevenueValue.equals(other.getAlwaysUseDefaultRevenueValue()))) &&
-            ((this.excludeFromBidding==null && other.getExcludeFromBidding()==null) || 
-             (this.excludeFromBidding!=null &&
-              this.excludeFromBidding.equals(other.getExcludeFromBidding()))) &&
-            ((this.mostRecentConversionDate==null && other.getMostRecentConversionDate()==null) || 
-             (this.mostRecentConversionDate!=null &&
-              this.mostRecentConversionDate.equals(other.getMostRecentConversionDate()))) &&
-            ((this.lastReceivedRequestTime==null && other.getLastReceivedRequestTime()==null) || 
-             (this.lastReceivedRequestTime!=null &&
-              this.lastReceivedRequestTime.equals(other.getLastReceivedRequestTime()))) &&
-            ((this.conversionTrackerType==null && other.getConversionTrackerType()==null) || 
-             (this.conversionTrackerType!=null &&
-              this.conversionTrackerType.equals(other.getConversionTrackerType())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = true && 
+                ((this.id==null && other.getId()==null) || 
+                 (this.id!=null &&
+                  this.id.equals(other.getId()))) &&
+                ((this.originalConversionTypeId==null && other.getOriginalConversionTypeId()==null) || 
+                 (this.originalConversionTypeId!=null &&
+                  this.originalConversionTypeId.equals(other.getOriginalConversionTypeId()))) &&
+                ((this.name==null && other.getName()==null) || 
+                 (this.name!=null &&
+                  this.name.equals(other.getName()))) &&
+                ((this.status==null && other.getStatus()==null) || 
+                 (this.status!=null &&
+                  this.status.equals(other.getStatus()))) &&
+                ((this.category==null && other.getCategory()==null) || 
+                 (this.category!=null &&
+                  this.category.equals(other.getCategory()))) &&
+                ((this.conversionTypeOwnerCustomerId==null && other.getConversionTypeOwnerCustomerId()==null) || 
+                 (this.conversionTypeOwnerCustomerId!=null &&
+                  this.conversionTypeOwnerCustomerId.equals(other.getConversionTypeOwnerCustomerId()))) &&
+                ((this.viewthroughLookbackWindow==null && other.getViewthroughLookbackWindow()==null) || 
+                 (this.viewthroughLookbackWindow!=null &&
+                  this.viewthroughLookbackWindow.equals(other.getViewthroughLookbackWindow()))) &&
+                ((this.ctcLookbackWindow==null && other.getCtcLookbackWindow()==null) || 
+                 (this.ctcLookbackWindow!=null &&
+                  this.ctcLookbackWindow.equals(other.getCtcLookbackWindow()))) &&
+                ((this.countingType==null && other.getCountingType()==null) || 
+                 (this.countingType!=null &&
+                  this.countingType.equals(other.getCountingType()))) &&
+                ((this.defaultRevenueValue==null && other.getDefaultRevenueValue()==null) || 
+                 (this.defaultRevenueValue!=null &&
+                  this.defaultRevenueValue.equals(other.getDefaultRevenueValue()))) &&
+                ((this.defaultRevenueCurrencyCode==null && other.getDefaultRevenueCurrencyCode()==null) || 
+                 (this.defaultRevenueCurrencyCode!=null &&
+                  this.defaultRevenueCurrencyCode.equals(other.getDefaultRevenueCurrencyCode()))) &&
+                ((this.alwaysUseDefaultRevenueValue==null && other.getAlwaysUseDefaultRevenueValue()==null) || 
+                 (this.alwaysUseDefaultRevenueValue!=null &&
+                  this.alwaysUseDefaultRevenueValue.equals(other.getAlwaysUseDefaultRevenueValue()))) &&
+                ((this.excludeFromBidding==null && other.getExcludeFromBidding()==null) || 
+                 (this.excludeFromBidding!=null &&
+                  this.excludeFromBidding.equals(other.getExcludeFromBidding()))) &&
+                ((this.mostRecentConversionDate==null && other.getMostRecentConversionDate()==null) || 
+                 (this.mostRecentConversionDate!=null &&
+                  this.mostRecentConversionDate.equals(other.getMostRecentConversionDate()))) &&
+                ((this.lastReceivedRequestTime==null && other.getLastReceivedRequestTime()==null) || 
+                 (this.lastReceivedRequestTime!=null &&
+                  this.lastReceivedRequestTime.equals(other.getLastReceivedRequestTime()))) &&
+                ((this.conversionTrackerType==null && other.getConversionTrackerType()==null) || 
+                 (this.conversionTrackerType!=null &&
+                  this.conversionTrackerType.equals(other.getConversionTrackerType())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(ConversionTracker.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getId() != null) {
-            _hashCode += getId().hashCode();
-        }
-        if (getOriginalConversionTypeId() != null) {
-            _hashCode += getOriginalConversionTypeId().hashCode();
-        }
-        if (getName() != null) {
-            _hashCode += getName().hashCode();
-        }
-        if (getStatus() != null) {
-            _hashCode += getStatus().hashCode();
-        }
-        if (getCategory() != null) {
-            _hashCode += getCategory().hashCode();
-        }
-        if (getConversionTypeOwnerCustomerId() != null) {
-            _hashCode += getConversionTypeOwnerCustomerId().hashCode();
-        }
-        if (getViewthroughLookbackWindow() != null) {
-            _hashCode += getViewthroughLookbackWindow().hashCode();
-        }
-        if (getCtcLookbackWindow() != null) {
-            _hashCode += getCtcLookbackWindow().hashCode();
-        }
-        if (getCountingType() != null) {
-            _hashCode += getCountingType().hashCode();
-        }
-        if (getDefaultRevenueValue() != null) {
-            _hashCode += getDefaultRevenueValue().hashCode();
+        try {
+            int _hashCode = 1;
+            if (getId() != null) {
+                _hashCode += getId().hashCode();
+            }
+            if (getOriginalConversionTypeId() != null) {
+                _hashCode += getOriginalConversionTypeId().hashCode();
+            }
+            if (getName() != null) {
+                _hashCode += getName().hashCode();
+            }
+            if (getStatus() != null) {
+                _hashCode += getStatus().hashCode();
+            }
+            if (getCategory() != null) {
+                _hashCode += getCategory().hashCode();
+            }
+            if (getConversionTypeOwnerCustomerId() != null) {
+                _hashCode += getConversionTypeOwnerCustomerId().hashCode();
+            }
+            if (getViewthroughLookbackWindow() != null) {
+                _hashCode += getViewthroughLookbackWindow().hashCode();
+            }
+            if (getCtcLookbackWindow() != null) {
+                _hashCode += getCtcLookbackWindow().hashCode();
+            }
+            if (getCountingType() != null) {
+                _hashCode += getCountingType().hashCode();
+            }
+            if (getDefaultRevenueValue() != null) {
+                _hashCode += getDefaultRevenueValue().hashCode();
+            }
+            if (getDefaultRevenueCurrencyCode() != null) {
+                _hashCode += getDefaultRevenueCurrencyCode().hashCode();
+            }
+            if (getAlwaysUseDefaultRevenueValue() != null) {
+                _hashCode += getAlwaysUseDefaultRevenueValue().hashCode();
+            }
+            if (getExcludeFromBidding() != null) {
+                _hashCode += getExcludeFromBidding().hashCode();
+            }
+            if (getMostRecentConversionDate() != null) {
+                _hashCode += getMostRecentConversionDate().hashCode();
+            }
+            if (getLastReceivedRequestTime() != null) {
+                _hashCode += getLastReceivedRequestTime().hashCode();
+            }
+            if (getConversionTrackerType() != null) {
+                _hashCode += getConversionTrackerType().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        if (getDefaultRevenueCurrencyCode() != null) {
-            _hashCode += getDefaultRevenueCurrencyCode().hashCode();
-        }
-        if (getAlwaysUseDefaultRevenueValue() != null) {
-            _hashCode += getAlwaysUseDefaultRevenueValue().hashCode();
-        }
-        if (getExcludeFromBidding() != null) {
-            _hashCode += getExcludeFromBidding().hashCode();
-        }
-        if (getMostRecentConversionDate() != null) {
-            _hashCode += getMostRecentConversionDate().hashCode();
-        }
-        if (getLastReceivedRequestTime() != null) {
-            _hashCode += getLastReceivedRequestTime().hashCode();
-        }
-        if (getConversionTrackerType() != null) {
-            _hashCode += getConversionTrackerType().hashCode();
-        }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(ConversionTracker.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(ConversionTracker.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://adwords.google.com/api/adwords/cm/v201605", "ConversionTracker"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("id");
@@ -1195,13 +1200,24 @@ public abstract class ConversionTracker  implements java.io.Serializable {
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (ConversionTracker.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -1213,7 +1229,7 @@ public abstract class ConversionTracker  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -1225,7 +1241,7 @@ public abstract class ConversionTracker  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
@@ -115,50 +115,55 @@ public class CpcBid  extends com.google.api.ads.adwords.axis.v201605.cm.Bids  im
         this.cpcBidSource = cpcBidSource;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof CpcBid)) return false;
         CpcBid other = (CpcBid) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(CpcBid.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = super.equals(obj) && 
-            ((this.bid==null && other.getBid()==null) || 
-             (this.bid!=null &&
-              this.bid.equals(other.getBid()))) &&
-            ((this.cpcBidSource==null && other.getCpcBidSource()==null) || 
-             (this.cpcBidSource!=null &&
-              this.cpcBidSource.equals(other.getCpcBidSource())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = super.equals(obj) && 
+                ((this.bid==null && other.getBid()==null) || 
+                 (this.bid!=null &&
+                  this.bid.equals(other.getBid()))) &&
+                ((this.cpcBidSource==null && other.getCpcBidSource()==null) || 
+                 (this.cpcBidSource!=null &&
+                  this.cpcBidSource.equals(other.getCpcBidSource())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(CpcBid.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = super.hashCode();
-        if (getBid() != null) {
-            _hashCode += getBid().hashCode();
-        }
-        if (getCpcBidSource() != null) {
-            _hashCode += getCpcBidSource().hashCode();
+        try {
+            int _hashCode = super.hashCode();
+            if (getBid() != null) {
+                _hashCode += getBid().hashCode();
+            }
+            if (getCpcBidSource() != null) {
+                _hashCode += getCpcBidSource().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(CpcBid.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(CpcBid.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://adwords.google.com/api/adwords/cm/v201605", "CpcBid"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("bid");
@@ -174,13 +179,24 @@ public class CpcBid  extends com.google.api.ads.adwords.axis.v201605.cm.Bids  im
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (CpcBid.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -192,7 +208,7 @@ public class CpcBid  extends com.google.api.ads.adwords.axis.v201605.cm.Bids  im
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -204,7 +220,7 @@ public class CpcBid  extends com.google.api.ads.adwords.axis.v201605.cm.Bids  im
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
@@ -97,50 +97,55 @@ public class CpmBid  extends com.google.api.ads.adwords.axis.v201605.cm.Bids  im
         this.cpmBidSource = cpmBidSource;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof CpmBid)) return false;
         CpmBid other = (CpmBid) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(CpmBid.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = super.equals(obj) && 
-            ((this.bid==null && other.getBid()==null) || 
-             (this.bid!=null &&
-              this.bid.equals(other.getBid()))) &&
-            ((this.cpmBidSource==null && other.getCpmBidSource()==null) || 
-             (this.cpmBidSource!=null &&
-              this.cpmBidSource.equals(other.getCpmBidSource())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = super.equals(obj) && 
+                ((this.bid==null && other.getBid()==null) || 
+                 (this.bid!=null &&
+                  this.bid.equals(other.getBid()))) &&
+                ((this.cpmBidSource==null && other.getCpmBidSource()==null) || 
+                 (this.cpmBidSource!=null &&
+                  this.cpmBidSource.equals(other.getCpmBidSource())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(CpmBid.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = super.hashCode();
-        if (getBid() != null) {
-            _hashCode += getBid().hashCode();
-        }
-        if (getCpmBidSource() != null) {
-            _hashCode += getCpmBidSource().hashCode();
+        try {
+            int _hashCode = super.hashCode();
+            if (getBid() != null) {
+                _hashCode += getBid().hashCode();
+            }
+            if (getCpmBidSource() != null) {
+                _hashCode += getCpmBidSource().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(CpmBid.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(CpmBid.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://adwords.google.com/api/adwords/cm/v201605", "CpmBid"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("bid");
@@ -156,13 +161,24 @@ public class CpmBid  extends com.google.api.ads.adwords.axis.v201605.cm.Bids  im
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (CpmBid.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -174,7 +190,7 @@ public class CpmBid  extends com.google.api.ads.adwords.axis.v201605.cm.Bids  im
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -186,7 +202,7 @@ public class CpmBid  extends com.google.api.ads.adwords.axis.v201605.cm.Bids  im
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
@@ -101,50 +101,55 @@ public class CustomerExtensionSetting  implements java.io.Serializable {
         this.extensionSetting = extensionSetting;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof CustomerExtensionSetting)) return false;
         CustomerExtensionSetting other = (CustomerExtensionSetting) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(CustomerExtensionSetting.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = true && 
-            ((this.extensionType==null && other.getExtensionType()==null) || 
-             (this.extensionType!=null &&
-              this.extensionType.equals(other.getExtensionType()))) &&
-            ((this.extensionSetting==null && other.getExtensionSetting()==null) || 
-             (this.extensionSetting!=null &&
-              this.extensionSetting.equals(other.getExtensionSetting())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = true && 
+                ((this.extensionType==null && other.getExtensionType()==null) || 
+                 (this.extensionType!=null &&
+                  this.extensionType.equals(other.getExtensionType()))) &&
+                ((this.extensionSetting==null && other.getExtensionSetting()==null) || 
+                 (this.extensionSetting!=null &&
+                  this.extensionSetting.equals(other.getExtensionSetting())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(CustomerExtensionSetting.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getExtensionType() != null) {
-            _hashCode += getExtensionType().hashCode();
-        }
-        if (getExtensionSetting() != null) {
-            _hashCode += getExtensionSetting().hashCode();
+        try {
+            int _hashCode = 1;
+            if (getExtensionType() != null) {
+                _hashCode += getExtensionType().hashCode();
+            }
+            if (getExtensionSetting() != null) {
+                _hashCode += getExtensionSetting().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(CustomerExtensionSetting.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(CustomerExtensionSetting.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://adwords.google.com/api/adwords/cm/v201605", "CustomerExtensionSetting"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("extensionType");
@@ -160,13 +165,24 @@ public class CustomerExtensionSetting  implements java.io.Serializable {
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (CustomerExtensionSetting.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -178,7 +194,7 @@ public class CustomerExtensionSetting  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -190,7 +206,7 @@ public class CustomerExtensionSetting  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
@@ -218,70 +218,75 @@ public class CustomerFeed  implements java.io.Serializable {
         this.status = status;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof CustomerFeed)) return false;
         CustomerFeed other = (CustomerFeed) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(CustomerFeed.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = true && 
-            ((this.feedId==null && other.getFeedId()==null) || 
-             (this.feedId!=null &&
-              this.feedId.equals(other.getFeedId()))) &&
-            ((this.matchingFunction==null && other.getMatchingFunction()==null) || 
-             (this.matchingFunction!=null &&
-              this.matchingFunction.equals(other.getMatchingFunction()))) &&
-            ((this.placeholderTypes==null && other.getPlaceholderTypes()==null) || 
-             (this.placeholderTypes!=null &&
-              java.util.Arrays.equals(this.placeholderTypes, other.getPlaceholderTypes()))) &&
-            ((this.status==null && other.getStatus()==null) || 
-             (this.status!=null &&
-              this.status.equals(other.getStatus())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = true && 
+                ((this.feedId==null && other.getFeedId()==null) || 
+                 (this.feedId!=null &&
+                  this.feedId.equals(other.getFeedId()))) &&
+                ((this.matchingFunction==null && other.getMatchingFunction()==null) || 
+                 (this.matchingFunction!=null &&
+                  this.matchingFunction.equals(other.getMatchingFunction()))) &&
+                ((this.placeholderTypes==null && other.getPlaceholderTypes()==null) || 
+                 (this.placeholderTypes!=null &&
+                  java.util.Arrays.equals(this.placeholderTypes, other.getPlaceholderTypes()))) &&
+                ((this.status==null && other.getStatus()==null) || 
+                 (this.status!=null &&
+                  this.status.equals(other.getStatus())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(CustomerFeed.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getFeedId() != null) {
-            _hashCode += getFeedId().hashCode();
-        }
-        if (getMatchingFunction() != null) {
-            _hashCode += getMatchingFunction().hashCode();
-        }
-        if (getPlaceholderTypes() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getPlaceholderTypes());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getPlaceholderTypes(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+        try {
+            int _hashCode = 1;
+            if (getFeedId() != null) {
+                _hashCode += getFeedId().hashCode();
+            }
+            if (getMatchingFunction() != null) {
+                _hashCode += getMatchingFunction().hashCode();
+            }
+            if (getPlaceholderTypes() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getPlaceholderTypes());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getPlaceholderTypes(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
+            if (getStatus() != null) {
+                _hashCode += getStatus().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        if (getStatus() != null) {
-            _hashCode += getStatus().hashCode();
-        }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(CustomerFeed.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(CustomerFeed.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://adwords.google.com/api/adwords/cm/v201605", "CustomerFeed"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("feedId");
@@ -312,13 +317,24 @@ public class CustomerFeed  implements java.io.Serializable {
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (CustomerFeed.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -330,7 +346,7 @@ public class CustomerFeed  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -342,7 +358,7 @@ public class CustomerFeed  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
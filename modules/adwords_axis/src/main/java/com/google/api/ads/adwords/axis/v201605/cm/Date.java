@@ -107,56 +107,61 @@ public class Date  implements java.io.Serializable {
         this.day = day;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof Date)) return false;
         Date other = (Date) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(Date.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = true && 
-            ((this.year==null && other.getYear()==null) || 
-             (this.year!=null &&
-              this.year.equals(other.getYear()))) &&
-            ((this.month==null && other.getMonth()==null) || 
-             (this.month!=null &&
-              this.month.equals(other.getMonth()))) &&
-            ((this.day==null && other.getDay()==null) || 
-             (this.day!=null &&
-              this.day.equals(other.getDay())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = true && 
+                ((this.year==null && other.getYear()==null) || 
+                 (this.year!=null &&
+                  this.year.equals(other.getYear()))) &&
+                ((this.month==null && other.getMonth()==null) || 
+                 (this.month!=null &&
+                  this.month.equals(other.getMonth()))) &&
+                ((this.day==null && other.getDay()==null) || 
+                 (this.day!=null &&
+                  this.day.equals(other.getDay())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(Date.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getYear() != null) {
-            _hashCode += getYear().hashCode();
-        }
-        if (getMonth() != null) {
-            _hashCode += getMonth().hashCode();
-        }
-        if (getDay() != null) {
-            _hashCode += getDay().hashCode();
+        try {
+            int _hashCode = 1;
+            if (getYear() != null) {
+                _hashCode += getYear().hashCode();
+            }
+            if (getMonth() != null) {
+                _hashCode += getMonth().hashCode();
+            }
+            if (getDay() != null) {
+                _hashCode += getDay().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(Date.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(Date.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://adwords.google.com/api/adwords/cm/v201605", "Date"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("year");
@@ -179,13 +184,24 @@ public class Date  implements java.io.Serializable {
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (Date.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -197,7 +213,7 @@ public class Date  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -209,7 +225,7 @@ public class Date  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
@@ -370,80 +370,85 @@ public class DomainCategory  extends com.google.api.ads.adwords.axis.v201605.cm.
         this.categoryRank = categoryRank;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof DomainCategory)) return false;
         DomainCategory other = (DomainCategory) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(DomainCategory.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = super.equals(obj) && 
-            ((this.category==null && other.getCategory()==null) || 
-             (this.category!=null &&
-              this.category.equals(other.getCategory()))) &&
-            ((this.coverage==null && other.getCoverage()==null) || 
-             (this.coverage!=null &&
-              this.coverage.equals(other.getCoverage()))) &&
-            ((this.domainName==null && other.getDomainName()==null) || 
-             (this.domainName!=null &&
-              this.domainName.equals(other.getDomainName()))) &&
-            ((this.isoLanguage==null && other.getIsoLanguage()==null) || 
-             (this.isoLanguage!=null &&
-              this.isoLanguage.equals(other.getIsoLanguage()))) &&
-            ((this.recommendedCpc==null && other.getRecommendedCpc()==null) || 
-             (this.recommendedCpc!=null &&
-              this.recommendedCpc.equals(other.getRecommendedCpc()))) &&
-            ((this.hasChild==null && other.getHasChild()==null) || 
-             (this.hasChild!=null &&
-              this.hasChild.equals(other.getHasChild()))) &&
-            ((this.categoryRank==null && other.getCategoryRank()==null) || 
-             (this.categoryRank!=null &&
-              this.categoryRank.equals(other.getCategoryRank())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = super.equals(obj) && 
+                ((this.category==null && other.getCategory()==null) || 
+                 (this.category!=null &&
+                  this.category.equals(other.getCategory()))) &&
+                ((this.coverage==null && other.getCoverage()==null) || 
+                 (this.coverage!=null &&
+                  this.coverage.equals(other.getCoverage()))) &&
+                ((this.domainName==null && other.getDomainName()==null) || 
+                 (this.domainName!=null &&
+                  this.domainName.equals(other.getDomainName()))) &&
+                ((this.isoLanguage==null && other.getIsoLanguage()==null) || 
+                 (this.isoLanguage!=null &&
+                  this.isoLanguage.equals(other.getIsoLanguage()))) &&
+                ((this.recommendedCpc==null && other.getRecommendedCpc()==null) || 
+                 (this.recommendedCpc!=null &&
+                  this.recommendedCpc.equals(other.getRecommendedCpc()))) &&
+                ((this.hasChild==null && other.getHasChild()==null) || 
+                 (this.hasChild!=null &&
+                  this.hasChild.equals(other.getHasChild()))) &&
+                ((this.categoryRank==null && other.getCategoryRank()==null) || 
+                 (this.categoryRank!=null &&
+                  this.categoryRank.equals(other.getCategoryRank())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(DomainCategory.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = super.hashCode();
-        if (getCategory() != null) {
-            _hashCode += getCategory().hashCode();
-        }
-        if (getCoverage() != null) {
-            _hashCode += getCoverage().hashCode();
-        }
-        if (getDomainName() != null) {
-            _hashCode += getDomainName().hashCode();
-        }
-        if (getIsoLanguage() != null) {
-            _hashCode += getIsoLanguage().hashCode();
-        }
-        if (getRecommendedCpc() != null) {
-            _hashCode += getRecommendedCpc().hashCode();
+        try {
+            int _hashCode = super.hashCode();
+            if (getCategory() != null) {
+                _hashCode += getCategory().hashCode();
+            }
+            if (getCoverage() != null) {
+                _hashCode += getCoverage().hashCode();
+            }
+            if (getDomainName() != null) {
+                _hashCode += getDomainName().hashCode();
+            }
+            if (getIsoLanguage() != null) {
+                _hashCode += getIsoLanguage().hashCode();
+            }
+            if (getRecommendedCpc() != null) {
+                _hashCode += getRecommendedCpc().hashCode();
+            }
+            if (getHasChild() != null) {
+                _hashCode += getHasChild().hashCode();
+            }
+            if (getCategoryRank() != null) {
+                _hashCode += getCategoryRank().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        if (getHasChild() != null) {
-            _hashCode += getHasChild().hashCode();
-        }
-        if (getCategoryRank() != null) {
-            _hashCode += getCategoryRank().hashCode();
-        }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(DomainCategory.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(DomainCategory.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://adwords.google.com/api/adwords/cm/v201605", "DomainCategory"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("category");
@@ -494,13 +499,24 @@ public class DomainCategory  extends com.google.api.ads.adwords.axis.v201605.cm.
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (DomainCategory.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -512,7 +528,7 @@ public class DomainCategory  extends com.google.api.ads.adwords.axis.v201605.cm.
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -524,7 +540,7 @@ public class DomainCategory  extends com.google.api.ads.adwords.axis.v201605.cm.
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
@@ -297,74 +297,79 @@ public class Draft  implements java.io.Serializable {
         this.hasRunningTrial = hasRunningTrial;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof Draft)) return false;
         Draft other = (Draft) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(Draft.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = true && 
-            ((this.draftId==null && other.getDraftId()==null) || 
-             (this.draftId!=null &&
-              this.draftId.equals(other.getDraftId()))) &&
-            ((this.baseCampaignId==null && other.getBaseCampaignId()==null) || 
-             (this.baseCampaignId!=null &&
-              this.baseCampaignId.equals(other.getBaseCampaignId()))) &&
-            ((this.draftName==null && other.getDraftName()==null) || 
-             (this.draftName!=null &&
-              this.draftName.equals(other.getDraftName()))) &&
-            ((this.draftStatus==null && other.getDraftStatus()==null) || 
-             (this.draftStatus!=null &&
-              this.draftStatus.equals(other.getDraftStatus()))) &&
-            ((this.draftCampaignId==null && other.getDraftCampaignId()==null) || 
-             (this.draftCampaignId!=null &&
-              this.draftCampaignId.equals(other.getDraftCampaignId()))) &&
-            ((this.hasRunningTrial==null && other.getHasRunningTrial()==null) || 
-             (this.hasRunningTrial!=null &&
-              this.hasRunningTrial.equals(other.getHasRunningTrial())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = true && 
+                ((this.draftId==null && other.getDraftId()==null) || 
+                 (this.draftId!=null &&
+                  this.draftId.equals(other.getDraftId()))) &&
+                ((this.baseCampaignId==null && other.getBaseCampaignId()==null) || 
+                 (this.baseCampaignId!=null &&
+                  this.baseCampaignId.equals(other.getBaseCampaignId()))) &&
+                ((this.draftName==null && other.getDraftName()==null) || 
+                 (this.draftName!=null &&
+                  this.draftName.equals(other.getDraftName()))) &&
+                ((this.draftStatus==null && other.getDraftStatus()==null) || 
+                 (this.draftStatus!=null &&
+                  this.draftStatus.equals(other.getDraftStatus()))) &&
+                ((this.draftCampaignId==null && other.getDraftCampaignId()==null) || 
+                 (this.draftCampaignId!=null &&
+                  this.draftCampaignId.equals(other.getDraftCampaignId()))) &&
+                ((this.hasRunningTrial==null && other.getHasRunningTrial()==null) || 
+                 (this.hasRunningTrial!=null &&
+                  this.hasRunningTrial.equals(other.getHasRunningTrial())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(Draft.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getDraftId() != null) {
-            _hashCode += getDraftId().hashCode();
-        }
-        if (getBaseCampaignId() != null) {
-            _hashCode += getBaseCampaignId().hashCode();
-        }
-        if (getDraftName() != null) {
-            _hashCode += getDraftName().hashCode();
-        }
-        if (getDraftStatus() != null) {
-            _hashCode += getDraftStatus().hashCode();
-        }
-        if (getDraftCampaignId() != null) {
-            _hashCode += getDraftCampaignId().hashCode();
+        try {
+            int _hashCode = 1;
+            if (getDraftId() != null) {
+                _hashCode += getDraftId().hashCode();
+            }
+            if (getBaseCampaignId() != null) {
+                _hashCode += getBaseCampaignId().hashCode();
+            }
+            if (getDraftName() != null) {
+                _hashCode += getDraftName().hashCode();
+            }
+            if (getDraftStatus() != null) {
+                _hashCode += getDraftStatus().hashCode();
+            }
+            if (getDraftCampaignId() != null) {
+                _hashCode += getDraftCampaignId().hashCode();
+            }
+            if (getHasRunningTrial() != null) {
+                _hashCode += getHasRunningTrial().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        if (getHasRunningTrial() != null) {
-            _hashCode += getHasRunningTrial().hashCode();
-        }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(Draft.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(Draft.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://adwords.google.com/api/adwords/cm/v201605", "Draft"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("draftId");
@@ -408,13 +413,24 @@ public class Draft  implements java.io.Serializable {
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (Draft.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -426,7 +442,7 @@ public class Draft  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -438,7 +454,7 @@ public class Draft  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
@@ -220,68 +220,73 @@ public class ExpandedTextAd  extends com.google.api.ads.adwords.axis.v201605.cm.
         this.path2 = path2;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof ExpandedTextAd)) return false;
         ExpandedTextAd other = (ExpandedTextAd) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(ExpandedTextAd.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = super.equals(obj) && 
-            ((this.headlinePart1==null && other.getHeadlinePart1()==null) || 
-             (this.headlinePart1!=null &&
-              this.headlinePart1.equals(other.getHeadlinePart1()))) &&
-            ((this.headlinePart2==null && other.getHeadlinePart2()==null) || 
-             (this.headlinePart2!=null &&
-              this.headlinePart2.equals(other.getHeadlinePart2()))) &&
-            ((this.description==null && other.getDescription()==null) || 
-             (this.description!=null &&
-              this.description.equals(other.getDescription()))) &&
-            ((this.path1==null && other.getPath1()==null) || 
-             (this.path1!=null &&
-              this.path1.equals(other.getPath1()))) &&
-            ((this.path2==null && other.getPath2()==null) || 
-             (this.path2!=null &&
-              this.path2.equals(other.getPath2())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = super.equals(obj) && 
+                ((this.headlinePart1==null && other.getHeadlinePart1()==null) || 
+                 (this.headlinePart1!=null &&
+                  this.headlinePart1.equals(other.getHeadlinePart1()))) &&
+                ((this.headlinePart2==null && other.getHeadlinePart2()==null) || 
+                 (this.headlinePart2!=null &&
+                  this.headlinePart2.equals(other.getHeadlinePart2()))) &&
+                ((this.description==null && other.getDescription()==null) || 
+                 (this.description!=null &&
+                  this.description.equals(other.getDescription()))) &&
+                ((this.path1==null && other.getPath1()==null) || 
+                 (this.path1!=null &&
+                  this.path1.equals(other.getPath1()))) &&
+                ((this.path2==null && other.getPath2()==null) || 
+                 (this.path2!=null &&
+                  this.path2.equals(other.getPath2())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(ExpandedTextAd.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = super.hashCode();
-        if (getHeadlinePart1() != null) {
-            _hashCode += getHeadlinePart1().hashCode();
-        }
-        if (getHeadlinePart2() != null) {
-            _hashCode += getHeadlinePart2().hashCode();
-        }
-        if (getDescription() != null) {
-            _hashCode += getDescription().hashCode();
-        }
-        if (getPath1() != null) {
-            _hashCode += getPath1().hashCode();
+        try {
+            int _hashCode = super.hashCode();
+            if (getHeadlinePart1() != null) {
+                _hashCode += getHeadlinePart1().hashCode();
+            }
+            if (getHeadlinePart2() != null) {
+                _hashCode += getHeadlinePart2().hashCode();
+            }
+            if (getDescription() != null) {
+                _hashCode += getDescription().hashCode();
+            }
+            if (getPath1() != null) {
+                _hashCode += getPath1().hashCode();
+            }
+            if (getPath2() != null) {
+                _hashCode += getPath2().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        if (getPath2() != null) {
-            _hashCode += getPath2().hashCode();
-        }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(ExpandedTextAd.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(ExpandedTextAd.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://adwords.google.com/api/adwords/cm/v201605", "ExpandedTextAd"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("headlinePart1");
@@ -318,13 +323,24 @@ public class ExpandedTextAd  extends com.google.api.ads.adwords.axis.v201605.cm.
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (ExpandedTextAd.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -336,7 +352,7 @@ public class ExpandedTextAd  extends com.google.api.ads.adwords.axis.v201605.cm.
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -348,7 +364,7 @@ public class ExpandedTextAd  extends com.google.api.ads.adwords.axis.v201605.cm.
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
@@ -664,130 +664,135 @@ public class ExtensionFeedItem  implements java.io.Serializable {
         this.extensionFeedItemType = extensionFeedItemType;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof ExtensionFeedItem)) return false;
         ExtensionFeedItem other = (ExtensionFeedItem) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(ExtensionFeedItem.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = true && 
-            ((this.feedId==null && other.getFeedId()==null) || 
-             (this.feedId!=null &&
-              this.feedId.equals(other.getFeedId()))) &&
-            ((this.feedItemId==null && other.getFeedItemId()==null) || 
-             (this.feedItemId!=null &&
-              this.feedItemId.equals(other.getFeedItemId()))) &&
-            ((this.status==null && other.getStatus()==null) || 
-             (this.status!=null &&
-              this.status.equals(other.getStatus()))) &&
-            ((this.feedType==null && other.getFeedType()==null) || 
-             (this.feedType!=null &&
-              this.feedType.equals(other.getFeedType()))) &&
-            ((this.startTime==null && other.getStartTime()==null) || 
-             (this.startTime!=null &&
-              this.startTime.equals(other.getStartTime()))) &&
-            ((this.endTime==null && other.getEndTime()==null) || 
-             (this.endTime!=null &&
-              this.endTime.equals(other.getEndTime()))) &&
-            ((this.devicePreference==null && other.getDevicePreference()==null) || 
-             (this.devicePreference!=null &&
-              this.devicePreference.equals(other.getDevicePreference()))) &&
-            ((this.scheduling==null && other.getScheduling()==null) || 
-             (this.scheduling!=null &&
-              this.scheduling.equals(other.getScheduling()))) &&
-            ((this.campaignTargeting==null && other.getCampaignTargeting()==null) || 
-             (this.campaignTargeting!=null &&
-              this.campaignTargeting.equals(other.getCampaignTargeting()))) &&
-            ((this.adGroupTargeting==null && other.getAdGroupTargeting()==null) || 
-             (this.adGroupTargeting!=null &&
-              this.adGroupTargeting.equals(other.getAdGroupTargeting()))) &&
-            ((this.keywordTargeting==null && other.getKeywordTargeting()==null) || 
-             (this.keywordTargeting!=null &&
-              this.keywordTargeting.equals(other.getKeywordTargeting()))) &&
-            ((this.geoTargeting==null && other.getGeoTargeting()==null) || 
-             (this.geoTargeting!=null &&
-              this.geoTargeting.equals(other.getGeoTargeting()))) &&
-            ((this.policyData==null && other.getPolicyData()==null) || 
-             (this.policyData!=null &&
-              java.util.Arrays.equals(this.policyData, other.getPolicyData()))) &&
-            ((this.extensionFeedItemType==null && other.getExtensionFeedItemType()==null) || 
-             (this.extensionFeedItemType!=null &&
-              this.extensionFeedItemType.equals(other.getExtensionFeedItemType())));
-        __equalsCalc = null;
-        return _equals;
-    }
-
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
-            return 0;
-        }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getFeedId() != null) {
-            _hashCode += getFeedId().hashCode();
-        }
-        if (getFeedItemId() != null) {
-            _hashCode += getFeedItemId().hashCode();
-        }
-        if (getStatus() != null) {
-            _hashCode += getStatus().hashCode();
-        }
-        if (getFeedType() != null) {
-            _hashCode += getFeedType().hashCode();
-        }
-        if (getStartTime() != null) {
-            _hashCode += getStartTime().hashCode();
-        }
-        if (getEndTime() != null) {
-            _hashCode += getEndTime().hashCode();
-        }
-        if (getDevicePreference() != null) {
-            _hashCode += getDevicePreference().hashCode();
-        }
-        if (getScheduling() != null) {
-            _hashCode += getScheduling().hashCode();
+        try {
+            boolean _equals;
+            _equals = true && 
+                ((this.feedId==null && other.getFeedId()==null) || 
+                 (this.feedId!=null &&
+                  this.feedId.equals(other.getFeedId()))) &&
+                ((this.feedItemId==null && other.getFeedItemId()==null) || 
+                 (this.feedItemId!=null &&
+                  this.feedItemId.equals(other.getFeedItemId()))) &&
+                ((this.status==null && other.getStatus()==null) || 
+                 (this.status!=null &&
+                  this.status.equals(other.getStatus()))) &&
+                ((this.feedType==null && other.getFeedType()==null) || 
+                 (this.feedType!=null &&
+                  this.feedType.equals(other.getFeedType()))) &&
+                ((this.startTime==null && other.getStartTime()==null) || 
+                 (this.startTime!=null &&
+                  this.startTime.equals(other.getStartTime()))) &&
+                ((this.endTime==null && other.getEndTime()==null) || 
+                 (this.endTime!=null &&
+                  this.endTime.equals(other.getEndTime()))) &&
+                ((this.devicePreference==null && other.getDevicePreference()==null) || 
+                 (this.devicePreference!=null &&
+                  this.devicePreference.equals(other.getDevicePreference()))) &&
+                ((this.scheduling==null && other.getScheduling()==null) || 
+                 (this.scheduling!=null &&
+                  this.scheduling.equals(other.getScheduling()))) &&
+                ((this.campaignTargeting==null && other.getCampaignTargeting()==null) || 
+                 (this.campaignTargeting!=null &&
+                  this.campaignTargeting.equals(other.getCampaignTargeting()))) &&
+                ((this.adGroupTargeting==null && other.getAdGroupTargeting()==null) || 
+                 (this.adGroupTargeting!=null &&
+                  this.adGroupTargeting.equals(other.getAdGroupTargeting()))) &&
+                ((this.keywordTargeting==null && other.getKeywordTargeting()==null) || 
+                 (this.keywordTargeting!=null &&
+                  this.keywordTargeting.equals(other.getKeywordTargeting()))) &&
+                ((this.geoTargeting==null && other.getGeoTargeting()==null) || 
+                 (this.geoTargeting!=null &&
+                  this.geoTargeting.equals(other.getGeoTargeting()))) &&
+                ((this.policyData==null && other.getPolicyData()==null) || 
+                 (this.policyData!=null &&
+                  java.util.Arrays.equals(this.policyData, other.getPolicyData()))) &&
+                ((this.extensionFeedItemType==null && other.getExtensionFeedItemType()==null) || 
+                 (this.extensionFeedItemType!=null &&
+                  this.extensionFeedItemType.equals(other.getExtensionFeedItemType())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
         }
-        if (getCampaignTargeting() != null) {
-            _hashCode += getCampaignTargeting().hashCode();
-        }
-        if (getAdGroupTargeting() != null) {
-            _hashCode += getAdGroupTargeting().hashCode();
-        }
-        if (getKeywordTargeting() != null) {
-            _hashCode += getKeywordTargeting().hashCode();
-        }
-        if (getGeoTargeting() != null) {
-            _hashCode += getGeoTargeting().hashCode();
+    }
+
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(ExtensionFeedItem.class, this)) {
+            return 0;
         }
-        if (getPolicyData() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getPolicyData());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getPolicyData(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+        try {
+            int _hashCode = 1;
+            if (getFeedId() != null) {
+                _hashCode += getFeedId().hashCode();
+            }
+            if (getFeedItemId() != null) {
+                _hashCode += getFeedItemId().hashCode();
+            }
+            if (getStatus() != null) {
+                _hashCode += getStatus().hashCode();
+            }
+            if (getFeedType() != null) {
+                _hashCode += getFeedType().hashCode();
+            }
+            if (getStartTime() != null) {
+                _hashCode += getStartTime().hashCode();
+            }
+            if (getEndTime() != null) {
+                _hashCode += getEndTime().hashCode();
+            }
+            if (getDevicePreference() != null) {
+                _hashCode += getDevicePreference().hashCode();
+            }
+            if (getScheduling() != null) {
+                _hashCode += getScheduling().hashCode();
+            }
+            if (getCampaignTargeting() != null) {
+                _hashCode += getCampaignTargeting().hashCode();
+            }
+            if (getAdGroupTargeting() != null) {
+                _hashCode += getAdGroupTargeting().hashCode();
+            }
+            if (getKeywordTargeting() != null) {
+                _hashCode += getKeywordTargeting().hashCode();
+            }
+            if (getGeoTargeting() != null) {
+                _hashCode += getGeoTargeting().hashCode();
+            }
+            if (getPolicyData() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getPolicyData());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getPolicyData(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
+            if (getExtensionFeedItemType() != null) {
+                _hashCode += getExtensionFeedItemType().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        if (getExtensionFeedItemType() != null) {
-            _hashCode += getExtensionFeedItemType().hashCode();
-        }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(ExtensionFeedItem.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(ExtensionFeedItem.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://adwords.google.com/api/adwords/cm/v201605", "ExtensionFeedItem"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("feedId");
@@ -888,13 +893,24 @@ public class ExtensionFeedItem  implements java.io.Serializable {
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (ExtensionFeedItem.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -906,7 +922,7 @@ public class ExtensionFeedItem  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -918,7 +934,7 @@ public class ExtensionFeedItem  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
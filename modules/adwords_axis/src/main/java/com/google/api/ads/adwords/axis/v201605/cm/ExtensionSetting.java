@@ -104,58 +104,63 @@ public class ExtensionSetting  implements java.io.Serializable {
         this.platformRestrictions = platformRestrictions;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof ExtensionSetting)) return false;
         ExtensionSetting other = (ExtensionSetting) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(ExtensionSetting.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = true && 
-            ((this.extensions==null && other.getExtensions()==null) || 
-             (this.extensions!=null &&
-              java.util.Arrays.equals(this.extensions, other.getExtensions()))) &&
-            ((this.platformRestrictions==null && other.getPlatformRestrictions()==null) || 
-             (this.platformRestrictions!=null &&
-              this.platformRestrictions.equals(other.getPlatformRestrictions())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = true && 
+                ((this.extensions==null && other.getExtensions()==null) || 
+                 (this.extensions!=null &&
+                  java.util.Arrays.equals(this.extensions, other.getExtensions()))) &&
+                ((this.platformRestrictions==null && other.getPlatformRestrictions()==null) || 
+                 (this.platformRestrictions!=null &&
+                  this.platformRestrictions.equals(other.getPlatformRestrictions())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(ExtensionSetting.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getExtensions() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getExtensions());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getExtensions(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+        try {
+            int _hashCode = 1;
+            if (getExtensions() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getExtensions());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getExtensions(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
+            if (getPlatformRestrictions() != null) {
+                _hashCode += getPlatformRestrictions().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        if (getPlatformRestrictions() != null) {
-            _hashCode += getPlatformRestrictions().hashCode();
-        }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(ExtensionSetting.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(ExtensionSetting.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://adwords.google.com/api/adwords/cm/v201605", "ExtensionSetting"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("extensions");
@@ -172,13 +177,24 @@ public class ExtensionSetting  implements java.io.Serializable {
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (ExtensionSetting.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -190,7 +206,7 @@ public class ExtensionSetting  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -202,7 +218,7 @@ public class ExtensionSetting  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
@@ -314,82 +314,87 @@ public class Feed  implements java.io.Serializable {
         this.systemFeedGenerationData = systemFeedGenerationData;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof Feed)) return false;
         Feed other = (Feed) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(Feed.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = true && 
-            ((this.id==null && other.getId()==null) || 
-             (this.id!=null &&
-              this.id.equals(other.getId()))) &&
-            ((this.name==null && other.getName()==null) || 
-             (this.name!=null &&
-              this.name.equals(other.getName()))) &&
-            ((this.attributes==null && other.getAttributes()==null) || 
-             (this.attributes!=null &&
-              java.util.Arrays.equals(this.attributes, other.getAttributes()))) &&
-            ((this.status==null && other.getStatus()==null) || 
-             (this.status!=null &&
-              this.status.equals(other.getStatus()))) &&
-            ((this.origin==null && other.getOrigin()==null) || 
-             (this.origin!=null &&
-              this.origin.equals(other.getOrigin()))) &&
-            ((this.systemFeedGenerationData==null && other.getSystemFeedGenerationData()==null) || 
-             (this.systemFeedGenerationData!=null &&
-              this.systemFeedGenerationData.equals(other.getSystemFeedGenerationData())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = true && 
+                ((this.id==null && other.getId()==null) || 
+                 (this.id!=null &&
+                  this.id.equals(other.getId()))) &&
+                ((this.name==null && other.getName()==null) || 
+                 (this.name!=null &&
+                  this.name.equals(other.getName()))) &&
+                ((this.attributes==null && other.getAttributes()==null) || 
+                 (this.attributes!=null &&
+                  java.util.Arrays.equals(this.attributes, other.getAttributes()))) &&
+                ((this.status==null && other.getStatus()==null) || 
+                 (this.status!=null &&
+                  this.status.equals(other.getStatus()))) &&
+                ((this.origin==null && other.getOrigin()==null) || 
+                 (this.origin!=null &&
+                  this.origin.equals(other.getOrigin()))) &&
+                ((this.systemFeedGenerationData==null && other.getSystemFeedGenerationData()==null) || 
+                 (this.systemFeedGenerationData!=null &&
+                  this.systemFeedGenerationData.equals(other.getSystemFeedGenerationData())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(Feed.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getId() != null) {
-            _hashCode += getId().hashCode();
-        }
-        if (getName() != null) {
-            _hashCode += getName().hashCode();
-        }
-        if (getAttributes() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getAttributes());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getAttributes(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+        try {
+            int _hashCode = 1;
+            if (getId() != null) {
+                _hashCode += getId().hashCode();
+            }
+            if (getName() != null) {
+                _hashCode += getName().hashCode();
+            }
+            if (getAttributes() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getAttributes());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getAttributes(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
+            if (getStatus() != null) {
+                _hashCode += getStatus().hashCode();
+            }
+            if (getOrigin() != null) {
+                _hashCode += getOrigin().hashCode();
+            }
+            if (getSystemFeedGenerationData() != null) {
+                _hashCode += getSystemFeedGenerationData().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        if (getStatus() != null) {
-            _hashCode += getStatus().hashCode();
-        }
-        if (getOrigin() != null) {
-            _hashCode += getOrigin().hashCode();
-        }
-        if (getSystemFeedGenerationData() != null) {
-            _hashCode += getSystemFeedGenerationData().hashCode();
-        }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(Feed.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(Feed.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://adwords.google.com/api/adwords/cm/v201605", "Feed"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("id");
@@ -434,13 +439,24 @@ public class Feed  implements java.io.Serializable {
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (Feed.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -452,7 +468,7 @@ public class Feed  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -464,7 +480,7 @@ public class Feed  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
@@ -296,82 +296,87 @@ public class FeedMapping  implements java.io.Serializable {
         this.criterionType = criterionType;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof FeedMapping)) return false;
         FeedMapping other = (FeedMapping) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(FeedMapping.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = true && 
-            ((this.feedMappingId==null && other.getFeedMappingId()==null) || 
-             (this.feedMappingId!=null &&
-              this.feedMappingId.equals(other.getFeedMappingId()))) &&
-            ((this.feedId==null && other.getFeedId()==null) || 
-             (this.feedId!=null &&
-              this.feedId.equals(other.getFeedId()))) &&
-            ((this.placeholderType==null && other.getPlaceholderType()==null) || 
-             (this.placeholderType!=null &&
-              this.placeholderType.equals(other.getPlaceholderType()))) &&
-            ((this.status==null && other.getStatus()==null) || 
-             (this.status!=null &&
-              this.status.equals(other.getStatus()))) &&
-            ((this.attributeFieldMappings==null && other.getAttributeFieldMappings()==null) || 
-             (this.attributeFieldMappings!=null &&
-              java.util.Arrays.equals(this.attributeFieldMappings, other.getAttributeFieldMappings()))) &&
-            ((this.criterionType==null && other.getCriterionType()==null) || 
-             (this.criterionType!=null &&
-              this.criterionType.equals(other.getCriterionType())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = true && 
+                ((this.feedMappingId==null && other.getFeedMappingId()==null) || 
+                 (this.feedMappingId!=null &&
+                  this.feedMappingId.equals(other.getFeedMappingId()))) &&
+                ((this.feedId==null && other.getFeedId()==null) || 
+                 (this.feedId!=null &&
+                  this.feedId.equals(other.getFeedId()))) &&
+                ((this.placeholderType==null && other.getPlaceholderType()==null) || 
+                 (this.placeholderType!=null &&
+                  this.placeholderType.equals(other.getPlaceholderType()))) &&
+                ((this.status==null && other.getStatus()==null) || 
+                 (this.status!=null &&
+                  this.status.equals(other.getStatus()))) &&
+                ((this.attributeFieldMappings==null && other.getAttributeFieldMappings()==null) || 
+                 (this.attributeFieldMappings!=null &&
+                  java.util.Arrays.equals(this.attributeFieldMappings, other.getAttributeFieldMappings()))) &&
+                ((this.criterionType==null && other.getCriterionType()==null) || 
+                 (this.criterionType!=null &&
+                  this.criterionType.equals(other.getCriterionType())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(FeedMapping.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getFeedMappingId() != null) {
-            _hashCode += getFeedMappingId().hashCode();
-        }
-        if (getFeedId() != null) {
-            _hashCode += getFeedId().hashCode();
-        }
-        if (getPlaceholderType() != null) {
-            _hashCode += getPlaceholderType().hashCode();
-        }
-        if (getStatus() != null) {
-            _hashCode += getStatus().hashCode();
-        }
-        if (getAttributeFieldMappings() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getAttributeFieldMappings());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getAttributeFieldMappings(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+        try {
+            int _hashCode = 1;
+            if (getFeedMappingId() != null) {
+                _hashCode += getFeedMappingId().hashCode();
+            }
+            if (getFeedId() != null) {
+                _hashCode += getFeedId().hashCode();
+            }
+            if (getPlaceholderType() != null) {
+                _hashCode += getPlaceholderType().hashCode();
+            }
+            if (getStatus() != null) {
+                _hashCode += getStatus().hashCode();
+            }
+            if (getAttributeFieldMappings() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getAttributeFieldMappings());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getAttributeFieldMappings(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
+            if (getCriterionType() != null) {
+                _hashCode += getCriterionType().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        if (getCriterionType() != null) {
-            _hashCode += getCriterionType().hashCode();
-        }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(FeedMapping.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(FeedMapping.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://adwords.google.com/api/adwords/cm/v201605", "FeedMapping"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("feedMappingId");
@@ -416,13 +421,24 @@ public class FeedMapping  implements java.io.Serializable {
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (FeedMapping.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -434,7 +450,7 @@ public class FeedMapping  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -446,7 +462,7 @@ public class FeedMapping  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
@@ -124,56 +124,61 @@ public class FrequencyCap  implements java.io.Serializable {
         this.level = level;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof FrequencyCap)) return false;
         FrequencyCap other = (FrequencyCap) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(FrequencyCap.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = true && 
-            ((this.impressions==null && other.getImpressions()==null) || 
-             (this.impressions!=null &&
-              this.impressions.equals(other.getImpressions()))) &&
-            ((this.timeUnit==null && other.getTimeUnit()==null) || 
-             (this.timeUnit!=null &&
-              this.timeUnit.equals(other.getTimeUnit()))) &&
-            ((this.level==null && other.getLevel()==null) || 
-             (this.level!=null &&
-              this.level.equals(other.getLevel())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = true && 
+                ((this.impressions==null && other.getImpressions()==null) || 
+                 (this.impressions!=null &&
+                  this.impressions.equals(other.getImpressions()))) &&
+                ((this.timeUnit==null && other.getTimeUnit()==null) || 
+                 (this.timeUnit!=null &&
+                  this.timeUnit.equals(other.getTimeUnit()))) &&
+                ((this.level==null && other.getLevel()==null) || 
+                 (this.level!=null &&
+                  this.level.equals(other.getLevel())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(FrequencyCap.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getImpressions() != null) {
-            _hashCode += getImpressions().hashCode();
-        }
-        if (getTimeUnit() != null) {
-            _hashCode += getTimeUnit().hashCode();
-        }
-        if (getLevel() != null) {
-            _hashCode += getLevel().hashCode();
+        try {
+            int _hashCode = 1;
+            if (getImpressions() != null) {
+                _hashCode += getImpressions().hashCode();
+            }
+            if (getTimeUnit() != null) {
+                _hashCode += getTimeUnit().hashCode();
+            }
+            if (getLevel() != null) {
+                _hashCode += getLevel().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(FrequencyCap.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(FrequencyCap.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://adwords.google.com/api/adwords/cm/v201605", "FrequencyCap"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("impressions");
@@ -196,13 +201,24 @@ public class FrequencyCap  implements java.io.Serializable {
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (FrequencyCap.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -214,7 +230,7 @@ public class FrequencyCap  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -226,7 +242,7 @@ public class FrequencyCap  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
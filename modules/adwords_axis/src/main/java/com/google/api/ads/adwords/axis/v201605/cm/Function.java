@@ -247,78 +247,83 @@ public class Function  implements java.io.Serializable {
         this.functionString = functionString;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof Function)) return false;
         Function other = (Function) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(Function.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = true && 
-            ((this.operator==null && other.getOperator()==null) || 
-             (this.operator!=null &&
-              this.operator.equals(other.getOperator()))) &&
-            ((this.lhsOperand==null && other.getLhsOperand()==null) || 
-             (this.lhsOperand!=null &&
-              java.util.Arrays.equals(this.lhsOperand, other.getLhsOperand()))) &&
-            ((this.rhsOperand==null && other.getRhsOperand()==null) || 
-             (this.rhsOperand!=null &&
-              java.util.Arrays.equals(this.rhsOperand, other.getRhsOperand()))) &&
-            ((this.functionString==null && other.getFunctionString()==null) || 
-             (this.functionString!=null &&
-              this.functionString.equals(other.getFunctionString())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = true && 
+                ((this.operator==null && other.getOperator()==null) || 
+                 (this.operator!=null &&
+                  this.operator.equals(other.getOperator()))) &&
+                ((this.lhsOperand==null && other.getLhsOperand()==null) || 
+                 (this.lhsOperand!=null &&
+                  java.util.Arrays.equals(this.lhsOperand, other.getLhsOperand()))) &&
+                ((this.rhsOperand==null && other.getRhsOperand()==null) || 
+                 (this.rhsOperand!=null &&
+                  java.util.Arrays.equals(this.rhsOperand, other.getRhsOperand()))) &&
+                ((this.functionString==null && other.getFunctionString()==null) || 
+                 (this.functionString!=null &&
+                  this.functionString.equals(other.getFunctionString())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(Function.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getOperator() != null) {
-            _hashCode += getOperator().hashCode();
-        }
-        if (getLhsOperand() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getLhsOperand());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getLhsOperand(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+        try {
+            int _hashCode = 1;
+            if (getOperator() != null) {
+                _hashCode += getOperator().hashCode();
+            }
+            if (getLhsOperand() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getLhsOperand());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getLhsOperand(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
-        }
-        if (getRhsOperand() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getRhsOperand());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getRhsOperand(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+            if (getRhsOperand() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getRhsOperand());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getRhsOperand(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
+            if (getFunctionString() != null) {
+                _hashCode += getFunctionString().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        if (getFunctionString() != null) {
-            _hashCode += getFunctionString().hashCode();
-        }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(Function.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(Function.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://adwords.google.com/api/adwords/cm/v201605", "Function"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("operator");
@@ -350,13 +355,24 @@ public class Function  implements java.io.Serializable {
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (Function.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -368,7 +384,7 @@ public class Function  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -380,7 +396,7 @@ public class Function  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
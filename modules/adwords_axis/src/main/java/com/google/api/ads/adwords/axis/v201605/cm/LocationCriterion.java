@@ -281,74 +281,79 @@ public class LocationCriterion  implements java.io.Serializable {
         this.countryCode = countryCode;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof LocationCriterion)) return false;
         LocationCriterion other = (LocationCriterion) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(LocationCriterion.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = true && 
-            ((this.location==null && other.getLocation()==null) || 
-             (this.location!=null &&
-              this.location.equals(other.getLocation()))) &&
-            ((this.canonicalName==null && other.getCanonicalName()==null) || 
-             (this.canonicalName!=null &&
-              this.canonicalName.equals(other.getCanonicalName()))) &&
-            ((this.reach==null && other.getReach()==null) || 
-             (this.reach!=null &&
-              this.reach.equals(other.getReach()))) &&
-            ((this.locale==null && other.getLocale()==null) || 
-             (this.locale!=null &&
-              this.locale.equals(other.getLocale()))) &&
-            ((this.searchTerm==null && other.getSearchTerm()==null) || 
-             (this.searchTerm!=null &&
-              this.searchTerm.equals(other.getSearchTerm()))) &&
-            ((this.countryCode==null && other.getCountryCode()==null) || 
-             (this.countryCode!=null &&
-              this.countryCode.equals(other.getCountryCode())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = true && 
+                ((this.location==null && other.getLocation()==null) || 
+                 (this.location!=null &&
+                  this.location.equals(other.getLocation()))) &&
+                ((this.canonicalName==null && other.getCanonicalName()==null) || 
+                 (this.canonicalName!=null &&
+                  this.canonicalName.equals(other.getCanonicalName()))) &&
+                ((this.reach==null && other.getReach()==null) || 
+                 (this.reach!=null &&
+                  this.reach.equals(other.getReach()))) &&
+                ((this.locale==null && other.getLocale()==null) || 
+                 (this.locale!=null &&
+                  this.locale.equals(other.getLocale()))) &&
+                ((this.searchTerm==null && other.getSearchTerm()==null) || 
+                 (this.searchTerm!=null &&
+                  this.searchTerm.equals(other.getSearchTerm()))) &&
+                ((this.countryCode==null && other.getCountryCode()==null) || 
+                 (this.countryCode!=null &&
+                  this.countryCode.equals(other.getCountryCode())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(LocationCriterion.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getLocation() != null) {
-            _hashCode += getLocation().hashCode();
-        }
-        if (getCanonicalName() != null) {
-            _hashCode += getCanonicalName().hashCode();
-        }
-        if (getReach() != null) {
-            _hashCode += getReach().hashCode();
-        }
-        if (getLocale() != null) {
-            _hashCode += getLocale().hashCode();
-        }
-        if (getSearchTerm() != null) {
-            _hashCode += getSearchTerm().hashCode();
+        try {
+            int _hashCode = 1;
+            if (getLocation() != null) {
+                _hashCode += getLocation().hashCode();
+            }
+            if (getCanonicalName() != null) {
+                _hashCode += getCanonicalName().hashCode();
+            }
+            if (getReach() != null) {
+                _hashCode += getReach().hashCode();
+            }
+            if (getLocale() != null) {
+                _hashCode += getLocale().hashCode();
+            }
+            if (getSearchTerm() != null) {
+                _hashCode += getSearchTerm().hashCode();
+            }
+            if (getCountryCode() != null) {
+                _hashCode += getCountryCode().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        if (getCountryCode() != null) {
-            _hashCode += getCountryCode().hashCode();
-        }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(LocationCriterion.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(LocationCriterion.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://adwords.google.com/api/adwords/cm/v201605", "LocationCriterion"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("location");
@@ -392,13 +397,24 @@ public class LocationCriterion  implements java.io.Serializable {
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (LocationCriterion.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -410,7 +426,7 @@ public class LocationCriterion  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -422,7 +438,7 @@ public class LocationCriterion  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
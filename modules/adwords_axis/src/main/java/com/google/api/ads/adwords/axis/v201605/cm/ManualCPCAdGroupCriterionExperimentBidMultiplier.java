@@ -94,50 +94,55 @@ public class ManualCPCAdGroupCriterionExperimentBidMultiplier  extends com.googl
         this.multiplierSource = multiplierSource;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof ManualCPCAdGroupCriterionExperimentBidMultiplier)) return false;
         ManualCPCAdGroupCriterionExperimentBidMultiplier other = (ManualCPCAdGroupCriterionExperimentBidMultiplier) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(ManualCPCAdGroupCriterionExperimentBidMultiplier.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = super.equals(obj) && 
-            ((this.maxCpcMultiplier==null && other.getMaxCpcMultiplier()==null) || 
-             (this.maxCpcMultiplier!=null &&
-              this.maxCpcMultiplier.equals(other.getMaxCpcMultiplier()))) &&
-            ((this.multiplierSource==null && other.getMultiplierSource()==null) || 
-             (this.multiplierSource!=null &&
-              this.multiplierSource.equals(other.getMultiplierSource())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = super.equals(obj) && 
+                ((this.maxCpcMultiplier==null && other.getMaxCpcMultiplier()==null) || 
+                 (this.maxCpcMultiplier!=null &&
+                  this.maxCpcMultiplier.equals(other.getMaxCpcMultiplier()))) &&
+                ((this.multiplierSource==null && other.getMultiplierSource()==null) || 
+                 (this.multiplierSource!=null &&
+                  this.multiplierSource.equals(other.getMultiplierSource())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(ManualCPCAdGroupCriterionExperimentBidMultiplier.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = super.hashCode();
-        if (getMaxCpcMultiplier() != null) {
-            _hashCode += getMaxCpcMultiplier().hashCode();
-        }
-        if (getMultiplierSource() != null) {
-            _hashCode += getMultiplierSource().hashCode();
+        try {
+            int _hashCode = super.hashCode();
+            if (getMaxCpcMultiplier() != null) {
+                _hashCode += getMaxCpcMultiplier().hashCode();
+            }
+            if (getMultiplierSource() != null) {
+                _hashCode += getMultiplierSource().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(ManualCPCAdGroupCriterionExperimentBidMultiplier.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(ManualCPCAdGroupCriterionExperimentBidMultiplier.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://adwords.google.com/api/adwords/cm/v201605", "ManualCPCAdGroupCriterionExperimentBidMultiplier"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("maxCpcMultiplier");
@@ -153,13 +158,24 @@ public class ManualCPCAdGroupCriterionExperimentBidMultiplier  extends com.googl
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (ManualCPCAdGroupCriterionExperimentBidMultiplier.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -171,7 +187,7 @@ public class ManualCPCAdGroupCriterionExperimentBidMultiplier  extends com.googl
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -183,7 +199,7 @@ public class ManualCPCAdGroupCriterionExperimentBidMultiplier  extends com.googl
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
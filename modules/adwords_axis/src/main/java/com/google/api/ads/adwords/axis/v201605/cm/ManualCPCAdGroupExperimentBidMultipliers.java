@@ -84,50 +84,55 @@ public class ManualCPCAdGroupExperimentBidMultipliers  extends com.google.api.ad
         this.maxContentCpcMultiplier = maxContentCpcMultiplier;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof ManualCPCAdGroupExperimentBidMultipliers)) return false;
         ManualCPCAdGroupExperimentBidMultipliers other = (ManualCPCAdGroupExperimentBidMultipliers) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(ManualCPCAdGroupExperimentBidMultipliers.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = super.equals(obj) && 
-            ((this.maxCpcMultiplier==null && other.getMaxCpcMultiplier()==null) || 
-             (this.maxCpcMultiplier!=null &&
-              this.maxCpcMultiplier.equals(other.getMaxCpcMultiplier()))) &&
-            ((this.maxContentCpcMultiplier==null && other.getMaxContentCpcMultiplier()==null) || 
-             (this.maxContentCpcMultiplier!=null &&
-              this.maxContentCpcMultiplier.equals(other.getMaxContentCpcMultiplier())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = super.equals(obj) && 
+                ((this.maxCpcMultiplier==null && other.getMaxCpcMultiplier()==null) || 
+                 (this.maxCpcMultiplier!=null &&
+                  this.maxCpcMultiplier.equals(other.getMaxCpcMultiplier()))) &&
+                ((this.maxContentCpcMultiplier==null && other.getMaxContentCpcMultiplier()==null) || 
+                 (this.maxContentCpcMultiplier!=null &&
+                  this.maxContentCpcMultiplier.equals(other.getMaxContentCpcMultiplier())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(ManualCPCAdGroupExperimentBidMultipliers.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = super.hashCode();
-        if (getMaxCpcMultiplier() != null) {
-            _hashCode += getMaxCpcMultiplier().hashCode();
-        }
-        if (getMaxContentCpcMultiplier() != null) {
-            _hashCode += getMaxContentCpcMultiplier().hashCode();
+        try {
+            int _hashCode = super.hashCode();
+            if (getMaxCpcMultiplier() != null) {
+                _hashCode += getMaxCpcMultiplier().hashCode();
+            }
+            if (getMaxContentCpcMultiplier() != null) {
+                _hashCode += getMaxContentCpcMultiplier().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(ManualCPCAdGroupExperimentBidMultipliers.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(ManualCPCAdGroupExperimentBidMultipliers.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://adwords.google.com/api/adwords/cm/v201605", "ManualCPCAdGroupExperimentBidMultipliers"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("maxCpcMultiplier");
@@ -143,13 +148,24 @@ public class ManualCPCAdGroupExperimentBidMultipliers  extends com.google.api.ad
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (ManualCPCAdGroupExperimentBidMultipliers.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -161,7 +177,7 @@ public class ManualCPCAdGroupExperimentBidMultipliers  extends com.google.api.ad
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -173,7 +189,7 @@ public class ManualCPCAdGroupExperimentBidMultipliers  extends com.google.api.ad
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
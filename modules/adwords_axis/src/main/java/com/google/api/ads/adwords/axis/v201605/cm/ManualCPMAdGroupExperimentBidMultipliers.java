@@ -60,44 +60,49 @@ public class ManualCPMAdGroupExperimentBidMultipliers  extends com.google.api.ad
         this.maxCpmMultiplier = maxCpmMultiplier;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof ManualCPMAdGroupExperimentBidMultipliers)) return false;
         ManualCPMAdGroupExperimentBidMultipliers other = (ManualCPMAdGroupExperimentBidMultipliers) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(ManualCPMAdGroupExperimentBidMultipliers.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = super.equals(obj) && 
-            ((this.maxCpmMultiplier==null && other.getMaxCpmMultiplier()==null) || 
-             (this.maxCpmMultiplier!=null &&
-              this.maxCpmMultiplier.equals(other.getMaxCpmMultiplier())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = super.equals(obj) && 
+                ((this.maxCpmMultiplier==null && other.getMaxCpmMultiplier()==null) || 
+                 (this.maxCpmMultiplier!=null &&
+                  this.maxCpmMultiplier.equals(other.getMaxCpmMultiplier())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(ManualCPMAdGroupExperimentBidMultipliers.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = super.hashCode();
-        if (getMaxCpmMultiplier() != null) {
-            _hashCode += getMaxCpmMultiplier().hashCode();
+        try {
+            int _hashCode = super.hashCode();
+            if (getMaxCpmMultiplier() != null) {
+                _hashCode += getMaxCpmMultiplier().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(ManualCPMAdGroupExperimentBidMultipliers.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(ManualCPMAdGroupExperimentBidMultipliers.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://adwords.google.com/api/adwords/cm/v201605", "ManualCPMAdGroupExperimentBidMultipliers"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("maxCpmMultiplier");
@@ -106,13 +111,24 @@ public class ManualCPMAdGroupExperimentBidMultipliers  extends com.google.api.ad
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (ManualCPMAdGroupExperimentBidMultipliers.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -124,7 +140,7 @@ public class ManualCPMAdGroupExperimentBidMultipliers  extends com.google.api.ad
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -136,7 +152,7 @@ public class ManualCPMAdGroupExperimentBidMultipliers  extends com.google.api.ad
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
@@ -173,64 +173,69 @@ public class MediaBundle  extends com.google.api.ads.adwords.axis.v201605.cm.Med
         this.entryPoint = entryPoint;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof MediaBundle)) return false;
         MediaBundle other = (MediaBundle) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(MediaBundle.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = super.equals(obj) && 
-            ((this.data==null && other.getData()==null) || 
-             (this.data!=null &&
-              java.util.Arrays.equals(this.data, other.getData()))) &&
-            ((this.mediaBundleUrl==null && other.getMediaBundleUrl()==null) || 
-             (this.mediaBundleUrl!=null &&
-              this.mediaBundleUrl.equals(other.getMediaBundleUrl()))) &&
-            ((this.entryPoint==null && other.getEntryPoint()==null) || 
-             (this.entryPoint!=null &&
-              this.entryPoint.equals(other.getEntryPoint())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = super.equals(obj) && 
+                ((this.data==null && other.getData()==null) || 
+                 (this.data!=null &&
+                  java.util.Arrays.equals(this.data, other.getData()))) &&
+                ((this.mediaBundleUrl==null && other.getMediaBundleUrl()==null) || 
+                 (this.mediaBundleUrl!=null &&
+                  this.mediaBundleUrl.equals(other.getMediaBundleUrl()))) &&
+                ((this.entryPoint==null && other.getEntryPoint()==null) || 
+                 (this.entryPoint!=null &&
+                  this.entryPoint.equals(other.getEntryPoint())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(MediaBundle.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = super.hashCode();
-        if (getData() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getData());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getData(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+        try {
+            int _hashCode = super.hashCode();
+            if (getData() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getData());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getData(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
+            if (getMediaBundleUrl() != null) {
+                _hashCode += getMediaBundleUrl().hashCode();
+            }
+            if (getEntryPoint() != null) {
+                _hashCode += getEntryPoint().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        if (getMediaBundleUrl() != null) {
-            _hashCode += getMediaBundleUrl().hashCode();
-        }
-        if (getEntryPoint() != null) {
-            _hashCode += getEntryPoint().hashCode();
-        }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(MediaBundle.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(MediaBundle.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://adwords.google.com/api/adwords/cm/v201605", "MediaBundle"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("data");
@@ -253,13 +258,24 @@ public class MediaBundle  extends com.google.api.ads.adwords.axis.v201605.cm.Med
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (MediaBundle.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -271,7 +287,7 @@ public class MediaBundle  extends com.google.api.ads.adwords.axis.v201605.cm.Med
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -283,7 +299,7 @@ public class MediaBundle  extends com.google.api.ads.adwords.axis.v201605.cm.Med
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
@@ -161,62 +161,67 @@ public class MobileDevice  extends com.google.api.ads.adwords.axis.v201605.cm.Cr
         this.operatingSystemName = operatingSystemName;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof MobileDevice)) return false;
         MobileDevice other = (MobileDevice) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(MobileDevice.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = super.equals(obj) && 
-            ((this.deviceName==null && other.getDeviceName()==null) || 
-             (this.deviceName!=null &&
-              this.deviceName.equals(other.getDeviceName()))) &&
-            ((this.manufacturerName==null && other.getManufacturerName()==null) || 
-             (this.manufacturerName!=null &&
-              this.manufacturerName.equals(other.getManufacturerName()))) &&
-            ((this.deviceType==null && other.getDeviceType()==null) || 
-             (this.deviceType!=null &&
-              this.deviceType.equals(other.getDeviceType()))) &&
-            ((this.operatingSystemName==null && other.getOperatingSystemName()==null) || 
-             (this.operatingSystemName!=null &&
-              this.operatingSystemName.equals(other.getOperatingSystemName())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = super.equals(obj) && 
+                ((this.deviceName==null && other.getDeviceName()==null) || 
+                 (this.deviceName!=null &&
+                  this.deviceName.equals(other.getDeviceName()))) &&
+                ((this.manufacturerName==null && other.getManufacturerName()==null) || 
+                 (this.manufacturerName!=null &&
+                  this.manufacturerName.equals(other.getManufacturerName()))) &&
+                ((this.deviceType==null && other.getDeviceType()==null) || 
+                 (this.deviceType!=null &&
+                  this.deviceType.equals(other.getDeviceType()))) &&
+                ((this.operatingSystemName==null && other.getOperatingSystemName()==null) || 
+                 (this.operatingSystemName!=null &&
+                  this.operatingSystemName.equals(other.getOperatingSystemName())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(MobileDevice.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = super.hashCode();
-        if (getDeviceName() != null) {
-            _hashCode += getDeviceName().hashCode();
-        }
-        if (getManufacturerName() != null) {
-            _hashCode += getManufacturerName().hashCode();
-        }
-        if (getDeviceType() != null) {
-            _hashCode += getDeviceType().hashCode();
-        }
-        if (getOperatingSystemName() != null) {
-            _hashCode += getOperatingSystemName().hashCode();
+        try {
+            int _hashCode = super.hashCode();
+            if (getDeviceName() != null) {
+                _hashCode += getDeviceName().hashCode();
+            }
+            if (getManufacturerName() != null) {
+                _hashCode += getManufacturerName().hashCode();
+            }
+            if (getDeviceType() != null) {
+                _hashCode += getDeviceType().hashCode();
+            }
+            if (getOperatingSystemName() != null) {
+                _hashCode += getOperatingSystemName().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(MobileDevice.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(MobileDevice.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://adwords.google.com/api/adwords/cm/v201605", "MobileDevice"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("deviceName");
@@ -246,13 +251,24 @@ public class MobileDevice  extends com.google.api.ads.adwords.axis.v201605.cm.Cr
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (MobileDevice.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -264,7 +280,7 @@ public class MobileDevice  extends com.google.api.ads.adwords.axis.v201605.cm.Cr
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -276,7 +292,7 @@ public class MobileDevice  extends com.google.api.ads.adwords.axis.v201605.cm.Cr
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
@@ -109,56 +109,61 @@ public class OAuthInfo  implements java.io.Serializable {
         this.httpAuthorizationHeader = httpAuthorizationHeader;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof OAuthInfo)) return false;
         OAuthInfo other = (OAuthInfo) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(OAuthInfo.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = true && 
-            ((this.httpMethod==null && other.getHttpMethod()==null) || 
-             (this.httpMethod!=null &&
-              this.httpMethod.equals(other.getHttpMethod()))) &&
-            ((this.httpRequestUrl==null && other.getHttpRequestUrl()==null) || 
-             (this.httpRequestUrl!=null &&
-              this.httpRequestUrl.equals(other.getHttpRequestUrl()))) &&
-            ((this.httpAuthorizationHeader==null && other.getHttpAuthorizationHeader()==null) || 
-             (this.httpAuthorizationHeader!=null &&
-              this.httpAuthorizationHeader.equals(other.getHttpAuthorizationHeader())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = true && 
+                ((this.httpMethod==null && other.getHttpMethod()==null) || 
+                 (this.httpMethod!=null &&
+                  this.httpMethod.equals(other.getHttpMethod()))) &&
+                ((this.httpRequestUrl==null && other.getHttpRequestUrl()==null) || 
+                 (this.httpRequestUrl!=null &&
+                  this.httpRequestUrl.equals(other.getHttpRequestUrl()))) &&
+                ((this.httpAuthorizationHeader==null && other.getHttpAuthorizationHeader()==null) || 
+                 (this.httpAuthorizationHeader!=null &&
+                  this.httpAuthorizationHeader.equals(other.getHttpAuthorizationHeader())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(OAuthInfo.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getHttpMethod() != null) {
-            _hashCode += getHttpMethod().hashCode();
-        }
-        if (getHttpRequestUrl() != null) {
-            _hashCode += getHttpRequestUrl().hashCode();
-        }
-        if (getHttpAuthorizationHeader() != null) {
-            _hashCode += getHttpAuthorizationHeader().hashCode();
+        try {
+            int _hashCode = 1;
+            if (getHttpMethod() != null) {
+                _hashCode += getHttpMethod().hashCode();
+            }
+            if (getHttpRequestUrl() != null) {
+                _hashCode += getHttpRequestUrl().hashCode();
+            }
+            if (getHttpAuthorizationHeader() != null) {
+                _hashCode += getHttpAuthorizationHeader().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(OAuthInfo.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(OAuthInfo.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://adwords.google.com/api/adwords/cm/v201605", "OAuthInfo"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("httpMethod");
@@ -181,13 +186,24 @@ public class OAuthInfo  implements java.io.Serializable {
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (OAuthInfo.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -199,7 +215,7 @@ public class OAuthInfo  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -211,7 +227,7 @@ public class OAuthInfo  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
@@ -489,152 +489,157 @@ public class Operand  implements java.io.Serializable {
         this.media = media;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof Operand)) return false;
         Operand other = (Operand) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(Operand.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = true && 
-            ((this.adGroupAdLabel==null && other.getAdGroupAdLabel()==null) || 
-             (this.adGroupAdLabel!=null &&
-              this.adGroupAdLabel.equals(other.getAdGroupAdLabel()))) &&
-            ((this.adGroupAd==null && other.getAdGroupAd()==null) || 
-             (this.adGroupAd!=null &&
-              this.adGroupAd.equals(other.getAdGroupAd()))) &&
-            ((this.adGroupBidModifier==null && other.getAdGroupBidModifier()==null) || 
-             (this.adGroupBidModifier!=null &&
-              this.adGroupBidModifier.equals(other.getAdGroupBidModifier()))) &&
-            ((this.adGroupCriterionLabel==null && other.getAdGroupCriterionLabel()==null) || 
-             (this.adGroupCriterionLabel!=null &&
-              this.adGroupCriterionLabel.equals(other.getAdGroupCriterionLabel()))) &&
-            ((this.adGroupCriterion==null && other.getAdGroupCriterion()==null) || 
-             (this.adGroupCriterion!=null &&
-              this.adGroupCriterion.equals(other.getAdGroupCriterion()))) &&
-            ((this.adGroupExtensionSetting==null && other.getAdGroupExtensionSetting()==null) || 
-             (this.adGroupExtensionSetting!=null &&
-              this.adGroupExtensionSetting.equals(other.getAdGroupExtensionSetting()))) &&
-            ((this.adGroupLabel==null && other.getAdGroupLabel()==null) || 
-             (this.adGroupLabel!=null &&
-              this.adGroupLabel.equals(other.getAdGroupLabel()))) &&
-            ((this.adGroup==null && other.getAdGroup()==null) || 
-             (this.adGroup!=null &&
-              this.adGroup.equals(other.getAdGroup()))) &&
-            ((this.ad==null && other.getAd()==null) || 
-             (this.ad!=null &&
-              this.ad.equals(other.getAd()))) &&
-            ((this.budget==null && other.getBudget()==null) || 
-             (this.budget!=null &&
-              this.budget.equals(other.getBudget()))) &&
-            ((this.campaignCriterion==null && other.getCampaignCriterion()==null) || 
-             (this.campaignCriterion!=null &&
-              this.campaignCriterion.equals(other.getCampaignCriterion()))) &&
-            ((this.campaignExtensionSetting==null && other.getCampaignExtensionSetting()==null) || 
-             (this.campaignExtensionSetting!=null &&
-              this.campaignExtensionSetting.equals(other.getCampaignExtensionSetting()))) &&
-            ((this.campaignLabel==null && other.getCampaignLabel()==null) || 
-             (this.campaignLabel!=null &&
-              this.campaignLabel.equals(other.getCampaignLabel()))) &&
-            ((this.campaign==null && other.getCampaign()==null) || 
-             (this.campaign!=null &&
-              this.campaign.equals(other.getCampaign()))) &&
-            ((this.customerExtensionSetting==null && other.getCustomerExtensionSetting()==null) || 
-             (this.customerExtensionSetting!=null &&
-              this.customerExtensionSetting.equals(other.getCustomerExtensionSetting()))) &&
-            ((this.extensionFeedItem==null && other.getExtensionFeedItem()==null) || 
-             (this.extensionFeedItem!=null &&
-              this.extensionFeedItem.equals(other.getExtensionFeedItem()))) &&
-            ((this.feedItem==null && other.getFeedItem()==null) || 
-             (this.feedItem!=null &&
-              this.feedItem.equals(other.getFeedItem()))) &&
-            ((this.label==null && other.getLabel()==null) || 
-             (this.label!=null &&
-              this.label.equals(other.getLabel()))) &&
-            ((this.media==null && other.getMedia()==null) || 
-             (this.media!=null &&
-              this.media.equals(other.getMedia())));
-        __equalsCalc = null;
-        return _equals;
-    }
-
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
-            return 0;
-        }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getAdGroupAdLabel() != null) {
-            _hashCode += getAdGroupAdLabel().hashCode();
-        }
-        if (getAdGroupAd() != null) {
-            _hashCode += getAdGroupAd().hashCode();
-        }
-        if (getAdGroupBidModifier() != null) {
-            _hashCode += getAdGroupBidModifier().hashCode();
-        }
-        if (getAdGroupCriterionLabel() != null) {
-            _hashCode += getAdGroupCriterionLabel().hashCode();
-        }
-        if (getAdGroupCriterion() != null) {
-            _hashCode += getAdGroupCriterion().hashCode();
-        }
-        if (getAdGroupExtensionSetting() != null) {
-            _hashCode += getAdGroupExtensionSetting().hashCode();
-        }
-        if (getAdGroupLabel() != null) {
-            _hashCode += getAdGroupLabel().hashCode();
-        }
-        if (getAdGroup() != null) {
-            _hashCode += getAdGroup().hashCode();
-        }
-        if (getAd() != null) {
-            _hashCode += getAd().hashCode();
-        }
-        if (getBudget() != null) {
-            _hashCode += getBudget().hashCode();
-        }
-        if (getCampaignCriterion() != null) {
-            _hashCode += getCampaignCriterion().hashCode();
+        try {
+            boolean _equals;
+            _equals = true && 
+                ((this.adGroupAdLabel==null && other.getAdGroupAdLabel()==null) || 
+                 (this.adGroupAdLabel!=null &&
+                  this.adGroupAdLabel.equals(other.getAdGroupAdLabel()))) &&
+                ((this.adGroupAd==null && other.getAdGroupAd()==null) || 
+                 (this.adGroupAd!=null &&
+                  this.adGroupAd.equals(other.getAdGroupAd()))) &&
+                ((this.adGroupBidModifier==null && other.getAdGroupBidModifier()==null) || 
+                 (this.adGroupBidModifier!=null &&
+                  this.adGroupBidModifier.equals(other.getAdGroupBidModifier()))) &&
+                ((this.adGroupCriterionLabel==null && other.getAdGroupCriterionLabel()==null) || 
+                 (this.adGroupCriterionLabel!=null &&
+                  this.adGroupCriterionLabel.equals(other.getAdGroupCriterionLabel()))) &&
+                ((this.adGroupCriterion==null && other.getAdGroupCriterion()==null) || 
+                 (this.adGroupCriterion!=null &&
+                  this.adGroupCriterion.equals(other.getAdGroupCriterion()))) &&
+                ((this.adGroupExtensionSetting==null && other.getAdGroupExtensionSetting()==null) || 
+                 (this.adGroupExtensionSetting!=null &&
+                  this.adGroupExtensionSetting.equals(other.getAdGroupExtensionSetting()))) &&
+                ((this.adGroupLabel==null && other.getAdGroupLabel()==null) || 
+                 (this.adGroupLabel!=null &&
+                  this.adGroupLabel.equals(other.getAdGroupLabel()))) &&
+                ((this.adGroup==null && other.getAdGroup()==null) || 
+                 (this.adGroup!=null &&
+                  this.adGroup.equals(other.getAdGroup()))) &&
+                ((this.ad==null && other.getAd()==null) || 
+                 (this.ad!=null &&
+                  this.ad.equals(other.getAd()))) &&
+                ((this.budget==null && other.getBudget()==null) || 
+                 (this.budget!=null &&
+                  this.budget.equals(other.getBudget()))) &&
+                ((this.campaignCriterion==null && other.getCampaignCriterion()==null) || 
+                 (this.campaignCriterion!=null &&
+                  this.campaignCriterion.equals(other.getCampaignCriterion()))) &&
+                ((this.campaignExtensionSetting==null && other.getCampaignExtensionSetting()==null) || 
+                 (this.campaignExtensionSetting!=null &&
+                  this.campaignExtensionSetting.equals(other.getCampaignExtensionSetting()))) &&
+                ((this.campaignLabel==null && other.getCampaignLabel()==null) || 
+                 (this.campaignLabel!=null &&
+                  this.campaignLabel.equals(other.getCampaignLabel()))) &&
+                ((this.campaign==null && other.getCampaign()==null) || 
+                 (this.campaign!=null &&
+                  this.campaign.equals(other.getCampaign()))) &&
+                ((this.customerExtensionSetting==null && other.getCustomerExtensionSetting()==null) || 
+                 (this.customerExtensionSetting!=null &&
+                  this.customerExtensionSetting.equals(other.getCustomerExtensionSetting()))) &&
+                ((this.extensionFeedItem==null && other.getExtensionFeedItem()==null) || 
+                 (this.extensionFeedItem!=null &&
+                  this.extensionFeedItem.equals(other.getExtensionFeedItem()))) &&
+                ((this.feedItem==null && other.getFeedItem()==null) || 
+                 (this.feedItem!=null &&
+                  this.feedItem.equals(other.getFeedItem()))) &&
+                ((this.label==null && other.getLabel()==null) || 
+                 (this.label!=null &&
+                  this.label.equals(other.getLabel()))) &&
+                ((this.media==null && other.getMedia()==null) || 
+                 (this.media!=null &&
+                  this.media.equals(other.getMedia())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
         }
-        if (getCampaignExtensionSetting() != null) {
-            _hashCode += getCampaignExtensionSetting().hashCode();
-        }
-        if (getCampaignLabel() != null) {
-            _hashCode += getCampaignLabel().hashCode();
-        }
-        if (getCampaign() != null) {
-            _hashCode += getCampaign().hashCode();
-        }
-        if (getCustomerExtensionSetting() != null) {
-            _hashCode += getCustomerExtensionSetting().hashCode();
-        }
-        if (getExtensionFeedItem() != null) {
-            _hashCode += getExtensionFeedItem().hashCode();
-        }
-        if (getFeedItem() != null) {
-            _hashCode += getFeedItem().hashCode();
-        }
-        if (getLabel() != null) {
-            _hashCode += getLabel().hashCode();
+    }
+
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(Operand.class, this)) {
+            return 0;
         }
-        if (getMedia() != null) {
-            _hashCode += getMedia().hashCode();
+        try {
+            int _hashCode = 1;
+            if (getAdGroupAdLabel() != null) {
+                _hashCode += getAdGroupAdLabel().hashCode();
+            }
+            if (getAdGroupAd() != null) {
+                _hashCode += getAdGroupAd().hashCode();
+            }
+            if (getAdGroupBidModifier() != null) {
+                _hashCode += getAdGroupBidModifier().hashCode();
+            }
+            if (getAdGroupCriterionLabel() != null) {
+                _hashCode += getAdGroupCriterionLabel().hashCode();
+            }
+            if (getAdGroupCriterion() != null) {
+                _hashCode += getAdGroupCriterion().hashCode();
+            }
+            if (getAdGroupExtensionSetting() != null) {
+                _hashCode += getAdGroupExtensionSetting().hashCode();
+            }
+            if (getAdGroupLabel() != null) {
+                _hashCode += getAdGroupLabel().hashCode();
+            }
+            if (getAdGroup() != null) {
+                _hashCode += getAdGroup().hashCode();
+            }
+            if (getAd() != null) {
+                _hashCode += getAd().hashCode();
+            }
+            if (getBudget() != null) {
+                _hashCode += getBudget().hashCode();
+            }
+            if (getCampaignCriterion() != null) {
+                _hashCode += getCampaignCriterion().hashCode();
+            }
+            if (getCampaignExtensionSetting() != null) {
+                _hashCode += getCampaignExtensionSetting().hashCode();
+            }
+            if (getCampaignLabel() != null) {
+                _hashCode += getCampaignLabel().hashCode();
+            }
+            if (getCampaign() != null) {
+                _hashCode += getCampaign().hashCode();
+            }
+            if (getCustomerExtensionSetting() != null) {
+                _hashCode += getCustomerExtensionSetting().hashCode();
+            }
+            if (getExtensionFeedItem() != null) {
+                _hashCode += getExtensionFeedItem().hashCode();
+            }
+            if (getFeedItem() != null) {
+                _hashCode += getFeedItem().hashCode();
+            }
+            if (getLabel() != null) {
+                _hashCode += getLabel().hashCode();
+            }
+            if (getMedia() != null) {
+                _hashCode += getMedia().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(Operand.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(Operand.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://adwords.google.com/api/adwords/cm/v201605", "Operand"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("adGroupAdLabel");
@@ -769,13 +774,24 @@ public class Operand  implements java.io.Serializable {
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (Operand.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -787,7 +803,7 @@ public class Operand  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -799,7 +815,7 @@ public class Operand  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
@@ -255,74 +255,79 @@ public class PageOnePromotedBiddingScheme  extends com.google.api.ads.adwords.ax
         this.raiseBidWhenLowQualityScore = raiseBidWhenLowQualityScore;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof PageOnePromotedBiddingScheme)) return false;
         PageOnePromotedBiddingScheme other = (PageOnePromotedBiddingScheme) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(PageOnePromotedBiddingScheme.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = super.equals(obj) && 
-            ((this.strategyGoal==null && other.getStrategyGoal()==null) || 
-             (this.strategyGoal!=null &&
-              this.strategyGoal.equals(other.getStrategyGoal()))) &&
-            ((this.bidCeiling==null && other.getBidCeiling()==null) || 
-             (this.bidCeiling!=null &&
-              this.bidCeiling.equals(other.getBidCeiling()))) &&
-            ((this.bidModifier==null && other.getBidModifier()==null) || 
-             (this.bidModifier!=null &&
-              this.bidModifier.equals(other.getBidModifier()))) &&
-            ((this.bidChangesForRaisesOnly==null && other.getBidChangesForRaisesOnly()==null) || 
-             (this.bidChangesForRaisesOnly!=null &&
-              this.bidChangesForRaisesOnly.equals(other.getBidChangesForRaisesOnly()))) &&
-            ((this.raiseBidWhenBudgetConstrained==null && other.getRaiseBidWhenBudgetConstrained()==null) || 
-             (this.raiseBidWhenBudgetConstrained!=null &&
-              this.raiseBidWhenBudgetConstrained.equals(other.getRaiseBidWhenBudgetConstrained()))) &&
-            ((this.raiseBidWhenLowQualityScore==null && other.getRaiseBidWhenLowQualityScore()==null) || 
-             (this.raiseBidWhenLowQualityScore!=null &&
-              this.raiseBidWhenLowQualityScore.equals(other.getRaiseBidWhenLowQualityScore())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = super.equals(obj) && 
+                ((this.strategyGoal==null && other.getStrategyGoal()==null) || 
+                 (this.strategyGoal!=null &&
+                  this.strategyGoal.equals(other.getStrategyGoal()))) &&
+                ((this.bidCeiling==null && other.getBidCeiling()==null) || 
+                 (this.bidCeiling!=null &&
+                  this.bidCeiling.equals(other.getBidCeiling()))) &&
+                ((this.bidModifier==null && other.getBidModifier()==null) || 
+                 (this.bidModifier!=null &&
+                  this.bidModifier.equals(other.getBidModifier()))) &&
+                ((this.bidChangesForRaisesOnly==null && other.getBidChangesForRaisesOnly()==null) || 
+                 (this.bidChangesForRaisesOnly!=null &&
+                  this.bidChangesForRaisesOnly.equals(other.getBidChangesForRaisesOnly()))) &&
+                ((this.raiseBidWhenBudgetConstrained==null && other.getRaiseBidWhenBudgetConstrained()==null) || 
+                 (this.raiseBidWhenBudgetConstrained!=null &&
+                  this.raiseBidWhenBudgetConstrained.equals(other.getRaiseBidWhenBudgetConstrained()))) &&
+                ((this.raiseBidWhenLowQualityScore==null && other.getRaiseBidWhenLowQualityScore()==null) || 
+                 (this.raiseBidWhenLowQualityScore!=null &&
+                  this.raiseBidWhenLowQualityScore.equals(other.getRaiseBidWhenLowQualityScore())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(PageOnePromotedBiddingScheme.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = super.hashCode();
-        if (getStrategyGoal() != null) {
-            _hashCode += getStrategyGoal().hashCode();
-        }
-        if (getBidCeiling() != null) {
-            _hashCode += getBidCeiling().hashCode();
-        }
-        if (getBidModifier() != null) {
-            _hashCode += getBidModifier().hashCode();
-        }
-        if (getBidChangesForRaisesOnly() != null) {
-            _hashCode += getBidChangesForRaisesOnly().hashCode();
-        }
-        if (getRaiseBidWhenBudgetConstrained() != null) {
-            _hashCode += getRaiseBidWhenBudgetConstrained().hashCode();
+        try {
+            int _hashCode = super.hashCode();
+            if (getStrategyGoal() != null) {
+                _hashCode += getStrategyGoal().hashCode();
+            }
+            if (getBidCeiling() != null) {
+                _hashCode += getBidCeiling().hashCode();
+            }
+            if (getBidModifier() != null) {
+                _hashCode += getBidModifier().hashCode();
+            }
+            if (getBidChangesForRaisesOnly() != null) {
+                _hashCode += getBidChangesForRaisesOnly().hashCode();
+            }
+            if (getRaiseBidWhenBudgetConstrained() != null) {
+                _hashCode += getRaiseBidWhenBudgetConstrained().hashCode();
+            }
+            if (getRaiseBidWhenLowQualityScore() != null) {
+                _hashCode += getRaiseBidWhenLowQualityScore().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        if (getRaiseBidWhenLowQualityScore() != null) {
-            _hashCode += getRaiseBidWhenLowQualityScore().hashCode();
-        }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(PageOnePromotedBiddingScheme.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(PageOnePromotedBiddingScheme.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://adwords.google.com/api/adwords/cm/v201605", "PageOnePromotedBiddingScheme"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("strategyGoal");
@@ -366,13 +371,24 @@ public class PageOnePromotedBiddingScheme  extends com.google.api.ads.adwords.ax
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (PageOnePromotedBiddingScheme.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -384,7 +400,7 @@ public class PageOnePromotedBiddingScheme  extends com.google.api.ads.adwords.ax
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -396,7 +412,7 @@ public class PageOnePromotedBiddingScheme  extends com.google.api.ads.adwords.ax
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
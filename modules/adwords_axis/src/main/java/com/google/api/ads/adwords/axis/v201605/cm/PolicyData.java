@@ -99,58 +99,63 @@ public class PolicyData  implements java.io.Serializable {
         this.policyDataType = policyDataType;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof PolicyData)) return false;
         PolicyData other = (PolicyData) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(PolicyData.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = true && 
-            ((this.disapprovalReasons==null && other.getDisapprovalReasons()==null) || 
-             (this.disapprovalReasons!=null &&
-              java.util.Arrays.equals(this.disapprovalReasons, other.getDisapprovalReasons()))) &&
-            ((this.policyDataType==null && other.getPolicyDataType()==null) || 
-             (this.policyDataType!=null &&
-              this.policyDataType.equals(other.getPolicyDataType())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = true && 
+                ((this.disapprovalReasons==null && other.getDisapprovalReasons()==null) || 
+                 (this.disapprovalReasons!=null &&
+                  java.util.Arrays.equals(this.disapprovalReasons, other.getDisapprovalReasons()))) &&
+                ((this.policyDataType==null && other.getPolicyDataType()==null) || 
+                 (this.policyDataType!=null &&
+                  this.policyDataType.equals(other.getPolicyDataType())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(PolicyData.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getDisapprovalReasons() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getDisapprovalReasons());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getDisapprovalReasons(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+        try {
+            int _hashCode = 1;
+            if (getDisapprovalReasons() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getDisapprovalReasons());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getDisapprovalReasons(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
+            if (getPolicyDataType() != null) {
+                _hashCode += getPolicyDataType().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        if (getPolicyDataType() != null) {
-            _hashCode += getPolicyDataType().hashCode();
-        }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(PolicyData.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(PolicyData.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://adwords.google.com/api/adwords/cm/v201605", "PolicyData"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("disapprovalReasons");
@@ -167,13 +172,24 @@ public class PolicyData  implements java.io.Serializable {
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (PolicyData.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -185,7 +201,7 @@ public class PolicyData  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -197,7 +213,7 @@ public class PolicyData  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
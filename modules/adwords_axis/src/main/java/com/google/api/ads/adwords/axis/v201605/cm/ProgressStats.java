@@ -132,62 +132,67 @@ public class ProgressStats  implements java.io.Serializable {
         this.numResultsWritten = numResultsWritten;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof ProgressStats)) return false;
         ProgressStats other = (ProgressStats) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(ProgressStats.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = true && 
-            ((this.numOperationsExecuted==null && other.getNumOperationsExecuted()==null) || 
-             (this.numOperationsExecuted!=null &&
-              this.numOperationsExecuted.equals(other.getNumOperationsExecuted()))) &&
-            ((this.numOperationsSucceeded==null && other.getNumOperationsSucceeded()==null) || 
-             (this.numOperationsSucceeded!=null &&
-              this.numOperationsSucceeded.equals(other.getNumOperationsSucceeded()))) &&
-            ((this.estimatedPercentExecuted==null && other.getEstimatedPercentExecuted()==null) || 
-             (this.estimatedPercentExecuted!=null &&
-              this.estimatedPercentExecuted.equals(other.getEstimatedPercentExecuted()))) &&
-            ((this.numResultsWritten==null && other.getNumResultsWritten()==null) || 
-             (this.numResultsWritten!=null &&
-              this.numResultsWritten.equals(other.getNumResultsWritten())));
-        __equalsCalc = null;
-        return _equals;
-    }
-
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
-            return 0;
-        }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getNumOperationsExecuted() != null) {
-            _hashCode += getNumOperationsExecuted().hashCode();
-        }
-        if (getNumOperationsSucceeded() != null) {
-            _hashCode += getNumOperationsSucceeded().hashCode();
+        try {
+            boolean _equals;
+            _equals = true && 
+                ((this.numOperationsExecuted==null && other.getNumOperationsExecuted()==null) || 
+                 (this.numOperationsExecuted!=null &&
+                  this.numOperationsExecuted.equals(other.getNumOperationsExecuted()))) &&
+                ((this.numOperationsSucceeded==null && other.getNumOperationsSucceeded()==null) || 
+                 (this.numOperationsSucceeded!=null &&
+                  this.numOperationsSucceeded.equals(other.getNumOperationsSucceeded()))) &&
+                ((this.estimatedPercentExecuted==null && other.getEstimatedPercentExecuted()==null) || 
+                 (this.estimatedPercentExecuted!=null &&
+                  this.estimatedPercentExecuted.equals(other.getEstimatedPercentExecuted()))) &&
+                ((this.numResultsWritten==null && other.getNumResultsWritten()==null) || 
+                 (this.numResultsWritten!=null &&
+                  this.numResultsWritten.equals(other.getNumResultsWritten())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
         }
-        if (getEstimatedPercentExecuted() != null) {
-            _hashCode += getEstimatedPercentExecuted().hashCode();
+    }
+
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(ProgressStats.class, this)) {
+            return 0;
         }
-        if (getNumResultsWritten() != null) {
-            _hashCode += getNumResultsWritten().hashCode();
+        try {
+            int _hashCode = 1;
+            if (getNumOperationsExecuted() != null) {
+                _hashCode += getNumOperationsExecuted().hashCode();
+            }
+            if (getNumOperationsSucceeded() != null) {
+                _hashCode += getNumOperationsSucceeded().hashCode();
+            }
+            if (getEstimatedPercentExecuted() != null) {
+                _hashCode += getEstimatedPercentExecuted().hashCode();
+            }
+            if (getNumResultsWritten() != null) {
+                _hashCode += getNumResultsWritten().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(ProgressStats.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(ProgressStats.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://adwords.google.com/api/adwords/cm/v201605", "ProgressStats"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("numOperationsExecuted");
@@ -217,13 +222,24 @@ public class ProgressStats  implements java.io.Serializable {
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (ProgressStats.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -235,7 +251,7 @@ public class ProgressStats  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -247,7 +263,7 @@ public class ProgressStats  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
@@ -144,62 +144,67 @@ public class RateExceededError  extends com.google.api.ads.adwords.axis.v201605.
         this.retryAfterSeconds = retryAfterSeconds;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof RateExceededError)) return false;
         RateExceededError other = (RateExceededError) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(RateExceededError.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = super.equals(obj) && 
-            ((this.reason==null && other.getReason()==null) || 
-             (this.reason!=null &&
-              this.reason.equals(other.getReason()))) &&
-            ((this.rateName==null && other.getRateName()==null) || 
-             (this.rateName!=null &&
-              this.rateName.equals(other.getRateName()))) &&
-            ((this.rateScope==null && other.getRateScope()==null) || 
-             (this.rateScope!=null &&
-              this.rateScope.equals(other.getRateScope()))) &&
-            ((this.retryAfterSeconds==null && other.getRetryAfterSeconds()==null) || 
-             (this.retryAfterSeconds!=null &&
-              this.retryAfterSeconds.equals(other.getRetryAfterSeconds())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = super.equals(obj) && 
+                ((this.reason==null && other.getReason()==null) || 
+                 (this.reason!=null &&
+                  this.reason.equals(other.getReason()))) &&
+                ((this.rateName==null && other.getRateName()==null) || 
+                 (this.rateName!=null &&
+                  this.rateName.equals(other.getRateName()))) &&
+                ((this.rateScope==null && other.getRateScope()==null) || 
+                 (this.rateScope!=null &&
+                  this.rateScope.equals(other.getRateScope()))) &&
+                ((this.retryAfterSeconds==null && other.getRetryAfterSeconds()==null) || 
+                 (this.retryAfterSeconds!=null &&
+                  this.retryAfterSeconds.equals(other.getRetryAfterSeconds())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(RateExceededError.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = super.hashCode();
-        if (getReason() != null) {
-            _hashCode += getReason().hashCode();
-        }
-        if (getRateName() != null) {
-            _hashCode += getRateName().hashCode();
-        }
-        if (getRateScope() != null) {
-            _hashCode += getRateScope().hashCode();
-        }
-        if (getRetryAfterSeconds() != null) {
-            _hashCode += getRetryAfterSeconds().hashCode();
+        try {
+            int _hashCode = super.hashCode();
+            if (getReason() != null) {
+                _hashCode += getReason().hashCode();
+            }
+            if (getRateName() != null) {
+                _hashCode += getRateName().hashCode();
+            }
+            if (getRateScope() != null) {
+                _hashCode += getRateScope().hashCode();
+            }
+            if (getRetryAfterSeconds() != null) {
+                _hashCode += getRetryAfterSeconds().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(RateExceededError.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(RateExceededError.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://adwords.google.com/api/adwords/cm/v201605", "RateExceededError"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("reason");
@@ -229,13 +234,24 @@ public class RateExceededError  extends com.google.api.ads.adwords.axis.v201605.
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (RateExceededError.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -247,7 +263,7 @@ public class RateExceededError  extends com.google.api.ads.adwords.axis.v201605.
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -259,7 +275,7 @@ public class RateExceededError  extends com.google.api.ads.adwords.axis.v201605.
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
@@ -501,140 +501,145 @@ public class ReportDefinitionField  implements java.io.Serializable {
         this.exclusiveFields[i] = _value;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof ReportDefinitionField)) return false;
         ReportDefinitionField other = (ReportDefinitionField) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(ReportDefinitionField.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = true && 
-            ((this.fieldName==null && other.getFieldName()==null) || 
-             (this.fieldName!=null &&
-              this.fieldName.equals(other.getFieldName()))) &&
-            ((this.displayFieldName==null && other.getDisplayFieldName()==null) || 
-             (this.displayFieldName!=null &&
-              this.displayFieldName.equals(other.getDisplayFieldName()))) &&
-            ((this.xmlAttributeName==null && other.getXmlAttributeName()==null) || 
-             (this.xmlAttributeName!=null &&
-              this.xmlAttributeName.equals(other.getXmlAttributeName()))) &&
-            ((this.fieldType==null && other.getFieldType()==null) || 
-             (this.fieldType!=null &&
-              this.fieldType.equals(other.getFieldType()))) &&
-            ((this.fieldBehavior==null && other.getFieldBehavior()==null) || 
-             (this.fieldBehavior!=null &&
-              this.fieldBehavior.equals(other.getFieldBehavior()))) &&
-            ((this.enumValues==null && other.getEnumValues()==null) || 
-             (this.enumValues!=null &&
-              java.util.Arrays.equals(this.enumValues, other.getEnumValues()))) &&
-            ((this.canSelect==null && other.getCanSelect()==null) || 
-             (this.canSelect!=null &&
-              this.canSelect.equals(other.getCanSelect()))) &&
-            ((this.canFilter==null && other.getCanFilter()==null) || 
-             (this.canFilter!=null &&
-              this.canFilter.equals(other.getCanFilter()))) &&
-            ((this.isEnumType==null && other.getIsEnumType()==null) || 
-             (this.isEnumType!=null &&
-              this.isEnumType.equals(other.getIsEnumType()))) &&
-            ((this.isBeta==null && other.getIsBeta()==null) || 
-             (this.isBeta!=null &&
-              this.isBeta.equals(other.getIsBeta()))) &&
-            ((this.isZeroRowCompatible==null && other.getIsZeroRowCompatible()==null) || 
-             (this.isZeroRowCompatible!=null &&
-              this.isZeroRowCompatible.equals(other.getIsZeroRowCompatible()))) &&
-            ((this.enumValuePairs==null && other.getEnumValuePairs()==null) || 
-             (this.enumValuePairs!=null &&
-              java.util.Arrays.equals(this.enumValuePairs, other.getEnumValuePairs()))) &&
-            ((this.exclusiveFields==null && other.getExclusiveFields()==null) || 
-             (this.exclusiveFields!=null &&
-              java.util.Arrays.equals(this.exclusiveFields, other.getExclusiveFields())));
-        __equalsCalc = null;
-        return _equals;
-    }
-
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
-            return 0;
-        }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getFieldName() != null) {
-            _hashCode += getFieldName().hashCode();
-        }
-        if (getDisplayFieldName() != null) {
-            _hashCode += getDisplayFieldName().hashCode();
-        }
-        if (getXmlAttributeName() != null) {
-            _hashCode += getXmlAttributeName().hashCode();
+        try {
+            boolean _equals;
+            _equals = true && 
+                ((this.fieldName==null && other.getFieldName()==null) || 
+                 (this.fieldName!=null &&
+                  this.fieldName.equals(other.getFieldName()))) &&
+                ((this.displayFieldName==null && other.getDisplayFieldName()==null) || 
+                 (this.displayFieldName!=null &&
+                  this.displayFieldName.equals(other.getDisplayFieldName()))) &&
+                ((this.xmlAttributeName==null && other.getXmlAttributeName()==null) || 
+                 (this.xmlAttributeName!=null &&
+                  this.xmlAttributeName.equals(other.getXmlAttributeName()))) &&
+                ((this.fieldType==null && other.getFieldType()==null) || 
+                 (this.fieldType!=null &&
+                  this.fieldType.equals(other.getFieldType()))) &&
+                ((this.fieldBehavior==null && other.getFieldBehavior()==null) || 
+                 (this.fieldBehavior!=null &&
+                  this.fieldBehavior.equals(other.getFieldBehavior()))) &&
+                ((this.enumValues==null && other.getEnumValues()==null) || 
+                 (this.enumValues!=null &&
+                  java.util.Arrays.equals(this.enumValues, other.getEnumValues()))) &&
+                ((this.canSelect==null && other.getCanSelect()==null) || 
+                 (this.canSelect!=null &&
+                  this.canSelect.equals(other.getCanSelect()))) &&
+                ((this.canFilter==null && other.getCanFilter()==null) || 
+                 (this.canFilter!=null &&
+                  this.canFilter.equals(other.getCanFilter()))) &&
+                ((this.isEnumType==null && other.getIsEnumType()==null) || 
+                 (this.isEnumType!=null &&
+                  this.isEnumType.equals(other.getIsEnumType()))) &&
+                ((this.isBeta==null && other.getIsBeta()==null) || 
+                 (this.isBeta!=null &&
+                  this.isBeta.equals(other.getIsBeta()))) &&
+                ((this.isZeroRowCompatible==null && other.getIsZeroRowCompatible()==null) || 
+                 (this.isZeroRowCompatible!=null &&
+                  this.isZeroRowCompatible.equals(other.getIsZeroRowCompatible()))) &&
+                ((this.enumValuePairs==null && other.getEnumValuePairs()==null) || 
+                 (this.enumValuePairs!=null &&
+                  java.util.Arrays.equals(this.enumValuePairs, other.getEnumValuePairs()))) &&
+                ((this.exclusiveFields==null && other.getExclusiveFields()==null) || 
+                 (this.exclusiveFields!=null &&
+                  java.util.Arrays.equals(this.exclusiveFields, other.getExclusiveFields())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
         }
-        if (getFieldType() != null) {
-            _hashCode += getFieldType().hashCode();
-        }
-        if (getFieldBehavior() != null) {
-            _hashCode += getFieldBehavior().hashCode();
+    }
+
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(ReportDefinitionField.class, this)) {
+            return 0;
         }
-        if (getEnumValues() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getEnumValues());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getEnumValues(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+        try {
+            int _hashCode = 1;
+            if (getFieldName() != null) {
+                _hashCode += getFieldName().hashCode();
+            }
+            if (getDisplayFieldName() != null) {
+                _hashCode += getDisplayFieldName().hashCode();
+            }
+            if (getXmlAttributeName() != null) {
+                _hashCode += getXmlAttributeName().hashCode();
+            }
+            if (getFieldType() != null) {
+                _hashCode += getFieldType().hashCode();
+            }
+            if (getFieldBehavior() != null) {
+                _hashCode += getFieldBehavior().hashCode();
+            }
+            if (getEnumValues() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getEnumValues());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getEnumValues(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
-        }
-        if (getCanSelect() != null) {
-            _hashCode += getCanSelect().hashCode();
-        }
-        if (getCanFilter() != null) {
-            _hashCode += getCanFilter().hashCode();
-        }
-        if (getIsEnumType() != null) {
-            _hashCode += getIsEnumType().hashCode();
-        }
-        if (getIsBeta() != null) {
-            _hashCode += getIsBeta().hashCode();
-        }
-        if (getIsZeroRowCompatible() != null) {
-            _hashCode += getIsZeroRowCompatible().hashCode();
-        }
-        if (getEnumValuePairs() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getEnumValuePairs());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getEnumValuePairs(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+            if (getCanSelect() != null) {
+                _hashCode += getCanSelect().hashCode();
+            }
+            if (getCanFilter() != null) {
+                _hashCode += getCanFilter().hashCode();
+            }
+            if (getIsEnumType() != null) {
+                _hashCode += getIsEnumType().hashCode();
+            }
+            if (getIsBeta() != null) {
+                _hashCode += getIsBeta().hashCode();
+            }
+            if (getIsZeroRowCompatible() != null) {
+                _hashCode += getIsZeroRowCompatible().hashCode();
+            }
+            if (getEnumValuePairs() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getEnumValuePairs());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getEnumValuePairs(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
-        }
-        if (getExclusiveFields() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getExclusiveFields());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getExclusiveFields(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+            if (getExclusiveFields() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getExclusiveFields());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getExclusiveFields(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(ReportDefinitionField.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(ReportDefinitionField.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://adwords.google.com/api/adwords/cm/v201605", "ReportDefinitionField"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("fieldName");
@@ -730,13 +735,24 @@ public class ReportDefinitionField  implements java.io.Serializable {
         elemField.setNillable(false);
         elemField.setMaxOccursUnbounded(true);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (ReportDefinitionField.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -748,7 +764,7 @@ public class ReportDefinitionField  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -760,7 +776,7 @@ public class ReportDefinitionField  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
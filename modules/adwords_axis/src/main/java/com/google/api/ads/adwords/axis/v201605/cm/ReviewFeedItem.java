@@ -188,62 +188,67 @@ public class ReviewFeedItem  extends com.google.api.ads.adwords.axis.v201605.cm.
         this.reviewTextExactlyQuoted = reviewTextExactlyQuoted;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof ReviewFeedItem)) return false;
         ReviewFeedItem other = (ReviewFeedItem) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(ReviewFeedItem.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = super.equals(obj) && 
-            ((this.reviewText==null && other.getReviewText()==null) || 
-             (this.reviewText!=null &&
-              this.reviewText.equals(other.getReviewText()))) &&
-            ((this.reviewSourceName==null && other.getReviewSourceName()==null) || 
-             (this.reviewSourceName!=null &&
-              this.reviewSourceName.equals(other.getReviewSourceName()))) &&
-            ((this.reviewSourceUrl==null && other.getReviewSourceUrl()==null) || 
-             (this.reviewSourceUrl!=null &&
-              this.reviewSourceUrl.equals(other.getReviewSourceUrl()))) &&
-            ((this.reviewTextExactlyQuoted==null && other.getReviewTextExactlyQuoted()==null) || 
-             (this.reviewTextExactlyQuoted!=null &&
-              this.reviewTextExactlyQuoted.equals(other.getReviewTextExactlyQuoted())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = super.equals(obj) && 
+                ((this.reviewText==null && other.getReviewText()==null) || 
+                 (this.reviewText!=null &&
+                  this.reviewText.equals(other.getReviewText()))) &&
+                ((this.reviewSourceName==null && other.getReviewSourceName()==null) || 
+                 (this.reviewSourceName!=null &&
+                  this.reviewSourceName.equals(other.getReviewSourceName()))) &&
+                ((this.reviewSourceUrl==null && other.getReviewSourceUrl()==null) || 
+                 (this.reviewSourceUrl!=null &&
+                  this.reviewSourceUrl.equals(other.getReviewSourceUrl()))) &&
+                ((this.reviewTextExactlyQuoted==null && other.getReviewTextExactlyQuoted()==null) || 
+                 (this.reviewTextExactlyQuoted!=null &&
+                  this.reviewTextExactlyQuoted.equals(other.getReviewTextExactlyQuoted())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(ReviewFeedItem.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = super.hashCode();
-        if (getReviewText() != null) {
-            _hashCode += getReviewText().hashCode();
-        }
-        if (getReviewSourceName() != null) {
-            _hashCode += getReviewSourceName().hashCode();
-        }
-        if (getReviewSourceUrl() != null) {
-            _hashCode += getReviewSourceUrl().hashCode();
-        }
-        if (getReviewTextExactlyQuoted() != null) {
-            _hashCode += getReviewTextExactlyQuoted().hashCode();
+        try {
+            int _hashCode = super.hashCode();
+            if (getReviewText() != null) {
+                _hashCode += getReviewText().hashCode();
+            }
+            if (getReviewSourceName() != null) {
+                _hashCode += getReviewSourceName().hashCode();
+            }
+            if (getReviewSourceUrl() != null) {
+                _hashCode += getReviewSourceUrl().hashCode();
+            }
+            if (getReviewTextExactlyQuoted() != null) {
+                _hashCode += getReviewTextExactlyQuoted().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(ReviewFeedItem.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(ReviewFeedItem.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://adwords.google.com/api/adwords/cm/v201605", "ReviewFeedItem"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("reviewText");
@@ -273,13 +278,24 @@ public class ReviewFeedItem  extends com.google.api.ads.adwords.axis.v201605.cm.
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (ReviewFeedItem.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -291,7 +307,7 @@ public class ReviewFeedItem  extends com.google.api.ads.adwords.axis.v201605.cm.
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -303,7 +319,7 @@ public class ReviewFeedItem  extends com.google.api.ads.adwords.axis.v201605.cm.
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
@@ -347,100 +347,105 @@ public abstract class RichMediaAd  extends com.google.api.ads.adwords.axis.v2016
         this.adAttributes[i] = _value;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof RichMediaAd)) return false;
         RichMediaAd other = (RichMediaAd) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(RichMediaAd.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = super.equals(obj) && 
-            ((this.name==null && other.getName()==null) || 
-             (this.name!=null &&
-              this.name.equals(other.getName()))) &&
-            ((this.dimensions==null && other.getDimensions()==null) || 
-             (this.dimensions!=null &&
-              this.dimensions.equals(other.getDimensions()))) &&
-            ((this.snippet==null && other.getSnippet()==null) || 
-             (this.snippet!=null &&
-              this.snippet.equals(other.getSnippet()))) &&
-            ((this.impressionBeaconUrl==null && other.getImpressionBeaconUrl()==null) || 
-             (this.impressionBeaconUrl!=null &&
-              this.impressionBeaconUrl.equals(other.getImpressionBeaconUrl()))) &&
-            ((this.adDuration==null && other.getAdDuration()==null) || 
-             (this.adDuration!=null &&
-              this.adDuration.equals(other.getAdDuration()))) &&
-            ((this.certifiedVendorFormatId==null && other.getCertifiedVendorFormatId()==null) || 
-             (this.certifiedVendorFormatId!=null &&
-              this.certifiedVendorFormatId.equals(other.getCertifiedVendorFormatId()))) &&
-            ((this.sourceUrl==null && other.getSourceUrl()==null) || 
-             (this.sourceUrl!=null &&
-              this.sourceUrl.equals(other.getSourceUrl()))) &&
-            ((this.richMediaAdType==null && other.getRichMediaAdType()==null) || 
-             (this.richMediaAdType!=null &&
-              this.richMediaAdType.equals(other.getRichMediaAdType()))) &&
-            ((this.adAttributes==null && other.getAdAttributes()==null) || 
-             (this.adAttributes!=null &&
-              java.util.Arrays.equals(this.adAttributes, other.getAdAttributes())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = super.equals(obj) && 
+                ((this.name==null && other.getName()==null) || 
+                 (this.name!=null &&
+                  this.name.equals(other.getName()))) &&
+                ((this.dimensions==null && other.getDimensions()==null) || 
+                 (this.dimensions!=null &&
+                  this.dimensions.equals(other.getDimensions()))) &&
+                ((this.snippet==null && other.getSnippet()==null) || 
+                 (this.snippet!=null &&
+                  this.snippet.equals(other.getSnippet()))) &&
+                ((this.impressionBeaconUrl==null && other.getImpressionBeaconUrl()==null) || 
+                 (this.impressionBeaconUrl!=null &&
+                  this.impressionBeaconUrl.equals(other.getImpressionBeaconUrl()))) &&
+                ((this.adDuration==null && other.getAdDuration()==null) || 
+                 (this.adDuration!=null &&
+                  this.adDuration.equals(other.getAdDuration()))) &&
+                ((this.certifiedVendorFormatId==null && other.getCertifiedVendorFormatId()==null) || 
+                 (this.certifiedVendorFormatId!=null &&
+                  this.certifiedVendorFormatId.equals(other.getCertifiedVendorFormatId()))) &&
+                ((this.sourceUrl==null && other.getSourceUrl()==null) || 
+                 (this.sourceUrl!=null &&
+                  this.sourceUrl.equals(other.getSourceUrl()))) &&
+                ((this.richMediaAdType==null && other.getRichMediaAdType()==null) || 
+                 (this.richMediaAdType!=null &&
+                  this.richMediaAdType.equals(other.getRichMediaAdType()))) &&
+                ((this.adAttributes==null && other.getAdAttributes()==null) || 
+                 (this.adAttributes!=null &&
+                  java.util.Arrays.equals(this.adAttributes, other.getAdAttributes())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(RichMediaAd.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = super.hashCode();
-        if (getName() != null) {
-            _hashCode += getName().hashCode();
-        }
-        if (getDimensions() != null) {
-            _hashCode += getDimensions().hashCode();
-        }
-        if (getSnippet() != null) {
-            _hashCode += getSnippet().hashCode();
-        }
-        if (getImpressionBeaconUrl() != null) {
-            _hashCode += getImpressionBeaconUrl().hashCode();
-        }
-        if (getAdDuration() != null) {
-            _hashCode += getAdDuration().hashCode();
-        }
-        if (getCertifiedVendorFormatId() != null) {
-            _hashCode += getCertifiedVendorFormatId().hashCode();
-        }
-        if (getSourceUrl() != null) {
-            _hashCode += getSourceUrl().hashCode();
-        }
-        if (getRichMediaAdType() != null) {
-            _hashCode += getRichMediaAdType().hashCode();
-        }
-        if (getAdAttributes() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getAdAttributes());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getAdAttributes(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+        try {
+            int _hashCode = super.hashCode();
+            if (getName() != null) {
+                _hashCode += getName().hashCode();
+            }
+            if (getDimensions() != null) {
+                _hashCode += getDimensions().hashCode();
+            }
+            if (getSnippet() != null) {
+                _hashCode += getSnippet().hashCode();
+            }
+            if (getImpressionBeaconUrl() != null) {
+                _hashCode += getImpressionBeaconUrl().hashCode();
+            }
+            if (getAdDuration() != null) {
+                _hashCode += getAdDuration().hashCode();
+            }
+            if (getCertifiedVendorFormatId() != null) {
+                _hashCode += getCertifiedVendorFormatId().hashCode();
+            }
+            if (getSourceUrl() != null) {
+                _hashCode += getSourceUrl().hashCode();
+            }
+            if (getRichMediaAdType() != null) {
+                _hashCode += getRichMediaAdType().hashCode();
+            }
+            if (getAdAttributes() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getAdAttributes());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getAdAttributes(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(RichMediaAd.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(RichMediaAd.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://adwords.google.com/api/adwords/cm/v201605", "RichMediaAd"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("name");
@@ -506,13 +511,24 @@ public abstract class RichMediaAd  extends com.google.api.ads.adwords.axis.v2016
         elemField.setNillable(false);
         elemField.setMaxOccursUnbounded(true);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (RichMediaAd.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -524,7 +540,7 @@ public abstract class RichMediaAd  extends com.google.api.ads.adwords.axis.v2016
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -536,7 +552,7 @@ public abstract class RichMediaAd  extends com.google.api.ads.adwords.axis.v2016
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
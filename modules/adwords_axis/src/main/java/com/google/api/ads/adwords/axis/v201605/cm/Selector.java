@@ -265,92 +265,97 @@ public class Selector  implements java.io.Serializable {
         this.paging = paging;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof Selector)) return false;
         Selector other = (Selector) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(Selector.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = true && 
-            ((this.fields==null && other.getFields()==null) || 
-             (this.fields!=null &&
-              java.util.Arrays.equals(this.fields, other.getFields()))) &&
-            ((this.predicates==null && other.getPredicates()==null) || 
-             (this.predicates!=null &&
-              java.util.Arrays.equals(this.predicates, other.getPredicates()))) &&
-            ((this.dateRange==null && other.getDateRange()==null) || 
-             (this.dateRange!=null &&
-              this.dateRange.equals(other.getDateRange()))) &&
-            ((this.ordering==null && other.getOrdering()==null) || 
-             (this.ordering!=null &&
-              java.util.Arrays.equals(this.ordering, other.getOrdering()))) &&
-            ((this.paging==null && other.getPaging()==null) || 
-             (this.paging!=null &&
-              this.paging.equals(other.getPaging())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = true && 
+                ((this.fields==null && other.getFields()==null) || 
+                 (this.fields!=null &&
+                  java.util.Arrays.equals(this.fields, other.getFields()))) &&
+                ((this.predicates==null && other.getPredicates()==null) || 
+                 (this.predicates!=null &&
+                  java.util.Arrays.equals(this.predicates, other.getPredicates()))) &&
+                ((this.dateRange==null && other.getDateRange()==null) || 
+                 (this.dateRange!=null &&
+                  this.dateRange.equals(other.getDateRange()))) &&
+                ((this.ordering==null && other.getOrdering()==null) || 
+                 (this.ordering!=null &&
+                  java.util.Arrays.equals(this.ordering, other.getOrdering()))) &&
+                ((this.paging==null && other.getPaging()==null) || 
+                 (this.paging!=null &&
+                  this.paging.equals(other.getPaging())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(Selector.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getFields() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getFields());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getFields(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+        try {
+            int _hashCode = 1;
+            if (getFields() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getFields());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getFields(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
-        }
-        if (getPredicates() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getPredicates());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getPredicates(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+            if (getPredicates() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getPredicates());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getPredicates(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
-        }
-        if (getDateRange() != null) {
-            _hashCode += getDateRange().hashCode();
-        }
-        if (getOrdering() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getOrdering());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getOrdering(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+            if (getDateRange() != null) {
+                _hashCode += getDateRange().hashCode();
+            }
+            if (getOrdering() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getOrdering());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getOrdering(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
+            if (getPaging() != null) {
+                _hashCode += getPaging().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        if (getPaging() != null) {
-            _hashCode += getPaging().hashCode();
-        }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(Selector.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(Selector.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://adwords.google.com/api/adwords/cm/v201605", "Selector"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("fields");
@@ -390,13 +395,24 @@ public class Selector  implements java.io.Serializable {
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (Selector.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -408,7 +424,7 @@ public class Selector  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -420,7 +436,7 @@ public class Selector  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
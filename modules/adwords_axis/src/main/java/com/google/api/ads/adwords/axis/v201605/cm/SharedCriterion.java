@@ -128,56 +128,61 @@ public class SharedCriterion  implements java.io.Serializable {
         this.negative = negative;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof SharedCriterion)) return false;
         SharedCriterion other = (SharedCriterion) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(SharedCriterion.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = true && 
-            ((this.sharedSetId==null && other.getSharedSetId()==null) || 
-             (this.sharedSetId!=null &&
-              this.sharedSetId.equals(other.getSharedSetId()))) &&
-            ((this.criterion==null && other.getCriterion()==null) || 
-             (this.criterion!=null &&
-              this.criterion.equals(other.getCriterion()))) &&
-            ((this.negative==null && other.getNegative()==null) || 
-             (this.negative!=null &&
-              this.negative.equals(other.getNegative())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = true && 
+                ((this.sharedSetId==null && other.getSharedSetId()==null) || 
+                 (this.sharedSetId!=null &&
+                  this.sharedSetId.equals(other.getSharedSetId()))) &&
+                ((this.criterion==null && other.getCriterion()==null) || 
+                 (this.criterion!=null &&
+                  this.criterion.equals(other.getCriterion()))) &&
+                ((this.negative==null && other.getNegative()==null) || 
+                 (this.negative!=null &&
+                  this.negative.equals(other.getNegative())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(SharedCriterion.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getSharedSetId() != null) {
-            _hashCode += getSharedSetId().hashCode();
-        }
-        if (getCriterion() != null) {
-            _hashCode += getCriterion().hashCode();
-        }
-        if (getNegative() != null) {
-            _hashCode += getNegative().hashCode();
+        try {
+            int _hashCode = 1;
+            if (getSharedSetId() != null) {
+                _hashCode += getSharedSetId().hashCode();
+            }
+            if (getCriterion() != null) {
+                _hashCode += getCriterion().hashCode();
+            }
+            if (getNegative() != null) {
+                _hashCode += getNegative().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(SharedCriterion.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(SharedCriterion.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://adwords.google.com/api/adwords/cm/v201605", "SharedCriterion"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("sharedSetId");
@@ -200,13 +205,24 @@ public class SharedCriterion  implements java.io.Serializable {
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (SharedCriterion.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -218,7 +234,7 @@ public class SharedCriterion  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -230,7 +246,7 @@ public class SharedCriterion  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
@@ -177,62 +177,67 @@ public class ShoppingSetting  extends com.google.api.ads.adwords.axis.v201605.cm
         this.enableLocal = enableLocal;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof ShoppingSetting)) return false;
         ShoppingSetting other = (ShoppingSetting) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(ShoppingSetting.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = super.equals(obj) && 
-            ((this.merchantId==null && other.getMerchantId()==null) || 
-             (this.merchantId!=null &&
-              this.merchantId.equals(other.getMerchantId()))) &&
-            ((this.salesCountry==null && other.getSalesCountry()==null) || 
-             (this.salesCountry!=null &&
-              this.salesCountry.equals(other.getSalesCountry()))) &&
-            ((this.campaignPriority==null && other.getCampaignPriority()==null) || 
-             (this.campaignPriority!=null &&
-              this.campaignPriority.equals(other.getCampaignPriority()))) &&
-            ((this.enableLocal==null && other.getEnableLocal()==null) || 
-             (this.enableLocal!=null &&
-              this.enableLocal.equals(other.getEnableLocal())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = super.equals(obj) && 
+                ((this.merchantId==null && other.getMerchantId()==null) || 
+                 (this.merchantId!=null &&
+                  this.merchantId.equals(other.getMerchantId()))) &&
+                ((this.salesCountry==null && other.getSalesCountry()==null) || 
+                 (this.salesCountry!=null &&
+                  this.salesCountry.equals(other.getSalesCountry()))) &&
+                ((this.campaignPriority==null && other.getCampaignPriority()==null) || 
+                 (this.campaignPriority!=null &&
+                  this.campaignPriority.equals(other.getCampaignPriority()))) &&
+                ((this.enableLocal==null && other.getEnableLocal()==null) || 
+                 (this.enableLocal!=null &&
+                  this.enableLocal.equals(other.getEnableLocal())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(ShoppingSetting.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = super.hashCode();
-        if (getMerchantId() != null) {
-            _hashCode += getMerchantId().hashCode();
-        }
-        if (getSalesCountry() != null) {
-            _hashCode += getSalesCountry().hashCode();
-        }
-        if (getCampaignPriority() != null) {
-            _hashCode += getCampaignPriority().hashCode();
-        }
-        if (getEnableLocal() != null) {
-            _hashCode += getEnableLocal().hashCode();
+        try {
+            int _hashCode = super.hashCode();
+            if (getMerchantId() != null) {
+                _hashCode += getMerchantId().hashCode();
+            }
+            if (getSalesCountry() != null) {
+                _hashCode += getSalesCountry().hashCode();
+            }
+            if (getCampaignPriority() != null) {
+                _hashCode += getCampaignPriority().hashCode();
+            }
+            if (getEnableLocal() != null) {
+                _hashCode += getEnableLocal().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(ShoppingSetting.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(ShoppingSetting.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://adwords.google.com/api/adwords/cm/v201605", "ShoppingSetting"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("merchantId");
@@ -262,13 +267,24 @@ public class ShoppingSetting  extends com.google.api.ads.adwords.axis.v201605.cm
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (ShoppingSetting.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -280,7 +296,7 @@ public class ShoppingSetting  extends com.google.api.ads.adwords.axis.v201605.cm
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -292,7 +308,7 @@ public class ShoppingSetting  extends com.google.api.ads.adwords.axis.v201605.cm
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
@@ -318,86 +318,91 @@ public class SitelinkFeedItem  extends com.google.api.ads.adwords.axis.v201605.c
         this.sitelinkUrlCustomParameters = sitelinkUrlCustomParameters;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof SitelinkFeedItem)) return false;
         SitelinkFeedItem other = (SitelinkFeedItem) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(SitelinkFeedItem.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = super.equals(obj) && 
-            ((this.sitelinkText==null && other.getSitelinkText()==null) || 
-             (this.sitelinkText!=null &&
-              this.sitelinkText.equals(other.getSitelinkText()))) &&
-            ((this.sitelinkUrl==null && other.getSitelinkUrl()==null) || 
-             (this.sitelinkUrl!=null &&
-              this.sitelinkUrl.equals(other.getSitelinkUrl()))) &&
-            ((this.sitelinkLine2==null && other.getSitelinkLine2()==null) || 
-             (this.sitelinkLine2!=null &&
-              this.sitelinkLine2.equals(other.getSitelinkLine2()))) &&
-            ((this.sitelinkLine3==null && other.getSitelinkLine3()==null) || 
-             (this.sitelinkLine3!=null &&
-              this.sitelinkLine3.equals(other.getSitelinkLine3()))) &&
-            ((this.sitelinkFinalUrls==null && other.getSitelinkFinalUrls()==null) || 
-             (this.sitelinkFinalUrls!=null &&
-              this.sitelinkFinalUrls.equals(other.getSitelinkFinalUrls()))) &&
-            ((this.sitelinkFinalMobileUrls==null && other.getSitelinkFinalMobileUrls()==null) || 
-             (this.sitelinkFinalMobileUrls!=null &&
-              this.sitelinkFinalMobileUrls.equals(other.getSitelinkFinalMobileUrls()))) &&
-            ((this.sitelinkTrackingUrlTemplate==null && other.getSitelinkTrackingUrlTemplate()==null) || 
-             (this.sitelinkTrackingUrlTemplate!=null &&
-              this.sitelinkTrackingUrlTemplate.equals(other.getSitelinkTrackingUrlTemplate()))) &&
-            ((this.sitelinkUrlCustomParameters==null && other.getSitelinkUrlCustomParameters()==null) || 
-             (this.sitelinkUrlCustomParameters!=null &&
-              this.sitelinkUrlCustomParameters.equals(other.getSitelinkUrlCustomParameters())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = super.equals(obj) && 
+                ((this.sitelinkText==null && other.getSitelinkText()==null) || 
+                 (this.sitelinkText!=null &&
+                  this.sitelinkText.equals(other.getSitelinkText()))) &&
+                ((this.sitelinkUrl==null && other.getSitelinkUrl()==null) || 
+                 (this.sitelinkUrl!=null &&
+                  this.sitelinkUrl.equals(other.getSitelinkUrl()))) &&
+                ((this.sitelinkLine2==null && other.getSitelinkLine2()==null) || 
+                 (this.sitelinkLine2!=null &&
+                  this.sitelinkLine2.equals(other.getSitelinkLine2()))) &&
+                ((this.sitelinkLine3==null && other.getSitelinkLine3()==null) || 
+                 (this.sitelinkLine3!=null &&
+                  this.sitelinkLine3.equals(other.getSitelinkLine3()))) &&
+                ((this.sitelinkFinalUrls==null && other.getSitelinkFinalUrls()==null) || 
+                 (this.sitelinkFinalUrls!=null &&
+                  this.sitelinkFinalUrls.equals(other.getSitelinkFinalUrls()))) &&
+                ((this.sitelinkFinalMobileUrls==null && other.getSitelinkFinalMobileUrls()==null) || 
+                 (this.sitelinkFinalMobileUrls!=null &&
+                  this.sitelinkFinalMobileUrls.equals(other.getSitelinkFinalMobileUrls()))) &&
+                ((this.sitelinkTrackingUrlTemplate==null && other.getSitelinkTrackingUrlTemplate()==null) || 
+                 (this.sitelinkTrackingUrlTemplate!=null &&
+                  this.sitelinkTrackingUrlTemplate.equals(other.getSitelinkTrackingUrlTemplate()))) &&
+                ((this.sitelinkUrlCustomParameters==null && other.getSitelinkUrlCustomParameters()==null) || 
+                 (this.sitelinkUrlCustomParameters!=null &&
+                  this.sitelinkUrlCustomParameters.equals(other.getSitelinkUrlCustomParameters())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(SitelinkFeedItem.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = super.hashCode();
-        if (getSitelinkText() != null) {
-            _hashCode += getSitelinkText().hashCode();
-        }
-        if (getSitelinkUrl() != null) {
-            _hashCode += getSitelinkUrl().hashCode();
-        }
-        if (getSitelinkLine2() != null) {
-            _hashCode += getSitelinkLine2().hashCode();
-        }
-        if (getSitelinkLine3() != null) {
-            _hashCode += getSitelinkLine3().hashCode();
-        }
-        if (getSitelinkFinalUrls() != null) {
-            _hashCode += getSitelinkFinalUrls().hashCode();
-        }
-        if (getSitelinkFinalMobileUrls() != null) {
-            _hashCode += getSitelinkFinalMobileUrls().hashCode();
+        try {
+            int _hashCode = super.hashCode();
+            if (getSitelinkText() != null) {
+                _hashCode += getSitelinkText().hashCode();
+            }
+            if (getSitelinkUrl() != null) {
+                _hashCode += getSitelinkUrl().hashCode();
+            }
+            if (getSitelinkLine2() != null) {
+                _hashCode += getSitelinkLine2().hashCode();
+            }
+            if (getSitelinkLine3() != null) {
+                _hashCode += getSitelinkLine3().hashCode();
+            }
+            if (getSitelinkFinalUrls() != null) {
+                _hashCode += getSitelinkFinalUrls().hashCode();
+            }
+            if (getSitelinkFinalMobileUrls() != null) {
+                _hashCode += getSitelinkFinalMobileUrls().hashCode();
+            }
+            if (getSitelinkTrackingUrlTemplate() != null) {
+                _hashCode += getSitelinkTrackingUrlTemplate().hashCode();
+            }
+            if (getSitelinkUrlCustomParameters() != null) {
+                _hashCode += getSitelinkUrlCustomParameters().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        if (getSitelinkTrackingUrlTemplate() != null) {
-            _hashCode += getSitelinkTrackingUrlTemplate().hashCode();
-        }
-        if (getSitelinkUrlCustomParameters() != null) {
-            _hashCode += getSitelinkUrlCustomParameters().hashCode();
-        }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(SitelinkFeedItem.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(SitelinkFeedItem.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://adwords.google.com/api/adwords/cm/v201605", "SitelinkFeedItem"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("sitelinkText");
@@ -455,13 +460,24 @@ public class SitelinkFeedItem  extends com.google.api.ads.adwords.axis.v201605.c
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (SitelinkFeedItem.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -473,7 +489,7 @@ public class SitelinkFeedItem  extends com.google.api.ads.adwords.axis.v201605.c
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -485,7 +501,7 @@ public class SitelinkFeedItem  extends com.google.api.ads.adwords.axis.v201605.c
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
@@ -206,68 +206,73 @@ public class SoapHeader  implements java.io.Serializable {
         this.partialFailure = partialFailure;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof SoapHeader)) return false;
         SoapHeader other = (SoapHeader) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(SoapHeader.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = true && 
-            ((this.clientCustomerId==null && other.getClientCustomerId()==null) || 
-             (this.clientCustomerId!=null &&
-              this.clientCustomerId.equals(other.getClientCustomerId()))) &&
-            ((this.developerToken==null && other.getDeveloperToken()==null) || 
-             (this.developerToken!=null &&
-              this.developerToken.equals(other.getDeveloperToken()))) &&
-            ((this.userAgent==null && other.getUserAgent()==null) || 
-             (this.userAgent!=null &&
-              this.userAgent.equals(other.getUserAgent()))) &&
-            ((this.validateOnly==null && other.getValidateOnly()==null) || 
-             (this.validateOnly!=null &&
-              this.validateOnly.equals(other.getValidateOnly()))) &&
-            ((this.partialFailure==null && other.getPartialFailure()==null) || 
-             (this.partialFailure!=null &&
-              this.partialFailure.equals(other.getPartialFailure())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = true && 
+                ((this.clientCustomerId==null && other.getClientCustomerId()==null) || 
+                 (this.clientCustomerId!=null &&
+                  this.clientCustomerId.equals(other.getClientCustomerId()))) &&
+                ((this.developerToken==null && other.getDeveloperToken()==null) || 
+                 (this.developerToken!=null &&
+                  this.developerToken.equals(other.getDeveloperToken()))) &&
+                ((this.userAgent==null && other.getUserAgent()==null) || 
+                 (this.userAgent!=null &&
+                  this.userAgent.equals(other.getUserAgent()))) &&
+                ((this.validateOnly==null && other.getValidateOnly()==null) || 
+                 (this.validateOnly!=null &&
+                  this.validateOnly.equals(other.getValidateOnly()))) &&
+                ((this.partialFailure==null && other.getPartialFailure()==null) || 
+                 (this.partialFailure!=null &&
+                  this.partialFailure.equals(other.getPartialFailure())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(SoapHeader.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getClientCustomerId() != null) {
-            _hashCode += getClientCustomerId().hashCode();
-        }
-        if (getDeveloperToken() != null) {
-            _hashCode += getDeveloperToken().hashCode();
-        }
-        if (getUserAgent() != null) {
-            _hashCode += getUserAgent().hashCode();
-        }
-        if (getValidateOnly() != null) {
-            _hashCode += getValidateOnly().hashCode();
+        try {
+            int _hashCode = 1;
+            if (getClientCustomerId() != null) {
+                _hashCode += getClientCustomerId().hashCode();
+            }
+            if (getDeveloperToken() != null) {
+                _hashCode += getDeveloperToken().hashCode();
+            }
+            if (getUserAgent() != null) {
+                _hashCode += getUserAgent().hashCode();
+            }
+            if (getValidateOnly() != null) {
+                _hashCode += getValidateOnly().hashCode();
+            }
+            if (getPartialFailure() != null) {
+                _hashCode += getPartialFailure().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        if (getPartialFailure() != null) {
-            _hashCode += getPartialFailure().hashCode();
-        }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(SoapHeader.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(SoapHeader.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://adwords.google.com/api/adwords/cm/v201605", "SoapHeader"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("clientCustomerId");
@@ -304,13 +309,24 @@ public class SoapHeader  implements java.io.Serializable {
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (SoapHeader.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -322,7 +338,7 @@ public class SoapHeader  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -334,7 +350,7 @@ public class SoapHeader  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
@@ -172,68 +172,73 @@ public class SoapResponseHeader  implements java.io.Serializable {
         this.responseTime = responseTime;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof SoapResponseHeader)) return false;
         SoapResponseHeader other = (SoapResponseHeader) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(SoapResponseHeader.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = true && 
-            ((this.requestId==null && other.getRequestId()==null) || 
-             (this.requestId!=null &&
-              this.requestId.equals(other.getRequestId()))) &&
-            ((this.serviceName==null && other.getServiceName()==null) || 
-             (this.serviceName!=null &&
-              this.serviceName.equals(other.getServiceName()))) &&
-            ((this.methodName==null && other.getMethodName()==null) || 
-             (this.methodName!=null &&
-              this.methodName.equals(other.getMethodName()))) &&
-            ((this.operations==null && other.getOperations()==null) || 
-             (this.operations!=null &&
-              this.operations.equals(other.getOperations()))) &&
-            ((this.responseTime==null && other.getResponseTime()==null) || 
-             (this.responseTime!=null &&
-              this.responseTime.equals(other.getResponseTime())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = true && 
+                ((this.requestId==null && other.getRequestId()==null) || 
+                 (this.requestId!=null &&
+                  this.requestId.equals(other.getRequestId()))) &&
+                ((this.serviceName==null && other.getServiceName()==null) || 
+                 (this.serviceName!=null &&
+                  this.serviceName.equals(other.getServiceName()))) &&
+                ((this.methodName==null && other.getMethodName()==null) || 
+                 (this.methodName!=null &&
+                  this.methodName.equals(other.getMethodName()))) &&
+                ((this.operations==null && other.getOperations()==null) || 
+                 (this.operations!=null &&
+                  this.operations.equals(other.getOperations()))) &&
+                ((this.responseTime==null && other.getResponseTime()==null) || 
+                 (this.responseTime!=null &&
+                  this.responseTime.equals(other.getResponseTime())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(SoapResponseHeader.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getRequestId() != null) {
-            _hashCode += getRequestId().hashCode();
-        }
-        if (getServiceName() != null) {
-            _hashCode += getServiceName().hashCode();
-        }
-        if (getMethodName() != null) {
-            _hashCode += getMethodName().hashCode();
-        }
-        if (getOperations() != null) {
-            _hashCode += getOperations().hashCode();
+        try {
+            int _hashCode = 1;
+            if (getRequestId() != null) {
+                _hashCode += getRequestId().hashCode();
+            }
+            if (getServiceName() != null) {
+                _hashCode += getServiceName().hashCode();
+            }
+            if (getMethodName() != null) {
+                _hashCode += getMethodName().hashCode();
+            }
+            if (getOperations() != null) {
+                _hashCode += getOperations().hashCode();
+            }
+            if (getResponseTime() != null) {
+                _hashCode += getResponseTime().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        if (getResponseTime() != null) {
-            _hashCode += getResponseTime().hashCode();
-        }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(SoapResponseHeader.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(SoapResponseHeader.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://adwords.google.com/api/adwords/cm/v201605", "SoapResponseHeader"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("requestId");
@@ -270,13 +275,24 @@ public class SoapResponseHeader  implements java.io.Serializable {
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (SoapResponseHeader.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -288,7 +304,7 @@ public class SoapResponseHeader  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -300,7 +316,7 @@ public class SoapResponseHeader  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
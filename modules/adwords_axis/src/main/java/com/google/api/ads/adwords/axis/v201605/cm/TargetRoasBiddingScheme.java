@@ -151,56 +151,61 @@ public class TargetRoasBiddingScheme  extends com.google.api.ads.adwords.axis.v2
         this.bidFloor = bidFloor;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof TargetRoasBiddingScheme)) return false;
         TargetRoasBiddingScheme other = (TargetRoasBiddingScheme) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(TargetRoasBiddingScheme.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = super.equals(obj) && 
-            ((this.targetRoas==null && other.getTargetRoas()==null) || 
-             (this.targetRoas!=null &&
-              this.targetRoas.equals(other.getTargetRoas()))) &&
-            ((this.bidCeiling==null && other.getBidCeiling()==null) || 
-             (this.bidCeiling!=null &&
-              this.bidCeiling.equals(other.getBidCeiling()))) &&
-            ((this.bidFloor==null && other.getBidFloor()==null) || 
-             (this.bidFloor!=null &&
-              this.bidFloor.equals(other.getBidFloor())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = super.equals(obj) && 
+                ((this.targetRoas==null && other.getTargetRoas()==null) || 
+                 (this.targetRoas!=null &&
+                  this.targetRoas.equals(other.getTargetRoas()))) &&
+                ((this.bidCeiling==null && other.getBidCeiling()==null) || 
+                 (this.bidCeiling!=null &&
+                  this.bidCeiling.equals(other.getBidCeiling()))) &&
+                ((this.bidFloor==null && other.getBidFloor()==null) || 
+                 (this.bidFloor!=null &&
+                  this.bidFloor.equals(other.getBidFloor())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(TargetRoasBiddingScheme.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = super.hashCode();
-        if (getTargetRoas() != null) {
-            _hashCode += getTargetRoas().hashCode();
-        }
-        if (getBidCeiling() != null) {
-            _hashCode += getBidCeiling().hashCode();
-        }
-        if (getBidFloor() != null) {
-            _hashCode += getBidFloor().hashCode();
+        try {
+            int _hashCode = super.hashCode();
+            if (getTargetRoas() != null) {
+                _hashCode += getTargetRoas().hashCode();
+            }
+            if (getBidCeiling() != null) {
+                _hashCode += getBidCeiling().hashCode();
+            }
+            if (getBidFloor() != null) {
+                _hashCode += getBidFloor().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(TargetRoasBiddingScheme.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(TargetRoasBiddingScheme.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://adwords.google.com/api/adwords/cm/v201605", "TargetRoasBiddingScheme"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("targetRoas");
@@ -223,13 +228,24 @@ public class TargetRoasBiddingScheme  extends com.google.api.ads.adwords.axis.v2
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (TargetRoasBiddingScheme.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -241,7 +257,7 @@ public class TargetRoasBiddingScheme  extends com.google.api.ads.adwords.axis.v2
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -253,7 +269,7 @@ public class TargetRoasBiddingScheme  extends com.google.api.ads.adwords.axis.v2
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
@@ -120,50 +120,55 @@ public class TargetSpendBiddingScheme  extends com.google.api.ads.adwords.axis.v
         this.spendTarget = spendTarget;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof TargetSpendBiddingScheme)) return false;
         TargetSpendBiddingScheme other = (TargetSpendBiddingScheme) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(TargetSpendBiddingScheme.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = super.equals(obj) && 
-            ((this.bidCeiling==null && other.getBidCeiling()==null) || 
-             (this.bidCeiling!=null &&
-              this.bidCeiling.equals(other.getBidCeiling()))) &&
-            ((this.spendTarget==null && other.getSpendTarget()==null) || 
-             (this.spendTarget!=null &&
-              this.spendTarget.equals(other.getSpendTarget())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = super.equals(obj) && 
+                ((this.bidCeiling==null && other.getBidCeiling()==null) || 
+                 (this.bidCeiling!=null &&
+                  this.bidCeiling.equals(other.getBidCeiling()))) &&
+                ((this.spendTarget==null && other.getSpendTarget()==null) || 
+                 (this.spendTarget!=null &&
+                  this.spendTarget.equals(other.getSpendTarget())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(TargetSpendBiddingScheme.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = super.hashCode();
-        if (getBidCeiling() != null) {
-            _hashCode += getBidCeiling().hashCode();
-        }
-        if (getSpendTarget() != null) {
-            _hashCode += getSpendTarget().hashCode();
+        try {
+            int _hashCode = super.hashCode();
+            if (getBidCeiling() != null) {
+                _hashCode += getBidCeiling().hashCode();
+            }
+            if (getSpendTarget() != null) {
+                _hashCode += getSpendTarget().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(TargetSpendBiddingScheme.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(TargetSpendBiddingScheme.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://adwords.google.com/api/adwords/cm/v201605", "TargetSpendBiddingScheme"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("bidCeiling");
@@ -179,13 +184,24 @@ public class TargetSpendBiddingScheme  extends com.google.api.ads.adwords.axis.v
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (TargetSpendBiddingScheme.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -197,7 +213,7 @@ public class TargetSpendBiddingScheme  extends com.google.api.ads.adwords.axis.v
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -209,7 +225,7 @@ public class TargetSpendBiddingScheme  extends com.google.api.ads.adwords.axis.v
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
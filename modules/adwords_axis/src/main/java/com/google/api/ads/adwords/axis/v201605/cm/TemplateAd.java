@@ -312,94 +312,99 @@ public class TemplateAd  extends com.google.api.ads.adwords.axis.v201605.cm.Ad
         this.originAdId = originAdId;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof TemplateAd)) return false;
         TemplateAd other = (TemplateAd) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(TemplateAd.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = super.equals(obj) && 
-            ((this.templateId==null && other.getTemplateId()==null) || 
-             (this.templateId!=null &&
-              this.templateId.equals(other.getTemplateId()))) &&
-            ((this.adUnionId==null && other.getAdUnionId()==null) || 
-             (this.adUnionId!=null &&
-              this.adUnionId.equals(other.getAdUnionId()))) &&
-            ((this.templateElements==null && other.getTemplateElements()==null) || 
-             (this.templateElements!=null &&
-              java.util.Arrays.equals(this.templateElements, other.getTemplateElements()))) &&
-            ((this.adAsImage==null && other.getAdAsImage()==null) || 
-             (this.adAsImage!=null &&
-              this.adAsImage.equals(other.getAdAsImage()))) &&
-            ((this.dimensions==null && other.getDimensions()==null) || 
-             (this.dimensions!=null &&
-              this.dimensions.equals(other.getDimensions()))) &&
-            ((this.name==null && other.getName()==null) || 
-             (this.name!=null &&
-              this.name.equals(other.getName()))) &&
-            ((this.duration==null && other.getDuration()==null) || 
-             (this.duration!=null &&
-              this.duration.equals(other.getDuration()))) &&
-            ((this.originAdId==null && other.getOriginAdId()==null) || 
-             (this.originAdId!=null &&
-              this.originAdId.equals(other.getOriginAdId())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = super.equals(obj) && 
+                ((this.templateId==null && other.getTemplateId()==null) || 
+                 (this.templateId!=null &&
+                  this.templateId.equals(other.getTemplateId()))) &&
+                ((this.adUnionId==null && other.getAdUnionId()==null) || 
+                 (this.adUnionId!=null &&
+                  this.adUnionId.equals(other.getAdUnionId()))) &&
+                ((this.templateElements==null && other.getTemplateElements()==null) || 
+                 (this.templateElements!=null &&
+                  java.util.Arrays.equals(this.templateElements, other.getTemplateElements()))) &&
+                ((this.adAsImage==null && other.getAdAsImage()==null) || 
+                 (this.adAsImage!=null &&
+                  this.adAsImage.equals(other.getAdAsImage()))) &&
+                ((this.dimensions==null && other.getDimensions()==null) || 
+                 (this.dimensions!=null &&
+                  this.dimensions.equals(other.getDimensions()))) &&
+                ((this.name==null && other.getName()==null) || 
+                 (this.name!=null &&
+                  this.name.equals(other.getName()))) &&
+                ((this.duration==null && other.getDuration()==null) || 
+                 (this.duration!=null &&
+                  this.duration.equals(other.getDuration()))) &&
+                ((this.originAdId==null && other.getOriginAdId()==null) || 
+                 (this.originAdId!=null &&
+                  this.originAdId.equals(other.getOriginAdId())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(TemplateAd.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = super.hashCode();
-        if (getTemplateId() != null) {
-            _hashCode += getTemplateId().hashCode();
-        }
-        if (getAdUnionId() != null) {
-            _hashCode += getAdUnionId().hashCode();
-        }
-        if (getTemplateElements() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getTemplateElements());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getTemplateElements(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+        try {
+            int _hashCode = super.hashCode();
+            if (getTemplateId() != null) {
+                _hashCode += getTemplateId().hashCode();
+            }
+            if (getAdUnionId() != null) {
+                _hashCode += getAdUnionId().hashCode();
+            }
+            if (getTemplateElements() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getTemplateElements());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getTemplateElements(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
+            if (getAdAsImage() != null) {
+                _hashCode += getAdAsImage().hashCode();
+            }
+            if (getDimensions() != null) {
+                _hashCode += getDimensions().hashCode();
+            }
+            if (getName() != null) {
+                _hashCode += getName().hashCode();
+            }
+            if (getDuration() != null) {
+                _hashCode += getDuration().hashCode();
+            }
+            if (getOriginAdId() != null) {
+                _hashCode += getOriginAdId().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        if (getAdAsImage() != null) {
-            _hashCode += getAdAsImage().hashCode();
-        }
-        if (getDimensions() != null) {
-            _hashCode += getDimensions().hashCode();
-        }
-        if (getName() != null) {
-            _hashCode += getName().hashCode();
-        }
-        if (getDuration() != null) {
-            _hashCode += getDuration().hashCode();
-        }
-        if (getOriginAdId() != null) {
-            _hashCode += getOriginAdId().hashCode();
-        }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(TemplateAd.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(TemplateAd.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://adwords.google.com/api/adwords/cm/v201605", "TemplateAd"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("templateId");
@@ -458,13 +463,24 @@ public class TemplateAd  extends com.google.api.ads.adwords.axis.v201605.cm.Ad
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (TemplateAd.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -476,7 +492,7 @@ public class TemplateAd  extends com.google.api.ads.adwords.axis.v201605.cm.Ad
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -488,7 +504,7 @@ public class TemplateAd  extends com.google.api.ads.adwords.axis.v201605.cm.Ad
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
@@ -132,56 +132,61 @@ public class TextAd  extends com.google.api.ads.adwords.axis.v201605.cm.Ad  impl
         this.description2 = description2;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof TextAd)) return false;
         TextAd other = (TextAd) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(TextAd.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = super.equals(obj) && 
-            ((this.headline==null && other.getHeadline()==null) || 
-             (this.headline!=null &&
-              this.headline.equals(other.getHeadline()))) &&
-            ((this.description1==null && other.getDescription1()==null) || 
-             (this.description1!=null &&
-              this.description1.equals(other.getDescription1()))) &&
-            ((this.description2==null && other.getDescription2()==null) || 
-             (this.description2!=null &&
-              this.description2.equals(other.getDescription2())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = super.equals(obj) && 
+                ((this.headline==null && other.getHeadline()==null) || 
+                 (this.headline!=null &&
+                  this.headline.equals(other.getHeadline()))) &&
+                ((this.description1==null && other.getDescription1()==null) || 
+                 (this.description1!=null &&
+                  this.description1.equals(other.getDescription1()))) &&
+                ((this.description2==null && other.getDescription2()==null) || 
+                 (this.description2!=null &&
+                  this.description2.equals(other.getDescription2())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(TextAd.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = super.hashCode();
-        if (getHeadline() != null) {
-            _hashCode += getHeadline().hashCode();
-        }
-        if (getDescription1() != null) {
-            _hashCode += getDescription1().hashCode();
-        }
-        if (getDescription2() != null) {
-            _hashCode += getDescription2().hashCode();
+        try {
+            int _hashCode = super.hashCode();
+            if (getHeadline() != null) {
+                _hashCode += getHeadline().hashCode();
+            }
+            if (getDescription1() != null) {
+                _hashCode += getDescription1().hashCode();
+            }
+            if (getDescription2() != null) {
+                _hashCode += getDescription2().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(TextAd.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(TextAd.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://adwords.google.com/api/adwords/cm/v201605", "TextAd"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("headline");
@@ -204,13 +209,24 @@ public class TextAd  extends com.google.api.ads.adwords.axis.v201605.cm.Ad  impl
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (TextAd.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -222,7 +238,7 @@ public class TextAd  extends com.google.api.ads.adwords.axis.v201605.cm.Ad  impl
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -234,7 +250,7 @@ public class TextAd  extends com.google.api.ads.adwords.axis.v201605.cm.Ad  impl
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
@@ -563,98 +563,103 @@ public class Trial  implements java.io.Serializable {
         this.trialCampaignId = trialCampaignId;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof Trial)) return false;
         Trial other = (Trial) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(Trial.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = true && 
-            ((this.id==null && other.getId()==null) || 
-             (this.id!=null &&
-              this.id.equals(other.getId()))) &&
-            ((this.baseCampaignId==null && other.getBaseCampaignId()==null) || 
-             (this.baseCampaignId!=null &&
-              this.baseCampaignId.equals(other.getBaseCampaignId()))) &&
-            ((this.draftId==null && other.getDraftId()==null) || 
-             (this.draftId!=null &&
-              this.draftId.equals(other.getDraftId()))) &&
-            ((this.budgetId==null && other.getBudgetId()==null) || 
-             (this.budgetId!=null &&
-              this.budgetId.equals(other.getBudgetId()))) &&
-            ((this.name==null && other.getName()==null) || 
-             (this.name!=null &&
-              this.name.equals(other.getName()))) &&
-            ((this.startDate==null && other.getStartDate()==null) || 
-             (this.startDate!=null &&
-              this.startDate.equals(other.getStartDate()))) &&
-            ((this.endDate==null && other.getEndDate()==null) || 
-             (this.endDate!=null &&
-              this.endDate.equals(other.getEndDate()))) &&
-            ((this.trafficSplitPercent==null && other.getTrafficSplitPercent()==null) || 
-             (this.trafficSplitPercent!=null &&
-              this.trafficSplitPercent.equals(other.getTrafficSplitPercent()))) &&
-            ((this.status==null && other.getStatus()==null) || 
-             (this.status!=null &&
-              this.status.equals(other.getStatus()))) &&
-            ((this.trialCampaignId==null && other.getTrialCampaignId()==null) || 
-             (this.trialCampaignId!=null &&
-              this.trialCampaignId.equals(other.getTrialCampaignId())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = true && 
+                ((this.id==null && other.getId()==null) || 
+                 (this.id!=null &&
+                  this.id.equals(other.getId()))) &&
+                ((this.baseCampaignId==null && other.getBaseCampaignId()==null) || 
+                 (this.baseCampaignId!=null &&
+                  this.baseCampaignId.equals(other.getBaseCampaignId()))) &&
+                ((this.draftId==null && other.getDraftId()==null) || 
+                 (this.draftId!=null &&
+                  this.draftId.equals(other.getDraftId()))) &&
+                ((this.budgetId==null && other.getBudgetId()==null) || 
+                 (this.budgetId!=null &&
+                  this.budgetId.equals(other.getBudgetId()))) &&
+                ((this.name==null && other.getName()==null) || 
+                 (this.name!=null &&
+                  this.name.equals(other.getName()))) &&
+                ((this.startDate==null && other.getStartDate()==null) || 
+                 (this.startDate!=null &&
+                  this.startDate.equals(other.getStartDate()))) &&
+                ((this.endDate==null && other.getEndDate()==null) || 
+                 (this.endDate!=null &&
+                  this.endDate.equals(other.getEndDate()))) &&
+                ((this.trafficSplitPercent==null && other.getTrafficSplitPercent()==null) || 
+                 (this.trafficSplitPercent!=null &&
+                  this.trafficSplitPercent.equals(other.getTrafficSplitPercent()))) &&
+                ((this.status==null && other.getStatus()==null) || 
+                 (this.status!=null &&
+                  this.status.equals(other.getStatus()))) &&
+                ((this.trialCampaignId==null && other.getTrialCampaignId()==null) || 
+                 (this.trialCampaignId!=null &&
+                  this.trialCampaignId.equals(other.getTrialCampaignId())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(Trial.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getId() != null) {
-            _hashCode += getId().hashCode();
-        }
-        if (getBaseCampaignId() != null) {
-            _hashCode += getBaseCampaignId().hashCode();
-        }
-        if (getDraftId() != null) {
-            _hashCode += getDraftId().hashCode();
-        }
-        if (getBudgetId() != null) {
-            _hashCode += getBudgetId().hashCode();
-        }
-        if (getName() != null) {
-            _hashCode += getName().hashCode();
-        }
-        if (getStartDate() != null) {
-            _hashCode += getStartDate().hashCode();
-        }
-        if (getEndDate() != null) {
-            _hashCode += getEndDate().hashCode();
+        try {
+            int _hashCode = 1;
+            if (getId() != null) {
+                _hashCode += getId().hashCode();
+            }
+            if (getBaseCampaignId() != null) {
+                _hashCode += getBaseCampaignId().hashCode();
+            }
+            if (getDraftId() != null) {
+                _hashCode += getDraftId().hashCode();
+            }
+            if (getBudgetId() != null) {
+                _hashCode += getBudgetId().hashCode();
+            }
+            if (getName() != null) {
+                _hashCode += getName().hashCode();
+            }
+            if (getStartDate() != null) {
+                _hashCode += getStartDate().hashCode();
+            }
+            if (getEndDate() != null) {
+                _hashCode += getEndDate().hashCode();
+            }
+            if (getTrafficSplitPercent() != null) {
+                _hashCode += getTrafficSplitPercent().hashCode();
+            }
+            if (getStatus() != null) {
+                _hashCode += getStatus().hashCode();
+            }
+            if (getTrialCampaignId() != null) {
+                _hashCode += getTrialCampaignId().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        if (getTrafficSplitPercent() != null) {
-            _hashCode += getTrafficSplitPercent().hashCode();
-        }
-        if (getStatus() != null) {
-            _hashCode += getStatus().hashCode();
-        }
-        if (getTrialCampaignId() != null) {
-            _hashCode += getTrialCampaignId().hashCode();
-        }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(Trial.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(Trial.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://adwords.google.com/api/adwords/cm/v201605", "Trial"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("id");
@@ -726,13 +731,24 @@ public class Trial  implements java.io.Serializable {
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (Trial.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -744,7 +760,7 @@ public class Trial  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -756,7 +772,7 @@ public class Trial  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
@@ -162,58 +162,63 @@ public class WebpageParameter  extends com.google.api.ads.adwords.axis.v201605.c
         this.conditions[i] = _value;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof WebpageParameter)) return false;
         WebpageParameter other = (WebpageParameter) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(WebpageParameter.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = super.equals(obj) && 
-            ((this.criterionName==null && other.getCriterionName()==null) || 
-             (this.criterionName!=null &&
-              this.criterionName.equals(other.getCriterionName()))) &&
-            ((this.conditions==null && other.getConditions()==null) || 
-             (this.conditions!=null &&
-              java.util.Arrays.equals(this.conditions, other.getConditions())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = super.equals(obj) && 
+                ((this.criterionName==null && other.getCriterionName()==null) || 
+                 (this.criterionName!=null &&
+                  this.criterionName.equals(other.getCriterionName()))) &&
+                ((this.conditions==null && other.getConditions()==null) || 
+                 (this.conditions!=null &&
+                  java.util.Arrays.equals(this.conditions, other.getConditions())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(WebpageParameter.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = super.hashCode();
-        if (getCriterionName() != null) {
-            _hashCode += getCriterionName().hashCode();
-        }
-        if (getConditions() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getConditions());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getConditions(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+        try {
+            int _hashCode = super.hashCode();
+            if (getCriterionName() != null) {
+                _hashCode += getCriterionName().hashCode();
+            }
+            if (getConditions() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getConditions());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getConditions(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(WebpageParameter.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(WebpageParameter.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://adwords.google.com/api/adwords/cm/v201605", "WebpageParameter"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("criterionName");
@@ -230,13 +235,24 @@ public class WebpageParameter  extends com.google.api.ads.adwords.axis.v201605.c
         elemField.setNillable(false);
         elemField.setMaxOccursUnbounded(true);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (WebpageParameter.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -248,7 +264,7 @@ public class WebpageParameter  extends com.google.api.ads.adwords.axis.v201605.c
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -260,7 +276,7 @@ public class WebpageParameter  extends com.google.api.ads.adwords.axis.v201605.c
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
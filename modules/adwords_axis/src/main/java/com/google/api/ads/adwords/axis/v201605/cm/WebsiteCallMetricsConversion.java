@@ -133,50 +133,55 @@ public class WebsiteCallMetricsConversion  extends com.google.api.ads.adwords.ax
         this.snippet = snippet;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof WebsiteCallMetricsConversion)) return false;
         WebsiteCallMetricsConversion other = (WebsiteCallMetricsConversion) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(WebsiteCallMetricsConversion.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = super.equals(obj) && 
-            ((this.phoneCallDuration==null && other.getPhoneCallDuration()==null) || 
-             (this.phoneCallDuration!=null &&
-              this.phoneCallDuration.equals(other.getPhoneCallDuration()))) &&
-            ((this.snippet==null && other.getSnippet()==null) || 
-             (this.snippet!=null &&
-              this.snippet.equals(other.getSnippet())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = super.equals(obj) && 
+                ((this.phoneCallDuration==null && other.getPhoneCallDuration()==null) || 
+                 (this.phoneCallDuration!=null &&
+                  this.phoneCallDuration.equals(other.getPhoneCallDuration()))) &&
+                ((this.snippet==null && other.getSnippet()==null) || 
+                 (this.snippet!=null &&
+                  this.snippet.equals(other.getSnippet())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(WebsiteCallMetricsConversion.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = super.hashCode();
-        if (getPhoneCallDuration() != null) {
-            _hashCode += getPhoneCallDuration().hashCode();
-        }
-        if (getSnippet() != null) {
-            _hashCode += getSnippet().hashCode();
+        try {
+            int _hashCode = super.hashCode();
+            if (getPhoneCallDuration() != null) {
+                _hashCode += getPhoneCallDuration().hashCode();
+            }
+            if (getSnippet() != null) {
+                _hashCode += getSnippet().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(WebsiteCallMetricsConversion.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(WebsiteCallMetricsConversion.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://adwords.google.com/api/adwords/cm/v201605", "WebsiteCallMetricsConversion"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("phoneCallDuration");
@@ -192,13 +197,24 @@ public class WebsiteCallMetricsConversion  extends com.google.api.ads.adwords.ax
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (WebsiteCallMetricsConversion.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -210,7 +226,7 @@ public class WebsiteCallMetricsConversion  extends com.google.api.ads.adwords.ax
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -222,7 +238,7 @@ public class WebsiteCallMetricsConversion  extends com.google.api.ads.adwords.ax
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
@@ -98,50 +98,55 @@ public class YouTubeVideo  extends com.google.api.ads.adwords.axis.v201605.cm.Cr
         this.videoName = videoName;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof YouTubeVideo)) return false;
         YouTubeVideo other = (YouTubeVideo) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(YouTubeVideo.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = super.equals(obj) && 
-            ((this.videoId==null && other.getVideoId()==null) || 
-             (this.videoId!=null &&
-              this.videoId.equals(other.getVideoId()))) &&
-            ((this.videoName==null && other.getVideoName()==null) || 
-             (this.videoName!=null &&
-              this.videoName.equals(other.getVideoName())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = super.equals(obj) && 
+                ((this.videoId==null && other.getVideoId()==null) || 
+                 (this.videoId!=null &&
+                  this.videoId.equals(other.getVideoId()))) &&
+                ((this.videoName==null && other.getVideoName()==null) || 
+                 (this.videoName!=null &&
+                  this.videoName.equals(other.getVideoName())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(YouTubeVideo.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = super.hashCode();
-        if (getVideoId() != null) {
-            _hashCode += getVideoId().hashCode();
-        }
-        if (getVideoName() != null) {
-            _hashCode += getVideoName().hashCode();
+        try {
+            int _hashCode = super.hashCode();
+            if (getVideoId() != null) {
+                _hashCode += getVideoId().hashCode();
+            }
+            if (getVideoName() != null) {
+                _hashCode += getVideoName().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(YouTubeVideo.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(YouTubeVideo.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://adwords.google.com/api/adwords/cm/v201605", "YouTubeVideo"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("videoId");
@@ -157,13 +162,24 @@ public class YouTubeVideo  extends com.google.api.ads.adwords.axis.v201605.cm.Cr
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (YouTubeVideo.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -175,7 +191,7 @@ public class YouTubeVideo  extends com.google.api.ads.adwords.axis.v201605.cm.Cr
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -187,7 +203,7 @@ public class YouTubeVideo  extends com.google.api.ads.adwords.axis.v201605.cm.Cr
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
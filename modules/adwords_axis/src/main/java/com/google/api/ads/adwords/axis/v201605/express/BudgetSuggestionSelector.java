@@ -159,58 +159,63 @@ public class BudgetSuggestionSelector  implements java.io.Serializable {
         this.currencyCode = currencyCode;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof BudgetSuggestionSelector)) return false;
         BudgetSuggestionSelector other = (BudgetSuggestionSelector) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(BudgetSuggestionSelector.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = true && 
-            ((this.criteria==null && other.getCriteria()==null) || 
-             (this.criteria!=null &&
-              java.util.Arrays.equals(this.criteria, other.getCriteria()))) &&
-            ((this.currencyCode==null && other.getCurrencyCode()==null) || 
-             (this.currencyCode!=null &&
-              this.currencyCode.equals(other.getCurrencyCode())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = true && 
+                ((this.criteria==null && other.getCriteria()==null) || 
+                 (this.criteria!=null &&
+                  java.util.Arrays.equals(this.criteria, other.getCriteria()))) &&
+                ((this.currencyCode==null && other.getCurrencyCode()==null) || 
+                 (this.currencyCode!=null &&
+                  this.currencyCode.equals(other.getCurrencyCode())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(BudgetSuggestionSelector.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getCriteria() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getCriteria());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getCriteria(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+        try {
+            int _hashCode = 1;
+            if (getCriteria() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getCriteria());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getCriteria(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
+            if (getCurrencyCode() != null) {
+                _hashCode += getCurrencyCode().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        if (getCurrencyCode() != null) {
-            _hashCode += getCurrencyCode().hashCode();
-        }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(BudgetSuggestionSelector.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(BudgetSuggestionSelector.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://adwords.google.com/api/adwords/express/v201605", "BudgetSuggestionSelector"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("criteria");
@@ -227,13 +232,24 @@ public class BudgetSuggestionSelector  implements java.io.Serializable {
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (BudgetSuggestionSelector.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -245,7 +261,7 @@ public class BudgetSuggestionSelector  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -257,7 +273,7 @@ public class BudgetSuggestionSelector  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
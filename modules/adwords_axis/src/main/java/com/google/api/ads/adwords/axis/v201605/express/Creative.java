@@ -125,56 +125,61 @@ public class Creative  implements java.io.Serializable {
         this.line2 = line2;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof Creative)) return false;
         Creative other = (Creative) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(Creative.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = true && 
-            ((this.headline==null && other.getHeadline()==null) || 
-             (this.headline!=null &&
-              this.headline.equals(other.getHeadline()))) &&
-            ((this.line1==null && other.getLine1()==null) || 
-             (this.line1!=null &&
-              this.line1.equals(other.getLine1()))) &&
-            ((this.line2==null && other.getLine2()==null) || 
-             (this.line2!=null &&
-              this.line2.equals(other.getLine2())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = true && 
+                ((this.headline==null && other.getHeadline()==null) || 
+                 (this.headline!=null &&
+                  this.headline.equals(other.getHeadline()))) &&
+                ((this.line1==null && other.getLine1()==null) || 
+                 (this.line1!=null &&
+                  this.line1.equals(other.getLine1()))) &&
+                ((this.line2==null && other.getLine2()==null) || 
+                 (this.line2!=null &&
+                  this.line2.equals(other.getLine2())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(Creative.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getHeadline() != null) {
-            _hashCode += getHeadline().hashCode();
-        }
-        if (getLine1() != null) {
-            _hashCode += getLine1().hashCode();
-        }
-        if (getLine2() != null) {
-            _hashCode += getLine2().hashCode();
+        try {
+            int _hashCode = 1;
+            if (getHeadline() != null) {
+                _hashCode += getHeadline().hashCode();
+            }
+            if (getLine1() != null) {
+                _hashCode += getLine1().hashCode();
+            }
+            if (getLine2() != null) {
+                _hashCode += getLine2().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(Creative.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(Creative.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://adwords.google.com/api/adwords/express/v201605", "Creative"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("headline");
@@ -197,13 +202,24 @@ public class Creative  implements java.io.Serializable {
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (Creative.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -215,7 +231,7 @@ public class Creative  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -227,7 +243,7 @@ public class Creative  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
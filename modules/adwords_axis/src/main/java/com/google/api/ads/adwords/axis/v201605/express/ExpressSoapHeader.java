@@ -105,50 +105,55 @@ public class ExpressSoapHeader  extends com.google.api.ads.adwords.axis.v201605.
         this.pageId = pageId;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof ExpressSoapHeader)) return false;
         ExpressSoapHeader other = (ExpressSoapHeader) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(ExpressSoapHeader.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = super.equals(obj) && 
-            ((this.expressBusinessId==null && other.getExpressBusinessId()==null) || 
-             (this.expressBusinessId!=null &&
-              this.expressBusinessId.equals(other.getExpressBusinessId()))) &&
-            ((this.pageId==null && other.getPageId()==null) || 
-             (this.pageId!=null &&
-              this.pageId.equals(other.getPageId())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = super.equals(obj) && 
+                ((this.expressBusinessId==null && other.getExpressBusinessId()==null) || 
+                 (this.expressBusinessId!=null &&
+                  this.expressBusinessId.equals(other.getExpressBusinessId()))) &&
+                ((this.pageId==null && other.getPageId()==null) || 
+                 (this.pageId!=null &&
+                  this.pageId.equals(other.getPageId())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(ExpressSoapHeader.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = super.hashCode();
-        if (getExpressBusinessId() != null) {
-            _hashCode += getExpressBusinessId().hashCode();
-        }
-        if (getPageId() != null) {
-            _hashCode += getPageId().hashCode();
+        try {
+            int _hashCode = super.hashCode();
+            if (getExpressBusinessId() != null) {
+                _hashCode += getExpressBusinessId().hashCode();
+            }
+            if (getPageId() != null) {
+                _hashCode += getPageId().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(ExpressSoapHeader.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(ExpressSoapHeader.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://adwords.google.com/api/adwords/express/v201605", "ExpressSoapHeader"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("expressBusinessId");
@@ -164,13 +169,24 @@ public class ExpressSoapHeader  extends com.google.api.ads.adwords.axis.v201605.
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (ExpressSoapHeader.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -182,7 +198,7 @@ public class ExpressSoapHeader  extends com.google.api.ads.adwords.axis.v201605.
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -194,7 +210,7 @@ public class ExpressSoapHeader  extends com.google.api.ads.adwords.axis.v201605.
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
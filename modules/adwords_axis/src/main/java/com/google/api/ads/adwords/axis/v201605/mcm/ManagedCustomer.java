@@ -449,100 +449,105 @@ public class ManagedCustomer  implements java.io.Serializable {
         this.excludeHiddenAccounts = excludeHiddenAccounts;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof ManagedCustomer)) return false;
         ManagedCustomer other = (ManagedCustomer) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(ManagedCustomer.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = true && 
-            ((this.name==null && other.getName()==null) || 
-             (this.name!=null &&
-              this.name.equals(other.getName()))) &&
-            ((this.companyName==null && other.getCompanyName()==null) || 
-             (this.companyName!=null &&
-              this.companyName.equals(other.getCompanyName()))) &&
-            ((this.customerId==null && other.getCustomerId()==null) || 
-             (this.customerId!=null &&
-              this.customerId.equals(other.getCustomerId()))) &&
-            ((this.canManageClients==null && other.getCanManageClients()==null) || 
-             (this.canManageClients!=null &&
-              this.canManageClients.equals(other.getCanManageClients()))) &&
-            ((this.currencyCode==null && other.getCurrencyCode()==null) || 
-             (this.currencyCode!=null &&
-              this.currencyCode.equals(other.getCurrencyCode()))) &&
-            ((this.dateTimeZone==null && other.getDateTimeZone()==null) || 
-             (this.dateTimeZone!=null &&
-              this.dateTimeZone.equals(other.getDateTimeZone()))) &&
-            ((this.testAccount==null && other.getTestAccount()==null) || 
-             (this.testAccount!=null &&
-              this.testAccount.equals(other.getTestAccount()))) &&
-            ((this.accountLabels==null && other.getAccountLabels()==null) || 
-             (this.accountLabels!=null &&
-              java.util.Arrays.equals(this.accountLabels, other.getAccountLabels()))) &&
-            ((this.excludeHiddenAccounts==null && other.getExcludeHiddenAccounts()==null) || 
-             (this.excludeHiddenAccounts!=null &&
-              this.excludeHiddenAccounts.equals(other.getExcludeHiddenAccounts())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = true && 
+                ((this.name==null && other.getName()==null) || 
+                 (this.name!=null &&
+                  this.name.equals(other.getName()))) &&
+                ((this.companyName==null && other.getCompanyName()==null) || 
+                 (this.companyName!=null &&
+                  this.companyName.equals(other.getCompanyName()))) &&
+                ((this.customerId==null && other.getCustomerId()==null) || 
+                 (this.customerId!=null &&
+                  this.customerId.equals(other.getCustomerId()))) &&
+                ((this.canManageClients==null && other.getCanManageClients()==null) || 
+                 (this.canManageClients!=null &&
+                  this.canManageClients.equals(other.getCanManageClients()))) &&
+                ((this.currencyCode==null && other.getCurrencyCode()==null) || 
+                 (this.currencyCode!=null &&
+                  this.currencyCode.equals(other.getCurrencyCode()))) &&
+                ((this.dateTimeZone==null && other.getDateTimeZone()==null) || 
+                 (this.dateTimeZone!=null &&
+                  this.dateTimeZone.equals(other.getDateTimeZone()))) &&
+                ((this.testAccount==null && other.getTestAccount()==null) || 
+                 (this.testAccount!=null &&
+                  this.testAccount.equals(other.getTestAccount()))) &&
+                ((this.accountLabels==null && other.getAccountLabels()==null) || 
+                 (this.accountLabels!=null &&
+                  java.util.Arrays.equals(this.accountLabels, other.getAccountLabels()))) &&
+                ((this.excludeHiddenAccounts==null && other.getExcludeHiddenAccounts()==null) || 
+                 (this.excludeHiddenAccounts!=null &&
+                  this.excludeHiddenAccounts.equals(other.getExcludeHiddenAccounts())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(ManagedCustomer.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getName() != null) {
-            _hashCode += getName().hashCode();
-        }
-        if (getCompanyName() != null) {
-            _hashCode += getCompanyName().hashCode();
-        }
-        if (getCustomerId() != null) {
-            _hashCode += getCustomerId().hashCode();
-        }
-        if (getCanManageClients() != null) {
-            _hashCode += getCanManageClients().hashCode();
-        }
-        if (getCurrencyCode() != null) {
-            _hashCode += getCurrencyCode().hashCode();
-        }
-        if (getDateTimeZone() != null) {
-            _hashCode += getDateTimeZone().hashCode();
-        }
-        if (getTestAccount() != null) {
-            _hashCode += getTestAccount().hashCode();
-        }
-        if (getAccountLabels() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getAccountLabels());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getAccountLabels(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+        try {
+            int _hashCode = 1;
+            if (getName() != null) {
+                _hashCode += getName().hashCode();
+            }
+            if (getCompanyName() != null) {
+                _hashCode += getCompanyName().hashCode();
+            }
+            if (getCustomerId() != null) {
+                _hashCode += getCustomerId().hashCode();
+            }
+            if (getCanManageClients() != null) {
+                _hashCode += getCanManageClients().hashCode();
+            }
+            if (getCurrencyCode() != null) {
+                _hashCode += getCurrencyCode().hashCode();
+            }
+            if (getDateTimeZone() != null) {
+                _hashCode += getDateTimeZone().hashCode();
+            }
+            if (getTestAccount() != null) {
+                _hashCode += getTestAccount().hashCode();
+            }
+            if (getAccountLabels() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getAccountLabels());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getAccountLabels(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
+            if (getExcludeHiddenAccounts() != null) {
+                _hashCode += getExcludeHiddenAccounts().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        if (getExcludeHiddenAccounts() != null) {
-            _hashCode += getExcludeHiddenAccounts().hashCode();
-        }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(ManagedCustomer.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(ManagedCustomer.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://adwords.google.com/api/adwords/mcm/v201605", "ManagedCustomer"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("name");
@@ -608,13 +613,24 @@ public class ManagedCustomer  implements java.io.Serializable {
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (ManagedCustomer.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -626,7 +642,7 @@ public class ManagedCustomer  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -638,7 +654,7 @@ public class ManagedCustomer  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
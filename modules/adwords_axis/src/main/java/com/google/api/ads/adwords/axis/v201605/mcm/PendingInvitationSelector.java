@@ -98,66 +98,71 @@ public class PendingInvitationSelector  implements java.io.Serializable {
         this.clientCustomerIds[i] = _value;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof PendingInvitationSelector)) return false;
         PendingInvitationSelector other = (PendingInvitationSelector) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(PendingInvitationSelector.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = true && 
-            ((this.managerCustomerIds==null && other.getManagerCustomerIds()==null) || 
-             (this.managerCustomerIds!=null &&
-              java.util.Arrays.equals(this.managerCustomerIds, other.getManagerCustomerIds()))) &&
-            ((this.clientCustomerIds==null && other.getClientCustomerIds()==null) || 
-             (this.clientCustomerIds!=null &&
-              java.util.Arrays.equals(this.clientCustomerIds, other.getClientCustomerIds())));
-        __equalsCalc = null;
-        return _equals;
-    }
-
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+        try {
+            boolean _equals;
+            _equals = true && 
+                ((this.managerCustomerIds==null && other.getManagerCustomerIds()==null) || 
+                 (this.managerCustomerIds!=null &&
+                  java.util.Arrays.equals(this.managerCustomerIds, other.getManagerCustomerIds()))) &&
+                ((this.clientCustomerIds==null && other.getClientCustomerIds()==null) || 
+                 (this.clientCustomerIds!=null &&
+                  java.util.Arrays.equals(this.clientCustomerIds, other.getClientCustomerIds())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
+    }
+
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(PendingInvitationSelector.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getManagerCustomerIds() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getManagerCustomerIds());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getManagerCustomerIds(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+        try {
+            int _hashCode = 1;
+            if (getManagerCustomerIds() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getManagerCustomerIds());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getManagerCustomerIds(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
-        }
-        if (getClientCustomerIds() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getClientCustomerIds());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getClientCustomerIds(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+            if (getClientCustomerIds() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getClientCustomerIds());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getClientCustomerIds(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(PendingInvitationSelector.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(PendingInvitationSelector.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://adwords.google.com/api/adwords/mcm/v201605", "PendingInvitationSelector"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("managerCustomerIds");
@@ -175,13 +180,24 @@ public class PendingInvitationSelector  implements java.io.Serializable {
         elemField.setNillable(false);
         elemField.setMaxOccursUnbounded(true);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (PendingInvitationSelector.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -193,7 +209,7 @@ public class PendingInvitationSelector  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -205,7 +221,7 @@ public class PendingInvitationSelector  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
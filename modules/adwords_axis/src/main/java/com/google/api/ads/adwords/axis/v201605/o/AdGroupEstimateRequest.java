@@ -174,64 +174,69 @@ public class AdGroupEstimateRequest  extends com.google.api.ads.adwords.axis.v20
         this.maxCpc = maxCpc;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof AdGroupEstimateRequest)) return false;
         AdGroupEstimateRequest other = (AdGroupEstimateRequest) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(AdGroupEstimateRequest.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = super.equals(obj) && 
-            ((this.adGroupId==null && other.getAdGroupId()==null) || 
-             (this.adGroupId!=null &&
-              this.adGroupId.equals(other.getAdGroupId()))) &&
-            ((this.keywordEstimateRequests==null && other.getKeywordEstimateRequests()==null) || 
-             (this.keywordEstimateRequests!=null &&
-              java.util.Arrays.equals(this.keywordEstimateRequests, other.getKeywordEstimateRequests()))) &&
-            ((this.maxCpc==null && other.getMaxCpc()==null) || 
-             (this.maxCpc!=null &&
-              this.maxCpc.equals(other.getMaxCpc())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = super.equals(obj) && 
+                ((this.adGroupId==null && other.getAdGroupId()==null) || 
+                 (this.adGroupId!=null &&
+                  this.adGroupId.equals(other.getAdGroupId()))) &&
+                ((this.keywordEstimateRequests==null && other.getKeywordEstimateRequests()==null) || 
+                 (this.keywordEstimateRequests!=null &&
+                  java.util.Arrays.equals(this.keywordEstimateRequests, other.getKeywordEstimateRequests()))) &&
+                ((this.maxCpc==null && other.getMaxCpc()==null) || 
+                 (this.maxCpc!=null &&
+                  this.maxCpc.equals(other.getMaxCpc())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(AdGroupEstimateRequest.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = super.hashCode();
-        if (getAdGroupId() != null) {
-            _hashCode += getAdGroupId().hashCode();
-        }
-        if (getKeywordEstimateRequests() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getKeywordEstimateRequests());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getKeywordEstimateRequests(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+        try {
+            int _hashCode = super.hashCode();
+            if (getAdGroupId() != null) {
+                _hashCode += getAdGroupId().hashCode();
+            }
+            if (getKeywordEstimateRequests() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getKeywordEstimateRequests());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getKeywordEstimateRequests(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
+            if (getMaxCpc() != null) {
+                _hashCode += getMaxCpc().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        if (getMaxCpc() != null) {
-            _hashCode += getMaxCpc().hashCode();
-        }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(AdGroupEstimateRequest.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(AdGroupEstimateRequest.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://adwords.google.com/api/adwords/o/v201605", "AdGroupEstimateRequest"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("adGroupId");
@@ -255,13 +260,24 @@ public class AdGroupEstimateRequest  extends com.google.api.ads.adwords.axis.v20
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (AdGroupEstimateRequest.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -273,7 +289,7 @@ public class AdGroupEstimateRequest  extends com.google.api.ads.adwords.axis.v20
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -285,7 +301,7 @@ public class AdGroupEstimateRequest  extends com.google.api.ads.adwords.axis.v20
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
@@ -459,84 +459,89 @@ public class CampaignEstimateRequest  extends com.google.api.ads.adwords.axis.v2
         this.dailyBudget = dailyBudget;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof CampaignEstimateRequest)) return false;
         CampaignEstimateRequest other = (CampaignEstimateRequest) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(CampaignEstimateRequest.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = super.equals(obj) && 
-            ((this.campaignId==null && other.getCampaignId()==null) || 
-             (this.campaignId!=null &&
-              this.campaignId.equals(other.getCampaignId()))) &&
-            ((this.adGroupEstimateRequests==null && other.getAdGroupEstimateRequests()==null) || 
-             (this.adGroupEstimateRequests!=null &&
-              java.util.Arrays.equals(this.adGroupEstimateRequests, other.getAdGroupEstimateRequests()))) &&
-            ((this.criteria==null && other.getCriteria()==null) || 
-             (this.criteria!=null &&
-              java.util.Arrays.equals(this.criteria, other.getCriteria()))) &&
-            ((this.networkSetting==null && other.getNetworkSetting()==null) || 
-             (this.networkSetting!=null &&
-              this.networkSetting.equals(other.getNetworkSetting()))) &&
-            ((this.dailyBudget==null && other.getDailyBudget()==null) || 
-             (this.dailyBudget!=null &&
-              this.dailyBudget.equals(other.getDailyBudget())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = super.equals(obj) && 
+                ((this.campaignId==null && other.getCampaignId()==null) || 
+                 (this.campaignId!=null &&
+                  this.campaignId.equals(other.getCampaignId()))) &&
+                ((this.adGroupEstimateRequests==null && other.getAdGroupEstimateRequests()==null) || 
+                 (this.adGroupEstimateRequests!=null &&
+                  java.util.Arrays.equals(this.adGroupEstimateRequests, other.getAdGroupEstimateRequests()))) &&
+                ((this.criteria==null && other.getCriteria()==null) || 
+                 (this.criteria!=null &&
+                  java.util.Arrays.equals(this.criteria, other.getCriteria()))) &&
+                ((this.networkSetting==null && other.getNetworkSetting()==null) || 
+                 (this.networkSetting!=null &&
+                  this.networkSetting.equals(other.getNetworkSetting()))) &&
+                ((this.dailyBudget==null && other.getDailyBudget()==null) || 
+                 (this.dailyBudget!=null &&
+                  this.dailyBudget.equals(other.getDailyBudget())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(CampaignEstimateRequest.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = super.hashCode();
-        if (getCampaignId() != null) {
-            _hashCode += getCampaignId().hashCode();
-        }
-        if (getAdGroupEstimateRequests() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getAdGroupEstimateRequests());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getAdGroupEstimateRequests(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+        try {
+            int _hashCode = super.hashCode();
+            if (getCampaignId() != null) {
+                _hashCode += getCampaignId().hashCode();
+            }
+            if (getAdGroupEstimateRequests() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getAdGroupEstimateRequests());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getAdGroupEstimateRequests(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
-        }
-        if (getCriteria() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getCriteria());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getCriteria(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+            if (getCriteria() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getCriteria());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getCriteria(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
+            if (getNetworkSetting() != null) {
+                _hashCode += getNetworkSetting().hashCode();
+            }
+            if (getDailyBudget() != null) {
+                _hashCode += getDailyBudget().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        if (getNetworkSetting() != null) {
-            _hashCode += getNetworkSetting().hashCode();
-        }
-        if (getDailyBudget() != null) {
-            _hashCode += getDailyBudget().hashCode();
-        }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(CampaignEstimateRequest.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(CampaignEstimateRequest.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://adwords.google.com/api/adwords/o/v201605", "CampaignEstimateRequest"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("campaignId");
@@ -575,13 +580,24 @@ public class CampaignEstimateRequest  extends com.google.api.ads.adwords.axis.v2
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (CampaignEstimateRequest.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -593,7 +609,7 @@ public class CampaignEstimateRequest  extends com.google.api.ads.adwords.axis.v2
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -605,7 +621,7 @@ public class CampaignEstimateRequest  extends com.google.api.ads.adwords.axis.v2
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
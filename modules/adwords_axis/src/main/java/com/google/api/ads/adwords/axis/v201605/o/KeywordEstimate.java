@@ -140,56 +140,61 @@ public class KeywordEstimate  extends com.google.api.ads.adwords.axis.v201605.o.
         this.max = max;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof KeywordEstimate)) return false;
         KeywordEstimate other = (KeywordEstimate) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(KeywordEstimate.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = super.equals(obj) && 
-            ((this.criterionId==null && other.getCriterionId()==null) || 
-             (this.criterionId!=null &&
-              this.criterionId.equals(other.getCriterionId()))) &&
-            ((this.min==null && other.getMin()==null) || 
-             (this.min!=null &&
-              this.min.equals(other.getMin()))) &&
-            ((this.max==null && other.getMax()==null) || 
-             (this.max!=null &&
-              this.max.equals(other.getMax())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = super.equals(obj) && 
+                ((this.criterionId==null && other.getCriterionId()==null) || 
+                 (this.criterionId!=null &&
+                  this.criterionId.equals(other.getCriterionId()))) &&
+                ((this.min==null && other.getMin()==null) || 
+                 (this.min!=null &&
+                  this.min.equals(other.getMin()))) &&
+                ((this.max==null && other.getMax()==null) || 
+                 (this.max!=null &&
+                  this.max.equals(other.getMax())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(KeywordEstimate.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = super.hashCode();
-        if (getCriterionId() != null) {
-            _hashCode += getCriterionId().hashCode();
-        }
-        if (getMin() != null) {
-            _hashCode += getMin().hashCode();
-        }
-        if (getMax() != null) {
-            _hashCode += getMax().hashCode();
+        try {
+            int _hashCode = super.hashCode();
+            if (getCriterionId() != null) {
+                _hashCode += getCriterionId().hashCode();
+            }
+            if (getMin() != null) {
+                _hashCode += getMin().hashCode();
+            }
+            if (getMax() != null) {
+                _hashCode += getMax().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(KeywordEstimate.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(KeywordEstimate.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://adwords.google.com/api/adwords/o/v201605", "KeywordEstimate"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("criterionId");
@@ -212,13 +217,24 @@ public class KeywordEstimate  extends com.google.api.ads.adwords.axis.v201605.o.
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (KeywordEstimate.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -230,7 +246,7 @@ public class KeywordEstimate  extends com.google.api.ads.adwords.axis.v201605.o.
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -242,7 +258,7 @@ public class KeywordEstimate  extends com.google.api.ads.adwords.axis.v201605.o.
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
@@ -242,56 +242,61 @@ public class KeywordEstimateRequest  extends com.google.api.ads.adwords.axis.v20
         this.isNegative = isNegative;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof KeywordEstimateRequest)) return false;
         KeywordEstimateRequest other = (KeywordEstimateRequest) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(KeywordEstimateRequest.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = super.equals(obj) && 
-            ((this.keyword==null && other.getKeyword()==null) || 
-             (this.keyword!=null &&
-              this.keyword.equals(other.getKeyword()))) &&
-            ((this.maxCpc==null && other.getMaxCpc()==null) || 
-             (this.maxCpc!=null &&
-              this.maxCpc.equals(other.getMaxCpc()))) &&
-            ((this.isNegative==null && other.getIsNegative()==null) || 
-             (this.isNegative!=null &&
-              this.isNegative.equals(other.getIsNegative())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = super.equals(obj) && 
+                ((this.keyword==null && other.getKeyword()==null) || 
+                 (this.keyword!=null &&
+                  this.keyword.equals(other.getKeyword()))) &&
+                ((this.maxCpc==null && other.getMaxCpc()==null) || 
+                 (this.maxCpc!=null &&
+                  this.maxCpc.equals(other.getMaxCpc()))) &&
+                ((this.isNegative==null && other.getIsNegative()==null) || 
+                 (this.isNegative!=null &&
+                  this.isNegative.equals(other.getIsNegative())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(KeywordEstimateRequest.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = super.hashCode();
-        if (getKeyword() != null) {
-            _hashCode += getKeyword().hashCode();
-        }
-        if (getMaxCpc() != null) {
-            _hashCode += getMaxCpc().hashCode();
-        }
-        if (getIsNegative() != null) {
-            _hashCode += getIsNegative().hashCode();
+        try {
+            int _hashCode = super.hashCode();
+            if (getKeyword() != null) {
+                _hashCode += getKeyword().hashCode();
+            }
+            if (getMaxCpc() != null) {
+                _hashCode += getMaxCpc().hashCode();
+            }
+            if (getIsNegative() != null) {
+                _hashCode += getIsNegative().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(KeywordEstimateRequest.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(KeywordEstimateRequest.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://adwords.google.com/api/adwords/o/v201605", "KeywordEstimateRequest"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("keyword");
@@ -314,13 +319,24 @@ public class KeywordEstimateRequest  extends com.google.api.ads.adwords.axis.v20
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (KeywordEstimateRequest.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -332,7 +348,7 @@ public class KeywordEstimateRequest  extends com.google.api.ads.adwords.axis.v20
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -344,7 +360,7 @@ public class KeywordEstimateRequest  extends com.google.api.ads.adwords.axis.v20
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
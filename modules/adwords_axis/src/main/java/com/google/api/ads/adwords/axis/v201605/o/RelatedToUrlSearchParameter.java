@@ -144,58 +144,63 @@ public class RelatedToUrlSearchParameter  extends com.google.api.ads.adwords.axi
         this.includeSubUrls = includeSubUrls;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof RelatedToUrlSearchParameter)) return false;
         RelatedToUrlSearchParameter other = (RelatedToUrlSearchParameter) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(RelatedToUrlSearchParameter.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = super.equals(obj) && 
-            ((this.urls==null && other.getUrls()==null) || 
-             (this.urls!=null &&
-              java.util.Arrays.equals(this.urls, other.getUrls()))) &&
-            ((this.includeSubUrls==null && other.getIncludeSubUrls()==null) || 
-             (this.includeSubUrls!=null &&
-              this.includeSubUrls.equals(other.getIncludeSubUrls())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = super.equals(obj) && 
+                ((this.urls==null && other.getUrls()==null) || 
+                 (this.urls!=null &&
+                  java.util.Arrays.equals(this.urls, other.getUrls()))) &&
+                ((this.includeSubUrls==null && other.getIncludeSubUrls()==null) || 
+                 (this.includeSubUrls!=null &&
+                  this.includeSubUrls.equals(other.getIncludeSubUrls())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(RelatedToUrlSearchParameter.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = super.hashCode();
-        if (getUrls() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getUrls());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getUrls(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+        try {
+            int _hashCode = super.hashCode();
+            if (getUrls() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getUrls());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getUrls(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
+            if (getIncludeSubUrls() != null) {
+                _hashCode += getIncludeSubUrls().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        if (getIncludeSubUrls() != null) {
-            _hashCode += getIncludeSubUrls().hashCode();
-        }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(RelatedToUrlSearchParameter.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(RelatedToUrlSearchParameter.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://adwords.google.com/api/adwords/o/v201605", "RelatedToUrlSearchParameter"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("urls");
@@ -212,13 +217,24 @@ public class RelatedToUrlSearchParameter  extends com.google.api.ads.adwords.axi
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (RelatedToUrlSearchParameter.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -230,7 +246,7 @@ public class RelatedToUrlSearchParameter  extends com.google.api.ads.adwords.axi
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -242,7 +258,7 @@ public class RelatedToUrlSearchParameter  extends com.google.api.ads.adwords.axi
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
@@ -188,74 +188,79 @@ public class StatsEstimate  implements java.io.Serializable {
         this.totalCost = totalCost;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof StatsEstimate)) return false;
         StatsEstimate other = (StatsEstimate) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(StatsEstimate.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = true && 
-            ((this.averageCpc==null && other.getAverageCpc()==null) || 
-             (this.averageCpc!=null &&
-              this.averageCpc.equals(other.getAverageCpc()))) &&
-            ((this.averagePosition==null && other.getAveragePosition()==null) || 
-             (this.averagePosition!=null &&
-              this.averagePosition.equals(other.getAveragePosition()))) &&
-            ((this.clickThroughRate==null && other.getClickThroughRate()==null) || 
-             (this.clickThroughRate!=null &&
-              this.clickThroughRate.equals(other.getClickThroughRate()))) &&
-            ((this.clicksPerDay==null && other.getClicksPerDay()==null) || 
-             (this.clicksPerDay!=null &&
-              this.clicksPerDay.equals(other.getClicksPerDay()))) &&
-            ((this.impressionsPerDay==null && other.getImpressionsPerDay()==null) || 
-             (this.impressionsPerDay!=null &&
-              this.impressionsPerDay.equals(other.getImpressionsPerDay()))) &&
-            ((this.totalCost==null && other.getTotalCost()==null) || 
-             (this.totalCost!=null &&
-              this.totalCost.equals(other.getTotalCost())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = true && 
+                ((this.averageCpc==null && other.getAverageCpc()==null) || 
+                 (this.averageCpc!=null &&
+                  this.averageCpc.equals(other.getAverageCpc()))) &&
+                ((this.averagePosition==null && other.getAveragePosition()==null) || 
+                 (this.averagePosition!=null &&
+                  this.averagePosition.equals(other.getAveragePosition()))) &&
+                ((this.clickThroughRate==null && other.getClickThroughRate()==null) || 
+                 (this.clickThroughRate!=null &&
+                  this.clickThroughRate.equals(other.getClickThroughRate()))) &&
+                ((this.clicksPerDay==null && other.getClicksPerDay()==null) || 
+                 (this.clicksPerDay!=null &&
+                  this.clicksPerDay.equals(other.getClicksPerDay()))) &&
+                ((this.impressionsPerDay==null && other.getImpressionsPerDay()==null) || 
+                 (this.impressionsPerDay!=null &&
+                  this.impressionsPerDay.equals(other.getImpressionsPerDay()))) &&
+                ((this.totalCost==null && other.getTotalCost()==null) || 
+                 (this.totalCost!=null &&
+                  this.totalCost.equals(other.getTotalCost())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(StatsEstimate.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getAverageCpc() != null) {
-            _hashCode += getAverageCpc().hashCode();
-        }
-        if (getAveragePosition() != null) {
-            _hashCode += getAveragePosition().hashCode();
-        }
-        if (getClickThroughRate() != null) {
-            _hashCode += getClickThroughRate().hashCode();
-        }
-        if (getClicksPerDay() != null) {
-            _hashCode += getClicksPerDay().hashCode();
-        }
-        if (getImpressionsPerDay() != null) {
-            _hashCode += getImpressionsPerDay().hashCode();
+        try {
+            int _hashCode = 1;
+            if (getAverageCpc() != null) {
+                _hashCode += getAverageCpc().hashCode();
+            }
+            if (getAveragePosition() != null) {
+                _hashCode += getAveragePosition().hashCode();
+            }
+            if (getClickThroughRate() != null) {
+                _hashCode += getClickThroughRate().hashCode();
+            }
+            if (getClicksPerDay() != null) {
+                _hashCode += getClicksPerDay().hashCode();
+            }
+            if (getImpressionsPerDay() != null) {
+                _hashCode += getImpressionsPerDay().hashCode();
+            }
+            if (getTotalCost() != null) {
+                _hashCode += getTotalCost().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        if (getTotalCost() != null) {
-            _hashCode += getTotalCost().hashCode();
-        }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(StatsEstimate.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(StatsEstimate.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://adwords.google.com/api/adwords/o/v201605", "StatsEstimate"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("averageCpc");
@@ -299,13 +304,24 @@ public class StatsEstimate  implements java.io.Serializable {
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (StatsEstimate.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -317,7 +333,7 @@ public class StatsEstimate  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -329,7 +345,7 @@ public class StatsEstimate  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
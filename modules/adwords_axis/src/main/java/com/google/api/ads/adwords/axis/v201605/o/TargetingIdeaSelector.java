@@ -329,96 +329,101 @@ public class TargetingIdeaSelector  implements java.io.Serializable {
         this.currencyCode = currencyCode;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof TargetingIdeaSelector)) return false;
         TargetingIdeaSelector other = (TargetingIdeaSelector) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(TargetingIdeaSelector.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = true && 
-            ((this.searchParameters==null && other.getSearchParameters()==null) || 
-             (this.searchParameters!=null &&
-              java.util.Arrays.equals(this.searchParameters, other.getSearchParameters()))) &&
-            ((this.ideaType==null && other.getIdeaType()==null) || 
-             (this.ideaType!=null &&
-              this.ideaType.equals(other.getIdeaType()))) &&
-            ((this.requestType==null && other.getRequestType()==null) || 
-             (this.requestType!=null &&
-              this.requestType.equals(other.getRequestType()))) &&
-            ((this.requestedAttributeTypes==null && other.getRequestedAttributeTypes()==null) || 
-             (this.requestedAttributeTypes!=null &&
-              java.util.Arrays.equals(this.requestedAttributeTypes, other.getRequestedAttributeTypes()))) &&
-            ((this.paging==null && other.getPaging()==null) || 
-             (this.paging!=null &&
-              this.paging.equals(other.getPaging()))) &&
-            ((this.localeCode==null && other.getLocaleCode()==null) || 
-             (this.localeCode!=null &&
-              this.localeCode.equals(other.getLocaleCode()))) &&
-            ((this.currencyCode==null && other.getCurrencyCode()==null) || 
-             (this.currencyCode!=null &&
-              this.currencyCode.equals(other.getCurrencyCode())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = true && 
+                ((this.searchParameters==null && other.getSearchParameters()==null) || 
+                 (this.searchParameters!=null &&
+                  java.util.Arrays.equals(this.searchParameters, other.getSearchParameters()))) &&
+                ((this.ideaType==null && other.getIdeaType()==null) || 
+                 (this.ideaType!=null &&
+                  this.ideaType.equals(other.getIdeaType()))) &&
+                ((this.requestType==null && other.getRequestType()==null) || 
+                 (this.requestType!=null &&
+                  this.requestType.equals(other.getRequestType()))) &&
+                ((this.requestedAttributeTypes==null && other.getRequestedAttributeTypes()==null) || 
+                 (this.requestedAttributeTypes!=null &&
+                  java.util.Arrays.equals(this.requestedAttributeTypes, other.getRequestedAttributeTypes()))) &&
+                ((this.paging==null && other.getPaging()==null) || 
+                 (this.paging!=null &&
+                  this.paging.equals(other.getPaging()))) &&
+                ((this.localeCode==null && other.getLocaleCode()==null) || 
+                 (this.localeCode!=null &&
+                  this.localeCode.equals(other.getLocaleCode()))) &&
+                ((this.currencyCode==null && other.getCurrencyCode()==null) || 
+                 (this.currencyCode!=null &&
+                  this.currencyCode.equals(other.getCurrencyCode())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(TargetingIdeaSelector.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getSearchParameters() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getSearchParameters());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getSearchParameters(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+        try {
+            int _hashCode = 1;
+            if (getSearchParameters() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getSearchParameters());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getSearchParameters(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
-        }
-        if (getIdeaType() != null) {
-            _hashCode += getIdeaType().hashCode();
-        }
-        if (getRequestType() != null) {
-            _hashCode += getRequestType().hashCode();
-        }
-        if (getRequestedAttributeTypes() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getRequestedAttributeTypes());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getRequestedAttributeTypes(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+            if (getIdeaType() != null) {
+                _hashCode += getIdeaType().hashCode();
+            }
+            if (getRequestType() != null) {
+                _hashCode += getRequestType().hashCode();
+            }
+            if (getRequestedAttributeTypes() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getRequestedAttributeTypes());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getRequestedAttributeTypes(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
+            if (getPaging() != null) {
+                _hashCode += getPaging().hashCode();
+            }
+            if (getLocaleCode() != null) {
+                _hashCode += getLocaleCode().hashCode();
+            }
+            if (getCurrencyCode() != null) {
+                _hashCode += getCurrencyCode().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        if (getPaging() != null) {
-            _hashCode += getPaging().hashCode();
-        }
-        if (getLocaleCode() != null) {
-            _hashCode += getLocaleCode().hashCode();
-        }
-        if (getCurrencyCode() != null) {
-            _hashCode += getCurrencyCode().hashCode();
-        }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(TargetingIdeaSelector.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(TargetingIdeaSelector.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://adwords.google.com/api/adwords/o/v201605", "TargetingIdeaSelector"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("searchParameters");
@@ -471,13 +476,24 @@ public class TargetingIdeaSelector  implements java.io.Serializable {
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (TargetingIdeaSelector.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -489,7 +505,7 @@ public class TargetingIdeaSelector  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -501,7 +517,7 @@ public class TargetingIdeaSelector  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
@@ -132,58 +132,63 @@ public class TrafficEstimatorSelector  implements java.io.Serializable {
         this.platformEstimateRequested = platformEstimateRequested;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof TrafficEstimatorSelector)) return false;
         TrafficEstimatorSelector other = (TrafficEstimatorSelector) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(TrafficEstimatorSelector.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = true && 
-            ((this.campaignEstimateRequests==null && other.getCampaignEstimateRequests()==null) || 
-             (this.campaignEstimateRequests!=null &&
-              java.util.Arrays.equals(this.campaignEstimateRequests, other.getCampaignEstimateRequests()))) &&
-            ((this.platformEstimateRequested==null && other.getPlatformEstimateRequested()==null) || 
-             (this.platformEstimateRequested!=null &&
-              this.platformEstimateRequested.equals(other.getPlatformEstimateRequested())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = true && 
+                ((this.campaignEstimateRequests==null && other.getCampaignEstimateRequests()==null) || 
+                 (this.campaignEstimateRequests!=null &&
+                  java.util.Arrays.equals(this.campaignEstimateRequests, other.getCampaignEstimateRequests()))) &&
+                ((this.platformEstimateRequested==null && other.getPlatformEstimateRequested()==null) || 
+                 (this.platformEstimateRequested!=null &&
+                  this.platformEstimateRequested.equals(other.getPlatformEstimateRequested())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(TrafficEstimatorSelector.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getCampaignEstimateRequests() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getCampaignEstimateRequests());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getCampaignEstimateRequests(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+        try {
+            int _hashCode = 1;
+            if (getCampaignEstimateRequests() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getCampaignEstimateRequests());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getCampaignEstimateRequests(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
+            if (getPlatformEstimateRequested() != null) {
+                _hashCode += getPlatformEstimateRequested().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        if (getPlatformEstimateRequested() != null) {
-            _hashCode += getPlatformEstimateRequested().hashCode();
-        }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(TrafficEstimatorSelector.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(TrafficEstimatorSelector.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://adwords.google.com/api/adwords/o/v201605", "TrafficEstimatorSelector"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("campaignEstimateRequests");
@@ -200,13 +205,24 @@ public class TrafficEstimatorSelector  implements java.io.Serializable {
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (TrafficEstimatorSelector.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -218,7 +234,7 @@ public class TrafficEstimatorSelector  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -230,7 +246,7 @@ public class TrafficEstimatorSelector  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
@@ -169,64 +169,69 @@ public class MutateMembersOperand  implements java.io.Serializable {
         this.members[i] = _value;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof MutateMembersOperand)) return false;
         MutateMembersOperand other = (MutateMembersOperand) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(MutateMembersOperand.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = true && 
-            ((this.userListId==null && other.getUserListId()==null) || 
-             (this.userListId!=null &&
-              this.userListId.equals(other.getUserListId()))) &&
-            ((this.dataType==null && other.getDataType()==null) || 
-             (this.dataType!=null &&
-              this.dataType.equals(other.getDataType()))) &&
-            ((this.members==null && other.getMembers()==null) || 
-             (this.members!=null &&
-              java.util.Arrays.equals(this.members, other.getMembers())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = true && 
+                ((this.userListId==null && other.getUserListId()==null) || 
+                 (this.userListId!=null &&
+                  this.userListId.equals(other.getUserListId()))) &&
+                ((this.dataType==null && other.getDataType()==null) || 
+                 (this.dataType!=null &&
+                  this.dataType.equals(other.getDataType()))) &&
+                ((this.members==null && other.getMembers()==null) || 
+                 (this.members!=null &&
+                  java.util.Arrays.equals(this.members, other.getMembers())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(MutateMembersOperand.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getUserListId() != null) {
-            _hashCode += getUserListId().hashCode();
-        }
-        if (getDataType() != null) {
-            _hashCode += getDataType().hashCode();
-        }
-        if (getMembers() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getMembers());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getMembers(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+        try {
+            int _hashCode = 1;
+            if (getUserListId() != null) {
+                _hashCode += getUserListId().hashCode();
+            }
+            if (getDataType() != null) {
+                _hashCode += getDataType().hashCode();
+            }
+            if (getMembers() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getMembers());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getMembers(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(MutateMembersOperand.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(MutateMembersOperand.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://adwords.google.com/api/adwords/rm/v201605", "MutateMembersOperand"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("userListId");
@@ -250,13 +255,24 @@ public class MutateMembersOperand  implements java.io.Serializable {
         elemField.setNillable(false);
         elemField.setMaxOccursUnbounded(true);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (MutateMembersOperand.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -268,7 +284,7 @@ public class MutateMembersOperand  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -280,7 +296,7 @@ public class MutateMembersOperand  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
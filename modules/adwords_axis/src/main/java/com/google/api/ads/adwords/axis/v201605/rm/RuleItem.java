@@ -104,56 +104,61 @@ public class RuleItem  implements java.io.Serializable {
         this.stringRuleItem = stringRuleItem;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof RuleItem)) return false;
         RuleItem other = (RuleItem) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(RuleItem.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = true && 
-            ((this.dateRuleItem==null && other.getDateRuleItem()==null) || 
-             (this.dateRuleItem!=null &&
-              this.dateRuleItem.equals(other.getDateRuleItem()))) &&
-            ((this.numberRuleItem==null && other.getNumberRuleItem()==null) || 
-             (this.numberRuleItem!=null &&
-              this.numberRuleItem.equals(other.getNumberRuleItem()))) &&
-            ((this.stringRuleItem==null && other.getStringRuleItem()==null) || 
-             (this.stringRuleItem!=null &&
-              this.stringRuleItem.equals(other.getStringRuleItem())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = true && 
+                ((this.dateRuleItem==null && other.getDateRuleItem()==null) || 
+                 (this.dateRuleItem!=null &&
+                  this.dateRuleItem.equals(other.getDateRuleItem()))) &&
+                ((this.numberRuleItem==null && other.getNumberRuleItem()==null) || 
+                 (this.numberRuleItem!=null &&
+                  this.numberRuleItem.equals(other.getNumberRuleItem()))) &&
+                ((this.stringRuleItem==null && other.getStringRuleItem()==null) || 
+                 (this.stringRuleItem!=null &&
+                  this.stringRuleItem.equals(other.getStringRuleItem())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(RuleItem.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getDateRuleItem() != null) {
-            _hashCode += getDateRuleItem().hashCode();
-        }
-        if (getNumberRuleItem() != null) {
-            _hashCode += getNumberRuleItem().hashCode();
-        }
-        if (getStringRuleItem() != null) {
-            _hashCode += getStringRuleItem().hashCode();
+        try {
+            int _hashCode = 1;
+            if (getDateRuleItem() != null) {
+                _hashCode += getDateRuleItem().hashCode();
+            }
+            if (getNumberRuleItem() != null) {
+                _hashCode += getNumberRuleItem().hashCode();
+            }
+            if (getStringRuleItem() != null) {
+                _hashCode += getStringRuleItem().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(RuleItem.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(RuleItem.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://adwords.google.com/api/adwords/rm/v201605", "RuleItem"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("dateRuleItem");
@@ -176,13 +181,24 @@ public class RuleItem  implements java.io.Serializable {
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (RuleItem.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -194,7 +210,7 @@ public class RuleItem  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -206,7 +222,7 @@ public class RuleItem  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
@@ -279,68 +279,73 @@ public class SimilarUserList  extends com.google.api.ads.adwords.axis.v201605.rm
         this.seedListSize = seedListSize;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof SimilarUserList)) return false;
         SimilarUserList other = (SimilarUserList) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(SimilarUserList.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = super.equals(obj) && 
-            ((this.seedUserListId==null && other.getSeedUserListId()==null) || 
-             (this.seedUserListId!=null &&
-              this.seedUserListId.equals(other.getSeedUserListId()))) &&
-            ((this.seedUserListName==null && other.getSeedUserListName()==null) || 
-             (this.seedUserListName!=null &&
-              this.seedUserListName.equals(other.getSeedUserListName()))) &&
-            ((this.seedUserListDescription==null && other.getSeedUserListDescription()==null) || 
-             (this.seedUserListDescription!=null &&
-              this.seedUserListDescription.equals(other.getSeedUserListDescription()))) &&
-            ((this.seedUserListStatus==null && other.getSeedUserListStatus()==null) || 
-             (this.seedUserListStatus!=null &&
-              this.seedUserListStatus.equals(other.getSeedUserListStatus()))) &&
-            ((this.seedListSize==null && other.getSeedListSize()==null) || 
-             (this.seedListSize!=null &&
-              this.seedListSize.equals(other.getSeedListSize())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = super.equals(obj) && 
+                ((this.seedUserListId==null && other.getSeedUserListId()==null) || 
+                 (this.seedUserListId!=null &&
+                  this.seedUserListId.equals(other.getSeedUserListId()))) &&
+                ((this.seedUserListName==null && other.getSeedUserListName()==null) || 
+                 (this.seedUserListName!=null &&
+                  this.seedUserListName.equals(other.getSeedUserListName()))) &&
+                ((this.seedUserListDescription==null && other.getSeedUserListDescription()==null) || 
+                 (this.seedUserListDescription!=null &&
+                  this.seedUserListDescription.equals(other.getSeedUserListDescription()))) &&
+                ((this.seedUserListStatus==null && other.getSeedUserListStatus()==null) || 
+                 (this.seedUserListStatus!=null &&
+                  this.seedUserListStatus.equals(other.getSeedUserListStatus()))) &&
+                ((this.seedListSize==null && other.getSeedListSize()==null) || 
+                 (this.seedListSize!=null &&
+                  this.seedListSize.equals(other.getSeedListSize())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(SimilarUserList.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = super.hashCode();
-        if (getSeedUserListId() != null) {
-            _hashCode += getSeedUserListId().hashCode();
-        }
-        if (getSeedUserListName() != null) {
-            _hashCode += getSeedUserListName().hashCode();
-        }
-        if (getSeedUserListDescription() != null) {
-            _hashCode += getSeedUserListDescription().hashCode();
-        }
-        if (getSeedUserListStatus() != null) {
-            _hashCode += getSeedUserListStatus().hashCode();
+        try {
+            int _hashCode = super.hashCode();
+            if (getSeedUserListId() != null) {
+                _hashCode += getSeedUserListId().hashCode();
+            }
+            if (getSeedUserListName() != null) {
+                _hashCode += getSeedUserListName().hashCode();
+            }
+            if (getSeedUserListDescription() != null) {
+                _hashCode += getSeedUserListDescription().hashCode();
+            }
+            if (getSeedUserListStatus() != null) {
+                _hashCode += getSeedUserListStatus().hashCode();
+            }
+            if (getSeedListSize() != null) {
+                _hashCode += getSeedListSize().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        if (getSeedListSize() != null) {
-            _hashCode += getSeedListSize().hashCode();
-        }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(SimilarUserList.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(SimilarUserList.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://adwords.google.com/api/adwords/rm/v201605", "SimilarUserList"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("seedUserListId");
@@ -377,13 +382,24 @@ public class SimilarUserList  extends com.google.api.ads.adwords.axis.v201605.rm
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (SimilarUserList.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -395,7 +411,7 @@ public class SimilarUserList  extends com.google.api.ads.adwords.axis.v201605.rm
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -407,7 +423,7 @@ public class SimilarUserList  extends com.google.api.ads.adwords.axis.v201605.rm
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
@@ -335,86 +335,91 @@ public class BudgetOrderRequest  implements java.io.Serializable {
         this.endDateTime = endDateTime;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof BudgetOrderRequest)) return false;
         BudgetOrderRequest other = (BudgetOrderRequest) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(BudgetOrderRequest.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = true && 
-            ((this.status==null && other.getStatus()==null) || 
-             (this.status!=null &&
-              this.status.equals(other.getStatus()))) &&
-            ((this.date==null && other.getDate()==null) || 
-             (this.date!=null &&
-              this.date.equals(other.getDate()))) &&
-            ((this.billingAccountName==null && other.getBillingAccountName()==null) || 
-             (this.billingAccountName!=null &&
-              this.billingAccountName.equals(other.getBillingAccountName()))) &&
-            ((this.poNumber==null && other.getPoNumber()==null) || 
-             (this.poNumber!=null &&
-              this.poNumber.equals(other.getPoNumber()))) &&
-            ((this.budgetOrderName==null && other.getBudgetOrderName()==null) || 
-             (this.budgetOrderName!=null &&
-              this.budgetOrderName.equals(other.getBudgetOrderName()))) &&
-            ((this.spendingLimit==null && other.getSpendingLimit()==null) || 
-             (this.spendingLimit!=null &&
-              this.spendingLimit.equals(other.getSpendingLimit()))) &&
-            ((this.startDateTime==null && other.getStartDateTime()==null) || 
-             (this.startDateTime!=null &&
-              this.startDateTime.equals(other.getStartDateTime()))) &&
-            ((this.endDateTime==null && other.getEndDateTime()==null) || 
-             (this.endDateTime!=null &&
-              this.endDateTime.equals(other.getEndDateTime())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = true && 
+                ((this.status==null && other.getStatus()==null) || 
+                 (this.status!=null &&
+                  this.status.equals(other.getStatus()))) &&
+                ((this.date==null && other.getDate()==null) || 
+                 (this.date!=null &&
+                  this.date.equals(other.getDate()))) &&
+                ((this.billingAccountName==null && other.getBillingAccountName()==null) || 
+                 (this.billingAccountName!=null &&
+                  this.billingAccountName.equals(other.getBillingAccountName()))) &&
+                ((this.poNumber==null && other.getPoNumber()==null) || 
+                 (this.poNumber!=null &&
+                  this.poNumber.equals(other.getPoNumber()))) &&
+                ((this.budgetOrderName==null && other.getBudgetOrderName()==null) || 
+                 (this.budgetOrderName!=null &&
+                  this.budgetOrderName.equals(other.getBudgetOrderName()))) &&
+                ((this.spendingLimit==null && other.getSpendingLimit()==null) || 
+                 (this.spendingLimit!=null &&
+                  this.spendingLimit.equals(other.getSpendingLimit()))) &&
+                ((this.startDateTime==null && other.getStartDateTime()==null) || 
+                 (this.startDateTime!=null &&
+                  this.startDateTime.equals(other.getStartDateTime()))) &&
+                ((this.endDateTime==null && other.getEndDateTime()==null) || 
+                 (this.endDateTime!=null &&
+                  this.endDateTime.equals(other.getEndDateTime())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(BudgetOrderRequest.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getStatus() != null) {
-            _hashCode += getStatus().hashCode();
-        }
-        if (getDate() != null) {
-            _hashCode += getDate().hashCode();
-        }
-        if (getBillingAccountName() != null) {
-            _hashCode += getBillingAccountName().hashCode();
-        }
-        if (getPoNumber() != null) {
-            _hashCode += getPoNumber().hashCode();
-        }
-        if (getBudgetOrderName() != null) {
-            _hashCode += getBudgetOrderName().hashCode();
-        }
-        if (getSpendingLimit() != null) {
-            _hashCode += getSpendingLimit().hashCode();
+        try {
+            int _hashCode = 1;
+            if (getStatus() != null) {
+                _hashCode += getStatus().hashCode();
+            }
+            if (getDate() != null) {
+                _hashCode += getDate().hashCode();
+            }
+            if (getBillingAccountName() != null) {
+                _hashCode += getBillingAccountName().hashCode();
+            }
+            if (getPoNumber() != null) {
+                _hashCode += getPoNumber().hashCode();
+            }
+            if (getBudgetOrderName() != null) {
+                _hashCode += getBudgetOrderName().hashCode();
+            }
+            if (getSpendingLimit() != null) {
+                _hashCode += getSpendingLimit().hashCode();
+            }
+            if (getStartDateTime() != null) {
+                _hashCode += getStartDateTime().hashCode();
+            }
+            if (getEndDateTime() != null) {
+                _hashCode += getEndDateTime().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        if (getStartDateTime() != null) {
-            _hashCode += getStartDateTime().hashCode();
-        }
-        if (getEndDateTime() != null) {
-            _hashCode += getEndDateTime().hashCode();
-        }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(BudgetOrderRequest.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(BudgetOrderRequest.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://adwords.google.com/api/adwords/billing/v201607", "BudgetOrderRequest"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("status");
@@ -472,13 +477,24 @@ public class BudgetOrderRequest  implements java.io.Serializable {
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (BudgetOrderRequest.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -490,7 +506,7 @@ public class BudgetOrderRequest  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -502,7 +518,7 @@ public class BudgetOrderRequest  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
@@ -355,148 +355,153 @@ public class AdGroupChangeData  implements java.io.Serializable {
         this.removedAdGroupBidModifierCriteria[i] = _value;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof AdGroupChangeData)) return false;
         AdGroupChangeData other = (AdGroupChangeData) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(AdGroupChangeData.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = true && 
-            ((this.adGroupId==null && other.getAdGroupId()==null) || 
-             (this.adGroupId!=null &&
-              this.adGroupId.equals(other.getAdGroupId()))) &&
-            ((this.adGroupChangeStatus==null && other.getAdGroupChangeStatus()==null) || 
-             (this.adGroupChangeStatus!=null &&
-              this.adGroupChangeStatus.equals(other.getAdGroupChangeStatus()))) &&
-            ((this.changedAds==null && other.getChangedAds()==null) || 
-             (this.changedAds!=null &&
-              java.util.Arrays.equals(this.changedAds, other.getChangedAds()))) &&
-            ((this.changedCriteria==null && other.getChangedCriteria()==null) || 
-             (this.changedCriteria!=null &&
-              java.util.Arrays.equals(this.changedCriteria, other.getChangedCriteria()))) &&
-            ((this.removedCriteria==null && other.getRemovedCriteria()==null) || 
-             (this.removedCriteria!=null &&
-              java.util.Arrays.equals(this.removedCriteria, other.getRemovedCriteria()))) &&
-            ((this.changedFeeds==null && other.getChangedFeeds()==null) || 
-             (this.changedFeeds!=null &&
-              java.util.Arrays.equals(this.changedFeeds, other.getChangedFeeds()))) &&
-            ((this.removedFeeds==null && other.getRemovedFeeds()==null) || 
-             (this.removedFeeds!=null &&
-              java.util.Arrays.equals(this.removedFeeds, other.getRemovedFeeds()))) &&
-            ((this.changedAdGroupBidModifierCriteria==null && other.getChangedAdGroupBidModifierCriteria()==null) || 
-             (this.changedAdGroupBidModifierCriteria!=null &&
-              java.util.Arrays.equals(this.changedAdGroupBidModifierCriteria, other.getChangedAdGroupBidModifierCriteria()))) &&
-            ((this.removedAdGroupBidModifierCriteria==null && other.getRemovedAdGroupBidModifierCriteria()==null) || 
-             (this.removedAdGroupBidModifierCriteria!=null &&
-              java.util.Arrays.equals(this.removedAdGroupBidModifierCriteria, other.getRemovedAdGroupBidModifierCriteria())));
-        __equalsCalc = null;
-        return _equals;
-    }
-
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
-            return 0;
-        }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getAdGroupId() != null) {
-            _hashCode += getAdGroupId().hashCode();
+        try {
+            boolean _equals;
+            _equals = true && 
+                ((this.adGroupId==null && other.getAdGroupId()==null) || 
+                 (this.adGroupId!=null &&
+                  this.adGroupId.equals(other.getAdGroupId()))) &&
+                ((this.adGroupChangeStatus==null && other.getAdGroupChangeStatus()==null) || 
+                 (this.adGroupChangeStatus!=null &&
+                  this.adGroupChangeStatus.equals(other.getAdGroupChangeStatus()))) &&
+                ((this.changedAds==null && other.getChangedAds()==null) || 
+                 (this.changedAds!=null &&
+                  java.util.Arrays.equals(this.changedAds, other.getChangedAds()))) &&
+                ((this.changedCriteria==null && other.getChangedCriteria()==null) || 
+                 (this.changedCriteria!=null &&
+                  java.util.Arrays.equals(this.changedCriteria, other.getChangedCriteria()))) &&
+                ((this.removedCriteria==null && other.getRemovedCriteria()==null) || 
+                 (this.removedCriteria!=null &&
+                  java.util.Arrays.equals(this.removedCriteria, other.getRemovedCriteria()))) &&
+                ((this.changedFeeds==null && other.getChangedFeeds()==null) || 
+                 (this.changedFeeds!=null &&
+                  java.util.Arrays.equals(this.changedFeeds, other.getChangedFeeds()))) &&
+                ((this.removedFeeds==null && other.getRemovedFeeds()==null) || 
+                 (this.removedFeeds!=null &&
+                  java.util.Arrays.equals(this.removedFeeds, other.getRemovedFeeds()))) &&
+                ((this.changedAdGroupBidModifierCriteria==null && other.getChangedAdGroupBidModifierCriteria()==null) || 
+                 (this.changedAdGroupBidModifierCriteria!=null &&
+                  java.util.Arrays.equals(this.changedAdGroupBidModifierCriteria, other.getChangedAdGroupBidModifierCriteria()))) &&
+                ((this.removedAdGroupBidModifierCriteria==null && other.getRemovedAdGroupBidModifierCriteria()==null) || 
+                 (this.removedAdGroupBidModifierCriteria!=null &&
+                  java.util.Arrays.equals(this.removedAdGroupBidModifierCriteria, other.getRemovedAdGroupBidModifierCriteria())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
         }
-        if (getAdGroupChangeStatus() != null) {
-            _hashCode += getAdGroupChangeStatus().hashCode();
+    }
+
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(AdGroupChangeData.class, this)) {
+            return 0;
         }
-        if (getChangedAds() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getChangedAds());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getChangedAds(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+        try {
+            int _hashCode = 1;
+            if (getAdGroupId() != null) {
+                _hashCode += getAdGroupId().hashCode();
+            }
+            if (getAdGroupChangeStatus() != null) {
+                _hashCode += getAdGroupChangeStatus().hashCode();
+            }
+            if (getChangedAds() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getChangedAds());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getChangedAds(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
-        }
-        if (getChangedCriteria() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getChangedCriteria());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getChangedCriteria(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+            if (getChangedCriteria() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getChangedCriteria());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getChangedCriteria(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
-        }
-        if (getRemovedCriteria() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getRemovedCriteria());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getRemovedCriteria(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+            if (getRemovedCriteria() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getRemovedCriteria());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getRemovedCriteria(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
-        }
-        if (getChangedFeeds() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getChangedFeeds());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getChangedFeeds(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+            if (getChangedFeeds() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getChangedFeeds());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getChangedFeeds(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
-        }
-        if (getRemovedFeeds() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getRemovedFeeds());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getRemovedFeeds(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+            if (getRemovedFeeds() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getRemovedFeeds());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getRemovedFeeds(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
-        }
-        if (getChangedAdGroupBidModifierCriteria() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getChangedAdGroupBidModifierCriteria());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getChangedAdGroupBidModifierCriteria(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+            if (getChangedAdGroupBidModifierCriteria() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getChangedAdGroupBidModifierCriteria());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getChangedAdGroupBidModifierCriteria(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
-        }
-        if (getRemovedAdGroupBidModifierCriteria() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getRemovedAdGroupBidModifierCriteria());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getRemovedAdGroupBidModifierCriteria(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+            if (getRemovedAdGroupBidModifierCriteria() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getRemovedAdGroupBidModifierCriteria());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getRemovedAdGroupBidModifierCriteria(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(AdGroupChangeData.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(AdGroupChangeData.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://adwords.google.com/api/adwords/ch/v201607", "AdGroupChangeData"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("adGroupId");
@@ -568,13 +573,24 @@ public class AdGroupChangeData  implements java.io.Serializable {
         elemField.setNillable(false);
         elemField.setMaxOccursUnbounded(true);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (AdGroupChangeData.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -586,7 +602,7 @@ public class AdGroupChangeData  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -598,7 +614,7 @@ public class AdGroupChangeData  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
@@ -159,72 +159,77 @@ public class CustomerSyncSelector  implements java.io.Serializable {
         this.feedIds[i] = _value;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof CustomerSyncSelector)) return false;
         CustomerSyncSelector other = (CustomerSyncSelector) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(CustomerSyncSelector.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = true && 
-            ((this.dateTimeRange==null && other.getDateTimeRange()==null) || 
-             (this.dateTimeRange!=null &&
-              this.dateTimeRange.equals(other.getDateTimeRange()))) &&
-            ((this.campaignIds==null && other.getCampaignIds()==null) || 
-             (this.campaignIds!=null &&
-              java.util.Arrays.equals(this.campaignIds, other.getCampaignIds()))) &&
-            ((this.feedIds==null && other.getFeedIds()==null) || 
-             (this.feedIds!=null &&
-              java.util.Arrays.equals(this.feedIds, other.getFeedIds())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = true && 
+                ((this.dateTimeRange==null && other.getDateTimeRange()==null) || 
+                 (this.dateTimeRange!=null &&
+                  this.dateTimeRange.equals(other.getDateTimeRange()))) &&
+                ((this.campaignIds==null && other.getCampaignIds()==null) || 
+                 (this.campaignIds!=null &&
+                  java.util.Arrays.equals(this.campaignIds, other.getCampaignIds()))) &&
+                ((this.feedIds==null && other.getFeedIds()==null) || 
+                 (this.feedIds!=null &&
+                  java.util.Arrays.equals(this.feedIds, other.getFeedIds())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(CustomerSyncSelector.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getDateTimeRange() != null) {
-            _hashCode += getDateTimeRange().hashCode();
-        }
-        if (getCampaignIds() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getCampaignIds());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getCampaignIds(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+        try {
+            int _hashCode = 1;
+            if (getDateTimeRange() != null) {
+                _hashCode += getDateTimeRange().hashCode();
+            }
+            if (getCampaignIds() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getCampaignIds());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getCampaignIds(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
-        }
-        if (getFeedIds() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getFeedIds());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getFeedIds(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+            if (getFeedIds() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getFeedIds());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getFeedIds(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(CustomerSyncSelector.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(CustomerSyncSelector.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://adwords.google.com/api/adwords/ch/v201607", "CustomerSyncSelector"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("dateTimeRange");
@@ -249,13 +254,24 @@ public class CustomerSyncSelector  implements java.io.Serializable {
         elemField.setNillable(false);
         elemField.setMaxOccursUnbounded(true);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (CustomerSyncSelector.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -267,7 +283,7 @@ public class CustomerSyncSelector  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -279,7 +295,7 @@ public class CustomerSyncSelector  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
@@ -158,78 +158,83 @@ public class FeedChangeData  implements java.io.Serializable {
         this.removedFeedItems[i] = _value;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof FeedChangeData)) return false;
         FeedChangeData other = (FeedChangeData) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(FeedChangeData.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = true && 
-            ((this.feedId==null && other.getFeedId()==null) || 
-             (this.feedId!=null &&
-              this.feedId.equals(other.getFeedId()))) &&
-            ((this.feedChangeStatus==null && other.getFeedChangeStatus()==null) || 
-             (this.feedChangeStatus!=null &&
-              this.feedChangeStatus.equals(other.getFeedChangeStatus()))) &&
-            ((this.changedFeedItems==null && other.getChangedFeedItems()==null) || 
-             (this.changedFeedItems!=null &&
-              java.util.Arrays.equals(this.changedFeedItems, other.getChangedFeedItems()))) &&
-            ((this.removedFeedItems==null && other.getRemovedFeedItems()==null) || 
-             (this.removedFeedItems!=null &&
-              java.util.Arrays.equals(this.removedFeedItems, other.getRemovedFeedItems())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = true && 
+                ((this.feedId==null && other.getFeedId()==null) || 
+                 (this.feedId!=null &&
+                  this.feedId.equals(other.getFeedId()))) &&
+                ((this.feedChangeStatus==null && other.getFeedChangeStatus()==null) || 
+                 (this.feedChangeStatus!=null &&
+                  this.feedChangeStatus.equals(other.getFeedChangeStatus()))) &&
+                ((this.changedFeedItems==null && other.getChangedFeedItems()==null) || 
+                 (this.changedFeedItems!=null &&
+                  java.util.Arrays.equals(this.changedFeedItems, other.getChangedFeedItems()))) &&
+                ((this.removedFeedItems==null && other.getRemovedFeedItems()==null) || 
+                 (this.removedFeedItems!=null &&
+                  java.util.Arrays.equals(this.removedFeedItems, other.getRemovedFeedItems())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(FeedChangeData.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getFeedId() != null) {
-            _hashCode += getFeedId().hashCode();
-        }
-        if (getFeedChangeStatus() != null) {
-            _hashCode += getFeedChangeStatus().hashCode();
-        }
-        if (getChangedFeedItems() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getChangedFeedItems());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getChangedFeedItems(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+        try {
+            int _hashCode = 1;
+            if (getFeedId() != null) {
+                _hashCode += getFeedId().hashCode();
+            }
+            if (getFeedChangeStatus() != null) {
+                _hashCode += getFeedChangeStatus().hashCode();
+            }
+            if (getChangedFeedItems() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getChangedFeedItems());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getChangedFeedItems(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
-        }
-        if (getRemovedFeedItems() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getRemovedFeedItems());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getRemovedFeedItems(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+            if (getRemovedFeedItems() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getRemovedFeedItems());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getRemovedFeedItems(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(FeedChangeData.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(FeedChangeData.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://adwords.google.com/api/adwords/ch/v201607", "FeedChangeData"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("feedId");
@@ -261,13 +266,24 @@ public class FeedChangeData  implements java.io.Serializable {
         elemField.setNillable(false);
         elemField.setMaxOccursUnbounded(true);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (FeedChangeData.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -279,7 +295,7 @@ public class FeedChangeData  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -291,7 +307,7 @@ public class FeedChangeData  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
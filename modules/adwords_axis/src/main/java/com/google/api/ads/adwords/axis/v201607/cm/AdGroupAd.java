@@ -500,142 +500,147 @@ public class AdGroupAd  implements java.io.Serializable {
         this.forwardCompatibilityMap[i] = _value;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof AdGroupAd)) return false;
         AdGroupAd other = (AdGroupAd) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(AdGroupAd.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = true &&
-            ((this.adGroupId==null && other.getAdGroupId()==null) ||
-             (this.adGroupId!=null &&
-              this.adGroupId.equals(other.getAdGroupId()))) &&
-            ((this.ad==null && other.getAd()==null) ||
-             (this.ad!=null &&
-              this.ad.equals(other.getAd()))) &&
-            ((this.experimentData==null && other.getExperimentData()==null) ||
-             (this.experimentData!=null &&
-              this.experimentData.equals(other.getExperimentData()))) &&
-            ((this.status==null && other.getStatus()==null) ||
-             (this.status!=null &&
-              this.status.equals(other.getStatus()))) &&
-            ((this.approvalStatus==null && other.getApprovalStatus()==null) ||
-             (this.approvalStatus!=null &&
-              this.approvalStatus.equals(other.getApprovalStatus()))) &&
-            ((this.trademarks==null && other.getTrademarks()==null) ||
-             (this.trademarks!=null &&
-              java.util.Arrays.equals(this.trademarks, other.getTrademarks()))) &&
-            ((this.disapprovalReasons==null && other.getDisapprovalReasons()==null) ||
-             (this.disapprovalReasons!=null &&
-              java.util.Arrays.equals(this.disapprovalReasons, other.getDisapprovalReasons()))) &&
-            ((this.trademarkDisapproved==null && other.getTrademarkDisapproved()==null) ||
-             (this.trademarkDisapproved!=null &&
-              this.trademarkDisapproved.equals(other.getTrademarkDisapproved()))) &&
-            ((this.labels==null && other.getLabels()==null) ||
-             (this.labels!=null &&
-              java.util.Arrays.equals(this.labels, other.getLabels()))) &&
-            ((this.baseCampaignId==null && other.getBaseCampaignId()==null) ||
-             (this.baseCampaignId!=null &&
-              this.baseCampaignId.equals(other.getBaseCampaignId()))) &&
-            ((this.baseAdGroupId==null && other.getBaseAdGroupId()==null) ||
-             (this.baseAdGroupId!=null &&
-              this.baseAdGroupId.equals(other.getBaseAdGroupId()))) &&
-            ((this.forwardCompatibilityMap==null && other.getForwardCompatibilityMap()==null) ||
-             (this.forwardCompatibilityMap!=null &&
-              java.util.Arrays.equals(this.forwardCompatibilityMap, other.getForwardCompatibilityMap())));
-        __equalsCalc = null;
-        return _equals;
-    }
-
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
-            return 0;
-        }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getAdGroupId() != null) {
-            _hashCode += getAdGroupId().hashCode();
-        }
-        if (getAd() != null) {
-            _hashCode += getAd().hashCode();
-        }
-        if (getExperimentData() != null) {
-            _hashCode += getExperimentData().hashCode();
+        try {
+            boolean _equals;
+            _equals = true &&
+                ((this.adGroupId==null && other.getAdGroupId()==null) ||
+                 (this.adGroupId!=null &&
+                  this.adGroupId.equals(other.getAdGroupId()))) &&
+                ((this.ad==null && other.getAd()==null) ||
+                 (this.ad!=null &&
+                  this.ad.equals(other.getAd()))) &&
+                ((this.experimentData==null && other.getExperimentData()==null) ||
+                 (this.experimentData!=null &&
+                  this.experimentData.equals(other.getExperimentData()))) &&
+                ((this.status==null && other.getStatus()==null) ||
+                 (this.status!=null &&
+                  this.status.equals(other.getStatus()))) &&
+                ((this.approvalStatus==null && other.getApprovalStatus()==null) ||
+                 (this.approvalStatus!=null &&
+                  this.approvalStatus.equals(other.getApprovalStatus()))) &&
+                ((this.trademarks==null && other.getTrademarks()==null) ||
+                 (this.trademarks!=null &&
+                  java.util.Arrays.equals(this.trademarks, other.getTrademarks()))) &&
+                ((this.disapprovalReasons==null && other.getDisapprovalReasons()==null) ||
+                 (this.disapprovalReasons!=null &&
+                  java.util.Arrays.equals(this.disapprovalReasons, other.getDisapprovalReasons()))) &&
+                ((this.trademarkDisapproved==null && other.getTrademarkDisapproved()==null) ||
+                 (this.trademarkDisapproved!=null &&
+                  this.trademarkDisapproved.equals(other.getTrademarkDisapproved()))) &&
+                ((this.labels==null && other.getLabels()==null) ||
+                 (this.labels!=null &&
+                  java.util.Arrays.equals(this.labels, other.getLabels()))) &&
+                ((this.baseCampaignId==null && other.getBaseCampaignId()==null) ||
+                 (this.baseCampaignId!=null &&
+                  this.baseCampaignId.equals(other.getBaseCampaignId()))) &&
+                ((this.baseAdGroupId==null && other.getBaseAdGroupId()==null) ||
+                 (this.baseAdGroupId!=null &&
+                  this.baseAdGroupId.equals(other.getBaseAdGroupId()))) &&
+                ((this.forwardCompatibilityMap==null && other.getForwardCompatibilityMap()==null) ||
+                 (this.forwardCompatibilityMap!=null &&
+                  java.util.Arrays.equals(this.forwardCompatibilityMap, other.getForwardCompatibilityMap())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
         }
-        if (getStatus() != null) {
-            _hashCode += getStatus().hashCode();
-        }
-        if (getApprovalStatus() != null) {
-            _hashCode += getApprovalStatus().hashCode();
+    }
+
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(AdGroupAd.class, this)) {
+            return 0;
         }
-        if (getTrademarks() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getTrademarks());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getTrademarks(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+        try {
+            int _hashCode = 1;
+            if (getAdGroupId() != null) {
+                _hashCode += getAdGroupId().hashCode();
+            }
+            if (getAd() != null) {
+                _hashCode += getAd().hashCode();
+            }
+            if (getExperimentData() != null) {
+                _hashCode += getExperimentData().hashCode();
+            }
+            if (getStatus() != null) {
+                _hashCode += getStatus().hashCode();
+            }
+            if (getApprovalStatus() != null) {
+                _hashCode += getApprovalStatus().hashCode();
+            }
+            if (getTrademarks() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getTrademarks());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getTrademarks(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
-        }
-        if (getDisapprovalReasons() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getDisapprovalReasons());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getDisapprovalReasons(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+            if (getDisapprovalReasons() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getDisapprovalReasons());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getDisapprovalReasons(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
-        }
-        if (getTrademarkDisapproved() != null) {
-            _hashCode += getTrademarkDisapproved().hashCode();
-        }
-        if (getLabels() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getLabels());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getLabels(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+            if (getTrademarkDisapproved() != null) {
+                _hashCode += getTrademarkDisapproved().hashCode();
+            }
+            if (getLabels() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getLabels());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getLabels(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
-        }
-        if (getBaseCampaignId() != null) {
-            _hashCode += getBaseCampaignId().hashCode();
-        }
-        if (getBaseAdGroupId() != null) {
-            _hashCode += getBaseAdGroupId().hashCode();
-        }
-        if (getForwardCompatibilityMap() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getForwardCompatibilityMap());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getForwardCompatibilityMap(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+            if (getBaseCampaignId() != null) {
+                _hashCode += getBaseCampaignId().hashCode();
+            }
+            if (getBaseAdGroupId() != null) {
+                _hashCode += getBaseAdGroupId().hashCode();
+            }
+            if (getForwardCompatibilityMap() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getForwardCompatibilityMap());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getForwardCompatibilityMap(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(AdGroupAd.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(AdGroupAd.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://adwords.google.com/api/adwords/cm/v201607", "AdGroupAd"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("adGroupId");
@@ -725,13 +730,24 @@ public class AdGroupAd  implements java.io.Serializable {
         elemField.setNillable(false);
         elemField.setMaxOccursUnbounded(true);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (AdGroupAd.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -743,7 +759,7 @@ public class AdGroupAd  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -755,7 +771,7 @@ public class AdGroupAd  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
@@ -136,56 +136,61 @@ public class AdGroupAdExperimentData  implements java.io.Serializable {
         this.experimentDataStatus = experimentDataStatus;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof AdGroupAdExperimentData)) return false;
         AdGroupAdExperimentData other = (AdGroupAdExperimentData) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(AdGroupAdExperimentData.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = true && 
-            ((this.experimentId==null && other.getExperimentId()==null) || 
-             (this.experimentId!=null &&
-              this.experimentId.equals(other.getExperimentId()))) &&
-            ((this.experimentDeltaStatus==null && other.getExperimentDeltaStatus()==null) || 
-             (this.experimentDeltaStatus!=null &&
-              this.experimentDeltaStatus.equals(other.getExperimentDeltaStatus()))) &&
-            ((this.experimentDataStatus==null && other.getExperimentDataStatus()==null) || 
-             (this.experimentDataStatus!=null &&
-              this.experimentDataStatus.equals(other.getExperimentDataStatus())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = true && 
+                ((this.experimentId==null && other.getExperimentId()==null) || 
+                 (this.experimentId!=null &&
+                  this.experimentId.equals(other.getExperimentId()))) &&
+                ((this.experimentDeltaStatus==null && other.getExperimentDeltaStatus()==null) || 
+                 (this.experimentDeltaStatus!=null &&
+                  this.experimentDeltaStatus.equals(other.getExperimentDeltaStatus()))) &&
+                ((this.experimentDataStatus==null && other.getExperimentDataStatus()==null) || 
+                 (this.experimentDataStatus!=null &&
+                  this.experimentDataStatus.equals(other.getExperimentDataStatus())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(AdGroupAdExperimentData.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getExperimentId() != null) {
-            _hashCode += getExperimentId().hashCode();
-        }
-        if (getExperimentDeltaStatus() != null) {
-            _hashCode += getExperimentDeltaStatus().hashCode();
-        }
-        if (getExperimentDataStatus() != null) {
-            _hashCode += getExperimentDataStatus().hashCode();
+        try {
+            int _hashCode = 1;
+            if (getExperimentId() != null) {
+                _hashCode += getExperimentId().hashCode();
+            }
+            if (getExperimentDeltaStatus() != null) {
+                _hashCode += getExperimentDeltaStatus().hashCode();
+            }
+            if (getExperimentDataStatus() != null) {
+                _hashCode += getExperimentDataStatus().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(AdGroupAdExperimentData.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(AdGroupAdExperimentData.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://adwords.google.com/api/adwords/cm/v201607", "AdGroupAdExperimentData"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("experimentId");
@@ -208,13 +213,24 @@ public class AdGroupAdExperimentData  implements java.io.Serializable {
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (AdGroupAdExperimentData.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -226,7 +242,7 @@ public class AdGroupAdExperimentData  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -238,7 +254,7 @@ public class AdGroupAdExperimentData  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
@@ -253,68 +253,73 @@ public class AdWordsConversionTracker  extends com.google.api.ads.adwords.axis.v
         this.trackingCodeType = trackingCodeType;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof AdWordsConversionTracker)) return false;
         AdWordsConversionTracker other = (AdWordsConversionTracker) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(AdWordsConversionTracker.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = super.equals(obj) && 
-            ((this.snippet==null && other.getSnippet()==null) || 
-             (this.snippet!=null &&
-              this.snippet.equals(other.getSnippet()))) &&
-            ((this.textFormat==null && other.getTextFormat()==null) || 
-             (this.textFormat!=null &&
-              this.textFormat.equals(other.getTextFormat()))) &&
-            ((this.conversionPageLanguage==null && other.getConversionPageLanguage()==null) || 
-             (this.conversionPageLanguage!=null &&
-              this.conversionPageLanguage.equals(other.getConversionPageLanguage()))) &&
-            ((this.backgroundColor==null && other.getBackgroundColor()==null) || 
-             (this.backgroundColor!=null &&
-              this.backgroundColor.equals(other.getBackgroundColor()))) &&
-            ((this.trackingCodeType==null && other.getTrackingCodeType()==null) || 
-             (this.trackingCodeType!=null &&
-              this.trackingCodeType.equals(other.getTrackingCodeType())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = super.equals(obj) && 
+                ((this.snippet==null && other.getSnippet()==null) || 
+                 (this.snippet!=null &&
+                  this.snippet.equals(other.getSnippet()))) &&
+                ((this.textFormat==null && other.getTextFormat()==null) || 
+                 (this.textFormat!=null &&
+                  this.textFormat.equals(other.getTextFormat()))) &&
+                ((this.conversionPageLanguage==null && other.getConversionPageLanguage()==null) || 
+                 (this.conversionPageLanguage!=null &&
+                  this.conversionPageLanguage.equals(other.getConversionPageLanguage()))) &&
+                ((this.backgroundColor==null && other.getBackgroundColor()==null) || 
+                 (this.backgroundColor!=null &&
+                  this.backgroundColor.equals(other.getBackgroundColor()))) &&
+                ((this.trackingCodeType==null && other.getTrackingCodeType()==null) || 
+                 (this.trackingCodeType!=null &&
+                  this.trackingCodeType.equals(other.getTrackingCodeType())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(AdWordsConversionTracker.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = super.hashCode();
-        if (getSnippet() != null) {
-            _hashCode += getSnippet().hashCode();
-        }
-        if (getTextFormat() != null) {
-            _hashCode += getTextFormat().hashCode();
-        }
-        if (getConversionPageLanguage() != null) {
-            _hashCode += getConversionPageLanguage().hashCode();
-        }
-        if (getBackgroundColor() != null) {
-            _hashCode += getBackgroundColor().hashCode();
+        try {
+            int _hashCode = super.hashCode();
+            if (getSnippet() != null) {
+                _hashCode += getSnippet().hashCode();
+            }
+            if (getTextFormat() != null) {
+                _hashCode += getTextFormat().hashCode();
+            }
+            if (getConversionPageLanguage() != null) {
+                _hashCode += getConversionPageLanguage().hashCode();
+            }
+            if (getBackgroundColor() != null) {
+                _hashCode += getBackgroundColor().hashCode();
+            }
+            if (getTrackingCodeType() != null) {
+                _hashCode += getTrackingCodeType().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        if (getTrackingCodeType() != null) {
-            _hashCode += getTrackingCodeType().hashCode();
-        }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(AdWordsConversionTracker.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(AdWordsConversionTracker.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://adwords.google.com/api/adwords/cm/v201607", "AdWordsConversionTracker"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("snippet");
@@ -351,13 +356,24 @@ public class AdWordsConversionTracker  extends com.google.api.ads.adwords.axis.v
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (AdWordsConversionTracker.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -369,7 +385,7 @@ public class AdWordsConversionTracker  extends com.google.api.ads.adwords.axis.v
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -381,7 +397,7 @@ public class AdWordsConversionTracker  extends com.google.api.ads.adwords.axis.v
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
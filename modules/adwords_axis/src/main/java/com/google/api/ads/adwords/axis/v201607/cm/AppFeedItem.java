@@ -299,86 +299,91 @@ public class AppFeedItem  extends com.google.api.ads.adwords.axis.v201607.cm.Ext
         this.appUrlCustomParameters = appUrlCustomParameters;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof AppFeedItem)) return false;
         AppFeedItem other = (AppFeedItem) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(AppFeedItem.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = super.equals(obj) && 
-            ((this.appStore==null && other.getAppStore()==null) || 
-             (this.appStore!=null &&
-              this.appStore.equals(other.getAppStore()))) &&
-            ((this.appId==null && other.getAppId()==null) || 
-             (this.appId!=null &&
-              this.appId.equals(other.getAppId()))) &&
-            ((this.appLinkText==null && other.getAppLinkText()==null) || 
-             (this.appLinkText!=null &&
-              this.appLinkText.equals(other.getAppLinkText()))) &&
-            ((this.appUrl==null && other.getAppUrl()==null) || 
-             (this.appUrl!=null &&
-              this.appUrl.equals(other.getAppUrl()))) &&
-            ((this.appFinalUrls==null && other.getAppFinalUrls()==null) || 
-             (this.appFinalUrls!=null &&
-              this.appFinalUrls.equals(other.getAppFinalUrls()))) &&
-            ((this.appFinalMobileUrls==null && other.getAppFinalMobileUrls()==null) || 
-             (this.appFinalMobileUrls!=null &&
-              this.appFinalMobileUrls.equals(other.getAppFinalMobileUrls()))) &&
-            ((this.appTrackingUrlTemplate==null && other.getAppTrackingUrlTemplate()==null) || 
-             (this.appTrackingUrlTemplate!=null &&
-              this.appTrackingUrlTemplate.equals(other.getAppTrackingUrlTemplate()))) &&
-            ((this.appUrlCustomParameters==null && other.getAppUrlCustomParameters()==null) || 
-             (this.appUrlCustomParameters!=null &&
-              this.appUrlCustomParameters.equals(other.getAppUrlCustomParameters())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = super.equals(obj) && 
+                ((this.appStore==null && other.getAppStore()==null) || 
+                 (this.appStore!=null &&
+                  this.appStore.equals(other.getAppStore()))) &&
+                ((this.appId==null && other.getAppId()==null) || 
+                 (this.appId!=null &&
+                  this.appId.equals(other.getAppId()))) &&
+                ((this.appLinkText==null && other.getAppLinkText()==null) || 
+                 (this.appLinkText!=null &&
+                  this.appLinkText.equals(other.getAppLinkText()))) &&
+                ((this.appUrl==null && other.getAppUrl()==null) || 
+                 (this.appUrl!=null &&
+                  this.appUrl.equals(other.getAppUrl()))) &&
+                ((this.appFinalUrls==null && other.getAppFinalUrls()==null) || 
+                 (this.appFinalUrls!=null &&
+                  this.appFinalUrls.equals(other.getAppFinalUrls()))) &&
+                ((this.appFinalMobileUrls==null && other.getAppFinalMobileUrls()==null) || 
+                 (this.appFinalMobileUrls!=null &&
+                  this.appFinalMobileUrls.equals(other.getAppFinalMobileUrls()))) &&
+                ((this.appTrackingUrlTemplate==null && other.getAppTrackingUrlTemplate()==null) || 
+                 (this.appTrackingUrlTemplate!=null &&
+                  this.appTrackingUrlTemplate.equals(other.getAppTrackingUrlTemplate()))) &&
+                ((this.appUrlCustomParameters==null && other.getAppUrlCustomParameters()==null) || 
+                 (this.appUrlCustomParameters!=null &&
+                  this.appUrlCustomParameters.equals(other.getAppUrlCustomParameters())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(AppFeedItem.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = super.hashCode();
-        if (getAppStore() != null) {
-            _hashCode += getAppStore().hashCode();
-        }
-        if (getAppId() != null) {
-            _hashCode += getAppId().hashCode();
-        }
-        if (getAppLinkText() != null) {
-            _hashCode += getAppLinkText().hashCode();
-        }
-        if (getAppUrl() != null) {
-            _hashCode += getAppUrl().hashCode();
-        }
-        if (getAppFinalUrls() != null) {
-            _hashCode += getAppFinalUrls().hashCode();
-        }
-        if (getAppFinalMobileUrls() != null) {
-            _hashCode += getAppFinalMobileUrls().hashCode();
+        try {
+            int _hashCode = super.hashCode();
+            if (getAppStore() != null) {
+                _hashCode += getAppStore().hashCode();
+            }
+            if (getAppId() != null) {
+                _hashCode += getAppId().hashCode();
+            }
+            if (getAppLinkText() != null) {
+                _hashCode += getAppLinkText().hashCode();
+            }
+            if (getAppUrl() != null) {
+                _hashCode += getAppUrl().hashCode();
+            }
+            if (getAppFinalUrls() != null) {
+                _hashCode += getAppFinalUrls().hashCode();
+            }
+            if (getAppFinalMobileUrls() != null) {
+                _hashCode += getAppFinalMobileUrls().hashCode();
+            }
+            if (getAppTrackingUrlTemplate() != null) {
+                _hashCode += getAppTrackingUrlTemplate().hashCode();
+            }
+            if (getAppUrlCustomParameters() != null) {
+                _hashCode += getAppUrlCustomParameters().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        if (getAppTrackingUrlTemplate() != null) {
-            _hashCode += getAppTrackingUrlTemplate().hashCode();
-        }
-        if (getAppUrlCustomParameters() != null) {
-            _hashCode += getAppUrlCustomParameters().hashCode();
-        }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(AppFeedItem.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(AppFeedItem.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://adwords.google.com/api/adwords/cm/v201607", "AppFeedItem"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("appStore");
@@ -436,13 +441,24 @@ public class AppFeedItem  extends com.google.api.ads.adwords.axis.v201607.cm.Ext
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (AppFeedItem.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -454,7 +470,7 @@ public class AppFeedItem  extends com.google.api.ads.adwords.axis.v201607.cm.Ext
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -466,7 +482,7 @@ public class AppFeedItem  extends com.google.api.ads.adwords.axis.v201607.cm.Ext
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
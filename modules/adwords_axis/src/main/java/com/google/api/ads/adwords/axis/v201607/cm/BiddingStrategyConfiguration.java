@@ -329,82 +329,87 @@ public class BiddingStrategyConfiguration  implements java.io.Serializable {
         this.bids[i] = _value;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof BiddingStrategyConfiguration)) return false;
         BiddingStrategyConfiguration other = (BiddingStrategyConfiguration) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(BiddingStrategyConfiguration.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = true && 
-            ((this.biddingStrategyId==null && other.getBiddingStrategyId()==null) || 
-             (this.biddingStrategyId!=null &&
-              this.biddingStrategyId.equals(other.getBiddingStrategyId()))) &&
-            ((this.biddingStrategyName==null && other.getBiddingStrategyName()==null) || 
-             (this.biddingStrategyName!=null &&
-              this.biddingStrategyName.equals(other.getBiddingStrategyName()))) &&
-            ((this.biddingStrategyType==null && other.getBiddingStrategyType()==null) || 
-             (this.biddingStrategyType!=null &&
-              this.biddingStrategyType.equals(other.getBiddingStrategyType()))) &&
-            ((this.biddingStrategySource==null && other.getBiddingStrategySource()==null) || 
-             (this.biddingStrategySource!=null &&
-              this.biddingStrategySource.equals(other.getBiddingStrategySource()))) &&
-            ((this.biddingScheme==null && other.getBiddingScheme()==null) || 
-             (this.biddingScheme!=null &&
-              this.biddingScheme.equals(other.getBiddingScheme()))) &&
-            ((this.bids==null && other.getBids()==null) || 
-             (this.bids!=null &&
-              java.util.Arrays.equals(this.bids, other.getBids())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = true && 
+                ((this.biddingStrategyId==null && other.getBiddingStrategyId()==null) || 
+                 (this.biddingStrategyId!=null &&
+                  this.biddingStrategyId.equals(other.getBiddingStrategyId()))) &&
+                ((this.biddingStrategyName==null && other.getBiddingStrategyName()==null) || 
+                 (this.biddingStrategyName!=null &&
+                  this.biddingStrategyName.equals(other.getBiddingStrategyName()))) &&
+                ((this.biddingStrategyType==null && other.getBiddingStrategyType()==null) || 
+                 (this.biddingStrategyType!=null &&
+                  this.biddingStrategyType.equals(other.getBiddingStrategyType()))) &&
+                ((this.biddingStrategySource==null && other.getBiddingStrategySource()==null) || 
+                 (this.biddingStrategySource!=null &&
+                  this.biddingStrategySource.equals(other.getBiddingStrategySource()))) &&
+                ((this.biddingScheme==null && other.getBiddingScheme()==null) || 
+                 (this.biddingScheme!=null &&
+                  this.biddingScheme.equals(other.getBiddingScheme()))) &&
+                ((this.bids==null && other.getBids()==null) || 
+                 (this.bids!=null &&
+                  java.util.Arrays.equals(this.bids, other.getBids())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(BiddingStrategyConfiguration.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getBiddingStrategyId() != null) {
-            _hashCode += getBiddingStrategyId().hashCode();
-        }
-        if (getBiddingStrategyName() != null) {
-            _hashCode += getBiddingStrategyName().hashCode();
-        }
-        if (getBiddingStrategyType() != null) {
-            _hashCode += getBiddingStrategyType().hashCode();
-        }
-        if (getBiddingStrategySource() != null) {
-            _hashCode += getBiddingStrategySource().hashCode();
-        }
-        if (getBiddingScheme() != null) {
-            _hashCode += getBiddingScheme().hashCode();
-        }
-        if (getBids() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getBids());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getBids(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+        try {
+            int _hashCode = 1;
+            if (getBiddingStrategyId() != null) {
+                _hashCode += getBiddingStrategyId().hashCode();
+            }
+            if (getBiddingStrategyName() != null) {
+                _hashCode += getBiddingStrategyName().hashCode();
+            }
+            if (getBiddingStrategyType() != null) {
+                _hashCode += getBiddingStrategyType().hashCode();
+            }
+            if (getBiddingStrategySource() != null) {
+                _hashCode += getBiddingStrategySource().hashCode();
+            }
+            if (getBiddingScheme() != null) {
+                _hashCode += getBiddingScheme().hashCode();
+            }
+            if (getBids() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getBids());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getBids(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(BiddingStrategyConfiguration.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(BiddingStrategyConfiguration.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://adwords.google.com/api/adwords/cm/v201607", "BiddingStrategyConfiguration"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("biddingStrategyId");
@@ -449,13 +454,24 @@ public class BiddingStrategyConfiguration  implements java.io.Serializable {
         elemField.setNillable(false);
         elemField.setMaxOccursUnbounded(true);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (BiddingStrategyConfiguration.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -467,7 +483,7 @@ public class BiddingStrategyConfiguration  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -479,7 +495,7 @@ public class BiddingStrategyConfiguration  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
@@ -363,80 +363,85 @@ public class Budget  implements java.io.Serializable {
         this.status = status;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof Budget)) return false;
         Budget other = (Budget) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(Budget.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = true && 
-            ((this.budgetId==null && other.getBudgetId()==null) || 
-             (this.budgetId!=null &&
-              this.budgetId.equals(other.getBudgetId()))) &&
-            ((this.name==null && other.getName()==null) || 
-             (this.name!=null &&
-              this.name.equals(other.getName()))) &&
-            ((this.amount==null && other.getAmount()==null) || 
-             (this.amount!=null &&
-              this.amount.equals(other.getAmount()))) &&
-            ((this.deliveryMethod==null && other.getDeliveryMethod()==null) || 
-             (this.deliveryMethod!=null &&
-              this.deliveryMethod.equals(other.getDeliveryMethod()))) &&
-            ((this.referenceCount==null && other.getReferenceCount()==null) || 
-             (this.referenceCount!=null &&
-              this.referenceCount.equals(other.getReferenceCount()))) &&
-            ((this.isExplicitlyShared==null && other.getIsExplicitlyShared()==null) || 
-             (this.isExplicitlyShared!=null &&
-              this.isExplicitlyShared.equals(other.getIsExplicitlyShared()))) &&
-            ((this.status==null && other.getStatus()==null) || 
-             (this.status!=null &&
-              this.status.equals(other.getStatus())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = true && 
+                ((this.budgetId==null && other.getBudgetId()==null) || 
+                 (this.budgetId!=null &&
+                  this.budgetId.equals(other.getBudgetId()))) &&
+                ((this.name==null && other.getName()==null) || 
+                 (this.name!=null &&
+                  this.name.equals(other.getName()))) &&
+                ((this.amount==null && other.getAmount()==null) || 
+                 (this.amount!=null &&
+                  this.amount.equals(other.getAmount()))) &&
+                ((this.deliveryMethod==null && other.getDeliveryMethod()==null) || 
+                 (this.deliveryMethod!=null &&
+                  this.deliveryMethod.equals(other.getDeliveryMethod()))) &&
+                ((this.referenceCount==null && other.getReferenceCount()==null) || 
+                 (this.referenceCount!=null &&
+                  this.referenceCount.equals(other.getReferenceCount()))) &&
+                ((this.isExplicitlyShared==null && other.getIsExplicitlyShared()==null) || 
+                 (this.isExplicitlyShared!=null &&
+                  this.isExplicitlyShared.equals(other.getIsExplicitlyShared()))) &&
+                ((this.status==null && other.getStatus()==null) || 
+                 (this.status!=null &&
+                  this.status.equals(other.getStatus())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(Budget.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getBudgetId() != null) {
-            _hashCode += getBudgetId().hashCode();
-        }
-        if (getName() != null) {
-            _hashCode += getName().hashCode();
-        }
-        if (getAmount() != null) {
-            _hashCode += getAmount().hashCode();
-        }
-        if (getDeliveryMethod() != null) {
-            _hashCode += getDeliveryMethod().hashCode();
-        }
-        if (getReferenceCount() != null) {
-            _hashCode += getReferenceCount().hashCode();
+        try {
+            int _hashCode = 1;
+            if (getBudgetId() != null) {
+                _hashCode += getBudgetId().hashCode();
+            }
+            if (getName() != null) {
+                _hashCode += getName().hashCode();
+            }
+            if (getAmount() != null) {
+                _hashCode += getAmount().hashCode();
+            }
+            if (getDeliveryMethod() != null) {
+                _hashCode += getDeliveryMethod().hashCode();
+            }
+            if (getReferenceCount() != null) {
+                _hashCode += getReferenceCount().hashCode();
+            }
+            if (getIsExplicitlyShared() != null) {
+                _hashCode += getIsExplicitlyShared().hashCode();
+            }
+            if (getStatus() != null) {
+                _hashCode += getStatus().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        if (getIsExplicitlyShared() != null) {
-            _hashCode += getIsExplicitlyShared().hashCode();
-        }
-        if (getStatus() != null) {
-            _hashCode += getStatus().hashCode();
-        }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(Budget.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(Budget.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://adwords.google.com/api/adwords/cm/v201607", "Budget"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("budgetId");
@@ -487,13 +492,24 @@ public class Budget  implements java.io.Serializable {
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (Budget.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -505,7 +521,7 @@ public class Budget  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -517,7 +533,7 @@ public class Budget  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
@@ -125,50 +125,55 @@ public class BudgetOptimizerBiddingScheme  extends com.google.api.ads.adwords.ax
         this.enhancedCpcEnabled = enhancedCpcEnabled;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof BudgetOptimizerBiddingScheme)) return false;
         BudgetOptimizerBiddingScheme other = (BudgetOptimizerBiddingScheme) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(BudgetOptimizerBiddingScheme.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = super.equals(obj) && 
-            ((this.bidCeiling==null && other.getBidCeiling()==null) || 
-             (this.bidCeiling!=null &&
-              this.bidCeiling.equals(other.getBidCeiling()))) &&
-            ((this.enhancedCpcEnabled==null && other.getEnhancedCpcEnabled()==null) || 
-             (this.enhancedCpcEnabled!=null &&
-              this.enhancedCpcEnabled.equals(other.getEnhancedCpcEnabled())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = super.equals(obj) && 
+                ((this.bidCeiling==null && other.getBidCeiling()==null) || 
+                 (this.bidCeiling!=null &&
+                  this.bidCeiling.equals(other.getBidCeiling()))) &&
+                ((this.enhancedCpcEnabled==null && other.getEnhancedCpcEnabled()==null) || 
+                 (this.enhancedCpcEnabled!=null &&
+                  this.enhancedCpcEnabled.equals(other.getEnhancedCpcEnabled())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(BudgetOptimizerBiddingScheme.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = super.hashCode();
-        if (getBidCeiling() != null) {
-            _hashCode += getBidCeiling().hashCode();
-        }
-        if (getEnhancedCpcEnabled() != null) {
-            _hashCode += getEnhancedCpcEnabled().hashCode();
+        try {
+            int _hashCode = super.hashCode();
+            if (getBidCeiling() != null) {
+                _hashCode += getBidCeiling().hashCode();
+            }
+            if (getEnhancedCpcEnabled() != null) {
+                _hashCode += getEnhancedCpcEnabled().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(BudgetOptimizerBiddingScheme.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(BudgetOptimizerBiddingScheme.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://adwords.google.com/api/adwords/cm/v201607", "BudgetOptimizerBiddingScheme"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("bidCeiling");
@@ -184,13 +189,24 @@ public class BudgetOptimizerBiddingScheme  extends com.google.api.ads.adwords.ax
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (BudgetOptimizerBiddingScheme.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -202,7 +218,7 @@ public class BudgetOptimizerBiddingScheme  extends com.google.api.ads.adwords.ax
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -214,7 +230,7 @@ public class BudgetOptimizerBiddingScheme  extends com.google.api.ads.adwords.ax
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
@@ -329,92 +329,97 @@ public class CallOnlyAd  extends com.google.api.ads.adwords.axis.v201607.cm.Ad
         this.phoneNumberVerificationUrl = phoneNumberVerificationUrl;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof CallOnlyAd)) return false;
         CallOnlyAd other = (CallOnlyAd) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(CallOnlyAd.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = super.equals(obj) && 
-            ((this.countryCode==null && other.getCountryCode()==null) || 
-             (this.countryCode!=null &&
-              this.countryCode.equals(other.getCountryCode()))) &&
-            ((this.phoneNumber==null && other.getPhoneNumber()==null) || 
-             (this.phoneNumber!=null &&
-              this.phoneNumber.equals(other.getPhoneNumber()))) &&
-            ((this.businessName==null && other.getBusinessName()==null) || 
-             (this.businessName!=null &&
-              this.businessName.equals(other.getBusinessName()))) &&
-            ((this.description1==null && other.getDescription1()==null) || 
-             (this.description1!=null &&
-              this.description1.equals(other.getDescription1()))) &&
-            ((this.description2==null && other.getDescription2()==null) || 
-             (this.description2!=null &&
-              this.description2.equals(other.getDescription2()))) &&
-            ((this.callTracked==null && other.getCallTracked()==null) || 
-             (this.callTracked!=null &&
-              this.callTracked.equals(other.getCallTracked()))) &&
-            ((this.disableCallConversion==null && other.getDisableCallConversion()==null) || 
-             (this.disableCallConversion!=null &&
-              this.disableCallConversion.equals(other.getDisableCallConversion()))) &&
-            ((this.conversionTypeId==null && other.getConversionTypeId()==null) || 
-             (this.conversionTypeId!=null &&
-              this.conversionTypeId.equals(other.getConversionTypeId()))) &&
-            ((this.phoneNumberVerificationUrl==null && other.getPhoneNumberVerificationUrl()==null) || 
-             (this.phoneNumberVerificationUrl!=null &&
-              this.phoneNumberVerificationUrl.equals(other.getPhoneNumberVerificationUrl())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = super.equals(obj) && 
+                ((this.countryCode==null && other.getCountryCode()==null) || 
+                 (this.countryCode!=null &&
+                  this.countryCode.equals(other.getCountryCode()))) &&
+                ((this.phoneNumber==null && other.getPhoneNumber()==null) || 
+                 (this.phoneNumber!=null &&
+                  this.phoneNumber.equals(other.getPhoneNumber()))) &&
+                ((this.businessName==null && other.getBusinessName()==null) || 
+                 (this.businessName!=null &&
+                  this.businessName.equals(other.getBusinessName()))) &&
+                ((this.description1==null && other.getDescription1()==null) || 
+                 (this.description1!=null &&
+                  this.description1.equals(other.getDescription1()))) &&
+                ((this.description2==null && other.getDescription2()==null) || 
+                 (this.description2!=null &&
+                  this.description2.equals(other.getDescription2()))) &&
+                ((this.callTracked==null && other.getCallTracked()==null) || 
+                 (this.callTracked!=null &&
+                  this.callTracked.equals(other.getCallTracked()))) &&
+                ((this.disableCallConversion==null && other.getDisableCallConversion()==null) || 
+                 (this.disableCallConversion!=null &&
+                  this.disableCallConversion.equals(other.getDisableCallConversion()))) &&
+                ((this.conversionTypeId==null && other.getConversionTypeId()==null) || 
+                 (this.conversionTypeId!=null &&
+                  this.conversionTypeId.equals(other.getConversionTypeId()))) &&
+                ((this.phoneNumberVerificationUrl==null && other.getPhoneNumberVerificationUrl()==null) || 
+                 (this.phoneNumberVerificationUrl!=null &&
+                  this.phoneNumberVerificationUrl.equals(other.getPhoneNumberVerificationUrl())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(CallOnlyAd.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = super.hashCode();
-        if (getCountryCode() != null) {
-            _hashCode += getCountryCode().hashCode();
-        }
-        if (getPhoneNumber() != null) {
-            _hashCode += getPhoneNumber().hashCode();
-        }
-        if (getBusinessName() != null) {
-            _hashCode += getBusinessName().hashCode();
-        }
-        if (getDescription1() != null) {
-            _hashCode += getDescription1().hashCode();
-        }
-        if (getDescription2() != null) {
-            _hashCode += getDescription2().hashCode();
-        }
-        if (getCallTracked() != null) {
-            _hashCode += getCallTracked().hashCode();
+        try {
+            int _hashCode = super.hashCode();
+            if (getCountryCode() != null) {
+                _hashCode += getCountryCode().hashCode();
+            }
+            if (getPhoneNumber() != null) {
+                _hashCode += getPhoneNumber().hashCode();
+            }
+            if (getBusinessName() != null) {
+                _hashCode += getBusinessName().hashCode();
+            }
+            if (getDescription1() != null) {
+                _hashCode += getDescription1().hashCode();
+            }
+            if (getDescription2() != null) {
+                _hashCode += getDescription2().hashCode();
+            }
+            if (getCallTracked() != null) {
+                _hashCode += getCallTracked().hashCode();
+            }
+            if (getDisableCallConversion() != null) {
+                _hashCode += getDisableCallConversion().hashCode();
+            }
+            if (getConversionTypeId() != null) {
+                _hashCode += getConversionTypeId().hashCode();
+            }
+            if (getPhoneNumberVerificationUrl() != null) {
+                _hashCode += getPhoneNumberVerificationUrl().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        if (getDisableCallConversion() != null) {
-            _hashCode += getDisableCallConversion().hashCode();
-        }
-        if (getConversionTypeId() != null) {
-            _hashCode += getConversionTypeId().hashCode();
-        }
-        if (getPhoneNumberVerificationUrl() != null) {
-            _hashCode += getPhoneNumberVerificationUrl().hashCode();
-        }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(CallOnlyAd.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(CallOnlyAd.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://adwords.google.com/api/adwords/cm/v201607", "CallOnlyAd"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("countryCode");
@@ -479,13 +484,24 @@ public class CallOnlyAd  extends com.google.api.ads.adwords.axis.v201607.cm.Ad
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (CallOnlyAd.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -497,7 +513,7 @@ public class CallOnlyAd  extends com.google.api.ads.adwords.axis.v201607.cm.Ad
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -509,7 +525,7 @@ public class CallOnlyAd  extends com.google.api.ads.adwords.axis.v201607.cm.Ad
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
@@ -835,194 +835,199 @@ public class Campaign  implements java.io.Serializable {
         this.vanityPharma = vanityPharma;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof Campaign)) return false;
         Campaign other = (Campaign) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(Campaign.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = true &&
-            ((this.id==null && other.getId()==null) ||
-             (this.id!=null &&
-              this.id.equals(other.getId()))) &&
-            ((this.name==null && other.getName()==null) ||
-             (this.name!=null &&
-              this.name.equals(other.getName()))) &&
-            ((this.status==null && other.getStatus()==null) ||
-             (this.status!=null &&
-              this.status.equals(other.getStatus()))) &&
-            ((this.servingStatus==null && other.getServingStatus()==null) ||
-             (this.servingStatus!=null &&
-              this.servingStatus.equals(other.getServingStatus()))) &&
-            ((this.startDate==null && other.getStartDate()==null) ||
-             (this.startDate!=null &&
-              this.startDate.equals(other.getStartDate()))) &&
-            ((this.endDate==null && other.getEndDate()==null) ||
-             (this.endDate!=null &&
-              this.endDate.equals(other.getEndDate()))) &&
-            ((this.budget==null && other.getBudget()==null) ||
-             (this.budget!=null &&
-              this.budget.equals(other.getBudget()))) &&
-            ((this.conversionOptimizerEligibility==null && other.getConversionOptimizerEligibility()==null) ||
-             (this.conversionOptimizerEligibility!=null &&
-              this.conversionOptimizerEligibility.equals(other.getConversionOptimizerEligibility()))) &&
-            ((this.adServingOptimizationStatus==null && other.getAdServingOptimizationStatus()==null) ||
-             (this.adServingOptimizationStatus!=null &&
-              this.adServingOptimizationStatus.equals(other.getAdServingOptimizationStatus()))) &&
-            ((this.frequencyCap==null && other.getFrequencyCap()==null) ||
-             (this.frequencyCap!=null &&
-              this.frequencyCap.equals(other.getFrequencyCap()))) &&
-            ((this.settings==null && other.getSettings()==null) ||
-             (this.settings!=null &&
-              java.util.Arrays.equals(this.settings, other.getSettings()))) &&
-            ((this.advertisingChannelType==null && other.getAdvertisingChannelType()==null) ||
-             (this.advertisingChannelType!=null &&
-              this.advertisingChannelType.equals(other.getAdvertisingChannelType()))) &&
-            ((this.advertisingChannelSubType==null && other.getAdvertisingChannelSubType()==null) ||
-             (this.advertisingChannelSubType!=null &&
-              this.advertisingChannelSubType.equals(other.getAdvertisingChannelSubType()))) &&
-            ((this.networkSetting==null && other.getNetworkSetting()==null) ||
-             (this.networkSetting!=null &&
-              this.networkSetting.equals(other.getNetworkSetting()))) &&
-            ((this.labels==null && other.getLabels()==null) ||
-             (this.labels!=null &&
-              java.util.Arrays.equals(this.labels, other.getLabels()))) &&
-            ((this.biddingStrategyConfiguration==null && other.getBiddingStrategyConfiguration()==null) ||
-             (this.biddingStrategyConfiguration!=null &&
-              this.biddingStrategyConfiguration.equals(other.getBiddingStrategyConfiguration()))) &&
-            ((this.campaignTrialType==null && other.getCampaignTrialType()==null) ||
-             (this.campaignTrialType!=null &&
-              this.campaignTrialType.equals(other.getCampaignTrialType()))) &&
-            ((this.baseCampaignId==null && other.getBaseCampaignId()==null) ||
-             (this.baseCampaignId!=null &&
-              this.baseCampaignId.equals(other.getBaseCampaignId()))) &&
-            ((this.forwardCompatibilityMap==null && other.getForwardCompatibilityMap()==null) ||
-             (this.forwardCompatibilityMap!=null &&
-              java.util.Arrays.equals(this.forwardCompatibilityMap, other.getForwardCompatibilityMap()))) &&
-            ((this.trackingUrlTemplate==null && other.getTrackingUrlTemplate()==null) ||
-             (this.trackingUrlTemplate!=null &&
-              this.trackingUrlTemplate.equals(other.getTrackingUrlTemplate()))) &&
-            ((this.urlCustomParameters==null && other.getUrlCustomParameters()==null) ||
-             (this.urlCustomParameters!=null &&
-              this.urlCustomParameters.equals(other.getUrlCustomParameters()))) &&
-            ((this.vanityPharma==null && other.getVanityPharma()==null) ||
-             (this.vanityPharma!=null &&
-              this.vanityPharma.equals(other.getVanityPharma())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = true &&
+                ((this.id==null && other.getId()==null) ||
+                 (this.id!=null &&
+                  this.id.equals(other.getId()))) &&
+                ((this.name==null && other.getName()==null) ||
+                 (this.name!=null &&
+                  this.name.equals(other.getName()))) &&
+                ((this.status==null && other.getStatus()==null) ||
+                 (this.status!=null &&
+                  this.status.equals(other.getStatus()))) &&
+                ((this.servingStatus==null && other.getServingStatus()==null) ||
+                 (this.servingStatus!=null &&
+                  this.servingStatus.equals(other.getServingStatus()))) &&
+                ((this.startDate==null && other.getStartDate()==null) ||
+                 (this.startDate!=null &&
+                  this.startDate.equals(other.getStartDate()))) &&
+                ((this.endDate==null && other.getEndDate()==null) ||
+                 (this.endDate!=null &&
+                  this.endDate.equals(other.getEndDate()))) &&
+                ((this.budget==null && other.getBudget()==null) ||
+                 (this.budget!=null &&
+                  this.budget.equals(other.getBudget()))) &&
+                ((this.conversionOptimizerEligibility==null && other.getConversionOptimizerEligibility()==null) ||
+                 (this.conversionOptimizerEligibility!=null &&
+                  this.conversionOptimizerEligibility.equals(other.getConversionOptimizerEligibility()))) &&
+                ((this.adServingOptimizationStatus==null && other.getAdServingOptimizationStatus()==null) ||
+                 (this.adServingOptimizationStatus!=null &&
+                  this.adServingOptimizationStatus.equals(other.getAdServingOptimizationStatus()))) &&
+                ((this.frequencyCap==null && other.getFrequencyCap()==null) ||
+                 (this.frequencyCap!=null &&
+                  this.frequencyCap.equals(other.getFrequencyCap()))) &&
+                ((this.settings==null && other.getSettings()==null) ||
+                 (this.settings!=null &&
+                  java.util.Arrays.equals(this.settings, other.getSettings()))) &&
+                ((this.advertisingChannelType==null && other.getAdvertisingChannelType()==null) ||
+                 (this.advertisingChannelType!=null &&
+                  this.advertisingChannelType.equals(other.getAdvertisingChannelType()))) &&
+                ((this.advertisingChannelSubType==null && other.getAdvertisingChannelSubType()==null) ||
+                 (this.advertisingChannelSubType!=null &&
+                  this.advertisingChannelSubType.equals(other.getAdvertisingChannelSubType()))) &&
+                ((this.networkSetting==null && other.getNetworkSetting()==null) ||
+                 (this.networkSetting!=null &&
+                  this.networkSetting.equals(other.getNetworkSetting()))) &&
+                ((this.labels==null && other.getLabels()==null) ||
+                 (this.labels!=null &&
+                  java.util.Arrays.equals(this.labels, other.getLabels()))) &&
+                ((this.biddingStrategyConfiguration==null && other.getBiddingStrategyConfiguration()==null) ||
+                 (this.biddingStrategyConfiguration!=null &&
+                  this.biddingStrategyConfiguration.equals(other.getBiddingStrategyConfiguration()))) &&
+                ((this.campaignTrialType==null && other.getCampaignTrialType()==null) ||
+                 (this.campaignTrialType!=null &&
+                  this.campaignTrialType.equals(other.getCampaignTrialType()))) &&
+                ((this.baseCampaignId==null && other.getBaseCampaignId()==null) ||
+                 (this.baseCampaignId!=null &&
+                  this.baseCampaignId.equals(other.getBaseCampaignId()))) &&
+                ((this.forwardCompatibilityMap==null && other.getForwardCompatibilityMap()==null) ||
+                 (this.forwardCompatibilityMap!=null &&
+                  java.util.Arrays.equals(this.forwardCompatibilityMap, other.getForwardCompatibilityMap()))) &&
+                ((this.trackingUrlTemplate==null && other.getTrackingUrlTemplate()==null) ||
+                 (this.trackingUrlTemplate!=null &&
+                  this.trackingUrlTemplate.equals(other.getTrackingUrlTemplate()))) &&
+                ((this.urlCustomParameters==null && other.getUrlCustomParameters()==null) ||
+                 (this.urlCustomParameters!=null &&
+                  this.urlCustomParameters.equals(other.getUrlCustomParameters()))) &&
+                ((this.vanityPharma==null && other.getVanityPharma()==null) ||
+                 (this.vanityPharma!=null &&
+                  this.vanityPharma.equals(other.getVanityPharma())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(Campaign.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getId() != null) {
-            _hashCode += getId().hashCode();
-        }
-        if (getName() != null) {
-            _hashCode += getName().hashCode();
-        }
-        if (getStatus() != null) {
-            _hashCode += getStatus().hashCode();
-        }
-        if (getServingStatus() != null) {
-            _hashCode += getServingStatus().hashCode();
-        }
-        if (getStartDate() != null) {
-            _hashCode += getStartDate().hashCode();
-        }
-        if (getEndDate() != null) {
-            _hashCode += getEndDate().hashCode();
-        }
-        if (getBudget() != null) {
-            _hashCode += getBudget().hashCode();
-        }
-        if (getConversionOptimizerEligibility() != null) {
-            _hashCode += getConversionOptimizerEligibility().hashCode();
-        }
-        if (getAdServingOptimizationStatus() != null) {
-            _hashCode += getAdServingOptimizationStatus().hashCode();
-        }
-        if (getFrequencyCap() != null) {
-            _hashCode += getFrequencyCap().hashCode();
-        }
-        if (getSettings() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getSettings());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getSettings(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+        try {
+            int _hashCode = 1;
+            if (getId() != null) {
+                _hashCode += getId().hashCode();
+            }
+            if (getName() != null) {
+                _hashCode += getName().hashCode();
+            }
+            if (getStatus() != null) {
+                _hashCode += getStatus().hashCode();
+            }
+            if (getServingStatus() != null) {
+                _hashCode += getServingStatus().hashCode();
+            }
+            if (getStartDate() != null) {
+                _hashCode += getStartDate().hashCode();
+            }
+            if (getEndDate() != null) {
+                _hashCode += getEndDate().hashCode();
+            }
+            if (getBudget() != null) {
+                _hashCode += getBudget().hashCode();
+            }
+            if (getConversionOptimizerEligibility() != null) {
+                _hashCode += getConversionOptimizerEligibility().hashCode();
+            }
+            if (getAdServingOptimizationStatus() != null) {
+                _hashCode += getAdServingOptimizationStatus().hashCode();
+            }
+            if (getFrequencyCap() != null) {
+                _hashCode += getFrequencyCap().hashCode();
+            }
+            if (getSettings() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getSettings());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getSettings(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
-        }
-        if (getAdvertisingChannelType() != null) {
-            _hashCode += getAdvertisingChannelType().hashCode();
-        }
-        if (getAdvertisingChannelSubType() != null) {
-            _hashCode += getAdvertisingChannelSubType().hashCode();
-        }
-        if (getNetworkSetting() != null) {
-            _hashCode += getNetworkSetting().hashCode();
-        }
-        if (getLabels() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getLabels());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getLabels(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+            if (getAdvertisingChannelType() != null) {
+                _hashCode += getAdvertisingChannelType().hashCode();
+            }
+            if (getAdvertisingChannelSubType() != null) {
+                _hashCode += getAdvertisingChannelSubType().hashCode();
+            }
+            if (getNetworkSetting() != null) {
+                _hashCode += getNetworkSetting().hashCode();
+            }
+            if (getLabels() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getLabels());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getLabels(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
-        }
-        if (getBiddingStrategyConfiguration() != null) {
-            _hashCode += getBiddingStrategyConfiguration().hashCode();
-        }
-        if (getCampaignTrialType() != null) {
-            _hashCode += getCampaignTrialType().hashCode();
-        }
-        if (getBaseCampaignId() != null) {
-            _hashCode += getBaseCampaignId().hashCode();
-        }
-        if (getForwardCompatibilityMap() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getForwardCompatibilityMap());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getForwardCompatibilityMap(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+            if (getBiddingStrategyConfiguration() != null) {
+                _hashCode += getBiddingStrategyConfiguration().hashCode();
+            }
+            if (getCampaignTrialType() != null) {
+                _hashCode += getCampaignTrialType().hashCode();
+            }
+            if (getBaseCampaignId() != null) {
+                _hashCode += getBaseCampaignId().hashCode();
+            }
+            if (getForwardCompatibilityMap() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getForwardCompatibilityMap());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getForwardCompatibilityMap(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
+            if (getTrackingUrlTemplate() != null) {
+                _hashCode += getTrackingUrlTemplate().hashCode();
+            }
+            if (getUrlCustomParameters() != null) {
+                _hashCode += getUrlCustomParameters().hashCode();
+            }
+            if (getVanityPharma() != null) {
+                _hashCode += getVanityPharma().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        if (getTrackingUrlTemplate() != null) {
-            _hashCode += getTrackingUrlTemplate().hashCode();
-        }
-        if (getUrlCustomParameters() != null) {
-            _hashCode += getUrlCustomParameters().hashCode();
-        }
-        if (getVanityPharma() != null) {
-            _hashCode += getVanityPharma().hashCode();
-        }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(Campaign.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(Campaign.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://adwords.google.com/api/adwords/cm/v201607", "Campaign"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("id");
@@ -1181,13 +1186,24 @@ public class Campaign  implements java.io.Serializable {
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (Campaign.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -1199,7 +1215,7 @@ public class Campaign  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -1211,7 +1227,7 @@ public class Campaign  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
@@ -191,74 +191,79 @@ public class ConstantOperand  extends com.google.api.ads.adwords.axis.v201607.cm
         this.stringValue = stringValue;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof ConstantOperand)) return false;
         ConstantOperand other = (ConstantOperand) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(ConstantOperand.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = super.equals(obj) && 
-            ((this.type==null && other.getType()==null) || 
-             (this.type!=null &&
-              this.type.equals(other.getType()))) &&
-            ((this.unit==null && other.getUnit()==null) || 
-             (this.unit!=null &&
-              this.unit.equals(other.getUnit()))) &&
-            ((this.longValue==null && other.getLongValue()==null) || 
-             (this.longValue!=null &&
-              this.longValue.equals(other.getLongValue()))) &&
-            ((this.booleanValue==null && other.getBooleanValue()==null) || 
-             (this.booleanValue!=null &&
-              this.booleanValue.equals(other.getBooleanValue()))) &&
-            ((this.doubleValue==null && other.getDoubleValue()==null) || 
-             (this.doubleValue!=null &&
-              this.doubleValue.equals(other.getDoubleValue()))) &&
-            ((this.stringValue==null && other.getStringValue()==null) || 
-             (this.stringValue!=null &&
-              this.stringValue.equals(other.getStringValue())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = super.equals(obj) && 
+                ((this.type==null && other.getType()==null) || 
+                 (this.type!=null &&
+                  this.type.equals(other.getType()))) &&
+                ((this.unit==null && other.getUnit()==null) || 
+                 (this.unit!=null &&
+                  this.unit.equals(other.getUnit()))) &&
+                ((this.longValue==null && other.getLongValue()==null) || 
+                 (this.longValue!=null &&
+                  this.longValue.equals(other.getLongValue()))) &&
+                ((this.booleanValue==null && other.getBooleanValue()==null) || 
+                 (this.booleanValue!=null &&
+                  this.booleanValue.equals(other.getBooleanValue()))) &&
+                ((this.doubleValue==null && other.getDoubleValue()==null) || 
+                 (this.doubleValue!=null &&
+                  this.doubleValue.equals(other.getDoubleValue()))) &&
+                ((this.stringValue==null && other.getStringValue()==null) || 
+                 (this.stringValue!=null &&
+                  this.stringValue.equals(other.getStringValue())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(ConstantOperand.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = super.hashCode();
-        if (getType() != null) {
-            _hashCode += getType().hashCode();
-        }
-        if (getUnit() != null) {
-            _hashCode += getUnit().hashCode();
-        }
-        if (getLongValue() != null) {
-            _hashCode += getLongValue().hashCode();
-        }
-        if (getBooleanValue() != null) {
-            _hashCode += getBooleanValue().hashCode();
-        }
-        if (getDoubleValue() != null) {
-            _hashCode += getDoubleValue().hashCode();
+        try {
+            int _hashCode = super.hashCode();
+            if (getType() != null) {
+                _hashCode += getType().hashCode();
+            }
+            if (getUnit() != null) {
+                _hashCode += getUnit().hashCode();
+            }
+            if (getLongValue() != null) {
+                _hashCode += getLongValue().hashCode();
+            }
+            if (getBooleanValue() != null) {
+                _hashCode += getBooleanValue().hashCode();
+            }
+            if (getDoubleValue() != null) {
+                _hashCode += getDoubleValue().hashCode();
+            }
+            if (getStringValue() != null) {
+                _hashCode += getStringValue().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        if (getStringValue() != null) {
-            _hashCode += getStringValue().hashCode();
-        }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(ConstantOperand.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(ConstantOperand.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://adwords.google.com/api/adwords/cm/v201607", "ConstantOperand"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("type");
@@ -302,13 +307,24 @@ public class ConstantOperand  extends com.google.api.ads.adwords.axis.v201607.cm
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (ConstantOperand.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -320,7 +336,7 @@ public class ConstantOperand  extends com.google.api.ads.adwords.axis.v201607.cm
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -332,7 +348,7 @@ public class ConstantOperand  extends com.google.api.ads.adwords.axis.v201607.cm
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
@@ -141,56 +141,61 @@ public class CriterionUserInterest  extends com.google.api.ads.adwords.axis.v201
         this.userInterestName = userInterestName;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof CriterionUserInterest)) return false;
         CriterionUserInterest other = (CriterionUserInterest) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(CriterionUserInterest.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = super.equals(obj) && 
-            ((this.userInterestId==null && other.getUserInterestId()==null) || 
-             (this.userInterestId!=null &&
-              this.userInterestId.equals(other.getUserInterestId()))) &&
-            ((this.userInterestParentId==null && other.getUserInterestParentId()==null) || 
-             (this.userInterestParentId!=null &&
-              this.userInterestParentId.equals(other.getUserInterestParentId()))) &&
-            ((this.userInterestName==null && other.getUserInterestName()==null) || 
-             (this.userInterestName!=null &&
-              this.userInterestName.equals(other.getUserInterestName())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = super.equals(obj) && 
+                ((this.userInterestId==null && other.getUserInterestId()==null) || 
+                 (this.userInterestId!=null &&
+                  this.userInterestId.equals(other.getUserInterestId()))) &&
+                ((this.userInterestParentId==null && other.getUserInterestParentId()==null) || 
+                 (this.userInterestParentId!=null &&
+                  this.userInterestParentId.equals(other.getUserInterestParentId()))) &&
+                ((this.userInterestName==null && other.getUserInterestName()==null) || 
+                 (this.userInterestName!=null &&
+                  this.userInterestName.equals(other.getUserInterestName())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(CriterionUserInterest.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = super.hashCode();
-        if (getUserInterestId() != null) {
-            _hashCode += getUserInterestId().hashCode();
-        }
-        if (getUserInterestParentId() != null) {
-            _hashCode += getUserInterestParentId().hashCode();
-        }
-        if (getUserInterestName() != null) {
-            _hashCode += getUserInterestName().hashCode();
+        try {
+            int _hashCode = super.hashCode();
+            if (getUserInterestId() != null) {
+                _hashCode += getUserInterestId().hashCode();
+            }
+            if (getUserInterestParentId() != null) {
+                _hashCode += getUserInterestParentId().hashCode();
+            }
+            if (getUserInterestName() != null) {
+                _hashCode += getUserInterestName().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(CriterionUserInterest.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(CriterionUserInterest.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://adwords.google.com/api/adwords/cm/v201607", "CriterionUserInterest"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("userInterestId");
@@ -213,13 +218,24 @@ public class CriterionUserInterest  extends com.google.api.ads.adwords.axis.v201
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (CriterionUserInterest.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -231,7 +247,7 @@ public class CriterionUserInterest  extends com.google.api.ads.adwords.axis.v201
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -243,7 +259,7 @@ public class CriterionUserInterest  extends com.google.api.ads.adwords.axis.v201
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
@@ -291,74 +291,79 @@ public class DraftAsyncError  implements java.io.Serializable {
         this.draftAdGroupId = draftAdGroupId;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof DraftAsyncError)) return false;
         DraftAsyncError other = (DraftAsyncError) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(DraftAsyncError.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = true && 
-            ((this.baseCampaignId==null && other.getBaseCampaignId()==null) || 
-             (this.baseCampaignId!=null &&
-              this.baseCampaignId.equals(other.getBaseCampaignId()))) &&
-            ((this.draftId==null && other.getDraftId()==null) || 
-             (this.draftId!=null &&
-              this.draftId.equals(other.getDraftId()))) &&
-            ((this.draftCampaignId==null && other.getDraftCampaignId()==null) || 
-             (this.draftCampaignId!=null &&
-              this.draftCampaignId.equals(other.getDraftCampaignId()))) &&
-            ((this.asyncError==null && other.getAsyncError()==null) || 
-             (this.asyncError!=null &&
-              this.asyncError.equals(other.getAsyncError()))) &&
-            ((this.baseAdGroupId==null && other.getBaseAdGroupId()==null) || 
-             (this.baseAdGroupId!=null &&
-              this.baseAdGroupId.equals(other.getBaseAdGroupId()))) &&
-            ((this.draftAdGroupId==null && other.getDraftAdGroupId()==null) || 
-             (this.draftAdGroupId!=null &&
-              this.draftAdGroupId.equals(other.getDraftAdGroupId())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = true && 
+                ((this.baseCampaignId==null && other.getBaseCampaignId()==null) || 
+                 (this.baseCampaignId!=null &&
+                  this.baseCampaignId.equals(other.getBaseCampaignId()))) &&
+                ((this.draftId==null && other.getDraftId()==null) || 
+                 (this.draftId!=null &&
+                  this.draftId.equals(other.getDraftId()))) &&
+                ((this.draftCampaignId==null && other.getDraftCampaignId()==null) || 
+                 (this.draftCampaignId!=null &&
+                  this.draftCampaignId.equals(other.getDraftCampaignId()))) &&
+                ((this.asyncError==null && other.getAsyncError()==null) || 
+                 (this.asyncError!=null &&
+                  this.asyncError.equals(other.getAsyncError()))) &&
+                ((this.baseAdGroupId==null && other.getBaseAdGroupId()==null) || 
+                 (this.baseAdGroupId!=null &&
+                  this.baseAdGroupId.equals(other.getBaseAdGroupId()))) &&
+                ((this.draftAdGroupId==null && other.getDraftAdGroupId()==null) || 
+                 (this.draftAdGroupId!=null &&
+                  this.draftAdGroupId.equals(other.getDraftAdGroupId())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(DraftAsyncError.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getBaseCampaignId() != null) {
-            _hashCode += getBaseCampaignId().hashCode();
-        }
-        if (getDraftId() != null) {
-            _hashCode += getDraftId().hashCode();
-        }
-        if (getDraftCampaignId() != null) {
-            _hashCode += getDraftCampaignId().hashCode();
-        }
-        if (getAsyncError() != null) {
-            _hashCode += getAsyncError().hashCode();
-        }
-        if (getBaseAdGroupId() != null) {
-            _hashCode += getBaseAdGroupId().hashCode();
+        try {
+            int _hashCode = 1;
+            if (getBaseCampaignId() != null) {
+                _hashCode += getBaseCampaignId().hashCode();
+            }
+            if (getDraftId() != null) {
+                _hashCode += getDraftId().hashCode();
+            }
+            if (getDraftCampaignId() != null) {
+                _hashCode += getDraftCampaignId().hashCode();
+            }
+            if (getAsyncError() != null) {
+                _hashCode += getAsyncError().hashCode();
+            }
+            if (getBaseAdGroupId() != null) {
+                _hashCode += getBaseAdGroupId().hashCode();
+            }
+            if (getDraftAdGroupId() != null) {
+                _hashCode += getDraftAdGroupId().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        if (getDraftAdGroupId() != null) {
-            _hashCode += getDraftAdGroupId().hashCode();
-        }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(DraftAsyncError.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(DraftAsyncError.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://adwords.google.com/api/adwords/cm/v201607", "DraftAsyncError"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("baseCampaignId");
@@ -402,13 +407,24 @@ public class DraftAsyncError  implements java.io.Serializable {
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (DraftAsyncError.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -420,7 +436,7 @@ public class DraftAsyncError  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -432,7 +448,7 @@ public class DraftAsyncError  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
@@ -112,50 +112,55 @@ public class DynamicSearchAdsSetting  extends com.google.api.ads.adwords.axis.v2
         this.languageCode = languageCode;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof DynamicSearchAdsSetting)) return false;
         DynamicSearchAdsSetting other = (DynamicSearchAdsSetting) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(DynamicSearchAdsSetting.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = super.equals(obj) && 
-            ((this.domainName==null && other.getDomainName()==null) || 
-             (this.domainName!=null &&
-              this.domainName.equals(other.getDomainName()))) &&
-            ((this.languageCode==null && other.getLanguageCode()==null) || 
-             (this.languageCode!=null &&
-              this.languageCode.equals(other.getLanguageCode())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = super.equals(obj) && 
+                ((this.domainName==null && other.getDomainName()==null) || 
+                 (this.domainName!=null &&
+                  this.domainName.equals(other.getDomainName()))) &&
+                ((this.languageCode==null && other.getLanguageCode()==null) || 
+                 (this.languageCode!=null &&
+                  this.languageCode.equals(other.getLanguageCode())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(DynamicSearchAdsSetting.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = super.hashCode();
-        if (getDomainName() != null) {
-            _hashCode += getDomainName().hashCode();
-        }
-        if (getLanguageCode() != null) {
-            _hashCode += getLanguageCode().hashCode();
+        try {
+            int _hashCode = super.hashCode();
+            if (getDomainName() != null) {
+                _hashCode += getDomainName().hashCode();
+            }
+            if (getLanguageCode() != null) {
+                _hashCode += getLanguageCode().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(DynamicSearchAdsSetting.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(DynamicSearchAdsSetting.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://adwords.google.com/api/adwords/cm/v201607", "DynamicSearchAdsSetting"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("domainName");
@@ -171,13 +176,24 @@ public class DynamicSearchAdsSetting  extends com.google.api.ads.adwords.axis.v2
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (DynamicSearchAdsSetting.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -189,7 +205,7 @@ public class DynamicSearchAdsSetting  extends com.google.api.ads.adwords.axis.v2
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -201,7 +217,7 @@ public class DynamicSearchAdsSetting  extends com.google.api.ads.adwords.axis.v2
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
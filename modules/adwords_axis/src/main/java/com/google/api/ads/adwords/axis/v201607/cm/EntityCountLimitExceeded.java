@@ -167,68 +167,73 @@ public class EntityCountLimitExceeded  extends com.google.api.ads.adwords.axis.v
         this.existingCount = existingCount;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof EntityCountLimitExceeded)) return false;
         EntityCountLimitExceeded other = (EntityCountLimitExceeded) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(EntityCountLimitExceeded.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = super.equals(obj) && 
-            ((this.reason==null && other.getReason()==null) || 
-             (this.reason!=null &&
-              this.reason.equals(other.getReason()))) &&
-            ((this.enclosingId==null && other.getEnclosingId()==null) || 
-             (this.enclosingId!=null &&
-              this.enclosingId.equals(other.getEnclosingId()))) &&
-            ((this.limit==null && other.getLimit()==null) || 
-             (this.limit!=null &&
-              this.limit.equals(other.getLimit()))) &&
-            ((this.accountLimitType==null && other.getAccountLimitType()==null) || 
-             (this.accountLimitType!=null &&
-              this.accountLimitType.equals(other.getAccountLimitType()))) &&
-            ((this.existingCount==null && other.getExistingCount()==null) || 
-             (this.existingCount!=null &&
-              this.existingCount.equals(other.getExistingCount())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = super.equals(obj) && 
+                ((this.reason==null && other.getReason()==null) || 
+                 (this.reason!=null &&
+                  this.reason.equals(other.getReason()))) &&
+                ((this.enclosingId==null && other.getEnclosingId()==null) || 
+                 (this.enclosingId!=null &&
+                  this.enclosingId.equals(other.getEnclosingId()))) &&
+                ((this.limit==null && other.getLimit()==null) || 
+                 (this.limit!=null &&
+                  this.limit.equals(other.getLimit()))) &&
+                ((this.accountLimitType==null && other.getAccountLimitType()==null) || 
+                 (this.accountLimitType!=null &&
+                  this.accountLimitType.equals(other.getAccountLimitType()))) &&
+                ((this.existingCount==null && other.getExistingCount()==null) || 
+                 (this.existingCount!=null &&
+                  this.existingCount.equals(other.getExistingCount())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(EntityCountLimitExceeded.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = super.hashCode();
-        if (getReason() != null) {
-            _hashCode += getReason().hashCode();
-        }
-        if (getEnclosingId() != null) {
-            _hashCode += getEnclosingId().hashCode();
-        }
-        if (getLimit() != null) {
-            _hashCode += getLimit().hashCode();
-        }
-        if (getAccountLimitType() != null) {
-            _hashCode += getAccountLimitType().hashCode();
+        try {
+            int _hashCode = super.hashCode();
+            if (getReason() != null) {
+                _hashCode += getReason().hashCode();
+            }
+            if (getEnclosingId() != null) {
+                _hashCode += getEnclosingId().hashCode();
+            }
+            if (getLimit() != null) {
+                _hashCode += getLimit().hashCode();
+            }
+            if (getAccountLimitType() != null) {
+                _hashCode += getAccountLimitType().hashCode();
+            }
+            if (getExistingCount() != null) {
+                _hashCode += getExistingCount().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        if (getExistingCount() != null) {
-            _hashCode += getExistingCount().hashCode();
-        }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(EntityCountLimitExceeded.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(EntityCountLimitExceeded.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://adwords.google.com/api/adwords/cm/v201607", "EntityCountLimitExceeded"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("reason");
@@ -265,13 +270,24 @@ public class EntityCountLimitExceeded  extends com.google.api.ads.adwords.axis.v
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (EntityCountLimitExceeded.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -283,7 +299,7 @@ public class EntityCountLimitExceeded  extends com.google.api.ads.adwords.axis.v
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -295,7 +311,7 @@ public class EntityCountLimitExceeded  extends com.google.api.ads.adwords.axis.v
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
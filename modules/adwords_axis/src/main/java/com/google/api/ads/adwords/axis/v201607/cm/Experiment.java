@@ -517,104 +517,109 @@ public class Experiment  implements java.io.Serializable {
         this.experimentSummaryStats = experimentSummaryStats;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof Experiment)) return false;
         Experiment other = (Experiment) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(Experiment.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = true && 
-            ((this.id==null && other.getId()==null) || 
-             (this.id!=null &&
-              this.id.equals(other.getId()))) &&
-            ((this.controlId==null && other.getControlId()==null) || 
-             (this.controlId!=null &&
-              this.controlId.equals(other.getControlId()))) &&
-            ((this.campaignId==null && other.getCampaignId()==null) || 
-             (this.campaignId!=null &&
-              this.campaignId.equals(other.getCampaignId()))) &&
-            ((this.name==null && other.getName()==null) || 
-             (this.name!=null &&
-              this.name.equals(other.getName()))) &&
-            ((this.status==null && other.getStatus()==null) || 
-             (this.status!=null &&
-              this.status.equals(other.getStatus()))) &&
-            ((this.servingStatus==null && other.getServingStatus()==null) || 
-             (this.servingStatus!=null &&
-              this.servingStatus.equals(other.getServingStatus()))) &&
-            ((this.queryPercentage==null && other.getQueryPercentage()==null) || 
-             (this.queryPercentage!=null &&
-              this.queryPercentage.equals(other.getQueryPercentage()))) &&
-            ((this.startDateTime==null && other.getStartDateTime()==null) || 
-             (this.startDateTime!=null &&
-              this.startDateTime.equals(other.getStartDateTime()))) &&
-            ((this.endDateTime==null && other.getEndDateTime()==null) || 
-             (this.endDateTime!=null &&
-              this.endDateTime.equals(other.getEndDateTime()))) &&
-            ((this.lastModifiedDateTime==null && other.getLastModifiedDateTime()==null) || 
-             (this.lastModifiedDateTime!=null &&
-              this.lastModifiedDateTime.equals(other.getLastModifiedDateTime()))) &&
-            ((this.experimentSummaryStats==null && other.getExperimentSummaryStats()==null) || 
-             (this.experimentSummaryStats!=null &&
-              this.experimentSummaryStats.equals(other.getExperimentSummaryStats())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = true && 
+                ((this.id==null && other.getId()==null) || 
+                 (this.id!=null &&
+                  this.id.equals(other.getId()))) &&
+                ((this.controlId==null && other.getControlId()==null) || 
+                 (this.controlId!=null &&
+                  this.controlId.equals(other.getControlId()))) &&
+                ((this.campaignId==null && other.getCampaignId()==null) || 
+                 (this.campaignId!=null &&
+                  this.campaignId.equals(other.getCampaignId()))) &&
+                ((this.name==null && other.getName()==null) || 
+                 (this.name!=null &&
+                  this.name.equals(other.getName()))) &&
+                ((this.status==null && other.getStatus()==null) || 
+                 (this.status!=null &&
+                  this.status.equals(other.getStatus()))) &&
+                ((this.servingStatus==null && other.getServingStatus()==null) || 
+                 (this.servingStatus!=null &&
+                  this.servingStatus.equals(other.getServingStatus()))) &&
+                ((this.queryPercentage==null && other.getQueryPercentage()==null) || 
+                 (this.queryPercentage!=null &&
+                  this.queryPercentage.equals(other.getQueryPercentage()))) &&
+                ((this.startDateTime==null && other.getStartDateTime()==null) || 
+                 (this.startDateTime!=null &&
+                  this.startDateTime.equals(other.getStartDateTime()))) &&
+                ((this.endDateTime==null && other.getEndDateTime()==null) || 
+                 (this.endDateTime!=null &&
+                  this.endDateTime.equals(other.getEndDateTime()))) &&
+                ((this.lastModifiedDateTime==null && other.getLastModifiedDateTime()==null) || 
+                 (this.lastModifiedDateTime!=null &&
+                  this.lastModifiedDateTime.equals(other.getLastModifiedDateTime()))) &&
+                ((this.experimentSummaryStats==null && other.getExperimentSummaryStats()==null) || 
+                 (this.experimentSummaryStats!=null &&
+                  this.experimentSummaryStats.equals(other.getExperimentSummaryStats())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(Experiment.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getId() != null) {
-            _hashCode += getId().hashCode();
-        }
-        if (getControlId() != null) {
-            _hashCode += getControlId().hashCode();
-        }
-        if (getCampaignId() != null) {
-            _hashCode += getCampaignId().hashCode();
-        }
-        if (getName() != null) {
-            _hashCode += getName().hashCode();
-        }
-        if (getStatus() != null) {
-            _hashCode += getStatus().hashCode();
-        }
-        if (getServingStatus() != null) {
-            _hashCode += getServingStatus().hashCode();
-        }
-        if (getQueryPercentage() != null) {
-            _hashCode += getQueryPercentage().hashCode();
+        try {
+            int _hashCode = 1;
+            if (getId() != null) {
+                _hashCode += getId().hashCode();
+            }
+            if (getControlId() != null) {
+                _hashCode += getControlId().hashCode();
+            }
+            if (getCampaignId() != null) {
+                _hashCode += getCampaignId().hashCode();
+            }
+            if (getName() != null) {
+                _hashCode += getName().hashCode();
+            }
+            if (getStatus() != null) {
+                _hashCode += getStatus().hashCode();
+            }
+            if (getServingStatus() != null) {
+                _hashCode += getServingStatus().hashCode();
+            }
+            if (getQueryPercentage() != null) {
+                _hashCode += getQueryPercentage().hashCode();
+            }
+            if (getStartDateTime() != null) {
+                _hashCode += getStartDateTime().hashCode();
+            }
+            if (getEndDateTime() != null) {
+                _hashCode += getEndDateTime().hashCode();
+            }
+            if (getLastModifiedDateTime() != null) {
+                _hashCode += getLastModifiedDateTime().hashCode();
+            }
+            if (getExperimentSummaryStats() != null) {
+                _hashCode += getExperimentSummaryStats().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        if (getStartDateTime() != null) {
-            _hashCode += getStartDateTime().hashCode();
-        }
-        if (getEndDateTime() != null) {
-            _hashCode += getEndDateTime().hashCode();
-        }
-        if (getLastModifiedDateTime() != null) {
-            _hashCode += getLastModifiedDateTime().hashCode();
-        }
-        if (getExperimentSummaryStats() != null) {
-            _hashCode += getExperimentSummaryStats().hashCode();
-        }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(Experiment.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(Experiment.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://adwords.google.com/api/adwords/cm/v201607", "Experiment"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("id");
@@ -693,13 +698,24 @@ public class Experiment  implements java.io.Serializable {
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (Experiment.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -711,7 +727,7 @@ public class Experiment  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -723,7 +739,7 @@ public class Experiment  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
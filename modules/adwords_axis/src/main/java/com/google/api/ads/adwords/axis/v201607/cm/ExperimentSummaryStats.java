@@ -127,56 +127,61 @@ public class ExperimentSummaryStats  implements java.io.Serializable {
         this.adGroupAdsCount = adGroupAdsCount;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof ExperimentSummaryStats)) return false;
         ExperimentSummaryStats other = (ExperimentSummaryStats) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(ExperimentSummaryStats.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = true && 
-            ((this.adGroupsCount==null && other.getAdGroupsCount()==null) || 
-             (this.adGroupsCount!=null &&
-              this.adGroupsCount.equals(other.getAdGroupsCount()))) &&
-            ((this.adGroupCriteriaCount==null && other.getAdGroupCriteriaCount()==null) || 
-             (this.adGroupCriteriaCount!=null &&
-              this.adGroupCriteriaCount.equals(other.getAdGroupCriteriaCount()))) &&
-            ((this.adGroupAdsCount==null && other.getAdGroupAdsCount()==null) || 
-             (this.adGroupAdsCount!=null &&
-              this.adGroupAdsCount.equals(other.getAdGroupAdsCount())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = true && 
+                ((this.adGroupsCount==null && other.getAdGroupsCount()==null) || 
+                 (this.adGroupsCount!=null &&
+                  this.adGroupsCount.equals(other.getAdGroupsCount()))) &&
+                ((this.adGroupCriteriaCount==null && other.getAdGroupCriteriaCount()==null) || 
+                 (this.adGroupCriteriaCount!=null &&
+                  this.adGroupCriteriaCount.equals(other.getAdGroupCriteriaCount()))) &&
+                ((this.adGroupAdsCount==null && other.getAdGroupAdsCount()==null) || 
+                 (this.adGroupAdsCount!=null &&
+                  this.adGroupAdsCount.equals(other.getAdGroupAdsCount())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(ExperimentSummaryStats.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getAdGroupsCount() != null) {
-            _hashCode += getAdGroupsCount().hashCode();
-        }
-        if (getAdGroupCriteriaCount() != null) {
-            _hashCode += getAdGroupCriteriaCount().hashCode();
-        }
-        if (getAdGroupAdsCount() != null) {
-            _hashCode += getAdGroupAdsCount().hashCode();
+        try {
+            int _hashCode = 1;
+            if (getAdGroupsCount() != null) {
+                _hashCode += getAdGroupsCount().hashCode();
+            }
+            if (getAdGroupCriteriaCount() != null) {
+                _hashCode += getAdGroupCriteriaCount().hashCode();
+            }
+            if (getAdGroupAdsCount() != null) {
+                _hashCode += getAdGroupAdsCount().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(ExperimentSummaryStats.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(ExperimentSummaryStats.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://adwords.google.com/api/adwords/cm/v201607", "ExperimentSummaryStats"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("adGroupsCount");
@@ -199,13 +204,24 @@ public class ExperimentSummaryStats  implements java.io.Serializable {
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (ExperimentSummaryStats.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -217,7 +233,7 @@ public class ExperimentSummaryStats  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -229,7 +245,7 @@ public class ExperimentSummaryStats  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
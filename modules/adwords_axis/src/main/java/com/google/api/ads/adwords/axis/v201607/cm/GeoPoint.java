@@ -94,50 +94,55 @@ public class GeoPoint  implements java.io.Serializable {
         this.longitudeInMicroDegrees = longitudeInMicroDegrees;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof GeoPoint)) return false;
         GeoPoint other = (GeoPoint) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(GeoPoint.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = true && 
-            ((this.latitudeInMicroDegrees==null && other.getLatitudeInMicroDegrees()==null) || 
-             (this.latitudeInMicroDegrees!=null &&
-              this.latitudeInMicroDegrees.equals(other.getLatitudeInMicroDegrees()))) &&
-            ((this.longitudeInMicroDegrees==null && other.getLongitudeInMicroDegrees()==null) || 
-             (this.longitudeInMicroDegrees!=null &&
-              this.longitudeInMicroDegrees.equals(other.getLongitudeInMicroDegrees())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = true && 
+                ((this.latitudeInMicroDegrees==null && other.getLatitudeInMicroDegrees()==null) || 
+                 (this.latitudeInMicroDegrees!=null &&
+                  this.latitudeInMicroDegrees.equals(other.getLatitudeInMicroDegrees()))) &&
+                ((this.longitudeInMicroDegrees==null && other.getLongitudeInMicroDegrees()==null) || 
+                 (this.longitudeInMicroDegrees!=null &&
+                  this.longitudeInMicroDegrees.equals(other.getLongitudeInMicroDegrees())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(GeoPoint.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getLatitudeInMicroDegrees() != null) {
-            _hashCode += getLatitudeInMicroDegrees().hashCode();
-        }
-        if (getLongitudeInMicroDegrees() != null) {
-            _hashCode += getLongitudeInMicroDegrees().hashCode();
+        try {
+            int _hashCode = 1;
+            if (getLatitudeInMicroDegrees() != null) {
+                _hashCode += getLatitudeInMicroDegrees().hashCode();
+            }
+            if (getLongitudeInMicroDegrees() != null) {
+                _hashCode += getLongitudeInMicroDegrees().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(GeoPoint.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(GeoPoint.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://adwords.google.com/api/adwords/cm/v201607", "GeoPoint"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("latitudeInMicroDegrees");
@@ -153,13 +158,24 @@ public class GeoPoint  implements java.io.Serializable {
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (GeoPoint.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -171,7 +187,7 @@ public class GeoPoint  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -183,7 +199,7 @@ public class GeoPoint  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
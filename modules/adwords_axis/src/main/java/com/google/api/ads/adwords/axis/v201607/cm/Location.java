@@ -181,70 +181,75 @@ public class Location  extends com.google.api.ads.adwords.axis.v201607.cm.Criter
         this.parentLocations[i] = _value;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof Location)) return false;
         Location other = (Location) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(Location.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = super.equals(obj) && 
-            ((this.locationName==null && other.getLocationName()==null) || 
-             (this.locationName!=null &&
-              this.locationName.equals(other.getLocationName()))) &&
-            ((this.displayType==null && other.getDisplayType()==null) || 
-             (this.displayType!=null &&
-              this.displayType.equals(other.getDisplayType()))) &&
-            ((this.targetingStatus==null && other.getTargetingStatus()==null) || 
-             (this.targetingStatus!=null &&
-              this.targetingStatus.equals(other.getTargetingStatus()))) &&
-            ((this.parentLocations==null && other.getParentLocations()==null) || 
-             (this.parentLocations!=null &&
-              java.util.Arrays.equals(this.parentLocations, other.getParentLocations())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = super.equals(obj) && 
+                ((this.locationName==null && other.getLocationName()==null) || 
+                 (this.locationName!=null &&
+                  this.locationName.equals(other.getLocationName()))) &&
+                ((this.displayType==null && other.getDisplayType()==null) || 
+                 (this.displayType!=null &&
+                  this.displayType.equals(other.getDisplayType()))) &&
+                ((this.targetingStatus==null && other.getTargetingStatus()==null) || 
+                 (this.targetingStatus!=null &&
+                  this.targetingStatus.equals(other.getTargetingStatus()))) &&
+                ((this.parentLocations==null && other.getParentLocations()==null) || 
+                 (this.parentLocations!=null &&
+                  java.util.Arrays.equals(this.parentLocations, other.getParentLocations())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(Location.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = super.hashCode();
-        if (getLocationName() != null) {
-            _hashCode += getLocationName().hashCode();
-        }
-        if (getDisplayType() != null) {
-            _hashCode += getDisplayType().hashCode();
-        }
-        if (getTargetingStatus() != null) {
-            _hashCode += getTargetingStatus().hashCode();
-        }
-        if (getParentLocations() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getParentLocations());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getParentLocations(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+        try {
+            int _hashCode = super.hashCode();
+            if (getLocationName() != null) {
+                _hashCode += getLocationName().hashCode();
+            }
+            if (getDisplayType() != null) {
+                _hashCode += getDisplayType().hashCode();
+            }
+            if (getTargetingStatus() != null) {
+                _hashCode += getTargetingStatus().hashCode();
+            }
+            if (getParentLocations() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getParentLocations());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getParentLocations(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(Location.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(Location.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://adwords.google.com/api/adwords/cm/v201607", "Location"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("locationName");
@@ -275,13 +280,24 @@ public class Location  extends com.google.api.ads.adwords.axis.v201607.cm.Criter
         elemField.setNillable(false);
         elemField.setMaxOccursUnbounded(true);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (Location.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -293,7 +309,7 @@ public class Location  extends com.google.api.ads.adwords.axis.v201607.cm.Criter
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -305,7 +321,7 @@ public class Location  extends com.google.api.ads.adwords.axis.v201607.cm.Criter
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
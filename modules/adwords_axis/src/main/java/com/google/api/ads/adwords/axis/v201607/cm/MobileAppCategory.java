@@ -121,50 +121,55 @@ public class MobileAppCategory  extends com.google.api.ads.adwords.axis.v201607.
         this.displayName = displayName;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof MobileAppCategory)) return false;
         MobileAppCategory other = (MobileAppCategory) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(MobileAppCategory.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = super.equals(obj) && 
-            ((this.mobileAppCategoryId==null && other.getMobileAppCategoryId()==null) || 
-             (this.mobileAppCategoryId!=null &&
-              this.mobileAppCategoryId.equals(other.getMobileAppCategoryId()))) &&
-            ((this.displayName==null && other.getDisplayName()==null) || 
-             (this.displayName!=null &&
-              this.displayName.equals(other.getDisplayName())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = super.equals(obj) && 
+                ((this.mobileAppCategoryId==null && other.getMobileAppCategoryId()==null) || 
+                 (this.mobileAppCategoryId!=null &&
+                  this.mobileAppCategoryId.equals(other.getMobileAppCategoryId()))) &&
+                ((this.displayName==null && other.getDisplayName()==null) || 
+                 (this.displayName!=null &&
+                  this.displayName.equals(other.getDisplayName())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(MobileAppCategory.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = super.hashCode();
-        if (getMobileAppCategoryId() != null) {
-            _hashCode += getMobileAppCategoryId().hashCode();
-        }
-        if (getDisplayName() != null) {
-            _hashCode += getDisplayName().hashCode();
+        try {
+            int _hashCode = super.hashCode();
+            if (getMobileAppCategoryId() != null) {
+                _hashCode += getMobileAppCategoryId().hashCode();
+            }
+            if (getDisplayName() != null) {
+                _hashCode += getDisplayName().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(MobileAppCategory.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(MobileAppCategory.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://adwords.google.com/api/adwords/cm/v201607", "MobileAppCategory"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("mobileAppCategoryId");
@@ -180,13 +185,24 @@ public class MobileAppCategory  extends com.google.api.ads.adwords.axis.v201607.
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (MobileAppCategory.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -198,7 +214,7 @@ public class MobileAppCategory  extends com.google.api.ads.adwords.axis.v201607.
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -210,7 +226,7 @@ public class MobileAppCategory  extends com.google.api.ads.adwords.axis.v201607.
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
@@ -183,62 +183,67 @@ public class NetworkSetting  implements java.io.Serializable {
         this.targetPartnerSearchNetwork = targetPartnerSearchNetwork;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof NetworkSetting)) return false;
         NetworkSetting other = (NetworkSetting) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(NetworkSetting.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = true && 
-            ((this.targetGoogleSearch==null && other.getTargetGoogleSearch()==null) || 
-             (this.targetGoogleSearch!=null &&
-              this.targetGoogleSearch.equals(other.getTargetGoogleSearch()))) &&
-            ((this.targetSearchNetwork==null && other.getTargetSearchNetwork()==null) || 
-             (this.targetSearchNetwork!=null &&
-              this.targetSearchNetwork.equals(other.getTargetSearchNetwork()))) &&
-            ((this.targetContentNetwork==null && other.getTargetContentNetwork()==null) || 
-             (this.targetContentNetwork!=null &&
-              this.targetContentNetwork.equals(other.getTargetContentNetwork()))) &&
-            ((this.targetPartnerSearchNetwork==null && other.getTargetPartnerSearchNetwork()==null) || 
-             (this.targetPartnerSearchNetwork!=null &&
-              this.targetPartnerSearchNetwork.equals(other.getTargetPartnerSearchNetwork())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = true && 
+                ((this.targetGoogleSearch==null && other.getTargetGoogleSearch()==null) || 
+                 (this.targetGoogleSearch!=null &&
+                  this.targetGoogleSearch.equals(other.getTargetGoogleSearch()))) &&
+                ((this.targetSearchNetwork==null && other.getTargetSearchNetwork()==null) || 
+                 (this.targetSearchNetwork!=null &&
+                  this.targetSearchNetwork.equals(other.getTargetSearchNetwork()))) &&
+                ((this.targetContentNetwork==null && other.getTargetContentNetwork()==null) || 
+                 (this.targetContentNetwork!=null &&
+                  this.targetContentNetwork.equals(other.getTargetContentNetwork()))) &&
+                ((this.targetPartnerSearchNetwork==null && other.getTargetPartnerSearchNetwork()==null) || 
+                 (this.targetPartnerSearchNetwork!=null &&
+                  this.targetPartnerSearchNetwork.equals(other.getTargetPartnerSearchNetwork())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(NetworkSetting.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getTargetGoogleSearch() != null) {
-            _hashCode += getTargetGoogleSearch().hashCode();
-        }
-        if (getTargetSearchNetwork() != null) {
-            _hashCode += getTargetSearchNetwork().hashCode();
-        }
-        if (getTargetContentNetwork() != null) {
-            _hashCode += getTargetContentNetwork().hashCode();
-        }
-        if (getTargetPartnerSearchNetwork() != null) {
-            _hashCode += getTargetPartnerSearchNetwork().hashCode();
+        try {
+            int _hashCode = 1;
+            if (getTargetGoogleSearch() != null) {
+                _hashCode += getTargetGoogleSearch().hashCode();
+            }
+            if (getTargetSearchNetwork() != null) {
+                _hashCode += getTargetSearchNetwork().hashCode();
+            }
+            if (getTargetContentNetwork() != null) {
+                _hashCode += getTargetContentNetwork().hashCode();
+            }
+            if (getTargetPartnerSearchNetwork() != null) {
+                _hashCode += getTargetPartnerSearchNetwork().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(NetworkSetting.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(NetworkSetting.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://adwords.google.com/api/adwords/cm/v201607", "NetworkSetting"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("targetGoogleSearch");
@@ -268,13 +273,24 @@ public class NetworkSetting  implements java.io.Serializable {
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (NetworkSetting.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -286,7 +302,7 @@ public class NetworkSetting  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -298,7 +314,7 @@ public class NetworkSetting  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
@@ -173,62 +173,67 @@ public class OperatingSystemVersion  extends com.google.api.ads.adwords.axis.v20
         this.operatorType = operatorType;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof OperatingSystemVersion)) return false;
         OperatingSystemVersion other = (OperatingSystemVersion) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(OperatingSystemVersion.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = super.equals(obj) && 
-            ((this.name==null && other.getName()==null) || 
-             (this.name!=null &&
-              this.name.equals(other.getName()))) &&
-            ((this.osMajorVersion==null && other.getOsMajorVersion()==null) || 
-             (this.osMajorVersion!=null &&
-              this.osMajorVersion.equals(other.getOsMajorVersion()))) &&
-            ((this.osMinorVersion==null && other.getOsMinorVersion()==null) || 
-             (this.osMinorVersion!=null &&
-              this.osMinorVersion.equals(other.getOsMinorVersion()))) &&
-            ((this.operatorType==null && other.getOperatorType()==null) || 
-             (this.operatorType!=null &&
-              this.operatorType.equals(other.getOperatorType())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = super.equals(obj) && 
+                ((this.name==null && other.getName()==null) || 
+                 (this.name!=null &&
+                  this.name.equals(other.getName()))) &&
+                ((this.osMajorVersion==null && other.getOsMajorVersion()==null) || 
+                 (this.osMajorVersion!=null &&
+                  this.osMajorVersion.equals(other.getOsMajorVersion()))) &&
+                ((this.osMinorVersion==null && other.getOsMinorVersion()==null) || 
+                 (this.osMinorVersion!=null &&
+                  this.osMinorVersion.equals(other.getOsMinorVersion()))) &&
+                ((this.operatorType==null && other.getOperatorType()==null) || 
+                 (this.operatorType!=null &&
+                  this.operatorType.equals(other.getOperatorType())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(OperatingSystemVersion.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = super.hashCode();
-        if (getName() != null) {
-            _hashCode += getName().hashCode();
-        }
-        if (getOsMajorVersion() != null) {
-            _hashCode += getOsMajorVersion().hashCode();
-        }
-        if (getOsMinorVersion() != null) {
-            _hashCode += getOsMinorVersion().hashCode();
-        }
-        if (getOperatorType() != null) {
-            _hashCode += getOperatorType().hashCode();
+        try {
+            int _hashCode = super.hashCode();
+            if (getName() != null) {
+                _hashCode += getName().hashCode();
+            }
+            if (getOsMajorVersion() != null) {
+                _hashCode += getOsMajorVersion().hashCode();
+            }
+            if (getOsMinorVersion() != null) {
+                _hashCode += getOsMinorVersion().hashCode();
+            }
+            if (getOperatorType() != null) {
+                _hashCode += getOperatorType().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(OperatingSystemVersion.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(OperatingSystemVersion.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://adwords.google.com/api/adwords/cm/v201607", "OperatingSystemVersion"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("name");
@@ -258,13 +263,24 @@ public class OperatingSystemVersion  extends com.google.api.ads.adwords.axis.v20
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (OperatingSystemVersion.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -276,7 +292,7 @@ public class OperatingSystemVersion  extends com.google.api.ads.adwords.axis.v20
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -288,7 +304,7 @@ public class OperatingSystemVersion  extends com.google.api.ads.adwords.axis.v20
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
@@ -298,90 +298,95 @@ public class PlacesLocationFeedData  extends com.google.api.ads.adwords.axis.v20
         this.labelFilters[i] = _value;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof PlacesLocationFeedData)) return false;
         PlacesLocationFeedData other = (PlacesLocationFeedData) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(PlacesLocationFeedData.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = super.equals(obj) && 
-            ((this.oAuthInfo==null && other.getOAuthInfo()==null) || 
-             (this.oAuthInfo!=null &&
-              this.oAuthInfo.equals(other.getOAuthInfo()))) &&
-            ((this.emailAddress==null && other.getEmailAddress()==null) || 
-             (this.emailAddress!=null &&
-              this.emailAddress.equals(other.getEmailAddress()))) &&
-            ((this.businessAccountIdentifier==null && other.getBusinessAccountIdentifier()==null) || 
-             (this.businessAccountIdentifier!=null &&
-              this.businessAccountIdentifier.equals(other.getBusinessAccountIdentifier()))) &&
-            ((this.businessNameFilter==null && other.getBusinessNameFilter()==null) || 
-             (this.businessNameFilter!=null &&
-              this.businessNameFilter.equals(other.getBusinessNameFilter()))) &&
-            ((this.categoryFilters==null && other.getCategoryFilters()==null) || 
-             (this.categoryFilters!=null &&
-              java.util.Arrays.equals(this.categoryFilters, other.getCategoryFilters()))) &&
-            ((this.labelFilters==null && other.getLabelFilters()==null) || 
-             (this.labelFilters!=null &&
-              java.util.Arrays.equals(this.labelFilters, other.getLabelFilters())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = super.equals(obj) && 
+                ((this.oAuthInfo==null && other.getOAuthInfo()==null) || 
+                 (this.oAuthInfo!=null &&
+                  this.oAuthInfo.equals(other.getOAuthInfo()))) &&
+                ((this.emailAddress==null && other.getEmailAddress()==null) || 
+                 (this.emailAddress!=null &&
+                  this.emailAddress.equals(other.getEmailAddress()))) &&
+                ((this.businessAccountIdentifier==null && other.getBusinessAccountIdentifier()==null) || 
+                 (this.businessAccountIdentifier!=null &&
+                  this.businessAccountIdentifier.equals(other.getBusinessAccountIdentifier()))) &&
+                ((this.businessNameFilter==null && other.getBusinessNameFilter()==null) || 
+                 (this.businessNameFilter!=null &&
+                  this.businessNameFilter.equals(other.getBusinessNameFilter()))) &&
+                ((this.categoryFilters==null && other.getCategoryFilters()==null) || 
+                 (this.categoryFilters!=null &&
+                  java.util.Arrays.equals(this.categoryFilters, other.getCategoryFilters()))) &&
+                ((this.labelFilters==null && other.getLabelFilters()==null) || 
+                 (this.labelFilters!=null &&
+                  java.util.Arrays.equals(this.labelFilters, other.getLabelFilters())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(PlacesLocationFeedData.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = super.hashCode();
-        if (getOAuthInfo() != null) {
-            _hashCode += getOAuthInfo().hashCode();
-        }
-        if (getEmailAddress() != null) {
-            _hashCode += getEmailAddress().hashCode();
-        }
-        if (getBusinessAccountIdentifier() != null) {
-            _hashCode += getBusinessAccountIdentifier().hashCode();
-        }
-        if (getBusinessNameFilter() != null) {
-            _hashCode += getBusinessNameFilter().hashCode();
-        }
-        if (getCategoryFilters() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getCategoryFilters());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getCategoryFilters(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+        try {
+            int _hashCode = super.hashCode();
+            if (getOAuthInfo() != null) {
+                _hashCode += getOAuthInfo().hashCode();
+            }
+            if (getEmailAddress() != null) {
+                _hashCode += getEmailAddress().hashCode();
+            }
+            if (getBusinessAccountIdentifier() != null) {
+                _hashCode += getBusinessAccountIdentifier().hashCode();
+            }
+            if (getBusinessNameFilter() != null) {
+                _hashCode += getBusinessNameFilter().hashCode();
+            }
+            if (getCategoryFilters() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getCategoryFilters());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getCategoryFilters(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
-        }
-        if (getLabelFilters() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getLabelFilters());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getLabelFilters(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+            if (getLabelFilters() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getLabelFilters());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getLabelFilters(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(PlacesLocationFeedData.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(PlacesLocationFeedData.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://adwords.google.com/api/adwords/cm/v201607", "PlacesLocationFeedData"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("OAuthInfo");
@@ -427,13 +432,24 @@ public class PlacesLocationFeedData  extends com.google.api.ads.adwords.axis.v20
         elemField.setNillable(false);
         elemField.setMaxOccursUnbounded(true);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (PlacesLocationFeedData.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -445,7 +461,7 @@ public class PlacesLocationFeedData  extends com.google.api.ads.adwords.axis.v20
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -457,7 +473,7 @@ public class PlacesLocationFeedData  extends com.google.api.ads.adwords.axis.v20
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
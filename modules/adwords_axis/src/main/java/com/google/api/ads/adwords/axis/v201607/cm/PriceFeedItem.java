@@ -223,76 +223,81 @@ public class PriceFeedItem  extends com.google.api.ads.adwords.axis.v201607.cm.E
         this.tableRows[i] = _value;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof PriceFeedItem)) return false;
         PriceFeedItem other = (PriceFeedItem) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(PriceFeedItem.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = super.equals(obj) && 
-            ((this.priceExtensionType==null && other.getPriceExtensionType()==null) || 
-             (this.priceExtensionType!=null &&
-              this.priceExtensionType.equals(other.getPriceExtensionType()))) &&
-            ((this.priceQualifier==null && other.getPriceQualifier()==null) || 
-             (this.priceQualifier!=null &&
-              this.priceQualifier.equals(other.getPriceQualifier()))) &&
-            ((this.trackingUrlTemplate==null && other.getTrackingUrlTemplate()==null) || 
-             (this.trackingUrlTemplate!=null &&
-              this.trackingUrlTemplate.equals(other.getTrackingUrlTemplate()))) &&
-            ((this.language==null && other.getLanguage()==null) || 
-             (this.language!=null &&
-              this.language.equals(other.getLanguage()))) &&
-            ((this.tableRows==null && other.getTableRows()==null) || 
-             (this.tableRows!=null &&
-              java.util.Arrays.equals(this.tableRows, other.getTableRows())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = super.equals(obj) && 
+                ((this.priceExtensionType==null && other.getPriceExtensionType()==null) || 
+                 (this.priceExtensionType!=null &&
+                  this.priceExtensionType.equals(other.getPriceExtensionType()))) &&
+                ((this.priceQualifier==null && other.getPriceQualifier()==null) || 
+                 (this.priceQualifier!=null &&
+                  this.priceQualifier.equals(other.getPriceQualifier()))) &&
+                ((this.trackingUrlTemplate==null && other.getTrackingUrlTemplate()==null) || 
+                 (this.trackingUrlTemplate!=null &&
+                  this.trackingUrlTemplate.equals(other.getTrackingUrlTemplate()))) &&
+                ((this.language==null && other.getLanguage()==null) || 
+                 (this.language!=null &&
+                  this.language.equals(other.getLanguage()))) &&
+                ((this.tableRows==null && other.getTableRows()==null) || 
+                 (this.tableRows!=null &&
+                  java.util.Arrays.equals(this.tableRows, other.getTableRows())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(PriceFeedItem.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = super.hashCode();
-        if (getPriceExtensionType() != null) {
-            _hashCode += getPriceExtensionType().hashCode();
-        }
-        if (getPriceQualifier() != null) {
-            _hashCode += getPriceQualifier().hashCode();
-        }
-        if (getTrackingUrlTemplate() != null) {
-            _hashCode += getTrackingUrlTemplate().hashCode();
-        }
-        if (getLanguage() != null) {
-            _hashCode += getLanguage().hashCode();
-        }
-        if (getTableRows() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getTableRows());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getTableRows(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+        try {
+            int _hashCode = super.hashCode();
+            if (getPriceExtensionType() != null) {
+                _hashCode += getPriceExtensionType().hashCode();
+            }
+            if (getPriceQualifier() != null) {
+                _hashCode += getPriceQualifier().hashCode();
+            }
+            if (getTrackingUrlTemplate() != null) {
+                _hashCode += getTrackingUrlTemplate().hashCode();
+            }
+            if (getLanguage() != null) {
+                _hashCode += getLanguage().hashCode();
+            }
+            if (getTableRows() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getTableRows());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getTableRows(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(PriceFeedItem.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(PriceFeedItem.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://adwords.google.com/api/adwords/cm/v201607", "PriceFeedItem"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("priceExtensionType");
@@ -330,13 +335,24 @@ public class PriceFeedItem  extends com.google.api.ads.adwords.axis.v201607.cm.E
         elemField.setNillable(false);
         elemField.setMaxOccursUnbounded(true);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (PriceFeedItem.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -348,7 +364,7 @@ public class PriceFeedItem  extends com.google.api.ads.adwords.axis.v201607.cm.E
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -360,7 +376,7 @@ public class PriceFeedItem  extends com.google.api.ads.adwords.axis.v201607.cm.E
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
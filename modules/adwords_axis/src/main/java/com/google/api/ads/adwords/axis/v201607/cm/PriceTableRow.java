@@ -172,68 +172,73 @@ public class PriceTableRow  implements java.io.Serializable {
         this.priceUnit = priceUnit;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof PriceTableRow)) return false;
         PriceTableRow other = (PriceTableRow) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(PriceTableRow.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = true && 
-            ((this.header==null && other.getHeader()==null) || 
-             (this.header!=null &&
-              this.header.equals(other.getHeader()))) &&
-            ((this.description==null && other.getDescription()==null) || 
-             (this.description!=null &&
-              this.description.equals(other.getDescription()))) &&
-            ((this.finalUrls==null && other.getFinalUrls()==null) || 
-             (this.finalUrls!=null &&
-              this.finalUrls.equals(other.getFinalUrls()))) &&
-            ((this.price==null && other.getPrice()==null) || 
-             (this.price!=null &&
-              this.price.equals(other.getPrice()))) &&
-            ((this.priceUnit==null && other.getPriceUnit()==null) || 
-             (this.priceUnit!=null &&
-              this.priceUnit.equals(other.getPriceUnit())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = true && 
+                ((this.header==null && other.getHeader()==null) || 
+                 (this.header!=null &&
+                  this.header.equals(other.getHeader()))) &&
+                ((this.description==null && other.getDescription()==null) || 
+                 (this.description!=null &&
+                  this.description.equals(other.getDescription()))) &&
+                ((this.finalUrls==null && other.getFinalUrls()==null) || 
+                 (this.finalUrls!=null &&
+                  this.finalUrls.equals(other.getFinalUrls()))) &&
+                ((this.price==null && other.getPrice()==null) || 
+                 (this.price!=null &&
+                  this.price.equals(other.getPrice()))) &&
+                ((this.priceUnit==null && other.getPriceUnit()==null) || 
+                 (this.priceUnit!=null &&
+                  this.priceUnit.equals(other.getPriceUnit())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(PriceTableRow.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getHeader() != null) {
-            _hashCode += getHeader().hashCode();
-        }
-        if (getDescription() != null) {
-            _hashCode += getDescription().hashCode();
-        }
-        if (getFinalUrls() != null) {
-            _hashCode += getFinalUrls().hashCode();
-        }
-        if (getPrice() != null) {
-            _hashCode += getPrice().hashCode();
+        try {
+            int _hashCode = 1;
+            if (getHeader() != null) {
+                _hashCode += getHeader().hashCode();
+            }
+            if (getDescription() != null) {
+                _hashCode += getDescription().hashCode();
+            }
+            if (getFinalUrls() != null) {
+                _hashCode += getFinalUrls().hashCode();
+            }
+            if (getPrice() != null) {
+                _hashCode += getPrice().hashCode();
+            }
+            if (getPriceUnit() != null) {
+                _hashCode += getPriceUnit().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        if (getPriceUnit() != null) {
-            _hashCode += getPriceUnit().hashCode();
-        }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(PriceTableRow.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(PriceTableRow.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://adwords.google.com/api/adwords/cm/v201607", "PriceTableRow"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("header");
@@ -270,13 +275,24 @@ public class PriceTableRow  implements java.io.Serializable {
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (PriceTableRow.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -288,7 +304,7 @@ public class PriceTableRow  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -300,7 +316,7 @@ public class PriceTableRow  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
@@ -157,56 +157,61 @@ public class ProductPartition  extends com.google.api.ads.adwords.axis.v201607.c
         this.caseValue = caseValue;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof ProductPartition)) return false;
         ProductPartition other = (ProductPartition) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(ProductPartition.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = super.equals(obj) && 
-            ((this.partitionType==null && other.getPartitionType()==null) || 
-             (this.partitionType!=null &&
-              this.partitionType.equals(other.getPartitionType()))) &&
-            ((this.parentCriterionId==null && other.getParentCriterionId()==null) || 
-             (this.parentCriterionId!=null &&
-              this.parentCriterionId.equals(other.getParentCriterionId()))) &&
-            ((this.caseValue==null && other.getCaseValue()==null) || 
-             (this.caseValue!=null &&
-              this.caseValue.equals(other.getCaseValue())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = super.equals(obj) && 
+                ((this.partitionType==null && other.getPartitionType()==null) || 
+                 (this.partitionType!=null &&
+                  this.partitionType.equals(other.getPartitionType()))) &&
+                ((this.parentCriterionId==null && other.getParentCriterionId()==null) || 
+                 (this.parentCriterionId!=null &&
+                  this.parentCriterionId.equals(other.getParentCriterionId()))) &&
+                ((this.caseValue==null && other.getCaseValue()==null) || 
+                 (this.caseValue!=null &&
+                  this.caseValue.equals(other.getCaseValue())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(ProductPartition.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = super.hashCode();
-        if (getPartitionType() != null) {
-            _hashCode += getPartitionType().hashCode();
-        }
-        if (getParentCriterionId() != null) {
-            _hashCode += getParentCriterionId().hashCode();
-        }
-        if (getCaseValue() != null) {
-            _hashCode += getCaseValue().hashCode();
+        try {
+            int _hashCode = super.hashCode();
+            if (getPartitionType() != null) {
+                _hashCode += getPartitionType().hashCode();
+            }
+            if (getParentCriterionId() != null) {
+                _hashCode += getParentCriterionId().hashCode();
+            }
+            if (getCaseValue() != null) {
+                _hashCode += getCaseValue().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(ProductPartition.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(ProductPartition.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://adwords.google.com/api/adwords/cm/v201607", "ProductPartition"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("partitionType");
@@ -229,13 +234,24 @@ public class ProductPartition  extends com.google.api.ads.adwords.axis.v201607.c
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (ProductPartition.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -247,7 +263,7 @@ public class ProductPartition  extends com.google.api.ads.adwords.axis.v201607.c
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -259,7 +275,7 @@ public class ProductPartition  extends com.google.api.ads.adwords.axis.v201607.c
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
@@ -154,56 +154,61 @@ public class TargetCpaBiddingScheme  extends com.google.api.ads.adwords.axis.v20
         this.maxCpcBidFloor = maxCpcBidFloor;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof TargetCpaBiddingScheme)) return false;
         TargetCpaBiddingScheme other = (TargetCpaBiddingScheme) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(TargetCpaBiddingScheme.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = super.equals(obj) && 
-            ((this.targetCpa==null && other.getTargetCpa()==null) || 
-             (this.targetCpa!=null &&
-              this.targetCpa.equals(other.getTargetCpa()))) &&
-            ((this.maxCpcBidCeiling==null && other.getMaxCpcBidCeiling()==null) || 
-             (this.maxCpcBidCeiling!=null &&
-              this.maxCpcBidCeiling.equals(other.getMaxCpcBidCeiling()))) &&
-            ((this.maxCpcBidFloor==null && other.getMaxCpcBidFloor()==null) || 
-             (this.maxCpcBidFloor!=null &&
-              this.maxCpcBidFloor.equals(other.getMaxCpcBidFloor())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = super.equals(obj) && 
+                ((this.targetCpa==null && other.getTargetCpa()==null) || 
+                 (this.targetCpa!=null &&
+                  this.targetCpa.equals(other.getTargetCpa()))) &&
+                ((this.maxCpcBidCeiling==null && other.getMaxCpcBidCeiling()==null) || 
+                 (this.maxCpcBidCeiling!=null &&
+                  this.maxCpcBidCeiling.equals(other.getMaxCpcBidCeiling()))) &&
+                ((this.maxCpcBidFloor==null && other.getMaxCpcBidFloor()==null) || 
+                 (this.maxCpcBidFloor!=null &&
+                  this.maxCpcBidFloor.equals(other.getMaxCpcBidFloor())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(TargetCpaBiddingScheme.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = super.hashCode();
-        if (getTargetCpa() != null) {
-            _hashCode += getTargetCpa().hashCode();
-        }
-        if (getMaxCpcBidCeiling() != null) {
-            _hashCode += getMaxCpcBidCeiling().hashCode();
-        }
-        if (getMaxCpcBidFloor() != null) {
-            _hashCode += getMaxCpcBidFloor().hashCode();
+        try {
+            int _hashCode = super.hashCode();
+            if (getTargetCpa() != null) {
+                _hashCode += getTargetCpa().hashCode();
+            }
+            if (getMaxCpcBidCeiling() != null) {
+                _hashCode += getMaxCpcBidCeiling().hashCode();
+            }
+            if (getMaxCpcBidFloor() != null) {
+                _hashCode += getMaxCpcBidFloor().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(TargetCpaBiddingScheme.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(TargetCpaBiddingScheme.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://adwords.google.com/api/adwords/cm/v201607", "TargetCpaBiddingScheme"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("targetCpa");
@@ -226,13 +231,24 @@ public class TargetCpaBiddingScheme  extends com.google.api.ads.adwords.axis.v20
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (TargetCpaBiddingScheme.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -244,7 +260,7 @@ public class TargetCpaBiddingScheme  extends com.google.api.ads.adwords.axis.v20
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -256,7 +272,7 @@ public class TargetCpaBiddingScheme  extends com.google.api.ads.adwords.axis.v20
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
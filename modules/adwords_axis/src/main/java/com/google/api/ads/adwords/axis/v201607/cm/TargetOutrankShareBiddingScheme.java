@@ -210,68 +210,73 @@ public class TargetOutrankShareBiddingScheme  extends com.google.api.ads.adwords
         this.raiseBidWhenLowQualityScore = raiseBidWhenLowQualityScore;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof TargetOutrankShareBiddingScheme)) return false;
         TargetOutrankShareBiddingScheme other = (TargetOutrankShareBiddingScheme) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(TargetOutrankShareBiddingScheme.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = super.equals(obj) && 
-            ((this.targetOutrankShare==null && other.getTargetOutrankShare()==null) || 
-             (this.targetOutrankShare!=null &&
-              this.targetOutrankShare.equals(other.getTargetOutrankShare()))) &&
-            ((this.competitorDomain==null && other.getCompetitorDomain()==null) || 
-             (this.competitorDomain!=null &&
-              this.competitorDomain.equals(other.getCompetitorDomain()))) &&
-            ((this.maxCpcBidCeiling==null && other.getMaxCpcBidCeiling()==null) || 
-             (this.maxCpcBidCeiling!=null &&
-              this.maxCpcBidCeiling.equals(other.getMaxCpcBidCeiling()))) &&
-            ((this.bidChangesForRaisesOnly==null && other.getBidChangesForRaisesOnly()==null) || 
-             (this.bidChangesForRaisesOnly!=null &&
-              this.bidChangesForRaisesOnly.equals(other.getBidChangesForRaisesOnly()))) &&
-            ((this.raiseBidWhenLowQualityScore==null && other.getRaiseBidWhenLowQualityScore()==null) || 
-             (this.raiseBidWhenLowQualityScore!=null &&
-              this.raiseBidWhenLowQualityScore.equals(other.getRaiseBidWhenLowQualityScore())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = super.equals(obj) && 
+                ((this.targetOutrankShare==null && other.getTargetOutrankShare()==null) || 
+                 (this.targetOutrankShare!=null &&
+                  this.targetOutrankShare.equals(other.getTargetOutrankShare()))) &&
+                ((this.competitorDomain==null && other.getCompetitorDomain()==null) || 
+                 (this.competitorDomain!=null &&
+                  this.competitorDomain.equals(other.getCompetitorDomain()))) &&
+                ((this.maxCpcBidCeiling==null && other.getMaxCpcBidCeiling()==null) || 
+                 (this.maxCpcBidCeiling!=null &&
+                  this.maxCpcBidCeiling.equals(other.getMaxCpcBidCeiling()))) &&
+                ((this.bidChangesForRaisesOnly==null && other.getBidChangesForRaisesOnly()==null) || 
+                 (this.bidChangesForRaisesOnly!=null &&
+                  this.bidChangesForRaisesOnly.equals(other.getBidChangesForRaisesOnly()))) &&
+                ((this.raiseBidWhenLowQualityScore==null && other.getRaiseBidWhenLowQualityScore()==null) || 
+                 (this.raiseBidWhenLowQualityScore!=null &&
+                  this.raiseBidWhenLowQualityScore.equals(other.getRaiseBidWhenLowQualityScore())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(TargetOutrankShareBiddingScheme.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = super.hashCode();
-        if (getTargetOutrankShare() != null) {
-            _hashCode += getTargetOutrankShare().hashCode();
-        }
-        if (getCompetitorDomain() != null) {
-            _hashCode += getCompetitorDomain().hashCode();
-        }
-        if (getMaxCpcBidCeiling() != null) {
-            _hashCode += getMaxCpcBidCeiling().hashCode();
-        }
-        if (getBidChangesForRaisesOnly() != null) {
-            _hashCode += getBidChangesForRaisesOnly().hashCode();
+        try {
+            int _hashCode = super.hashCode();
+            if (getTargetOutrankShare() != null) {
+                _hashCode += getTargetOutrankShare().hashCode();
+            }
+            if (getCompetitorDomain() != null) {
+                _hashCode += getCompetitorDomain().hashCode();
+            }
+            if (getMaxCpcBidCeiling() != null) {
+                _hashCode += getMaxCpcBidCeiling().hashCode();
+            }
+            if (getBidChangesForRaisesOnly() != null) {
+                _hashCode += getBidChangesForRaisesOnly().hashCode();
+            }
+            if (getRaiseBidWhenLowQualityScore() != null) {
+                _hashCode += getRaiseBidWhenLowQualityScore().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        if (getRaiseBidWhenLowQualityScore() != null) {
-            _hashCode += getRaiseBidWhenLowQualityScore().hashCode();
-        }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(TargetOutrankShareBiddingScheme.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(TargetOutrankShareBiddingScheme.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://adwords.google.com/api/adwords/cm/v201607", "TargetOutrankShareBiddingScheme"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("targetOutrankShare");
@@ -308,13 +313,24 @@ public class TargetOutrankShareBiddingScheme  extends com.google.api.ads.adwords
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (TargetOutrankShareBiddingScheme.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -326,7 +342,7 @@ public class TargetOutrankShareBiddingScheme  extends com.google.api.ads.adwords
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -338,7 +354,7 @@ public class TargetOutrankShareBiddingScheme  extends com.google.api.ads.adwords
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
@@ -127,50 +127,55 @@ public class TargetingSettingDetail  implements java.io.Serializable {
         this.targetAll = targetAll;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof TargetingSettingDetail)) return false;
         TargetingSettingDetail other = (TargetingSettingDetail) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(TargetingSettingDetail.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = true && 
-            ((this.criterionTypeGroup==null && other.getCriterionTypeGroup()==null) || 
-             (this.criterionTypeGroup!=null &&
-              this.criterionTypeGroup.equals(other.getCriterionTypeGroup()))) &&
-            ((this.targetAll==null && other.getTargetAll()==null) || 
-             (this.targetAll!=null &&
-              this.targetAll.equals(other.getTargetAll())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = true && 
+                ((this.criterionTypeGroup==null && other.getCriterionTypeGroup()==null) || 
+                 (this.criterionTypeGroup!=null &&
+                  this.criterionTypeGroup.equals(other.getCriterionTypeGroup()))) &&
+                ((this.targetAll==null && other.getTargetAll()==null) || 
+                 (this.targetAll!=null &&
+                  this.targetAll.equals(other.getTargetAll())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(TargetingSettingDetail.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getCriterionTypeGroup() != null) {
-            _hashCode += getCriterionTypeGroup().hashCode();
-        }
-        if (getTargetAll() != null) {
-            _hashCode += getTargetAll().hashCode();
+        try {
+            int _hashCode = 1;
+            if (getCriterionTypeGroup() != null) {
+                _hashCode += getCriterionTypeGroup().hashCode();
+            }
+            if (getTargetAll() != null) {
+                _hashCode += getTargetAll().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(TargetingSettingDetail.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(TargetingSettingDetail.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://adwords.google.com/api/adwords/cm/v201607", "TargetingSettingDetail"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("criterionTypeGroup");
@@ -186,13 +191,24 @@ public class TargetingSettingDetail  implements java.io.Serializable {
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (TargetingSettingDetail.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -204,7 +220,7 @@ public class TargetingSettingDetail  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -216,7 +232,7 @@ public class TargetingSettingDetail  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
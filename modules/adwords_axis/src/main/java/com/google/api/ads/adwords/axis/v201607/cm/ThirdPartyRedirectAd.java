@@ -255,84 +255,89 @@ public class ThirdPartyRedirectAd  extends com.google.api.ads.adwords.axis.v2016
         this.expandingDirections[i] = _value;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof ThirdPartyRedirectAd)) return false;
         ThirdPartyRedirectAd other = (ThirdPartyRedirectAd) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(ThirdPartyRedirectAd.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = super.equals(obj) && 
-            ((this.isCookieTargeted==null && other.getIsCookieTargeted()==null) || 
-             (this.isCookieTargeted!=null &&
-              this.isCookieTargeted.equals(other.getIsCookieTargeted()))) &&
-            ((this.isUserInterestTargeted==null && other.getIsUserInterestTargeted()==null) || 
-             (this.isUserInterestTargeted!=null &&
-              this.isUserInterestTargeted.equals(other.getIsUserInterestTargeted()))) &&
-            ((this.isTagged==null && other.getIsTagged()==null) || 
-             (this.isTagged!=null &&
-              this.isTagged.equals(other.getIsTagged()))) &&
-            ((this.videoTypes==null && other.getVideoTypes()==null) || 
-             (this.videoTypes!=null &&
-              java.util.Arrays.equals(this.videoTypes, other.getVideoTypes()))) &&
-            ((this.expandingDirections==null && other.getExpandingDirections()==null) || 
-             (this.expandingDirections!=null &&
-              java.util.Arrays.equals(this.expandingDirections, other.getExpandingDirections())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = super.equals(obj) && 
+                ((this.isCookieTargeted==null && other.getIsCookieTargeted()==null) || 
+                 (this.isCookieTargeted!=null &&
+                  this.isCookieTargeted.equals(other.getIsCookieTargeted()))) &&
+                ((this.isUserInterestTargeted==null && other.getIsUserInterestTargeted()==null) || 
+                 (this.isUserInterestTargeted!=null &&
+                  this.isUserInterestTargeted.equals(other.getIsUserInterestTargeted()))) &&
+                ((this.isTagged==null && other.getIsTagged()==null) || 
+                 (this.isTagged!=null &&
+                  this.isTagged.equals(other.getIsTagged()))) &&
+                ((this.videoTypes==null && other.getVideoTypes()==null) || 
+                 (this.videoTypes!=null &&
+                  java.util.Arrays.equals(this.videoTypes, other.getVideoTypes()))) &&
+                ((this.expandingDirections==null && other.getExpandingDirections()==null) || 
+                 (this.expandingDirections!=null &&
+                  java.util.Arrays.equals(this.expandingDirections, other.getExpandingDirections())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(ThirdPartyRedirectAd.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = super.hashCode();
-        if (getIsCookieTargeted() != null) {
-            _hashCode += getIsCookieTargeted().hashCode();
-        }
-        if (getIsUserInterestTargeted() != null) {
-            _hashCode += getIsUserInterestTargeted().hashCode();
-        }
-        if (getIsTagged() != null) {
-            _hashCode += getIsTagged().hashCode();
-        }
-        if (getVideoTypes() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getVideoTypes());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getVideoTypes(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+        try {
+            int _hashCode = super.hashCode();
+            if (getIsCookieTargeted() != null) {
+                _hashCode += getIsCookieTargeted().hashCode();
+            }
+            if (getIsUserInterestTargeted() != null) {
+                _hashCode += getIsUserInterestTargeted().hashCode();
+            }
+            if (getIsTagged() != null) {
+                _hashCode += getIsTagged().hashCode();
+            }
+            if (getVideoTypes() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getVideoTypes());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getVideoTypes(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
-        }
-        if (getExpandingDirections() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getExpandingDirections());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getExpandingDirections(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+            if (getExpandingDirections() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getExpandingDirections());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getExpandingDirections(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(ThirdPartyRedirectAd.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(ThirdPartyRedirectAd.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://adwords.google.com/api/adwords/cm/v201607", "ThirdPartyRedirectAd"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("isCookieTargeted");
@@ -371,13 +376,24 @@ public class ThirdPartyRedirectAd  extends com.google.api.ads.adwords.axis.v2016
         elemField.setNillable(false);
         elemField.setMaxOccursUnbounded(true);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (ThirdPartyRedirectAd.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -389,7 +405,7 @@ public class ThirdPartyRedirectAd  extends com.google.api.ads.adwords.axis.v2016
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -401,7 +417,7 @@ public class ThirdPartyRedirectAd  extends com.google.api.ads.adwords.axis.v2016
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
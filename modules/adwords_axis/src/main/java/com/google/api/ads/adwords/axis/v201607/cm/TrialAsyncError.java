@@ -282,74 +282,79 @@ public class TrialAsyncError  implements java.io.Serializable {
         this.baseAdGroupId = baseAdGroupId;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof TrialAsyncError)) return false;
         TrialAsyncError other = (TrialAsyncError) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(TrialAsyncError.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = true && 
-            ((this.trialId==null && other.getTrialId()==null) || 
-             (this.trialId!=null &&
-              this.trialId.equals(other.getTrialId()))) &&
-            ((this.asyncError==null && other.getAsyncError()==null) || 
-             (this.asyncError!=null &&
-              this.asyncError.equals(other.getAsyncError()))) &&
-            ((this.trialCampaignId==null && other.getTrialCampaignId()==null) || 
-             (this.trialCampaignId!=null &&
-              this.trialCampaignId.equals(other.getTrialCampaignId()))) &&
-            ((this.trialAdGroupId==null && other.getTrialAdGroupId()==null) || 
-             (this.trialAdGroupId!=null &&
-              this.trialAdGroupId.equals(other.getTrialAdGroupId()))) &&
-            ((this.baseCampaignId==null && other.getBaseCampaignId()==null) || 
-             (this.baseCampaignId!=null &&
-              this.baseCampaignId.equals(other.getBaseCampaignId()))) &&
-            ((this.baseAdGroupId==null && other.getBaseAdGroupId()==null) || 
-             (this.baseAdGroupId!=null &&
-              this.baseAdGroupId.equals(other.getBaseAdGroupId())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = true && 
+                ((this.trialId==null && other.getTrialId()==null) || 
+                 (this.trialId!=null &&
+                  this.trialId.equals(other.getTrialId()))) &&
+                ((this.asyncError==null && other.getAsyncError()==null) || 
+                 (this.asyncError!=null &&
+                  this.asyncError.equals(other.getAsyncError()))) &&
+                ((this.trialCampaignId==null && other.getTrialCampaignId()==null) || 
+                 (this.trialCampaignId!=null &&
+                  this.trialCampaignId.equals(other.getTrialCampaignId()))) &&
+                ((this.trialAdGroupId==null && other.getTrialAdGroupId()==null) || 
+                 (this.trialAdGroupId!=null &&
+                  this.trialAdGroupId.equals(other.getTrialAdGroupId()))) &&
+                ((this.baseCampaignId==null && other.getBaseCampaignId()==null) || 
+                 (this.baseCampaignId!=null &&
+                  this.baseCampaignId.equals(other.getBaseCampaignId()))) &&
+                ((this.baseAdGroupId==null && other.getBaseAdGroupId()==null) || 
+                 (this.baseAdGroupId!=null &&
+                  this.baseAdGroupId.equals(other.getBaseAdGroupId())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(TrialAsyncError.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getTrialId() != null) {
-            _hashCode += getTrialId().hashCode();
-        }
-        if (getAsyncError() != null) {
-            _hashCode += getAsyncError().hashCode();
-        }
-        if (getTrialCampaignId() != null) {
-            _hashCode += getTrialCampaignId().hashCode();
-        }
-        if (getTrialAdGroupId() != null) {
-            _hashCode += getTrialAdGroupId().hashCode();
-        }
-        if (getBaseCampaignId() != null) {
-            _hashCode += getBaseCampaignId().hashCode();
+        try {
+            int _hashCode = 1;
+            if (getTrialId() != null) {
+                _hashCode += getTrialId().hashCode();
+            }
+            if (getAsyncError() != null) {
+                _hashCode += getAsyncError().hashCode();
+            }
+            if (getTrialCampaignId() != null) {
+                _hashCode += getTrialCampaignId().hashCode();
+            }
+            if (getTrialAdGroupId() != null) {
+                _hashCode += getTrialAdGroupId().hashCode();
+            }
+            if (getBaseCampaignId() != null) {
+                _hashCode += getBaseCampaignId().hashCode();
+            }
+            if (getBaseAdGroupId() != null) {
+                _hashCode += getBaseAdGroupId().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        if (getBaseAdGroupId() != null) {
-            _hashCode += getBaseAdGroupId().hashCode();
-        }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(TrialAsyncError.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(TrialAsyncError.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://adwords.google.com/api/adwords/cm/v201607", "TrialAsyncError"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("trialId");
@@ -393,13 +398,24 @@ public class TrialAsyncError  implements java.io.Serializable {
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (TrialAsyncError.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -411,7 +427,7 @@ public class TrialAsyncError  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -423,7 +439,7 @@ public class TrialAsyncError  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
@@ -88,50 +88,55 @@ public class VanityPharma  implements java.io.Serializable {
         this.vanityPharmaText = vanityPharmaText;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof VanityPharma)) return false;
         VanityPharma other = (VanityPharma) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(VanityPharma.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = true && 
-            ((this.vanityPharmaDisplayUrlMode==null && other.getVanityPharmaDisplayUrlMode()==null) || 
-             (this.vanityPharmaDisplayUrlMode!=null &&
-              this.vanityPharmaDisplayUrlMode.equals(other.getVanityPharmaDisplayUrlMode()))) &&
-            ((this.vanityPharmaText==null && other.getVanityPharmaText()==null) || 
-             (this.vanityPharmaText!=null &&
-              this.vanityPharmaText.equals(other.getVanityPharmaText())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = true && 
+                ((this.vanityPharmaDisplayUrlMode==null && other.getVanityPharmaDisplayUrlMode()==null) || 
+                 (this.vanityPharmaDisplayUrlMode!=null &&
+                  this.vanityPharmaDisplayUrlMode.equals(other.getVanityPharmaDisplayUrlMode()))) &&
+                ((this.vanityPharmaText==null && other.getVanityPharmaText()==null) || 
+                 (this.vanityPharmaText!=null &&
+                  this.vanityPharmaText.equals(other.getVanityPharmaText())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(VanityPharma.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getVanityPharmaDisplayUrlMode() != null) {
-            _hashCode += getVanityPharmaDisplayUrlMode().hashCode();
-        }
-        if (getVanityPharmaText() != null) {
-            _hashCode += getVanityPharmaText().hashCode();
+        try {
+            int _hashCode = 1;
+            if (getVanityPharmaDisplayUrlMode() != null) {
+                _hashCode += getVanityPharmaDisplayUrlMode().hashCode();
+            }
+            if (getVanityPharmaText() != null) {
+                _hashCode += getVanityPharmaText().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(VanityPharma.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(VanityPharma.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://adwords.google.com/api/adwords/cm/v201607", "VanityPharma"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("vanityPharmaDisplayUrlMode");
@@ -147,13 +152,24 @@ public class VanityPharma  implements java.io.Serializable {
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (VanityPharma.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -165,7 +181,7 @@ public class VanityPharma  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -177,7 +193,7 @@ public class VanityPharma  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
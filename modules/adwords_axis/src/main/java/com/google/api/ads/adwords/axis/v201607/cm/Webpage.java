@@ -158,64 +158,69 @@ public class Webpage  extends com.google.api.ads.adwords.axis.v201607.cm.Criteri
         this.criteriaSamples[i] = _value;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof Webpage)) return false;
         Webpage other = (Webpage) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(Webpage.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = super.equals(obj) && 
-            ((this.parameter==null && other.getParameter()==null) || 
-             (this.parameter!=null &&
-              this.parameter.equals(other.getParameter()))) &&
-            ((this.criteriaCoverage==null && other.getCriteriaCoverage()==null) || 
-             (this.criteriaCoverage!=null &&
-              this.criteriaCoverage.equals(other.getCriteriaCoverage()))) &&
-            ((this.criteriaSamples==null && other.getCriteriaSamples()==null) || 
-             (this.criteriaSamples!=null &&
-              java.util.Arrays.equals(this.criteriaSamples, other.getCriteriaSamples())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = super.equals(obj) && 
+                ((this.parameter==null && other.getParameter()==null) || 
+                 (this.parameter!=null &&
+                  this.parameter.equals(other.getParameter()))) &&
+                ((this.criteriaCoverage==null && other.getCriteriaCoverage()==null) || 
+                 (this.criteriaCoverage!=null &&
+                  this.criteriaCoverage.equals(other.getCriteriaCoverage()))) &&
+                ((this.criteriaSamples==null && other.getCriteriaSamples()==null) || 
+                 (this.criteriaSamples!=null &&
+                  java.util.Arrays.equals(this.criteriaSamples, other.getCriteriaSamples())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(Webpage.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = super.hashCode();
-        if (getParameter() != null) {
-            _hashCode += getParameter().hashCode();
-        }
-        if (getCriteriaCoverage() != null) {
-            _hashCode += getCriteriaCoverage().hashCode();
-        }
-        if (getCriteriaSamples() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getCriteriaSamples());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getCriteriaSamples(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+        try {
+            int _hashCode = super.hashCode();
+            if (getParameter() != null) {
+                _hashCode += getParameter().hashCode();
+            }
+            if (getCriteriaCoverage() != null) {
+                _hashCode += getCriteriaCoverage().hashCode();
+            }
+            if (getCriteriaSamples() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getCriteriaSamples());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getCriteriaSamples(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(Webpage.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(Webpage.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://adwords.google.com/api/adwords/cm/v201607", "Webpage"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("parameter");
@@ -239,13 +244,24 @@ public class Webpage  extends com.google.api.ads.adwords.axis.v201607.cm.Criteri
         elemField.setNillable(false);
         elemField.setMaxOccursUnbounded(true);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (Webpage.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -257,7 +273,7 @@ public class Webpage  extends com.google.api.ads.adwords.axis.v201607.cm.Criteri
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -269,7 +285,7 @@ public class Webpage  extends com.google.api.ads.adwords.axis.v201607.cm.Criteri
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
@@ -222,82 +222,87 @@ public class PolicyViolationError  extends com.google.api.ads.adwords.axis.v2016
         this.violatingParts[i] = _value;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof PolicyViolationError)) return false;
         PolicyViolationError other = (PolicyViolationError) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(PolicyViolationError.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = super.equals(obj) && 
-            ((this.key==null && other.getKey()==null) || 
-             (this.key!=null &&
-              this.key.equals(other.getKey()))) &&
-            ((this.externalPolicyName==null && other.getExternalPolicyName()==null) || 
-             (this.externalPolicyName!=null &&
-              this.externalPolicyName.equals(other.getExternalPolicyName()))) &&
-            ((this.externalPolicyUrl==null && other.getExternalPolicyUrl()==null) || 
-             (this.externalPolicyUrl!=null &&
-              this.externalPolicyUrl.equals(other.getExternalPolicyUrl()))) &&
-            ((this.externalPolicyDescription==null && other.getExternalPolicyDescription()==null) || 
-             (this.externalPolicyDescription!=null &&
-              this.externalPolicyDescription.equals(other.getExternalPolicyDescription()))) &&
-            ((this.isExemptable==null && other.getIsExemptable()==null) || 
-             (this.isExemptable!=null &&
-              this.isExemptable.equals(other.getIsExemptable()))) &&
-            ((this.violatingParts==null && other.getViolatingParts()==null) || 
-             (this.violatingParts!=null &&
-              java.util.Arrays.equals(this.violatingParts, other.getViolatingParts())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = super.equals(obj) && 
+                ((this.key==null && other.getKey()==null) || 
+                 (this.key!=null &&
+                  this.key.equals(other.getKey()))) &&
+                ((this.externalPolicyName==null && other.getExternalPolicyName()==null) || 
+                 (this.externalPolicyName!=null &&
+                  this.externalPolicyName.equals(other.getExternalPolicyName()))) &&
+                ((this.externalPolicyUrl==null && other.getExternalPolicyUrl()==null) || 
+                 (this.externalPolicyUrl!=null &&
+                  this.externalPolicyUrl.equals(other.getExternalPolicyUrl()))) &&
+                ((this.externalPolicyDescription==null && other.getExternalPolicyDescription()==null) || 
+                 (this.externalPolicyDescription!=null &&
+                  this.externalPolicyDescription.equals(other.getExternalPolicyDescription()))) &&
+                ((this.isExemptable==null && other.getIsExemptable()==null) || 
+                 (this.isExemptable!=null &&
+                  this.isExemptable.equals(other.getIsExemptable()))) &&
+                ((this.violatingParts==null && other.getViolatingParts()==null) || 
+                 (this.violatingParts!=null &&
+                  java.util.Arrays.equals(this.violatingParts, other.getViolatingParts())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(PolicyViolationError.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = super.hashCode();
-        if (getKey() != null) {
-            _hashCode += getKey().hashCode();
-        }
-        if (getExternalPolicyName() != null) {
-            _hashCode += getExternalPolicyName().hashCode();
-        }
-        if (getExternalPolicyUrl() != null) {
-            _hashCode += getExternalPolicyUrl().hashCode();
-        }
-        if (getExternalPolicyDescription() != null) {
-            _hashCode += getExternalPolicyDescription().hashCode();
-        }
-        if (getIsExemptable() != null) {
-            _hashCode += getIsExemptable().hashCode();
-        }
-        if (getViolatingParts() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getViolatingParts());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getViolatingParts(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+        try {
+            int _hashCode = super.hashCode();
+            if (getKey() != null) {
+                _hashCode += getKey().hashCode();
+            }
+            if (getExternalPolicyName() != null) {
+                _hashCode += getExternalPolicyName().hashCode();
+            }
+            if (getExternalPolicyUrl() != null) {
+                _hashCode += getExternalPolicyUrl().hashCode();
+            }
+            if (getExternalPolicyDescription() != null) {
+                _hashCode += getExternalPolicyDescription().hashCode();
+            }
+            if (getIsExemptable() != null) {
+                _hashCode += getIsExemptable().hashCode();
+            }
+            if (getViolatingParts() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getViolatingParts());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getViolatingParts(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(PolicyViolationError.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(PolicyViolationError.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://adwords.google.com/api/adwords/express/v201607", "PolicyViolationError"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("key");
@@ -342,13 +347,24 @@ public class PolicyViolationError  extends com.google.api.ads.adwords.axis.v2016
         elemField.setNillable(false);
         elemField.setMaxOccursUnbounded(true);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (PolicyViolationError.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -360,7 +376,7 @@ public class PolicyViolationError  extends com.google.api.ads.adwords.axis.v2016
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -372,7 +388,7 @@ public class PolicyViolationError  extends com.google.api.ads.adwords.axis.v2016
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
@@ -541,134 +541,139 @@ public class Promotion  implements java.io.Serializable {
         this.remainingBudget = remainingBudget;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof Promotion)) return false;
         Promotion other = (Promotion) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(Promotion.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = true && 
-            ((this.id==null && other.getId()==null) || 
-             (this.id!=null &&
-              this.id.equals(other.getId()))) &&
-            ((this.name==null && other.getName()==null) || 
-             (this.name!=null &&
-              this.name.equals(other.getName()))) &&
-            ((this.status==null && other.getStatus()==null) || 
-             (this.status!=null &&
-              this.status.equals(other.getStatus()))) &&
-            ((this.creatives==null && other.getCreatives()==null) || 
-             (this.creatives!=null &&
-              java.util.Arrays.equals(this.creatives, other.getCreatives()))) &&
-            ((this.destinationUrl==null && other.getDestinationUrl()==null) || 
-             (this.destinationUrl!=null &&
-              this.destinationUrl.equals(other.getDestinationUrl()))) &&
-            ((this.phoneNumber==null && other.getPhoneNumber()==null) || 
-             (this.phoneNumber!=null &&
-              this.phoneNumber.equals(other.getPhoneNumber()))) &&
-            ((this.streetAddressVisible==null && other.getStreetAddressVisible()==null) || 
-             (this.streetAddressVisible!=null &&
-              this.streetAddressVisible.equals(other.getStreetAddressVisible()))) &&
-            ((this.callTrackingEnabled==null && other.getCallTrackingEnabled()==null) || 
-             (this.callTrackingEnabled!=null &&
-              this.callTrackingEnabled.equals(other.getCallTrackingEnabled()))) &&
-            ((this.budget==null && other.getBudget()==null) || 
-             (this.budget!=null &&
-              this.budget.equals(other.getBudget()))) &&
-            ((this.criteria==null && other.getCriteria()==null) || 
-             (this.criteria!=null &&
-              java.util.Arrays.equals(this.criteria, other.getCriteria()))) &&
-            ((this.campaignIds==null && other.getCampaignIds()==null) || 
-             (this.campaignIds!=null &&
-              java.util.Arrays.equals(this.campaignIds, other.getCampaignIds()))) &&
-            ((this.remainingBudget==null && other.getRemainingBudget()==null) || 
-             (this.remainingBudget!=null &&
-              this.remainingBudget.equals(other.getRemainingBudget())));
-        __equalsCalc = null;
-        return _equals;
-    }
-
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
-            return 0;
-        }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getId() != null) {
-            _hashCode += getId().hashCode();
+        try {
+            boolean _equals;
+            _equals = true && 
+                ((this.id==null && other.getId()==null) || 
+                 (this.id!=null &&
+                  this.id.equals(other.getId()))) &&
+                ((this.name==null && other.getName()==null) || 
+                 (this.name!=null &&
+                  this.name.equals(other.getName()))) &&
+                ((this.status==null && other.getStatus()==null) || 
+                 (this.status!=null &&
+                  this.status.equals(other.getStatus()))) &&
+                ((this.creatives==null && other.getCreatives()==null) || 
+                 (this.creatives!=null &&
+                  java.util.Arrays.equals(this.creatives, other.getCreatives()))) &&
+                ((this.destinationUrl==null && other.getDestinationUrl()==null) || 
+                 (this.destinationUrl!=null &&
+                  this.destinationUrl.equals(other.getDestinationUrl()))) &&
+                ((this.phoneNumber==null && other.getPhoneNumber()==null) || 
+                 (this.phoneNumber!=null &&
+                  this.phoneNumber.equals(other.getPhoneNumber()))) &&
+                ((this.streetAddressVisible==null && other.getStreetAddressVisible()==null) || 
+                 (this.streetAddressVisible!=null &&
+                  this.streetAddressVisible.equals(other.getStreetAddressVisible()))) &&
+                ((this.callTrackingEnabled==null && other.getCallTrackingEnabled()==null) || 
+                 (this.callTrackingEnabled!=null &&
+                  this.callTrackingEnabled.equals(other.getCallTrackingEnabled()))) &&
+                ((this.budget==null && other.getBudget()==null) || 
+                 (this.budget!=null &&
+                  this.budget.equals(other.getBudget()))) &&
+                ((this.criteria==null && other.getCriteria()==null) || 
+                 (this.criteria!=null &&
+                  java.util.Arrays.equals(this.criteria, other.getCriteria()))) &&
+                ((this.campaignIds==null && other.getCampaignIds()==null) || 
+                 (this.campaignIds!=null &&
+                  java.util.Arrays.equals(this.campaignIds, other.getCampaignIds()))) &&
+                ((this.remainingBudget==null && other.getRemainingBudget()==null) || 
+                 (this.remainingBudget!=null &&
+                  this.remainingBudget.equals(other.getRemainingBudget())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
         }
-        if (getName() != null) {
-            _hashCode += getName().hashCode();
-        }
-        if (getStatus() != null) {
-            _hashCode += getStatus().hashCode();
+    }
+
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(Promotion.class, this)) {
+            return 0;
         }
-        if (getCreatives() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getCreatives());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getCreatives(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+        try {
+            int _hashCode = 1;
+            if (getId() != null) {
+                _hashCode += getId().hashCode();
+            }
+            if (getName() != null) {
+                _hashCode += getName().hashCode();
+            }
+            if (getStatus() != null) {
+                _hashCode += getStatus().hashCode();
+            }
+            if (getCreatives() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getCreatives());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getCreatives(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
-        }
-        if (getDestinationUrl() != null) {
-            _hashCode += getDestinationUrl().hashCode();
-        }
-        if (getPhoneNumber() != null) {
-            _hashCode += getPhoneNumber().hashCode();
-        }
-        if (getStreetAddressVisible() != null) {
-            _hashCode += getStreetAddressVisible().hashCode();
-        }
-        if (getCallTrackingEnabled() != null) {
-            _hashCode += getCallTrackingEnabled().hashCode();
-        }
-        if (getBudget() != null) {
-            _hashCode += getBudget().hashCode();
-        }
-        if (getCriteria() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getCriteria());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getCriteria(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+            if (getDestinationUrl() != null) {
+                _hashCode += getDestinationUrl().hashCode();
+            }
+            if (getPhoneNumber() != null) {
+                _hashCode += getPhoneNumber().hashCode();
+            }
+            if (getStreetAddressVisible() != null) {
+                _hashCode += getStreetAddressVisible().hashCode();
+            }
+            if (getCallTrackingEnabled() != null) {
+                _hashCode += getCallTrackingEnabled().hashCode();
+            }
+            if (getBudget() != null) {
+                _hashCode += getBudget().hashCode();
+            }
+            if (getCriteria() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getCriteria());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getCriteria(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
-        }
-        if (getCampaignIds() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getCampaignIds());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getCampaignIds(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+            if (getCampaignIds() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getCampaignIds());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getCampaignIds(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
+            if (getRemainingBudget() != null) {
+                _hashCode += getRemainingBudget().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        if (getRemainingBudget() != null) {
-            _hashCode += getRemainingBudget().hashCode();
-        }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(Promotion.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(Promotion.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://adwords.google.com/api/adwords/express/v201607", "Promotion"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("id");
@@ -757,13 +762,24 @@ public class Promotion  implements java.io.Serializable {
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (Promotion.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -775,7 +791,7 @@ public class Promotion  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -787,7 +803,7 @@ public class Promotion  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
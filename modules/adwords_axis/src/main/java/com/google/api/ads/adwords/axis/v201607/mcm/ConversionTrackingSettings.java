@@ -253,62 +253,67 @@ public class ConversionTrackingSettings  implements java.io.Serializable {
         this.optimizeOnEstimatedConversions = optimizeOnEstimatedConversions;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof ConversionTrackingSettings)) return false;
         ConversionTrackingSettings other = (ConversionTrackingSettings) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(ConversionTrackingSettings.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = true && 
-            ((this.conversionOptimizerMode==null && other.getConversionOptimizerMode()==null) || 
-             (this.conversionOptimizerMode!=null &&
-              this.conversionOptimizerMode.equals(other.getConversionOptimizerMode()))) &&
-            ((this.effectiveConversionTrackingId==null && other.getEffectiveConversionTrackingId()==null) || 
-             (this.effectiveConversionTrackingId!=null &&
-              this.effectiveConversionTrackingId.equals(other.getEffectiveConversionTrackingId()))) &&
-            ((this.usesCrossAccountConversionTracking==null && other.getUsesCrossAccountConversionTracking()==null) || 
-             (this.usesCrossAccountConversionTracking!=null &&
-              this.usesCrossAccountConversionTracking.equals(other.getUsesCrossAccountConversionTracking()))) &&
-            ((this.optimizeOnEstimatedConversions==null && other.getOptimizeOnEstimatedConversions()==null) || 
-             (this.optimizeOnEstimatedConversions!=null &&
-              this.optimizeOnEstimatedConversions.equals(other.getOptimizeOnEstimatedConversions())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = true && 
+                ((this.conversionOptimizerMode==null && other.getConversionOptimizerMode()==null) || 
+                 (this.conversionOptimizerMode!=null &&
+                  this.conversionOptimizerMode.equals(other.getConversionOptimizerMode()))) &&
+                ((this.effectiveConversionTrackingId==null && other.getEffectiveConversionTrackingId()==null) || 
+                 (this.effectiveConversionTrackingId!=null &&
+                  this.effectiveConversionTrackingId.equals(other.getEffectiveConversionTrackingId()))) &&
+                ((this.usesCrossAccountConversionTracking==null && other.getUsesCrossAccountConversionTracking()==null) || 
+                 (this.usesCrossAccountConversionTracking!=null &&
+                  this.usesCrossAccountConversionTracking.equals(other.getUsesCrossAccountConversionTracking()))) &&
+                ((this.optimizeOnEstimatedConversions==null && other.getOptimizeOnEstimatedConversions()==null) || 
+                 (this.optimizeOnEstimatedConversions!=null &&
+                  this.optimizeOnEstimatedConversions.equals(other.getOptimizeOnEstimatedConversions())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(ConversionTrackingSettings.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getConversionOptimizerMode() != null) {
-            _hashCode += getConversionOptimizerMode().hashCode();
-        }
-        if (getEffectiveConversionTrackingId() != null) {
-            _hashCode += getEffectiveConversionTrackingId().hashCode();
-        }
-        if (getUsesCrossAccountConversionTracking() != null) {
-            _hashCode += getUsesCrossAccountConversionTracking().hashCode();
-        }
-        if (getOptimizeOnEstimatedConversions() != null) {
-            _hashCode += getOptimizeOnEstimatedConversions().hashCode();
+        try {
+            int _hashCode = 1;
+            if (getConversionOptimizerMode() != null) {
+                _hashCode += getConversionOptimizerMode().hashCode();
+            }
+            if (getEffectiveConversionTrackingId() != null) {
+                _hashCode += getEffectiveConversionTrackingId().hashCode();
+            }
+            if (getUsesCrossAccountConversionTracking() != null) {
+                _hashCode += getUsesCrossAccountConversionTracking().hashCode();
+            }
+            if (getOptimizeOnEstimatedConversions() != null) {
+                _hashCode += getOptimizeOnEstimatedConversions().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(ConversionTrackingSettings.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(ConversionTrackingSettings.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://adwords.google.com/api/adwords/mcm/v201607", "ConversionTrackingSettings"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("conversionOptimizerMode");
@@ -338,13 +343,24 @@ public class ConversionTrackingSettings  implements java.io.Serializable {
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (ConversionTrackingSettings.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -356,7 +372,7 @@ public class ConversionTrackingSettings  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -368,7 +384,7 @@ public class ConversionTrackingSettings  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
@@ -181,68 +181,73 @@ public class ManagedCustomerLink  implements java.io.Serializable {
         this.isHidden = isHidden;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof ManagedCustomerLink)) return false;
         ManagedCustomerLink other = (ManagedCustomerLink) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(ManagedCustomerLink.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = true && 
-            ((this.managerCustomerId==null && other.getManagerCustomerId()==null) || 
-             (this.managerCustomerId!=null &&
-              this.managerCustomerId.equals(other.getManagerCustomerId()))) &&
-            ((this.clientCustomerId==null && other.getClientCustomerId()==null) || 
-             (this.clientCustomerId!=null &&
-              this.clientCustomerId.equals(other.getClientCustomerId()))) &&
-            ((this.linkStatus==null && other.getLinkStatus()==null) || 
-             (this.linkStatus!=null &&
-              this.linkStatus.equals(other.getLinkStatus()))) &&
-            ((this.pendingDescriptiveName==null && other.getPendingDescriptiveName()==null) || 
-             (this.pendingDescriptiveName!=null &&
-              this.pendingDescriptiveName.equals(other.getPendingDescriptiveName()))) &&
-            ((this.isHidden==null && other.getIsHidden()==null) || 
-             (this.isHidden!=null &&
-              this.isHidden.equals(other.getIsHidden())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = true && 
+                ((this.managerCustomerId==null && other.getManagerCustomerId()==null) || 
+                 (this.managerCustomerId!=null &&
+                  this.managerCustomerId.equals(other.getManagerCustomerId()))) &&
+                ((this.clientCustomerId==null && other.getClientCustomerId()==null) || 
+                 (this.clientCustomerId!=null &&
+                  this.clientCustomerId.equals(other.getClientCustomerId()))) &&
+                ((this.linkStatus==null && other.getLinkStatus()==null) || 
+                 (this.linkStatus!=null &&
+                  this.linkStatus.equals(other.getLinkStatus()))) &&
+                ((this.pendingDescriptiveName==null && other.getPendingDescriptiveName()==null) || 
+                 (this.pendingDescriptiveName!=null &&
+                  this.pendingDescriptiveName.equals(other.getPendingDescriptiveName()))) &&
+                ((this.isHidden==null && other.getIsHidden()==null) || 
+                 (this.isHidden!=null &&
+                  this.isHidden.equals(other.getIsHidden())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(ManagedCustomerLink.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getManagerCustomerId() != null) {
-            _hashCode += getManagerCustomerId().hashCode();
-        }
-        if (getClientCustomerId() != null) {
-            _hashCode += getClientCustomerId().hashCode();
-        }
-        if (getLinkStatus() != null) {
-            _hashCode += getLinkStatus().hashCode();
-        }
-        if (getPendingDescriptiveName() != null) {
-            _hashCode += getPendingDescriptiveName().hashCode();
+        try {
+            int _hashCode = 1;
+            if (getManagerCustomerId() != null) {
+                _hashCode += getManagerCustomerId().hashCode();
+            }
+            if (getClientCustomerId() != null) {
+                _hashCode += getClientCustomerId().hashCode();
+            }
+            if (getLinkStatus() != null) {
+                _hashCode += getLinkStatus().hashCode();
+            }
+            if (getPendingDescriptiveName() != null) {
+                _hashCode += getPendingDescriptiveName().hashCode();
+            }
+            if (getIsHidden() != null) {
+                _hashCode += getIsHidden().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        if (getIsHidden() != null) {
-            _hashCode += getIsHidden().hashCode();
-        }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(ManagedCustomerLink.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(ManagedCustomerLink.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://adwords.google.com/api/adwords/mcm/v201607", "ManagedCustomerLink"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("managerCustomerId");
@@ -279,13 +284,24 @@ public class ManagedCustomerLink  implements java.io.Serializable {
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (ManagedCustomerLink.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -297,7 +313,7 @@ public class ManagedCustomerLink  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -309,7 +325,7 @@ public class ManagedCustomerLink  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
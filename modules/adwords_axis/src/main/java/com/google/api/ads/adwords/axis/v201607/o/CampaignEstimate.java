@@ -144,72 +144,77 @@ public class CampaignEstimate  extends com.google.api.ads.adwords.axis.v201607.o
         this.platformEstimates[i] = _value;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof CampaignEstimate)) return false;
         CampaignEstimate other = (CampaignEstimate) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(CampaignEstimate.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = super.equals(obj) && 
-            ((this.campaignId==null && other.getCampaignId()==null) || 
-             (this.campaignId!=null &&
-              this.campaignId.equals(other.getCampaignId()))) &&
-            ((this.adGroupEstimates==null && other.getAdGroupEstimates()==null) || 
-             (this.adGroupEstimates!=null &&
-              java.util.Arrays.equals(this.adGroupEstimates, other.getAdGroupEstimates()))) &&
-            ((this.platformEstimates==null && other.getPlatformEstimates()==null) || 
-             (this.platformEstimates!=null &&
-              java.util.Arrays.equals(this.platformEstimates, other.getPlatformEstimates())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = super.equals(obj) && 
+                ((this.campaignId==null && other.getCampaignId()==null) || 
+                 (this.campaignId!=null &&
+                  this.campaignId.equals(other.getCampaignId()))) &&
+                ((this.adGroupEstimates==null && other.getAdGroupEstimates()==null) || 
+                 (this.adGroupEstimates!=null &&
+                  java.util.Arrays.equals(this.adGroupEstimates, other.getAdGroupEstimates()))) &&
+                ((this.platformEstimates==null && other.getPlatformEstimates()==null) || 
+                 (this.platformEstimates!=null &&
+                  java.util.Arrays.equals(this.platformEstimates, other.getPlatformEstimates())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(CampaignEstimate.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = super.hashCode();
-        if (getCampaignId() != null) {
-            _hashCode += getCampaignId().hashCode();
-        }
-        if (getAdGroupEstimates() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getAdGroupEstimates());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getAdGroupEstimates(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+        try {
+            int _hashCode = super.hashCode();
+            if (getCampaignId() != null) {
+                _hashCode += getCampaignId().hashCode();
+            }
+            if (getAdGroupEstimates() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getAdGroupEstimates());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getAdGroupEstimates(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
-        }
-        if (getPlatformEstimates() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getPlatformEstimates());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getPlatformEstimates(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+            if (getPlatformEstimates() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getPlatformEstimates());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getPlatformEstimates(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(CampaignEstimate.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(CampaignEstimate.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://adwords.google.com/api/adwords/o/v201607", "CampaignEstimate"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("campaignId");
@@ -234,13 +239,24 @@ public class CampaignEstimate  extends com.google.api.ads.adwords.axis.v201607.o
         elemField.setNillable(false);
         elemField.setMaxOccursUnbounded(true);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (CampaignEstimate.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -252,7 +268,7 @@ public class CampaignEstimate  extends com.google.api.ads.adwords.axis.v201607.o
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -264,7 +280,7 @@ public class CampaignEstimate  extends com.google.api.ads.adwords.axis.v201607.o
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
@@ -113,56 +113,61 @@ public class PlatformCampaignEstimate  implements java.io.Serializable {
         this.maxEstimate = maxEstimate;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof PlatformCampaignEstimate)) return false;
         PlatformCampaignEstimate other = (PlatformCampaignEstimate) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(PlatformCampaignEstimate.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = true && 
-            ((this.platform==null && other.getPlatform()==null) || 
-             (this.platform!=null &&
-              this.platform.equals(other.getPlatform()))) &&
-            ((this.minEstimate==null && other.getMinEstimate()==null) || 
-             (this.minEstimate!=null &&
-              this.minEstimate.equals(other.getMinEstimate()))) &&
-            ((this.maxEstimate==null && other.getMaxEstimate()==null) || 
-             (this.maxEstimate!=null &&
-              this.maxEstimate.equals(other.getMaxEstimate())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = true && 
+                ((this.platform==null && other.getPlatform()==null) || 
+                 (this.platform!=null &&
+                  this.platform.equals(other.getPlatform()))) &&
+                ((this.minEstimate==null && other.getMinEstimate()==null) || 
+                 (this.minEstimate!=null &&
+                  this.minEstimate.equals(other.getMinEstimate()))) &&
+                ((this.maxEstimate==null && other.getMaxEstimate()==null) || 
+                 (this.maxEstimate!=null &&
+                  this.maxEstimate.equals(other.getMaxEstimate())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(PlatformCampaignEstimate.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getPlatform() != null) {
-            _hashCode += getPlatform().hashCode();
-        }
-        if (getMinEstimate() != null) {
-            _hashCode += getMinEstimate().hashCode();
-        }
-        if (getMaxEstimate() != null) {
-            _hashCode += getMaxEstimate().hashCode();
+        try {
+            int _hashCode = 1;
+            if (getPlatform() != null) {
+                _hashCode += getPlatform().hashCode();
+            }
+            if (getMinEstimate() != null) {
+                _hashCode += getMinEstimate().hashCode();
+            }
+            if (getMaxEstimate() != null) {
+                _hashCode += getMaxEstimate().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(PlatformCampaignEstimate.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(PlatformCampaignEstimate.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://adwords.google.com/api/adwords/o/v201607", "PlatformCampaignEstimate"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("platform");
@@ -185,13 +190,24 @@ public class PlatformCampaignEstimate  implements java.io.Serializable {
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (PlatformCampaignEstimate.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -203,7 +219,7 @@ public class PlatformCampaignEstimate  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -215,7 +231,7 @@ public class PlatformCampaignEstimate  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
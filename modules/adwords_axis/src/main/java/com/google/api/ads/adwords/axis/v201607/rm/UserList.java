@@ -758,140 +758,145 @@ public class UserList  implements java.io.Serializable {
         this.userListType = userListType;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof UserList)) return false;
         UserList other = (UserList) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(UserList.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = true && 
-            ((this.id==null && other.getId()==null) || 
-             (this.id!=null &&
-              this.id.equals(other.getId()))) &&
-            ((this.isReadOnly==null && other.getIsReadOnly()==null) || 
-             (this.isReadOnly!=null &&
-              this.isReadOnly.equals(other.getIsReadOnly()))) &&
-            ((this.name==null && other.getName()==null) || 
-             (this.name!=null &&
-              this.name.equals(other.getName()))) &&
-            ((this.description==null && other.getDescription()==null) || 
-             (this.description!=null &&
-              this.description.equals(other.getDescription()))) &&
-            ((this.status==null && other.getStatus()==null) || 
-             (this.status!=null &&
-              this.status.equals(other.getStatus()))) &&
-            ((this.integrationCode==null && other.getIntegrationCode()==null) || 
-             (this.integrationCode!=null &&
-              this.integrationCode.equals(other.getIntegrationCode()))) &&
-            ((this.accessReason==null && other.getAccessReason()==null) || 
-             (this.accessReason!=null &&
-              this.accessReason.equals(other.getAccessReason()))) &&
-            ((this.accountUserListStatus==null && other.getAccountUserListStatus()==null) || 
-             (this.accountUserListStatus!=null &&
-              this.accountUserListStatus.equals(other.getAccountUserListStatus()))) &&
-            ((this.membershipLifeSpan==null && other.getMembershipLifeSpan()==null) || 
-             (this.membershipLifeSpan!=null &&
-              this.membershipLifeSpan.equals(other.getMembershipLifeSpan()))) &&
-            ((this.size==null && other.getSize()==null) || 
-             (this.size!=null &&
-              this.size.equals(other.getSize()))) &&
-            ((this.sizeRange==null && other.getSizeRange()==null) || 
-             (this.sizeRange!=null &&
-              this.sizeRange.equals(other.getSizeRange()))) &&
-            ((this.sizeForSearch==null && other.getSizeForSearch()==null) || 
-             (this.sizeForSearch!=null &&
-              this.sizeForSearch.equals(other.getSizeForSearch()))) &&
-            ((this.sizeRangeForSearch==null && other.getSizeRangeForSearch()==null) || 
-             (this.sizeRangeForSearch!=null &&
-              this.sizeRangeForSearch.equals(other.getSizeRangeForSearch()))) &&
-            ((this.listType==null && other.getListType()==null) || 
-             (this.listType!=null &&
-              this.listType.equals(other.getListType()))) &&
-            ((this.isEligibleForSearch==null && other.getIsEligibleForSearch()==null) || 
-             (this.isEligibleForSearch!=null &&
-              this.isEligibleForSearch.equals(other.getIsEligibleForSearch()))) &&
-            ((this.isEligibleForDisplay==null && other.getIsEligibleForDisplay()==null) || 
-             (this.isEligibleForDisplay!=null &&
-              this.isEligibleForDisplay.equals(other.getIsEligibleForDisplay()))) &&
-            ((this.userListType==null && other.getUserListType()==null) || 
-             (this.userListType!=null &&
-              this.userListType.equals(other.getUserListType())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = true && 
+                ((this.id==null && other.getId()==null) || 
+                 (this.id!=null &&
+                  this.id.equals(other.getId()))) &&
+                ((this.isReadOnly==null && other.getIsReadOnly()==null) || 
+                 (this.isReadOnly!=null &&
+                  this.isReadOnly.equals(other.getIsReadOnly()))) &&
+                ((this.name==null && other.getName()==null) || 
+                 (this.name!=null &&
+                  this.name.equals(other.getName()))) &&
+                ((this.description==null && other.getDescription()==null) || 
+                 (this.description!=null &&
+                  this.description.equals(other.getDescription()))) &&
+                ((this.status==null && other.getStatus()==null) || 
+                 (this.status!=null &&
+                  this.status.equals(other.getStatus()))) &&
+                ((this.integrationCode==null && other.getIntegrationCode()==null) || 
+                 (this.integrationCode!=null &&
+                  this.integrationCode.equals(other.getIntegrationCode()))) &&
+                ((this.accessReason==null && other.getAccessReason()==null) || 
+                 (this.accessReason!=null &&
+                  this.accessReason.equals(other.getAccessReason()))) &&
+                ((this.accountUserListStatus==null && other.getAccountUserListStatus()==null) || 
+                 (this.accountUserListStatus!=null &&
+                  this.accountUserListStatus.equals(other.getAccountUserListStatus()))) &&
+                ((this.membershipLifeSpan==null && other.getMembershipLifeSpan()==null) || 
+                 (this.membershipLifeSpan!=null &&
+                  this.membershipLifeSpan.equals(other.getMembershipLifeSpan()))) &&
+                ((this.size==null && other.getSize()==null) || 
+                 (this.size!=null &&
+                  this.size.equals(other.getSize()))) &&
+                ((this.sizeRange==null && other.getSizeRange()==null) || 
+                 (this.sizeRange!=null &&
+                  this.sizeRange.equals(other.getSizeRange()))) &&
+                ((this.sizeForSearch==null && other.getSizeForSearch()==null) || 
+                 (this.sizeForSearch!=null &&
+                  this.sizeForSearch.equals(other.getSizeForSearch()))) &&
+                ((this.sizeRangeForSearch==null && other.getSizeRangeForSearch()==null) || 
+                 (this.sizeRangeForSearch!=null &&
+                  this.sizeRangeForSearch.equals(other.getSizeRangeForSearch()))) &&
+                ((this.listType==null && other.getListType()==null) || 
+                 (this.listType!=null &&
+                  this.listType.equals(other.getListType()))) &&
+                ((this.isEligibleForSearch==null && other.getIsEligibleForSearch()==null) || 
+                 (this.isEligibleForSearch!=null &&
+                  this.isEligibleForSearch.equals(other.getIsEligibleForSearch()))) &&
+                ((this.isEligibleForDisplay==null && other.getIsEligibleForDisplay()==null) || 
+                 (this.isEligibleForDisplay!=null &&
+                  this.isEligibleForDisplay.equals(other.getIsEligibleForDisplay()))) &&
+                ((this.userListType==null && other.getUserListType()==null) || 
+                 (this.userListType!=null &&
+                  this.userListType.equals(other.getUserListType())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(UserList.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getId() != null) {
-            _hashCode += getId().hashCode();
-        }
-        if (getIsReadOnly() != null) {
-            _hashCode += getIsReadOnly().hashCode();
-        }
-        if (getName() != null) {
-            _hashCode += getName().hashCode();
-        }
-        if (getDescription() != null) {
-            _hashCode += getDescription().hashCode();
-        }
-        if (getStatus() != null) {
-            _hashCode += getStatus().hashCode();
-        }
-        if (getIntegrationCode() != null) {
-            _hashCode += getIntegrationCode().hashCode();
-        }
-        if (getAccessReason() != null) {
-            _hashCode += getAccessReason().hashCode();
-        }
-        if (getAccountUserListStatus() != null) {
-            _hashCode += getAccountUserListStatus().hashCode();
-        }
-        if (getMembershipLifeSpan() != null) {
-            _hashCode += getMembershipLifeSpan().hashCode();
-        }
-        if (getSize() != null) {
-            _hashCode += getSize().hashCode();
+        try {
+            int _hashCode = 1;
+            if (getId() != null) {
+                _hashCode += getId().hashCode();
+            }
+            if (getIsReadOnly() != null) {
+                _hashCode += getIsReadOnly().hashCode();
+            }
+            if (getName() != null) {
+                _hashCode += getName().hashCode();
+            }
+            if (getDescription() != null) {
+                _hashCode += getDescription().hashCode();
+            }
+            if (getStatus() != null) {
+                _hashCode += getStatus().hashCode();
+            }
+            if (getIntegrationCode() != null) {
+                _hashCode += getIntegrationCode().hashCode();
+            }
+            if (getAccessReason() != null) {
+                _hashCode += getAccessReason().hashCode();
+            }
+            if (getAccountUserListStatus() != null) {
+                _hashCode += getAccountUserListStatus().hashCode();
+            }
+            if (getMembershipLifeSpan() != null) {
+                _hashCode += getMembershipLifeSpan().hashCode();
+            }
+            if (getSize() != null) {
+                _hashCode += getSize().hashCode();
+            }
+            if (getSizeRange() != null) {
+                _hashCode += getSizeRange().hashCode();
+            }
+            if (getSizeForSearch() != null) {
+                _hashCode += getSizeForSearch().hashCode();
+            }
+            if (getSizeRangeForSearch() != null) {
+                _hashCode += getSizeRangeForSearch().hashCode();
+            }
+            if (getListType() != null) {
+                _hashCode += getListType().hashCode();
+            }
+            if (getIsEligibleForSearch() != null) {
+                _hashCode += getIsEligibleForSearch().hashCode();
+            }
+            if (getIsEligibleForDisplay() != null) {
+                _hashCode += getIsEligibleForDisplay().hashCode();
+            }
+            if (getUserListType() != null) {
+                _hashCode += getUserListType().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        if (getSizeRange() != null) {
-            _hashCode += getSizeRange().hashCode();
-        }
-        if (getSizeForSearch() != null) {
-            _hashCode += getSizeForSearch().hashCode();
-        }
-        if (getSizeRangeForSearch() != null) {
-            _hashCode += getSizeRangeForSearch().hashCode();
-        }
-        if (getListType() != null) {
-            _hashCode += getListType().hashCode();
-        }
-        if (getIsEligibleForSearch() != null) {
-            _hashCode += getIsEligibleForSearch().hashCode();
-        }
-        if (getIsEligibleForDisplay() != null) {
-            _hashCode += getIsEligibleForDisplay().hashCode();
-        }
-        if (getUserListType() != null) {
-            _hashCode += getUserListType().hashCode();
-        }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(UserList.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(UserList.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://adwords.google.com/api/adwords/rm/v201607", "UserList"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("id");
@@ -1012,13 +1017,24 @@ public class UserList  implements java.io.Serializable {
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (UserList.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -1030,7 +1046,7 @@ public class UserList  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -1042,7 +1058,7 @@ public class UserList  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
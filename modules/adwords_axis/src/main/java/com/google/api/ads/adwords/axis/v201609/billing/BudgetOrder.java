@@ -712,110 +712,115 @@ public class BudgetOrder  implements java.io.Serializable {
         this.lastRequest = lastRequest;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof BudgetOrder)) return false;
         BudgetOrder other = (BudgetOrder) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(BudgetOrder.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = true && 
-            ((this.billingAccountId==null && other.getBillingAccountId()==null) || 
-             (this.billingAccountId!=null &&
-              this.billingAccountId.equals(other.getBillingAccountId()))) &&
-            ((this.id==null && other.getId()==null) || 
-             (this.id!=null &&
-              this.id.equals(other.getId()))) &&
-            ((this.billingAccountName==null && other.getBillingAccountName()==null) || 
-             (this.billingAccountName!=null &&
-              this.billingAccountName.equals(other.getBillingAccountName()))) &&
-            ((this.poNumber==null && other.getPoNumber()==null) || 
-             (this.poNumber!=null &&
-              this.poNumber.equals(other.getPoNumber()))) &&
-            ((this.budgetOrderName==null && other.getBudgetOrderName()==null) || 
-             (this.budgetOrderName!=null &&
-              this.budgetOrderName.equals(other.getBudgetOrderName()))) &&
-            ((this.primaryBillingId==null && other.getPrimaryBillingId()==null) || 
-             (this.primaryBillingId!=null &&
-              this.primaryBillingId.equals(other.getPrimaryBillingId()))) &&
-            ((this.secondaryBillingId==null && other.getSecondaryBillingId()==null) || 
-             (this.secondaryBillingId!=null &&
-              this.secondaryBillingId.equals(other.getSecondaryBillingId()))) &&
-            ((this.spendingLimit==null && other.getSpendingLimit()==null) || 
-             (this.spendingLimit!=null &&
-              this.spendingLimit.equals(other.getSpendingLimit()))) &&
-            ((this.totalAdjustments==null && other.getTotalAdjustments()==null) || 
-             (this.totalAdjustments!=null &&
-              this.totalAdjustments.equals(other.getTotalAdjustments()))) &&
-            ((this.startDateTime==null && other.getStartDateTime()==null) || 
-             (this.startDateTime!=null &&
-              this.startDateTime.equals(other.getStartDateTime()))) &&
-            ((this.endDateTime==null && other.getEndDateTime()==null) || 
-             (this.endDateTime!=null &&
-              this.endDateTime.equals(other.getEndDateTime()))) &&
-            ((this.lastRequest==null && other.getLastRequest()==null) || 
-             (this.lastRequest!=null &&
-              this.lastRequest.equals(other.getLastRequest())));
-        __equalsCalc = null;
-        return _equals;
-    }
-
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
-            return 0;
-        }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getBillingAccountId() != null) {
-            _hashCode += getBillingAccountId().hashCode();
-        }
-        if (getId() != null) {
-            _hashCode += getId().hashCode();
-        }
-        if (getBillingAccountName() != null) {
-            _hashCode += getBillingAccountName().hashCode();
-        }
-        if (getPoNumber() != null) {
-            _hashCode += getPoNumber().hashCode();
-        }
-        if (getBudgetOrderName() != null) {
-            _hashCode += getBudgetOrderName().hashCode();
-        }
-        if (getPrimaryBillingId() != null) {
-            _hashCode += getPrimaryBillingId().hashCode();
-        }
-        if (getSecondaryBillingId() != null) {
-            _hashCode += getSecondaryBillingId().hashCode();
-        }
-        if (getSpendingLimit() != null) {
-            _hashCode += getSpendingLimit().hashCode();
+        try {
+            boolean _equals;
+            _equals = true && 
+                ((this.billingAccountId==null && other.getBillingAccountId()==null) || 
+                 (this.billingAccountId!=null &&
+                  this.billingAccountId.equals(other.getBillingAccountId()))) &&
+                ((this.id==null && other.getId()==null) || 
+                 (this.id!=null &&
+                  this.id.equals(other.getId()))) &&
+                ((this.billingAccountName==null && other.getBillingAccountName()==null) || 
+                 (this.billingAccountName!=null &&
+                  this.billingAccountName.equals(other.getBillingAccountName()))) &&
+                ((this.poNumber==null && other.getPoNumber()==null) || 
+                 (this.poNumber!=null &&
+                  this.poNumber.equals(other.getPoNumber()))) &&
+                ((this.budgetOrderName==null && other.getBudgetOrderName()==null) || 
+                 (this.budgetOrderName!=null &&
+                  this.budgetOrderName.equals(other.getBudgetOrderName()))) &&
+                ((this.primaryBillingId==null && other.getPrimaryBillingId()==null) || 
+                 (this.primaryBillingId!=null &&
+                  this.primaryBillingId.equals(other.getPrimaryBillingId()))) &&
+                ((this.secondaryBillingId==null && other.getSecondaryBillingId()==null) || 
+                 (this.secondaryBillingId!=null &&
+                  this.secondaryBillingId.equals(other.getSecondaryBillingId()))) &&
+                ((this.spendingLimit==null && other.getSpendingLimit()==null) || 
+                 (this.spendingLimit!=null &&
+                  this.spendingLimit.equals(other.getSpendingLimit()))) &&
+                ((this.totalAdjustments==null && other.getTotalAdjustments()==null) || 
+                 (this.totalAdjustments!=null &&
+                  this.totalAdjustments.equals(other.getTotalAdjustments()))) &&
+                ((this.startDateTime==null && other.getStartDateTime()==null) || 
+                 (this.startDateTime!=null &&
+                  this.startDateTime.equals(other.getStartDateTime()))) &&
+                ((this.endDateTime==null && other.getEndDateTime()==null) || 
+                 (this.endDateTime!=null &&
+                  this.endDateTime.equals(other.getEndDateTime()))) &&
+                ((this.lastRequest==null && other.getLastRequest()==null) || 
+                 (this.lastRequest!=null &&
+                  this.lastRequest.equals(other.getLastRequest())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
         }
-        if (getTotalAdjustments() != null) {
-            _hashCode += getTotalAdjustments().hashCode();
-        }
-        if (getStartDateTime() != null) {
-            _hashCode += getStartDateTime().hashCode();
-        }
-        if (getEndDateTime() != null) {
-            _hashCode += getEndDateTime().hashCode();
+    }
+
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(BudgetOrder.class, this)) {
+            return 0;
         }
-        if (getLastRequest() != null) {
-            _hashCode += getLastRequest().hashCode();
+        try {
+            int _hashCode = 1;
+            if (getBillingAccountId() != null) {
+                _hashCode += getBillingAccountId().hashCode();
+            }
+            if (getId() != null) {
+                _hashCode += getId().hashCode();
+            }
+            if (getBillingAccountName() != null) {
+                _hashCode += getBillingAccountName().hashCode();
+            }
+            if (getPoNumber() != null) {
+                _hashCode += getPoNumber().hashCode();
+            }
+            if (getBudgetOrderName() != null) {
+                _hashCode += getBudgetOrderName().hashCode();
+            }
+            if (getPrimaryBillingId() != null) {
+                _hashCode += getPrimaryBillingId().hashCode();
+            }
+            if (getSecondaryBillingId() != null) {
+                _hashCode += getSecondaryBillingId().hashCode();
+            }
+            if (getSpendingLimit() != null) {
+                _hashCode += getSpendingLimit().hashCode();
+            }
+            if (getTotalAdjustments() != null) {
+                _hashCode += getTotalAdjustments().hashCode();
+            }
+            if (getStartDateTime() != null) {
+                _hashCode += getStartDateTime().hashCode();
+            }
+            if (getEndDateTime() != null) {
+                _hashCode += getEndDateTime().hashCode();
+            }
+            if (getLastRequest() != null) {
+                _hashCode += getLastRequest().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(BudgetOrder.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(BudgetOrder.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://adwords.google.com/api/adwords/billing/v201609", "BudgetOrder"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("billingAccountId");
@@ -901,13 +906,24 @@ public class BudgetOrder  implements java.io.Serializable {
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (BudgetOrder.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -919,7 +935,7 @@ public class BudgetOrder  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -931,7 +947,7 @@ public class BudgetOrder  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
@@ -168,68 +168,73 @@ public class AdCustomizerError  extends com.google.api.ads.adwords.axis.v201609.
         this.operandValue = operandValue;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof AdCustomizerError)) return false;
         AdCustomizerError other = (AdCustomizerError) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(AdCustomizerError.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = super.equals(obj) && 
-            ((this.reason==null && other.getReason()==null) || 
-             (this.reason!=null &&
-              this.reason.equals(other.getReason()))) &&
-            ((this.functionString==null && other.getFunctionString()==null) || 
-             (this.functionString!=null &&
-              this.functionString.equals(other.getFunctionString()))) &&
-            ((this.operatorName==null && other.getOperatorName()==null) || 
-             (this.operatorName!=null &&
-              this.operatorName.equals(other.getOperatorName()))) &&
-            ((this.operandIndex==null && other.getOperandIndex()==null) || 
-             (this.operandIndex!=null &&
-              this.operandIndex.equals(other.getOperandIndex()))) &&
-            ((this.operandValue==null && other.getOperandValue()==null) || 
-             (this.operandValue!=null &&
-              this.operandValue.equals(other.getOperandValue())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = super.equals(obj) && 
+                ((this.reason==null && other.getReason()==null) || 
+                 (this.reason!=null &&
+                  this.reason.equals(other.getReason()))) &&
+                ((this.functionString==null && other.getFunctionString()==null) || 
+                 (this.functionString!=null &&
+                  this.functionString.equals(other.getFunctionString()))) &&
+                ((this.operatorName==null && other.getOperatorName()==null) || 
+                 (this.operatorName!=null &&
+                  this.operatorName.equals(other.getOperatorName()))) &&
+                ((this.operandIndex==null && other.getOperandIndex()==null) || 
+                 (this.operandIndex!=null &&
+                  this.operandIndex.equals(other.getOperandIndex()))) &&
+                ((this.operandValue==null && other.getOperandValue()==null) || 
+                 (this.operandValue!=null &&
+                  this.operandValue.equals(other.getOperandValue())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(AdCustomizerError.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = super.hashCode();
-        if (getReason() != null) {
-            _hashCode += getReason().hashCode();
-        }
-        if (getFunctionString() != null) {
-            _hashCode += getFunctionString().hashCode();
-        }
-        if (getOperatorName() != null) {
-            _hashCode += getOperatorName().hashCode();
-        }
-        if (getOperandIndex() != null) {
-            _hashCode += getOperandIndex().hashCode();
+        try {
+            int _hashCode = super.hashCode();
+            if (getReason() != null) {
+                _hashCode += getReason().hashCode();
+            }
+            if (getFunctionString() != null) {
+                _hashCode += getFunctionString().hashCode();
+            }
+            if (getOperatorName() != null) {
+                _hashCode += getOperatorName().hashCode();
+            }
+            if (getOperandIndex() != null) {
+                _hashCode += getOperandIndex().hashCode();
+            }
+            if (getOperandValue() != null) {
+                _hashCode += getOperandValue().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        if (getOperandValue() != null) {
-            _hashCode += getOperandValue().hashCode();
-        }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(AdCustomizerError.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(AdCustomizerError.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://adwords.google.com/api/adwords/cm/v201609", "AdCustomizerError"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("reason");
@@ -266,13 +271,24 @@ public class AdCustomizerError  extends com.google.api.ads.adwords.axis.v201609.
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (AdCustomizerError.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -284,7 +300,7 @@ public class AdCustomizerError  extends com.google.api.ads.adwords.axis.v201609.
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -296,7 +312,7 @@ public class AdCustomizerError  extends com.google.api.ads.adwords.axis.v201609.
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
@@ -237,70 +237,75 @@ public class AdCustomizerFeed  implements java.io.Serializable {
         this.feedAttributes[i] = _value;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof AdCustomizerFeed)) return false;
         AdCustomizerFeed other = (AdCustomizerFeed) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(AdCustomizerFeed.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = true && 
-            ((this.feedId==null && other.getFeedId()==null) || 
-             (this.feedId!=null &&
-              this.feedId.equals(other.getFeedId()))) &&
-            ((this.feedName==null && other.getFeedName()==null) || 
-             (this.feedName!=null &&
-              this.feedName.equals(other.getFeedName()))) &&
-            ((this.feedStatus==null && other.getFeedStatus()==null) || 
-             (this.feedStatus!=null &&
-              this.feedStatus.equals(other.getFeedStatus()))) &&
-            ((this.feedAttributes==null && other.getFeedAttributes()==null) || 
-             (this.feedAttributes!=null &&
-              java.util.Arrays.equals(this.feedAttributes, other.getFeedAttributes())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = true && 
+                ((this.feedId==null && other.getFeedId()==null) || 
+                 (this.feedId!=null &&
+                  this.feedId.equals(other.getFeedId()))) &&
+                ((this.feedName==null && other.getFeedName()==null) || 
+                 (this.feedName!=null &&
+                  this.feedName.equals(other.getFeedName()))) &&
+                ((this.feedStatus==null && other.getFeedStatus()==null) || 
+                 (this.feedStatus!=null &&
+                  this.feedStatus.equals(other.getFeedStatus()))) &&
+                ((this.feedAttributes==null && other.getFeedAttributes()==null) || 
+                 (this.feedAttributes!=null &&
+                  java.util.Arrays.equals(this.feedAttributes, other.getFeedAttributes())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(AdCustomizerFeed.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getFeedId() != null) {
-            _hashCode += getFeedId().hashCode();
-        }
-        if (getFeedName() != null) {
-            _hashCode += getFeedName().hashCode();
-        }
-        if (getFeedStatus() != null) {
-            _hashCode += getFeedStatus().hashCode();
-        }
-        if (getFeedAttributes() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getFeedAttributes());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getFeedAttributes(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+        try {
+            int _hashCode = 1;
+            if (getFeedId() != null) {
+                _hashCode += getFeedId().hashCode();
+            }
+            if (getFeedName() != null) {
+                _hashCode += getFeedName().hashCode();
+            }
+            if (getFeedStatus() != null) {
+                _hashCode += getFeedStatus().hashCode();
+            }
+            if (getFeedAttributes() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getFeedAttributes());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getFeedAttributes(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(AdCustomizerFeed.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(AdCustomizerFeed.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://adwords.google.com/api/adwords/cm/v201609", "AdCustomizerFeed"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("feedId");
@@ -331,13 +336,24 @@ public class AdCustomizerFeed  implements java.io.Serializable {
         elemField.setNillable(false);
         elemField.setMaxOccursUnbounded(true);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (AdCustomizerFeed.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -349,7 +365,7 @@ public class AdCustomizerFeed  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -361,7 +377,7 @@ public class AdCustomizerFeed  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
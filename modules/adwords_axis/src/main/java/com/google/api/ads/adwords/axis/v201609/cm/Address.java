@@ -243,80 +243,85 @@ public class Address  implements java.io.Serializable {
         this.countryCode = countryCode;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof Address)) return false;
         Address other = (Address) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(Address.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = true && 
-            ((this.streetAddress==null && other.getStreetAddress()==null) || 
-             (this.streetAddress!=null &&
-              this.streetAddress.equals(other.getStreetAddress()))) &&
-            ((this.streetAddress2==null && other.getStreetAddress2()==null) || 
-             (this.streetAddress2!=null &&
-              this.streetAddress2.equals(other.getStreetAddress2()))) &&
-            ((this.cityName==null && other.getCityName()==null) || 
-             (this.cityName!=null &&
-              this.cityName.equals(other.getCityName()))) &&
-            ((this.provinceCode==null && other.getProvinceCode()==null) || 
-             (this.provinceCode!=null &&
-              this.provinceCode.equals(other.getProvinceCode()))) &&
-            ((this.provinceName==null && other.getProvinceName()==null) || 
-             (this.provinceName!=null &&
-              this.provinceName.equals(other.getProvinceName()))) &&
-            ((this.postalCode==null && other.getPostalCode()==null) || 
-             (this.postalCode!=null &&
-              this.postalCode.equals(other.getPostalCode()))) &&
-            ((this.countryCode==null && other.getCountryCode()==null) || 
-             (this.countryCode!=null &&
-              this.countryCode.equals(other.getCountryCode())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = true && 
+                ((this.streetAddress==null && other.getStreetAddress()==null) || 
+                 (this.streetAddress!=null &&
+                  this.streetAddress.equals(other.getStreetAddress()))) &&
+                ((this.streetAddress2==null && other.getStreetAddress2()==null) || 
+                 (this.streetAddress2!=null &&
+                  this.streetAddress2.equals(other.getStreetAddress2()))) &&
+                ((this.cityName==null && other.getCityName()==null) || 
+                 (this.cityName!=null &&
+                  this.cityName.equals(other.getCityName()))) &&
+                ((this.provinceCode==null && other.getProvinceCode()==null) || 
+                 (this.provinceCode!=null &&
+                  this.provinceCode.equals(other.getProvinceCode()))) &&
+                ((this.provinceName==null && other.getProvinceName()==null) || 
+                 (this.provinceName!=null &&
+                  this.provinceName.equals(other.getProvinceName()))) &&
+                ((this.postalCode==null && other.getPostalCode()==null) || 
+                 (this.postalCode!=null &&
+                  this.postalCode.equals(other.getPostalCode()))) &&
+                ((this.countryCode==null && other.getCountryCode()==null) || 
+                 (this.countryCode!=null &&
+                  this.countryCode.equals(other.getCountryCode())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(Address.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getStreetAddress() != null) {
-            _hashCode += getStreetAddress().hashCode();
-        }
-        if (getStreetAddress2() != null) {
-            _hashCode += getStreetAddress2().hashCode();
-        }
-        if (getCityName() != null) {
-            _hashCode += getCityName().hashCode();
-        }
-        if (getProvinceCode() != null) {
-            _hashCode += getProvinceCode().hashCode();
-        }
-        if (getProvinceName() != null) {
-            _hashCode += getProvinceName().hashCode();
+        try {
+            int _hashCode = 1;
+            if (getStreetAddress() != null) {
+                _hashCode += getStreetAddress().hashCode();
+            }
+            if (getStreetAddress2() != null) {
+                _hashCode += getStreetAddress2().hashCode();
+            }
+            if (getCityName() != null) {
+                _hashCode += getCityName().hashCode();
+            }
+            if (getProvinceCode() != null) {
+                _hashCode += getProvinceCode().hashCode();
+            }
+            if (getProvinceName() != null) {
+                _hashCode += getProvinceName().hashCode();
+            }
+            if (getPostalCode() != null) {
+                _hashCode += getPostalCode().hashCode();
+            }
+            if (getCountryCode() != null) {
+                _hashCode += getCountryCode().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        if (getPostalCode() != null) {
-            _hashCode += getPostalCode().hashCode();
-        }
-        if (getCountryCode() != null) {
-            _hashCode += getCountryCode().hashCode();
-        }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(Address.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(Address.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://adwords.google.com/api/adwords/cm/v201609", "Address"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("streetAddress");
@@ -367,13 +372,24 @@ public class Address  implements java.io.Serializable {
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (Address.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -385,7 +401,7 @@ public class Address  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -397,7 +413,7 @@ public class Address  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
@@ -299,68 +299,73 @@ public class AppConversion  extends com.google.api.ads.adwords.axis.v201609.cm.C
         this.appPostbackUrl = appPostbackUrl;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof AppConversion)) return false;
         AppConversion other = (AppConversion) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(AppConversion.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = super.equals(obj) && 
-            ((this.appId==null && other.getAppId()==null) || 
-             (this.appId!=null &&
-              this.appId.equals(other.getAppId()))) &&
-            ((this.appPlatform==null && other.getAppPlatform()==null) || 
-             (this.appPlatform!=null &&
-              this.appPlatform.equals(other.getAppPlatform()))) &&
-            ((this.snippet==null && other.getSnippet()==null) || 
-             (this.snippet!=null &&
-              this.snippet.equals(other.getSnippet()))) &&
-            ((this.appConversionType==null && other.getAppConversionType()==null) || 
-             (this.appConversionType!=null &&
-              this.appConversionType.equals(other.getAppConversionType()))) &&
-            ((this.appPostbackUrl==null && other.getAppPostbackUrl()==null) || 
-             (this.appPostbackUrl!=null &&
-              this.appPostbackUrl.equals(other.getAppPostbackUrl())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = super.equals(obj) && 
+                ((this.appId==null && other.getAppId()==null) || 
+                 (this.appId!=null &&
+                  this.appId.equals(other.getAppId()))) &&
+                ((this.appPlatform==null && other.getAppPlatform()==null) || 
+                 (this.appPlatform!=null &&
+                  this.appPlatform.equals(other.getAppPlatform()))) &&
+                ((this.snippet==null && other.getSnippet()==null) || 
+                 (this.snippet!=null &&
+                  this.snippet.equals(other.getSnippet()))) &&
+                ((this.appConversionType==null && other.getAppConversionType()==null) || 
+                 (this.appConversionType!=null &&
+                  this.appConversionType.equals(other.getAppConversionType()))) &&
+                ((this.appPostbackUrl==null && other.getAppPostbackUrl()==null) || 
+                 (this.appPostbackUrl!=null &&
+                  this.appPostbackUrl.equals(other.getAppPostbackUrl())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(AppConversion.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = super.hashCode();
-        if (getAppId() != null) {
-            _hashCode += getAppId().hashCode();
-        }
-        if (getAppPlatform() != null) {
-            _hashCode += getAppPlatform().hashCode();
-        }
-        if (getSnippet() != null) {
-            _hashCode += getSnippet().hashCode();
-        }
-        if (getAppConversionType() != null) {
-            _hashCode += getAppConversionType().hashCode();
+        try {
+            int _hashCode = super.hashCode();
+            if (getAppId() != null) {
+                _hashCode += getAppId().hashCode();
+            }
+            if (getAppPlatform() != null) {
+                _hashCode += getAppPlatform().hashCode();
+            }
+            if (getSnippet() != null) {
+                _hashCode += getSnippet().hashCode();
+            }
+            if (getAppConversionType() != null) {
+                _hashCode += getAppConversionType().hashCode();
+            }
+            if (getAppPostbackUrl() != null) {
+                _hashCode += getAppPostbackUrl().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        if (getAppPostbackUrl() != null) {
-            _hashCode += getAppPostbackUrl().hashCode();
-        }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(AppConversion.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(AppConversion.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://adwords.google.com/api/adwords/cm/v201609", "AppConversion"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("appId");
@@ -397,13 +402,24 @@ public class AppConversion  extends com.google.api.ads.adwords.axis.v201609.cm.C
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (AppConversion.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -415,7 +431,7 @@ public class AppConversion  extends com.google.api.ads.adwords.axis.v201609.cm.C
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -427,7 +443,7 @@ public class AppConversion  extends com.google.api.ads.adwords.axis.v201609.cm.C
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
@@ -227,68 +227,73 @@ public class CallFeedItem  extends com.google.api.ads.adwords.axis.v201609.cm.Ex
         this.disableCallConversionTracking = disableCallConversionTracking;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof CallFeedItem)) return false;
         CallFeedItem other = (CallFeedItem) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(CallFeedItem.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = super.equals(obj) && 
-            ((this.callPhoneNumber==null && other.getCallPhoneNumber()==null) || 
-             (this.callPhoneNumber!=null &&
-              this.callPhoneNumber.equals(other.getCallPhoneNumber()))) &&
-            ((this.callCountryCode==null && other.getCallCountryCode()==null) || 
-             (this.callCountryCode!=null &&
-              this.callCountryCode.equals(other.getCallCountryCode()))) &&
-            ((this.callTracking==null && other.getCallTracking()==null) || 
-             (this.callTracking!=null &&
-              this.callTracking.equals(other.getCallTracking()))) &&
-            ((this.callConversionType==null && other.getCallConversionType()==null) || 
-             (this.callConversionType!=null &&
-              this.callConversionType.equals(other.getCallConversionType()))) &&
-            ((this.disableCallConversionTracking==null && other.getDisableCallConversionTracking()==null) || 
-             (this.disableCallConversionTracking!=null &&
-              this.disableCallConversionTracking.equals(other.getDisableCallConversionTracking())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = super.equals(obj) && 
+                ((this.callPhoneNumber==null && other.getCallPhoneNumber()==null) || 
+                 (this.callPhoneNumber!=null &&
+                  this.callPhoneNumber.equals(other.getCallPhoneNumber()))) &&
+                ((this.callCountryCode==null && other.getCallCountryCode()==null) || 
+                 (this.callCountryCode!=null &&
+                  this.callCountryCode.equals(other.getCallCountryCode()))) &&
+                ((this.callTracking==null && other.getCallTracking()==null) || 
+                 (this.callTracking!=null &&
+                  this.callTracking.equals(other.getCallTracking()))) &&
+                ((this.callConversionType==null && other.getCallConversionType()==null) || 
+                 (this.callConversionType!=null &&
+                  this.callConversionType.equals(other.getCallConversionType()))) &&
+                ((this.disableCallConversionTracking==null && other.getDisableCallConversionTracking()==null) || 
+                 (this.disableCallConversionTracking!=null &&
+                  this.disableCallConversionTracking.equals(other.getDisableCallConversionTracking())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(CallFeedItem.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = super.hashCode();
-        if (getCallPhoneNumber() != null) {
-            _hashCode += getCallPhoneNumber().hashCode();
-        }
-        if (getCallCountryCode() != null) {
-            _hashCode += getCallCountryCode().hashCode();
-        }
-        if (getCallTracking() != null) {
-            _hashCode += getCallTracking().hashCode();
-        }
-        if (getCallConversionType() != null) {
-            _hashCode += getCallConversionType().hashCode();
+        try {
+            int _hashCode = super.hashCode();
+            if (getCallPhoneNumber() != null) {
+                _hashCode += getCallPhoneNumber().hashCode();
+            }
+            if (getCallCountryCode() != null) {
+                _hashCode += getCallCountryCode().hashCode();
+            }
+            if (getCallTracking() != null) {
+                _hashCode += getCallTracking().hashCode();
+            }
+            if (getCallConversionType() != null) {
+                _hashCode += getCallConversionType().hashCode();
+            }
+            if (getDisableCallConversionTracking() != null) {
+                _hashCode += getDisableCallConversionTracking().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        if (getDisableCallConversionTracking() != null) {
-            _hashCode += getDisableCallConversionTracking().hashCode();
-        }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(CallFeedItem.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(CallFeedItem.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://adwords.google.com/api/adwords/cm/v201609", "CallFeedItem"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("callPhoneNumber");
@@ -325,13 +330,24 @@ public class CallFeedItem  extends com.google.api.ads.adwords.axis.v201609.cm.Ex
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (CallFeedItem.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -343,7 +359,7 @@ public class CallFeedItem  extends com.google.api.ads.adwords.axis.v201609.cm.Ex
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -355,7 +371,7 @@ public class CallFeedItem  extends com.google.api.ads.adwords.axis.v201609.cm.Ex
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
@@ -102,58 +102,63 @@ public class ConversionOptimizerEligibility  implements java.io.Serializable {
         this.rejectionReasons[i] = _value;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof ConversionOptimizerEligibility)) return false;
         ConversionOptimizerEligibility other = (ConversionOptimizerEligibility) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(ConversionOptimizerEligibility.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = true && 
-            ((this.eligible==null && other.getEligible()==null) || 
-             (this.eligible!=null &&
-              this.eligible.equals(other.getEligible()))) &&
-            ((this.rejectionReasons==null && other.getRejectionReasons()==null) || 
-             (this.rejectionReasons!=null &&
-              java.util.Arrays.equals(this.rejectionReasons, other.getRejectionReasons())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = true && 
+                ((this.eligible==null && other.getEligible()==null) || 
+                 (this.eligible!=null &&
+                  this.eligible.equals(other.getEligible()))) &&
+                ((this.rejectionReasons==null && other.getRejectionReasons()==null) || 
+                 (this.rejectionReasons!=null &&
+                  java.util.Arrays.equals(this.rejectionReasons, other.getRejectionReasons())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(ConversionOptimizerEligibility.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getEligible() != null) {
-            _hashCode += getEligible().hashCode();
-        }
-        if (getRejectionReasons() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getRejectionReasons());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getRejectionReasons(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+        try {
+            int _hashCode = 1;
+            if (getEligible() != null) {
+                _hashCode += getEligible().hashCode();
+            }
+            if (getRejectionReasons() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getRejectionReasons());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getRejectionReasons(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(ConversionOptimizerEligibility.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(ConversionOptimizerEligibility.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://adwords.google.com/api/adwords/cm/v201609", "ConversionOptimizerEligibility"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("eligible");
@@ -170,13 +175,24 @@ public class ConversionOptimizerEligibility  implements java.io.Serializable {
         elemField.setNillable(false);
         elemField.setMaxOccursUnbounded(true);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (ConversionOptimizerEligibility.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -188,7 +204,7 @@ public class ConversionOptimizerEligibility  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -200,7 +216,7 @@ public class ConversionOptimizerEligibility  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
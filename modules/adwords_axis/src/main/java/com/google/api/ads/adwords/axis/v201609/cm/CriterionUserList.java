@@ -221,68 +221,73 @@ public class CriterionUserList  extends com.google.api.ads.adwords.axis.v201609.
         this.userListEligibleForDisplay = userListEligibleForDisplay;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof CriterionUserList)) return false;
         CriterionUserList other = (CriterionUserList) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(CriterionUserList.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = super.equals(obj) && 
-            ((this.userListId==null && other.getUserListId()==null) || 
-             (this.userListId!=null &&
-              this.userListId.equals(other.getUserListId()))) &&
-            ((this.userListName==null && other.getUserListName()==null) || 
-             (this.userListName!=null &&
-              this.userListName.equals(other.getUserListName()))) &&
-            ((this.userListMembershipStatus==null && other.getUserListMembershipStatus()==null) || 
-             (this.userListMembershipStatus!=null &&
-              this.userListMembershipStatus.equals(other.getUserListMembershipStatus()))) &&
-            ((this.userListEligibleForSearch==null && other.getUserListEligibleForSearch()==null) || 
-             (this.userListEligibleForSearch!=null &&
-              this.userListEligibleForSearch.equals(other.getUserListEligibleForSearch()))) &&
-            ((this.userListEligibleForDisplay==null && other.getUserListEligibleForDisplay()==null) || 
-             (this.userListEligibleForDisplay!=null &&
-              this.userListEligibleForDisplay.equals(other.getUserListEligibleForDisplay())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = super.equals(obj) && 
+                ((this.userListId==null && other.getUserListId()==null) || 
+                 (this.userListId!=null &&
+                  this.userListId.equals(other.getUserListId()))) &&
+                ((this.userListName==null && other.getUserListName()==null) || 
+                 (this.userListName!=null &&
+                  this.userListName.equals(other.getUserListName()))) &&
+                ((this.userListMembershipStatus==null && other.getUserListMembershipStatus()==null) || 
+                 (this.userListMembershipStatus!=null &&
+                  this.userListMembershipStatus.equals(other.getUserListMembershipStatus()))) &&
+                ((this.userListEligibleForSearch==null && other.getUserListEligibleForSearch()==null) || 
+                 (this.userListEligibleForSearch!=null &&
+                  this.userListEligibleForSearch.equals(other.getUserListEligibleForSearch()))) &&
+                ((this.userListEligibleForDisplay==null && other.getUserListEligibleForDisplay()==null) || 
+                 (this.userListEligibleForDisplay!=null &&
+                  this.userListEligibleForDisplay.equals(other.getUserListEligibleForDisplay())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(CriterionUserList.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = super.hashCode();
-        if (getUserListId() != null) {
-            _hashCode += getUserListId().hashCode();
-        }
-        if (getUserListName() != null) {
-            _hashCode += getUserListName().hashCode();
-        }
-        if (getUserListMembershipStatus() != null) {
-            _hashCode += getUserListMembershipStatus().hashCode();
-        }
-        if (getUserListEligibleForSearch() != null) {
-            _hashCode += getUserListEligibleForSearch().hashCode();
+        try {
+            int _hashCode = super.hashCode();
+            if (getUserListId() != null) {
+                _hashCode += getUserListId().hashCode();
+            }
+            if (getUserListName() != null) {
+                _hashCode += getUserListName().hashCode();
+            }
+            if (getUserListMembershipStatus() != null) {
+                _hashCode += getUserListMembershipStatus().hashCode();
+            }
+            if (getUserListEligibleForSearch() != null) {
+                _hashCode += getUserListEligibleForSearch().hashCode();
+            }
+            if (getUserListEligibleForDisplay() != null) {
+                _hashCode += getUserListEligibleForDisplay().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        if (getUserListEligibleForDisplay() != null) {
-            _hashCode += getUserListEligibleForDisplay().hashCode();
-        }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(CriterionUserList.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(CriterionUserList.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://adwords.google.com/api/adwords/cm/v201609", "CriterionUserList"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("userListId");
@@ -319,13 +324,24 @@ public class CriterionUserList  extends com.google.api.ads.adwords.axis.v201609.
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (CriterionUserList.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -337,7 +353,7 @@ public class CriterionUserList  extends com.google.api.ads.adwords.axis.v201609.
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -349,7 +365,7 @@ public class CriterionUserList  extends com.google.api.ads.adwords.axis.v201609.
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
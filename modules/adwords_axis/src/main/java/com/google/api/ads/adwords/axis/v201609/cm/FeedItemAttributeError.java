@@ -133,64 +133,69 @@ public class FeedItemAttributeError  implements java.io.Serializable {
         this.errorInformation = errorInformation;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof FeedItemAttributeError)) return false;
         FeedItemAttributeError other = (FeedItemAttributeError) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(FeedItemAttributeError.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = true && 
-            ((this.feedAttributeIds==null && other.getFeedAttributeIds()==null) || 
-             (this.feedAttributeIds!=null &&
-              java.util.Arrays.equals(this.feedAttributeIds, other.getFeedAttributeIds()))) &&
-            ((this.validationErrorCode==null && other.getValidationErrorCode()==null) || 
-             (this.validationErrorCode!=null &&
-              this.validationErrorCode.equals(other.getValidationErrorCode()))) &&
-            ((this.errorInformation==null && other.getErrorInformation()==null) || 
-             (this.errorInformation!=null &&
-              this.errorInformation.equals(other.getErrorInformation())));
-        __equalsCalc = null;
-        return _equals;
-    }
-
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+        try {
+            boolean _equals;
+            _equals = true && 
+                ((this.feedAttributeIds==null && other.getFeedAttributeIds()==null) || 
+                 (this.feedAttributeIds!=null &&
+                  java.util.Arrays.equals(this.feedAttributeIds, other.getFeedAttributeIds()))) &&
+                ((this.validationErrorCode==null && other.getValidationErrorCode()==null) || 
+                 (this.validationErrorCode!=null &&
+                  this.validationErrorCode.equals(other.getValidationErrorCode()))) &&
+                ((this.errorInformation==null && other.getErrorInformation()==null) || 
+                 (this.errorInformation!=null &&
+                  this.errorInformation.equals(other.getErrorInformation())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
+    }
+
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(FeedItemAttributeError.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getFeedAttributeIds() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getFeedAttributeIds());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getFeedAttributeIds(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+        try {
+            int _hashCode = 1;
+            if (getFeedAttributeIds() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getFeedAttributeIds());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getFeedAttributeIds(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
+            if (getValidationErrorCode() != null) {
+                _hashCode += getValidationErrorCode().hashCode();
+            }
+            if (getErrorInformation() != null) {
+                _hashCode += getErrorInformation().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        if (getValidationErrorCode() != null) {
-            _hashCode += getValidationErrorCode().hashCode();
-        }
-        if (getErrorInformation() != null) {
-            _hashCode += getErrorInformation().hashCode();
-        }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(FeedItemAttributeError.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(FeedItemAttributeError.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://adwords.google.com/api/adwords/cm/v201609", "FeedItemAttributeError"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("feedAttributeIds");
@@ -214,13 +219,24 @@ public class FeedItemAttributeError  implements java.io.Serializable {
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (FeedItemAttributeError.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -232,7 +248,7 @@ public class FeedItemAttributeError  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -244,7 +260,7 @@ public class FeedItemAttributeError  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
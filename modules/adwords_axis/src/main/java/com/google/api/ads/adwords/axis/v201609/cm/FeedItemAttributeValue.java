@@ -433,130 +433,135 @@ public class FeedItemAttributeValue  implements java.io.Serializable {
         this.moneyWithCurrencyValue = moneyWithCurrencyValue;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof FeedItemAttributeValue)) return false;
         FeedItemAttributeValue other = (FeedItemAttributeValue) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(FeedItemAttributeValue.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = true && 
-            ((this.feedAttributeId==null && other.getFeedAttributeId()==null) || 
-             (this.feedAttributeId!=null &&
-              this.feedAttributeId.equals(other.getFeedAttributeId()))) &&
-            ((this.integerValue==null && other.getIntegerValue()==null) || 
-             (this.integerValue!=null &&
-              this.integerValue.equals(other.getIntegerValue()))) &&
-            ((this.doubleValue==null && other.getDoubleValue()==null) || 
-             (this.doubleValue!=null &&
-              this.doubleValue.equals(other.getDoubleValue()))) &&
-            ((this.booleanValue==null && other.getBooleanValue()==null) || 
-             (this.booleanValue!=null &&
-              this.booleanValue.equals(other.getBooleanValue()))) &&
-            ((this.stringValue==null && other.getStringValue()==null) || 
-             (this.stringValue!=null &&
-              this.stringValue.equals(other.getStringValue()))) &&
-            ((this.integerValues==null && other.getIntegerValues()==null) || 
-             (this.integerValues!=null &&
-              java.util.Arrays.equals(this.integerValues, other.getIntegerValues()))) &&
-            ((this.doubleValues==null && other.getDoubleValues()==null) || 
-             (this.doubleValues!=null &&
-              java.util.Arrays.equals(this.doubleValues, other.getDoubleValues()))) &&
-            ((this.booleanValues==null && other.getBooleanValues()==null) || 
-             (this.booleanValues!=null &&
-              java.util.Arrays.equals(this.booleanValues, other.getBooleanValues()))) &&
-            ((this.stringValues==null && other.getStringValues()==null) || 
-             (this.stringValues!=null &&
-              java.util.Arrays.equals(this.stringValues, other.getStringValues()))) &&
-            ((this.moneyWithCurrencyValue==null && other.getMoneyWithCurrencyValue()==null) || 
-             (this.moneyWithCurrencyValue!=null &&
-              this.moneyWithCurrencyValue.equals(other.getMoneyWithCurrencyValue())));
-        __equalsCalc = null;
-        return _equals;
-    }
-
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
-            return 0;
-        }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getFeedAttributeId() != null) {
-            _hashCode += getFeedAttributeId().hashCode();
-        }
-        if (getIntegerValue() != null) {
-            _hashCode += getIntegerValue().hashCode();
+        try {
+            boolean _equals;
+            _equals = true && 
+                ((this.feedAttributeId==null && other.getFeedAttributeId()==null) || 
+                 (this.feedAttributeId!=null &&
+                  this.feedAttributeId.equals(other.getFeedAttributeId()))) &&
+                ((this.integerValue==null && other.getIntegerValue()==null) || 
+                 (this.integerValue!=null &&
+                  this.integerValue.equals(other.getIntegerValue()))) &&
+                ((this.doubleValue==null && other.getDoubleValue()==null) || 
+                 (this.doubleValue!=null &&
+                  this.doubleValue.equals(other.getDoubleValue()))) &&
+                ((this.booleanValue==null && other.getBooleanValue()==null) || 
+                 (this.booleanValue!=null &&
+                  this.booleanValue.equals(other.getBooleanValue()))) &&
+                ((this.stringValue==null && other.getStringValue()==null) || 
+                 (this.stringValue!=null &&
+                  this.stringValue.equals(other.getStringValue()))) &&
+                ((this.integerValues==null && other.getIntegerValues()==null) || 
+                 (this.integerValues!=null &&
+                  java.util.Arrays.equals(this.integerValues, other.getIntegerValues()))) &&
+                ((this.doubleValues==null && other.getDoubleValues()==null) || 
+                 (this.doubleValues!=null &&
+                  java.util.Arrays.equals(this.doubleValues, other.getDoubleValues()))) &&
+                ((this.booleanValues==null && other.getBooleanValues()==null) || 
+                 (this.booleanValues!=null &&
+                  java.util.Arrays.equals(this.booleanValues, other.getBooleanValues()))) &&
+                ((this.stringValues==null && other.getStringValues()==null) || 
+                 (this.stringValues!=null &&
+                  java.util.Arrays.equals(this.stringValues, other.getStringValues()))) &&
+                ((this.moneyWithCurrencyValue==null && other.getMoneyWithCurrencyValue()==null) || 
+                 (this.moneyWithCurrencyValue!=null &&
+                  this.moneyWithCurrencyValue.equals(other.getMoneyWithCurrencyValue())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
         }
-        if (getDoubleValue() != null) {
-            _hashCode += getDoubleValue().hashCode();
-        }
-        if (getBooleanValue() != null) {
-            _hashCode += getBooleanValue().hashCode();
-        }
-        if (getStringValue() != null) {
-            _hashCode += getStringValue().hashCode();
+    }
+
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(FeedItemAttributeValue.class, this)) {
+            return 0;
         }
-        if (getIntegerValues() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getIntegerValues());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getIntegerValues(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+        try {
+            int _hashCode = 1;
+            if (getFeedAttributeId() != null) {
+                _hashCode += getFeedAttributeId().hashCode();
+            }
+            if (getIntegerValue() != null) {
+                _hashCode += getIntegerValue().hashCode();
+            }
+            if (getDoubleValue() != null) {
+                _hashCode += getDoubleValue().hashCode();
+            }
+            if (getBooleanValue() != null) {
+                _hashCode += getBooleanValue().hashCode();
+            }
+            if (getStringValue() != null) {
+                _hashCode += getStringValue().hashCode();
+            }
+            if (getIntegerValues() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getIntegerValues());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getIntegerValues(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
-        }
-        if (getDoubleValues() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getDoubleValues());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getDoubleValues(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+            if (getDoubleValues() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getDoubleValues());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getDoubleValues(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
-        }
-        if (getBooleanValues() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getBooleanValues());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getBooleanValues(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+            if (getBooleanValues() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getBooleanValues());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getBooleanValues(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
-        }
-        if (getStringValues() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getStringValues());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getStringValues(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+            if (getStringValues() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getStringValues());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getStringValues(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
+            if (getMoneyWithCurrencyValue() != null) {
+                _hashCode += getMoneyWithCurrencyValue().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        if (getMoneyWithCurrencyValue() != null) {
-            _hashCode += getMoneyWithCurrencyValue().hashCode();
-        }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(FeedItemAttributeValue.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(FeedItemAttributeValue.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://adwords.google.com/api/adwords/cm/v201609", "FeedItemAttributeValue"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("feedAttributeId");
@@ -632,13 +637,24 @@ public class FeedItemAttributeValue  implements java.io.Serializable {
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (FeedItemAttributeValue.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -650,7 +666,7 @@ public class FeedItemAttributeValue  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -662,7 +678,7 @@ public class FeedItemAttributeValue  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
@@ -238,96 +238,101 @@ public class FeedItemPolicyData  extends com.google.api.ads.adwords.axis.v201609
         this.qualityDisapprovalReasons[i] = _value;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof FeedItemPolicyData)) return false;
         FeedItemPolicyData other = (FeedItemPolicyData) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(FeedItemPolicyData.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = super.equals(obj) && 
-            ((this.placeholderType==null && other.getPlaceholderType()==null) || 
-             (this.placeholderType!=null &&
-              this.placeholderType.equals(other.getPlaceholderType()))) &&
-            ((this.feedMappingId==null && other.getFeedMappingId()==null) || 
-             (this.feedMappingId!=null &&
-              this.feedMappingId.equals(other.getFeedMappingId()))) &&
-            ((this.validationStatus==null && other.getValidationStatus()==null) || 
-             (this.validationStatus!=null &&
-              this.validationStatus.equals(other.getValidationStatus()))) &&
-            ((this.approvalStatus==null && other.getApprovalStatus()==null) || 
-             (this.approvalStatus!=null &&
-              this.approvalStatus.equals(other.getApprovalStatus()))) &&
-            ((this.validationErrors==null && other.getValidationErrors()==null) || 
-             (this.validationErrors!=null &&
-              java.util.Arrays.equals(this.validationErrors, other.getValidationErrors()))) &&
-            ((this.qualityApprovalStatus==null && other.getQualityApprovalStatus()==null) || 
-             (this.qualityApprovalStatus!=null &&
-              this.qualityApprovalStatus.equals(other.getQualityApprovalStatus()))) &&
-            ((this.qualityDisapprovalReasons==null && other.getQualityDisapprovalReasons()==null) || 
-             (this.qualityDisapprovalReasons!=null &&
-              java.util.Arrays.equals(this.qualityDisapprovalReasons, other.getQualityDisapprovalReasons())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = super.equals(obj) && 
+                ((this.placeholderType==null && other.getPlaceholderType()==null) || 
+                 (this.placeholderType!=null &&
+                  this.placeholderType.equals(other.getPlaceholderType()))) &&
+                ((this.feedMappingId==null && other.getFeedMappingId()==null) || 
+                 (this.feedMappingId!=null &&
+                  this.feedMappingId.equals(other.getFeedMappingId()))) &&
+                ((this.validationStatus==null && other.getValidationStatus()==null) || 
+                 (this.validationStatus!=null &&
+                  this.validationStatus.equals(other.getValidationStatus()))) &&
+                ((this.approvalStatus==null && other.getApprovalStatus()==null) || 
+                 (this.approvalStatus!=null &&
+                  this.approvalStatus.equals(other.getApprovalStatus()))) &&
+                ((this.validationErrors==null && other.getValidationErrors()==null) || 
+                 (this.validationErrors!=null &&
+                  java.util.Arrays.equals(this.validationErrors, other.getValidationErrors()))) &&
+                ((this.qualityApprovalStatus==null && other.getQualityApprovalStatus()==null) || 
+                 (this.qualityApprovalStatus!=null &&
+                  this.qualityApprovalStatus.equals(other.getQualityApprovalStatus()))) &&
+                ((this.qualityDisapprovalReasons==null && other.getQualityDisapprovalReasons()==null) || 
+                 (this.qualityDisapprovalReasons!=null &&
+                  java.util.Arrays.equals(this.qualityDisapprovalReasons, other.getQualityDisapprovalReasons())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(FeedItemPolicyData.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = super.hashCode();
-        if (getPlaceholderType() != null) {
-            _hashCode += getPlaceholderType().hashCode();
-        }
-        if (getFeedMappingId() != null) {
-            _hashCode += getFeedMappingId().hashCode();
-        }
-        if (getValidationStatus() != null) {
-            _hashCode += getValidationStatus().hashCode();
-        }
-        if (getApprovalStatus() != null) {
-            _hashCode += getApprovalStatus().hashCode();
-        }
-        if (getValidationErrors() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getValidationErrors());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getValidationErrors(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+        try {
+            int _hashCode = super.hashCode();
+            if (getPlaceholderType() != null) {
+                _hashCode += getPlaceholderType().hashCode();
+            }
+            if (getFeedMappingId() != null) {
+                _hashCode += getFeedMappingId().hashCode();
+            }
+            if (getValidationStatus() != null) {
+                _hashCode += getValidationStatus().hashCode();
+            }
+            if (getApprovalStatus() != null) {
+                _hashCode += getApprovalStatus().hashCode();
+            }
+            if (getValidationErrors() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getValidationErrors());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getValidationErrors(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
-        }
-        if (getQualityApprovalStatus() != null) {
-            _hashCode += getQualityApprovalStatus().hashCode();
-        }
-        if (getQualityDisapprovalReasons() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getQualityDisapprovalReasons());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getQualityDisapprovalReasons(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+            if (getQualityApprovalStatus() != null) {
+                _hashCode += getQualityApprovalStatus().hashCode();
+            }
+            if (getQualityDisapprovalReasons() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getQualityDisapprovalReasons());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getQualityDisapprovalReasons(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(FeedItemPolicyData.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(FeedItemPolicyData.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://adwords.google.com/api/adwords/cm/v201609", "FeedItemPolicyData"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("placeholderType");
@@ -380,13 +385,24 @@ public class FeedItemPolicyData  extends com.google.api.ads.adwords.axis.v201609
         elemField.setNillable(false);
         elemField.setMaxOccursUnbounded(true);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (FeedItemPolicyData.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -398,7 +414,7 @@ public class FeedItemPolicyData  extends com.google.api.ads.adwords.axis.v201609
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -410,7 +426,7 @@ public class FeedItemPolicyData  extends com.google.api.ads.adwords.axis.v201609
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
@@ -182,50 +182,55 @@ public class GeoTargetTypeSetting  extends com.google.api.ads.adwords.axis.v2016
         this.negativeGeoTargetType = negativeGeoTargetType;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof GeoTargetTypeSetting)) return false;
         GeoTargetTypeSetting other = (GeoTargetTypeSetting) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(GeoTargetTypeSetting.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = super.equals(obj) && 
-            ((this.positiveGeoTargetType==null && other.getPositiveGeoTargetType()==null) || 
-             (this.positiveGeoTargetType!=null &&
-              this.positiveGeoTargetType.equals(other.getPositiveGeoTargetType()))) &&
-            ((this.negativeGeoTargetType==null && other.getNegativeGeoTargetType()==null) || 
-             (this.negativeGeoTargetType!=null &&
-              this.negativeGeoTargetType.equals(other.getNegativeGeoTargetType())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = super.equals(obj) && 
+                ((this.positiveGeoTargetType==null && other.getPositiveGeoTargetType()==null) || 
+                 (this.positiveGeoTargetType!=null &&
+                  this.positiveGeoTargetType.equals(other.getPositiveGeoTargetType()))) &&
+                ((this.negativeGeoTargetType==null && other.getNegativeGeoTargetType()==null) || 
+                 (this.negativeGeoTargetType!=null &&
+                  this.negativeGeoTargetType.equals(other.getNegativeGeoTargetType())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(GeoTargetTypeSetting.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = super.hashCode();
-        if (getPositiveGeoTargetType() != null) {
-            _hashCode += getPositiveGeoTargetType().hashCode();
-        }
-        if (getNegativeGeoTargetType() != null) {
-            _hashCode += getNegativeGeoTargetType().hashCode();
+        try {
+            int _hashCode = super.hashCode();
+            if (getPositiveGeoTargetType() != null) {
+                _hashCode += getPositiveGeoTargetType().hashCode();
+            }
+            if (getNegativeGeoTargetType() != null) {
+                _hashCode += getNegativeGeoTargetType().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(GeoTargetTypeSetting.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(GeoTargetTypeSetting.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://adwords.google.com/api/adwords/cm/v201609", "GeoTargetTypeSetting"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("positiveGeoTargetType");
@@ -241,13 +246,24 @@ public class GeoTargetTypeSetting  extends com.google.api.ads.adwords.axis.v2016
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (GeoTargetTypeSetting.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -259,7 +275,7 @@ public class GeoTargetTypeSetting  extends com.google.api.ads.adwords.axis.v2016
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -271,7 +287,7 @@ public class GeoTargetTypeSetting  extends com.google.api.ads.adwords.axis.v2016
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
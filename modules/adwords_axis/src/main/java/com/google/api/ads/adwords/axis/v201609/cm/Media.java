@@ -425,120 +425,125 @@ public class Media  implements java.io.Serializable {
         this.mediaType = mediaType;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof Media)) return false;
         Media other = (Media) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(Media.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = true && 
-            ((this.mediaId==null && other.getMediaId()==null) || 
-             (this.mediaId!=null &&
-              this.mediaId.equals(other.getMediaId()))) &&
-            ((this.type==null && other.getType()==null) || 
-             (this.type!=null &&
-              this.type.equals(other.getType()))) &&
-            ((this.referenceId==null && other.getReferenceId()==null) || 
-             (this.referenceId!=null &&
-              this.referenceId.equals(other.getReferenceId()))) &&
-            ((this.dimensions==null && other.getDimensions()==null) || 
-             (this.dimensions!=null &&
-              java.util.Arrays.equals(this.dimensions, other.getDimensions()))) &&
-            ((this.urls==null && other.getUrls()==null) || 
-             (this.urls!=null &&
-              java.util.Arrays.equals(this.urls, other.getUrls()))) &&
-            ((this.mimeType==null && other.getMimeType()==null) || 
-             (this.mimeType!=null &&
-              this.mimeType.equals(other.getMimeType()))) &&
-            ((this.sourceUrl==null && other.getSourceUrl()==null) || 
-             (this.sourceUrl!=null &&
-              this.sourceUrl.equals(other.getSourceUrl()))) &&
-            ((this.name==null && other.getName()==null) || 
-             (this.name!=null &&
-              this.name.equals(other.getName()))) &&
-            ((this.fileSize==null && other.getFileSize()==null) || 
-             (this.fileSize!=null &&
-              this.fileSize.equals(other.getFileSize()))) &&
-            ((this.creationTime==null && other.getCreationTime()==null) || 
-             (this.creationTime!=null &&
-              this.creationTime.equals(other.getCreationTime()))) &&
-            ((this.mediaType==null && other.getMediaType()==null) || 
-             (this.mediaType!=null &&
-              this.mediaType.equals(other.getMediaType())));
-        __equalsCalc = null;
-        return _equals;
-    }
-
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
-            return 0;
-        }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getMediaId() != null) {
-            _hashCode += getMediaId().hashCode();
+        try {
+            boolean _equals;
+            _equals = true && 
+                ((this.mediaId==null && other.getMediaId()==null) || 
+                 (this.mediaId!=null &&
+                  this.mediaId.equals(other.getMediaId()))) &&
+                ((this.type==null && other.getType()==null) || 
+                 (this.type!=null &&
+                  this.type.equals(other.getType()))) &&
+                ((this.referenceId==null && other.getReferenceId()==null) || 
+                 (this.referenceId!=null &&
+                  this.referenceId.equals(other.getReferenceId()))) &&
+                ((this.dimensions==null && other.getDimensions()==null) || 
+                 (this.dimensions!=null &&
+                  java.util.Arrays.equals(this.dimensions, other.getDimensions()))) &&
+                ((this.urls==null && other.getUrls()==null) || 
+                 (this.urls!=null &&
+                  java.util.Arrays.equals(this.urls, other.getUrls()))) &&
+                ((this.mimeType==null && other.getMimeType()==null) || 
+                 (this.mimeType!=null &&
+                  this.mimeType.equals(other.getMimeType()))) &&
+                ((this.sourceUrl==null && other.getSourceUrl()==null) || 
+                 (this.sourceUrl!=null &&
+                  this.sourceUrl.equals(other.getSourceUrl()))) &&
+                ((this.name==null && other.getName()==null) || 
+                 (this.name!=null &&
+                  this.name.equals(other.getName()))) &&
+                ((this.fileSize==null && other.getFileSize()==null) || 
+                 (this.fileSize!=null &&
+                  this.fileSize.equals(other.getFileSize()))) &&
+                ((this.creationTime==null && other.getCreationTime()==null) || 
+                 (this.creationTime!=null &&
+                  this.creationTime.equals(other.getCreationTime()))) &&
+                ((this.mediaType==null && other.getMediaType()==null) || 
+                 (this.mediaType!=null &&
+                  this.mediaType.equals(other.getMediaType())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
         }
-        if (getType() != null) {
-            _hashCode += getType().hashCode();
-        }
-        if (getReferenceId() != null) {
-            _hashCode += getReferenceId().hashCode();
+    }
+
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(Media.class, this)) {
+            return 0;
         }
-        if (getDimensions() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getDimensions());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getDimensions(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+        try {
+            int _hashCode = 1;
+            if (getMediaId() != null) {
+                _hashCode += getMediaId().hashCode();
+            }
+            if (getType() != null) {
+                _hashCode += getType().hashCode();
+            }
+            if (getReferenceId() != null) {
+                _hashCode += getReferenceId().hashCode();
+            }
+            if (getDimensions() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getDimensions());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getDimensions(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
-        }
-        if (getUrls() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getUrls());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getUrls(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+            if (getUrls() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getUrls());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getUrls(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
+            if (getMimeType() != null) {
+                _hashCode += getMimeType().hashCode();
+            }
+            if (getSourceUrl() != null) {
+                _hashCode += getSourceUrl().hashCode();
+            }
+            if (getName() != null) {
+                _hashCode += getName().hashCode();
+            }
+            if (getFileSize() != null) {
+                _hashCode += getFileSize().hashCode();
+            }
+            if (getCreationTime() != null) {
+                _hashCode += getCreationTime().hashCode();
+            }
+            if (getMediaType() != null) {
+                _hashCode += getMediaType().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        if (getMimeType() != null) {
-            _hashCode += getMimeType().hashCode();
-        }
-        if (getSourceUrl() != null) {
-            _hashCode += getSourceUrl().hashCode();
-        }
-        if (getName() != null) {
-            _hashCode += getName().hashCode();
-        }
-        if (getFileSize() != null) {
-            _hashCode += getFileSize().hashCode();
-        }
-        if (getCreationTime() != null) {
-            _hashCode += getCreationTime().hashCode();
-        }
-        if (getMediaType() != null) {
-            _hashCode += getMediaType().hashCode();
-        }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(Media.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(Media.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://adwords.google.com/api/adwords/cm/v201609", "Media"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("mediaId");
@@ -619,13 +624,24 @@ public class Media  implements java.io.Serializable {
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (Media.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -637,7 +653,7 @@ public class Media  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -649,7 +665,7 @@ public class Media  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
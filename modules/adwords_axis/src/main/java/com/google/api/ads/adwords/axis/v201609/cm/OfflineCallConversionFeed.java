@@ -390,74 +390,79 @@ public class OfflineCallConversionFeed  implements java.io.Serializable {
         this.conversionCurrencyCode = conversionCurrencyCode;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof OfflineCallConversionFeed)) return false;
         OfflineCallConversionFeed other = (OfflineCallConversionFeed) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(OfflineCallConversionFeed.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = true && 
-            ((this.callerId==null && other.getCallerId()==null) || 
-             (this.callerId!=null &&
-              this.callerId.equals(other.getCallerId()))) &&
-            ((this.callStartTime==null && other.getCallStartTime()==null) || 
-             (this.callStartTime!=null &&
-              this.callStartTime.equals(other.getCallStartTime()))) &&
-            ((this.conversionName==null && other.getConversionName()==null) || 
-             (this.conversionName!=null &&
-              this.conversionName.equals(other.getConversionName()))) &&
-            ((this.conversionTime==null && other.getConversionTime()==null) || 
-             (this.conversionTime!=null &&
-              this.conversionTime.equals(other.getConversionTime()))) &&
-            ((this.conversionValue==null && other.getConversionValue()==null) || 
-             (this.conversionValue!=null &&
-              this.conversionValue.equals(other.getConversionValue()))) &&
-            ((this.conversionCurrencyCode==null && other.getConversionCurrencyCode()==null) || 
-             (this.conversionCurrencyCode!=null &&
-              this.conversionCurrencyCode.equals(other.getConversionCurrencyCode())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = true && 
+                ((this.callerId==null && other.getCallerId()==null) || 
+                 (this.callerId!=null &&
+                  this.callerId.equals(other.getCallerId()))) &&
+                ((this.callStartTime==null && other.getCallStartTime()==null) || 
+                 (this.callStartTime!=null &&
+                  this.callStartTime.equals(other.getCallStartTime()))) &&
+                ((this.conversionName==null && other.getConversionName()==null) || 
+                 (this.conversionName!=null &&
+                  this.conversionName.equals(other.getConversionName()))) &&
+                ((this.conversionTime==null && other.getConversionTime()==null) || 
+                 (this.conversionTime!=null &&
+                  this.conversionTime.equals(other.getConversionTime()))) &&
+                ((this.conversionValue==null && other.getConversionValue()==null) || 
+                 (this.conversionValue!=null &&
+                  this.conversionValue.equals(other.getConversionValue()))) &&
+                ((this.conversionCurrencyCode==null && other.getConversionCurrencyCode()==null) || 
+                 (this.conversionCurrencyCode!=null &&
+                  this.conversionCurrencyCode.equals(other.getConversionCurrencyCode())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(OfflineCallConversionFeed.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getCallerId() != null) {
-            _hashCode += getCallerId().hashCode();
-        }
-        if (getCallStartTime() != null) {
-            _hashCode += getCallStartTime().hashCode();
-        }
-        if (getConversionName() != null) {
-            _hashCode += getConversionName().hashCode();
-        }
-        if (getConversionTime() != null) {
-            _hashCode += getConversionTime().hashCode();
-        }
-        if (getConversionValue() != null) {
-            _hashCode += getConversionValue().hashCode();
+        try {
+            int _hashCode = 1;
+            if (getCallerId() != null) {
+                _hashCode += getCallerId().hashCode();
+            }
+            if (getCallStartTime() != null) {
+                _hashCode += getCallStartTime().hashCode();
+            }
+            if (getConversionName() != null) {
+                _hashCode += getConversionName().hashCode();
+            }
+            if (getConversionTime() != null) {
+                _hashCode += getConversionTime().hashCode();
+            }
+            if (getConversionValue() != null) {
+                _hashCode += getConversionValue().hashCode();
+            }
+            if (getConversionCurrencyCode() != null) {
+                _hashCode += getConversionCurrencyCode().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        if (getConversionCurrencyCode() != null) {
-            _hashCode += getConversionCurrencyCode().hashCode();
-        }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(OfflineCallConversionFeed.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(OfflineCallConversionFeed.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://adwords.google.com/api/adwords/cm/v201609", "OfflineCallConversionFeed"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("callerId");
@@ -501,13 +506,24 @@ public class OfflineCallConversionFeed  implements java.io.Serializable {
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (OfflineCallConversionFeed.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -519,7 +535,7 @@ public class OfflineCallConversionFeed  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -531,7 +547,7 @@ public class OfflineCallConversionFeed  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
@@ -332,68 +332,73 @@ public class OfflineConversionFeed  implements java.io.Serializable {
         this.conversionCurrencyCode = conversionCurrencyCode;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof OfflineConversionFeed)) return false;
         OfflineConversionFeed other = (OfflineConversionFeed) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(OfflineConversionFeed.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = true && 
-            ((this.googleClickId==null && other.getGoogleClickId()==null) || 
-             (this.googleClickId!=null &&
-              this.googleClickId.equals(other.getGoogleClickId()))) &&
-            ((this.conversionName==null && other.getConversionName()==null) || 
-             (this.conversionName!=null &&
-              this.conversionName.equals(other.getConversionName()))) &&
-            ((this.conversionTime==null && other.getConversionTime()==null) || 
-             (this.conversionTime!=null &&
-              this.conversionTime.equals(other.getConversionTime()))) &&
-            ((this.conversionValue==null && other.getConversionValue()==null) || 
-             (this.conversionValue!=null &&
-              this.conversionValue.equals(other.getConversionValue()))) &&
-            ((this.conversionCurrencyCode==null && other.getConversionCurrencyCode()==null) || 
-             (this.conversionCurrencyCode!=null &&
-              this.conversionCurrencyCode.equals(other.getConversionCurrencyCode())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = true && 
+                ((this.googleClickId==null && other.getGoogleClickId()==null) || 
+                 (this.googleClickId!=null &&
+                  this.googleClickId.equals(other.getGoogleClickId()))) &&
+                ((this.conversionName==null && other.getConversionName()==null) || 
+                 (this.conversionName!=null &&
+                  this.conversionName.equals(other.getConversionName()))) &&
+                ((this.conversionTime==null && other.getConversionTime()==null) || 
+                 (this.conversionTime!=null &&
+                  this.conversionTime.equals(other.getConversionTime()))) &&
+                ((this.conversionValue==null && other.getConversionValue()==null) || 
+                 (this.conversionValue!=null &&
+                  this.conversionValue.equals(other.getConversionValue()))) &&
+                ((this.conversionCurrencyCode==null && other.getConversionCurrencyCode()==null) || 
+                 (this.conversionCurrencyCode!=null &&
+                  this.conversionCurrencyCode.equals(other.getConversionCurrencyCode())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(OfflineConversionFeed.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getGoogleClickId() != null) {
-            _hashCode += getGoogleClickId().hashCode();
-        }
-        if (getConversionName() != null) {
-            _hashCode += getConversionName().hashCode();
-        }
-        if (getConversionTime() != null) {
-            _hashCode += getConversionTime().hashCode();
-        }
-        if (getConversionValue() != null) {
-            _hashCode += getConversionValue().hashCode();
+        try {
+            int _hashCode = 1;
+            if (getGoogleClickId() != null) {
+                _hashCode += getGoogleClickId().hashCode();
+            }
+            if (getConversionName() != null) {
+                _hashCode += getConversionName().hashCode();
+            }
+            if (getConversionTime() != null) {
+                _hashCode += getConversionTime().hashCode();
+            }
+            if (getConversionValue() != null) {
+                _hashCode += getConversionValue().hashCode();
+            }
+            if (getConversionCurrencyCode() != null) {
+                _hashCode += getConversionCurrencyCode().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        if (getConversionCurrencyCode() != null) {
-            _hashCode += getConversionCurrencyCode().hashCode();
-        }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(OfflineConversionFeed.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(OfflineConversionFeed.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://adwords.google.com/api/adwords/cm/v201609", "OfflineConversionFeed"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("googleClickId");
@@ -430,13 +435,24 @@ public class OfflineConversionFeed  implements java.io.Serializable {
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (OfflineConversionFeed.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -448,7 +464,7 @@ public class OfflineConversionFeed  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -460,7 +476,7 @@ public class OfflineConversionFeed  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
@@ -155,70 +155,75 @@ public class PolicyTopicEntry  implements java.io.Serializable {
         this.policyTopicName = policyTopicName;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof PolicyTopicEntry)) return false;
         PolicyTopicEntry other = (PolicyTopicEntry) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(PolicyTopicEntry.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = true && 
-            ((this.policyTopicEntryType==null && other.getPolicyTopicEntryType()==null) || 
-             (this.policyTopicEntryType!=null &&
-              this.policyTopicEntryType.equals(other.getPolicyTopicEntryType()))) &&
-            ((this.policyTopicEvidences==null && other.getPolicyTopicEvidences()==null) || 
-             (this.policyTopicEvidences!=null &&
-              java.util.Arrays.equals(this.policyTopicEvidences, other.getPolicyTopicEvidences()))) &&
-            ((this.policyTopicId==null && other.getPolicyTopicId()==null) || 
-             (this.policyTopicId!=null &&
-              this.policyTopicId.equals(other.getPolicyTopicId()))) &&
-            ((this.policyTopicName==null && other.getPolicyTopicName()==null) || 
-             (this.policyTopicName!=null &&
-              this.policyTopicName.equals(other.getPolicyTopicName())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = true && 
+                ((this.policyTopicEntryType==null && other.getPolicyTopicEntryType()==null) || 
+                 (this.policyTopicEntryType!=null &&
+                  this.policyTopicEntryType.equals(other.getPolicyTopicEntryType()))) &&
+                ((this.policyTopicEvidences==null && other.getPolicyTopicEvidences()==null) || 
+                 (this.policyTopicEvidences!=null &&
+                  java.util.Arrays.equals(this.policyTopicEvidences, other.getPolicyTopicEvidences()))) &&
+                ((this.policyTopicId==null && other.getPolicyTopicId()==null) || 
+                 (this.policyTopicId!=null &&
+                  this.policyTopicId.equals(other.getPolicyTopicId()))) &&
+                ((this.policyTopicName==null && other.getPolicyTopicName()==null) || 
+                 (this.policyTopicName!=null &&
+                  this.policyTopicName.equals(other.getPolicyTopicName())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(PolicyTopicEntry.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getPolicyTopicEntryType() != null) {
-            _hashCode += getPolicyTopicEntryType().hashCode();
-        }
-        if (getPolicyTopicEvidences() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getPolicyTopicEvidences());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getPolicyTopicEvidences(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+        try {
+            int _hashCode = 1;
+            if (getPolicyTopicEntryType() != null) {
+                _hashCode += getPolicyTopicEntryType().hashCode();
+            }
+            if (getPolicyTopicEvidences() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getPolicyTopicEvidences());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getPolicyTopicEvidences(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
+            if (getPolicyTopicId() != null) {
+                _hashCode += getPolicyTopicId().hashCode();
+            }
+            if (getPolicyTopicName() != null) {
+                _hashCode += getPolicyTopicName().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        if (getPolicyTopicId() != null) {
-            _hashCode += getPolicyTopicId().hashCode();
-        }
-        if (getPolicyTopicName() != null) {
-            _hashCode += getPolicyTopicName().hashCode();
-        }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(PolicyTopicEntry.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(PolicyTopicEntry.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://adwords.google.com/api/adwords/cm/v201609", "PolicyTopicEntry"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("policyTopicEntryType");
@@ -249,13 +254,24 @@ public class PolicyTopicEntry  implements java.io.Serializable {
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (PolicyTopicEntry.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -267,7 +283,7 @@ public class PolicyTopicEntry  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -279,7 +295,7 @@ public class PolicyTopicEntry  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
@@ -94,50 +94,55 @@ public class PolicyTopicEvidence  implements java.io.Serializable {
         this.evidenceText = evidenceText;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof PolicyTopicEvidence)) return false;
         PolicyTopicEvidence other = (PolicyTopicEvidence) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(PolicyTopicEvidence.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = true && 
-            ((this.policyTopicEvidenceType==null && other.getPolicyTopicEvidenceType()==null) || 
-             (this.policyTopicEvidenceType!=null &&
-              this.policyTopicEvidenceType.equals(other.getPolicyTopicEvidenceType()))) &&
-            ((this.evidenceText==null && other.getEvidenceText()==null) || 
-             (this.evidenceText!=null &&
-              this.evidenceText.equals(other.getEvidenceText())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = true && 
+                ((this.policyTopicEvidenceType==null && other.getPolicyTopicEvidenceType()==null) || 
+                 (this.policyTopicEvidenceType!=null &&
+                  this.policyTopicEvidenceType.equals(other.getPolicyTopicEvidenceType()))) &&
+                ((this.evidenceText==null && other.getEvidenceText()==null) || 
+                 (this.evidenceText!=null &&
+                  this.evidenceText.equals(other.getEvidenceText())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(PolicyTopicEvidence.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getPolicyTopicEvidenceType() != null) {
-            _hashCode += getPolicyTopicEvidenceType().hashCode();
-        }
-        if (getEvidenceText() != null) {
-            _hashCode += getEvidenceText().hashCode();
+        try {
+            int _hashCode = 1;
+            if (getPolicyTopicEvidenceType() != null) {
+                _hashCode += getPolicyTopicEvidenceType().hashCode();
+            }
+            if (getEvidenceText() != null) {
+                _hashCode += getEvidenceText().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(PolicyTopicEvidence.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(PolicyTopicEvidence.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://adwords.google.com/api/adwords/cm/v201609", "PolicyTopicEvidence"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("policyTopicEvidenceType");
@@ -153,13 +158,24 @@ public class PolicyTopicEvidence  implements java.io.Serializable {
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (PolicyTopicEvidence.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -171,7 +187,7 @@ public class PolicyTopicEvidence  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -183,7 +199,7 @@ public class PolicyTopicEvidence  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
@@ -202,76 +202,81 @@ public class ProductBiddingCategoryData  extends com.google.api.ads.adwords.axis
         this.displayValue[i] = _value;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof ProductBiddingCategoryData)) return false;
         ProductBiddingCategoryData other = (ProductBiddingCategoryData) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(ProductBiddingCategoryData.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = super.equals(obj) && 
-            ((this.dimensionValue==null && other.getDimensionValue()==null) || 
-             (this.dimensionValue!=null &&
-              this.dimensionValue.equals(other.getDimensionValue()))) &&
-            ((this.parentDimensionValue==null && other.getParentDimensionValue()==null) || 
-             (this.parentDimensionValue!=null &&
-              this.parentDimensionValue.equals(other.getParentDimensionValue()))) &&
-            ((this.country==null && other.getCountry()==null) || 
-             (this.country!=null &&
-              this.country.equals(other.getCountry()))) &&
-            ((this.status==null && other.getStatus()==null) || 
-             (this.status!=null &&
-              this.status.equals(other.getStatus()))) &&
-            ((this.displayValue==null && other.getDisplayValue()==null) || 
-             (this.displayValue!=null &&
-              java.util.Arrays.equals(this.displayValue, other.getDisplayValue())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = super.equals(obj) && 
+                ((this.dimensionValue==null && other.getDimensionValue()==null) || 
+                 (this.dimensionValue!=null &&
+                  this.dimensionValue.equals(other.getDimensionValue()))) &&
+                ((this.parentDimensionValue==null && other.getParentDimensionValue()==null) || 
+                 (this.parentDimensionValue!=null &&
+                  this.parentDimensionValue.equals(other.getParentDimensionValue()))) &&
+                ((this.country==null && other.getCountry()==null) || 
+                 (this.country!=null &&
+                  this.country.equals(other.getCountry()))) &&
+                ((this.status==null && other.getStatus()==null) || 
+                 (this.status!=null &&
+                  this.status.equals(other.getStatus()))) &&
+                ((this.displayValue==null && other.getDisplayValue()==null) || 
+                 (this.displayValue!=null &&
+                  java.util.Arrays.equals(this.displayValue, other.getDisplayValue())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(ProductBiddingCategoryData.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = super.hashCode();
-        if (getDimensionValue() != null) {
-            _hashCode += getDimensionValue().hashCode();
-        }
-        if (getParentDimensionValue() != null) {
-            _hashCode += getParentDimensionValue().hashCode();
-        }
-        if (getCountry() != null) {
-            _hashCode += getCountry().hashCode();
-        }
-        if (getStatus() != null) {
-            _hashCode += getStatus().hashCode();
-        }
-        if (getDisplayValue() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getDisplayValue());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getDisplayValue(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+        try {
+            int _hashCode = super.hashCode();
+            if (getDimensionValue() != null) {
+                _hashCode += getDimensionValue().hashCode();
+            }
+            if (getParentDimensionValue() != null) {
+                _hashCode += getParentDimensionValue().hashCode();
+            }
+            if (getCountry() != null) {
+                _hashCode += getCountry().hashCode();
+            }
+            if (getStatus() != null) {
+                _hashCode += getStatus().hashCode();
+            }
+            if (getDisplayValue() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getDisplayValue());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getDisplayValue(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(ProductBiddingCategoryData.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(ProductBiddingCategoryData.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://adwords.google.com/api/adwords/cm/v201609", "ProductBiddingCategoryData"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("dimensionValue");
@@ -309,13 +314,24 @@ public class ProductBiddingCategoryData  extends com.google.api.ads.adwords.axis
         elemField.setNillable(false);
         elemField.setMaxOccursUnbounded(true);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (ProductBiddingCategoryData.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -327,7 +343,7 @@ public class ProductBiddingCategoryData  extends com.google.api.ads.adwords.axis
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -339,7 +355,7 @@ public class ProductBiddingCategoryData  extends com.google.api.ads.adwords.axis
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
@@ -168,62 +168,67 @@ public class Proximity  extends com.google.api.ads.adwords.axis.v201609.cm.Crite
         this.address = address;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof Proximity)) return false;
         Proximity other = (Proximity) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(Proximity.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = super.equals(obj) && 
-            ((this.geoPoint==null && other.getGeoPoint()==null) || 
-             (this.geoPoint!=null &&
-              this.geoPoint.equals(other.getGeoPoint()))) &&
-            ((this.radiusDistanceUnits==null && other.getRadiusDistanceUnits()==null) || 
-             (this.radiusDistanceUnits!=null &&
-              this.radiusDistanceUnits.equals(other.getRadiusDistanceUnits()))) &&
-            ((this.radiusInUnits==null && other.getRadiusInUnits()==null) || 
-             (this.radiusInUnits!=null &&
-              this.radiusInUnits.equals(other.getRadiusInUnits()))) &&
-            ((this.address==null && other.getAddress()==null) || 
-             (this.address!=null &&
-              this.address.equals(other.getAddress())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = super.equals(obj) && 
+                ((this.geoPoint==null && other.getGeoPoint()==null) || 
+                 (this.geoPoint!=null &&
+                  this.geoPoint.equals(other.getGeoPoint()))) &&
+                ((this.radiusDistanceUnits==null && other.getRadiusDistanceUnits()==null) || 
+                 (this.radiusDistanceUnits!=null &&
+                  this.radiusDistanceUnits.equals(other.getRadiusDistanceUnits()))) &&
+                ((this.radiusInUnits==null && other.getRadiusInUnits()==null) || 
+                 (this.radiusInUnits!=null &&
+                  this.radiusInUnits.equals(other.getRadiusInUnits()))) &&
+                ((this.address==null && other.getAddress()==null) || 
+                 (this.address!=null &&
+                  this.address.equals(other.getAddress())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(Proximity.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = super.hashCode();
-        if (getGeoPoint() != null) {
-            _hashCode += getGeoPoint().hashCode();
-        }
-        if (getRadiusDistanceUnits() != null) {
-            _hashCode += getRadiusDistanceUnits().hashCode();
-        }
-        if (getRadiusInUnits() != null) {
-            _hashCode += getRadiusInUnits().hashCode();
-        }
-        if (getAddress() != null) {
-            _hashCode += getAddress().hashCode();
+        try {
+            int _hashCode = super.hashCode();
+            if (getGeoPoint() != null) {
+                _hashCode += getGeoPoint().hashCode();
+            }
+            if (getRadiusDistanceUnits() != null) {
+                _hashCode += getRadiusDistanceUnits().hashCode();
+            }
+            if (getRadiusInUnits() != null) {
+                _hashCode += getRadiusInUnits().hashCode();
+            }
+            if (getAddress() != null) {
+                _hashCode += getAddress().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(Proximity.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(Proximity.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://adwords.google.com/api/adwords/cm/v201609", "Proximity"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("geoPoint");
@@ -253,13 +258,24 @@ public class Proximity  extends com.google.api.ads.adwords.axis.v201609.cm.Crite
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (Proximity.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -271,7 +287,7 @@ public class Proximity  extends com.google.api.ads.adwords.axis.v201609.cm.Crite
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -283,7 +299,7 @@ public class Proximity  extends com.google.api.ads.adwords.axis.v201609.cm.Crite
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
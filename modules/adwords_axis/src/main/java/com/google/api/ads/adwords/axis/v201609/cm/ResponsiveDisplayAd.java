@@ -302,74 +302,79 @@ public class ResponsiveDisplayAd  extends com.google.api.ads.adwords.axis.v20160
         this.businessName = businessName;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof ResponsiveDisplayAd)) return false;
         ResponsiveDisplayAd other = (ResponsiveDisplayAd) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(ResponsiveDisplayAd.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = super.equals(obj) && 
-            ((this.marketingImage==null && other.getMarketingImage()==null) || 
-             (this.marketingImage!=null &&
-              this.marketingImage.equals(other.getMarketingImage()))) &&
-            ((this.logoImage==null && other.getLogoImage()==null) || 
-             (this.logoImage!=null &&
-              this.logoImage.equals(other.getLogoImage()))) &&
-            ((this.shortHeadline==null && other.getShortHeadline()==null) || 
-             (this.shortHeadline!=null &&
-              this.shortHeadline.equals(other.getShortHeadline()))) &&
-            ((this.longHeadline==null && other.getLongHeadline()==null) || 
-             (this.longHeadline!=null &&
-              this.longHeadline.equals(other.getLongHeadline()))) &&
-            ((this.description==null && other.getDescription()==null) || 
-             (this.description!=null &&
-              this.description.equals(other.getDescription()))) &&
-            ((this.businessName==null && other.getBusinessName()==null) || 
-             (this.businessName!=null &&
-              this.businessName.equals(other.getBusinessName())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = super.equals(obj) && 
+                ((this.marketingImage==null && other.getMarketingImage()==null) || 
+                 (this.marketingImage!=null &&
+                  this.marketingImage.equals(other.getMarketingImage()))) &&
+                ((this.logoImage==null && other.getLogoImage()==null) || 
+                 (this.logoImage!=null &&
+                  this.logoImage.equals(other.getLogoImage()))) &&
+                ((this.shortHeadline==null && other.getShortHeadline()==null) || 
+                 (this.shortHeadline!=null &&
+                  this.shortHeadline.equals(other.getShortHeadline()))) &&
+                ((this.longHeadline==null && other.getLongHeadline()==null) || 
+                 (this.longHeadline!=null &&
+                  this.longHeadline.equals(other.getLongHeadline()))) &&
+                ((this.description==null && other.getDescription()==null) || 
+                 (this.description!=null &&
+                  this.description.equals(other.getDescription()))) &&
+                ((this.businessName==null && other.getBusinessName()==null) || 
+                 (this.businessName!=null &&
+                  this.businessName.equals(other.getBusinessName())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(ResponsiveDisplayAd.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = super.hashCode();
-        if (getMarketingImage() != null) {
-            _hashCode += getMarketingImage().hashCode();
-        }
-        if (getLogoImage() != null) {
-            _hashCode += getLogoImage().hashCode();
-        }
-        if (getShortHeadline() != null) {
-            _hashCode += getShortHeadline().hashCode();
-        }
-        if (getLongHeadline() != null) {
-            _hashCode += getLongHeadline().hashCode();
-        }
-        if (getDescription() != null) {
-            _hashCode += getDescription().hashCode();
+        try {
+            int _hashCode = super.hashCode();
+            if (getMarketingImage() != null) {
+                _hashCode += getMarketingImage().hashCode();
+            }
+            if (getLogoImage() != null) {
+                _hashCode += getLogoImage().hashCode();
+            }
+            if (getShortHeadline() != null) {
+                _hashCode += getShortHeadline().hashCode();
+            }
+            if (getLongHeadline() != null) {
+                _hashCode += getLongHeadline().hashCode();
+            }
+            if (getDescription() != null) {
+                _hashCode += getDescription().hashCode();
+            }
+            if (getBusinessName() != null) {
+                _hashCode += getBusinessName().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        if (getBusinessName() != null) {
-            _hashCode += getBusinessName().hashCode();
-        }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(ResponsiveDisplayAd.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(ResponsiveDisplayAd.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://adwords.google.com/api/adwords/cm/v201609", "ResponsiveDisplayAd"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("marketingImage");
@@ -413,13 +418,24 @@ public class ResponsiveDisplayAd  extends com.google.api.ads.adwords.axis.v20160
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (ResponsiveDisplayAd.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -431,7 +447,7 @@ public class ResponsiveDisplayAd  extends com.google.api.ads.adwords.axis.v20160
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -443,7 +459,7 @@ public class ResponsiveDisplayAd  extends com.google.api.ads.adwords.axis.v20160
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
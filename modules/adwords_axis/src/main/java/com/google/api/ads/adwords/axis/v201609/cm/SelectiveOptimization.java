@@ -93,58 +93,63 @@ public class SelectiveOptimization  implements java.io.Serializable {
         this.conversionTypeIdsOps = conversionTypeIdsOps;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof SelectiveOptimization)) return false;
         SelectiveOptimization other = (SelectiveOptimization) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(SelectiveOptimization.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = true && 
-            ((this.conversionTypeIds==null && other.getConversionTypeIds()==null) || 
-             (this.conversionTypeIds!=null &&
-              java.util.Arrays.equals(this.conversionTypeIds, other.getConversionTypeIds()))) &&
-            ((this.conversionTypeIdsOps==null && other.getConversionTypeIdsOps()==null) || 
-             (this.conversionTypeIdsOps!=null &&
-              this.conversionTypeIdsOps.equals(other.getConversionTypeIdsOps())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = true && 
+                ((this.conversionTypeIds==null && other.getConversionTypeIds()==null) || 
+                 (this.conversionTypeIds!=null &&
+                  java.util.Arrays.equals(this.conversionTypeIds, other.getConversionTypeIds()))) &&
+                ((this.conversionTypeIdsOps==null && other.getConversionTypeIdsOps()==null) || 
+                 (this.conversionTypeIdsOps!=null &&
+                  this.conversionTypeIdsOps.equals(other.getConversionTypeIdsOps())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(SelectiveOptimization.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getConversionTypeIds() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getConversionTypeIds());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getConversionTypeIds(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+        try {
+            int _hashCode = 1;
+            if (getConversionTypeIds() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getConversionTypeIds());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getConversionTypeIds(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
+            if (getConversionTypeIdsOps() != null) {
+                _hashCode += getConversionTypeIdsOps().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        if (getConversionTypeIdsOps() != null) {
-            _hashCode += getConversionTypeIdsOps().hashCode();
-        }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(SelectiveOptimization.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(SelectiveOptimization.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://adwords.google.com/api/adwords/cm/v201609", "SelectiveOptimization"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("conversionTypeIds");
@@ -161,13 +166,24 @@ public class SelectiveOptimization  implements java.io.Serializable {
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (SelectiveOptimization.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -179,7 +195,7 @@ public class SelectiveOptimization  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -191,7 +207,7 @@ public class SelectiveOptimization  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
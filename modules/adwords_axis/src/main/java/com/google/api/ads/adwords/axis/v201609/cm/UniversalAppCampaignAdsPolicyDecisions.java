@@ -138,64 +138,69 @@ public class UniversalAppCampaignAdsPolicyDecisions  implements java.io.Serializ
         this.policyTopicEntries[i] = _value;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof UniversalAppCampaignAdsPolicyDecisions)) return false;
         UniversalAppCampaignAdsPolicyDecisions other = (UniversalAppCampaignAdsPolicyDecisions) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(UniversalAppCampaignAdsPolicyDecisions.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = true && 
-            ((this.universalAppCampaignAsset==null && other.getUniversalAppCampaignAsset()==null) || 
-             (this.universalAppCampaignAsset!=null &&
-              this.universalAppCampaignAsset.equals(other.getUniversalAppCampaignAsset()))) &&
-            ((this.assetId==null && other.getAssetId()==null) || 
-             (this.assetId!=null &&
-              this.assetId.equals(other.getAssetId()))) &&
-            ((this.policyTopicEntries==null && other.getPolicyTopicEntries()==null) || 
-             (this.policyTopicEntries!=null &&
-              java.util.Arrays.equals(this.policyTopicEntries, other.getPolicyTopicEntries())));
-        __equalsCalc = null;
-        return _equals;
-    }
-
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
-            return 0;
-        }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getUniversalAppCampaignAsset() != null) {
-            _hashCode += getUniversalAppCampaignAsset().hashCode();
+        try {
+            boolean _equals;
+            _equals = true && 
+                ((this.universalAppCampaignAsset==null && other.getUniversalAppCampaignAsset()==null) || 
+                 (this.universalAppCampaignAsset!=null &&
+                  this.universalAppCampaignAsset.equals(other.getUniversalAppCampaignAsset()))) &&
+                ((this.assetId==null && other.getAssetId()==null) || 
+                 (this.assetId!=null &&
+                  this.assetId.equals(other.getAssetId()))) &&
+                ((this.policyTopicEntries==null && other.getPolicyTopicEntries()==null) || 
+                 (this.policyTopicEntries!=null &&
+                  java.util.Arrays.equals(this.policyTopicEntries, other.getPolicyTopicEntries())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
         }
-        if (getAssetId() != null) {
-            _hashCode += getAssetId().hashCode();
+    }
+
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(UniversalAppCampaignAdsPolicyDecisions.class, this)) {
+            return 0;
         }
-        if (getPolicyTopicEntries() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getPolicyTopicEntries());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getPolicyTopicEntries(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+        try {
+            int _hashCode = 1;
+            if (getUniversalAppCampaignAsset() != null) {
+                _hashCode += getUniversalAppCampaignAsset().hashCode();
+            }
+            if (getAssetId() != null) {
+                _hashCode += getAssetId().hashCode();
+            }
+            if (getPolicyTopicEntries() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getPolicyTopicEntries());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getPolicyTopicEntries(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(UniversalAppCampaignAdsPolicyDecisions.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(UniversalAppCampaignAdsPolicyDecisions.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://adwords.google.com/api/adwords/cm/v201609", "UniversalAppCampaignAdsPolicyDecisions"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("universalAppCampaignAsset");
@@ -219,13 +224,24 @@ public class UniversalAppCampaignAdsPolicyDecisions  implements java.io.Serializ
         elemField.setNillable(false);
         elemField.setMaxOccursUnbounded(true);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (UniversalAppCampaignAdsPolicyDecisions.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -237,7 +253,7 @@ public class UniversalAppCampaignAdsPolicyDecisions  implements java.io.Serializ
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -249,7 +265,7 @@ public class UniversalAppCampaignAdsPolicyDecisions  implements java.io.Serializ
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
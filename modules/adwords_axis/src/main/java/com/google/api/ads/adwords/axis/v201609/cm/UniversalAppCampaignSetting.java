@@ -485,128 +485,133 @@ public class UniversalAppCampaignSetting  extends com.google.api.ads.adwords.axi
         this.adsPolicyDecisions[i] = _value;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof UniversalAppCampaignSetting)) return false;
         UniversalAppCampaignSetting other = (UniversalAppCampaignSetting) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(UniversalAppCampaignSetting.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = super.equals(obj) && 
-            ((this.appId==null && other.getAppId()==null) || 
-             (this.appId!=null &&
-              this.appId.equals(other.getAppId()))) &&
-            ((this.description1==null && other.getDescription1()==null) || 
-             (this.description1!=null &&
-              this.description1.equals(other.getDescription1()))) &&
-            ((this.description2==null && other.getDescription2()==null) || 
-             (this.description2!=null &&
-              this.description2.equals(other.getDescription2()))) &&
-            ((this.description3==null && other.getDescription3()==null) || 
-             (this.description3!=null &&
-              this.description3.equals(other.getDescription3()))) &&
-            ((this.description4==null && other.getDescription4()==null) || 
-             (this.description4!=null &&
-              this.description4.equals(other.getDescription4()))) &&
-            ((this.youtubeVideoMediaIds==null && other.getYoutubeVideoMediaIds()==null) || 
-             (this.youtubeVideoMediaIds!=null &&
-              java.util.Arrays.equals(this.youtubeVideoMediaIds, other.getYoutubeVideoMediaIds()))) &&
-            ((this.imageMediaIds==null && other.getImageMediaIds()==null) || 
-             (this.imageMediaIds!=null &&
-              java.util.Arrays.equals(this.imageMediaIds, other.getImageMediaIds()))) &&
-            ((this.universalAppBiddingStrategyGoalType==null && other.getUniversalAppBiddingStrategyGoalType()==null) || 
-             (this.universalAppBiddingStrategyGoalType!=null &&
-              this.universalAppBiddingStrategyGoalType.equals(other.getUniversalAppBiddingStrategyGoalType()))) &&
-            ((this.youtubeVideoMediaIdsOps==null && other.getYoutubeVideoMediaIdsOps()==null) || 
-             (this.youtubeVideoMediaIdsOps!=null &&
-              this.youtubeVideoMediaIdsOps.equals(other.getYoutubeVideoMediaIdsOps()))) &&
-            ((this.imageMediaIdsOps==null && other.getImageMediaIdsOps()==null) || 
-             (this.imageMediaIdsOps!=null &&
-              this.imageMediaIdsOps.equals(other.getImageMediaIdsOps()))) &&
-            ((this.adsPolicyDecisions==null && other.getAdsPolicyDecisions()==null) || 
-             (this.adsPolicyDecisions!=null &&
-              java.util.Arrays.equals(this.adsPolicyDecisions, other.getAdsPolicyDecisions())));
-        __equalsCalc = null;
-        return _equals;
-    }
-
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
-            return 0;
-        }
-        __hashCodeCalc = true;
-        int _hashCode = super.hashCode();
-        if (getAppId() != null) {
-            _hashCode += getAppId().hashCode();
-        }
-        if (getDescription1() != null) {
-            _hashCode += getDescription1().hashCode();
-        }
-        if (getDescription2() != null) {
-            _hashCode += getDescription2().hashCode();
+        try {
+            boolean _equals;
+            _equals = super.equals(obj) && 
+                ((this.appId==null && other.getAppId()==null) || 
+                 (this.appId!=null &&
+                  this.appId.equals(other.getAppId()))) &&
+                ((this.description1==null && other.getDescription1()==null) || 
+                 (this.description1!=null &&
+                  this.description1.equals(other.getDescription1()))) &&
+                ((this.description2==null && other.getDescription2()==null) || 
+                 (this.description2!=null &&
+                  this.description2.equals(other.getDescription2()))) &&
+                ((this.description3==null && other.getDescription3()==null) || 
+                 (this.description3!=null &&
+                  this.description3.equals(other.getDescription3()))) &&
+                ((this.description4==null && other.getDescription4()==null) || 
+                 (this.description4!=null &&
+                  this.description4.equals(other.getDescription4()))) &&
+                ((this.youtubeVideoMediaIds==null && other.getYoutubeVideoMediaIds()==null) || 
+                 (this.youtubeVideoMediaIds!=null &&
+                  java.util.Arrays.equals(this.youtubeVideoMediaIds, other.getYoutubeVideoMediaIds()))) &&
+                ((this.imageMediaIds==null && other.getImageMediaIds()==null) || 
+                 (this.imageMediaIds!=null &&
+                  java.util.Arrays.equals(this.imageMediaIds, other.getImageMediaIds()))) &&
+                ((this.universalAppBiddingStrategyGoalType==null && other.getUniversalAppBiddingStrategyGoalType()==null) || 
+                 (this.universalAppBiddingStrategyGoalType!=null &&
+                  this.universalAppBiddingStrategyGoalType.equals(other.getUniversalAppBiddingStrategyGoalType()))) &&
+                ((this.youtubeVideoMediaIdsOps==null && other.getYoutubeVideoMediaIdsOps()==null) || 
+                 (this.youtubeVideoMediaIdsOps!=null &&
+                  this.youtubeVideoMediaIdsOps.equals(other.getYoutubeVideoMediaIdsOps()))) &&
+                ((this.imageMediaIdsOps==null && other.getImageMediaIdsOps()==null) || 
+                 (this.imageMediaIdsOps!=null &&
+                  this.imageMediaIdsOps.equals(other.getImageMediaIdsOps()))) &&
+                ((this.adsPolicyDecisions==null && other.getAdsPolicyDecisions()==null) || 
+                 (this.adsPolicyDecisions!=null &&
+                  java.util.Arrays.equals(this.adsPolicyDecisions, other.getAdsPolicyDecisions())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
         }
-        if (getDescription3() != null) {
-            _hashCode += getDescription3().hashCode();
-        }
-        if (getDescription4() != null) {
-            _hashCode += getDescription4().hashCode();
+    }
+
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(UniversalAppCampaignSetting.class, this)) {
+            return 0;
         }
-        if (getYoutubeVideoMediaIds() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getYoutubeVideoMediaIds());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getYoutubeVideoMediaIds(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+        try {
+            int _hashCode = super.hashCode();
+            if (getAppId() != null) {
+                _hashCode += getAppId().hashCode();
+            }
+            if (getDescription1() != null) {
+                _hashCode += getDescription1().hashCode();
+            }
+            if (getDescription2() != null) {
+                _hashCode += getDescription2().hashCode();
+            }
+            if (getDescription3() != null) {
+                _hashCode += getDescription3().hashCode();
+            }
+            if (getDescription4() != null) {
+                _hashCode += getDescription4().hashCode();
+            }
+            if (getYoutubeVideoMediaIds() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getYoutubeVideoMediaIds());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getYoutubeVideoMediaIds(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
-        }
-        if (getImageMediaIds() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getImageMediaIds());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getImageMediaIds(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+            if (getImageMediaIds() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getImageMediaIds());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getImageMediaIds(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
-        }
-        if (getUniversalAppBiddingStrategyGoalType() != null) {
-            _hashCode += getUniversalAppBiddingStrategyGoalType().hashCode();
-        }
-        if (getYoutubeVideoMediaIdsOps() != null) {
-            _hashCode += getYoutubeVideoMediaIdsOps().hashCode();
-        }
-        if (getImageMediaIdsOps() != null) {
-            _hashCode += getImageMediaIdsOps().hashCode();
-        }
-        if (getAdsPolicyDecisions() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getAdsPolicyDecisions());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getAdsPolicyDecisions(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+            if (getUniversalAppBiddingStrategyGoalType() != null) {
+                _hashCode += getUniversalAppBiddingStrategyGoalType().hashCode();
+            }
+            if (getYoutubeVideoMediaIdsOps() != null) {
+                _hashCode += getYoutubeVideoMediaIdsOps().hashCode();
+            }
+            if (getImageMediaIdsOps() != null) {
+                _hashCode += getImageMediaIdsOps().hashCode();
+            }
+            if (getAdsPolicyDecisions() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getAdsPolicyDecisions());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getAdsPolicyDecisions(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(UniversalAppCampaignSetting.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(UniversalAppCampaignSetting.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://adwords.google.com/api/adwords/cm/v201609", "UniversalAppCampaignSetting"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("appId");
@@ -688,13 +693,24 @@ public class UniversalAppCampaignSetting  extends com.google.api.ads.adwords.axi
         elemField.setNillable(false);
         elemField.setMaxOccursUnbounded(true);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (UniversalAppCampaignSetting.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -706,7 +722,7 @@ public class UniversalAppCampaignSetting  extends com.google.api.ads.adwords.axi
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -718,7 +734,7 @@ public class UniversalAppCampaignSetting  extends com.google.api.ads.adwords.axi
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
@@ -179,64 +179,69 @@ public class Vertical  extends com.google.api.ads.adwords.axis.v201609.cm.Criter
         this.path[i] = _value;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof Vertical)) return false;
         Vertical other = (Vertical) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(Vertical.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = super.equals(obj) && 
-            ((this.verticalId==null && other.getVerticalId()==null) || 
-             (this.verticalId!=null &&
-              this.verticalId.equals(other.getVerticalId()))) &&
-            ((this.verticalParentId==null && other.getVerticalParentId()==null) || 
-             (this.verticalParentId!=null &&
-              this.verticalParentId.equals(other.getVerticalParentId()))) &&
-            ((this.path==null && other.getPath()==null) || 
-             (this.path!=null &&
-              java.util.Arrays.equals(this.path, other.getPath())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = super.equals(obj) && 
+                ((this.verticalId==null && other.getVerticalId()==null) || 
+                 (this.verticalId!=null &&
+                  this.verticalId.equals(other.getVerticalId()))) &&
+                ((this.verticalParentId==null && other.getVerticalParentId()==null) || 
+                 (this.verticalParentId!=null &&
+                  this.verticalParentId.equals(other.getVerticalParentId()))) &&
+                ((this.path==null && other.getPath()==null) || 
+                 (this.path!=null &&
+                  java.util.Arrays.equals(this.path, other.getPath())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(Vertical.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = super.hashCode();
-        if (getVerticalId() != null) {
-            _hashCode += getVerticalId().hashCode();
-        }
-        if (getVerticalParentId() != null) {
-            _hashCode += getVerticalParentId().hashCode();
-        }
-        if (getPath() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getPath());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getPath(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+        try {
+            int _hashCode = super.hashCode();
+            if (getVerticalId() != null) {
+                _hashCode += getVerticalId().hashCode();
+            }
+            if (getVerticalParentId() != null) {
+                _hashCode += getVerticalParentId().hashCode();
+            }
+            if (getPath() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getPath());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getPath(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(Vertical.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(Vertical.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://adwords.google.com/api/adwords/cm/v201609", "Vertical"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("verticalId");
@@ -260,13 +265,24 @@ public class Vertical  extends com.google.api.ads.adwords.axis.v201609.cm.Criter
         elemField.setNillable(false);
         elemField.setMaxOccursUnbounded(true);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (Vertical.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -278,7 +294,7 @@ public class Vertical  extends com.google.api.ads.adwords.axis.v201609.cm.Criter
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -290,7 +306,7 @@ public class Vertical  extends com.google.api.ads.adwords.axis.v201609.cm.Criter
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
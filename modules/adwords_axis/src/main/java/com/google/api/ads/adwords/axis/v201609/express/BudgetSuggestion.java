@@ -311,92 +311,97 @@ public class BudgetSuggestion  implements java.io.Serializable {
         this.currencyCode = currencyCode;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof BudgetSuggestion)) return false;
         BudgetSuggestion other = (BudgetSuggestion) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(BudgetSuggestion.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = true && 
-            ((this.cpc==null && other.getCpc()==null) || 
-             (this.cpc!=null &&
-              this.cpc.equals(other.getCpc()))) &&
-            ((this.minCpc==null && other.getMinCpc()==null) || 
-             (this.minCpc!=null &&
-              this.minCpc.equals(other.getMinCpc()))) &&
-            ((this.maxCpc==null && other.getMaxCpc()==null) || 
-             (this.maxCpc!=null &&
-              this.maxCpc.equals(other.getMaxCpc()))) &&
-            ((this.cpm==null && other.getCpm()==null) || 
-             (this.cpm!=null &&
-              this.cpm.equals(other.getCpm()))) &&
-            ((this.suggestedBudget==null && other.getSuggestedBudget()==null) || 
-             (this.suggestedBudget!=null &&
-              this.suggestedBudget.equals(other.getSuggestedBudget()))) &&
-            ((this.minBudget==null && other.getMinBudget()==null) || 
-             (this.minBudget!=null &&
-              this.minBudget.equals(other.getMinBudget()))) &&
-            ((this.maxBudget==null && other.getMaxBudget()==null) || 
-             (this.maxBudget!=null &&
-              this.maxBudget.equals(other.getMaxBudget()))) &&
-            ((this.impressions==null && other.getImpressions()==null) || 
-             (this.impressions!=null &&
-              this.impressions.equals(other.getImpressions()))) &&
-            ((this.currencyCode==null && other.getCurrencyCode()==null) || 
-             (this.currencyCode!=null &&
-              this.currencyCode.equals(other.getCurrencyCode())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = true && 
+                ((this.cpc==null && other.getCpc()==null) || 
+                 (this.cpc!=null &&
+                  this.cpc.equals(other.getCpc()))) &&
+                ((this.minCpc==null && other.getMinCpc()==null) || 
+                 (this.minCpc!=null &&
+                  this.minCpc.equals(other.getMinCpc()))) &&
+                ((this.maxCpc==null && other.getMaxCpc()==null) || 
+                 (this.maxCpc!=null &&
+                  this.maxCpc.equals(other.getMaxCpc()))) &&
+                ((this.cpm==null && other.getCpm()==null) || 
+                 (this.cpm!=null &&
+                  this.cpm.equals(other.getCpm()))) &&
+                ((this.suggestedBudget==null && other.getSuggestedBudget()==null) || 
+                 (this.suggestedBudget!=null &&
+                  this.suggestedBudget.equals(other.getSuggestedBudget()))) &&
+                ((this.minBudget==null && other.getMinBudget()==null) || 
+                 (this.minBudget!=null &&
+                  this.minBudget.equals(other.getMinBudget()))) &&
+                ((this.maxBudget==null && other.getMaxBudget()==null) || 
+                 (this.maxBudget!=null &&
+                  this.maxBudget.equals(other.getMaxBudget()))) &&
+                ((this.impressions==null && other.getImpressions()==null) || 
+                 (this.impressions!=null &&
+                  this.impressions.equals(other.getImpressions()))) &&
+                ((this.currencyCode==null && other.getCurrencyCode()==null) || 
+                 (this.currencyCode!=null &&
+                  this.currencyCode.equals(other.getCurrencyCode())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(BudgetSuggestion.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getCpc() != null) {
-            _hashCode += getCpc().hashCode();
-        }
-        if (getMinCpc() != null) {
-            _hashCode += getMinCpc().hashCode();
-        }
-        if (getMaxCpc() != null) {
-            _hashCode += getMaxCpc().hashCode();
-        }
-        if (getCpm() != null) {
-            _hashCode += getCpm().hashCode();
-        }
-        if (getSuggestedBudget() != null) {
-            _hashCode += getSuggestedBudget().hashCode();
-        }
-        if (getMinBudget() != null) {
-            _hashCode += getMinBudget().hashCode();
+        try {
+            int _hashCode = 1;
+            if (getCpc() != null) {
+                _hashCode += getCpc().hashCode();
+            }
+            if (getMinCpc() != null) {
+                _hashCode += getMinCpc().hashCode();
+            }
+            if (getMaxCpc() != null) {
+                _hashCode += getMaxCpc().hashCode();
+            }
+            if (getCpm() != null) {
+                _hashCode += getCpm().hashCode();
+            }
+            if (getSuggestedBudget() != null) {
+                _hashCode += getSuggestedBudget().hashCode();
+            }
+            if (getMinBudget() != null) {
+                _hashCode += getMinBudget().hashCode();
+            }
+            if (getMaxBudget() != null) {
+                _hashCode += getMaxBudget().hashCode();
+            }
+            if (getImpressions() != null) {
+                _hashCode += getImpressions().hashCode();
+            }
+            if (getCurrencyCode() != null) {
+                _hashCode += getCurrencyCode().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        if (getMaxBudget() != null) {
-            _hashCode += getMaxBudget().hashCode();
-        }
-        if (getImpressions() != null) {
-            _hashCode += getImpressions().hashCode();
-        }
-        if (getCurrencyCode() != null) {
-            _hashCode += getCurrencyCode().hashCode();
-        }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(BudgetSuggestion.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(BudgetSuggestion.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://adwords.google.com/api/adwords/express/v201609", "BudgetSuggestion"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("cpc");
@@ -461,13 +466,24 @@ public class BudgetSuggestion  implements java.io.Serializable {
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (BudgetSuggestion.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -479,7 +495,7 @@ public class BudgetSuggestion  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -491,7 +507,7 @@ public class BudgetSuggestion  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
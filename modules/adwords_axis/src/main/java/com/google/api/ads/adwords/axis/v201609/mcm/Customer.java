@@ -394,104 +394,109 @@ public class Customer  implements java.io.Serializable {
         this.remarketingSettings = remarketingSettings;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof Customer)) return false;
         Customer other = (Customer) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(Customer.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = true && 
-            ((this.customerId==null && other.getCustomerId()==null) || 
-             (this.customerId!=null &&
-              this.customerId.equals(other.getCustomerId()))) &&
-            ((this.currencyCode==null && other.getCurrencyCode()==null) || 
-             (this.currencyCode!=null &&
-              this.currencyCode.equals(other.getCurrencyCode()))) &&
-            ((this.dateTimeZone==null && other.getDateTimeZone()==null) || 
-             (this.dateTimeZone!=null &&
-              this.dateTimeZone.equals(other.getDateTimeZone()))) &&
-            ((this.descriptiveName==null && other.getDescriptiveName()==null) || 
-             (this.descriptiveName!=null &&
-              this.descriptiveName.equals(other.getDescriptiveName()))) &&
-            ((this.companyName==null && other.getCompanyName()==null) || 
-             (this.companyName!=null &&
-              this.companyName.equals(other.getCompanyName()))) &&
-            ((this.canManageClients==null && other.getCanManageClients()==null) || 
-             (this.canManageClients!=null &&
-              this.canManageClients.equals(other.getCanManageClients()))) &&
-            ((this.testAccount==null && other.getTestAccount()==null) || 
-             (this.testAccount!=null &&
-              this.testAccount.equals(other.getTestAccount()))) &&
-            ((this.autoTaggingEnabled==null && other.getAutoTaggingEnabled()==null) || 
-             (this.autoTaggingEnabled!=null &&
-              this.autoTaggingEnabled.equals(other.getAutoTaggingEnabled()))) &&
-            ((this.trackingUrlTemplate==null && other.getTrackingUrlTemplate()==null) || 
-             (this.trackingUrlTemplate!=null &&
-              this.trackingUrlTemplate.equals(other.getTrackingUrlTemplate()))) &&
-            ((this.conversionTrackingSettings==null && other.getConversionTrackingSettings()==null) || 
-             (this.conversionTrackingSettings!=null &&
-              this.conversionTrackingSettings.equals(other.getConversionTrackingSettings()))) &&
-            ((this.remarketingSettings==null && other.getRemarketingSettings()==null) || 
-             (this.remarketingSettings!=null &&
-              this.remarketingSettings.equals(other.getRemarketingSettings())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = true && 
+                ((this.customerId==null && other.getCustomerId()==null) || 
+                 (this.customerId!=null &&
+                  this.customerId.equals(other.getCustomerId()))) &&
+                ((this.currencyCode==null && other.getCurrencyCode()==null) || 
+                 (this.currencyCode!=null &&
+                  this.currencyCode.equals(other.getCurrencyCode()))) &&
+                ((this.dateTimeZone==null && other.getDateTimeZone()==null) || 
+                 (this.dateTimeZone!=null &&
+                  this.dateTimeZone.equals(other.getDateTimeZone()))) &&
+                ((this.descriptiveName==null && other.getDescriptiveName()==null) || 
+                 (this.descriptiveName!=null &&
+                  this.descriptiveName.equals(other.getDescriptiveName()))) &&
+                ((this.companyName==null && other.getCompanyName()==null) || 
+                 (this.companyName!=null &&
+                  this.companyName.equals(other.getCompanyName()))) &&
+                ((this.canManageClients==null && other.getCanManageClients()==null) || 
+                 (this.canManageClients!=null &&
+                  this.canManageClients.equals(other.getCanManageClients()))) &&
+                ((this.testAccount==null && other.getTestAccount()==null) || 
+                 (this.testAccount!=null &&
+                  this.testAccount.equals(other.getTestAccount()))) &&
+                ((this.autoTaggingEnabled==null && other.getAutoTaggingEnabled()==null) || 
+                 (this.autoTaggingEnabled!=null &&
+                  this.autoTaggingEnabled.equals(other.getAutoTaggingEnabled()))) &&
+                ((this.trackingUrlTemplate==null && other.getTrackingUrlTemplate()==null) || 
+                 (this.trackingUrlTemplate!=null &&
+                  this.trackingUrlTemplate.equals(other.getTrackingUrlTemplate()))) &&
+                ((this.conversionTrackingSettings==null && other.getConversionTrackingSettings()==null) || 
+                 (this.conversionTrackingSettings!=null &&
+                  this.conversionTrackingSettings.equals(other.getConversionTrackingSettings()))) &&
+                ((this.remarketingSettings==null && other.getRemarketingSettings()==null) || 
+                 (this.remarketingSettings!=null &&
+                  this.remarketingSettings.equals(other.getRemarketingSettings())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(Customer.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getCustomerId() != null) {
-            _hashCode += getCustomerId().hashCode();
-        }
-        if (getCurrencyCode() != null) {
-            _hashCode += getCurrencyCode().hashCode();
-        }
-        if (getDateTimeZone() != null) {
-            _hashCode += getDateTimeZone().hashCode();
-        }
-        if (getDescriptiveName() != null) {
-            _hashCode += getDescriptiveName().hashCode();
-        }
-        if (getCompanyName() != null) {
-            _hashCode += getCompanyName().hashCode();
-        }
-        if (getCanManageClients() != null) {
-            _hashCode += getCanManageClients().hashCode();
-        }
-        if (getTestAccount() != null) {
-            _hashCode += getTestAccount().hashCode();
+        try {
+            int _hashCode = 1;
+            if (getCustomerId() != null) {
+                _hashCode += getCustomerId().hashCode();
+            }
+            if (getCurrencyCode() != null) {
+                _hashCode += getCurrencyCode().hashCode();
+            }
+            if (getDateTimeZone() != null) {
+                _hashCode += getDateTimeZone().hashCode();
+            }
+            if (getDescriptiveName() != null) {
+                _hashCode += getDescriptiveName().hashCode();
+            }
+            if (getCompanyName() != null) {
+                _hashCode += getCompanyName().hashCode();
+            }
+            if (getCanManageClients() != null) {
+                _hashCode += getCanManageClients().hashCode();
+            }
+            if (getTestAccount() != null) {
+                _hashCode += getTestAccount().hashCode();
+            }
+            if (getAutoTaggingEnabled() != null) {
+                _hashCode += getAutoTaggingEnabled().hashCode();
+            }
+            if (getTrackingUrlTemplate() != null) {
+                _hashCode += getTrackingUrlTemplate().hashCode();
+            }
+            if (getConversionTrackingSettings() != null) {
+                _hashCode += getConversionTrackingSettings().hashCode();
+            }
+            if (getRemarketingSettings() != null) {
+                _hashCode += getRemarketingSettings().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        if (getAutoTaggingEnabled() != null) {
-            _hashCode += getAutoTaggingEnabled().hashCode();
-        }
-        if (getTrackingUrlTemplate() != null) {
-            _hashCode += getTrackingUrlTemplate().hashCode();
-        }
-        if (getConversionTrackingSettings() != null) {
-            _hashCode += getConversionTrackingSettings().hashCode();
-        }
-        if (getRemarketingSettings() != null) {
-            _hashCode += getRemarketingSettings().hashCode();
-        }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(Customer.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(Customer.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://adwords.google.com/api/adwords/mcm/v201609", "Customer"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("customerId");
@@ -570,13 +575,24 @@ public class Customer  implements java.io.Serializable {
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (Customer.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -588,7 +604,7 @@ public class Customer  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -600,7 +616,7 @@ public class Customer  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
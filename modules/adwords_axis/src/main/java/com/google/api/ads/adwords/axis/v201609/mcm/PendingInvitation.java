@@ -128,62 +128,67 @@ public class PendingInvitation  implements java.io.Serializable {
         this.expirationDate = expirationDate;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof PendingInvitation)) return false;
         PendingInvitation other = (PendingInvitation) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(PendingInvitation.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = true && 
-            ((this.manager==null && other.getManager()==null) || 
-             (this.manager!=null &&
-              this.manager.equals(other.getManager()))) &&
-            ((this.client==null && other.getClient()==null) || 
-             (this.client!=null &&
-              this.client.equals(other.getClient()))) &&
-            ((this.creationDate==null && other.getCreationDate()==null) || 
-             (this.creationDate!=null &&
-              this.creationDate.equals(other.getCreationDate()))) &&
-            ((this.expirationDate==null && other.getExpirationDate()==null) || 
-             (this.expirationDate!=null &&
-              this.expirationDate.equals(other.getExpirationDate())));
-        __equalsCalc = null;
-        return _equals;
-    }
-
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
-            return 0;
-        }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getManager() != null) {
-            _hashCode += getManager().hashCode();
-        }
-        if (getClient() != null) {
-            _hashCode += getClient().hashCode();
+        try {
+            boolean _equals;
+            _equals = true && 
+                ((this.manager==null && other.getManager()==null) || 
+                 (this.manager!=null &&
+                  this.manager.equals(other.getManager()))) &&
+                ((this.client==null && other.getClient()==null) || 
+                 (this.client!=null &&
+                  this.client.equals(other.getClient()))) &&
+                ((this.creationDate==null && other.getCreationDate()==null) || 
+                 (this.creationDate!=null &&
+                  this.creationDate.equals(other.getCreationDate()))) &&
+                ((this.expirationDate==null && other.getExpirationDate()==null) || 
+                 (this.expirationDate!=null &&
+                  this.expirationDate.equals(other.getExpirationDate())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
         }
-        if (getCreationDate() != null) {
-            _hashCode += getCreationDate().hashCode();
+    }
+
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(PendingInvitation.class, this)) {
+            return 0;
         }
-        if (getExpirationDate() != null) {
-            _hashCode += getExpirationDate().hashCode();
+        try {
+            int _hashCode = 1;
+            if (getManager() != null) {
+                _hashCode += getManager().hashCode();
+            }
+            if (getClient() != null) {
+                _hashCode += getClient().hashCode();
+            }
+            if (getCreationDate() != null) {
+                _hashCode += getCreationDate().hashCode();
+            }
+            if (getExpirationDate() != null) {
+                _hashCode += getExpirationDate().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(PendingInvitation.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(PendingInvitation.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://adwords.google.com/api/adwords/mcm/v201609", "PendingInvitation"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("manager");
@@ -213,13 +218,24 @@ public class PendingInvitation  implements java.io.Serializable {
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (PendingInvitation.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -231,7 +247,7 @@ public class PendingInvitation  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -243,7 +259,7 @@ public class PendingInvitation  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
@@ -175,62 +175,67 @@ public class ServiceLink  implements java.io.Serializable {
         this.name = name;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof ServiceLink)) return false;
         ServiceLink other = (ServiceLink) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(ServiceLink.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = true && 
-            ((this.serviceType==null && other.getServiceType()==null) || 
-             (this.serviceType!=null &&
-              this.serviceType.equals(other.getServiceType()))) &&
-            ((this.serviceLinkId==null && other.getServiceLinkId()==null) || 
-             (this.serviceLinkId!=null &&
-              this.serviceLinkId.equals(other.getServiceLinkId()))) &&
-            ((this.linkStatus==null && other.getLinkStatus()==null) || 
-             (this.linkStatus!=null &&
-              this.linkStatus.equals(other.getLinkStatus()))) &&
-            ((this.name==null && other.getName()==null) || 
-             (this.name!=null &&
-              this.name.equals(other.getName())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = true && 
+                ((this.serviceType==null && other.getServiceType()==null) || 
+                 (this.serviceType!=null &&
+                  this.serviceType.equals(other.getServiceType()))) &&
+                ((this.serviceLinkId==null && other.getServiceLinkId()==null) || 
+                 (this.serviceLinkId!=null &&
+                  this.serviceLinkId.equals(other.getServiceLinkId()))) &&
+                ((this.linkStatus==null && other.getLinkStatus()==null) || 
+                 (this.linkStatus!=null &&
+                  this.linkStatus.equals(other.getLinkStatus()))) &&
+                ((this.name==null && other.getName()==null) || 
+                 (this.name!=null &&
+                  this.name.equals(other.getName())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(ServiceLink.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getServiceType() != null) {
-            _hashCode += getServiceType().hashCode();
-        }
-        if (getServiceLinkId() != null) {
-            _hashCode += getServiceLinkId().hashCode();
-        }
-        if (getLinkStatus() != null) {
-            _hashCode += getLinkStatus().hashCode();
-        }
-        if (getName() != null) {
-            _hashCode += getName().hashCode();
+        try {
+            int _hashCode = 1;
+            if (getServiceType() != null) {
+                _hashCode += getServiceType().hashCode();
+            }
+            if (getServiceLinkId() != null) {
+                _hashCode += getServiceLinkId().hashCode();
+            }
+            if (getLinkStatus() != null) {
+                _hashCode += getLinkStatus().hashCode();
+            }
+            if (getName() != null) {
+                _hashCode += getName().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(ServiceLink.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(ServiceLink.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://adwords.google.com/api/adwords/mcm/v201609", "ServiceLink"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("serviceType");
@@ -260,13 +265,24 @@ public class ServiceLink  implements java.io.Serializable {
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (ServiceLink.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -278,7 +294,7 @@ public class ServiceLink  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -290,7 +306,7 @@ public class ServiceLink  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
@@ -160,66 +160,71 @@ public class IdeaTextFilterSearchParameter  extends com.google.api.ads.adwords.a
         this.excluded[i] = _value;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof IdeaTextFilterSearchParameter)) return false;
         IdeaTextFilterSearchParameter other = (IdeaTextFilterSearchParameter) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(IdeaTextFilterSearchParameter.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = super.equals(obj) && 
-            ((this.included==null && other.getIncluded()==null) || 
-             (this.included!=null &&
-              java.util.Arrays.equals(this.included, other.getIncluded()))) &&
-            ((this.excluded==null && other.getExcluded()==null) || 
-             (this.excluded!=null &&
-              java.util.Arrays.equals(this.excluded, other.getExcluded())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = super.equals(obj) && 
+                ((this.included==null && other.getIncluded()==null) || 
+                 (this.included!=null &&
+                  java.util.Arrays.equals(this.included, other.getIncluded()))) &&
+                ((this.excluded==null && other.getExcluded()==null) || 
+                 (this.excluded!=null &&
+                  java.util.Arrays.equals(this.excluded, other.getExcluded())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(IdeaTextFilterSearchParameter.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = super.hashCode();
-        if (getIncluded() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getIncluded());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getIncluded(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+        try {
+            int _hashCode = super.hashCode();
+            if (getIncluded() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getIncluded());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getIncluded(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
-        }
-        if (getExcluded() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getExcluded());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getExcluded(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+            if (getExcluded() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getExcluded());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getExcluded(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(IdeaTextFilterSearchParameter.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(IdeaTextFilterSearchParameter.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://adwords.google.com/api/adwords/o/v201609", "IdeaTextFilterSearchParameter"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("included");
@@ -237,13 +242,24 @@ public class IdeaTextFilterSearchParameter  extends com.google.api.ads.adwords.a
         elemField.setNillable(false);
         elemField.setMaxOccursUnbounded(true);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (IdeaTextFilterSearchParameter.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -255,7 +271,7 @@ public class IdeaTextFilterSearchParameter  extends com.google.api.ads.adwords.a
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -267,7 +283,7 @@ public class IdeaTextFilterSearchParameter  extends com.google.api.ads.adwords.a
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
@@ -16,11 +16,14 @@ package com.google.api.ads.adwords.axis;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.anyString;
 import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.atLeast;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -203,4 +206,29 @@ public class AdWordsAxisHeaderHandlerTest {
     }
   }
 
+  /**
+   * Tests that the SOAP header is built once per snapshot of the session's header values, while
+   * the authorization header is set on every call.
+   */
+  @Test
+  public void testSetHeaders_cachesSoapHeaderPerSessionSnapshot() throws Exception {
+    when(soapHeaderFactory.createSoapHeader(adWordsServiceDescriptor)).thenReturn(
+        Maps.newHashMap(), Maps.newHashMap());
+    when(userAgentCombiner.getUserAgent(anyString())).thenReturn("libSig");
+
+    headerHandler.setHeaders(soapClient, adWordsSession, adWordsServiceDescriptor);
+    headerHandler.setHeaders(soapClient, adWordsSession, adWordsServiceDescriptor);
+    adWordsSession.setClientCustomerId("987-654-3210");
+    headerHandler.setHeaders(soapClient, adWordsSession, adWordsServiceDescriptor);
+
+    verify(soapHeaderFactory, times(2)).createSoapHeader(adWordsServiceDescriptor);
+    verify(authorizationHeaderHandler, times(3)).setAuthorization(soapClient, adWordsSession);
+
+    ArgumentCaptor<Object> headerCaptor = ArgumentCaptor.forClass(Object.class);
+    verify(soapClientHandler, times(3)).setHeader(eq(soapClient), anyString(),
+        eq(AdWordsAxisHeaderHandler.REQUEST_HEADER_LOCAL_PART), headerCaptor.capture());
+    List<Object> soapHeaders = headerCaptor.getAllValues();
+    assertSame(soapHeaders.get(0), soapHeaders.get(1));
+    assertNotSame(soapHeaders.get(0), soapHeaders.get(2));
+  }
 }
@@ -0,0 +1,104 @@
+// Copyright 2014, Google Inc. All Rights Reserved.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.api.ads.adwords.axis;
+
+import static org.junit.Assert.assertEquals;
+
+import com.google.api.ads.adwords.axis.factory.AdWordsServices;
+import com.google.api.ads.adwords.axis.testing.SoapRequestXmlProvider;
+import com.google.api.ads.adwords.axis.v201609.cm.Budget;
+import com.google.api.ads.adwords.axis.v201609.cm.BudgetBudgetDeliveryMethod;
+import com.google.api.ads.adwords.axis.v201609.cm.BudgetOperation;
+import com.google.api.ads.adwords.axis.v201609.cm.BudgetServiceInterface;
+import com.google.api.ads.adwords.axis.v201609.cm.Money;
+import com.google.api.ads.adwords.axis.v201609.cm.Operator;
+import com.google.api.ads.adwords.lib.client.AdWordsSession;
+import com.google.api.ads.adwords.lib.soap.testing.SoapResponseXmlProvider;
+import com.google.api.ads.common.lib.testing.MockHttpIntegrationTest;
+import com.google.api.client.googleapis.auth.oauth2.GoogleCredential;
+import com.google.api.client.http.javanet.NetHttpTransport;
+import com.google.api.client.json.jackson2.JacksonFactory;
+import com.google.common.collect.Lists;
+
+import org.custommonkey.xmlunit.XMLAssert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/**
+ * Tests that AdWords Axis SOAP calls can be made end-to-end when the connection pool is enabled.
+ * This test should be run in its own JVM because it makes changes to system properties that could
+ * cause issues with other integration tests.
+ */
+@RunWith(JUnit4.class)
+public class AdWordsAxisSoapConnectionPoolIntegrationTest extends MockHttpIntegrationTest {
+
+  private static final String API_VERSION = "v201609";
+
+  @BeforeClass
+  public static void setupClass() {
+    System.setProperty("api.adwords.useConnectionPool", "true");
+  }
+
+  /**
+   * Tests making consecutive Axis AdWords API calls over the pooled transport.
+   */
+  @Test
+  public void testGoldenSoap_oauth2_connectionPoolEnabled() throws Exception {
+    testHttpServer.setMockResponseBodies(Lists.newArrayList(
+        SoapResponseXmlProvider.getTestSoapResponse(API_VERSION),
+        SoapResponseXmlProvider.getTestSoapResponse(API_VERSION)));
+
+    GoogleCredential credential = new GoogleCredential.Builder().setTransport(
+        new NetHttpTransport()).setJsonFactory(new JacksonFactory()).build();
+    credential.setAccessToken("TEST_ACCESS_TOKEN");
+
+    AdWordsSession session = new AdWordsSession.Builder().withUserAgent("TEST_APP")
+        .withOAuth2Credential(credential)
+        .withEndpoint(testHttpServer.getServerUrl())
+        .withDeveloperToken("TEST_DEVELOPER_TOKEN")
+        .withClientCustomerId("TEST_CLIENT_CUSTOMER_ID")
+        .build();
+
+    AdWordsServices adWordsServices = new AdWordsServices();
+    Budget budget = new Budget();
+    budget.setName("Test Budget Name");
+    Money money = new Money();
+    money.setMicroAmount(50000000L);
+    budget.setAmount(money);
+    budget.setDeliveryMethod(BudgetBudgetDeliveryMethod.STANDARD);
+
+    BudgetOperation operation = new BudgetOperation();
+    operation.setOperand(budget);
+    operation.setOperator(Operator.ADD);
+
+    // Each call uses a new client, and therefore a new Axis engine, so the second call also
+    // verifies that the pooled transport is shared across clients.
+    for (int i = 0; i < 2; i++) {
+      BudgetServiceInterface budgetService =
+          adWordsServices.get(session, BudgetServiceInterface.class);
+      Budget responseBudget = budgetService.mutate(new BudgetOperation[] {operation}).getValue(0);
+
+      assertEquals("Budget ID does not match", 251877074L,
+          responseBudget.getBudgetId().longValue());
+      assertEquals("Budget name does not match", budget.getName(), responseBudget.getName());
+      XMLAssert.assertXMLEqual(SoapRequestXmlProvider.getOAuth2SoapRequest(API_VERSION),
+          testHttpServer.getLastRequestBody());
+      assertEquals("Bearer TEST_ACCESS_TOKEN", testHttpServer.getLastAuthorizationHttpHeader());
+    }
+    assertEquals(2, testHttpServer.getAllRequestBodies().size());
+  }
+}
@@ -16,6 +16,7 @@ package com.google.api.ads.adwords.axis;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
 import com.google.api.ads.adwords.axis.factory.AdWordsServices;
@@ -23,7 +24,9 @@ import com.google.api.ads.adwords.axis.testing.SoapRequestXmlProvider;
 import com.google.api.ads.adwords.axis.v201609.cm.ApiException;
 import com.google.api.ads.adwords.axis.v201609.cm.Budget;
 import com.google.api.ads.adwords.axis.v201609.cm.BudgetBudgetDeliveryMethod;
+import com.google.api.ads.adwords.axis.v201609.cm.BudgetError;
 import com.google.api.ads.adwords.axis.v201609.cm.BudgetOperation;
+import com.google.api.ads.adwords.axis.v201609.cm.BudgetReturnValue;
 import com.google.api.ads.adwords.axis.v201609.cm.BudgetServiceInterface;
 import com.google.api.ads.adwords.axis.v201609.cm.Money;
 import com.google.api.ads.adwords.axis.v201609.cm.Operator;
@@ -32,11 +35,13 @@ import com.google.api.ads.adwords.lib.soap.testing.SoapResponseXmlProvider;
 import com.google.api.ads.common.lib.auth.OfflineCredentials;
 import com.google.api.ads.common.lib.auth.testing.AuthResponseProvider;
 import com.google.api.ads.common.lib.testing.MockHttpIntegrationTest;
+import com.google.api.ads.common.lib.utils.ExecutorServiceCalls;
 import com.google.api.client.auth.oauth2.Credential;
 import com.google.api.client.googleapis.auth.oauth2.GoogleCredential;
 import com.google.api.client.http.javanet.NetHttpTransport;
 import com.google.api.client.json.jackson2.JacksonFactory;
 import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.ListenableFuture;
 
 import org.custommonkey.xmlunit.XMLAssert;
 import org.junit.BeforeClass;
@@ -46,7 +51,11 @@ import org.junit.runners.JUnit4;
 import org.xml.sax.SAXException;
 
 import java.io.IOException;
+import java.lang.reflect.Field;
 import java.rmi.RemoteException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Tests that a AdWords Axis SOAP call can be made end-to-end when SOAP compression is enabled.
@@ -85,6 +94,12 @@ public class AdWordsAxisSoapIntegrationTest extends MockHttpIntegrationTest {
     testBudgetServiceMutateRequest(session);
 
     assertEquals("Bearer TEST_ACCESS_TOKEN", testHttpServer.getLastAuthorizationHttpHeader());
+
+    // The stub registers a type mapping for BudgetError, but it is not part of the request or
+    // response, so its type metadata should not have been created.
+    Field typeDescField = BudgetError.class.getDeclaredField("typeDesc");
+    typeDescField.setAccessible(true);
+    assertNull("Type metadata was created eagerly", typeDescField.get(null));
   }
 
   @Test
@@ -127,6 +142,59 @@ public class AdWordsAxisSoapIntegrationTest extends MockHttpIntegrationTest {
     assertEquals("Bearer TEST_ACCESS_TOKEN_2", testHttpServer.getLastAuthorizationHttpHeader());
   }
 
+  /**
+   * Tests making an Axis AdWords API call on an executor with OAuth2.
+   */
+  @Test
+  public void testGoldenSoap_oauth2_executor() throws Exception {
+    testHttpServer.setMockResponseBody(SoapResponseXmlProvider.getTestSoapResponse(API_VERSION));
+
+    GoogleCredential credential = new GoogleCredential.Builder()
+        .setTransport(new NetHttpTransport()).setJsonFactory(new JacksonFactory()).build();
+    credential.setAccessToken("TEST_ACCESS_TOKEN");
+
+    AdWordsSession session = new AdWordsSession.Builder()
+        .withUserAgent("TEST_APP")
+        .withOAuth2Credential(credential)
+        .withEndpoint(testHttpServer.getServerUrl())
+        .withDeveloperToken("TEST_DEVELOPER_TOKEN")
+        .withClientCustomerId("TEST_CLIENT_CUSTOMER_ID")
+        .build();
+
+    BudgetServiceInterface budgetService =
+        new AdWordsServices().get(session, BudgetServiceInterface.class);
+
+    Budget budget = new Budget();
+    budget.setName("Test Budget Name");
+    Money money = new Money();
+    money.setMicroAmount(50000000L);
+    budget.setAmount(money);
+    budget.setDeliveryMethod(BudgetBudgetDeliveryMethod.STANDARD);
+
+    BudgetOperation operation = new BudgetOperation();
+    operation.setOperand(budget);
+    operation.setOperator(Operator.ADD);
+
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      ListenableFuture<Object> returnValue = ExecutorServiceCalls.submit(budgetService,
+          BudgetServiceInterface.class.getMethod("mutate", BudgetOperation[].class),
+          new Object[] {new BudgetOperation[] {operation}}, executor);
+      Budget responseBudget =
+          ((BudgetReturnValue) returnValue.get(30, TimeUnit.SECONDS)).getValue(0);
+
+      assertEquals("Budget ID does not match", 251877074L,
+          responseBudget.getBudgetId().longValue());
+      assertEquals("Budget name does not match", budget.getName(), responseBudget.getName());
+    } finally {
+      executor.shutdown();
+    }
+
+    XMLAssert.assertXMLEqual(SoapRequestXmlProvider.getOAuth2SoapRequest(API_VERSION),
+        testHttpServer.getLastRequestBody());
+    assertEquals("Bearer TEST_ACCESS_TOKEN", testHttpServer.getLastAuthorizationHttpHeader());
+  }
+
   /**
    * Submits a BudgetService.mutate call to the test server and asserts that the response contains
    * expected values.
@@ -0,0 +1,62 @@
+// Copyright 2016 Google Inc. All Rights Reserved.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+
+package com.google.api.ads.adwords.axis;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import com.google.api.ads.common.lib.soap.axis.encoding.CompiledBeanSerializer;
+import com.google.api.ads.common.lib.soap.axis.testing.BeanSerializationCompatibilityChecker;
+import com.google.common.base.Joiner;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * Tests that {@link CompiledBeanSerializer} is compatible with the Axis bean serializer for the
+ * generated beans of every AdWords API version.
+ */
+@RunWith(Parameterized.class)
+public class CompiledBeanSerializerCompatibilityTest {
+
+  private final String version;
+
+  public CompiledBeanSerializerCompatibilityTest(String version) {
+    this.version = version;
+  }
+
+  @Parameters(name = "version={0}")
+  public static Collection<Object[]> data() {
+    return Arrays.asList(new Object[][] {{"v201605"}, {"v201607"}, {"v201609"}});
+  }
+
+  /**
+   * Tests that every bean type serializes the same way and survives the round trip.
+   */
+  @Test
+  public void testRoundTrip() throws Exception {
+    BeanSerializationCompatibilityChecker checker = new BeanSerializationCompatibilityChecker();
+    checker.checkPackage("com.google.api.ads.adwords.axis." + version);
+
+    assertFalse("No bean types checked", checker.getCheckedClasses().isEmpty());
+    assertTrue(Joiner.on('\n').join(checker.getMismatches()), checker.getMismatches().isEmpty());
+  }
+}
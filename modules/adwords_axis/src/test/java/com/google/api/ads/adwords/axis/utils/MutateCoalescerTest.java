@@ -0,0 +1,222 @@
+// Copyright 2016 Google Inc. All Rights Reserved.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.api.ads.adwords.axis.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.api.ads.adwords.axis.v201609.cm.AdGroupCriterion;
+import com.google.api.ads.adwords.axis.v201609.cm.AdGroupCriterionOperation;
+import com.google.api.ads.adwords.axis.v201609.cm.AdGroupCriterionReturnValue;
+import com.google.api.ads.adwords.axis.v201609.cm.AdGroupCriterionServiceInterface;
+import com.google.api.ads.adwords.axis.v201609.cm.ApiError;
+import com.google.api.ads.adwords.axis.v201609.cm.ApiException;
+import com.google.api.ads.adwords.axis.v201609.cm.RequiredError;
+import com.google.common.util.concurrent.ListenableFuture;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+import java.util.Arrays;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tests for {@link MutateCoalescer}.
+ */
+@RunWith(JUnit4.class)
+public class MutateCoalescerTest {
+
+  @Mock
+  private AdGroupCriterionServiceInterface adGroupCriterionService;
+
+  private MutateCoalescer<AdGroupCriterionOperation, AdGroupCriterion> coalescer;
+
+  @Before
+  public void setUp() throws Exception {
+    MockitoAnnotations.initMocks(this);
+    // Returns a criterion per operation, whose ad group ID is the operation's index.
+    when(adGroupCriterionService.mutate(any(AdGroupCriterionOperation[].class)))
+        .thenAnswer(new Answer<AdGroupCriterionReturnValue>() {
+          @Override
+          public AdGroupCriterionReturnValue answer(InvocationOnMock invocation) {
+            AdGroupCriterionOperation[] operations =
+                (AdGroupCriterionOperation[]) invocation.getArguments()[0];
+            AdGroupCriterion[] values = new AdGroupCriterion[operations.length];
+            for (int i = 0; i < operations.length; i++) {
+              values[i] = new AdGroupCriterion();
+              values[i].setAdGroupId((long) i);
+            }
+            AdGroupCriterionReturnValue returnValue = new AdGroupCriterionReturnValue();
+            returnValue.setValue(values);
+            return returnValue;
+          }
+        });
+  }
+
+  @After
+  public void tearDown() {
+    if (coalescer != null) {
+      coalescer.close();
+    }
+  }
+
+  /**
+   * Tests that operations are sent in a single call once the maximum number of operations is
+   * reached, and that each future gets the value of its operation.
+   */
+  @Test
+  public void testSubmit_maxOperations() throws Exception {
+    coalescer = new MutateCoalescer<AdGroupCriterionOperation, AdGroupCriterion>(
+        adGroupCriterionService, AdGroupCriterionOperation.class, 3, TimeUnit.MINUTES.toMillis(1));
+
+    ListenableFuture<AdGroupCriterion> first = coalescer.submit(new AdGroupCriterionOperation());
+    ListenableFuture<AdGroupCriterion> second = coalescer.submit(new AdGroupCriterionOperation());
+    ListenableFuture<AdGroupCriterion> third = coalescer.submit(new AdGroupCriterionOperation());
+
+    assertEquals(Long.valueOf(0), first.get(10, TimeUnit.SECONDS).getAdGroupId());
+    assertEquals(Long.valueOf(1), second.get(10, TimeUnit.SECONDS).getAdGroupId());
+    assertEquals(Long.valueOf(2), third.get(10, TimeUnit.SECONDS).getAdGroupId());
+    ArgumentCaptor<AdGroupCriterionOperation[]> operations =
+        ArgumentCaptor.forClass(AdGroupCriterionOperation[].class);
+    verify(adGroupCriterionService, times(1)).mutate(operations.capture());
+    assertEquals(3, operations.getValue().length);
+  }
+
+  /**
+   * Tests that pending operations are sent once the delay expires.
+   */
+  @Test
+  public void testSubmit_maxDelay() throws Exception {
+    coalescer = new MutateCoalescer<AdGroupCriterionOperation, AdGroupCriterion>(
+        adGroupCriterionService, AdGroupCriterionOperation.class, 100, 10);
+
+    ListenableFuture<AdGroupCriterion> first = coalescer.submit(new AdGroupCriterionOperation());
+    ListenableFuture<AdGroupCriterion> second = coalescer.submit(new AdGroupCriterionOperation());
+
+    assertEquals(Long.valueOf(0), first.get(10, TimeUnit.SECONDS).getAdGroupId());
+    assertEquals(Long.valueOf(1), second.get(10, TimeUnit.SECONDS).getAdGroupId());
+  }
+
+  /**
+   * Tests that a partial failure error fails the future of its operation only.
+   */
+  @Test
+  public void testSubmit_partialFailure() throws Exception {
+    RequiredError error = new RequiredError();
+    error.setFieldPath("operations[1].operand.criterion.text");
+    AdGroupCriterionReturnValue returnValue = new AdGroupCriterionReturnValue();
+    returnValue.setValue(new AdGroupCriterion[] {new AdGroupCriterion(), null});
+    returnValue.setPartialFailureErrors(new ApiError[] {error});
+    doReturn(returnValue).when(adGroupCriterionService)
+        .mutate(any(AdGroupCriterionOperation[].class));
+    coalescer = new MutateCoalescer<AdGroupCriterionOperation, AdGroupCriterion>(
+        adGroupCriterionService, AdGroupCriterionOperation.class, 2, TimeUnit.MINUTES.toMillis(1));
+
+    ListenableFuture<AdGroupCriterion> first = coalescer.submit(new AdGroupCriterionOperation());
+    ListenableFuture<AdGroupCriterion> second = coalescer.submit(new AdGroupCriterionOperation());
+
+    assertSame(returnValue.getValue(0), first.get(10, TimeUnit.SECONDS));
+    try {
+      second.get(10, TimeUnit.SECONDS);
+      fail("Expected the operation to fail");
+    } catch (ExecutionException e) {
+      PartialFailureException partialFailure = (PartialFailureException) e.getCause();
+      assertEquals(1, partialFailure.getOperationIndex());
+      assertSame(error, partialFailure.getErrors().get(0));
+    }
+  }
+
+  /**
+   * Tests that a partial failure error without an operation index fails the futures of all the
+   * operations of its call.
+   */
+  @Test
+  public void testSubmit_partialFailureWithoutOperationIndex() throws Exception {
+    RequiredError error = new RequiredError();
+    error.setFieldPath("");
+    AdGroupCriterionReturnValue returnValue = new AdGroupCriterionReturnValue();
+    returnValue.setValue(new AdGroupCriterion[] {null, null});
+    returnValue.setPartialFailureErrors(new ApiError[] {error});
+    doReturn(returnValue).when(adGroupCriterionService)
+        .mutate(any(AdGroupCriterionOperation[].class));
+    coalescer = new MutateCoalescer<AdGroupCriterionOperation, AdGroupCriterion>(
+        adGroupCriterionService, AdGroupCriterionOperation.class, 2, TimeUnit.MINUTES.toMillis(1));
+
+    ListenableFuture<AdGroupCriterion> first = coalescer.submit(new AdGroupCriterionOperation());
+    ListenableFuture<AdGroupCriterion> second = coalescer.submit(new AdGroupCriterionOperation());
+
+    for (ListenableFuture<AdGroupCriterion> future : Arrays.asList(first, second)) {
+      try {
+        future.get(10, TimeUnit.SECONDS);
+        fail("Expected the operation to fail");
+      } catch (ExecutionException e) {
+        assertEquals(Arrays.asList(error), ((PartialFailureException) e.getCause()).getErrors());
+      }
+    }
+  }
+
+  /**
+   * Tests that a failed call fails the futures of all its operations.
+   */
+  @Test
+  public void testSubmit_failedCall() throws Exception {
+    ApiException apiException = new ApiException();
+    doThrow(apiException).when(adGroupCriterionService)
+        .mutate(any(AdGroupCriterionOperation[].class));
+    coalescer = new MutateCoalescer<AdGroupCriterionOperation, AdGroupCriterion>(
+        adGroupCriterionService, AdGroupCriterionOperation.class, 100,
+        TimeUnit.MINUTES.toMillis(1));
+
+    ListenableFuture<AdGroupCriterion> first = coalescer.submit(new AdGroupCriterionOperation());
+    ListenableFuture<AdGroupCriterion> second = coalescer.submit(new AdGroupCriterionOperation());
+    coalescer.flush();
+
+    for (ListenableFuture<AdGroupCriterion> future : Arrays.asList(first, second)) {
+      try {
+        future.get(10, TimeUnit.SECONDS);
+        fail("Expected the operation to fail");
+      } catch (ExecutionException e) {
+        assertSame(apiException, e.getCause());
+      }
+    }
+  }
+
+  /**
+   * Tests that operations can not be submitted once the coalescer is closed.
+   */
+  @Test(expected = IllegalStateException.class)
+  public void testSubmit_closed() {
+    coalescer = new MutateCoalescer<AdGroupCriterionOperation, AdGroupCriterion>(
+        adGroupCriterionService, AdGroupCriterionOperation.class, 100, 10);
+    coalescer.close();
+    coalescer.submit(new AdGroupCriterionOperation());
+  }
+}
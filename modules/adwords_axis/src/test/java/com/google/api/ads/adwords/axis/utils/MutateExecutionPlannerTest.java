@@ -0,0 +1,295 @@
+// Copyright 2016 Google Inc. All Rights Reserved.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.api.ads.adwords.axis.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.verifyZeroInteractions;
+import static org.mockito.Mockito.when;
+
+import com.google.api.ads.adwords.axis.v201609.cm.AdGroupCriterion;
+import com.google.api.ads.adwords.axis.v201609.cm.AdGroupCriterionOperation;
+import com.google.api.ads.adwords.axis.v201609.cm.AdGroupCriterionReturnValue;
+import com.google.api.ads.adwords.axis.v201609.cm.AdGroupCriterionServiceInterface;
+import com.google.api.ads.adwords.axis.v201609.cm.BiddableAdGroupCriterion;
+import com.google.api.ads.adwords.axis.v201609.cm.Operator;
+import com.google.common.collect.AbstractIterator;
+import com.google.common.collect.Lists;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Tests for {@link MutateExecutionPlanner}.
+ */
+@RunWith(JUnit4.class)
+public class MutateExecutionPlannerTest {
+
+  @Mock
+  private AdGroupCriterionServiceInterface firstService;
+
+  @Mock
+  private AdGroupCriterionServiceInterface secondService;
+
+  @Mock
+  private BatchJobRunner batchJobRunner;
+
+  private List<Integer> requestSizes;
+  private AtomicInteger sentOperationCount;
+  private List<Object> uploadedOperations;
+
+  @Before
+  public void setUp() throws Exception {
+    MockitoAnnotations.initMocks(this);
+    requestSizes = Collections.synchronizedList(new ArrayList<Integer>());
+    sentOperationCount = new AtomicInteger();
+    uploadedOperations = new ArrayList<Object>();
+    Answer<AdGroupCriterionReturnValue> mutateAnswer = new Answer<AdGroupCriterionReturnValue>() {
+      @Override
+      public AdGroupCriterionReturnValue answer(InvocationOnMock invocation) {
+        AdGroupCriterionOperation[] operations =
+            (AdGroupCriterionOperation[]) invocation.getArguments()[0];
+        requestSizes.add(operations.length);
+        sentOperationCount.addAndGet(operations.length);
+        AdGroupCriterion[] values = new AdGroupCriterion[operations.length];
+        for (int i = 0; i < operations.length; i++) {
+          values[i] = operations[i].getOperand();
+        }
+        AdGroupCriterionReturnValue returnValue = new AdGroupCriterionReturnValue();
+        returnValue.setValue(values);
+        return returnValue;
+      }
+    };
+    when(firstService.mutate(any(AdGroupCriterionOperation[].class))).thenAnswer(mutateAnswer);
+    when(secondService.mutate(any(AdGroupCriterionOperation[].class))).thenAnswer(mutateAnswer);
+    when(batchJobRunner.run(any(Iterator.class))).thenAnswer(
+        new Answer<List<OperationResult<Object>>>() {
+          @Override
+          public List<OperationResult<Object>> answer(InvocationOnMock invocation) {
+            Iterator<?> operations = (Iterator<?>) invocation.getArguments()[0];
+            List<OperationResult<Object>> results = new ArrayList<OperationResult<Object>>();
+            while (operations.hasNext()) {
+              AdGroupCriterionOperation operation = (AdGroupCriterionOperation) operations.next();
+              uploadedOperations.add(operation);
+              results.add(new OperationResult<Object>(results.size(), operation.getOperand(),
+                  Collections.emptyList(), 1));
+            }
+            return results;
+          }
+        });
+  }
+
+  /**
+   * Tests that operations are sent with one mutate request after another if there is a single
+   * service object and no batch job runner.
+   */
+  @Test
+  public void testExecute_chunkedMutates() throws Exception {
+    MutateExecutionPlanner<AdGroupCriterionOperation, AdGroupCriterion> planner =
+        createPlanner(Arrays.asList(firstService), null, 3, 1000);
+    List<AdGroupCriterionOperation> operations = createOperations(5);
+
+    MutateExecution<AdGroupCriterion> execution = planner.execute(operations);
+
+    assertEquals(MutateExecutionPlan.CHUNKED_MUTATES, execution.getPlan());
+    assertEquals(Arrays.asList(2, 2, 1), requestSizes);
+    assertResults(operations, execution);
+  }
+
+  /**
+   * Tests that operations are sent with mutate requests made at once if there are several
+   * service objects, and that the results are in the order of the operations.
+   */
+  @Test
+  public void testExecute_parallelMutates() throws Exception {
+    MutateExecutionPlanner<AdGroupCriterionOperation, AdGroupCriterion> planner =
+        createPlanner(Arrays.asList(firstService, secondService), null, 3, 1000);
+    List<AdGroupCriterionOperation> operations = createOperations(7);
+
+    MutateExecution<AdGroupCriterion> execution = planner.execute(operations);
+
+    assertEquals(MutateExecutionPlan.PARALLEL_MUTATES, execution.getPlan());
+    assertEquals(4, requestSizes.size());
+    assertResults(operations, execution);
+  }
+
+  /**
+   * Tests that all the operations, including those read before the plan was chosen, are
+   * uploaded to a batch job once there are enough of them.
+   */
+  @Test
+  public void testExecute_batchJobByOperationCount() throws Exception {
+    MutateExecutionPlanner<AdGroupCriterionOperation, AdGroupCriterion> planner =
+        createPlanner(Arrays.asList(firstService), batchJobRunner, 3, Long.MAX_VALUE);
+    List<AdGroupCriterionOperation> operations = createOperations(5);
+
+    MutateExecution<AdGroupCriterion> execution = planner.execute(operations);
+
+    assertEquals(MutateExecutionPlan.BATCH_JOB, execution.getPlan());
+    assertEquals(operations, uploadedOperations);
+    verifyZeroInteractions(firstService);
+    assertResults(operations, execution);
+  }
+
+  /**
+   * Tests that operations are uploaded to a batch job if their estimated payload is large
+   * enough, and sent with mutate requests otherwise.
+   */
+  @Test
+  public void testExecute_batchJobByPayloadSize() throws Exception {
+    List<AdGroupCriterionOperation> operations = createOperations(2);
+    long payloadSize = MutateExecutionPlanner.estimatePayloadSize(operations.get(0));
+    assertTrue("Payload size not estimated", payloadSize > 0);
+
+    MutateExecution<AdGroupCriterion> execution =
+        createPlanner(Arrays.asList(firstService), batchJobRunner, 1000, payloadSize * 3)
+        .execute(operations);
+    assertEquals(MutateExecutionPlan.CHUNKED_MUTATES, execution.getPlan());
+    assertResults(operations, execution);
+
+    execution = createPlanner(Arrays.asList(firstService), batchJobRunner, 1000, payloadSize * 2)
+        .execute(operations);
+    assertEquals(MutateExecutionPlan.BATCH_JOB, execution.getPlan());
+    assertResults(operations, execution);
+  }
+
+  /**
+   * Tests that without a batch job runner, a very large number of lazily generated operations is
+   * sent one chunk at a time, without reading more than a chunk ahead of the requests.
+   */
+  @Test
+  public void testExecute_lazyOperationsWithoutRunner() throws Exception {
+    int operationCount = 200000;
+    int maxOperationsPerMutate = 1000;
+    MutateExecutionPlanner<AdGroupCriterionOperation, AdGroupCriterion> planner =
+        new MutateExecutionPlanner<AdGroupCriterionOperation, AdGroupCriterion>(
+            Arrays.asList(firstService), AdGroupCriterionOperation.class, null,
+            maxOperationsPerMutate, Integer.MAX_VALUE, Long.MAX_VALUE);
+
+    MutateExecution<AdGroupCriterion> execution = planner.execute(
+        createLazyOperations(operationCount, maxOperationsPerMutate));
+
+    assertEquals(MutateExecutionPlan.CHUNKED_MUTATES, execution.getPlan());
+    assertEquals(operationCount, execution.getOperationCount());
+    assertEquals(operationCount / maxOperationsPerMutate, requestSizes.size());
+    assertEquals(operationCount, sentOperationCount.get());
+  }
+
+  /**
+   * Tests that mutate requests made at once only read a chunk of operations when a service object
+   * is free to send it.
+   */
+  @Test
+  public void testExecute_lazyOperationsInParallel() throws Exception {
+    int operationCount = 20000;
+    int maxOperationsPerMutate = 100;
+    List<AdGroupCriterionServiceInterface> services = Arrays.asList(firstService, secondService);
+    MutateExecutionPlanner<AdGroupCriterionOperation, AdGroupCriterion> planner =
+        new MutateExecutionPlanner<AdGroupCriterionOperation, AdGroupCriterion>(services,
+            AdGroupCriterionOperation.class, null, maxOperationsPerMutate, Integer.MAX_VALUE,
+            Long.MAX_VALUE);
+
+    MutateExecution<AdGroupCriterion> execution = planner.execute(createLazyOperations(
+        operationCount, (services.size() + 1) * maxOperationsPerMutate));
+
+    assertEquals(MutateExecutionPlan.PARALLEL_MUTATES, execution.getPlan());
+    assertEquals(operationCount, execution.getOperationCount());
+    assertEquals(operationCount, sentOperationCount.get());
+    int index = 0;
+    for (OperationResult<AdGroupCriterion> result : execution) {
+      assertEquals(index, result.getOperationIndex());
+      assertEquals(Long.valueOf(1000L + index), result.getValue().getAdGroupId());
+      index++;
+    }
+  }
+
+  /**
+   * Creates operations that are generated as they are read, and fails if more than
+   * {@code maxUnsentOperations} operations have been read but not sent.
+   */
+  private Iterable<AdGroupCriterionOperation> createLazyOperations(final int count,
+      final int maxUnsentOperations) {
+    return new Iterable<AdGroupCriterionOperation>() {
+      @Override
+      public Iterator<AdGroupCriterionOperation> iterator() {
+        return new AbstractIterator<AdGroupCriterionOperation>() {
+          private int generatedCount;
+
+          @Override
+          protected AdGroupCriterionOperation computeNext() {
+            if (generatedCount == count) {
+              return endOfData();
+            }
+            assertTrue("Operations were read ahead of the mutate requests",
+                generatedCount - sentOperationCount.get() < maxUnsentOperations);
+            return createOperation(generatedCount++);
+          }
+        };
+      }
+    };
+  }
+
+  private MutateExecutionPlanner<AdGroupCriterionOperation, AdGroupCriterion> createPlanner(
+      List<?> services, BatchJobRunner runner, int batchJobMinOperations,
+      long batchJobMinPayloadBytes) {
+    return new MutateExecutionPlanner<AdGroupCriterionOperation, AdGroupCriterion>(services,
+        AdGroupCriterionOperation.class, runner, 2, batchJobMinOperations,
+        batchJobMinPayloadBytes);
+  }
+
+  private static void assertResults(List<AdGroupCriterionOperation> operations,
+      MutateExecution<AdGroupCriterion> execution) {
+    List<OperationResult<AdGroupCriterion>> results = Lists.newArrayList(execution);
+    assertEquals(operations.size(), execution.getOperationCount());
+    assertEquals(operations.size(), results.size());
+    for (int i = 0; i < results.size(); i++) {
+      assertEquals(i, results.get(i).getOperationIndex());
+      assertTrue(results.get(i).isSuccess());
+      assertSame(operations.get(i).getOperand(), results.get(i).getValue());
+    }
+  }
+
+  private static List<AdGroupCriterionOperation> createOperations(int count) {
+    List<AdGroupCriterionOperation> operations = new ArrayList<AdGroupCriterionOperation>();
+    for (int i = 0; i < count; i++) {
+      operations.add(createOperation(i));
+    }
+    return operations;
+  }
+
+  private static AdGroupCriterionOperation createOperation(int index) {
+    BiddableAdGroupCriterion criterion = new BiddableAdGroupCriterion();
+    criterion.setAdGroupId(1000L + index);
+    AdGroupCriterionOperation operation = new AdGroupCriterionOperation();
+    operation.setOperator(Operator.ADD);
+    operation.setOperand(criterion);
+    return operation;
+  }
+}
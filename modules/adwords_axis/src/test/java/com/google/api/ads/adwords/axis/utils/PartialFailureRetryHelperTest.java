@@ -0,0 +1,191 @@
+// Copyright 2016 Google Inc. All Rights Reserved.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.api.ads.adwords.axis.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.when;
+
+import com.google.api.ads.adwords.axis.v201609.cm.AdGroupCriterion;
+import com.google.api.ads.adwords.axis.v201609.cm.AdGroupCriterionOperation;
+import com.google.api.ads.adwords.axis.v201609.cm.AdGroupCriterionReturnValue;
+import com.google.api.ads.adwords.axis.v201609.cm.AdGroupCriterionServiceInterface;
+import com.google.api.ads.adwords.axis.v201609.cm.ApiError;
+import com.google.api.ads.adwords.axis.v201609.cm.ApiException;
+import com.google.api.ads.adwords.axis.v201609.cm.DatabaseError;
+import com.google.api.ads.adwords.axis.v201609.cm.DatabaseErrorReason;
+import com.google.api.ads.adwords.axis.v201609.cm.RateExceededError;
+import com.google.api.ads.adwords.axis.v201609.cm.RequiredError;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeMap;
+
+/**
+ * Tests for {@link PartialFailureRetryHelper}.
+ */
+@RunWith(JUnit4.class)
+public class PartialFailureRetryHelperTest {
+
+  @Mock
+  private AdGroupCriterionServiceInterface adGroupCriterionService;
+
+  private PartialFailureRetryHelper<AdGroupCriterionOperation, AdGroupCriterion> helper;
+  private List<Long> sleeps;
+  private List<Integer> requestSizes;
+  /** The errors to return for each request, by operation index. */
+  private Queue<Map<Integer, ApiError>> responseErrors;
+
+  @Before
+  public void setUp() throws Exception {
+    MockitoAnnotations.initMocks(this);
+    sleeps = new ArrayList<Long>();
+    requestSizes = new ArrayList<Integer>();
+    responseErrors = new LinkedList<Map<Integer, ApiError>>();
+    helper = new PartialFailureRetryHelper<AdGroupCriterionOperation, AdGroupCriterion>(
+        adGroupCriterionService, AdGroupCriterionOperation.class, 3, 100) {
+      @Override
+      boolean sleep(long millis) {
+        sleeps.add(millis);
+        return true;
+      }
+    };
+    when(adGroupCriterionService.mutate(any(AdGroupCriterionOperation[].class)))
+        .thenAnswer(new Answer<AdGroupCriterionReturnValue>() {
+          @Override
+          public AdGroupCriterionReturnValue answer(InvocationOnMock invocation) {
+            AdGroupCriterionOperation[] operations =
+                (AdGroupCriterionOperation[]) invocation.getArguments()[0];
+            requestSizes.add(operations.length);
+            Map<Integer, ApiError> errors = responseErrors.isEmpty()
+                ? new TreeMap<Integer, ApiError>() : responseErrors.remove();
+            AdGroupCriterion[] values = new AdGroupCriterion[operations.length];
+            for (int i = 0; i < operations.length; i++) {
+              if (!errors.containsKey(i)) {
+                values[i] = operations[i].getOperand();
+              }
+            }
+            AdGroupCriterionReturnValue returnValue = new AdGroupCriterionReturnValue();
+            returnValue.setValue(values);
+            returnValue.setPartialFailureErrors(errors.values().toArray(new ApiError[0]));
+            return returnValue;
+          }
+        });
+  }
+
+  /**
+   * Tests that only the operations that failed transiently are resent, and that the results are
+   * in the order of the operations.
+   */
+  @Test
+  public void testMutate_resendsTransientFailures() throws Exception {
+    List<AdGroupCriterionOperation> operations = createOperations(4);
+    RequiredError requiredError = new RequiredError();
+    Map<Integer, ApiError> firstErrors = new TreeMap<Integer, ApiError>();
+    firstErrors.put(1, withFieldPath(createRateExceededError(2), 1));
+    firstErrors.put(2, withFieldPath(requiredError, 2));
+    DatabaseError databaseError = new DatabaseError();
+    databaseError.setReason(DatabaseErrorReason.CONCURRENT_MODIFICATION);
+    firstErrors.put(3, withFieldPath(databaseError, 3));
+    responseErrors.add(firstErrors);
+
+    List<OperationResult<AdGroupCriterion>> results = helper.mutate(operations);
+
+    assertEquals(Arrays.asList(4, 2), requestSizes);
+    assertEquals(Arrays.asList(2000L), sleeps);
+    assertEquals(4, results.size());
+    for (int i : new int[] {0, 1, 3}) {
+      assertTrue(results.get(i).isSuccess());
+      assertSame(operations.get(i).getOperand(), results.get(i).getValue());
+    }
+    assertFalse(results.get(2).isSuccess());
+    assertSame(requiredError, results.get(2).getErrors().get(0));
+    assertEquals(1, results.get(0).getAttemptCount());
+    assertEquals(2, results.get(1).getAttemptCount());
+    assertEquals(1, results.get(2).getAttemptCount());
+  }
+
+  /**
+   * Tests that operations are resent with exponential backoff, at most the maximum number of
+   * attempts.
+   */
+  @Test
+  public void testMutate_maxAttempts() throws Exception {
+    for (int i = 0; i < 3; i++) {
+      Map<Integer, ApiError> errors = new TreeMap<Integer, ApiError>();
+      errors.put(0, withFieldPath(createRateExceededError(0), 0));
+      responseErrors.add(errors);
+    }
+
+    List<OperationResult<AdGroupCriterion>> results = helper.mutate(createOperations(2));
+
+    assertEquals(Arrays.asList(2, 1, 1), requestSizes);
+    assertEquals(Arrays.asList(100L, 200L), sleeps);
+    assertFalse(results.get(0).isSuccess());
+    assertEquals(3, results.get(0).getAttemptCount());
+    assertTrue(results.get(1).isSuccess());
+  }
+
+  /**
+   * Tests that a failure of the first request is thrown.
+   */
+  @Test(expected = ApiException.class)
+  public void testMutate_failedRequest() throws Exception {
+    doThrow(new ApiException()).when(adGroupCriterionService)
+        .mutate(any(AdGroupCriterionOperation[].class));
+
+    helper.mutate(createOperations(2));
+  }
+
+  private static List<AdGroupCriterionOperation> createOperations(int count) {
+    List<AdGroupCriterionOperation> operations = new ArrayList<AdGroupCriterionOperation>();
+    for (int i = 0; i < count; i++) {
+      AdGroupCriterionOperation operation = new AdGroupCriterionOperation();
+      AdGroupCriterion criterion = new AdGroupCriterion();
+      criterion.setAdGroupId((long) i);
+      operation.setOperand(criterion);
+      operations.add(operation);
+    }
+    return operations;
+  }
+
+  private static RateExceededError createRateExceededError(int retryAfterSeconds) {
+    RateExceededError error = new RateExceededError();
+    error.setRetryAfterSeconds(retryAfterSeconds);
+    return error;
+  }
+
+  private static ApiError withFieldPath(ApiError error, int operationIndex) {
+    error.setFieldPath("operations[" + operationIndex + "].operand");
+    return error;
+  }
+}
@@ -0,0 +1,255 @@
+// Copyright 2016 Google Inc. All Rights Reserved.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.api.ads.adwords.axis.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import com.google.api.ads.adwords.axis.v201609.cm.AdGroup;
+import com.google.api.ads.adwords.axis.v201609.cm.AdGroupCriterionOperation;
+import com.google.api.ads.adwords.axis.v201609.cm.AdGroupOperation;
+import com.google.api.ads.adwords.axis.v201609.cm.BiddableAdGroupCriterion;
+import com.google.api.ads.adwords.axis.v201609.cm.Budget;
+import com.google.api.ads.adwords.axis.v201609.cm.BudgetOperation;
+import com.google.api.ads.adwords.axis.v201609.cm.Campaign;
+import com.google.api.ads.adwords.axis.v201609.cm.CampaignOperation;
+import com.google.api.ads.adwords.axis.v201609.cm.Keyword;
+import com.google.api.ads.adwords.axis.v201609.cm.Operation;
+import com.google.api.ads.adwords.axis.v201609.cm.Operator;
+import com.google.api.ads.adwords.lib.utils.BatchJobException;
+import com.google.common.collect.AbstractIterator;
+import com.google.common.collect.Lists;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tests for {@link ShardedBatchJobRunner}.
+ */
+@RunWith(JUnit4.class)
+public class ShardedBatchJobRunnerTest {
+
+  /**
+   * Tests that the operations of each new campaign, linked by temporary IDs, are assigned to the
+   * same shard.
+   */
+  @Test
+  public void testAssign_keepsCampaignSubtreesTogether() throws Exception {
+    List<Operation> operations = new ArrayList<Operation>();
+    // Campaign -1 with budget -2 and ad group -3.
+    operations.add(createBudgetOperation(-2L));
+    operations.add(createCampaignOperation(-1L, -2L));
+    operations.add(createAdGroupOperation(-3L, -1L));
+    // Campaign -11 with budget -12 and ad group -13.
+    operations.add(createBudgetOperation(-12L));
+    operations.add(createCampaignOperation(-11L, -12L));
+    operations.add(createAdGroupOperation(-13L, -11L));
+    // Keywords of both ad groups, and of an existing ad group.
+    operations.add(createKeywordOperation(-3L));
+    operations.add(createKeywordOperation(-13L));
+    operations.add(createKeywordOperation(5L));
+
+    assertEquals(Arrays.asList(0, 0, 0, 1, 1, 1, 0, 1, 0), assign(operations, 2));
+  }
+
+  /**
+   * Tests that there are no more shards than groups of operations.
+   */
+  @Test
+  public void testAssign_singleGroup() throws Exception {
+    List<Operation> operations = Arrays.<Operation>asList(createCampaignOperation(-1L, -2L),
+        createAdGroupOperation(-3L, -1L), createKeywordOperation(-3L));
+
+    assertEquals(Arrays.asList(0, 0, 0), assign(operations, 4));
+  }
+
+  /**
+   * Tests that an operation linking temporary IDs already assigned to different shards is
+   * rejected.
+   */
+  @Test(expected = BatchJobException.class)
+  public void testAssign_linksShards() throws Exception {
+    List<Operation> operations = Arrays.<Operation>asList(createBudgetOperation(-2L),
+        createAdGroupOperation(-3L, -1L), createCampaignOperation(-1L, -2L));
+
+    assign(operations, 2);
+  }
+
+  /**
+   * Tests that the operations are handed to the runner of their job as they are read.
+   */
+  @Test
+  public void testRun_streamsOperations() throws Exception {
+    final CountDownLatch firstOperationRead = new CountDownLatch(1);
+    final Operation first = createKeywordOperation(5L);
+    final Operation second = createKeywordOperation(6L);
+    Iterator<Operation> operations = new AbstractIterator<Operation>() {
+      private int count;
+
+      @Override
+      protected Operation computeNext() {
+        switch (count++) {
+          case 0:
+            return first;
+          case 1:
+            try {
+              assertTrue("The runner did not read the first operation before the second was read",
+                  firstOperationRead.await(10, TimeUnit.SECONDS));
+            } catch (InterruptedException e) {
+              throw new AssertionError(e);
+            }
+            return second;
+          default:
+            return endOfData();
+        }
+      }
+    };
+    BatchJobRunner runner = new BatchJobRunner() {
+      @Override
+      public List<OperationResult<Object>> run(Iterator<?> shardOperations) {
+        List<OperationResult<Object>> results = new ArrayList<OperationResult<Object>>();
+        while (shardOperations.hasNext()) {
+          results.add(new OperationResult<Object>(
+              results.size(), shardOperations.next(), Collections.emptyList(), 1));
+          firstOperationRead.countDown();
+        }
+        return results;
+      }
+    };
+
+    List<OperationResult<Object>> results =
+        new ShardedBatchJobRunner(Arrays.asList(runner), 1).run(operations);
+
+    assertEquals(2, results.size());
+    assertSame(first, results.get(0).getValue());
+    assertSame(second, results.get(1).getValue());
+  }
+
+  /**
+   * Tests that the results of the jobs are merged back to the order of the operations.
+   */
+  @Test
+  public void testRun_mergesResults() throws Exception {
+    List<Operation> operations = new ArrayList<Operation>();
+    for (int i = 0; i < 6; i++) {
+      operations.add(createKeywordOperation(-1L - i % 2));
+    }
+    List<List<Object>> jobOperations =
+        Collections.synchronizedList(new ArrayList<List<Object>>());
+    List<BatchJobRunner> runners = Arrays.<BatchJobRunner>asList(
+        new EchoBatchJobRunner(jobOperations), new EchoBatchJobRunner(jobOperations));
+
+    List<OperationResult<Object>> results =
+        new ShardedBatchJobRunner(runners, 2).run(operations.iterator());
+
+    assertEquals(2, jobOperations.size());
+    for (List<Object> job : jobOperations) {
+      assertEquals(3, job.size());
+    }
+    assertEquals(operations.size(), results.size());
+    for (int i = 0; i < results.size(); i++) {
+      assertEquals(i, results.get(i).getOperationIndex());
+      assertTrue(results.get(i).isSuccess());
+      assertSame(operations.get(i), results.get(i).getValue());
+    }
+  }
+
+  private static List<Integer> assign(List<Operation> operations, int maxShards)
+      throws BatchJobException {
+    ShardedBatchJobRunner.ShardAssigner shardAssigner =
+        new ShardedBatchJobRunner.ShardAssigner(maxShards);
+    List<Integer> shards = new ArrayList<Integer>();
+    for (Operation operation : operations) {
+      shards.add(shardAssigner.assign(shards.size(), operation));
+    }
+    return shards;
+  }
+
+  /**
+   * Runner whose results have the operations as values.
+   */
+  private static class EchoBatchJobRunner implements BatchJobRunner {
+    private final List<List<Object>> jobOperations;
+
+    EchoBatchJobRunner(List<List<Object>> jobOperations) {
+      this.jobOperations = jobOperations;
+    }
+
+    @Override
+    public List<OperationResult<Object>> run(Iterator<?> operations) {
+      List<Object> operationList = Lists.<Object>newArrayList(operations);
+      jobOperations.add(operationList);
+      List<OperationResult<Object>> results = new ArrayList<OperationResult<Object>>();
+      for (Object operation : operationList) {
+        results.add(new OperationResult<Object>(
+            results.size(), operation, Collections.emptyList(), 1));
+      }
+      return results;
+    }
+  }
+
+  private static BudgetOperation createBudgetOperation(Long budgetId) {
+    Budget budget = new Budget();
+    budget.setBudgetId(budgetId);
+    BudgetOperation operation = new BudgetOperation();
+    operation.setOperator(Operator.ADD);
+    operation.setOperand(budget);
+    return operation;
+  }
+
+  private static CampaignOperation createCampaignOperation(Long campaignId, Long budgetId) {
+    Budget budget = new Budget();
+    budget.setBudgetId(budgetId);
+    Campaign campaign = new Campaign();
+    campaign.setId(campaignId);
+    campaign.setBudget(budget);
+    CampaignOperation operation = new CampaignOperation();
+    operation.setOperator(Operator.ADD);
+    operation.setOperand(campaign);
+    return operation;
+  }
+
+  private static AdGroupOperation createAdGroupOperation(Long adGroupId, Long campaignId) {
+    AdGroup adGroup = new AdGroup();
+    adGroup.setId(adGroupId);
+    adGroup.setCampaignId(campaignId);
+    AdGroupOperation operation = new AdGroupOperation();
+    operation.setOperator(Operator.ADD);
+    operation.setOperand(adGroup);
+    return operation;
+  }
+
+  private static AdGroupCriterionOperation createKeywordOperation(Long adGroupId) {
+    Keyword keyword = new Keyword();
+    keyword.setText("shoes");
+    BiddableAdGroupCriterion criterion = new BiddableAdGroupCriterion();
+    criterion.setAdGroupId(adGroupId);
+    criterion.setCriterion(keyword);
+    AdGroupCriterionOperation operation = new AdGroupCriterionOperation();
+    operation.setOperator(Operator.ADD);
+    operation.setOperand(criterion);
+    return operation;
+  }
+}
@@ -0,0 +1,367 @@
+// Copyright 2016 Google Inc. All Rights Reserved.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+
+package com.google.api.ads.adwords.axis.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import com.google.api.ads.adwords.axis.factory.AdWordsServices;
+import com.google.api.ads.adwords.axis.utils.StreamingPageReader.EntryCallback;
+import com.google.api.ads.adwords.axis.v201609.cm.AdGroupCriterion;
+import com.google.api.ads.adwords.axis.v201609.cm.AdGroupCriterionPage;
+import com.google.api.ads.adwords.axis.v201609.cm.AdGroupCriterionServiceInterface;
+import com.google.api.ads.adwords.axis.v201609.cm.BiddableAdGroupCriterion;
+import com.google.api.ads.adwords.axis.v201609.cm.Keyword;
+import com.google.api.ads.adwords.axis.v201609.cm.KeywordMatchType;
+import com.google.api.ads.adwords.axis.v201609.cm.NegativeAdGroupCriterion;
+import com.google.api.ads.adwords.axis.v201609.cm.Selector;
+import com.google.api.ads.adwords.lib.client.AdWordsSession;
+import com.google.api.ads.adwords.lib.selectorfields.v201609.cm.AdGroupCriterionField;
+import com.google.api.ads.common.lib.soap.FieldInterner;
+import com.google.api.ads.common.lib.soap.SoapServiceClient;
+import com.google.api.ads.common.lib.soap.axis.transport.StreamingResponseHandler;
+import com.google.api.ads.common.lib.testing.MockHttpIntegrationTest;
+import com.google.api.ads.common.lib.utils.ExecutorServiceCalls;
+import com.google.api.client.auth.oauth2.BearerToken;
+import com.google.api.client.auth.oauth2.Credential;
+import com.google.common.base.Charsets;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+import com.google.common.io.Files;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.ListeningExecutorService;
+import com.google.common.util.concurrent.MoreExecutors;
+
+import org.apache.axis.client.Stub;
+import org.apache.axis.encoding.SerializationContext;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+import org.xml.sax.Attributes;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.lang.reflect.Proxy;
+import java.rmi.RemoteException;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import javax.xml.namespace.QName;
+
+/**
+ * Tests for {@link StreamingPageReader}.
+ */
+@RunWith(JUnit4.class)
+public class StreamingPageReaderTest extends MockHttpIntegrationTest {
+
+  private static final int TOTAL_NUM_ENTRIES = 1000;
+
+  @Rule public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  private AdGroupCriterionServiceInterface adGroupCriterionService;
+  private List<AdGroupCriterion> receivedEntries;
+  private EntryCallback<AdGroupCriterion> callback;
+
+  @Before
+  public void setUp() throws Exception {
+    AdWordsSession session = new AdWordsSession.Builder()
+        .withClientCustomerId("123-456-7890")
+        .withOAuth2Credential(new Credential(BearerToken.authorizationHeaderAccessMethod()))
+        .withDeveloperToken("devtoken")
+        .withUserAgent("test")
+        .withEndpoint(testHttpServer.getServerUrl())
+        .build();
+    adGroupCriterionService =
+        new AdWordsServices().get(session, AdGroupCriterionServiceInterface.class);
+
+    AdGroupCriterionPage page = new AdGroupCriterionPage();
+    page.setTotalNumEntries(TOTAL_NUM_ENTRIES);
+    page.setEntries(new AdGroupCriterion[] {
+        createCriterion(new BiddableAdGroupCriterion(), 1L, "shoes"),
+        createCriterion(new NegativeAdGroupCriterion(), 2L, "free shoes"),
+        createCriterion(new BiddableAdGroupCriterion(), 3L, "boots")});
+    String response = createResponse(page);
+    testHttpServer.setMockResponseBodies(Lists.newArrayList(response, response));
+
+    receivedEntries = Lists.newArrayList();
+    callback = new EntryCallback<AdGroupCriterion>() {
+      @Override
+      public void onEntry(AdGroupCriterion entry) {
+        receivedEntries.add(entry);
+      }
+    };
+  }
+
+  /**
+   * Tests that every entry of the page is passed to the callback, in order and with its type.
+   */
+  @Test
+  public void testGet() throws Exception {
+    int totalNumEntries = new StreamingPageReader<AdGroupCriterion>(
+        adGroupCriterionService, AdGroupCriterion.class).get(new Selector(), callback);
+
+    assertEquals(TOTAL_NUM_ENTRIES, totalNumEntries);
+    assertEquals(3, receivedEntries.size());
+    assertTrue(receivedEntries.get(0) instanceof BiddableAdGroupCriterion);
+    assertTrue(receivedEntries.get(1) instanceof NegativeAdGroupCriterion);
+    assertTrue(receivedEntries.get(2) instanceof BiddableAdGroupCriterion);
+    for (int i = 0; i < receivedEntries.size(); i++) {
+      AdGroupCriterion entry = receivedEntries.get(i);
+      assertEquals(Long.valueOf(123L), entry.getAdGroupId());
+      assertEquals(Long.valueOf(i + 1L), entry.getCriterion().getId());
+      assertTrue(entry.getCriterion() instanceof Keyword);
+    }
+    assertEquals("free shoes", ((Keyword) receivedEntries.get(1).getCriterion()).getText());
+  }
+
+  /**
+   * Tests that the elements of the fields outside of the projection are not deserialized.
+   */
+  @Test
+  public void testGet_projection() throws Exception {
+    new StreamingPageReader<AdGroupCriterion>(adGroupCriterionService, AdGroupCriterion.class)
+        .withFields(AdGroupCriterionField.AdGroupId)
+        .get(new Selector(), callback);
+
+    assertEquals(3, receivedEntries.size());
+    for (AdGroupCriterion entry : receivedEntries) {
+      assertEquals(Long.valueOf(123L), entry.getAdGroupId());
+      assertNull(entry.getCriterion());
+    }
+  }
+
+  /**
+   * Tests that elements added to the projection by name are deserialized.
+   */
+  @Test
+  public void testGet_projectionElements() throws Exception {
+    new StreamingPageReader<AdGroupCriterion>(adGroupCriterionService, AdGroupCriterion.class)
+        .withElements("criterion")
+        .get(new Selector(), callback);
+
+    assertEquals(3, receivedEntries.size());
+    for (AdGroupCriterion entry : receivedEntries) {
+      assertNull(entry.getAdGroupId());
+      assertNotNull(entry.getCriterion());
+    }
+  }
+
+  /**
+   * Tests that an exception thrown by the callback is rethrown to the caller.
+   */
+  @Test
+  public void testGet_callbackFails() throws Exception {
+    final IllegalStateException callbackException = new IllegalStateException("Callback failed");
+    try {
+      new StreamingPageReader<AdGroupCriterion>(adGroupCriterionService, AdGroupCriterion.class)
+          .get(new Selector(), new EntryCallback<AdGroupCriterion>() {
+            @Override
+            public void onEntry(AdGroupCriterion entry) {
+              throw callbackException;
+            }
+          });
+      fail("Expected the callback exception");
+    } catch (IllegalStateException e) {
+      assertSame(callbackException, e);
+    }
+  }
+
+  /**
+   * Tests that the response filter is only set on the stub while the reader holds the stub's
+   * lock, which every call sent through the stub takes.
+   */
+  @Test
+  public void testGet_filterSetUnderStubLock() throws Exception {
+    Stub stub = (Stub) ((SoapServiceClient<?>) Proxy.getInvocationHandler(
+        adGroupCriterionService)).getSoapClient();
+    final StreamingPageReader<AdGroupCriterion> reader =
+        new StreamingPageReader<AdGroupCriterion>(adGroupCriterionService, AdGroupCriterion.class);
+    // Reads a first page, so that the second read does not create a call on the stub.
+    reader.get(new Selector(), callback);
+    receivedEntries.clear();
+    ListeningExecutorService executor =
+        MoreExecutors.listeningDecorator(Executors.newSingleThreadExecutor());
+    try {
+      ListenableFuture<Integer> read;
+      synchronized (stub) {
+        read = executor.submit(new Callable<Integer>() {
+          @Override
+          public Integer call() throws Exception {
+            return reader.get(new Selector(), callback);
+          }
+        });
+        long deadline = System.currentTimeMillis() + 500;
+        while (System.currentTimeMillis() < deadline) {
+          assertNull("Filter was set without the stub's lock",
+              stub._getProperty(StreamingResponseHandler.RESPONSE_FILTER_PROPERTY));
+          Thread.sleep(10);
+        }
+        assertFalse(read.isDone());
+      }
+
+      assertEquals(TOTAL_NUM_ENTRIES, read.get(30, TimeUnit.SECONDS).intValue());
+      assertEquals(3, receivedEntries.size());
+      assertNull(stub._getProperty(StreamingResponseHandler.RESPONSE_FILTER_PROPERTY));
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  /**
+   * Tests that a call sent through the service on another thread while entries are streamed
+   * waits for the read to finish, and does not pick up the reader's response filter.
+   */
+  @Test
+  public void testGet_concurrentCall() throws Exception {
+    final ExecutorService executor = Executors.newSingleThreadExecutor();
+    final List<ListenableFuture<Object>> concurrentCalls = Lists.newArrayList();
+    try {
+      new StreamingPageReader<AdGroupCriterion>(adGroupCriterionService, AdGroupCriterion.class)
+          .get(new Selector(), new EntryCallback<AdGroupCriterion>() {
+            @Override
+            public void onEntry(AdGroupCriterion entry) {
+              receivedEntries.add(entry);
+              if (!concurrentCalls.isEmpty()) {
+                return;
+              }
+              try {
+                ListenableFuture<Object> concurrentCall = ExecutorServiceCalls.submit(
+                    adGroupCriterionService,
+                    AdGroupCriterionServiceInterface.class.getMethod("get", Selector.class),
+                    new Object[] {new Selector()}, executor);
+                concurrentCalls.add(concurrentCall);
+                concurrentCall.get(200, TimeUnit.MILLISECONDS);
+                fail("Expected the concurrent call to wait for the read");
+              } catch (TimeoutException e) {
+                // Expected.
+              } catch (Exception e) {
+                throw new IllegalStateException(e);
+              }
+            }
+          });
+      AdGroupCriterionPage page =
+          (AdGroupCriterionPage) concurrentCalls.get(0).get(30, TimeUnit.SECONDS);
+
+      assertEquals(3, receivedEntries.size());
+      assertEquals(3, page.getEntries().length);
+      assertEquals(Long.valueOf(2L), page.getEntries(1).getCriterion().getId());
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  /**
+   * Tests that the fields of the streamed entries are interned by the stub's field interner.
+   */
+  @Test
+  public void testGet_fieldInterner() throws Exception {
+    Stub stub = (Stub) ((SoapServiceClient<?>) Proxy.getInvocationHandler(
+        adGroupCriterionService)).getSoapClient();
+    FieldInterner fieldInterner = new FieldInterner(ImmutableList.of("Keyword.text"), 100);
+    stub._setProperty(FieldInterner.PROPERTY, fieldInterner);
+
+    new StreamingPageReader<AdGroupCriterion>(adGroupCriterionService, AdGroupCriterion.class)
+        .get(new Selector(), callback);
+
+    assertEquals(3, receivedEntries.size());
+    assertEquals(3, fieldInterner.getStringInterner().getLookupCount());
+    assertSame(((Keyword) receivedEntries.get(0).getCriterion()).getText(),
+        fieldInterner.getStringInterner().intern(new String("shoes")));
+  }
+
+  /**
+   * Tests that a response with a DTD is rejected instead of having its external entities resolved.
+   */
+  @Test
+  public void testGet_externalEntity() throws Exception {
+    File entityFile = temporaryFolder.newFile();
+    Files.write("secret", entityFile, Charsets.UTF_8);
+    AdGroupCriterionPage page = new AdGroupCriterionPage();
+    page.setEntries(new AdGroupCriterion[] {
+        createCriterion(new BiddableAdGroupCriterion(), 1L, "ENTITY_REFERENCE")});
+    String response = "<!DOCTYPE soap:Envelope [<!ENTITY xxe SYSTEM \""
+        + entityFile.toURI() + "\">]>"
+        + createResponse(page).replace("ENTITY_REFERENCE", "&xxe;");
+    testHttpServer.setMockResponseBody(response);
+
+    try {
+      new StreamingPageReader<AdGroupCriterion>(adGroupCriterionService, AdGroupCriterion.class)
+          .get(new Selector(), callback);
+      fail("Expected the response with a DTD to be rejected");
+    } catch (RemoteException e) {
+      assertTrue(receivedEntries.isEmpty());
+    }
+  }
+
+  /**
+   * Tests that a selector that does not match the service's get method is rejected.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void testGet_wrongSelector() throws Exception {
+    new StreamingPageReader<AdGroupCriterion>(adGroupCriterionService, AdGroupCriterion.class)
+        .get("selector", callback);
+  }
+
+  private static AdGroupCriterion createCriterion(
+      AdGroupCriterion adGroupCriterion, long criterionId, String text) {
+    Keyword keyword = new Keyword();
+    keyword.setId(criterionId);
+    keyword.setText(text);
+    keyword.setMatchType(KeywordMatchType.EXACT);
+    adGroupCriterion.setAdGroupId(123L);
+    adGroupCriterion.setCriterion(keyword);
+    return adGroupCriterion;
+  }
+
+  /**
+   * Serializes the page and wraps it in the SOAP response of the {@code get} method.
+   */
+  private static String createResponse(AdGroupCriterionPage page) throws Exception {
+    StringWriter writer = new StringWriter();
+    SerializationContext serializationContext = new SerializationContext(writer) {
+      /**
+       * Forces the serializer to omit the elements of null fields.
+       */
+      @SuppressWarnings("rawtypes")
+      @Override
+      public void serialize(QName elemQName, Attributes attributes, Object value, QName xmlType,
+          Class javaType) throws IOException {
+        super.serialize(elemQName, attributes, value, xmlType, javaType, false, null);
+      }
+    };
+    serializationContext.setSendDecl(false);
+    new AxisSerializer().serialize(page, serializationContext);
+
+    return "<soap:Envelope xmlns:soap=\"http://schemas.xmlsoap.org/soap/envelope/\">"
+        + "<soap:Header/><soap:Body>"
+        + "<getResponse xmlns=\"https://adwords.google.com/api/adwords/cm/v201609\">"
+        + writer.toString().replaceAll("AdGroupCriterionPage", "rval")
+        + "</getResponse></soap:Body></soap:Envelope>";
+  }
+}
@@ -0,0 +1,113 @@
+// Copyright 2016 Google Inc. All Rights Reserved.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+
+package com.google.api.ads.adwords.axis.utils.v201605.shopping;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+
+import com.google.api.ads.adwords.axis.v201605.cm.ProductCanonicalConditionCondition;
+import com.google.api.ads.adwords.axis.v201605.cm.ProductDimension;
+import com.google.api.ads.adwords.axis.v201605.cm.ProductDimensionType;
+import com.google.api.ads.adwords.axis.v201605.cm.ShoppingProductChannel;
+import com.google.api.ads.adwords.axis.v201605.cm.ShoppingProductChannelExclusivity;
+import com.google.common.collect.Lists;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.util.List;
+
+/**
+ * Tests for {@link ProductDimensionKey}.
+ */
+@RunWith(JUnit4.class)
+public class ProductDimensionKeyTest {
+
+  @Rule public ExpectedException thrown = ExpectedException.none();
+
+  /**
+   * Tests that keys are ordered the same way as {@link ProductDimensionComparator} orders their
+   * dimensions, for every pair of a varied list of dimensions.
+   */
+  @Test
+  public void testCompareTo_consistentWithComparator() {
+    List<ProductDimension> dimensions = Lists.newArrayList(
+        null,
+        ProductDimensions.createBrand("Google"),
+        ProductDimensions.createBrand("google"),
+        ProductDimensions.createBrand("_brand"),
+        ProductDimensions.createBrand(null),
+        ProductDimensions.createOfferId("abc"),
+        ProductDimensions.createOfferId("ABD"),
+        ProductDimensions.createOfferId(null),
+        ProductDimensions.createBiddingCategory(ProductDimensionType.BIDDING_CATEGORY_L1, 123L),
+        ProductDimensions.createBiddingCategory(ProductDimensionType.BIDDING_CATEGORY_L1, 45L),
+        ProductDimensions.createBiddingCategory(ProductDimensionType.BIDDING_CATEGORY_L2, 45L),
+        ProductDimensions.createBiddingCategory(ProductDimensionType.BIDDING_CATEGORY_L2, null),
+        ProductDimensions.createCustomAttribute(ProductDimensionType.CUSTOM_ATTRIBUTE_0, "x"),
+        ProductDimensions.createCustomAttribute(ProductDimensionType.CUSTOM_ATTRIBUTE_1, "X"),
+        ProductDimensions.createCustomAttribute(ProductDimensionType.CUSTOM_ATTRIBUTE_1, null),
+        ProductDimensions.createType(ProductDimensionType.PRODUCT_TYPE_L1, "Shoes"),
+        ProductDimensions.createType(ProductDimensionType.PRODUCT_TYPE_L2, "shoes"),
+        ProductDimensions.createCanonicalCondition(ProductCanonicalConditionCondition.NEW),
+        ProductDimensions.createCanonicalCondition(ProductCanonicalConditionCondition.USED),
+        ProductDimensions.createCanonicalCondition(null),
+        ProductDimensions.createChannel(ShoppingProductChannel.ONLINE),
+        ProductDimensions.createChannel(ShoppingProductChannel.LOCAL),
+        ProductDimensions.createChannel(null),
+        ProductDimensions.createChannelExclusivity(
+            ShoppingProductChannelExclusivity.SINGLE_CHANNEL),
+        ProductDimensions.createChannelExclusivity(null));
+    ProductDimensionComparator comparator = new ProductDimensionComparator();
+    for (ProductDimension d1 : dimensions) {
+      for (ProductDimension d2 : dimensions) {
+        int expected = Integer.signum(comparator.compare(d1, d2));
+        ProductDimensionKey key1 = ProductDimensionKey.of(d1);
+        ProductDimensionKey key2 = ProductDimensionKey.of(d2);
+        assertEquals(String.format("Comparison of keys of %s and %s", d1, d2), expected,
+            Integer.signum(key1.compareTo(key2)));
+        assertEquals(expected == 0, key1.equals(key2));
+      }
+    }
+  }
+
+  /**
+   * Tests that the keys of equivalent dimensions are the same instance.
+   */
+  @Test
+  public void testOf_interned() {
+    ProductDimensionKey key = ProductDimensionKey.of(ProductDimensions.createBrand("Google"));
+    assertSame(key, ProductDimensionKey.of(ProductDimensions.createBrand("google")));
+    assertSame(ProductDimensionKey.of(null), ProductDimensionKey.of(null));
+    assertEquals(key.hashCode(),
+        ProductDimensionKey.of(ProductDimensions.createBrand("GOOGLE")).hashCode());
+    assertFalse(key.equals(ProductDimensionKey.of(ProductDimensions.createOfferId("google"))));
+  }
+
+  /**
+   * Tests that a key cannot be created for a dimension type that is not supported by Shopping
+   * campaigns.
+   */
+  @Test
+  public void testOf_unsupportedType() {
+    thrown.expect(IllegalArgumentException.class);
+    ProductDimensionKey.of(new ProductDimension() {});
+  }
+}
@@ -0,0 +1,197 @@
+// Copyright 2016 Google Inc. All Rights Reserved.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.api.ads.adwords.axis.utils.v201605.shopping;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.api.ads.adwords.axis.v201605.cm.AdGroup;
+import com.google.api.ads.adwords.axis.v201605.cm.AdGroupCriterion;
+import com.google.api.ads.adwords.axis.v201605.cm.AdGroupCriterionPage;
+import com.google.api.ads.adwords.axis.v201605.cm.AdGroupCriterionServiceInterface;
+import com.google.api.ads.adwords.axis.v201605.cm.AdGroupPage;
+import com.google.api.ads.adwords.axis.v201605.cm.AdGroupServiceInterface;
+import com.google.api.ads.adwords.axis.v201605.cm.BiddableAdGroupCriterion;
+import com.google.api.ads.adwords.axis.v201605.cm.BiddingStrategyConfiguration;
+import com.google.api.ads.adwords.axis.v201605.cm.Predicate;
+import com.google.api.ads.adwords.axis.v201605.cm.ProductCanonicalConditionCondition;
+import com.google.api.ads.adwords.axis.v201605.cm.ProductDimension;
+import com.google.api.ads.adwords.axis.v201605.cm.ProductPartition;
+import com.google.api.ads.adwords.axis.v201605.cm.ProductPartitionType;
+import com.google.api.ads.adwords.axis.v201605.cm.Selector;
+import com.google.api.ads.adwords.axis.v201605.cm.UserStatus;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Iterables;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Tests for {@link ProductPartitionTreeLoader}.
+ */
+@RunWith(JUnit4.class)
+public class ProductPartitionTreeLoaderTest {
+
+  @Mock
+  private AdGroupCriterionServiceInterface firstCriterionService;
+
+  @Mock
+  private AdGroupCriterionServiceInterface secondCriterionService;
+
+  @Mock
+  private AdGroupServiceInterface adGroupService;
+
+  private List<AdGroupCriterion> allCriteria;
+  private List<List<String>> requestedAdGroupIds;
+  private ProductPartitionTreeLoader loader;
+
+  @Before
+  public void setUp() throws Exception {
+    MockitoAnnotations.initMocks(this);
+    // Ad group 1 has a single unit, ad group 2 a subdivision with two units, and ad group 3 no
+    // product partitions.
+    allCriteria = ImmutableList.of(
+        createCriterion(1L, 10L, null, null, true),
+        createCriterion(2L, 20L, null, null, false),
+        createCriterion(2L, 21L, 20L,
+            ProductDimensions.createCanonicalCondition(ProductCanonicalConditionCondition.NEW),
+            true),
+        createCriterion(2L, 22L, 20L, ProductDimensions.createCanonicalCondition(null), true));
+    requestedAdGroupIds = Collections.synchronizedList(new ArrayList<List<String>>());
+    Answer<AdGroupCriterionPage> pageAnswer = new Answer<AdGroupCriterionPage>() {
+      @Override
+      public AdGroupCriterionPage answer(InvocationOnMock invocation) {
+        return getPage((Selector) invocation.getArguments()[0]);
+      }
+    };
+    when(firstCriterionService.get(any(Selector.class))).thenAnswer(pageAnswer);
+    when(secondCriterionService.get(any(Selector.class))).thenAnswer(pageAnswer);
+
+    AdGroup adGroup = new AdGroup();
+    adGroup.setId(3L);
+    adGroup.setBiddingStrategyConfiguration(new BiddingStrategyConfiguration());
+    AdGroupPage adGroupPage = new AdGroupPage();
+    adGroupPage.setEntries(new AdGroup[] {adGroup});
+    when(adGroupService.get(any(Selector.class))).thenReturn(adGroupPage);
+
+    loader = new ProductPartitionTreeLoader(
+        Arrays.asList(firstCriterionService, secondCriterionService), adGroupService, 2, 2);
+  }
+
+  /**
+   * Tests that the criteria of several ad groups are retrieved together, page by page, and split
+   * into the tree of each ad group.
+   */
+  @Test
+  public void testLoad() throws Exception {
+    Map<Long, ProductPartitionTree> trees = loader.load(Arrays.asList(3L, 1L, 2L));
+
+    assertEquals(Arrays.asList(3L, 1L, 2L), new ArrayList<Long>(trees.keySet()));
+    // Ad groups 3 and 1 are requested together, and the two pages of ad group 2.
+    assertEquals(3, requestedAdGroupIds.size());
+    assertTrue(requestedAdGroupIds.contains(Arrays.asList("3", "1")));
+    assertEquals(2, Collections.frequency(requestedAdGroupIds, Arrays.asList("2")));
+
+    ProductPartitionNode root1 = trees.get(1L).getRoot();
+    assertEquals(Long.valueOf(10L), root1.getProductPartitionId());
+    assertTrue(root1.isUnit());
+
+    ProductPartitionNode root2 = trees.get(2L).getRoot();
+    assertEquals(Long.valueOf(20L), root2.getProductPartitionId());
+    assertFalse(root2.isUnit());
+    assertEquals(2, Iterables.size(root2.getChildren()));
+
+    ProductPartitionNode root3 = trees.get(3L).getRoot();
+    assertTrue(root3.getProductPartitionId() < 0L);
+    assertTrue(root3.isUnit());
+
+    // Only the ad group without product partitions is retrieved.
+    ArgumentCaptor<Selector> selectorCaptor = ArgumentCaptor.forClass(Selector.class);
+    verify(adGroupService).get(selectorCaptor.capture());
+    assertEquals(Arrays.asList("3"), getPredicateValues(selectorCaptor.getValue(), "Id"));
+  }
+
+  /**
+   * Tests that an ad group that does not exist fails the load.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void testLoad_unknownAdGroup() throws Exception {
+    loader.load(Arrays.asList(4L));
+  }
+
+  /**
+   * Returns the page of criteria of the selector's ad groups.
+   */
+  private AdGroupCriterionPage getPage(Selector selector) {
+    List<String> adGroupIds = getPredicateValues(selector, "AdGroupId");
+    requestedAdGroupIds.add(adGroupIds);
+    List<AdGroupCriterion> criteria = new ArrayList<AdGroupCriterion>();
+    for (AdGroupCriterion criterion : allCriteria) {
+      if (adGroupIds.contains(criterion.getAdGroupId().toString())) {
+        criteria.add(criterion);
+      }
+    }
+    int startIndex = selector.getPaging().getStartIndex();
+    int endIndex =
+        Math.min(criteria.size(), startIndex + selector.getPaging().getNumberResults());
+    AdGroupCriterionPage page = new AdGroupCriterionPage();
+    page.setTotalNumEntries(criteria.size());
+    page.setEntries(criteria.subList(Math.min(startIndex, endIndex), endIndex)
+        .toArray(new AdGroupCriterion[0]));
+    return page;
+  }
+
+  private static List<String> getPredicateValues(Selector selector, String field) {
+    for (Predicate predicate : selector.getPredicates()) {
+      if (field.equals(predicate.getField())) {
+        return Arrays.asList(predicate.getValues());
+      }
+    }
+    throw new AssertionError("No predicate for " + field);
+  }
+
+  private static AdGroupCriterion createCriterion(Long adGroupId, Long partitionId,
+      Long parentPartitionId, ProductDimension dimension, boolean isUnit) {
+    ProductPartition partition = new ProductPartition();
+    partition.setId(partitionId);
+    partition.setParentCriterionId(parentPartitionId);
+    partition.setCaseValue(dimension);
+    partition.setPartitionType(
+        isUnit ? ProductPartitionType.UNIT : ProductPartitionType.SUBDIVISION);
+    BiddableAdGroupCriterion criterion = new BiddableAdGroupCriterion();
+    criterion.setAdGroupId(adGroupId);
+    criterion.setUserStatus(UserStatus.ENABLED);
+    criterion.setBiddingStrategyConfiguration(new BiddingStrategyConfiguration());
+    criterion.setCriterion(partition);
+    return criterion;
+  }
+}
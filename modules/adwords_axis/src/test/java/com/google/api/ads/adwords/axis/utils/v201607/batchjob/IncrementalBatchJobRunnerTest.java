@@ -0,0 +1,247 @@
+// Copyright 2016 Google Inc. All Rights Reserved.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.api.ads.adwords.axis.utils.v201607.batchjob;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyBoolean;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.api.ads.adwords.axis.utils.OperationResult;
+import com.google.api.ads.adwords.axis.v201607.cm.ApiError;
+import com.google.api.ads.adwords.axis.v201607.cm.BatchJob;
+import com.google.api.ads.adwords.axis.v201607.cm.BatchJobOperation;
+import com.google.api.ads.adwords.axis.v201607.cm.BatchJobPage;
+import com.google.api.ads.adwords.axis.v201607.cm.BatchJobProcessingError;
+import com.google.api.ads.adwords.axis.v201607.cm.BatchJobReturnValue;
+import com.google.api.ads.adwords.axis.v201607.cm.BatchJobServiceInterface;
+import com.google.api.ads.adwords.axis.v201607.cm.BatchJobStatus;
+import com.google.api.ads.adwords.axis.v201607.cm.Campaign;
+import com.google.api.ads.adwords.axis.v201607.cm.CampaignOperation;
+import com.google.api.ads.adwords.axis.v201607.cm.Operand;
+import com.google.api.ads.adwords.axis.v201607.cm.Operation;
+import com.google.api.ads.adwords.axis.v201607.cm.Operator;
+import com.google.api.ads.adwords.axis.v201607.cm.RequiredError;
+import com.google.api.ads.adwords.axis.v201607.cm.Selector;
+import com.google.api.ads.adwords.axis.v201607.cm.TemporaryUrl;
+import com.google.api.ads.adwords.lib.utils.BatchJobException;
+import com.google.api.ads.adwords.lib.utils.BatchJobUploadResponse;
+import com.google.api.ads.adwords.lib.utils.BatchJobUploadStatus;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Tests for {@link IncrementalBatchJobRunner}.
+ */
+@RunWith(JUnit4.class)
+public class IncrementalBatchJobRunnerTest {
+
+  private static final Long BATCH_JOB_ID = 123L;
+
+  @Mock
+  private BatchJobServiceInterface batchJobService;
+
+  @Mock
+  private BatchJobHelper batchJobHelper;
+
+  private IncrementalBatchJobRunner runner;
+  private List<Long> sleeps;
+  private List<Integer> uploadSizes;
+  private List<Boolean> lastRequestFlags;
+
+  @Before
+  public void setUp() throws Exception {
+    MockitoAnnotations.initMocks(this);
+    sleeps = new ArrayList<Long>();
+    uploadSizes = new ArrayList<Integer>();
+    lastRequestFlags = new ArrayList<Boolean>();
+    runner = new IncrementalBatchJobRunner(batchJobService, batchJobHelper, 2, 100, 10000) {
+      @Override
+      boolean sleep(long millis) {
+        sleeps.add(millis);
+        return true;
+      }
+    };
+
+    BatchJob batchJob = createBatchJob(BatchJobStatus.AWAITING_FILE);
+    TemporaryUrl uploadUrl = new TemporaryUrl();
+    uploadUrl.setUrl("https://upload.example.com/batchjob");
+    batchJob.setUploadUrl(uploadUrl);
+    BatchJobReturnValue returnValue = new BatchJobReturnValue();
+    returnValue.setValue(new BatchJob[] {batchJob});
+    when(batchJobService.mutate(any(BatchJobOperation[].class))).thenReturn(returnValue);
+    when(batchJobHelper.uploadIncrementalBatchJobOperations(
+        any(Iterable.class), anyBoolean(), any(BatchJobUploadStatus.class)))
+        .thenAnswer(new Answer<BatchJobUploadResponse>() {
+          @Override
+          public BatchJobUploadResponse answer(InvocationOnMock invocation) {
+            Iterable<?> operations = (Iterable<?>) invocation.getArguments()[0];
+            int size = 0;
+            for (Object operation : operations) {
+              size++;
+            }
+            uploadSizes.add(size);
+            lastRequestFlags.add((Boolean) invocation.getArguments()[1]);
+            BatchJobUploadStatus status = (BatchJobUploadStatus) invocation.getArguments()[2];
+            return new BatchJobUploadResponse(new ByteArrayInputStream(new byte[0]), 200, "OK",
+                status.getTotalContentLength() + size, status.getResumableUploadUri());
+          }
+        });
+  }
+
+  /**
+   * Tests that the operations are uploaded incrementally, the job is polled until it is done,
+   * and the results are mapped to the operations.
+   */
+  @Test
+  public void testRun_uploadsAndMapsResults() throws Exception {
+    mockBatchJobStatuses(createBatchJob(BatchJobStatus.ACTIVE),
+        createBatchJob(BatchJobStatus.ACTIVE), createDoneBatchJob());
+    List<Operation> operations = createOperations(5);
+    RequiredError error = new RequiredError();
+    mockMutateResults(createMutateResult(0, operations.get(0), null),
+        createMutateResult(1, operations.get(1), error),
+        createMutateResult(2, operations.get(2), null),
+        createMutateResult(3, operations.get(3), null),
+        createMutateResult(4, operations.get(4), null));
+
+    List<OperationResult<Object>> results = runner.run(operations.iterator());
+
+    assertEquals(Arrays.asList(2, 2, 1), uploadSizes);
+    assertEquals(Arrays.asList(false, false, true), lastRequestFlags);
+    assertEquals(Arrays.asList(100L, 200L), sleeps);
+    verify(batchJobHelper).downloadBatchJobMutateResponse("https://download.example.com/result");
+    assertEquals(5, results.size());
+    for (int i = 0; i < results.size(); i++) {
+      assertEquals(i, results.get(i).getOperationIndex());
+      if (i != 1) {
+        assertTrue(results.get(i).isSuccess());
+        assertSame(((CampaignOperation) operations.get(i)).getOperand(),
+            results.get(i).getValue());
+      }
+    }
+    assertFalse(results.get(1).isSuccess());
+    assertEquals(Arrays.<Object>asList(error), results.get(1).getErrors());
+  }
+
+  /**
+   * Tests that the operations the job did not process get the job's processing errors.
+   */
+  @Test
+  public void testRun_unprocessedOperationsGetProcessingErrors() throws Exception {
+    BatchJob doneBatchJob = createDoneBatchJob();
+    BatchJobProcessingError processingError = new BatchJobProcessingError();
+    doneBatchJob.setProcessingErrors(new BatchJobProcessingError[] {processingError});
+    mockBatchJobStatuses(doneBatchJob);
+    List<Operation> operations = createOperations(3);
+    mockMutateResults(createMutateResult(0, operations.get(0), null));
+
+    List<OperationResult<Object>> results = runner.run(operations.iterator());
+
+    assertTrue(results.get(0).isSuccess());
+    for (int i = 1; i < 3; i++) {
+      assertFalse(results.get(i).isSuccess());
+      assertNull(results.get(i).getValue());
+      assertEquals(Arrays.<Object>asList(processingError), results.get(i).getErrors());
+    }
+  }
+
+  /**
+   * Tests that a canceled job fails the run.
+   */
+  @Test(expected = BatchJobException.class)
+  public void testRun_canceled() throws Exception {
+    mockBatchJobStatuses(createBatchJob(BatchJobStatus.CANCELED));
+    runner.run(createOperations(1).iterator());
+  }
+
+  private void mockBatchJobStatuses(BatchJob... batchJobs) throws Exception {
+    BatchJobPage[] pages = new BatchJobPage[batchJobs.length];
+    for (int i = 0; i < batchJobs.length; i++) {
+      pages[i] = new BatchJobPage();
+      pages[i].setEntries(new BatchJob[] {batchJobs[i]});
+    }
+    when(batchJobService.get(any(Selector.class)))
+        .thenReturn(pages[0], Arrays.copyOfRange(pages, 1, pages.length));
+  }
+
+  private void mockMutateResults(MutateResult... mutateResults) throws Exception {
+    BatchJobMutateResponse response = new BatchJobMutateResponse();
+    response.setMutateResults(mutateResults);
+    when(batchJobHelper.downloadBatchJobMutateResponse("https://download.example.com/result"))
+        .thenReturn(response);
+  }
+
+  private static BatchJob createBatchJob(BatchJobStatus status) {
+    BatchJob batchJob = new BatchJob();
+    batchJob.setId(BATCH_JOB_ID);
+    batchJob.setStatus(status);
+    return batchJob;
+  }
+
+  private static BatchJob createDoneBatchJob() {
+    BatchJob batchJob = createBatchJob(BatchJobStatus.DONE);
+    TemporaryUrl downloadUrl = new TemporaryUrl();
+    downloadUrl.setUrl("https://download.example.com/result");
+    batchJob.setDownloadUrl(downloadUrl);
+    return batchJob;
+  }
+
+  private static MutateResult createMutateResult(int index, Operation operation,
+      ApiError error) {
+    MutateResult mutateResult = new MutateResult();
+    mutateResult.setIndex((long) index);
+    if (error == null) {
+      Operand operand = new Operand();
+      operand.setCampaign(((CampaignOperation) operation).getOperand());
+      mutateResult.setOperand(operand);
+    } else {
+      ErrorList errorList = new ErrorList();
+      errorList.setErrors(new ApiError[] {error});
+      mutateResult.setErrorList(errorList);
+    }
+    return mutateResult;
+  }
+
+  private static List<Operation> createOperations(int count) {
+    List<Operation> operations = new ArrayList<Operation>();
+    for (int i = 0; i < count; i++) {
+      Campaign campaign = new Campaign();
+      campaign.setId(1000L + i);
+      CampaignOperation operation = new CampaignOperation();
+      operation.setOperator(Operator.SET);
+      operation.setOperand(campaign);
+      operations.add(operation);
+    }
+    return operations;
+  }
+}
@@ -17,7 +17,6 @@ package com.google.api.ads.adwords.axis.utils.v201607.shopping;
 import static org.junit.Assert.assertEquals;
 
 import com.google.api.ads.adwords.axis.utils.v201607.shopping.ProductPartitionNodeDiffer.NodeDifference;
-import com.google.api.ads.adwords.axis.v201607.cm.ProductDimension;
 
 import org.junit.Rule;
 import org.junit.Test;
@@ -25,16 +24,12 @@ import org.junit.rules.ExpectedException;
 import org.junit.runner.RunWith;
 import org.junit.runners.JUnit4;
 
-import java.util.Comparator;
-
 /**
  * Tests for {@link ProductPartitionNodeDiffer}.
  */
 @RunWith(JUnit4.class)
 public class ProductPartitionNodeDifferTest {
 
-  private final Comparator<ProductDimension> dimensionComparator = new ProductDimensionComparator();
-
   @Rule
   public ExpectedException thrown = ExpectedException.none();
   
@@ -43,7 +38,7 @@ public class ProductPartitionNodeDifferTest {
    */
   @Test
   public void testFindNodeDifference_bothNull() {
-    NodeDifference diff = ProductPartitionNodeDiffer.diff(null, null, dimensionComparator);
+    NodeDifference diff = ProductPartitionNodeDiffer.diff(null, null);
     assertEquals(NodeDifference.NONE, diff);
   }
 
@@ -52,8 +47,8 @@ public class ProductPartitionNodeDifferTest {
    */
   @Test
   public void testFindNodeDifference_newNull() {
-    ProductPartitionNode origNode = new ProductPartitionNode(null, null, -1L, dimensionComparator);
-    NodeDifference diff = ProductPartitionNodeDiffer.diff(origNode, null, dimensionComparator);
+    ProductPartitionNode origNode = new ProductPartitionNode(null, null, -1L);
+    NodeDifference diff = ProductPartitionNodeDiffer.diff(origNode, null);
     assertEquals(NodeDifference.REMOVED_NODE, diff);
   }
 
@@ -62,8 +57,8 @@ public class ProductPartitionNodeDifferTest {
    */
   @Test
   public void testFindNodeDifference_origNull() {
-    ProductPartitionNode newNode = new ProductPartitionNode(null, null, -1L, dimensionComparator);
-    NodeDifference diff = ProductPartitionNodeDiffer.diff(null, newNode, dimensionComparator);
+    ProductPartitionNode newNode = new ProductPartitionNode(null, null, -1L);
+    NodeDifference diff = ProductPartitionNodeDiffer.diff(null, newNode);
     assertEquals(NodeDifference.NEW_NODE, diff);
   }
 
@@ -73,10 +68,10 @@ public class ProductPartitionNodeDifferTest {
   @Test
   public void testFindNodeDifference_neitherNull_logicallyEquivalent() {
     ProductPartitionNode origNode = new ProductPartitionNode(null,
-        ProductDimensions.createOfferId("1234"), -1L, dimensionComparator).asSubdivision();
+        ProductDimensions.createOfferId("1234"), -1L).asSubdivision();
     ProductPartitionNode newNode = new ProductPartitionNode(null,
-        ProductDimensions.createOfferId("1234"), -1L, dimensionComparator).asSubdivision();
-    NodeDifference diff = ProductPartitionNodeDiffer.diff(origNode, newNode, dimensionComparator);
+        ProductDimensions.createOfferId("1234"), -1L).asSubdivision();
+    NodeDifference diff = ProductPartitionNodeDiffer.diff(origNode, newNode);
     assertEquals(NodeDifference.NONE, diff);
   }
 
@@ -86,9 +81,9 @@ public class ProductPartitionNodeDifferTest {
   @Test
   public void testFindNodeDifference_identity() {
     ProductPartitionNode node = new ProductPartitionNode(null,
-        ProductDimensions.createOfferId("1234"), -1L, dimensionComparator).asSubdivision();
+        ProductDimensions.createOfferId("1234"), -1L).asSubdivision();
     assertEquals(NodeDifference.NONE,
-        ProductPartitionNodeDiffer.diff(node, node, dimensionComparator));
+        ProductPartitionNodeDiffer.diff(node, node));
   }
 
   /**
@@ -98,11 +93,11 @@ public class ProductPartitionNodeDifferTest {
   @Test
   public void testFindNodeDifference_differentDimensionTypes_fails() {
     ProductPartitionNode origNode = new ProductPartitionNode(null,
-        ProductDimensions.createBrand("nike"), -1L, dimensionComparator);
+        ProductDimensions.createBrand("nike"), -1L);
     ProductPartitionNode newNode = new ProductPartitionNode(null,
-        ProductDimensions.createOfferId("1234"), -1L, dimensionComparator);
+        ProductDimensions.createOfferId("1234"), -1L);
     thrown.expect(IllegalArgumentException.class);
-    ProductPartitionNodeDiffer.diff(origNode, newNode, dimensionComparator);
+    ProductPartitionNodeDiffer.diff(origNode, newNode);
   }
 
   /**
@@ -111,11 +106,11 @@ public class ProductPartitionNodeDifferTest {
    */
   @Test
   public void testFindNodeDifference_differentDimensionTypes_origNullDimension_fails() {
-    ProductPartitionNode origNode = new ProductPartitionNode(null, null, -1L, dimensionComparator);
+    ProductPartitionNode origNode = new ProductPartitionNode(null, null, -1L);
     ProductPartitionNode newNode = new ProductPartitionNode(null,
-        ProductDimensions.createOfferId("1234"), -1L, dimensionComparator);
+        ProductDimensions.createOfferId("1234"), -1L);
     thrown.expect(IllegalArgumentException.class);
-    ProductPartitionNodeDiffer.diff(origNode, newNode, dimensionComparator);
+    ProductPartitionNodeDiffer.diff(origNode, newNode);
   }
 
   /**
@@ -125,10 +120,10 @@ public class ProductPartitionNodeDifferTest {
   @Test
   public void testFindNodeDifference_differentDimensionTypes_newNullDimension_fails() {
     ProductPartitionNode origNode = new ProductPartitionNode(null,
-        ProductDimensions.createOfferId("1234"), -1L, dimensionComparator);
-    ProductPartitionNode newNode = new ProductPartitionNode(null, null, -1L, dimensionComparator);
+        ProductDimensions.createOfferId("1234"), -1L);
+    ProductPartitionNode newNode = new ProductPartitionNode(null, null, -1L);
     thrown.expect(IllegalArgumentException.class);
-    ProductPartitionNodeDiffer.diff(origNode, newNode, dimensionComparator);
+    ProductPartitionNodeDiffer.diff(origNode, newNode);
   }
 
   /**
@@ -137,15 +132,15 @@ public class ProductPartitionNodeDifferTest {
   @Test
   public void testFindNodeDifference_partitionTypeDiffers() {
     ProductPartitionNode origNode = new ProductPartitionNode(null,
-        ProductDimensions.createOfferId("1234"), -1L, dimensionComparator).asSubdivision();
+        ProductDimensions.createOfferId("1234"), -1L).asSubdivision();
     ProductPartitionNode newNode = new ProductPartitionNode(null,
-        ProductDimensions.createOfferId("1234"), -1L, dimensionComparator).asBiddableUnit();
+        ProductDimensions.createOfferId("1234"), -1L).asBiddableUnit();
     // Regardless of which is original and which is new, the differ should return the same
     // NodeDifference for this case.
     assertEquals(NodeDifference.PARTITION_TYPE_CHANGE,
-        ProductPartitionNodeDiffer.diff(origNode, newNode, dimensionComparator));
+        ProductPartitionNodeDiffer.diff(origNode, newNode));
     assertEquals(NodeDifference.PARTITION_TYPE_CHANGE,
-        ProductPartitionNodeDiffer.diff(newNode, origNode, dimensionComparator));
+        ProductPartitionNodeDiffer.diff(newNode, origNode));
   }
 
   /**
@@ -154,24 +149,24 @@ public class ProductPartitionNodeDifferTest {
   @Test
   public void testFindNodeDifference_bidDiffers() {
     ProductPartitionNode origNode = new ProductPartitionNode(null,
-        ProductDimensions.createOfferId("1234"), -1L, dimensionComparator).asBiddableUnit().setBid(
+        ProductDimensions.createOfferId("1234"), -1L).asBiddableUnit().setBid(
         1000000L);
     ProductPartitionNode newNode = new ProductPartitionNode(null,
-        ProductDimensions.createOfferId("1234"), -1L, dimensionComparator).asBiddableUnit().setBid(
+        ProductDimensions.createOfferId("1234"), -1L).asBiddableUnit().setBid(
         2000000L);
     // Regardless of which is original and which is new, the differ should return the same
     // NodeDifference for this case.
     assertEquals(NodeDifference.BID_CHANGE,
-        ProductPartitionNodeDiffer.diff(origNode, newNode, dimensionComparator));
+        ProductPartitionNodeDiffer.diff(origNode, newNode));
     assertEquals(NodeDifference.BID_CHANGE,
-        ProductPartitionNodeDiffer.diff(newNode, origNode, dimensionComparator));
+        ProductPartitionNodeDiffer.diff(newNode, origNode));
 
     // Result should be the same if one of the nodes has a null bid.
     newNode = newNode.setBid(null);
     assertEquals(NodeDifference.BID_CHANGE,
-        ProductPartitionNodeDiffer.diff(origNode, newNode, dimensionComparator));
+        ProductPartitionNodeDiffer.diff(origNode, newNode));
     assertEquals(NodeDifference.BID_CHANGE,
-        ProductPartitionNodeDiffer.diff(newNode, origNode, dimensionComparator));
+        ProductPartitionNodeDiffer.diff(newNode, origNode));
   }
 
   /**
@@ -180,17 +175,17 @@ public class ProductPartitionNodeDifferTest {
   @Test
   public void testFindNodeDifference_isExcludedDiffers() {
     ProductPartitionNode origNode = new ProductPartitionNode(
-        new ProductPartitionNode(null, null, 2L, dimensionComparator),
-        ProductDimensions.createOfferId("1234"), -1L, dimensionComparator).asBiddableUnit().setBid(
+        new ProductPartitionNode(null, null, 2L),
+        ProductDimensions.createOfferId("1234"), -1L).asBiddableUnit().setBid(
         1000000L);
     ProductPartitionNode newNode = new ProductPartitionNode(
-        new ProductPartitionNode(null, null, 2L, dimensionComparator),
-        ProductDimensions.createOfferId("1234"), -1L, dimensionComparator).asExcludedUnit();
+        new ProductPartitionNode(null, null, 2L),
+        ProductDimensions.createOfferId("1234"), -1L).asExcludedUnit();
     // Regardless of which is original and which is new, the differ should return the same
     // NodeDifference for this case.
     assertEquals(NodeDifference.EXCLUDED_UNIT_CHANGE,
-        ProductPartitionNodeDiffer.diff(origNode, newNode, dimensionComparator));
+        ProductPartitionNodeDiffer.diff(origNode, newNode));
     assertEquals(NodeDifference.EXCLUDED_UNIT_CHANGE,
-        ProductPartitionNodeDiffer.diff(newNode, origNode, dimensionComparator));
+        ProductPartitionNodeDiffer.diff(newNode, origNode));
   }
 }
@@ -0,0 +1,441 @@
+// Copyright 2016 Google Inc. All Rights Reserved.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.api.ads.adwords.axis.utils.v201607.sync;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.api.ads.adwords.axis.v201607.ch.AdGroupChangeData;
+import com.google.api.ads.adwords.axis.v201607.ch.CampaignChangeData;
+import com.google.api.ads.adwords.axis.v201607.ch.ChangeStatus;
+import com.google.api.ads.adwords.axis.v201607.ch.CustomerChangeData;
+import com.google.api.ads.adwords.axis.v201607.ch.CustomerSyncError;
+import com.google.api.ads.adwords.axis.v201607.ch.CustomerSyncErrorReason;
+import com.google.api.ads.adwords.axis.v201607.ch.CustomerSyncSelector;
+import com.google.api.ads.adwords.axis.v201607.ch.CustomerSyncServiceInterface;
+import com.google.api.ads.adwords.axis.v201607.ch.FeedChangeData;
+import com.google.api.ads.adwords.axis.v201607.cm.AdGroup;
+import com.google.api.ads.adwords.axis.v201607.cm.AdGroupCriterion;
+import com.google.api.ads.adwords.axis.v201607.cm.AdGroupCriterionPage;
+import com.google.api.ads.adwords.axis.v201607.cm.AdGroupCriterionServiceInterface;
+import com.google.api.ads.adwords.axis.v201607.cm.AdGroupPage;
+import com.google.api.ads.adwords.axis.v201607.cm.AdGroupServiceInterface;
+import com.google.api.ads.adwords.axis.v201607.cm.ApiError;
+import com.google.api.ads.adwords.axis.v201607.cm.ApiException;
+import com.google.api.ads.adwords.axis.v201607.cm.BiddableAdGroupCriterion;
+import com.google.api.ads.adwords.axis.v201607.cm.Campaign;
+import com.google.api.ads.adwords.axis.v201607.cm.CampaignPage;
+import com.google.api.ads.adwords.axis.v201607.cm.CampaignServiceInterface;
+import com.google.api.ads.adwords.axis.v201607.cm.Criterion;
+import com.google.api.ads.adwords.axis.v201607.cm.Feed;
+import com.google.api.ads.adwords.axis.v201607.cm.FeedPage;
+import com.google.api.ads.adwords.axis.v201607.cm.FeedServiceInterface;
+import com.google.api.ads.adwords.axis.v201607.cm.Predicate;
+import com.google.api.ads.adwords.axis.v201607.cm.Selector;
+import com.google.api.ads.adwords.axis.v201607.mcm.Customer;
+import com.google.api.ads.adwords.axis.v201607.mcm.CustomerServiceInterface;
+import com.google.common.collect.ImmutableSet;
+
+import org.joda.time.DateTimeUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectOutputStream;
+import java.io.StreamCorruptedException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Tests for {@link CustomerSyncMirror} and {@link InMemoryCustomerMirrorStore}.
+ */
+@RunWith(JUnit4.class)
+public class CustomerSyncMirrorTest {
+
+  private static final String CLIENT_CUSTOMER_ID = "123-456-7890";
+
+  @Mock
+  private CustomerServiceInterface customerService;
+
+  @Mock
+  private CustomerSyncServiceInterface customerSyncService;
+
+  @Mock
+  private CampaignServiceInterface campaignService;
+
+  @Mock
+  private AdGroupServiceInterface adGroupService;
+
+  @Mock
+  private AdGroupCriterionServiceInterface adGroupCriterionService;
+
+  @Mock
+  private FeedServiceInterface feedService;
+
+  private List<Campaign> campaigns;
+  private List<AdGroup> adGroups;
+  private List<AdGroupCriterion> criteria;
+  private List<Feed> feeds;
+  private List<Selector> campaignSelectors;
+  private List<Selector> adGroupSelectors;
+  private List<Selector> criterionSelectors;
+  private InMemoryCustomerMirrorStore store;
+  private CustomerSyncMirror mirror;
+
+  @Before
+  public void setUp() throws Exception {
+    MockitoAnnotations.initMocks(this);
+    // 2016-10-01 12:00:00 UTC, which is 08:00:00 in New York.
+    DateTimeUtils.setCurrentMillisFixed(1475323200000L);
+    Customer customer = new Customer();
+    customer.setCustomerId(1234567890L);
+    customer.setDateTimeZone("America/New_York");
+    when(customerService.getCustomers()).thenReturn(new Customer[] {customer});
+
+    campaigns = new ArrayList<Campaign>(Arrays.asList(createCampaign(1L), createCampaign(2L)));
+    adGroups = new ArrayList<AdGroup>(
+        Arrays.asList(createAdGroup(1L, 10L), createAdGroup(1L, 11L), createAdGroup(2L, 20L)));
+    criteria = new ArrayList<AdGroupCriterion>(Arrays.asList(createCriterion(10L, 100L),
+        createCriterion(10L, 101L), createCriterion(11L, 100L), createCriterion(20L, 200L)));
+    feeds = new ArrayList<Feed>(Arrays.asList(createFeed(5L)));
+    campaignSelectors = new ArrayList<Selector>();
+    adGroupSelectors = new ArrayList<Selector>();
+    criterionSelectors = new ArrayList<Selector>();
+
+    when(campaignService.get(any(Selector.class))).thenAnswer(new Answer<CampaignPage>() {
+      @Override
+      public CampaignPage answer(InvocationOnMock invocation) {
+        Selector selector = (Selector) invocation.getArguments()[0];
+        campaignSelectors.add(selector);
+        List<Campaign> entries = new ArrayList<Campaign>();
+        for (Campaign campaign : campaigns) {
+          if (matches(selector, "Id", campaign.getId())) {
+            entries.add(campaign);
+          }
+        }
+        CampaignPage page = new CampaignPage();
+        page.setTotalNumEntries(entries.size());
+        page.setEntries(getPage(selector, entries).toArray(new Campaign[0]));
+        return page;
+      }
+    });
+    when(adGroupService.get(any(Selector.class))).thenAnswer(new Answer<AdGroupPage>() {
+      @Override
+      public AdGroupPage answer(InvocationOnMock invocation) {
+        Selector selector = (Selector) invocation.getArguments()[0];
+        adGroupSelectors.add(selector);
+        List<AdGroup> entries = new ArrayList<AdGroup>();
+        for (AdGroup adGroup : adGroups) {
+          if (matches(selector, "Id", adGroup.getId())
+              && matches(selector, "CampaignId", adGroup.getCampaignId())) {
+            entries.add(adGroup);
+          }
+        }
+        AdGroupPage page = new AdGroupPage();
+        page.setTotalNumEntries(entries.size());
+        page.setEntries(getPage(selector, entries).toArray(new AdGroup[0]));
+        return page;
+      }
+    });
+    when(adGroupCriterionService.get(any(Selector.class))).thenAnswer(
+        new Answer<AdGroupCriterionPage>() {
+          @Override
+          public AdGroupCriterionPage answer(InvocationOnMock invocation) {
+            Selector selector = (Selector) invocation.getArguments()[0];
+            criterionSelectors.add(selector);
+            List<AdGroupCriterion> entries = new ArrayList<AdGroupCriterion>();
+            for (AdGroupCriterion criterion : criteria) {
+              if (matches(selector, "Id", criterion.getCriterion().getId())
+                  && matches(selector, "AdGroupId", criterion.getAdGroupId())) {
+                entries.add(criterion);
+              }
+            }
+            AdGroupCriterionPage page = new AdGroupCriterionPage();
+            page.setTotalNumEntries(entries.size());
+            page.setEntries(getPage(selector, entries).toArray(new AdGroupCriterion[0]));
+            return page;
+          }
+        });
+    when(feedService.get(any(Selector.class))).thenAnswer(new Answer<FeedPage>() {
+      @Override
+      public FeedPage answer(InvocationOnMock invocation) {
+        Selector selector = (Selector) invocation.getArguments()[0];
+        List<Feed> entries = new ArrayList<Feed>();
+        for (Feed feed : feeds) {
+          if (matches(selector, "Id", feed.getId())) {
+            entries.add(feed);
+          }
+        }
+        FeedPage page = new FeedPage();
+        page.setTotalNumEntries(entries.size());
+        page.setEntries(getPage(selector, entries).toArray(new Feed[0]));
+        return page;
+      }
+    });
+
+    store = new InMemoryCustomerMirrorStore();
+    mirror = new CustomerSyncMirror(CLIENT_CUSTOMER_ID, store, customerService,
+        customerSyncService, campaignService, adGroupService, adGroupCriterionService,
+        feedService, 2, 2);
+  }
+
+  @After
+  public void tearDown() {
+    DateTimeUtils.setCurrentMillisSystem();
+  }
+
+  /**
+   * Tests that the first sync of a customer gets all its entities, page by page, and records the
+   * time of the sync in the customer's time zone.
+   */
+  @Test
+  public void testSync_fullLoad() throws Exception {
+    CustomerMirrorUpdate update = mirror.sync();
+
+    assertTrue(update.isFullLoad());
+    assertEquals("20161001 080000 America/New_York", update.getSyncTimestamp());
+    assertEquals(2, update.getCampaigns().size());
+    assertEquals(3, update.getAdGroups().size());
+    assertEquals(4, update.getAdGroupCriteria().size());
+    assertEquals(1, update.getFeeds().size());
+    // Two pages of two criteria.
+    assertEquals(2, criterionSelectors.size());
+    verify(customerSyncService, never()).get(any(CustomerSyncSelector.class));
+
+    assertEquals("20161001 080000 America/New_York", store.getSyncTimestamp(CLIENT_CUSTOMER_ID));
+    assertEquals(ImmutableSet.of(1L, 2L), store.getCampaignIds(CLIENT_CUSTOMER_ID));
+    assertEquals(ImmutableSet.of(5L), store.getFeedIds(CLIENT_CUSTOMER_ID));
+    assertEquals(2, store.getAdGroupCriteria(CLIENT_CUSTOMER_ID, 10L).size());
+  }
+
+  /**
+   * Tests that a later sync only gets the entities reported as changed, the new campaigns with all
+   * their ad groups and criteria, and removes the removed criteria.
+   */
+  @Test
+  public void testSync_incremental() throws Exception {
+    mirror.sync();
+    DateTimeUtils.setCurrentMillisFixed(1475326800000L);
+    campaignSelectors.clear();
+    adGroupSelectors.clear();
+    criterionSelectors.clear();
+
+    // Campaign 3 is new, ad group 10 changed, criterion 101 of ad group 10 was removed and
+    // criterion 100 of ad group 11 changed.
+    campaigns.add(createCampaign(3L));
+    adGroups.add(createAdGroup(3L, 30L));
+    criteria.add(createCriterion(30L, 300L));
+    criteria.remove(1);
+    adGroups.get(0).setName("Changed");
+
+    AdGroupChangeData changedAdGroup = new AdGroupChangeData();
+    changedAdGroup.setAdGroupId(10L);
+    changedAdGroup.setAdGroupChangeStatus(ChangeStatus.FIELDS_CHANGED);
+    changedAdGroup.setRemovedCriteria(new long[] {101L});
+    AdGroupChangeData adGroupWithChangedCriteria = new AdGroupChangeData();
+    adGroupWithChangedCriteria.setAdGroupId(11L);
+    adGroupWithChangedCriteria.setAdGroupChangeStatus(ChangeStatus.FIELDS_UNCHANGED);
+    adGroupWithChangedCriteria.setChangedCriteria(new long[] {100L});
+    CampaignChangeData campaignChange = new CampaignChangeData();
+    campaignChange.setCampaignId(1L);
+    campaignChange.setCampaignChangeStatus(ChangeStatus.FIELDS_UNCHANGED);
+    campaignChange.setChangedAdGroups(
+        new AdGroupChangeData[] {changedAdGroup, adGroupWithChangedCriteria});
+    FeedChangeData feedChange = new FeedChangeData();
+    feedChange.setFeedId(5L);
+    feedChange.setFeedChangeStatus(ChangeStatus.FIELDS_UNCHANGED);
+    CustomerChangeData changeData = new CustomerChangeData();
+    changeData.setChangedCampaigns(new CampaignChangeData[] {campaignChange});
+    changeData.setChangedFeeds(new FeedChangeData[] {feedChange});
+    changeData.setLastChangeTimestamp("20161001 085959 America/New_York");
+    ArgumentCaptor<CustomerSyncSelector> selectorCaptor =
+        ArgumentCaptor.forClass(CustomerSyncSelector.class);
+    when(customerSyncService.get(selectorCaptor.capture())).thenReturn(changeData);
+
+    CustomerMirrorUpdate update = mirror.sync();
+
+    CustomerSyncSelector syncSelector = selectorCaptor.getValue();
+    assertEquals("20161001 080000 America/New_York", syncSelector.getDateTimeRange().getMin());
+    assertEquals("20161001 090000 America/New_York", syncSelector.getDateTimeRange().getMax());
+    assertTrue(Arrays.equals(new long[] {1L, 2L}, syncSelector.getCampaignIds()));
+    assertTrue(Arrays.equals(new long[] {5L}, syncSelector.getFeedIds()));
+
+    assertFalse(update.isFullLoad());
+    assertEquals("20161001 085959 America/New_York", update.getSyncTimestamp());
+    assertEquals(ImmutableSet.of(3L), getCampaignIds(update.getCampaigns()));
+    assertEquals(ImmutableSet.of(10L, 30L), getAdGroupIds(update.getAdGroups()));
+    assertEquals(2, update.getAdGroupCriteria().size());
+    assertEquals(ImmutableSet.of(101L), update.getRemovedAdGroupCriteria().get(10L));
+    assertTrue(update.getFeeds().isEmpty());
+
+    assertEquals("Changed", store.getAdGroup(CLIENT_CUSTOMER_ID, 10L).getName());
+    assertEquals(1, store.getAdGroupCriteria(CLIENT_CUSTOMER_ID, 10L).size());
+    assertEquals(1, store.getAdGroupCriteria(CLIENT_CUSTOMER_ID, 30L).size());
+    assertEquals(ImmutableSet.of(1L, 2L, 3L), store.getCampaignIds(CLIENT_CUSTOMER_ID));
+    assertEquals(
+        "20161001 085959 America/New_York", store.getSyncTimestamp(CLIENT_CUSTOMER_ID));
+    // The customer's time zone is only retrieved once.
+    verify(customerService).getCustomers();
+  }
+
+  /**
+   * Tests that the customer is fully loaded again if there are too many changes to sync.
+   */
+  @Test
+  public void testSync_tooManyChanges() throws Exception {
+    mirror.sync();
+    campaigns.remove(1);
+    CustomerSyncError error = new CustomerSyncError();
+    error.setReason(CustomerSyncErrorReason.TOO_MANY_CHANGES);
+    ApiException apiException = new ApiException();
+    apiException.setErrors(new ApiError[] {error});
+    when(customerSyncService.get(any(CustomerSyncSelector.class))).thenThrow(apiException);
+
+    CustomerMirrorUpdate update = mirror.sync();
+
+    assertTrue(update.isFullLoad());
+    assertEquals(ImmutableSet.of(1L), store.getCampaignIds(CLIENT_CUSTOMER_ID));
+  }
+
+  /**
+   * Tests that other errors of the sync service are thrown, leaving the store unchanged.
+   */
+  @Test(expected = ApiException.class)
+  public void testSync_otherError() throws Exception {
+    mirror.sync();
+    CustomerSyncError error = new CustomerSyncError();
+    error.setReason(CustomerSyncErrorReason.INVALID_DATE_RANGE);
+    ApiException apiException = new ApiException();
+    apiException.setErrors(new ApiError[] {error});
+    when(customerSyncService.get(any(CustomerSyncSelector.class))).thenThrow(apiException);
+
+    mirror.sync();
+  }
+
+  /**
+   * Tests that a store can be written and read back.
+   */
+  @Test
+  public void testStore_writeAndRead() throws Exception {
+    mirror.sync();
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    store.writeTo(outputStream);
+
+    InMemoryCustomerMirrorStore readStore = InMemoryCustomerMirrorStore.readFrom(
+        new ByteArrayInputStream(outputStream.toByteArray()));
+
+    assertEquals(store.getSyncTimestamp(CLIENT_CUSTOMER_ID),
+        readStore.getSyncTimestamp(CLIENT_CUSTOMER_ID));
+    assertEquals(ImmutableSet.of(1L, 2L), readStore.getCampaignIds(CLIENT_CUSTOMER_ID));
+    assertEquals(3, readStore.getAdGroups(CLIENT_CUSTOMER_ID).size());
+    assertEquals(2, readStore.getAdGroupCriteria(CLIENT_CUSTOMER_ID, 10L).size());
+    assertNull(readStore.getSyncTimestamp("111-111-1111"));
+  }
+
+  /**
+   * Tests that a stream that was not written by a store is rejected.
+   */
+  @Test(expected = StreamCorruptedException.class)
+  public void testStore_readOtherStream() throws Exception {
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    ObjectOutputStream objectOutputStream = new ObjectOutputStream(outputStream);
+    objectOutputStream.writeInt(1);
+    objectOutputStream.flush();
+
+    InMemoryCustomerMirrorStore.readFrom(new ByteArrayInputStream(outputStream.toByteArray()));
+  }
+
+  private static boolean matches(Selector selector, String field, Long value) {
+    if (selector.getPredicates() == null) {
+      return true;
+    }
+    for (Predicate predicate : selector.getPredicates()) {
+      if (predicate.getField().equals(field)
+          && !Arrays.asList(predicate.getValues()).contains(String.valueOf(value))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static <T> List<T> getPage(Selector selector, List<T> entries) {
+    int offset = selector.getPaging().getStartIndex();
+    int limit = selector.getPaging().getNumberResults();
+    return entries.subList(Math.min(offset, entries.size()),
+        Math.min(offset + limit, entries.size()));
+  }
+
+  private static Set<Long> getCampaignIds(List<Campaign> campaigns) {
+    Set<Long> ids = new HashSet<Long>();
+    for (Campaign campaign : campaigns) {
+      ids.add(campaign.getId());
+    }
+    return ids;
+  }
+
+  private static Set<Long> getAdGroupIds(List<AdGroup> adGroups) {
+    Set<Long> ids = new HashSet<Long>();
+    for (AdGroup adGroup : adGroups) {
+      ids.add(adGroup.getId());
+    }
+    return ids;
+  }
+
+  private static Campaign createCampaign(long id) {
+    Campaign campaign = new Campaign();
+    campaign.setId(id);
+    return campaign;
+  }
+
+  private static AdGroup createAdGroup(long campaignId, long id) {
+    AdGroup adGroup = new AdGroup();
+    adGroup.setCampaignId(campaignId);
+    adGroup.setId(id);
+    return adGroup;
+  }
+
+  private static AdGroupCriterion createCriterion(long adGroupId, long id) {
+    Criterion criterion = new Criterion();
+    criterion.setId(id);
+    BiddableAdGroupCriterion adGroupCriterion = new BiddableAdGroupCriterion();
+    adGroupCriterion.setAdGroupId(adGroupId);
+    adGroupCriterion.setCriterion(criterion);
+    return adGroupCriterion;
+  }
+
+  private static Feed createFeed(long id) {
+    Feed feed = new Feed();
+    feed.setId(id);
+    return feed;
+  }
+}
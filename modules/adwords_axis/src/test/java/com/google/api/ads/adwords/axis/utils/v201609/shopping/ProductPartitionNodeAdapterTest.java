@@ -54,10 +54,9 @@ public class ProductPartitionNodeAdapterTest {
     adGroupId = -1L;
     biddingConfig = new BiddingStrategyConfiguration();
     biddingConfig.setBiddingStrategyId(-2L);
-    parentNode = new ProductPartitionNode(null, null, -3L, new ProductDimensionComparator());
+    parentNode = new ProductPartitionNode(null, null, -3L);
     childNode = new ProductPartitionNode(parentNode,
-        ProductDimensions.createBrand("google"), -4L,
-        new ProductDimensionComparator());
+        ProductDimensions.createBrand("google"), -4L);
   }
 
   /**
@@ -58,7 +58,7 @@ public class ProductPartitionNodeTest {
 
   @Before
   public void setUp() {
-    rootNode = new ProductPartitionNode(null, null, -1L, new ProductDimensionComparator());
+    rootNode = new ProductPartitionNode(null, null, -1L);
   }
 
   @Test
@@ -145,6 +145,36 @@ public class ProductPartitionNodeTest {
     rootNode.removeChild(ProductDimensions.createBrand("google"));
   }
 
+  /**
+   * Tests that modifying a node marks it and its ancestors, but not its siblings, as dirty.
+   */
+  @Test
+  public void testDirtyTracking() {
+    rootNode = rootNode.asSubdivision();
+    ProductPartitionNode brandNode =
+        rootNode.addChild(ProductDimensions.createBrand("google")).asSubdivision();
+    ProductPartitionNode offerNode =
+        brandNode.addChild(ProductDimensions.createOfferId("1")).setBid(1000000L);
+    ProductPartitionNode otherBrandNode = rootNode.addChild(ProductDimensions.createBrand(null));
+    assertTrue("new nodes should be dirty", offerNode.isDirty());
+    rootNode.clearDirty();
+    assertFalse("nodes should be clean after clearDirty", offerNode.isDirty());
+
+    offerNode.setBid(1000000L);
+    assertFalse("setting the same bid should not mark the node as dirty", rootNode.isDirty());
+
+    offerNode.setBid(2000000L);
+    assertTrue("modified node should be dirty", offerNode.isDirty());
+    assertTrue("parent of modified node should be dirty", brandNode.isDirty());
+    assertTrue("root of modified node should be dirty", rootNode.isDirty());
+    assertFalse("sibling of modified node should not be dirty", otherBrandNode.isDirty());
+
+    rootNode.clearDirty();
+    brandNode.removeChild(ProductDimensions.createOfferId("1"));
+    assertTrue("parent of removed node should be dirty", brandNode.isDirty());
+    assertTrue("root should be dirty", rootNode.isDirty());
+  }
+
   @Test
   public void testAddChildThatExists_fails() {
     rootNode = rootNode.asSubdivision();
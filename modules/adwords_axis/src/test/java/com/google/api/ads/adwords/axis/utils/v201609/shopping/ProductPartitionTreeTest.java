@@ -29,15 +29,22 @@ import com.google.api.ads.adwords.axis.v201609.cm.AdGroupCriterionPage;
 import com.google.api.ads.adwords.axis.v201609.cm.BidSource;
 import com.google.api.ads.adwords.axis.v201609.cm.BiddableAdGroupCriterion;
 import com.google.api.ads.adwords.axis.v201609.cm.BiddingStrategyConfiguration;
+import com.google.api.ads.adwords.axis.v201609.cm.BiddingStrategySource;
+import com.google.api.ads.adwords.axis.v201609.cm.BiddingStrategyType;
 import com.google.api.ads.adwords.axis.v201609.cm.Bids;
 import com.google.api.ads.adwords.axis.v201609.cm.CpcBid;
 import com.google.api.ads.adwords.axis.v201609.cm.Money;
 import com.google.api.ads.adwords.axis.v201609.cm.NegativeAdGroupCriterion;
 import com.google.api.ads.adwords.axis.v201609.cm.Operator;
 import com.google.api.ads.adwords.axis.v201609.cm.ProductBrand;
+import com.google.api.ads.adwords.axis.v201609.cm.ProductCanonicalConditionCondition;
 import com.google.api.ads.adwords.axis.v201609.cm.ProductDimension;
+import com.google.api.ads.adwords.axis.v201609.cm.ProductDimensionType;
 import com.google.api.ads.adwords.axis.v201609.cm.ProductPartition;
 import com.google.api.ads.adwords.axis.v201609.cm.ProductPartitionType;
+import com.google.api.ads.adwords.axis.v201609.cm.ShoppingProductChannel;
+import com.google.api.ads.adwords.axis.v201609.cm.ShoppingProductChannelExclusivity;
+import com.google.api.ads.adwords.axis.v201609.cm.TargetCpaBiddingScheme;
 import com.google.api.ads.adwords.axis.v201609.cm.UserStatus;
 import com.google.api.ads.adwords.lib.client.AdWordsSession;
 import com.google.api.ads.adwords.lib.utils.AdWordsInternals;
@@ -45,13 +52,20 @@ import com.google.api.ads.common.lib.testing.MockHttpIntegrationTest;
 import com.google.api.ads.common.lib.utils.AdsUtility;
 import com.google.api.client.auth.oauth2.BearerToken;
 import com.google.api.client.auth.oauth2.Credential;
+import com.google.common.base.Charsets;
 import com.google.common.base.Preconditions;
 import com.google.common.base.Splitter;
 import com.google.common.collect.Iterables;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
+import com.google.common.primitives.Bytes;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
 import java.io.IOException;
+import java.io.StreamCorruptedException;
 import java.io.StringWriter;
 import java.util.Arrays;
 import java.util.Collections;
@@ -528,6 +542,221 @@ public class ProductPartitionTreeTest extends MockHttpIntegrationTest {
         descriptorMap.size(), childrenFound);
   }
 
+  /**
+   * Tests that the operations of a large tree only reflect the nodes that were modified, which
+   * are the only paths of the tree that dirty tracking visits.
+   */
+  @Test
+  public void testGetMutateOperations_largeTree() {
+    int subdivisionCount = 100;
+    int unitCount = 100;
+    List<AdGroupCriterion> criteria = Lists.newArrayList();
+    criteria.add(createLargeTreeCriterion(1L, null, null, false));
+    long partitionId = 2L;
+    for (int i = 0; i <= subdivisionCount; i++) {
+      long subdivisionId = partitionId++;
+      String brand = i == subdivisionCount ? null : "brand" + i;
+      criteria.add(createLargeTreeCriterion(subdivisionId, 1L,
+          ProductDimensions.createBrand(brand), i == subdivisionCount));
+      if (i < subdivisionCount) {
+        for (int j = 0; j <= unitCount; j++) {
+          String offerId = j == unitCount ? null : "offer" + j;
+          criteria.add(createLargeTreeCriterion(partitionId++, subdivisionId,
+              ProductDimensions.createOfferId(offerId), true));
+        }
+      }
+    }
+    ProductPartitionTree tree = ProductPartitionTree.createAdGroupTree(
+        1234L, biddingStrategyConfig, criteria);
+    assertEquals("Unmodified tree should have no operations", 0,
+        tree.getMutateOperations().size());
+
+    ProductPartitionNode brandNode =
+        tree.getRoot().getChild(ProductDimensions.createBrand("brand7"));
+    brandNode.getChild(ProductDimensions.createOfferId("offer3")).setBid(2000000L);
+    brandNode.removeChild(ProductDimensions.createOfferId("offer4"));
+
+    List<AdGroupCriterionOperation> operations = tree.getMutateOperations();
+    assertEquals("Number of operations is incorrect", 2, operations.size());
+    assertEquals(Operator.SET, operations.get(0).getOperator());
+    assertEquals(Operator.REMOVE, operations.get(1).getOperator());
+  }
+
+  /**
+   * Tests that a tree restored from a snapshot has the same nodes as the original tree, and
+   * generates the same operations for the same changes.
+   */
+  @Test
+  public void testSnapshot_roundTrip() throws IOException {
+    List<ProductDimension> dimensions = Lists.<ProductDimension>newArrayList(
+        ProductDimensions.createOfferId("A"),
+        ProductDimensions.createOfferId(null),
+        ProductDimensions.createBiddingCategory(ProductDimensionType.BIDDING_CATEGORY_L1, 12L),
+        ProductDimensions.createCustomAttribute(ProductDimensionType.CUSTOM_ATTRIBUTE_0, "x"),
+        ProductDimensions.createType(ProductDimensionType.PRODUCT_TYPE_L1, "shoes"),
+        ProductDimensions.createCanonicalCondition(ProductCanonicalConditionCondition.NEW),
+        ProductDimensions.createChannel(ShoppingProductChannel.ONLINE),
+        ProductDimensions.createChannelExclusivity(
+            ShoppingProductChannelExclusivity.SINGLE_CHANNEL));
+    List<AdGroupCriterion> criteria = Lists.newArrayList();
+    criteria.add(createLargeTreeCriterion(1L, null, null, false));
+    criteria.add(createLargeTreeCriterion(2L, 1L, ProductDimensions.createBrand("google"), false));
+    criteria.add(new CriterionDescriptor(true, true, ProductDimensions.createBrand(null), null, 3L,
+        1L).createCriterion());
+    long partitionId = 4L;
+    for (ProductDimension dimension : dimensions) {
+      criteria.add(createLargeTreeCriterion(partitionId++, 2L, dimension, true));
+    }
+    ProductPartitionTree tree =
+        ProductPartitionTree.createAdGroupTree(1234L, biddingStrategyConfig, criteria);
+
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    tree.writeSnapshot(out);
+    tree.writeSnapshot(out);
+    ByteArrayInputStream in = new ByteArrayInputStream(out.toByteArray());
+    ProductPartitionTree restoredTree = ProductPartitionTree.readSnapshot(in);
+    ProductPartitionTree.readSnapshot(in);
+    assertEquals("Stream should only contain the two snapshots", 0, in.available());
+
+    assertEquals(tree.getAdGroupId(), restoredTree.getAdGroupId());
+    assertSameNodes(tree.getRoot(), restoredTree.getRoot());
+    assertEquals("Restored tree should have no operations", 0,
+        restoredTree.getMutateOperations().size());
+
+    for (ProductPartitionTree treeToModify : Arrays.asList(tree, restoredTree)) {
+      ProductPartitionNode brandNode =
+          treeToModify.getRoot().getChild(ProductDimensions.createBrand("google"));
+      brandNode.getChild(ProductDimensions.createOfferId("A")).setBid(2000000L);
+      brandNode.removeChild(ProductDimensions.createOfferId(null));
+    }
+    List<AdGroupCriterionOperation> operations = tree.getMutateOperations();
+    List<AdGroupCriterionOperation> restoredOperations = restoredTree.getMutateOperations();
+    assertEquals(2, restoredOperations.size());
+    for (int i = 0; i < operations.size(); i++) {
+      assertEquals(operations.get(i).getOperator(), restoredOperations.get(i).getOperator());
+      assertEquals(operations.get(i).getOperand().getCriterion().getId(),
+          restoredOperations.get(i).getOperand().getCriterion().getId());
+    }
+  }
+
+  /**
+   * Tests restoring the snapshot of an empty tree, and that the bidding strategy configuration of
+   * the ad group is restored.
+   */
+  @Test
+  public void testSnapshot_emptyTree() throws IOException {
+    isUtilityRegistryExpected = false;
+    biddingStrategyConfig.setBiddingStrategyId(42L);
+    ProductPartitionTreeImpl tree = ProductPartitionTreeImpl.createAdGroupTree(
+        1234L, biddingStrategyConfig, Collections.<AdGroupCriterion>emptyList());
+
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    ProductPartitionTreeSnapshots.write(tree, new DataOutputStream(out));
+    ProductPartitionTreeImpl restoredTree = ProductPartitionTreeSnapshots.read(
+        new DataInputStream(new ByteArrayInputStream(out.toByteArray())));
+
+    assertEquals(biddingStrategyConfig, restoredTree.getBiddingStrategyConfig());
+    assertSameNodes(tree.getRoot(), restoredTree.getRoot());
+    assertEquals("Empty tree should only add the root", 1,
+        restoredTree.getMutateOperations().size());
+  }
+
+  /**
+   * Tests that the fields of a bidding strategy configuration with a bidding scheme and bids are
+   * restored.
+   */
+  @Test
+  public void testSnapshot_biddingStrategyConfig() throws IOException {
+    isUtilityRegistryExpected = false;
+    Money targetCpa = new Money();
+    targetCpa.setMicroAmount(5000000L);
+    TargetCpaBiddingScheme biddingScheme = new TargetCpaBiddingScheme();
+    biddingScheme.setTargetCpa(targetCpa);
+    biddingScheme.setBiddingSchemeType("TargetCpaBiddingScheme");
+    Money bidAmount = new Money();
+    bidAmount.setMicroAmount(1000000L);
+    CpcBid bid = new CpcBid();
+    bid.setBid(bidAmount);
+    bid.setCpcBidSource(BidSource.ADGROUP_BIDDING_STRATEGY);
+    biddingStrategyConfig.setBiddingStrategyId(42L);
+    biddingStrategyConfig.setBiddingStrategyName("strategy");
+    biddingStrategyConfig.setBiddingStrategyType(BiddingStrategyType.TARGET_CPA);
+    biddingStrategyConfig.setBiddingStrategySource(BiddingStrategySource.CAMPAIGN);
+    biddingStrategyConfig.setBiddingScheme(biddingScheme);
+    biddingStrategyConfig.setBids(new Bids[] {bid});
+    ProductPartitionTreeImpl tree = ProductPartitionTreeImpl.createAdGroupTree(
+        1234L, biddingStrategyConfig, Collections.<AdGroupCriterion>emptyList());
+
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    ProductPartitionTreeSnapshots.write(tree, new DataOutputStream(out));
+    ProductPartitionTreeImpl restoredTree = ProductPartitionTreeSnapshots.read(
+        new DataInputStream(new ByteArrayInputStream(out.toByteArray())));
+
+    assertEquals(biddingStrategyConfig, restoredTree.getBiddingStrategyConfig());
+  }
+
+  /**
+   * Tests that a snapshot with a dimension type the API does not define is rejected as corrupt.
+   */
+  @Test(expected = StreamCorruptedException.class)
+  public void testSnapshot_invalidDimensionType() throws IOException {
+    isUtilityRegistryExpected = false;
+    List<AdGroupCriterion> criteria = Lists.newArrayList();
+    criteria.add(createLargeTreeCriterion(1L, null, null, false));
+    criteria.add(createLargeTreeCriterion(2L, 1L,
+        ProductDimensions.createCustomAttribute(ProductDimensionType.CUSTOM_ATTRIBUTE_0, "x"),
+        true));
+    criteria.add(createLargeTreeCriterion(3L, 1L,
+        ProductDimensions.createCustomAttribute(ProductDimensionType.CUSTOM_ATTRIBUTE_0, null),
+        true));
+    ProductPartitionTreeImpl tree =
+        ProductPartitionTreeImpl.createAdGroupTree(1234L, biddingStrategyConfig, criteria);
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    ProductPartitionTreeSnapshots.write(tree, new DataOutputStream(out));
+
+    byte[] snapshot = out.toByteArray();
+    byte[] typeValue = ProductDimensionType.CUSTOM_ATTRIBUTE_0.getValue().getBytes(Charsets.UTF_8);
+    int typeIndex = Bytes.indexOf(snapshot, typeValue);
+    assertTrue("Snapshot should contain the dimension type", typeIndex >= 0);
+    snapshot[typeIndex + typeValue.length - 1] = 'X';
+
+    ProductPartitionTreeSnapshots.read(new DataInputStream(new ByteArrayInputStream(snapshot)));
+  }
+
+  /**
+   * Tests that a snapshot cannot be written for a tree with nodes that were not retrieved from the
+   * ad group.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void testSnapshot_temporaryId() throws IOException {
+    isUtilityRegistryExpected = false;
+    List<AdGroupCriterion> criteria = Lists.newArrayList();
+    criteria.add(createLargeTreeCriterion(1L, null, null, false));
+    criteria.add(createLargeTreeCriterion(2L, 1L, ProductDimensions.createBrand(null), true));
+    ProductPartitionTree tree =
+        ProductPartitionTree.createAdGroupTree(1234L, biddingStrategyConfig, criteria);
+    tree.getRoot().addChild(ProductDimensions.createBrand("google")).asBiddableUnit();
+
+    tree.writeSnapshot(new ByteArrayOutputStream());
+  }
+
+  /**
+   * Asserts that the trees under the nodes have the same structure, IDs, dimensions and bids.
+   */
+  private static void assertSameNodes(ProductPartitionNode expected, ProductPartitionNode actual) {
+    new CriterionDescriptor(expected).assertDescriptorEquals(new CriterionDescriptor(actual));
+    assertEquals(Iterables.size(expected.getChildren()), Iterables.size(actual.getChildren()));
+    for (ProductPartitionNode expectedChild : expected.getChildren()) {
+      assertSameNodes(expectedChild, actual.getChild(expectedChild.getDimension()));
+    }
+  }
+
+  private static AdGroupCriterion createLargeTreeCriterion(Long partitionId,
+      Long parentPartitionId, ProductDimension dimension, boolean isUnit) {
+    return new CriterionDescriptor(isUnit, false, dimension, isUnit ? 1000000L : null,
+        partitionId, parentPartitionId).createCriterion();
+  }
+
   /**
    * Returns a map from parentPartitionId to map of partitionId to CriterionDescriptor.
    */
@@ -26,17 +26,26 @@ import com.google.api.ads.dfp.lib.client.DfpSession;
 import com.google.api.ads.dfp.lib.conf.DfpApiConfiguration;
 import com.google.api.ads.dfp.lib.soap.DfpHttpHeaderHandler;
 import com.google.common.base.Preconditions;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 
 import org.apache.axis.client.Stub;
 import org.apache.commons.beanutils.BeanUtils;
 
 import java.lang.reflect.InvocationTargetException;
+import java.util.Arrays;
+import java.util.List;
 
 import javax.inject.Inject;
+import javax.inject.Singleton;
 
 /**
  * DFP implementation of {@link HeaderHandler}.
+ *
+ * <p>The {@code RequestHeader} built for a snapshot of the session's header values is cached and
+ * shared by all stubs, so only the HTTP headers are recomputed on each call.
  */
+@Singleton
 public class DfpAxisHeaderHandler implements HeaderHandler<DfpSession, DfpServiceDescriptor> {
 
   private final AxisHandler soapClientHandler;
@@ -46,6 +55,12 @@ public class DfpAxisHeaderHandler implements HeaderHandler<DfpSession, DfpServic
   private final UserAgentCombiner userAgentCombiner;
   private final AdsLibConfiguration adsLibConfiguration;
 
+  /** Maximum number of distinct session snapshots whose headers are cached. */
+  private static final int MAX_CACHED_SOAP_HEADERS = 100;
+
+  private final Cache<List<Object>, Object> soapHeaderCache =
+      CacheBuilder.newBuilder().maximumSize(MAX_CACHED_SOAP_HEADERS).build();
+
   /**
    * Constructor.
    *
@@ -87,19 +102,27 @@ public class DfpAxisHeaderHandler implements HeaderHandler<DfpSession, DfpServic
       
       dfpHttpHeaderHandler.setHttpHeaders(soapClient, dfpSession);
 
-      Object soapHeader = createSoapHeader(dfpServiceDescriptor);
+      String namespace =
+          dfpApiConfiguration.getNamespacePrefix() + "/"
+              + dfpServiceDescriptor.getVersion();
+      // Always combine the user agent, since doing so drains the registered ads utilities.
+      String applicationName = userAgentCombiner.getUserAgent(dfpSession.getApplicationName());
 
-      BeanUtils.setProperty(soapHeader, "applicationName",
-          userAgentCombiner.getUserAgent(dfpSession.getApplicationName()));
-      if (dfpSession.getNetworkCode() != null) {
-        BeanUtils.setProperty(soapHeader, "networkCode", dfpSession.getNetworkCode());
+      List<Object> soapHeaderKey = Arrays.<Object>asList(
+          namespace, applicationName, dfpSession.getNetworkCode());
+      Object soapHeader = soapHeaderCache.getIfPresent(soapHeaderKey);
+      if (soapHeader == null) {
+        soapHeader = createSoapHeader(dfpServiceDescriptor);
+
+        BeanUtils.setProperty(soapHeader, "applicationName", applicationName);
+        if (dfpSession.getNetworkCode() != null) {
+          BeanUtils.setProperty(soapHeader, "networkCode", dfpSession.getNetworkCode());
+        }
+        soapHeaderCache.put(soapHeaderKey, soapHeader);
       }
 
       setAuthenticationHeaders(soapClient, dfpSession);
 
-      String namespace =
-          dfpApiConfiguration.getNamespacePrefix() + "/"
-              + dfpServiceDescriptor.getVersion();
       soapClientHandler.setHeader(stub, namespace, "RequestHeader", soapHeader);
       soapClientHandler.setCompression(stub, adsLibConfiguration.isCompressionEnabled());
       soapClientHandler.setRequestTimeout(stub, adsLibConfiguration.getSoapRequestTimeout());
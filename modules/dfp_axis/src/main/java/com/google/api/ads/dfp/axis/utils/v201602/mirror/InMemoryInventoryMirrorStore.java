@@ -0,0 +1,317 @@
+// Copyright 2016 Google Inc. All Rights Reserved.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.api.ads.dfp.axis.utils.v201602.mirror;
+
+import com.google.api.ads.common.lib.utils.LookAheadObjectInputStream;
+import com.google.api.ads.dfp.axis.v201602.AdUnit;
+import com.google.api.ads.dfp.axis.v201602.Creative;
+import com.google.api.ads.dfp.axis.v201602.LineItem;
+import com.google.api.ads.dfp.axis.v201602.Order;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.io.StreamCorruptedException;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import javax.annotation.Nullable;
+import org.joda.time.Instant;
+
+/**
+ * {@link InventoryMirrorStore} that keeps the mirrored entities in memory. The store can be written
+ * to disk with {@link #writeTo} between syncs, and read back with {@link #readFrom}, so that
+ * the next sync continues from the stored checkpoints.
+ *
+ * <p>Instances are safe for use by several threads.
+ */
+public class InMemoryInventoryMirrorStore implements InventoryMirrorStore {
+
+  /** Identifies a stream written by {@link #writeTo}. */
+  private static final int MAGIC = 0x494d5253;
+
+  /** The version of the stream format, incremented on incompatible changes. */
+  private static final byte FORMAT_VERSION = 1;
+
+  private final ConcurrentMap<String, NetworkEntities> networks;
+
+  /**
+   * Creates an empty store.
+   */
+  public InMemoryInventoryMirrorStore() {
+    this(new ConcurrentHashMap<String, NetworkEntities>());
+  }
+
+  private InMemoryInventoryMirrorStore(ConcurrentMap<String, NetworkEntities> networks) {
+    this.networks = networks;
+  }
+
+  @Override
+  @Nullable
+  public Instant getCheckpoint(String networkCode, InventoryEntityType entityType) {
+    NetworkEntities entities = getEntities(networkCode);
+    synchronized (entities) {
+      return entities.checkpoints.get(entityType);
+    }
+  }
+
+  @Override
+  public void apply(String networkCode, InventoryMirrorUpdate update) {
+    NetworkEntities entities = getEntities(networkCode);
+    synchronized (entities) {
+      Map<String, Object> mirroredEntities = entities.getEntities(update.getEntityType());
+      if (update.isFullLoad()) {
+        mirroredEntities.clear();
+      }
+      mirroredEntities.putAll(update.getEntities());
+      entities.checkpoints.put(update.getEntityType(), update.getCheckpoint());
+    }
+  }
+
+  /**
+   * Gets the mirrored order with the given ID.
+   *
+   * @return the order, or {@code null} if it is not mirrored
+   */
+  @Nullable
+  public Order getOrder(String networkCode, long orderId) {
+    return (Order) getEntity(networkCode, InventoryEntityType.ORDER, String.valueOf(orderId));
+  }
+
+  /**
+   * Gets the mirrored orders of a network.
+   */
+  public ImmutableList<Order> getOrders(String networkCode) {
+    return getAll(networkCode, InventoryEntityType.ORDER, Order.class);
+  }
+
+  /**
+   * Gets the mirrored line item with the given ID.
+   *
+   * @return the line item, or {@code null} if it is not mirrored
+   */
+  @Nullable
+  public LineItem getLineItem(String networkCode, long lineItemId) {
+    return (LineItem)
+        getEntity(networkCode, InventoryEntityType.LINE_ITEM, String.valueOf(lineItemId));
+  }
+
+  /**
+   * Gets the mirrored line items of a network.
+   */
+  public ImmutableList<LineItem> getLineItems(String networkCode) {
+    return getAll(networkCode, InventoryEntityType.LINE_ITEM, LineItem.class);
+  }
+
+  /**
+   * Gets the mirrored creative with the given ID.
+   *
+   * @return the creative, or {@code null} if it is not mirrored
+   */
+  @Nullable
+  public Creative getCreative(String networkCode, long creativeId) {
+    return (Creative)
+        getEntity(networkCode, InventoryEntityType.CREATIVE, String.valueOf(creativeId));
+  }
+
+  /**
+   * Gets the mirrored creatives of a network.
+   */
+  public ImmutableList<Creative> getCreatives(String networkCode) {
+    return getAll(networkCode, InventoryEntityType.CREATIVE, Creative.class);
+  }
+
+  /**
+   * Gets the mirrored ad unit with the given ID.
+   *
+   * @return the ad unit, or {@code null} if it is not mirrored
+   */
+  @Nullable
+  public AdUnit getAdUnit(String networkCode, String adUnitId) {
+    return (AdUnit) getEntity(networkCode, InventoryEntityType.AD_UNIT, adUnitId);
+  }
+
+  /**
+   * Gets the mirrored ad units of a network.
+   */
+  public ImmutableList<AdUnit> getAdUnits(String networkCode) {
+    return getAll(networkCode, InventoryEntityType.AD_UNIT, AdUnit.class);
+  }
+
+  /**
+   * Writes the mirrored entities and checkpoints of all networks to a stream. Updates applied
+   * while the store is written are either completely included for a network or not at all.
+   *
+   * <p>The stream starts with a versioned header, followed by the checkpoints and the mirrored
+   * entities of each network, each entity preceded by its ID. The entities themselves are written
+   * with Java serialization. The generated API classes do not declare a {@code serialVersionUID},
+   * so a store can only be read by the same version of the library that wrote it.
+   *
+   * @param outputStream the stream to write to, which is not closed
+   * @throws IOException if the store could not be written
+   */
+  public void writeTo(OutputStream outputStream) throws IOException {
+    ObjectOutputStream out = new ObjectOutputStream(outputStream);
+    out.writeInt(MAGIC);
+    out.writeByte(FORMAT_VERSION);
+    Map<String, NetworkEntities> snapshot = ImmutableMap.copyOf(networks);
+    out.writeInt(snapshot.size());
+    for (Entry<String, NetworkEntities> network : snapshot.entrySet()) {
+      NetworkEntities entities = network.getValue();
+      out.writeUTF(network.getKey());
+      synchronized (entities) {
+        out.writeInt(entities.checkpoints.size());
+        for (Entry<InventoryEntityType, Instant> checkpoint : entities.checkpoints.entrySet()) {
+          out.writeUTF(checkpoint.getKey().name());
+          out.writeBoolean(checkpoint.getValue() != null);
+          if (checkpoint.getValue() != null) {
+            out.writeLong(checkpoint.getValue().getMillis());
+          }
+        }
+        out.writeInt(entities.entities.size());
+        for (Entry<InventoryEntityType, Map<String, Object>> entitiesOfType
+            : entities.entities.entrySet()) {
+          out.writeUTF(entitiesOfType.getKey().name());
+          out.writeInt(entitiesOfType.getValue().size());
+          for (Entry<String, Object> entity : entitiesOfType.getValue().entrySet()) {
+            out.writeUTF(entity.getKey());
+            out.writeObject(entity.getValue());
+          }
+        }
+      }
+    }
+    out.flush();
+  }
+
+  /**
+   * Reads a store written by {@link #writeTo}. The entities are read with a
+   * {@link LookAheadObjectInputStream} that only accepts the classes of the API, so the stream
+   * cannot make the store create objects of any other class.
+   *
+   * @param inputStream the stream to read from, which is not closed
+   * @throws IOException if the store could not be read, or was written by a different version of
+   *     the library
+   */
+  public static InMemoryInventoryMirrorStore readFrom(InputStream inputStream)
+      throws IOException {
+    ObjectInputStream in =
+        new LookAheadObjectInputStream(inputStream, LineItem.class.getPackage().getName());
+    if (in.readInt() != MAGIC) {
+      throw new StreamCorruptedException("Not an inventory mirror store");
+    }
+    byte formatVersion = in.readByte();
+    if (formatVersion != FORMAT_VERSION) {
+      throw new StreamCorruptedException(
+          "Unsupported inventory mirror store version: " + formatVersion);
+    }
+    ConcurrentMap<String, NetworkEntities> networks =
+        new ConcurrentHashMap<String, NetworkEntities>();
+    int networkCount = in.readInt();
+    try {
+      for (int i = 0; i < networkCount; i++) {
+        String networkCode = in.readUTF();
+        NetworkEntities entities = new NetworkEntities();
+        int checkpointCount = in.readInt();
+        for (int j = 0; j < checkpointCount; j++) {
+          InventoryEntityType entityType = readEntityType(in);
+          Instant checkpoint = in.readBoolean() ? new Instant(in.readLong()) : null;
+          entities.checkpoints.put(entityType, checkpoint);
+        }
+        int entityTypeCount = in.readInt();
+        for (int j = 0; j < entityTypeCount; j++) {
+          Map<String, Object> entitiesOfType = entities.getEntities(readEntityType(in));
+          int entityCount = in.readInt();
+          for (int k = 0; k < entityCount; k++) {
+            String id = in.readUTF();
+            entitiesOfType.put(id, in.readObject());
+          }
+        }
+        networks.put(networkCode, entities);
+      }
+    } catch (ClassNotFoundException e) {
+      throw new IOException("Store written with a different version of the library", e);
+    }
+    return new InMemoryInventoryMirrorStore(networks);
+  }
+
+  private static InventoryEntityType readEntityType(ObjectInputStream in) throws IOException {
+    String name = in.readUTF();
+    try {
+      return InventoryEntityType.valueOf(name);
+    } catch (IllegalArgumentException e) {
+      throw new StreamCorruptedException("Unrecognized entity type: " + name);
+    }
+  }
+
+  @Nullable
+  private Object getEntity(String networkCode, InventoryEntityType entityType, String id) {
+    NetworkEntities entities = getEntities(networkCode);
+    synchronized (entities) {
+      return entities.getEntities(entityType).get(id);
+    }
+  }
+
+  private <EntityT> ImmutableList<EntityT> getAll(
+      String networkCode, InventoryEntityType entityType, Class<EntityT> entityClass) {
+    NetworkEntities entities = getEntities(networkCode);
+    ImmutableList.Builder<EntityT> builder = ImmutableList.builder();
+    synchronized (entities) {
+      for (Object entity : entities.getEntities(entityType).values()) {
+        builder.add(entityClass.cast(entity));
+      }
+    }
+    return builder.build();
+  }
+
+  private NetworkEntities getEntities(String networkCode) {
+    Preconditions.checkNotNull(networkCode, "Null network code");
+    NetworkEntities entities = networks.get(networkCode);
+    if (entities == null) {
+      NetworkEntities newEntities = new NetworkEntities();
+      entities = networks.putIfAbsent(networkCode, newEntities);
+      if (entities == null) {
+        entities = newEntities;
+      }
+    }
+    return entities;
+  }
+
+  /**
+   * Mirrored entities of a network, guarded by the instance's lock.
+   */
+  private static final class NetworkEntities {
+
+    private final Map<InventoryEntityType, Instant> checkpoints =
+        new EnumMap<InventoryEntityType, Instant>(InventoryEntityType.class);
+    private final Map<InventoryEntityType, Map<String, Object>> entities =
+        new EnumMap<InventoryEntityType, Map<String, Object>>(InventoryEntityType.class);
+
+    Map<String, Object> getEntities(InventoryEntityType entityType) {
+      Map<String, Object> entitiesOfType = entities.get(entityType);
+      if (entitiesOfType == null) {
+        entitiesOfType = new LinkedHashMap<String, Object>();
+        entities.put(entityType, entitiesOfType);
+      }
+      return entitiesOfType;
+    }
+  }
+}
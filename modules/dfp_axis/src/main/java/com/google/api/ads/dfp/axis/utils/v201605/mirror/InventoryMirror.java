@@ -0,0 +1,311 @@
+// Copyright 2016 Google Inc. All Rights Reserved.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.api.ads.dfp.axis.utils.v201605.mirror;
+
+import com.google.api.ads.dfp.axis.factory.DfpServices;
+import com.google.api.ads.dfp.axis.utils.v201605.DateTimes;
+import com.google.api.ads.dfp.axis.utils.v201605.StatementBuilder;
+import com.google.api.ads.dfp.axis.v201605.AdUnit;
+import com.google.api.ads.dfp.axis.v201605.AdUnitPage;
+import com.google.api.ads.dfp.axis.v201605.Creative;
+import com.google.api.ads.dfp.axis.v201605.CreativePage;
+import com.google.api.ads.dfp.axis.v201605.CreativeServiceInterface;
+import com.google.api.ads.dfp.axis.v201605.InventoryServiceInterface;
+import com.google.api.ads.dfp.axis.v201605.LineItem;
+import com.google.api.ads.dfp.axis.v201605.LineItemPage;
+import com.google.api.ads.dfp.axis.v201605.LineItemServiceInterface;
+import com.google.api.ads.dfp.axis.v201605.NetworkServiceInterface;
+import com.google.api.ads.dfp.axis.v201605.Order;
+import com.google.api.ads.dfp.axis.v201605.OrderPage;
+import com.google.api.ads.dfp.axis.v201605.OrderServiceInterface;
+import com.google.api.ads.dfp.axis.v201605.Statement;
+import com.google.api.ads.dfp.lib.client.DfpSession;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+import java.rmi.RemoteException;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.joda.time.Duration;
+import org.joda.time.Instant;
+
+/**
+ * Keeps the orders, line items, creatives and ad units of a network mirrored in an
+ * {@link InventoryMirrorStore}. The first sync of each type of entity gets all the entities.
+ * Later syncs only get the entities whose {@code lastModifiedDateTime} is after the checkpoint of
+ * the previous sync, so that full loads can be run rarely, to drop entities that no longer exist:
+ *
+ * <pre>
+ * InMemoryInventoryMirrorStore store = InMemoryInventoryMirrorStore.readFrom(input);
+ * new InventoryMirror(dfpServices, session, store).sync();
+ * store.writeTo(output);
+ * </pre>
+ *
+ * <p>The checkpoint of a sync is the time it started, so entities modified while it runs are
+ * retrieved again by the next sync. The statements go back further than the checkpoint by a
+ * {@link #withOverlap overlap}, so that the difference between the local and server clocks does
+ * not cause changes to be missed.
+ *
+ * <p>Instances can be reused, but must not be used by several threads at once.
+ */
+public class InventoryMirror {
+
+  /** The default time by which statements go back further than the checkpoint. */
+  public static final Duration DEFAULT_OVERLAP = Duration.standardMinutes(5);
+
+  /** The number of times a full load is attempted while the result set changes. */
+  private static final int MAX_FULL_LOAD_ATTEMPTS = 3;
+
+  private final String networkCode;
+  private final InventoryMirrorStore store;
+  private final NetworkServiceInterface networkService;
+  private final Map<InventoryEntityType, EntityGetter> getters =
+      new EnumMap<InventoryEntityType, EntityGetter>(InventoryEntityType.class);
+  private final int pageSize;
+
+  private Duration overlap = DEFAULT_OVERLAP;
+  private String timeZoneId;
+
+  /**
+   * Creates a mirror of the network of the session, which gets pages of
+   * {@link StatementBuilder#SUGGESTED_PAGE_LIMIT} entities.
+   *
+   * @param services the DfpServices
+   * @param session the session of the network, with a network code
+   * @param store the store of the mirrored entities
+   */
+  public InventoryMirror(DfpServices services, DfpSession session, InventoryMirrorStore store) {
+    this(session.getNetworkCode(), store,
+        services.get(session, NetworkServiceInterface.class),
+        services.get(session, OrderServiceInterface.class),
+        services.get(session, LineItemServiceInterface.class),
+        services.get(session, CreativeServiceInterface.class),
+        services.get(session, InventoryServiceInterface.class),
+        StatementBuilder.SUGGESTED_PAGE_LIMIT);
+  }
+
+  @VisibleForTesting
+  InventoryMirror(String networkCode, InventoryMirrorStore store,
+      NetworkServiceInterface networkService, final OrderServiceInterface orderService,
+      final LineItemServiceInterface lineItemService,
+      final CreativeServiceInterface creativeService,
+      final InventoryServiceInterface inventoryService, int pageSize) {
+    this.networkCode = Preconditions.checkNotNull(networkCode, "Null network code");
+    this.store = Preconditions.checkNotNull(store, "Null store");
+    Preconditions.checkArgument(pageSize > 0, "Page size must be positive");
+    this.networkService = networkService;
+    this.pageSize = pageSize;
+    getters.put(InventoryEntityType.ORDER, new EntityGetter() {
+      @Override
+      int get(Statement statement, Map<String, Object> entities) throws RemoteException {
+        OrderPage page = orderService.getOrdersByStatement(statement);
+        if (page.getResults() != null) {
+          for (Order order : page.getResults()) {
+            entities.put(String.valueOf(order.getId()), order);
+          }
+        }
+        return getTotalResultSetSize(page.getTotalResultSetSize());
+      }
+    });
+    getters.put(InventoryEntityType.LINE_ITEM, new EntityGetter() {
+      @Override
+      int get(Statement statement, Map<String, Object> entities) throws RemoteException {
+        LineItemPage page = lineItemService.getLineItemsByStatement(statement);
+        if (page.getResults() != null) {
+          for (LineItem lineItem : page.getResults()) {
+            entities.put(String.valueOf(lineItem.getId()), lineItem);
+          }
+        }
+        return getTotalResultSetSize(page.getTotalResultSetSize());
+      }
+    });
+    getters.put(InventoryEntityType.CREATIVE, new EntityGetter() {
+      @Override
+      int get(Statement statement, Map<String, Object> entities) throws RemoteException {
+        CreativePage page = creativeService.getCreativesByStatement(statement);
+        if (page.getResults() != null) {
+          for (Creative creative : page.getResults()) {
+            entities.put(String.valueOf(creative.getId()), creative);
+          }
+        }
+        return getTotalResultSetSize(page.getTotalResultSetSize());
+      }
+    });
+    getters.put(InventoryEntityType.AD_UNIT, new EntityGetter() {
+      @Override
+      int get(Statement statement, Map<String, Object> entities) throws RemoteException {
+        AdUnitPage page = inventoryService.getAdUnitsByStatement(statement);
+        if (page.getResults() != null) {
+          for (AdUnit adUnit : page.getResults()) {
+            entities.put(adUnit.getId(), adUnit);
+          }
+        }
+        return getTotalResultSetSize(page.getTotalResultSetSize());
+      }
+    });
+  }
+
+  /**
+   * Sets the time by which statements go back further than the checkpoint of the previous sync.
+   *
+   * @param overlap the overlap, which must not be negative
+   * @return a reference to this object
+   */
+  public InventoryMirror withOverlap(Duration overlap) {
+    Preconditions.checkArgument(overlap != null && overlap.getMillis() >= 0,
+        "Overlap must not be negative");
+    this.overlap = overlap;
+    return this;
+  }
+
+  /**
+   * Syncs all types of entities. Each type that has never been synced is fully loaded.
+   *
+   * @return the updates applied to the store, one per type of entity
+   * @throws RemoteException if a request failed
+   */
+  public List<InventoryMirrorUpdate> sync() throws RemoteException {
+    List<InventoryMirrorUpdate> updates = new ArrayList<InventoryMirrorUpdate>();
+    for (InventoryEntityType entityType : InventoryEntityType.values()) {
+      updates.add(sync(entityType));
+    }
+    return updates;
+  }
+
+  /**
+   * Gets the entities of a type modified since the last checkpoint, and applies them to the store.
+   * The entities are fully loaded if they have never been synced.
+   *
+   * @param entityType the type of entity to sync
+   * @return the update applied to the store
+   * @throws RemoteException if a request failed
+   */
+  public InventoryMirrorUpdate sync(InventoryEntityType entityType) throws RemoteException {
+    Instant checkpoint = store.getCheckpoint(networkCode, entityType);
+    return checkpoint == null ? fullSync(entityType) : sync(entityType, checkpoint);
+  }
+
+  /**
+   * Fully loads all types of entities, replacing the mirrored entities.
+   *
+   * @return the updates applied to the store, one per type of entity
+   * @throws RemoteException if a request failed
+   */
+  public List<InventoryMirrorUpdate> fullSync() throws RemoteException {
+    List<InventoryMirrorUpdate> updates = new ArrayList<InventoryMirrorUpdate>();
+    for (InventoryEntityType entityType : InventoryEntityType.values()) {
+      updates.add(fullSync(entityType));
+    }
+    return updates;
+  }
+
+  /**
+   * Gets all the entities of a type, which replace the mirrored entities of that type in the store.
+   *
+   * <p>Entities removed while paging shift the later pages, so that an entity can be skipped. If
+   * the size of the result set changes, the entities are loaded again, up to
+   * {@value #MAX_FULL_LOAD_ATTEMPTS} times. If it changes on every attempt, the entities of the
+   * last attempt only insert or replace the mirrored entities, and the update has no checkpoint,
+   * so that the next sync fully loads the entities again.
+   *
+   * @param entityType the type of entity to load
+   * @return the update applied to the store
+   * @throws RemoteException if a request failed
+   */
+  public InventoryMirrorUpdate fullSync(InventoryEntityType entityType) throws RemoteException {
+    Instant start;
+    Map<String, Object> entities;
+    boolean complete;
+    int attempts = 0;
+    do {
+      start = Instant.now();
+      entities = new LinkedHashMap<String, Object>();
+      complete = getAll(entityType, new StatementBuilder(), entities);
+      attempts++;
+    } while (!complete && attempts < MAX_FULL_LOAD_ATTEMPTS);
+    InventoryMirrorUpdate update = complete
+        ? new InventoryMirrorUpdate(entityType, true, start, entities)
+        : new InventoryMirrorUpdate(entityType, false, null, entities);
+    store.apply(networkCode, update);
+    return update;
+  }
+
+  private InventoryMirrorUpdate sync(InventoryEntityType entityType, Instant checkpoint)
+      throws RemoteException {
+    Instant start = Instant.now();
+    StatementBuilder statementBuilder = new StatementBuilder()
+        .where("lastModifiedDateTime >= :lastModifiedDateTime")
+        .withBindVariableValue("lastModifiedDateTime",
+            DateTimes.toDateTime(checkpoint.minus(overlap), getTimeZoneId()));
+    Map<String, Object> entities = new LinkedHashMap<String, Object>();
+    boolean complete = getAll(entityType, statementBuilder, entities);
+    // Entities modified while paging can shift the pages, so the window is retrieved again by the
+    // next sync if the result set grew.
+    InventoryMirrorUpdate update = new InventoryMirrorUpdate(
+        entityType, false, complete ? start : checkpoint, entities);
+    store.apply(networkCode, update);
+    return update;
+  }
+
+  /**
+   * Gets all the pages of entities matching the statement, ordered by ID.
+   *
+   * @return {@code true} if the size of the result set did not change while paging
+   */
+  private boolean getAll(InventoryEntityType entityType, StatementBuilder statementBuilder,
+      Map<String, Object> entities) throws RemoteException {
+    EntityGetter getter = getters.get(entityType);
+    statementBuilder.orderBy("id ASC").limit(pageSize);
+    int firstTotalResultSetSize = -1;
+    int totalResultSetSize;
+    do {
+      totalResultSetSize = getter.get(statementBuilder.toStatement(), entities);
+      if (firstTotalResultSetSize < 0) {
+        firstTotalResultSetSize = totalResultSetSize;
+      }
+      statementBuilder.increaseOffsetBy(pageSize);
+    } while (statementBuilder.getOffset() < totalResultSetSize);
+    return totalResultSetSize == firstTotalResultSetSize;
+  }
+
+  /**
+   * Gets the time zone of the network, retrieving it on first use.
+   */
+  private String getTimeZoneId() throws RemoteException {
+    if (timeZoneId == null) {
+      timeZoneId = networkService.getCurrentNetwork().getTimeZone();
+    }
+    return timeZoneId;
+  }
+
+  private static int getTotalResultSetSize(Integer totalResultSetSize) {
+    return totalResultSetSize == null ? 0 : totalResultSetSize;
+  }
+
+  /**
+   * Gets pages of one type of entity.
+   */
+  private abstract static class EntityGetter {
+
+    /**
+     * Gets a page of entities and adds them to the map by ID.
+     *
+     * @return the total number of entities matching the statement
+     */
+    abstract int get(Statement statement, Map<String, Object> entities) throws RemoteException;
+  }
+}
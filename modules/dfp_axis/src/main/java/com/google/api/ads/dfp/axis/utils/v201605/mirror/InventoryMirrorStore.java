@@ -0,0 +1,45 @@
+// Copyright 2016 Google Inc. All Rights Reserved.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.api.ads.dfp.axis.utils.v201605.mirror;
+
+import javax.annotation.Nullable;
+import org.joda.time.Instant;
+
+/**
+ * Store of the inventory entities mirrored by {@link InventoryMirror}, indexed by ID, with the
+ * checkpoint of the last sync of each type of entity.
+ *
+ * <p>Implementations must be safe for use by several threads if mirrors of different networks
+ * share a store.
+ */
+public interface InventoryMirrorStore {
+
+  /**
+   * Gets the checkpoint of the last sync of a type of entity of a network.
+   *
+   * @return the checkpoint, or {@code null} if the entities of the network have never been synced
+   *     or must be fully loaded again
+   */
+  @Nullable
+  Instant getCheckpoint(String networkCode, InventoryEntityType entityType);
+
+  /**
+   * Applies an update to the entities of a network. A full load replaces all the mirrored entities
+   * of its type; other updates insert or replace the entities with the same IDs. The checkpoint
+   * of the update, which may be {@code null}, must be stored with its entities, atomically if the
+   * store is persistent.
+   */
+  void apply(String networkCode, InventoryMirrorUpdate update);
+}
@@ -0,0 +1,29 @@
+// Copyright 2016 Google Inc. All Rights Reserved.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.api.ads.dfp.axis.utils.v201608.mirror;
+
+/**
+ * The types of inventory entities mirrored by {@link InventoryMirror}.
+ */
+public enum InventoryEntityType {
+  /** Orders, retrieved with {@code OrderService}. */
+  ORDER,
+  /** Line items, retrieved with {@code LineItemService}. */
+  LINE_ITEM,
+  /** Creatives, retrieved with {@code CreativeService}. */
+  CREATIVE,
+  /** Ad units, retrieved with {@code InventoryService}. */
+  AD_UNIT
+}
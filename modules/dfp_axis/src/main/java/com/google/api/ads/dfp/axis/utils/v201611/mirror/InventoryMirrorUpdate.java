@@ -0,0 +1,85 @@
+// Copyright 2016 Google Inc. All Rights Reserved.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.api.ads.dfp.axis.utils.v201611.mirror;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableMap;
+import java.util.Map;
+import javax.annotation.Nullable;
+import org.joda.time.Instant;
+
+/**
+ * The entities of one type retrieved by a sync of an {@link InventoryMirror}, which are applied to
+ * an {@link InventoryMirrorStore}.
+ */
+public final class InventoryMirrorUpdate {
+
+  private final InventoryEntityType entityType;
+  private final boolean fullLoad;
+  private final Instant checkpoint;
+  private final ImmutableMap<String, Object> entities;
+
+  InventoryMirrorUpdate(InventoryEntityType entityType, boolean fullLoad,
+      @Nullable Instant checkpoint, Map<String, Object> entities) {
+    this.entityType = Preconditions.checkNotNull(entityType, "Null entity type");
+    this.fullLoad = fullLoad;
+    this.checkpoint = checkpoint;
+    this.entities = ImmutableMap.copyOf(entities);
+  }
+
+  /**
+   * Gets the type of the entities of the update.
+   */
+  public InventoryEntityType getEntityType() {
+    return entityType;
+  }
+
+  /**
+   * Returns {@code true} if the update contains all the entities of its type, which replace the
+   * mirrored ones, or {@code false} if it only contains the entities modified since the last
+   * checkpoint.
+   */
+  public boolean isFullLoad() {
+    return fullLoad;
+  }
+
+  /**
+   * Gets the checkpoint to store with the update. The next sync gets the entities modified since
+   * this time, or fully loads the entities if the checkpoint is {@code null}.
+   */
+  @Nullable
+  public Instant getCheckpoint() {
+    return checkpoint;
+  }
+
+  /**
+   * Gets the retrieved entities by ID, such as {@code LineItem}s for
+   * {@link InventoryEntityType#LINE_ITEM}.
+   */
+  public ImmutableMap<String, Object> getEntities() {
+    return entities;
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(this)
+        .add("entityType", entityType)
+        .add("fullLoad", fullLoad)
+        .add("checkpoint", checkpoint)
+        .add("entities", entities.size())
+        .toString();
+  }
+}
@@ -118,64 +118,69 @@ public class ActivityGroupPage  implements java.io.Serializable {
         this.results[i] = _value;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof ActivityGroupPage)) return false;
         ActivityGroupPage other = (ActivityGroupPage) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(ActivityGroupPage.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = true && 
-            ((this.totalResultSetSize==null && other.getTotalResultSetSize()==null) || 
-             (this.totalResultSetSize!=null &&
-              this.totalResultSetSize.equals(other.getTotalResultSetSize()))) &&
-            ((this.startIndex==null && other.getStartIndex()==null) || 
-             (this.startIndex!=null &&
-              this.startIndex.equals(other.getStartIndex()))) &&
-            ((this.results==null && other.getResults()==null) || 
-             (this.results!=null &&
-              java.util.Arrays.equals(this.results, other.getResults())));
-        __equalsCalc = null;
-        return _equals;
-    }
-
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
-            return 0;
-        }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getTotalResultSetSize() != null) {
-            _hashCode += getTotalResultSetSize().hashCode();
+        try {
+            boolean _equals;
+            _equals = true && 
+                ((this.totalResultSetSize==null && other.getTotalResultSetSize()==null) || 
+                 (this.totalResultSetSize!=null &&
+                  this.totalResultSetSize.equals(other.getTotalResultSetSize()))) &&
+                ((this.startIndex==null && other.getStartIndex()==null) || 
+                 (this.startIndex!=null &&
+                  this.startIndex.equals(other.getStartIndex()))) &&
+                ((this.results==null && other.getResults()==null) || 
+                 (this.results!=null &&
+                  java.util.Arrays.equals(this.results, other.getResults())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
         }
-        if (getStartIndex() != null) {
-            _hashCode += getStartIndex().hashCode();
+    }
+
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(ActivityGroupPage.class, this)) {
+            return 0;
         }
-        if (getResults() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getResults());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getResults(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+        try {
+            int _hashCode = 1;
+            if (getTotalResultSetSize() != null) {
+                _hashCode += getTotalResultSetSize().hashCode();
+            }
+            if (getStartIndex() != null) {
+                _hashCode += getStartIndex().hashCode();
+            }
+            if (getResults() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getResults());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getResults(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(ActivityGroupPage.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(ActivityGroupPage.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://www.google.com/apis/ads/publisher/v201602", "ActivityGroupPage"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("totalResultSetSize");
@@ -199,13 +204,24 @@ public class ActivityGroupPage  implements java.io.Serializable {
         elemField.setNillable(false);
         elemField.setMaxOccursUnbounded(true);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (ActivityGroupPage.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -217,7 +233,7 @@ public class ActivityGroupPage  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -229,7 +245,7 @@ public class ActivityGroupPage  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
@@ -118,50 +118,55 @@ public class AdExchangeCreative  extends com.google.api.ads.dfp.axis.v201602.Has
         this.isInterstitial = isInterstitial;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof AdExchangeCreative)) return false;
         AdExchangeCreative other = (AdExchangeCreative) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(AdExchangeCreative.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = super.equals(obj) && 
-            ((this.isNativeEligible==null && other.getIsNativeEligible()==null) || 
-             (this.isNativeEligible!=null &&
-              this.isNativeEligible.equals(other.getIsNativeEligible()))) &&
-            ((this.isInterstitial==null && other.getIsInterstitial()==null) || 
-             (this.isInterstitial!=null &&
-              this.isInterstitial.equals(other.getIsInterstitial())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = super.equals(obj) && 
+                ((this.isNativeEligible==null && other.getIsNativeEligible()==null) || 
+                 (this.isNativeEligible!=null &&
+                  this.isNativeEligible.equals(other.getIsNativeEligible()))) &&
+                ((this.isInterstitial==null && other.getIsInterstitial()==null) || 
+                 (this.isInterstitial!=null &&
+                  this.isInterstitial.equals(other.getIsInterstitial())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(AdExchangeCreative.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = super.hashCode();
-        if (getIsNativeEligible() != null) {
-            _hashCode += getIsNativeEligible().hashCode();
-        }
-        if (getIsInterstitial() != null) {
-            _hashCode += getIsInterstitial().hashCode();
+        try {
+            int _hashCode = super.hashCode();
+            if (getIsNativeEligible() != null) {
+                _hashCode += getIsNativeEligible().hashCode();
+            }
+            if (getIsInterstitial() != null) {
+                _hashCode += getIsInterstitial().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(AdExchangeCreative.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(AdExchangeCreative.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://www.google.com/apis/ads/publisher/v201602", "AdExchangeCreative"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("isNativeEligible");
@@ -177,13 +182,24 @@ public class AdExchangeCreative  extends com.google.api.ads.dfp.axis.v201602.Has
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (AdExchangeCreative.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -195,7 +211,7 @@ public class AdExchangeCreative  extends com.google.api.ads.dfp.axis.v201602.Has
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -207,7 +223,7 @@ public class AdExchangeCreative  extends com.google.api.ads.dfp.axis.v201602.Has
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
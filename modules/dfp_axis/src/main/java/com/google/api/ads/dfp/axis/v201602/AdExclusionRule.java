@@ -328,102 +328,107 @@ public class AdExclusionRule  implements java.io.Serializable {
         this.type = type;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof AdExclusionRule)) return false;
         AdExclusionRule other = (AdExclusionRule) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(AdExclusionRule.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = true && 
-            ((this.id==null && other.getId()==null) || 
-             (this.id!=null &&
-              this.id.equals(other.getId()))) &&
-            ((this.name==null && other.getName()==null) || 
-             (this.name!=null &&
-              this.name.equals(other.getName()))) &&
-            ((this.isActive==null && other.getIsActive()==null) || 
-             (this.isActive!=null &&
-              this.isActive.equals(other.getIsActive()))) &&
-            ((this.inventoryTargeting==null && other.getInventoryTargeting()==null) || 
-             (this.inventoryTargeting!=null &&
-              this.inventoryTargeting.equals(other.getInventoryTargeting()))) &&
-            ((this.isBlockAll==null && other.getIsBlockAll()==null) || 
-             (this.isBlockAll!=null &&
-              this.isBlockAll.equals(other.getIsBlockAll()))) &&
-            ((this.blockedLabelIds==null && other.getBlockedLabelIds()==null) || 
-             (this.blockedLabelIds!=null &&
-              java.util.Arrays.equals(this.blockedLabelIds, other.getBlockedLabelIds()))) &&
-            ((this.allowedLabelIds==null && other.getAllowedLabelIds()==null) || 
-             (this.allowedLabelIds!=null &&
-              java.util.Arrays.equals(this.allowedLabelIds, other.getAllowedLabelIds()))) &&
-            ((this.type==null && other.getType()==null) || 
-             (this.type!=null &&
-              this.type.equals(other.getType())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = true && 
+                ((this.id==null && other.getId()==null) || 
+                 (this.id!=null &&
+                  this.id.equals(other.getId()))) &&
+                ((this.name==null && other.getName()==null) || 
+                 (this.name!=null &&
+                  this.name.equals(other.getName()))) &&
+                ((this.isActive==null && other.getIsActive()==null) || 
+                 (this.isActive!=null &&
+                  this.isActive.equals(other.getIsActive()))) &&
+                ((this.inventoryTargeting==null && other.getInventoryTargeting()==null) || 
+                 (this.inventoryTargeting!=null &&
+                  this.inventoryTargeting.equals(other.getInventoryTargeting()))) &&
+                ((this.isBlockAll==null && other.getIsBlockAll()==null) || 
+                 (this.isBlockAll!=null &&
+                  this.isBlockAll.equals(other.getIsBlockAll()))) &&
+                ((this.blockedLabelIds==null && other.getBlockedLabelIds()==null) || 
+                 (this.blockedLabelIds!=null &&
+                  java.util.Arrays.equals(this.blockedLabelIds, other.getBlockedLabelIds()))) &&
+                ((this.allowedLabelIds==null && other.getAllowedLabelIds()==null) || 
+                 (this.allowedLabelIds!=null &&
+                  java.util.Arrays.equals(this.allowedLabelIds, other.getAllowedLabelIds()))) &&
+                ((this.type==null && other.getType()==null) || 
+                 (this.type!=null &&
+                  this.type.equals(other.getType())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(AdExclusionRule.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getId() != null) {
-            _hashCode += getId().hashCode();
-        }
-        if (getName() != null) {
-            _hashCode += getName().hashCode();
-        }
-        if (getIsActive() != null) {
-            _hashCode += getIsActive().hashCode();
-        }
-        if (getInventoryTargeting() != null) {
-            _hashCode += getInventoryTargeting().hashCode();
-        }
-        if (getIsBlockAll() != null) {
-            _hashCode += getIsBlockAll().hashCode();
-        }
-        if (getBlockedLabelIds() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getBlockedLabelIds());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getBlockedLabelIds(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+        try {
+            int _hashCode = 1;
+            if (getId() != null) {
+                _hashCode += getId().hashCode();
+            }
+            if (getName() != null) {
+                _hashCode += getName().hashCode();
+            }
+            if (getIsActive() != null) {
+                _hashCode += getIsActive().hashCode();
+            }
+            if (getInventoryTargeting() != null) {
+                _hashCode += getInventoryTargeting().hashCode();
+            }
+            if (getIsBlockAll() != null) {
+                _hashCode += getIsBlockAll().hashCode();
+            }
+            if (getBlockedLabelIds() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getBlockedLabelIds());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getBlockedLabelIds(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
-        }
-        if (getAllowedLabelIds() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getAllowedLabelIds());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getAllowedLabelIds(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+            if (getAllowedLabelIds() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getAllowedLabelIds());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getAllowedLabelIds(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
+            if (getType() != null) {
+                _hashCode += getType().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        if (getType() != null) {
-            _hashCode += getType().hashCode();
-        }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(AdExclusionRule.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(AdExclusionRule.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://www.google.com/apis/ads/publisher/v201602", "AdExclusionRule"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("id");
@@ -483,13 +488,24 @@ public class AdExclusionRule  implements java.io.Serializable {
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (AdExclusionRule.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -501,7 +517,7 @@ public class AdExclusionRule  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -513,7 +529,7 @@ public class AdExclusionRule  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
@@ -135,56 +135,61 @@ public class AdMobBackfillCreative  extends com.google.api.ads.dfp.axis.v201602.
         this.lockedOrientation = lockedOrientation;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof AdMobBackfillCreative)) return false;
         AdMobBackfillCreative other = (AdMobBackfillCreative) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(AdMobBackfillCreative.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = super.equals(obj) && 
-            ((this.additionalParameters==null && other.getAdditionalParameters()==null) || 
-             (this.additionalParameters!=null &&
-              this.additionalParameters.equals(other.getAdditionalParameters()))) &&
-            ((this.publisherId==null && other.getPublisherId()==null) || 
-             (this.publisherId!=null &&
-              this.publisherId.equals(other.getPublisherId()))) &&
-            ((this.lockedOrientation==null && other.getLockedOrientation()==null) || 
-             (this.lockedOrientation!=null &&
-              this.lockedOrientation.equals(other.getLockedOrientation())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = super.equals(obj) && 
+                ((this.additionalParameters==null && other.getAdditionalParameters()==null) || 
+                 (this.additionalParameters!=null &&
+                  this.additionalParameters.equals(other.getAdditionalParameters()))) &&
+                ((this.publisherId==null && other.getPublisherId()==null) || 
+                 (this.publisherId!=null &&
+                  this.publisherId.equals(other.getPublisherId()))) &&
+                ((this.lockedOrientation==null && other.getLockedOrientation()==null) || 
+                 (this.lockedOrientation!=null &&
+                  this.lockedOrientation.equals(other.getLockedOrientation())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(AdMobBackfillCreative.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = super.hashCode();
-        if (getAdditionalParameters() != null) {
-            _hashCode += getAdditionalParameters().hashCode();
-        }
-        if (getPublisherId() != null) {
-            _hashCode += getPublisherId().hashCode();
-        }
-        if (getLockedOrientation() != null) {
-            _hashCode += getLockedOrientation().hashCode();
+        try {
+            int _hashCode = super.hashCode();
+            if (getAdditionalParameters() != null) {
+                _hashCode += getAdditionalParameters().hashCode();
+            }
+            if (getPublisherId() != null) {
+                _hashCode += getPublisherId().hashCode();
+            }
+            if (getLockedOrientation() != null) {
+                _hashCode += getLockedOrientation().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(AdMobBackfillCreative.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(AdMobBackfillCreative.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://www.google.com/apis/ads/publisher/v201602", "AdMobBackfillCreative"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("additionalParameters");
@@ -207,13 +212,24 @@ public class AdMobBackfillCreative  extends com.google.api.ads.dfp.axis.v201602.
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (AdMobBackfillCreative.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -225,7 +241,7 @@ public class AdMobBackfillCreative  extends com.google.api.ads.dfp.axis.v201602.
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -237,7 +253,7 @@ public class AdMobBackfillCreative  extends com.google.api.ads.dfp.axis.v201602.
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
@@ -176,70 +176,75 @@ public class AdUnitSize  implements java.io.Serializable {
         this.fullDisplayString = fullDisplayString;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof AdUnitSize)) return false;
         AdUnitSize other = (AdUnitSize) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(AdUnitSize.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = true && 
-            ((this.size==null && other.getSize()==null) || 
-             (this.size!=null &&
-              this.size.equals(other.getSize()))) &&
-            ((this.environmentType==null && other.getEnvironmentType()==null) || 
-             (this.environmentType!=null &&
-              this.environmentType.equals(other.getEnvironmentType()))) &&
-            ((this.companions==null && other.getCompanions()==null) || 
-             (this.companions!=null &&
-              java.util.Arrays.equals(this.companions, other.getCompanions()))) &&
-            ((this.fullDisplayString==null && other.getFullDisplayString()==null) || 
-             (this.fullDisplayString!=null &&
-              this.fullDisplayString.equals(other.getFullDisplayString())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = true && 
+                ((this.size==null && other.getSize()==null) || 
+                 (this.size!=null &&
+                  this.size.equals(other.getSize()))) &&
+                ((this.environmentType==null && other.getEnvironmentType()==null) || 
+                 (this.environmentType!=null &&
+                  this.environmentType.equals(other.getEnvironmentType()))) &&
+                ((this.companions==null && other.getCompanions()==null) || 
+                 (this.companions!=null &&
+                  java.util.Arrays.equals(this.companions, other.getCompanions()))) &&
+                ((this.fullDisplayString==null && other.getFullDisplayString()==null) || 
+                 (this.fullDisplayString!=null &&
+                  this.fullDisplayString.equals(other.getFullDisplayString())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(AdUnitSize.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getSize() != null) {
-            _hashCode += getSize().hashCode();
-        }
-        if (getEnvironmentType() != null) {
-            _hashCode += getEnvironmentType().hashCode();
-        }
-        if (getCompanions() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getCompanions());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getCompanions(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+        try {
+            int _hashCode = 1;
+            if (getSize() != null) {
+                _hashCode += getSize().hashCode();
+            }
+            if (getEnvironmentType() != null) {
+                _hashCode += getEnvironmentType().hashCode();
+            }
+            if (getCompanions() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getCompanions());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getCompanions(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
+            if (getFullDisplayString() != null) {
+                _hashCode += getFullDisplayString().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        if (getFullDisplayString() != null) {
-            _hashCode += getFullDisplayString().hashCode();
-        }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(AdUnitSize.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(AdUnitSize.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://www.google.com/apis/ads/publisher/v201602", "AdUnitSize"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("size");
@@ -270,13 +275,24 @@ public class AdUnitSize  implements java.io.Serializable {
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (AdUnitSize.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -288,7 +304,7 @@ public class AdUnitSize  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -300,7 +316,7 @@ public class AdUnitSize  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
@@ -113,56 +113,61 @@ public abstract class ApiError  implements java.io.Serializable {
         this.errorString = errorString;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof ApiError)) return false;
         ApiError other = (ApiError) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(ApiError.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = true && 
-            ((this.fieldPath==null && other.getFieldPath()==null) || 
-             (this.fieldPath!=null &&
-              this.fieldPath.equals(other.getFieldPath()))) &&
-            ((this.trigger==null && other.getTrigger()==null) || 
-             (this.trigger!=null &&
-              this.trigger.equals(other.getTrigger()))) &&
-            ((this.errorString==null && other.getErrorString()==null) || 
-             (this.errorString!=null &&
-              this.errorString.equals(other.getErrorString())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = true && 
+                ((this.fieldPath==null && other.getFieldPath()==null) || 
+                 (this.fieldPath!=null &&
+                  this.fieldPath.equals(other.getFieldPath()))) &&
+                ((this.trigger==null && other.getTrigger()==null) || 
+                 (this.trigger!=null &&
+                  this.trigger.equals(other.getTrigger()))) &&
+                ((this.errorString==null && other.getErrorString()==null) || 
+                 (this.errorString!=null &&
+                  this.errorString.equals(other.getErrorString())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(ApiError.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getFieldPath() != null) {
-            _hashCode += getFieldPath().hashCode();
-        }
-        if (getTrigger() != null) {
-            _hashCode += getTrigger().hashCode();
-        }
-        if (getErrorString() != null) {
-            _hashCode += getErrorString().hashCode();
+        try {
+            int _hashCode = 1;
+            if (getFieldPath() != null) {
+                _hashCode += getFieldPath().hashCode();
+            }
+            if (getTrigger() != null) {
+                _hashCode += getTrigger().hashCode();
+            }
+            if (getErrorString() != null) {
+                _hashCode += getErrorString().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(ApiError.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(ApiError.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://www.google.com/apis/ads/publisher/v201602", "ApiError"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("fieldPath");
@@ -185,13 +190,24 @@ public abstract class ApiError  implements java.io.Serializable {
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (ApiError.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -203,7 +219,7 @@ public abstract class ApiError  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -215,7 +231,7 @@ public abstract class ApiError  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
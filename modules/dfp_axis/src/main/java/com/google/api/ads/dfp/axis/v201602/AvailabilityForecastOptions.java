@@ -94,50 +94,55 @@ public class AvailabilityForecastOptions  implements java.io.Serializable {
         this.includeContendingLineItems = includeContendingLineItems;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof AvailabilityForecastOptions)) return false;
         AvailabilityForecastOptions other = (AvailabilityForecastOptions) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(AvailabilityForecastOptions.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = true && 
-            ((this.includeTargetingCriteriaBreakdown==null && other.getIncludeTargetingCriteriaBreakdown()==null) || 
-             (this.includeTargetingCriteriaBreakdown!=null &&
-              this.includeTargetingCriteriaBreakdown.equals(other.getIncludeTargetingCriteriaBreakdown()))) &&
-            ((this.includeContendingLineItems==null && other.getIncludeContendingLineItems()==null) || 
-             (this.includeContendingLineItems!=null &&
-              this.includeContendingLineItems.equals(other.getIncludeContendingLineItems())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = true && 
+                ((this.includeTargetingCriteriaBreakdown==null && other.getIncludeTargetingCriteriaBreakdown()==null) || 
+                 (this.includeTargetingCriteriaBreakdown!=null &&
+                  this.includeTargetingCriteriaBreakdown.equals(other.getIncludeTargetingCriteriaBreakdown()))) &&
+                ((this.includeContendingLineItems==null && other.getIncludeContendingLineItems()==null) || 
+                 (this.includeContendingLineItems!=null &&
+                  this.includeContendingLineItems.equals(other.getIncludeContendingLineItems())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(AvailabilityForecastOptions.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getIncludeTargetingCriteriaBreakdown() != null) {
-            _hashCode += getIncludeTargetingCriteriaBreakdown().hashCode();
-        }
-        if (getIncludeContendingLineItems() != null) {
-            _hashCode += getIncludeContendingLineItems().hashCode();
+        try {
+            int _hashCode = 1;
+            if (getIncludeTargetingCriteriaBreakdown() != null) {
+                _hashCode += getIncludeTargetingCriteriaBreakdown().hashCode();
+            }
+            if (getIncludeContendingLineItems() != null) {
+                _hashCode += getIncludeContendingLineItems().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(AvailabilityForecastOptions.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(AvailabilityForecastOptions.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://www.google.com/apis/ads/publisher/v201602", "AvailabilityForecastOptions"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("includeTargetingCriteriaBreakdown");
@@ -153,13 +158,24 @@ public class AvailabilityForecastOptions  implements java.io.Serializable {
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (AvailabilityForecastOptions.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -171,7 +187,7 @@ public class AvailabilityForecastOptions  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -183,7 +199,7 @@ public class AvailabilityForecastOptions  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
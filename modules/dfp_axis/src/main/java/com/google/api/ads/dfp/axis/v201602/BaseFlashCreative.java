@@ -249,74 +249,79 @@ public abstract class BaseFlashCreative  extends com.google.api.ads.dfp.axis.v20
         this.fallbackImageAsset = fallbackImageAsset;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof BaseFlashCreative)) return false;
         BaseFlashCreative other = (BaseFlashCreative) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(BaseFlashCreative.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = super.equals(obj) && 
-            ((this.overrideSize==null && other.getOverrideSize()==null) || 
-             (this.overrideSize!=null &&
-              this.overrideSize.equals(other.getOverrideSize()))) &&
-            ((this.clickTagRequired==null && other.getClickTagRequired()==null) || 
-             (this.clickTagRequired!=null &&
-              this.clickTagRequired.equals(other.getClickTagRequired()))) &&
-            ((this.sslScanResult==null && other.getSslScanResult()==null) || 
-             (this.sslScanResult!=null &&
-              this.sslScanResult.equals(other.getSslScanResult()))) &&
-            ((this.sslManualOverride==null && other.getSslManualOverride()==null) || 
-             (this.sslManualOverride!=null &&
-              this.sslManualOverride.equals(other.getSslManualOverride()))) &&
-            ((this.flashAsset==null && other.getFlashAsset()==null) || 
-             (this.flashAsset!=null &&
-              this.flashAsset.equals(other.getFlashAsset()))) &&
-            ((this.fallbackImageAsset==null && other.getFallbackImageAsset()==null) || 
-             (this.fallbackImageAsset!=null &&
-              this.fallbackImageAsset.equals(other.getFallbackImageAsset())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = super.equals(obj) && 
+                ((this.overrideSize==null && other.getOverrideSize()==null) || 
+                 (this.overrideSize!=null &&
+                  this.overrideSize.equals(other.getOverrideSize()))) &&
+                ((this.clickTagRequired==null && other.getClickTagRequired()==null) || 
+                 (this.clickTagRequired!=null &&
+                  this.clickTagRequired.equals(other.getClickTagRequired()))) &&
+                ((this.sslScanResult==null && other.getSslScanResult()==null) || 
+                 (this.sslScanResult!=null &&
+                  this.sslScanResult.equals(other.getSslScanResult()))) &&
+                ((this.sslManualOverride==null && other.getSslManualOverride()==null) || 
+                 (this.sslManualOverride!=null &&
+                  this.sslManualOverride.equals(other.getSslManualOverride()))) &&
+                ((this.flashAsset==null && other.getFlashAsset()==null) || 
+                 (this.flashAsset!=null &&
+                  this.flashAsset.equals(other.getFlashAsset()))) &&
+                ((this.fallbackImageAsset==null && other.getFallbackImageAsset()==null) || 
+                 (this.fallbackImageAsset!=null &&
+                  this.fallbackImageAsset.equals(other.getFallbackImageAsset())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(BaseFlashCreative.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = super.hashCode();
-        if (getOverrideSize() != null) {
-            _hashCode += getOverrideSize().hashCode();
-        }
-        if (getClickTagRequired() != null) {
-            _hashCode += getClickTagRequired().hashCode();
-        }
-        if (getSslScanResult() != null) {
-            _hashCode += getSslScanResult().hashCode();
-        }
-        if (getSslManualOverride() != null) {
-            _hashCode += getSslManualOverride().hashCode();
-        }
-        if (getFlashAsset() != null) {
-            _hashCode += getFlashAsset().hashCode();
+        try {
+            int _hashCode = super.hashCode();
+            if (getOverrideSize() != null) {
+                _hashCode += getOverrideSize().hashCode();
+            }
+            if (getClickTagRequired() != null) {
+                _hashCode += getClickTagRequired().hashCode();
+            }
+            if (getSslScanResult() != null) {
+                _hashCode += getSslScanResult().hashCode();
+            }
+            if (getSslManualOverride() != null) {
+                _hashCode += getSslManualOverride().hashCode();
+            }
+            if (getFlashAsset() != null) {
+                _hashCode += getFlashAsset().hashCode();
+            }
+            if (getFallbackImageAsset() != null) {
+                _hashCode += getFallbackImageAsset().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        if (getFallbackImageAsset() != null) {
-            _hashCode += getFallbackImageAsset().hashCode();
-        }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(BaseFlashCreative.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(BaseFlashCreative.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://www.google.com/apis/ads/publisher/v201602", "BaseFlashCreative"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("overrideSize");
@@ -360,13 +365,24 @@ public abstract class BaseFlashCreative  extends com.google.api.ads.dfp.axis.v20
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (BaseFlashCreative.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -378,7 +394,7 @@ public abstract class BaseFlashCreative  extends com.google.api.ads.dfp.axis.v20
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -390,7 +406,7 @@ public abstract class BaseFlashCreative  extends com.google.api.ads.dfp.axis.v20
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
@@ -220,68 +220,73 @@ public abstract class BaseFlashRedirectCreative  extends com.google.api.ads.dfp.
         this.sslManualOverride = sslManualOverride;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof BaseFlashRedirectCreative)) return false;
         BaseFlashRedirectCreative other = (BaseFlashRedirectCreative) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(BaseFlashRedirectCreative.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = super.equals(obj) && 
-            ((this.flashUrl==null && other.getFlashUrl()==null) || 
-             (this.flashUrl!=null &&
-              this.flashUrl.equals(other.getFlashUrl()))) &&
-            ((this.fallbackUrl==null && other.getFallbackUrl()==null) || 
-             (this.fallbackUrl!=null &&
-              this.fallbackUrl.equals(other.getFallbackUrl()))) &&
-            ((this.fallbackPreviewUrl==null && other.getFallbackPreviewUrl()==null) || 
-             (this.fallbackPreviewUrl!=null &&
-              this.fallbackPreviewUrl.equals(other.getFallbackPreviewUrl()))) &&
-            ((this.sslScanResult==null && other.getSslScanResult()==null) || 
-             (this.sslScanResult!=null &&
-              this.sslScanResult.equals(other.getSslScanResult()))) &&
-            ((this.sslManualOverride==null && other.getSslManualOverride()==null) || 
-             (this.sslManualOverride!=null &&
-              this.sslManualOverride.equals(other.getSslManualOverride())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = super.equals(obj) && 
+                ((this.flashUrl==null && other.getFlashUrl()==null) || 
+                 (this.flashUrl!=null &&
+                  this.flashUrl.equals(other.getFlashUrl()))) &&
+                ((this.fallbackUrl==null && other.getFallbackUrl()==null) || 
+                 (this.fallbackUrl!=null &&
+                  this.fallbackUrl.equals(other.getFallbackUrl()))) &&
+                ((this.fallbackPreviewUrl==null && other.getFallbackPreviewUrl()==null) || 
+                 (this.fallbackPreviewUrl!=null &&
+                  this.fallbackPreviewUrl.equals(other.getFallbackPreviewUrl()))) &&
+                ((this.sslScanResult==null && other.getSslScanResult()==null) || 
+                 (this.sslScanResult!=null &&
+                  this.sslScanResult.equals(other.getSslScanResult()))) &&
+                ((this.sslManualOverride==null && other.getSslManualOverride()==null) || 
+                 (this.sslManualOverride!=null &&
+                  this.sslManualOverride.equals(other.getSslManualOverride())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(BaseFlashRedirectCreative.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = super.hashCode();
-        if (getFlashUrl() != null) {
-            _hashCode += getFlashUrl().hashCode();
-        }
-        if (getFallbackUrl() != null) {
-            _hashCode += getFallbackUrl().hashCode();
-        }
-        if (getFallbackPreviewUrl() != null) {
-            _hashCode += getFallbackPreviewUrl().hashCode();
-        }
-        if (getSslScanResult() != null) {
-            _hashCode += getSslScanResult().hashCode();
+        try {
+            int _hashCode = super.hashCode();
+            if (getFlashUrl() != null) {
+                _hashCode += getFlashUrl().hashCode();
+            }
+            if (getFallbackUrl() != null) {
+                _hashCode += getFallbackUrl().hashCode();
+            }
+            if (getFallbackPreviewUrl() != null) {
+                _hashCode += getFallbackPreviewUrl().hashCode();
+            }
+            if (getSslScanResult() != null) {
+                _hashCode += getSslScanResult().hashCode();
+            }
+            if (getSslManualOverride() != null) {
+                _hashCode += getSslManualOverride().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        if (getSslManualOverride() != null) {
-            _hashCode += getSslManualOverride().hashCode();
-        }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(BaseFlashRedirectCreative.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(BaseFlashRedirectCreative.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://www.google.com/apis/ads/publisher/v201602", "BaseFlashRedirectCreative"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("flashUrl");
@@ -318,13 +323,24 @@ public abstract class BaseFlashRedirectCreative  extends com.google.api.ads.dfp.
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (BaseFlashRedirectCreative.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -336,7 +352,7 @@ public abstract class BaseFlashRedirectCreative  extends com.google.api.ads.dfp.
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -348,7 +364,7 @@ public abstract class BaseFlashRedirectCreative  extends com.google.api.ads.dfp.
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
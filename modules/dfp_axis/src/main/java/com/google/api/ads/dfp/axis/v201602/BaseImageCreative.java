@@ -114,50 +114,55 @@ public abstract class BaseImageCreative  extends com.google.api.ads.dfp.axis.v20
         this.primaryImageAsset = primaryImageAsset;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof BaseImageCreative)) return false;
         BaseImageCreative other = (BaseImageCreative) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(BaseImageCreative.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = super.equals(obj) && 
-            ((this.overrideSize==null && other.getOverrideSize()==null) || 
-             (this.overrideSize!=null &&
-              this.overrideSize.equals(other.getOverrideSize()))) &&
-            ((this.primaryImageAsset==null && other.getPrimaryImageAsset()==null) || 
-             (this.primaryImageAsset!=null &&
-              this.primaryImageAsset.equals(other.getPrimaryImageAsset())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = super.equals(obj) && 
+                ((this.overrideSize==null && other.getOverrideSize()==null) || 
+                 (this.overrideSize!=null &&
+                  this.overrideSize.equals(other.getOverrideSize()))) &&
+                ((this.primaryImageAsset==null && other.getPrimaryImageAsset()==null) || 
+                 (this.primaryImageAsset!=null &&
+                  this.primaryImageAsset.equals(other.getPrimaryImageAsset())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(BaseImageCreative.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = super.hashCode();
-        if (getOverrideSize() != null) {
-            _hashCode += getOverrideSize().hashCode();
-        }
-        if (getPrimaryImageAsset() != null) {
-            _hashCode += getPrimaryImageAsset().hashCode();
+        try {
+            int _hashCode = super.hashCode();
+            if (getOverrideSize() != null) {
+                _hashCode += getOverrideSize().hashCode();
+            }
+            if (getPrimaryImageAsset() != null) {
+                _hashCode += getPrimaryImageAsset().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(BaseImageCreative.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(BaseImageCreative.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://www.google.com/apis/ads/publisher/v201602", "BaseImageCreative"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("overrideSize");
@@ -173,13 +178,24 @@ public abstract class BaseImageCreative  extends com.google.api.ads.dfp.axis.v20
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (BaseImageCreative.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -191,7 +207,7 @@ public abstract class BaseImageCreative  extends com.google.api.ads.dfp.axis.v20
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -203,7 +219,7 @@ public abstract class BaseImageCreative  extends com.google.api.ads.dfp.axis.v20
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
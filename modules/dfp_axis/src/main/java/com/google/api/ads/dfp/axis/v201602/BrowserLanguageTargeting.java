@@ -101,58 +101,63 @@ public class BrowserLanguageTargeting  implements java.io.Serializable {
         this.browserLanguages[i] = _value;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof BrowserLanguageTargeting)) return false;
         BrowserLanguageTargeting other = (BrowserLanguageTargeting) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(BrowserLanguageTargeting.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = true && 
-            ((this.isTargeted==null && other.getIsTargeted()==null) || 
-             (this.isTargeted!=null &&
-              this.isTargeted.equals(other.getIsTargeted()))) &&
-            ((this.browserLanguages==null && other.getBrowserLanguages()==null) || 
-             (this.browserLanguages!=null &&
-              java.util.Arrays.equals(this.browserLanguages, other.getBrowserLanguages())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = true && 
+                ((this.isTargeted==null && other.getIsTargeted()==null) || 
+                 (this.isTargeted!=null &&
+                  this.isTargeted.equals(other.getIsTargeted()))) &&
+                ((this.browserLanguages==null && other.getBrowserLanguages()==null) || 
+                 (this.browserLanguages!=null &&
+                  java.util.Arrays.equals(this.browserLanguages, other.getBrowserLanguages())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(BrowserLanguageTargeting.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getIsTargeted() != null) {
-            _hashCode += getIsTargeted().hashCode();
-        }
-        if (getBrowserLanguages() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getBrowserLanguages());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getBrowserLanguages(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+        try {
+            int _hashCode = 1;
+            if (getIsTargeted() != null) {
+                _hashCode += getIsTargeted().hashCode();
+            }
+            if (getBrowserLanguages() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getBrowserLanguages());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getBrowserLanguages(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(BrowserLanguageTargeting.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(BrowserLanguageTargeting.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://www.google.com/apis/ads/publisher/v201602", "BrowserLanguageTargeting"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("isTargeted");
@@ -169,13 +174,24 @@ public class BrowserLanguageTargeting  implements java.io.Serializable {
         elemField.setNillable(false);
         elemField.setMaxOccursUnbounded(true);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (BrowserLanguageTargeting.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -187,7 +203,7 @@ public class BrowserLanguageTargeting  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -199,7 +215,7 @@ public class BrowserLanguageTargeting  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
@@ -537,150 +537,155 @@ public class Company  implements java.io.Serializable {
         this.lastModifiedDateTime = lastModifiedDateTime;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof Company)) return false;
         Company other = (Company) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(Company.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = true && 
-            ((this.id==null && other.getId()==null) || 
-             (this.id!=null &&
-              this.id.equals(other.getId()))) &&
-            ((this.name==null && other.getName()==null) || 
-             (this.name!=null &&
-              this.name.equals(other.getName()))) &&
-            ((this.type==null && other.getType()==null) || 
-             (this.type!=null &&
-              this.type.equals(other.getType()))) &&
-            ((this.address==null && other.getAddress()==null) || 
-             (this.address!=null &&
-              this.address.equals(other.getAddress()))) &&
-            ((this.email==null && other.getEmail()==null) || 
-             (this.email!=null &&
-              this.email.equals(other.getEmail()))) &&
-            ((this.faxPhone==null && other.getFaxPhone()==null) || 
-             (this.faxPhone!=null &&
-              this.faxPhone.equals(other.getFaxPhone()))) &&
-            ((this.primaryPhone==null && other.getPrimaryPhone()==null) || 
-             (this.primaryPhone!=null &&
-              this.primaryPhone.equals(other.getPrimaryPhone()))) &&
-            ((this.externalId==null && other.getExternalId()==null) || 
-             (this.externalId!=null &&
-              this.externalId.equals(other.getExternalId()))) &&
-            ((this.comment==null && other.getComment()==null) || 
-             (this.comment!=null &&
-              this.comment.equals(other.getComment()))) &&
-            ((this.creditStatus==null && other.getCreditStatus()==null) || 
-             (this.creditStatus!=null &&
-              this.creditStatus.equals(other.getCreditStatus()))) &&
-            ((this.settings==null && other.getSettings()==null) || 
-             (this.settings!=null &&
-              this.settings.equals(other.getSettings()))) &&
-            ((this.appliedLabels==null && other.getAppliedLabels()==null) || 
-             (this.appliedLabels!=null &&
-              java.util.Arrays.equals(this.appliedLabels, other.getAppliedLabels()))) &&
-            ((this.primaryContactId==null && other.getPrimaryContactId()==null) || 
-             (this.primaryContactId!=null &&
-              this.primaryContactId.equals(other.getPrimaryContactId()))) &&
-            ((this.appliedTeamIds==null && other.getAppliedTeamIds()==null) || 
-             (this.appliedTeamIds!=null &&
-              java.util.Arrays.equals(this.appliedTeamIds, other.getAppliedTeamIds()))) &&
-            ((this.thirdPartyCompanyId==null && other.getThirdPartyCompanyId()==null) || 
-             (this.thirdPartyCompanyId!=null &&
-              this.thirdPartyCompanyId.equals(other.getThirdPartyCompanyId()))) &&
-            ((this.lastModifiedDateTime==null && other.getLastModifiedDateTime()==null) || 
-             (this.lastModifiedDateTime!=null &&
-              this.lastModifiedDateTime.equals(other.getLastModifiedDateTime())));
-        __equalsCalc = null;
-        return _equals;
-    }
-
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
-            return 0;
-        }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getId() != null) {
-            _hashCode += getId().hashCode();
-        }
-        if (getName() != null) {
-            _hashCode += getName().hashCode();
-        }
-        if (getType() != null) {
-            _hashCode += getType().hashCode();
-        }
-        if (getAddress() != null) {
-            _hashCode += getAddress().hashCode();
-        }
-        if (getEmail() != null) {
-            _hashCode += getEmail().hashCode();
-        }
-        if (getFaxPhone() != null) {
-            _hashCode += getFaxPhone().hashCode();
-        }
-        if (getPrimaryPhone() != null) {
-            _hashCode += getPrimaryPhone().hashCode();
-        }
-        if (getExternalId() != null) {
-            _hashCode += getExternalId().hashCode();
-        }
-        if (getComment() != null) {
-            _hashCode += getComment().hashCode();
+        try {
+            boolean _equals;
+            _equals = true && 
+                ((this.id==null && other.getId()==null) || 
+                 (this.id!=null &&
+                  this.id.equals(other.getId()))) &&
+                ((this.name==null && other.getName()==null) || 
+                 (this.name!=null &&
+                  this.name.equals(other.getName()))) &&
+                ((this.type==null && other.getType()==null) || 
+                 (this.type!=null &&
+                  this.type.equals(other.getType()))) &&
+                ((this.address==null && other.getAddress()==null) || 
+                 (this.address!=null &&
+                  this.address.equals(other.getAddress()))) &&
+                ((this.email==null && other.getEmail()==null) || 
+                 (this.email!=null &&
+                  this.email.equals(other.getEmail()))) &&
+                ((this.faxPhone==null && other.getFaxPhone()==null) || 
+                 (this.faxPhone!=null &&
+                  this.faxPhone.equals(other.getFaxPhone()))) &&
+                ((this.primaryPhone==null && other.getPrimaryPhone()==null) || 
+                 (this.primaryPhone!=null &&
+                  this.primaryPhone.equals(other.getPrimaryPhone()))) &&
+                ((this.externalId==null && other.getExternalId()==null) || 
+                 (this.externalId!=null &&
+                  this.externalId.equals(other.getExternalId()))) &&
+                ((this.comment==null && other.getComment()==null) || 
+                 (this.comment!=null &&
+                  this.comment.equals(other.getComment()))) &&
+                ((this.creditStatus==null && other.getCreditStatus()==null) || 
+                 (this.creditStatus!=null &&
+                  this.creditStatus.equals(other.getCreditStatus()))) &&
+                ((this.settings==null && other.getSettings()==null) || 
+                 (this.settings!=null &&
+                  this.settings.equals(other.getSettings()))) &&
+                ((this.appliedLabels==null && other.getAppliedLabels()==null) || 
+                 (this.appliedLabels!=null &&
+                  java.util.Arrays.equals(this.appliedLabels, other.getAppliedLabels()))) &&
+                ((this.primaryContactId==null && other.getPrimaryContactId()==null) || 
+                 (this.primaryContactId!=null &&
+                  this.primaryContactId.equals(other.getPrimaryContactId()))) &&
+                ((this.appliedTeamIds==null && other.getAppliedTeamIds()==null) || 
+                 (this.appliedTeamIds!=null &&
+                  java.util.Arrays.equals(this.appliedTeamIds, other.getAppliedTeamIds()))) &&
+                ((this.thirdPartyCompanyId==null && other.getThirdPartyCompanyId()==null) || 
+                 (this.thirdPartyCompanyId!=null &&
+                  this.thirdPartyCompanyId.equals(other.getThirdPartyCompanyId()))) &&
+                ((this.lastModifiedDateTime==null && other.getLastModifiedDateTime()==null) || 
+                 (this.lastModifiedDateTime!=null &&
+                  this.lastModifiedDateTime.equals(other.getLastModifiedDateTime())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
         }
-        if (getCreditStatus() != null) {
-            _hashCode += getCreditStatus().hashCode();
-        }
-        if (getSettings() != null) {
-            _hashCode += getSettings().hashCode();
+    }
+
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(Company.class, this)) {
+            return 0;
         }
-        if (getAppliedLabels() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getAppliedLabels());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getAppliedLabels(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+        try {
+            int _hashCode = 1;
+            if (getId() != null) {
+                _hashCode += getId().hashCode();
+            }
+            if (getName() != null) {
+                _hashCode += getName().hashCode();
+            }
+            if (getType() != null) {
+                _hashCode += getType().hashCode();
+            }
+            if (getAddress() != null) {
+                _hashCode += getAddress().hashCode();
+            }
+            if (getEmail() != null) {
+                _hashCode += getEmail().hashCode();
+            }
+            if (getFaxPhone() != null) {
+                _hashCode += getFaxPhone().hashCode();
+            }
+            if (getPrimaryPhone() != null) {
+                _hashCode += getPrimaryPhone().hashCode();
+            }
+            if (getExternalId() != null) {
+                _hashCode += getExternalId().hashCode();
+            }
+            if (getComment() != null) {
+                _hashCode += getComment().hashCode();
+            }
+            if (getCreditStatus() != null) {
+                _hashCode += getCreditStatus().hashCode();
+            }
+            if (getSettings() != null) {
+                _hashCode += getSettings().hashCode();
+            }
+            if (getAppliedLabels() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getAppliedLabels());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getAppliedLabels(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
-        }
-        if (getPrimaryContactId() != null) {
-            _hashCode += getPrimaryContactId().hashCode();
-        }
-        if (getAppliedTeamIds() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getAppliedTeamIds());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getAppliedTeamIds(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+            if (getPrimaryContactId() != null) {
+                _hashCode += getPrimaryContactId().hashCode();
+            }
+            if (getAppliedTeamIds() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getAppliedTeamIds());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getAppliedTeamIds(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
+            if (getThirdPartyCompanyId() != null) {
+                _hashCode += getThirdPartyCompanyId().hashCode();
+            }
+            if (getLastModifiedDateTime() != null) {
+                _hashCode += getLastModifiedDateTime().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        if (getThirdPartyCompanyId() != null) {
-            _hashCode += getThirdPartyCompanyId().hashCode();
-        }
-        if (getLastModifiedDateTime() != null) {
-            _hashCode += getLastModifiedDateTime().hashCode();
-        }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(Company.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(Company.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://www.google.com/apis/ads/publisher/v201602", "Company"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("id");
@@ -796,13 +801,24 @@ public class Company  implements java.io.Serializable {
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (Company.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -814,7 +830,7 @@ public class Company  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -826,7 +842,7 @@ public class Company  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
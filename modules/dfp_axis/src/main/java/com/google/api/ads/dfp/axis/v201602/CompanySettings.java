@@ -317,74 +317,79 @@ public class CompanySettings  implements java.io.Serializable {
         this.agencyCommission = agencyCommission;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof CompanySettings)) return false;
         CompanySettings other = (CompanySettings) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(CompanySettings.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = true && 
-            ((this.billingCap==null && other.getBillingCap()==null) || 
-             (this.billingCap!=null &&
-              this.billingCap.equals(other.getBillingCap()))) &&
-            ((this.billingSchedule==null && other.getBillingSchedule()==null) || 
-             (this.billingSchedule!=null &&
-              this.billingSchedule.equals(other.getBillingSchedule()))) &&
-            ((this.billingSource==null && other.getBillingSource()==null) || 
-             (this.billingSource!=null &&
-              this.billingSource.equals(other.getBillingSource()))) &&
-            ((this.advertiserDiscount==null && other.getAdvertiserDiscount()==null) || 
-             (this.advertiserDiscount!=null &&
-              this.advertiserDiscount.equals(other.getAdvertiserDiscount()))) &&
-            ((this.valueAddedTax==null && other.getValueAddedTax()==null) || 
-             (this.valueAddedTax!=null &&
-              this.valueAddedTax.equals(other.getValueAddedTax()))) &&
-            ((this.agencyCommission==null && other.getAgencyCommission()==null) || 
-             (this.agencyCommission!=null &&
-              this.agencyCommission.equals(other.getAgencyCommission())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = true && 
+                ((this.billingCap==null && other.getBillingCap()==null) || 
+                 (this.billingCap!=null &&
+                  this.billingCap.equals(other.getBillingCap()))) &&
+                ((this.billingSchedule==null && other.getBillingSchedule()==null) || 
+                 (this.billingSchedule!=null &&
+                  this.billingSchedule.equals(other.getBillingSchedule()))) &&
+                ((this.billingSource==null && other.getBillingSource()==null) || 
+                 (this.billingSource!=null &&
+                  this.billingSource.equals(other.getBillingSource()))) &&
+                ((this.advertiserDiscount==null && other.getAdvertiserDiscount()==null) || 
+                 (this.advertiserDiscount!=null &&
+                  this.advertiserDiscount.equals(other.getAdvertiserDiscount()))) &&
+                ((this.valueAddedTax==null && other.getValueAddedTax()==null) || 
+                 (this.valueAddedTax!=null &&
+                  this.valueAddedTax.equals(other.getValueAddedTax()))) &&
+                ((this.agencyCommission==null && other.getAgencyCommission()==null) || 
+                 (this.agencyCommission!=null &&
+                  this.agencyCommission.equals(other.getAgencyCommission())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(CompanySettings.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getBillingCap() != null) {
-            _hashCode += getBillingCap().hashCode();
-        }
-        if (getBillingSchedule() != null) {
-            _hashCode += getBillingSchedule().hashCode();
-        }
-        if (getBillingSource() != null) {
-            _hashCode += getBillingSource().hashCode();
-        }
-        if (getAdvertiserDiscount() != null) {
-            _hashCode += getAdvertiserDiscount().hashCode();
-        }
-        if (getValueAddedTax() != null) {
-            _hashCode += getValueAddedTax().hashCode();
+        try {
+            int _hashCode = 1;
+            if (getBillingCap() != null) {
+                _hashCode += getBillingCap().hashCode();
+            }
+            if (getBillingSchedule() != null) {
+                _hashCode += getBillingSchedule().hashCode();
+            }
+            if (getBillingSource() != null) {
+                _hashCode += getBillingSource().hashCode();
+            }
+            if (getAdvertiserDiscount() != null) {
+                _hashCode += getAdvertiserDiscount().hashCode();
+            }
+            if (getValueAddedTax() != null) {
+                _hashCode += getValueAddedTax().hashCode();
+            }
+            if (getAgencyCommission() != null) {
+                _hashCode += getAgencyCommission().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        if (getAgencyCommission() != null) {
-            _hashCode += getAgencyCommission().hashCode();
-        }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(CompanySettings.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(CompanySettings.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://www.google.com/apis/ads/publisher/v201602", "CompanySettings"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("billingCap");
@@ -428,13 +433,24 @@ public class CompanySettings  implements java.io.Serializable {
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (CompanySettings.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -446,7 +462,7 @@ public class CompanySettings  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -458,7 +474,7 @@ public class CompanySettings  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
@@ -329,116 +329,121 @@ public class Content  implements java.io.Serializable {
         this.cmsSources[i] = _value;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof Content)) return false;
         Content other = (Content) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(Content.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = true && 
-            ((this.id==null && other.getId()==null) || 
-             (this.id!=null &&
-              this.id.equals(other.getId()))) &&
-            ((this.name==null && other.getName()==null) || 
-             (this.name!=null &&
-              this.name.equals(other.getName()))) &&
-            ((this.status==null && other.getStatus()==null) || 
-             (this.status!=null &&
-              this.status.equals(other.getStatus()))) &&
-            ((this.statusDefinedBy==null && other.getStatusDefinedBy()==null) || 
-             (this.statusDefinedBy!=null &&
-              this.statusDefinedBy.equals(other.getStatusDefinedBy()))) &&
-            ((this.importDateTime==null && other.getImportDateTime()==null) || 
-             (this.importDateTime!=null &&
-              this.importDateTime.equals(other.getImportDateTime()))) &&
-            ((this.lastModifiedDateTime==null && other.getLastModifiedDateTime()==null) || 
-             (this.lastModifiedDateTime!=null &&
-              this.lastModifiedDateTime.equals(other.getLastModifiedDateTime()))) &&
-            ((this.userDefinedCustomTargetingValueIds==null && other.getUserDefinedCustomTargetingValueIds()==null) || 
-             (this.userDefinedCustomTargetingValueIds!=null &&
-              java.util.Arrays.equals(this.userDefinedCustomTargetingValueIds, other.getUserDefinedCustomTargetingValueIds()))) &&
-            ((this.mappingRuleDefinedCustomTargetingValueIds==null && other.getMappingRuleDefinedCustomTargetingValueIds()==null) || 
-             (this.mappingRuleDefinedCustomTargetingValueIds!=null &&
-              java.util.Arrays.equals(this.mappingRuleDefinedCustomTargetingValueIds, other.getMappingRuleDefinedCustomTargetingValueIds()))) &&
-            ((this.cmsSources==null && other.getCmsSources()==null) || 
-             (this.cmsSources!=null &&
-              java.util.Arrays.equals(this.cmsSources, other.getCmsSources())));
-        __equalsCalc = null;
-        return _equals;
-    }
-
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
-            return 0;
-        }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getId() != null) {
-            _hashCode += getId().hashCode();
-        }
-        if (getName() != null) {
-            _hashCode += getName().hashCode();
-        }
-        if (getStatus() != null) {
-            _hashCode += getStatus().hashCode();
-        }
-        if (getStatusDefinedBy() != null) {
-            _hashCode += getStatusDefinedBy().hashCode();
-        }
-        if (getImportDateTime() != null) {
-            _hashCode += getImportDateTime().hashCode();
+        try {
+            boolean _equals;
+            _equals = true && 
+                ((this.id==null && other.getId()==null) || 
+                 (this.id!=null &&
+                  this.id.equals(other.getId()))) &&
+                ((this.name==null && other.getName()==null) || 
+                 (this.name!=null &&
+                  this.name.equals(other.getName()))) &&
+                ((this.status==null && other.getStatus()==null) || 
+                 (this.status!=null &&
+                  this.status.equals(other.getStatus()))) &&
+                ((this.statusDefinedBy==null && other.getStatusDefinedBy()==null) || 
+                 (this.statusDefinedBy!=null &&
+                  this.statusDefinedBy.equals(other.getStatusDefinedBy()))) &&
+                ((this.importDateTime==null && other.getImportDateTime()==null) || 
+                 (this.importDateTime!=null &&
+                  this.importDateTime.equals(other.getImportDateTime()))) &&
+                ((this.lastModifiedDateTime==null && other.getLastModifiedDateTime()==null) || 
+                 (this.lastModifiedDateTime!=null &&
+                  this.lastModifiedDateTime.equals(other.getLastModifiedDateTime()))) &&
+                ((this.userDefinedCustomTargetingValueIds==null && other.getUserDefinedCustomTargetingValueIds()==null) || 
+                 (this.userDefinedCustomTargetingValueIds!=null &&
+                  java.util.Arrays.equals(this.userDefinedCustomTargetingValueIds, other.getUserDefinedCustomTargetingValueIds()))) &&
+                ((this.mappingRuleDefinedCustomTargetingValueIds==null && other.getMappingRuleDefinedCustomTargetingValueIds()==null) || 
+                 (this.mappingRuleDefinedCustomTargetingValueIds!=null &&
+                  java.util.Arrays.equals(this.mappingRuleDefinedCustomTargetingValueIds, other.getMappingRuleDefinedCustomTargetingValueIds()))) &&
+                ((this.cmsSources==null && other.getCmsSources()==null) || 
+                 (this.cmsSources!=null &&
+                  java.util.Arrays.equals(this.cmsSources, other.getCmsSources())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
         }
-        if (getLastModifiedDateTime() != null) {
-            _hashCode += getLastModifiedDateTime().hashCode();
+    }
+
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(Content.class, this)) {
+            return 0;
         }
-        if (getUserDefinedCustomTargetingValueIds() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getUserDefinedCustomTargetingValueIds());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getUserDefinedCustomTargetingValueIds(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+        try {
+            int _hashCode = 1;
+            if (getId() != null) {
+                _hashCode += getId().hashCode();
+            }
+            if (getName() != null) {
+                _hashCode += getName().hashCode();
+            }
+            if (getStatus() != null) {
+                _hashCode += getStatus().hashCode();
+            }
+            if (getStatusDefinedBy() != null) {
+                _hashCode += getStatusDefinedBy().hashCode();
+            }
+            if (getImportDateTime() != null) {
+                _hashCode += getImportDateTime().hashCode();
+            }
+            if (getLastModifiedDateTime() != null) {
+                _hashCode += getLastModifiedDateTime().hashCode();
+            }
+            if (getUserDefinedCustomTargetingValueIds() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getUserDefinedCustomTargetingValueIds());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getUserDefinedCustomTargetingValueIds(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
-        }
-        if (getMappingRuleDefinedCustomTargetingValueIds() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getMappingRuleDefinedCustomTargetingValueIds());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getMappingRuleDefinedCustomTargetingValueIds(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+            if (getMappingRuleDefinedCustomTargetingValueIds() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getMappingRuleDefinedCustomTargetingValueIds());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getMappingRuleDefinedCustomTargetingValueIds(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
-        }
-        if (getCmsSources() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getCmsSources());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getCmsSources(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+            if (getCmsSources() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getCmsSources());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getCmsSources(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(Content.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(Content.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://www.google.com/apis/ads/publisher/v201602", "Content"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("id");
@@ -506,13 +511,24 @@ public class Content  implements java.io.Serializable {
         elemField.setNillable(false);
         elemField.setMaxOccursUnbounded(true);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (Content.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -524,7 +540,7 @@ public class Content  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -536,7 +552,7 @@ public class Content  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
@@ -102,50 +102,55 @@ public class ContentMetadataKeyHierarchyLevel  implements java.io.Serializable {
         this.hierarchyLevel = hierarchyLevel;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof ContentMetadataKeyHierarchyLevel)) return false;
         ContentMetadataKeyHierarchyLevel other = (ContentMetadataKeyHierarchyLevel) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(ContentMetadataKeyHierarchyLevel.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = true && 
-            ((this.customTargetingKeyId==null && other.getCustomTargetingKeyId()==null) || 
-             (this.customTargetingKeyId!=null &&
-              this.customTargetingKeyId.equals(other.getCustomTargetingKeyId()))) &&
-            ((this.hierarchyLevel==null && other.getHierarchyLevel()==null) || 
-             (this.hierarchyLevel!=null &&
-              this.hierarchyLevel.equals(other.getHierarchyLevel())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = true && 
+                ((this.customTargetingKeyId==null && other.getCustomTargetingKeyId()==null) || 
+                 (this.customTargetingKeyId!=null &&
+                  this.customTargetingKeyId.equals(other.getCustomTargetingKeyId()))) &&
+                ((this.hierarchyLevel==null && other.getHierarchyLevel()==null) || 
+                 (this.hierarchyLevel!=null &&
+                  this.hierarchyLevel.equals(other.getHierarchyLevel())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(ContentMetadataKeyHierarchyLevel.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getCustomTargetingKeyId() != null) {
-            _hashCode += getCustomTargetingKeyId().hashCode();
-        }
-        if (getHierarchyLevel() != null) {
-            _hashCode += getHierarchyLevel().hashCode();
+        try {
+            int _hashCode = 1;
+            if (getCustomTargetingKeyId() != null) {
+                _hashCode += getCustomTargetingKeyId().hashCode();
+            }
+            if (getHierarchyLevel() != null) {
+                _hashCode += getHierarchyLevel().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(ContentMetadataKeyHierarchyLevel.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(ContentMetadataKeyHierarchyLevel.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://www.google.com/apis/ads/publisher/v201602", "ContentMetadataKeyHierarchyLevel"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("customTargetingKeyId");
@@ -161,13 +166,24 @@ public class ContentMetadataKeyHierarchyLevel  implements java.io.Serializable {
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (ContentMetadataKeyHierarchyLevel.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -179,7 +195,7 @@ public class ContentMetadataKeyHierarchyLevel  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -191,7 +207,7 @@ public class ContentMetadataKeyHierarchyLevel  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
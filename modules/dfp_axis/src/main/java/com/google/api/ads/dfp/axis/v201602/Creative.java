@@ -317,116 +317,121 @@ public abstract class Creative  implements java.io.Serializable {
         this.customFieldValues[i] = _value;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof Creative)) return false;
         Creative other = (Creative) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(Creative.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = true && 
-            ((this.advertiserId==null && other.getAdvertiserId()==null) || 
-             (this.advertiserId!=null &&
-              this.advertiserId.equals(other.getAdvertiserId()))) &&
-            ((this.id==null && other.getId()==null) || 
-             (this.id!=null &&
-              this.id.equals(other.getId()))) &&
-            ((this.name==null && other.getName()==null) || 
-             (this.name!=null &&
-              this.name.equals(other.getName()))) &&
-            ((this.size==null && other.getSize()==null) || 
-             (this.size!=null &&
-              this.size.equals(other.getSize()))) &&
-            ((this.previewUrl==null && other.getPreviewUrl()==null) || 
-             (this.previewUrl!=null &&
-              this.previewUrl.equals(other.getPreviewUrl()))) &&
-            ((this.policyViolations==null && other.getPolicyViolations()==null) || 
-             (this.policyViolations!=null &&
-              java.util.Arrays.equals(this.policyViolations, other.getPolicyViolations()))) &&
-            ((this.appliedLabels==null && other.getAppliedLabels()==null) || 
-             (this.appliedLabels!=null &&
-              java.util.Arrays.equals(this.appliedLabels, other.getAppliedLabels()))) &&
-            ((this.lastModifiedDateTime==null && other.getLastModifiedDateTime()==null) || 
-             (this.lastModifiedDateTime!=null &&
-              this.lastModifiedDateTime.equals(other.getLastModifiedDateTime()))) &&
-            ((this.customFieldValues==null && other.getCustomFieldValues()==null) || 
-             (this.customFieldValues!=null &&
-              java.util.Arrays.equals(this.customFieldValues, other.getCustomFieldValues())));
-        __equalsCalc = null;
-        return _equals;
-    }
-
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
-            return 0;
-        }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getAdvertiserId() != null) {
-            _hashCode += getAdvertiserId().hashCode();
-        }
-        if (getId() != null) {
-            _hashCode += getId().hashCode();
+        try {
+            boolean _equals;
+            _equals = true && 
+                ((this.advertiserId==null && other.getAdvertiserId()==null) || 
+                 (this.advertiserId!=null &&
+                  this.advertiserId.equals(other.getAdvertiserId()))) &&
+                ((this.id==null && other.getId()==null) || 
+                 (this.id!=null &&
+                  this.id.equals(other.getId()))) &&
+                ((this.name==null && other.getName()==null) || 
+                 (this.name!=null &&
+                  this.name.equals(other.getName()))) &&
+                ((this.size==null && other.getSize()==null) || 
+                 (this.size!=null &&
+                  this.size.equals(other.getSize()))) &&
+                ((this.previewUrl==null && other.getPreviewUrl()==null) || 
+                 (this.previewUrl!=null &&
+                  this.previewUrl.equals(other.getPreviewUrl()))) &&
+                ((this.policyViolations==null && other.getPolicyViolations()==null) || 
+                 (this.policyViolations!=null &&
+                  java.util.Arrays.equals(this.policyViolations, other.getPolicyViolations()))) &&
+                ((this.appliedLabels==null && other.getAppliedLabels()==null) || 
+                 (this.appliedLabels!=null &&
+                  java.util.Arrays.equals(this.appliedLabels, other.getAppliedLabels()))) &&
+                ((this.lastModifiedDateTime==null && other.getLastModifiedDateTime()==null) || 
+                 (this.lastModifiedDateTime!=null &&
+                  this.lastModifiedDateTime.equals(other.getLastModifiedDateTime()))) &&
+                ((this.customFieldValues==null && other.getCustomFieldValues()==null) || 
+                 (this.customFieldValues!=null &&
+                  java.util.Arrays.equals(this.customFieldValues, other.getCustomFieldValues())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
         }
-        if (getName() != null) {
-            _hashCode += getName().hashCode();
-        }
-        if (getSize() != null) {
-            _hashCode += getSize().hashCode();
-        }
-        if (getPreviewUrl() != null) {
-            _hashCode += getPreviewUrl().hashCode();
+    }
+
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(Creative.class, this)) {
+            return 0;
         }
-        if (getPolicyViolations() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getPolicyViolations());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getPolicyViolations(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+        try {
+            int _hashCode = 1;
+            if (getAdvertiserId() != null) {
+                _hashCode += getAdvertiserId().hashCode();
+            }
+            if (getId() != null) {
+                _hashCode += getId().hashCode();
+            }
+            if (getName() != null) {
+                _hashCode += getName().hashCode();
+            }
+            if (getSize() != null) {
+                _hashCode += getSize().hashCode();
+            }
+            if (getPreviewUrl() != null) {
+                _hashCode += getPreviewUrl().hashCode();
+            }
+            if (getPolicyViolations() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getPolicyViolations());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getPolicyViolations(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
-        }
-        if (getAppliedLabels() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getAppliedLabels());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getAppliedLabels(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+            if (getAppliedLabels() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getAppliedLabels());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getAppliedLabels(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
-        }
-        if (getLastModifiedDateTime() != null) {
-            _hashCode += getLastModifiedDateTime().hashCode();
-        }
-        if (getCustomFieldValues() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getCustomFieldValues());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getCustomFieldValues(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+            if (getLastModifiedDateTime() != null) {
+                _hashCode += getLastModifiedDateTime().hashCode();
+            }
+            if (getCustomFieldValues() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getCustomFieldValues());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getCustomFieldValues(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(Creative.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(Creative.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://www.google.com/apis/ads/publisher/v201602", "Creative"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("advertiserId");
@@ -494,13 +499,24 @@ public abstract class Creative  implements java.io.Serializable {
         elemField.setNillable(false);
         elemField.setMaxOccursUnbounded(true);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (Creative.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -512,7 +528,7 @@ public abstract class Creative  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -524,7 +540,7 @@ public abstract class Creative  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
@@ -250,82 +250,87 @@ public class CustomCreative  extends com.google.api.ads.dfp.axis.v201602.HasDest
         this.sslManualOverride = sslManualOverride;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof CustomCreative)) return false;
         CustomCreative other = (CustomCreative) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(CustomCreative.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = super.equals(obj) && 
-            ((this.htmlSnippet==null && other.getHtmlSnippet()==null) || 
-             (this.htmlSnippet!=null &&
-              this.htmlSnippet.equals(other.getHtmlSnippet()))) &&
-            ((this.customCreativeAssets==null && other.getCustomCreativeAssets()==null) || 
-             (this.customCreativeAssets!=null &&
-              java.util.Arrays.equals(this.customCreativeAssets, other.getCustomCreativeAssets()))) &&
-            ((this.isInterstitial==null && other.getIsInterstitial()==null) || 
-             (this.isInterstitial!=null &&
-              this.isInterstitial.equals(other.getIsInterstitial()))) &&
-            ((this.lockedOrientation==null && other.getLockedOrientation()==null) || 
-             (this.lockedOrientation!=null &&
-              this.lockedOrientation.equals(other.getLockedOrientation()))) &&
-            ((this.sslScanResult==null && other.getSslScanResult()==null) || 
-             (this.sslScanResult!=null &&
-              this.sslScanResult.equals(other.getSslScanResult()))) &&
-            ((this.sslManualOverride==null && other.getSslManualOverride()==null) || 
-             (this.sslManualOverride!=null &&
-              this.sslManualOverride.equals(other.getSslManualOverride())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = super.equals(obj) && 
+                ((this.htmlSnippet==null && other.getHtmlSnippet()==null) || 
+                 (this.htmlSnippet!=null &&
+                  this.htmlSnippet.equals(other.getHtmlSnippet()))) &&
+                ((this.customCreativeAssets==null && other.getCustomCreativeAssets()==null) || 
+                 (this.customCreativeAssets!=null &&
+                  java.util.Arrays.equals(this.customCreativeAssets, other.getCustomCreativeAssets()))) &&
+                ((this.isInterstitial==null && other.getIsInterstitial()==null) || 
+                 (this.isInterstitial!=null &&
+                  this.isInterstitial.equals(other.getIsInterstitial()))) &&
+                ((this.lockedOrientation==null && other.getLockedOrientation()==null) || 
+                 (this.lockedOrientation!=null &&
+                  this.lockedOrientation.equals(other.getLockedOrientation()))) &&
+                ((this.sslScanResult==null && other.getSslScanResult()==null) || 
+                 (this.sslScanResult!=null &&
+                  this.sslScanResult.equals(other.getSslScanResult()))) &&
+                ((this.sslManualOverride==null && other.getSslManualOverride()==null) || 
+                 (this.sslManualOverride!=null &&
+                  this.sslManualOverride.equals(other.getSslManualOverride())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(CustomCreative.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = super.hashCode();
-        if (getHtmlSnippet() != null) {
-            _hashCode += getHtmlSnippet().hashCode();
-        }
-        if (getCustomCreativeAssets() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getCustomCreativeAssets());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getCustomCreativeAssets(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+        try {
+            int _hashCode = super.hashCode();
+            if (getHtmlSnippet() != null) {
+                _hashCode += getHtmlSnippet().hashCode();
+            }
+            if (getCustomCreativeAssets() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getCustomCreativeAssets());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getCustomCreativeAssets(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
+            if (getIsInterstitial() != null) {
+                _hashCode += getIsInterstitial().hashCode();
+            }
+            if (getLockedOrientation() != null) {
+                _hashCode += getLockedOrientation().hashCode();
+            }
+            if (getSslScanResult() != null) {
+                _hashCode += getSslScanResult().hashCode();
+            }
+            if (getSslManualOverride() != null) {
+                _hashCode += getSslManualOverride().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        if (getIsInterstitial() != null) {
-            _hashCode += getIsInterstitial().hashCode();
-        }
-        if (getLockedOrientation() != null) {
-            _hashCode += getLockedOrientation().hashCode();
-        }
-        if (getSslScanResult() != null) {
-            _hashCode += getSslScanResult().hashCode();
-        }
-        if (getSslManualOverride() != null) {
-            _hashCode += getSslManualOverride().hashCode();
-        }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(CustomCreative.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(CustomCreative.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://www.google.com/apis/ads/publisher/v201602", "CustomCreative"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("htmlSnippet");
@@ -370,13 +375,24 @@ public class CustomCreative  extends com.google.api.ads.dfp.axis.v201602.HasDest
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (CustomCreative.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -388,7 +404,7 @@ public class CustomCreative  extends com.google.api.ads.dfp.axis.v201602.HasDest
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -400,7 +416,7 @@ public class CustomCreative  extends com.google.api.ads.dfp.axis.v201602.HasDest
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
@@ -106,50 +106,55 @@ public class CustomTargetingPremiumFeature  extends com.google.api.ads.dfp.axis.
         this.customTargetingValueId = customTargetingValueId;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof CustomTargetingPremiumFeature)) return false;
         CustomTargetingPremiumFeature other = (CustomTargetingPremiumFeature) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(CustomTargetingPremiumFeature.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = super.equals(obj) && 
-            ((this.customTargetingKeyId==null && other.getCustomTargetingKeyId()==null) || 
-             (this.customTargetingKeyId!=null &&
-              this.customTargetingKeyId.equals(other.getCustomTargetingKeyId()))) &&
-            ((this.customTargetingValueId==null && other.getCustomTargetingValueId()==null) || 
-             (this.customTargetingValueId!=null &&
-              this.customTargetingValueId.equals(other.getCustomTargetingValueId())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = super.equals(obj) && 
+                ((this.customTargetingKeyId==null && other.getCustomTargetingKeyId()==null) || 
+                 (this.customTargetingKeyId!=null &&
+                  this.customTargetingKeyId.equals(other.getCustomTargetingKeyId()))) &&
+                ((this.customTargetingValueId==null && other.getCustomTargetingValueId()==null) || 
+                 (this.customTargetingValueId!=null &&
+                  this.customTargetingValueId.equals(other.getCustomTargetingValueId())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(CustomTargetingPremiumFeature.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = super.hashCode();
-        if (getCustomTargetingKeyId() != null) {
-            _hashCode += getCustomTargetingKeyId().hashCode();
-        }
-        if (getCustomTargetingValueId() != null) {
-            _hashCode += getCustomTargetingValueId().hashCode();
+        try {
+            int _hashCode = super.hashCode();
+            if (getCustomTargetingKeyId() != null) {
+                _hashCode += getCustomTargetingKeyId().hashCode();
+            }
+            if (getCustomTargetingValueId() != null) {
+                _hashCode += getCustomTargetingValueId().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(CustomTargetingPremiumFeature.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(CustomTargetingPremiumFeature.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://www.google.com/apis/ads/publisher/v201602", "CustomTargetingPremiumFeature"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("customTargetingKeyId");
@@ -165,13 +170,24 @@ public class CustomTargetingPremiumFeature  extends com.google.api.ads.dfp.axis.
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (CustomTargetingPremiumFeature.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -183,7 +199,7 @@ public class CustomTargetingPremiumFeature  extends com.google.api.ads.dfp.axis.
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -195,7 +211,7 @@ public class CustomTargetingPremiumFeature  extends com.google.api.ads.dfp.axis.
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
@@ -152,68 +152,73 @@ public class DateTime  implements java.io.Serializable {
         this.timeZoneID = timeZoneID;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof DateTime)) return false;
         DateTime other = (DateTime) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(DateTime.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = true && 
-            ((this.date==null && other.getDate()==null) || 
-             (this.date!=null &&
-              this.date.equals(other.getDate()))) &&
-            ((this.hour==null && other.getHour()==null) || 
-             (this.hour!=null &&
-              this.hour.equals(other.getHour()))) &&
-            ((this.minute==null && other.getMinute()==null) || 
-             (this.minute!=null &&
-              this.minute.equals(other.getMinute()))) &&
-            ((this.second==null && other.getSecond()==null) || 
-             (this.second!=null &&
-              this.second.equals(other.getSecond()))) &&
-            ((this.timeZoneID==null && other.getTimeZoneID()==null) || 
-             (this.timeZoneID!=null &&
-              this.timeZoneID.equals(other.getTimeZoneID())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = true && 
+                ((this.date==null && other.getDate()==null) || 
+                 (this.date!=null &&
+                  this.date.equals(other.getDate()))) &&
+                ((this.hour==null && other.getHour()==null) || 
+                 (this.hour!=null &&
+                  this.hour.equals(other.getHour()))) &&
+                ((this.minute==null && other.getMinute()==null) || 
+                 (this.minute!=null &&
+                  this.minute.equals(other.getMinute()))) &&
+                ((this.second==null && other.getSecond()==null) || 
+                 (this.second!=null &&
+                  this.second.equals(other.getSecond()))) &&
+                ((this.timeZoneID==null && other.getTimeZoneID()==null) || 
+                 (this.timeZoneID!=null &&
+                  this.timeZoneID.equals(other.getTimeZoneID())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(DateTime.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getDate() != null) {
-            _hashCode += getDate().hashCode();
-        }
-        if (getHour() != null) {
-            _hashCode += getHour().hashCode();
-        }
-        if (getMinute() != null) {
-            _hashCode += getMinute().hashCode();
-        }
-        if (getSecond() != null) {
-            _hashCode += getSecond().hashCode();
+        try {
+            int _hashCode = 1;
+            if (getDate() != null) {
+                _hashCode += getDate().hashCode();
+            }
+            if (getHour() != null) {
+                _hashCode += getHour().hashCode();
+            }
+            if (getMinute() != null) {
+                _hashCode += getMinute().hashCode();
+            }
+            if (getSecond() != null) {
+                _hashCode += getSecond().hashCode();
+            }
+            if (getTimeZoneID() != null) {
+                _hashCode += getTimeZoneID().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        if (getTimeZoneID() != null) {
-            _hashCode += getTimeZoneID().hashCode();
-        }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(DateTime.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(DateTime.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://www.google.com/apis/ads/publisher/v201602", "DateTime"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("date");
@@ -250,13 +255,24 @@ public class DateTime  implements java.io.Serializable {
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (DateTime.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -268,7 +284,7 @@ public class DateTime  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -280,7 +296,7 @@ public class DateTime  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
@@ -91,50 +91,55 @@ public class DeliveryIndicator  implements java.io.Serializable {
         this.actualDeliveryPercentage = actualDeliveryPercentage;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof DeliveryIndicator)) return false;
         DeliveryIndicator other = (DeliveryIndicator) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(DeliveryIndicator.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = true && 
-            ((this.expectedDeliveryPercentage==null && other.getExpectedDeliveryPercentage()==null) || 
-             (this.expectedDeliveryPercentage!=null &&
-              this.expectedDeliveryPercentage.equals(other.getExpectedDeliveryPercentage()))) &&
-            ((this.actualDeliveryPercentage==null && other.getActualDeliveryPercentage()==null) || 
-             (this.actualDeliveryPercentage!=null &&
-              this.actualDeliveryPercentage.equals(other.getActualDeliveryPercentage())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = true && 
+                ((this.expectedDeliveryPercentage==null && other.getExpectedDeliveryPercentage()==null) || 
+                 (this.expectedDeliveryPercentage!=null &&
+                  this.expectedDeliveryPercentage.equals(other.getExpectedDeliveryPercentage()))) &&
+                ((this.actualDeliveryPercentage==null && other.getActualDeliveryPercentage()==null) || 
+                 (this.actualDeliveryPercentage!=null &&
+                  this.actualDeliveryPercentage.equals(other.getActualDeliveryPercentage())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(DeliveryIndicator.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getExpectedDeliveryPercentage() != null) {
-            _hashCode += getExpectedDeliveryPercentage().hashCode();
-        }
-        if (getActualDeliveryPercentage() != null) {
-            _hashCode += getActualDeliveryPercentage().hashCode();
+        try {
+            int _hashCode = 1;
+            if (getExpectedDeliveryPercentage() != null) {
+                _hashCode += getExpectedDeliveryPercentage().hashCode();
+            }
+            if (getActualDeliveryPercentage() != null) {
+                _hashCode += getActualDeliveryPercentage().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(DeliveryIndicator.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(DeliveryIndicator.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://www.google.com/apis/ads/publisher/v201602", "DeliveryIndicator"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("expectedDeliveryPercentage");
@@ -150,13 +155,24 @@ public class DeliveryIndicator  implements java.io.Serializable {
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (DeliveryIndicator.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -168,7 +184,7 @@ public class DeliveryIndicator  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -180,7 +196,7 @@ public class DeliveryIndicator  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
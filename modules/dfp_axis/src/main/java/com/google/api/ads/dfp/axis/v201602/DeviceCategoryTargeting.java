@@ -99,66 +99,71 @@ public class DeviceCategoryTargeting  implements java.io.Serializable {
         this.excludedDeviceCategories[i] = _value;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof DeviceCategoryTargeting)) return false;
         DeviceCategoryTargeting other = (DeviceCategoryTargeting) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(DeviceCategoryTargeting.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = true && 
-            ((this.targetedDeviceCategories==null && other.getTargetedDeviceCategories()==null) || 
-             (this.targetedDeviceCategories!=null &&
-              java.util.Arrays.equals(this.targetedDeviceCategories, other.getTargetedDeviceCategories()))) &&
-            ((this.excludedDeviceCategories==null && other.getExcludedDeviceCategories()==null) || 
-             (this.excludedDeviceCategories!=null &&
-              java.util.Arrays.equals(this.excludedDeviceCategories, other.getExcludedDeviceCategories())));
-        __equalsCalc = null;
-        return _equals;
-    }
-
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+        try {
+            boolean _equals;
+            _equals = true && 
+                ((this.targetedDeviceCategories==null && other.getTargetedDeviceCategories()==null) || 
+                 (this.targetedDeviceCategories!=null &&
+                  java.util.Arrays.equals(this.targetedDeviceCategories, other.getTargetedDeviceCategories()))) &&
+                ((this.excludedDeviceCategories==null && other.getExcludedDeviceCategories()==null) || 
+                 (this.excludedDeviceCategories!=null &&
+                  java.util.Arrays.equals(this.excludedDeviceCategories, other.getExcludedDeviceCategories())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
+    }
+
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(DeviceCategoryTargeting.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getTargetedDeviceCategories() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getTargetedDeviceCategories());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getTargetedDeviceCategories(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+        try {
+            int _hashCode = 1;
+            if (getTargetedDeviceCategories() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getTargetedDeviceCategories());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getTargetedDeviceCategories(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
-        }
-        if (getExcludedDeviceCategories() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getExcludedDeviceCategories());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getExcludedDeviceCategories(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+            if (getExcludedDeviceCategories() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getExcludedDeviceCategories());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getExcludedDeviceCategories(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(DeviceCategoryTargeting.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(DeviceCategoryTargeting.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://www.google.com/apis/ads/publisher/v201602", "DeviceCategoryTargeting"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("targetedDeviceCategories");
@@ -176,13 +181,24 @@ public class DeviceCategoryTargeting  implements java.io.Serializable {
         elemField.setNillable(false);
         elemField.setMaxOccursUnbounded(true);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (DeviceCategoryTargeting.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -194,7 +210,7 @@ public class DeviceCategoryTargeting  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -206,7 +222,7 @@ public class DeviceCategoryTargeting  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
@@ -104,58 +104,63 @@ public class DeviceManufacturerTargeting  implements java.io.Serializable {
         this.deviceManufacturers[i] = _value;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof DeviceManufacturerTargeting)) return false;
         DeviceManufacturerTargeting other = (DeviceManufacturerTargeting) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(DeviceManufacturerTargeting.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = true && 
-            ((this.isTargeted==null && other.getIsTargeted()==null) || 
-             (this.isTargeted!=null &&
-              this.isTargeted.equals(other.getIsTargeted()))) &&
-            ((this.deviceManufacturers==null && other.getDeviceManufacturers()==null) || 
-             (this.deviceManufacturers!=null &&
-              java.util.Arrays.equals(this.deviceManufacturers, other.getDeviceManufacturers())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = true && 
+                ((this.isTargeted==null && other.getIsTargeted()==null) || 
+                 (this.isTargeted!=null &&
+                  this.isTargeted.equals(other.getIsTargeted()))) &&
+                ((this.deviceManufacturers==null && other.getDeviceManufacturers()==null) || 
+                 (this.deviceManufacturers!=null &&
+                  java.util.Arrays.equals(this.deviceManufacturers, other.getDeviceManufacturers())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(DeviceManufacturerTargeting.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getIsTargeted() != null) {
-            _hashCode += getIsTargeted().hashCode();
-        }
-        if (getDeviceManufacturers() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getDeviceManufacturers());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getDeviceManufacturers(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+        try {
+            int _hashCode = 1;
+            if (getIsTargeted() != null) {
+                _hashCode += getIsTargeted().hashCode();
+            }
+            if (getDeviceManufacturers() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getDeviceManufacturers());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getDeviceManufacturers(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(DeviceManufacturerTargeting.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(DeviceManufacturerTargeting.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://www.google.com/apis/ads/publisher/v201602", "DeviceManufacturerTargeting"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("isTargeted");
@@ -172,13 +177,24 @@ public class DeviceManufacturerTargeting  implements java.io.Serializable {
         elemField.setNillable(false);
         elemField.setMaxOccursUnbounded(true);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (DeviceManufacturerTargeting.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -190,7 +206,7 @@ public class DeviceManufacturerTargeting  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -202,7 +218,7 @@ public class DeviceManufacturerTargeting  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
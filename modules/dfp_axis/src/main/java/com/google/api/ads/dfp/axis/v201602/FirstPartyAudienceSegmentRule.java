@@ -204,50 +204,55 @@ public class FirstPartyAudienceSegmentRule  implements java.io.Serializable {
         this.customCriteriaRule = customCriteriaRule;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof FirstPartyAudienceSegmentRule)) return false;
         FirstPartyAudienceSegmentRule other = (FirstPartyAudienceSegmentRule) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(FirstPartyAudienceSegmentRule.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = true && 
-            ((this.inventoryRule==null && other.getInventoryRule()==null) || 
-             (this.inventoryRule!=null &&
-              this.inventoryRule.equals(other.getInventoryRule()))) &&
-            ((this.customCriteriaRule==null && other.getCustomCriteriaRule()==null) || 
-             (this.customCriteriaRule!=null &&
-              this.customCriteriaRule.equals(other.getCustomCriteriaRule())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = true && 
+                ((this.inventoryRule==null && other.getInventoryRule()==null) || 
+                 (this.inventoryRule!=null &&
+                  this.inventoryRule.equals(other.getInventoryRule()))) &&
+                ((this.customCriteriaRule==null && other.getCustomCriteriaRule()==null) || 
+                 (this.customCriteriaRule!=null &&
+                  this.customCriteriaRule.equals(other.getCustomCriteriaRule())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(FirstPartyAudienceSegmentRule.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getInventoryRule() != null) {
-            _hashCode += getInventoryRule().hashCode();
-        }
-        if (getCustomCriteriaRule() != null) {
-            _hashCode += getCustomCriteriaRule().hashCode();
+        try {
+            int _hashCode = 1;
+            if (getInventoryRule() != null) {
+                _hashCode += getInventoryRule().hashCode();
+            }
+            if (getCustomCriteriaRule() != null) {
+                _hashCode += getCustomCriteriaRule().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(FirstPartyAudienceSegmentRule.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(FirstPartyAudienceSegmentRule.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://www.google.com/apis/ads/publisher/v201602", "FirstPartyAudienceSegmentRule"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("inventoryRule");
@@ -263,13 +268,24 @@ public class FirstPartyAudienceSegmentRule  implements java.io.Serializable {
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (FirstPartyAudienceSegmentRule.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -281,7 +297,7 @@ public class FirstPartyAudienceSegmentRule  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -293,7 +309,7 @@ public class FirstPartyAudienceSegmentRule  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
@@ -223,62 +223,67 @@ public class FlashCreative  extends com.google.api.ads.dfp.axis.v201602.BaseFlas
         this.clickTagOverlayEnabled = clickTagOverlayEnabled;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof FlashCreative)) return false;
         FlashCreative other = (FlashCreative) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(FlashCreative.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = super.equals(obj) && 
-            ((this.swiffyAsset==null && other.getSwiffyAsset()==null) || 
-             (this.swiffyAsset!=null &&
-              this.swiffyAsset.equals(other.getSwiffyAsset()))) &&
-            ((this.createSwiffyAsset==null && other.getCreateSwiffyAsset()==null) || 
-             (this.createSwiffyAsset!=null &&
-              this.createSwiffyAsset.equals(other.getCreateSwiffyAsset()))) &&
-            ((this.lockedOrientation==null && other.getLockedOrientation()==null) || 
-             (this.lockedOrientation!=null &&
-              this.lockedOrientation.equals(other.getLockedOrientation()))) &&
-            ((this.clickTagOverlayEnabled==null && other.getClickTagOverlayEnabled()==null) || 
-             (this.clickTagOverlayEnabled!=null &&
-              this.clickTagOverlayEnabled.equals(other.getClickTagOverlayEnabled())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = super.equals(obj) && 
+                ((this.swiffyAsset==null && other.getSwiffyAsset()==null) || 
+                 (this.swiffyAsset!=null &&
+                  this.swiffyAsset.equals(other.getSwiffyAsset()))) &&
+                ((this.createSwiffyAsset==null && other.getCreateSwiffyAsset()==null) || 
+                 (this.createSwiffyAsset!=null &&
+                  this.createSwiffyAsset.equals(other.getCreateSwiffyAsset()))) &&
+                ((this.lockedOrientation==null && other.getLockedOrientation()==null) || 
+                 (this.lockedOrientation!=null &&
+                  this.lockedOrientation.equals(other.getLockedOrientation()))) &&
+                ((this.clickTagOverlayEnabled==null && other.getClickTagOverlayEnabled()==null) || 
+                 (this.clickTagOverlayEnabled!=null &&
+                  this.clickTagOverlayEnabled.equals(other.getClickTagOverlayEnabled())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(FlashCreative.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = super.hashCode();
-        if (getSwiffyAsset() != null) {
-            _hashCode += getSwiffyAsset().hashCode();
-        }
-        if (getCreateSwiffyAsset() != null) {
-            _hashCode += getCreateSwiffyAsset().hashCode();
-        }
-        if (getLockedOrientation() != null) {
-            _hashCode += getLockedOrientation().hashCode();
-        }
-        if (getClickTagOverlayEnabled() != null) {
-            _hashCode += getClickTagOverlayEnabled().hashCode();
+        try {
+            int _hashCode = super.hashCode();
+            if (getSwiffyAsset() != null) {
+                _hashCode += getSwiffyAsset().hashCode();
+            }
+            if (getCreateSwiffyAsset() != null) {
+                _hashCode += getCreateSwiffyAsset().hashCode();
+            }
+            if (getLockedOrientation() != null) {
+                _hashCode += getLockedOrientation().hashCode();
+            }
+            if (getClickTagOverlayEnabled() != null) {
+                _hashCode += getClickTagOverlayEnabled().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(FlashCreative.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(FlashCreative.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://www.google.com/apis/ads/publisher/v201602", "FlashCreative"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("swiffyAsset");
@@ -308,13 +313,24 @@ public class FlashCreative  extends com.google.api.ads.dfp.axis.v201602.BaseFlas
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (FlashCreative.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -326,7 +342,7 @@ public class FlashCreative  extends com.google.api.ads.dfp.axis.v201602.BaseFlas
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -338,7 +354,7 @@ public class FlashCreative  extends com.google.api.ads.dfp.axis.v201602.BaseFlas
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
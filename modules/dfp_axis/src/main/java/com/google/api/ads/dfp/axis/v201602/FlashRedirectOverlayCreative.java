@@ -311,96 +311,101 @@ public class FlashRedirectOverlayCreative  extends com.google.api.ads.dfp.axis.v
         this.vastPreviewUrl = vastPreviewUrl;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof FlashRedirectOverlayCreative)) return false;
         FlashRedirectOverlayCreative other = (FlashRedirectOverlayCreative) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(FlashRedirectOverlayCreative.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = super.equals(obj) && 
-            ((this.companionCreativeIds==null && other.getCompanionCreativeIds()==null) || 
-             (this.companionCreativeIds!=null &&
-              java.util.Arrays.equals(this.companionCreativeIds, other.getCompanionCreativeIds()))) &&
-            ((this.trackingUrls==null && other.getTrackingUrls()==null) || 
-             (this.trackingUrls!=null &&
-              java.util.Arrays.equals(this.trackingUrls, other.getTrackingUrls()))) &&
-            ((this.customParameters==null && other.getCustomParameters()==null) || 
-             (this.customParameters!=null &&
-              this.customParameters.equals(other.getCustomParameters()))) &&
-            ((this.apiFramework==null && other.getApiFramework()==null) || 
-             (this.apiFramework!=null &&
-              this.apiFramework.equals(other.getApiFramework()))) &&
-            ((this.duration==null && other.getDuration()==null) || 
-             (this.duration!=null &&
-              this.duration.equals(other.getDuration()))) &&
-            ((this.flashAssetSize==null && other.getFlashAssetSize()==null) || 
-             (this.flashAssetSize!=null &&
-              this.flashAssetSize.equals(other.getFlashAssetSize()))) &&
-            ((this.vastPreviewUrl==null && other.getVastPreviewUrl()==null) || 
-             (this.vastPreviewUrl!=null &&
-              this.vastPreviewUrl.equals(other.getVastPreviewUrl())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = super.equals(obj) && 
+                ((this.companionCreativeIds==null && other.getCompanionCreativeIds()==null) || 
+                 (this.companionCreativeIds!=null &&
+                  java.util.Arrays.equals(this.companionCreativeIds, other.getCompanionCreativeIds()))) &&
+                ((this.trackingUrls==null && other.getTrackingUrls()==null) || 
+                 (this.trackingUrls!=null &&
+                  java.util.Arrays.equals(this.trackingUrls, other.getTrackingUrls()))) &&
+                ((this.customParameters==null && other.getCustomParameters()==null) || 
+                 (this.customParameters!=null &&
+                  this.customParameters.equals(other.getCustomParameters()))) &&
+                ((this.apiFramework==null && other.getApiFramework()==null) || 
+                 (this.apiFramework!=null &&
+                  this.apiFramework.equals(other.getApiFramework()))) &&
+                ((this.duration==null && other.getDuration()==null) || 
+                 (this.duration!=null &&
+                  this.duration.equals(other.getDuration()))) &&
+                ((this.flashAssetSize==null && other.getFlashAssetSize()==null) || 
+                 (this.flashAssetSize!=null &&
+                  this.flashAssetSize.equals(other.getFlashAssetSize()))) &&
+                ((this.vastPreviewUrl==null && other.getVastPreviewUrl()==null) || 
+                 (this.vastPreviewUrl!=null &&
+                  this.vastPreviewUrl.equals(other.getVastPreviewUrl())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(FlashRedirectOverlayCreative.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = super.hashCode();
-        if (getCompanionCreativeIds() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getCompanionCreativeIds());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getCompanionCreativeIds(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+        try {
+            int _hashCode = super.hashCode();
+            if (getCompanionCreativeIds() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getCompanionCreativeIds());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getCompanionCreativeIds(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
-        }
-        if (getTrackingUrls() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getTrackingUrls());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getTrackingUrls(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+            if (getTrackingUrls() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getTrackingUrls());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getTrackingUrls(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
+            if (getCustomParameters() != null) {
+                _hashCode += getCustomParameters().hashCode();
+            }
+            if (getApiFramework() != null) {
+                _hashCode += getApiFramework().hashCode();
+            }
+            if (getDuration() != null) {
+                _hashCode += getDuration().hashCode();
+            }
+            if (getFlashAssetSize() != null) {
+                _hashCode += getFlashAssetSize().hashCode();
+            }
+            if (getVastPreviewUrl() != null) {
+                _hashCode += getVastPreviewUrl().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        if (getCustomParameters() != null) {
-            _hashCode += getCustomParameters().hashCode();
-        }
-        if (getApiFramework() != null) {
-            _hashCode += getApiFramework().hashCode();
-        }
-        if (getDuration() != null) {
-            _hashCode += getDuration().hashCode();
-        }
-        if (getFlashAssetSize() != null) {
-            _hashCode += getFlashAssetSize().hashCode();
-        }
-        if (getVastPreviewUrl() != null) {
-            _hashCode += getVastPreviewUrl().hashCode();
-        }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(FlashRedirectOverlayCreative.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(FlashRedirectOverlayCreative.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://www.google.com/apis/ads/publisher/v201602", "FlashRedirectOverlayCreative"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("companionCreativeIds");
@@ -453,13 +458,24 @@ public class FlashRedirectOverlayCreative  extends com.google.api.ads.dfp.axis.v
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (FlashRedirectOverlayCreative.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -471,7 +487,7 @@ public class FlashRedirectOverlayCreative  extends com.google.api.ads.dfp.axis.v
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -483,7 +499,7 @@ public class FlashRedirectOverlayCreative  extends com.google.api.ads.dfp.axis.v
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
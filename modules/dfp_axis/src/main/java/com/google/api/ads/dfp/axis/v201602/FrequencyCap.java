@@ -121,56 +121,61 @@ public class FrequencyCap  implements java.io.Serializable {
         this.timeUnit = timeUnit;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof FrequencyCap)) return false;
         FrequencyCap other = (FrequencyCap) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(FrequencyCap.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = true && 
-            ((this.maxImpressions==null && other.getMaxImpressions()==null) || 
-             (this.maxImpressions!=null &&
-              this.maxImpressions.equals(other.getMaxImpressions()))) &&
-            ((this.numTimeUnits==null && other.getNumTimeUnits()==null) || 
-             (this.numTimeUnits!=null &&
-              this.numTimeUnits.equals(other.getNumTimeUnits()))) &&
-            ((this.timeUnit==null && other.getTimeUnit()==null) || 
-             (this.timeUnit!=null &&
-              this.timeUnit.equals(other.getTimeUnit())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = true && 
+                ((this.maxImpressions==null && other.getMaxImpressions()==null) || 
+                 (this.maxImpressions!=null &&
+                  this.maxImpressions.equals(other.getMaxImpressions()))) &&
+                ((this.numTimeUnits==null && other.getNumTimeUnits()==null) || 
+                 (this.numTimeUnits!=null &&
+                  this.numTimeUnits.equals(other.getNumTimeUnits()))) &&
+                ((this.timeUnit==null && other.getTimeUnit()==null) || 
+                 (this.timeUnit!=null &&
+                  this.timeUnit.equals(other.getTimeUnit())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(FrequencyCap.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getMaxImpressions() != null) {
-            _hashCode += getMaxImpressions().hashCode();
-        }
-        if (getNumTimeUnits() != null) {
-            _hashCode += getNumTimeUnits().hashCode();
-        }
-        if (getTimeUnit() != null) {
-            _hashCode += getTimeUnit().hashCode();
+        try {
+            int _hashCode = 1;
+            if (getMaxImpressions() != null) {
+                _hashCode += getMaxImpressions().hashCode();
+            }
+            if (getNumTimeUnits() != null) {
+                _hashCode += getNumTimeUnits().hashCode();
+            }
+            if (getTimeUnit() != null) {
+                _hashCode += getTimeUnit().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(FrequencyCap.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(FrequencyCap.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://www.google.com/apis/ads/publisher/v201602", "FrequencyCap"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("maxImpressions");
@@ -193,13 +198,24 @@ public class FrequencyCap  implements java.io.Serializable {
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (FrequencyCap.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -211,7 +227,7 @@ public class FrequencyCap  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -223,7 +239,7 @@ public class FrequencyCap  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
@@ -119,66 +119,71 @@ public class GeoTargeting  implements java.io.Serializable {
         this.excludedLocations[i] = _value;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof GeoTargeting)) return false;
         GeoTargeting other = (GeoTargeting) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(GeoTargeting.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = true && 
-            ((this.targetedLocations==null && other.getTargetedLocations()==null) || 
-             (this.targetedLocations!=null &&
-              java.util.Arrays.equals(this.targetedLocations, other.getTargetedLocations()))) &&
-            ((this.excludedLocations==null && other.getExcludedLocations()==null) || 
-             (this.excludedLocations!=null &&
-              java.util.Arrays.equals(this.excludedLocations, other.getExcludedLocations())));
-        __equalsCalc = null;
-        return _equals;
-    }
-
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+        try {
+            boolean _equals;
+            _equals = true && 
+                ((this.targetedLocations==null && other.getTargetedLocations()==null) || 
+                 (this.targetedLocations!=null &&
+                  java.util.Arrays.equals(this.targetedLocations, other.getTargetedLocations()))) &&
+                ((this.excludedLocations==null && other.getExcludedLocations()==null) || 
+                 (this.excludedLocations!=null &&
+                  java.util.Arrays.equals(this.excludedLocations, other.getExcludedLocations())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
+    }
+
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(GeoTargeting.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getTargetedLocations() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getTargetedLocations());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getTargetedLocations(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+        try {
+            int _hashCode = 1;
+            if (getTargetedLocations() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getTargetedLocations());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getTargetedLocations(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
-        }
-        if (getExcludedLocations() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getExcludedLocations());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getExcludedLocations(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+            if (getExcludedLocations() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getExcludedLocations());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getExcludedLocations(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(GeoTargeting.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(GeoTargeting.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://www.google.com/apis/ads/publisher/v201602", "GeoTargeting"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("targetedLocations");
@@ -196,13 +201,24 @@ public class GeoTargeting  implements java.io.Serializable {
         elemField.setNillable(false);
         elemField.setMaxOccursUnbounded(true);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (GeoTargeting.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -214,7 +230,7 @@ public class GeoTargeting  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -226,7 +242,7 @@ public class GeoTargeting  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
@@ -174,56 +174,61 @@ public class Goal  implements java.io.Serializable {
         this.units = units;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof Goal)) return false;
         Goal other = (Goal) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(Goal.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = true && 
-            ((this.goalType==null && other.getGoalType()==null) || 
-             (this.goalType!=null &&
-              this.goalType.equals(other.getGoalType()))) &&
-            ((this.unitType==null && other.getUnitType()==null) || 
-             (this.unitType!=null &&
-              this.unitType.equals(other.getUnitType()))) &&
-            ((this.units==null && other.getUnits()==null) || 
-             (this.units!=null &&
-              this.units.equals(other.getUnits())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = true && 
+                ((this.goalType==null && other.getGoalType()==null) || 
+                 (this.goalType!=null &&
+                  this.goalType.equals(other.getGoalType()))) &&
+                ((this.unitType==null && other.getUnitType()==null) || 
+                 (this.unitType!=null &&
+                  this.unitType.equals(other.getUnitType()))) &&
+                ((this.units==null && other.getUnits()==null) || 
+                 (this.units!=null &&
+                  this.units.equals(other.getUnits())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(Goal.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getGoalType() != null) {
-            _hashCode += getGoalType().hashCode();
-        }
-        if (getUnitType() != null) {
-            _hashCode += getUnitType().hashCode();
-        }
-        if (getUnits() != null) {
-            _hashCode += getUnits().hashCode();
+        try {
+            int _hashCode = 1;
+            if (getGoalType() != null) {
+                _hashCode += getGoalType().hashCode();
+            }
+            if (getUnitType() != null) {
+                _hashCode += getUnitType().hashCode();
+            }
+            if (getUnits() != null) {
+                _hashCode += getUnits().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(Goal.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(Goal.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://www.google.com/apis/ads/publisher/v201602", "Goal"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("goalType");
@@ -246,13 +251,24 @@ public class Goal  implements java.io.Serializable {
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (Goal.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -264,7 +280,7 @@ public class Goal  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -276,7 +292,7 @@ public class Goal  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
@@ -170,68 +170,73 @@ public class GrpDemographicBreakdown  implements java.io.Serializable {
         this.age = age;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof GrpDemographicBreakdown)) return false;
         GrpDemographicBreakdown other = (GrpDemographicBreakdown) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(GrpDemographicBreakdown.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = true && 
-            ((this.availableUnits==null && other.getAvailableUnits()==null) || 
-             (this.availableUnits!=null &&
-              this.availableUnits.equals(other.getAvailableUnits()))) &&
-            ((this.matchedUnits==null && other.getMatchedUnits()==null) || 
-             (this.matchedUnits!=null &&
-              this.matchedUnits.equals(other.getMatchedUnits()))) &&
-            ((this.unitType==null && other.getUnitType()==null) || 
-             (this.unitType!=null &&
-              this.unitType.equals(other.getUnitType()))) &&
-            ((this.gender==null && other.getGender()==null) || 
-             (this.gender!=null &&
-              this.gender.equals(other.getGender()))) &&
-            ((this.age==null && other.getAge()==null) || 
-             (this.age!=null &&
-              this.age.equals(other.getAge())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = true && 
+                ((this.availableUnits==null && other.getAvailableUnits()==null) || 
+                 (this.availableUnits!=null &&
+                  this.availableUnits.equals(other.getAvailableUnits()))) &&
+                ((this.matchedUnits==null && other.getMatchedUnits()==null) || 
+                 (this.matchedUnits!=null &&
+                  this.matchedUnits.equals(other.getMatchedUnits()))) &&
+                ((this.unitType==null && other.getUnitType()==null) || 
+                 (this.unitType!=null &&
+                  this.unitType.equals(other.getUnitType()))) &&
+                ((this.gender==null && other.getGender()==null) || 
+                 (this.gender!=null &&
+                  this.gender.equals(other.getGender()))) &&
+                ((this.age==null && other.getAge()==null) || 
+                 (this.age!=null &&
+                  this.age.equals(other.getAge())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(GrpDemographicBreakdown.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getAvailableUnits() != null) {
-            _hashCode += getAvailableUnits().hashCode();
-        }
-        if (getMatchedUnits() != null) {
-            _hashCode += getMatchedUnits().hashCode();
-        }
-        if (getUnitType() != null) {
-            _hashCode += getUnitType().hashCode();
-        }
-        if (getGender() != null) {
-            _hashCode += getGender().hashCode();
+        try {
+            int _hashCode = 1;
+            if (getAvailableUnits() != null) {
+                _hashCode += getAvailableUnits().hashCode();
+            }
+            if (getMatchedUnits() != null) {
+                _hashCode += getMatchedUnits().hashCode();
+            }
+            if (getUnitType() != null) {
+                _hashCode += getUnitType().hashCode();
+            }
+            if (getGender() != null) {
+                _hashCode += getGender().hashCode();
+            }
+            if (getAge() != null) {
+                _hashCode += getAge().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        if (getAge() != null) {
-            _hashCode += getAge().hashCode();
-        }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(GrpDemographicBreakdown.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(GrpDemographicBreakdown.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://www.google.com/apis/ads/publisher/v201602", "GrpDemographicBreakdown"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("availableUnits");
@@ -268,13 +273,24 @@ public class GrpDemographicBreakdown  implements java.io.Serializable {
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (GrpDemographicBreakdown.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -286,7 +302,7 @@ public class GrpDemographicBreakdown  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -298,7 +314,7 @@ public class GrpDemographicBreakdown  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
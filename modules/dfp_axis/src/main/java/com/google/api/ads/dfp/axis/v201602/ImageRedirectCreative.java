@@ -122,50 +122,55 @@ public class ImageRedirectCreative  extends com.google.api.ads.dfp.axis.v201602.
         this.thirdPartyImpressionUrl = thirdPartyImpressionUrl;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof ImageRedirectCreative)) return false;
         ImageRedirectCreative other = (ImageRedirectCreative) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(ImageRedirectCreative.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = super.equals(obj) && 
-            ((this.altText==null && other.getAltText()==null) || 
-             (this.altText!=null &&
-              this.altText.equals(other.getAltText()))) &&
-            ((this.thirdPartyImpressionUrl==null && other.getThirdPartyImpressionUrl()==null) || 
-             (this.thirdPartyImpressionUrl!=null &&
-              this.thirdPartyImpressionUrl.equals(other.getThirdPartyImpressionUrl())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = super.equals(obj) && 
+                ((this.altText==null && other.getAltText()==null) || 
+                 (this.altText!=null &&
+                  this.altText.equals(other.getAltText()))) &&
+                ((this.thirdPartyImpressionUrl==null && other.getThirdPartyImpressionUrl()==null) || 
+                 (this.thirdPartyImpressionUrl!=null &&
+                  this.thirdPartyImpressionUrl.equals(other.getThirdPartyImpressionUrl())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(ImageRedirectCreative.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = super.hashCode();
-        if (getAltText() != null) {
-            _hashCode += getAltText().hashCode();
-        }
-        if (getThirdPartyImpressionUrl() != null) {
-            _hashCode += getThirdPartyImpressionUrl().hashCode();
+        try {
+            int _hashCode = super.hashCode();
+            if (getAltText() != null) {
+                _hashCode += getAltText().hashCode();
+            }
+            if (getThirdPartyImpressionUrl() != null) {
+                _hashCode += getThirdPartyImpressionUrl().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(ImageRedirectCreative.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(ImageRedirectCreative.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://www.google.com/apis/ads/publisher/v201602", "ImageRedirectCreative"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("altText");
@@ -181,13 +186,24 @@ public class ImageRedirectCreative  extends com.google.api.ads.dfp.axis.v201602.
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (ImageRedirectCreative.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -199,7 +215,7 @@ public class ImageRedirectCreative  extends com.google.api.ads.dfp.axis.v201602.
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -211,7 +227,7 @@ public class ImageRedirectCreative  extends com.google.api.ads.dfp.axis.v201602.
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
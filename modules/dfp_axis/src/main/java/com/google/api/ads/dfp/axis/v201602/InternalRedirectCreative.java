@@ -280,80 +280,85 @@ public class InternalRedirectCreative  extends com.google.api.ads.dfp.axis.v2016
         this.sslManualOverride = sslManualOverride;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof InternalRedirectCreative)) return false;
         InternalRedirectCreative other = (InternalRedirectCreative) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(InternalRedirectCreative.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = super.equals(obj) && 
-            ((this.lockedOrientation==null && other.getLockedOrientation()==null) || 
-             (this.lockedOrientation!=null &&
-              this.lockedOrientation.equals(other.getLockedOrientation()))) &&
-            ((this.assetSize==null && other.getAssetSize()==null) || 
-             (this.assetSize!=null &&
-              this.assetSize.equals(other.getAssetSize()))) &&
-            ((this.internalRedirectUrl==null && other.getInternalRedirectUrl()==null) || 
-             (this.internalRedirectUrl!=null &&
-              this.internalRedirectUrl.equals(other.getInternalRedirectUrl()))) &&
-            ((this.overrideSize==null && other.getOverrideSize()==null) || 
-             (this.overrideSize!=null &&
-              this.overrideSize.equals(other.getOverrideSize()))) &&
-            ((this.isInterstitial==null && other.getIsInterstitial()==null) || 
-             (this.isInterstitial!=null &&
-              this.isInterstitial.equals(other.getIsInterstitial()))) &&
-            ((this.sslScanResult==null && other.getSslScanResult()==null) || 
-             (this.sslScanResult!=null &&
-              this.sslScanResult.equals(other.getSslScanResult()))) &&
-            ((this.sslManualOverride==null && other.getSslManualOverride()==null) || 
-             (this.sslManualOverride!=null &&
-              this.sslManualOverride.equals(other.getSslManualOverride())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = super.equals(obj) && 
+                ((this.lockedOrientation==null && other.getLockedOrientation()==null) || 
+                 (this.lockedOrientation!=null &&
+                  this.lockedOrientation.equals(other.getLockedOrientation()))) &&
+                ((this.assetSize==null && other.getAssetSize()==null) || 
+                 (this.assetSize!=null &&
+                  this.assetSize.equals(other.getAssetSize()))) &&
+                ((this.internalRedirectUrl==null && other.getInternalRedirectUrl()==null) || 
+                 (this.internalRedirectUrl!=null &&
+                  this.internalRedirectUrl.equals(other.getInternalRedirectUrl()))) &&
+                ((this.overrideSize==null && other.getOverrideSize()==null) || 
+                 (this.overrideSize!=null &&
+                  this.overrideSize.equals(other.getOverrideSize()))) &&
+                ((this.isInterstitial==null && other.getIsInterstitial()==null) || 
+                 (this.isInterstitial!=null &&
+                  this.isInterstitial.equals(other.getIsInterstitial()))) &&
+                ((this.sslScanResult==null && other.getSslScanResult()==null) || 
+                 (this.sslScanResult!=null &&
+                  this.sslScanResult.equals(other.getSslScanResult()))) &&
+                ((this.sslManualOverride==null && other.getSslManualOverride()==null) || 
+                 (this.sslManualOverride!=null &&
+                  this.sslManualOverride.equals(other.getSslManualOverride())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(InternalRedirectCreative.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = super.hashCode();
-        if (getLockedOrientation() != null) {
-            _hashCode += getLockedOrientation().hashCode();
-        }
-        if (getAssetSize() != null) {
-            _hashCode += getAssetSize().hashCode();
-        }
-        if (getInternalRedirectUrl() != null) {
-            _hashCode += getInternalRedirectUrl().hashCode();
-        }
-        if (getOverrideSize() != null) {
-            _hashCode += getOverrideSize().hashCode();
-        }
-        if (getIsInterstitial() != null) {
-            _hashCode += getIsInterstitial().hashCode();
+        try {
+            int _hashCode = super.hashCode();
+            if (getLockedOrientation() != null) {
+                _hashCode += getLockedOrientation().hashCode();
+            }
+            if (getAssetSize() != null) {
+                _hashCode += getAssetSize().hashCode();
+            }
+            if (getInternalRedirectUrl() != null) {
+                _hashCode += getInternalRedirectUrl().hashCode();
+            }
+            if (getOverrideSize() != null) {
+                _hashCode += getOverrideSize().hashCode();
+            }
+            if (getIsInterstitial() != null) {
+                _hashCode += getIsInterstitial().hashCode();
+            }
+            if (getSslScanResult() != null) {
+                _hashCode += getSslScanResult().hashCode();
+            }
+            if (getSslManualOverride() != null) {
+                _hashCode += getSslManualOverride().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        if (getSslScanResult() != null) {
-            _hashCode += getSslScanResult().hashCode();
-        }
-        if (getSslManualOverride() != null) {
-            _hashCode += getSslManualOverride().hashCode();
-        }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(InternalRedirectCreative.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(InternalRedirectCreative.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://www.google.com/apis/ads/publisher/v201602", "InternalRedirectCreative"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("lockedOrientation");
@@ -404,13 +409,24 @@ public class InternalRedirectCreative  extends com.google.api.ads.dfp.axis.v2016
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (InternalRedirectCreative.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -422,7 +438,7 @@ public class InternalRedirectCreative  extends com.google.api.ads.dfp.axis.v2016
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -434,7 +450,7 @@ public class InternalRedirectCreative  extends com.google.api.ads.dfp.axis.v2016
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
@@ -241,58 +241,63 @@ public class LineItem  extends com.google.api.ads.dfp.axis.v201602.LineItemSumma
         this.creativeTargetings[i] = _value;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof LineItem)) return false;
         LineItem other = (LineItem) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(LineItem.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = super.equals(obj) && 
-            ((this.targeting==null && other.getTargeting()==null) || 
-             (this.targeting!=null &&
-              this.targeting.equals(other.getTargeting()))) &&
-            ((this.creativeTargetings==null && other.getCreativeTargetings()==null) || 
-             (this.creativeTargetings!=null &&
-              java.util.Arrays.equals(this.creativeTargetings, other.getCreativeTargetings())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = super.equals(obj) && 
+                ((this.targeting==null && other.getTargeting()==null) || 
+                 (this.targeting!=null &&
+                  this.targeting.equals(other.getTargeting()))) &&
+                ((this.creativeTargetings==null && other.getCreativeTargetings()==null) || 
+                 (this.creativeTargetings!=null &&
+                  java.util.Arrays.equals(this.creativeTargetings, other.getCreativeTargetings())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(LineItem.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = super.hashCode();
-        if (getTargeting() != null) {
-            _hashCode += getTargeting().hashCode();
-        }
-        if (getCreativeTargetings() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getCreativeTargetings());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getCreativeTargetings(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+        try {
+            int _hashCode = super.hashCode();
+            if (getTargeting() != null) {
+                _hashCode += getTargeting().hashCode();
+            }
+            if (getCreativeTargetings() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getCreativeTargetings());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getCreativeTargetings(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(LineItem.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(LineItem.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://www.google.com/apis/ads/publisher/v201602", "LineItem"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("targeting");
@@ -309,13 +314,24 @@ public class LineItem  extends com.google.api.ads.dfp.axis.v201602.LineItemSumma
         elemField.setNillable(false);
         elemField.setMaxOccursUnbounded(true);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (LineItem.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -327,7 +343,7 @@ public class LineItem  extends com.google.api.ads.dfp.axis.v201602.LineItemSumma
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -339,7 +355,7 @@ public class LineItem  extends com.google.api.ads.dfp.axis.v201602.LineItemSumma
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
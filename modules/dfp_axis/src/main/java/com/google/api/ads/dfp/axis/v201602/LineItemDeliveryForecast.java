@@ -239,74 +239,79 @@ public class LineItemDeliveryForecast  implements java.io.Serializable {
         this.matchedUnits = matchedUnits;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof LineItemDeliveryForecast)) return false;
         LineItemDeliveryForecast other = (LineItemDeliveryForecast) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(LineItemDeliveryForecast.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = true && 
-            ((this.lineItemId==null && other.getLineItemId()==null) || 
-             (this.lineItemId!=null &&
-              this.lineItemId.equals(other.getLineItemId()))) &&
-            ((this.orderId==null && other.getOrderId()==null) || 
-             (this.orderId!=null &&
-              this.orderId.equals(other.getOrderId()))) &&
-            ((this.unitType==null && other.getUnitType()==null) || 
-             (this.unitType!=null &&
-              this.unitType.equals(other.getUnitType()))) &&
-            ((this.predictedDeliveryUnits==null && other.getPredictedDeliveryUnits()==null) || 
-             (this.predictedDeliveryUnits!=null &&
-              this.predictedDeliveryUnits.equals(other.getPredictedDeliveryUnits()))) &&
-            ((this.deliveredUnits==null && other.getDeliveredUnits()==null) || 
-             (this.deliveredUnits!=null &&
-              this.deliveredUnits.equals(other.getDeliveredUnits()))) &&
-            ((this.matchedUnits==null && other.getMatchedUnits()==null) || 
-             (this.matchedUnits!=null &&
-              this.matchedUnits.equals(other.getMatchedUnits())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = true && 
+                ((this.lineItemId==null && other.getLineItemId()==null) || 
+                 (this.lineItemId!=null &&
+                  this.lineItemId.equals(other.getLineItemId()))) &&
+                ((this.orderId==null && other.getOrderId()==null) || 
+                 (this.orderId!=null &&
+                  this.orderId.equals(other.getOrderId()))) &&
+                ((this.unitType==null && other.getUnitType()==null) || 
+                 (this.unitType!=null &&
+                  this.unitType.equals(other.getUnitType()))) &&
+                ((this.predictedDeliveryUnits==null && other.getPredictedDeliveryUnits()==null) || 
+                 (this.predictedDeliveryUnits!=null &&
+                  this.predictedDeliveryUnits.equals(other.getPredictedDeliveryUnits()))) &&
+                ((this.deliveredUnits==null && other.getDeliveredUnits()==null) || 
+                 (this.deliveredUnits!=null &&
+                  this.deliveredUnits.equals(other.getDeliveredUnits()))) &&
+                ((this.matchedUnits==null && other.getMatchedUnits()==null) || 
+                 (this.matchedUnits!=null &&
+                  this.matchedUnits.equals(other.getMatchedUnits())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(LineItemDeliveryForecast.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getLineItemId() != null) {
-            _hashCode += getLineItemId().hashCode();
-        }
-        if (getOrderId() != null) {
-            _hashCode += getOrderId().hashCode();
-        }
-        if (getUnitType() != null) {
-            _hashCode += getUnitType().hashCode();
-        }
-        if (getPredictedDeliveryUnits() != null) {
-            _hashCode += getPredictedDeliveryUnits().hashCode();
-        }
-        if (getDeliveredUnits() != null) {
-            _hashCode += getDeliveredUnits().hashCode();
+        try {
+            int _hashCode = 1;
+            if (getLineItemId() != null) {
+                _hashCode += getLineItemId().hashCode();
+            }
+            if (getOrderId() != null) {
+                _hashCode += getOrderId().hashCode();
+            }
+            if (getUnitType() != null) {
+                _hashCode += getUnitType().hashCode();
+            }
+            if (getPredictedDeliveryUnits() != null) {
+                _hashCode += getPredictedDeliveryUnits().hashCode();
+            }
+            if (getDeliveredUnits() != null) {
+                _hashCode += getDeliveredUnits().hashCode();
+            }
+            if (getMatchedUnits() != null) {
+                _hashCode += getMatchedUnits().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        if (getMatchedUnits() != null) {
-            _hashCode += getMatchedUnits().hashCode();
-        }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(LineItemDeliveryForecast.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(LineItemDeliveryForecast.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://www.google.com/apis/ads/publisher/v201602", "LineItemDeliveryForecast"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("lineItemId");
@@ -350,13 +355,24 @@ public class LineItemDeliveryForecast  implements java.io.Serializable {
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (LineItemDeliveryForecast.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -368,7 +384,7 @@ public class LineItemDeliveryForecast  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -380,7 +396,7 @@ public class LineItemDeliveryForecast  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
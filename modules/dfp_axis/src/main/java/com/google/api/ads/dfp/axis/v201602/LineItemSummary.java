@@ -2441,430 +2441,435 @@ public class LineItemSummary  implements java.io.Serializable {
         this.grpSettings = grpSettings;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof LineItemSummary)) return false;
         LineItemSummary other = (LineItemSummary) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(LineItemSummary.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = true && 
-            ((this.orderId==null && other.getOrderId()==null) || 
-             (this.orderId!=null &&
-              this.orderId.equals(other.getOrderId()))) &&
-            ((this.id==null && other.getId()==null) || 
-             (this.id!=null &&
-              this.id.equals(other.getId()))) &&
-            ((this.name==null && other.getName()==null) || 
-             (this.name!=null &&
-              this.name.equals(other.getName()))) &&
-            ((this.externalId==null && other.getExternalId()==null) || 
-             (this.externalId!=null &&
-              this.externalId.equals(other.getExternalId()))) &&
-            ((this.orderName==null && other.getOrderName()==null) || 
-             (this.orderName!=null &&
-              this.orderName.equals(other.getOrderName()))) &&
-            ((this.startDateTime==null && other.getStartDateTime()==null) || 
-             (this.startDateTime!=null &&
-              this.startDateTime.equals(other.getStartDateTime()))) &&
-            ((this.startDateTimeType==null && other.getStartDateTimeType()==null) || 
-             (this.startDateTimeType!=null &&
-              this.startDateTimeType.equals(other.getStartDateTimeType()))) &&
-            ((this.endDateTime==null && other.getEndDateTime()==null) || 
-             (this.endDateTime!=null &&
-              this.endDateTime.equals(other.getEndDateTime()))) &&
-            ((this.autoExtensionDays==null && other.getAutoExtensionDays()==null) || 
-             (this.autoExtensionDays!=null &&
-              this.autoExtensionDays.equals(other.getAutoExtensionDays()))) &&
-            ((this.unlimitedEndDateTime==null && other.getUnlimitedEndDateTime()==null) || 
-             (this.unlimitedEndDateTime!=null &&
-              this.unlimitedEndDateTime.equals(other.getUnlimitedEndDateTime()))) &&
-            ((this.creativeRotationType==null && other.getCreativeRotationType()==null) || 
-             (this.creativeRotationType!=null &&
-              this.creativeRotationType.equals(other.getCreativeRotationType()))) &&
-            ((this.deliveryRateType==null && other.getDeliveryRateType()==null) || 
-             (this.deliveryRateType!=null &&
-              this.deliveryRateType.equals(other.getDeliveryRateType()))) &&
-            ((this.roadblockingType==null && other.getRoadblockingType()==null) || 
-             (this.roadblockingType!=null &&
-              this.roadblockingType.equals(other.getRoadblockingType()))) &&
-            ((this.frequencyCaps==null && other.getFrequencyCaps()==null) || 
-             (this.frequencyCaps!=null &&
-              java.util.Arrays.equals(this.frequencyCaps, other.getFrequencyCaps()))) &&
-            ((this.lineItemType==null && other.getLineItemType()==null) || 
-             (this.lineItemType!=null &&
-              this.lineItemType.equals(other.getLineItemType()))) &&
-            ((this.priority==null && other.getPriority()==null) || 
-             (this.priority!=null &&
-              this.priority.equals(other.getPriority()))) &&
-            ((this.costPerUnit==null && other.getCostPerUnit()==null) || 
-             (this.costPerUnit!=null &&
-              this.costPerUnit.equals(other.getCostPerUnit()))) &&
-            ((this.valueCostPerUnit==null && other.getValueCostPerUnit()==null) || 
-             (this.valueCostPerUnit!=null &&
-              this.valueCostPerUnit.equals(other.getValueCostPerUnit()))) &&
-            ((this.costType==null && other.getCostType()==null) || 
-             (this.costType!=null &&
-              this.costType.equals(other.getCostType()))) &&
-            ((this.discountType==null && other.getDiscountType()==null) || 
-             (this.discountType!=null &&
-              this.discountType.equals(other.getDiscountType()))) &&
-            ((this.discount==null && other.getDiscount()==null) || 
-             (this.discount!=null &&
-              this.discount.equals(other.getDiscount()))) &&
-            ((this.contractedUnitsBought==null && other.getContractedUnitsBought()==null) || 
-             (this.contractedUnitsBought!=null &&
-              this.contractedUnitsBought.equals(other.getContractedUnitsBought()))) &&
-            ((this.creativePlaceholders==null && other.getCreativePlaceholders()==null) || 
-             (this.creativePlaceholders!=null &&
-              java.util.Arrays.equals(this.creativePlaceholders, other.getCreativePlaceholders()))) &&
-            ((this.activityAssociations==null && other.getActivityAssociations()==null) || 
-             (this.activityAssociations!=null &&
-              java.util.Arrays.equals(this.activityAssociations, other.getActivityAssociations()))) &&
-            ((this.environmentType==null && other.getEnvironmentType()==null) || 
-             (this.environmentType!=null &&
-              this.environmentType.equals(other.getEnvironmentType()))) &&
-            ((this.companionDeliveryOption==null && other.getCompanionDeliveryOption()==null) || 
-             (this.companionDeliveryOption!=null &&
-              this.companionDeliveryOption.equals(other.getCompanionDeliveryOption()))) &&
-            ((this.creativePersistenceType==null && other.getCreativePersistenceType()==null) || 
-             (this.creativePersistenceType!=null &&
-              this.creativePersistenceType.equals(other.getCreativePersistenceType()))) &&
-            ((this.allowOverbook==null && other.getAllowOverbook()==null) || 
-             (this.allowOverbook!=null &&
-              this.allowOverbook.equals(other.getAllowOverbook()))) &&
-            ((this.skipInventoryCheck==null && other.getSkipInventoryCheck()==null) || 
-             (this.skipInventoryCheck!=null &&
-              this.skipInventoryCheck.equals(other.getSkipInventoryCheck()))) &&
-            ((this.skipCrossSellingRuleWarningChecks==null && other.getSkipCrossSellingRuleWarningChecks()==null) || 
-             (this.skipCrossSellingRuleWarningChecks!=null &&
-              this.skipCrossSellingRuleWarningChecks.equals(other.getSkipCrossSellingRuleWarningChecks()))) &&
-            ((this.reserveAtCreation==null && other.getReserveAtCreation()==null) || 
-             (this.reserveAtCreation!=null &&
-              this.reserveAtCreation.equals(other.getReserveAtCreation()))) &&
-            ((this.stats==null && other.getStats()==null) || 
-             (this.stats!=null &&
-              this.stats.equals(other.getStats()))) &&
-            ((this.deliveryIndicator==null && other.getDeliveryIndicator()==null) || 
-             (this.deliveryIndicator!=null &&
-              this.deliveryIndicator.equals(other.getDeliveryIndicator()))) &&
-            ((this.deliveryData==null && other.getDeliveryData()==null) || 
-             (this.deliveryData!=null &&
-              this.deliveryData.equals(other.getDeliveryData()))) &&
-            ((this.budget==null && other.getBudget()==null) || 
-             (this.budget!=null &&
-              this.budget.equals(other.getBudget()))) &&
-            ((this.status==null && other.getStatus()==null) || 
-             (this.status!=null &&
-              this.status.equals(other.getStatus()))) &&
-            ((this.reservationStatus==null && other.getReservationStatus()==null) || 
-             (this.reservationStatus!=null &&
-              this.reservationStatus.equals(other.getReservationStatus()))) &&
-            ((this.isArchived==null && other.getIsArchived()==null) || 
-             (this.isArchived!=null &&
-              this.isArchived.equals(other.getIsArchived()))) &&
-            ((this.webPropertyCode==null && other.getWebPropertyCode()==null) || 
-             (this.webPropertyCode!=null &&
-              this.webPropertyCode.equals(other.getWebPropertyCode()))) &&
-            ((this.appliedLabels==null && other.getAppliedLabels()==null) || 
-             (this.appliedLabels!=null &&
-              java.util.Arrays.equals(this.appliedLabels, other.getAppliedLabels()))) &&
-            ((this.effectiveAppliedLabels==null && other.getEffectiveAppliedLabels()==null) || 
-             (this.effectiveAppliedLabels!=null &&
-              java.util.Arrays.equals(this.effectiveAppliedLabels, other.getEffectiveAppliedLabels()))) &&
-            ((this.disableSameAdvertiserCompetitiveExclusion==null && other.getDisableSameAdvertiserCompetitiveExclusion()==null) || 
-             (this.disableSameAdvertiserCompetitiveExclusion!=null &&
-              this.disableSameAdvertiserCompetitiveExclusion.equals(other.getDisableSameAdvertiserCompetitiveExclusion()))) &&
-            ((this.lastModifiedByApp==null && other.getLastModifiedByApp()==null) || 
-             (this.lastModifiedByApp!=null &&
-              this.lastModifiedByApp.equals(other.getLastModifiedByApp()))) &&
-            ((this.notes==null && other.getNotes()==null) || 
-             (this.notes!=null &&
-              this.notes.equals(other.getNotes()))) &&
-            ((this.lastModifiedDateTime==null && other.getLastModifiedDateTime()==null) || 
-             (this.lastModifiedDateTime!=null &&
-              this.lastModifiedDateTime.equals(other.getLastModifiedDateTime()))) &&
-            ((this.creationDateTime==null && other.getCreationDateTime()==null) || 
-             (this.creationDateTime!=null &&
-              this.creationDateTime.equals(other.getCreationDateTime()))) &&
-            ((this.isPrioritizedPreferredDealsEnabled==null && other.getIsPrioritizedPreferredDealsEnabled()==null) || 
-             (this.isPrioritizedPreferredDealsEnabled!=null &&
-              this.isPrioritizedPreferredDealsEnabled.equals(other.getIsPrioritizedPreferredDealsEnabled()))) &&
-            ((this.adExchangeAuctionOpeningPriority==null && other.getAdExchangeAuctionOpeningPriority()==null) || 
-             (this.adExchangeAuctionOpeningPriority!=null &&
-              this.adExchangeAuctionOpeningPriority.equals(other.getAdExchangeAuctionOpeningPriority()))) &&
-            ((this.customFieldValues==null && other.getCustomFieldValues()==null) || 
-             (this.customFieldValues!=null &&
-              java.util.Arrays.equals(this.customFieldValues, other.getCustomFieldValues()))) &&
-            ((this.isSetTopBoxEnabled==null && other.getIsSetTopBoxEnabled()==null) || 
-             (this.isSetTopBoxEnabled!=null &&
-              this.isSetTopBoxEnabled.equals(other.getIsSetTopBoxEnabled()))) &&
-            ((this.isMissingCreatives==null && other.getIsMissingCreatives()==null) || 
-             (this.isMissingCreatives!=null &&
-              this.isMissingCreatives.equals(other.getIsMissingCreatives()))) &&
-            ((this.setTopBoxDisplayInfo==null && other.getSetTopBoxDisplayInfo()==null) || 
-             (this.setTopBoxDisplayInfo!=null &&
-              this.setTopBoxDisplayInfo.equals(other.getSetTopBoxDisplayInfo()))) &&
-            ((this.videoMaxDuration==null && other.getVideoMaxDuration()==null) || 
-             (this.videoMaxDuration!=null &&
-              this.videoMaxDuration.equals(other.getVideoMaxDuration()))) &&
-            ((this.primaryGoal==null && other.getPrimaryGoal()==null) || 
-             (this.primaryGoal!=null &&
-              this.primaryGoal.equals(other.getPrimaryGoal()))) &&
-            ((this.secondaryGoals==null && other.getSecondaryGoals()==null) || 
-             (this.secondaryGoals!=null &&
-              java.util.Arrays.equals(this.secondaryGoals, other.getSecondaryGoals()))) &&
-            ((this.grpSettings==null && other.getGrpSettings()==null) || 
-             (this.grpSettings!=null &&
-              this.grpSettings.equals(other.getGrpSettings())));
-        __equalsCalc = null;
-        return _equals;
-    }
-
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
-            return 0;
-        }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getOrderId() != null) {
-            _hashCode += getOrderId().hashCode();
-        }
-        if (getId() != null) {
-            _hashCode += getId().hashCode();
-        }
-        if (getName() != null) {
-            _hashCode += getName().hashCode();
-        }
-        if (getExternalId() != null) {
-            _hashCode += getExternalId().hashCode();
-        }
-        if (getOrderName() != null) {
-            _hashCode += getOrderName().hashCode();
-        }
-        if (getStartDateTime() != null) {
-            _hashCode += getStartDateTime().hashCode();
+        try {
+            boolean _equals;
+            _equals = true && 
+                ((this.orderId==null && other.getOrderId()==null) || 
+                 (this.orderId!=null &&
+                  this.orderId.equals(other.getOrderId()))) &&
+                ((this.id==null && other.getId()==null) || 
+                 (this.id!=null &&
+                  this.id.equals(other.getId()))) &&
+                ((this.name==null && other.getName()==null) || 
+                 (this.name!=null &&
+                  this.name.equals(other.getName()))) &&
+                ((this.externalId==null && other.getExternalId()==null) || 
+                 (this.externalId!=null &&
+                  this.externalId.equals(other.getExternalId()))) &&
+                ((this.orderName==null && other.getOrderName()==null) || 
+                 (this.orderName!=null &&
+                  this.orderName.equals(other.getOrderName()))) &&
+                ((this.startDateTime==null && other.getStartDateTime()==null) || 
+                 (this.startDateTime!=null &&
+                  this.startDateTime.equals(other.getStartDateTime()))) &&
+                ((this.startDateTimeType==null && other.getStartDateTimeType()==null) || 
+                 (this.startDateTimeType!=null &&
+                  this.startDateTimeType.equals(other.getStartDateTimeType()))) &&
+                ((this.endDateTime==null && other.getEndDateTime()==null) || 
+                 (this.endDateTime!=null &&
+                  this.endDateTime.equals(other.getEndDateTime()))) &&
+                ((this.autoExtensionDays==null && other.getAutoExtensionDays()==null) || 
+                 (this.autoExtensionDays!=null &&
+                  this.autoExtensionDays.equals(other.getAutoExtensionDays()))) &&
+                ((this.unlimitedEndDateTime==null && other.getUnlimitedEndDateTime()==null) || 
+                 (this.unlimitedEndDateTime!=null &&
+                  this.unlimitedEndDateTime.equals(other.getUnlimitedEndDateTime()))) &&
+                ((this.creativeRotationType==null && other.getCreativeRotationType()==null) || 
+                 (this.creativeRotationType!=null &&
+                  this.creativeRotationType.equals(other.getCreativeRotationType()))) &&
+                ((this.deliveryRateType==null && other.getDeliveryRateType()==null) || 
+                 (this.deliveryRateType!=null &&
+                  this.deliveryRateType.equals(other.getDeliveryRateType()))) &&
+                ((this.roadblockingType==null && other.getRoadblockingType()==null) || 
+                 (this.roadblockingType!=null &&
+                  this.roadblockingType.equals(other.getRoadblockingType()))) &&
+                ((this.frequencyCaps==null && other.getFrequencyCaps()==null) || 
+                 (this.frequencyCaps!=null &&
+                  java.util.Arrays.equals(this.frequencyCaps, other.getFrequencyCaps()))) &&
+                ((this.lineItemType==null && other.getLineItemType()==null) || 
+                 (this.lineItemType!=null &&
+                  this.lineItemType.equals(other.getLineItemType()))) &&
+                ((this.priority==null && other.getPriority()==null) || 
+                 (this.priority!=null &&
+                  this.priority.equals(other.getPriority()))) &&
+                ((this.costPerUnit==null && other.getCostPerUnit()==null) || 
+                 (this.costPerUnit!=null &&
+                  this.costPerUnit.equals(other.getCostPerUnit()))) &&
+                ((this.valueCostPerUnit==null && other.getValueCostPerUnit()==null) || 
+                 (this.valueCostPerUnit!=null &&
+                  this.valueCostPerUnit.equals(other.getValueCostPerUnit()))) &&
+                ((this.costType==null && other.getCostType()==null) || 
+                 (this.costType!=null &&
+                  this.costType.equals(other.getCostType()))) &&
+                ((this.discountType==null && other.getDiscountType()==null) || 
+                 (this.discountType!=null &&
+                  this.discountType.equals(other.getDiscountType()))) &&
+                ((this.discount==null && other.getDiscount()==null) || 
+                 (this.discount!=null &&
+                  this.discount.equals(other.getDiscount()))) &&
+                ((this.contractedUnitsBought==null && other.getContractedUnitsBought()==null) || 
+                 (this.contractedUnitsBought!=null &&
+                  this.contractedUnitsBought.equals(other.getContractedUnitsBought()))) &&
+                ((this.creativePlaceholders==null && other.getCreativePlaceholders()==null) || 
+                 (this.creativePlaceholders!=null &&
+                  java.util.Arrays.equals(this.creativePlaceholders, other.getCreativePlaceholders()))) &&
+                ((this.activityAssociations==null && other.getActivityAssociations()==null) || 
+                 (this.activityAssociations!=null &&
+                  java.util.Arrays.equals(this.activityAssociations, other.getActivityAssociations()))) &&
+                ((this.environmentType==null && other.getEnvironmentType()==null) || 
+                 (this.environmentType!=null &&
+                  this.environmentType.equals(other.getEnvironmentType()))) &&
+                ((this.companionDeliveryOption==null && other.getCompanionDeliveryOption()==null) || 
+                 (this.companionDeliveryOption!=null &&
+                  this.companionDeliveryOption.equals(other.getCompanionDeliveryOption()))) &&
+                ((this.creativePersistenceType==null && other.getCreativePersistenceType()==null) || 
+                 (this.creativePersistenceType!=null &&
+                  this.creativePersistenceType.equals(other.getCreativePersistenceType()))) &&
+                ((this.allowOverbook==null && other.getAllowOverbook()==null) || 
+                 (this.allowOverbook!=null &&
+                  this.allowOverbook.equals(other.getAllowOverbook()))) &&
+                ((this.skipInventoryCheck==null && other.getSkipInventoryCheck()==null) || 
+                 (this.skipInventoryCheck!=null &&
+                  this.skipInventoryCheck.equals(other.getSkipInventoryCheck()))) &&
+                ((this.skipCrossSellingRuleWarningChecks==null && other.getSkipCrossSellingRuleWarningChecks()==null) || 
+                 (this.skipCrossSellingRuleWarningChecks!=null &&
+                  this.skipCrossSellingRuleWarningChecks.equals(other.getSkipCrossSellingRuleWarningChecks()))) &&
+                ((this.reserveAtCreation==null && other.getReserveAtCreation()==null) || 
+                 (this.reserveAtCreation!=null &&
+                  this.reserveAtCreation.equals(other.getReserveAtCreation()))) &&
+                ((this.stats==null && other.getStats()==null) || 
+                 (this.stats!=null &&
+                  this.stats.equals(other.getStats()))) &&
+                ((this.deliveryIndicator==null && other.getDeliveryIndicator()==null) || 
+                 (this.deliveryIndicator!=null &&
+                  this.deliveryIndicator.equals(other.getDeliveryIndicator()))) &&
+                ((this.deliveryData==null && other.getDeliveryData()==null) || 
+                 (this.deliveryData!=null &&
+                  this.deliveryData.equals(other.getDeliveryData()))) &&
+                ((this.budget==null && other.getBudget()==null) || 
+                 (this.budget!=null &&
+                  this.budget.equals(other.getBudget()))) &&
+                ((this.status==null && other.getStatus()==null) || 
+                 (this.status!=null &&
+                  this.status.equals(other.getStatus()))) &&
+                ((this.reservationStatus==null && other.getReservationStatus()==null) || 
+                 (this.reservationStatus!=null &&
+                  this.reservationStatus.equals(other.getReservationStatus()))) &&
+                ((this.isArchived==null && other.getIsArchived()==null) || 
+                 (this.isArchived!=null &&
+                  this.isArchived.equals(other.getIsArchived()))) &&
+                ((this.webPropertyCode==null && other.getWebPropertyCode()==null) || 
+                 (this.webPropertyCode!=null &&
+                  this.webPropertyCode.equals(other.getWebPropertyCode()))) &&
+                ((this.appliedLabels==null && other.getAppliedLabels()==null) || 
+                 (this.appliedLabels!=null &&
+                  java.util.Arrays.equals(this.appliedLabels, other.getAppliedLabels()))) &&
+                ((this.effectiveAppliedLabels==null && other.getEffectiveAppliedLabels()==null) || 
+                 (this.effectiveAppliedLabels!=null &&
+                  java.util.Arrays.equals(this.effectiveAppliedLabels, other.getEffectiveAppliedLabels()))) &&
+                ((this.disableSameAdvertiserCompetitiveExclusion==null && other.getDisableSameAdvertiserCompetitiveExclusion()==null) || 
+                 (this.disableSameAdvertiserCompetitiveExclusion!=null &&
+                  this.disableSameAdvertiserCompetitiveExclusion.equals(other.getDisableSameAdvertiserCompetitiveExclusion()))) &&
+                ((this.lastModifiedByApp==null && other.getLastModifiedByApp()==null) || 
+                 (this.lastModifiedByApp!=null &&
+                  this.lastModifiedByApp.equals(other.getLastModifiedByApp()))) &&
+                ((this.notes==null && other.getNotes()==null) || 
+                 (this.notes!=null &&
+                  this.notes.equals(other.getNotes()))) &&
+                ((this.lastModifiedDateTime==null && other.getLastModifiedDateTime()==null) || 
+                 (this.lastModifiedDateTime!=null &&
+                  this.lastModifiedDateTime.equals(other.getLastModifiedDateTime()))) &&
+                ((this.creationDateTime==null && other.getCreationDateTime()==null) || 
+                 (this.creationDateTime!=null &&
+                  this.creationDateTime.equals(other.getCreationDateTime()))) &&
+                ((this.isPrioritizedPreferredDealsEnabled==null && other.getIsPrioritizedPreferredDealsEnabled()==null) || 
+                 (this.isPrioritizedPreferredDealsEnabled!=null &&
+                  this.isPrioritizedPreferredDealsEnabled.equals(other.getIsPrioritizedPreferredDealsEnabled()))) &&
+                ((this.adExchangeAuctionOpeningPriority==null && other.getAdExchangeAuctionOpeningPriority()==null) || 
+                 (this.adExchangeAuctionOpeningPriority!=null &&
+                  this.adExchangeAuctionOpeningPriority.equals(other.getAdExchangeAuctionOpeningPriority()))) &&
+                ((this.customFieldValues==null && other.getCustomFieldValues()==null) || 
+                 (this.customFieldValues!=null &&
+                  java.util.Arrays.equals(this.customFieldValues, other.getCustomFieldValues()))) &&
+                ((this.isSetTopBoxEnabled==null && other.getIsSetTopBoxEnabled()==null) || 
+                 (this.isSetTopBoxEnabled!=null &&
+                  this.isSetTopBoxEnabled.equals(other.getIsSetTopBoxEnabled()))) &&
+                ((this.isMissingCreatives==null && other.getIsMissingCreatives()==null) || 
+                 (this.isMissingCreatives!=null &&
+                  this.isMissingCreatives.equals(other.getIsMissingCreatives()))) &&
+                ((this.setTopBoxDisplayInfo==null && other.getSetTopBoxDisplayInfo()==null) || 
+                 (this.setTopBoxDisplayInfo!=null &&
+                  this.setTopBoxDisplayInfo.equals(other.getSetTopBoxDisplayInfo()))) &&
+                ((this.videoMaxDuration==null && other.getVideoMaxDuration()==null) || 
+                 (this.videoMaxDuration!=null &&
+                  this.videoMaxDuration.equals(other.getVideoMaxDuration()))) &&
+                ((this.primaryGoal==null && other.getPrimaryGoal()==null) || 
+                 (this.primaryGoal!=null &&
+                  this.primaryGoal.equals(other.getPrimaryGoal()))) &&
+                ((this.secondaryGoals==null && other.getSecondaryGoals()==null) || 
+                 (this.secondaryGoals!=null &&
+                  java.util.Arrays.equals(this.secondaryGoals, other.getSecondaryGoals()))) &&
+                ((this.grpSettings==null && other.getGrpSettings()==null) || 
+                 (this.grpSettings!=null &&
+                  this.grpSettings.equals(other.getGrpSettings())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
         }
-        if (getStartDateTimeType() != null) {
-            _hashCode += getStartDateTimeType().hashCode();
-        }
-        if (getEndDateTime() != null) {
-            _hashCode += getEndDateTime().hashCode();
-        }
-        if (getAutoExtensionDays() != null) {
-            _hashCode += getAutoExtensionDays().hashCode();
-        }
-        if (getUnlimitedEndDateTime() != null) {
-            _hashCode += getUnlimitedEndDateTime().hashCode();
-        }
-        if (getCreativeRotationType() != null) {
-            _hashCode += getCreativeRotationType().hashCode();
-        }
-        if (getDeliveryRateType() != null) {
-            _hashCode += getDeliveryRateType().hashCode();
-        }
-        if (getRoadblockingType() != null) {
-            _hashCode += getRoadblockingType().hashCode();
+    }
+
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(LineItemSummary.class, this)) {
+            return 0;
         }
-        if (getFrequencyCaps() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getFrequencyCaps());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getFrequencyCaps(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+        try {
+            int _hashCode = 1;
+            if (getOrderId() != null) {
+                _hashCode += getOrderId().hashCode();
+            }
+            if (getId() != null) {
+                _hashCode += getId().hashCode();
+            }
+            if (getName() != null) {
+                _hashCode += getName().hashCode();
+            }
+            if (getExternalId() != null) {
+                _hashCode += getExternalId().hashCode();
+            }
+            if (getOrderName() != null) {
+                _hashCode += getOrderName().hashCode();
+            }
+            if (getStartDateTime() != null) {
+                _hashCode += getStartDateTime().hashCode();
+            }
+            if (getStartDateTimeType() != null) {
+                _hashCode += getStartDateTimeType().hashCode();
+            }
+            if (getEndDateTime() != null) {
+                _hashCode += getEndDateTime().hashCode();
+            }
+            if (getAutoExtensionDays() != null) {
+                _hashCode += getAutoExtensionDays().hashCode();
+            }
+            if (getUnlimitedEndDateTime() != null) {
+                _hashCode += getUnlimitedEndDateTime().hashCode();
+            }
+            if (getCreativeRotationType() != null) {
+                _hashCode += getCreativeRotationType().hashCode();
+            }
+            if (getDeliveryRateType() != null) {
+                _hashCode += getDeliveryRateType().hashCode();
+            }
+            if (getRoadblockingType() != null) {
+                _hashCode += getRoadblockingType().hashCode();
+            }
+            if (getFrequencyCaps() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getFrequencyCaps());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getFrequencyCaps(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
-        }
-        if (getLineItemType() != null) {
-            _hashCode += getLineItemType().hashCode();
-        }
-        if (getPriority() != null) {
-            _hashCode += getPriority().hashCode();
-        }
-        if (getCostPerUnit() != null) {
-            _hashCode += getCostPerUnit().hashCode();
-        }
-        if (getValueCostPerUnit() != null) {
-            _hashCode += getValueCostPerUnit().hashCode();
-        }
-        if (getCostType() != null) {
-            _hashCode += getCostType().hashCode();
-        }
-        if (getDiscountType() != null) {
-            _hashCode += getDiscountType().hashCode();
-        }
-        if (getDiscount() != null) {
-            _hashCode += getDiscount().hashCode();
-        }
-        if (getContractedUnitsBought() != null) {
-            _hashCode += getContractedUnitsBought().hashCode();
-        }
-        if (getCreativePlaceholders() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getCreativePlaceholders());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getCreativePlaceholders(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+            if (getLineItemType() != null) {
+                _hashCode += getLineItemType().hashCode();
+            }
+            if (getPriority() != null) {
+                _hashCode += getPriority().hashCode();
+            }
+            if (getCostPerUnit() != null) {
+                _hashCode += getCostPerUnit().hashCode();
+            }
+            if (getValueCostPerUnit() != null) {
+                _hashCode += getValueCostPerUnit().hashCode();
+            }
+            if (getCostType() != null) {
+                _hashCode += getCostType().hashCode();
+            }
+            if (getDiscountType() != null) {
+                _hashCode += getDiscountType().hashCode();
+            }
+            if (getDiscount() != null) {
+                _hashCode += getDiscount().hashCode();
+            }
+            if (getContractedUnitsBought() != null) {
+                _hashCode += getContractedUnitsBought().hashCode();
+            }
+            if (getCreativePlaceholders() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getCreativePlaceholders());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getCreativePlaceholders(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
-        }
-        if (getActivityAssociations() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getActivityAssociations());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getActivityAssociations(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+            if (getActivityAssociations() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getActivityAssociations());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getActivityAssociations(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
-        }
-        if (getEnvironmentType() != null) {
-            _hashCode += getEnvironmentType().hashCode();
-        }
-        if (getCompanionDeliveryOption() != null) {
-            _hashCode += getCompanionDeliveryOption().hashCode();
-        }
-        if (getCreativePersistenceType() != null) {
-            _hashCode += getCreativePersistenceType().hashCode();
-        }
-        if (getAllowOverbook() != null) {
-            _hashCode += getAllowOverbook().hashCode();
-        }
-        if (getSkipInventoryCheck() != null) {
-            _hashCode += getSkipInventoryCheck().hashCode();
-        }
-        if (getSkipCrossSellingRuleWarningChecks() != null) {
-            _hashCode += getSkipCrossSellingRuleWarningChecks().hashCode();
-        }
-        if (getReserveAtCreation() != null) {
-            _hashCode += getReserveAtCreation().hashCode();
-        }
-        if (getStats() != null) {
-            _hashCode += getStats().hashCode();
-        }
-        if (getDeliveryIndicator() != null) {
-            _hashCode += getDeliveryIndicator().hashCode();
-        }
-        if (getDeliveryData() != null) {
-            _hashCode += getDeliveryData().hashCode();
-        }
-        if (getBudget() != null) {
-            _hashCode += getBudget().hashCode();
-        }
-        if (getStatus() != null) {
-            _hashCode += getStatus().hashCode();
-        }
-        if (getReservationStatus() != null) {
-            _hashCode += getReservationStatus().hashCode();
-        }
-        if (getIsArchived() != null) {
-            _hashCode += getIsArchived().hashCode();
-        }
-        if (getWebPropertyCode() != null) {
-            _hashCode += getWebPropertyCode().hashCode();
-        }
-        if (getAppliedLabels() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getAppliedLabels());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getAppliedLabels(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+            if (getEnvironmentType() != null) {
+                _hashCode += getEnvironmentType().hashCode();
+            }
+            if (getCompanionDeliveryOption() != null) {
+                _hashCode += getCompanionDeliveryOption().hashCode();
+            }
+            if (getCreativePersistenceType() != null) {
+                _hashCode += getCreativePersistenceType().hashCode();
+            }
+            if (getAllowOverbook() != null) {
+                _hashCode += getAllowOverbook().hashCode();
+            }
+            if (getSkipInventoryCheck() != null) {
+                _hashCode += getSkipInventoryCheck().hashCode();
+            }
+            if (getSkipCrossSellingRuleWarningChecks() != null) {
+                _hashCode += getSkipCrossSellingRuleWarningChecks().hashCode();
+            }
+            if (getReserveAtCreation() != null) {
+                _hashCode += getReserveAtCreation().hashCode();
+            }
+            if (getStats() != null) {
+                _hashCode += getStats().hashCode();
+            }
+            if (getDeliveryIndicator() != null) {
+                _hashCode += getDeliveryIndicator().hashCode();
+            }
+            if (getDeliveryData() != null) {
+                _hashCode += getDeliveryData().hashCode();
+            }
+            if (getBudget() != null) {
+                _hashCode += getBudget().hashCode();
+            }
+            if (getStatus() != null) {
+                _hashCode += getStatus().hashCode();
+            }
+            if (getReservationStatus() != null) {
+                _hashCode += getReservationStatus().hashCode();
+            }
+            if (getIsArchived() != null) {
+                _hashCode += getIsArchived().hashCode();
+            }
+            if (getWebPropertyCode() != null) {
+                _hashCode += getWebPropertyCode().hashCode();
+            }
+            if (getAppliedLabels() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getAppliedLabels());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getAppliedLabels(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
-        }
-        if (getEffectiveAppliedLabels() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getEffectiveAppliedLabels());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getEffectiveAppliedLabels(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+            if (getEffectiveAppliedLabels() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getEffectiveAppliedLabels());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getEffectiveAppliedLabels(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
-        }
-        if (getDisableSameAdvertiserCompetitiveExclusion() != null) {
-            _hashCode += getDisableSameAdvertiserCompetitiveExclusion().hashCode();
-        }
-        if (getLastModifiedByApp() != null) {
-            _hashCode += getLastModifiedByApp().hashCode();
-        }
-        if (getNotes() != null) {
-            _hashCode += getNotes().hashCode();
-        }
-        if (getLastModifiedDateTime() != null) {
-            _hashCode += getLastModifiedDateTime().hashCode();
-        }
-        if (getCreationDateTime() != null) {
-            _hashCode += getCreationDateTime().hashCode();
-        }
-        if (getIsPrioritizedPreferredDealsEnabled() != null) {
-            _hashCode += getIsPrioritizedPreferredDealsEnabled().hashCode();
-        }
-        if (getAdExchangeAuctionOpeningPriority() != null) {
-            _hashCode += getAdExchangeAuctionOpeningPriority().hashCode();
-        }
-        if (getCustomFieldValues() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getCustomFieldValues());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getCustomFieldValues(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+            if (getDisableSameAdvertiserCompetitiveExclusion() != null) {
+                _hashCode += getDisableSameAdvertiserCompetitiveExclusion().hashCode();
+            }
+            if (getLastModifiedByApp() != null) {
+                _hashCode += getLastModifiedByApp().hashCode();
+            }
+            if (getNotes() != null) {
+                _hashCode += getNotes().hashCode();
+            }
+            if (getLastModifiedDateTime() != null) {
+                _hashCode += getLastModifiedDateTime().hashCode();
+            }
+            if (getCreationDateTime() != null) {
+                _hashCode += getCreationDateTime().hashCode();
+            }
+            if (getIsPrioritizedPreferredDealsEnabled() != null) {
+                _hashCode += getIsPrioritizedPreferredDealsEnabled().hashCode();
+            }
+            if (getAdExchangeAuctionOpeningPriority() != null) {
+                _hashCode += getAdExchangeAuctionOpeningPriority().hashCode();
+            }
+            if (getCustomFieldValues() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getCustomFieldValues());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getCustomFieldValues(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
-        }
-        if (getIsSetTopBoxEnabled() != null) {
-            _hashCode += getIsSetTopBoxEnabled().hashCode();
-        }
-        if (getIsMissingCreatives() != null) {
-            _hashCode += getIsMissingCreatives().hashCode();
-        }
-        if (getSetTopBoxDisplayInfo() != null) {
-            _hashCode += getSetTopBoxDisplayInfo().hashCode();
-        }
-        if (getVideoMaxDuration() != null) {
-            _hashCode += getVideoMaxDuration().hashCode();
-        }
-        if (getPrimaryGoal() != null) {
-            _hashCode += getPrimaryGoal().hashCode();
-        }
-        if (getSecondaryGoals() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getSecondaryGoals());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getSecondaryGoals(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+            if (getIsSetTopBoxEnabled() != null) {
+                _hashCode += getIsSetTopBoxEnabled().hashCode();
+            }
+            if (getIsMissingCreatives() != null) {
+                _hashCode += getIsMissingCreatives().hashCode();
+            }
+            if (getSetTopBoxDisplayInfo() != null) {
+                _hashCode += getSetTopBoxDisplayInfo().hashCode();
+            }
+            if (getVideoMaxDuration() != null) {
+                _hashCode += getVideoMaxDuration().hashCode();
+            }
+            if (getPrimaryGoal() != null) {
+                _hashCode += getPrimaryGoal().hashCode();
+            }
+            if (getSecondaryGoals() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getSecondaryGoals());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getSecondaryGoals(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
+            if (getGrpSettings() != null) {
+                _hashCode += getGrpSettings().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        if (getGrpSettings() != null) {
-            _hashCode += getGrpSettings().hashCode();
-        }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(LineItemSummary.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(LineItemSummary.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://www.google.com/apis/ads/publisher/v201602", "LineItemSummary"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("orderId");
@@ -3265,13 +3270,24 @@ public class LineItemSummary  implements java.io.Serializable {
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (LineItemSummary.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -3283,7 +3299,7 @@ public class LineItemSummary  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -3295,7 +3311,7 @@ public class LineItemSummary  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
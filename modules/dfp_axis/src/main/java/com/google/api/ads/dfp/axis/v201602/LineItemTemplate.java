@@ -467,116 +467,121 @@ public class LineItemTemplate  implements java.io.Serializable {
         this.creativeRotationType = creativeRotationType;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof LineItemTemplate)) return false;
         LineItemTemplate other = (LineItemTemplate) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(LineItemTemplate.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = true && 
-            ((this.id==null && other.getId()==null) || 
-             (this.id!=null &&
-              this.id.equals(other.getId()))) &&
-            ((this.name==null && other.getName()==null) || 
-             (this.name!=null &&
-              this.name.equals(other.getName()))) &&
-            ((this.isDefault==null && other.getIsDefault()==null) || 
-             (this.isDefault!=null &&
-              this.isDefault.equals(other.getIsDefault()))) &&
-            ((this.lineItemName==null && other.getLineItemName()==null) || 
-             (this.lineItemName!=null &&
-              this.lineItemName.equals(other.getLineItemName()))) &&
-            ((this.targetPlatform==null && other.getTargetPlatform()==null) || 
-             (this.targetPlatform!=null &&
-              this.targetPlatform.equals(other.getTargetPlatform()))) &&
-            ((this.enabledForSameAdvertiserException==null && other.getEnabledForSameAdvertiserException()==null) || 
-             (this.enabledForSameAdvertiserException!=null &&
-              this.enabledForSameAdvertiserException.equals(other.getEnabledForSameAdvertiserException()))) &&
-            ((this.notes==null && other.getNotes()==null) || 
-             (this.notes!=null &&
-              this.notes.equals(other.getNotes()))) &&
-            ((this.lineItemType==null && other.getLineItemType()==null) || 
-             (this.lineItemType!=null &&
-              this.lineItemType.equals(other.getLineItemType()))) &&
-            ((this.startTime==null && other.getStartTime()==null) || 
-             (this.startTime!=null &&
-              this.startTime.equals(other.getStartTime()))) &&
-            ((this.endTime==null && other.getEndTime()==null) || 
-             (this.endTime!=null &&
-              this.endTime.equals(other.getEndTime()))) &&
-            ((this.deliveryRateType==null && other.getDeliveryRateType()==null) || 
-             (this.deliveryRateType!=null &&
-              this.deliveryRateType.equals(other.getDeliveryRateType()))) &&
-            ((this.roadblockingType==null && other.getRoadblockingType()==null) || 
-             (this.roadblockingType!=null &&
-              this.roadblockingType.equals(other.getRoadblockingType()))) &&
-            ((this.creativeRotationType==null && other.getCreativeRotationType()==null) || 
-             (this.creativeRotationType!=null &&
-              this.creativeRotationType.equals(other.getCreativeRotationType())));
-        __equalsCalc = null;
-        return _equals;
-    }
-
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
-            return 0;
-        }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getId() != null) {
-            _hashCode += getId().hashCode();
-        }
-        if (getName() != null) {
-            _hashCode += getName().hashCode();
-        }
-        if (getIsDefault() != null) {
-            _hashCode += getIsDefault().hashCode();
-        }
-        if (getLineItemName() != null) {
-            _hashCode += getLineItemName().hashCode();
-        }
-        if (getTargetPlatform() != null) {
-            _hashCode += getTargetPlatform().hashCode();
-        }
-        if (getEnabledForSameAdvertiserException() != null) {
-            _hashCode += getEnabledForSameAdvertiserException().hashCode();
-        }
-        if (getNotes() != null) {
-            _hashCode += getNotes().hashCode();
-        }
-        if (getLineItemType() != null) {
-            _hashCode += getLineItemType().hashCode();
+        try {
+            boolean _equals;
+            _equals = true && 
+                ((this.id==null && other.getId()==null) || 
+                 (this.id!=null &&
+                  this.id.equals(other.getId()))) &&
+                ((this.name==null && other.getName()==null) || 
+                 (this.name!=null &&
+                  this.name.equals(other.getName()))) &&
+                ((this.isDefault==null && other.getIsDefault()==null) || 
+                 (this.isDefault!=null &&
+                  this.isDefault.equals(other.getIsDefault()))) &&
+                ((this.lineItemName==null && other.getLineItemName()==null) || 
+                 (this.lineItemName!=null &&
+                  this.lineItemName.equals(other.getLineItemName()))) &&
+                ((this.targetPlatform==null && other.getTargetPlatform()==null) || 
+                 (this.targetPlatform!=null &&
+                  this.targetPlatform.equals(other.getTargetPlatform()))) &&
+                ((this.enabledForSameAdvertiserException==null && other.getEnabledForSameAdvertiserException()==null) || 
+                 (this.enabledForSameAdvertiserException!=null &&
+                  this.enabledForSameAdvertiserException.equals(other.getEnabledForSameAdvertiserException()))) &&
+                ((this.notes==null && other.getNotes()==null) || 
+                 (this.notes!=null &&
+                  this.notes.equals(other.getNotes()))) &&
+                ((this.lineItemType==null && other.getLineItemType()==null) || 
+                 (this.lineItemType!=null &&
+                  this.lineItemType.equals(other.getLineItemType()))) &&
+                ((this.startTime==null && other.getStartTime()==null) || 
+                 (this.startTime!=null &&
+                  this.startTime.equals(other.getStartTime()))) &&
+                ((this.endTime==null && other.getEndTime()==null) || 
+                 (this.endTime!=null &&
+                  this.endTime.equals(other.getEndTime()))) &&
+                ((this.deliveryRateType==null && other.getDeliveryRateType()==null) || 
+                 (this.deliveryRateType!=null &&
+                  this.deliveryRateType.equals(other.getDeliveryRateType()))) &&
+                ((this.roadblockingType==null && other.getRoadblockingType()==null) || 
+                 (this.roadblockingType!=null &&
+                  this.roadblockingType.equals(other.getRoadblockingType()))) &&
+                ((this.creativeRotationType==null && other.getCreativeRotationType()==null) || 
+                 (this.creativeRotationType!=null &&
+                  this.creativeRotationType.equals(other.getCreativeRotationType())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
         }
-        if (getStartTime() != null) {
-            _hashCode += getStartTime().hashCode();
-        }
-        if (getEndTime() != null) {
-            _hashCode += getEndTime().hashCode();
-        }
-        if (getDeliveryRateType() != null) {
-            _hashCode += getDeliveryRateType().hashCode();
-        }
-        if (getRoadblockingType() != null) {
-            _hashCode += getRoadblockingType().hashCode();
+    }
+
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(LineItemTemplate.class, this)) {
+            return 0;
         }
-        if (getCreativeRotationType() != null) {
-            _hashCode += getCreativeRotationType().hashCode();
+        try {
+            int _hashCode = 1;
+            if (getId() != null) {
+                _hashCode += getId().hashCode();
+            }
+            if (getName() != null) {
+                _hashCode += getName().hashCode();
+            }
+            if (getIsDefault() != null) {
+                _hashCode += getIsDefault().hashCode();
+            }
+            if (getLineItemName() != null) {
+                _hashCode += getLineItemName().hashCode();
+            }
+            if (getTargetPlatform() != null) {
+                _hashCode += getTargetPlatform().hashCode();
+            }
+            if (getEnabledForSameAdvertiserException() != null) {
+                _hashCode += getEnabledForSameAdvertiserException().hashCode();
+            }
+            if (getNotes() != null) {
+                _hashCode += getNotes().hashCode();
+            }
+            if (getLineItemType() != null) {
+                _hashCode += getLineItemType().hashCode();
+            }
+            if (getStartTime() != null) {
+                _hashCode += getStartTime().hashCode();
+            }
+            if (getEndTime() != null) {
+                _hashCode += getEndTime().hashCode();
+            }
+            if (getDeliveryRateType() != null) {
+                _hashCode += getDeliveryRateType().hashCode();
+            }
+            if (getRoadblockingType() != null) {
+                _hashCode += getRoadblockingType().hashCode();
+            }
+            if (getCreativeRotationType() != null) {
+                _hashCode += getCreativeRotationType().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(LineItemTemplate.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(LineItemTemplate.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://www.google.com/apis/ads/publisher/v201602", "LineItemTemplate"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("id");
@@ -669,13 +674,24 @@ public class LineItemTemplate  implements java.io.Serializable {
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (LineItemTemplate.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -687,7 +703,7 @@ public class LineItemTemplate  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -699,7 +715,7 @@ public class LineItemTemplate  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
@@ -125,58 +125,63 @@ public class ListStringCreativeTemplateVariable  extends com.google.api.ads.dfp.
         this.allowOtherChoice = allowOtherChoice;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof ListStringCreativeTemplateVariable)) return false;
         ListStringCreativeTemplateVariable other = (ListStringCreativeTemplateVariable) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(ListStringCreativeTemplateVariable.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = super.equals(obj) && 
-            ((this.choices==null && other.getChoices()==null) || 
-             (this.choices!=null &&
-              java.util.Arrays.equals(this.choices, other.getChoices()))) &&
-            ((this.allowOtherChoice==null && other.getAllowOtherChoice()==null) || 
-             (this.allowOtherChoice!=null &&
-              this.allowOtherChoice.equals(other.getAllowOtherChoice())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = super.equals(obj) && 
+                ((this.choices==null && other.getChoices()==null) || 
+                 (this.choices!=null &&
+                  java.util.Arrays.equals(this.choices, other.getChoices()))) &&
+                ((this.allowOtherChoice==null && other.getAllowOtherChoice()==null) || 
+                 (this.allowOtherChoice!=null &&
+                  this.allowOtherChoice.equals(other.getAllowOtherChoice())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(ListStringCreativeTemplateVariable.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = super.hashCode();
-        if (getChoices() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getChoices());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getChoices(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+        try {
+            int _hashCode = super.hashCode();
+            if (getChoices() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getChoices());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getChoices(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
+            if (getAllowOtherChoice() != null) {
+                _hashCode += getAllowOtherChoice().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        if (getAllowOtherChoice() != null) {
-            _hashCode += getAllowOtherChoice().hashCode();
-        }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(ListStringCreativeTemplateVariable.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(ListStringCreativeTemplateVariable.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://www.google.com/apis/ads/publisher/v201602", "ListStringCreativeTemplateVariable"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("choices");
@@ -193,13 +198,24 @@ public class ListStringCreativeTemplateVariable  extends com.google.api.ads.dfp.
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (ListStringCreativeTemplateVariable.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -211,7 +227,7 @@ public class ListStringCreativeTemplateVariable  extends com.google.api.ads.dfp.
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -223,7 +239,7 @@ public class ListStringCreativeTemplateVariable  extends com.google.api.ads.dfp.
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
@@ -548,144 +548,149 @@ public class LiveStreamEvent  implements java.io.Serializable {
         this.dvrWindowSeconds = dvrWindowSeconds;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof LiveStreamEvent)) return false;
         LiveStreamEvent other = (LiveStreamEvent) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(LiveStreamEvent.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = true && 
-            ((this.id==null && other.getId()==null) || 
-             (this.id!=null &&
-              this.id.equals(other.getId()))) &&
-            ((this.name==null && other.getName()==null) || 
-             (this.name!=null &&
-              this.name.equals(other.getName()))) &&
-            ((this.description==null && other.getDescription()==null) || 
-             (this.description!=null &&
-              this.description.equals(other.getDescription()))) &&
-            ((this.status==null && other.getStatus()==null) || 
-             (this.status!=null &&
-              this.status.equals(other.getStatus()))) &&
-            ((this.creationDateTime==null && other.getCreationDateTime()==null) || 
-             (this.creationDateTime!=null &&
-              this.creationDateTime.equals(other.getCreationDateTime()))) &&
-            ((this.lastModifiedDateTime==null && other.getLastModifiedDateTime()==null) || 
-             (this.lastModifiedDateTime!=null &&
-              this.lastModifiedDateTime.equals(other.getLastModifiedDateTime()))) &&
-            ((this.startDateTime==null && other.getStartDateTime()==null) || 
-             (this.startDateTime!=null &&
-              this.startDateTime.equals(other.getStartDateTime()))) &&
-            ((this.endDateTime==null && other.getEndDateTime()==null) || 
-             (this.endDateTime!=null &&
-              this.endDateTime.equals(other.getEndDateTime()))) &&
-            ((this.totalEstimatedConcurrentUsers==null && other.getTotalEstimatedConcurrentUsers()==null) || 
-             (this.totalEstimatedConcurrentUsers!=null &&
-              this.totalEstimatedConcurrentUsers.equals(other.getTotalEstimatedConcurrentUsers()))) &&
-            ((this.contentUrls==null && other.getContentUrls()==null) || 
-             (this.contentUrls!=null &&
-              java.util.Arrays.equals(this.contentUrls, other.getContentUrls()))) &&
-            ((this.adTags==null && other.getAdTags()==null) || 
-             (this.adTags!=null &&
-              java.util.Arrays.equals(this.adTags, other.getAdTags()))) &&
-            ((this.liveStreamEventCode==null && other.getLiveStreamEventCode()==null) || 
-             (this.liveStreamEventCode!=null &&
-              this.liveStreamEventCode.equals(other.getLiveStreamEventCode()))) &&
-            ((this.authenticationService==null && other.getAuthenticationService()==null) || 
-             (this.authenticationService!=null &&
-              this.authenticationService.equals(other.getAuthenticationService()))) &&
-            ((this.authenticationKey==null && other.getAuthenticationKey()==null) || 
-             (this.authenticationKey!=null &&
-              this.authenticationKey.equals(other.getAuthenticationKey()))) &&
-            ((this.dvrWindowSeconds==null && other.getDvrWindowSeconds()==null) || 
-             (this.dvrWindowSeconds!=null &&
-              this.dvrWindowSeconds.equals(other.getDvrWindowSeconds())));
-        __equalsCalc = null;
-        return _equals;
-    }
-
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
-            return 0;
-        }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getId() != null) {
-            _hashCode += getId().hashCode();
-        }
-        if (getName() != null) {
-            _hashCode += getName().hashCode();
-        }
-        if (getDescription() != null) {
-            _hashCode += getDescription().hashCode();
-        }
-        if (getStatus() != null) {
-            _hashCode += getStatus().hashCode();
-        }
-        if (getCreationDateTime() != null) {
-            _hashCode += getCreationDateTime().hashCode();
-        }
-        if (getLastModifiedDateTime() != null) {
-            _hashCode += getLastModifiedDateTime().hashCode();
-        }
-        if (getStartDateTime() != null) {
-            _hashCode += getStartDateTime().hashCode();
-        }
-        if (getEndDateTime() != null) {
-            _hashCode += getEndDateTime().hashCode();
+        try {
+            boolean _equals;
+            _equals = true && 
+                ((this.id==null && other.getId()==null) || 
+                 (this.id!=null &&
+                  this.id.equals(other.getId()))) &&
+                ((this.name==null && other.getName()==null) || 
+                 (this.name!=null &&
+                  this.name.equals(other.getName()))) &&
+                ((this.description==null && other.getDescription()==null) || 
+                 (this.description!=null &&
+                  this.description.equals(other.getDescription()))) &&
+                ((this.status==null && other.getStatus()==null) || 
+                 (this.status!=null &&
+                  this.status.equals(other.getStatus()))) &&
+                ((this.creationDateTime==null && other.getCreationDateTime()==null) || 
+                 (this.creationDateTime!=null &&
+                  this.creationDateTime.equals(other.getCreationDateTime()))) &&
+                ((this.lastModifiedDateTime==null && other.getLastModifiedDateTime()==null) || 
+                 (this.lastModifiedDateTime!=null &&
+                  this.lastModifiedDateTime.equals(other.getLastModifiedDateTime()))) &&
+                ((this.startDateTime==null && other.getStartDateTime()==null) || 
+                 (this.startDateTime!=null &&
+                  this.startDateTime.equals(other.getStartDateTime()))) &&
+                ((this.endDateTime==null && other.getEndDateTime()==null) || 
+                 (this.endDateTime!=null &&
+                  this.endDateTime.equals(other.getEndDateTime()))) &&
+                ((this.totalEstimatedConcurrentUsers==null && other.getTotalEstimatedConcurrentUsers()==null) || 
+                 (this.totalEstimatedConcurrentUsers!=null &&
+                  this.totalEstimatedConcurrentUsers.equals(other.getTotalEstimatedConcurrentUsers()))) &&
+                ((this.contentUrls==null && other.getContentUrls()==null) || 
+                 (this.contentUrls!=null &&
+                  java.util.Arrays.equals(this.contentUrls, other.getContentUrls()))) &&
+                ((this.adTags==null && other.getAdTags()==null) || 
+                 (this.adTags!=null &&
+                  java.util.Arrays.equals(this.adTags, other.getAdTags()))) &&
+                ((this.liveStreamEventCode==null && other.getLiveStreamEventCode()==null) || 
+                 (this.liveStreamEventCode!=null &&
+                  this.liveStreamEventCode.equals(other.getLiveStreamEventCode()))) &&
+                ((this.authenticationService==null && other.getAuthenticationService()==null) || 
+                 (this.authenticationService!=null &&
+                  this.authenticationService.equals(other.getAuthenticationService()))) &&
+                ((this.authenticationKey==null && other.getAuthenticationKey()==null) || 
+                 (this.authenticationKey!=null &&
+                  this.authenticationKey.equals(other.getAuthenticationKey()))) &&
+                ((this.dvrWindowSeconds==null && other.getDvrWindowSeconds()==null) || 
+                 (this.dvrWindowSeconds!=null &&
+                  this.dvrWindowSeconds.equals(other.getDvrWindowSeconds())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
         }
-        if (getTotalEstimatedConcurrentUsers() != null) {
-            _hashCode += getTotalEstimatedConcurrentUsers().hashCode();
+    }
+
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(LiveStreamEvent.class, this)) {
+            return 0;
         }
-        if (getContentUrls() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getContentUrls());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getContentUrls(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+        try {
+            int _hashCode = 1;
+            if (getId() != null) {
+                _hashCode += getId().hashCode();
+            }
+            if (getName() != null) {
+                _hashCode += getName().hashCode();
+            }
+            if (getDescription() != null) {
+                _hashCode += getDescription().hashCode();
+            }
+            if (getStatus() != null) {
+                _hashCode += getStatus().hashCode();
+            }
+            if (getCreationDateTime() != null) {
+                _hashCode += getCreationDateTime().hashCode();
+            }
+            if (getLastModifiedDateTime() != null) {
+                _hashCode += getLastModifiedDateTime().hashCode();
+            }
+            if (getStartDateTime() != null) {
+                _hashCode += getStartDateTime().hashCode();
+            }
+            if (getEndDateTime() != null) {
+                _hashCode += getEndDateTime().hashCode();
+            }
+            if (getTotalEstimatedConcurrentUsers() != null) {
+                _hashCode += getTotalEstimatedConcurrentUsers().hashCode();
+            }
+            if (getContentUrls() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getContentUrls());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getContentUrls(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
-        }
-        if (getAdTags() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getAdTags());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getAdTags(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+            if (getAdTags() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getAdTags());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getAdTags(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
+            if (getLiveStreamEventCode() != null) {
+                _hashCode += getLiveStreamEventCode().hashCode();
+            }
+            if (getAuthenticationService() != null) {
+                _hashCode += getAuthenticationService().hashCode();
+            }
+            if (getAuthenticationKey() != null) {
+                _hashCode += getAuthenticationKey().hashCode();
+            }
+            if (getDvrWindowSeconds() != null) {
+                _hashCode += getDvrWindowSeconds().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        if (getLiveStreamEventCode() != null) {
-            _hashCode += getLiveStreamEventCode().hashCode();
-        }
-        if (getAuthenticationService() != null) {
-            _hashCode += getAuthenticationService().hashCode();
-        }
-        if (getAuthenticationKey() != null) {
-            _hashCode += getAuthenticationKey().hashCode();
-        }
-        if (getDvrWindowSeconds() != null) {
-            _hashCode += getDvrWindowSeconds().hashCode();
-        }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(LiveStreamEvent.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(LiveStreamEvent.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://www.google.com/apis/ads/publisher/v201602", "LiveStreamEvent"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("id");
@@ -794,13 +799,24 @@ public class LiveStreamEvent  implements java.io.Serializable {
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (LiveStreamEvent.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -812,7 +828,7 @@ public class LiveStreamEvent  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -824,7 +840,7 @@ public class LiveStreamEvent  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
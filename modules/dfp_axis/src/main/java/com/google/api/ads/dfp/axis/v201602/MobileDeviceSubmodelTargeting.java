@@ -105,66 +105,71 @@ public class MobileDeviceSubmodelTargeting  implements java.io.Serializable {
         this.excludedMobileDeviceSubmodels[i] = _value;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof MobileDeviceSubmodelTargeting)) return false;
         MobileDeviceSubmodelTargeting other = (MobileDeviceSubmodelTargeting) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(MobileDeviceSubmodelTargeting.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = true && 
-            ((this.targetedMobileDeviceSubmodels==null && other.getTargetedMobileDeviceSubmodels()==null) || 
-             (this.targetedMobileDeviceSubmodels!=null &&
-              java.util.Arrays.equals(this.targetedMobileDeviceSubmodels, other.getTargetedMobileDeviceSubmodels()))) &&
-            ((this.excludedMobileDeviceSubmodels==null && other.getExcludedMobileDeviceSubmodels()==null) || 
-             (this.excludedMobileDeviceSubmodels!=null &&
-              java.util.Arrays.equals(this.excludedMobileDeviceSubmodels, other.getExcludedMobileDeviceSubmodels())));
-        __equalsCalc = null;
-        return _equals;
-    }
-
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+        try {
+            boolean _equals;
+            _equals = true && 
+                ((this.targetedMobileDeviceSubmodels==null && other.getTargetedMobileDeviceSubmodels()==null) || 
+                 (this.targetedMobileDeviceSubmodels!=null &&
+                  java.util.Arrays.equals(this.targetedMobileDeviceSubmodels, other.getTargetedMobileDeviceSubmodels()))) &&
+                ((this.excludedMobileDeviceSubmodels==null && other.getExcludedMobileDeviceSubmodels()==null) || 
+                 (this.excludedMobileDeviceSubmodels!=null &&
+                  java.util.Arrays.equals(this.excludedMobileDeviceSubmodels, other.getExcludedMobileDeviceSubmodels())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
+    }
+
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(MobileDeviceSubmodelTargeting.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getTargetedMobileDeviceSubmodels() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getTargetedMobileDeviceSubmodels());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getTargetedMobileDeviceSubmodels(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+        try {
+            int _hashCode = 1;
+            if (getTargetedMobileDeviceSubmodels() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getTargetedMobileDeviceSubmodels());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getTargetedMobileDeviceSubmodels(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
-        }
-        if (getExcludedMobileDeviceSubmodels() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getExcludedMobileDeviceSubmodels());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getExcludedMobileDeviceSubmodels(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+            if (getExcludedMobileDeviceSubmodels() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getExcludedMobileDeviceSubmodels());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getExcludedMobileDeviceSubmodels(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(MobileDeviceSubmodelTargeting.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(MobileDeviceSubmodelTargeting.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://www.google.com/apis/ads/publisher/v201602", "MobileDeviceSubmodelTargeting"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("targetedMobileDeviceSubmodels");
@@ -182,13 +187,24 @@ public class MobileDeviceSubmodelTargeting  implements java.io.Serializable {
         elemField.setNillable(false);
         elemField.setMaxOccursUnbounded(true);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (MobileDeviceSubmodelTargeting.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -200,7 +216,7 @@ public class MobileDeviceSubmodelTargeting  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -212,7 +228,7 @@ public class MobileDeviceSubmodelTargeting  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
@@ -99,66 +99,71 @@ public class MobileDeviceTargeting  implements java.io.Serializable {
         this.excludedMobileDevices[i] = _value;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof MobileDeviceTargeting)) return false;
         MobileDeviceTargeting other = (MobileDeviceTargeting) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(MobileDeviceTargeting.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = true && 
-            ((this.targetedMobileDevices==null && other.getTargetedMobileDevices()==null) || 
-             (this.targetedMobileDevices!=null &&
-              java.util.Arrays.equals(this.targetedMobileDevices, other.getTargetedMobileDevices()))) &&
-            ((this.excludedMobileDevices==null && other.getExcludedMobileDevices()==null) || 
-             (this.excludedMobileDevices!=null &&
-              java.util.Arrays.equals(this.excludedMobileDevices, other.getExcludedMobileDevices())));
-        __equalsCalc = null;
-        return _equals;
-    }
-
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+        try {
+            boolean _equals;
+            _equals = true && 
+                ((this.targetedMobileDevices==null && other.getTargetedMobileDevices()==null) || 
+                 (this.targetedMobileDevices!=null &&
+                  java.util.Arrays.equals(this.targetedMobileDevices, other.getTargetedMobileDevices()))) &&
+                ((this.excludedMobileDevices==null && other.getExcludedMobileDevices()==null) || 
+                 (this.excludedMobileDevices!=null &&
+                  java.util.Arrays.equals(this.excludedMobileDevices, other.getExcludedMobileDevices())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
+    }
+
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(MobileDeviceTargeting.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getTargetedMobileDevices() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getTargetedMobileDevices());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getTargetedMobileDevices(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+        try {
+            int _hashCode = 1;
+            if (getTargetedMobileDevices() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getTargetedMobileDevices());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getTargetedMobileDevices(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
-        }
-        if (getExcludedMobileDevices() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getExcludedMobileDevices());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getExcludedMobileDevices(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+            if (getExcludedMobileDevices() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getExcludedMobileDevices());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getExcludedMobileDevices(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(MobileDeviceTargeting.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(MobileDeviceTargeting.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://www.google.com/apis/ads/publisher/v201602", "MobileDeviceTargeting"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("targetedMobileDevices");
@@ -176,13 +181,24 @@ public class MobileDeviceTargeting  implements java.io.Serializable {
         elemField.setNillable(false);
         elemField.setMaxOccursUnbounded(true);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (MobileDeviceTargeting.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -194,7 +210,7 @@ public class MobileDeviceTargeting  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -206,7 +222,7 @@ public class MobileDeviceTargeting  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
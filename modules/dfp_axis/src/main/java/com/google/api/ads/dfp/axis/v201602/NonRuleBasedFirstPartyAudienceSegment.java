@@ -91,44 +91,49 @@ public class NonRuleBasedFirstPartyAudienceSegment  extends com.google.api.ads.d
         this.membershipExpirationDays = membershipExpirationDays;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof NonRuleBasedFirstPartyAudienceSegment)) return false;
         NonRuleBasedFirstPartyAudienceSegment other = (NonRuleBasedFirstPartyAudienceSegment) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(NonRuleBasedFirstPartyAudienceSegment.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = super.equals(obj) && 
-            ((this.membershipExpirationDays==null && other.getMembershipExpirationDays()==null) || 
-             (this.membershipExpirationDays!=null &&
-              this.membershipExpirationDays.equals(other.getMembershipExpirationDays())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = super.equals(obj) && 
+                ((this.membershipExpirationDays==null && other.getMembershipExpirationDays()==null) || 
+                 (this.membershipExpirationDays!=null &&
+                  this.membershipExpirationDays.equals(other.getMembershipExpirationDays())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(NonRuleBasedFirstPartyAudienceSegment.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = super.hashCode();
-        if (getMembershipExpirationDays() != null) {
-            _hashCode += getMembershipExpirationDays().hashCode();
+        try {
+            int _hashCode = super.hashCode();
+            if (getMembershipExpirationDays() != null) {
+                _hashCode += getMembershipExpirationDays().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(NonRuleBasedFirstPartyAudienceSegment.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(NonRuleBasedFirstPartyAudienceSegment.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://www.google.com/apis/ads/publisher/v201602", "NonRuleBasedFirstPartyAudienceSegment"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("membershipExpirationDays");
@@ -137,13 +142,24 @@ public class NonRuleBasedFirstPartyAudienceSegment  extends com.google.api.ads.d
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (NonRuleBasedFirstPartyAudienceSegment.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -155,7 +171,7 @@ public class NonRuleBasedFirstPartyAudienceSegment  extends com.google.api.ads.d
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -167,7 +183,7 @@ public class NonRuleBasedFirstPartyAudienceSegment  extends com.google.api.ads.d
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
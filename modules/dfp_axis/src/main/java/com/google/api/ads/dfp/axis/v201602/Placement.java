@@ -317,100 +317,105 @@ public class Placement  extends com.google.api.ads.dfp.axis.v201602.SiteTargetin
         this.lastModifiedDateTime = lastModifiedDateTime;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof Placement)) return false;
         Placement other = (Placement) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(Placement.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = super.equals(obj) && 
-            ((this.id==null && other.getId()==null) || 
-             (this.id!=null &&
-              this.id.equals(other.getId()))) &&
-            ((this.name==null && other.getName()==null) || 
-             (this.name!=null &&
-              this.name.equals(other.getName()))) &&
-            ((this.description==null && other.getDescription()==null) || 
-             (this.description!=null &&
-              this.description.equals(other.getDescription()))) &&
-            ((this.placementCode==null && other.getPlacementCode()==null) || 
-             (this.placementCode!=null &&
-              this.placementCode.equals(other.getPlacementCode()))) &&
-            ((this.status==null && other.getStatus()==null) || 
-             (this.status!=null &&
-              this.status.equals(other.getStatus()))) &&
-            ((this.isAdSenseTargetingEnabled==null && other.getIsAdSenseTargetingEnabled()==null) || 
-             (this.isAdSenseTargetingEnabled!=null &&
-              this.isAdSenseTargetingEnabled.equals(other.getIsAdSenseTargetingEnabled()))) &&
-            ((this.adSenseTargetingLocale==null && other.getAdSenseTargetingLocale()==null) || 
-             (this.adSenseTargetingLocale!=null &&
-              this.adSenseTargetingLocale.equals(other.getAdSenseTargetingLocale()))) &&
-            ((this.targetedAdUnitIds==null && other.getTargetedAdUnitIds()==null) || 
-             (this.targetedAdUnitIds!=null &&
-              java.util.Arrays.equals(this.targetedAdUnitIds, other.getTargetedAdUnitIds()))) &&
-            ((this.lastModifiedDateTime==null && other.getLastModifiedDateTime()==null) || 
-             (this.lastModifiedDateTime!=null &&
-              this.lastModifiedDateTime.equals(other.getLastModifiedDateTime())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = super.equals(obj) && 
+                ((this.id==null && other.getId()==null) || 
+                 (this.id!=null &&
+                  this.id.equals(other.getId()))) &&
+                ((this.name==null && other.getName()==null) || 
+                 (this.name!=null &&
+                  this.name.equals(other.getName()))) &&
+                ((this.description==null && other.getDescription()==null) || 
+                 (this.description!=null &&
+                  this.description.equals(other.getDescription()))) &&
+                ((this.placementCode==null && other.getPlacementCode()==null) || 
+                 (this.placementCode!=null &&
+                  this.placementCode.equals(other.getPlacementCode()))) &&
+                ((this.status==null && other.getStatus()==null) || 
+                 (this.status!=null &&
+                  this.status.equals(other.getStatus()))) &&
+                ((this.isAdSenseTargetingEnabled==null && other.getIsAdSenseTargetingEnabled()==null) || 
+                 (this.isAdSenseTargetingEnabled!=null &&
+                  this.isAdSenseTargetingEnabled.equals(other.getIsAdSenseTargetingEnabled()))) &&
+                ((this.adSenseTargetingLocale==null && other.getAdSenseTargetingLocale()==null) || 
+                 (this.adSenseTargetingLocale!=null &&
+                  this.adSenseTargetingLocale.equals(other.getAdSenseTargetingLocale()))) &&
+                ((this.targetedAdUnitIds==null && other.getTargetedAdUnitIds()==null) || 
+                 (this.targetedAdUnitIds!=null &&
+                  java.util.Arrays.equals(this.targetedAdUnitIds, other.getTargetedAdUnitIds()))) &&
+                ((this.lastModifiedDateTime==null && other.getLastModifiedDateTime()==null) || 
+                 (this.lastModifiedDateTime!=null &&
+                  this.lastModifiedDateTime.equals(other.getLastModifiedDateTime())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(Placement.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = super.hashCode();
-        if (getId() != null) {
-            _hashCode += getId().hashCode();
-        }
-        if (getName() != null) {
-            _hashCode += getName().hashCode();
-        }
-        if (getDescription() != null) {
-            _hashCode += getDescription().hashCode();
-        }
-        if (getPlacementCode() != null) {
-            _hashCode += getPlacementCode().hashCode();
-        }
-        if (getStatus() != null) {
-            _hashCode += getStatus().hashCode();
-        }
-        if (getIsAdSenseTargetingEnabled() != null) {
-            _hashCode += getIsAdSenseTargetingEnabled().hashCode();
-        }
-        if (getAdSenseTargetingLocale() != null) {
-            _hashCode += getAdSenseTargetingLocale().hashCode();
-        }
-        if (getTargetedAdUnitIds() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getTargetedAdUnitIds());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getTargetedAdUnitIds(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+        try {
+            int _hashCode = super.hashCode();
+            if (getId() != null) {
+                _hashCode += getId().hashCode();
+            }
+            if (getName() != null) {
+                _hashCode += getName().hashCode();
+            }
+            if (getDescription() != null) {
+                _hashCode += getDescription().hashCode();
+            }
+            if (getPlacementCode() != null) {
+                _hashCode += getPlacementCode().hashCode();
+            }
+            if (getStatus() != null) {
+                _hashCode += getStatus().hashCode();
+            }
+            if (getIsAdSenseTargetingEnabled() != null) {
+                _hashCode += getIsAdSenseTargetingEnabled().hashCode();
+            }
+            if (getAdSenseTargetingLocale() != null) {
+                _hashCode += getAdSenseTargetingLocale().hashCode();
+            }
+            if (getTargetedAdUnitIds() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getTargetedAdUnitIds());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getTargetedAdUnitIds(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
+            if (getLastModifiedDateTime() != null) {
+                _hashCode += getLastModifiedDateTime().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        if (getLastModifiedDateTime() != null) {
-            _hashCode += getLastModifiedDateTime().hashCode();
-        }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(Placement.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(Placement.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://www.google.com/apis/ads/publisher/v201602", "Placement"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("id");
@@ -476,13 +481,24 @@ public class Placement  extends com.google.api.ads.dfp.axis.v201602.SiteTargetin
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (Placement.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -494,7 +510,7 @@ public class Placement  extends com.google.api.ads.dfp.axis.v201602.SiteTargetin
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -506,7 +522,7 @@ public class Placement  extends com.google.api.ads.dfp.axis.v201602.SiteTargetin
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
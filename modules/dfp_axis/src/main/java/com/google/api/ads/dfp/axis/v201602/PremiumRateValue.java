@@ -222,68 +222,73 @@ public class PremiumRateValue  implements java.io.Serializable {
         this.adjustmentSize = adjustmentSize;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof PremiumRateValue)) return false;
         PremiumRateValue other = (PremiumRateValue) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(PremiumRateValue.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = true && 
-            ((this.premiumRateId==null && other.getPremiumRateId()==null) || 
-             (this.premiumRateId!=null &&
-              this.premiumRateId.equals(other.getPremiumRateId()))) &&
-            ((this.premiumFeature==null && other.getPremiumFeature()==null) || 
-             (this.premiumFeature!=null &&
-              this.premiumFeature.equals(other.getPremiumFeature()))) &&
-            ((this.rateType==null && other.getRateType()==null) || 
-             (this.rateType!=null &&
-              this.rateType.equals(other.getRateType()))) &&
-            ((this.adjustmentType==null && other.getAdjustmentType()==null) || 
-             (this.adjustmentType!=null &&
-              this.adjustmentType.equals(other.getAdjustmentType()))) &&
-            ((this.adjustmentSize==null && other.getAdjustmentSize()==null) || 
-             (this.adjustmentSize!=null &&
-              this.adjustmentSize.equals(other.getAdjustmentSize())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = true && 
+                ((this.premiumRateId==null && other.getPremiumRateId()==null) || 
+                 (this.premiumRateId!=null &&
+                  this.premiumRateId.equals(other.getPremiumRateId()))) &&
+                ((this.premiumFeature==null && other.getPremiumFeature()==null) || 
+                 (this.premiumFeature!=null &&
+                  this.premiumFeature.equals(other.getPremiumFeature()))) &&
+                ((this.rateType==null && other.getRateType()==null) || 
+                 (this.rateType!=null &&
+                  this.rateType.equals(other.getRateType()))) &&
+                ((this.adjustmentType==null && other.getAdjustmentType()==null) || 
+                 (this.adjustmentType!=null &&
+                  this.adjustmentType.equals(other.getAdjustmentType()))) &&
+                ((this.adjustmentSize==null && other.getAdjustmentSize()==null) || 
+                 (this.adjustmentSize!=null &&
+                  this.adjustmentSize.equals(other.getAdjustmentSize())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(PremiumRateValue.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getPremiumRateId() != null) {
-            _hashCode += getPremiumRateId().hashCode();
-        }
-        if (getPremiumFeature() != null) {
-            _hashCode += getPremiumFeature().hashCode();
-        }
-        if (getRateType() != null) {
-            _hashCode += getRateType().hashCode();
-        }
-        if (getAdjustmentType() != null) {
-            _hashCode += getAdjustmentType().hashCode();
+        try {
+            int _hashCode = 1;
+            if (getPremiumRateId() != null) {
+                _hashCode += getPremiumRateId().hashCode();
+            }
+            if (getPremiumFeature() != null) {
+                _hashCode += getPremiumFeature().hashCode();
+            }
+            if (getRateType() != null) {
+                _hashCode += getRateType().hashCode();
+            }
+            if (getAdjustmentType() != null) {
+                _hashCode += getAdjustmentType().hashCode();
+            }
+            if (getAdjustmentSize() != null) {
+                _hashCode += getAdjustmentSize().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        if (getAdjustmentSize() != null) {
-            _hashCode += getAdjustmentSize().hashCode();
-        }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(PremiumRateValue.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(PremiumRateValue.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://www.google.com/apis/ads/publisher/v201602", "PremiumRateValue"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("premiumRateId");
@@ -320,13 +325,24 @@ public class PremiumRateValue  implements java.io.Serializable {
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (PremiumRateValue.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -338,7 +354,7 @@ public class PremiumRateValue  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -350,7 +366,7 @@ public class PremiumRateValue  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
@@ -826,194 +826,199 @@ public class Product  implements java.io.Serializable {
         this.videoMaxDuration = videoMaxDuration;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof Product)) return false;
         Product other = (Product) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(Product.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = true && 
-            ((this.name==null && other.getName()==null) || 
-             (this.name!=null &&
-              this.name.equals(other.getName()))) &&
-            ((this.status==null && other.getStatus()==null) || 
-             (this.status!=null &&
-              this.status.equals(other.getStatus()))) &&
-            ((this.productType==null && other.getProductType()==null) || 
-             (this.productType!=null &&
-              this.productType.equals(other.getProductType()))) &&
-            ((this.productTemplateId==null && other.getProductTemplateId()==null) || 
-             (this.productTemplateId!=null &&
-              this.productTemplateId.equals(other.getProductTemplateId()))) &&
-            ((this.id==null && other.getId()==null) || 
-             (this.id!=null &&
-              this.id.equals(other.getId()))) &&
-            ((this.notes==null && other.getNotes()==null) || 
-             (this.notes!=null &&
-              this.notes.equals(other.getNotes()))) &&
-            ((this.productTemplateDescription==null && other.getProductTemplateDescription()==null) || 
-             (this.productTemplateDescription!=null &&
-              this.productTemplateDescription.equals(other.getProductTemplateDescription()))) &&
-            ((this.lastModifiedDateTime==null && other.getLastModifiedDateTime()==null) || 
-             (this.lastModifiedDateTime!=null &&
-              this.lastModifiedDateTime.equals(other.getLastModifiedDateTime()))) &&
-            ((this.rateType==null && other.getRateType()==null) || 
-             (this.rateType!=null &&
-              this.rateType.equals(other.getRateType()))) &&
-            ((this.roadblockingType==null && other.getRoadblockingType()==null) || 
-             (this.roadblockingType!=null &&
-              this.roadblockingType.equals(other.getRoadblockingType()))) &&
-            ((this.deliveryRateType==null && other.getDeliveryRateType()==null) || 
-             (this.deliveryRateType!=null &&
-              this.deliveryRateType.equals(other.getDeliveryRateType()))) &&
-            ((this.creativeRotationType==null && other.getCreativeRotationType()==null) || 
-             (this.creativeRotationType!=null &&
-              this.creativeRotationType.equals(other.getCreativeRotationType()))) &&
-            ((this.companionDeliveryOption==null && other.getCompanionDeliveryOption()==null) || 
-             (this.companionDeliveryOption!=null &&
-              this.companionDeliveryOption.equals(other.getCompanionDeliveryOption()))) &&
-            ((this.creativePlaceholders==null && other.getCreativePlaceholders()==null) || 
-             (this.creativePlaceholders!=null &&
-              java.util.Arrays.equals(this.creativePlaceholders, other.getCreativePlaceholders()))) &&
-            ((this.lineItemType==null && other.getLineItemType()==null) || 
-             (this.lineItemType!=null &&
-              this.lineItemType.equals(other.getLineItemType()))) &&
-            ((this.priority==null && other.getPriority()==null) || 
-             (this.priority!=null &&
-              this.priority.equals(other.getPriority()))) &&
-            ((this.frequencyCaps==null && other.getFrequencyCaps()==null) || 
-             (this.frequencyCaps!=null &&
-              java.util.Arrays.equals(this.frequencyCaps, other.getFrequencyCaps()))) &&
-            ((this.builtInTargeting==null && other.getBuiltInTargeting()==null) || 
-             (this.builtInTargeting!=null &&
-              this.builtInTargeting.equals(other.getBuiltInTargeting()))) &&
-            ((this.customizableAttributes==null && other.getCustomizableAttributes()==null) || 
-             (this.customizableAttributes!=null &&
-              this.customizableAttributes.equals(other.getCustomizableAttributes()))) &&
-            ((this.customFieldValues==null && other.getCustomFieldValues()==null) || 
-             (this.customFieldValues!=null &&
-              java.util.Arrays.equals(this.customFieldValues, other.getCustomFieldValues()))) &&
-            ((this.environmentType==null && other.getEnvironmentType()==null) || 
-             (this.environmentType!=null &&
-              this.environmentType.equals(other.getEnvironmentType()))) &&
-            ((this.videoMaxDuration==null && other.getVideoMaxDuration()==null) || 
-             (this.videoMaxDuration!=null &&
-              this.videoMaxDuration.equals(other.getVideoMaxDuration())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = true && 
+                ((this.name==null && other.getName()==null) || 
+                 (this.name!=null &&
+                  this.name.equals(other.getName()))) &&
+                ((this.status==null && other.getStatus()==null) || 
+                 (this.status!=null &&
+                  this.status.equals(other.getStatus()))) &&
+                ((this.productType==null && other.getProductType()==null) || 
+                 (this.productType!=null &&
+                  this.productType.equals(other.getProductType()))) &&
+                ((this.productTemplateId==null && other.getProductTemplateId()==null) || 
+                 (this.productTemplateId!=null &&
+                  this.productTemplateId.equals(other.getProductTemplateId()))) &&
+                ((this.id==null && other.getId()==null) || 
+                 (this.id!=null &&
+                  this.id.equals(other.getId()))) &&
+                ((this.notes==null && other.getNotes()==null) || 
+                 (this.notes!=null &&
+                  this.notes.equals(other.getNotes()))) &&
+                ((this.productTemplateDescription==null && other.getProductTemplateDescription()==null) || 
+                 (this.productTemplateDescription!=null &&
+                  this.productTemplateDescription.equals(other.getProductTemplateDescription()))) &&
+                ((this.lastModifiedDateTime==null && other.getLastModifiedDateTime()==null) || 
+                 (this.lastModifiedDateTime!=null &&
+                  this.lastModifiedDateTime.equals(other.getLastModifiedDateTime()))) &&
+                ((this.rateType==null && other.getRateType()==null) || 
+                 (this.rateType!=null &&
+                  this.rateType.equals(other.getRateType()))) &&
+                ((this.roadblockingType==null && other.getRoadblockingType()==null) || 
+                 (this.roadblockingType!=null &&
+                  this.roadblockingType.equals(other.getRoadblockingType()))) &&
+                ((this.deliveryRateType==null && other.getDeliveryRateType()==null) || 
+                 (this.deliveryRateType!=null &&
+                  this.deliveryRateType.equals(other.getDeliveryRateType()))) &&
+                ((this.creativeRotationType==null && other.getCreativeRotationType()==null) || 
+                 (this.creativeRotationType!=null &&
+                  this.creativeRotationType.equals(other.getCreativeRotationType()))) &&
+                ((this.companionDeliveryOption==null && other.getCompanionDeliveryOption()==null) || 
+                 (this.companionDeliveryOption!=null &&
+                  this.companionDeliveryOption.equals(other.getCompanionDeliveryOption()))) &&
+                ((this.creativePlaceholders==null && other.getCreativePlaceholders()==null) || 
+                 (this.creativePlaceholders!=null &&
+                  java.util.Arrays.equals(this.creativePlaceholders, other.getCreativePlaceholders()))) &&
+                ((this.lineItemType==null && other.getLineItemType()==null) || 
+                 (this.lineItemType!=null &&
+                  this.lineItemType.equals(other.getLineItemType()))) &&
+                ((this.priority==null && other.getPriority()==null) || 
+                 (this.priority!=null &&
+                  this.priority.equals(other.getPriority()))) &&
+                ((this.frequencyCaps==null && other.getFrequencyCaps()==null) || 
+                 (this.frequencyCaps!=null &&
+                  java.util.Arrays.equals(this.frequencyCaps, other.getFrequencyCaps()))) &&
+                ((this.builtInTargeting==null && other.getBuiltInTargeting()==null) || 
+                 (this.builtInTargeting!=null &&
+                  this.builtInTargeting.equals(other.getBuiltInTargeting()))) &&
+                ((this.customizableAttributes==null && other.getCustomizableAttributes()==null) || 
+                 (this.customizableAttributes!=null &&
+                  this.customizableAttributes.equals(other.getCustomizableAttributes()))) &&
+                ((this.customFieldValues==null && other.getCustomFieldValues()==null) || 
+                 (this.customFieldValues!=null &&
+                  java.util.Arrays.equals(this.customFieldValues, other.getCustomFieldValues()))) &&
+                ((this.environmentType==null && other.getEnvironmentType()==null) || 
+                 (this.environmentType!=null &&
+                  this.environmentType.equals(other.getEnvironmentType()))) &&
+                ((this.videoMaxDuration==null && other.getVideoMaxDuration()==null) || 
+                 (this.videoMaxDuration!=null &&
+                  this.videoMaxDuration.equals(other.getVideoMaxDuration())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(Product.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getName() != null) {
-            _hashCode += getName().hashCode();
-        }
-        if (getStatus() != null) {
-            _hashCode += getStatus().hashCode();
-        }
-        if (getProductType() != null) {
-            _hashCode += getProductType().hashCode();
-        }
-        if (getProductTemplateId() != null) {
-            _hashCode += getProductTemplateId().hashCode();
-        }
-        if (getId() != null) {
-            _hashCode += getId().hashCode();
-        }
-        if (getNotes() != null) {
-            _hashCode += getNotes().hashCode();
-        }
-        if (getProductTemplateDescription() != null) {
-            _hashCode += getProductTemplateDescription().hashCode();
-        }
-        if (getLastModifiedDateTime() != null) {
-            _hashCode += getLastModifiedDateTime().hashCode();
-        }
-        if (getRateType() != null) {
-            _hashCode += getRateType().hashCode();
-        }
-        if (getRoadblockingType() != null) {
-            _hashCode += getRoadblockingType().hashCode();
-        }
-        if (getDeliveryRateType() != null) {
-            _hashCode += getDeliveryRateType().hashCode();
-        }
-        if (getCreativeRotationType() != null) {
-            _hashCode += getCreativeRotationType().hashCode();
-        }
-        if (getCompanionDeliveryOption() != null) {
-            _hashCode += getCompanionDeliveryOption().hashCode();
-        }
-        if (getCreativePlaceholders() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getCreativePlaceholders());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getCreativePlaceholders(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+        try {
+            int _hashCode = 1;
+            if (getName() != null) {
+                _hashCode += getName().hashCode();
+            }
+            if (getStatus() != null) {
+                _hashCode += getStatus().hashCode();
+            }
+            if (getProductType() != null) {
+                _hashCode += getProductType().hashCode();
+            }
+            if (getProductTemplateId() != null) {
+                _hashCode += getProductTemplateId().hashCode();
+            }
+            if (getId() != null) {
+                _hashCode += getId().hashCode();
+            }
+            if (getNotes() != null) {
+                _hashCode += getNotes().hashCode();
+            }
+            if (getProductTemplateDescription() != null) {
+                _hashCode += getProductTemplateDescription().hashCode();
+            }
+            if (getLastModifiedDateTime() != null) {
+                _hashCode += getLastModifiedDateTime().hashCode();
+            }
+            if (getRateType() != null) {
+                _hashCode += getRateType().hashCode();
+            }
+            if (getRoadblockingType() != null) {
+                _hashCode += getRoadblockingType().hashCode();
+            }
+            if (getDeliveryRateType() != null) {
+                _hashCode += getDeliveryRateType().hashCode();
+            }
+            if (getCreativeRotationType() != null) {
+                _hashCode += getCreativeRotationType().hashCode();
+            }
+            if (getCompanionDeliveryOption() != null) {
+                _hashCode += getCompanionDeliveryOption().hashCode();
+            }
+            if (getCreativePlaceholders() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getCreativePlaceholders());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getCreativePlaceholders(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
-        }
-        if (getLineItemType() != null) {
-            _hashCode += getLineItemType().hashCode();
-        }
-        if (getPriority() != null) {
-            _hashCode += getPriority().hashCode();
-        }
-        if (getFrequencyCaps() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getFrequencyCaps());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getFrequencyCaps(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+            if (getLineItemType() != null) {
+                _hashCode += getLineItemType().hashCode();
+            }
+            if (getPriority() != null) {
+                _hashCode += getPriority().hashCode();
+            }
+            if (getFrequencyCaps() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getFrequencyCaps());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getFrequencyCaps(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
-        }
-        if (getBuiltInTargeting() != null) {
-            _hashCode += getBuiltInTargeting().hashCode();
-        }
-        if (getCustomizableAttributes() != null) {
-            _hashCode += getCustomizableAttributes().hashCode();
-        }
-        if (getCustomFieldValues() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getCustomFieldValues());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getCustomFieldValues(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+            if (getBuiltInTargeting() != null) {
+                _hashCode += getBuiltInTargeting().hashCode();
+            }
+            if (getCustomizableAttributes() != null) {
+                _hashCode += getCustomizableAttributes().hashCode();
+            }
+            if (getCustomFieldValues() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getCustomFieldValues());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getCustomFieldValues(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
+            if (getEnvironmentType() != null) {
+                _hashCode += getEnvironmentType().hashCode();
+            }
+            if (getVideoMaxDuration() != null) {
+                _hashCode += getVideoMaxDuration().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        if (getEnvironmentType() != null) {
-            _hashCode += getEnvironmentType().hashCode();
-        }
-        if (getVideoMaxDuration() != null) {
-            _hashCode += getVideoMaxDuration().hashCode();
-        }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(Product.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(Product.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://www.google.com/apis/ads/publisher/v201602", "Product"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("name");
@@ -1172,13 +1177,24 @@ public class Product  implements java.io.Serializable {
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (Product.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -1190,7 +1206,7 @@ public class Product  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -1202,7 +1218,7 @@ public class Product  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
@@ -608,150 +608,155 @@ public class ProductSegmentation  implements java.io.Serializable {
         this.videoPositionSegment = videoPositionSegment;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof ProductSegmentation)) return false;
         ProductSegmentation other = (ProductSegmentation) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(ProductSegmentation.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = true && 
-            ((this.geoSegment==null && other.getGeoSegment()==null) || 
-             (this.geoSegment!=null &&
-              this.geoSegment.equals(other.getGeoSegment()))) &&
-            ((this.adUnitSegments==null && other.getAdUnitSegments()==null) || 
-             (this.adUnitSegments!=null &&
-              java.util.Arrays.equals(this.adUnitSegments, other.getAdUnitSegments()))) &&
-            ((this.placementSegment==null && other.getPlacementSegment()==null) || 
-             (this.placementSegment!=null &&
-              this.placementSegment.equals(other.getPlacementSegment()))) &&
-            ((this.customTargetingSegment==null && other.getCustomTargetingSegment()==null) || 
-             (this.customTargetingSegment!=null &&
-              java.util.Arrays.equals(this.customTargetingSegment, other.getCustomTargetingSegment()))) &&
-            ((this.userDomainSegment==null && other.getUserDomainSegment()==null) || 
-             (this.userDomainSegment!=null &&
-              this.userDomainSegment.equals(other.getUserDomainSegment()))) &&
-            ((this.bandwidthSegment==null && other.getBandwidthSegment()==null) || 
-             (this.bandwidthSegment!=null &&
-              this.bandwidthSegment.equals(other.getBandwidthSegment()))) &&
-            ((this.browserSegment==null && other.getBrowserSegment()==null) || 
-             (this.browserSegment!=null &&
-              this.browserSegment.equals(other.getBrowserSegment()))) &&
-            ((this.browserLanguageSegment==null && other.getBrowserLanguageSegment()==null) || 
-             (this.browserLanguageSegment!=null &&
-              this.browserLanguageSegment.equals(other.getBrowserLanguageSegment()))) &&
-            ((this.operatingSystemSegment==null && other.getOperatingSystemSegment()==null) || 
-             (this.operatingSystemSegment!=null &&
-              this.operatingSystemSegment.equals(other.getOperatingSystemSegment()))) &&
-            ((this.mobileCarrierSegment==null && other.getMobileCarrierSegment()==null) || 
-             (this.mobileCarrierSegment!=null &&
-              this.mobileCarrierSegment.equals(other.getMobileCarrierSegment()))) &&
-            ((this.deviceCapabilitySegment==null && other.getDeviceCapabilitySegment()==null) || 
-             (this.deviceCapabilitySegment!=null &&
-              this.deviceCapabilitySegment.equals(other.getDeviceCapabilitySegment()))) &&
-            ((this.deviceCategorySegment==null && other.getDeviceCategorySegment()==null) || 
-             (this.deviceCategorySegment!=null &&
-              this.deviceCategorySegment.equals(other.getDeviceCategorySegment()))) &&
-            ((this.deviceManufacturerSegment==null && other.getDeviceManufacturerSegment()==null) || 
-             (this.deviceManufacturerSegment!=null &&
-              this.deviceManufacturerSegment.equals(other.getDeviceManufacturerSegment()))) &&
-            ((this.mobileDeviceSegment==null && other.getMobileDeviceSegment()==null) || 
-             (this.mobileDeviceSegment!=null &&
-              this.mobileDeviceSegment.equals(other.getMobileDeviceSegment()))) &&
-            ((this.mobileDeviceSubmodelSegment==null && other.getMobileDeviceSubmodelSegment()==null) || 
-             (this.mobileDeviceSubmodelSegment!=null &&
-              this.mobileDeviceSubmodelSegment.equals(other.getMobileDeviceSubmodelSegment()))) &&
-            ((this.videoPositionSegment==null && other.getVideoPositionSegment()==null) || 
-             (this.videoPositionSegment!=null &&
-              this.videoPositionSegment.equals(other.getVideoPositionSegment())));
-        __equalsCalc = null;
-        return _equals;
-    }
-
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
-            return 0;
+        try {
+            boolean _equals;
+            _equals = true && 
+                ((this.geoSegment==null && other.getGeoSegment()==null) || 
+                 (this.geoSegment!=null &&
+                  this.geoSegment.equals(other.getGeoSegment()))) &&
+                ((this.adUnitSegments==null && other.getAdUnitSegments()==null) || 
+                 (this.adUnitSegments!=null &&
+                  java.util.Arrays.equals(this.adUnitSegments, other.getAdUnitSegments()))) &&
+                ((this.placementSegment==null && other.getPlacementSegment()==null) || 
+                 (this.placementSegment!=null &&
+                  this.placementSegment.equals(other.getPlacementSegment()))) &&
+                ((this.customTargetingSegment==null && other.getCustomTargetingSegment()==null) || 
+                 (this.customTargetingSegment!=null &&
+                  java.util.Arrays.equals(this.customTargetingSegment, other.getCustomTargetingSegment()))) &&
+                ((this.userDomainSegment==null && other.getUserDomainSegment()==null) || 
+                 (this.userDomainSegment!=null &&
+                  this.userDomainSegment.equals(other.getUserDomainSegment()))) &&
+                ((this.bandwidthSegment==null && other.getBandwidthSegment()==null) || 
+                 (this.bandwidthSegment!=null &&
+                  this.bandwidthSegment.equals(other.getBandwidthSegment()))) &&
+                ((this.browserSegment==null && other.getBrowserSegment()==null) || 
+                 (this.browserSegment!=null &&
+                  this.browserSegment.equals(other.getBrowserSegment()))) &&
+                ((this.browserLanguageSegment==null && other.getBrowserLanguageSegment()==null) || 
+                 (this.browserLanguageSegment!=null &&
+                  this.browserLanguageSegment.equals(other.getBrowserLanguageSegment()))) &&
+                ((this.operatingSystemSegment==null && other.getOperatingSystemSegment()==null) || 
+                 (this.operatingSystemSegment!=null &&
+                  this.operatingSystemSegment.equals(other.getOperatingSystemSegment()))) &&
+                ((this.mobileCarrierSegment==null && other.getMobileCarrierSegment()==null) || 
+                 (this.mobileCarrierSegment!=null &&
+                  this.mobileCarrierSegment.equals(other.getMobileCarrierSegment()))) &&
+                ((this.deviceCapabilitySegment==null && other.getDeviceCapabilitySegment()==null) || 
+                 (this.deviceCapabilitySegment!=null &&
+                  this.deviceCapabilitySegment.equals(other.getDeviceCapabilitySegment()))) &&
+                ((this.deviceCategorySegment==null && other.getDeviceCategorySegment()==null) || 
+                 (this.deviceCategorySegment!=null &&
+                  this.deviceCategorySegment.equals(other.getDeviceCategorySegment()))) &&
+                ((this.deviceManufacturerSegment==null && other.getDeviceManufacturerSegment()==null) || 
+                 (this.deviceManufacturerSegment!=null &&
+                  this.deviceManufacturerSegment.equals(other.getDeviceManufacturerSegment()))) &&
+                ((this.mobileDeviceSegment==null && other.getMobileDeviceSegment()==null) || 
+                 (this.mobileDeviceSegment!=null &&
+                  this.mobileDeviceSegment.equals(other.getMobileDeviceSegment()))) &&
+                ((this.mobileDeviceSubmodelSegment==null && other.getMobileDeviceSubmodelSegment()==null) || 
+                 (this.mobileDeviceSubmodelSegment!=null &&
+                  this.mobileDeviceSubmodelSegment.equals(other.getMobileDeviceSubmodelSegment()))) &&
+                ((this.videoPositionSegment==null && other.getVideoPositionSegment()==null) || 
+                 (this.videoPositionSegment!=null &&
+                  this.videoPositionSegment.equals(other.getVideoPositionSegment())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
         }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getGeoSegment() != null) {
-            _hashCode += getGeoSegment().hashCode();
+    }
+
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(ProductSegmentation.class, this)) {
+            return 0;
         }
-        if (getAdUnitSegments() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getAdUnitSegments());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getAdUnitSegments(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+        try {
+            int _hashCode = 1;
+            if (getGeoSegment() != null) {
+                _hashCode += getGeoSegment().hashCode();
+            }
+            if (getAdUnitSegments() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getAdUnitSegments());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getAdUnitSegments(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
-        }
-        if (getPlacementSegment() != null) {
-            _hashCode += getPlacementSegment().hashCode();
-        }
-        if (getCustomTargetingSegment() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getCustomTargetingSegment());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getCustomTargetingSegment(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+            if (getPlacementSegment() != null) {
+                _hashCode += getPlacementSegment().hashCode();
+            }
+            if (getCustomTargetingSegment() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getCustomTargetingSegment());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getCustomTargetingSegment(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
+            if (getUserDomainSegment() != null) {
+                _hashCode += getUserDomainSegment().hashCode();
+            }
+            if (getBandwidthSegment() != null) {
+                _hashCode += getBandwidthSegment().hashCode();
+            }
+            if (getBrowserSegment() != null) {
+                _hashCode += getBrowserSegment().hashCode();
+            }
+            if (getBrowserLanguageSegment() != null) {
+                _hashCode += getBrowserLanguageSegment().hashCode();
+            }
+            if (getOperatingSystemSegment() != null) {
+                _hashCode += getOperatingSystemSegment().hashCode();
+            }
+            if (getMobileCarrierSegment() != null) {
+                _hashCode += getMobileCarrierSegment().hashCode();
+            }
+            if (getDeviceCapabilitySegment() != null) {
+                _hashCode += getDeviceCapabilitySegment().hashCode();
+            }
+            if (getDeviceCategorySegment() != null) {
+                _hashCode += getDeviceCategorySegment().hashCode();
+            }
+            if (getDeviceManufacturerSegment() != null) {
+                _hashCode += getDeviceManufacturerSegment().hashCode();
+            }
+            if (getMobileDeviceSegment() != null) {
+                _hashCode += getMobileDeviceSegment().hashCode();
+            }
+            if (getMobileDeviceSubmodelSegment() != null) {
+                _hashCode += getMobileDeviceSubmodelSegment().hashCode();
+            }
+            if (getVideoPositionSegment() != null) {
+                _hashCode += getVideoPositionSegment().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        if (getUserDomainSegment() != null) {
-            _hashCode += getUserDomainSegment().hashCode();
-        }
-        if (getBandwidthSegment() != null) {
-            _hashCode += getBandwidthSegment().hashCode();
-        }
-        if (getBrowserSegment() != null) {
-            _hashCode += getBrowserSegment().hashCode();
-        }
-        if (getBrowserLanguageSegment() != null) {
-            _hashCode += getBrowserLanguageSegment().hashCode();
-        }
-        if (getOperatingSystemSegment() != null) {
-            _hashCode += getOperatingSystemSegment().hashCode();
-        }
-        if (getMobileCarrierSegment() != null) {
-            _hashCode += getMobileCarrierSegment().hashCode();
-        }
-        if (getDeviceCapabilitySegment() != null) {
-            _hashCode += getDeviceCapabilitySegment().hashCode();
-        }
-        if (getDeviceCategorySegment() != null) {
-            _hashCode += getDeviceCategorySegment().hashCode();
-        }
-        if (getDeviceManufacturerSegment() != null) {
-            _hashCode += getDeviceManufacturerSegment().hashCode();
-        }
-        if (getMobileDeviceSegment() != null) {
-            _hashCode += getMobileDeviceSegment().hashCode();
-        }
-        if (getMobileDeviceSubmodelSegment() != null) {
-            _hashCode += getMobileDeviceSubmodelSegment().hashCode();
-        }
-        if (getVideoPositionSegment() != null) {
-            _hashCode += getVideoPositionSegment().hashCode();
-        }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(ProductSegmentation.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(ProductSegmentation.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://www.google.com/apis/ads/publisher/v201602", "ProductSegmentation"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("geoSegment");
@@ -867,13 +872,24 @@ public class ProductSegmentation  implements java.io.Serializable {
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (ProductSegmentation.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -885,7 +901,7 @@ public class ProductSegmentation  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -897,7 +913,7 @@ public class ProductSegmentation  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
@@ -2319,388 +2319,393 @@ public class Proposal  implements java.io.Serializable {
         this.lastRetractionDetails = lastRetractionDetails;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof Proposal)) return false;
         Proposal other = (Proposal) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(Proposal.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = true && 
-            ((this.id==null && other.getId()==null) || 
-             (this.id!=null &&
-              this.id.equals(other.getId()))) &&
-            ((this.dfpOrderId==null && other.getDfpOrderId()==null) || 
-             (this.dfpOrderId!=null &&
-              this.dfpOrderId.equals(other.getDfpOrderId()))) &&
-            ((this.name==null && other.getName()==null) || 
-             (this.name!=null &&
-              this.name.equals(other.getName()))) &&
-            ((this.pricingModel==null && other.getPricingModel()==null) || 
-             (this.pricingModel!=null &&
-              this.pricingModel.equals(other.getPricingModel()))) &&
-            ((this.startDateTime==null && other.getStartDateTime()==null) || 
-             (this.startDateTime!=null &&
-              this.startDateTime.equals(other.getStartDateTime()))) &&
-            ((this.endDateTime==null && other.getEndDateTime()==null) || 
-             (this.endDateTime!=null &&
-              this.endDateTime.equals(other.getEndDateTime()))) &&
-            ((this.timeZoneId==null && other.getTimeZoneId()==null) || 
-             (this.timeZoneId!=null &&
-              this.timeZoneId.equals(other.getTimeZoneId()))) &&
-            ((this.status==null && other.getStatus()==null) || 
-             (this.status!=null &&
-              this.status.equals(other.getStatus()))) &&
-            ((this.isArchived==null && other.getIsArchived()==null) || 
-             (this.isArchived!=null &&
-              this.isArchived.equals(other.getIsArchived()))) &&
-            ((this.advertiser==null && other.getAdvertiser()==null) || 
-             (this.advertiser!=null &&
-              this.advertiser.equals(other.getAdvertiser()))) &&
-            ((this.agencies==null && other.getAgencies()==null) || 
-             (this.agencies!=null &&
-              java.util.Arrays.equals(this.agencies, other.getAgencies()))) &&
-            ((this.probabilityOfClose==null && other.getProbabilityOfClose()==null) || 
-             (this.probabilityOfClose!=null &&
-              this.probabilityOfClose.equals(other.getProbabilityOfClose()))) &&
-            ((this.billingCap==null && other.getBillingCap()==null) || 
-             (this.billingCap!=null &&
-              this.billingCap.equals(other.getBillingCap()))) &&
-            ((this.billingSchedule==null && other.getBillingSchedule()==null) || 
-             (this.billingSchedule!=null &&
-              this.billingSchedule.equals(other.getBillingSchedule()))) &&
-            ((this.billingSource==null && other.getBillingSource()==null) || 
-             (this.billingSource!=null &&
-              this.billingSource.equals(other.getBillingSource()))) &&
-            ((this.billingBase==null && other.getBillingBase()==null) || 
-             (this.billingBase!=null &&
-              this.billingBase.equals(other.getBillingBase()))) &&
-            ((this.poNumber==null && other.getPoNumber()==null) || 
-             (this.poNumber!=null &&
-              this.poNumber.equals(other.getPoNumber()))) &&
-            ((this.notes==null && other.getNotes()==null) || 
-             (this.notes!=null &&
-              this.notes.equals(other.getNotes()))) &&
-            ((this.budget==null && other.getBudget()==null) || 
-             (this.budget!=null &&
-              this.budget.equals(other.getBudget()))) &&
-            ((this.primarySalesperson==null && other.getPrimarySalesperson()==null) || 
-             (this.primarySalesperson!=null &&
-              this.primarySalesperson.equals(other.getPrimarySalesperson()))) &&
-            ((this.secondarySalespeople==null && other.getSecondarySalespeople()==null) || 
-             (this.secondarySalespeople!=null &&
-              java.util.Arrays.equals(this.secondarySalespeople, other.getSecondarySalespeople()))) &&
-            ((this.salesPlannerIds==null && other.getSalesPlannerIds()==null) || 
-             (this.salesPlannerIds!=null &&
-              java.util.Arrays.equals(this.salesPlannerIds, other.getSalesPlannerIds()))) &&
-            ((this.primaryTraffickerId==null && other.getPrimaryTraffickerId()==null) || 
-             (this.primaryTraffickerId!=null &&
-              this.primaryTraffickerId.equals(other.getPrimaryTraffickerId()))) &&
-            ((this.secondaryTraffickerIds==null && other.getSecondaryTraffickerIds()==null) || 
-             (this.secondaryTraffickerIds!=null &&
-              java.util.Arrays.equals(this.secondaryTraffickerIds, other.getSecondaryTraffickerIds()))) &&
-            ((this.appliedTeamIds==null && other.getAppliedTeamIds()==null) || 
-             (this.appliedTeamIds!=null &&
-              java.util.Arrays.equals(this.appliedTeamIds, other.getAppliedTeamIds()))) &&
-            ((this.customFieldValues==null && other.getCustomFieldValues()==null) || 
-             (this.customFieldValues!=null &&
-              java.util.Arrays.equals(this.customFieldValues, other.getCustomFieldValues()))) &&
-            ((this.appliedLabels==null && other.getAppliedLabels()==null) || 
-             (this.appliedLabels!=null &&
-              java.util.Arrays.equals(this.appliedLabels, other.getAppliedLabels()))) &&
-            ((this.effectiveAppliedLabels==null && other.getEffectiveAppliedLabels()==null) || 
-             (this.effectiveAppliedLabels!=null &&
-              java.util.Arrays.equals(this.effectiveAppliedLabels, other.getEffectiveAppliedLabels()))) &&
-            ((this.advertiserDiscount==null && other.getAdvertiserDiscount()==null) || 
-             (this.advertiserDiscount!=null &&
-              this.advertiserDiscount.equals(other.getAdvertiserDiscount()))) &&
-            ((this.proposalDiscount==null && other.getProposalDiscount()==null) || 
-             (this.proposalDiscount!=null &&
-              this.proposalDiscount.equals(other.getProposalDiscount()))) &&
-            ((this.currencyCode==null && other.getCurrencyCode()==null) || 
-             (this.currencyCode!=null &&
-              this.currencyCode.equals(other.getCurrencyCode()))) &&
-            ((this.exchangeRate==null && other.getExchangeRate()==null) || 
-             (this.exchangeRate!=null &&
-              this.exchangeRate.equals(other.getExchangeRate()))) &&
-            ((this.refreshExchangeRate==null && other.getRefreshExchangeRate()==null) || 
-             (this.refreshExchangeRate!=null &&
-              this.refreshExchangeRate.equals(other.getRefreshExchangeRate()))) &&
-            ((this.agencyCommission==null && other.getAgencyCommission()==null) || 
-             (this.agencyCommission!=null &&
-              this.agencyCommission.equals(other.getAgencyCommission()))) &&
-            ((this.valueAddedTax==null && other.getValueAddedTax()==null) || 
-             (this.valueAddedTax!=null &&
-              this.valueAddedTax.equals(other.getValueAddedTax()))) &&
-            ((this.isSold==null && other.getIsSold()==null) || 
-             (this.isSold!=null &&
-              this.isSold.equals(other.getIsSold()))) &&
-            ((this.approvalStatus==null && other.getApprovalStatus()==null) || 
-             (this.approvalStatus!=null &&
-              this.approvalStatus.equals(other.getApprovalStatus()))) &&
-            ((this.lastModifiedDateTime==null && other.getLastModifiedDateTime()==null) || 
-             (this.lastModifiedDateTime!=null &&
-              this.lastModifiedDateTime.equals(other.getLastModifiedDateTime()))) &&
-            ((this.resources==null && other.getResources()==null) || 
-             (this.resources!=null &&
-              java.util.Arrays.equals(this.resources, other.getResources()))) &&
-            ((this.actualExpiryTime==null && other.getActualExpiryTime()==null) || 
-             (this.actualExpiryTime!=null &&
-              this.actualExpiryTime.equals(other.getActualExpiryTime()))) &&
-            ((this.expectedExpiryTime==null && other.getExpectedExpiryTime()==null) || 
-             (this.expectedExpiryTime!=null &&
-              this.expectedExpiryTime.equals(other.getExpectedExpiryTime()))) &&
-            ((this.thirdPartyAdServerId==null && other.getThirdPartyAdServerId()==null) || 
-             (this.thirdPartyAdServerId!=null &&
-              this.thirdPartyAdServerId.equals(other.getThirdPartyAdServerId()))) &&
-            ((this.customThirdPartyAdServerName==null && other.getCustomThirdPartyAdServerName()==null) || 
-             (this.customThirdPartyAdServerName!=null &&
-              this.customThirdPartyAdServerName.equals(other.getCustomThirdPartyAdServerName()))) &&
-            ((this.termsAndConditions==null && other.getTermsAndConditions()==null) || 
-             (this.termsAndConditions!=null &&
-              java.util.Arrays.equals(this.termsAndConditions, other.getTermsAndConditions()))) &&
-            ((this.lastRetractionDetails==null && other.getLastRetractionDetails()==null) || 
-             (this.lastRetractionDetails!=null &&
-              this.lastRetractionDetails.equals(other.getLastRetractionDetails())));
-        __equalsCalc = null;
-        return _equals;
-    }
-
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
-            return 0;
-        }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getId() != null) {
-            _hashCode += getId().hashCode();
-        }
-        if (getDfpOrderId() != null) {
-            _hashCode += getDfpOrderId().hashCode();
-        }
-        if (getName() != null) {
-            _hashCode += getName().hashCode();
-        }
-        if (getPricingModel() != null) {
-            _hashCode += getPricingModel().hashCode();
-        }
-        if (getStartDateTime() != null) {
-            _hashCode += getStartDateTime().hashCode();
+        try {
+            boolean _equals;
+            _equals = true && 
+                ((this.id==null && other.getId()==null) || 
+                 (this.id!=null &&
+                  this.id.equals(other.getId()))) &&
+                ((this.dfpOrderId==null && other.getDfpOrderId()==null) || 
+                 (this.dfpOrderId!=null &&
+                  this.dfpOrderId.equals(other.getDfpOrderId()))) &&
+                ((this.name==null && other.getName()==null) || 
+                 (this.name!=null &&
+                  this.name.equals(other.getName()))) &&
+                ((this.pricingModel==null && other.getPricingModel()==null) || 
+                 (this.pricingModel!=null &&
+                  this.pricingModel.equals(other.getPricingModel()))) &&
+                ((this.startDateTime==null && other.getStartDateTime()==null) || 
+                 (this.startDateTime!=null &&
+                  this.startDateTime.equals(other.getStartDateTime()))) &&
+                ((this.endDateTime==null && other.getEndDateTime()==null) || 
+                 (this.endDateTime!=null &&
+                  this.endDateTime.equals(other.getEndDateTime()))) &&
+                ((this.timeZoneId==null && other.getTimeZoneId()==null) || 
+                 (this.timeZoneId!=null &&
+                  this.timeZoneId.equals(other.getTimeZoneId()))) &&
+                ((this.status==null && other.getStatus()==null) || 
+                 (this.status!=null &&
+                  this.status.equals(other.getStatus()))) &&
+                ((this.isArchived==null && other.getIsArchived()==null) || 
+                 (this.isArchived!=null &&
+                  this.isArchived.equals(other.getIsArchived()))) &&
+                ((this.advertiser==null && other.getAdvertiser()==null) || 
+                 (this.advertiser!=null &&
+                  this.advertiser.equals(other.getAdvertiser()))) &&
+                ((this.agencies==null && other.getAgencies()==null) || 
+                 (this.agencies!=null &&
+                  java.util.Arrays.equals(this.agencies, other.getAgencies()))) &&
+                ((this.probabilityOfClose==null && other.getProbabilityOfClose()==null) || 
+                 (this.probabilityOfClose!=null &&
+                  this.probabilityOfClose.equals(other.getProbabilityOfClose()))) &&
+                ((this.billingCap==null && other.getBillingCap()==null) || 
+                 (this.billingCap!=null &&
+                  this.billingCap.equals(other.getBillingCap()))) &&
+                ((this.billingSchedule==null && other.getBillingSchedule()==null) || 
+                 (this.billingSchedule!=null &&
+                  this.billingSchedule.equals(other.getBillingSchedule()))) &&
+                ((this.billingSource==null && other.getBillingSource()==null) || 
+                 (this.billingSource!=null &&
+                  this.billingSource.equals(other.getBillingSource()))) &&
+                ((this.billingBase==null && other.getBillingBase()==null) || 
+                 (this.billingBase!=null &&
+                  this.billingBase.equals(other.getBillingBase()))) &&
+                ((this.poNumber==null && other.getPoNumber()==null) || 
+                 (this.poNumber!=null &&
+                  this.poNumber.equals(other.getPoNumber()))) &&
+                ((this.notes==null && other.getNotes()==null) || 
+                 (this.notes!=null &&
+                  this.notes.equals(other.getNotes()))) &&
+                ((this.budget==null && other.getBudget()==null) || 
+                 (this.budget!=null &&
+                  this.budget.equals(other.getBudget()))) &&
+                ((this.primarySalesperson==null && other.getPrimarySalesperson()==null) || 
+                 (this.primarySalesperson!=null &&
+                  this.primarySalesperson.equals(other.getPrimarySalesperson()))) &&
+                ((this.secondarySalespeople==null && other.getSecondarySalespeople()==null) || 
+                 (this.secondarySalespeople!=null &&
+                  java.util.Arrays.equals(this.secondarySalespeople, other.getSecondarySalespeople()))) &&
+                ((this.salesPlannerIds==null && other.getSalesPlannerIds()==null) || 
+                 (this.salesPlannerIds!=null &&
+                  java.util.Arrays.equals(this.salesPlannerIds, other.getSalesPlannerIds()))) &&
+                ((this.primaryTraffickerId==null && other.getPrimaryTraffickerId()==null) || 
+                 (this.primaryTraffickerId!=null &&
+                  this.primaryTraffickerId.equals(other.getPrimaryTraffickerId()))) &&
+                ((this.secondaryTraffickerIds==null && other.getSecondaryTraffickerIds()==null) || 
+                 (this.secondaryTraffickerIds!=null &&
+                  java.util.Arrays.equals(this.secondaryTraffickerIds, other.getSecondaryTraffickerIds()))) &&
+                ((this.appliedTeamIds==null && other.getAppliedTeamIds()==null) || 
+                 (this.appliedTeamIds!=null &&
+                  java.util.Arrays.equals(this.appliedTeamIds, other.getAppliedTeamIds()))) &&
+                ((this.customFieldValues==null && other.getCustomFieldValues()==null) || 
+                 (this.customFieldValues!=null &&
+                  java.util.Arrays.equals(this.customFieldValues, other.getCustomFieldValues()))) &&
+                ((this.appliedLabels==null && other.getAppliedLabels()==null) || 
+                 (this.appliedLabels!=null &&
+                  java.util.Arrays.equals(this.appliedLabels, other.getAppliedLabels()))) &&
+                ((this.effectiveAppliedLabels==null && other.getEffectiveAppliedLabels()==null) || 
+                 (this.effectiveAppliedLabels!=null &&
+                  java.util.Arrays.equals(this.effectiveAppliedLabels, other.getEffectiveAppliedLabels()))) &&
+                ((this.advertiserDiscount==null && other.getAdvertiserDiscount()==null) || 
+                 (this.advertiserDiscount!=null &&
+                  this.advertiserDiscount.equals(other.getAdvertiserDiscount()))) &&
+                ((this.proposalDiscount==null && other.getProposalDiscount()==null) || 
+                 (this.proposalDiscount!=null &&
+                  this.proposalDiscount.equals(other.getProposalDiscount()))) &&
+                ((this.currencyCode==null && other.getCurrencyCode()==null) || 
+                 (this.currencyCode!=null &&
+                  this.currencyCode.equals(other.getCurrencyCode()))) &&
+                ((this.exchangeRate==null && other.getExchangeRate()==null) || 
+                 (this.exchangeRate!=null &&
+                  this.exchangeRate.equals(other.getExchangeRate()))) &&
+                ((this.refreshExchangeRate==null && other.getRefreshExchangeRate()==null) || 
+                 (this.refreshExchangeRate!=null &&
+                  this.refreshExchangeRate.equals(other.getRefreshExchangeRate()))) &&
+                ((this.agencyCommission==null && other.getAgencyCommission()==null) || 
+                 (this.agencyCommission!=null &&
+                  this.agencyCommission.equals(other.getAgencyCommission()))) &&
+                ((this.valueAddedTax==null && other.getValueAddedTax()==null) || 
+                 (this.valueAddedTax!=null &&
+                  this.valueAddedTax.equals(other.getValueAddedTax()))) &&
+                ((this.isSold==null && other.getIsSold()==null) || 
+                 (this.isSold!=null &&
+                  this.isSold.equals(other.getIsSold()))) &&
+                ((this.approvalStatus==null && other.getApprovalStatus()==null) || 
+                 (this.approvalStatus!=null &&
+                  this.approvalStatus.equals(other.getApprovalStatus()))) &&
+                ((this.lastModifiedDateTime==null && other.getLastModifiedDateTime()==null) || 
+                 (this.lastModifiedDateTime!=null &&
+                  this.lastModifiedDateTime.equals(other.getLastModifiedDateTime()))) &&
+                ((this.resources==null && other.getResources()==null) || 
+                 (this.resources!=null &&
+                  java.util.Arrays.equals(this.resources, other.getResources()))) &&
+                ((this.actualExpiryTime==null && other.getActualExpiryTime()==null) || 
+                 (this.actualExpiryTime!=null &&
+                  this.actualExpiryTime.equals(other.getActualExpiryTime()))) &&
+                ((this.expectedExpiryTime==null && other.getExpectedExpiryTime()==null) || 
+                 (this.expectedExpiryTime!=null &&
+                  this.expectedExpiryTime.equals(other.getExpectedExpiryTime()))) &&
+                ((this.thirdPartyAdServerId==null && other.getThirdPartyAdServerId()==null) || 
+                 (this.thirdPartyAdServerId!=null &&
+                  this.thirdPartyAdServerId.equals(other.getThirdPartyAdServerId()))) &&
+                ((this.customThirdPartyAdServerName==null && other.getCustomThirdPartyAdServerName()==null) || 
+                 (this.customThirdPartyAdServerName!=null &&
+                  this.customThirdPartyAdServerName.equals(other.getCustomThirdPartyAdServerName()))) &&
+                ((this.termsAndConditions==null && other.getTermsAndConditions()==null) || 
+                 (this.termsAndConditions!=null &&
+                  java.util.Arrays.equals(this.termsAndConditions, other.getTermsAndConditions()))) &&
+                ((this.lastRetractionDetails==null && other.getLastRetractionDetails()==null) || 
+                 (this.lastRetractionDetails!=null &&
+                  this.lastRetractionDetails.equals(other.getLastRetractionDetails())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
         }
-        if (getEndDateTime() != null) {
-            _hashCode += getEndDateTime().hashCode();
-        }
-        if (getTimeZoneId() != null) {
-            _hashCode += getTimeZoneId().hashCode();
-        }
-        if (getStatus() != null) {
-            _hashCode += getStatus().hashCode();
-        }
-        if (getIsArchived() != null) {
-            _hashCode += getIsArchived().hashCode();
-        }
-        if (getAdvertiser() != null) {
-            _hashCode += getAdvertiser().hashCode();
+    }
+
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(Proposal.class, this)) {
+            return 0;
         }
-        if (getAgencies() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getAgencies());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getAgencies(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+        try {
+            int _hashCode = 1;
+            if (getId() != null) {
+                _hashCode += getId().hashCode();
+            }
+            if (getDfpOrderId() != null) {
+                _hashCode += getDfpOrderId().hashCode();
+            }
+            if (getName() != null) {
+                _hashCode += getName().hashCode();
+            }
+            if (getPricingModel() != null) {
+                _hashCode += getPricingModel().hashCode();
+            }
+            if (getStartDateTime() != null) {
+                _hashCode += getStartDateTime().hashCode();
+            }
+            if (getEndDateTime() != null) {
+                _hashCode += getEndDateTime().hashCode();
+            }
+            if (getTimeZoneId() != null) {
+                _hashCode += getTimeZoneId().hashCode();
+            }
+            if (getStatus() != null) {
+                _hashCode += getStatus().hashCode();
+            }
+            if (getIsArchived() != null) {
+                _hashCode += getIsArchived().hashCode();
+            }
+            if (getAdvertiser() != null) {
+                _hashCode += getAdvertiser().hashCode();
+            }
+            if (getAgencies() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getAgencies());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getAgencies(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
-        }
-        if (getProbabilityOfClose() != null) {
-            _hashCode += getProbabilityOfClose().hashCode();
-        }
-        if (getBillingCap() != null) {
-            _hashCode += getBillingCap().hashCode();
-        }
-        if (getBillingSchedule() != null) {
-            _hashCode += getBillingSchedule().hashCode();
-        }
-        if (getBillingSource() != null) {
-            _hashCode += getBillingSource().hashCode();
-        }
-        if (getBillingBase() != null) {
-            _hashCode += getBillingBase().hashCode();
-        }
-        if (getPoNumber() != null) {
-            _hashCode += getPoNumber().hashCode();
-        }
-        if (getNotes() != null) {
-            _hashCode += getNotes().hashCode();
-        }
-        if (getBudget() != null) {
-            _hashCode += getBudget().hashCode();
-        }
-        if (getPrimarySalesperson() != null) {
-            _hashCode += getPrimarySalesperson().hashCode();
-        }
-        if (getSecondarySalespeople() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getSecondarySalespeople());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getSecondarySalespeople(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+            if (getProbabilityOfClose() != null) {
+                _hashCode += getProbabilityOfClose().hashCode();
+            }
+            if (getBillingCap() != null) {
+                _hashCode += getBillingCap().hashCode();
+            }
+            if (getBillingSchedule() != null) {
+                _hashCode += getBillingSchedule().hashCode();
+            }
+            if (getBillingSource() != null) {
+                _hashCode += getBillingSource().hashCode();
+            }
+            if (getBillingBase() != null) {
+                _hashCode += getBillingBase().hashCode();
+            }
+            if (getPoNumber() != null) {
+                _hashCode += getPoNumber().hashCode();
+            }
+            if (getNotes() != null) {
+                _hashCode += getNotes().hashCode();
+            }
+            if (getBudget() != null) {
+                _hashCode += getBudget().hashCode();
+            }
+            if (getPrimarySalesperson() != null) {
+                _hashCode += getPrimarySalesperson().hashCode();
+            }
+            if (getSecondarySalespeople() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getSecondarySalespeople());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getSecondarySalespeople(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
-        }
-        if (getSalesPlannerIds() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getSalesPlannerIds());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getSalesPlannerIds(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+            if (getSalesPlannerIds() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getSalesPlannerIds());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getSalesPlannerIds(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
-        }
-        if (getPrimaryTraffickerId() != null) {
-            _hashCode += getPrimaryTraffickerId().hashCode();
-        }
-        if (getSecondaryTraffickerIds() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getSecondaryTraffickerIds());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getSecondaryTraffickerIds(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+            if (getPrimaryTraffickerId() != null) {
+                _hashCode += getPrimaryTraffickerId().hashCode();
+            }
+            if (getSecondaryTraffickerIds() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getSecondaryTraffickerIds());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getSecondaryTraffickerIds(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
-        }
-        if (getAppliedTeamIds() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getAppliedTeamIds());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getAppliedTeamIds(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+            if (getAppliedTeamIds() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getAppliedTeamIds());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getAppliedTeamIds(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
-        }
-        if (getCustomFieldValues() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getCustomFieldValues());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getCustomFieldValues(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+            if (getCustomFieldValues() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getCustomFieldValues());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getCustomFieldValues(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
-        }
-        if (getAppliedLabels() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getAppliedLabels());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getAppliedLabels(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+            if (getAppliedLabels() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getAppliedLabels());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getAppliedLabels(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
-        }
-        if (getEffectiveAppliedLabels() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getEffectiveAppliedLabels());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getEffectiveAppliedLabels(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+            if (getEffectiveAppliedLabels() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getEffectiveAppliedLabels());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getEffectiveAppliedLabels(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
-        }
-        if (getAdvertiserDiscount() != null) {
-            _hashCode += getAdvertiserDiscount().hashCode();
-        }
-        if (getProposalDiscount() != null) {
-            _hashCode += getProposalDiscount().hashCode();
-        }
-        if (getCurrencyCode() != null) {
-            _hashCode += getCurrencyCode().hashCode();
-        }
-        if (getExchangeRate() != null) {
-            _hashCode += getExchangeRate().hashCode();
-        }
-        if (getRefreshExchangeRate() != null) {
-            _hashCode += getRefreshExchangeRate().hashCode();
-        }
-        if (getAgencyCommission() != null) {
-            _hashCode += getAgencyCommission().hashCode();
-        }
-        if (getValueAddedTax() != null) {
-            _hashCode += getValueAddedTax().hashCode();
-        }
-        if (getIsSold() != null) {
-            _hashCode += getIsSold().hashCode();
-        }
-        if (getApprovalStatus() != null) {
-            _hashCode += getApprovalStatus().hashCode();
-        }
-        if (getLastModifiedDateTime() != null) {
-            _hashCode += getLastModifiedDateTime().hashCode();
-        }
-        if (getResources() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getResources());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getResources(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+            if (getAdvertiserDiscount() != null) {
+                _hashCode += getAdvertiserDiscount().hashCode();
+            }
+            if (getProposalDiscount() != null) {
+                _hashCode += getProposalDiscount().hashCode();
+            }
+            if (getCurrencyCode() != null) {
+                _hashCode += getCurrencyCode().hashCode();
+            }
+            if (getExchangeRate() != null) {
+                _hashCode += getExchangeRate().hashCode();
+            }
+            if (getRefreshExchangeRate() != null) {
+                _hashCode += getRefreshExchangeRate().hashCode();
+            }
+            if (getAgencyCommission() != null) {
+                _hashCode += getAgencyCommission().hashCode();
+            }
+            if (getValueAddedTax() != null) {
+                _hashCode += getValueAddedTax().hashCode();
+            }
+            if (getIsSold() != null) {
+                _hashCode += getIsSold().hashCode();
+            }
+            if (getApprovalStatus() != null) {
+                _hashCode += getApprovalStatus().hashCode();
+            }
+            if (getLastModifiedDateTime() != null) {
+                _hashCode += getLastModifiedDateTime().hashCode();
+            }
+            if (getResources() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getResources());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getResources(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
-        }
-        if (getActualExpiryTime() != null) {
-            _hashCode += getActualExpiryTime().hashCode();
-        }
-        if (getExpectedExpiryTime() != null) {
-            _hashCode += getExpectedExpiryTime().hashCode();
-        }
-        if (getThirdPartyAdServerId() != null) {
-            _hashCode += getThirdPartyAdServerId().hashCode();
-        }
-        if (getCustomThirdPartyAdServerName() != null) {
-            _hashCode += getCustomThirdPartyAdServerName().hashCode();
-        }
-        if (getTermsAndConditions() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getTermsAndConditions());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getTermsAndConditions(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+            if (getActualExpiryTime() != null) {
+                _hashCode += getActualExpiryTime().hashCode();
+            }
+            if (getExpectedExpiryTime() != null) {
+                _hashCode += getExpectedExpiryTime().hashCode();
+            }
+            if (getThirdPartyAdServerId() != null) {
+                _hashCode += getThirdPartyAdServerId().hashCode();
+            }
+            if (getCustomThirdPartyAdServerName() != null) {
+                _hashCode += getCustomThirdPartyAdServerName().hashCode();
+            }
+            if (getTermsAndConditions() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getTermsAndConditions());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getTermsAndConditions(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
+            if (getLastRetractionDetails() != null) {
+                _hashCode += getLastRetractionDetails().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        if (getLastRetractionDetails() != null) {
-            _hashCode += getLastRetractionDetails().hashCode();
-        }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(Proposal.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(Proposal.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://www.google.com/apis/ads/publisher/v201602", "Proposal"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("id");
@@ -3027,13 +3032,24 @@ public class Proposal  implements java.io.Serializable {
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (Proposal.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -3045,7 +3061,7 @@ public class Proposal  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -3057,7 +3073,7 @@ public class Proposal  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
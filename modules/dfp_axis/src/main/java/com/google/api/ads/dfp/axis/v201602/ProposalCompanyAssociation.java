@@ -130,64 +130,69 @@ public class ProposalCompanyAssociation  implements java.io.Serializable {
         this.contactIds[i] = _value;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof ProposalCompanyAssociation)) return false;
         ProposalCompanyAssociation other = (ProposalCompanyAssociation) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(ProposalCompanyAssociation.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = true && 
-            ((this.companyId==null && other.getCompanyId()==null) || 
-             (this.companyId!=null &&
-              this.companyId.equals(other.getCompanyId()))) &&
-            ((this.type==null && other.getType()==null) || 
-             (this.type!=null &&
-              this.type.equals(other.getType()))) &&
-            ((this.contactIds==null && other.getContactIds()==null) || 
-             (this.contactIds!=null &&
-              java.util.Arrays.equals(this.contactIds, other.getContactIds())));
-        __equalsCalc = null;
-        return _equals;
-    }
-
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
-            return 0;
-        }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getCompanyId() != null) {
-            _hashCode += getCompanyId().hashCode();
+        try {
+            boolean _equals;
+            _equals = true && 
+                ((this.companyId==null && other.getCompanyId()==null) || 
+                 (this.companyId!=null &&
+                  this.companyId.equals(other.getCompanyId()))) &&
+                ((this.type==null && other.getType()==null) || 
+                 (this.type!=null &&
+                  this.type.equals(other.getType()))) &&
+                ((this.contactIds==null && other.getContactIds()==null) || 
+                 (this.contactIds!=null &&
+                  java.util.Arrays.equals(this.contactIds, other.getContactIds())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
         }
-        if (getType() != null) {
-            _hashCode += getType().hashCode();
+    }
+
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(ProposalCompanyAssociation.class, this)) {
+            return 0;
         }
-        if (getContactIds() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getContactIds());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getContactIds(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+        try {
+            int _hashCode = 1;
+            if (getCompanyId() != null) {
+                _hashCode += getCompanyId().hashCode();
+            }
+            if (getType() != null) {
+                _hashCode += getType().hashCode();
+            }
+            if (getContactIds() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getContactIds());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getContactIds(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(ProposalCompanyAssociation.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(ProposalCompanyAssociation.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://www.google.com/apis/ads/publisher/v201602", "ProposalCompanyAssociation"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("companyId");
@@ -211,13 +216,24 @@ public class ProposalCompanyAssociation  implements java.io.Serializable {
         elemField.setNillable(false);
         elemField.setMaxOccursUnbounded(true);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (ProposalCompanyAssociation.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -229,7 +245,7 @@ public class ProposalCompanyAssociation  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -241,7 +257,7 @@ public class ProposalCompanyAssociation  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
@@ -355,108 +355,113 @@ public class ProposalLineItemConstraints  implements java.io.Serializable {
         this.customizableAttributes = customizableAttributes;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof ProposalLineItemConstraints)) return false;
         ProposalLineItemConstraints other = (ProposalLineItemConstraints) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(ProposalLineItemConstraints.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = true && 
-            ((this.allowCreativePlaceholdersCustomization==null && other.getAllowCreativePlaceholdersCustomization()==null) || 
-             (this.allowCreativePlaceholdersCustomization!=null &&
-              this.allowCreativePlaceholdersCustomization.equals(other.getAllowCreativePlaceholdersCustomization()))) &&
-            ((this.builtInCreativePlaceholders==null && other.getBuiltInCreativePlaceholders()==null) || 
-             (this.builtInCreativePlaceholders!=null &&
-              java.util.Arrays.equals(this.builtInCreativePlaceholders, other.getBuiltInCreativePlaceholders()))) &&
-            ((this.builtInRoadblockingType==null && other.getBuiltInRoadblockingType()==null) || 
-             (this.builtInRoadblockingType!=null &&
-              this.builtInRoadblockingType.equals(other.getBuiltInRoadblockingType()))) &&
-            ((this.builtInDeliveryRateType==null && other.getBuiltInDeliveryRateType()==null) || 
-             (this.builtInDeliveryRateType!=null &&
-              this.builtInDeliveryRateType.equals(other.getBuiltInDeliveryRateType()))) &&
-            ((this.builtInCreativeRotationType==null && other.getBuiltInCreativeRotationType()==null) || 
-             (this.builtInCreativeRotationType!=null &&
-              this.builtInCreativeRotationType.equals(other.getBuiltInCreativeRotationType()))) &&
-            ((this.builtInCompanionDeliveryOption==null && other.getBuiltInCompanionDeliveryOption()==null) || 
-             (this.builtInCompanionDeliveryOption!=null &&
-              this.builtInCompanionDeliveryOption.equals(other.getBuiltInCompanionDeliveryOption()))) &&
-            ((this.builtInFrequencyCaps==null && other.getBuiltInFrequencyCaps()==null) || 
-             (this.builtInFrequencyCaps!=null &&
-              java.util.Arrays.equals(this.builtInFrequencyCaps, other.getBuiltInFrequencyCaps()))) &&
-            ((this.productBuiltInTargeting==null && other.getProductBuiltInTargeting()==null) || 
-             (this.productBuiltInTargeting!=null &&
-              this.productBuiltInTargeting.equals(other.getProductBuiltInTargeting()))) &&
-            ((this.customizableAttributes==null && other.getCustomizableAttributes()==null) || 
-             (this.customizableAttributes!=null &&
-              this.customizableAttributes.equals(other.getCustomizableAttributes())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = true && 
+                ((this.allowCreativePlaceholdersCustomization==null && other.getAllowCreativePlaceholdersCustomization()==null) || 
+                 (this.allowCreativePlaceholdersCustomization!=null &&
+                  this.allowCreativePlaceholdersCustomization.equals(other.getAllowCreativePlaceholdersCustomization()))) &&
+                ((this.builtInCreativePlaceholders==null && other.getBuiltInCreativePlaceholders()==null) || 
+                 (this.builtInCreativePlaceholders!=null &&
+                  java.util.Arrays.equals(this.builtInCreativePlaceholders, other.getBuiltInCreativePlaceholders()))) &&
+                ((this.builtInRoadblockingType==null && other.getBuiltInRoadblockingType()==null) || 
+                 (this.builtInRoadblockingType!=null &&
+                  this.builtInRoadblockingType.equals(other.getBuiltInRoadblockingType()))) &&
+                ((this.builtInDeliveryRateType==null && other.getBuiltInDeliveryRateType()==null) || 
+                 (this.builtInDeliveryRateType!=null &&
+                  this.builtInDeliveryRateType.equals(other.getBuiltInDeliveryRateType()))) &&
+                ((this.builtInCreativeRotationType==null && other.getBuiltInCreativeRotationType()==null) || 
+                 (this.builtInCreativeRotationType!=null &&
+                  this.builtInCreativeRotationType.equals(other.getBuiltInCreativeRotationType()))) &&
+                ((this.builtInCompanionDeliveryOption==null && other.getBuiltInCompanionDeliveryOption()==null) || 
+                 (this.builtInCompanionDeliveryOption!=null &&
+                  this.builtInCompanionDeliveryOption.equals(other.getBuiltInCompanionDeliveryOption()))) &&
+                ((this.builtInFrequencyCaps==null && other.getBuiltInFrequencyCaps()==null) || 
+                 (this.builtInFrequencyCaps!=null &&
+                  java.util.Arrays.equals(this.builtInFrequencyCaps, other.getBuiltInFrequencyCaps()))) &&
+                ((this.productBuiltInTargeting==null && other.getProductBuiltInTargeting()==null) || 
+                 (this.productBuiltInTargeting!=null &&
+                  this.productBuiltInTargeting.equals(other.getProductBuiltInTargeting()))) &&
+                ((this.customizableAttributes==null && other.getCustomizableAttributes()==null) || 
+                 (this.customizableAttributes!=null &&
+                  this.customizableAttributes.equals(other.getCustomizableAttributes())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(ProposalLineItemConstraints.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getAllowCreativePlaceholdersCustomization() != null) {
-            _hashCode += getAllowCreativePlaceholdersCustomization().hashCode();
-        }
-        if (getBuiltInCreativePlaceholders() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getBuiltInCreativePlaceholders());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getBuiltInCreativePlaceholders(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+        try {
+            int _hashCode = 1;
+            if (getAllowCreativePlaceholdersCustomization() != null) {
+                _hashCode += getAllowCreativePlaceholdersCustomization().hashCode();
+            }
+            if (getBuiltInCreativePlaceholders() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getBuiltInCreativePlaceholders());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getBuiltInCreativePlaceholders(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
-        }
-        if (getBuiltInRoadblockingType() != null) {
-            _hashCode += getBuiltInRoadblockingType().hashCode();
-        }
-        if (getBuiltInDeliveryRateType() != null) {
-            _hashCode += getBuiltInDeliveryRateType().hashCode();
-        }
-        if (getBuiltInCreativeRotationType() != null) {
-            _hashCode += getBuiltInCreativeRotationType().hashCode();
-        }
-        if (getBuiltInCompanionDeliveryOption() != null) {
-            _hashCode += getBuiltInCompanionDeliveryOption().hashCode();
-        }
-        if (getBuiltInFrequencyCaps() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getBuiltInFrequencyCaps());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getBuiltInFrequencyCaps(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+            if (getBuiltInRoadblockingType() != null) {
+                _hashCode += getBuiltInRoadblockingType().hashCode();
+            }
+            if (getBuiltInDeliveryRateType() != null) {
+                _hashCode += getBuiltInDeliveryRateType().hashCode();
+            }
+            if (getBuiltInCreativeRotationType() != null) {
+                _hashCode += getBuiltInCreativeRotationType().hashCode();
+            }
+            if (getBuiltInCompanionDeliveryOption() != null) {
+                _hashCode += getBuiltInCompanionDeliveryOption().hashCode();
+            }
+            if (getBuiltInFrequencyCaps() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getBuiltInFrequencyCaps());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getBuiltInFrequencyCaps(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
+            if (getProductBuiltInTargeting() != null) {
+                _hashCode += getProductBuiltInTargeting().hashCode();
+            }
+            if (getCustomizableAttributes() != null) {
+                _hashCode += getCustomizableAttributes().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        if (getProductBuiltInTargeting() != null) {
-            _hashCode += getProductBuiltInTargeting().hashCode();
-        }
-        if (getCustomizableAttributes() != null) {
-            _hashCode += getCustomizableAttributes().hashCode();
-        }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(ProposalLineItemConstraints.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(ProposalLineItemConstraints.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://www.google.com/apis/ads/publisher/v201602", "ProposalLineItemConstraints"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("allowCreativePlaceholdersCustomization");
@@ -523,13 +528,24 @@ public class ProposalLineItemConstraints  implements java.io.Serializable {
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (ProposalLineItemConstraints.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -541,7 +557,7 @@ public class ProposalLineItemConstraints  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -553,7 +569,7 @@ public class ProposalLineItemConstraints  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
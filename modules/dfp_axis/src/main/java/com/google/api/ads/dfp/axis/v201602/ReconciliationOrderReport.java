@@ -318,92 +318,97 @@ public class ReconciliationOrderReport  implements java.io.Serializable {
         this.proposalGrossBillableRevenueManualAdjustment = proposalGrossBillableRevenueManualAdjustment;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof ReconciliationOrderReport)) return false;
         ReconciliationOrderReport other = (ReconciliationOrderReport) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(ReconciliationOrderReport.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = true && 
-            ((this.id==null && other.getId()==null) || 
-             (this.id!=null &&
-              this.id.equals(other.getId()))) &&
-            ((this.reconciliationReportId==null && other.getReconciliationReportId()==null) || 
-             (this.reconciliationReportId!=null &&
-              this.reconciliationReportId.equals(other.getReconciliationReportId()))) &&
-            ((this.orderId==null && other.getOrderId()==null) || 
-             (this.orderId!=null &&
-              this.orderId.equals(other.getOrderId()))) &&
-            ((this.proposalId==null && other.getProposalId()==null) || 
-             (this.proposalId!=null &&
-              this.proposalId.equals(other.getProposalId()))) &&
-            ((this.status==null && other.getStatus()==null) || 
-             (this.status!=null &&
-              this.status.equals(other.getStatus()))) &&
-            ((this.submissionDateTime==null && other.getSubmissionDateTime()==null) || 
-             (this.submissionDateTime!=null &&
-              this.submissionDateTime.equals(other.getSubmissionDateTime()))) &&
-            ((this.submitterId==null && other.getSubmitterId()==null) || 
-             (this.submitterId!=null &&
-              this.submitterId.equals(other.getSubmitterId()))) &&
-            ((this.proposalNetBillableRevenueManualAdjustment==null && other.getProposalNetBillableRevenueManualAdjustment()==null) || 
-             (this.proposalNetBillableRevenueManualAdjustment!=null &&
-              this.proposalNetBillableRevenueManualAdjustment.equals(other.getProposalNetBillableRevenueManualAdjustment()))) &&
-            ((this.proposalGrossBillableRevenueManualAdjustment==null && other.getProposalGrossBillableRevenueManualAdjustment()==null) || 
-             (this.proposalGrossBillableRevenueManualAdjustment!=null &&
-              this.proposalGrossBillableRevenueManualAdjustment.equals(other.getProposalGrossBillableRevenueManualAdjustment())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = true && 
+                ((this.id==null && other.getId()==null) || 
+                 (this.id!=null &&
+                  this.id.equals(other.getId()))) &&
+                ((this.reconciliationReportId==null && other.getReconciliationReportId()==null) || 
+                 (this.reconciliationReportId!=null &&
+                  this.reconciliationReportId.equals(other.getReconciliationReportId()))) &&
+                ((this.orderId==null && other.getOrderId()==null) || 
+                 (this.orderId!=null &&
+                  this.orderId.equals(other.getOrderId()))) &&
+                ((this.proposalId==null && other.getProposalId()==null) || 
+                 (this.proposalId!=null &&
+                  this.proposalId.equals(other.getProposalId()))) &&
+                ((this.status==null && other.getStatus()==null) || 
+                 (this.status!=null &&
+                  this.status.equals(other.getStatus()))) &&
+                ((this.submissionDateTime==null && other.getSubmissionDateTime()==null) || 
+                 (this.submissionDateTime!=null &&
+                  this.submissionDateTime.equals(other.getSubmissionDateTime()))) &&
+                ((this.submitterId==null && other.getSubmitterId()==null) || 
+                 (this.submitterId!=null &&
+                  this.submitterId.equals(other.getSubmitterId()))) &&
+                ((this.proposalNetBillableRevenueManualAdjustment==null && other.getProposalNetBillableRevenueManualAdjustment()==null) || 
+                 (this.proposalNetBillableRevenueManualAdjustment!=null &&
+                  this.proposalNetBillableRevenueManualAdjustment.equals(other.getProposalNetBillableRevenueManualAdjustment()))) &&
+                ((this.proposalGrossBillableRevenueManualAdjustment==null && other.getProposalGrossBillableRevenueManualAdjustment()==null) || 
+                 (this.proposalGrossBillableRevenueManualAdjustment!=null &&
+                  this.proposalGrossBillableRevenueManualAdjustment.equals(other.getProposalGrossBillableRevenueManualAdjustment())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(ReconciliationOrderReport.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getId() != null) {
-            _hashCode += getId().hashCode();
-        }
-        if (getReconciliationReportId() != null) {
-            _hashCode += getReconciliationReportId().hashCode();
-        }
-        if (getOrderId() != null) {
-            _hashCode += getOrderId().hashCode();
-        }
-        if (getProposalId() != null) {
-            _hashCode += getProposalId().hashCode();
-        }
-        if (getStatus() != null) {
-            _hashCode += getStatus().hashCode();
-        }
-        if (getSubmissionDateTime() != null) {
-            _hashCode += getSubmissionDateTime().hashCode();
+        try {
+            int _hashCode = 1;
+            if (getId() != null) {
+                _hashCode += getId().hashCode();
+            }
+            if (getReconciliationReportId() != null) {
+                _hashCode += getReconciliationReportId().hashCode();
+            }
+            if (getOrderId() != null) {
+                _hashCode += getOrderId().hashCode();
+            }
+            if (getProposalId() != null) {
+                _hashCode += getProposalId().hashCode();
+            }
+            if (getStatus() != null) {
+                _hashCode += getStatus().hashCode();
+            }
+            if (getSubmissionDateTime() != null) {
+                _hashCode += getSubmissionDateTime().hashCode();
+            }
+            if (getSubmitterId() != null) {
+                _hashCode += getSubmitterId().hashCode();
+            }
+            if (getProposalNetBillableRevenueManualAdjustment() != null) {
+                _hashCode += getProposalNetBillableRevenueManualAdjustment().hashCode();
+            }
+            if (getProposalGrossBillableRevenueManualAdjustment() != null) {
+                _hashCode += getProposalGrossBillableRevenueManualAdjustment().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        if (getSubmitterId() != null) {
-            _hashCode += getSubmitterId().hashCode();
-        }
-        if (getProposalNetBillableRevenueManualAdjustment() != null) {
-            _hashCode += getProposalNetBillableRevenueManualAdjustment().hashCode();
-        }
-        if (getProposalGrossBillableRevenueManualAdjustment() != null) {
-            _hashCode += getProposalGrossBillableRevenueManualAdjustment().hashCode();
-        }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(ReconciliationOrderReport.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(ReconciliationOrderReport.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://www.google.com/apis/ads/publisher/v201602", "ReconciliationOrderReport"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("id");
@@ -468,13 +473,24 @@ public class ReconciliationOrderReport  implements java.io.Serializable {
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (ReconciliationOrderReport.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -486,7 +502,7 @@ public class ReconciliationOrderReport  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -498,7 +514,7 @@ public class ReconciliationOrderReport  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
@@ -877,170 +877,175 @@ public class ReconciliationReportRow  implements java.io.Serializable {
         this.comments = comments;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof ReconciliationReportRow)) return false;
         ReconciliationReportRow other = (ReconciliationReportRow) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(ReconciliationReportRow.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = true && 
-            ((this.id==null && other.getId()==null) || 
-             (this.id!=null &&
-              this.id.equals(other.getId()))) &&
-            ((this.reconciliationReportId==null && other.getReconciliationReportId()==null) || 
-             (this.reconciliationReportId!=null &&
-              this.reconciliationReportId.equals(other.getReconciliationReportId()))) &&
-            ((this.lineItemId==null && other.getLineItemId()==null) || 
-             (this.lineItemId!=null &&
-              this.lineItemId.equals(other.getLineItemId()))) &&
-            ((this.creativeId==null && other.getCreativeId()==null) || 
-             (this.creativeId!=null &&
-              this.creativeId.equals(other.getCreativeId()))) &&
-            ((this.orderId==null && other.getOrderId()==null) || 
-             (this.orderId!=null &&
-              this.orderId.equals(other.getOrderId()))) &&
-            ((this.advertiserId==null && other.getAdvertiserId()==null) || 
-             (this.advertiserId!=null &&
-              this.advertiserId.equals(other.getAdvertiserId()))) &&
-            ((this.proposalLineItemId==null && other.getProposalLineItemId()==null) || 
-             (this.proposalLineItemId!=null &&
-              this.proposalLineItemId.equals(other.getProposalLineItemId()))) &&
-            ((this.proposalId==null && other.getProposalId()==null) || 
-             (this.proposalId!=null &&
-              this.proposalId.equals(other.getProposalId()))) &&
-            ((this.reconciliationSource==null && other.getReconciliationSource()==null) || 
-             (this.reconciliationSource!=null &&
-              this.reconciliationSource.equals(other.getReconciliationSource()))) &&
-            ((this.rateType==null && other.getRateType()==null) || 
-             (this.rateType!=null &&
-              this.rateType.equals(other.getRateType()))) &&
-            ((this.lineItemCostPerUnit==null && other.getLineItemCostPerUnit()==null) || 
-             (this.lineItemCostPerUnit!=null &&
-              this.lineItemCostPerUnit.equals(other.getLineItemCostPerUnit()))) &&
-            ((this.lineItemContractedUnitsBought==null && other.getLineItemContractedUnitsBought()==null) || 
-             (this.lineItemContractedUnitsBought!=null &&
-              this.lineItemContractedUnitsBought.equals(other.getLineItemContractedUnitsBought()))) &&
-            ((this.dfpVolume==null && other.getDfpVolume()==null) || 
-             (this.dfpVolume!=null &&
-              this.dfpVolume.equals(other.getDfpVolume()))) &&
-            ((this.thirdPartyVolume==null && other.getThirdPartyVolume()==null) || 
-             (this.thirdPartyVolume!=null &&
-              this.thirdPartyVolume.equals(other.getThirdPartyVolume()))) &&
-            ((this.manualVolume==null && other.getManualVolume()==null) || 
-             (this.manualVolume!=null &&
-              this.manualVolume.equals(other.getManualVolume()))) &&
-            ((this.reconciledVolume==null && other.getReconciledVolume()==null) || 
-             (this.reconciledVolume!=null &&
-              this.reconciledVolume.equals(other.getReconciledVolume()))) &&
-            ((this.contractedRevenue==null && other.getContractedRevenue()==null) || 
-             (this.contractedRevenue!=null &&
-              this.contractedRevenue.equals(other.getContractedRevenue()))) &&
-            ((this.dfpRevenue==null && other.getDfpRevenue()==null) || 
-             (this.dfpRevenue!=null &&
-              this.dfpRevenue.equals(other.getDfpRevenue()))) &&
-            ((this.thirdPartyRevenue==null && other.getThirdPartyRevenue()==null) || 
-             (this.thirdPartyRevenue!=null &&
-              this.thirdPartyRevenue.equals(other.getThirdPartyRevenue()))) &&
-            ((this.manualRevenue==null && other.getManualRevenue()==null) || 
-             (this.manualRevenue!=null &&
-              this.manualRevenue.equals(other.getManualRevenue()))) &&
-            ((this.reconciledRevenue==null && other.getReconciledRevenue()==null) || 
-             (this.reconciledRevenue!=null &&
-              this.reconciledRevenue.equals(other.getReconciledRevenue()))) &&
-            ((this.comments==null && other.getComments()==null) || 
-             (this.comments!=null &&
-              this.comments.equals(other.getComments())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = true && 
+                ((this.id==null && other.getId()==null) || 
+                 (this.id!=null &&
+                  this.id.equals(other.getId()))) &&
+                ((this.reconciliationReportId==null && other.getReconciliationReportId()==null) || 
+                 (this.reconciliationReportId!=null &&
+                  this.reconciliationReportId.equals(other.getReconciliationReportId()))) &&
+                ((this.lineItemId==null && other.getLineItemId()==null) || 
+                 (this.lineItemId!=null &&
+                  this.lineItemId.equals(other.getLineItemId()))) &&
+                ((this.creativeId==null && other.getCreativeId()==null) || 
+                 (this.creativeId!=null &&
+                  this.creativeId.equals(other.getCreativeId()))) &&
+                ((this.orderId==null && other.getOrderId()==null) || 
+                 (this.orderId!=null &&
+                  this.orderId.equals(other.getOrderId()))) &&
+                ((this.advertiserId==null && other.getAdvertiserId()==null) || 
+                 (this.advertiserId!=null &&
+                  this.advertiserId.equals(other.getAdvertiserId()))) &&
+                ((this.proposalLineItemId==null && other.getProposalLineItemId()==null) || 
+                 (this.proposalLineItemId!=null &&
+                  this.proposalLineItemId.equals(other.getProposalLineItemId()))) &&
+                ((this.proposalId==null && other.getProposalId()==null) || 
+                 (this.proposalId!=null &&
+                  this.proposalId.equals(other.getProposalId()))) &&
+                ((this.reconciliationSource==null && other.getReconciliationSource()==null) || 
+                 (this.reconciliationSource!=null &&
+                  this.reconciliationSource.equals(other.getReconciliationSource()))) &&
+                ((this.rateType==null && other.getRateType()==null) || 
+                 (this.rateType!=null &&
+                  this.rateType.equals(other.getRateType()))) &&
+                ((this.lineItemCostPerUnit==null && other.getLineItemCostPerUnit()==null) || 
+                 (this.lineItemCostPerUnit!=null &&
+                  this.lineItemCostPerUnit.equals(other.getLineItemCostPerUnit()))) &&
+                ((this.lineItemContractedUnitsBought==null && other.getLineItemContractedUnitsBought()==null) || 
+                 (this.lineItemContractedUnitsBought!=null &&
+                  this.lineItemContractedUnitsBought.equals(other.getLineItemContractedUnitsBought()))) &&
+                ((this.dfpVolume==null && other.getDfpVolume()==null) || 
+                 (this.dfpVolume!=null &&
+                  this.dfpVolume.equals(other.getDfpVolume()))) &&
+                ((this.thirdPartyVolume==null && other.getThirdPartyVolume()==null) || 
+                 (this.thirdPartyVolume!=null &&
+                  this.thirdPartyVolume.equals(other.getThirdPartyVolume()))) &&
+                ((this.manualVolume==null && other.getManualVolume()==null) || 
+                 (this.manualVolume!=null &&
+                  this.manualVolume.equals(other.getManualVolume()))) &&
+                ((this.reconciledVolume==null && other.getReconciledVolume()==null) || 
+                 (this.reconciledVolume!=null &&
+                  this.reconciledVolume.equals(other.getReconciledVolume()))) &&
+                ((this.contractedRevenue==null && other.getContractedRevenue()==null) || 
+                 (this.contractedRevenue!=null &&
+                  this.contractedRevenue.equals(other.getContractedRevenue()))) &&
+                ((this.dfpRevenue==null && other.getDfpRevenue()==null) || 
+                 (this.dfpRevenue!=null &&
+                  this.dfpRevenue.equals(other.getDfpRevenue()))) &&
+                ((this.thirdPartyRevenue==null && other.getThirdPartyRevenue()==null) || 
+                 (this.thirdPartyRevenue!=null &&
+                  this.thirdPartyRevenue.equals(other.getThirdPartyRevenue()))) &&
+                ((this.manualRevenue==null && other.getManualRevenue()==null) || 
+                 (this.manualRevenue!=null &&
+                  this.manualRevenue.equals(other.getManualRevenue()))) &&
+                ((this.reconciledRevenue==null && other.getReconciledRevenue()==null) || 
+                 (this.reconciledRevenue!=null &&
+                  this.reconciledRevenue.equals(other.getReconciledRevenue()))) &&
+                ((this.comments==null && other.getComments()==null) || 
+                 (this.comments!=null &&
+                  this.comments.equals(other.getComments())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(ReconciliationReportRow.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getId() != null) {
-            _hashCode += getId().hashCode();
-        }
-        if (getReconciliationReportId() != null) {
-            _hashCode += getReconciliationReportId().hashCode();
-        }
-        if (getLineItemId() != null) {
-            _hashCode += getLineItemId().hashCode();
-        }
-        if (getCreativeId() != null) {
-            _hashCode += getCreativeId().hashCode();
-        }
-        if (getOrderId() != null) {
-            _hashCode += getOrderId().hashCode();
-        }
-        if (getAdvertiserId() != null) {
-            _hashCode += getAdvertiserId().hashCode();
-        }
-        if (getProposalLineItemId() != null) {
-            _hashCode += getProposalLineItemId().hashCode();
-        }
-        if (getProposalId() != null) {
-            _hashCode += getProposalId().hashCode();
-        }
-        if (getReconciliationSource() != null) {
-            _hashCode += getReconciliationSource().hashCode();
-        }
-        if (getRateType() != null) {
-            _hashCode += getRateType().hashCode();
-        }
-        if (getLineItemCostPerUnit() != null) {
-            _hashCode += getLineItemCostPerUnit().hashCode();
-        }
-        if (getLineItemContractedUnitsBought() != null) {
-            _hashCode += getLineItemContractedUnitsBought().hashCode();
-        }
-        if (getDfpVolume() != null) {
-            _hashCode += getDfpVolume().hashCode();
+        try {
+            int _hashCode = 1;
+            if (getId() != null) {
+                _hashCode += getId().hashCode();
+            }
+            if (getReconciliationReportId() != null) {
+                _hashCode += getReconciliationReportId().hashCode();
+            }
+            if (getLineItemId() != null) {
+                _hashCode += getLineItemId().hashCode();
+            }
+            if (getCreativeId() != null) {
+                _hashCode += getCreativeId().hashCode();
+            }
+            if (getOrderId() != null) {
+                _hashCode += getOrderId().hashCode();
+            }
+            if (getAdvertiserId() != null) {
+                _hashCode += getAdvertiserId().hashCode();
+            }
+            if (getProposalLineItemId() != null) {
+                _hashCode += getProposalLineItemId().hashCode();
+            }
+            if (getProposalId() != null) {
+                _hashCode += getProposalId().hashCode();
+            }
+            if (getReconciliationSource() != null) {
+                _hashCode += getReconciliationSource().hashCode();
+            }
+            if (getRateType() != null) {
+                _hashCode += getRateType().hashCode();
+            }
+            if (getLineItemCostPerUnit() != null) {
+                _hashCode += getLineItemCostPerUnit().hashCode();
+            }
+            if (getLineItemContractedUnitsBought() != null) {
+                _hashCode += getLineItemContractedUnitsBought().hashCode();
+            }
+            if (getDfpVolume() != null) {
+                _hashCode += getDfpVolume().hashCode();
+            }
+            if (getThirdPartyVolume() != null) {
+                _hashCode += getThirdPartyVolume().hashCode();
+            }
+            if (getManualVolume() != null) {
+                _hashCode += getManualVolume().hashCode();
+            }
+            if (getReconciledVolume() != null) {
+                _hashCode += getReconciledVolume().hashCode();
+            }
+            if (getContractedRevenue() != null) {
+                _hashCode += getContractedRevenue().hashCode();
+            }
+            if (getDfpRevenue() != null) {
+                _hashCode += getDfpRevenue().hashCode();
+            }
+            if (getThirdPartyRevenue() != null) {
+                _hashCode += getThirdPartyRevenue().hashCode();
+            }
+            if (getManualRevenue() != null) {
+                _hashCode += getManualRevenue().hashCode();
+            }
+            if (getReconciledRevenue() != null) {
+                _hashCode += getReconciledRevenue().hashCode();
+            }
+            if (getComments() != null) {
+                _hashCode += getComments().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        if (getThirdPartyVolume() != null) {
-            _hashCode += getThirdPartyVolume().hashCode();
-        }
-        if (getManualVolume() != null) {
-            _hashCode += getManualVolume().hashCode();
-        }
-        if (getReconciledVolume() != null) {
-            _hashCode += getReconciledVolume().hashCode();
-        }
-        if (getContractedRevenue() != null) {
-            _hashCode += getContractedRevenue().hashCode();
-        }
-        if (getDfpRevenue() != null) {
-            _hashCode += getDfpRevenue().hashCode();
-        }
-        if (getThirdPartyRevenue() != null) {
-            _hashCode += getThirdPartyRevenue().hashCode();
-        }
-        if (getManualRevenue() != null) {
-            _hashCode += getManualRevenue().hashCode();
-        }
-        if (getReconciledRevenue() != null) {
-            _hashCode += getReconciledRevenue().hashCode();
-        }
-        if (getComments() != null) {
-            _hashCode += getComments().hashCode();
-        }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(ReconciliationReportRow.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(ReconciliationReportRow.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://www.google.com/apis/ads/publisher/v201602", "ReconciliationReportRow"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("id");
@@ -1196,13 +1201,24 @@ public class ReconciliationReportRow  implements java.io.Serializable {
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (ReconciliationReportRow.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -1214,7 +1230,7 @@ public class ReconciliationReportRow  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -1226,7 +1242,7 @@ public class ReconciliationReportRow  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
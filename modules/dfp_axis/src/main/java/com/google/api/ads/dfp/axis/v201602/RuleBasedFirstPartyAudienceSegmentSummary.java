@@ -180,56 +180,61 @@ public class RuleBasedFirstPartyAudienceSegmentSummary  extends com.google.api.a
         this.membershipExpirationDays = membershipExpirationDays;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof RuleBasedFirstPartyAudienceSegmentSummary)) return false;
         RuleBasedFirstPartyAudienceSegmentSummary other = (RuleBasedFirstPartyAudienceSegmentSummary) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(RuleBasedFirstPartyAudienceSegmentSummary.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = super.equals(obj) && 
-            ((this.pageViews==null && other.getPageViews()==null) || 
-             (this.pageViews!=null &&
-              this.pageViews.equals(other.getPageViews()))) &&
-            ((this.recencyDays==null && other.getRecencyDays()==null) || 
-             (this.recencyDays!=null &&
-              this.recencyDays.equals(other.getRecencyDays()))) &&
-            ((this.membershipExpirationDays==null && other.getMembershipExpirationDays()==null) || 
-             (this.membershipExpirationDays!=null &&
-              this.membershipExpirationDays.equals(other.getMembershipExpirationDays())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = super.equals(obj) && 
+                ((this.pageViews==null && other.getPageViews()==null) || 
+                 (this.pageViews!=null &&
+                  this.pageViews.equals(other.getPageViews()))) &&
+                ((this.recencyDays==null && other.getRecencyDays()==null) || 
+                 (this.recencyDays!=null &&
+                  this.recencyDays.equals(other.getRecencyDays()))) &&
+                ((this.membershipExpirationDays==null && other.getMembershipExpirationDays()==null) || 
+                 (this.membershipExpirationDays!=null &&
+                  this.membershipExpirationDays.equals(other.getMembershipExpirationDays())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(RuleBasedFirstPartyAudienceSegmentSummary.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = super.hashCode();
-        if (getPageViews() != null) {
-            _hashCode += getPageViews().hashCode();
-        }
-        if (getRecencyDays() != null) {
-            _hashCode += getRecencyDays().hashCode();
-        }
-        if (getMembershipExpirationDays() != null) {
-            _hashCode += getMembershipExpirationDays().hashCode();
+        try {
+            int _hashCode = super.hashCode();
+            if (getPageViews() != null) {
+                _hashCode += getPageViews().hashCode();
+            }
+            if (getRecencyDays() != null) {
+                _hashCode += getRecencyDays().hashCode();
+            }
+            if (getMembershipExpirationDays() != null) {
+                _hashCode += getMembershipExpirationDays().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(RuleBasedFirstPartyAudienceSegmentSummary.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(RuleBasedFirstPartyAudienceSegmentSummary.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://www.google.com/apis/ads/publisher/v201602", "RuleBasedFirstPartyAudienceSegmentSummary"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("pageViews");
@@ -252,13 +257,24 @@ public class RuleBasedFirstPartyAudienceSegmentSummary  extends com.google.api.a
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (RuleBasedFirstPartyAudienceSegmentSummary.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -270,7 +286,7 @@ public class RuleBasedFirstPartyAudienceSegmentSummary  extends com.google.api.a
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -282,7 +298,7 @@ public class RuleBasedFirstPartyAudienceSegmentSummary  extends com.google.api.a
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
@@ -334,104 +334,109 @@ public class SuggestedAdUnit  implements java.io.Serializable {
         this.suggestedAdUnitSizes[i] = _value;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof SuggestedAdUnit)) return false;
         SuggestedAdUnit other = (SuggestedAdUnit) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(SuggestedAdUnit.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = true && 
-            ((this.id==null && other.getId()==null) || 
-             (this.id!=null &&
-              this.id.equals(other.getId()))) &&
-            ((this.numRequests==null && other.getNumRequests()==null) || 
-             (this.numRequests!=null &&
-              this.numRequests.equals(other.getNumRequests()))) &&
-            ((this.path==null && other.getPath()==null) || 
-             (this.path!=null &&
-              java.util.Arrays.equals(this.path, other.getPath()))) &&
-            ((this.parentPath==null && other.getParentPath()==null) || 
-             (this.parentPath!=null &&
-              java.util.Arrays.equals(this.parentPath, other.getParentPath()))) &&
-            ((this.targetWindow==null && other.getTargetWindow()==null) || 
-             (this.targetWindow!=null &&
-              this.targetWindow.equals(other.getTargetWindow()))) &&
-            ((this.targetPlatform==null && other.getTargetPlatform()==null) || 
-             (this.targetPlatform!=null &&
-              this.targetPlatform.equals(other.getTargetPlatform()))) &&
-            ((this.suggestedAdUnitSizes==null && other.getSuggestedAdUnitSizes()==null) || 
-             (this.suggestedAdUnitSizes!=null &&
-              java.util.Arrays.equals(this.suggestedAdUnitSizes, other.getSuggestedAdUnitSizes())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = true && 
+                ((this.id==null && other.getId()==null) || 
+                 (this.id!=null &&
+                  this.id.equals(other.getId()))) &&
+                ((this.numRequests==null && other.getNumRequests()==null) || 
+                 (this.numRequests!=null &&
+                  this.numRequests.equals(other.getNumRequests()))) &&
+                ((this.path==null && other.getPath()==null) || 
+                 (this.path!=null &&
+                  java.util.Arrays.equals(this.path, other.getPath()))) &&
+                ((this.parentPath==null && other.getParentPath()==null) || 
+                 (this.parentPath!=null &&
+                  java.util.Arrays.equals(this.parentPath, other.getParentPath()))) &&
+                ((this.targetWindow==null && other.getTargetWindow()==null) || 
+                 (this.targetWindow!=null &&
+                  this.targetWindow.equals(other.getTargetWindow()))) &&
+                ((this.targetPlatform==null && other.getTargetPlatform()==null) || 
+                 (this.targetPlatform!=null &&
+                  this.targetPlatform.equals(other.getTargetPlatform()))) &&
+                ((this.suggestedAdUnitSizes==null && other.getSuggestedAdUnitSizes()==null) || 
+                 (this.suggestedAdUnitSizes!=null &&
+                  java.util.Arrays.equals(this.suggestedAdUnitSizes, other.getSuggestedAdUnitSizes())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(SuggestedAdUnit.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getId() != null) {
-            _hashCode += getId().hashCode();
-        }
-        if (getNumRequests() != null) {
-            _hashCode += getNumRequests().hashCode();
-        }
-        if (getPath() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getPath());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getPath(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+        try {
+            int _hashCode = 1;
+            if (getId() != null) {
+                _hashCode += getId().hashCode();
+            }
+            if (getNumRequests() != null) {
+                _hashCode += getNumRequests().hashCode();
+            }
+            if (getPath() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getPath());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getPath(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
-        }
-        if (getParentPath() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getParentPath());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getParentPath(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+            if (getParentPath() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getParentPath());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getParentPath(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
-        }
-        if (getTargetWindow() != null) {
-            _hashCode += getTargetWindow().hashCode();
-        }
-        if (getTargetPlatform() != null) {
-            _hashCode += getTargetPlatform().hashCode();
-        }
-        if (getSuggestedAdUnitSizes() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getSuggestedAdUnitSizes());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getSuggestedAdUnitSizes(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+            if (getTargetWindow() != null) {
+                _hashCode += getTargetWindow().hashCode();
+            }
+            if (getTargetPlatform() != null) {
+                _hashCode += getTargetPlatform().hashCode();
+            }
+            if (getSuggestedAdUnitSizes() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getSuggestedAdUnitSizes());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getSuggestedAdUnitSizes(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(SuggestedAdUnit.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(SuggestedAdUnit.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://www.google.com/apis/ads/publisher/v201602", "SuggestedAdUnit"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("id");
@@ -485,13 +490,24 @@ public class SuggestedAdUnit  implements java.io.Serializable {
         elemField.setNillable(false);
         elemField.setMaxOccursUnbounded(true);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (SuggestedAdUnit.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -503,7 +519,7 @@ public class SuggestedAdUnit  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -515,7 +531,7 @@ public class SuggestedAdUnit  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
@@ -103,58 +103,63 @@ public class SuggestedAdUnitUpdateResult  implements java.io.Serializable {
         this.numChanges = numChanges;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof SuggestedAdUnitUpdateResult)) return false;
         SuggestedAdUnitUpdateResult other = (SuggestedAdUnitUpdateResult) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(SuggestedAdUnitUpdateResult.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = true && 
-            ((this.newAdUnitIds==null && other.getNewAdUnitIds()==null) || 
-             (this.newAdUnitIds!=null &&
-              java.util.Arrays.equals(this.newAdUnitIds, other.getNewAdUnitIds()))) &&
-            ((this.numChanges==null && other.getNumChanges()==null) || 
-             (this.numChanges!=null &&
-              this.numChanges.equals(other.getNumChanges())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = true && 
+                ((this.newAdUnitIds==null && other.getNewAdUnitIds()==null) || 
+                 (this.newAdUnitIds!=null &&
+                  java.util.Arrays.equals(this.newAdUnitIds, other.getNewAdUnitIds()))) &&
+                ((this.numChanges==null && other.getNumChanges()==null) || 
+                 (this.numChanges!=null &&
+                  this.numChanges.equals(other.getNumChanges())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(SuggestedAdUnitUpdateResult.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getNewAdUnitIds() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getNewAdUnitIds());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getNewAdUnitIds(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+        try {
+            int _hashCode = 1;
+            if (getNewAdUnitIds() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getNewAdUnitIds());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getNewAdUnitIds(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
+            if (getNumChanges() != null) {
+                _hashCode += getNumChanges().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        if (getNumChanges() != null) {
-            _hashCode += getNumChanges().hashCode();
-        }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(SuggestedAdUnitUpdateResult.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(SuggestedAdUnitUpdateResult.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://www.google.com/apis/ads/publisher/v201602", "SuggestedAdUnitUpdateResult"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("newAdUnitIds");
@@ -171,13 +176,24 @@ public class SuggestedAdUnitUpdateResult  implements java.io.Serializable {
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (SuggestedAdUnitUpdateResult.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -189,7 +205,7 @@ public class SuggestedAdUnitUpdateResult  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -201,7 +217,7 @@ public class SuggestedAdUnitUpdateResult  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
@@ -311,104 +311,109 @@ public class TechnologyTargeting  implements java.io.Serializable {
         this.operatingSystemVersionTargeting = operatingSystemVersionTargeting;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof TechnologyTargeting)) return false;
         TechnologyTargeting other = (TechnologyTargeting) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(TechnologyTargeting.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = true && 
-            ((this.bandwidthGroupTargeting==null && other.getBandwidthGroupTargeting()==null) || 
-             (this.bandwidthGroupTargeting!=null &&
-              this.bandwidthGroupTargeting.equals(other.getBandwidthGroupTargeting()))) &&
-            ((this.browserTargeting==null && other.getBrowserTargeting()==null) || 
-             (this.browserTargeting!=null &&
-              this.browserTargeting.equals(other.getBrowserTargeting()))) &&
-            ((this.browserLanguageTargeting==null && other.getBrowserLanguageTargeting()==null) || 
-             (this.browserLanguageTargeting!=null &&
-              this.browserLanguageTargeting.equals(other.getBrowserLanguageTargeting()))) &&
-            ((this.deviceCapabilityTargeting==null && other.getDeviceCapabilityTargeting()==null) || 
-             (this.deviceCapabilityTargeting!=null &&
-              this.deviceCapabilityTargeting.equals(other.getDeviceCapabilityTargeting()))) &&
-            ((this.deviceCategoryTargeting==null && other.getDeviceCategoryTargeting()==null) || 
-             (this.deviceCategoryTargeting!=null &&
-              this.deviceCategoryTargeting.equals(other.getDeviceCategoryTargeting()))) &&
-            ((this.deviceManufacturerTargeting==null && other.getDeviceManufacturerTargeting()==null) || 
-             (this.deviceManufacturerTargeting!=null &&
-              this.deviceManufacturerTargeting.equals(other.getDeviceManufacturerTargeting()))) &&
-            ((this.mobileCarrierTargeting==null && other.getMobileCarrierTargeting()==null) || 
-             (this.mobileCarrierTargeting!=null &&
-              this.mobileCarrierTargeting.equals(other.getMobileCarrierTargeting()))) &&
-            ((this.mobileDeviceTargeting==null && other.getMobileDeviceTargeting()==null) || 
-             (this.mobileDeviceTargeting!=null &&
-              this.mobileDeviceTargeting.equals(other.getMobileDeviceTargeting()))) &&
-            ((this.mobileDeviceSubmodelTargeting==null && other.getMobileDeviceSubmodelTargeting()==null) || 
-             (this.mobileDeviceSubmodelTargeting!=null &&
-              this.mobileDeviceSubmodelTargeting.equals(other.getMobileDeviceSubmodelTargeting()))) &&
-            ((this.operatingSystemTargeting==null && other.getOperatingSystemTargeting()==null) || 
-             (this.operatingSystemTargeting!=null &&
-              this.operatingSystemTargeting.equals(other.getOperatingSystemTargeting()))) &&
-            ((this.operatingSystemVersionTargeting==null && other.getOperatingSystemVersionTargeting()==null) || 
-             (this.operatingSystemVersionTargeting!=null &&
-              this.operatingSystemVersionTargeting.equals(other.getOperatingSystemVersionTargeting())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = true && 
+                ((this.bandwidthGroupTargeting==null && other.getBandwidthGroupTargeting()==null) || 
+                 (this.bandwidthGroupTargeting!=null &&
+                  this.bandwidthGroupTargeting.equals(other.getBandwidthGroupTargeting()))) &&
+                ((this.browserTargeting==null && other.getBrowserTargeting()==null) || 
+                 (this.browserTargeting!=null &&
+                  this.browserTargeting.equals(other.getBrowserTargeting()))) &&
+                ((this.browserLanguageTargeting==null && other.getBrowserLanguageTargeting()==null) || 
+                 (this.browserLanguageTargeting!=null &&
+                  this.browserLanguageTargeting.equals(other.getBrowserLanguageTargeting()))) &&
+                ((this.deviceCapabilityTargeting==null && other.getDeviceCapabilityTargeting()==null) || 
+                 (this.deviceCapabilityTargeting!=null &&
+                  this.deviceCapabilityTargeting.equals(other.getDeviceCapabilityTargeting()))) &&
+                ((this.deviceCategoryTargeting==null && other.getDeviceCategoryTargeting()==null) || 
+                 (this.deviceCategoryTargeting!=null &&
+                  this.deviceCategoryTargeting.equals(other.getDeviceCategoryTargeting()))) &&
+                ((this.deviceManufacturerTargeting==null && other.getDeviceManufacturerTargeting()==null) || 
+                 (this.deviceManufacturerTargeting!=null &&
+                  this.deviceManufacturerTargeting.equals(other.getDeviceManufacturerTargeting()))) &&
+                ((this.mobileCarrierTargeting==null && other.getMobileCarrierTargeting()==null) || 
+                 (this.mobileCarrierTargeting!=null &&
+                  this.mobileCarrierTargeting.equals(other.getMobileCarrierTargeting()))) &&
+                ((this.mobileDeviceTargeting==null && other.getMobileDeviceTargeting()==null) || 
+                 (this.mobileDeviceTargeting!=null &&
+                  this.mobileDeviceTargeting.equals(other.getMobileDeviceTargeting()))) &&
+                ((this.mobileDeviceSubmodelTargeting==null && other.getMobileDeviceSubmodelTargeting()==null) || 
+                 (this.mobileDeviceSubmodelTargeting!=null &&
+                  this.mobileDeviceSubmodelTargeting.equals(other.getMobileDeviceSubmodelTargeting()))) &&
+                ((this.operatingSystemTargeting==null && other.getOperatingSystemTargeting()==null) || 
+                 (this.operatingSystemTargeting!=null &&
+                  this.operatingSystemTargeting.equals(other.getOperatingSystemTargeting()))) &&
+                ((this.operatingSystemVersionTargeting==null && other.getOperatingSystemVersionTargeting()==null) || 
+                 (this.operatingSystemVersionTargeting!=null &&
+                  this.operatingSystemVersionTargeting.equals(other.getOperatingSystemVersionTargeting())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(TechnologyTargeting.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getBandwidthGroupTargeting() != null) {
-            _hashCode += getBandwidthGroupTargeting().hashCode();
-        }
-        if (getBrowserTargeting() != null) {
-            _hashCode += getBrowserTargeting().hashCode();
-        }
-        if (getBrowserLanguageTargeting() != null) {
-            _hashCode += getBrowserLanguageTargeting().hashCode();
-        }
-        if (getDeviceCapabilityTargeting() != null) {
-            _hashCode += getDeviceCapabilityTargeting().hashCode();
-        }
-        if (getDeviceCategoryTargeting() != null) {
-            _hashCode += getDeviceCategoryTargeting().hashCode();
-        }
-        if (getDeviceManufacturerTargeting() != null) {
-            _hashCode += getDeviceManufacturerTargeting().hashCode();
-        }
-        if (getMobileCarrierTargeting() != null) {
-            _hashCode += getMobileCarrierTargeting().hashCode();
+        try {
+            int _hashCode = 1;
+            if (getBandwidthGroupTargeting() != null) {
+                _hashCode += getBandwidthGroupTargeting().hashCode();
+            }
+            if (getBrowserTargeting() != null) {
+                _hashCode += getBrowserTargeting().hashCode();
+            }
+            if (getBrowserLanguageTargeting() != null) {
+                _hashCode += getBrowserLanguageTargeting().hashCode();
+            }
+            if (getDeviceCapabilityTargeting() != null) {
+                _hashCode += getDeviceCapabilityTargeting().hashCode();
+            }
+            if (getDeviceCategoryTargeting() != null) {
+                _hashCode += getDeviceCategoryTargeting().hashCode();
+            }
+            if (getDeviceManufacturerTargeting() != null) {
+                _hashCode += getDeviceManufacturerTargeting().hashCode();
+            }
+            if (getMobileCarrierTargeting() != null) {
+                _hashCode += getMobileCarrierTargeting().hashCode();
+            }
+            if (getMobileDeviceTargeting() != null) {
+                _hashCode += getMobileDeviceTargeting().hashCode();
+            }
+            if (getMobileDeviceSubmodelTargeting() != null) {
+                _hashCode += getMobileDeviceSubmodelTargeting().hashCode();
+            }
+            if (getOperatingSystemTargeting() != null) {
+                _hashCode += getOperatingSystemTargeting().hashCode();
+            }
+            if (getOperatingSystemVersionTargeting() != null) {
+                _hashCode += getOperatingSystemVersionTargeting().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        if (getMobileDeviceTargeting() != null) {
-            _hashCode += getMobileDeviceTargeting().hashCode();
-        }
-        if (getMobileDeviceSubmodelTargeting() != null) {
-            _hashCode += getMobileDeviceSubmodelTargeting().hashCode();
-        }
-        if (getOperatingSystemTargeting() != null) {
-            _hashCode += getOperatingSystemTargeting().hashCode();
-        }
-        if (getOperatingSystemVersionTargeting() != null) {
-            _hashCode += getOperatingSystemVersionTargeting().hashCode();
-        }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(TechnologyTargeting.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(TechnologyTargeting.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://www.google.com/apis/ads/publisher/v201602", "TechnologyTargeting"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("bandwidthGroupTargeting");
@@ -487,13 +492,24 @@ public class TechnologyTargeting  implements java.io.Serializable {
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (TechnologyTargeting.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -505,7 +521,7 @@ public class TechnologyTargeting  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -517,7 +533,7 @@ public class TechnologyTargeting  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
@@ -313,94 +313,99 @@ public class TemplateCreative  extends com.google.api.ads.dfp.axis.v201602.Creat
         this.lockedOrientation = lockedOrientation;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof TemplateCreative)) return false;
         TemplateCreative other = (TemplateCreative) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(TemplateCreative.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = super.equals(obj) && 
-            ((this.creativeTemplateId==null && other.getCreativeTemplateId()==null) || 
-             (this.creativeTemplateId!=null &&
-              this.creativeTemplateId.equals(other.getCreativeTemplateId()))) &&
-            ((this.isInterstitial==null && other.getIsInterstitial()==null) || 
-             (this.isInterstitial!=null &&
-              this.isInterstitial.equals(other.getIsInterstitial()))) &&
-            ((this.isNativeEligible==null && other.getIsNativeEligible()==null) || 
-             (this.isNativeEligible!=null &&
-              this.isNativeEligible.equals(other.getIsNativeEligible()))) &&
-            ((this.destinationUrl==null && other.getDestinationUrl()==null) || 
-             (this.destinationUrl!=null &&
-              this.destinationUrl.equals(other.getDestinationUrl()))) &&
-            ((this.creativeTemplateVariableValues==null && other.getCreativeTemplateVariableValues()==null) || 
-             (this.creativeTemplateVariableValues!=null &&
-              java.util.Arrays.equals(this.creativeTemplateVariableValues, other.getCreativeTemplateVariableValues()))) &&
-            ((this.sslScanResult==null && other.getSslScanResult()==null) || 
-             (this.sslScanResult!=null &&
-              this.sslScanResult.equals(other.getSslScanResult()))) &&
-            ((this.sslManualOverride==null && other.getSslManualOverride()==null) || 
-             (this.sslManualOverride!=null &&
-              this.sslManualOverride.equals(other.getSslManualOverride()))) &&
-            ((this.lockedOrientation==null && other.getLockedOrientation()==null) || 
-             (this.lockedOrientation!=null &&
-              this.lockedOrientation.equals(other.getLockedOrientation())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = super.equals(obj) && 
+                ((this.creativeTemplateId==null && other.getCreativeTemplateId()==null) || 
+                 (this.creativeTemplateId!=null &&
+                  this.creativeTemplateId.equals(other.getCreativeTemplateId()))) &&
+                ((this.isInterstitial==null && other.getIsInterstitial()==null) || 
+                 (this.isInterstitial!=null &&
+                  this.isInterstitial.equals(other.getIsInterstitial()))) &&
+                ((this.isNativeEligible==null && other.getIsNativeEligible()==null) || 
+                 (this.isNativeEligible!=null &&
+                  this.isNativeEligible.equals(other.getIsNativeEligible()))) &&
+                ((this.destinationUrl==null && other.getDestinationUrl()==null) || 
+                 (this.destinationUrl!=null &&
+                  this.destinationUrl.equals(other.getDestinationUrl()))) &&
+                ((this.creativeTemplateVariableValues==null && other.getCreativeTemplateVariableValues()==null) || 
+                 (this.creativeTemplateVariableValues!=null &&
+                  java.util.Arrays.equals(this.creativeTemplateVariableValues, other.getCreativeTemplateVariableValues()))) &&
+                ((this.sslScanResult==null && other.getSslScanResult()==null) || 
+                 (this.sslScanResult!=null &&
+                  this.sslScanResult.equals(other.getSslScanResult()))) &&
+                ((this.sslManualOverride==null && other.getSslManualOverride()==null) || 
+                 (this.sslManualOverride!=null &&
+                  this.sslManualOverride.equals(other.getSslManualOverride()))) &&
+                ((this.lockedOrientation==null && other.getLockedOrientation()==null) || 
+                 (this.lockedOrientation!=null &&
+                  this.lockedOrientation.equals(other.getLockedOrientation())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(TemplateCreative.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = super.hashCode();
-        if (getCreativeTemplateId() != null) {
-            _hashCode += getCreativeTemplateId().hashCode();
-        }
-        if (getIsInterstitial() != null) {
-            _hashCode += getIsInterstitial().hashCode();
-        }
-        if (getIsNativeEligible() != null) {
-            _hashCode += getIsNativeEligible().hashCode();
-        }
-        if (getDestinationUrl() != null) {
-            _hashCode += getDestinationUrl().hashCode();
-        }
-        if (getCreativeTemplateVariableValues() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getCreativeTemplateVariableValues());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getCreativeTemplateVariableValues(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+        try {
+            int _hashCode = super.hashCode();
+            if (getCreativeTemplateId() != null) {
+                _hashCode += getCreativeTemplateId().hashCode();
+            }
+            if (getIsInterstitial() != null) {
+                _hashCode += getIsInterstitial().hashCode();
+            }
+            if (getIsNativeEligible() != null) {
+                _hashCode += getIsNativeEligible().hashCode();
+            }
+            if (getDestinationUrl() != null) {
+                _hashCode += getDestinationUrl().hashCode();
+            }
+            if (getCreativeTemplateVariableValues() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getCreativeTemplateVariableValues());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getCreativeTemplateVariableValues(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
+            if (getSslScanResult() != null) {
+                _hashCode += getSslScanResult().hashCode();
+            }
+            if (getSslManualOverride() != null) {
+                _hashCode += getSslManualOverride().hashCode();
+            }
+            if (getLockedOrientation() != null) {
+                _hashCode += getLockedOrientation().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        if (getSslScanResult() != null) {
-            _hashCode += getSslScanResult().hashCode();
-        }
-        if (getSslManualOverride() != null) {
-            _hashCode += getSslManualOverride().hashCode();
-        }
-        if (getLockedOrientation() != null) {
-            _hashCode += getLockedOrientation().hashCode();
-        }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(TemplateCreative.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(TemplateCreative.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://www.google.com/apis/ads/publisher/v201602", "TemplateCreative"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("creativeTemplateId");
@@ -459,13 +464,24 @@ public class TemplateCreative  extends com.google.api.ads.dfp.axis.v201602.Creat
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (TemplateCreative.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -477,7 +493,7 @@ public class TemplateCreative  extends com.google.api.ads.dfp.axis.v201602.Creat
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -489,7 +505,7 @@ public class TemplateCreative  extends com.google.api.ads.dfp.axis.v201602.Creat
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
@@ -285,82 +285,87 @@ public class User  extends com.google.api.ads.dfp.axis.v201602.UserRecord  imple
         this.customFieldValues[i] = _value;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof User)) return false;
         User other = (User) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(User.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = super.equals(obj) && 
-            ((this.isActive==null && other.getIsActive()==null) || 
-             (this.isActive!=null &&
-              this.isActive.equals(other.getIsActive()))) &&
-            ((this.isEmailNotificationAllowed==null && other.getIsEmailNotificationAllowed()==null) || 
-             (this.isEmailNotificationAllowed!=null &&
-              this.isEmailNotificationAllowed.equals(other.getIsEmailNotificationAllowed()))) &&
-            ((this.externalId==null && other.getExternalId()==null) || 
-             (this.externalId!=null &&
-              this.externalId.equals(other.getExternalId()))) &&
-            ((this.isServiceAccount==null && other.getIsServiceAccount()==null) || 
-             (this.isServiceAccount!=null &&
-              this.isServiceAccount.equals(other.getIsServiceAccount()))) &&
-            ((this.ordersUiLocalTimeZoneId==null && other.getOrdersUiLocalTimeZoneId()==null) || 
-             (this.ordersUiLocalTimeZoneId!=null &&
-              this.ordersUiLocalTimeZoneId.equals(other.getOrdersUiLocalTimeZoneId()))) &&
-            ((this.customFieldValues==null && other.getCustomFieldValues()==null) || 
-             (this.customFieldValues!=null &&
-              java.util.Arrays.equals(this.customFieldValues, other.getCustomFieldValues())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = super.equals(obj) && 
+                ((this.isActive==null && other.getIsActive()==null) || 
+                 (this.isActive!=null &&
+                  this.isActive.equals(other.getIsActive()))) &&
+                ((this.isEmailNotificationAllowed==null && other.getIsEmailNotificationAllowed()==null) || 
+                 (this.isEmailNotificationAllowed!=null &&
+                  this.isEmailNotificationAllowed.equals(other.getIsEmailNotificationAllowed()))) &&
+                ((this.externalId==null && other.getExternalId()==null) || 
+                 (this.externalId!=null &&
+                  this.externalId.equals(other.getExternalId()))) &&
+                ((this.isServiceAccount==null && other.getIsServiceAccount()==null) || 
+                 (this.isServiceAccount!=null &&
+                  this.isServiceAccount.equals(other.getIsServiceAccount()))) &&
+                ((this.ordersUiLocalTimeZoneId==null && other.getOrdersUiLocalTimeZoneId()==null) || 
+                 (this.ordersUiLocalTimeZoneId!=null &&
+                  this.ordersUiLocalTimeZoneId.equals(other.getOrdersUiLocalTimeZoneId()))) &&
+                ((this.customFieldValues==null && other.getCustomFieldValues()==null) || 
+                 (this.customFieldValues!=null &&
+                  java.util.Arrays.equals(this.customFieldValues, other.getCustomFieldValues())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(User.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = super.hashCode();
-        if (getIsActive() != null) {
-            _hashCode += getIsActive().hashCode();
-        }
-        if (getIsEmailNotificationAllowed() != null) {
-            _hashCode += getIsEmailNotificationAllowed().hashCode();
-        }
-        if (getExternalId() != null) {
-            _hashCode += getExternalId().hashCode();
-        }
-        if (getIsServiceAccount() != null) {
-            _hashCode += getIsServiceAccount().hashCode();
-        }
-        if (getOrdersUiLocalTimeZoneId() != null) {
-            _hashCode += getOrdersUiLocalTimeZoneId().hashCode();
-        }
-        if (getCustomFieldValues() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getCustomFieldValues());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getCustomFieldValues(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+        try {
+            int _hashCode = super.hashCode();
+            if (getIsActive() != null) {
+                _hashCode += getIsActive().hashCode();
+            }
+            if (getIsEmailNotificationAllowed() != null) {
+                _hashCode += getIsEmailNotificationAllowed().hashCode();
+            }
+            if (getExternalId() != null) {
+                _hashCode += getExternalId().hashCode();
+            }
+            if (getIsServiceAccount() != null) {
+                _hashCode += getIsServiceAccount().hashCode();
+            }
+            if (getOrdersUiLocalTimeZoneId() != null) {
+                _hashCode += getOrdersUiLocalTimeZoneId().hashCode();
+            }
+            if (getCustomFieldValues() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getCustomFieldValues());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getCustomFieldValues(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(User.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(User.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://www.google.com/apis/ads/publisher/v201602", "User"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("isActive");
@@ -405,13 +410,24 @@ public class User  extends com.google.api.ads.dfp.axis.v201602.UserRecord  imple
         elemField.setNillable(false);
         elemField.setMaxOccursUnbounded(true);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (User.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -423,7 +439,7 @@ public class User  extends com.google.api.ads.dfp.axis.v201602.UserRecord  imple
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -435,7 +451,7 @@ public class User  extends com.google.api.ads.dfp.axis.v201602.UserRecord  imple
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
@@ -229,74 +229,79 @@ public class UserRecord  implements java.io.Serializable {
         this.preferredLocale = preferredLocale;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof UserRecord)) return false;
         UserRecord other = (UserRecord) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(UserRecord.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = true && 
-            ((this.id==null && other.getId()==null) || 
-             (this.id!=null &&
-              this.id.equals(other.getId()))) &&
-            ((this.name==null && other.getName()==null) || 
-             (this.name!=null &&
-              this.name.equals(other.getName()))) &&
-            ((this.email==null && other.getEmail()==null) || 
-             (this.email!=null &&
-              this.email.equals(other.getEmail()))) &&
-            ((this.roleId==null && other.getRoleId()==null) || 
-             (this.roleId!=null &&
-              this.roleId.equals(other.getRoleId()))) &&
-            ((this.roleName==null && other.getRoleName()==null) || 
-             (this.roleName!=null &&
-              this.roleName.equals(other.getRoleName()))) &&
-            ((this.preferredLocale==null && other.getPreferredLocale()==null) || 
-             (this.preferredLocale!=null &&
-              this.preferredLocale.equals(other.getPreferredLocale())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = true && 
+                ((this.id==null && other.getId()==null) || 
+                 (this.id!=null &&
+                  this.id.equals(other.getId()))) &&
+                ((this.name==null && other.getName()==null) || 
+                 (this.name!=null &&
+                  this.name.equals(other.getName()))) &&
+                ((this.email==null && other.getEmail()==null) || 
+                 (this.email!=null &&
+                  this.email.equals(other.getEmail()))) &&
+                ((this.roleId==null && other.getRoleId()==null) || 
+                 (this.roleId!=null &&
+                  this.roleId.equals(other.getRoleId()))) &&
+                ((this.roleName==null && other.getRoleName()==null) || 
+                 (this.roleName!=null &&
+                  this.roleName.equals(other.getRoleName()))) &&
+                ((this.preferredLocale==null && other.getPreferredLocale()==null) || 
+                 (this.preferredLocale!=null &&
+                  this.preferredLocale.equals(other.getPreferredLocale())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(UserRecord.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getId() != null) {
-            _hashCode += getId().hashCode();
-        }
-        if (getName() != null) {
-            _hashCode += getName().hashCode();
-        }
-        if (getEmail() != null) {
-            _hashCode += getEmail().hashCode();
-        }
-        if (getRoleId() != null) {
-            _hashCode += getRoleId().hashCode();
-        }
-        if (getRoleName() != null) {
-            _hashCode += getRoleName().hashCode();
+        try {
+            int _hashCode = 1;
+            if (getId() != null) {
+                _hashCode += getId().hashCode();
+            }
+            if (getName() != null) {
+                _hashCode += getName().hashCode();
+            }
+            if (getEmail() != null) {
+                _hashCode += getEmail().hashCode();
+            }
+            if (getRoleId() != null) {
+                _hashCode += getRoleId().hashCode();
+            }
+            if (getRoleName() != null) {
+                _hashCode += getRoleName().hashCode();
+            }
+            if (getPreferredLocale() != null) {
+                _hashCode += getPreferredLocale().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        if (getPreferredLocale() != null) {
-            _hashCode += getPreferredLocale().hashCode();
-        }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(UserRecord.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(UserRecord.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://www.google.com/apis/ads/publisher/v201602", "UserRecord"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("id");
@@ -340,13 +345,24 @@ public class UserRecord  implements java.io.Serializable {
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (UserRecord.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -358,7 +374,7 @@ public class UserRecord  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -370,7 +386,7 @@ public class UserRecord  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
@@ -121,56 +121,61 @@ public abstract class UserRecordTeamAssociation  implements java.io.Serializable
         this.defaultTeamAccessType = defaultTeamAccessType;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof UserRecordTeamAssociation)) return false;
         UserRecordTeamAssociation other = (UserRecordTeamAssociation) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(UserRecordTeamAssociation.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = true && 
-            ((this.teamId==null && other.getTeamId()==null) || 
-             (this.teamId!=null &&
-              this.teamId.equals(other.getTeamId()))) &&
-            ((this.overriddenTeamAccessType==null && other.getOverriddenTeamAccessType()==null) || 
-             (this.overriddenTeamAccessType!=null &&
-              this.overriddenTeamAccessType.equals(other.getOverriddenTeamAccessType()))) &&
-            ((this.defaultTeamAccessType==null && other.getDefaultTeamAccessType()==null) || 
-             (this.defaultTeamAccessType!=null &&
-              this.defaultTeamAccessType.equals(other.getDefaultTeamAccessType())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = true && 
+                ((this.teamId==null && other.getTeamId()==null) || 
+                 (this.teamId!=null &&
+                  this.teamId.equals(other.getTeamId()))) &&
+                ((this.overriddenTeamAccessType==null && other.getOverriddenTeamAccessType()==null) || 
+                 (this.overriddenTeamAccessType!=null &&
+                  this.overriddenTeamAccessType.equals(other.getOverriddenTeamAccessType()))) &&
+                ((this.defaultTeamAccessType==null && other.getDefaultTeamAccessType()==null) || 
+                 (this.defaultTeamAccessType!=null &&
+                  this.defaultTeamAccessType.equals(other.getDefaultTeamAccessType())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(UserRecordTeamAssociation.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getTeamId() != null) {
-            _hashCode += getTeamId().hashCode();
-        }
-        if (getOverriddenTeamAccessType() != null) {
-            _hashCode += getOverriddenTeamAccessType().hashCode();
-        }
-        if (getDefaultTeamAccessType() != null) {
-            _hashCode += getDefaultTeamAccessType().hashCode();
+        try {
+            int _hashCode = 1;
+            if (getTeamId() != null) {
+                _hashCode += getTeamId().hashCode();
+            }
+            if (getOverriddenTeamAccessType() != null) {
+                _hashCode += getOverriddenTeamAccessType().hashCode();
+            }
+            if (getDefaultTeamAccessType() != null) {
+                _hashCode += getDefaultTeamAccessType().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(UserRecordTeamAssociation.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(UserRecordTeamAssociation.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://www.google.com/apis/ads/publisher/v201602", "UserRecordTeamAssociation"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("teamId");
@@ -193,13 +198,24 @@ public abstract class UserRecordTeamAssociation  implements java.io.Serializable
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (UserRecordTeamAssociation.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -211,7 +227,7 @@ public abstract class UserRecordTeamAssociation  implements java.io.Serializable
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -223,7 +239,7 @@ public abstract class UserRecordTeamAssociation  implements java.io.Serializable
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
@@ -522,128 +522,133 @@ public class AdRule  implements java.io.Serializable {
         this.postroll = postroll;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof AdRule)) return false;
         AdRule other = (AdRule) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(AdRule.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = true && 
-            ((this.id==null && other.getId()==null) || 
-             (this.id!=null &&
-              this.id.equals(other.getId()))) &&
-            ((this.name==null && other.getName()==null) || 
-             (this.name!=null &&
-              this.name.equals(other.getName()))) &&
-            ((this.priority==null && other.getPriority()==null) || 
-             (this.priority!=null &&
-              this.priority.equals(other.getPriority()))) &&
-            ((this.targeting==null && other.getTargeting()==null) || 
-             (this.targeting!=null &&
-              this.targeting.equals(other.getTargeting()))) &&
-            ((this.startDateTime==null && other.getStartDateTime()==null) || 
-             (this.startDateTime!=null &&
-              this.startDateTime.equals(other.getStartDateTime()))) &&
-            ((this.startDateTimeType==null && other.getStartDateTimeType()==null) || 
-             (this.startDateTimeType!=null &&
-              this.startDateTimeType.equals(other.getStartDateTimeType()))) &&
-            ((this.endDateTime==null && other.getEndDateTime()==null) || 
-             (this.endDateTime!=null &&
-              this.endDateTime.equals(other.getEndDateTime()))) &&
-            ((this.unlimitedEndDateTime==null && other.getUnlimitedEndDateTime()==null) || 
-             (this.unlimitedEndDateTime!=null &&
-              this.unlimitedEndDateTime.equals(other.getUnlimitedEndDateTime()))) &&
-            ((this.status==null && other.getStatus()==null) || 
-             (this.status!=null &&
-              this.status.equals(other.getStatus()))) &&
-            ((this.frequencyCapBehavior==null && other.getFrequencyCapBehavior()==null) || 
-             (this.frequencyCapBehavior!=null &&
-              this.frequencyCapBehavior.equals(other.getFrequencyCapBehavior()))) &&
-            ((this.maxImpressionsPerLineItemPerStream==null && other.getMaxImpressionsPerLineItemPerStream()==null) || 
-             (this.maxImpressionsPerLineItemPerStream!=null &&
-              this.maxImpressionsPerLineItemPerStream.equals(other.getMaxImpressionsPerLineItemPerStream()))) &&
-            ((this.maxImpressionsPerLineItemPerPod==null && other.getMaxImpressionsPerLineItemPerPod()==null) || 
-             (this.maxImpressionsPerLineItemPerPod!=null &&
-              this.maxImpressionsPerLineItemPerPod.equals(other.getMaxImpressionsPerLineItemPerPod()))) &&
-            ((this.preroll==null && other.getPreroll()==null) || 
-             (this.preroll!=null &&
-              this.preroll.equals(other.getPreroll()))) &&
-            ((this.midroll==null && other.getMidroll()==null) || 
-             (this.midroll!=null &&
-              this.midroll.equals(other.getMidroll()))) &&
-            ((this.postroll==null && other.getPostroll()==null) || 
-             (this.postroll!=null &&
-              this.postroll.equals(other.getPostroll())));
-        __equalsCalc = null;
-        return _equals;
-    }
-
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
-            return 0;
-        }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getId() != null) {
-            _hashCode += getId().hashCode();
-        }
-        if (getName() != null) {
-            _hashCode += getName().hashCode();
-        }
-        if (getPriority() != null) {
-            _hashCode += getPriority().hashCode();
-        }
-        if (getTargeting() != null) {
-            _hashCode += getTargeting().hashCode();
-        }
-        if (getStartDateTime() != null) {
-            _hashCode += getStartDateTime().hashCode();
-        }
-        if (getStartDateTimeType() != null) {
-            _hashCode += getStartDateTimeType().hashCode();
-        }
-        if (getEndDateTime() != null) {
-            _hashCode += getEndDateTime().hashCode();
-        }
-        if (getUnlimitedEndDateTime() != null) {
-            _hashCode += getUnlimitedEndDateTime().hashCode();
-        }
-        if (getStatus() != null) {
-            _hashCode += getStatus().hashCode();
+        try {
+            boolean _equals;
+            _equals = true && 
+                ((this.id==null && other.getId()==null) || 
+                 (this.id!=null &&
+                  this.id.equals(other.getId()))) &&
+                ((this.name==null && other.getName()==null) || 
+                 (this.name!=null &&
+                  this.name.equals(other.getName()))) &&
+                ((this.priority==null && other.getPriority()==null) || 
+                 (this.priority!=null &&
+                  this.priority.equals(other.getPriority()))) &&
+                ((this.targeting==null && other.getTargeting()==null) || 
+                 (this.targeting!=null &&
+                  this.targeting.equals(other.getTargeting()))) &&
+                ((this.startDateTime==null && other.getStartDateTime()==null) || 
+                 (this.startDateTime!=null &&
+                  this.startDateTime.equals(other.getStartDateTime()))) &&
+                ((this.startDateTimeType==null && other.getStartDateTimeType()==null) || 
+                 (this.startDateTimeType!=null &&
+                  this.startDateTimeType.equals(other.getStartDateTimeType()))) &&
+                ((this.endDateTime==null && other.getEndDateTime()==null) || 
+                 (this.endDateTime!=null &&
+                  this.endDateTime.equals(other.getEndDateTime()))) &&
+                ((this.unlimitedEndDateTime==null && other.getUnlimitedEndDateTime()==null) || 
+                 (this.unlimitedEndDateTime!=null &&
+                  this.unlimitedEndDateTime.equals(other.getUnlimitedEndDateTime()))) &&
+                ((this.status==null && other.getStatus()==null) || 
+                 (this.status!=null &&
+                  this.status.equals(other.getStatus()))) &&
+                ((this.frequencyCapBehavior==null && other.getFrequencyCapBehavior()==null) || 
+                 (this.frequencyCapBehavior!=null &&
+                  this.frequencyCapBehavior.equals(other.getFrequencyCapBehavior()))) &&
+                ((this.maxImpressionsPerLineItemPerStream==null && other.getMaxImpressionsPerLineItemPerStream()==null) || 
+                 (this.maxImpressionsPerLineItemPerStream!=null &&
+                  this.maxImpressionsPerLineItemPerStream.equals(other.getMaxImpressionsPerLineItemPerStream()))) &&
+                ((this.maxImpressionsPerLineItemPerPod==null && other.getMaxImpressionsPerLineItemPerPod()==null) || 
+                 (this.maxImpressionsPerLineItemPerPod!=null &&
+                  this.maxImpressionsPerLineItemPerPod.equals(other.getMaxImpressionsPerLineItemPerPod()))) &&
+                ((this.preroll==null && other.getPreroll()==null) || 
+                 (this.preroll!=null &&
+                  this.preroll.equals(other.getPreroll()))) &&
+                ((this.midroll==null && other.getMidroll()==null) || 
+                 (this.midroll!=null &&
+                  this.midroll.equals(other.getMidroll()))) &&
+                ((this.postroll==null && other.getPostroll()==null) || 
+                 (this.postroll!=null &&
+                  this.postroll.equals(other.getPostroll())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
         }
-        if (getFrequencyCapBehavior() != null) {
-            _hashCode += getFrequencyCapBehavior().hashCode();
-        }
-        if (getMaxImpressionsPerLineItemPerStream() != null) {
-            _hashCode += getMaxImpressionsPerLineItemPerStream().hashCode();
-        }
-        if (getMaxImpressionsPerLineItemPerPod() != null) {
-            _hashCode += getMaxImpressionsPerLineItemPerPod().hashCode();
-        }
-        if (getPreroll() != null) {
-            _hashCode += getPreroll().hashCode();
-        }
-        if (getMidroll() != null) {
-            _hashCode += getMidroll().hashCode();
+    }
+
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(AdRule.class, this)) {
+            return 0;
         }
-        if (getPostroll() != null) {
-            _hashCode += getPostroll().hashCode();
+        try {
+            int _hashCode = 1;
+            if (getId() != null) {
+                _hashCode += getId().hashCode();
+            }
+            if (getName() != null) {
+                _hashCode += getName().hashCode();
+            }
+            if (getPriority() != null) {
+                _hashCode += getPriority().hashCode();
+            }
+            if (getTargeting() != null) {
+                _hashCode += getTargeting().hashCode();
+            }
+            if (getStartDateTime() != null) {
+                _hashCode += getStartDateTime().hashCode();
+            }
+            if (getStartDateTimeType() != null) {
+                _hashCode += getStartDateTimeType().hashCode();
+            }
+            if (getEndDateTime() != null) {
+                _hashCode += getEndDateTime().hashCode();
+            }
+            if (getUnlimitedEndDateTime() != null) {
+                _hashCode += getUnlimitedEndDateTime().hashCode();
+            }
+            if (getStatus() != null) {
+                _hashCode += getStatus().hashCode();
+            }
+            if (getFrequencyCapBehavior() != null) {
+                _hashCode += getFrequencyCapBehavior().hashCode();
+            }
+            if (getMaxImpressionsPerLineItemPerStream() != null) {
+                _hashCode += getMaxImpressionsPerLineItemPerStream().hashCode();
+            }
+            if (getMaxImpressionsPerLineItemPerPod() != null) {
+                _hashCode += getMaxImpressionsPerLineItemPerPod().hashCode();
+            }
+            if (getPreroll() != null) {
+                _hashCode += getPreroll().hashCode();
+            }
+            if (getMidroll() != null) {
+                _hashCode += getMidroll().hashCode();
+            }
+            if (getPostroll() != null) {
+                _hashCode += getPostroll().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(AdRule.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(AdRule.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://www.google.com/apis/ads/publisher/v201605", "AdRule"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("id");
@@ -750,13 +755,24 @@ public class AdRule  implements java.io.Serializable {
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (AdRule.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -768,7 +784,7 @@ public class AdRule  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -780,7 +796,7 @@ public class AdRule  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
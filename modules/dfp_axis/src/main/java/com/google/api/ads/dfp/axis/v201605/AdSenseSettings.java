@@ -501,98 +501,103 @@ public class AdSenseSettings  implements java.io.Serializable {
         this.fontSize = fontSize;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof AdSenseSettings)) return false;
         AdSenseSettings other = (AdSenseSettings) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(AdSenseSettings.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = true && 
-            ((this.adSenseEnabled==null && other.getAdSenseEnabled()==null) || 
-             (this.adSenseEnabled!=null &&
-              this.adSenseEnabled.equals(other.getAdSenseEnabled()))) &&
-            ((this.borderColor==null && other.getBorderColor()==null) || 
-             (this.borderColor!=null &&
-              this.borderColor.equals(other.getBorderColor()))) &&
-            ((this.titleColor==null && other.getTitleColor()==null) || 
-             (this.titleColor!=null &&
-              this.titleColor.equals(other.getTitleColor()))) &&
-            ((this.backgroundColor==null && other.getBackgroundColor()==null) || 
-             (this.backgroundColor!=null &&
-              this.backgroundColor.equals(other.getBackgroundColor()))) &&
-            ((this.textColor==null && other.getTextColor()==null) || 
-             (this.textColor!=null &&
-              this.textColor.equals(other.getTextColor()))) &&
-            ((this.urlColor==null && other.getUrlColor()==null) || 
-             (this.urlColor!=null &&
-              this.urlColor.equals(other.getUrlColor()))) &&
-            ((this.adType==null && other.getAdType()==null) || 
-             (this.adType!=null &&
-              this.adType.equals(other.getAdType()))) &&
-            ((this.borderStyle==null && other.getBorderStyle()==null) || 
-             (this.borderStyle!=null &&
-              this.borderStyle.equals(other.getBorderStyle()))) &&
-            ((this.fontFamily==null && other.getFontFamily()==null) || 
-             (this.fontFamily!=null &&
-              this.fontFamily.equals(other.getFontFamily()))) &&
-            ((this.fontSize==null && other.getFontSize()==null) || 
-             (this.fontSize!=null &&
-              this.fontSize.equals(other.getFontSize())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = true && 
+                ((this.adSenseEnabled==null && other.getAdSenseEnabled()==null) || 
+                 (this.adSenseEnabled!=null &&
+                  this.adSenseEnabled.equals(other.getAdSenseEnabled()))) &&
+                ((this.borderColor==null && other.getBorderColor()==null) || 
+                 (this.borderColor!=null &&
+                  this.borderColor.equals(other.getBorderColor()))) &&
+                ((this.titleColor==null && other.getTitleColor()==null) || 
+                 (this.titleColor!=null &&
+                  this.titleColor.equals(other.getTitleColor()))) &&
+                ((this.backgroundColor==null && other.getBackgroundColor()==null) || 
+                 (this.backgroundColor!=null &&
+                  this.backgroundColor.equals(other.getBackgroundColor()))) &&
+                ((this.textColor==null && other.getTextColor()==null) || 
+                 (this.textColor!=null &&
+                  this.textColor.equals(other.getTextColor()))) &&
+                ((this.urlColor==null && other.getUrlColor()==null) || 
+                 (this.urlColor!=null &&
+                  this.urlColor.equals(other.getUrlColor()))) &&
+                ((this.adType==null && other.getAdType()==null) || 
+                 (this.adType!=null &&
+                  this.adType.equals(other.getAdType()))) &&
+                ((this.borderStyle==null && other.getBorderStyle()==null) || 
+                 (this.borderStyle!=null &&
+                  this.borderStyle.equals(other.getBorderStyle()))) &&
+                ((this.fontFamily==null && other.getFontFamily()==null) || 
+                 (this.fontFamily!=null &&
+                  this.fontFamily.equals(other.getFontFamily()))) &&
+                ((this.fontSize==null && other.getFontSize()==null) || 
+                 (this.fontSize!=null &&
+                  this.fontSize.equals(other.getFontSize())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(AdSenseSettings.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getAdSenseEnabled() != null) {
-            _hashCode += getAdSenseEnabled().hashCode();
-        }
-        if (getBorderColor() != null) {
-            _hashCode += getBorderColor().hashCode();
-        }
-        if (getTitleColor() != null) {
-            _hashCode += getTitleColor().hashCode();
-        }
-        if (getBackgroundColor() != null) {
-            _hashCode += getBackgroundColor().hashCode();
-        }
-        if (getTextColor() != null) {
-            _hashCode += getTextColor().hashCode();
-        }
-        if (getUrlColor() != null) {
-            _hashCode += getUrlColor().hashCode();
-        }
-        if (getAdType() != null) {
-            _hashCode += getAdType().hashCode();
+        try {
+            int _hashCode = 1;
+            if (getAdSenseEnabled() != null) {
+                _hashCode += getAdSenseEnabled().hashCode();
+            }
+            if (getBorderColor() != null) {
+                _hashCode += getBorderColor().hashCode();
+            }
+            if (getTitleColor() != null) {
+                _hashCode += getTitleColor().hashCode();
+            }
+            if (getBackgroundColor() != null) {
+                _hashCode += getBackgroundColor().hashCode();
+            }
+            if (getTextColor() != null) {
+                _hashCode += getTextColor().hashCode();
+            }
+            if (getUrlColor() != null) {
+                _hashCode += getUrlColor().hashCode();
+            }
+            if (getAdType() != null) {
+                _hashCode += getAdType().hashCode();
+            }
+            if (getBorderStyle() != null) {
+                _hashCode += getBorderStyle().hashCode();
+            }
+            if (getFontFamily() != null) {
+                _hashCode += getFontFamily().hashCode();
+            }
+            if (getFontSize() != null) {
+                _hashCode += getFontSize().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        if (getBorderStyle() != null) {
-            _hashCode += getBorderStyle().hashCode();
-        }
-        if (getFontFamily() != null) {
-            _hashCode += getFontFamily().hashCode();
-        }
-        if (getFontSize() != null) {
-            _hashCode += getFontSize().hashCode();
-        }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(AdSenseSettings.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(AdSenseSettings.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://www.google.com/apis/ads/publisher/v201605", "AdSenseSettings"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("adSenseEnabled");
@@ -664,13 +669,24 @@ public class AdSenseSettings  implements java.io.Serializable {
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (AdSenseSettings.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -682,7 +698,7 @@ public class AdSenseSettings  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -694,7 +710,7 @@ public class AdSenseSettings  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
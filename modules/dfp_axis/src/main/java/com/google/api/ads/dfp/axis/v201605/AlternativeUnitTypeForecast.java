@@ -170,62 +170,67 @@ public class AlternativeUnitTypeForecast  implements java.io.Serializable {
         this.possibleUnits = possibleUnits;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof AlternativeUnitTypeForecast)) return false;
         AlternativeUnitTypeForecast other = (AlternativeUnitTypeForecast) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(AlternativeUnitTypeForecast.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = true && 
-            ((this.unitType==null && other.getUnitType()==null) || 
-             (this.unitType!=null &&
-              this.unitType.equals(other.getUnitType()))) &&
-            ((this.matchedUnits==null && other.getMatchedUnits()==null) || 
-             (this.matchedUnits!=null &&
-              this.matchedUnits.equals(other.getMatchedUnits()))) &&
-            ((this.availableUnits==null && other.getAvailableUnits()==null) || 
-             (this.availableUnits!=null &&
-              this.availableUnits.equals(other.getAvailableUnits()))) &&
-            ((this.possibleUnits==null && other.getPossibleUnits()==null) || 
-             (this.possibleUnits!=null &&
-              this.possibleUnits.equals(other.getPossibleUnits())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = true && 
+                ((this.unitType==null && other.getUnitType()==null) || 
+                 (this.unitType!=null &&
+                  this.unitType.equals(other.getUnitType()))) &&
+                ((this.matchedUnits==null && other.getMatchedUnits()==null) || 
+                 (this.matchedUnits!=null &&
+                  this.matchedUnits.equals(other.getMatchedUnits()))) &&
+                ((this.availableUnits==null && other.getAvailableUnits()==null) || 
+                 (this.availableUnits!=null &&
+                  this.availableUnits.equals(other.getAvailableUnits()))) &&
+                ((this.possibleUnits==null && other.getPossibleUnits()==null) || 
+                 (this.possibleUnits!=null &&
+                  this.possibleUnits.equals(other.getPossibleUnits())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(AlternativeUnitTypeForecast.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getUnitType() != null) {
-            _hashCode += getUnitType().hashCode();
-        }
-        if (getMatchedUnits() != null) {
-            _hashCode += getMatchedUnits().hashCode();
-        }
-        if (getAvailableUnits() != null) {
-            _hashCode += getAvailableUnits().hashCode();
-        }
-        if (getPossibleUnits() != null) {
-            _hashCode += getPossibleUnits().hashCode();
+        try {
+            int _hashCode = 1;
+            if (getUnitType() != null) {
+                _hashCode += getUnitType().hashCode();
+            }
+            if (getMatchedUnits() != null) {
+                _hashCode += getMatchedUnits().hashCode();
+            }
+            if (getAvailableUnits() != null) {
+                _hashCode += getAvailableUnits().hashCode();
+            }
+            if (getPossibleUnits() != null) {
+                _hashCode += getPossibleUnits().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(AlternativeUnitTypeForecast.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(AlternativeUnitTypeForecast.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://www.google.com/apis/ads/publisher/v201605", "AlternativeUnitTypeForecast"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("unitType");
@@ -255,13 +260,24 @@ public class AlternativeUnitTypeForecast  implements java.io.Serializable {
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (AlternativeUnitTypeForecast.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -273,7 +289,7 @@ public class AlternativeUnitTypeForecast  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -285,7 +301,7 @@ public class AlternativeUnitTypeForecast  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
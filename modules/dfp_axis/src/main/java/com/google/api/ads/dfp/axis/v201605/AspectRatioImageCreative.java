@@ -220,70 +220,75 @@ public class AspectRatioImageCreative  extends com.google.api.ads.dfp.axis.v2016
         this.overrideSize = overrideSize;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof AspectRatioImageCreative)) return false;
         AspectRatioImageCreative other = (AspectRatioImageCreative) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(AspectRatioImageCreative.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = super.equals(obj) && 
-            ((this.imageAssets==null && other.getImageAssets()==null) || 
-             (this.imageAssets!=null &&
-              java.util.Arrays.equals(this.imageAssets, other.getImageAssets()))) &&
-            ((this.altText==null && other.getAltText()==null) || 
-             (this.altText!=null &&
-              this.altText.equals(other.getAltText()))) &&
-            ((this.thirdPartyImpressionUrl==null && other.getThirdPartyImpressionUrl()==null) || 
-             (this.thirdPartyImpressionUrl!=null &&
-              this.thirdPartyImpressionUrl.equals(other.getThirdPartyImpressionUrl()))) &&
-            ((this.overrideSize==null && other.getOverrideSize()==null) || 
-             (this.overrideSize!=null &&
-              this.overrideSize.equals(other.getOverrideSize())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = super.equals(obj) && 
+                ((this.imageAssets==null && other.getImageAssets()==null) || 
+                 (this.imageAssets!=null &&
+                  java.util.Arrays.equals(this.imageAssets, other.getImageAssets()))) &&
+                ((this.altText==null && other.getAltText()==null) || 
+                 (this.altText!=null &&
+                  this.altText.equals(other.getAltText()))) &&
+                ((this.thirdPartyImpressionUrl==null && other.getThirdPartyImpressionUrl()==null) || 
+                 (this.thirdPartyImpressionUrl!=null &&
+                  this.thirdPartyImpressionUrl.equals(other.getThirdPartyImpressionUrl()))) &&
+                ((this.overrideSize==null && other.getOverrideSize()==null) || 
+                 (this.overrideSize!=null &&
+                  this.overrideSize.equals(other.getOverrideSize())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(AspectRatioImageCreative.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = super.hashCode();
-        if (getImageAssets() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getImageAssets());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getImageAssets(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+        try {
+            int _hashCode = super.hashCode();
+            if (getImageAssets() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getImageAssets());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getImageAssets(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
+            if (getAltText() != null) {
+                _hashCode += getAltText().hashCode();
+            }
+            if (getThirdPartyImpressionUrl() != null) {
+                _hashCode += getThirdPartyImpressionUrl().hashCode();
+            }
+            if (getOverrideSize() != null) {
+                _hashCode += getOverrideSize().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        if (getAltText() != null) {
-            _hashCode += getAltText().hashCode();
-        }
-        if (getThirdPartyImpressionUrl() != null) {
-            _hashCode += getThirdPartyImpressionUrl().hashCode();
-        }
-        if (getOverrideSize() != null) {
-            _hashCode += getOverrideSize().hashCode();
-        }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(AspectRatioImageCreative.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(AspectRatioImageCreative.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://www.google.com/apis/ads/publisher/v201605", "AspectRatioImageCreative"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("imageAssets");
@@ -314,13 +319,24 @@ public class AspectRatioImageCreative  extends com.google.api.ads.dfp.axis.v2016
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (AspectRatioImageCreative.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -332,7 +348,7 @@ public class AspectRatioImageCreative  extends com.google.api.ads.dfp.axis.v2016
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -344,7 +360,7 @@ public class AspectRatioImageCreative  extends com.google.api.ads.dfp.axis.v2016
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
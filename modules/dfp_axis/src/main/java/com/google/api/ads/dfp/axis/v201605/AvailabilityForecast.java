@@ -487,142 +487,147 @@ public class AvailabilityForecast  implements java.io.Serializable {
         this.demographicBreakdowns[i] = _value;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof AvailabilityForecast)) return false;
         AvailabilityForecast other = (AvailabilityForecast) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(AvailabilityForecast.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = true && 
-            ((this.lineItemId==null && other.getLineItemId()==null) || 
-             (this.lineItemId!=null &&
-              this.lineItemId.equals(other.getLineItemId()))) &&
-            ((this.orderId==null && other.getOrderId()==null) || 
-             (this.orderId!=null &&
-              this.orderId.equals(other.getOrderId()))) &&
-            ((this.unitType==null && other.getUnitType()==null) || 
-             (this.unitType!=null &&
-              this.unitType.equals(other.getUnitType()))) &&
-            ((this.availableUnits==null && other.getAvailableUnits()==null) || 
-             (this.availableUnits!=null &&
-              this.availableUnits.equals(other.getAvailableUnits()))) &&
-            ((this.deliveredUnits==null && other.getDeliveredUnits()==null) || 
-             (this.deliveredUnits!=null &&
-              this.deliveredUnits.equals(other.getDeliveredUnits()))) &&
-            ((this.matchedUnits==null && other.getMatchedUnits()==null) || 
-             (this.matchedUnits!=null &&
-              this.matchedUnits.equals(other.getMatchedUnits()))) &&
-            ((this.possibleUnits==null && other.getPossibleUnits()==null) || 
-             (this.possibleUnits!=null &&
-              this.possibleUnits.equals(other.getPossibleUnits()))) &&
-            ((this.reservedUnits==null && other.getReservedUnits()==null) || 
-             (this.reservedUnits!=null &&
-              this.reservedUnits.equals(other.getReservedUnits()))) &&
-            ((this.targetingCriteriaBreakdowns==null && other.getTargetingCriteriaBreakdowns()==null) || 
-             (this.targetingCriteriaBreakdowns!=null &&
-              java.util.Arrays.equals(this.targetingCriteriaBreakdowns, other.getTargetingCriteriaBreakdowns()))) &&
-            ((this.contendingLineItems==null && other.getContendingLineItems()==null) || 
-             (this.contendingLineItems!=null &&
-              java.util.Arrays.equals(this.contendingLineItems, other.getContendingLineItems()))) &&
-            ((this.alternativeUnitTypeForecasts==null && other.getAlternativeUnitTypeForecasts()==null) || 
-             (this.alternativeUnitTypeForecasts!=null &&
-              java.util.Arrays.equals(this.alternativeUnitTypeForecasts, other.getAlternativeUnitTypeForecasts()))) &&
-            ((this.demographicBreakdowns==null && other.getDemographicBreakdowns()==null) || 
-             (this.demographicBreakdowns!=null &&
-              java.util.Arrays.equals(this.demographicBreakdowns, other.getDemographicBreakdowns())));
-        __equalsCalc = null;
-        return _equals;
-    }
-
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
-            return 0;
-        }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getLineItemId() != null) {
-            _hashCode += getLineItemId().hashCode();
-        }
-        if (getOrderId() != null) {
-            _hashCode += getOrderId().hashCode();
-        }
-        if (getUnitType() != null) {
-            _hashCode += getUnitType().hashCode();
-        }
-        if (getAvailableUnits() != null) {
-            _hashCode += getAvailableUnits().hashCode();
-        }
-        if (getDeliveredUnits() != null) {
-            _hashCode += getDeliveredUnits().hashCode();
-        }
-        if (getMatchedUnits() != null) {
-            _hashCode += getMatchedUnits().hashCode();
+        try {
+            boolean _equals;
+            _equals = true && 
+                ((this.lineItemId==null && other.getLineItemId()==null) || 
+                 (this.lineItemId!=null &&
+                  this.lineItemId.equals(other.getLineItemId()))) &&
+                ((this.orderId==null && other.getOrderId()==null) || 
+                 (this.orderId!=null &&
+                  this.orderId.equals(other.getOrderId()))) &&
+                ((this.unitType==null && other.getUnitType()==null) || 
+                 (this.unitType!=null &&
+                  this.unitType.equals(other.getUnitType()))) &&
+                ((this.availableUnits==null && other.getAvailableUnits()==null) || 
+                 (this.availableUnits!=null &&
+                  this.availableUnits.equals(other.getAvailableUnits()))) &&
+                ((this.deliveredUnits==null && other.getDeliveredUnits()==null) || 
+                 (this.deliveredUnits!=null &&
+                  this.deliveredUnits.equals(other.getDeliveredUnits()))) &&
+                ((this.matchedUnits==null && other.getMatchedUnits()==null) || 
+                 (this.matchedUnits!=null &&
+                  this.matchedUnits.equals(other.getMatchedUnits()))) &&
+                ((this.possibleUnits==null && other.getPossibleUnits()==null) || 
+                 (this.possibleUnits!=null &&
+                  this.possibleUnits.equals(other.getPossibleUnits()))) &&
+                ((this.reservedUnits==null && other.getReservedUnits()==null) || 
+                 (this.reservedUnits!=null &&
+                  this.reservedUnits.equals(other.getReservedUnits()))) &&
+                ((this.targetingCriteriaBreakdowns==null && other.getTargetingCriteriaBreakdowns()==null) || 
+                 (this.targetingCriteriaBreakdowns!=null &&
+                  java.util.Arrays.equals(this.targetingCriteriaBreakdowns, other.getTargetingCriteriaBreakdowns()))) &&
+                ((this.contendingLineItems==null && other.getContendingLineItems()==null) || 
+                 (this.contendingLineItems!=null &&
+                  java.util.Arrays.equals(this.contendingLineItems, other.getContendingLineItems()))) &&
+                ((this.alternativeUnitTypeForecasts==null && other.getAlternativeUnitTypeForecasts()==null) || 
+                 (this.alternativeUnitTypeForecasts!=null &&
+                  java.util.Arrays.equals(this.alternativeUnitTypeForecasts, other.getAlternativeUnitTypeForecasts()))) &&
+                ((this.demographicBreakdowns==null && other.getDemographicBreakdowns()==null) || 
+                 (this.demographicBreakdowns!=null &&
+                  java.util.Arrays.equals(this.demographicBreakdowns, other.getDemographicBreakdowns())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
         }
-        if (getPossibleUnits() != null) {
-            _hashCode += getPossibleUnits().hashCode();
-        }
-        if (getReservedUnits() != null) {
-            _hashCode += getReservedUnits().hashCode();
+    }
+
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(AvailabilityForecast.class, this)) {
+            return 0;
         }
-        if (getTargetingCriteriaBreakdowns() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getTargetingCriteriaBreakdowns());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getTargetingCriteriaBreakdowns(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+        try {
+            int _hashCode = 1;
+            if (getLineItemId() != null) {
+                _hashCode += getLineItemId().hashCode();
+            }
+            if (getOrderId() != null) {
+                _hashCode += getOrderId().hashCode();
+            }
+            if (getUnitType() != null) {
+                _hashCode += getUnitType().hashCode();
+            }
+            if (getAvailableUnits() != null) {
+                _hashCode += getAvailableUnits().hashCode();
+            }
+            if (getDeliveredUnits() != null) {
+                _hashCode += getDeliveredUnits().hashCode();
+            }
+            if (getMatchedUnits() != null) {
+                _hashCode += getMatchedUnits().hashCode();
+            }
+            if (getPossibleUnits() != null) {
+                _hashCode += getPossibleUnits().hashCode();
+            }
+            if (getReservedUnits() != null) {
+                _hashCode += getReservedUnits().hashCode();
+            }
+            if (getTargetingCriteriaBreakdowns() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getTargetingCriteriaBreakdowns());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getTargetingCriteriaBreakdowns(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
-        }
-        if (getContendingLineItems() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getContendingLineItems());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getContendingLineItems(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+            if (getContendingLineItems() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getContendingLineItems());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getContendingLineItems(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
-        }
-        if (getAlternativeUnitTypeForecasts() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getAlternativeUnitTypeForecasts());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getAlternativeUnitTypeForecasts(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+            if (getAlternativeUnitTypeForecasts() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getAlternativeUnitTypeForecasts());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getAlternativeUnitTypeForecasts(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
-        }
-        if (getDemographicBreakdowns() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getDemographicBreakdowns());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getDemographicBreakdowns(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+            if (getDemographicBreakdowns() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getDemographicBreakdowns());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getDemographicBreakdowns(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(AvailabilityForecast.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(AvailabilityForecast.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://www.google.com/apis/ads/publisher/v201605", "AvailabilityForecast"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("lineItemId");
@@ -712,13 +717,24 @@ public class AvailabilityForecast  implements java.io.Serializable {
         elemField.setNillable(false);
         elemField.setMaxOccursUnbounded(true);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (AvailabilityForecast.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -730,7 +746,7 @@ public class AvailabilityForecast  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -742,7 +758,7 @@ public class AvailabilityForecast  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
@@ -87,50 +87,55 @@ public class Browser  extends com.google.api.ads.dfp.axis.v201605.Technology  im
         this.minorVersion = minorVersion;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof Browser)) return false;
         Browser other = (Browser) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(Browser.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = super.equals(obj) && 
-            ((this.majorVersion==null && other.getMajorVersion()==null) || 
-             (this.majorVersion!=null &&
-              this.majorVersion.equals(other.getMajorVersion()))) &&
-            ((this.minorVersion==null && other.getMinorVersion()==null) || 
-             (this.minorVersion!=null &&
-              this.minorVersion.equals(other.getMinorVersion())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = super.equals(obj) && 
+                ((this.majorVersion==null && other.getMajorVersion()==null) || 
+                 (this.majorVersion!=null &&
+                  this.majorVersion.equals(other.getMajorVersion()))) &&
+                ((this.minorVersion==null && other.getMinorVersion()==null) || 
+                 (this.minorVersion!=null &&
+                  this.minorVersion.equals(other.getMinorVersion())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(Browser.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = super.hashCode();
-        if (getMajorVersion() != null) {
-            _hashCode += getMajorVersion().hashCode();
-        }
-        if (getMinorVersion() != null) {
-            _hashCode += getMinorVersion().hashCode();
+        try {
+            int _hashCode = super.hashCode();
+            if (getMajorVersion() != null) {
+                _hashCode += getMajorVersion().hashCode();
+            }
+            if (getMinorVersion() != null) {
+                _hashCode += getMinorVersion().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(Browser.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(Browser.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://www.google.com/apis/ads/publisher/v201605", "Browser"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("majorVersion");
@@ -146,13 +151,24 @@ public class Browser  extends com.google.api.ads.dfp.axis.v201605.Technology  im
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (Browser.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -164,7 +180,7 @@ public class Browser  extends com.google.api.ads.dfp.axis.v201605.Technology  im
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -176,7 +192,7 @@ public class Browser  extends com.google.api.ads.dfp.axis.v201605.Technology  im
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
@@ -367,104 +367,109 @@ public class Contact  extends com.google.api.ads.dfp.axis.v201605.BaseContact  i
         this.workPhone = workPhone;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof Contact)) return false;
         Contact other = (Contact) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(Contact.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = super.equals(obj) && 
-            ((this.id==null && other.getId()==null) || 
-             (this.id!=null &&
-              this.id.equals(other.getId()))) &&
-            ((this.name==null && other.getName()==null) || 
-             (this.name!=null &&
-              this.name.equals(other.getName()))) &&
-            ((this.companyId==null && other.getCompanyId()==null) || 
-             (this.companyId!=null &&
-              this.companyId.equals(other.getCompanyId()))) &&
-            ((this.status==null && other.getStatus()==null) || 
-             (this.status!=null &&
-              this.status.equals(other.getStatus()))) &&
-            ((this.address==null && other.getAddress()==null) || 
-             (this.address!=null &&
-              this.address.equals(other.getAddress()))) &&
-            ((this.cellPhone==null && other.getCellPhone()==null) || 
-             (this.cellPhone!=null &&
-              this.cellPhone.equals(other.getCellPhone()))) &&
-            ((this.comment==null && other.getComment()==null) || 
-             (this.comment!=null &&
-              this.comment.equals(other.getComment()))) &&
-            ((this.email==null && other.getEmail()==null) || 
-             (this.email!=null &&
-              this.email.equals(other.getEmail()))) &&
-            ((this.faxPhone==null && other.getFaxPhone()==null) || 
-             (this.faxPhone!=null &&
-              this.faxPhone.equals(other.getFaxPhone()))) &&
-            ((this.title==null && other.getTitle()==null) || 
-             (this.title!=null &&
-              this.title.equals(other.getTitle()))) &&
-            ((this.workPhone==null && other.getWorkPhone()==null) || 
-             (this.workPhone!=null &&
-              this.workPhone.equals(other.getWorkPhone())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = super.equals(obj) && 
+                ((this.id==null && other.getId()==null) || 
+                 (this.id!=null &&
+                  this.id.equals(other.getId()))) &&
+                ((this.name==null && other.getName()==null) || 
+                 (this.name!=null &&
+                  this.name.equals(other.getName()))) &&
+                ((this.companyId==null && other.getCompanyId()==null) || 
+                 (this.companyId!=null &&
+                  this.companyId.equals(other.getCompanyId()))) &&
+                ((this.status==null && other.getStatus()==null) || 
+                 (this.status!=null &&
+                  this.status.equals(other.getStatus()))) &&
+                ((this.address==null && other.getAddress()==null) || 
+                 (this.address!=null &&
+                  this.address.equals(other.getAddress()))) &&
+                ((this.cellPhone==null && other.getCellPhone()==null) || 
+                 (this.cellPhone!=null &&
+                  this.cellPhone.equals(other.getCellPhone()))) &&
+                ((this.comment==null && other.getComment()==null) || 
+                 (this.comment!=null &&
+                  this.comment.equals(other.getComment()))) &&
+                ((this.email==null && other.getEmail()==null) || 
+                 (this.email!=null &&
+                  this.email.equals(other.getEmail()))) &&
+                ((this.faxPhone==null && other.getFaxPhone()==null) || 
+                 (this.faxPhone!=null &&
+                  this.faxPhone.equals(other.getFaxPhone()))) &&
+                ((this.title==null && other.getTitle()==null) || 
+                 (this.title!=null &&
+                  this.title.equals(other.getTitle()))) &&
+                ((this.workPhone==null && other.getWorkPhone()==null) || 
+                 (this.workPhone!=null &&
+                  this.workPhone.equals(other.getWorkPhone())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(Contact.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = super.hashCode();
-        if (getId() != null) {
-            _hashCode += getId().hashCode();
-        }
-        if (getName() != null) {
-            _hashCode += getName().hashCode();
-        }
-        if (getCompanyId() != null) {
-            _hashCode += getCompanyId().hashCode();
-        }
-        if (getStatus() != null) {
-            _hashCode += getStatus().hashCode();
-        }
-        if (getAddress() != null) {
-            _hashCode += getAddress().hashCode();
-        }
-        if (getCellPhone() != null) {
-            _hashCode += getCellPhone().hashCode();
-        }
-        if (getComment() != null) {
-            _hashCode += getComment().hashCode();
+        try {
+            int _hashCode = super.hashCode();
+            if (getId() != null) {
+                _hashCode += getId().hashCode();
+            }
+            if (getName() != null) {
+                _hashCode += getName().hashCode();
+            }
+            if (getCompanyId() != null) {
+                _hashCode += getCompanyId().hashCode();
+            }
+            if (getStatus() != null) {
+                _hashCode += getStatus().hashCode();
+            }
+            if (getAddress() != null) {
+                _hashCode += getAddress().hashCode();
+            }
+            if (getCellPhone() != null) {
+                _hashCode += getCellPhone().hashCode();
+            }
+            if (getComment() != null) {
+                _hashCode += getComment().hashCode();
+            }
+            if (getEmail() != null) {
+                _hashCode += getEmail().hashCode();
+            }
+            if (getFaxPhone() != null) {
+                _hashCode += getFaxPhone().hashCode();
+            }
+            if (getTitle() != null) {
+                _hashCode += getTitle().hashCode();
+            }
+            if (getWorkPhone() != null) {
+                _hashCode += getWorkPhone().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        if (getEmail() != null) {
-            _hashCode += getEmail().hashCode();
-        }
-        if (getFaxPhone() != null) {
-            _hashCode += getFaxPhone().hashCode();
-        }
-        if (getTitle() != null) {
-            _hashCode += getTitle().hashCode();
-        }
-        if (getWorkPhone() != null) {
-            _hashCode += getWorkPhone().hashCode();
-        }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(Contact.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(Contact.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://www.google.com/apis/ads/publisher/v201605", "Contact"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("id");
@@ -543,13 +548,24 @@ public class Contact  extends com.google.api.ads.dfp.axis.v201605.BaseContact  i
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (Contact.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -561,7 +577,7 @@ public class Contact  extends com.google.api.ads.dfp.axis.v201605.BaseContact  i
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -573,7 +589,7 @@ public class Contact  extends com.google.api.ads.dfp.axis.v201605.BaseContact  i
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
@@ -243,122 +243,127 @@ public class ContentTargeting  implements java.io.Serializable {
         this.excludedContentMetadata[i] = _value;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof ContentTargeting)) return false;
         ContentTargeting other = (ContentTargeting) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(ContentTargeting.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = true && 
-            ((this.targetedContentIds==null && other.getTargetedContentIds()==null) || 
-             (this.targetedContentIds!=null &&
-              java.util.Arrays.equals(this.targetedContentIds, other.getTargetedContentIds()))) &&
-            ((this.excludedContentIds==null && other.getExcludedContentIds()==null) || 
-             (this.excludedContentIds!=null &&
-              java.util.Arrays.equals(this.excludedContentIds, other.getExcludedContentIds()))) &&
-            ((this.targetedVideoContentBundleIds==null && other.getTargetedVideoContentBundleIds()==null) || 
-             (this.targetedVideoContentBundleIds!=null &&
-              java.util.Arrays.equals(this.targetedVideoContentBundleIds, other.getTargetedVideoContentBundleIds()))) &&
-            ((this.excludedVideoContentBundleIds==null && other.getExcludedVideoContentBundleIds()==null) || 
-             (this.excludedVideoContentBundleIds!=null &&
-              java.util.Arrays.equals(this.excludedVideoContentBundleIds, other.getExcludedVideoContentBundleIds()))) &&
-            ((this.targetedContentMetadata==null && other.getTargetedContentMetadata()==null) || 
-             (this.targetedContentMetadata!=null &&
-              java.util.Arrays.equals(this.targetedContentMetadata, other.getTargetedContentMetadata()))) &&
-            ((this.excludedContentMetadata==null && other.getExcludedContentMetadata()==null) || 
-             (this.excludedContentMetadata!=null &&
-              java.util.Arrays.equals(this.excludedContentMetadata, other.getExcludedContentMetadata())));
-        __equalsCalc = null;
-        return _equals;
-    }
-
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+        try {
+            boolean _equals;
+            _equals = true && 
+                ((this.targetedContentIds==null && other.getTargetedContentIds()==null) || 
+                 (this.targetedContentIds!=null &&
+                  java.util.Arrays.equals(this.targetedContentIds, other.getTargetedContentIds()))) &&
+                ((this.excludedContentIds==null && other.getExcludedContentIds()==null) || 
+                 (this.excludedContentIds!=null &&
+                  java.util.Arrays.equals(this.excludedContentIds, other.getExcludedContentIds()))) &&
+                ((this.targetedVideoContentBundleIds==null && other.getTargetedVideoContentBundleIds()==null) || 
+                 (this.targetedVideoContentBundleIds!=null &&
+                  java.util.Arrays.equals(this.targetedVideoContentBundleIds, other.getTargetedVideoContentBundleIds()))) &&
+                ((this.excludedVideoContentBundleIds==null && other.getExcludedVideoContentBundleIds()==null) || 
+                 (this.excludedVideoContentBundleIds!=null &&
+                  java.util.Arrays.equals(this.excludedVideoContentBundleIds, other.getExcludedVideoContentBundleIds()))) &&
+                ((this.targetedContentMetadata==null && other.getTargetedContentMetadata()==null) || 
+                 (this.targetedContentMetadata!=null &&
+                  java.util.Arrays.equals(this.targetedContentMetadata, other.getTargetedContentMetadata()))) &&
+                ((this.excludedContentMetadata==null && other.getExcludedContentMetadata()==null) || 
+                 (this.excludedContentMetadata!=null &&
+                  java.util.Arrays.equals(this.excludedContentMetadata, other.getExcludedContentMetadata())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
+    }
+
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(ContentTargeting.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getTargetedContentIds() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getTargetedContentIds());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getTargetedContentIds(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+        try {
+            int _hashCode = 1;
+            if (getTargetedContentIds() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getTargetedContentIds());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getTargetedContentIds(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
-        }
-        if (getExcludedContentIds() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getExcludedContentIds());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getExcludedContentIds(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+            if (getExcludedContentIds() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getExcludedContentIds());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getExcludedContentIds(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
-        }
-        if (getTargetedVideoContentBundleIds() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getTargetedVideoContentBundleIds());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getTargetedVideoContentBundleIds(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+            if (getTargetedVideoContentBundleIds() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getTargetedVideoContentBundleIds());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getTargetedVideoContentBundleIds(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
-        }
-        if (getExcludedVideoContentBundleIds() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getExcludedVideoContentBundleIds());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getExcludedVideoContentBundleIds(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+            if (getExcludedVideoContentBundleIds() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getExcludedVideoContentBundleIds());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getExcludedVideoContentBundleIds(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
-        }
-        if (getTargetedContentMetadata() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getTargetedContentMetadata());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getTargetedContentMetadata(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+            if (getTargetedContentMetadata() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getTargetedContentMetadata());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getTargetedContentMetadata(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
-        }
-        if (getExcludedContentMetadata() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getExcludedContentMetadata());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getExcludedContentMetadata(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+            if (getExcludedContentMetadata() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getExcludedContentMetadata());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getExcludedContentMetadata(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(ContentTargeting.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(ContentTargeting.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://www.google.com/apis/ads/publisher/v201605", "ContentTargeting"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("targetedContentIds");
@@ -408,13 +413,24 @@ public class ContentTargeting  implements java.io.Serializable {
         elemField.setNillable(false);
         elemField.setMaxOccursUnbounded(true);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (ContentTargeting.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -426,7 +442,7 @@ public class ContentTargeting  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -438,7 +454,7 @@ public class ContentTargeting  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
@@ -371,110 +371,115 @@ public class CreativePlaceholder  implements java.io.Serializable {
         this.targetingName = targetingName;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof CreativePlaceholder)) return false;
         CreativePlaceholder other = (CreativePlaceholder) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(CreativePlaceholder.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = true && 
-            ((this.size==null && other.getSize()==null) || 
-             (this.size!=null &&
-              this.size.equals(other.getSize()))) &&
-            ((this.creativeTemplateId==null && other.getCreativeTemplateId()==null) || 
-             (this.creativeTemplateId!=null &&
-              this.creativeTemplateId.equals(other.getCreativeTemplateId()))) &&
-            ((this.companions==null && other.getCompanions()==null) || 
-             (this.companions!=null &&
-              java.util.Arrays.equals(this.companions, other.getCompanions()))) &&
-            ((this.appliedLabels==null && other.getAppliedLabels()==null) || 
-             (this.appliedLabels!=null &&
-              java.util.Arrays.equals(this.appliedLabels, other.getAppliedLabels()))) &&
-            ((this.effectiveAppliedLabels==null && other.getEffectiveAppliedLabels()==null) || 
-             (this.effectiveAppliedLabels!=null &&
-              java.util.Arrays.equals(this.effectiveAppliedLabels, other.getEffectiveAppliedLabels()))) &&
-            ((this.expectedCreativeCount==null && other.getExpectedCreativeCount()==null) || 
-             (this.expectedCreativeCount!=null &&
-              this.expectedCreativeCount.equals(other.getExpectedCreativeCount()))) &&
-            ((this.creativeSizeType==null && other.getCreativeSizeType()==null) || 
-             (this.creativeSizeType!=null &&
-              this.creativeSizeType.equals(other.getCreativeSizeType()))) &&
-            ((this.targetingName==null && other.getTargetingName()==null) || 
-             (this.targetingName!=null &&
-              this.targetingName.equals(other.getTargetingName())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = true && 
+                ((this.size==null && other.getSize()==null) || 
+                 (this.size!=null &&
+                  this.size.equals(other.getSize()))) &&
+                ((this.creativeTemplateId==null && other.getCreativeTemplateId()==null) || 
+                 (this.creativeTemplateId!=null &&
+                  this.creativeTemplateId.equals(other.getCreativeTemplateId()))) &&
+                ((this.companions==null && other.getCompanions()==null) || 
+                 (this.companions!=null &&
+                  java.util.Arrays.equals(this.companions, other.getCompanions()))) &&
+                ((this.appliedLabels==null && other.getAppliedLabels()==null) || 
+                 (this.appliedLabels!=null &&
+                  java.util.Arrays.equals(this.appliedLabels, other.getAppliedLabels()))) &&
+                ((this.effectiveAppliedLabels==null && other.getEffectiveAppliedLabels()==null) || 
+                 (this.effectiveAppliedLabels!=null &&
+                  java.util.Arrays.equals(this.effectiveAppliedLabels, other.getEffectiveAppliedLabels()))) &&
+                ((this.expectedCreativeCount==null && other.getExpectedCreativeCount()==null) || 
+                 (this.expectedCreativeCount!=null &&
+                  this.expectedCreativeCount.equals(other.getExpectedCreativeCount()))) &&
+                ((this.creativeSizeType==null && other.getCreativeSizeType()==null) || 
+                 (this.creativeSizeType!=null &&
+                  this.creativeSizeType.equals(other.getCreativeSizeType()))) &&
+                ((this.targetingName==null && other.getTargetingName()==null) || 
+                 (this.targetingName!=null &&
+                  this.targetingName.equals(other.getTargetingName())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(CreativePlaceholder.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getSize() != null) {
-            _hashCode += getSize().hashCode();
-        }
-        if (getCreativeTemplateId() != null) {
-            _hashCode += getCreativeTemplateId().hashCode();
-        }
-        if (getCompanions() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getCompanions());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getCompanions(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+        try {
+            int _hashCode = 1;
+            if (getSize() != null) {
+                _hashCode += getSize().hashCode();
+            }
+            if (getCreativeTemplateId() != null) {
+                _hashCode += getCreativeTemplateId().hashCode();
+            }
+            if (getCompanions() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getCompanions());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getCompanions(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
-        }
-        if (getAppliedLabels() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getAppliedLabels());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getAppliedLabels(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+            if (getAppliedLabels() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getAppliedLabels());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getAppliedLabels(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
-        }
-        if (getEffectiveAppliedLabels() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getEffectiveAppliedLabels());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getEffectiveAppliedLabels(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+            if (getEffectiveAppliedLabels() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getEffectiveAppliedLabels());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getEffectiveAppliedLabels(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
+            if (getExpectedCreativeCount() != null) {
+                _hashCode += getExpectedCreativeCount().hashCode();
+            }
+            if (getCreativeSizeType() != null) {
+                _hashCode += getCreativeSizeType().hashCode();
+            }
+            if (getTargetingName() != null) {
+                _hashCode += getTargetingName().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        if (getExpectedCreativeCount() != null) {
-            _hashCode += getExpectedCreativeCount().hashCode();
-        }
-        if (getCreativeSizeType() != null) {
-            _hashCode += getCreativeSizeType().hashCode();
-        }
-        if (getTargetingName() != null) {
-            _hashCode += getTargetingName().hashCode();
-        }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(CreativePlaceholder.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(CreativePlaceholder.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://www.google.com/apis/ads/publisher/v201605", "CreativePlaceholder"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("size");
@@ -535,13 +540,24 @@ public class CreativePlaceholder  implements java.io.Serializable {
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (CreativePlaceholder.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -553,7 +569,7 @@ public class CreativePlaceholder  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -565,7 +581,7 @@ public class CreativePlaceholder  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
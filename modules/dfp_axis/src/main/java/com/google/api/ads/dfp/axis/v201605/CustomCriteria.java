@@ -142,64 +142,69 @@ public class CustomCriteria  extends com.google.api.ads.dfp.axis.v201605.CustomC
         this.operator = operator;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof CustomCriteria)) return false;
         CustomCriteria other = (CustomCriteria) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(CustomCriteria.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = super.equals(obj) && 
-            ((this.keyId==null && other.getKeyId()==null) || 
-             (this.keyId!=null &&
-              this.keyId.equals(other.getKeyId()))) &&
-            ((this.valueIds==null && other.getValueIds()==null) || 
-             (this.valueIds!=null &&
-              java.util.Arrays.equals(this.valueIds, other.getValueIds()))) &&
-            ((this.operator==null && other.getOperator()==null) || 
-             (this.operator!=null &&
-              this.operator.equals(other.getOperator())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = super.equals(obj) && 
+                ((this.keyId==null && other.getKeyId()==null) || 
+                 (this.keyId!=null &&
+                  this.keyId.equals(other.getKeyId()))) &&
+                ((this.valueIds==null && other.getValueIds()==null) || 
+                 (this.valueIds!=null &&
+                  java.util.Arrays.equals(this.valueIds, other.getValueIds()))) &&
+                ((this.operator==null && other.getOperator()==null) || 
+                 (this.operator!=null &&
+                  this.operator.equals(other.getOperator())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(CustomCriteria.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = super.hashCode();
-        if (getKeyId() != null) {
-            _hashCode += getKeyId().hashCode();
-        }
-        if (getValueIds() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getValueIds());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getValueIds(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+        try {
+            int _hashCode = super.hashCode();
+            if (getKeyId() != null) {
+                _hashCode += getKeyId().hashCode();
+            }
+            if (getValueIds() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getValueIds());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getValueIds(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
+            if (getOperator() != null) {
+                _hashCode += getOperator().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        if (getOperator() != null) {
-            _hashCode += getOperator().hashCode();
-        }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(CustomCriteria.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(CustomCriteria.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://www.google.com/apis/ads/publisher/v201605", "CustomCriteria"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("keyId");
@@ -223,13 +228,24 @@ public class CustomCriteria  extends com.google.api.ads.dfp.axis.v201605.CustomC
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (CustomCriteria.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -241,7 +257,7 @@ public class CustomCriteria  extends com.google.api.ads.dfp.axis.v201605.CustomC
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -253,7 +269,7 @@ public class CustomCriteria  extends com.google.api.ads.dfp.axis.v201605.CustomC
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
@@ -792,160 +792,165 @@ public class CustomizableAttributes  implements java.io.Serializable {
         this.allowCreativePlaceholdersCustomization = allowCreativePlaceholdersCustomization;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof CustomizableAttributes)) return false;
         CustomizableAttributes other = (CustomizableAttributes) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(CustomizableAttributes.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = true && 
-            ((this.allowGeoTargetingCustomization==null && other.getAllowGeoTargetingCustomization()==null) || 
-             (this.allowGeoTargetingCustomization!=null &&
-              this.allowGeoTargetingCustomization.equals(other.getAllowGeoTargetingCustomization()))) &&
-            ((this.allowAdUnitTargetingCustomization==null && other.getAllowAdUnitTargetingCustomization()==null) || 
-             (this.allowAdUnitTargetingCustomization!=null &&
-              this.allowAdUnitTargetingCustomization.equals(other.getAllowAdUnitTargetingCustomization()))) &&
-            ((this.allowPlacementTargetingCustomization==null && other.getAllowPlacementTargetingCustomization()==null) || 
-             (this.allowPlacementTargetingCustomization!=null &&
-              this.allowPlacementTargetingCustomization.equals(other.getAllowPlacementTargetingCustomization()))) &&
-            ((this.allowUserDomainTargetingCustomization==null && other.getAllowUserDomainTargetingCustomization()==null) || 
-             (this.allowUserDomainTargetingCustomization!=null &&
-              this.allowUserDomainTargetingCustomization.equals(other.getAllowUserDomainTargetingCustomization()))) &&
-            ((this.allowBandwidthGroupTargetingCustomization==null && other.getAllowBandwidthGroupTargetingCustomization()==null) || 
-             (this.allowBandwidthGroupTargetingCustomization!=null &&
-              this.allowBandwidthGroupTargetingCustomization.equals(other.getAllowBandwidthGroupTargetingCustomization()))) &&
-            ((this.allowBrowserTargetingCustomization==null && other.getAllowBrowserTargetingCustomization()==null) || 
-             (this.allowBrowserTargetingCustomization!=null &&
-              this.allowBrowserTargetingCustomization.equals(other.getAllowBrowserTargetingCustomization()))) &&
-            ((this.allowBrowserLanguageTargetingCustomization==null && other.getAllowBrowserLanguageTargetingCustomization()==null) || 
-             (this.allowBrowserLanguageTargetingCustomization!=null &&
-              this.allowBrowserLanguageTargetingCustomization.equals(other.getAllowBrowserLanguageTargetingCustomization()))) &&
-            ((this.allowOperatingSystemTargetingCustomization==null && other.getAllowOperatingSystemTargetingCustomization()==null) || 
-             (this.allowOperatingSystemTargetingCustomization!=null &&
-              this.allowOperatingSystemTargetingCustomization.equals(other.getAllowOperatingSystemTargetingCustomization()))) &&
-            ((this.allowDeviceCapabilityTargetingCustomization==null && other.getAllowDeviceCapabilityTargetingCustomization()==null) || 
-             (this.allowDeviceCapabilityTargetingCustomization!=null &&
-              this.allowDeviceCapabilityTargetingCustomization.equals(other.getAllowDeviceCapabilityTargetingCustomization()))) &&
-            ((this.allowDeviceCategoryTargetingCustomization==null && other.getAllowDeviceCategoryTargetingCustomization()==null) || 
-             (this.allowDeviceCategoryTargetingCustomization!=null &&
-              this.allowDeviceCategoryTargetingCustomization.equals(other.getAllowDeviceCategoryTargetingCustomization()))) &&
-            ((this.allowMobileCarrierTargetingCustomization==null && other.getAllowMobileCarrierTargetingCustomization()==null) || 
-             (this.allowMobileCarrierTargetingCustomization!=null &&
-              this.allowMobileCarrierTargetingCustomization.equals(other.getAllowMobileCarrierTargetingCustomization()))) &&
-            ((this.allowMobileDeviceAndManufacturerTargetingCustomization==null && other.getAllowMobileDeviceAndManufacturerTargetingCustomization()==null) || 
-             (this.allowMobileDeviceAndManufacturerTargetingCustomization!=null &&
-              this.allowMobileDeviceAndManufacturerTargetingCustomization.equals(other.getAllowMobileDeviceAndManufacturerTargetingCustomization()))) &&
-            ((this.allowAudienceSegmentTargetingCustomization==null && other.getAllowAudienceSegmentTargetingCustomization()==null) || 
-             (this.allowAudienceSegmentTargetingCustomization!=null &&
-              this.allowAudienceSegmentTargetingCustomization.equals(other.getAllowAudienceSegmentTargetingCustomization()))) &&
-            ((this.isAllCustomTargetingKeysCustomizable==null && other.getIsAllCustomTargetingKeysCustomizable()==null) || 
-             (this.isAllCustomTargetingKeysCustomizable!=null &&
-              this.isAllCustomTargetingKeysCustomizable.equals(other.getIsAllCustomTargetingKeysCustomizable()))) &&
-            ((this.customizableCustomTargetingKeyIds==null && other.getCustomizableCustomTargetingKeyIds()==null) || 
-             (this.customizableCustomTargetingKeyIds!=null &&
-              java.util.Arrays.equals(this.customizableCustomTargetingKeyIds, other.getCustomizableCustomTargetingKeyIds()))) &&
-            ((this.allowDaypartTargetingCustomization==null && other.getAllowDaypartTargetingCustomization()==null) || 
-             (this.allowDaypartTargetingCustomization!=null &&
-              this.allowDaypartTargetingCustomization.equals(other.getAllowDaypartTargetingCustomization()))) &&
-            ((this.allowFrequencyCapsCustomization==null && other.getAllowFrequencyCapsCustomization()==null) || 
-             (this.allowFrequencyCapsCustomization!=null &&
-              this.allowFrequencyCapsCustomization.equals(other.getAllowFrequencyCapsCustomization()))) &&
-            ((this.allowDeliverySettingsCustomization==null && other.getAllowDeliverySettingsCustomization()==null) || 
-             (this.allowDeliverySettingsCustomization!=null &&
-              this.allowDeliverySettingsCustomization.equals(other.getAllowDeliverySettingsCustomization()))) &&
-            ((this.allowCreativePlaceholdersCustomization==null && other.getAllowCreativePlaceholdersCustomization()==null) || 
-             (this.allowCreativePlaceholdersCustomization!=null &&
-              this.allowCreativePlaceholdersCustomization.equals(other.getAllowCreativePlaceholdersCustomization())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = true && 
+                ((this.allowGeoTargetingCustomization==null && other.getAllowGeoTargetingCustomization()==null) || 
+                 (this.allowGeoTargetingCustomization!=null &&
+                  this.allowGeoTargetingCustomization.equals(other.getAllowGeoTargetingCustomization()))) &&
+                ((this.allowAdUnitTargetingCustomization==null && other.getAllowAdUnitTargetingCustomization()==null) || 
+                 (this.allowAdUnitTargetingCustomization!=null &&
+                  this.allowAdUnitTargetingCustomization.equals(other.getAllowAdUnitTargetingCustomization()))) &&
+                ((this.allowPlacementTargetingCustomization==null && other.getAllowPlacementTargetingCustomization()==null) || 
+                 (this.allowPlacementTargetingCustomization!=null &&
+                  this.allowPlacementTargetingCustomization.equals(other.getAllowPlacementTargetingCustomization()))) &&
+                ((this.allowUserDomainTargetingCustomization==null && other.getAllowUserDomainTargetingCustomization()==null) || 
+                 (this.allowUserDomainTargetingCustomization!=null &&
+                  this.allowUserDomainTargetingCustomization.equals(other.getAllowUserDomainTargetingCustomization()))) &&
+                ((this.allowBandwidthGroupTargetingCustomization==null && other.getAllowBandwidthGroupTargetingCustomization()==null) || 
+                 (this.allowBandwidthGroupTargetingCustomization!=null &&
+                  this.allowBandwidthGroupTargetingCustomization.equals(other.getAllowBandwidthGroupTargetingCustomization()))) &&
+                ((this.allowBrowserTargetingCustomization==null && other.getAllowBrowserTargetingCustomization()==null) || 
+                 (this.allowBrowserTargetingCustomization!=null &&
+                  this.allowBrowserTargetingCustomization.equals(other.getAllowBrowserTargetingCustomization()))) &&
+                ((this.allowBrowserLanguageTargetingCustomization==null && other.getAllowBrowserLanguageTargetingCustomization()==null) || 
+                 (this.allowBrowserLanguageTargetingCustomization!=null &&
+                  this.allowBrowserLanguageTargetingCustomization.equals(other.getAllowBrowserLanguageTargetingCustomization()))) &&
+                ((this.allowOperatingSystemTargetingCustomization==null && other.getAllowOperatingSystemTargetingCustomization()==null) || 
+                 (this.allowOperatingSystemTargetingCustomization!=null &&
+                  this.allowOperatingSystemTargetingCustomization.equals(other.getAllowOperatingSystemTargetingCustomization()))) &&
+                ((this.allowDeviceCapabilityTargetingCustomization==null && other.getAllowDeviceCapabilityTargetingCustomization()==null) || 
+                 (this.allowDeviceCapabilityTargetingCustomization!=null &&
+                  this.allowDeviceCapabilityTargetingCustomization.equals(other.getAllowDeviceCapabilityTargetingCustomization()))) &&
+                ((this.allowDeviceCategoryTargetingCustomization==null && other.getAllowDeviceCategoryTargetingCustomization()==null) || 
+                 (this.allowDeviceCategoryTargetingCustomization!=null &&
+                  this.allowDeviceCategoryTargetingCustomization.equals(other.getAllowDeviceCategoryTargetingCustomization()))) &&
+                ((this.allowMobileCarrierTargetingCustomization==null && other.getAllowMobileCarrierTargetingCustomization()==null) || 
+                 (this.allowMobileCarrierTargetingCustomization!=null &&
+                  this.allowMobileCarrierTargetingCustomization.equals(other.getAllowMobileCarrierTargetingCustomization()))) &&
+                ((this.allowMobileDeviceAndManufacturerTargetingCustomization==null && other.getAllowMobileDeviceAndManufacturerTargetingCustomization()==null) || 
+                 (this.allowMobileDeviceAndManufacturerTargetingCustomization!=null &&
+                  this.allowMobileDeviceAndManufacturerTargetingCustomization.equals(other.getAllowMobileDeviceAndManufacturerTargetingCustomization()))) &&
+                ((this.allowAudienceSegmentTargetingCustomization==null && other.getAllowAudienceSegmentTargetingCustomization()==null) || 
+                 (this.allowAudienceSegmentTargetingCustomization!=null &&
+                  this.allowAudienceSegmentTargetingCustomization.equals(other.getAllowAudienceSegmentTargetingCustomization()))) &&
+                ((this.isAllCustomTargetingKeysCustomizable==null && other.getIsAllCustomTargetingKeysCustomizable()==null) || 
+                 (this.isAllCustomTargetingKeysCustomizable!=null &&
+                  this.isAllCustomTargetingKeysCustomizable.equals(other.getIsAllCustomTargetingKeysCustomizable()))) &&
+                ((this.customizableCustomTargetingKeyIds==null && other.getCustomizableCustomTargetingKeyIds()==null) || 
+                 (this.customizableCustomTargetingKeyIds!=null &&
+                  java.util.Arrays.equals(this.customizableCustomTargetingKeyIds, other.getCustomizableCustomTargetingKeyIds()))) &&
+                ((this.allowDaypartTargetingCustomization==null && other.getAllowDaypartTargetingCustomization()==null) || 
+                 (this.allowDaypartTargetingCustomization!=null &&
+                  this.allowDaypartTargetingCustomization.equals(other.getAllowDaypartTargetingCustomization()))) &&
+                ((this.allowFrequencyCapsCustomization==null && other.getAllowFrequencyCapsCustomization()==null) || 
+                 (this.allowFrequencyCapsCustomization!=null &&
+                  this.allowFrequencyCapsCustomization.equals(other.getAllowFrequencyCapsCustomization()))) &&
+                ((this.allowDeliverySettingsCustomization==null && other.getAllowDeliverySettingsCustomization()==null) || 
+                 (this.allowDeliverySettingsCustomization!=null &&
+                  this.allowDeliverySettingsCustomization.equals(other.getAllowDeliverySettingsCustomization()))) &&
+                ((this.allowCreativePlaceholdersCustomization==null && other.getAllowCreativePlaceholdersCustomization()==null) || 
+                 (this.allowCreativePlaceholdersCustomization!=null &&
+                  this.allowCreativePlaceholdersCustomization.equals(other.getAllowCreativePlaceholdersCustomization())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(CustomizableAttributes.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getAllowGeoTargetingCustomization() != null) {
-            _hashCode += getAllowGeoTargetingCustomization().hashCode();
-        }
-        if (getAllowAdUnitTargetingCustomization() != null) {
-            _hashCode += getAllowAdUnitTargetingCustomization().hashCode();
-        }
-        if (getAllowPlacementTargetingCustomization() != null) {
-            _hashCode += getAllowPlacementTargetingCustomization().hashCode();
-        }
-        if (getAllowUserDomainTargetingCustomization() != null) {
-            _hashCode += getAllowUserDomainTargetingCustomization().hashCode();
-        }
-        if (getAllowBandwidthGroupTargetingCustomization() != null) {
-            _hashCode += getAllowBandwidthGroupTargetingCustomization().hashCode();
-        }
-        if (getAllowBrowserTargetingCustomization() != null) {
-            _hashCode += getAllowBrowserTargetingCustomization().hashCode();
-        }
-        if (getAllowBrowserLanguageTargetingCustomization() != null) {
-            _hashCode += getAllowBrowserLanguageTargetingCustomization().hashCode();
-        }
-        if (getAllowOperatingSystemTargetingCustomization() != null) {
-            _hashCode += getAllowOperatingSystemTargetingCustomization().hashCode();
-        }
-        if (getAllowDeviceCapabilityTargetingCustomization() != null) {
-            _hashCode += getAllowDeviceCapabilityTargetingCustomization().hashCode();
-        }
-        if (getAllowDeviceCategoryTargetingCustomization() != null) {
-            _hashCode += getAllowDeviceCategoryTargetingCustomization().hashCode();
-        }
-        if (getAllowMobileCarrierTargetingCustomization() != null) {
-            _hashCode += getAllowMobileCarrierTargetingCustomization().hashCode();
-        }
-        if (getAllowMobileDeviceAndManufacturerTargetingCustomization() != null) {
-            _hashCode += getAllowMobileDeviceAndManufacturerTargetingCustomization().hashCode();
-        }
-        if (getAllowAudienceSegmentTargetingCustomization() != null) {
-            _hashCode += getAllowAudienceSegmentTargetingCustomization().hashCode();
-        }
-        if (getIsAllCustomTargetingKeysCustomizable() != null) {
-            _hashCode += getIsAllCustomTargetingKeysCustomizable().hashCode();
-        }
-        if (getCustomizableCustomTargetingKeyIds() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getCustomizableCustomTargetingKeyIds());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getCustomizableCustomTargetingKeyIds(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+        try {
+            int _hashCode = 1;
+            if (getAllowGeoTargetingCustomization() != null) {
+                _hashCode += getAllowGeoTargetingCustomization().hashCode();
+            }
+            if (getAllowAdUnitTargetingCustomization() != null) {
+                _hashCode += getAllowAdUnitTargetingCustomization().hashCode();
+            }
+            if (getAllowPlacementTargetingCustomization() != null) {
+                _hashCode += getAllowPlacementTargetingCustomization().hashCode();
+            }
+            if (getAllowUserDomainTargetingCustomization() != null) {
+                _hashCode += getAllowUserDomainTargetingCustomization().hashCode();
+            }
+            if (getAllowBandwidthGroupTargetingCustomization() != null) {
+                _hashCode += getAllowBandwidthGroupTargetingCustomization().hashCode();
+            }
+            if (getAllowBrowserTargetingCustomization() != null) {
+                _hashCode += getAllowBrowserTargetingCustomization().hashCode();
+            }
+            if (getAllowBrowserLanguageTargetingCustomization() != null) {
+                _hashCode += getAllowBrowserLanguageTargetingCustomization().hashCode();
+            }
+            if (getAllowOperatingSystemTargetingCustomization() != null) {
+                _hashCode += getAllowOperatingSystemTargetingCustomization().hashCode();
+            }
+            if (getAllowDeviceCapabilityTargetingCustomization() != null) {
+                _hashCode += getAllowDeviceCapabilityTargetingCustomization().hashCode();
+            }
+            if (getAllowDeviceCategoryTargetingCustomization() != null) {
+                _hashCode += getAllowDeviceCategoryTargetingCustomization().hashCode();
+            }
+            if (getAllowMobileCarrierTargetingCustomization() != null) {
+                _hashCode += getAllowMobileCarrierTargetingCustomization().hashCode();
+            }
+            if (getAllowMobileDeviceAndManufacturerTargetingCustomization() != null) {
+                _hashCode += getAllowMobileDeviceAndManufacturerTargetingCustomization().hashCode();
+            }
+            if (getAllowAudienceSegmentTargetingCustomization() != null) {
+                _hashCode += getAllowAudienceSegmentTargetingCustomization().hashCode();
+            }
+            if (getIsAllCustomTargetingKeysCustomizable() != null) {
+                _hashCode += getIsAllCustomTargetingKeysCustomizable().hashCode();
+            }
+            if (getCustomizableCustomTargetingKeyIds() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getCustomizableCustomTargetingKeyIds());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getCustomizableCustomTargetingKeyIds(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
+            if (getAllowDaypartTargetingCustomization() != null) {
+                _hashCode += getAllowDaypartTargetingCustomization().hashCode();
+            }
+            if (getAllowFrequencyCapsCustomization() != null) {
+                _hashCode += getAllowFrequencyCapsCustomization().hashCode();
+            }
+            if (getAllowDeliverySettingsCustomization() != null) {
+                _hashCode += getAllowDeliverySettingsCustomization().hashCode();
+            }
+            if (getAllowCreativePlaceholdersCustomization() != null) {
+                _hashCode += getAllowCreativePlaceholdersCustomization().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        if (getAllowDaypartTargetingCustomization() != null) {
-            _hashCode += getAllowDaypartTargetingCustomization().hashCode();
-        }
-        if (getAllowFrequencyCapsCustomization() != null) {
-            _hashCode += getAllowFrequencyCapsCustomization().hashCode();
-        }
-        if (getAllowDeliverySettingsCustomization() != null) {
-            _hashCode += getAllowDeliverySettingsCustomization().hashCode();
-        }
-        if (getAllowCreativePlaceholdersCustomization() != null) {
-            _hashCode += getAllowCreativePlaceholdersCustomization().hashCode();
-        }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(CustomizableAttributes.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(CustomizableAttributes.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://www.google.com/apis/ads/publisher/v201605", "CustomizableAttributes"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("allowGeoTargetingCustomization");
@@ -1081,13 +1086,24 @@ public class CustomizableAttributes  implements java.io.Serializable {
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (CustomizableAttributes.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -1099,7 +1115,7 @@ public class CustomizableAttributes  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -1111,7 +1127,7 @@ public class CustomizableAttributes  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
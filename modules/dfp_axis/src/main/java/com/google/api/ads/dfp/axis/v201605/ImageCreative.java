@@ -200,70 +200,75 @@ public class ImageCreative  extends com.google.api.ads.dfp.axis.v201605.BaseImag
         this.lockedOrientation = lockedOrientation;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof ImageCreative)) return false;
         ImageCreative other = (ImageCreative) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(ImageCreative.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = super.equals(obj) && 
-            ((this.altText==null && other.getAltText()==null) || 
-             (this.altText!=null &&
-              this.altText.equals(other.getAltText()))) &&
-            ((this.thirdPartyImpressionUrl==null && other.getThirdPartyImpressionUrl()==null) || 
-             (this.thirdPartyImpressionUrl!=null &&
-              this.thirdPartyImpressionUrl.equals(other.getThirdPartyImpressionUrl()))) &&
-            ((this.secondaryImageAssets==null && other.getSecondaryImageAssets()==null) || 
-             (this.secondaryImageAssets!=null &&
-              java.util.Arrays.equals(this.secondaryImageAssets, other.getSecondaryImageAssets()))) &&
-            ((this.lockedOrientation==null && other.getLockedOrientation()==null) || 
-             (this.lockedOrientation!=null &&
-              this.lockedOrientation.equals(other.getLockedOrientation())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = super.equals(obj) && 
+                ((this.altText==null && other.getAltText()==null) || 
+                 (this.altText!=null &&
+                  this.altText.equals(other.getAltText()))) &&
+                ((this.thirdPartyImpressionUrl==null && other.getThirdPartyImpressionUrl()==null) || 
+                 (this.thirdPartyImpressionUrl!=null &&
+                  this.thirdPartyImpressionUrl.equals(other.getThirdPartyImpressionUrl()))) &&
+                ((this.secondaryImageAssets==null && other.getSecondaryImageAssets()==null) || 
+                 (this.secondaryImageAssets!=null &&
+                  java.util.Arrays.equals(this.secondaryImageAssets, other.getSecondaryImageAssets()))) &&
+                ((this.lockedOrientation==null && other.getLockedOrientation()==null) || 
+                 (this.lockedOrientation!=null &&
+                  this.lockedOrientation.equals(other.getLockedOrientation())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(ImageCreative.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = super.hashCode();
-        if (getAltText() != null) {
-            _hashCode += getAltText().hashCode();
-        }
-        if (getThirdPartyImpressionUrl() != null) {
-            _hashCode += getThirdPartyImpressionUrl().hashCode();
-        }
-        if (getSecondaryImageAssets() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getSecondaryImageAssets());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getSecondaryImageAssets(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+        try {
+            int _hashCode = super.hashCode();
+            if (getAltText() != null) {
+                _hashCode += getAltText().hashCode();
+            }
+            if (getThirdPartyImpressionUrl() != null) {
+                _hashCode += getThirdPartyImpressionUrl().hashCode();
+            }
+            if (getSecondaryImageAssets() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getSecondaryImageAssets());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getSecondaryImageAssets(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
+            if (getLockedOrientation() != null) {
+                _hashCode += getLockedOrientation().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        if (getLockedOrientation() != null) {
-            _hashCode += getLockedOrientation().hashCode();
-        }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(ImageCreative.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(ImageCreative.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://www.google.com/apis/ads/publisher/v201605", "ImageCreative"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("altText");
@@ -294,13 +299,24 @@ public class ImageCreative  extends com.google.api.ads.dfp.axis.v201605.BaseImag
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (ImageCreative.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -312,7 +328,7 @@ public class ImageCreative  extends com.google.api.ads.dfp.axis.v201605.BaseImag
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -324,7 +340,7 @@ public class ImageCreative  extends com.google.api.ads.dfp.axis.v201605.BaseImag
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
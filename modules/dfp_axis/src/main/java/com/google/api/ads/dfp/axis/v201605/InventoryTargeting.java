@@ -131,80 +131,85 @@ public class InventoryTargeting  implements java.io.Serializable {
         this.targetedPlacementIds[i] = _value;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof InventoryTargeting)) return false;
         InventoryTargeting other = (InventoryTargeting) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(InventoryTargeting.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = true && 
-            ((this.targetedAdUnits==null && other.getTargetedAdUnits()==null) || 
-             (this.targetedAdUnits!=null &&
-              java.util.Arrays.equals(this.targetedAdUnits, other.getTargetedAdUnits()))) &&
-            ((this.excludedAdUnits==null && other.getExcludedAdUnits()==null) || 
-             (this.excludedAdUnits!=null &&
-              java.util.Arrays.equals(this.excludedAdUnits, other.getExcludedAdUnits()))) &&
-            ((this.targetedPlacementIds==null && other.getTargetedPlacementIds()==null) || 
-             (this.targetedPlacementIds!=null &&
-              java.util.Arrays.equals(this.targetedPlacementIds, other.getTargetedPlacementIds())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = true && 
+                ((this.targetedAdUnits==null && other.getTargetedAdUnits()==null) || 
+                 (this.targetedAdUnits!=null &&
+                  java.util.Arrays.equals(this.targetedAdUnits, other.getTargetedAdUnits()))) &&
+                ((this.excludedAdUnits==null && other.getExcludedAdUnits()==null) || 
+                 (this.excludedAdUnits!=null &&
+                  java.util.Arrays.equals(this.excludedAdUnits, other.getExcludedAdUnits()))) &&
+                ((this.targetedPlacementIds==null && other.getTargetedPlacementIds()==null) || 
+                 (this.targetedPlacementIds!=null &&
+                  java.util.Arrays.equals(this.targetedPlacementIds, other.getTargetedPlacementIds())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(InventoryTargeting.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getTargetedAdUnits() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getTargetedAdUnits());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getTargetedAdUnits(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+        try {
+            int _hashCode = 1;
+            if (getTargetedAdUnits() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getTargetedAdUnits());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getTargetedAdUnits(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
-        }
-        if (getExcludedAdUnits() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getExcludedAdUnits());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getExcludedAdUnits(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+            if (getExcludedAdUnits() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getExcludedAdUnits());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getExcludedAdUnits(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
-        }
-        if (getTargetedPlacementIds() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getTargetedPlacementIds());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getTargetedPlacementIds(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+            if (getTargetedPlacementIds() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getTargetedPlacementIds());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getTargetedPlacementIds(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(InventoryTargeting.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(InventoryTargeting.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://www.google.com/apis/ads/publisher/v201605", "InventoryTargeting"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("targetedAdUnits");
@@ -230,13 +235,24 @@ public class InventoryTargeting  implements java.io.Serializable {
         elemField.setNillable(false);
         elemField.setMaxOccursUnbounded(true);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (InventoryTargeting.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -248,7 +264,7 @@ public class InventoryTargeting  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -260,7 +276,7 @@ public class InventoryTargeting  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
@@ -585,130 +585,135 @@ public class LineItemCreativeAssociation  implements java.io.Serializable {
         this.targetingName = targetingName;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof LineItemCreativeAssociation)) return false;
         LineItemCreativeAssociation other = (LineItemCreativeAssociation) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(LineItemCreativeAssociation.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = true && 
-            ((this.lineItemId==null && other.getLineItemId()==null) || 
-             (this.lineItemId!=null &&
-              this.lineItemId.equals(other.getLineItemId()))) &&
-            ((this.creativeId==null && other.getCreativeId()==null) || 
-             (this.creativeId!=null &&
-              this.creativeId.equals(other.getCreativeId()))) &&
-            ((this.creativeSetId==null && other.getCreativeSetId()==null) || 
-             (this.creativeSetId!=null &&
-              this.creativeSetId.equals(other.getCreativeSetId()))) &&
-            ((this.manualCreativeRotationWeight==null && other.getManualCreativeRotationWeight()==null) || 
-             (this.manualCreativeRotationWeight!=null &&
-              this.manualCreativeRotationWeight.equals(other.getManualCreativeRotationWeight()))) &&
-            ((this.sequentialCreativeRotationIndex==null && other.getSequentialCreativeRotationIndex()==null) || 
-             (this.sequentialCreativeRotationIndex!=null &&
-              this.sequentialCreativeRotationIndex.equals(other.getSequentialCreativeRotationIndex()))) &&
-            ((this.startDateTime==null && other.getStartDateTime()==null) || 
-             (this.startDateTime!=null &&
-              this.startDateTime.equals(other.getStartDateTime()))) &&
-            ((this.startDateTimeType==null && other.getStartDateTimeType()==null) || 
-             (this.startDateTimeType!=null &&
-              this.startDateTimeType.equals(other.getStartDateTimeType()))) &&
-            ((this.endDateTime==null && other.getEndDateTime()==null) || 
-             (this.endDateTime!=null &&
-              this.endDateTime.equals(other.getEndDateTime()))) &&
-            ((this.destinationUrl==null && other.getDestinationUrl()==null) || 
-             (this.destinationUrl!=null &&
-              this.destinationUrl.equals(other.getDestinationUrl()))) &&
-            ((this.sizes==null && other.getSizes()==null) || 
-             (this.sizes!=null &&
-              java.util.Arrays.equals(this.sizes, other.getSizes()))) &&
-            ((this.status==null && other.getStatus()==null) || 
-             (this.status!=null &&
-              this.status.equals(other.getStatus()))) &&
-            ((this.stats==null && other.getStats()==null) || 
-             (this.stats!=null &&
-              this.stats.equals(other.getStats()))) &&
-            ((this.lastModifiedDateTime==null && other.getLastModifiedDateTime()==null) || 
-             (this.lastModifiedDateTime!=null &&
-              this.lastModifiedDateTime.equals(other.getLastModifiedDateTime()))) &&
-            ((this.targetingName==null && other.getTargetingName()==null) || 
-             (this.targetingName!=null &&
-              this.targetingName.equals(other.getTargetingName())));
-        __equalsCalc = null;
-        return _equals;
-    }
-
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
-            return 0;
-        }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getLineItemId() != null) {
-            _hashCode += getLineItemId().hashCode();
-        }
-        if (getCreativeId() != null) {
-            _hashCode += getCreativeId().hashCode();
-        }
-        if (getCreativeSetId() != null) {
-            _hashCode += getCreativeSetId().hashCode();
-        }
-        if (getManualCreativeRotationWeight() != null) {
-            _hashCode += getManualCreativeRotationWeight().hashCode();
-        }
-        if (getSequentialCreativeRotationIndex() != null) {
-            _hashCode += getSequentialCreativeRotationIndex().hashCode();
-        }
-        if (getStartDateTime() != null) {
-            _hashCode += getStartDateTime().hashCode();
-        }
-        if (getStartDateTimeType() != null) {
-            _hashCode += getStartDateTimeType().hashCode();
-        }
-        if (getEndDateTime() != null) {
-            _hashCode += getEndDateTime().hashCode();
+        try {
+            boolean _equals;
+            _equals = true && 
+                ((this.lineItemId==null && other.getLineItemId()==null) || 
+                 (this.lineItemId!=null &&
+                  this.lineItemId.equals(other.getLineItemId()))) &&
+                ((this.creativeId==null && other.getCreativeId()==null) || 
+                 (this.creativeId!=null &&
+                  this.creativeId.equals(other.getCreativeId()))) &&
+                ((this.creativeSetId==null && other.getCreativeSetId()==null) || 
+                 (this.creativeSetId!=null &&
+                  this.creativeSetId.equals(other.getCreativeSetId()))) &&
+                ((this.manualCreativeRotationWeight==null && other.getManualCreativeRotationWeight()==null) || 
+                 (this.manualCreativeRotationWeight!=null &&
+                  this.manualCreativeRotationWeight.equals(other.getManualCreativeRotationWeight()))) &&
+                ((this.sequentialCreativeRotationIndex==null && other.getSequentialCreativeRotationIndex()==null) || 
+                 (this.sequentialCreativeRotationIndex!=null &&
+                  this.sequentialCreativeRotationIndex.equals(other.getSequentialCreativeRotationIndex()))) &&
+                ((this.startDateTime==null && other.getStartDateTime()==null) || 
+                 (this.startDateTime!=null &&
+                  this.startDateTime.equals(other.getStartDateTime()))) &&
+                ((this.startDateTimeType==null && other.getStartDateTimeType()==null) || 
+                 (this.startDateTimeType!=null &&
+                  this.startDateTimeType.equals(other.getStartDateTimeType()))) &&
+                ((this.endDateTime==null && other.getEndDateTime()==null) || 
+                 (this.endDateTime!=null &&
+                  this.endDateTime.equals(other.getEndDateTime()))) &&
+                ((this.destinationUrl==null && other.getDestinationUrl()==null) || 
+                 (this.destinationUrl!=null &&
+                  this.destinationUrl.equals(other.getDestinationUrl()))) &&
+                ((this.sizes==null && other.getSizes()==null) || 
+                 (this.sizes!=null &&
+                  java.util.Arrays.equals(this.sizes, other.getSizes()))) &&
+                ((this.status==null && other.getStatus()==null) || 
+                 (this.status!=null &&
+                  this.status.equals(other.getStatus()))) &&
+                ((this.stats==null && other.getStats()==null) || 
+                 (this.stats!=null &&
+                  this.stats.equals(other.getStats()))) &&
+                ((this.lastModifiedDateTime==null && other.getLastModifiedDateTime()==null) || 
+                 (this.lastModifiedDateTime!=null &&
+                  this.lastModifiedDateTime.equals(other.getLastModifiedDateTime()))) &&
+                ((this.targetingName==null && other.getTargetingName()==null) || 
+                 (this.targetingName!=null &&
+                  this.targetingName.equals(other.getTargetingName())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
         }
-        if (getDestinationUrl() != null) {
-            _hashCode += getDestinationUrl().hashCode();
+    }
+
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(LineItemCreativeAssociation.class, this)) {
+            return 0;
         }
-        if (getSizes() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getSizes());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getSizes(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+        try {
+            int _hashCode = 1;
+            if (getLineItemId() != null) {
+                _hashCode += getLineItemId().hashCode();
+            }
+            if (getCreativeId() != null) {
+                _hashCode += getCreativeId().hashCode();
+            }
+            if (getCreativeSetId() != null) {
+                _hashCode += getCreativeSetId().hashCode();
+            }
+            if (getManualCreativeRotationWeight() != null) {
+                _hashCode += getManualCreativeRotationWeight().hashCode();
+            }
+            if (getSequentialCreativeRotationIndex() != null) {
+                _hashCode += getSequentialCreativeRotationIndex().hashCode();
+            }
+            if (getStartDateTime() != null) {
+                _hashCode += getStartDateTime().hashCode();
+            }
+            if (getStartDateTimeType() != null) {
+                _hashCode += getStartDateTimeType().hashCode();
+            }
+            if (getEndDateTime() != null) {
+                _hashCode += getEndDateTime().hashCode();
+            }
+            if (getDestinationUrl() != null) {
+                _hashCode += getDestinationUrl().hashCode();
+            }
+            if (getSizes() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getSizes());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getSizes(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
+            if (getStatus() != null) {
+                _hashCode += getStatus().hashCode();
+            }
+            if (getStats() != null) {
+                _hashCode += getStats().hashCode();
+            }
+            if (getLastModifiedDateTime() != null) {
+                _hashCode += getLastModifiedDateTime().hashCode();
+            }
+            if (getTargetingName() != null) {
+                _hashCode += getTargetingName().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        if (getStatus() != null) {
-            _hashCode += getStatus().hashCode();
-        }
-        if (getStats() != null) {
-            _hashCode += getStats().hashCode();
-        }
-        if (getLastModifiedDateTime() != null) {
-            _hashCode += getLastModifiedDateTime().hashCode();
-        }
-        if (getTargetingName() != null) {
-            _hashCode += getTargetingName().hashCode();
-        }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(LineItemCreativeAssociation.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(LineItemCreativeAssociation.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://www.google.com/apis/ads/publisher/v201605", "LineItemCreativeAssociation"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("lineItemId");
@@ -809,13 +814,24 @@ public class LineItemCreativeAssociation  implements java.io.Serializable {
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (LineItemCreativeAssociation.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -827,7 +843,7 @@ public class LineItemCreativeAssociation  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -839,7 +855,7 @@ public class LineItemCreativeAssociation  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
@@ -212,76 +212,81 @@ public class PremiumRate  implements java.io.Serializable {
         this.premiumRateValues[i] = _value;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof PremiumRate)) return false;
         PremiumRate other = (PremiumRate) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(PremiumRate.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = true && 
-            ((this.id==null && other.getId()==null) || 
-             (this.id!=null &&
-              this.id.equals(other.getId()))) &&
-            ((this.rateCardId==null && other.getRateCardId()==null) || 
-             (this.rateCardId!=null &&
-              this.rateCardId.equals(other.getRateCardId()))) &&
-            ((this.pricingMethod==null && other.getPricingMethod()==null) || 
-             (this.pricingMethod!=null &&
-              this.pricingMethod.equals(other.getPricingMethod()))) &&
-            ((this.premiumFeature==null && other.getPremiumFeature()==null) || 
-             (this.premiumFeature!=null &&
-              this.premiumFeature.equals(other.getPremiumFeature()))) &&
-            ((this.premiumRateValues==null && other.getPremiumRateValues()==null) || 
-             (this.premiumRateValues!=null &&
-              java.util.Arrays.equals(this.premiumRateValues, other.getPremiumRateValues())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = true && 
+                ((this.id==null && other.getId()==null) || 
+                 (this.id!=null &&
+                  this.id.equals(other.getId()))) &&
+                ((this.rateCardId==null && other.getRateCardId()==null) || 
+                 (this.rateCardId!=null &&
+                  this.rateCardId.equals(other.getRateCardId()))) &&
+                ((this.pricingMethod==null && other.getPricingMethod()==null) || 
+                 (this.pricingMethod!=null &&
+                  this.pricingMethod.equals(other.getPricingMethod()))) &&
+                ((this.premiumFeature==null && other.getPremiumFeature()==null) || 
+                 (this.premiumFeature!=null &&
+                  this.premiumFeature.equals(other.getPremiumFeature()))) &&
+                ((this.premiumRateValues==null && other.getPremiumRateValues()==null) || 
+                 (this.premiumRateValues!=null &&
+                  java.util.Arrays.equals(this.premiumRateValues, other.getPremiumRateValues())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(PremiumRate.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getId() != null) {
-            _hashCode += getId().hashCode();
-        }
-        if (getRateCardId() != null) {
-            _hashCode += getRateCardId().hashCode();
-        }
-        if (getPricingMethod() != null) {
-            _hashCode += getPricingMethod().hashCode();
-        }
-        if (getPremiumFeature() != null) {
-            _hashCode += getPremiumFeature().hashCode();
-        }
-        if (getPremiumRateValues() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getPremiumRateValues());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getPremiumRateValues(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+        try {
+            int _hashCode = 1;
+            if (getId() != null) {
+                _hashCode += getId().hashCode();
+            }
+            if (getRateCardId() != null) {
+                _hashCode += getRateCardId().hashCode();
+            }
+            if (getPricingMethod() != null) {
+                _hashCode += getPricingMethod().hashCode();
+            }
+            if (getPremiumFeature() != null) {
+                _hashCode += getPremiumFeature().hashCode();
+            }
+            if (getPremiumRateValues() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getPremiumRateValues());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getPremiumRateValues(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(PremiumRate.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(PremiumRate.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://www.google.com/apis/ads/publisher/v201605", "PremiumRate"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("id");
@@ -319,13 +324,24 @@ public class PremiumRate  implements java.io.Serializable {
         elemField.setNillable(false);
         elemField.setMaxOccursUnbounded(true);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (PremiumRate.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -337,7 +353,7 @@ public class PremiumRate  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -349,7 +365,7 @@ public class PremiumRate  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
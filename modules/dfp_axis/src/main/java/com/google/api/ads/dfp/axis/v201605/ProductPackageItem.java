@@ -223,68 +223,73 @@ public class ProductPackageItem  implements java.io.Serializable {
         this.archiveStatus = archiveStatus;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof ProductPackageItem)) return false;
         ProductPackageItem other = (ProductPackageItem) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(ProductPackageItem.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = true && 
-            ((this.id==null && other.getId()==null) || 
-             (this.id!=null &&
-              this.id.equals(other.getId()))) &&
-            ((this.productId==null && other.getProductId()==null) || 
-             (this.productId!=null &&
-              this.productId.equals(other.getProductId()))) &&
-            ((this.productPackageId==null && other.getProductPackageId()==null) || 
-             (this.productPackageId!=null &&
-              this.productPackageId.equals(other.getProductPackageId()))) &&
-            ((this.isMandatory==null && other.getIsMandatory()==null) || 
-             (this.isMandatory!=null &&
-              this.isMandatory.equals(other.getIsMandatory()))) &&
-            ((this.archiveStatus==null && other.getArchiveStatus()==null) || 
-             (this.archiveStatus!=null &&
-              this.archiveStatus.equals(other.getArchiveStatus())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = true && 
+                ((this.id==null && other.getId()==null) || 
+                 (this.id!=null &&
+                  this.id.equals(other.getId()))) &&
+                ((this.productId==null && other.getProductId()==null) || 
+                 (this.productId!=null &&
+                  this.productId.equals(other.getProductId()))) &&
+                ((this.productPackageId==null && other.getProductPackageId()==null) || 
+                 (this.productPackageId!=null &&
+                  this.productPackageId.equals(other.getProductPackageId()))) &&
+                ((this.isMandatory==null && other.getIsMandatory()==null) || 
+                 (this.isMandatory!=null &&
+                  this.isMandatory.equals(other.getIsMandatory()))) &&
+                ((this.archiveStatus==null && other.getArchiveStatus()==null) || 
+                 (this.archiveStatus!=null &&
+                  this.archiveStatus.equals(other.getArchiveStatus())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(ProductPackageItem.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getId() != null) {
-            _hashCode += getId().hashCode();
-        }
-        if (getProductId() != null) {
-            _hashCode += getProductId().hashCode();
-        }
-        if (getProductPackageId() != null) {
-            _hashCode += getProductPackageId().hashCode();
-        }
-        if (getIsMandatory() != null) {
-            _hashCode += getIsMandatory().hashCode();
+        try {
+            int _hashCode = 1;
+            if (getId() != null) {
+                _hashCode += getId().hashCode();
+            }
+            if (getProductId() != null) {
+                _hashCode += getProductId().hashCode();
+            }
+            if (getProductPackageId() != null) {
+                _hashCode += getProductPackageId().hashCode();
+            }
+            if (getIsMandatory() != null) {
+                _hashCode += getIsMandatory().hashCode();
+            }
+            if (getArchiveStatus() != null) {
+                _hashCode += getArchiveStatus().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        if (getArchiveStatus() != null) {
-            _hashCode += getArchiveStatus().hashCode();
-        }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(ProductPackageItem.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(ProductPackageItem.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://www.google.com/apis/ads/publisher/v201605", "ProductPackageItem"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("id");
@@ -321,13 +326,24 @@ public class ProductPackageItem  implements java.io.Serializable {
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (ProductPackageItem.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -339,7 +355,7 @@ public class ProductPackageItem  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -351,7 +367,7 @@ public class ProductPackageItem  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
@@ -175,68 +175,73 @@ public class ProgrammaticSettings  implements java.io.Serializable {
         this.status = status;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof ProgrammaticSettings)) return false;
         ProgrammaticSettings other = (ProgrammaticSettings) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(ProgrammaticSettings.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = true && 
-            ((this.adxBuyerNetworkId==null && other.getAdxBuyerNetworkId()==null) || 
-             (this.adxBuyerNetworkId!=null &&
-              this.adxBuyerNetworkId.equals(other.getAdxBuyerNetworkId()))) &&
-            ((this.buyerId==null && other.getBuyerId()==null) || 
-             (this.buyerId!=null &&
-              this.buyerId.equals(other.getBuyerId()))) &&
-            ((this.buyerPlatform==null && other.getBuyerPlatform()==null) || 
-             (this.buyerPlatform!=null &&
-              this.buyerPlatform.equals(other.getBuyerPlatform()))) &&
-            ((this.billingTermsType==null && other.getBillingTermsType()==null) || 
-             (this.billingTermsType!=null &&
-              this.billingTermsType.equals(other.getBillingTermsType()))) &&
-            ((this.status==null && other.getStatus()==null) || 
-             (this.status!=null &&
-              this.status.equals(other.getStatus())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = true && 
+                ((this.adxBuyerNetworkId==null && other.getAdxBuyerNetworkId()==null) || 
+                 (this.adxBuyerNetworkId!=null &&
+                  this.adxBuyerNetworkId.equals(other.getAdxBuyerNetworkId()))) &&
+                ((this.buyerId==null && other.getBuyerId()==null) || 
+                 (this.buyerId!=null &&
+                  this.buyerId.equals(other.getBuyerId()))) &&
+                ((this.buyerPlatform==null && other.getBuyerPlatform()==null) || 
+                 (this.buyerPlatform!=null &&
+                  this.buyerPlatform.equals(other.getBuyerPlatform()))) &&
+                ((this.billingTermsType==null && other.getBillingTermsType()==null) || 
+                 (this.billingTermsType!=null &&
+                  this.billingTermsType.equals(other.getBillingTermsType()))) &&
+                ((this.status==null && other.getStatus()==null) || 
+                 (this.status!=null &&
+                  this.status.equals(other.getStatus())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(ProgrammaticSettings.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getAdxBuyerNetworkId() != null) {
-            _hashCode += getAdxBuyerNetworkId().hashCode();
-        }
-        if (getBuyerId() != null) {
-            _hashCode += getBuyerId().hashCode();
-        }
-        if (getBuyerPlatform() != null) {
-            _hashCode += getBuyerPlatform().hashCode();
-        }
-        if (getBillingTermsType() != null) {
-            _hashCode += getBillingTermsType().hashCode();
+        try {
+            int _hashCode = 1;
+            if (getAdxBuyerNetworkId() != null) {
+                _hashCode += getAdxBuyerNetworkId().hashCode();
+            }
+            if (getBuyerId() != null) {
+                _hashCode += getBuyerId().hashCode();
+            }
+            if (getBuyerPlatform() != null) {
+                _hashCode += getBuyerPlatform().hashCode();
+            }
+            if (getBillingTermsType() != null) {
+                _hashCode += getBillingTermsType().hashCode();
+            }
+            if (getStatus() != null) {
+                _hashCode += getStatus().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        if (getStatus() != null) {
-            _hashCode += getStatus().hashCode();
-        }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(ProgrammaticSettings.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(ProgrammaticSettings.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://www.google.com/apis/ads/publisher/v201605", "ProgrammaticSettings"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("adxBuyerNetworkId");
@@ -273,13 +278,24 @@ public class ProgrammaticSettings  implements java.io.Serializable {
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (ProgrammaticSettings.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -291,7 +307,7 @@ public class ProgrammaticSettings  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -303,7 +319,7 @@ public class ProgrammaticSettings  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
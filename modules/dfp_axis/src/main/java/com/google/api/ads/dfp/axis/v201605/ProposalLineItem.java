@@ -2565,398 +2565,403 @@ public class ProposalLineItem  implements java.io.Serializable {
         this.linkStatus = linkStatus;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof ProposalLineItem)) return false;
         ProposalLineItem other = (ProposalLineItem) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(ProposalLineItem.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = true && 
-            ((this.id==null && other.getId()==null) || 
-             (this.id!=null &&
-              this.id.equals(other.getId()))) &&
-            ((this.proposalId==null && other.getProposalId()==null) || 
-             (this.proposalId!=null &&
-              this.proposalId.equals(other.getProposalId()))) &&
-            ((this.packageId==null && other.getPackageId()==null) || 
-             (this.packageId!=null &&
-              this.packageId.equals(other.getPackageId()))) &&
-            ((this.rateCardId==null && other.getRateCardId()==null) || 
-             (this.rateCardId!=null &&
-              this.rateCardId.equals(other.getRateCardId()))) &&
-            ((this.productId==null && other.getProductId()==null) || 
-             (this.productId!=null &&
-              this.productId.equals(other.getProductId()))) &&
-            ((this.name==null && other.getName()==null) || 
-             (this.name!=null &&
-              this.name.equals(other.getName()))) &&
-            ((this.startDateTime==null && other.getStartDateTime()==null) || 
-             (this.startDateTime!=null &&
-              this.startDateTime.equals(other.getStartDateTime()))) &&
-            ((this.endDateTime==null && other.getEndDateTime()==null) || 
-             (this.endDateTime!=null &&
-              this.endDateTime.equals(other.getEndDateTime()))) &&
-            ((this.timeZoneId==null && other.getTimeZoneId()==null) || 
-             (this.timeZoneId!=null &&
-              this.timeZoneId.equals(other.getTimeZoneId()))) &&
-            ((this.notes==null && other.getNotes()==null) || 
-             (this.notes!=null &&
-              this.notes.equals(other.getNotes()))) &&
-            ((this.costAdjustment==null && other.getCostAdjustment()==null) || 
-             (this.costAdjustment!=null &&
-              this.costAdjustment.equals(other.getCostAdjustment()))) &&
-            ((this.isArchived==null && other.getIsArchived()==null) || 
-             (this.isArchived!=null &&
-              this.isArchived.equals(other.getIsArchived()))) &&
-            ((this.goal==null && other.getGoal()==null) || 
-             (this.goal!=null &&
-              this.goal.equals(other.getGoal()))) &&
-            ((this.contractedQuantityBuffer==null && other.getContractedQuantityBuffer()==null) || 
-             (this.contractedQuantityBuffer!=null &&
-              this.contractedQuantityBuffer.equals(other.getContractedQuantityBuffer()))) &&
-            ((this.scheduledQuantity==null && other.getScheduledQuantity()==null) || 
-             (this.scheduledQuantity!=null &&
-              this.scheduledQuantity.equals(other.getScheduledQuantity()))) &&
-            ((this.contractedUnitsBought==null && other.getContractedUnitsBought()==null) || 
-             (this.contractedUnitsBought!=null &&
-              this.contractedUnitsBought.equals(other.getContractedUnitsBought()))) &&
-            ((this.deliveryRateType==null && other.getDeliveryRateType()==null) || 
-             (this.deliveryRateType!=null &&
-              this.deliveryRateType.equals(other.getDeliveryRateType()))) &&
-            ((this.roadblockingType==null && other.getRoadblockingType()==null) || 
-             (this.roadblockingType!=null &&
-              this.roadblockingType.equals(other.getRoadblockingType()))) &&
-            ((this.companionDeliveryOption==null && other.getCompanionDeliveryOption()==null) || 
-             (this.companionDeliveryOption!=null &&
-              this.companionDeliveryOption.equals(other.getCompanionDeliveryOption()))) &&
-            ((this.creativeRotationType==null && other.getCreativeRotationType()==null) || 
-             (this.creativeRotationType!=null &&
-              this.creativeRotationType.equals(other.getCreativeRotationType()))) &&
-            ((this.videoMaxDuration==null && other.getVideoMaxDuration()==null) || 
-             (this.videoMaxDuration!=null &&
-              this.videoMaxDuration.equals(other.getVideoMaxDuration()))) &&
-            ((this.frequencyCaps==null && other.getFrequencyCaps()==null) || 
-             (this.frequencyCaps!=null &&
-              java.util.Arrays.equals(this.frequencyCaps, other.getFrequencyCaps()))) &&
-            ((this.dfpLineItemId==null && other.getDfpLineItemId()==null) || 
-             (this.dfpLineItemId!=null &&
-              this.dfpLineItemId.equals(other.getDfpLineItemId()))) &&
-            ((this.lineItemType==null && other.getLineItemType()==null) || 
-             (this.lineItemType!=null &&
-              this.lineItemType.equals(other.getLineItemType()))) &&
-            ((this.lineItemPriority==null && other.getLineItemPriority()==null) || 
-             (this.lineItemPriority!=null &&
-              this.lineItemPriority.equals(other.getLineItemPriority()))) &&
-            ((this.rateType==null && other.getRateType()==null) || 
-             (this.rateType!=null &&
-              this.rateType.equals(other.getRateType()))) &&
-            ((this.creativePlaceholders==null && other.getCreativePlaceholders()==null) || 
-             (this.creativePlaceholders!=null &&
-              java.util.Arrays.equals(this.creativePlaceholders, other.getCreativePlaceholders()))) &&
-            ((this.targeting==null && other.getTargeting()==null) || 
-             (this.targeting!=null &&
-              this.targeting.equals(other.getTargeting()))) &&
-            ((this.customFieldValues==null && other.getCustomFieldValues()==null) || 
-             (this.customFieldValues!=null &&
-              java.util.Arrays.equals(this.customFieldValues, other.getCustomFieldValues()))) &&
-            ((this.appliedLabels==null && other.getAppliedLabels()==null) || 
-             (this.appliedLabels!=null &&
-              java.util.Arrays.equals(this.appliedLabels, other.getAppliedLabels()))) &&
-            ((this.effectiveAppliedLabels==null && other.getEffectiveAppliedLabels()==null) || 
-             (this.effectiveAppliedLabels!=null &&
-              java.util.Arrays.equals(this.effectiveAppliedLabels, other.getEffectiveAppliedLabels()))) &&
-            ((this.disableSameAdvertiserCompetitiveExclusion==null && other.getDisableSameAdvertiserCompetitiveExclusion()==null) || 
-             (this.disableSameAdvertiserCompetitiveExclusion!=null &&
-              this.disableSameAdvertiserCompetitiveExclusion.equals(other.getDisableSameAdvertiserCompetitiveExclusion()))) &&
-            ((this.productConstraints==null && other.getProductConstraints()==null) || 
-             (this.productConstraints!=null &&
-              this.productConstraints.equals(other.getProductConstraints()))) &&
-            ((this.premiums==null && other.getPremiums()==null) || 
-             (this.premiums!=null &&
-              java.util.Arrays.equals(this.premiums, other.getPremiums()))) &&
-            ((this.isSold==null && other.getIsSold()==null) || 
-             (this.isSold!=null &&
-              this.isSold.equals(other.getIsSold()))) &&
-            ((this.baseRate==null && other.getBaseRate()==null) || 
-             (this.baseRate!=null &&
-              this.baseRate.equals(other.getBaseRate()))) &&
-            ((this.costPerUnit==null && other.getCostPerUnit()==null) || 
-             (this.costPerUnit!=null &&
-              this.costPerUnit.equals(other.getCostPerUnit()))) &&
-            ((this.cost==null && other.getCost()==null) || 
-             (this.cost!=null &&
-              this.cost.equals(other.getCost()))) &&
-            ((this.deliveryIndicator==null && other.getDeliveryIndicator()==null) || 
-             (this.deliveryIndicator!=null &&
-              this.deliveryIndicator.equals(other.getDeliveryIndicator()))) &&
-            ((this.deliveryData==null && other.getDeliveryData()==null) || 
-             (this.deliveryData!=null &&
-              this.deliveryData.equals(other.getDeliveryData()))) &&
-            ((this.computedStatus==null && other.getComputedStatus()==null) || 
-             (this.computedStatus!=null &&
-              this.computedStatus.equals(other.getComputedStatus()))) &&
-            ((this.billingCap==null && other.getBillingCap()==null) || 
-             (this.billingCap!=null &&
-              this.billingCap.equals(other.getBillingCap()))) &&
-            ((this.billingSchedule==null && other.getBillingSchedule()==null) || 
-             (this.billingSchedule!=null &&
-              this.billingSchedule.equals(other.getBillingSchedule()))) &&
-            ((this.billingSource==null && other.getBillingSource()==null) || 
-             (this.billingSource!=null &&
-              this.billingSource.equals(other.getBillingSource()))) &&
-            ((this.billingBase==null && other.getBillingBase()==null) || 
-             (this.billingBase!=null &&
-              this.billingBase.equals(other.getBillingBase()))) &&
-            ((this.lastModifiedDateTime==null && other.getLastModifiedDateTime()==null) || 
-             (this.lastModifiedDateTime!=null &&
-              this.lastModifiedDateTime.equals(other.getLastModifiedDateTime()))) &&
-            ((this.reservationStatus==null && other.getReservationStatus()==null) || 
-             (this.reservationStatus!=null &&
-              this.reservationStatus.equals(other.getReservationStatus()))) &&
-            ((this.useThirdPartyAdServerFromProposal==null && other.getUseThirdPartyAdServerFromProposal()==null) || 
-             (this.useThirdPartyAdServerFromProposal!=null &&
-              this.useThirdPartyAdServerFromProposal.equals(other.getUseThirdPartyAdServerFromProposal()))) &&
-            ((this.thirdPartyAdServerId==null && other.getThirdPartyAdServerId()==null) || 
-             (this.thirdPartyAdServerId!=null &&
-              this.thirdPartyAdServerId.equals(other.getThirdPartyAdServerId()))) &&
-            ((this.customThirdPartyAdServerName==null && other.getCustomThirdPartyAdServerName()==null) || 
-             (this.customThirdPartyAdServerName!=null &&
-              this.customThirdPartyAdServerName.equals(other.getCustomThirdPartyAdServerName()))) &&
-            ((this.environmentType==null && other.getEnvironmentType()==null) || 
-             (this.environmentType!=null &&
-              this.environmentType.equals(other.getEnvironmentType()))) &&
-            ((this.linkStatus==null && other.getLinkStatus()==null) || 
-             (this.linkStatus!=null &&
-              this.linkStatus.equals(other.getLinkStatus())));
-        __equalsCalc = null;
-        return _equals;
-    }
-
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
-            return 0;
-        }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getId() != null) {
-            _hashCode += getId().hashCode();
-        }
-        if (getProposalId() != null) {
-            _hashCode += getProposalId().hashCode();
-        }
-        if (getPackageId() != null) {
-            _hashCode += getPackageId().hashCode();
-        }
-        if (getRateCardId() != null) {
-            _hashCode += getRateCardId().hashCode();
-        }
-        if (getProductId() != null) {
-            _hashCode += getProductId().hashCode();
-        }
-        if (getName() != null) {
-            _hashCode += getName().hashCode();
-        }
-        if (getStartDateTime() != null) {
-            _hashCode += getStartDateTime().hashCode();
-        }
-        if (getEndDateTime() != null) {
-            _hashCode += getEndDateTime().hashCode();
-        }
-        if (getTimeZoneId() != null) {
-            _hashCode += getTimeZoneId().hashCode();
-        }
-        if (getNotes() != null) {
-            _hashCode += getNotes().hashCode();
-        }
-        if (getCostAdjustment() != null) {
-            _hashCode += getCostAdjustment().hashCode();
-        }
-        if (getIsArchived() != null) {
-            _hashCode += getIsArchived().hashCode();
-        }
-        if (getGoal() != null) {
-            _hashCode += getGoal().hashCode();
+        try {
+            boolean _equals;
+            _equals = true && 
+                ((this.id==null && other.getId()==null) || 
+                 (this.id!=null &&
+                  this.id.equals(other.getId()))) &&
+                ((this.proposalId==null && other.getProposalId()==null) || 
+                 (this.proposalId!=null &&
+                  this.proposalId.equals(other.getProposalId()))) &&
+                ((this.packageId==null && other.getPackageId()==null) || 
+                 (this.packageId!=null &&
+                  this.packageId.equals(other.getPackageId()))) &&
+                ((this.rateCardId==null && other.getRateCardId()==null) || 
+                 (this.rateCardId!=null &&
+                  this.rateCardId.equals(other.getRateCardId()))) &&
+                ((this.productId==null && other.getProductId()==null) || 
+                 (this.productId!=null &&
+                  this.productId.equals(other.getProductId()))) &&
+                ((this.name==null && other.getName()==null) || 
+                 (this.name!=null &&
+                  this.name.equals(other.getName()))) &&
+                ((this.startDateTime==null && other.getStartDateTime()==null) || 
+                 (this.startDateTime!=null &&
+                  this.startDateTime.equals(other.getStartDateTime()))) &&
+                ((this.endDateTime==null && other.getEndDateTime()==null) || 
+                 (this.endDateTime!=null &&
+                  this.endDateTime.equals(other.getEndDateTime()))) &&
+                ((this.timeZoneId==null && other.getTimeZoneId()==null) || 
+                 (this.timeZoneId!=null &&
+                  this.timeZoneId.equals(other.getTimeZoneId()))) &&
+                ((this.notes==null && other.getNotes()==null) || 
+                 (this.notes!=null &&
+                  this.notes.equals(other.getNotes()))) &&
+                ((this.costAdjustment==null && other.getCostAdjustment()==null) || 
+                 (this.costAdjustment!=null &&
+                  this.costAdjustment.equals(other.getCostAdjustment()))) &&
+                ((this.isArchived==null && other.getIsArchived()==null) || 
+                 (this.isArchived!=null &&
+                  this.isArchived.equals(other.getIsArchived()))) &&
+                ((this.goal==null && other.getGoal()==null) || 
+                 (this.goal!=null &&
+                  this.goal.equals(other.getGoal()))) &&
+                ((this.contractedQuantityBuffer==null && other.getContractedQuantityBuffer()==null) || 
+                 (this.contractedQuantityBuffer!=null &&
+                  this.contractedQuantityBuffer.equals(other.getContractedQuantityBuffer()))) &&
+                ((this.scheduledQuantity==null && other.getScheduledQuantity()==null) || 
+                 (this.scheduledQuantity!=null &&
+                  this.scheduledQuantity.equals(other.getScheduledQuantity()))) &&
+                ((this.contractedUnitsBought==null && other.getContractedUnitsBought()==null) || 
+                 (this.contractedUnitsBought!=null &&
+                  this.contractedUnitsBought.equals(other.getContractedUnitsBought()))) &&
+                ((this.deliveryRateType==null && other.getDeliveryRateType()==null) || 
+                 (this.deliveryRateType!=null &&
+                  this.deliveryRateType.equals(other.getDeliveryRateType()))) &&
+                ((this.roadblockingType==null && other.getRoadblockingType()==null) || 
+                 (this.roadblockingType!=null &&
+                  this.roadblockingType.equals(other.getRoadblockingType()))) &&
+                ((this.companionDeliveryOption==null && other.getCompanionDeliveryOption()==null) || 
+                 (this.companionDeliveryOption!=null &&
+                  this.companionDeliveryOption.equals(other.getCompanionDeliveryOption()))) &&
+                ((this.creativeRotationType==null && other.getCreativeRotationType()==null) || 
+                 (this.creativeRotationType!=null &&
+                  this.creativeRotationType.equals(other.getCreativeRotationType()))) &&
+                ((this.videoMaxDuration==null && other.getVideoMaxDuration()==null) || 
+                 (this.videoMaxDuration!=null &&
+                  this.videoMaxDuration.equals(other.getVideoMaxDuration()))) &&
+                ((this.frequencyCaps==null && other.getFrequencyCaps()==null) || 
+                 (this.frequencyCaps!=null &&
+                  java.util.Arrays.equals(this.frequencyCaps, other.getFrequencyCaps()))) &&
+                ((this.dfpLineItemId==null && other.getDfpLineItemId()==null) || 
+                 (this.dfpLineItemId!=null &&
+                  this.dfpLineItemId.equals(other.getDfpLineItemId()))) &&
+                ((this.lineItemType==null && other.getLineItemType()==null) || 
+                 (this.lineItemType!=null &&
+                  this.lineItemType.equals(other.getLineItemType()))) &&
+                ((this.lineItemPriority==null && other.getLineItemPriority()==null) || 
+                 (this.lineItemPriority!=null &&
+                  this.lineItemPriority.equals(other.getLineItemPriority()))) &&
+                ((this.rateType==null && other.getRateType()==null) || 
+                 (this.rateType!=null &&
+                  this.rateType.equals(other.getRateType()))) &&
+                ((this.creativePlaceholders==null && other.getCreativePlaceholders()==null) || 
+                 (this.creativePlaceholders!=null &&
+                  java.util.Arrays.equals(this.creativePlaceholders, other.getCreativePlaceholders()))) &&
+                ((this.targeting==null && other.getTargeting()==null) || 
+                 (this.targeting!=null &&
+                  this.targeting.equals(other.getTargeting()))) &&
+                ((this.customFieldValues==null && other.getCustomFieldValues()==null) || 
+                 (this.customFieldValues!=null &&
+                  java.util.Arrays.equals(this.customFieldValues, other.getCustomFieldValues()))) &&
+                ((this.appliedLabels==null && other.getAppliedLabels()==null) || 
+                 (this.appliedLabels!=null &&
+                  java.util.Arrays.equals(this.appliedLabels, other.getAppliedLabels()))) &&
+                ((this.effectiveAppliedLabels==null && other.getEffectiveAppliedLabels()==null) || 
+                 (this.effectiveAppliedLabels!=null &&
+                  java.util.Arrays.equals(this.effectiveAppliedLabels, other.getEffectiveAppliedLabels()))) &&
+                ((this.disableSameAdvertiserCompetitiveExclusion==null && other.getDisableSameAdvertiserCompetitiveExclusion()==null) || 
+                 (this.disableSameAdvertiserCompetitiveExclusion!=null &&
+                  this.disableSameAdvertiserCompetitiveExclusion.equals(other.getDisableSameAdvertiserCompetitiveExclusion()))) &&
+                ((this.productConstraints==null && other.getProductConstraints()==null) || 
+                 (this.productConstraints!=null &&
+                  this.productConstraints.equals(other.getProductConstraints()))) &&
+                ((this.premiums==null && other.getPremiums()==null) || 
+                 (this.premiums!=null &&
+                  java.util.Arrays.equals(this.premiums, other.getPremiums()))) &&
+                ((this.isSold==null && other.getIsSold()==null) || 
+                 (this.isSold!=null &&
+                  this.isSold.equals(other.getIsSold()))) &&
+                ((this.baseRate==null && other.getBaseRate()==null) || 
+                 (this.baseRate!=null &&
+                  this.baseRate.equals(other.getBaseRate()))) &&
+                ((this.costPerUnit==null && other.getCostPerUnit()==null) || 
+                 (this.costPerUnit!=null &&
+                  this.costPerUnit.equals(other.getCostPerUnit()))) &&
+                ((this.cost==null && other.getCost()==null) || 
+                 (this.cost!=null &&
+                  this.cost.equals(other.getCost()))) &&
+                ((this.deliveryIndicator==null && other.getDeliveryIndicator()==null) || 
+                 (this.deliveryIndicator!=null &&
+                  this.deliveryIndicator.equals(other.getDeliveryIndicator()))) &&
+                ((this.deliveryData==null && other.getDeliveryData()==null) || 
+                 (this.deliveryData!=null &&
+                  this.deliveryData.equals(other.getDeliveryData()))) &&
+                ((this.computedStatus==null && other.getComputedStatus()==null) || 
+                 (this.computedStatus!=null &&
+                  this.computedStatus.equals(other.getComputedStatus()))) &&
+                ((this.billingCap==null && other.getBillingCap()==null) || 
+                 (this.billingCap!=null &&
+                  this.billingCap.equals(other.getBillingCap()))) &&
+                ((this.billingSchedule==null && other.getBillingSchedule()==null) || 
+                 (this.billingSchedule!=null &&
+                  this.billingSchedule.equals(other.getBillingSchedule()))) &&
+                ((this.billingSource==null && other.getBillingSource()==null) || 
+                 (this.billingSource!=null &&
+                  this.billingSource.equals(other.getBillingSource()))) &&
+                ((this.billingBase==null && other.getBillingBase()==null) || 
+                 (this.billingBase!=null &&
+                  this.billingBase.equals(other.getBillingBase()))) &&
+                ((this.lastModifiedDateTime==null && other.getLastModifiedDateTime()==null) || 
+                 (this.lastModifiedDateTime!=null &&
+                  this.lastModifiedDateTime.equals(other.getLastModifiedDateTime()))) &&
+                ((this.reservationStatus==null && other.getReservationStatus()==null) || 
+                 (this.reservationStatus!=null &&
+                  this.reservationStatus.equals(other.getReservationStatus()))) &&
+                ((this.useThirdPartyAdServerFromProposal==null && other.getUseThirdPartyAdServerFromProposal()==null) || 
+                 (this.useThirdPartyAdServerFromProposal!=null &&
+                  this.useThirdPartyAdServerFromProposal.equals(other.getUseThirdPartyAdServerFromProposal()))) &&
+                ((this.thirdPartyAdServerId==null && other.getThirdPartyAdServerId()==null) || 
+                 (this.thirdPartyAdServerId!=null &&
+                  this.thirdPartyAdServerId.equals(other.getThirdPartyAdServerId()))) &&
+                ((this.customThirdPartyAdServerName==null && other.getCustomThirdPartyAdServerName()==null) || 
+                 (this.customThirdPartyAdServerName!=null &&
+                  this.customThirdPartyAdServerName.equals(other.getCustomThirdPartyAdServerName()))) &&
+                ((this.environmentType==null && other.getEnvironmentType()==null) || 
+                 (this.environmentType!=null &&
+                  this.environmentType.equals(other.getEnvironmentType()))) &&
+                ((this.linkStatus==null && other.getLinkStatus()==null) || 
+                 (this.linkStatus!=null &&
+                  this.linkStatus.equals(other.getLinkStatus())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
         }
-        if (getContractedQuantityBuffer() != null) {
-            _hashCode += getContractedQuantityBuffer().hashCode();
-        }
-        if (getScheduledQuantity() != null) {
-            _hashCode += getScheduledQuantity().hashCode();
-        }
-        if (getContractedUnitsBought() != null) {
-            _hashCode += getContractedUnitsBought().hashCode();
-        }
-        if (getDeliveryRateType() != null) {
-            _hashCode += getDeliveryRateType().hashCode();
-        }
-        if (getRoadblockingType() != null) {
-            _hashCode += getRoadblockingType().hashCode();
-        }
-        if (getCompanionDeliveryOption() != null) {
-            _hashCode += getCompanionDeliveryOption().hashCode();
-        }
-        if (getCreativeRotationType() != null) {
-            _hashCode += getCreativeRotationType().hashCode();
-        }
-        if (getVideoMaxDuration() != null) {
-            _hashCode += getVideoMaxDuration().hashCode();
+    }
+
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(ProposalLineItem.class, this)) {
+            return 0;
         }
-        if (getFrequencyCaps() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getFrequencyCaps());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getFrequencyCaps(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+        try {
+            int _hashCode = 1;
+            if (getId() != null) {
+                _hashCode += getId().hashCode();
+            }
+            if (getProposalId() != null) {
+                _hashCode += getProposalId().hashCode();
+            }
+            if (getPackageId() != null) {
+                _hashCode += getPackageId().hashCode();
+            }
+            if (getRateCardId() != null) {
+                _hashCode += getRateCardId().hashCode();
+            }
+            if (getProductId() != null) {
+                _hashCode += getProductId().hashCode();
+            }
+            if (getName() != null) {
+                _hashCode += getName().hashCode();
+            }
+            if (getStartDateTime() != null) {
+                _hashCode += getStartDateTime().hashCode();
+            }
+            if (getEndDateTime() != null) {
+                _hashCode += getEndDateTime().hashCode();
+            }
+            if (getTimeZoneId() != null) {
+                _hashCode += getTimeZoneId().hashCode();
+            }
+            if (getNotes() != null) {
+                _hashCode += getNotes().hashCode();
+            }
+            if (getCostAdjustment() != null) {
+                _hashCode += getCostAdjustment().hashCode();
+            }
+            if (getIsArchived() != null) {
+                _hashCode += getIsArchived().hashCode();
+            }
+            if (getGoal() != null) {
+                _hashCode += getGoal().hashCode();
+            }
+            if (getContractedQuantityBuffer() != null) {
+                _hashCode += getContractedQuantityBuffer().hashCode();
+            }
+            if (getScheduledQuantity() != null) {
+                _hashCode += getScheduledQuantity().hashCode();
+            }
+            if (getContractedUnitsBought() != null) {
+                _hashCode += getContractedUnitsBought().hashCode();
+            }
+            if (getDeliveryRateType() != null) {
+                _hashCode += getDeliveryRateType().hashCode();
+            }
+            if (getRoadblockingType() != null) {
+                _hashCode += getRoadblockingType().hashCode();
+            }
+            if (getCompanionDeliveryOption() != null) {
+                _hashCode += getCompanionDeliveryOption().hashCode();
+            }
+            if (getCreativeRotationType() != null) {
+                _hashCode += getCreativeRotationType().hashCode();
+            }
+            if (getVideoMaxDuration() != null) {
+                _hashCode += getVideoMaxDuration().hashCode();
+            }
+            if (getFrequencyCaps() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getFrequencyCaps());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getFrequencyCaps(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
-        }
-        if (getDfpLineItemId() != null) {
-            _hashCode += getDfpLineItemId().hashCode();
-        }
-        if (getLineItemType() != null) {
-            _hashCode += getLineItemType().hashCode();
-        }
-        if (getLineItemPriority() != null) {
-            _hashCode += getLineItemPriority().hashCode();
-        }
-        if (getRateType() != null) {
-            _hashCode += getRateType().hashCode();
-        }
-        if (getCreativePlaceholders() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getCreativePlaceholders());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getCreativePlaceholders(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+            if (getDfpLineItemId() != null) {
+                _hashCode += getDfpLineItemId().hashCode();
+            }
+            if (getLineItemType() != null) {
+                _hashCode += getLineItemType().hashCode();
+            }
+            if (getLineItemPriority() != null) {
+                _hashCode += getLineItemPriority().hashCode();
+            }
+            if (getRateType() != null) {
+                _hashCode += getRateType().hashCode();
+            }
+            if (getCreativePlaceholders() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getCreativePlaceholders());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getCreativePlaceholders(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
-        }
-        if (getTargeting() != null) {
-            _hashCode += getTargeting().hashCode();
-        }
-        if (getCustomFieldValues() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getCustomFieldValues());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getCustomFieldValues(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+            if (getTargeting() != null) {
+                _hashCode += getTargeting().hashCode();
+            }
+            if (getCustomFieldValues() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getCustomFieldValues());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getCustomFieldValues(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
-        }
-        if (getAppliedLabels() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getAppliedLabels());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getAppliedLabels(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+            if (getAppliedLabels() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getAppliedLabels());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getAppliedLabels(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
-        }
-        if (getEffectiveAppliedLabels() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getEffectiveAppliedLabels());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getEffectiveAppliedLabels(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+            if (getEffectiveAppliedLabels() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getEffectiveAppliedLabels());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getEffectiveAppliedLabels(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
-        }
-        if (getDisableSameAdvertiserCompetitiveExclusion() != null) {
-            _hashCode += getDisableSameAdvertiserCompetitiveExclusion().hashCode();
-        }
-        if (getProductConstraints() != null) {
-            _hashCode += getProductConstraints().hashCode();
-        }
-        if (getPremiums() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getPremiums());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getPremiums(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+            if (getDisableSameAdvertiserCompetitiveExclusion() != null) {
+                _hashCode += getDisableSameAdvertiserCompetitiveExclusion().hashCode();
+            }
+            if (getProductConstraints() != null) {
+                _hashCode += getProductConstraints().hashCode();
+            }
+            if (getPremiums() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getPremiums());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getPremiums(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
+            if (getIsSold() != null) {
+                _hashCode += getIsSold().hashCode();
+            }
+            if (getBaseRate() != null) {
+                _hashCode += getBaseRate().hashCode();
+            }
+            if (getCostPerUnit() != null) {
+                _hashCode += getCostPerUnit().hashCode();
+            }
+            if (getCost() != null) {
+                _hashCode += getCost().hashCode();
+            }
+            if (getDeliveryIndicator() != null) {
+                _hashCode += getDeliveryIndicator().hashCode();
+            }
+            if (getDeliveryData() != null) {
+                _hashCode += getDeliveryData().hashCode();
+            }
+            if (getComputedStatus() != null) {
+                _hashCode += getComputedStatus().hashCode();
+            }
+            if (getBillingCap() != null) {
+                _hashCode += getBillingCap().hashCode();
+            }
+            if (getBillingSchedule() != null) {
+                _hashCode += getBillingSchedule().hashCode();
+            }
+            if (getBillingSource() != null) {
+                _hashCode += getBillingSource().hashCode();
+            }
+            if (getBillingBase() != null) {
+                _hashCode += getBillingBase().hashCode();
+            }
+            if (getLastModifiedDateTime() != null) {
+                _hashCode += getLastModifiedDateTime().hashCode();
+            }
+            if (getReservationStatus() != null) {
+                _hashCode += getReservationStatus().hashCode();
+            }
+            if (getUseThirdPartyAdServerFromProposal() != null) {
+                _hashCode += getUseThirdPartyAdServerFromProposal().hashCode();
+            }
+            if (getThirdPartyAdServerId() != null) {
+                _hashCode += getThirdPartyAdServerId().hashCode();
+            }
+            if (getCustomThirdPartyAdServerName() != null) {
+                _hashCode += getCustomThirdPartyAdServerName().hashCode();
+            }
+            if (getEnvironmentType() != null) {
+                _hashCode += getEnvironmentType().hashCode();
+            }
+            if (getLinkStatus() != null) {
+                _hashCode += getLinkStatus().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        if (getIsSold() != null) {
-            _hashCode += getIsSold().hashCode();
-        }
-        if (getBaseRate() != null) {
-            _hashCode += getBaseRate().hashCode();
-        }
-        if (getCostPerUnit() != null) {
-            _hashCode += getCostPerUnit().hashCode();
-        }
-        if (getCost() != null) {
-            _hashCode += getCost().hashCode();
-        }
-        if (getDeliveryIndicator() != null) {
-            _hashCode += getDeliveryIndicator().hashCode();
-        }
-        if (getDeliveryData() != null) {
-            _hashCode += getDeliveryData().hashCode();
-        }
-        if (getComputedStatus() != null) {
-            _hashCode += getComputedStatus().hashCode();
-        }
-        if (getBillingCap() != null) {
-            _hashCode += getBillingCap().hashCode();
-        }
-        if (getBillingSchedule() != null) {
-            _hashCode += getBillingSchedule().hashCode();
-        }
-        if (getBillingSource() != null) {
-            _hashCode += getBillingSource().hashCode();
-        }
-        if (getBillingBase() != null) {
-            _hashCode += getBillingBase().hashCode();
-        }
-        if (getLastModifiedDateTime() != null) {
-            _hashCode += getLastModifiedDateTime().hashCode();
-        }
-        if (getReservationStatus() != null) {
-            _hashCode += getReservationStatus().hashCode();
-        }
-        if (getUseThirdPartyAdServerFromProposal() != null) {
-            _hashCode += getUseThirdPartyAdServerFromProposal().hashCode();
-        }
-        if (getThirdPartyAdServerId() != null) {
-            _hashCode += getThirdPartyAdServerId().hashCode();
-        }
-        if (getCustomThirdPartyAdServerName() != null) {
-            _hashCode += getCustomThirdPartyAdServerName().hashCode();
-        }
-        if (getEnvironmentType() != null) {
-            _hashCode += getEnvironmentType().hashCode();
-        }
-        if (getLinkStatus() != null) {
-            _hashCode += getLinkStatus().hashCode();
-        }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(ProposalLineItem.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(ProposalLineItem.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://www.google.com/apis/ads/publisher/v201605", "ProposalLineItem"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("id");
@@ -3328,13 +3333,24 @@ public class ProposalLineItem  implements java.io.Serializable {
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (ProposalLineItem.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -3346,7 +3362,7 @@ public class ProposalLineItem  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -3358,7 +3374,7 @@ public class ProposalLineItem  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
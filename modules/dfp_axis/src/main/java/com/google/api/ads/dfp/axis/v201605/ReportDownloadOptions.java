@@ -160,62 +160,67 @@ public class ReportDownloadOptions  implements java.io.Serializable {
         this.useGzipCompression = useGzipCompression;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof ReportDownloadOptions)) return false;
         ReportDownloadOptions other = (ReportDownloadOptions) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(ReportDownloadOptions.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = true && 
-            ((this.exportFormat==null && other.getExportFormat()==null) || 
-             (this.exportFormat!=null &&
-              this.exportFormat.equals(other.getExportFormat()))) &&
-            ((this.includeReportProperties==null && other.getIncludeReportProperties()==null) || 
-             (this.includeReportProperties!=null &&
-              this.includeReportProperties.equals(other.getIncludeReportProperties()))) &&
-            ((this.includeTotalsRow==null && other.getIncludeTotalsRow()==null) || 
-             (this.includeTotalsRow!=null &&
-              this.includeTotalsRow.equals(other.getIncludeTotalsRow()))) &&
-            ((this.useGzipCompression==null && other.getUseGzipCompression()==null) || 
-             (this.useGzipCompression!=null &&
-              this.useGzipCompression.equals(other.getUseGzipCompression())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = true && 
+                ((this.exportFormat==null && other.getExportFormat()==null) || 
+                 (this.exportFormat!=null &&
+                  this.exportFormat.equals(other.getExportFormat()))) &&
+                ((this.includeReportProperties==null && other.getIncludeReportProperties()==null) || 
+                 (this.includeReportProperties!=null &&
+                  this.includeReportProperties.equals(other.getIncludeReportProperties()))) &&
+                ((this.includeTotalsRow==null && other.getIncludeTotalsRow()==null) || 
+                 (this.includeTotalsRow!=null &&
+                  this.includeTotalsRow.equals(other.getIncludeTotalsRow()))) &&
+                ((this.useGzipCompression==null && other.getUseGzipCompression()==null) || 
+                 (this.useGzipCompression!=null &&
+                  this.useGzipCompression.equals(other.getUseGzipCompression())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(ReportDownloadOptions.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getExportFormat() != null) {
-            _hashCode += getExportFormat().hashCode();
-        }
-        if (getIncludeReportProperties() != null) {
-            _hashCode += getIncludeReportProperties().hashCode();
-        }
-        if (getIncludeTotalsRow() != null) {
-            _hashCode += getIncludeTotalsRow().hashCode();
-        }
-        if (getUseGzipCompression() != null) {
-            _hashCode += getUseGzipCompression().hashCode();
+        try {
+            int _hashCode = 1;
+            if (getExportFormat() != null) {
+                _hashCode += getExportFormat().hashCode();
+            }
+            if (getIncludeReportProperties() != null) {
+                _hashCode += getIncludeReportProperties().hashCode();
+            }
+            if (getIncludeTotalsRow() != null) {
+                _hashCode += getIncludeTotalsRow().hashCode();
+            }
+            if (getUseGzipCompression() != null) {
+                _hashCode += getUseGzipCompression().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(ReportDownloadOptions.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(ReportDownloadOptions.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://www.google.com/apis/ads/publisher/v201605", "ReportDownloadOptions"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("exportFormat");
@@ -245,13 +250,24 @@ public class ReportDownloadOptions  implements java.io.Serializable {
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (ReportDownloadOptions.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -263,7 +279,7 @@ public class ReportDownloadOptions  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -275,7 +291,7 @@ public class ReportDownloadOptions  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
@@ -152,62 +152,67 @@ public class SetTopBoxInfo  implements java.io.Serializable {
         this.nielsenProductCategoryCode = nielsenProductCategoryCode;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof SetTopBoxInfo)) return false;
         SetTopBoxInfo other = (SetTopBoxInfo) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(SetTopBoxInfo.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = true && 
-            ((this.syncStatus==null && other.getSyncStatus()==null) || 
-             (this.syncStatus!=null &&
-              this.syncStatus.equals(other.getSyncStatus()))) &&
-            ((this.lastSyncResult==null && other.getLastSyncResult()==null) || 
-             (this.lastSyncResult!=null &&
-              this.lastSyncResult.equals(other.getLastSyncResult()))) &&
-            ((this.lastSyncCanoeResponseMessage==null && other.getLastSyncCanoeResponseMessage()==null) || 
-             (this.lastSyncCanoeResponseMessage!=null &&
-              this.lastSyncCanoeResponseMessage.equals(other.getLastSyncCanoeResponseMessage()))) &&
-            ((this.nielsenProductCategoryCode==null && other.getNielsenProductCategoryCode()==null) || 
-             (this.nielsenProductCategoryCode!=null &&
-              this.nielsenProductCategoryCode.equals(other.getNielsenProductCategoryCode())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = true && 
+                ((this.syncStatus==null && other.getSyncStatus()==null) || 
+                 (this.syncStatus!=null &&
+                  this.syncStatus.equals(other.getSyncStatus()))) &&
+                ((this.lastSyncResult==null && other.getLastSyncResult()==null) || 
+                 (this.lastSyncResult!=null &&
+                  this.lastSyncResult.equals(other.getLastSyncResult()))) &&
+                ((this.lastSyncCanoeResponseMessage==null && other.getLastSyncCanoeResponseMessage()==null) || 
+                 (this.lastSyncCanoeResponseMessage!=null &&
+                  this.lastSyncCanoeResponseMessage.equals(other.getLastSyncCanoeResponseMessage()))) &&
+                ((this.nielsenProductCategoryCode==null && other.getNielsenProductCategoryCode()==null) || 
+                 (this.nielsenProductCategoryCode!=null &&
+                  this.nielsenProductCategoryCode.equals(other.getNielsenProductCategoryCode())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(SetTopBoxInfo.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getSyncStatus() != null) {
-            _hashCode += getSyncStatus().hashCode();
-        }
-        if (getLastSyncResult() != null) {
-            _hashCode += getLastSyncResult().hashCode();
-        }
-        if (getLastSyncCanoeResponseMessage() != null) {
-            _hashCode += getLastSyncCanoeResponseMessage().hashCode();
-        }
-        if (getNielsenProductCategoryCode() != null) {
-            _hashCode += getNielsenProductCategoryCode().hashCode();
+        try {
+            int _hashCode = 1;
+            if (getSyncStatus() != null) {
+                _hashCode += getSyncStatus().hashCode();
+            }
+            if (getLastSyncResult() != null) {
+                _hashCode += getLastSyncResult().hashCode();
+            }
+            if (getLastSyncCanoeResponseMessage() != null) {
+                _hashCode += getLastSyncCanoeResponseMessage().hashCode();
+            }
+            if (getNielsenProductCategoryCode() != null) {
+                _hashCode += getNielsenProductCategoryCode().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(SetTopBoxInfo.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(SetTopBoxInfo.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://www.google.com/apis/ads/publisher/v201605", "SetTopBoxInfo"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("syncStatus");
@@ -237,13 +242,24 @@ public class SetTopBoxInfo  implements java.io.Serializable {
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (SetTopBoxInfo.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -255,7 +271,7 @@ public class SetTopBoxInfo  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -267,7 +283,7 @@ public class SetTopBoxInfo  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
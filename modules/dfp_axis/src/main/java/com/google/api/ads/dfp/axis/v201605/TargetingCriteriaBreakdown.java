@@ -182,74 +182,79 @@ public class TargetingCriteriaBreakdown  implements java.io.Serializable {
         this.matchedUnits = matchedUnits;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof TargetingCriteriaBreakdown)) return false;
         TargetingCriteriaBreakdown other = (TargetingCriteriaBreakdown) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(TargetingCriteriaBreakdown.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = true && 
-            ((this.targetingDimension==null && other.getTargetingDimension()==null) || 
-             (this.targetingDimension!=null &&
-              this.targetingDimension.equals(other.getTargetingDimension()))) &&
-            ((this.targetingCriteriaId==null && other.getTargetingCriteriaId()==null) || 
-             (this.targetingCriteriaId!=null &&
-              this.targetingCriteriaId.equals(other.getTargetingCriteriaId()))) &&
-            ((this.targetingCriteriaName==null && other.getTargetingCriteriaName()==null) || 
-             (this.targetingCriteriaName!=null &&
-              this.targetingCriteriaName.equals(other.getTargetingCriteriaName()))) &&
-            ((this.excluded==null && other.getExcluded()==null) || 
-             (this.excluded!=null &&
-              this.excluded.equals(other.getExcluded()))) &&
-            ((this.availableUnits==null && other.getAvailableUnits()==null) || 
-             (this.availableUnits!=null &&
-              this.availableUnits.equals(other.getAvailableUnits()))) &&
-            ((this.matchedUnits==null && other.getMatchedUnits()==null) || 
-             (this.matchedUnits!=null &&
-              this.matchedUnits.equals(other.getMatchedUnits())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = true && 
+                ((this.targetingDimension==null && other.getTargetingDimension()==null) || 
+                 (this.targetingDimension!=null &&
+                  this.targetingDimension.equals(other.getTargetingDimension()))) &&
+                ((this.targetingCriteriaId==null && other.getTargetingCriteriaId()==null) || 
+                 (this.targetingCriteriaId!=null &&
+                  this.targetingCriteriaId.equals(other.getTargetingCriteriaId()))) &&
+                ((this.targetingCriteriaName==null && other.getTargetingCriteriaName()==null) || 
+                 (this.targetingCriteriaName!=null &&
+                  this.targetingCriteriaName.equals(other.getTargetingCriteriaName()))) &&
+                ((this.excluded==null && other.getExcluded()==null) || 
+                 (this.excluded!=null &&
+                  this.excluded.equals(other.getExcluded()))) &&
+                ((this.availableUnits==null && other.getAvailableUnits()==null) || 
+                 (this.availableUnits!=null &&
+                  this.availableUnits.equals(other.getAvailableUnits()))) &&
+                ((this.matchedUnits==null && other.getMatchedUnits()==null) || 
+                 (this.matchedUnits!=null &&
+                  this.matchedUnits.equals(other.getMatchedUnits())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(TargetingCriteriaBreakdown.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getTargetingDimension() != null) {
-            _hashCode += getTargetingDimension().hashCode();
-        }
-        if (getTargetingCriteriaId() != null) {
-            _hashCode += getTargetingCriteriaId().hashCode();
-        }
-        if (getTargetingCriteriaName() != null) {
-            _hashCode += getTargetingCriteriaName().hashCode();
-        }
-        if (getExcluded() != null) {
-            _hashCode += getExcluded().hashCode();
-        }
-        if (getAvailableUnits() != null) {
-            _hashCode += getAvailableUnits().hashCode();
+        try {
+            int _hashCode = 1;
+            if (getTargetingDimension() != null) {
+                _hashCode += getTargetingDimension().hashCode();
+            }
+            if (getTargetingCriteriaId() != null) {
+                _hashCode += getTargetingCriteriaId().hashCode();
+            }
+            if (getTargetingCriteriaName() != null) {
+                _hashCode += getTargetingCriteriaName().hashCode();
+            }
+            if (getExcluded() != null) {
+                _hashCode += getExcluded().hashCode();
+            }
+            if (getAvailableUnits() != null) {
+                _hashCode += getAvailableUnits().hashCode();
+            }
+            if (getMatchedUnits() != null) {
+                _hashCode += getMatchedUnits().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        if (getMatchedUnits() != null) {
-            _hashCode += getMatchedUnits().hashCode();
-        }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(TargetingCriteriaBreakdown.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(TargetingCriteriaBreakdown.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://www.google.com/apis/ads/publisher/v201605", "TargetingCriteriaBreakdown"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("targetingDimension");
@@ -293,13 +298,24 @@ public class TargetingCriteriaBreakdown  implements java.io.Serializable {
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (TargetingCriteriaBreakdown.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -311,7 +327,7 @@ public class TargetingCriteriaBreakdown  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -323,7 +339,7 @@ public class TargetingCriteriaBreakdown  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
@@ -326,116 +326,121 @@ public class Team  implements java.io.Serializable {
         this.orderIds[i] = _value;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof Team)) return false;
         Team other = (Team) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(Team.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = true && 
-            ((this.id==null && other.getId()==null) || 
-             (this.id!=null &&
-              this.id.equals(other.getId()))) &&
-            ((this.name==null && other.getName()==null) || 
-             (this.name!=null &&
-              this.name.equals(other.getName()))) &&
-            ((this.description==null && other.getDescription()==null) || 
-             (this.description!=null &&
-              this.description.equals(other.getDescription()))) &&
-            ((this.hasAllCompanies==null && other.getHasAllCompanies()==null) || 
-             (this.hasAllCompanies!=null &&
-              this.hasAllCompanies.equals(other.getHasAllCompanies()))) &&
-            ((this.hasAllInventory==null && other.getHasAllInventory()==null) || 
-             (this.hasAllInventory!=null &&
-              this.hasAllInventory.equals(other.getHasAllInventory()))) &&
-            ((this.teamAccessType==null && other.getTeamAccessType()==null) || 
-             (this.teamAccessType!=null &&
-              this.teamAccessType.equals(other.getTeamAccessType()))) &&
-            ((this.companyIds==null && other.getCompanyIds()==null) || 
-             (this.companyIds!=null &&
-              java.util.Arrays.equals(this.companyIds, other.getCompanyIds()))) &&
-            ((this.adUnitIds==null && other.getAdUnitIds()==null) || 
-             (this.adUnitIds!=null &&
-              java.util.Arrays.equals(this.adUnitIds, other.getAdUnitIds()))) &&
-            ((this.orderIds==null && other.getOrderIds()==null) || 
-             (this.orderIds!=null &&
-              java.util.Arrays.equals(this.orderIds, other.getOrderIds())));
-        __equalsCalc = null;
-        return _equals;
-    }
-
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
-            return 0;
-        }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getId() != null) {
-            _hashCode += getId().hashCode();
-        }
-        if (getName() != null) {
-            _hashCode += getName().hashCode();
-        }
-        if (getDescription() != null) {
-            _hashCode += getDescription().hashCode();
-        }
-        if (getHasAllCompanies() != null) {
-            _hashCode += getHasAllCompanies().hashCode();
-        }
-        if (getHasAllInventory() != null) {
-            _hashCode += getHasAllInventory().hashCode();
+        try {
+            boolean _equals;
+            _equals = true && 
+                ((this.id==null && other.getId()==null) || 
+                 (this.id!=null &&
+                  this.id.equals(other.getId()))) &&
+                ((this.name==null && other.getName()==null) || 
+                 (this.name!=null &&
+                  this.name.equals(other.getName()))) &&
+                ((this.description==null && other.getDescription()==null) || 
+                 (this.description!=null &&
+                  this.description.equals(other.getDescription()))) &&
+                ((this.hasAllCompanies==null && other.getHasAllCompanies()==null) || 
+                 (this.hasAllCompanies!=null &&
+                  this.hasAllCompanies.equals(other.getHasAllCompanies()))) &&
+                ((this.hasAllInventory==null && other.getHasAllInventory()==null) || 
+                 (this.hasAllInventory!=null &&
+                  this.hasAllInventory.equals(other.getHasAllInventory()))) &&
+                ((this.teamAccessType==null && other.getTeamAccessType()==null) || 
+                 (this.teamAccessType!=null &&
+                  this.teamAccessType.equals(other.getTeamAccessType()))) &&
+                ((this.companyIds==null && other.getCompanyIds()==null) || 
+                 (this.companyIds!=null &&
+                  java.util.Arrays.equals(this.companyIds, other.getCompanyIds()))) &&
+                ((this.adUnitIds==null && other.getAdUnitIds()==null) || 
+                 (this.adUnitIds!=null &&
+                  java.util.Arrays.equals(this.adUnitIds, other.getAdUnitIds()))) &&
+                ((this.orderIds==null && other.getOrderIds()==null) || 
+                 (this.orderIds!=null &&
+                  java.util.Arrays.equals(this.orderIds, other.getOrderIds())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
         }
-        if (getTeamAccessType() != null) {
-            _hashCode += getTeamAccessType().hashCode();
+    }
+
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(Team.class, this)) {
+            return 0;
         }
-        if (getCompanyIds() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getCompanyIds());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getCompanyIds(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+        try {
+            int _hashCode = 1;
+            if (getId() != null) {
+                _hashCode += getId().hashCode();
+            }
+            if (getName() != null) {
+                _hashCode += getName().hashCode();
+            }
+            if (getDescription() != null) {
+                _hashCode += getDescription().hashCode();
+            }
+            if (getHasAllCompanies() != null) {
+                _hashCode += getHasAllCompanies().hashCode();
+            }
+            if (getHasAllInventory() != null) {
+                _hashCode += getHasAllInventory().hashCode();
+            }
+            if (getTeamAccessType() != null) {
+                _hashCode += getTeamAccessType().hashCode();
+            }
+            if (getCompanyIds() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getCompanyIds());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getCompanyIds(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
-        }
-        if (getAdUnitIds() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getAdUnitIds());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getAdUnitIds(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+            if (getAdUnitIds() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getAdUnitIds());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getAdUnitIds(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
-        }
-        if (getOrderIds() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getOrderIds());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getOrderIds(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+            if (getOrderIds() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getOrderIds());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getOrderIds(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(Team.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(Team.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://www.google.com/apis/ads/publisher/v201605", "Team"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("id");
@@ -503,13 +508,24 @@ public class Team  implements java.io.Serializable {
         elemField.setNillable(false);
         elemField.setMaxOccursUnbounded(true);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (Team.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -521,7 +537,7 @@ public class Team  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -533,7 +549,7 @@ public class Team  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
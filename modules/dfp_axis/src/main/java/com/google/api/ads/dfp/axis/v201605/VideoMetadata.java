@@ -298,100 +298,105 @@ public class VideoMetadata  implements java.io.Serializable {
         this.codecs[i] = _value;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof VideoMetadata)) return false;
         VideoMetadata other = (VideoMetadata) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(VideoMetadata.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = true && 
-            ((this.scalableType==null && other.getScalableType()==null) || 
-             (this.scalableType!=null &&
-              this.scalableType.equals(other.getScalableType()))) &&
-            ((this.duration==null && other.getDuration()==null) || 
-             (this.duration!=null &&
-              this.duration.equals(other.getDuration()))) &&
-            ((this.bitRate==null && other.getBitRate()==null) || 
-             (this.bitRate!=null &&
-              this.bitRate.equals(other.getBitRate()))) &&
-            ((this.minimumBitRate==null && other.getMinimumBitRate()==null) || 
-             (this.minimumBitRate!=null &&
-              this.minimumBitRate.equals(other.getMinimumBitRate()))) &&
-            ((this.maximumBitRate==null && other.getMaximumBitRate()==null) || 
-             (this.maximumBitRate!=null &&
-              this.maximumBitRate.equals(other.getMaximumBitRate()))) &&
-            ((this.size==null && other.getSize()==null) || 
-             (this.size!=null &&
-              this.size.equals(other.getSize()))) &&
-            ((this.mimeType==null && other.getMimeType()==null) || 
-             (this.mimeType!=null &&
-              this.mimeType.equals(other.getMimeType()))) &&
-            ((this.deliveryType==null && other.getDeliveryType()==null) || 
-             (this.deliveryType!=null &&
-              this.deliveryType.equals(other.getDeliveryType()))) &&
-            ((this.codecs==null && other.getCodecs()==null) || 
-             (this.codecs!=null &&
-              java.util.Arrays.equals(this.codecs, other.getCodecs())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = true && 
+                ((this.scalableType==null && other.getScalableType()==null) || 
+                 (this.scalableType!=null &&
+                  this.scalableType.equals(other.getScalableType()))) &&
+                ((this.duration==null && other.getDuration()==null) || 
+                 (this.duration!=null &&
+                  this.duration.equals(other.getDuration()))) &&
+                ((this.bitRate==null && other.getBitRate()==null) || 
+                 (this.bitRate!=null &&
+                  this.bitRate.equals(other.getBitRate()))) &&
+                ((this.minimumBitRate==null && other.getMinimumBitRate()==null) || 
+                 (this.minimumBitRate!=null &&
+                  this.minimumBitRate.equals(other.getMinimumBitRate()))) &&
+                ((this.maximumBitRate==null && other.getMaximumBitRate()==null) || 
+                 (this.maximumBitRate!=null &&
+                  this.maximumBitRate.equals(other.getMaximumBitRate()))) &&
+                ((this.size==null && other.getSize()==null) || 
+                 (this.size!=null &&
+                  this.size.equals(other.getSize()))) &&
+                ((this.mimeType==null && other.getMimeType()==null) || 
+                 (this.mimeType!=null &&
+                  this.mimeType.equals(other.getMimeType()))) &&
+                ((this.deliveryType==null && other.getDeliveryType()==null) || 
+                 (this.deliveryType!=null &&
+                  this.deliveryType.equals(other.getDeliveryType()))) &&
+                ((this.codecs==null && other.getCodecs()==null) || 
+                 (this.codecs!=null &&
+                  java.util.Arrays.equals(this.codecs, other.getCodecs())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(VideoMetadata.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getScalableType() != null) {
-            _hashCode += getScalableType().hashCode();
-        }
-        if (getDuration() != null) {
-            _hashCode += getDuration().hashCode();
-        }
-        if (getBitRate() != null) {
-            _hashCode += getBitRate().hashCode();
-        }
-        if (getMinimumBitRate() != null) {
-            _hashCode += getMinimumBitRate().hashCode();
-        }
-        if (getMaximumBitRate() != null) {
-            _hashCode += getMaximumBitRate().hashCode();
-        }
-        if (getSize() != null) {
-            _hashCode += getSize().hashCode();
-        }
-        if (getMimeType() != null) {
-            _hashCode += getMimeType().hashCode();
-        }
-        if (getDeliveryType() != null) {
-            _hashCode += getDeliveryType().hashCode();
-        }
-        if (getCodecs() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getCodecs());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getCodecs(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+        try {
+            int _hashCode = 1;
+            if (getScalableType() != null) {
+                _hashCode += getScalableType().hashCode();
+            }
+            if (getDuration() != null) {
+                _hashCode += getDuration().hashCode();
+            }
+            if (getBitRate() != null) {
+                _hashCode += getBitRate().hashCode();
+            }
+            if (getMinimumBitRate() != null) {
+                _hashCode += getMinimumBitRate().hashCode();
+            }
+            if (getMaximumBitRate() != null) {
+                _hashCode += getMaximumBitRate().hashCode();
+            }
+            if (getSize() != null) {
+                _hashCode += getSize().hashCode();
+            }
+            if (getMimeType() != null) {
+                _hashCode += getMimeType().hashCode();
+            }
+            if (getDeliveryType() != null) {
+                _hashCode += getDeliveryType().hashCode();
+            }
+            if (getCodecs() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getCodecs());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getCodecs(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(VideoMetadata.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(VideoMetadata.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://www.google.com/apis/ads/publisher/v201605", "VideoMetadata"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("scalableType");
@@ -457,13 +462,24 @@ public class VideoMetadata  implements java.io.Serializable {
         elemField.setNillable(false);
         elemField.setMaxOccursUnbounded(true);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (VideoMetadata.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -475,7 +491,7 @@ public class VideoMetadata  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -487,7 +503,7 @@ public class VideoMetadata  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
@@ -1068,264 +1068,269 @@ public class AdUnit  implements java.io.Serializable {
         this.isSetTopBoxEnabled = isSetTopBoxEnabled;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof AdUnit)) return false;
         AdUnit other = (AdUnit) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(AdUnit.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = true && 
-            ((this.id==null && other.getId()==null) || 
-             (this.id!=null &&
-              this.id.equals(other.getId()))) &&
-            ((this.parentId==null && other.getParentId()==null) || 
-             (this.parentId!=null &&
-              this.parentId.equals(other.getParentId()))) &&
-            ((this.hasChildren==null && other.getHasChildren()==null) || 
-             (this.hasChildren!=null &&
-              this.hasChildren.equals(other.getHasChildren()))) &&
-            ((this.parentPath==null && other.getParentPath()==null) || 
-             (this.parentPath!=null &&
-              java.util.Arrays.equals(this.parentPath, other.getParentPath()))) &&
-            ((this.name==null && other.getName()==null) || 
-             (this.name!=null &&
-              this.name.equals(other.getName()))) &&
-            ((this.description==null && other.getDescription()==null) || 
-             (this.description!=null &&
-              this.description.equals(other.getDescription()))) &&
-            ((this.targetWindow==null && other.getTargetWindow()==null) || 
-             (this.targetWindow!=null &&
-              this.targetWindow.equals(other.getTargetWindow()))) &&
-            ((this.status==null && other.getStatus()==null) || 
-             (this.status!=null &&
-              this.status.equals(other.getStatus()))) &&
-            ((this.adUnitCode==null && other.getAdUnitCode()==null) || 
-             (this.adUnitCode!=null &&
-              this.adUnitCode.equals(other.getAdUnitCode()))) &&
-            ((this.adUnitSizes==null && other.getAdUnitSizes()==null) || 
-             (this.adUnitSizes!=null &&
-              java.util.Arrays.equals(this.adUnitSizes, other.getAdUnitSizes()))) &&
-            ((this.mobilePlatform==null && other.getMobilePlatform()==null) || 
-             (this.mobilePlatform!=null &&
-              this.mobilePlatform.equals(other.getMobilePlatform()))) &&
-            ((this.explicitlyTargeted==null && other.getExplicitlyTargeted()==null) || 
-             (this.explicitlyTargeted!=null &&
-              this.explicitlyTargeted.equals(other.getExplicitlyTargeted()))) &&
-            ((this.inheritedAdSenseSettings==null && other.getInheritedAdSenseSettings()==null) || 
-             (this.inheritedAdSenseSettings!=null &&
-              this.inheritedAdSenseSettings.equals(other.getInheritedAdSenseSettings()))) &&
-            ((this.partnerId==null && other.getPartnerId()==null) || 
-             (this.partnerId!=null &&
-              this.partnerId.equals(other.getPartnerId()))) &&
-            ((this.appliedLabelFrequencyCaps==null && other.getAppliedLabelFrequencyCaps()==null) || 
-             (this.appliedLabelFrequencyCaps!=null &&
-              java.util.Arrays.equals(this.appliedLabelFrequencyCaps, other.getAppliedLabelFrequencyCaps()))) &&
-            ((this.effectiveLabelFrequencyCaps==null && other.getEffectiveLabelFrequencyCaps()==null) || 
-             (this.effectiveLabelFrequencyCaps!=null &&
-              java.util.Arrays.equals(this.effectiveLabelFrequencyCaps, other.getEffectiveLabelFrequencyCaps()))) &&
-            ((this.appliedLabels==null && other.getAppliedLabels()==null) || 
-             (this.appliedLabels!=null &&
-              java.util.Arrays.equals(this.appliedLabels, other.getAppliedLabels()))) &&
-            ((this.effectiveAppliedLabels==null && other.getEffectiveAppliedLabels()==null) || 
-             (this.effectiveAppliedLabels!=null &&
-              java.util.Arrays.equals(this.effectiveAppliedLabels, other.getEffectiveAppliedLabels()))) &&
-            ((this.effectiveTeamIds==null && other.getEffectiveTeamIds()==null) || 
-             (this.effectiveTeamIds!=null &&
-              java.util.Arrays.equals(this.effectiveTeamIds, other.getEffectiveTeamIds()))) &&
-            ((this.appliedTeamIds==null && other.getAppliedTeamIds()==null) || 
-             (this.appliedTeamIds!=null &&
-              java.util.Arrays.equals(this.appliedTeamIds, other.getAppliedTeamIds()))) &&
-            ((this.lastModifiedDateTime==null && other.getLastModifiedDateTime()==null) || 
-             (this.lastModifiedDateTime!=null &&
-              this.lastModifiedDateTime.equals(other.getLastModifiedDateTime()))) &&
-            ((this.smartSizeMode==null && other.getSmartSizeMode()==null) || 
-             (this.smartSizeMode!=null &&
-              this.smartSizeMode.equals(other.getSmartSizeMode()))) &&
-            ((this.refreshRate==null && other.getRefreshRate()==null) || 
-             (this.refreshRate!=null &&
-              this.refreshRate.equals(other.getRefreshRate()))) &&
-            ((this.isSharedByDistributor==null && other.getIsSharedByDistributor()==null) || 
-             (this.isSharedByDistributor!=null &&
-              this.isSharedByDistributor.equals(other.getIsSharedByDistributor()))) &&
-            ((this.crossSellingDistributor==null && other.getCrossSellingDistributor()==null) || 
-             (this.crossSellingDistributor!=null &&
-              this.crossSellingDistributor.equals(other.getCrossSellingDistributor()))) &&
-            ((this.externalSetTopBoxChannelId==null && other.getExternalSetTopBoxChannelId()==null) || 
-             (this.externalSetTopBoxChannelId!=null &&
-              this.externalSetTopBoxChannelId.equals(other.getExternalSetTopBoxChannelId()))) &&
-            ((this.isSetTopBoxEnabled==null && other.getIsSetTopBoxEnabled()==null) || 
-             (this.isSetTopBoxEnabled!=null &&
-              this.isSetTopBoxEnabled.equals(other.getIsSetTopBoxEnabled())));
-        __equalsCalc = null;
-        return _equals;
-    }
-
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
-            return 0;
-        }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getId() != null) {
-            _hashCode += getId().hashCode();
+        try {
+            boolean _equals;
+            _equals = true && 
+                ((this.id==null && other.getId()==null) || 
+                 (this.id!=null &&
+                  this.id.equals(other.getId()))) &&
+                ((this.parentId==null && other.getParentId()==null) || 
+                 (this.parentId!=null &&
+                  this.parentId.equals(other.getParentId()))) &&
+                ((this.hasChildren==null && other.getHasChildren()==null) || 
+                 (this.hasChildren!=null &&
+                  this.hasChildren.equals(other.getHasChildren()))) &&
+                ((this.parentPath==null && other.getParentPath()==null) || 
+                 (this.parentPath!=null &&
+                  java.util.Arrays.equals(this.parentPath, other.getParentPath()))) &&
+                ((this.name==null && other.getName()==null) || 
+                 (this.name!=null &&
+                  this.name.equals(other.getName()))) &&
+                ((this.description==null && other.getDescription()==null) || 
+                 (this.description!=null &&
+                  this.description.equals(other.getDescription()))) &&
+                ((this.targetWindow==null && other.getTargetWindow()==null) || 
+                 (this.targetWindow!=null &&
+                  this.targetWindow.equals(other.getTargetWindow()))) &&
+                ((this.status==null && other.getStatus()==null) || 
+                 (this.status!=null &&
+                  this.status.equals(other.getStatus()))) &&
+                ((this.adUnitCode==null && other.getAdUnitCode()==null) || 
+                 (this.adUnitCode!=null &&
+                  this.adUnitCode.equals(other.getAdUnitCode()))) &&
+                ((this.adUnitSizes==null && other.getAdUnitSizes()==null) || 
+                 (this.adUnitSizes!=null &&
+                  java.util.Arrays.equals(this.adUnitSizes, other.getAdUnitSizes()))) &&
+                ((this.mobilePlatform==null && other.getMobilePlatform()==null) || 
+                 (this.mobilePlatform!=null &&
+                  this.mobilePlatform.equals(other.getMobilePlatform()))) &&
+                ((this.explicitlyTargeted==null && other.getExplicitlyTargeted()==null) || 
+                 (this.explicitlyTargeted!=null &&
+                  this.explicitlyTargeted.equals(other.getExplicitlyTargeted()))) &&
+                ((this.inheritedAdSenseSettings==null && other.getInheritedAdSenseSettings()==null) || 
+                 (this.inheritedAdSenseSettings!=null &&
+                  this.inheritedAdSenseSettings.equals(other.getInheritedAdSenseSettings()))) &&
+                ((this.partnerId==null && other.getPartnerId()==null) || 
+                 (this.partnerId!=null &&
+                  this.partnerId.equals(other.getPartnerId()))) &&
+                ((this.appliedLabelFrequencyCaps==null && other.getAppliedLabelFrequencyCaps()==null) || 
+                 (this.appliedLabelFrequencyCaps!=null &&
+                  java.util.Arrays.equals(this.appliedLabelFrequencyCaps, other.getAppliedLabelFrequencyCaps()))) &&
+                ((this.effectiveLabelFrequencyCaps==null && other.getEffectiveLabelFrequencyCaps()==null) || 
+                 (this.effectiveLabelFrequencyCaps!=null &&
+                  java.util.Arrays.equals(this.effectiveLabelFrequencyCaps, other.getEffectiveLabelFrequencyCaps()))) &&
+                ((this.appliedLabels==null && other.getAppliedLabels()==null) || 
+                 (this.appliedLabels!=null &&
+                  java.util.Arrays.equals(this.appliedLabels, other.getAppliedLabels()))) &&
+                ((this.effectiveAppliedLabels==null && other.getEffectiveAppliedLabels()==null) || 
+                 (this.effectiveAppliedLabels!=null &&
+                  java.util.Arrays.equals(this.effectiveAppliedLabels, other.getEffectiveAppliedLabels()))) &&
+                ((this.effectiveTeamIds==null && other.getEffectiveTeamIds()==null) || 
+                 (this.effectiveTeamIds!=null &&
+                  java.util.Arrays.equals(this.effectiveTeamIds, other.getEffectiveTeamIds()))) &&
+                ((this.appliedTeamIds==null && other.getAppliedTeamIds()==null) || 
+                 (this.appliedTeamIds!=null &&
+                  java.util.Arrays.equals(this.appliedTeamIds, other.getAppliedTeamIds()))) &&
+                ((this.lastModifiedDateTime==null && other.getLastModifiedDateTime()==null) || 
+                 (this.lastModifiedDateTime!=null &&
+                  this.lastModifiedDateTime.equals(other.getLastModifiedDateTime()))) &&
+                ((this.smartSizeMode==null && other.getSmartSizeMode()==null) || 
+                 (this.smartSizeMode!=null &&
+                  this.smartSizeMode.equals(other.getSmartSizeMode()))) &&
+                ((this.refreshRate==null && other.getRefreshRate()==null) || 
+                 (this.refreshRate!=null &&
+                  this.refreshRate.equals(other.getRefreshRate()))) &&
+                ((this.isSharedByDistributor==null && other.getIsSharedByDistributor()==null) || 
+                 (this.isSharedByDistributor!=null &&
+                  this.isSharedByDistributor.equals(other.getIsSharedByDistributor()))) &&
+                ((this.crossSellingDistributor==null && other.getCrossSellingDistributor()==null) || 
+                 (this.crossSellingDistributor!=null &&
+                  this.crossSellingDistributor.equals(other.getCrossSellingDistributor()))) &&
+                ((this.externalSetTopBoxChannelId==null && other.getExternalSetTopBoxChannelId()==null) || 
+                 (this.externalSetTopBoxChannelId!=null &&
+                  this.externalSetTopBoxChannelId.equals(other.getExternalSetTopBoxChannelId()))) &&
+                ((this.isSetTopBoxEnabled==null && other.getIsSetTopBoxEnabled()==null) || 
+                 (this.isSetTopBoxEnabled!=null &&
+                  this.isSetTopBoxEnabled.equals(other.getIsSetTopBoxEnabled())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
         }
-        if (getParentId() != null) {
-            _hashCode += getParentId().hashCode();
-        }
-        if (getHasChildren() != null) {
-            _hashCode += getHasChildren().hashCode();
+    }
+
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(AdUnit.class, this)) {
+            return 0;
         }
-        if (getParentPath() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getParentPath());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getParentPath(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+        try {
+            int _hashCode = 1;
+            if (getId() != null) {
+                _hashCode += getId().hashCode();
+            }
+            if (getParentId() != null) {
+                _hashCode += getParentId().hashCode();
+            }
+            if (getHasChildren() != null) {
+                _hashCode += getHasChildren().hashCode();
+            }
+            if (getParentPath() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getParentPath());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getParentPath(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
-        }
-        if (getName() != null) {
-            _hashCode += getName().hashCode();
-        }
-        if (getDescription() != null) {
-            _hashCode += getDescription().hashCode();
-        }
-        if (getTargetWindow() != null) {
-            _hashCode += getTargetWindow().hashCode();
-        }
-        if (getStatus() != null) {
-            _hashCode += getStatus().hashCode();
-        }
-        if (getAdUnitCode() != null) {
-            _hashCode += getAdUnitCode().hashCode();
-        }
-        if (getAdUnitSizes() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getAdUnitSizes());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getAdUnitSizes(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+            if (getName() != null) {
+                _hashCode += getName().hashCode();
+            }
+            if (getDescription() != null) {
+                _hashCode += getDescription().hashCode();
+            }
+            if (getTargetWindow() != null) {
+                _hashCode += getTargetWindow().hashCode();
+            }
+            if (getStatus() != null) {
+                _hashCode += getStatus().hashCode();
+            }
+            if (getAdUnitCode() != null) {
+                _hashCode += getAdUnitCode().hashCode();
+            }
+            if (getAdUnitSizes() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getAdUnitSizes());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getAdUnitSizes(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
-        }
-        if (getMobilePlatform() != null) {
-            _hashCode += getMobilePlatform().hashCode();
-        }
-        if (getExplicitlyTargeted() != null) {
-            _hashCode += getExplicitlyTargeted().hashCode();
-        }
-        if (getInheritedAdSenseSettings() != null) {
-            _hashCode += getInheritedAdSenseSettings().hashCode();
-        }
-        if (getPartnerId() != null) {
-            _hashCode += getPartnerId().hashCode();
-        }
-        if (getAppliedLabelFrequencyCaps() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getAppliedLabelFrequencyCaps());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getAppliedLabelFrequencyCaps(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+            if (getMobilePlatform() != null) {
+                _hashCode += getMobilePlatform().hashCode();
+            }
+            if (getExplicitlyTargeted() != null) {
+                _hashCode += getExplicitlyTargeted().hashCode();
+            }
+            if (getInheritedAdSenseSettings() != null) {
+                _hashCode += getInheritedAdSenseSettings().hashCode();
+            }
+            if (getPartnerId() != null) {
+                _hashCode += getPartnerId().hashCode();
+            }
+            if (getAppliedLabelFrequencyCaps() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getAppliedLabelFrequencyCaps());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getAppliedLabelFrequencyCaps(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
-        }
-        if (getEffectiveLabelFrequencyCaps() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getEffectiveLabelFrequencyCaps());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getEffectiveLabelFrequencyCaps(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+            if (getEffectiveLabelFrequencyCaps() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getEffectiveLabelFrequencyCaps());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getEffectiveLabelFrequencyCaps(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
-        }
-        if (getAppliedLabels() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getAppliedLabels());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getAppliedLabels(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+            if (getAppliedLabels() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getAppliedLabels());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getAppliedLabels(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
-        }
-        if (getEffectiveAppliedLabels() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getEffectiveAppliedLabels());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getEffectiveAppliedLabels(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+            if (getEffectiveAppliedLabels() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getEffectiveAppliedLabels());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getEffectiveAppliedLabels(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
-        }
-        if (getEffectiveTeamIds() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getEffectiveTeamIds());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getEffectiveTeamIds(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+            if (getEffectiveTeamIds() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getEffectiveTeamIds());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getEffectiveTeamIds(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
-        }
-        if (getAppliedTeamIds() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getAppliedTeamIds());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getAppliedTeamIds(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+            if (getAppliedTeamIds() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getAppliedTeamIds());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getAppliedTeamIds(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
+            if (getLastModifiedDateTime() != null) {
+                _hashCode += getLastModifiedDateTime().hashCode();
+            }
+            if (getSmartSizeMode() != null) {
+                _hashCode += getSmartSizeMode().hashCode();
+            }
+            if (getRefreshRate() != null) {
+                _hashCode += getRefreshRate().hashCode();
+            }
+            if (getIsSharedByDistributor() != null) {
+                _hashCode += getIsSharedByDistributor().hashCode();
+            }
+            if (getCrossSellingDistributor() != null) {
+                _hashCode += getCrossSellingDistributor().hashCode();
+            }
+            if (getExternalSetTopBoxChannelId() != null) {
+                _hashCode += getExternalSetTopBoxChannelId().hashCode();
+            }
+            if (getIsSetTopBoxEnabled() != null) {
+                _hashCode += getIsSetTopBoxEnabled().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        if (getLastModifiedDateTime() != null) {
-            _hashCode += getLastModifiedDateTime().hashCode();
-        }
-        if (getSmartSizeMode() != null) {
-            _hashCode += getSmartSizeMode().hashCode();
-        }
-        if (getRefreshRate() != null) {
-            _hashCode += getRefreshRate().hashCode();
-        }
-        if (getIsSharedByDistributor() != null) {
-            _hashCode += getIsSharedByDistributor().hashCode();
-        }
-        if (getCrossSellingDistributor() != null) {
-            _hashCode += getCrossSellingDistributor().hashCode();
-        }
-        if (getExternalSetTopBoxChannelId() != null) {
-            _hashCode += getExternalSetTopBoxChannelId().hashCode();
-        }
-        if (getIsSetTopBoxEnabled() != null) {
-            _hashCode += getIsSetTopBoxEnabled().hashCode();
-        }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(AdUnit.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(AdUnit.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://www.google.com/apis/ads/publisher/v201608", "AdUnit"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("id");
@@ -1524,13 +1529,24 @@ public class AdUnit  implements java.io.Serializable {
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (AdUnit.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -1542,7 +1558,7 @@ public class AdUnit  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -1554,7 +1570,7 @@ public class AdUnit  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
@@ -386,98 +386,103 @@ public abstract class BaseAdRuleSlot  implements java.io.Serializable {
         this.maxAdsInPod = maxAdsInPod;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof BaseAdRuleSlot)) return false;
         BaseAdRuleSlot other = (BaseAdRuleSlot) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(BaseAdRuleSlot.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = true && 
-            ((this.slotBehavior==null && other.getSlotBehavior()==null) || 
-             (this.slotBehavior!=null &&
-              this.slotBehavior.equals(other.getSlotBehavior()))) &&
-            ((this.minVideoAdDuration==null && other.getMinVideoAdDuration()==null) || 
-             (this.minVideoAdDuration!=null &&
-              this.minVideoAdDuration.equals(other.getMinVideoAdDuration()))) &&
-            ((this.maxVideoAdDuration==null && other.getMaxVideoAdDuration()==null) || 
-             (this.maxVideoAdDuration!=null &&
-              this.maxVideoAdDuration.equals(other.getMaxVideoAdDuration()))) &&
-            ((this.videoMidrollFrequencyType==null && other.getVideoMidrollFrequencyType()==null) || 
-             (this.videoMidrollFrequencyType!=null &&
-              this.videoMidrollFrequencyType.equals(other.getVideoMidrollFrequencyType()))) &&
-            ((this.videoMidrollFrequency==null && other.getVideoMidrollFrequency()==null) || 
-             (this.videoMidrollFrequency!=null &&
-              this.videoMidrollFrequency.equals(other.getVideoMidrollFrequency()))) &&
-            ((this.bumper==null && other.getBumper()==null) || 
-             (this.bumper!=null &&
-              this.bumper.equals(other.getBumper()))) &&
-            ((this.maxBumperDuration==null && other.getMaxBumperDuration()==null) || 
-             (this.maxBumperDuration!=null &&
-              this.maxBumperDuration.equals(other.getMaxBumperDuration()))) &&
-            ((this.minPodDuration==null && other.getMinPodDuration()==null) || 
-             (this.minPodDuration!=null &&
-              this.minPodDuration.equals(other.getMinPodDuration()))) &&
-            ((this.maxPodDuration==null && other.getMaxPodDuration()==null) || 
-             (this.maxPodDuration!=null &&
-              this.maxPodDuration.equals(other.getMaxPodDuration()))) &&
-            ((this.maxAdsInPod==null && other.getMaxAdsInPod()==null) || 
-             (this.maxAdsInPod!=null &&
-              this.maxAdsInPod.equals(other.getMaxAdsInPod())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = true && 
+                ((this.slotBehavior==null && other.getSlotBehavior()==null) || 
+                 (this.slotBehavior!=null &&
+                  this.slotBehavior.equals(other.getSlotBehavior()))) &&
+                ((this.minVideoAdDuration==null && other.getMinVideoAdDuration()==null) || 
+                 (this.minVideoAdDuration!=null &&
+                  this.minVideoAdDuration.equals(other.getMinVideoAdDuration()))) &&
+                ((this.maxVideoAdDuration==null && other.getMaxVideoAdDuration()==null) || 
+                 (this.maxVideoAdDuration!=null &&
+                  this.maxVideoAdDuration.equals(other.getMaxVideoAdDuration()))) &&
+                ((this.videoMidrollFrequencyType==null && other.getVideoMidrollFrequencyType()==null) || 
+                 (this.videoMidrollFrequencyType!=null &&
+                  this.videoMidrollFrequencyType.equals(other.getVideoMidrollFrequencyType()))) &&
+                ((this.videoMidrollFrequency==null && other.getVideoMidrollFrequency()==null) || 
+                 (this.videoMidrollFrequency!=null &&
+                  this.videoMidrollFrequency.equals(other.getVideoMidrollFrequency()))) &&
+                ((this.bumper==null && other.getBumper()==null) || 
+                 (this.bumper!=null &&
+                  this.bumper.equals(other.getBumper()))) &&
+                ((this.maxBumperDuration==null && other.getMaxBumperDuration()==null) || 
+                 (this.maxBumperDuration!=null &&
+                  this.maxBumperDuration.equals(other.getMaxBumperDuration()))) &&
+                ((this.minPodDuration==null && other.getMinPodDuration()==null) || 
+                 (this.minPodDuration!=null &&
+                  this.minPodDuration.equals(other.getMinPodDuration()))) &&
+                ((this.maxPodDuration==null && other.getMaxPodDuration()==null) || 
+                 (this.maxPodDuration!=null &&
+                  this.maxPodDuration.equals(other.getMaxPodDuration()))) &&
+                ((this.maxAdsInPod==null && other.getMaxAdsInPod()==null) || 
+                 (this.maxAdsInPod!=null &&
+                  this.maxAdsInPod.equals(other.getMaxAdsInPod())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(BaseAdRuleSlot.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getSlotBehavior() != null) {
-            _hashCode += getSlotBehavior().hashCode();
-        }
-        if (getMinVideoAdDuration() != null) {
-            _hashCode += getMinVideoAdDuration().hashCode();
-        }
-        if (getMaxVideoAdDuration() != null) {
-            _hashCode += getMaxVideoAdDuration().hashCode();
-        }
-        if (getVideoMidrollFrequencyType() != null) {
-            _hashCode += getVideoMidrollFrequencyType().hashCode();
-        }
-        if (getVideoMidrollFrequency() != null) {
-            _hashCode += getVideoMidrollFrequency().hashCode();
-        }
-        if (getBumper() != null) {
-            _hashCode += getBumper().hashCode();
-        }
-        if (getMaxBumperDuration() != null) {
-            _hashCode += getMaxBumperDuration().hashCode();
+        try {
+            int _hashCode = 1;
+            if (getSlotBehavior() != null) {
+                _hashCode += getSlotBehavior().hashCode();
+            }
+            if (getMinVideoAdDuration() != null) {
+                _hashCode += getMinVideoAdDuration().hashCode();
+            }
+            if (getMaxVideoAdDuration() != null) {
+                _hashCode += getMaxVideoAdDuration().hashCode();
+            }
+            if (getVideoMidrollFrequencyType() != null) {
+                _hashCode += getVideoMidrollFrequencyType().hashCode();
+            }
+            if (getVideoMidrollFrequency() != null) {
+                _hashCode += getVideoMidrollFrequency().hashCode();
+            }
+            if (getBumper() != null) {
+                _hashCode += getBumper().hashCode();
+            }
+            if (getMaxBumperDuration() != null) {
+                _hashCode += getMaxBumperDuration().hashCode();
+            }
+            if (getMinPodDuration() != null) {
+                _hashCode += getMinPodDuration().hashCode();
+            }
+            if (getMaxPodDuration() != null) {
+                _hashCode += getMaxPodDuration().hashCode();
+            }
+            if (getMaxAdsInPod() != null) {
+                _hashCode += getMaxAdsInPod().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        if (getMinPodDuration() != null) {
-            _hashCode += getMinPodDuration().hashCode();
-        }
-        if (getMaxPodDuration() != null) {
-            _hashCode += getMaxPodDuration().hashCode();
-        }
-        if (getMaxAdsInPod() != null) {
-            _hashCode += getMaxAdsInPod().hashCode();
-        }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(BaseAdRuleSlot.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(BaseAdRuleSlot.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://www.google.com/apis/ads/publisher/v201608", "BaseAdRuleSlot"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("slotBehavior");
@@ -549,13 +554,24 @@ public abstract class BaseAdRuleSlot  implements java.io.Serializable {
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (BaseAdRuleSlot.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -567,7 +583,7 @@ public abstract class BaseAdRuleSlot  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -579,7 +595,7 @@ public abstract class BaseAdRuleSlot  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
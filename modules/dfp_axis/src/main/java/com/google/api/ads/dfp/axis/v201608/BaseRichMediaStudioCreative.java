@@ -593,164 +593,169 @@ public abstract class BaseRichMediaStudioCreative  extends com.google.api.ads.df
         this.sslManualOverride = sslManualOverride;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof BaseRichMediaStudioCreative)) return false;
         BaseRichMediaStudioCreative other = (BaseRichMediaStudioCreative) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(BaseRichMediaStudioCreative.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = super.equals(obj) && 
-            ((this.studioCreativeId==null && other.getStudioCreativeId()==null) || 
-             (this.studioCreativeId!=null &&
-              this.studioCreativeId.equals(other.getStudioCreativeId()))) &&
-            ((this.creativeFormat==null && other.getCreativeFormat()==null) || 
-             (this.creativeFormat!=null &&
-              this.creativeFormat.equals(other.getCreativeFormat()))) &&
-            ((this.artworkType==null && other.getArtworkType()==null) || 
-             (this.artworkType!=null &&
-              this.artworkType.equals(other.getArtworkType()))) &&
-            ((this.totalFileSize==null && other.getTotalFileSize()==null) || 
-             (this.totalFileSize!=null &&
-              this.totalFileSize.equals(other.getTotalFileSize()))) &&
-            ((this.adTagKeys==null && other.getAdTagKeys()==null) || 
-             (this.adTagKeys!=null &&
-              java.util.Arrays.equals(this.adTagKeys, other.getAdTagKeys()))) &&
-            ((this.customKeyValues==null && other.getCustomKeyValues()==null) || 
-             (this.customKeyValues!=null &&
-              java.util.Arrays.equals(this.customKeyValues, other.getCustomKeyValues()))) &&
-            ((this.surveyUrl==null && other.getSurveyUrl()==null) || 
-             (this.surveyUrl!=null &&
-              this.surveyUrl.equals(other.getSurveyUrl()))) &&
-            ((this.allImpressionsUrl==null && other.getAllImpressionsUrl()==null) || 
-             (this.allImpressionsUrl!=null &&
-              this.allImpressionsUrl.equals(other.getAllImpressionsUrl()))) &&
-            ((this.richMediaImpressionsUrl==null && other.getRichMediaImpressionsUrl()==null) || 
-             (this.richMediaImpressionsUrl!=null &&
-              this.richMediaImpressionsUrl.equals(other.getRichMediaImpressionsUrl()))) &&
-            ((this.backupImageImpressionsUrl==null && other.getBackupImageImpressionsUrl()==null) || 
-             (this.backupImageImpressionsUrl!=null &&
-              this.backupImageImpressionsUrl.equals(other.getBackupImageImpressionsUrl()))) &&
-            ((this.overrideCss==null && other.getOverrideCss()==null) || 
-             (this.overrideCss!=null &&
-              this.overrideCss.equals(other.getOverrideCss()))) &&
-            ((this.requiredFlashPluginVersion==null && other.getRequiredFlashPluginVersion()==null) || 
-             (this.requiredFlashPluginVersion!=null &&
-              this.requiredFlashPluginVersion.equals(other.getRequiredFlashPluginVersion()))) &&
-            ((this.duration==null && other.getDuration()==null) || 
-             (this.duration!=null &&
-              this.duration.equals(other.getDuration()))) &&
-            ((this.billingAttribute==null && other.getBillingAttribute()==null) || 
-             (this.billingAttribute!=null &&
-              this.billingAttribute.equals(other.getBillingAttribute()))) &&
-            ((this.richMediaStudioChildAssetProperties==null && other.getRichMediaStudioChildAssetProperties()==null) || 
-             (this.richMediaStudioChildAssetProperties!=null &&
-              java.util.Arrays.equals(this.richMediaStudioChildAssetProperties, other.getRichMediaStudioChildAssetProperties()))) &&
-            ((this.sslScanResult==null && other.getSslScanResult()==null) || 
-             (this.sslScanResult!=null &&
-              this.sslScanResult.equals(other.getSslScanResult()))) &&
-            ((this.sslManualOverride==null && other.getSslManualOverride()==null) || 
-             (this.sslManualOverride!=null &&
-              this.sslManualOverride.equals(other.getSslManualOverride())));
-        __equalsCalc = null;
-        return _equals;
-    }
-
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
-            return 0;
-        }
-        __hashCodeCalc = true;
-        int _hashCode = super.hashCode();
-        if (getStudioCreativeId() != null) {
-            _hashCode += getStudioCreativeId().hashCode();
-        }
-        if (getCreativeFormat() != null) {
-            _hashCode += getCreativeFormat().hashCode();
+        try {
+            boolean _equals;
+            _equals = super.equals(obj) && 
+                ((this.studioCreativeId==null && other.getStudioCreativeId()==null) || 
+                 (this.studioCreativeId!=null &&
+                  this.studioCreativeId.equals(other.getStudioCreativeId()))) &&
+                ((this.creativeFormat==null && other.getCreativeFormat()==null) || 
+                 (this.creativeFormat!=null &&
+                  this.creativeFormat.equals(other.getCreativeFormat()))) &&
+                ((this.artworkType==null && other.getArtworkType()==null) || 
+                 (this.artworkType!=null &&
+                  this.artworkType.equals(other.getArtworkType()))) &&
+                ((this.totalFileSize==null && other.getTotalFileSize()==null) || 
+                 (this.totalFileSize!=null &&
+                  this.totalFileSize.equals(other.getTotalFileSize()))) &&
+                ((this.adTagKeys==null && other.getAdTagKeys()==null) || 
+                 (this.adTagKeys!=null &&
+                  java.util.Arrays.equals(this.adTagKeys, other.getAdTagKeys()))) &&
+                ((this.customKeyValues==null && other.getCustomKeyValues()==null) || 
+                 (this.customKeyValues!=null &&
+                  java.util.Arrays.equals(this.customKeyValues, other.getCustomKeyValues()))) &&
+                ((this.surveyUrl==null && other.getSurveyUrl()==null) || 
+                 (this.surveyUrl!=null &&
+                  this.surveyUrl.equals(other.getSurveyUrl()))) &&
+                ((this.allImpressionsUrl==null && other.getAllImpressionsUrl()==null) || 
+                 (this.allImpressionsUrl!=null &&
+                  this.allImpressionsUrl.equals(other.getAllImpressionsUrl()))) &&
+                ((this.richMediaImpressionsUrl==null && other.getRichMediaImpressionsUrl()==null) || 
+                 (this.richMediaImpressionsUrl!=null &&
+                  this.richMediaImpressionsUrl.equals(other.getRichMediaImpressionsUrl()))) &&
+                ((this.backupImageImpressionsUrl==null && other.getBackupImageImpressionsUrl()==null) || 
+                 (this.backupImageImpressionsUrl!=null &&
+                  this.backupImageImpressionsUrl.equals(other.getBackupImageImpressionsUrl()))) &&
+                ((this.overrideCss==null && other.getOverrideCss()==null) || 
+                 (this.overrideCss!=null &&
+                  this.overrideCss.equals(other.getOverrideCss()))) &&
+                ((this.requiredFlashPluginVersion==null && other.getRequiredFlashPluginVersion()==null) || 
+                 (this.requiredFlashPluginVersion!=null &&
+                  this.requiredFlashPluginVersion.equals(other.getRequiredFlashPluginVersion()))) &&
+                ((this.duration==null && other.getDuration()==null) || 
+                 (this.duration!=null &&
+                  this.duration.equals(other.getDuration()))) &&
+                ((this.billingAttribute==null && other.getBillingAttribute()==null) || 
+                 (this.billingAttribute!=null &&
+                  this.billingAttribute.equals(other.getBillingAttribute()))) &&
+                ((this.richMediaStudioChildAssetProperties==null && other.getRichMediaStudioChildAssetProperties()==null) || 
+                 (this.richMediaStudioChildAssetProperties!=null &&
+                  java.util.Arrays.equals(this.richMediaStudioChildAssetProperties, other.getRichMediaStudioChildAssetProperties()))) &&
+                ((this.sslScanResult==null && other.getSslScanResult()==null) || 
+                 (this.sslScanResult!=null &&
+                  this.sslScanResult.equals(other.getSslScanResult()))) &&
+                ((this.sslManualOverride==null && other.getSslManualOverride()==null) || 
+                 (this.sslManualOverride!=null &&
+                  this.sslManualOverride.equals(other.getSslManualOverride())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
         }
-        if (getArtworkType() != null) {
-            _hashCode += getArtworkType().hashCode();
-        }
-        if (getTotalFileSize() != null) {
-            _hashCode += getTotalFileSize().hashCode();
+    }
+
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(BaseRichMediaStudioCreative.class, this)) {
+            return 0;
         }
-        if (getAdTagKeys() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getAdTagKeys());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getAdTagKeys(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+        try {
+            int _hashCode = super.hashCode();
+            if (getStudioCreativeId() != null) {
+                _hashCode += getStudioCreativeId().hashCode();
+            }
+            if (getCreativeFormat() != null) {
+                _hashCode += getCreativeFormat().hashCode();
+            }
+            if (getArtworkType() != null) {
+                _hashCode += getArtworkType().hashCode();
+            }
+            if (getTotalFileSize() != null) {
+                _hashCode += getTotalFileSize().hashCode();
+            }
+            if (getAdTagKeys() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getAdTagKeys());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getAdTagKeys(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
-        }
-        if (getCustomKeyValues() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getCustomKeyValues());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getCustomKeyValues(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+            if (getCustomKeyValues() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getCustomKeyValues());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getCustomKeyValues(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
-        }
-        if (getSurveyUrl() != null) {
-            _hashCode += getSurveyUrl().hashCode();
-        }
-        if (getAllImpressionsUrl() != null) {
-            _hashCode += getAllImpressionsUrl().hashCode();
-        }
-        if (getRichMediaImpressionsUrl() != null) {
-            _hashCode += getRichMediaImpressionsUrl().hashCode();
-        }
-        if (getBackupImageImpressionsUrl() != null) {
-            _hashCode += getBackupImageImpressionsUrl().hashCode();
-        }
-        if (getOverrideCss() != null) {
-            _hashCode += getOverrideCss().hashCode();
-        }
-        if (getRequiredFlashPluginVersion() != null) {
-            _hashCode += getRequiredFlashPluginVersion().hashCode();
-        }
-        if (getDuration() != null) {
-            _hashCode += getDuration().hashCode();
-        }
-        if (getBillingAttribute() != null) {
-            _hashCode += getBillingAttribute().hashCode();
-        }
-        if (getRichMediaStudioChildAssetProperties() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getRichMediaStudioChildAssetProperties());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getRichMediaStudioChildAssetProperties(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+            if (getSurveyUrl() != null) {
+                _hashCode += getSurveyUrl().hashCode();
+            }
+            if (getAllImpressionsUrl() != null) {
+                _hashCode += getAllImpressionsUrl().hashCode();
+            }
+            if (getRichMediaImpressionsUrl() != null) {
+                _hashCode += getRichMediaImpressionsUrl().hashCode();
+            }
+            if (getBackupImageImpressionsUrl() != null) {
+                _hashCode += getBackupImageImpressionsUrl().hashCode();
+            }
+            if (getOverrideCss() != null) {
+                _hashCode += getOverrideCss().hashCode();
+            }
+            if (getRequiredFlashPluginVersion() != null) {
+                _hashCode += getRequiredFlashPluginVersion().hashCode();
+            }
+            if (getDuration() != null) {
+                _hashCode += getDuration().hashCode();
+            }
+            if (getBillingAttribute() != null) {
+                _hashCode += getBillingAttribute().hashCode();
+            }
+            if (getRichMediaStudioChildAssetProperties() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getRichMediaStudioChildAssetProperties());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getRichMediaStudioChildAssetProperties(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
+            if (getSslScanResult() != null) {
+                _hashCode += getSslScanResult().hashCode();
+            }
+            if (getSslManualOverride() != null) {
+                _hashCode += getSslManualOverride().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        if (getSslScanResult() != null) {
-            _hashCode += getSslScanResult().hashCode();
-        }
-        if (getSslManualOverride() != null) {
-            _hashCode += getSslManualOverride().hashCode();
-        }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(BaseRichMediaStudioCreative.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(BaseRichMediaStudioCreative.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://www.google.com/apis/ads/publisher/v201608", "BaseRichMediaStudioCreative"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("studioCreativeId");
@@ -874,13 +879,24 @@ public abstract class BaseRichMediaStudioCreative  extends com.google.api.ads.df
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (BaseRichMediaStudioCreative.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -892,7 +908,7 @@ public abstract class BaseRichMediaStudioCreative  extends com.google.api.ads.df
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -904,7 +920,7 @@ public abstract class BaseRichMediaStudioCreative  extends com.google.api.ads.df
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
@@ -184,56 +184,61 @@ public class BillableRevenueOverrides  implements java.io.Serializable {
         this.billableRevenueOverride = billableRevenueOverride;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof BillableRevenueOverrides)) return false;
         BillableRevenueOverrides other = (BillableRevenueOverrides) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(BillableRevenueOverrides.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = true && 
-            ((this.netBillableRevenueOverride==null && other.getNetBillableRevenueOverride()==null) || 
-             (this.netBillableRevenueOverride!=null &&
-              this.netBillableRevenueOverride.equals(other.getNetBillableRevenueOverride()))) &&
-            ((this.grossBillableRevenueOverride==null && other.getGrossBillableRevenueOverride()==null) || 
-             (this.grossBillableRevenueOverride!=null &&
-              this.grossBillableRevenueOverride.equals(other.getGrossBillableRevenueOverride()))) &&
-            ((this.billableRevenueOverride==null && other.getBillableRevenueOverride()==null) || 
-             (this.billableRevenueOverride!=null &&
-              this.billableRevenueOverride.equals(other.getBillableRevenueOverride())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = true && 
+                ((this.netBillableRevenueOverride==null && other.getNetBillableRevenueOverride()==null) || 
+                 (this.netBillableRevenueOverride!=null &&
+                  this.netBillableRevenueOverride.equals(other.getNetBillableRevenueOverride()))) &&
+                ((this.grossBillableRevenueOverride==null && other.getGrossBillableRevenueOverride()==null) || 
+                 (this.grossBillableRevenueOverride!=null &&
+                  this.grossBillableRevenueOverride.equals(other.getGrossBillableRevenueOverride()))) &&
+                ((this.billableRevenueOverride==null && other.getBillableRevenueOverride()==null) || 
+                 (this.billableRevenueOverride!=null &&
+                  this.billableRevenueOverride.equals(other.getBillableRevenueOverride())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(BillableRevenueOverrides.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getNetBillableRevenueOverride() != null) {
-            _hashCode += getNetBillableRevenueOverride().hashCode();
-        }
-        if (getGrossBillableRevenueOverride() != null) {
-            _hashCode += getGrossBillableRevenueOverride().hashCode();
-        }
-        if (getBillableRevenueOverride() != null) {
-            _hashCode += getBillableRevenueOverride().hashCode();
+        try {
+            int _hashCode = 1;
+            if (getNetBillableRevenueOverride() != null) {
+                _hashCode += getNetBillableRevenueOverride().hashCode();
+            }
+            if (getGrossBillableRevenueOverride() != null) {
+                _hashCode += getGrossBillableRevenueOverride().hashCode();
+            }
+            if (getBillableRevenueOverride() != null) {
+                _hashCode += getBillableRevenueOverride().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(BillableRevenueOverrides.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(BillableRevenueOverrides.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://www.google.com/apis/ads/publisher/v201608", "BillableRevenueOverrides"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("netBillableRevenueOverride");
@@ -256,13 +261,24 @@ public class BillableRevenueOverrides  implements java.io.Serializable {
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (BillableRevenueOverrides.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -274,7 +290,7 @@ public class BillableRevenueOverrides  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -286,7 +302,7 @@ public class BillableRevenueOverrides  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
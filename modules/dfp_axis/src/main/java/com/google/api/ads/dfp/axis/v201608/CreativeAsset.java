@@ -312,102 +312,107 @@ public class CreativeAsset  implements java.io.Serializable {
         this.imageDensity = imageDensity;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof CreativeAsset)) return false;
         CreativeAsset other = (CreativeAsset) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(CreativeAsset.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = true && 
-            ((this.assetId==null && other.getAssetId()==null) || 
-             (this.assetId!=null &&
-              this.assetId.equals(other.getAssetId()))) &&
-            ((this.assetByteArray==null && other.getAssetByteArray()==null) || 
-             (this.assetByteArray!=null &&
-              java.util.Arrays.equals(this.assetByteArray, other.getAssetByteArray()))) &&
-            ((this.fileName==null && other.getFileName()==null) || 
-             (this.fileName!=null &&
-              this.fileName.equals(other.getFileName()))) &&
-            ((this.fileSize==null && other.getFileSize()==null) || 
-             (this.fileSize!=null &&
-              this.fileSize.equals(other.getFileSize()))) &&
-            ((this.assetUrl==null && other.getAssetUrl()==null) || 
-             (this.assetUrl!=null &&
-              this.assetUrl.equals(other.getAssetUrl()))) &&
-            ((this.size==null && other.getSize()==null) || 
-             (this.size!=null &&
-              this.size.equals(other.getSize()))) &&
-            ((this.clickTags==null && other.getClickTags()==null) || 
-             (this.clickTags!=null &&
-              java.util.Arrays.equals(this.clickTags, other.getClickTags()))) &&
-            ((this.imageDensity==null && other.getImageDensity()==null) || 
-             (this.imageDensity!=null &&
-              this.imageDensity.equals(other.getImageDensity())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = true && 
+                ((this.assetId==null && other.getAssetId()==null) || 
+                 (this.assetId!=null &&
+                  this.assetId.equals(other.getAssetId()))) &&
+                ((this.assetByteArray==null && other.getAssetByteArray()==null) || 
+                 (this.assetByteArray!=null &&
+                  java.util.Arrays.equals(this.assetByteArray, other.getAssetByteArray()))) &&
+                ((this.fileName==null && other.getFileName()==null) || 
+                 (this.fileName!=null &&
+                  this.fileName.equals(other.getFileName()))) &&
+                ((this.fileSize==null && other.getFileSize()==null) || 
+                 (this.fileSize!=null &&
+                  this.fileSize.equals(other.getFileSize()))) &&
+                ((this.assetUrl==null && other.getAssetUrl()==null) || 
+                 (this.assetUrl!=null &&
+                  this.assetUrl.equals(other.getAssetUrl()))) &&
+                ((this.size==null && other.getSize()==null) || 
+                 (this.size!=null &&
+                  this.size.equals(other.getSize()))) &&
+                ((this.clickTags==null && other.getClickTags()==null) || 
+                 (this.clickTags!=null &&
+                  java.util.Arrays.equals(this.clickTags, other.getClickTags()))) &&
+                ((this.imageDensity==null && other.getImageDensity()==null) || 
+                 (this.imageDensity!=null &&
+                  this.imageDensity.equals(other.getImageDensity())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(CreativeAsset.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getAssetId() != null) {
-            _hashCode += getAssetId().hashCode();
-        }
-        if (getAssetByteArray() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getAssetByteArray());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getAssetByteArray(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+        try {
+            int _hashCode = 1;
+            if (getAssetId() != null) {
+                _hashCode += getAssetId().hashCode();
+            }
+            if (getAssetByteArray() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getAssetByteArray());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getAssetByteArray(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
-        }
-        if (getFileName() != null) {
-            _hashCode += getFileName().hashCode();
-        }
-        if (getFileSize() != null) {
-            _hashCode += getFileSize().hashCode();
-        }
-        if (getAssetUrl() != null) {
-            _hashCode += getAssetUrl().hashCode();
-        }
-        if (getSize() != null) {
-            _hashCode += getSize().hashCode();
-        }
-        if (getClickTags() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getClickTags());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getClickTags(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+            if (getFileName() != null) {
+                _hashCode += getFileName().hashCode();
+            }
+            if (getFileSize() != null) {
+                _hashCode += getFileSize().hashCode();
+            }
+            if (getAssetUrl() != null) {
+                _hashCode += getAssetUrl().hashCode();
+            }
+            if (getSize() != null) {
+                _hashCode += getSize().hashCode();
+            }
+            if (getClickTags() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getClickTags());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getClickTags(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
+            if (getImageDensity() != null) {
+                _hashCode += getImageDensity().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        if (getImageDensity() != null) {
-            _hashCode += getImageDensity().hashCode();
-        }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(CreativeAsset.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(CreativeAsset.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://www.google.com/apis/ads/publisher/v201608", "CreativeAsset"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("assetId");
@@ -466,13 +471,24 @@ public class CreativeAsset  implements java.io.Serializable {
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (CreativeAsset.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -484,7 +500,7 @@ public class CreativeAsset  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -496,7 +512,7 @@ public class CreativeAsset  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
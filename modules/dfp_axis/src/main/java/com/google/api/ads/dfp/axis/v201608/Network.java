@@ -313,100 +313,105 @@ public class Network  implements java.io.Serializable {
         this.isTest = isTest;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof Network)) return false;
         Network other = (Network) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(Network.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = true && 
-            ((this.id==null && other.getId()==null) || 
-             (this.id!=null &&
-              this.id.equals(other.getId()))) &&
-            ((this.displayName==null && other.getDisplayName()==null) || 
-             (this.displayName!=null &&
-              this.displayName.equals(other.getDisplayName()))) &&
-            ((this.networkCode==null && other.getNetworkCode()==null) || 
-             (this.networkCode!=null &&
-              this.networkCode.equals(other.getNetworkCode()))) &&
-            ((this.propertyCode==null && other.getPropertyCode()==null) || 
-             (this.propertyCode!=null &&
-              this.propertyCode.equals(other.getPropertyCode()))) &&
-            ((this.timeZone==null && other.getTimeZone()==null) || 
-             (this.timeZone!=null &&
-              this.timeZone.equals(other.getTimeZone()))) &&
-            ((this.currencyCode==null && other.getCurrencyCode()==null) || 
-             (this.currencyCode!=null &&
-              this.currencyCode.equals(other.getCurrencyCode()))) &&
-            ((this.secondaryCurrencyCodes==null && other.getSecondaryCurrencyCodes()==null) || 
-             (this.secondaryCurrencyCodes!=null &&
-              java.util.Arrays.equals(this.secondaryCurrencyCodes, other.getSecondaryCurrencyCodes()))) &&
-            ((this.effectiveRootAdUnitId==null && other.getEffectiveRootAdUnitId()==null) || 
-             (this.effectiveRootAdUnitId!=null &&
-              this.effectiveRootAdUnitId.equals(other.getEffectiveRootAdUnitId()))) &&
-            ((this.isTest==null && other.getIsTest()==null) || 
-             (this.isTest!=null &&
-              this.isTest.equals(other.getIsTest())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = true && 
+                ((this.id==null && other.getId()==null) || 
+                 (this.id!=null &&
+                  this.id.equals(other.getId()))) &&
+                ((this.displayName==null && other.getDisplayName()==null) || 
+                 (this.displayName!=null &&
+                  this.displayName.equals(other.getDisplayName()))) &&
+                ((this.networkCode==null && other.getNetworkCode()==null) || 
+                 (this.networkCode!=null &&
+                  this.networkCode.equals(other.getNetworkCode()))) &&
+                ((this.propertyCode==null && other.getPropertyCode()==null) || 
+                 (this.propertyCode!=null &&
+                  this.propertyCode.equals(other.getPropertyCode()))) &&
+                ((this.timeZone==null && other.getTimeZone()==null) || 
+                 (this.timeZone!=null &&
+                  this.timeZone.equals(other.getTimeZone()))) &&
+                ((this.currencyCode==null && other.getCurrencyCode()==null) || 
+                 (this.currencyCode!=null &&
+                  this.currencyCode.equals(other.getCurrencyCode()))) &&
+                ((this.secondaryCurrencyCodes==null && other.getSecondaryCurrencyCodes()==null) || 
+                 (this.secondaryCurrencyCodes!=null &&
+                  java.util.Arrays.equals(this.secondaryCurrencyCodes, other.getSecondaryCurrencyCodes()))) &&
+                ((this.effectiveRootAdUnitId==null && other.getEffectiveRootAdUnitId()==null) || 
+                 (this.effectiveRootAdUnitId!=null &&
+                  this.effectiveRootAdUnitId.equals(other.getEffectiveRootAdUnitId()))) &&
+                ((this.isTest==null && other.getIsTest()==null) || 
+                 (this.isTest!=null &&
+                  this.isTest.equals(other.getIsTest())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(Network.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getId() != null) {
-            _hashCode += getId().hashCode();
-        }
-        if (getDisplayName() != null) {
-            _hashCode += getDisplayName().hashCode();
-        }
-        if (getNetworkCode() != null) {
-            _hashCode += getNetworkCode().hashCode();
-        }
-        if (getPropertyCode() != null) {
-            _hashCode += getPropertyCode().hashCode();
-        }
-        if (getTimeZone() != null) {
-            _hashCode += getTimeZone().hashCode();
-        }
-        if (getCurrencyCode() != null) {
-            _hashCode += getCurrencyCode().hashCode();
-        }
-        if (getSecondaryCurrencyCodes() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getSecondaryCurrencyCodes());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getSecondaryCurrencyCodes(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+        try {
+            int _hashCode = 1;
+            if (getId() != null) {
+                _hashCode += getId().hashCode();
+            }
+            if (getDisplayName() != null) {
+                _hashCode += getDisplayName().hashCode();
+            }
+            if (getNetworkCode() != null) {
+                _hashCode += getNetworkCode().hashCode();
+            }
+            if (getPropertyCode() != null) {
+                _hashCode += getPropertyCode().hashCode();
+            }
+            if (getTimeZone() != null) {
+                _hashCode += getTimeZone().hashCode();
+            }
+            if (getCurrencyCode() != null) {
+                _hashCode += getCurrencyCode().hashCode();
+            }
+            if (getSecondaryCurrencyCodes() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getSecondaryCurrencyCodes());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getSecondaryCurrencyCodes(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
+            if (getEffectiveRootAdUnitId() != null) {
+                _hashCode += getEffectiveRootAdUnitId().hashCode();
+            }
+            if (getIsTest() != null) {
+                _hashCode += getIsTest().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        if (getEffectiveRootAdUnitId() != null) {
-            _hashCode += getEffectiveRootAdUnitId().hashCode();
-        }
-        if (getIsTest() != null) {
-            _hashCode += getIsTest().hashCode();
-        }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(Network.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(Network.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://www.google.com/apis/ads/publisher/v201608", "Network"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("id");
@@ -472,13 +477,24 @@ public class Network  implements java.io.Serializable {
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (Network.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -490,7 +506,7 @@ public class Network  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -502,7 +518,7 @@ public class Network  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
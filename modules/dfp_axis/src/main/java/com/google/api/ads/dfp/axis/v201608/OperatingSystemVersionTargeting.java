@@ -105,66 +105,71 @@ public class OperatingSystemVersionTargeting  implements java.io.Serializable {
         this.excludedOperatingSystemVersions[i] = _value;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof OperatingSystemVersionTargeting)) return false;
         OperatingSystemVersionTargeting other = (OperatingSystemVersionTargeting) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(OperatingSystemVersionTargeting.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = true && 
-            ((this.targetedOperatingSystemVersions==null && other.getTargetedOperatingSystemVersions()==null) || 
-             (this.targetedOperatingSystemVersions!=null &&
-              java.util.Arrays.equals(this.targetedOperatingSystemVersions, other.getTargetedOperatingSystemVersions()))) &&
-            ((this.excludedOperatingSystemVersions==null && other.getExcludedOperatingSystemVersions()==null) || 
-             (this.excludedOperatingSystemVersions!=null &&
-              java.util.Arrays.equals(this.excludedOperatingSystemVersions, other.getExcludedOperatingSystemVersions())));
-        __equalsCalc = null;
-        return _equals;
-    }
-
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+        try {
+            boolean _equals;
+            _equals = true && 
+                ((this.targetedOperatingSystemVersions==null && other.getTargetedOperatingSystemVersions()==null) || 
+                 (this.targetedOperatingSystemVersions!=null &&
+                  java.util.Arrays.equals(this.targetedOperatingSystemVersions, other.getTargetedOperatingSystemVersions()))) &&
+                ((this.excludedOperatingSystemVersions==null && other.getExcludedOperatingSystemVersions()==null) || 
+                 (this.excludedOperatingSystemVersions!=null &&
+                  java.util.Arrays.equals(this.excludedOperatingSystemVersions, other.getExcludedOperatingSystemVersions())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
+    }
+
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(OperatingSystemVersionTargeting.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getTargetedOperatingSystemVersions() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getTargetedOperatingSystemVersions());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getTargetedOperatingSystemVersions(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+        try {
+            int _hashCode = 1;
+            if (getTargetedOperatingSystemVersions() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getTargetedOperatingSystemVersions());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getTargetedOperatingSystemVersions(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
-        }
-        if (getExcludedOperatingSystemVersions() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getExcludedOperatingSystemVersions());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getExcludedOperatingSystemVersions(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+            if (getExcludedOperatingSystemVersions() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getExcludedOperatingSystemVersions());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getExcludedOperatingSystemVersions(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(OperatingSystemVersionTargeting.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(OperatingSystemVersionTargeting.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://www.google.com/apis/ads/publisher/v201608", "OperatingSystemVersionTargeting"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("targetedOperatingSystemVersions");
@@ -182,13 +187,24 @@ public class OperatingSystemVersionTargeting  implements java.io.Serializable {
         elemField.setNillable(false);
         elemField.setMaxOccursUnbounded(true);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (OperatingSystemVersionTargeting.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -200,7 +216,7 @@ public class OperatingSystemVersionTargeting  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -212,7 +228,7 @@ public class OperatingSystemVersionTargeting  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
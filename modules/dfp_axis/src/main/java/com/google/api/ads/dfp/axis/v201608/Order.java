@@ -1067,288 +1067,293 @@ public class Order  implements java.io.Serializable {
         this.customFieldValues[i] = _value;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof Order)) return false;
         Order other = (Order) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(Order.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = true && 
-            ((this.id==null && other.getId()==null) || 
-             (this.id!=null &&
-              this.id.equals(other.getId()))) &&
-            ((this.name==null && other.getName()==null) || 
-             (this.name!=null &&
-              this.name.equals(other.getName()))) &&
-            ((this.startDateTime==null && other.getStartDateTime()==null) || 
-             (this.startDateTime!=null &&
-              this.startDateTime.equals(other.getStartDateTime()))) &&
-            ((this.endDateTime==null && other.getEndDateTime()==null) || 
-             (this.endDateTime!=null &&
-              this.endDateTime.equals(other.getEndDateTime()))) &&
-            ((this.unlimitedEndDateTime==null && other.getUnlimitedEndDateTime()==null) || 
-             (this.unlimitedEndDateTime!=null &&
-              this.unlimitedEndDateTime.equals(other.getUnlimitedEndDateTime()))) &&
-            ((this.status==null && other.getStatus()==null) || 
-             (this.status!=null &&
-              this.status.equals(other.getStatus()))) &&
-            ((this.isArchived==null && other.getIsArchived()==null) || 
-             (this.isArchived!=null &&
-              this.isArchived.equals(other.getIsArchived()))) &&
-            ((this.notes==null && other.getNotes()==null) || 
-             (this.notes!=null &&
-              this.notes.equals(other.getNotes()))) &&
-            ((this.externalOrderId==null && other.getExternalOrderId()==null) || 
-             (this.externalOrderId!=null &&
-              this.externalOrderId.equals(other.getExternalOrderId()))) &&
-            ((this.poNumber==null && other.getPoNumber()==null) || 
-             (this.poNumber!=null &&
-              this.poNumber.equals(other.getPoNumber()))) &&
-            ((this.currencyCode==null && other.getCurrencyCode()==null) || 
-             (this.currencyCode!=null &&
-              this.currencyCode.equals(other.getCurrencyCode()))) &&
-            ((this.advertiserId==null && other.getAdvertiserId()==null) || 
-             (this.advertiserId!=null &&
-              this.advertiserId.equals(other.getAdvertiserId()))) &&
-            ((this.advertiserContactIds==null && other.getAdvertiserContactIds()==null) || 
-             (this.advertiserContactIds!=null &&
-              java.util.Arrays.equals(this.advertiserContactIds, other.getAdvertiserContactIds()))) &&
-            ((this.agencyId==null && other.getAgencyId()==null) || 
-             (this.agencyId!=null &&
-              this.agencyId.equals(other.getAgencyId()))) &&
-            ((this.agencyContactIds==null && other.getAgencyContactIds()==null) || 
-             (this.agencyContactIds!=null &&
-              java.util.Arrays.equals(this.agencyContactIds, other.getAgencyContactIds()))) &&
-            ((this.creatorId==null && other.getCreatorId()==null) || 
-             (this.creatorId!=null &&
-              this.creatorId.equals(other.getCreatorId()))) &&
-            ((this.traffickerId==null && other.getTraffickerId()==null) || 
-             (this.traffickerId!=null &&
-              this.traffickerId.equals(other.getTraffickerId()))) &&
-            ((this.secondaryTraffickerIds==null && other.getSecondaryTraffickerIds()==null) || 
-             (this.secondaryTraffickerIds!=null &&
-              java.util.Arrays.equals(this.secondaryTraffickerIds, other.getSecondaryTraffickerIds()))) &&
-            ((this.salespersonId==null && other.getSalespersonId()==null) || 
-             (this.salespersonId!=null &&
-              this.salespersonId.equals(other.getSalespersonId()))) &&
-            ((this.secondarySalespersonIds==null && other.getSecondarySalespersonIds()==null) || 
-             (this.secondarySalespersonIds!=null &&
-              java.util.Arrays.equals(this.secondarySalespersonIds, other.getSecondarySalespersonIds()))) &&
-            ((this.totalImpressionsDelivered==null && other.getTotalImpressionsDelivered()==null) || 
-             (this.totalImpressionsDelivered!=null &&
-              this.totalImpressionsDelivered.equals(other.getTotalImpressionsDelivered()))) &&
-            ((this.totalClicksDelivered==null && other.getTotalClicksDelivered()==null) || 
-             (this.totalClicksDelivered!=null &&
-              this.totalClicksDelivered.equals(other.getTotalClicksDelivered()))) &&
-            ((this.totalViewableImpressionsDelivered==null && other.getTotalViewableImpressionsDelivered()==null) || 
-             (this.totalViewableImpressionsDelivered!=null &&
-              this.totalViewableImpressionsDelivered.equals(other.getTotalViewableImpressionsDelivered()))) &&
-            ((this.totalBudget==null && other.getTotalBudget()==null) || 
-             (this.totalBudget!=null &&
-              this.totalBudget.equals(other.getTotalBudget()))) &&
-            ((this.appliedLabels==null && other.getAppliedLabels()==null) || 
-             (this.appliedLabels!=null &&
-              java.util.Arrays.equals(this.appliedLabels, other.getAppliedLabels()))) &&
-            ((this.effectiveAppliedLabels==null && other.getEffectiveAppliedLabels()==null) || 
-             (this.effectiveAppliedLabels!=null &&
-              java.util.Arrays.equals(this.effectiveAppliedLabels, other.getEffectiveAppliedLabels()))) &&
-            ((this.lastModifiedByApp==null && other.getLastModifiedByApp()==null) || 
-             (this.lastModifiedByApp!=null &&
-              this.lastModifiedByApp.equals(other.getLastModifiedByApp()))) &&
-            ((this.isProgrammatic==null && other.getIsProgrammatic()==null) || 
-             (this.isProgrammatic!=null &&
-              this.isProgrammatic.equals(other.getIsProgrammatic()))) &&
-            ((this.appliedTeamIds==null && other.getAppliedTeamIds()==null) || 
-             (this.appliedTeamIds!=null &&
-              java.util.Arrays.equals(this.appliedTeamIds, other.getAppliedTeamIds()))) &&
-            ((this.lastModifiedDateTime==null && other.getLastModifiedDateTime()==null) || 
-             (this.lastModifiedDateTime!=null &&
-              this.lastModifiedDateTime.equals(other.getLastModifiedDateTime()))) &&
-            ((this.customFieldValues==null && other.getCustomFieldValues()==null) || 
-             (this.customFieldValues!=null &&
-              java.util.Arrays.equals(this.customFieldValues, other.getCustomFieldValues())));
-        __equalsCalc = null;
-        return _equals;
-    }
-
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
-            return 0;
-        }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getId() != null) {
-            _hashCode += getId().hashCode();
-        }
-        if (getName() != null) {
-            _hashCode += getName().hashCode();
-        }
-        if (getStartDateTime() != null) {
-            _hashCode += getStartDateTime().hashCode();
-        }
-        if (getEndDateTime() != null) {
-            _hashCode += getEndDateTime().hashCode();
-        }
-        if (getUnlimitedEndDateTime() != null) {
-            _hashCode += getUnlimitedEndDateTime().hashCode();
-        }
-        if (getStatus() != null) {
-            _hashCode += getStatus().hashCode();
-        }
-        if (getIsArchived() != null) {
-            _hashCode += getIsArchived().hashCode();
+        try {
+            boolean _equals;
+            _equals = true && 
+                ((this.id==null && other.getId()==null) || 
+                 (this.id!=null &&
+                  this.id.equals(other.getId()))) &&
+                ((this.name==null && other.getName()==null) || 
+                 (this.name!=null &&
+                  this.name.equals(other.getName()))) &&
+                ((this.startDateTime==null && other.getStartDateTime()==null) || 
+                 (this.startDateTime!=null &&
+                  this.startDateTime.equals(other.getStartDateTime()))) &&
+                ((this.endDateTime==null && other.getEndDateTime()==null) || 
+                 (this.endDateTime!=null &&
+                  this.endDateTime.equals(other.getEndDateTime()))) &&
+                ((this.unlimitedEndDateTime==null && other.getUnlimitedEndDateTime()==null) || 
+                 (this.unlimitedEndDateTime!=null &&
+                  this.unlimitedEndDateTime.equals(other.getUnlimitedEndDateTime()))) &&
+                ((this.status==null && other.getStatus()==null) || 
+                 (this.status!=null &&
+                  this.status.equals(other.getStatus()))) &&
+                ((this.isArchived==null && other.getIsArchived()==null) || 
+                 (this.isArchived!=null &&
+                  this.isArchived.equals(other.getIsArchived()))) &&
+                ((this.notes==null && other.getNotes()==null) || 
+                 (this.notes!=null &&
+                  this.notes.equals(other.getNotes()))) &&
+                ((this.externalOrderId==null && other.getExternalOrderId()==null) || 
+                 (this.externalOrderId!=null &&
+                  this.externalOrderId.equals(other.getExternalOrderId()))) &&
+                ((this.poNumber==null && other.getPoNumber()==null) || 
+                 (this.poNumber!=null &&
+                  this.poNumber.equals(other.getPoNumber()))) &&
+                ((this.currencyCode==null && other.getCurrencyCode()==null) || 
+                 (this.currencyCode!=null &&
+                  this.currencyCode.equals(other.getCurrencyCode()))) &&
+                ((this.advertiserId==null && other.getAdvertiserId()==null) || 
+                 (this.advertiserId!=null &&
+                  this.advertiserId.equals(other.getAdvertiserId()))) &&
+                ((this.advertiserContactIds==null && other.getAdvertiserContactIds()==null) || 
+                 (this.advertiserContactIds!=null &&
+                  java.util.Arrays.equals(this.advertiserContactIds, other.getAdvertiserContactIds()))) &&
+                ((this.agencyId==null && other.getAgencyId()==null) || 
+                 (this.agencyId!=null &&
+                  this.agencyId.equals(other.getAgencyId()))) &&
+                ((this.agencyContactIds==null && other.getAgencyContactIds()==null) || 
+                 (this.agencyContactIds!=null &&
+                  java.util.Arrays.equals(this.agencyContactIds, other.getAgencyContactIds()))) &&
+                ((this.creatorId==null && other.getCreatorId()==null) || 
+                 (this.creatorId!=null &&
+                  this.creatorId.equals(other.getCreatorId()))) &&
+                ((this.traffickerId==null && other.getTraffickerId()==null) || 
+                 (this.traffickerId!=null &&
+                  this.traffickerId.equals(other.getTraffickerId()))) &&
+                ((this.secondaryTraffickerIds==null && other.getSecondaryTraffickerIds()==null) || 
+                 (this.secondaryTraffickerIds!=null &&
+                  java.util.Arrays.equals(this.secondaryTraffickerIds, other.getSecondaryTraffickerIds()))) &&
+                ((this.salespersonId==null && other.getSalespersonId()==null) || 
+                 (this.salespersonId!=null &&
+                  this.salespersonId.equals(other.getSalespersonId()))) &&
+                ((this.secondarySalespersonIds==null && other.getSecondarySalespersonIds()==null) || 
+                 (this.secondarySalespersonIds!=null &&
+                  java.util.Arrays.equals(this.secondarySalespersonIds, other.getSecondarySalespersonIds()))) &&
+                ((this.totalImpressionsDelivered==null && other.getTotalImpressionsDelivered()==null) || 
+                 (this.totalImpressionsDelivered!=null &&
+                  this.totalImpressionsDelivered.equals(other.getTotalImpressionsDelivered()))) &&
+                ((this.totalClicksDelivered==null && other.getTotalClicksDelivered()==null) || 
+                 (this.totalClicksDelivered!=null &&
+                  this.totalClicksDelivered.equals(other.getTotalClicksDelivered()))) &&
+                ((this.totalViewableImpressionsDelivered==null && other.getTotalViewableImpressionsDelivered()==null) || 
+                 (this.totalViewableImpressionsDelivered!=null &&
+                  this.totalViewableImpressionsDelivered.equals(other.getTotalViewableImpressionsDelivered()))) &&
+                ((this.totalBudget==null && other.getTotalBudget()==null) || 
+                 (this.totalBudget!=null &&
+                  this.totalBudget.equals(other.getTotalBudget()))) &&
+                ((this.appliedLabels==null && other.getAppliedLabels()==null) || 
+                 (this.appliedLabels!=null &&
+                  java.util.Arrays.equals(this.appliedLabels, other.getAppliedLabels()))) &&
+                ((this.effectiveAppliedLabels==null && other.getEffectiveAppliedLabels()==null) || 
+                 (this.effectiveAppliedLabels!=null &&
+                  java.util.Arrays.equals(this.effectiveAppliedLabels, other.getEffectiveAppliedLabels()))) &&
+                ((this.lastModifiedByApp==null && other.getLastModifiedByApp()==null) || 
+                 (this.lastModifiedByApp!=null &&
+                  this.lastModifiedByApp.equals(other.getLastModifiedByApp()))) &&
+                ((this.isProgrammatic==null && other.getIsProgrammatic()==null) || 
+                 (this.isProgrammatic!=null &&
+                  this.isProgrammatic.equals(other.getIsProgrammatic()))) &&
+                ((this.appliedTeamIds==null && other.getAppliedTeamIds()==null) || 
+                 (this.appliedTeamIds!=null &&
+                  java.util.Arrays.equals(this.appliedTeamIds, other.getAppliedTeamIds()))) &&
+                ((this.lastModifiedDateTime==null && other.getLastModifiedDateTime()==null) || 
+                 (this.lastModifiedDateTime!=null &&
+                  this.lastModifiedDateTime.equals(other.getLastModifiedDateTime()))) &&
+                ((this.customFieldValues==null && other.getCustomFieldValues()==null) || 
+                 (this.customFieldValues!=null &&
+                  java.util.Arrays.equals(this.customFieldValues, other.getCustomFieldValues())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
         }
-        if (getNotes() != null) {
-            _hashCode += getNotes().hashCode();
-        }
-        if (getExternalOrderId() != null) {
-            _hashCode += getExternalOrderId().hashCode();
-        }
-        if (getPoNumber() != null) {
-            _hashCode += getPoNumber().hashCode();
-        }
-        if (getCurrencyCode() != null) {
-            _hashCode += getCurrencyCode().hashCode();
-        }
-        if (getAdvertiserId() != null) {
-            _hashCode += getAdvertiserId().hashCode();
+    }
+
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(Order.class, this)) {
+            return 0;
         }
-        if (getAdvertiserContactIds() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getAdvertiserContactIds());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getAdvertiserContactIds(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+        try {
+            int _hashCode = 1;
+            if (getId() != null) {
+                _hashCode += getId().hashCode();
+            }
+            if (getName() != null) {
+                _hashCode += getName().hashCode();
+            }
+            if (getStartDateTime() != null) {
+                _hashCode += getStartDateTime().hashCode();
+            }
+            if (getEndDateTime() != null) {
+                _hashCode += getEndDateTime().hashCode();
+            }
+            if (getUnlimitedEndDateTime() != null) {
+                _hashCode += getUnlimitedEndDateTime().hashCode();
+            }
+            if (getStatus() != null) {
+                _hashCode += getStatus().hashCode();
+            }
+            if (getIsArchived() != null) {
+                _hashCode += getIsArchived().hashCode();
+            }
+            if (getNotes() != null) {
+                _hashCode += getNotes().hashCode();
+            }
+            if (getExternalOrderId() != null) {
+                _hashCode += getExternalOrderId().hashCode();
+            }
+            if (getPoNumber() != null) {
+                _hashCode += getPoNumber().hashCode();
+            }
+            if (getCurrencyCode() != null) {
+                _hashCode += getCurrencyCode().hashCode();
+            }
+            if (getAdvertiserId() != null) {
+                _hashCode += getAdvertiserId().hashCode();
+            }
+            if (getAdvertiserContactIds() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getAdvertiserContactIds());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getAdvertiserContactIds(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
-        }
-        if (getAgencyId() != null) {
-            _hashCode += getAgencyId().hashCode();
-        }
-        if (getAgencyContactIds() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getAgencyContactIds());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getAgencyContactIds(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+            if (getAgencyId() != null) {
+                _hashCode += getAgencyId().hashCode();
+            }
+            if (getAgencyContactIds() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getAgencyContactIds());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getAgencyContactIds(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
-        }
-        if (getCreatorId() != null) {
-            _hashCode += getCreatorId().hashCode();
-        }
-        if (getTraffickerId() != null) {
-            _hashCode += getTraffickerId().hashCode();
-        }
-        if (getSecondaryTraffickerIds() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getSecondaryTraffickerIds());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getSecondaryTraffickerIds(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+            if (getCreatorId() != null) {
+                _hashCode += getCreatorId().hashCode();
+            }
+            if (getTraffickerId() != null) {
+                _hashCode += getTraffickerId().hashCode();
+            }
+            if (getSecondaryTraffickerIds() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getSecondaryTraffickerIds());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getSecondaryTraffickerIds(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
-        }
-        if (getSalespersonId() != null) {
-            _hashCode += getSalespersonId().hashCode();
-        }
-        if (getSecondarySalespersonIds() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getSecondarySalespersonIds());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getSecondarySalespersonIds(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+            if (getSalespersonId() != null) {
+                _hashCode += getSalespersonId().hashCode();
+            }
+            if (getSecondarySalespersonIds() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getSecondarySalespersonIds());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getSecondarySalespersonIds(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
-        }
-        if (getTotalImpressionsDelivered() != null) {
-            _hashCode += getTotalImpressionsDelivered().hashCode();
-        }
-        if (getTotalClicksDelivered() != null) {
-            _hashCode += getTotalClicksDelivered().hashCode();
-        }
-        if (getTotalViewableImpressionsDelivered() != null) {
-            _hashCode += getTotalViewableImpressionsDelivered().hashCode();
-        }
-        if (getTotalBudget() != null) {
-            _hashCode += getTotalBudget().hashCode();
-        }
-        if (getAppliedLabels() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getAppliedLabels());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getAppliedLabels(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+            if (getTotalImpressionsDelivered() != null) {
+                _hashCode += getTotalImpressionsDelivered().hashCode();
+            }
+            if (getTotalClicksDelivered() != null) {
+                _hashCode += getTotalClicksDelivered().hashCode();
+            }
+            if (getTotalViewableImpressionsDelivered() != null) {
+                _hashCode += getTotalViewableImpressionsDelivered().hashCode();
+            }
+            if (getTotalBudget() != null) {
+                _hashCode += getTotalBudget().hashCode();
+            }
+            if (getAppliedLabels() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getAppliedLabels());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getAppliedLabels(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
-        }
-        if (getEffectiveAppliedLabels() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getEffectiveAppliedLabels());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getEffectiveAppliedLabels(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+            if (getEffectiveAppliedLabels() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getEffectiveAppliedLabels());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getEffectiveAppliedLabels(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
-        }
-        if (getLastModifiedByApp() != null) {
-            _hashCode += getLastModifiedByApp().hashCode();
-        }
-        if (getIsProgrammatic() != null) {
-            _hashCode += getIsProgrammatic().hashCode();
-        }
-        if (getAppliedTeamIds() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getAppliedTeamIds());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getAppliedTeamIds(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+            if (getLastModifiedByApp() != null) {
+                _hashCode += getLastModifiedByApp().hashCode();
+            }
+            if (getIsProgrammatic() != null) {
+                _hashCode += getIsProgrammatic().hashCode();
+            }
+            if (getAppliedTeamIds() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getAppliedTeamIds());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getAppliedTeamIds(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
-        }
-        if (getLastModifiedDateTime() != null) {
-            _hashCode += getLastModifiedDateTime().hashCode();
-        }
-        if (getCustomFieldValues() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getCustomFieldValues());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getCustomFieldValues(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+            if (getLastModifiedDateTime() != null) {
+                _hashCode += getLastModifiedDateTime().hashCode();
+            }
+            if (getCustomFieldValues() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getCustomFieldValues());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getCustomFieldValues(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(Order.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(Order.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://www.google.com/apis/ads/publisher/v201608", "Order"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("id");
@@ -1575,13 +1580,24 @@ public class Order  implements java.io.Serializable {
         elemField.setNillable(false);
         elemField.setMaxOccursUnbounded(true);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (Order.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -1593,7 +1609,7 @@ public class Order  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -1605,7 +1621,7 @@ public class Order  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
@@ -158,56 +158,61 @@ public class ProductMarketplaceInfo  implements java.io.Serializable {
         this.additionalTermsSource = additionalTermsSource;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof ProductMarketplaceInfo)) return false;
         ProductMarketplaceInfo other = (ProductMarketplaceInfo) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(ProductMarketplaceInfo.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = true && 
-            ((this.adExchangeEnvironment==null && other.getAdExchangeEnvironment()==null) || 
-             (this.adExchangeEnvironment!=null &&
-              this.adExchangeEnvironment.equals(other.getAdExchangeEnvironment()))) &&
-            ((this.additionalTerms==null && other.getAdditionalTerms()==null) || 
-             (this.additionalTerms!=null &&
-              this.additionalTerms.equals(other.getAdditionalTerms()))) &&
-            ((this.additionalTermsSource==null && other.getAdditionalTermsSource()==null) || 
-             (this.additionalTermsSource!=null &&
-              this.additionalTermsSource.equals(other.getAdditionalTermsSource())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = true && 
+                ((this.adExchangeEnvironment==null && other.getAdExchangeEnvironment()==null) || 
+                 (this.adExchangeEnvironment!=null &&
+                  this.adExchangeEnvironment.equals(other.getAdExchangeEnvironment()))) &&
+                ((this.additionalTerms==null && other.getAdditionalTerms()==null) || 
+                 (this.additionalTerms!=null &&
+                  this.additionalTerms.equals(other.getAdditionalTerms()))) &&
+                ((this.additionalTermsSource==null && other.getAdditionalTermsSource()==null) || 
+                 (this.additionalTermsSource!=null &&
+                  this.additionalTermsSource.equals(other.getAdditionalTermsSource())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(ProductMarketplaceInfo.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getAdExchangeEnvironment() != null) {
-            _hashCode += getAdExchangeEnvironment().hashCode();
-        }
-        if (getAdditionalTerms() != null) {
-            _hashCode += getAdditionalTerms().hashCode();
-        }
-        if (getAdditionalTermsSource() != null) {
-            _hashCode += getAdditionalTermsSource().hashCode();
+        try {
+            int _hashCode = 1;
+            if (getAdExchangeEnvironment() != null) {
+                _hashCode += getAdExchangeEnvironment().hashCode();
+            }
+            if (getAdditionalTerms() != null) {
+                _hashCode += getAdditionalTerms().hashCode();
+            }
+            if (getAdditionalTermsSource() != null) {
+                _hashCode += getAdditionalTermsSource().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(ProductMarketplaceInfo.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(ProductMarketplaceInfo.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://www.google.com/apis/ads/publisher/v201608", "ProductMarketplaceInfo"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("adExchangeEnvironment");
@@ -230,13 +235,24 @@ public class ProductMarketplaceInfo  implements java.io.Serializable {
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (ProductMarketplaceInfo.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -248,7 +264,7 @@ public class ProductMarketplaceInfo  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -260,7 +276,7 @@ public class ProductMarketplaceInfo  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
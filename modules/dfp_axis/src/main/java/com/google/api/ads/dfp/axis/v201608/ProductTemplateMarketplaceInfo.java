@@ -97,50 +97,55 @@ public class ProductTemplateMarketplaceInfo  implements java.io.Serializable {
         this.additionalTerms = additionalTerms;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof ProductTemplateMarketplaceInfo)) return false;
         ProductTemplateMarketplaceInfo other = (ProductTemplateMarketplaceInfo) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(ProductTemplateMarketplaceInfo.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = true && 
-            ((this.adExchangeEnvironment==null && other.getAdExchangeEnvironment()==null) || 
-             (this.adExchangeEnvironment!=null &&
-              this.adExchangeEnvironment.equals(other.getAdExchangeEnvironment()))) &&
-            ((this.additionalTerms==null && other.getAdditionalTerms()==null) || 
-             (this.additionalTerms!=null &&
-              this.additionalTerms.equals(other.getAdditionalTerms())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = true && 
+                ((this.adExchangeEnvironment==null && other.getAdExchangeEnvironment()==null) || 
+                 (this.adExchangeEnvironment!=null &&
+                  this.adExchangeEnvironment.equals(other.getAdExchangeEnvironment()))) &&
+                ((this.additionalTerms==null && other.getAdditionalTerms()==null) || 
+                 (this.additionalTerms!=null &&
+                  this.additionalTerms.equals(other.getAdditionalTerms())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(ProductTemplateMarketplaceInfo.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getAdExchangeEnvironment() != null) {
-            _hashCode += getAdExchangeEnvironment().hashCode();
-        }
-        if (getAdditionalTerms() != null) {
-            _hashCode += getAdditionalTerms().hashCode();
+        try {
+            int _hashCode = 1;
+            if (getAdExchangeEnvironment() != null) {
+                _hashCode += getAdExchangeEnvironment().hashCode();
+            }
+            if (getAdditionalTerms() != null) {
+                _hashCode += getAdditionalTerms().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(ProductTemplateMarketplaceInfo.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(ProductTemplateMarketplaceInfo.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://www.google.com/apis/ads/publisher/v201608", "ProductTemplateMarketplaceInfo"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("adExchangeEnvironment");
@@ -156,13 +161,24 @@ public class ProductTemplateMarketplaceInfo  implements java.io.Serializable {
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (ProductTemplateMarketplaceInfo.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -174,7 +190,7 @@ public class ProductTemplateMarketplaceInfo  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -186,7 +202,7 @@ public class ProductTemplateMarketplaceInfo  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
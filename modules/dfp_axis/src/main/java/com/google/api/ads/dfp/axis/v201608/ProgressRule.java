@@ -165,76 +165,81 @@ public class ProgressRule  implements java.io.Serializable {
         this.isExternal = isExternal;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof ProgressRule)) return false;
         ProgressRule other = (ProgressRule) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(ProgressRule.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = true && 
-            ((this.actions==null && other.getActions()==null) || 
-             (this.actions!=null &&
-              java.util.Arrays.equals(this.actions, other.getActions()))) &&
-            ((this.name==null && other.getName()==null) || 
-             (this.name!=null &&
-              this.name.equals(other.getName()))) &&
-            ((this.evaluationStatus==null && other.getEvaluationStatus()==null) || 
-             (this.evaluationStatus!=null &&
-              this.evaluationStatus.equals(other.getEvaluationStatus()))) &&
-            ((this.evaluationTime==null && other.getEvaluationTime()==null) || 
-             (this.evaluationTime!=null &&
-              this.evaluationTime.equals(other.getEvaluationTime()))) &&
-            ((this.isExternal==null && other.getIsExternal()==null) || 
-             (this.isExternal!=null &&
-              this.isExternal.equals(other.getIsExternal())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = true && 
+                ((this.actions==null && other.getActions()==null) || 
+                 (this.actions!=null &&
+                  java.util.Arrays.equals(this.actions, other.getActions()))) &&
+                ((this.name==null && other.getName()==null) || 
+                 (this.name!=null &&
+                  this.name.equals(other.getName()))) &&
+                ((this.evaluationStatus==null && other.getEvaluationStatus()==null) || 
+                 (this.evaluationStatus!=null &&
+                  this.evaluationStatus.equals(other.getEvaluationStatus()))) &&
+                ((this.evaluationTime==null && other.getEvaluationTime()==null) || 
+                 (this.evaluationTime!=null &&
+                  this.evaluationTime.equals(other.getEvaluationTime()))) &&
+                ((this.isExternal==null && other.getIsExternal()==null) || 
+                 (this.isExternal!=null &&
+                  this.isExternal.equals(other.getIsExternal())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(ProgressRule.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getActions() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getActions());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getActions(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+        try {
+            int _hashCode = 1;
+            if (getActions() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getActions());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getActions(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
+            if (getName() != null) {
+                _hashCode += getName().hashCode();
+            }
+            if (getEvaluationStatus() != null) {
+                _hashCode += getEvaluationStatus().hashCode();
+            }
+            if (getEvaluationTime() != null) {
+                _hashCode += getEvaluationTime().hashCode();
+            }
+            if (getIsExternal() != null) {
+                _hashCode += getIsExternal().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        if (getName() != null) {
-            _hashCode += getName().hashCode();
-        }
-        if (getEvaluationStatus() != null) {
-            _hashCode += getEvaluationStatus().hashCode();
-        }
-        if (getEvaluationTime() != null) {
-            _hashCode += getEvaluationTime().hashCode();
-        }
-        if (getIsExternal() != null) {
-            _hashCode += getIsExternal().hashCode();
-        }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(ProgressRule.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(ProgressRule.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://www.google.com/apis/ads/publisher/v201608", "ProgressRule"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("actions");
@@ -272,13 +277,24 @@ public class ProgressRule  implements java.io.Serializable {
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (ProgressRule.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -290,7 +306,7 @@ public class ProgressRule  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -302,7 +318,7 @@ public class ProgressRule  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
@@ -208,68 +208,73 @@ public class ProposalMarketplaceInfo  implements java.io.Serializable {
         this.buyerAccountId = buyerAccountId;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof ProposalMarketplaceInfo)) return false;
         ProposalMarketplaceInfo other = (ProposalMarketplaceInfo) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(ProposalMarketplaceInfo.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = true && 
-            ((this.hasLocalVersionEdits==null && other.getHasLocalVersionEdits()==null) || 
-             (this.hasLocalVersionEdits!=null &&
-              this.hasLocalVersionEdits.equals(other.getHasLocalVersionEdits()))) &&
-            ((this.negotiationStatus==null && other.getNegotiationStatus()==null) || 
-             (this.negotiationStatus!=null &&
-              this.negotiationStatus.equals(other.getNegotiationStatus()))) &&
-            ((this.marketplaceComment==null && other.getMarketplaceComment()==null) || 
-             (this.marketplaceComment!=null &&
-              this.marketplaceComment.equals(other.getMarketplaceComment()))) &&
-            ((this.isNewVersionFromBuyer==null && other.getIsNewVersionFromBuyer()==null) || 
-             (this.isNewVersionFromBuyer!=null &&
-              this.isNewVersionFromBuyer.equals(other.getIsNewVersionFromBuyer()))) &&
-            ((this.buyerAccountId==null && other.getBuyerAccountId()==null) || 
-             (this.buyerAccountId!=null &&
-              this.buyerAccountId.equals(other.getBuyerAccountId())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = true && 
+                ((this.hasLocalVersionEdits==null && other.getHasLocalVersionEdits()==null) || 
+                 (this.hasLocalVersionEdits!=null &&
+                  this.hasLocalVersionEdits.equals(other.getHasLocalVersionEdits()))) &&
+                ((this.negotiationStatus==null && other.getNegotiationStatus()==null) || 
+                 (this.negotiationStatus!=null &&
+                  this.negotiationStatus.equals(other.getNegotiationStatus()))) &&
+                ((this.marketplaceComment==null && other.getMarketplaceComment()==null) || 
+                 (this.marketplaceComment!=null &&
+                  this.marketplaceComment.equals(other.getMarketplaceComment()))) &&
+                ((this.isNewVersionFromBuyer==null && other.getIsNewVersionFromBuyer()==null) || 
+                 (this.isNewVersionFromBuyer!=null &&
+                  this.isNewVersionFromBuyer.equals(other.getIsNewVersionFromBuyer()))) &&
+                ((this.buyerAccountId==null && other.getBuyerAccountId()==null) || 
+                 (this.buyerAccountId!=null &&
+                  this.buyerAccountId.equals(other.getBuyerAccountId())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(ProposalMarketplaceInfo.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getHasLocalVersionEdits() != null) {
-            _hashCode += getHasLocalVersionEdits().hashCode();
-        }
-        if (getNegotiationStatus() != null) {
-            _hashCode += getNegotiationStatus().hashCode();
-        }
-        if (getMarketplaceComment() != null) {
-            _hashCode += getMarketplaceComment().hashCode();
-        }
-        if (getIsNewVersionFromBuyer() != null) {
-            _hashCode += getIsNewVersionFromBuyer().hashCode();
+        try {
+            int _hashCode = 1;
+            if (getHasLocalVersionEdits() != null) {
+                _hashCode += getHasLocalVersionEdits().hashCode();
+            }
+            if (getNegotiationStatus() != null) {
+                _hashCode += getNegotiationStatus().hashCode();
+            }
+            if (getMarketplaceComment() != null) {
+                _hashCode += getMarketplaceComment().hashCode();
+            }
+            if (getIsNewVersionFromBuyer() != null) {
+                _hashCode += getIsNewVersionFromBuyer().hashCode();
+            }
+            if (getBuyerAccountId() != null) {
+                _hashCode += getBuyerAccountId().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        if (getBuyerAccountId() != null) {
-            _hashCode += getBuyerAccountId().hashCode();
-        }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(ProposalMarketplaceInfo.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(ProposalMarketplaceInfo.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://www.google.com/apis/ads/publisher/v201608", "ProposalMarketplaceInfo"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("hasLocalVersionEdits");
@@ -306,13 +311,24 @@ public class ProposalMarketplaceInfo  implements java.io.Serializable {
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (ProposalMarketplaceInfo.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -324,7 +340,7 @@ public class ProposalMarketplaceInfo  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -336,7 +352,7 @@ public class ProposalMarketplaceInfo  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
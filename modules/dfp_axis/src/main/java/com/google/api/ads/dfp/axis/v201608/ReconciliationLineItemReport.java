@@ -981,164 +981,169 @@ public class ReconciliationLineItemReport  implements java.io.Serializable {
         this.billableRevenueOverrides = billableRevenueOverrides;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof ReconciliationLineItemReport)) return false;
         ReconciliationLineItemReport other = (ReconciliationLineItemReport) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(ReconciliationLineItemReport.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = true && 
-            ((this.id==null && other.getId()==null) || 
-             (this.id!=null &&
-              this.id.equals(other.getId()))) &&
-            ((this.reconciliationReportId==null && other.getReconciliationReportId()==null) || 
-             (this.reconciliationReportId!=null &&
-              this.reconciliationReportId.equals(other.getReconciliationReportId()))) &&
-            ((this.orderId==null && other.getOrderId()==null) || 
-             (this.orderId!=null &&
-              this.orderId.equals(other.getOrderId()))) &&
-            ((this.proposalId==null && other.getProposalId()==null) || 
-             (this.proposalId!=null &&
-              this.proposalId.equals(other.getProposalId()))) &&
-            ((this.lineItemId==null && other.getLineItemId()==null) || 
-             (this.lineItemId!=null &&
-              this.lineItemId.equals(other.getLineItemId()))) &&
-            ((this.proposalLineItemId==null && other.getProposalLineItemId()==null) || 
-             (this.proposalLineItemId!=null &&
-              this.proposalLineItemId.equals(other.getProposalLineItemId()))) &&
-            ((this.rateType==null && other.getRateType()==null) || 
-             (this.rateType!=null &&
-              this.rateType.equals(other.getRateType()))) &&
-            ((this.netRate==null && other.getNetRate()==null) || 
-             (this.netRate!=null &&
-              this.netRate.equals(other.getNetRate()))) &&
-            ((this.grossRate==null && other.getGrossRate()==null) || 
-             (this.grossRate!=null &&
-              this.grossRate.equals(other.getGrossRate()))) &&
-            ((this.pricingModel==null && other.getPricingModel()==null) || 
-             (this.pricingModel!=null &&
-              this.pricingModel.equals(other.getPricingModel()))) &&
-            ((this.dfpVolume==null && other.getDfpVolume()==null) || 
-             (this.dfpVolume!=null &&
-              this.dfpVolume.equals(other.getDfpVolume()))) &&
-            ((this.thirdPartyVolume==null && other.getThirdPartyVolume()==null) || 
-             (this.thirdPartyVolume!=null &&
-              this.thirdPartyVolume.equals(other.getThirdPartyVolume()))) &&
-            ((this.manualVolume==null && other.getManualVolume()==null) || 
-             (this.manualVolume!=null &&
-              this.manualVolume.equals(other.getManualVolume()))) &&
-            ((this.reconciliationSource==null && other.getReconciliationSource()==null) || 
-             (this.reconciliationSource!=null &&
-              this.reconciliationSource.equals(other.getReconciliationSource()))) &&
-            ((this.reconciledVolume==null && other.getReconciledVolume()==null) || 
-             (this.reconciledVolume!=null &&
-              this.reconciledVolume.equals(other.getReconciledVolume()))) &&
-            ((this.capVolume==null && other.getCapVolume()==null) || 
-             (this.capVolume!=null &&
-              this.capVolume.equals(other.getCapVolume()))) &&
-            ((this.rolloverVolume==null && other.getRolloverVolume()==null) || 
-             (this.rolloverVolume!=null &&
-              this.rolloverVolume.equals(other.getRolloverVolume()))) &&
-            ((this.billableVolume==null && other.getBillableVolume()==null) || 
-             (this.billableVolume!=null &&
-              this.billableVolume.equals(other.getBillableVolume()))) &&
-            ((this.netBillableRevenue==null && other.getNetBillableRevenue()==null) || 
-             (this.netBillableRevenue!=null &&
-              this.netBillableRevenue.equals(other.getNetBillableRevenue()))) &&
-            ((this.grossBillableRevenue==null && other.getGrossBillableRevenue()==null) || 
-             (this.grossBillableRevenue!=null &&
-              this.grossBillableRevenue.equals(other.getGrossBillableRevenue()))) &&
-            ((this.billableRevenueOverrides==null && other.getBillableRevenueOverrides()==null) || 
-             (this.billableRevenueOverrides!=null &&
-              this.billableRevenueOverrides.equals(other.getBillableRevenueOverrides())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = true && 
+                ((this.id==null && other.getId()==null) || 
+                 (this.id!=null &&
+                  this.id.equals(other.getId()))) &&
+                ((this.reconciliationReportId==null && other.getReconciliationReportId()==null) || 
+                 (this.reconciliationReportId!=null &&
+                  this.reconciliationReportId.equals(other.getReconciliationReportId()))) &&
+                ((this.orderId==null && other.getOrderId()==null) || 
+                 (this.orderId!=null &&
+                  this.orderId.equals(other.getOrderId()))) &&
+                ((this.proposalId==null && other.getProposalId()==null) || 
+                 (this.proposalId!=null &&
+                  this.proposalId.equals(other.getProposalId()))) &&
+                ((this.lineItemId==null && other.getLineItemId()==null) || 
+                 (this.lineItemId!=null &&
+                  this.lineItemId.equals(other.getLineItemId()))) &&
+                ((this.proposalLineItemId==null && other.getProposalLineItemId()==null) || 
+                 (this.proposalLineItemId!=null &&
+                  this.proposalLineItemId.equals(other.getProposalLineItemId()))) &&
+                ((this.rateType==null && other.getRateType()==null) || 
+                 (this.rateType!=null &&
+                  this.rateType.equals(other.getRateType()))) &&
+                ((this.netRate==null && other.getNetRate()==null) || 
+                 (this.netRate!=null &&
+                  this.netRate.equals(other.getNetRate()))) &&
+                ((this.grossRate==null && other.getGrossRate()==null) || 
+                 (this.grossRate!=null &&
+                  this.grossRate.equals(other.getGrossRate()))) &&
+                ((this.pricingModel==null && other.getPricingModel()==null) || 
+                 (this.pricingModel!=null &&
+                  this.pricingModel.equals(other.getPricingModel()))) &&
+                ((this.dfpVolume==null && other.getDfpVolume()==null) || 
+                 (this.dfpVolume!=null &&
+                  this.dfpVolume.equals(other.getDfpVolume()))) &&
+                ((this.thirdPartyVolume==null && other.getThirdPartyVolume()==null) || 
+                 (this.thirdPartyVolume!=null &&
+                  this.thirdPartyVolume.equals(other.getThirdPartyVolume()))) &&
+                ((this.manualVolume==null && other.getManualVolume()==null) || 
+                 (this.manualVolume!=null &&
+                  this.manualVolume.equals(other.getManualVolume()))) &&
+                ((this.reconciliationSource==null && other.getReconciliationSource()==null) || 
+                 (this.reconciliationSource!=null &&
+                  this.reconciliationSource.equals(other.getReconciliationSource()))) &&
+                ((this.reconciledVolume==null && other.getReconciledVolume()==null) || 
+                 (this.reconciledVolume!=null &&
+                  this.reconciledVolume.equals(other.getReconciledVolume()))) &&
+                ((this.capVolume==null && other.getCapVolume()==null) || 
+                 (this.capVolume!=null &&
+                  this.capVolume.equals(other.getCapVolume()))) &&
+                ((this.rolloverVolume==null && other.getRolloverVolume()==null) || 
+                 (this.rolloverVolume!=null &&
+                  this.rolloverVolume.equals(other.getRolloverVolume()))) &&
+                ((this.billableVolume==null && other.getBillableVolume()==null) || 
+                 (this.billableVolume!=null &&
+                  this.billableVolume.equals(other.getBillableVolume()))) &&
+                ((this.netBillableRevenue==null && other.getNetBillableRevenue()==null) || 
+                 (this.netBillableRevenue!=null &&
+                  this.netBillableRevenue.equals(other.getNetBillableRevenue()))) &&
+                ((this.grossBillableRevenue==null && other.getGrossBillableRevenue()==null) || 
+                 (this.grossBillableRevenue!=null &&
+                  this.grossBillableRevenue.equals(other.getGrossBillableRevenue()))) &&
+                ((this.billableRevenueOverrides==null && other.getBillableRevenueOverrides()==null) || 
+                 (this.billableRevenueOverrides!=null &&
+                  this.billableRevenueOverrides.equals(other.getBillableRevenueOverrides())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(ReconciliationLineItemReport.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getId() != null) {
-            _hashCode += getId().hashCode();
-        }
-        if (getReconciliationReportId() != null) {
-            _hashCode += getReconciliationReportId().hashCode();
-        }
-        if (getOrderId() != null) {
-            _hashCode += getOrderId().hashCode();
-        }
-        if (getProposalId() != null) {
-            _hashCode += getProposalId().hashCode();
-        }
-        if (getLineItemId() != null) {
-            _hashCode += getLineItemId().hashCode();
-        }
-        if (getProposalLineItemId() != null) {
-            _hashCode += getProposalLineItemId().hashCode();
-        }
-        if (getRateType() != null) {
-            _hashCode += getRateType().hashCode();
-        }
-        if (getNetRate() != null) {
-            _hashCode += getNetRate().hashCode();
-        }
-        if (getGrossRate() != null) {
-            _hashCode += getGrossRate().hashCode();
-        }
-        if (getPricingModel() != null) {
-            _hashCode += getPricingModel().hashCode();
-        }
-        if (getDfpVolume() != null) {
-            _hashCode += getDfpVolume().hashCode();
-        }
-        if (getThirdPartyVolume() != null) {
-            _hashCode += getThirdPartyVolume().hashCode();
+        try {
+            int _hashCode = 1;
+            if (getId() != null) {
+                _hashCode += getId().hashCode();
+            }
+            if (getReconciliationReportId() != null) {
+                _hashCode += getReconciliationReportId().hashCode();
+            }
+            if (getOrderId() != null) {
+                _hashCode += getOrderId().hashCode();
+            }
+            if (getProposalId() != null) {
+                _hashCode += getProposalId().hashCode();
+            }
+            if (getLineItemId() != null) {
+                _hashCode += getLineItemId().hashCode();
+            }
+            if (getProposalLineItemId() != null) {
+                _hashCode += getProposalLineItemId().hashCode();
+            }
+            if (getRateType() != null) {
+                _hashCode += getRateType().hashCode();
+            }
+            if (getNetRate() != null) {
+                _hashCode += getNetRate().hashCode();
+            }
+            if (getGrossRate() != null) {
+                _hashCode += getGrossRate().hashCode();
+            }
+            if (getPricingModel() != null) {
+                _hashCode += getPricingModel().hashCode();
+            }
+            if (getDfpVolume() != null) {
+                _hashCode += getDfpVolume().hashCode();
+            }
+            if (getThirdPartyVolume() != null) {
+                _hashCode += getThirdPartyVolume().hashCode();
+            }
+            if (getManualVolume() != null) {
+                _hashCode += getManualVolume().hashCode();
+            }
+            if (getReconciliationSource() != null) {
+                _hashCode += getReconciliationSource().hashCode();
+            }
+            if (getReconciledVolume() != null) {
+                _hashCode += getReconciledVolume().hashCode();
+            }
+            if (getCapVolume() != null) {
+                _hashCode += getCapVolume().hashCode();
+            }
+            if (getRolloverVolume() != null) {
+                _hashCode += getRolloverVolume().hashCode();
+            }
+            if (getBillableVolume() != null) {
+                _hashCode += getBillableVolume().hashCode();
+            }
+            if (getNetBillableRevenue() != null) {
+                _hashCode += getNetBillableRevenue().hashCode();
+            }
+            if (getGrossBillableRevenue() != null) {
+                _hashCode += getGrossBillableRevenue().hashCode();
+            }
+            if (getBillableRevenueOverrides() != null) {
+                _hashCode += getBillableRevenueOverrides().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        if (getManualVolume() != null) {
-            _hashCode += getManualVolume().hashCode();
-        }
-        if (getReconciliationSource() != null) {
-            _hashCode += getReconciliationSource().hashCode();
-        }
-        if (getReconciledVolume() != null) {
-            _hashCode += getReconciledVolume().hashCode();
-        }
-        if (getCapVolume() != null) {
-            _hashCode += getCapVolume().hashCode();
-        }
-        if (getRolloverVolume() != null) {
-            _hashCode += getRolloverVolume().hashCode();
-        }
-        if (getBillableVolume() != null) {
-            _hashCode += getBillableVolume().hashCode();
-        }
-        if (getNetBillableRevenue() != null) {
-            _hashCode += getNetBillableRevenue().hashCode();
-        }
-        if (getGrossBillableRevenue() != null) {
-            _hashCode += getGrossBillableRevenue().hashCode();
-        }
-        if (getBillableRevenueOverrides() != null) {
-            _hashCode += getBillableRevenueOverrides().hashCode();
-        }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(ReconciliationLineItemReport.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(ReconciliationLineItemReport.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://www.google.com/apis/ads/publisher/v201608", "ReconciliationLineItemReport"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("id");
@@ -1287,13 +1292,24 @@ public class ReconciliationLineItemReport  implements java.io.Serializable {
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (ReconciliationLineItemReport.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -1305,7 +1321,7 @@ public class ReconciliationLineItemReport  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -1317,7 +1333,7 @@ public class ReconciliationLineItemReport  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
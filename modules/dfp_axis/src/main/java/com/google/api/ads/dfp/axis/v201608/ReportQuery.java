@@ -763,144 +763,149 @@ public class ReportQuery  implements java.io.Serializable {
         this.useSalesLocalTimeZone = useSalesLocalTimeZone;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof ReportQuery)) return false;
         ReportQuery other = (ReportQuery) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(ReportQuery.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = true && 
-            ((this.dimensions==null && other.getDimensions()==null) || 
-             (this.dimensions!=null &&
-              java.util.Arrays.equals(this.dimensions, other.getDimensions()))) &&
-            ((this.adUnitView==null && other.getAdUnitView()==null) || 
-             (this.adUnitView!=null &&
-              this.adUnitView.equals(other.getAdUnitView()))) &&
-            ((this.columns==null && other.getColumns()==null) || 
-             (this.columns!=null &&
-              java.util.Arrays.equals(this.columns, other.getColumns()))) &&
-            ((this.dimensionAttributes==null && other.getDimensionAttributes()==null) || 
-             (this.dimensionAttributes!=null &&
-              java.util.Arrays.equals(this.dimensionAttributes, other.getDimensionAttributes()))) &&
-            ((this.customFieldIds==null && other.getCustomFieldIds()==null) || 
-             (this.customFieldIds!=null &&
-              java.util.Arrays.equals(this.customFieldIds, other.getCustomFieldIds()))) &&
-            ((this.contentMetadataKeyHierarchyCustomTargetingKeyIds==null && other.getContentMetadataKeyHierarchyCustomTargetingKeyIds()==null) || 
-             (this.contentMetadataKeyHierarchyCustomTargetingKeyIds!=null &&
-              java.util.Arrays.equals(this.contentMetadataKeyHierarchyCustomTargetingKeyIds, other.getContentMetadataKeyHierarchyCustomTargetingKeyIds()))) &&
-            ((this.startDate==null && other.getStartDate()==null) || 
-             (this.startDate!=null &&
-              this.startDate.equals(other.getStartDate()))) &&
-            ((this.endDate==null && other.getEndDate()==null) || 
-             (this.endDate!=null &&
-              this.endDate.equals(other.getEndDate()))) &&
-            ((this.dateRangeType==null && other.getDateRangeType()==null) || 
-             (this.dateRangeType!=null &&
-              this.dateRangeType.equals(other.getDateRangeType()))) &&
-            ((this.statement==null && other.getStatement()==null) || 
-             (this.statement!=null &&
-              this.statement.equals(other.getStatement()))) &&
-            ((this.useSalesLocalTimeZone==null && other.getUseSalesLocalTimeZone()==null) || 
-             (this.useSalesLocalTimeZone!=null &&
-              this.useSalesLocalTimeZone.equals(other.getUseSalesLocalTimeZone())));
-        __equalsCalc = null;
-        return _equals;
-    }
-
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+        try {
+            boolean _equals;
+            _equals = true && 
+                ((this.dimensions==null && other.getDimensions()==null) || 
+                 (this.dimensions!=null &&
+                  java.util.Arrays.equals(this.dimensions, other.getDimensions()))) &&
+                ((this.adUnitView==null && other.getAdUnitView()==null) || 
+                 (this.adUnitView!=null &&
+                  this.adUnitView.equals(other.getAdUnitView()))) &&
+                ((this.columns==null && other.getColumns()==null) || 
+                 (this.columns!=null &&
+                  java.util.Arrays.equals(this.columns, other.getColumns()))) &&
+                ((this.dimensionAttributes==null && other.getDimensionAttributes()==null) || 
+                 (this.dimensionAttributes!=null &&
+                  java.util.Arrays.equals(this.dimensionAttributes, other.getDimensionAttributes()))) &&
+                ((this.customFieldIds==null && other.getCustomFieldIds()==null) || 
+                 (this.customFieldIds!=null &&
+                  java.util.Arrays.equals(this.customFieldIds, other.getCustomFieldIds()))) &&
+                ((this.contentMetadataKeyHierarchyCustomTargetingKeyIds==null && other.getContentMetadataKeyHierarchyCustomTargetingKeyIds()==null) || 
+                 (this.contentMetadataKeyHierarchyCustomTargetingKeyIds!=null &&
+                  java.util.Arrays.equals(this.contentMetadataKeyHierarchyCustomTargetingKeyIds, other.getContentMetadataKeyHierarchyCustomTargetingKeyIds()))) &&
+                ((this.startDate==null && other.getStartDate()==null) || 
+                 (this.startDate!=null &&
+                  this.startDate.equals(other.getStartDate()))) &&
+                ((this.endDate==null && other.getEndDate()==null) || 
+                 (this.endDate!=null &&
+                  this.endDate.equals(other.getEndDate()))) &&
+                ((this.dateRangeType==null && other.getDateRangeType()==null) || 
+                 (this.dateRangeType!=null &&
+                  this.dateRangeType.equals(other.getDateRangeType()))) &&
+                ((this.statement==null && other.getStatement()==null) || 
+                 (this.statement!=null &&
+                  this.statement.equals(other.getStatement()))) &&
+                ((this.useSalesLocalTimeZone==null && other.getUseSalesLocalTimeZone()==null) || 
+                 (this.useSalesLocalTimeZone!=null &&
+                  this.useSalesLocalTimeZone.equals(other.getUseSalesLocalTimeZone())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
+    }
+
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(ReportQuery.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getDimensions() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getDimensions());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getDimensions(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+        try {
+            int _hashCode = 1;
+            if (getDimensions() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getDimensions());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getDimensions(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
-        }
-        if (getAdUnitView() != null) {
-            _hashCode += getAdUnitView().hashCode();
-        }
-        if (getColumns() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getColumns());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getColumns(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+            if (getAdUnitView() != null) {
+                _hashCode += getAdUnitView().hashCode();
+            }
+            if (getColumns() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getColumns());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getColumns(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
-        }
-        if (getDimensionAttributes() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getDimensionAttributes());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getDimensionAttributes(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+            if (getDimensionAttributes() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getDimensionAttributes());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getDimensionAttributes(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
-        }
-        if (getCustomFieldIds() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getCustomFieldIds());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getCustomFieldIds(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+            if (getCustomFieldIds() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getCustomFieldIds());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getCustomFieldIds(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
-        }
-        if (getContentMetadataKeyHierarchyCustomTargetingKeyIds() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getContentMetadataKeyHierarchyCustomTargetingKeyIds());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getContentMetadataKeyHierarchyCustomTargetingKeyIds(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+            if (getContentMetadataKeyHierarchyCustomTargetingKeyIds() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getContentMetadataKeyHierarchyCustomTargetingKeyIds());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getContentMetadataKeyHierarchyCustomTargetingKeyIds(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
+            if (getStartDate() != null) {
+                _hashCode += getStartDate().hashCode();
+            }
+            if (getEndDate() != null) {
+                _hashCode += getEndDate().hashCode();
+            }
+            if (getDateRangeType() != null) {
+                _hashCode += getDateRangeType().hashCode();
+            }
+            if (getStatement() != null) {
+                _hashCode += getStatement().hashCode();
+            }
+            if (getUseSalesLocalTimeZone() != null) {
+                _hashCode += getUseSalesLocalTimeZone().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        if (getStartDate() != null) {
-            _hashCode += getStartDate().hashCode();
-        }
-        if (getEndDate() != null) {
-            _hashCode += getEndDate().hashCode();
-        }
-        if (getDateRangeType() != null) {
-            _hashCode += getDateRangeType().hashCode();
-        }
-        if (getStatement() != null) {
-            _hashCode += getStatement().hashCode();
-        }
-        if (getUseSalesLocalTimeZone() != null) {
-            _hashCode += getUseSalesLocalTimeZone().hashCode();
-        }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(ReportQuery.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(ReportQuery.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://www.google.com/apis/ads/publisher/v201608", "ReportQuery"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("dimensions");
@@ -984,13 +989,24 @@ public class ReportQuery  implements java.io.Serializable {
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (ReportQuery.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -1002,7 +1018,7 @@ public class ReportQuery  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -1014,7 +1030,7 @@ public class ReportQuery  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
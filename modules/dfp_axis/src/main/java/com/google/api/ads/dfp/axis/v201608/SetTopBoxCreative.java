@@ -233,76 +233,81 @@ public class SetTopBoxCreative  extends com.google.api.ads.dfp.axis.v201608.Base
         this.licenseWindowEndDateTime = licenseWindowEndDateTime;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof SetTopBoxCreative)) return false;
         SetTopBoxCreative other = (SetTopBoxCreative) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(SetTopBoxCreative.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = super.equals(obj) && 
-            ((this.externalAssetId==null && other.getExternalAssetId()==null) || 
-             (this.externalAssetId!=null &&
-              this.externalAssetId.equals(other.getExternalAssetId()))) &&
-            ((this.providerId==null && other.getProviderId()==null) || 
-             (this.providerId!=null &&
-              this.providerId.equals(other.getProviderId()))) &&
-            ((this.availabilityRegionIds==null && other.getAvailabilityRegionIds()==null) || 
-             (this.availabilityRegionIds!=null &&
-              java.util.Arrays.equals(this.availabilityRegionIds, other.getAvailabilityRegionIds()))) &&
-            ((this.licenseWindowStartDateTime==null && other.getLicenseWindowStartDateTime()==null) || 
-             (this.licenseWindowStartDateTime!=null &&
-              this.licenseWindowStartDateTime.equals(other.getLicenseWindowStartDateTime()))) &&
-            ((this.licenseWindowEndDateTime==null && other.getLicenseWindowEndDateTime()==null) || 
-             (this.licenseWindowEndDateTime!=null &&
-              this.licenseWindowEndDateTime.equals(other.getLicenseWindowEndDateTime())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = super.equals(obj) && 
+                ((this.externalAssetId==null && other.getExternalAssetId()==null) || 
+                 (this.externalAssetId!=null &&
+                  this.externalAssetId.equals(other.getExternalAssetId()))) &&
+                ((this.providerId==null && other.getProviderId()==null) || 
+                 (this.providerId!=null &&
+                  this.providerId.equals(other.getProviderId()))) &&
+                ((this.availabilityRegionIds==null && other.getAvailabilityRegionIds()==null) || 
+                 (this.availabilityRegionIds!=null &&
+                  java.util.Arrays.equals(this.availabilityRegionIds, other.getAvailabilityRegionIds()))) &&
+                ((this.licenseWindowStartDateTime==null && other.getLicenseWindowStartDateTime()==null) || 
+                 (this.licenseWindowStartDateTime!=null &&
+                  this.licenseWindowStartDateTime.equals(other.getLicenseWindowStartDateTime()))) &&
+                ((this.licenseWindowEndDateTime==null && other.getLicenseWindowEndDateTime()==null) || 
+                 (this.licenseWindowEndDateTime!=null &&
+                  this.licenseWindowEndDateTime.equals(other.getLicenseWindowEndDateTime())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(SetTopBoxCreative.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = super.hashCode();
-        if (getExternalAssetId() != null) {
-            _hashCode += getExternalAssetId().hashCode();
-        }
-        if (getProviderId() != null) {
-            _hashCode += getProviderId().hashCode();
-        }
-        if (getAvailabilityRegionIds() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getAvailabilityRegionIds());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getAvailabilityRegionIds(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+        try {
+            int _hashCode = super.hashCode();
+            if (getExternalAssetId() != null) {
+                _hashCode += getExternalAssetId().hashCode();
+            }
+            if (getProviderId() != null) {
+                _hashCode += getProviderId().hashCode();
+            }
+            if (getAvailabilityRegionIds() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getAvailabilityRegionIds());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getAvailabilityRegionIds(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
+            if (getLicenseWindowStartDateTime() != null) {
+                _hashCode += getLicenseWindowStartDateTime().hashCode();
+            }
+            if (getLicenseWindowEndDateTime() != null) {
+                _hashCode += getLicenseWindowEndDateTime().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        if (getLicenseWindowStartDateTime() != null) {
-            _hashCode += getLicenseWindowStartDateTime().hashCode();
-        }
-        if (getLicenseWindowEndDateTime() != null) {
-            _hashCode += getLicenseWindowEndDateTime().hashCode();
-        }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(SetTopBoxCreative.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(SetTopBoxCreative.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://www.google.com/apis/ads/publisher/v201608", "SetTopBoxCreative"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("externalAssetId");
@@ -340,13 +345,24 @@ public class SetTopBoxCreative  extends com.google.api.ads.dfp.axis.v201608.Base
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (SetTopBoxCreative.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -358,7 +374,7 @@ public class SetTopBoxCreative  extends com.google.api.ads.dfp.axis.v201608.Base
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -370,7 +386,7 @@ public class SetTopBoxCreative  extends com.google.api.ads.dfp.axis.v201608.Base
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
@@ -144,56 +144,61 @@ public class SiteTargetingInfo  implements java.io.Serializable {
         this.targetingAdLocation = targetingAdLocation;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof SiteTargetingInfo)) return false;
         SiteTargetingInfo other = (SiteTargetingInfo) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(SiteTargetingInfo.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = true && 
-            ((this.targetingDescription==null && other.getTargetingDescription()==null) || 
-             (this.targetingDescription!=null &&
-              this.targetingDescription.equals(other.getTargetingDescription()))) &&
-            ((this.targetingSiteName==null && other.getTargetingSiteName()==null) || 
-             (this.targetingSiteName!=null &&
-              this.targetingSiteName.equals(other.getTargetingSiteName()))) &&
-            ((this.targetingAdLocation==null && other.getTargetingAdLocation()==null) || 
-             (this.targetingAdLocation!=null &&
-              this.targetingAdLocation.equals(other.getTargetingAdLocation())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = true && 
+                ((this.targetingDescription==null && other.getTargetingDescription()==null) || 
+                 (this.targetingDescription!=null &&
+                  this.targetingDescription.equals(other.getTargetingDescription()))) &&
+                ((this.targetingSiteName==null && other.getTargetingSiteName()==null) || 
+                 (this.targetingSiteName!=null &&
+                  this.targetingSiteName.equals(other.getTargetingSiteName()))) &&
+                ((this.targetingAdLocation==null && other.getTargetingAdLocation()==null) || 
+                 (this.targetingAdLocation!=null &&
+                  this.targetingAdLocation.equals(other.getTargetingAdLocation())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(SiteTargetingInfo.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getTargetingDescription() != null) {
-            _hashCode += getTargetingDescription().hashCode();
-        }
-        if (getTargetingSiteName() != null) {
-            _hashCode += getTargetingSiteName().hashCode();
-        }
-        if (getTargetingAdLocation() != null) {
-            _hashCode += getTargetingAdLocation().hashCode();
+        try {
+            int _hashCode = 1;
+            if (getTargetingDescription() != null) {
+                _hashCode += getTargetingDescription().hashCode();
+            }
+            if (getTargetingSiteName() != null) {
+                _hashCode += getTargetingSiteName().hashCode();
+            }
+            if (getTargetingAdLocation() != null) {
+                _hashCode += getTargetingAdLocation().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(SiteTargetingInfo.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(SiteTargetingInfo.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://www.google.com/apis/ads/publisher/v201608", "SiteTargetingInfo"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("targetingDescription");
@@ -216,13 +221,24 @@ public class SiteTargetingInfo  implements java.io.Serializable {
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (SiteTargetingInfo.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -234,7 +250,7 @@ public class SiteTargetingInfo  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -246,7 +262,7 @@ public class SiteTargetingInfo  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
@@ -159,68 +159,73 @@ public class Stats  implements java.io.Serializable {
         this.viewableImpressionsDelivered = viewableImpressionsDelivered;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof Stats)) return false;
         Stats other = (Stats) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(Stats.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = true && 
-            ((this.impressionsDelivered==null && other.getImpressionsDelivered()==null) || 
-             (this.impressionsDelivered!=null &&
-              this.impressionsDelivered.equals(other.getImpressionsDelivered()))) &&
-            ((this.clicksDelivered==null && other.getClicksDelivered()==null) || 
-             (this.clicksDelivered!=null &&
-              this.clicksDelivered.equals(other.getClicksDelivered()))) &&
-            ((this.videoCompletionsDelivered==null && other.getVideoCompletionsDelivered()==null) || 
-             (this.videoCompletionsDelivered!=null &&
-              this.videoCompletionsDelivered.equals(other.getVideoCompletionsDelivered()))) &&
-            ((this.videoStartsDelivered==null && other.getVideoStartsDelivered()==null) || 
-             (this.videoStartsDelivered!=null &&
-              this.videoStartsDelivered.equals(other.getVideoStartsDelivered()))) &&
-            ((this.viewableImpressionsDelivered==null && other.getViewableImpressionsDelivered()==null) || 
-             (this.viewableImpressionsDelivered!=null &&
-              this.viewableImpressionsDelivered.equals(other.getViewableImpressionsDelivered())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = true && 
+                ((this.impressionsDelivered==null && other.getImpressionsDelivered()==null) || 
+                 (this.impressionsDelivered!=null &&
+                  this.impressionsDelivered.equals(other.getImpressionsDelivered()))) &&
+                ((this.clicksDelivered==null && other.getClicksDelivered()==null) || 
+                 (this.clicksDelivered!=null &&
+                  this.clicksDelivered.equals(other.getClicksDelivered()))) &&
+                ((this.videoCompletionsDelivered==null && other.getVideoCompletionsDelivered()==null) || 
+                 (this.videoCompletionsDelivered!=null &&
+                  this.videoCompletionsDelivered.equals(other.getVideoCompletionsDelivered()))) &&
+                ((this.videoStartsDelivered==null && other.getVideoStartsDelivered()==null) || 
+                 (this.videoStartsDelivered!=null &&
+                  this.videoStartsDelivered.equals(other.getVideoStartsDelivered()))) &&
+                ((this.viewableImpressionsDelivered==null && other.getViewableImpressionsDelivered()==null) || 
+                 (this.viewableImpressionsDelivered!=null &&
+                  this.viewableImpressionsDelivered.equals(other.getViewableImpressionsDelivered())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(Stats.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getImpressionsDelivered() != null) {
-            _hashCode += getImpressionsDelivered().hashCode();
-        }
-        if (getClicksDelivered() != null) {
-            _hashCode += getClicksDelivered().hashCode();
-        }
-        if (getVideoCompletionsDelivered() != null) {
-            _hashCode += getVideoCompletionsDelivered().hashCode();
-        }
-        if (getVideoStartsDelivered() != null) {
-            _hashCode += getVideoStartsDelivered().hashCode();
+        try {
+            int _hashCode = 1;
+            if (getImpressionsDelivered() != null) {
+                _hashCode += getImpressionsDelivered().hashCode();
+            }
+            if (getClicksDelivered() != null) {
+                _hashCode += getClicksDelivered().hashCode();
+            }
+            if (getVideoCompletionsDelivered() != null) {
+                _hashCode += getVideoCompletionsDelivered().hashCode();
+            }
+            if (getVideoStartsDelivered() != null) {
+                _hashCode += getVideoStartsDelivered().hashCode();
+            }
+            if (getViewableImpressionsDelivered() != null) {
+                _hashCode += getViewableImpressionsDelivered().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        if (getViewableImpressionsDelivered() != null) {
-            _hashCode += getViewableImpressionsDelivered().hashCode();
-        }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(Stats.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(Stats.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://www.google.com/apis/ads/publisher/v201608", "Stats"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("impressionsDelivered");
@@ -257,13 +262,24 @@ public class Stats  implements java.io.Serializable {
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (Stats.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -275,7 +291,7 @@ public class Stats  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -287,7 +303,7 @@ public class Stats  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
@@ -392,86 +392,91 @@ public class Targeting  implements java.io.Serializable {
         this.videoPositionTargeting = videoPositionTargeting;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof Targeting)) return false;
         Targeting other = (Targeting) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(Targeting.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = true && 
-            ((this.geoTargeting==null && other.getGeoTargeting()==null) || 
-             (this.geoTargeting!=null &&
-              this.geoTargeting.equals(other.getGeoTargeting()))) &&
-            ((this.inventoryTargeting==null && other.getInventoryTargeting()==null) || 
-             (this.inventoryTargeting!=null &&
-              this.inventoryTargeting.equals(other.getInventoryTargeting()))) &&
-            ((this.dayPartTargeting==null && other.getDayPartTargeting()==null) || 
-             (this.dayPartTargeting!=null &&
-              this.dayPartTargeting.equals(other.getDayPartTargeting()))) &&
-            ((this.technologyTargeting==null && other.getTechnologyTargeting()==null) || 
-             (this.technologyTargeting!=null &&
-              this.technologyTargeting.equals(other.getTechnologyTargeting()))) &&
-            ((this.customTargeting==null && other.getCustomTargeting()==null) || 
-             (this.customTargeting!=null &&
-              this.customTargeting.equals(other.getCustomTargeting()))) &&
-            ((this.userDomainTargeting==null && other.getUserDomainTargeting()==null) || 
-             (this.userDomainTargeting!=null &&
-              this.userDomainTargeting.equals(other.getUserDomainTargeting()))) &&
-            ((this.contentTargeting==null && other.getContentTargeting()==null) || 
-             (this.contentTargeting!=null &&
-              this.contentTargeting.equals(other.getContentTargeting()))) &&
-            ((this.videoPositionTargeting==null && other.getVideoPositionTargeting()==null) || 
-             (this.videoPositionTargeting!=null &&
-              this.videoPositionTargeting.equals(other.getVideoPositionTargeting())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = true && 
+                ((this.geoTargeting==null && other.getGeoTargeting()==null) || 
+                 (this.geoTargeting!=null &&
+                  this.geoTargeting.equals(other.getGeoTargeting()))) &&
+                ((this.inventoryTargeting==null && other.getInventoryTargeting()==null) || 
+                 (this.inventoryTargeting!=null &&
+                  this.inventoryTargeting.equals(other.getInventoryTargeting()))) &&
+                ((this.dayPartTargeting==null && other.getDayPartTargeting()==null) || 
+                 (this.dayPartTargeting!=null &&
+                  this.dayPartTargeting.equals(other.getDayPartTargeting()))) &&
+                ((this.technologyTargeting==null && other.getTechnologyTargeting()==null) || 
+                 (this.technologyTargeting!=null &&
+                  this.technologyTargeting.equals(other.getTechnologyTargeting()))) &&
+                ((this.customTargeting==null && other.getCustomTargeting()==null) || 
+                 (this.customTargeting!=null &&
+                  this.customTargeting.equals(other.getCustomTargeting()))) &&
+                ((this.userDomainTargeting==null && other.getUserDomainTargeting()==null) || 
+                 (this.userDomainTargeting!=null &&
+                  this.userDomainTargeting.equals(other.getUserDomainTargeting()))) &&
+                ((this.contentTargeting==null && other.getContentTargeting()==null) || 
+                 (this.contentTargeting!=null &&
+                  this.contentTargeting.equals(other.getContentTargeting()))) &&
+                ((this.videoPositionTargeting==null && other.getVideoPositionTargeting()==null) || 
+                 (this.videoPositionTargeting!=null &&
+                  this.videoPositionTargeting.equals(other.getVideoPositionTargeting())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(Targeting.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getGeoTargeting() != null) {
-            _hashCode += getGeoTargeting().hashCode();
-        }
-        if (getInventoryTargeting() != null) {
-            _hashCode += getInventoryTargeting().hashCode();
-        }
-        if (getDayPartTargeting() != null) {
-            _hashCode += getDayPartTargeting().hashCode();
-        }
-        if (getTechnologyTargeting() != null) {
-            _hashCode += getTechnologyTargeting().hashCode();
-        }
-        if (getCustomTargeting() != null) {
-            _hashCode += getCustomTargeting().hashCode();
-        }
-        if (getUserDomainTargeting() != null) {
-            _hashCode += getUserDomainTargeting().hashCode();
+        try {
+            int _hashCode = 1;
+            if (getGeoTargeting() != null) {
+                _hashCode += getGeoTargeting().hashCode();
+            }
+            if (getInventoryTargeting() != null) {
+                _hashCode += getInventoryTargeting().hashCode();
+            }
+            if (getDayPartTargeting() != null) {
+                _hashCode += getDayPartTargeting().hashCode();
+            }
+            if (getTechnologyTargeting() != null) {
+                _hashCode += getTechnologyTargeting().hashCode();
+            }
+            if (getCustomTargeting() != null) {
+                _hashCode += getCustomTargeting().hashCode();
+            }
+            if (getUserDomainTargeting() != null) {
+                _hashCode += getUserDomainTargeting().hashCode();
+            }
+            if (getContentTargeting() != null) {
+                _hashCode += getContentTargeting().hashCode();
+            }
+            if (getVideoPositionTargeting() != null) {
+                _hashCode += getVideoPositionTargeting().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        if (getContentTargeting() != null) {
-            _hashCode += getContentTargeting().hashCode();
-        }
-        if (getVideoPositionTargeting() != null) {
-            _hashCode += getVideoPositionTargeting().hashCode();
-        }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(Targeting.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(Targeting.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://www.google.com/apis/ads/publisher/v201608", "Targeting"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("geoTargeting");
@@ -529,13 +534,24 @@ public class Targeting  implements java.io.Serializable {
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (Targeting.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -547,7 +563,7 @@ public class Targeting  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -559,7 +575,7 @@ public class Targeting  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
@@ -131,56 +131,61 @@ public class VideoPositionTarget  implements java.io.Serializable {
         this.videoPositionWithinPod = videoPositionWithinPod;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof VideoPositionTarget)) return false;
         VideoPositionTarget other = (VideoPositionTarget) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(VideoPositionTarget.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = true && 
-            ((this.videoPosition==null && other.getVideoPosition()==null) || 
-             (this.videoPosition!=null &&
-              this.videoPosition.equals(other.getVideoPosition()))) &&
-            ((this.videoBumperType==null && other.getVideoBumperType()==null) || 
-             (this.videoBumperType!=null &&
-              this.videoBumperType.equals(other.getVideoBumperType()))) &&
-            ((this.videoPositionWithinPod==null && other.getVideoPositionWithinPod()==null) || 
-             (this.videoPositionWithinPod!=null &&
-              this.videoPositionWithinPod.equals(other.getVideoPositionWithinPod())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = true && 
+                ((this.videoPosition==null && other.getVideoPosition()==null) || 
+                 (this.videoPosition!=null &&
+                  this.videoPosition.equals(other.getVideoPosition()))) &&
+                ((this.videoBumperType==null && other.getVideoBumperType()==null) || 
+                 (this.videoBumperType!=null &&
+                  this.videoBumperType.equals(other.getVideoBumperType()))) &&
+                ((this.videoPositionWithinPod==null && other.getVideoPositionWithinPod()==null) || 
+                 (this.videoPositionWithinPod!=null &&
+                  this.videoPositionWithinPod.equals(other.getVideoPositionWithinPod())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(VideoPositionTarget.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getVideoPosition() != null) {
-            _hashCode += getVideoPosition().hashCode();
-        }
-        if (getVideoBumperType() != null) {
-            _hashCode += getVideoBumperType().hashCode();
-        }
-        if (getVideoPositionWithinPod() != null) {
-            _hashCode += getVideoPositionWithinPod().hashCode();
+        try {
+            int _hashCode = 1;
+            if (getVideoPosition() != null) {
+                _hashCode += getVideoPosition().hashCode();
+            }
+            if (getVideoBumperType() != null) {
+                _hashCode += getVideoBumperType().hashCode();
+            }
+            if (getVideoPositionWithinPod() != null) {
+                _hashCode += getVideoPositionWithinPod().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(VideoPositionTarget.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(VideoPositionTarget.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://www.google.com/apis/ads/publisher/v201608", "VideoPositionTarget"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("videoPosition");
@@ -203,13 +208,24 @@ public class VideoPositionTarget  implements java.io.Serializable {
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (VideoPositionTarget.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -221,7 +237,7 @@ public class VideoPositionTarget  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -233,7 +249,7 @@ public class VideoPositionTarget  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
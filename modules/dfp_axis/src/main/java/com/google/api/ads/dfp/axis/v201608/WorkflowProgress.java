@@ -193,82 +193,87 @@ public class WorkflowProgress  implements java.io.Serializable {
         this.isProcessing = isProcessing;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof WorkflowProgress)) return false;
         WorkflowProgress other = (WorkflowProgress) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(WorkflowProgress.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = true && 
-            ((this.steps==null && other.getSteps()==null) || 
-             (this.steps!=null &&
-              java.util.Arrays.equals(this.steps, other.getSteps()))) &&
-            ((this.submitterId==null && other.getSubmitterId()==null) || 
-             (this.submitterId!=null &&
-              this.submitterId.equals(other.getSubmitterId()))) &&
-            ((this.evaluationStatus==null && other.getEvaluationStatus()==null) || 
-             (this.evaluationStatus!=null &&
-              this.evaluationStatus.equals(other.getEvaluationStatus()))) &&
-            ((this.submissionTime==null && other.getSubmissionTime()==null) || 
-             (this.submissionTime!=null &&
-              this.submissionTime.equals(other.getSubmissionTime()))) &&
-            ((this.evaluationTime==null && other.getEvaluationTime()==null) || 
-             (this.evaluationTime!=null &&
-              this.evaluationTime.equals(other.getEvaluationTime()))) &&
-            ((this.isProcessing==null && other.getIsProcessing()==null) || 
-             (this.isProcessing!=null &&
-              this.isProcessing.equals(other.getIsProcessing())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = true && 
+                ((this.steps==null && other.getSteps()==null) || 
+                 (this.steps!=null &&
+                  java.util.Arrays.equals(this.steps, other.getSteps()))) &&
+                ((this.submitterId==null && other.getSubmitterId()==null) || 
+                 (this.submitterId!=null &&
+                  this.submitterId.equals(other.getSubmitterId()))) &&
+                ((this.evaluationStatus==null && other.getEvaluationStatus()==null) || 
+                 (this.evaluationStatus!=null &&
+                  this.evaluationStatus.equals(other.getEvaluationStatus()))) &&
+                ((this.submissionTime==null && other.getSubmissionTime()==null) || 
+                 (this.submissionTime!=null &&
+                  this.submissionTime.equals(other.getSubmissionTime()))) &&
+                ((this.evaluationTime==null && other.getEvaluationTime()==null) || 
+                 (this.evaluationTime!=null &&
+                  this.evaluationTime.equals(other.getEvaluationTime()))) &&
+                ((this.isProcessing==null && other.getIsProcessing()==null) || 
+                 (this.isProcessing!=null &&
+                  this.isProcessing.equals(other.getIsProcessing())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(WorkflowProgress.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getSteps() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getSteps());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getSteps(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+        try {
+            int _hashCode = 1;
+            if (getSteps() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getSteps());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getSteps(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
+            if (getSubmitterId() != null) {
+                _hashCode += getSubmitterId().hashCode();
+            }
+            if (getEvaluationStatus() != null) {
+                _hashCode += getEvaluationStatus().hashCode();
+            }
+            if (getSubmissionTime() != null) {
+                _hashCode += getSubmissionTime().hashCode();
+            }
+            if (getEvaluationTime() != null) {
+                _hashCode += getEvaluationTime().hashCode();
+            }
+            if (getIsProcessing() != null) {
+                _hashCode += getIsProcessing().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        if (getSubmitterId() != null) {
-            _hashCode += getSubmitterId().hashCode();
-        }
-        if (getEvaluationStatus() != null) {
-            _hashCode += getEvaluationStatus().hashCode();
-        }
-        if (getSubmissionTime() != null) {
-            _hashCode += getSubmissionTime().hashCode();
-        }
-        if (getEvaluationTime() != null) {
-            _hashCode += getEvaluationTime().hashCode();
-        }
-        if (getIsProcessing() != null) {
-            _hashCode += getIsProcessing().hashCode();
-        }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(WorkflowProgress.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(WorkflowProgress.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://www.google.com/apis/ads/publisher/v201608", "WorkflowProgress"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("steps");
@@ -313,13 +318,24 @@ public class WorkflowProgress  implements java.io.Serializable {
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (WorkflowProgress.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -331,7 +347,7 @@ public class WorkflowProgress  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -343,7 +359,7 @@ public class WorkflowProgress  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
@@ -369,112 +369,117 @@ public class AudienceSegment  implements java.io.Serializable {
         this.type = type;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof AudienceSegment)) return false;
         AudienceSegment other = (AudienceSegment) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(AudienceSegment.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = true && 
-            ((this.id==null && other.getId()==null) || 
-             (this.id!=null &&
-              this.id.equals(other.getId()))) &&
-            ((this.name==null && other.getName()==null) || 
-             (this.name!=null &&
-              this.name.equals(other.getName()))) &&
-            ((this.categoryIds==null && other.getCategoryIds()==null) || 
-             (this.categoryIds!=null &&
-              java.util.Arrays.equals(this.categoryIds, other.getCategoryIds()))) &&
-            ((this.description==null && other.getDescription()==null) || 
-             (this.description!=null &&
-              this.description.equals(other.getDescription()))) &&
-            ((this.status==null && other.getStatus()==null) || 
-             (this.status!=null &&
-              this.status.equals(other.getStatus()))) &&
-            ((this.size==null && other.getSize()==null) || 
-             (this.size!=null &&
-              this.size.equals(other.getSize()))) &&
-            ((this.mobileWebSize==null && other.getMobileWebSize()==null) || 
-             (this.mobileWebSize!=null &&
-              this.mobileWebSize.equals(other.getMobileWebSize()))) &&
-            ((this.idfaSize==null && other.getIdfaSize()==null) || 
-             (this.idfaSize!=null &&
-              this.idfaSize.equals(other.getIdfaSize()))) &&
-            ((this.adIdSize==null && other.getAdIdSize()==null) || 
-             (this.adIdSize!=null &&
-              this.adIdSize.equals(other.getAdIdSize()))) &&
-            ((this.dataProvider==null && other.getDataProvider()==null) || 
-             (this.dataProvider!=null &&
-              this.dataProvider.equals(other.getDataProvider()))) &&
-            ((this.type==null && other.getType()==null) || 
-             (this.type!=null &&
-              this.type.equals(other.getType())));
-        __equalsCalc = null;
-        return _equals;
-    }
-
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
-            return 0;
-        }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getId() != null) {
-            _hashCode += getId().hashCode();
+        try {
+            boolean _equals;
+            _equals = true && 
+                ((this.id==null && other.getId()==null) || 
+                 (this.id!=null &&
+                  this.id.equals(other.getId()))) &&
+                ((this.name==null && other.getName()==null) || 
+                 (this.name!=null &&
+                  this.name.equals(other.getName()))) &&
+                ((this.categoryIds==null && other.getCategoryIds()==null) || 
+                 (this.categoryIds!=null &&
+                  java.util.Arrays.equals(this.categoryIds, other.getCategoryIds()))) &&
+                ((this.description==null && other.getDescription()==null) || 
+                 (this.description!=null &&
+                  this.description.equals(other.getDescription()))) &&
+                ((this.status==null && other.getStatus()==null) || 
+                 (this.status!=null &&
+                  this.status.equals(other.getStatus()))) &&
+                ((this.size==null && other.getSize()==null) || 
+                 (this.size!=null &&
+                  this.size.equals(other.getSize()))) &&
+                ((this.mobileWebSize==null && other.getMobileWebSize()==null) || 
+                 (this.mobileWebSize!=null &&
+                  this.mobileWebSize.equals(other.getMobileWebSize()))) &&
+                ((this.idfaSize==null && other.getIdfaSize()==null) || 
+                 (this.idfaSize!=null &&
+                  this.idfaSize.equals(other.getIdfaSize()))) &&
+                ((this.adIdSize==null && other.getAdIdSize()==null) || 
+                 (this.adIdSize!=null &&
+                  this.adIdSize.equals(other.getAdIdSize()))) &&
+                ((this.dataProvider==null && other.getDataProvider()==null) || 
+                 (this.dataProvider!=null &&
+                  this.dataProvider.equals(other.getDataProvider()))) &&
+                ((this.type==null && other.getType()==null) || 
+                 (this.type!=null &&
+                  this.type.equals(other.getType())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
         }
-        if (getName() != null) {
-            _hashCode += getName().hashCode();
+    }
+
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(AudienceSegment.class, this)) {
+            return 0;
         }
-        if (getCategoryIds() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getCategoryIds());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getCategoryIds(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+        try {
+            int _hashCode = 1;
+            if (getId() != null) {
+                _hashCode += getId().hashCode();
+            }
+            if (getName() != null) {
+                _hashCode += getName().hashCode();
+            }
+            if (getCategoryIds() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getCategoryIds());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getCategoryIds(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
+            if (getDescription() != null) {
+                _hashCode += getDescription().hashCode();
+            }
+            if (getStatus() != null) {
+                _hashCode += getStatus().hashCode();
+            }
+            if (getSize() != null) {
+                _hashCode += getSize().hashCode();
+            }
+            if (getMobileWebSize() != null) {
+                _hashCode += getMobileWebSize().hashCode();
+            }
+            if (getIdfaSize() != null) {
+                _hashCode += getIdfaSize().hashCode();
+            }
+            if (getAdIdSize() != null) {
+                _hashCode += getAdIdSize().hashCode();
+            }
+            if (getDataProvider() != null) {
+                _hashCode += getDataProvider().hashCode();
+            }
+            if (getType() != null) {
+                _hashCode += getType().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        if (getDescription() != null) {
-            _hashCode += getDescription().hashCode();
-        }
-        if (getStatus() != null) {
-            _hashCode += getStatus().hashCode();
-        }
-        if (getSize() != null) {
-            _hashCode += getSize().hashCode();
-        }
-        if (getMobileWebSize() != null) {
-            _hashCode += getMobileWebSize().hashCode();
-        }
-        if (getIdfaSize() != null) {
-            _hashCode += getIdfaSize().hashCode();
-        }
-        if (getAdIdSize() != null) {
-            _hashCode += getAdIdSize().hashCode();
-        }
-        if (getDataProvider() != null) {
-            _hashCode += getDataProvider().hashCode();
-        }
-        if (getType() != null) {
-            _hashCode += getType().hashCode();
-        }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(AudienceSegment.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(AudienceSegment.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://www.google.com/apis/ads/publisher/v201611", "AudienceSegment"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("id");
@@ -554,13 +559,24 @@ public class AudienceSegment  implements java.io.Serializable {
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (AudienceSegment.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -572,7 +588,7 @@ public class AudienceSegment  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -584,7 +600,7 @@ public class AudienceSegment  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
@@ -99,58 +99,63 @@ public class CustomCriteriaSet  extends com.google.api.ads.dfp.axis.v201611.Cust
         this.children[i] = _value;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof CustomCriteriaSet)) return false;
         CustomCriteriaSet other = (CustomCriteriaSet) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(CustomCriteriaSet.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = super.equals(obj) && 
-            ((this.logicalOperator==null && other.getLogicalOperator()==null) || 
-             (this.logicalOperator!=null &&
-              this.logicalOperator.equals(other.getLogicalOperator()))) &&
-            ((this.children==null && other.getChildren()==null) || 
-             (this.children!=null &&
-              java.util.Arrays.equals(this.children, other.getChildren())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = super.equals(obj) && 
+                ((this.logicalOperator==null && other.getLogicalOperator()==null) || 
+                 (this.logicalOperator!=null &&
+                  this.logicalOperator.equals(other.getLogicalOperator()))) &&
+                ((this.children==null && other.getChildren()==null) || 
+                 (this.children!=null &&
+                  java.util.Arrays.equals(this.children, other.getChildren())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(CustomCriteriaSet.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = super.hashCode();
-        if (getLogicalOperator() != null) {
-            _hashCode += getLogicalOperator().hashCode();
-        }
-        if (getChildren() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getChildren());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getChildren(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+        try {
+            int _hashCode = super.hashCode();
+            if (getLogicalOperator() != null) {
+                _hashCode += getLogicalOperator().hashCode();
+            }
+            if (getChildren() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getChildren());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getChildren(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(CustomCriteriaSet.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(CustomCriteriaSet.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://www.google.com/apis/ads/publisher/v201611", "CustomCriteriaSet"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("logicalOperator");
@@ -167,13 +172,24 @@ public class CustomCriteriaSet  extends com.google.api.ads.dfp.axis.v201611.Cust
         elemField.setNillable(false);
         elemField.setMaxOccursUnbounded(true);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (CustomCriteriaSet.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -185,7 +201,7 @@ public class CustomCriteriaSet  extends com.google.api.ads.dfp.axis.v201611.Cust
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -197,7 +213,7 @@ public class CustomCriteriaSet  extends com.google.api.ads.dfp.axis.v201611.Cust
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
@@ -197,68 +197,73 @@ public class GrpSettings  implements java.io.Serializable {
         this.targetImpressionGoal = targetImpressionGoal;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof GrpSettings)) return false;
         GrpSettings other = (GrpSettings) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(GrpSettings.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = true && 
-            ((this.minTargetAge==null && other.getMinTargetAge()==null) || 
-             (this.minTargetAge!=null &&
-              this.minTargetAge.equals(other.getMinTargetAge()))) &&
-            ((this.maxTargetAge==null && other.getMaxTargetAge()==null) || 
-             (this.maxTargetAge!=null &&
-              this.maxTargetAge.equals(other.getMaxTargetAge()))) &&
-            ((this.targetGender==null && other.getTargetGender()==null) || 
-             (this.targetGender!=null &&
-              this.targetGender.equals(other.getTargetGender()))) &&
-            ((this.provider==null && other.getProvider()==null) || 
-             (this.provider!=null &&
-              this.provider.equals(other.getProvider()))) &&
-            ((this.targetImpressionGoal==null && other.getTargetImpressionGoal()==null) || 
-             (this.targetImpressionGoal!=null &&
-              this.targetImpressionGoal.equals(other.getTargetImpressionGoal())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = true && 
+                ((this.minTargetAge==null && other.getMinTargetAge()==null) || 
+                 (this.minTargetAge!=null &&
+                  this.minTargetAge.equals(other.getMinTargetAge()))) &&
+                ((this.maxTargetAge==null && other.getMaxTargetAge()==null) || 
+                 (this.maxTargetAge!=null &&
+                  this.maxTargetAge.equals(other.getMaxTargetAge()))) &&
+                ((this.targetGender==null && other.getTargetGender()==null) || 
+                 (this.targetGender!=null &&
+                  this.targetGender.equals(other.getTargetGender()))) &&
+                ((this.provider==null && other.getProvider()==null) || 
+                 (this.provider!=null &&
+                  this.provider.equals(other.getProvider()))) &&
+                ((this.targetImpressionGoal==null && other.getTargetImpressionGoal()==null) || 
+                 (this.targetImpressionGoal!=null &&
+                  this.targetImpressionGoal.equals(other.getTargetImpressionGoal())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(GrpSettings.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getMinTargetAge() != null) {
-            _hashCode += getMinTargetAge().hashCode();
-        }
-        if (getMaxTargetAge() != null) {
-            _hashCode += getMaxTargetAge().hashCode();
-        }
-        if (getTargetGender() != null) {
-            _hashCode += getTargetGender().hashCode();
-        }
-        if (getProvider() != null) {
-            _hashCode += getProvider().hashCode();
+        try {
+            int _hashCode = 1;
+            if (getMinTargetAge() != null) {
+                _hashCode += getMinTargetAge().hashCode();
+            }
+            if (getMaxTargetAge() != null) {
+                _hashCode += getMaxTargetAge().hashCode();
+            }
+            if (getTargetGender() != null) {
+                _hashCode += getTargetGender().hashCode();
+            }
+            if (getProvider() != null) {
+                _hashCode += getProvider().hashCode();
+            }
+            if (getTargetImpressionGoal() != null) {
+                _hashCode += getTargetImpressionGoal().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        if (getTargetImpressionGoal() != null) {
-            _hashCode += getTargetImpressionGoal().hashCode();
-        }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(GrpSettings.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(GrpSettings.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://www.google.com/apis/ads/publisher/v201611", "GrpSettings"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("minTargetAge");
@@ -295,13 +300,24 @@ public class GrpSettings  implements java.io.Serializable {
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (GrpSettings.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -313,7 +329,7 @@ public class GrpSettings  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -325,7 +341,7 @@ public class GrpSettings  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
@@ -140,56 +140,61 @@ public class LineItemActivityAssociation  implements java.io.Serializable {
         this.viewThroughConversionCost = viewThroughConversionCost;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof LineItemActivityAssociation)) return false;
         LineItemActivityAssociation other = (LineItemActivityAssociation) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(LineItemActivityAssociation.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = true && 
-            ((this.activityId==null && other.getActivityId()==null) || 
-             (this.activityId!=null &&
-              this.activityId.equals(other.getActivityId()))) &&
-            ((this.clickThroughConversionCost==null && other.getClickThroughConversionCost()==null) || 
-             (this.clickThroughConversionCost!=null &&
-              this.clickThroughConversionCost.equals(other.getClickThroughConversionCost()))) &&
-            ((this.viewThroughConversionCost==null && other.getViewThroughConversionCost()==null) || 
-             (this.viewThroughConversionCost!=null &&
-              this.viewThroughConversionCost.equals(other.getViewThroughConversionCost())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = true && 
+                ((this.activityId==null && other.getActivityId()==null) || 
+                 (this.activityId!=null &&
+                  this.activityId.equals(other.getActivityId()))) &&
+                ((this.clickThroughConversionCost==null && other.getClickThroughConversionCost()==null) || 
+                 (this.clickThroughConversionCost!=null &&
+                  this.clickThroughConversionCost.equals(other.getClickThroughConversionCost()))) &&
+                ((this.viewThroughConversionCost==null && other.getViewThroughConversionCost()==null) || 
+                 (this.viewThroughConversionCost!=null &&
+                  this.viewThroughConversionCost.equals(other.getViewThroughConversionCost())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(LineItemActivityAssociation.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getActivityId() != null) {
-            _hashCode += getActivityId().hashCode();
-        }
-        if (getClickThroughConversionCost() != null) {
-            _hashCode += getClickThroughConversionCost().hashCode();
-        }
-        if (getViewThroughConversionCost() != null) {
-            _hashCode += getViewThroughConversionCost().hashCode();
+        try {
+            int _hashCode = 1;
+            if (getActivityId() != null) {
+                _hashCode += getActivityId().hashCode();
+            }
+            if (getClickThroughConversionCost() != null) {
+                _hashCode += getClickThroughConversionCost().hashCode();
+            }
+            if (getViewThroughConversionCost() != null) {
+                _hashCode += getViewThroughConversionCost().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(LineItemActivityAssociation.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(LineItemActivityAssociation.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://www.google.com/apis/ads/publisher/v201611", "LineItemActivityAssociation"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("activityId");
@@ -212,13 +217,24 @@ public class LineItemActivityAssociation  implements java.io.Serializable {
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (LineItemActivityAssociation.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -230,7 +246,7 @@ public class LineItemActivityAssociation  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -242,7 +258,7 @@ public class LineItemActivityAssociation  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
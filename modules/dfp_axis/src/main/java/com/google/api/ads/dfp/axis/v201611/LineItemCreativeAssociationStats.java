@@ -137,64 +137,69 @@ public class LineItemCreativeAssociationStats  implements java.io.Serializable {
         this.costInOrderCurrency = costInOrderCurrency;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof LineItemCreativeAssociationStats)) return false;
         LineItemCreativeAssociationStats other = (LineItemCreativeAssociationStats) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(LineItemCreativeAssociationStats.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = true && 
-            ((this.stats==null && other.getStats()==null) || 
-             (this.stats!=null &&
-              this.stats.equals(other.getStats()))) &&
-            ((this.creativeSetStats==null && other.getCreativeSetStats()==null) || 
-             (this.creativeSetStats!=null &&
-              java.util.Arrays.equals(this.creativeSetStats, other.getCreativeSetStats()))) &&
-            ((this.costInOrderCurrency==null && other.getCostInOrderCurrency()==null) || 
-             (this.costInOrderCurrency!=null &&
-              this.costInOrderCurrency.equals(other.getCostInOrderCurrency())));
-        __equalsCalc = null;
-        return _equals;
-    }
-
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
-            return 0;
+        try {
+            boolean _equals;
+            _equals = true && 
+                ((this.stats==null && other.getStats()==null) || 
+                 (this.stats!=null &&
+                  this.stats.equals(other.getStats()))) &&
+                ((this.creativeSetStats==null && other.getCreativeSetStats()==null) || 
+                 (this.creativeSetStats!=null &&
+                  java.util.Arrays.equals(this.creativeSetStats, other.getCreativeSetStats()))) &&
+                ((this.costInOrderCurrency==null && other.getCostInOrderCurrency()==null) || 
+                 (this.costInOrderCurrency!=null &&
+                  this.costInOrderCurrency.equals(other.getCostInOrderCurrency())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
         }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getStats() != null) {
-            _hashCode += getStats().hashCode();
+    }
+
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(LineItemCreativeAssociationStats.class, this)) {
+            return 0;
         }
-        if (getCreativeSetStats() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getCreativeSetStats());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getCreativeSetStats(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+        try {
+            int _hashCode = 1;
+            if (getStats() != null) {
+                _hashCode += getStats().hashCode();
+            }
+            if (getCreativeSetStats() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getCreativeSetStats());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getCreativeSetStats(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
+            if (getCostInOrderCurrency() != null) {
+                _hashCode += getCostInOrderCurrency().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        if (getCostInOrderCurrency() != null) {
-            _hashCode += getCostInOrderCurrency().hashCode();
-        }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(LineItemCreativeAssociationStats.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(LineItemCreativeAssociationStats.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://www.google.com/apis/ads/publisher/v201611", "LineItemCreativeAssociationStats"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("stats");
@@ -218,13 +223,24 @@ public class LineItemCreativeAssociationStats  implements java.io.Serializable {
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (LineItemCreativeAssociationStats.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -236,7 +252,7 @@ public class LineItemCreativeAssociationStats  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -248,7 +264,7 @@ public class LineItemCreativeAssociationStats  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
@@ -344,98 +344,103 @@ public class MobileApplication  implements java.io.Serializable {
         this.downloadUrl = downloadUrl;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof MobileApplication)) return false;
         MobileApplication other = (MobileApplication) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(MobileApplication.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = true && 
-            ((this.id==null && other.getId()==null) || 
-             (this.id!=null &&
-              this.id.equals(other.getId()))) &&
-            ((this.displayName==null && other.getDisplayName()==null) || 
-             (this.displayName!=null &&
-              this.displayName.equals(other.getDisplayName()))) &&
-            ((this.appStoreId==null && other.getAppStoreId()==null) || 
-             (this.appStoreId!=null &&
-              this.appStoreId.equals(other.getAppStoreId()))) &&
-            ((this.appStore==null && other.getAppStore()==null) || 
-             (this.appStore!=null &&
-              this.appStore.equals(other.getAppStore()))) &&
-            ((this.isArchived==null && other.getIsArchived()==null) || 
-             (this.isArchived!=null &&
-              this.isArchived.equals(other.getIsArchived()))) &&
-            ((this.appStoreName==null && other.getAppStoreName()==null) || 
-             (this.appStoreName!=null &&
-              this.appStoreName.equals(other.getAppStoreName()))) &&
-            ((this.developerName==null && other.getDeveloperName()==null) || 
-             (this.developerName!=null &&
-              this.developerName.equals(other.getDeveloperName()))) &&
-            ((this.platform==null && other.getPlatform()==null) || 
-             (this.platform!=null &&
-              this.platform.equals(other.getPlatform()))) &&
-            ((this.isFree==null && other.getIsFree()==null) || 
-             (this.isFree!=null &&
-              this.isFree.equals(other.getIsFree()))) &&
-            ((this.downloadUrl==null && other.getDownloadUrl()==null) || 
-             (this.downloadUrl!=null &&
-              this.downloadUrl.equals(other.getDownloadUrl())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = true && 
+                ((this.id==null && other.getId()==null) || 
+                 (this.id!=null &&
+                  this.id.equals(other.getId()))) &&
+                ((this.displayName==null && other.getDisplayName()==null) || 
+                 (this.displayName!=null &&
+                  this.displayName.equals(other.getDisplayName()))) &&
+                ((this.appStoreId==null && other.getAppStoreId()==null) || 
+                 (this.appStoreId!=null &&
+                  this.appStoreId.equals(other.getAppStoreId()))) &&
+                ((this.appStore==null && other.getAppStore()==null) || 
+                 (this.appStore!=null &&
+                  this.appStore.equals(other.getAppStore()))) &&
+                ((this.isArchived==null && other.getIsArchived()==null) || 
+                 (this.isArchived!=null &&
+                  this.isArchived.equals(other.getIsArchived()))) &&
+                ((this.appStoreName==null && other.getAppStoreName()==null) || 
+                 (this.appStoreName!=null &&
+                  this.appStoreName.equals(other.getAppStoreName()))) &&
+                ((this.developerName==null && other.getDeveloperName()==null) || 
+                 (this.developerName!=null &&
+                  this.developerName.equals(other.getDeveloperName()))) &&
+                ((this.platform==null && other.getPlatform()==null) || 
+                 (this.platform!=null &&
+                  this.platform.equals(other.getPlatform()))) &&
+                ((this.isFree==null && other.getIsFree()==null) || 
+                 (this.isFree!=null &&
+                  this.isFree.equals(other.getIsFree()))) &&
+                ((this.downloadUrl==null && other.getDownloadUrl()==null) || 
+                 (this.downloadUrl!=null &&
+                  this.downloadUrl.equals(other.getDownloadUrl())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(MobileApplication.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getId() != null) {
-            _hashCode += getId().hashCode();
-        }
-        if (getDisplayName() != null) {
-            _hashCode += getDisplayName().hashCode();
-        }
-        if (getAppStoreId() != null) {
-            _hashCode += getAppStoreId().hashCode();
-        }
-        if (getAppStore() != null) {
-            _hashCode += getAppStore().hashCode();
-        }
-        if (getIsArchived() != null) {
-            _hashCode += getIsArchived().hashCode();
-        }
-        if (getAppStoreName() != null) {
-            _hashCode += getAppStoreName().hashCode();
-        }
-        if (getDeveloperName() != null) {
-            _hashCode += getDeveloperName().hashCode();
+        try {
+            int _hashCode = 1;
+            if (getId() != null) {
+                _hashCode += getId().hashCode();
+            }
+            if (getDisplayName() != null) {
+                _hashCode += getDisplayName().hashCode();
+            }
+            if (getAppStoreId() != null) {
+                _hashCode += getAppStoreId().hashCode();
+            }
+            if (getAppStore() != null) {
+                _hashCode += getAppStore().hashCode();
+            }
+            if (getIsArchived() != null) {
+                _hashCode += getIsArchived().hashCode();
+            }
+            if (getAppStoreName() != null) {
+                _hashCode += getAppStoreName().hashCode();
+            }
+            if (getDeveloperName() != null) {
+                _hashCode += getDeveloperName().hashCode();
+            }
+            if (getPlatform() != null) {
+                _hashCode += getPlatform().hashCode();
+            }
+            if (getIsFree() != null) {
+                _hashCode += getIsFree().hashCode();
+            }
+            if (getDownloadUrl() != null) {
+                _hashCode += getDownloadUrl().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        if (getPlatform() != null) {
-            _hashCode += getPlatform().hashCode();
-        }
-        if (getIsFree() != null) {
-            _hashCode += getIsFree().hashCode();
-        }
-        if (getDownloadUrl() != null) {
-            _hashCode += getDownloadUrl().hashCode();
-        }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(MobileApplication.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(MobileApplication.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://www.google.com/apis/ads/publisher/v201611", "MobileApplication"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("id");
@@ -507,13 +512,24 @@ public class MobileApplication  implements java.io.Serializable {
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (MobileApplication.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -525,7 +541,7 @@ public class MobileApplication  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -537,7 +553,7 @@ public class MobileApplication  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
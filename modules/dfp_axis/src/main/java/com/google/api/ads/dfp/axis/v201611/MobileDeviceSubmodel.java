@@ -87,50 +87,55 @@ public class MobileDeviceSubmodel  extends com.google.api.ads.dfp.axis.v201611.T
         this.deviceManufacturerCriterionId = deviceManufacturerCriterionId;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof MobileDeviceSubmodel)) return false;
         MobileDeviceSubmodel other = (MobileDeviceSubmodel) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(MobileDeviceSubmodel.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = super.equals(obj) && 
-            ((this.mobileDeviceCriterionId==null && other.getMobileDeviceCriterionId()==null) || 
-             (this.mobileDeviceCriterionId!=null &&
-              this.mobileDeviceCriterionId.equals(other.getMobileDeviceCriterionId()))) &&
-            ((this.deviceManufacturerCriterionId==null && other.getDeviceManufacturerCriterionId()==null) || 
-             (this.deviceManufacturerCriterionId!=null &&
-              this.deviceManufacturerCriterionId.equals(other.getDeviceManufacturerCriterionId())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = super.equals(obj) && 
+                ((this.mobileDeviceCriterionId==null && other.getMobileDeviceCriterionId()==null) || 
+                 (this.mobileDeviceCriterionId!=null &&
+                  this.mobileDeviceCriterionId.equals(other.getMobileDeviceCriterionId()))) &&
+                ((this.deviceManufacturerCriterionId==null && other.getDeviceManufacturerCriterionId()==null) || 
+                 (this.deviceManufacturerCriterionId!=null &&
+                  this.deviceManufacturerCriterionId.equals(other.getDeviceManufacturerCriterionId())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(MobileDeviceSubmodel.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = super.hashCode();
-        if (getMobileDeviceCriterionId() != null) {
-            _hashCode += getMobileDeviceCriterionId().hashCode();
-        }
-        if (getDeviceManufacturerCriterionId() != null) {
-            _hashCode += getDeviceManufacturerCriterionId().hashCode();
+        try {
+            int _hashCode = super.hashCode();
+            if (getMobileDeviceCriterionId() != null) {
+                _hashCode += getMobileDeviceCriterionId().hashCode();
+            }
+            if (getDeviceManufacturerCriterionId() != null) {
+                _hashCode += getDeviceManufacturerCriterionId().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(MobileDeviceSubmodel.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(MobileDeviceSubmodel.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://www.google.com/apis/ads/publisher/v201611", "MobileDeviceSubmodel"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("mobileDeviceCriterionId");
@@ -146,13 +151,24 @@ public class MobileDeviceSubmodel  extends com.google.api.ads.dfp.axis.v201611.T
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (MobileDeviceSubmodel.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -164,7 +180,7 @@ public class MobileDeviceSubmodel  extends com.google.api.ads.dfp.axis.v201611.T
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -176,7 +192,7 @@ public class MobileDeviceSubmodel  extends com.google.api.ads.dfp.axis.v201611.T
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
@@ -184,84 +184,89 @@ public class RequestApprovalProgressAction  extends com.google.api.ads.dfp.axis.
         this.approvalStatus = approvalStatus;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof RequestApprovalProgressAction)) return false;
         RequestApprovalProgressAction other = (RequestApprovalProgressAction) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(RequestApprovalProgressAction.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = super.equals(obj) && 
-            ((this.approverId==null && other.getApproverId()==null) || 
-             (this.approverId!=null &&
-              this.approverId.equals(other.getApproverId()))) &&
-            ((this.eligibleApproverUserIds==null && other.getEligibleApproverUserIds()==null) || 
-             (this.eligibleApproverUserIds!=null &&
-              java.util.Arrays.equals(this.eligibleApproverUserIds, other.getEligibleApproverUserIds()))) &&
-            ((this.eligibleApproverTeamIds==null && other.getEligibleApproverTeamIds()==null) || 
-             (this.eligibleApproverTeamIds!=null &&
-              java.util.Arrays.equals(this.eligibleApproverTeamIds, other.getEligibleApproverTeamIds()))) &&
-            ((this.comment==null && other.getComment()==null) || 
-             (this.comment!=null &&
-              this.comment.equals(other.getComment()))) &&
-            ((this.approvalStatus==null && other.getApprovalStatus()==null) || 
-             (this.approvalStatus!=null &&
-              this.approvalStatus.equals(other.getApprovalStatus())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = super.equals(obj) && 
+                ((this.approverId==null && other.getApproverId()==null) || 
+                 (this.approverId!=null &&
+                  this.approverId.equals(other.getApproverId()))) &&
+                ((this.eligibleApproverUserIds==null && other.getEligibleApproverUserIds()==null) || 
+                 (this.eligibleApproverUserIds!=null &&
+                  java.util.Arrays.equals(this.eligibleApproverUserIds, other.getEligibleApproverUserIds()))) &&
+                ((this.eligibleApproverTeamIds==null && other.getEligibleApproverTeamIds()==null) || 
+                 (this.eligibleApproverTeamIds!=null &&
+                  java.util.Arrays.equals(this.eligibleApproverTeamIds, other.getEligibleApproverTeamIds()))) &&
+                ((this.comment==null && other.getComment()==null) || 
+                 (this.comment!=null &&
+                  this.comment.equals(other.getComment()))) &&
+                ((this.approvalStatus==null && other.getApprovalStatus()==null) || 
+                 (this.approvalStatus!=null &&
+                  this.approvalStatus.equals(other.getApprovalStatus())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(RequestApprovalProgressAction.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = super.hashCode();
-        if (getApproverId() != null) {
-            _hashCode += getApproverId().hashCode();
-        }
-        if (getEligibleApproverUserIds() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getEligibleApproverUserIds());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getEligibleApproverUserIds(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+        try {
+            int _hashCode = super.hashCode();
+            if (getApproverId() != null) {
+                _hashCode += getApproverId().hashCode();
+            }
+            if (getEligibleApproverUserIds() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getEligibleApproverUserIds());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getEligibleApproverUserIds(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
-        }
-        if (getEligibleApproverTeamIds() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getEligibleApproverTeamIds());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getEligibleApproverTeamIds(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+            if (getEligibleApproverTeamIds() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getEligibleApproverTeamIds());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getEligibleApproverTeamIds(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
+            if (getComment() != null) {
+                _hashCode += getComment().hashCode();
+            }
+            if (getApprovalStatus() != null) {
+                _hashCode += getApprovalStatus().hashCode();
+            }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        if (getComment() != null) {
-            _hashCode += getComment().hashCode();
-        }
-        if (getApprovalStatus() != null) {
-            _hashCode += getApprovalStatus().hashCode();
-        }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(RequestApprovalProgressAction.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(RequestApprovalProgressAction.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://www.google.com/apis/ads/publisher/v201611", "RequestApprovalProgressAction"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("approverId");
@@ -300,13 +305,24 @@ public class RequestApprovalProgressAction  extends com.google.api.ads.dfp.axis.
         elemField.setMinOccurs(0);
         elemField.setNillable(false);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (RequestApprovalProgressAction.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -318,7 +334,7 @@ public class RequestApprovalProgressAction  extends com.google.api.ads.dfp.axis.
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -330,7 +346,7 @@ public class RequestApprovalProgressAction  extends com.google.api.ads.dfp.axis.
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
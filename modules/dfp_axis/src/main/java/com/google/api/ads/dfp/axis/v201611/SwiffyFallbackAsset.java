@@ -135,72 +135,77 @@ public class SwiffyFallbackAsset  implements java.io.Serializable {
         this.localizedInfoMessages[i] = _value;
     }
 
-    private java.lang.Object __equalsCalc = null;
-    public synchronized boolean equals(java.lang.Object obj) {
+    public boolean equals(java.lang.Object obj) {
         if (!(obj instanceof SwiffyFallbackAsset)) return false;
         SwiffyFallbackAsset other = (SwiffyFallbackAsset) obj;
         if (obj == null) return false;
         if (this == obj) return true;
+        java.lang.Object __equalsCalc =
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterEquals(SwiffyFallbackAsset.class, this, obj);
         if (__equalsCalc != null) {
             return (__equalsCalc == obj);
         }
-        __equalsCalc = obj;
-        boolean _equals;
-        _equals = true && 
-            ((this.asset==null && other.getAsset()==null) || 
-             (this.asset!=null &&
-              this.asset.equals(other.getAsset()))) &&
-            ((this.html5Features==null && other.getHtml5Features()==null) || 
-             (this.html5Features!=null &&
-              java.util.Arrays.equals(this.html5Features, other.getHtml5Features()))) &&
-            ((this.localizedInfoMessages==null && other.getLocalizedInfoMessages()==null) || 
-             (this.localizedInfoMessages!=null &&
-              java.util.Arrays.equals(this.localizedInfoMessages, other.getLocalizedInfoMessages())));
-        __equalsCalc = null;
-        return _equals;
+        try {
+            boolean _equals;
+            _equals = true && 
+                ((this.asset==null && other.getAsset()==null) || 
+                 (this.asset!=null &&
+                  this.asset.equals(other.getAsset()))) &&
+                ((this.html5Features==null && other.getHtml5Features()==null) || 
+                 (this.html5Features!=null &&
+                  java.util.Arrays.equals(this.html5Features, other.getHtml5Features()))) &&
+                ((this.localizedInfoMessages==null && other.getLocalizedInfoMessages()==null) || 
+                 (this.localizedInfoMessages!=null &&
+                  java.util.Arrays.equals(this.localizedInfoMessages, other.getLocalizedInfoMessages())));
+            return _equals;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitEquals();
+        }
     }
 
-    private boolean __hashCodeCalc = false;
-    public synchronized int hashCode() {
-        if (__hashCodeCalc) {
+    public int hashCode() {
+        if (!com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.enterHashCode(SwiffyFallbackAsset.class, this)) {
             return 0;
         }
-        __hashCodeCalc = true;
-        int _hashCode = 1;
-        if (getAsset() != null) {
-            _hashCode += getAsset().hashCode();
-        }
-        if (getHtml5Features() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getHtml5Features());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getHtml5Features(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+        try {
+            int _hashCode = 1;
+            if (getAsset() != null) {
+                _hashCode += getAsset().hashCode();
+            }
+            if (getHtml5Features() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getHtml5Features());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getHtml5Features(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
-        }
-        if (getLocalizedInfoMessages() != null) {
-            for (int i=0;
-                 i<java.lang.reflect.Array.getLength(getLocalizedInfoMessages());
-                 i++) {
-                java.lang.Object obj = java.lang.reflect.Array.get(getLocalizedInfoMessages(), i);
-                if (obj != null &&
-                    !obj.getClass().isArray()) {
-                    _hashCode += obj.hashCode();
+            if (getLocalizedInfoMessages() != null) {
+                for (int i=0;
+                     i<java.lang.reflect.Array.getLength(getLocalizedInfoMessages());
+                     i++) {
+                    java.lang.Object obj = java.lang.reflect.Array.get(getLocalizedInfoMessages(), i);
+                    if (obj != null &&
+                        !obj.getClass().isArray()) {
+                        _hashCode += obj.hashCode();
+                    }
                 }
             }
+            return _hashCode;
+        } finally {
+            com.google.api.ads.common.lib.soap.axis.AxisBeanCycleGuard.exitHashCode();
         }
-        __hashCodeCalc = false;
-        return _hashCode;
     }
 
-    // Type metadata
-    private static org.apache.axis.description.TypeDesc typeDesc =
-        new org.apache.axis.description.TypeDesc(SwiffyFallbackAsset.class, true);
+    // Type metadata, created on first use by the (de)serializers
+    private static volatile org.apache.axis.description.TypeDesc typeDesc;
 
-    static {
+    private static org.apache.axis.description.TypeDesc createTypeDesc() {
+        org.apache.axis.description.TypeDesc typeDesc =
+            new org.apache.axis.description.TypeDesc(SwiffyFallbackAsset.class, true);
         typeDesc.setXmlType(new javax.xml.namespace.QName("https://www.google.com/apis/ads/publisher/v201611", "SwiffyFallbackAsset"));
         org.apache.axis.description.ElementDesc elemField = new org.apache.axis.description.ElementDesc();
         elemField.setFieldName("asset");
@@ -225,13 +230,24 @@ public class SwiffyFallbackAsset  implements java.io.Serializable {
         elemField.setNillable(false);
         elemField.setMaxOccursUnbounded(true);
         typeDesc.addFieldDesc(elemField);
+        return typeDesc;
     }
 
     /**
      * Return type metadata object
      */
     public static org.apache.axis.description.TypeDesc getTypeDesc() {
-        return typeDesc;
+        org.apache.axis.description.TypeDesc result = typeDesc;
+        if (result == null) {
+            synchronized (SwiffyFallbackAsset.class) {
+                result = typeDesc;
+                if (result == null) {
+                    result = createTypeDesc();
+                    typeDesc = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -243,7 +259,7 @@ public class SwiffyFallbackAsset  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanSerializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
     /**
@@ -255,7 +271,7 @@ public class SwiffyFallbackAsset  implements java.io.Serializable {
            javax.xml.namespace.QName _xmlType) {
         return 
           new  org.apache.axis.encoding.ser.BeanDeserializer(
-            _javaType, _xmlType, typeDesc);
+            _javaType, _xmlType, getTypeDesc());
     }
 
 }
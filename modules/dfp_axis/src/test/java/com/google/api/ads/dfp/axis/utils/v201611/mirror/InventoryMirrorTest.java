@@ -0,0 +1,340 @@
+// Copyright 2016 Google Inc. All Rights Reserved.
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.api.ads.dfp.axis.utils.v201611.mirror;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.api.ads.dfp.axis.utils.v201611.DateTimes;
+import com.google.api.ads.dfp.axis.v201611.AdUnit;
+import com.google.api.ads.dfp.axis.v201611.AdUnitPage;
+import com.google.api.ads.dfp.axis.v201611.CreativePage;
+import com.google.api.ads.dfp.axis.v201611.CreativeServiceInterface;
+import com.google.api.ads.dfp.axis.v201611.DateTimeValue;
+import com.google.api.ads.dfp.axis.v201611.InventoryServiceInterface;
+import com.google.api.ads.dfp.axis.v201611.LineItem;
+import com.google.api.ads.dfp.axis.v201611.LineItemPage;
+import com.google.api.ads.dfp.axis.v201611.LineItemServiceInterface;
+import com.google.api.ads.dfp.axis.v201611.Network;
+import com.google.api.ads.dfp.axis.v201611.NetworkServiceInterface;
+import com.google.api.ads.dfp.axis.v201611.OrderPage;
+import com.google.api.ads.dfp.axis.v201611.OrderServiceInterface;
+import com.google.api.ads.dfp.axis.v201611.Statement;
+import com.google.api.ads.dfp.axis.v201611.String_ValueMapEntry;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectOutputStream;
+import java.io.StreamCorruptedException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.joda.time.DateTimeUtils;
+import org.joda.time.Duration;
+import org.joda.time.Instant;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+/**
+ * Tests for {@link InventoryMirror} and {@link InMemoryInventoryMirrorStore}.
+ */
+@RunWith(JUnit4.class)
+public class InventoryMirrorTest {
+
+  private static final String NETWORK_CODE = "1234";
+  private static final String TIME_ZONE_ID = "America/New_York";
+  private static final Pattern LIMIT_PATTERN = Pattern.compile("LIMIT (\\d+)(?: OFFSET (\\d+))?");
+  // 2016-10-01 12:00:00 UTC.
+  private static final long START_MILLIS = 1475323200000L;
+
+  @Mock private NetworkServiceInterface networkService;
+  @Mock private OrderServiceInterface orderService;
+  @Mock private LineItemServiceInterface lineItemService;
+  @Mock private CreativeServiceInterface creativeService;
+  @Mock private InventoryServiceInterface inventoryService;
+
+  private List<LineItem> lineItems;
+  private List<Statement> lineItemStatements;
+  private LineItem lineItemAddedAfterFirstPage;
+  private boolean isLineItemAddedAfterEachFirstPage;
+  private InMemoryInventoryMirrorStore store;
+  private InventoryMirror mirror;
+
+  @Before
+  public void setUp() throws Exception {
+    MockitoAnnotations.initMocks(this);
+    DateTimeUtils.setCurrentMillisFixed(START_MILLIS);
+    Network network = new Network();
+    network.setTimeZone(TIME_ZONE_ID);
+    when(networkService.getCurrentNetwork()).thenReturn(network);
+    when(orderService.getOrdersByStatement(any(Statement.class))).thenReturn(new OrderPage());
+    when(creativeService.getCreativesByStatement(any(Statement.class)))
+        .thenReturn(new CreativePage());
+    AdUnit adUnit = new AdUnit();
+    adUnit.setId("100");
+    AdUnitPage adUnitPage = new AdUnitPage();
+    adUnitPage.setResults(new AdUnit[] {adUnit});
+    adUnitPage.setTotalResultSetSize(1);
+    when(inventoryService.getAdUnitsByStatement(any(Statement.class))).thenReturn(adUnitPage);
+
+    lineItems = new ArrayList<LineItem>(Arrays.asList(
+        createLineItem(1L, START_MILLIS - 100000L),
+        createLineItem(2L, START_MILLIS - 200000L),
+        createLineItem(3L, START_MILLIS - 300000L)));
+    lineItemStatements = new ArrayList<Statement>();
+    when(lineItemService.getLineItemsByStatement(any(Statement.class))).thenAnswer(
+        new Answer<LineItemPage>() {
+          @Override
+          public LineItemPage answer(InvocationOnMock invocation) {
+            Statement statement = (Statement) invocation.getArguments()[0];
+            lineItemStatements.add(statement);
+            LineItemPage page = getPage(statement);
+            if (lineItemAddedAfterFirstPage != null) {
+              lineItems.add(0, lineItemAddedAfterFirstPage);
+              lineItemAddedAfterFirstPage = null;
+            }
+            if (isLineItemAddedAfterEachFirstPage && !statement.getQuery().contains("OFFSET")) {
+              lineItems.add(0, createLineItem(-lineItems.size(), START_MILLIS));
+            }
+            return page;
+          }
+        });
+
+    store = new InMemoryInventoryMirrorStore();
+    mirror = new InventoryMirror(NETWORK_CODE, store, networkService, orderService,
+        lineItemService, creativeService, inventoryService, 2);
+  }
+
+  @After
+  public void tearDown() {
+    DateTimeUtils.setCurrentMillisSystem();
+  }
+
+  /**
+   * Tests that the first sync loads all the entities, page by page, with a checkpoint at the
+   * start of the sync.
+   */
+  @Test
+  public void testSync_fullLoad() throws Exception {
+    List<InventoryMirrorUpdate> updates = mirror.sync();
+
+    assertEquals(InventoryEntityType.values().length, updates.size());
+    for (InventoryMirrorUpdate update : updates) {
+      assertTrue(update.isFullLoad());
+      assertEquals(new Instant(START_MILLIS), update.getCheckpoint());
+    }
+    assertEquals(2, lineItemStatements.size());
+    assertEquals("ORDER BY id ASC LIMIT 2", lineItemStatements.get(0).getQuery());
+    assertEquals(3, store.getLineItems(NETWORK_CODE).size());
+    assertEquals(1, store.getAdUnits(NETWORK_CODE).size());
+    assertEquals("100", store.getAdUnit(NETWORK_CODE, "100").getId());
+    assertTrue(store.getOrders(NETWORK_CODE).isEmpty());
+    assertEquals(new Instant(START_MILLIS),
+        store.getCheckpoint(NETWORK_CODE, InventoryEntityType.LINE_ITEM));
+  }
+
+  /**
+   * Tests that a later sync only gets the entities modified since the checkpoint, minus the
+   * overlap, and upserts them.
+   */
+  @Test
+  public void testSync_incremental() throws Exception {
+    mirror.sync(InventoryEntityType.LINE_ITEM);
+    lineItemStatements.clear();
+    DateTimeUtils.setCurrentMillisFixed(START_MILLIS + 3600000L);
+    lineItems.get(1).setName("Changed");
+    lineItems.get(1).setLastModifiedDateTime(
+        DateTimes.toDateTime(new Instant(START_MILLIS + 60000L), TIME_ZONE_ID));
+
+    InventoryMirrorUpdate update =
+        mirror.withOverlap(Duration.standardMinutes(1)).sync(InventoryEntityType.LINE_ITEM);
+
+    assertFalse(update.isFullLoad());
+    assertEquals(new Instant(START_MILLIS + 3600000L), update.getCheckpoint());
+    assertEquals(1, update.getEntities().size());
+    assertEquals(1, lineItemStatements.size());
+    Statement statement = lineItemStatements.get(0);
+    assertEquals(
+        "WHERE lastModifiedDateTime >= :lastModifiedDateTime ORDER BY id ASC LIMIT 2",
+        statement.getQuery());
+    org.joda.time.DateTime since = DateTimes.toDateTime(
+        ((DateTimeValue) statement.getValues(0).getValue()).getValue());
+    assertEquals(START_MILLIS - 60000L, since.getMillis());
+    assertEquals(TIME_ZONE_ID, since.getZone().getID());
+
+    assertEquals("Changed", store.getLineItem(NETWORK_CODE, 2L).getName());
+    assertEquals(3, store.getLineItems(NETWORK_CODE).size());
+    assertEquals(new Instant(START_MILLIS + 3600000L),
+        store.getCheckpoint(NETWORK_CODE, InventoryEntityType.LINE_ITEM));
+    // The network's time zone is only retrieved once.
+    mirror.sync(InventoryEntityType.LINE_ITEM);
+    verify(networkService).getCurrentNetwork();
+  }
+
+  /**
+   * Tests that the checkpoint is not advanced if the result set grew while paging, since an entity
+   * may have been skipped.
+   */
+  @Test
+  public void testSync_resultSetGrew() throws Exception {
+    mirror.sync(InventoryEntityType.LINE_ITEM);
+    DateTimeUtils.setCurrentMillisFixed(START_MILLIS + 3600000L);
+    for (LineItem lineItem : lineItems) {
+      lineItem.setLastModifiedDateTime(
+          DateTimes.toDateTime(new Instant(START_MILLIS + 60000L), TIME_ZONE_ID));
+    }
+    lineItemAddedAfterFirstPage = createLineItem(0L, START_MILLIS + 120000L);
+
+    InventoryMirrorUpdate update = mirror.sync(InventoryEntityType.LINE_ITEM);
+
+    assertEquals(new Instant(START_MILLIS), update.getCheckpoint());
+    assertEquals(new Instant(START_MILLIS),
+        store.getCheckpoint(NETWORK_CODE, InventoryEntityType.LINE_ITEM));
+  }
+
+  /**
+   * Tests that a full sync replaces the mirrored entities.
+   */
+  @Test
+  public void testFullSync() throws Exception {
+    mirror.sync(InventoryEntityType.LINE_ITEM);
+    lineItems.remove(0);
+
+    InventoryMirrorUpdate update = mirror.fullSync(InventoryEntityType.LINE_ITEM);
+
+    assertTrue(update.isFullLoad());
+    assertEquals(2, store.getLineItems(NETWORK_CODE).size());
+    assertNull(store.getLineItem(NETWORK_CODE, 1L));
+  }
+
+  /**
+   * Tests that a full sync is retried if the result set changed while paging.
+   */
+  @Test
+  public void testFullSync_resultSetChanged() throws Exception {
+    lineItemAddedAfterFirstPage = createLineItem(0L, START_MILLIS);
+
+    InventoryMirrorUpdate update = mirror.fullSync(InventoryEntityType.LINE_ITEM);
+
+    assertTrue(update.isFullLoad());
+    assertEquals(new Instant(START_MILLIS), update.getCheckpoint());
+    assertEquals(4, lineItemStatements.size());
+    assertEquals(4, store.getLineItems(NETWORK_CODE).size());
+  }
+
+  /**
+   * Tests that the entities of a full sync whose result set changed on every attempt do not
+   * replace the mirrored entities, and that the next sync fully loads the entities again.
+   */
+  @Test
+  public void testFullSync_resultSetKeptChanging() throws Exception {
+    mirror.sync(InventoryEntityType.LINE_ITEM);
+    lineItems.remove(0);
+    lineItems.add(createLineItem(4L, START_MILLIS));
+    isLineItemAddedAfterEachFirstPage = true;
+
+    InventoryMirrorUpdate update = mirror.fullSync(InventoryEntityType.LINE_ITEM);
+
+    assertFalse(update.isFullLoad());
+    assertNull(update.getCheckpoint());
+    assertNull(store.getCheckpoint(NETWORK_CODE, InventoryEntityType.LINE_ITEM));
+    assertEquals(1L, (long) store.getLineItem(NETWORK_CODE, 1L).getId());
+
+    isLineItemAddedAfterEachFirstPage = false;
+    assertTrue(mirror.sync(InventoryEntityType.LINE_ITEM).isFullLoad());
+    assertNull(store.getLineItem(NETWORK_CODE, 1L));
+    assertEquals(new Instant(START_MILLIS),
+        store.getCheckpoint(NETWORK_CODE, InventoryEntityType.LINE_ITEM));
+  }
+
+  /**
+   * Tests that a store can be written and read back with its checkpoints.
+   */
+  @Test
+  public void testStore_writeAndRead() throws Exception {
+    mirror.sync();
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    store.writeTo(outputStream);
+
+    InMemoryInventoryMirrorStore readStore = InMemoryInventoryMirrorStore.readFrom(
+        new ByteArrayInputStream(outputStream.toByteArray()));
+
+    assertEquals(new Instant(START_MILLIS),
+        readStore.getCheckpoint(NETWORK_CODE, InventoryEntityType.CREATIVE));
+    assertEquals(3, readStore.getLineItems(NETWORK_CODE).size());
+    assertEquals(store.getLineItem(NETWORK_CODE, 3L), readStore.getLineItem(NETWORK_CODE, 3L));
+    assertNull(readStore.getCheckpoint("5678", InventoryEntityType.LINE_ITEM));
+  }
+
+  /**
+   * Tests that a stream that was not written by a store is rejected.
+   */
+  @Test(expected = StreamCorruptedException.class)
+  public void testStore_readOtherStream() throws Exception {
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    ObjectOutputStream objectOutputStream = new ObjectOutputStream(outputStream);
+    objectOutputStream.writeInt(1);
+    objectOutputStream.flush();
+
+    InMemoryInventoryMirrorStore.readFrom(new ByteArrayInputStream(outputStream.toByteArray()));
+  }
+
+  private LineItemPage getPage(Statement statement) {
+    long since = Long.MIN_VALUE;
+    if (statement.getValues() != null) {
+      for (String_ValueMapEntry entry : statement.getValues()) {
+        if (entry.getKey().equals("lastModifiedDateTime")) {
+          since = DateTimes.toDateTime(((DateTimeValue) entry.getValue()).getValue()).getMillis();
+        }
+      }
+    }
+    List<LineItem> results = new ArrayList<LineItem>();
+    for (LineItem lineItem : lineItems) {
+      if (DateTimes.toDateTime(lineItem.getLastModifiedDateTime()).getMillis() >= since) {
+        results.add(lineItem);
+      }
+    }
+    Matcher matcher = LIMIT_PATTERN.matcher(statement.getQuery());
+    assertTrue(matcher.find());
+    int limit = Integer.parseInt(matcher.group(1));
+    int offset = matcher.group(2) == null ? 0 : Integer.parseInt(matcher.group(2));
+    LineItemPage page = new LineItemPage();
+    page.setTotalResultSetSize(results.size());
+    page.setResults(results.subList(Math.min(offset, results.size()),
+        Math.min(offset + limit, results.size())).toArray(new LineItem[0]));
+    return page;
+  }
+
+  private static LineItem createLineItem(long id, long lastModifiedMillis) {
+    LineItem lineItem = new LineItem();
+    lineItem.setId(id);
+    lineItem.setLastModifiedDateTime(
+        DateTimes.toDateTime(new Instant(lastModifiedMillis), TIME_ZONE_ID));
+    return lineItem;
+  }
+}